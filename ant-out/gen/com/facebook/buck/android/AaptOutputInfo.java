@@ -0,0 +1,247 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Encapsulates information about a rule that runs "aapt", for consumption by downstream rules.
+ * <p>We break this data out into a separate object to allow different implementations of aapt.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAaptOutputInfo"})
+@Immutable
+@CheckReturnValue
+public final class AaptOutputInfo extends AbstractAaptOutputInfo {
+  private final SourcePath pathToRDotTxt;
+  private final SourcePath primaryResourcesApkPath;
+  private final SourcePath androidManifestXml;
+  private final SourcePath aaptGeneratedProguardConfigFile;
+
+  private AaptOutputInfo(AaptOutputInfo.Builder builder) {
+    this.pathToRDotTxt = builder.pathToRDotTxt;
+    this.primaryResourcesApkPath = builder.primaryResourcesApkPath;
+    this.androidManifestXml = builder.androidManifestXml;
+    this.aaptGeneratedProguardConfigFile = builder.aaptGeneratedProguardConfigFile;
+  }
+
+  /**
+   * @return The value of the {@code pathToRDotTxt} attribute
+   */
+  @Override
+  public SourcePath getPathToRDotTxt() {
+    return pathToRDotTxt;
+  }
+
+  /**
+   * @return The value of the {@code primaryResourcesApkPath} attribute
+   */
+  @Override
+  public SourcePath getPrimaryResourcesApkPath() {
+    return primaryResourcesApkPath;
+  }
+
+  /**
+   * @return The value of the {@code androidManifestXml} attribute
+   */
+  @Override
+  public SourcePath getAndroidManifestXml() {
+    return androidManifestXml;
+  }
+
+  /**
+   * @return The value of the {@code aaptGeneratedProguardConfigFile} attribute
+   */
+  @Override
+  public SourcePath getAaptGeneratedProguardConfigFile() {
+    return aaptGeneratedProguardConfigFile;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AaptOutputInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AaptOutputInfo
+        && equalTo((AaptOutputInfo) another);
+  }
+
+  private boolean equalTo(AaptOutputInfo another) {
+    return pathToRDotTxt.equals(another.pathToRDotTxt)
+        && primaryResourcesApkPath.equals(another.primaryResourcesApkPath)
+        && androidManifestXml.equals(another.androidManifestXml)
+        && aaptGeneratedProguardConfigFile.equals(another.aaptGeneratedProguardConfigFile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToRDotTxt}, {@code primaryResourcesApkPath}, {@code androidManifestXml}, {@code aaptGeneratedProguardConfigFile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + pathToRDotTxt.hashCode();
+    h += (h << 5) + primaryResourcesApkPath.hashCode();
+    h += (h << 5) + androidManifestXml.hashCode();
+    h += (h << 5) + aaptGeneratedProguardConfigFile.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AaptOutputInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AaptOutputInfo")
+        .omitNullValues()
+        .add("pathToRDotTxt", pathToRDotTxt)
+        .add("primaryResourcesApkPath", primaryResourcesApkPath)
+        .add("androidManifestXml", androidManifestXml)
+        .add("aaptGeneratedProguardConfigFile", aaptGeneratedProguardConfigFile)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AaptOutputInfo AaptOutputInfo}.
+   * @return A new AaptOutputInfo builder
+   */
+  public static AaptOutputInfo.Builder builder() {
+    return new AaptOutputInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AaptOutputInfo AaptOutputInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_TO_R_DOT_TXT = 0x1L;
+    private static final long INIT_BIT_PRIMARY_RESOURCES_APK_PATH = 0x2L;
+    private static final long INIT_BIT_ANDROID_MANIFEST_XML = 0x4L;
+    private static final long INIT_BIT_AAPT_GENERATED_PROGUARD_CONFIG_FILE = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable SourcePath pathToRDotTxt;
+    private @Nullable SourcePath primaryResourcesApkPath;
+    private @Nullable SourcePath androidManifestXml;
+    private @Nullable SourcePath aaptGeneratedProguardConfigFile;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AaptOutputInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AaptOutputInfo instance) {
+      return from((AbstractAaptOutputInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAaptOutputInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAaptOutputInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPathToRDotTxt(instance.getPathToRDotTxt());
+      setPrimaryResourcesApkPath(instance.getPrimaryResourcesApkPath());
+      setAndroidManifestXml(instance.getAndroidManifestXml());
+      setAaptGeneratedProguardConfigFile(instance.getAaptGeneratedProguardConfigFile());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getPathToRDotTxt() pathToRDotTxt} attribute.
+     * @param pathToRDotTxt The value for pathToRDotTxt 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathToRDotTxt(SourcePath pathToRDotTxt) {
+      this.pathToRDotTxt = Objects.requireNonNull(pathToRDotTxt, "pathToRDotTxt");
+      initBits &= ~INIT_BIT_PATH_TO_R_DOT_TXT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getPrimaryResourcesApkPath() primaryResourcesApkPath} attribute.
+     * @param primaryResourcesApkPath The value for primaryResourcesApkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryResourcesApkPath(SourcePath primaryResourcesApkPath) {
+      this.primaryResourcesApkPath = Objects.requireNonNull(primaryResourcesApkPath, "primaryResourcesApkPath");
+      initBits &= ~INIT_BIT_PRIMARY_RESOURCES_APK_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getAndroidManifestXml() androidManifestXml} attribute.
+     * @param androidManifestXml The value for androidManifestXml 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidManifestXml(SourcePath androidManifestXml) {
+      this.androidManifestXml = Objects.requireNonNull(androidManifestXml, "androidManifestXml");
+      initBits &= ~INIT_BIT_ANDROID_MANIFEST_XML;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAaptOutputInfo#getAaptGeneratedProguardConfigFile() aaptGeneratedProguardConfigFile} attribute.
+     * @param aaptGeneratedProguardConfigFile The value for aaptGeneratedProguardConfigFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAaptGeneratedProguardConfigFile(SourcePath aaptGeneratedProguardConfigFile) {
+      this.aaptGeneratedProguardConfigFile = Objects.requireNonNull(aaptGeneratedProguardConfigFile, "aaptGeneratedProguardConfigFile");
+      initBits &= ~INIT_BIT_AAPT_GENERATED_PROGUARD_CONFIG_FILE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AaptOutputInfo AaptOutputInfo}.
+     * @return An immutable instance of AaptOutputInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AaptOutputInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AaptOutputInfo(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH_TO_R_DOT_TXT) != 0) attributes.add("pathToRDotTxt");
+      if ((initBits & INIT_BIT_PRIMARY_RESOURCES_APK_PATH) != 0) attributes.add("primaryResourcesApkPath");
+      if ((initBits & INIT_BIT_ANDROID_MANIFEST_XML) != 0) attributes.add("androidManifestXml");
+      if ((initBits & INIT_BIT_AAPT_GENERATED_PROGUARD_CONFIG_FILE) != 0) attributes.add("aaptGeneratedProguardConfigFile");
+      return "Cannot build AaptOutputInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,8466 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasDepsQuery;
+import com.facebook.buck.core.description.arg.HasProvidedDeps;
+import com.facebook.buck.core.description.arg.HasProvidedDepsQuery;
+import com.facebook.buck.core.description.arg.HasSrcs;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.jvm.java.BuiltInJavac;
+import com.facebook.buck.jvm.java.CompileAgainstLibraryType;
+import com.facebook.buck.jvm.java.JavaBuckConfig;
+import com.facebook.buck.jvm.java.JavaLibraryDescription;
+import com.facebook.buck.jvm.java.JvmLibraryArg;
+import com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg;
+import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.facebook.buck.jvm.kotlin.KotlinLibraryDescription;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.facebook.buck.rules.query.Query;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidAarDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidAarDescription.AbstractAndroidAarDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class AndroidAarDescriptionArg
+    implements AndroidAarDescription.AbstractAndroidAarDescriptionArg {
+  private final SourcePath manifestSkeleton;
+  private final BuildConfigFields buildConfigValues;
+  private final Boolean includeBuildConfigClass;
+  private final @Nullable SourcePath manifest;
+  private final @Nullable String resourceUnionPackage;
+  private final boolean skipNonUnionRDotJava;
+  private final @Nullable String finalRName;
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final @Nullable SourcePath proguardConfig;
+  private final ImmutableList<String> postprocessClassesCommands;
+  private final @Nullable Path resourcesRoot;
+  private final @Nullable SourcePath unbundledResourcesRoot;
+  private final @Nullable SourcePath manifestFile;
+  private final @Nullable String mavenCoords;
+  private final @Nullable SourcePath mavenPomTemplate;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final ImmutableSortedSet<BuildTarget> sourceOnlyAbiDeps;
+  private final @Nullable String source;
+  private final @Nullable String target;
+  private final @Nullable String javaVersion;
+  private final @Nullable SourcePath javac;
+  private final @Nullable SourcePath javacJar;
+  private final @Nullable String compilerClassName;
+  private final @Nullable Either<BuiltInJavac, SourcePath> compiler;
+  private final ImmutableList<String> extraArguments;
+  private final ImmutableSet<Pattern> removeClasses;
+  private final ImmutableSortedSet<BuildTarget> annotationProcessorDeps;
+  private final ImmutableList<String> annotationProcessorParams;
+  private final ImmutableSet<String> annotationProcessors;
+  private final @Nullable Boolean annotationProcessorOnly;
+  private final ImmutableList<BuildTarget> plugins;
+  private final @Nullable AbiGenerationMode abiGenerationMode;
+  private final @Nullable CompileAgainstLibraryType compileAgainst;
+  private final @Nullable JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode;
+  private final @Nullable JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final boolean requiredForSourceOnlyAbi;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> providedDeps;
+  private final ImmutableSortedSet<BuildTarget> exportedProvidedDeps;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final @Nullable AndroidLibraryDescription.JvmLanguage language;
+  private final ImmutableList<String> extraKotlincArguments;
+  private final @Nullable KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool;
+  private final @Nullable Query depsQuery;
+  private final @Nullable Query providedDepsQuery;
+
+  private AndroidAarDescriptionArg(AndroidAarDescriptionArg.Builder builder) {
+    this.manifestSkeleton = builder.manifestSkeleton;
+    this.manifest = builder.manifest;
+    this.resourceUnionPackage = builder.resourceUnionPackage;
+    this.finalRName = builder.finalRName;
+    this.resources = builder.resources.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.postprocessClassesCommands = builder.postprocessClassesCommands.build();
+    this.resourcesRoot = builder.resourcesRoot;
+    this.unbundledResourcesRoot = builder.unbundledResourcesRoot;
+    this.manifestFile = builder.manifestFile;
+    this.mavenCoords = builder.mavenCoords;
+    this.mavenPomTemplate = builder.mavenPomTemplate;
+    this.exportedDeps = builder.exportedDeps.build();
+    this.sourceOnlyAbiDeps = builder.sourceOnlyAbiDeps.build();
+    this.source = builder.source;
+    this.target = builder.target;
+    this.javaVersion = builder.javaVersion;
+    this.javac = builder.javac;
+    this.javacJar = builder.javacJar;
+    this.compilerClassName = builder.compilerClassName;
+    this.compiler = builder.compiler;
+    this.extraArguments = builder.extraArguments.build();
+    this.removeClasses = builder.removeClasses.build();
+    this.annotationProcessorDeps = builder.annotationProcessorDeps.build();
+    this.annotationProcessorParams = builder.annotationProcessorParams.build();
+    this.annotationProcessors = builder.annotationProcessors.build();
+    this.annotationProcessorOnly = builder.annotationProcessorOnly;
+    this.plugins = builder.plugins.build();
+    this.abiGenerationMode = builder.abiGenerationMode;
+    this.compileAgainst = builder.compileAgainst;
+    this.sourceAbiVerificationMode = builder.sourceAbiVerificationMode;
+    this.onUnusedDependencies = builder.onUnusedDependencies;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.providedDeps = builder.providedDeps.build();
+    this.exportedProvidedDeps = builder.exportedProvidedDeps.build();
+    this.srcs = builder.srcs.build();
+    this.tests = builder.tests.build();
+    this.language = builder.language;
+    this.extraKotlincArguments = builder.extraKotlincArguments.build();
+    this.annotationProcessingTool = builder.annotationProcessingTool;
+    this.depsQuery = builder.depsQuery;
+    this.providedDepsQuery = builder.providedDepsQuery;
+    if (builder.buildConfigValues != null) {
+      initShim.setBuildConfigValues(builder.buildConfigValues);
+    }
+    if (builder.includeBuildConfigClass != null) {
+      initShim.setIncludeBuildConfigClass(builder.includeBuildConfigClass);
+    }
+    if (builder.skipNonUnionRDotJavaIsSet()) {
+      initShim.setSkipNonUnionRDotJava(builder.skipNonUnionRDotJava);
+    }
+    if (builder.requiredForSourceOnlyAbiIsSet()) {
+      initShim.setRequiredForSourceOnlyAbi(builder.requiredForSourceOnlyAbi);
+    }
+    this.buildConfigValues = initShim.getBuildConfigValues();
+    this.includeBuildConfigClass = initShim.getIncludeBuildConfigClass();
+    this.skipNonUnionRDotJava = initShim.isSkipNonUnionRDotJava();
+    this.requiredForSourceOnlyAbi = initShim.getRequiredForSourceOnlyAbi();
+    this.initShim = null;
+  }
+
+  private AndroidAarDescriptionArg(
+      SourcePath manifestSkeleton,
+      BuildConfigFields buildConfigValues,
+      Boolean includeBuildConfigClass,
+      @Nullable SourcePath manifest,
+      @Nullable String resourceUnionPackage,
+      boolean skipNonUnionRDotJava,
+      @Nullable String finalRName,
+      ImmutableSortedSet<SourcePath> resources,
+      @Nullable SourcePath proguardConfig,
+      ImmutableList<String> postprocessClassesCommands,
+      @Nullable Path resourcesRoot,
+      @Nullable SourcePath unbundledResourcesRoot,
+      @Nullable SourcePath manifestFile,
+      @Nullable String mavenCoords,
+      @Nullable SourcePath mavenPomTemplate,
+      ImmutableSortedSet<BuildTarget> exportedDeps,
+      ImmutableSortedSet<BuildTarget> sourceOnlyAbiDeps,
+      @Nullable String source,
+      @Nullable String target,
+      @Nullable String javaVersion,
+      @Nullable SourcePath javac,
+      @Nullable SourcePath javacJar,
+      @Nullable String compilerClassName,
+      @Nullable Either<BuiltInJavac, SourcePath> compiler,
+      ImmutableList<String> extraArguments,
+      ImmutableSet<Pattern> removeClasses,
+      ImmutableSortedSet<BuildTarget> annotationProcessorDeps,
+      ImmutableList<String> annotationProcessorParams,
+      ImmutableSet<String> annotationProcessors,
+      @Nullable Boolean annotationProcessorOnly,
+      ImmutableList<BuildTarget> plugins,
+      @Nullable AbiGenerationMode abiGenerationMode,
+      @Nullable CompileAgainstLibraryType compileAgainst,
+      @Nullable JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode,
+      @Nullable JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies,
+      String name,
+      ImmutableSet<SourcePath> licenses,
+      ImmutableSortedSet<String> labels,
+      boolean requiredForSourceOnlyAbi,
+      ImmutableSortedSet<BuildTarget> deps,
+      ImmutableSortedSet<BuildTarget> providedDeps,
+      ImmutableSortedSet<BuildTarget> exportedProvidedDeps,
+      ImmutableSortedSet<SourcePath> srcs,
+      ImmutableSortedSet<BuildTarget> tests,
+      @Nullable AndroidLibraryDescription.JvmLanguage language,
+      ImmutableList<String> extraKotlincArguments,
+      @Nullable KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool,
+      @Nullable Query depsQuery,
+      @Nullable Query providedDepsQuery) {
+    this.manifestSkeleton = manifestSkeleton;
+    this.buildConfigValues = buildConfigValues;
+    this.includeBuildConfigClass = includeBuildConfigClass;
+    this.manifest = manifest;
+    this.resourceUnionPackage = resourceUnionPackage;
+    this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+    this.finalRName = finalRName;
+    this.resources = resources;
+    this.proguardConfig = proguardConfig;
+    this.postprocessClassesCommands = postprocessClassesCommands;
+    this.resourcesRoot = resourcesRoot;
+    this.unbundledResourcesRoot = unbundledResourcesRoot;
+    this.manifestFile = manifestFile;
+    this.mavenCoords = mavenCoords;
+    this.mavenPomTemplate = mavenPomTemplate;
+    this.exportedDeps = exportedDeps;
+    this.sourceOnlyAbiDeps = sourceOnlyAbiDeps;
+    this.source = source;
+    this.target = target;
+    this.javaVersion = javaVersion;
+    this.javac = javac;
+    this.javacJar = javacJar;
+    this.compilerClassName = compilerClassName;
+    this.compiler = compiler;
+    this.extraArguments = extraArguments;
+    this.removeClasses = removeClasses;
+    this.annotationProcessorDeps = annotationProcessorDeps;
+    this.annotationProcessorParams = annotationProcessorParams;
+    this.annotationProcessors = annotationProcessors;
+    this.annotationProcessorOnly = annotationProcessorOnly;
+    this.plugins = plugins;
+    this.abiGenerationMode = abiGenerationMode;
+    this.compileAgainst = compileAgainst;
+    this.sourceAbiVerificationMode = sourceAbiVerificationMode;
+    this.onUnusedDependencies = onUnusedDependencies;
+    this.name = name;
+    this.licenses = licenses;
+    this.labels = labels;
+    this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+    this.deps = deps;
+    this.providedDeps = providedDeps;
+    this.exportedProvidedDeps = exportedProvidedDeps;
+    this.srcs = srcs;
+    this.tests = tests;
+    this.language = language;
+    this.extraKotlincArguments = extraKotlincArguments;
+    this.annotationProcessingTool = annotationProcessingTool;
+    this.depsQuery = depsQuery;
+    this.providedDepsQuery = providedDepsQuery;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private BuildConfigFields buildConfigValues;
+    private int buildConfigValuesBuildStage;
+
+    BuildConfigFields getBuildConfigValues() {
+      if (buildConfigValuesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildConfigValuesBuildStage == STAGE_UNINITIALIZED) {
+        buildConfigValuesBuildStage = STAGE_INITIALIZING;
+        this.buildConfigValues = Objects.requireNonNull(getBuildConfigValuesInitialize(), "buildConfigValues");
+        buildConfigValuesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildConfigValues;
+    }
+
+    void setBuildConfigValues(BuildConfigFields buildConfigValues) {
+      this.buildConfigValues = buildConfigValues;
+      buildConfigValuesBuildStage = STAGE_INITIALIZED;
+    }
+    private Boolean includeBuildConfigClass;
+    private int includeBuildConfigClassBuildStage;
+
+    Boolean getIncludeBuildConfigClass() {
+      if (includeBuildConfigClassBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (includeBuildConfigClassBuildStage == STAGE_UNINITIALIZED) {
+        includeBuildConfigClassBuildStage = STAGE_INITIALIZING;
+        this.includeBuildConfigClass = Objects.requireNonNull(getIncludeBuildConfigClassInitialize(), "includeBuildConfigClass");
+        includeBuildConfigClassBuildStage = STAGE_INITIALIZED;
+      }
+      return this.includeBuildConfigClass;
+    }
+
+    void setIncludeBuildConfigClass(Boolean includeBuildConfigClass) {
+      this.includeBuildConfigClass = includeBuildConfigClass;
+      includeBuildConfigClassBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean skipNonUnionRDotJava;
+    private int skipNonUnionRDotJavaBuildStage;
+
+    boolean isSkipNonUnionRDotJava() {
+      if (skipNonUnionRDotJavaBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (skipNonUnionRDotJavaBuildStage == STAGE_UNINITIALIZED) {
+        skipNonUnionRDotJavaBuildStage = STAGE_INITIALIZING;
+        this.skipNonUnionRDotJava = isSkipNonUnionRDotJavaInitialize();
+        skipNonUnionRDotJavaBuildStage = STAGE_INITIALIZED;
+      }
+      return this.skipNonUnionRDotJava;
+    }
+
+    void setSkipNonUnionRDotJava(boolean skipNonUnionRDotJava) {
+      this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+      skipNonUnionRDotJavaBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean requiredForSourceOnlyAbi;
+    private int requiredForSourceOnlyAbiBuildStage;
+
+    boolean getRequiredForSourceOnlyAbi() {
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_UNINITIALIZED) {
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZING;
+        this.requiredForSourceOnlyAbi = getRequiredForSourceOnlyAbiInitialize();
+        requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.requiredForSourceOnlyAbi;
+    }
+
+    void setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      requiredForSourceOnlyAbiBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (buildConfigValuesBuildStage == STAGE_INITIALIZING) attributes.add("buildConfigValues");
+      if (includeBuildConfigClassBuildStage == STAGE_INITIALIZING) attributes.add("includeBuildConfigClass");
+      if (skipNonUnionRDotJavaBuildStage == STAGE_INITIALIZING) attributes.add("skipNonUnionRDotJava");
+      if (requiredForSourceOnlyAbiBuildStage == STAGE_INITIALIZING) attributes.add("requiredForSourceOnlyAbi");
+      return "Cannot build AndroidAarDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private BuildConfigFields getBuildConfigValuesInitialize() {
+    return AndroidAarDescription.AbstractAndroidAarDescriptionArg.super.getBuildConfigValues();
+  }
+
+  private Boolean getIncludeBuildConfigClassInitialize() {
+    return AndroidAarDescription.AbstractAndroidAarDescriptionArg.super.getIncludeBuildConfigClass();
+  }
+
+  private boolean isSkipNonUnionRDotJavaInitialize() {
+    return AndroidAarDescription.AbstractAndroidAarDescriptionArg.super.isSkipNonUnionRDotJava();
+  }
+
+  private boolean getRequiredForSourceOnlyAbiInitialize() {
+    return AndroidAarDescription.AbstractAndroidAarDescriptionArg.super.getRequiredForSourceOnlyAbi();
+  }
+
+  /**
+   * @return The value of the {@code manifestSkeleton} attribute
+   */
+  @Override
+  public SourcePath getManifestSkeleton() {
+    return manifestSkeleton;
+  }
+
+  /**
+   * @return The value of the {@code buildConfigValues} attribute
+   */
+  @Override
+  public BuildConfigFields getBuildConfigValues() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildConfigValues()
+        : this.buildConfigValues;
+  }
+
+  /**
+   * @return The value of the {@code includeBuildConfigClass} attribute
+   */
+  @Override
+  public Boolean getIncludeBuildConfigClass() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncludeBuildConfigClass()
+        : this.includeBuildConfigClass;
+  }
+
+  /**
+   * @return The value of the {@code manifest} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifest() {
+    return Optional.ofNullable(manifest);
+  }
+
+  /**
+   * @return The value of the {@code resourceUnionPackage} attribute
+   */
+  @Override
+  public Optional<String> getResourceUnionPackage() {
+    return Optional.ofNullable(resourceUnionPackage);
+  }
+
+  /**
+   * @return The value of the {@code skipNonUnionRDotJava} attribute
+   */
+  @Override
+  public boolean isSkipNonUnionRDotJava() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSkipNonUnionRDotJava()
+        : this.skipNonUnionRDotJava;
+  }
+
+  /**
+   * @return The value of the {@code finalRName} attribute
+   */
+  @Override
+  public Optional<String> getFinalRName() {
+    return Optional.ofNullable(finalRName);
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code postprocessClassesCommands} attribute
+   */
+  @Override
+  public ImmutableList<String> getPostprocessClassesCommands() {
+    return postprocessClassesCommands;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<Path> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code unbundledResourcesRoot} attribute
+   */
+  @Override
+  public Optional<SourcePath> getUnbundledResourcesRoot() {
+    return Optional.ofNullable(unbundledResourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  public Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code mavenPomTemplate} attribute
+   */
+  @Override
+  public Optional<SourcePath> getMavenPomTemplate() {
+    return Optional.ofNullable(mavenPomTemplate);
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbiDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getSourceOnlyAbiDeps() {
+    return sourceOnlyAbiDeps;
+  }
+
+  /**
+   * @return The value of the {@code source} attribute
+   */
+  @Override
+  public Optional<String> getSource() {
+    return Optional.ofNullable(source);
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<String> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code javaVersion} attribute
+   */
+  @Override
+  public Optional<String> getJavaVersion() {
+    return Optional.ofNullable(javaVersion);
+  }
+
+  /**
+   * @return The value of the {@code javac} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavac() {
+    return Optional.ofNullable(javac);
+  }
+
+  /**
+   * @return The value of the {@code javacJar} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJar() {
+    return Optional.ofNullable(javacJar);
+  }
+
+  /**
+   * @return The value of the {@code compilerClassName} attribute
+   */
+  @Override
+  public Optional<String> getCompilerClassName() {
+    return Optional.ofNullable(compilerClassName);
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public Optional<Either<BuiltInJavac, SourcePath>> getCompiler() {
+    return Optional.ofNullable(compiler);
+  }
+
+  /**
+   * @return The value of the {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return The value of the {@code removeClasses} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getRemoveClasses() {
+    return removeClasses;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getAnnotationProcessorDeps() {
+    return annotationProcessorDeps;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorParams} attribute
+   */
+  @Override
+  public ImmutableList<String> getAnnotationProcessorParams() {
+    return annotationProcessorParams;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessors} attribute
+   */
+  @Override
+  public ImmutableSet<String> getAnnotationProcessors() {
+    return annotationProcessors;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessorOnly} attribute
+   */
+  @Override
+  public Optional<Boolean> getAnnotationProcessorOnly() {
+    return Optional.ofNullable(annotationProcessorOnly);
+  }
+
+  /**
+   * @return The value of the {@code plugins} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getPlugins() {
+    return plugins;
+  }
+
+  /**
+   * @return The value of the {@code abiGenerationMode} attribute
+   */
+  @Override
+  public Optional<AbiGenerationMode> getAbiGenerationMode() {
+    return Optional.ofNullable(abiGenerationMode);
+  }
+
+  /**
+   * @return The value of the {@code compileAgainst} attribute
+   */
+  @Override
+  public Optional<CompileAgainstLibraryType> getCompileAgainst() {
+    return Optional.ofNullable(compileAgainst);
+  }
+
+  /**
+   * @return The value of the {@code sourceAbiVerificationMode} attribute
+   */
+  @Override
+  public Optional<JavaBuckConfig.SourceAbiVerificationMode> getSourceAbiVerificationMode() {
+    return Optional.ofNullable(sourceAbiVerificationMode);
+  }
+
+  /**
+   * @return The value of the {@code onUnusedDependencies} attribute
+   */
+  @Override
+  public Optional<JavaBuckConfig.UnusedDependenciesAction> getOnUnusedDependencies() {
+    return Optional.ofNullable(onUnusedDependencies);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code requiredForSourceOnlyAbi} attribute
+   */
+  @Override
+  public boolean getRequiredForSourceOnlyAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRequiredForSourceOnlyAbi()
+        : this.requiredForSourceOnlyAbi;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code providedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getProvidedDeps() {
+    return providedDeps;
+  }
+
+  /**
+   * @return The value of the {@code exportedProvidedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedProvidedDeps() {
+    return exportedProvidedDeps;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code language} attribute
+   */
+  @Override
+  public Optional<AndroidLibraryDescription.JvmLanguage> getLanguage() {
+    return Optional.ofNullable(language);
+  }
+
+  /**
+   * @return The value of the {@code extraKotlincArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraKotlincArguments() {
+    return extraKotlincArguments;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessingTool} attribute
+   */
+  @Override
+  public Optional<KotlinLibraryDescription.AnnotationProcessingTool> getAnnotationProcessingTool() {
+    return Optional.ofNullable(annotationProcessingTool);
+  }
+
+  /**
+   * @return The value of the {@code depsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getDepsQuery() {
+    return Optional.ofNullable(depsQuery);
+  }
+
+  /**
+   * @return The value of the {@code providedDepsQuery} attribute
+   */
+  @Override
+  public Optional<Query> getProvidedDepsQuery() {
+    return Optional.ofNullable(providedDepsQuery);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifestSkeleton() manifestSkeleton} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for manifestSkeleton
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAarDescriptionArg withManifestSkeleton(SourcePath value) {
+    if (this.manifestSkeleton == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "manifestSkeleton");
+    return validate(new AndroidAarDescriptionArg(
+        newValue,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getBuildConfigValues() buildConfigValues} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildConfigValues
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAarDescriptionArg withBuildConfigValues(BuildConfigFields value) {
+    if (this.buildConfigValues == value) return this;
+    BuildConfigFields newValue = Objects.requireNonNull(value, "buildConfigValues");
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        newValue,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getIncludeBuildConfigClass() includeBuildConfigClass} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeBuildConfigClass
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAarDescriptionArg withIncludeBuildConfigClass(Boolean value) {
+    if (this.includeBuildConfigClass.equals(value)) return this;
+    Boolean newValue = Objects.requireNonNull(value, "includeBuildConfigClass");
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        newValue,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifest() manifest} attribute.
+   * @param value The value for manifest
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withManifest(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "manifest");
+    if (this.manifest == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        newValue,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifest() manifest} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifest
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withManifest(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.manifest == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        value,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourceUnionPackage() resourceUnionPackage} attribute.
+   * @param value The value for resourceUnionPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withResourceUnionPackage(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "resourceUnionPackage");
+    if (Objects.equals(this.resourceUnionPackage, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        newValue,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourceUnionPackage() resourceUnionPackage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourceUnionPackage
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withResourceUnionPackage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.resourceUnionPackage, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        value,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#isSkipNonUnionRDotJava() skipNonUnionRDotJava} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for skipNonUnionRDotJava
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSkipNonUnionRDotJava(boolean value) {
+    if (this.skipNonUnionRDotJava == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        value,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getFinalRName() finalRName} attribute.
+   * @param value The value for finalRName
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withFinalRName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "finalRName");
+    if (Objects.equals(this.finalRName, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        newValue,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getFinalRName() finalRName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for finalRName
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withFinalRName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.finalRName, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        value,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResources() resources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withResources(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        newValue,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResources() resources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withResources(Iterable<? extends SourcePath> elements) {
+    if (this.resources == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        newValue,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProguardConfig() proguardConfig} attribute.
+   * @param value The value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withProguardConfig(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "proguardConfig");
+    if (this.proguardConfig == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        newValue,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProguardConfig() proguardConfig} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withProguardConfig(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.proguardConfig == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        value,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withPostprocessClassesCommands(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        newValue,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of postprocessClassesCommands elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withPostprocessClassesCommands(Iterable<String> elements) {
+    if (this.postprocessClassesCommands == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        newValue,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourcesRoot() resourcesRoot} attribute.
+   * @param value The value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withResourcesRoot(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "resourcesRoot");
+    if (this.resourcesRoot == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        newValue,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourcesRoot() resourcesRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withResourcesRoot(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.resourcesRoot == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        value,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} attribute.
+   * @param value The value for unbundledResourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withUnbundledResourcesRoot(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "unbundledResourcesRoot");
+    if (this.unbundledResourcesRoot == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        newValue,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for unbundledResourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withUnbundledResourcesRoot(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.unbundledResourcesRoot == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        value,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifestFile() manifestFile} attribute.
+   * @param value The value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withManifestFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "manifestFile");
+    if (this.manifestFile == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        newValue,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifestFile() manifestFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withManifestFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.manifestFile == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        value,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenCoords() mavenCoords} attribute.
+   * @param value The value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withMavenCoords(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mavenCoords");
+    if (Objects.equals(this.mavenCoords, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        newValue,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenCoords() mavenCoords} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withMavenCoords(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mavenCoords, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        value,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenPomTemplate() mavenPomTemplate} attribute.
+   * @param value The value for mavenPomTemplate
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withMavenPomTemplate(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "mavenPomTemplate");
+    if (this.mavenPomTemplate == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        newValue,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenPomTemplate() mavenPomTemplate} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mavenPomTemplate
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withMavenPomTemplate(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.mavenPomTemplate == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        value,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedDeps() exportedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExportedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        newValue,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedDeps() exportedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExportedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        newValue,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSourceOnlyAbiDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        newValue,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sourceOnlyAbiDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSourceOnlyAbiDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.sourceOnlyAbiDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        newValue,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSource() source} attribute.
+   * @param value The value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSource(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "source");
+    if (Objects.equals(this.source, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        newValue,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSource() source} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for source
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSource(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.source, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        value,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTarget() target} attribute.
+   * @param value The value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withTarget(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "target");
+    if (Objects.equals(this.target, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        newValue,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTarget() target} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withTarget(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.target, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        value,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavaVersion() javaVersion} attribute.
+   * @param value The value for javaVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withJavaVersion(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "javaVersion");
+    if (Objects.equals(this.javaVersion, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        newValue,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavaVersion() javaVersion} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaVersion
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withJavaVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.javaVersion, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        value,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavac() javac} attribute.
+   * @param value The value for javac
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withJavac(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "javac");
+    if (this.javac == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        newValue,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavac() javac} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javac
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withJavac(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.javac == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        value,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavacJar() javacJar} attribute.
+   * @param value The value for javacJar
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withJavacJar(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "javacJar");
+    if (this.javacJar == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        newValue,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavacJar() javacJar} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javacJar
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withJavacJar(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.javacJar == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        value,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompilerClassName() compilerClassName} attribute.
+   * @param value The value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withCompilerClassName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "compilerClassName");
+    if (Objects.equals(this.compilerClassName, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        newValue,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompilerClassName() compilerClassName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withCompilerClassName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.compilerClassName, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        value,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompiler() compiler} attribute.
+   * @param value The value for compiler
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withCompiler(Either<BuiltInJavac, SourcePath> value) {
+    @Nullable Either<BuiltInJavac, SourcePath> newValue = Objects.requireNonNull(value, "compiler");
+    if (this.compiler == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        newValue,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompiler() compiler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compiler
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> optional) {
+    @Nullable Either<BuiltInJavac, SourcePath> value = optional.orElse(null);
+    if (this.compiler == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        value,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraArguments() extraArguments}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExtraArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        newValue,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraArguments() extraArguments}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraArguments elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExtraArguments(Iterable<String> elements) {
+    if (this.extraArguments == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        newValue,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRemoveClasses() removeClasses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withRemoveClasses(Pattern... elements) {
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        newValue,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRemoveClasses() removeClasses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of removeClasses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withRemoveClasses(Iterable<? extends Pattern> elements) {
+    if (this.removeClasses == elements) return this;
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        newValue,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessorDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        newValue,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessorDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.annotationProcessorDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        newValue,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessorParams(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        newValue,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessorParams elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessorParams(Iterable<String> elements) {
+    if (this.annotationProcessorParams == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        newValue,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessors() annotationProcessors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessors(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        newValue,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessors() annotationProcessors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of annotationProcessors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessors(Iterable<String> elements) {
+    if (this.annotationProcessors == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        newValue,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} attribute.
+   * @param value The value for annotationProcessorOnly
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessorOnly(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.annotationProcessorOnly, newValue)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        newValue,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for annotationProcessorOnly
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessorOnly(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.annotationProcessorOnly, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        value,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPlugins() plugins}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withPlugins(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        newValue,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPlugins() plugins}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of plugins elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withPlugins(Iterable<? extends BuildTarget> elements) {
+    if (this.plugins == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        newValue,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAbiGenerationMode() abiGenerationMode} attribute.
+   * @param value The value for abiGenerationMode
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAbiGenerationMode(AbiGenerationMode value) {
+    @Nullable AbiGenerationMode newValue = Objects.requireNonNull(value, "abiGenerationMode");
+    if (this.abiGenerationMode == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        newValue,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAbiGenerationMode() abiGenerationMode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for abiGenerationMode
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAbiGenerationMode(Optional<? extends AbiGenerationMode> optional) {
+    @Nullable AbiGenerationMode value = optional.orElse(null);
+    if (Objects.equals(this.abiGenerationMode, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        value,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompileAgainst() compileAgainst} attribute.
+   * @param value The value for compileAgainst
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withCompileAgainst(CompileAgainstLibraryType value) {
+    @Nullable CompileAgainstLibraryType newValue = Objects.requireNonNull(value, "compileAgainst");
+    if (this.compileAgainst == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        newValue,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompileAgainst() compileAgainst} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compileAgainst
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withCompileAgainst(Optional<? extends CompileAgainstLibraryType> optional) {
+    @Nullable CompileAgainstLibraryType value = optional.orElse(null);
+    if (Objects.equals(this.compileAgainst, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        value,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceAbiVerificationMode() sourceAbiVerificationMode} attribute.
+   * @param value The value for sourceAbiVerificationMode
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSourceAbiVerificationMode(JavaBuckConfig.SourceAbiVerificationMode value) {
+    @Nullable JavaBuckConfig.SourceAbiVerificationMode newValue = Objects.requireNonNull(value, "sourceAbiVerificationMode");
+    if (this.sourceAbiVerificationMode == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        newValue,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceAbiVerificationMode() sourceAbiVerificationMode} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceAbiVerificationMode
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSourceAbiVerificationMode(Optional<? extends JavaBuckConfig.SourceAbiVerificationMode> optional) {
+    @Nullable JavaBuckConfig.SourceAbiVerificationMode value = optional.orElse(null);
+    if (Objects.equals(this.sourceAbiVerificationMode, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        value,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getOnUnusedDependencies() onUnusedDependencies} attribute.
+   * @param value The value for onUnusedDependencies
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withOnUnusedDependencies(JavaBuckConfig.UnusedDependenciesAction value) {
+    @Nullable JavaBuckConfig.UnusedDependenciesAction newValue = Objects.requireNonNull(value, "onUnusedDependencies");
+    if (this.onUnusedDependencies == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        newValue,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getOnUnusedDependencies() onUnusedDependencies} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for onUnusedDependencies
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withOnUnusedDependencies(Optional<? extends JavaBuckConfig.UnusedDependenciesAction> optional) {
+    @Nullable JavaBuckConfig.UnusedDependenciesAction value = optional.orElse(null);
+    if (Objects.equals(this.onUnusedDependencies, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        value,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAarDescriptionArg withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        newValue,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLicenses() licenses}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withLicenses(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        newValue,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLicenses() licenses}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of licenses elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withLicenses(Iterable<? extends SourcePath> elements) {
+    if (this.licenses == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        newValue,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLabels() labels}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withLabels(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        newValue,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLabels() labels}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of labels elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withLabels(Iterable<String> elements) {
+    if (this.labels == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        newValue,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for requiredForSourceOnlyAbi
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidAarDescriptionArg withRequiredForSourceOnlyAbi(boolean value) {
+    if (this.requiredForSourceOnlyAbi == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        value,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDeps() deps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        newValue,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDeps() deps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of deps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.deps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        newValue,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDeps() providedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withProvidedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        newValue,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDeps() providedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of providedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withProvidedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.providedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        newValue,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExportedProvidedDeps(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        newValue,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of exportedProvidedDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExportedProvidedDeps(Iterable<? extends BuildTarget> elements) {
+    if (this.exportedProvidedDeps == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        newValue,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        newValue,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        newValue,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        newValue,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        newValue,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLanguage() language} attribute.
+   * @param value The value for language
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withLanguage(AndroidLibraryDescription.JvmLanguage value) {
+    @Nullable AndroidLibraryDescription.JvmLanguage newValue = Objects.requireNonNull(value, "language");
+    if (this.language == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        newValue,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLanguage() language} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for language
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withLanguage(Optional<? extends AndroidLibraryDescription.JvmLanguage> optional) {
+    @Nullable AndroidLibraryDescription.JvmLanguage value = optional.orElse(null);
+    if (Objects.equals(this.language, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        value,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraKotlincArguments() extraKotlincArguments}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExtraKotlincArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        newValue,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraKotlincArguments() extraKotlincArguments}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraKotlincArguments elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withExtraKotlincArguments(Iterable<String> elements) {
+    if (this.extraKotlincArguments == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        newValue,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessingTool() annotationProcessingTool} attribute.
+   * @param value The value for annotationProcessingTool
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessingTool(KotlinLibraryDescription.AnnotationProcessingTool value) {
+    @Nullable KotlinLibraryDescription.AnnotationProcessingTool newValue = Objects.requireNonNull(value, "annotationProcessingTool");
+    if (this.annotationProcessingTool == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        newValue,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessingTool() annotationProcessingTool} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for annotationProcessingTool
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withAnnotationProcessingTool(Optional<? extends KotlinLibraryDescription.AnnotationProcessingTool> optional) {
+    @Nullable KotlinLibraryDescription.AnnotationProcessingTool value = optional.orElse(null);
+    if (Objects.equals(this.annotationProcessingTool, value)) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        value,
+        this.depsQuery,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * @param value The value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "depsQuery");
+    if (this.depsQuery == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        newValue,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDepsQuery() depsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.depsQuery == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        value,
+        this.providedDepsQuery));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDepsQuery() providedDepsQuery} attribute.
+   * @param value The value for providedDepsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withProvidedDepsQuery(Query value) {
+    @Nullable Query newValue = Objects.requireNonNull(value, "providedDepsQuery");
+    if (this.providedDepsQuery == newValue) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDepsQuery() providedDepsQuery} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for providedDepsQuery
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidAarDescriptionArg withProvidedDepsQuery(Optional<? extends Query> optional) {
+    @Nullable Query value = optional.orElse(null);
+    if (this.providedDepsQuery == value) return this;
+    return validate(new AndroidAarDescriptionArg(
+        this.manifestSkeleton,
+        this.buildConfigValues,
+        this.includeBuildConfigClass,
+        this.manifest,
+        this.resourceUnionPackage,
+        this.skipNonUnionRDotJava,
+        this.finalRName,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.unbundledResourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.mavenPomTemplate,
+        this.exportedDeps,
+        this.sourceOnlyAbiDeps,
+        this.source,
+        this.target,
+        this.javaVersion,
+        this.javac,
+        this.javacJar,
+        this.compilerClassName,
+        this.compiler,
+        this.extraArguments,
+        this.removeClasses,
+        this.annotationProcessorDeps,
+        this.annotationProcessorParams,
+        this.annotationProcessors,
+        this.annotationProcessorOnly,
+        this.plugins,
+        this.abiGenerationMode,
+        this.compileAgainst,
+        this.sourceAbiVerificationMode,
+        this.onUnusedDependencies,
+        this.name,
+        this.licenses,
+        this.labels,
+        this.requiredForSourceOnlyAbi,
+        this.deps,
+        this.providedDeps,
+        this.exportedProvidedDeps,
+        this.srcs,
+        this.tests,
+        this.language,
+        this.extraKotlincArguments,
+        this.annotationProcessingTool,
+        this.depsQuery,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidAarDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidAarDescriptionArg
+        && equalTo((AndroidAarDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidAarDescriptionArg another) {
+    return manifestSkeleton.equals(another.manifestSkeleton)
+        && buildConfigValues.equals(another.buildConfigValues)
+        && includeBuildConfigClass.equals(another.includeBuildConfigClass)
+        && Objects.equals(manifest, another.manifest)
+        && Objects.equals(resourceUnionPackage, another.resourceUnionPackage)
+        && skipNonUnionRDotJava == another.skipNonUnionRDotJava
+        && Objects.equals(finalRName, another.finalRName)
+        && resources.equals(another.resources)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && postprocessClassesCommands.equals(another.postprocessClassesCommands)
+        && Objects.equals(resourcesRoot, another.resourcesRoot)
+        && Objects.equals(unbundledResourcesRoot, another.unbundledResourcesRoot)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && Objects.equals(mavenPomTemplate, another.mavenPomTemplate)
+        && exportedDeps.equals(another.exportedDeps)
+        && sourceOnlyAbiDeps.equals(another.sourceOnlyAbiDeps)
+        && Objects.equals(source, another.source)
+        && Objects.equals(target, another.target)
+        && Objects.equals(javaVersion, another.javaVersion)
+        && Objects.equals(javac, another.javac)
+        && Objects.equals(javacJar, another.javacJar)
+        && Objects.equals(compilerClassName, another.compilerClassName)
+        && Objects.equals(compiler, another.compiler)
+        && extraArguments.equals(another.extraArguments)
+        && removeClasses.equals(another.removeClasses)
+        && annotationProcessorDeps.equals(another.annotationProcessorDeps)
+        && annotationProcessorParams.equals(another.annotationProcessorParams)
+        && annotationProcessors.equals(another.annotationProcessors)
+        && Objects.equals(annotationProcessorOnly, another.annotationProcessorOnly)
+        && plugins.equals(another.plugins)
+        && Objects.equals(abiGenerationMode, another.abiGenerationMode)
+        && Objects.equals(compileAgainst, another.compileAgainst)
+        && Objects.equals(sourceAbiVerificationMode, another.sourceAbiVerificationMode)
+        && Objects.equals(onUnusedDependencies, another.onUnusedDependencies)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && requiredForSourceOnlyAbi == another.requiredForSourceOnlyAbi
+        && deps.equals(another.deps)
+        && providedDeps.equals(another.providedDeps)
+        && exportedProvidedDeps.equals(another.exportedProvidedDeps)
+        && srcs.equals(another.srcs)
+        && tests.equals(another.tests)
+        && Objects.equals(language, another.language)
+        && extraKotlincArguments.equals(another.extraKotlincArguments)
+        && Objects.equals(annotationProcessingTool, another.annotationProcessingTool)
+        && Objects.equals(depsQuery, another.depsQuery)
+        && Objects.equals(providedDepsQuery, another.providedDepsQuery);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code manifestSkeleton}, {@code buildConfigValues}, {@code includeBuildConfigClass}, {@code manifest}, {@code resourceUnionPackage}, {@code skipNonUnionRDotJava}, {@code finalRName}, {@code resources}, {@code proguardConfig}, {@code postprocessClassesCommands}, {@code resourcesRoot}, {@code unbundledResourcesRoot}, {@code manifestFile}, {@code mavenCoords}, {@code mavenPomTemplate}, {@code exportedDeps}, {@code sourceOnlyAbiDeps}, {@code source}, {@code target}, {@code javaVersion}, {@code javac}, {@code javacJar}, {@code compilerClassName}, {@code compiler}, {@code extraArguments}, {@code removeClasses}, {@code annotationProcessorDeps}, {@code annotationProcessorParams}, {@code annotationProcessors}, {@code annotationProcessorOnly}, {@code plugins}, {@code abiGenerationMode}, {@code compileAgainst}, {@code sourceAbiVerificationMode}, {@code onUnusedDependencies}, {@code name}, {@code licenses}, {@code labels}, {@code requiredForSourceOnlyAbi}, {@code deps}, {@code providedDeps}, {@code exportedProvidedDeps}, {@code srcs}, {@code tests}, {@code language}, {@code extraKotlincArguments}, {@code annotationProcessingTool}, {@code depsQuery}, {@code providedDepsQuery}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + manifestSkeleton.hashCode();
+    h += (h << 5) + buildConfigValues.hashCode();
+    h += (h << 5) + includeBuildConfigClass.hashCode();
+    h += (h << 5) + Objects.hashCode(manifest);
+    h += (h << 5) + Objects.hashCode(resourceUnionPackage);
+    h += (h << 5) + Booleans.hashCode(skipNonUnionRDotJava);
+    h += (h << 5) + Objects.hashCode(finalRName);
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + postprocessClassesCommands.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    h += (h << 5) + Objects.hashCode(unbundledResourcesRoot);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + Objects.hashCode(mavenPomTemplate);
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + sourceOnlyAbiDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(source);
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + Objects.hashCode(javaVersion);
+    h += (h << 5) + Objects.hashCode(javac);
+    h += (h << 5) + Objects.hashCode(javacJar);
+    h += (h << 5) + Objects.hashCode(compilerClassName);
+    h += (h << 5) + Objects.hashCode(compiler);
+    h += (h << 5) + extraArguments.hashCode();
+    h += (h << 5) + removeClasses.hashCode();
+    h += (h << 5) + annotationProcessorDeps.hashCode();
+    h += (h << 5) + annotationProcessorParams.hashCode();
+    h += (h << 5) + annotationProcessors.hashCode();
+    h += (h << 5) + Objects.hashCode(annotationProcessorOnly);
+    h += (h << 5) + plugins.hashCode();
+    h += (h << 5) + Objects.hashCode(abiGenerationMode);
+    h += (h << 5) + Objects.hashCode(compileAgainst);
+    h += (h << 5) + Objects.hashCode(sourceAbiVerificationMode);
+    h += (h << 5) + Objects.hashCode(onUnusedDependencies);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + Booleans.hashCode(requiredForSourceOnlyAbi);
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + providedDeps.hashCode();
+    h += (h << 5) + exportedProvidedDeps.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + Objects.hashCode(language);
+    h += (h << 5) + extraKotlincArguments.hashCode();
+    h += (h << 5) + Objects.hashCode(annotationProcessingTool);
+    h += (h << 5) + Objects.hashCode(depsQuery);
+    h += (h << 5) + Objects.hashCode(providedDepsQuery);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidAarDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidAarDescriptionArg")
+        .omitNullValues()
+        .add("manifestSkeleton", manifestSkeleton)
+        .add("buildConfigValues", buildConfigValues)
+        .add("includeBuildConfigClass", includeBuildConfigClass)
+        .add("manifest", manifest)
+        .add("resourceUnionPackage", resourceUnionPackage)
+        .add("skipNonUnionRDotJava", skipNonUnionRDotJava)
+        .add("finalRName", finalRName)
+        .add("resources", resources)
+        .add("proguardConfig", proguardConfig)
+        .add("postprocessClassesCommands", postprocessClassesCommands)
+        .add("resourcesRoot", resourcesRoot)
+        .add("unbundledResourcesRoot", unbundledResourcesRoot)
+        .add("manifestFile", manifestFile)
+        .add("mavenCoords", mavenCoords)
+        .add("mavenPomTemplate", mavenPomTemplate)
+        .add("exportedDeps", exportedDeps)
+        .add("sourceOnlyAbiDeps", sourceOnlyAbiDeps)
+        .add("source", source)
+        .add("target", target)
+        .add("javaVersion", javaVersion)
+        .add("javac", javac)
+        .add("javacJar", javacJar)
+        .add("compilerClassName", compilerClassName)
+        .add("compiler", compiler)
+        .add("extraArguments", extraArguments)
+        .add("removeClasses", removeClasses)
+        .add("annotationProcessorDeps", annotationProcessorDeps)
+        .add("annotationProcessorParams", annotationProcessorParams)
+        .add("annotationProcessors", annotationProcessors)
+        .add("annotationProcessorOnly", annotationProcessorOnly)
+        .add("plugins", plugins)
+        .add("abiGenerationMode", abiGenerationMode)
+        .add("compileAgainst", compileAgainst)
+        .add("sourceAbiVerificationMode", sourceAbiVerificationMode)
+        .add("onUnusedDependencies", onUnusedDependencies)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("requiredForSourceOnlyAbi", requiredForSourceOnlyAbi)
+        .add("deps", deps)
+        .add("providedDeps", providedDeps)
+        .add("exportedProvidedDeps", exportedProvidedDeps)
+        .add("srcs", srcs)
+        .add("tests", tests)
+        .add("language", language)
+        .add("extraKotlincArguments", extraKotlincArguments)
+        .add("annotationProcessingTool", annotationProcessingTool)
+        .add("depsQuery", depsQuery)
+        .add("providedDepsQuery", providedDepsQuery)
+        .toString();
+  }
+
+
+  private static AndroidAarDescriptionArg validate(AndroidAarDescriptionArg instance) {
+    instance.verify();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidAarDescriptionArg instance
+   */
+  static AndroidAarDescriptionArg copyOf(AndroidAarDescription.AbstractAndroidAarDescriptionArg instance) {
+    if (instance instanceof AndroidAarDescriptionArg) {
+      return (AndroidAarDescriptionArg) instance;
+    }
+    return AndroidAarDescriptionArg.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidAarDescriptionArg AndroidAarDescriptionArg}.
+   * @return A new AndroidAarDescriptionArg builder
+   */
+  public static AndroidAarDescriptionArg.Builder builder() {
+    return new AndroidAarDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidAarDescriptionArg AndroidAarDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MANIFEST_SKELETON = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_SKIP_NON_UNION_R_DOT_JAVA = 0x1L;
+    private static final long OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI = 0x2L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable SourcePath manifestSkeleton;
+    private @Nullable BuildConfigFields buildConfigValues;
+    private @Nullable Boolean includeBuildConfigClass;
+    private @Nullable SourcePath manifest;
+    private @Nullable String resourceUnionPackage;
+    private boolean skipNonUnionRDotJava;
+    private @Nullable String finalRName;
+    private ImmutableSortedSet.Builder<SourcePath> resources = ImmutableSortedSet.naturalOrder();
+    private @Nullable SourcePath proguardConfig;
+    private ImmutableList.Builder<String> postprocessClassesCommands = ImmutableList.builder();
+    private @Nullable Path resourcesRoot;
+    private @Nullable SourcePath unbundledResourcesRoot;
+    private @Nullable SourcePath manifestFile;
+    private @Nullable String mavenCoords;
+    private @Nullable SourcePath mavenPomTemplate;
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> sourceOnlyAbiDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String source;
+    private @Nullable String target;
+    private @Nullable String javaVersion;
+    private @Nullable SourcePath javac;
+    private @Nullable SourcePath javacJar;
+    private @Nullable String compilerClassName;
+    private @Nullable Either<BuiltInJavac, SourcePath> compiler;
+    private ImmutableList.Builder<String> extraArguments = ImmutableList.builder();
+    private ImmutableSet.Builder<Pattern> removeClasses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<BuildTarget> annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<String> annotationProcessorParams = ImmutableList.builder();
+    private ImmutableSet.Builder<String> annotationProcessors = ImmutableSet.builder();
+    private @Nullable Boolean annotationProcessorOnly;
+    private ImmutableList.Builder<BuildTarget> plugins = ImmutableList.builder();
+    private @Nullable AbiGenerationMode abiGenerationMode;
+    private @Nullable CompileAgainstLibraryType compileAgainst;
+    private @Nullable JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode;
+    private @Nullable JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private boolean requiredForSourceOnlyAbi;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> providedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedProvidedDeps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private @Nullable AndroidLibraryDescription.JvmLanguage language;
+    private ImmutableList.Builder<String> extraKotlincArguments = ImmutableList.builder();
+    private @Nullable KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool;
+    private @Nullable Query depsQuery;
+    private @Nullable Query providedDepsQuery;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.android.AndroidLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.android.AndroidKotlinCoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidKotlinCoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasSrcs} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasSrcs instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.MaybeRequiredForSourceOnlyAbiArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(MaybeRequiredForSourceOnlyAbiArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasProvidedDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasProvidedDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JavaLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JavaLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasProvidedDepsQuery} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasProvidedDepsQuery instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidAarDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidAarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidAarDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AndroidAarDescription.AbstractAndroidAarDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.JvmLibraryArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JvmLibraryArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.kotlin.KotlinLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(KotlinLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AndroidLibraryDescription.CoreArg) {
+        AndroidLibraryDescription.CoreArg instance = (AndroidLibraryDescription.CoreArg) object;
+        Optional<String> finalRNameOptional = instance.getFinalRName();
+        if (finalRNameOptional.isPresent()) {
+          setFinalRName(finalRNameOptional);
+        }
+        Optional<String> resourceUnionPackageOptional = instance.getResourceUnionPackage();
+        if (resourceUnionPackageOptional.isPresent()) {
+          setResourceUnionPackage(resourceUnionPackageOptional);
+        }
+        Optional<SourcePath> manifestOptional = instance.getManifest();
+        if (manifestOptional.isPresent()) {
+          setManifest(manifestOptional);
+        }
+        setSkipNonUnionRDotJava(instance.isSkipNonUnionRDotJava());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof HasDepsQuery) {
+        HasDepsQuery instance = (HasDepsQuery) object;
+        Optional<Query> depsQueryOptional = instance.getDepsQuery();
+        if (depsQueryOptional.isPresent()) {
+          setDepsQuery(depsQueryOptional);
+        }
+      }
+      if (object instanceof AndroidKotlinCoreArg) {
+        AndroidKotlinCoreArg instance = (AndroidKotlinCoreArg) object;
+        Optional<AndroidLibraryDescription.JvmLanguage> languageOptional = instance.getLanguage();
+        if (languageOptional.isPresent()) {
+          setLanguage(languageOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+      if (object instanceof HasSrcs) {
+        HasSrcs instance = (HasSrcs) object;
+        addAllSrcs(instance.getSrcs());
+      }
+      if (object instanceof MaybeRequiredForSourceOnlyAbiArg) {
+        MaybeRequiredForSourceOnlyAbiArg instance = (MaybeRequiredForSourceOnlyAbiArg) object;
+        setRequiredForSourceOnlyAbi(instance.getRequiredForSourceOnlyAbi());
+      }
+      if (object instanceof HasProvidedDeps) {
+        HasProvidedDeps instance = (HasProvidedDeps) object;
+        addAllProvidedDeps(instance.getProvidedDeps());
+        addAllExportedProvidedDeps(instance.getExportedProvidedDeps());
+      }
+      if (object instanceof JavaLibraryDescription.CoreArg) {
+        JavaLibraryDescription.CoreArg instance = (JavaLibraryDescription.CoreArg) object;
+        Optional<SourcePath> unbundledResourcesRootOptional = instance.getUnbundledResourcesRoot();
+        if (unbundledResourcesRootOptional.isPresent()) {
+          setUnbundledResourcesRoot(unbundledResourcesRootOptional);
+        }
+        Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+        if (mavenCoordsOptional.isPresent()) {
+          setMavenCoords(mavenCoordsOptional);
+        }
+        Optional<SourcePath> manifestFileOptional = instance.getManifestFile();
+        if (manifestFileOptional.isPresent()) {
+          setManifestFile(manifestFileOptional);
+        }
+        addAllSourceOnlyAbiDeps(instance.getSourceOnlyAbiDeps());
+        Optional<SourcePath> mavenPomTemplateOptional = instance.getMavenPomTemplate();
+        if (mavenPomTemplateOptional.isPresent()) {
+          setMavenPomTemplate(mavenPomTemplateOptional);
+        }
+        addAllPostprocessClassesCommands(instance.getPostprocessClassesCommands());
+        Optional<Path> resourcesRootOptional = instance.getResourcesRoot();
+        if (resourcesRootOptional.isPresent()) {
+          setResourcesRoot(resourcesRootOptional);
+        }
+        addAllResources(instance.getResources());
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+        if (proguardConfigOptional.isPresent()) {
+          setProguardConfig(proguardConfigOptional);
+        }
+      }
+      if (object instanceof HasProvidedDepsQuery) {
+        HasProvidedDepsQuery instance = (HasProvidedDepsQuery) object;
+        Optional<Query> providedDepsQueryOptional = instance.getProvidedDepsQuery();
+        if (providedDepsQueryOptional.isPresent()) {
+          setProvidedDepsQuery(providedDepsQueryOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof AndroidAarDescription.AbstractAndroidAarDescriptionArg) {
+        AndroidAarDescription.AbstractAndroidAarDescriptionArg instance = (AndroidAarDescription.AbstractAndroidAarDescriptionArg) object;
+        setManifestSkeleton(instance.getManifestSkeleton());
+        setBuildConfigValues(instance.getBuildConfigValues());
+        setIncludeBuildConfigClass(instance.getIncludeBuildConfigClass());
+      }
+      if (object instanceof JvmLibraryArg) {
+        JvmLibraryArg instance = (JvmLibraryArg) object;
+        addAllRemoveClasses(instance.getRemoveClasses());
+        Optional<SourcePath> javacOptional = instance.getJavac();
+        if (javacOptional.isPresent()) {
+          setJavac(javacOptional);
+        }
+        addAllAnnotationProcessorParams(instance.getAnnotationProcessorParams());
+        Optional<SourcePath> javacJarOptional = instance.getJavacJar();
+        if (javacJarOptional.isPresent()) {
+          setJavacJar(javacJarOptional);
+        }
+        Optional<JavaBuckConfig.SourceAbiVerificationMode> sourceAbiVerificationModeOptional = instance.getSourceAbiVerificationMode();
+        if (sourceAbiVerificationModeOptional.isPresent()) {
+          setSourceAbiVerificationMode(sourceAbiVerificationModeOptional);
+        }
+        addAllPlugins(instance.getPlugins());
+        Optional<String> javaVersionOptional = instance.getJavaVersion();
+        if (javaVersionOptional.isPresent()) {
+          setJavaVersion(javaVersionOptional);
+        }
+        addAllAnnotationProcessorDeps(instance.getAnnotationProcessorDeps());
+        Optional<Boolean> annotationProcessorOnlyOptional = instance.getAnnotationProcessorOnly();
+        if (annotationProcessorOnlyOptional.isPresent()) {
+          setAnnotationProcessorOnly(annotationProcessorOnlyOptional);
+        }
+        Optional<String> sourceOptional = instance.getSource();
+        if (sourceOptional.isPresent()) {
+          setSource(sourceOptional);
+        }
+        addAllAnnotationProcessors(instance.getAnnotationProcessors());
+        Optional<AbiGenerationMode> abiGenerationModeOptional = instance.getAbiGenerationMode();
+        if (abiGenerationModeOptional.isPresent()) {
+          setAbiGenerationMode(abiGenerationModeOptional);
+        }
+        Optional<String> targetOptional = instance.getTarget();
+        if (targetOptional.isPresent()) {
+          setTarget(targetOptional);
+        }
+        addAllExtraArguments(instance.getExtraArguments());
+        Optional<CompileAgainstLibraryType> compileAgainstOptional = instance.getCompileAgainst();
+        if (compileAgainstOptional.isPresent()) {
+          setCompileAgainst(compileAgainstOptional);
+        }
+        Optional<JavaBuckConfig.UnusedDependenciesAction> onUnusedDependenciesOptional = instance.getOnUnusedDependencies();
+        if (onUnusedDependenciesOptional.isPresent()) {
+          setOnUnusedDependencies(onUnusedDependenciesOptional);
+        }
+        Optional<String> compilerClassNameOptional = instance.getCompilerClassName();
+        if (compilerClassNameOptional.isPresent()) {
+          setCompilerClassName(compilerClassNameOptional);
+        }
+        Optional<Either<BuiltInJavac, SourcePath>> compilerOptional = instance.getCompiler();
+        if (compilerOptional.isPresent()) {
+          setCompiler(compilerOptional);
+        }
+      }
+      if (object instanceof KotlinLibraryDescription.CoreArg) {
+        KotlinLibraryDescription.CoreArg instance = (KotlinLibraryDescription.CoreArg) object;
+        Optional<KotlinLibraryDescription.AnnotationProcessingTool> annotationProcessingToolOptional = instance.getAnnotationProcessingTool();
+        if (annotationProcessingToolOptional.isPresent()) {
+          setAnnotationProcessingTool(annotationProcessingToolOptional);
+        }
+        addAllExtraKotlincArguments(instance.getExtraKotlincArguments());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifestSkeleton() manifestSkeleton} attribute.
+     * @param manifestSkeleton The value for manifestSkeleton 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestSkeleton(SourcePath manifestSkeleton) {
+      this.manifestSkeleton = Objects.requireNonNull(manifestSkeleton, "manifestSkeleton");
+      initBits &= ~INIT_BIT_MANIFEST_SKELETON;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getBuildConfigValues() buildConfigValues} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getBuildConfigValues() buildConfigValues}.</em>
+     * @param buildConfigValues The value for buildConfigValues 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildConfigValues(BuildConfigFields buildConfigValues) {
+      this.buildConfigValues = Objects.requireNonNull(buildConfigValues, "buildConfigValues");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getIncludeBuildConfigClass() includeBuildConfigClass} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getIncludeBuildConfigClass() includeBuildConfigClass}.</em>
+     * @param includeBuildConfigClass The value for includeBuildConfigClass 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeBuildConfigClass(Boolean includeBuildConfigClass) {
+      this.includeBuildConfigClass = Objects.requireNonNull(includeBuildConfigClass, "includeBuildConfigClass");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifest(SourcePath manifest) {
+      this.manifest = Objects.requireNonNull(manifest, "manifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifest() manifest} to manifest.
+     * @param manifest The value for manifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifest(Optional<? extends SourcePath> manifest) {
+      this.manifest = manifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourceUnionPackage() resourceUnionPackage} to resourceUnionPackage.
+     * @param resourceUnionPackage The value for resourceUnionPackage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceUnionPackage(String resourceUnionPackage) {
+      this.resourceUnionPackage = Objects.requireNonNull(resourceUnionPackage, "resourceUnionPackage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourceUnionPackage() resourceUnionPackage} to resourceUnionPackage.
+     * @param resourceUnionPackage The value for resourceUnionPackage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceUnionPackage(Optional<String> resourceUnionPackage) {
+      this.resourceUnionPackage = resourceUnionPackage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#isSkipNonUnionRDotJava() skipNonUnionRDotJava} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#isSkipNonUnionRDotJava() skipNonUnionRDotJava}.</em>
+     * @param skipNonUnionRDotJava The value for skipNonUnionRDotJava 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSkipNonUnionRDotJava(boolean skipNonUnionRDotJava) {
+      this.skipNonUnionRDotJava = skipNonUnionRDotJava;
+      optBits |= OPT_BIT_SKIP_NON_UNION_R_DOT_JAVA;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getFinalRName() finalRName} to finalRName.
+     * @param finalRName The value for finalRName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFinalRName(String finalRName) {
+      this.finalRName = Objects.requireNonNull(finalRName, "finalRName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getFinalRName() finalRName} to finalRName.
+     * @param finalRName The value for finalRName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFinalRName(Optional<String> finalRName) {
+      this.finalRName = finalRName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResources(SourcePath element) {
+      this.resources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResources(SourcePath... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResources(Iterable<? extends SourcePath> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResources(Iterable<? extends SourcePath> elements) {
+      this.resources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param element A postprocessClassesCommands element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPostprocessClassesCommands(String element) {
+      this.postprocessClassesCommands.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An array of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPostprocessClassesCommands(String... elements) {
+      this.postprocessClassesCommands.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands = ImmutableList.builder();
+      return addAllPostprocessClassesCommands(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(Path resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(Optional<? extends Path> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} to unbundledResourcesRoot.
+     * @param unbundledResourcesRoot The value for unbundledResourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnbundledResourcesRoot(SourcePath unbundledResourcesRoot) {
+      this.unbundledResourcesRoot = Objects.requireNonNull(unbundledResourcesRoot, "unbundledResourcesRoot");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getUnbundledResourcesRoot() unbundledResourcesRoot} to unbundledResourcesRoot.
+     * @param unbundledResourcesRoot The value for unbundledResourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnbundledResourcesRoot(Optional<? extends SourcePath> unbundledResourcesRoot) {
+      this.unbundledResourcesRoot = unbundledResourcesRoot.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestFile(SourcePath manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setManifestFile(Optional<? extends SourcePath> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenPomTemplate() mavenPomTemplate} to mavenPomTemplate.
+     * @param mavenPomTemplate The value for mavenPomTemplate
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenPomTemplate(SourcePath mavenPomTemplate) {
+      this.mavenPomTemplate = Objects.requireNonNull(mavenPomTemplate, "mavenPomTemplate");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getMavenPomTemplate() mavenPomTemplate} to mavenPomTemplate.
+     * @param mavenPomTemplate The value for mavenPomTemplate
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMavenPomTemplate(Optional<? extends SourcePath> mavenPomTemplate) {
+      this.mavenPomTemplate = mavenPomTemplate.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param element A sourceOnlyAbiDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSourceOnlyAbiDeps(BuildTarget element) {
+      this.sourceOnlyAbiDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param elements An array of sourceOnlyAbiDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSourceOnlyAbiDeps(BuildTarget... elements) {
+      this.sourceOnlyAbiDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param elements An iterable of sourceOnlyAbiDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceOnlyAbiDeps(Iterable<? extends BuildTarget> elements) {
+      this.sourceOnlyAbiDeps = ImmutableSortedSet.naturalOrder();
+      return addAllSourceOnlyAbiDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceOnlyAbiDeps() sourceOnlyAbiDeps} sortedSet.
+     * @param elements An iterable of sourceOnlyAbiDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSourceOnlyAbiDeps(Iterable<? extends BuildTarget> elements) {
+      this.sourceOnlyAbiDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(String source) {
+      this.source = Objects.requireNonNull(source, "source");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSource() source} to source.
+     * @param source The value for source
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSource(Optional<String> source) {
+      this.source = source.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(String target) {
+      this.target = Objects.requireNonNull(target, "target");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(Optional<String> target) {
+      this.target = target.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaVersion(String javaVersion) {
+      this.javaVersion = Objects.requireNonNull(javaVersion, "javaVersion");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavaVersion() javaVersion} to javaVersion.
+     * @param javaVersion The value for javaVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaVersion(Optional<String> javaVersion) {
+      this.javaVersion = javaVersion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavac(SourcePath javac) {
+      this.javac = Objects.requireNonNull(javac, "javac");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavac() javac} to javac.
+     * @param javac The value for javac
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavac(Optional<? extends SourcePath> javac) {
+      this.javac = javac.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacJar(SourcePath javacJar) {
+      this.javacJar = Objects.requireNonNull(javacJar, "javacJar");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getJavacJar() javacJar} to javacJar.
+     * @param javacJar The value for javacJar
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacJar(Optional<? extends SourcePath> javacJar) {
+      this.javacJar = javacJar.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerClassName(String compilerClassName) {
+      this.compilerClassName = Objects.requireNonNull(compilerClassName, "compilerClassName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerClassName(Optional<String> compilerClassName) {
+      this.compilerClassName = compilerClassName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompiler(Either<BuiltInJavac, SourcePath> compiler) {
+      this.compiler = Objects.requireNonNull(compiler, "compiler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompiler() compiler} to compiler.
+     * @param compiler The value for compiler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompiler(Optional<? extends Either<BuiltInJavac, SourcePath>> compiler) {
+      this.compiler = compiler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param element A extraArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraArguments(String element) {
+      this.extraArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An array of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraArguments(String... elements) {
+      this.extraArguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraArguments(Iterable<String> elements) {
+      this.extraArguments = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraArguments(Iterable<String> elements) {
+      this.extraArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param element A removeClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRemoveClasses(Pattern element) {
+      this.removeClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An array of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRemoveClasses(Pattern... elements) {
+      this.removeClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses = ImmutableSet.builder();
+      return addAllRemoveClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRemoveClasses() removeClasses} set.
+     * @param elements An iterable of removeClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRemoveClasses(Iterable<? extends Pattern> elements) {
+      this.removeClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param element A annotationProcessorDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorDeps(BuildTarget element) {
+      this.annotationProcessorDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An array of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorDeps(BuildTarget... elements) {
+      this.annotationProcessorDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps = ImmutableSortedSet.naturalOrder();
+      return addAllAnnotationProcessorDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorDeps() annotationProcessorDeps} sortedSet.
+     * @param elements An iterable of annotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAnnotationProcessorDeps(Iterable<? extends BuildTarget> elements) {
+      this.annotationProcessorDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param element A annotationProcessorParams element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorParams(String element) {
+      this.annotationProcessorParams.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An array of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessorParams(String... elements) {
+      this.annotationProcessorParams.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams = ImmutableList.builder();
+      return addAllAnnotationProcessorParams(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorParams() annotationProcessorParams} list.
+     * @param elements An iterable of annotationProcessorParams elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAnnotationProcessorParams(Iterable<String> elements) {
+      this.annotationProcessorParams.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param element A annotationProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessors(String element) {
+      this.annotationProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An array of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAnnotationProcessors(String... elements) {
+      this.annotationProcessors.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors = ImmutableSet.builder();
+      return addAllAnnotationProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessors() annotationProcessors} set.
+     * @param elements An iterable of annotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAnnotationProcessors(Iterable<String> elements) {
+      this.annotationProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorOnly(boolean annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessorOnly() annotationProcessorOnly} to annotationProcessorOnly.
+     * @param annotationProcessorOnly The value for annotationProcessorOnly
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessorOnly(Optional<Boolean> annotationProcessorOnly) {
+      this.annotationProcessorOnly = annotationProcessorOnly.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPlugins() plugins} list.
+     * @param element A plugins element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlugins(BuildTarget element) {
+      this.plugins.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPlugins() plugins} list.
+     * @param elements An array of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlugins(BuildTarget... elements) {
+      this.plugins.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins = ImmutableList.builder();
+      return addAllPlugins(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getPlugins() plugins} list.
+     * @param elements An iterable of plugins elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPlugins(Iterable<? extends BuildTarget> elements) {
+      this.plugins.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAbiGenerationMode() abiGenerationMode} to abiGenerationMode.
+     * @param abiGenerationMode The value for abiGenerationMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiGenerationMode(AbiGenerationMode abiGenerationMode) {
+      this.abiGenerationMode = Objects.requireNonNull(abiGenerationMode, "abiGenerationMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAbiGenerationMode() abiGenerationMode} to abiGenerationMode.
+     * @param abiGenerationMode The value for abiGenerationMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiGenerationMode(Optional<? extends AbiGenerationMode> abiGenerationMode) {
+      this.abiGenerationMode = abiGenerationMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompileAgainst() compileAgainst} to compileAgainst.
+     * @param compileAgainst The value for compileAgainst
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompileAgainst(CompileAgainstLibraryType compileAgainst) {
+      this.compileAgainst = Objects.requireNonNull(compileAgainst, "compileAgainst");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getCompileAgainst() compileAgainst} to compileAgainst.
+     * @param compileAgainst The value for compileAgainst
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompileAgainst(Optional<? extends CompileAgainstLibraryType> compileAgainst) {
+      this.compileAgainst = compileAgainst.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceAbiVerificationMode() sourceAbiVerificationMode} to sourceAbiVerificationMode.
+     * @param sourceAbiVerificationMode The value for sourceAbiVerificationMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceAbiVerificationMode(JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode) {
+      this.sourceAbiVerificationMode = Objects.requireNonNull(sourceAbiVerificationMode, "sourceAbiVerificationMode");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSourceAbiVerificationMode() sourceAbiVerificationMode} to sourceAbiVerificationMode.
+     * @param sourceAbiVerificationMode The value for sourceAbiVerificationMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceAbiVerificationMode(Optional<? extends JavaBuckConfig.SourceAbiVerificationMode> sourceAbiVerificationMode) {
+      this.sourceAbiVerificationMode = sourceAbiVerificationMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getOnUnusedDependencies() onUnusedDependencies} to onUnusedDependencies.
+     * @param onUnusedDependencies The value for onUnusedDependencies
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOnUnusedDependencies(JavaBuckConfig.UnusedDependenciesAction onUnusedDependencies) {
+      this.onUnusedDependencies = Objects.requireNonNull(onUnusedDependencies, "onUnusedDependencies");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getOnUnusedDependencies() onUnusedDependencies} to onUnusedDependencies.
+     * @param onUnusedDependencies The value for onUnusedDependencies
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOnUnusedDependencies(Optional<? extends JavaBuckConfig.UnusedDependenciesAction> onUnusedDependencies) {
+      this.onUnusedDependencies = onUnusedDependencies.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getRequiredForSourceOnlyAbi() requiredForSourceOnlyAbi}.</em>
+     * @param requiredForSourceOnlyAbi The value for requiredForSourceOnlyAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequiredForSourceOnlyAbi(boolean requiredForSourceOnlyAbi) {
+      this.requiredForSourceOnlyAbi = requiredForSourceOnlyAbi;
+      optBits |= OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param element A providedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProvidedDeps(BuildTarget element) {
+      this.providedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An array of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProvidedDeps(BuildTarget... elements) {
+      this.providedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An iterable of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.providedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllProvidedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDeps() providedDeps} sortedSet.
+     * @param elements An iterable of providedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.providedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param element A exportedProvidedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedProvidedDeps(BuildTarget element) {
+      this.exportedProvidedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param elements An array of exportedProvidedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedProvidedDeps(BuildTarget... elements) {
+      this.exportedProvidedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param elements An iterable of exportedProvidedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedProvidedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedProvidedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExportedProvidedDeps() exportedProvidedDeps} sortedSet.
+     * @param elements An iterable of exportedProvidedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedProvidedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedProvidedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLanguage() language} to language.
+     * @param language The value for language
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLanguage(AndroidLibraryDescription.JvmLanguage language) {
+      this.language = Objects.requireNonNull(language, "language");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getLanguage() language} to language.
+     * @param language The value for language
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLanguage(Optional<? extends AndroidLibraryDescription.JvmLanguage> language) {
+      this.language = language.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param element A extraKotlincArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraKotlincArguments(String element) {
+      this.extraKotlincArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param elements An array of extraKotlincArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExtraKotlincArguments(String... elements) {
+      this.extraKotlincArguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param elements An iterable of extraKotlincArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtraKotlincArguments(Iterable<String> elements) {
+      this.extraKotlincArguments = ImmutableList.builder();
+      return addAllExtraKotlincArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getExtraKotlincArguments() extraKotlincArguments} list.
+     * @param elements An iterable of extraKotlincArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExtraKotlincArguments(Iterable<String> elements) {
+      this.extraKotlincArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessingTool() annotationProcessingTool} to annotationProcessingTool.
+     * @param annotationProcessingTool The value for annotationProcessingTool
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessingTool(KotlinLibraryDescription.AnnotationProcessingTool annotationProcessingTool) {
+      this.annotationProcessingTool = Objects.requireNonNull(annotationProcessingTool, "annotationProcessingTool");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getAnnotationProcessingTool() annotationProcessingTool} to annotationProcessingTool.
+     * @param annotationProcessingTool The value for annotationProcessingTool
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAnnotationProcessingTool(Optional<? extends KotlinLibraryDescription.AnnotationProcessingTool> annotationProcessingTool) {
+      this.annotationProcessingTool = annotationProcessingTool.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepsQuery(Query depsQuery) {
+      this.depsQuery = Objects.requireNonNull(depsQuery, "depsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getDepsQuery() depsQuery} to depsQuery.
+     * @param depsQuery The value for depsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDepsQuery(Optional<? extends Query> depsQuery) {
+      this.depsQuery = depsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDepsQuery() providedDepsQuery} to providedDepsQuery.
+     * @param providedDepsQuery The value for providedDepsQuery
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvidedDepsQuery(Query providedDepsQuery) {
+      this.providedDepsQuery = Objects.requireNonNull(providedDepsQuery, "providedDepsQuery");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidAarDescription.AbstractAndroidAarDescriptionArg#getProvidedDepsQuery() providedDepsQuery} to providedDepsQuery.
+     * @param providedDepsQuery The value for providedDepsQuery
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvidedDepsQuery(Optional<? extends Query> providedDepsQuery) {
+      this.providedDepsQuery = providedDepsQuery.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidAarDescriptionArg AndroidAarDescriptionArg}.
+     * @return An immutable instance of AndroidAarDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidAarDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return AndroidAarDescriptionArg.validate(new AndroidAarDescriptionArg(this));
+    }
+
+    private boolean skipNonUnionRDotJavaIsSet() {
+      return (optBits & OPT_BIT_SKIP_NON_UNION_R_DOT_JAVA) != 0;
+    }
+
+    private boolean requiredForSourceOnlyAbiIsSet() {
+      return (optBits & OPT_BIT_REQUIRED_FOR_SOURCE_ONLY_ABI) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MANIFEST_SKELETON) != 0) attributes.add("manifestSkeleton");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidAarDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,517 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.exopackage.ExopackagePathAndHash;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidBinaryResourcesGraphEnhancementResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult"})
+@Immutable
+@CheckReturnValue
+public final class AndroidBinaryResourcesGraphEnhancementResult
+    implements AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult {
+  private final @Nullable SourcePath rDotJavaDir;
+  private final SourcePath primaryResourcesApkPath;
+  private final SourcePath androidManifestXml;
+  private final ImmutableList<SourcePath> aaptGeneratedProguardConfigFiles;
+  private final @Nullable PackageStringAssets packageStringAssets;
+  private final ImmutableList<SourcePath> primaryApkAssetZips;
+  private final ImmutableList<ExopackagePathAndHash> exoResources;
+  private final ImmutableMap<APKModule, SourcePath> moduleResourceApkPaths;
+
+  private AndroidBinaryResourcesGraphEnhancementResult(AndroidBinaryResourcesGraphEnhancementResult.Builder builder) {
+    this.rDotJavaDir = builder.rDotJavaDir;
+    this.primaryResourcesApkPath = builder.primaryResourcesApkPath;
+    this.androidManifestXml = builder.androidManifestXml;
+    this.aaptGeneratedProguardConfigFiles = builder.aaptGeneratedProguardConfigFiles.build();
+    this.packageStringAssets = builder.packageStringAssets;
+    this.primaryApkAssetZips = builder.primaryApkAssetZips.build();
+    this.exoResources = builder.exoResources.build();
+    this.moduleResourceApkPaths = builder.moduleResourceApkPaths.build();
+  }
+
+  /**
+   * @return The value of the {@code rDotJavaDir} attribute
+   */
+  @Override
+  public Optional<SourcePath> getRDotJavaDir() {
+    return Optional.ofNullable(rDotJavaDir);
+  }
+
+  /**
+   * @return The value of the {@code primaryResourcesApkPath} attribute
+   */
+  @Override
+  public SourcePath getPrimaryResourcesApkPath() {
+    return primaryResourcesApkPath;
+  }
+
+  /**
+   * @return The value of the {@code androidManifestXml} attribute
+   */
+  @Override
+  public SourcePath getAndroidManifestXml() {
+    return androidManifestXml;
+  }
+
+  /**
+   * @return The value of the {@code aaptGeneratedProguardConfigFiles} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getAaptGeneratedProguardConfigFiles() {
+    return aaptGeneratedProguardConfigFiles;
+  }
+
+  /**
+   * @return The value of the {@code packageStringAssets} attribute
+   */
+  @Override
+  public Optional<PackageStringAssets> getPackageStringAssets() {
+    return Optional.ofNullable(packageStringAssets);
+  }
+
+  /**
+   * @return The value of the {@code primaryApkAssetZips} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getPrimaryApkAssetZips() {
+    return primaryApkAssetZips;
+  }
+
+  /**
+   * @return The value of the {@code exoResources} attribute
+   */
+  @Override
+  public ImmutableList<ExopackagePathAndHash> getExoResources() {
+    return exoResources;
+  }
+
+  /**
+   * @return The value of the {@code moduleResourceApkPaths} attribute
+   */
+  @Override
+  public ImmutableMap<APKModule, SourcePath> getModuleResourceApkPaths() {
+    return moduleResourceApkPaths;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidBinaryResourcesGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidBinaryResourcesGraphEnhancementResult
+        && equalTo((AndroidBinaryResourcesGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(AndroidBinaryResourcesGraphEnhancementResult another) {
+    return Objects.equals(rDotJavaDir, another.rDotJavaDir)
+        && primaryResourcesApkPath.equals(another.primaryResourcesApkPath)
+        && androidManifestXml.equals(another.androidManifestXml)
+        && aaptGeneratedProguardConfigFiles.equals(another.aaptGeneratedProguardConfigFiles)
+        && Objects.equals(packageStringAssets, another.packageStringAssets)
+        && primaryApkAssetZips.equals(another.primaryApkAssetZips)
+        && exoResources.equals(another.exoResources)
+        && moduleResourceApkPaths.equals(another.moduleResourceApkPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rDotJavaDir}, {@code primaryResourcesApkPath}, {@code androidManifestXml}, {@code aaptGeneratedProguardConfigFiles}, {@code packageStringAssets}, {@code primaryApkAssetZips}, {@code exoResources}, {@code moduleResourceApkPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(rDotJavaDir);
+    h += (h << 5) + primaryResourcesApkPath.hashCode();
+    h += (h << 5) + androidManifestXml.hashCode();
+    h += (h << 5) + aaptGeneratedProguardConfigFiles.hashCode();
+    h += (h << 5) + Objects.hashCode(packageStringAssets);
+    h += (h << 5) + primaryApkAssetZips.hashCode();
+    h += (h << 5) + exoResources.hashCode();
+    h += (h << 5) + moduleResourceApkPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidBinaryResourcesGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidBinaryResourcesGraphEnhancementResult")
+        .omitNullValues()
+        .add("rDotJavaDir", rDotJavaDir)
+        .add("primaryResourcesApkPath", primaryResourcesApkPath)
+        .add("androidManifestXml", androidManifestXml)
+        .add("aaptGeneratedProguardConfigFiles", aaptGeneratedProguardConfigFiles)
+        .add("packageStringAssets", packageStringAssets)
+        .add("primaryApkAssetZips", primaryApkAssetZips)
+        .add("exoResources", exoResources)
+        .add("moduleResourceApkPaths", moduleResourceApkPaths)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidBinaryResourcesGraphEnhancementResult AndroidBinaryResourcesGraphEnhancementResult}.
+   * @return A new AndroidBinaryResourcesGraphEnhancementResult builder
+   */
+  public static AndroidBinaryResourcesGraphEnhancementResult.Builder builder() {
+    return new AndroidBinaryResourcesGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidBinaryResourcesGraphEnhancementResult AndroidBinaryResourcesGraphEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PRIMARY_RESOURCES_APK_PATH = 0x1L;
+    private static final long INIT_BIT_ANDROID_MANIFEST_XML = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable SourcePath rDotJavaDir;
+    private @Nullable SourcePath primaryResourcesApkPath;
+    private @Nullable SourcePath androidManifestXml;
+    private ImmutableList.Builder<SourcePath> aaptGeneratedProguardConfigFiles = ImmutableList.builder();
+    private @Nullable PackageStringAssets packageStringAssets;
+    private ImmutableList.Builder<SourcePath> primaryApkAssetZips = ImmutableList.builder();
+    private ImmutableList.Builder<ExopackagePathAndHash> exoResources = ImmutableList.builder();
+    private ImmutableMap.Builder<APKModule, SourcePath> moduleResourceApkPaths = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidBinaryResourcesGraphEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidBinaryResourcesGraphEnhancementResult instance) {
+      return from((AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidBinaryResourcesGraphEnhancementResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<SourcePath> rDotJavaDirOptional = instance.getRDotJavaDir();
+      if (rDotJavaDirOptional.isPresent()) {
+        setRDotJavaDir(rDotJavaDirOptional);
+      }
+      setPrimaryResourcesApkPath(instance.getPrimaryResourcesApkPath());
+      setAndroidManifestXml(instance.getAndroidManifestXml());
+      addAllAaptGeneratedProguardConfigFiles(instance.getAaptGeneratedProguardConfigFiles());
+      Optional<PackageStringAssets> packageStringAssetsOptional = instance.getPackageStringAssets();
+      if (packageStringAssetsOptional.isPresent()) {
+        setPackageStringAssets(packageStringAssetsOptional);
+      }
+      addAllPrimaryApkAssetZips(instance.getPrimaryApkAssetZips());
+      addAllExoResources(instance.getExoResources());
+      putAllModuleResourceApkPaths(instance.getModuleResourceApkPaths());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getRDotJavaDir() rDotJavaDir} to rDotJavaDir.
+     * @param rDotJavaDir The value for rDotJavaDir
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRDotJavaDir(SourcePath rDotJavaDir) {
+      this.rDotJavaDir = Objects.requireNonNull(rDotJavaDir, "rDotJavaDir");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getRDotJavaDir() rDotJavaDir} to rDotJavaDir.
+     * @param rDotJavaDir The value for rDotJavaDir
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRDotJavaDir(Optional<? extends SourcePath> rDotJavaDir) {
+      this.rDotJavaDir = rDotJavaDir.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPrimaryResourcesApkPath() primaryResourcesApkPath} attribute.
+     * @param primaryResourcesApkPath The value for primaryResourcesApkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryResourcesApkPath(SourcePath primaryResourcesApkPath) {
+      this.primaryResourcesApkPath = Objects.requireNonNull(primaryResourcesApkPath, "primaryResourcesApkPath");
+      initBits &= ~INIT_BIT_PRIMARY_RESOURCES_APK_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getAndroidManifestXml() androidManifestXml} attribute.
+     * @param androidManifestXml The value for androidManifestXml 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAndroidManifestXml(SourcePath androidManifestXml) {
+      this.androidManifestXml = Objects.requireNonNull(androidManifestXml, "androidManifestXml");
+      initBits &= ~INIT_BIT_ANDROID_MANIFEST_XML;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getAaptGeneratedProguardConfigFiles() aaptGeneratedProguardConfigFiles} list.
+     * @param element A aaptGeneratedProguardConfigFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAaptGeneratedProguardConfigFiles(SourcePath element) {
+      this.aaptGeneratedProguardConfigFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getAaptGeneratedProguardConfigFiles() aaptGeneratedProguardConfigFiles} list.
+     * @param elements An array of aaptGeneratedProguardConfigFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAaptGeneratedProguardConfigFiles(SourcePath... elements) {
+      this.aaptGeneratedProguardConfigFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getAaptGeneratedProguardConfigFiles() aaptGeneratedProguardConfigFiles} list.
+     * @param elements An iterable of aaptGeneratedProguardConfigFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAaptGeneratedProguardConfigFiles(Iterable<? extends SourcePath> elements) {
+      this.aaptGeneratedProguardConfigFiles = ImmutableList.builder();
+      return addAllAaptGeneratedProguardConfigFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getAaptGeneratedProguardConfigFiles() aaptGeneratedProguardConfigFiles} list.
+     * @param elements An iterable of aaptGeneratedProguardConfigFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAaptGeneratedProguardConfigFiles(Iterable<? extends SourcePath> elements) {
+      this.aaptGeneratedProguardConfigFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPackageStringAssets() packageStringAssets} to packageStringAssets.
+     * @param packageStringAssets The value for packageStringAssets
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStringAssets(PackageStringAssets packageStringAssets) {
+      this.packageStringAssets = Objects.requireNonNull(packageStringAssets, "packageStringAssets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPackageStringAssets() packageStringAssets} to packageStringAssets.
+     * @param packageStringAssets The value for packageStringAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStringAssets(Optional<? extends PackageStringAssets> packageStringAssets) {
+      this.packageStringAssets = packageStringAssets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param element A primaryApkAssetZips element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPrimaryApkAssetZips(SourcePath element) {
+      this.primaryApkAssetZips.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param elements An array of primaryApkAssetZips elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPrimaryApkAssetZips(SourcePath... elements) {
+      this.primaryApkAssetZips.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param elements An iterable of primaryApkAssetZips elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrimaryApkAssetZips(Iterable<? extends SourcePath> elements) {
+      this.primaryApkAssetZips = ImmutableList.builder();
+      return addAllPrimaryApkAssetZips(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getPrimaryApkAssetZips() primaryApkAssetZips} list.
+     * @param elements An iterable of primaryApkAssetZips elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPrimaryApkAssetZips(Iterable<? extends SourcePath> elements) {
+      this.primaryApkAssetZips.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param element A exoResources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExoResources(ExopackagePathAndHash element) {
+      this.exoResources.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param elements An array of exoResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExoResources(ExopackagePathAndHash... elements) {
+      this.exoResources.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param elements An iterable of exoResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExoResources(Iterable<? extends ExopackagePathAndHash> elements) {
+      this.exoResources = ImmutableList.builder();
+      return addAllExoResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getExoResources() exoResources} list.
+     * @param elements An iterable of exoResources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExoResources(Iterable<? extends ExopackagePathAndHash> elements) {
+      this.exoResources.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map.
+     * @param key The key in the moduleResourceApkPaths map
+     * @param value The associated value in the moduleResourceApkPaths map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleResourceApkPaths(APKModule key, SourcePath value) {
+      this.moduleResourceApkPaths.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putModuleResourceApkPaths(Map.Entry<? extends APKModule, ? extends SourcePath> entry) {
+      this.moduleResourceApkPaths.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map. Nulls are not permitted
+     * @param moduleResourceApkPaths The entries that will be added to the moduleResourceApkPaths map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleResourceApkPaths(Map<? extends APKModule, ? extends SourcePath> moduleResourceApkPaths) {
+      this.moduleResourceApkPaths = ImmutableMap.builder();
+      return putAllModuleResourceApkPaths(moduleResourceApkPaths);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AndroidBinaryResourcesGraphEnhancer.AbstractAndroidBinaryResourcesGraphEnhancementResult#getModuleResourceApkPaths() moduleResourceApkPaths} map. Nulls are not permitted
+     * @param moduleResourceApkPaths The entries that will be added to the moduleResourceApkPaths map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllModuleResourceApkPaths(Map<? extends APKModule, ? extends SourcePath> moduleResourceApkPaths) {
+      this.moduleResourceApkPaths.putAll(moduleResourceApkPaths);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidBinaryResourcesGraphEnhancementResult AndroidBinaryResourcesGraphEnhancementResult}.
+     * @return An immutable instance of AndroidBinaryResourcesGraphEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidBinaryResourcesGraphEnhancementResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidBinaryResourcesGraphEnhancementResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PRIMARY_RESOURCES_APK_PATH) != 0) attributes.add("primaryResourcesApkPath");
+      if ((initBits & INIT_BIT_ANDROID_MANIFEST_XML) != 0) attributes.add("androidManifestXml");
+      return "Cannot build AndroidBinaryResourcesGraphEnhancementResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,409 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.BuildConfigFields;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidBuildConfigDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class AndroidBuildConfigDescriptionArg
+    implements AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg {
+  private final String getPackage;
+  private final BuildConfigFields values;
+  private final @Nullable SourcePath valuesFile;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private AndroidBuildConfigDescriptionArg(AndroidBuildConfigDescriptionArg.Builder builder) {
+    this.getPackage = builder.getPackage;
+    this.valuesFile = builder.valuesFile;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.values = builder.values != null
+        ? builder.values
+        : Objects.requireNonNull(AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg.super.getValues(), "values");
+  }
+
+  /**
+   *For R.java 
+   */
+  @Override
+  public String getPackage() {
+    return getPackage;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public BuildConfigFields getValues() {
+    return values;
+  }
+
+  /**
+   *If present, contents of file can override those of {@link #getValues}. 
+   */
+  @Override
+  public Optional<SourcePath> getValuesFile() {
+    return Optional.ofNullable(valuesFile);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidBuildConfigDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidBuildConfigDescriptionArg
+        && equalTo((AndroidBuildConfigDescriptionArg) another);
+  }
+
+  private boolean equalTo(AndroidBuildConfigDescriptionArg another) {
+    return getPackage.equals(another.getPackage)
+        && values.equals(another.values)
+        && Objects.equals(valuesFile, another.valuesFile)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code getPackage}, {@code values}, {@code valuesFile}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + getPackage.hashCode();
+    h += (h << 5) + values.hashCode();
+    h += (h << 5) + Objects.hashCode(valuesFile);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidBuildConfigDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidBuildConfigDescriptionArg")
+        .omitNullValues()
+        .add("package", getPackage)
+        .add("values", values)
+        .add("valuesFile", valuesFile)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidBuildConfigDescriptionArg AndroidBuildConfigDescriptionArg}.
+   * @return A new AndroidBuildConfigDescriptionArg builder
+   */
+  public static AndroidBuildConfigDescriptionArg.Builder builder() {
+    return new AndroidBuildConfigDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidBuildConfigDescriptionArg AndroidBuildConfigDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_GET_PACKAGE = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String getPackage;
+    private @Nullable BuildConfigFields values;
+    private @Nullable SourcePath valuesFile;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidBuildConfigDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AndroidBuildConfigDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidBuildConfigDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg) {
+        AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg instance = (AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg) object;
+        Optional<SourcePath> valuesFileOptional = instance.getValuesFile();
+        if (valuesFileOptional.isPresent()) {
+          setValuesFile(valuesFileOptional);
+        }
+        setPackage(instance.getPackage());
+        setValues(instance.getValues());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getPackage() package} attribute.
+     * @param getPackage The value for getPackage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackage(String getPackage) {
+      this.getPackage = Objects.requireNonNull(getPackage, "getPackage");
+      initBits &= ~INIT_BIT_GET_PACKAGE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getValues() values} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getValues() values}.</em>
+     * @param values The value for values 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValues(BuildConfigFields values) {
+      this.values = Objects.requireNonNull(values, "values");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getValuesFile() valuesFile} to valuesFile.
+     * @param valuesFile The value for valuesFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValuesFile(SourcePath valuesFile) {
+      this.valuesFile = Objects.requireNonNull(valuesFile, "valuesFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getValuesFile() valuesFile} to valuesFile.
+     * @param valuesFile The value for valuesFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setValuesFile(Optional<? extends SourcePath> valuesFile) {
+      this.valuesFile = valuesFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AndroidBuildConfigDescription.AbstractAndroidBuildConfigDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidBuildConfigDescriptionArg AndroidBuildConfigDescriptionArg}.
+     * @return An immutable instance of AndroidBuildConfigDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidBuildConfigDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidBuildConfigDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_GET_PACKAGE) != 0) attributes.add("package");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AndroidBuildConfigDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
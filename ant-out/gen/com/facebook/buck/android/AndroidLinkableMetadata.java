@@ -0,0 +1,218 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.android.apkmodule.APKModule;
+import com.facebook.buck.android.toolchain.ndk.TargetCpuType;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Information needed to determine the correct placement of native linkables in an android apk 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidLinkableMetadata"})
+@Immutable
+@CheckReturnValue
+public final class AndroidLinkableMetadata
+    implements AbstractAndroidLinkableMetadata {
+  private final String soName;
+  private final TargetCpuType targetCpuType;
+  private final APKModule apkModule;
+
+  private AndroidLinkableMetadata(AndroidLinkableMetadata.Builder builder) {
+    this.soName = builder.soName;
+    this.targetCpuType = builder.targetCpuType;
+    this.apkModule = builder.apkModule;
+  }
+
+  /**
+   * @return The value of the {@code soName} attribute
+   */
+  @Override
+  public String getSoName() {
+    return soName;
+  }
+
+  /**
+   * @return The value of the {@code targetCpuType} attribute
+   */
+  @Override
+  public TargetCpuType getTargetCpuType() {
+    return targetCpuType;
+  }
+
+  /**
+   * @return The value of the {@code apkModule} attribute
+   */
+  @Override
+  public APKModule getApkModule() {
+    return apkModule;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidLinkableMetadata} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidLinkableMetadata
+        && equalTo((AndroidLinkableMetadata) another);
+  }
+
+  private boolean equalTo(AndroidLinkableMetadata another) {
+    return soName.equals(another.soName)
+        && targetCpuType.equals(another.targetCpuType)
+        && apkModule.equals(another.apkModule);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code soName}, {@code targetCpuType}, {@code apkModule}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + soName.hashCode();
+    h += (h << 5) + targetCpuType.hashCode();
+    h += (h << 5) + apkModule.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidLinkableMetadata} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidLinkableMetadata")
+        .omitNullValues()
+        .add("soName", soName)
+        .add("targetCpuType", targetCpuType)
+        .add("apkModule", apkModule)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidLinkableMetadata AndroidLinkableMetadata}.
+   * @return A new AndroidLinkableMetadata builder
+   */
+  public static AndroidLinkableMetadata.Builder builder() {
+    return new AndroidLinkableMetadata.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidLinkableMetadata AndroidLinkableMetadata}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SO_NAME = 0x1L;
+    private static final long INIT_BIT_TARGET_CPU_TYPE = 0x2L;
+    private static final long INIT_BIT_APK_MODULE = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String soName;
+    private @Nullable TargetCpuType targetCpuType;
+    private @Nullable APKModule apkModule;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidLinkableMetadata} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidLinkableMetadata instance) {
+      return from((AbstractAndroidLinkableMetadata) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidLinkableMetadata} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAndroidLinkableMetadata instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSoName(instance.getSoName());
+      setTargetCpuType(instance.getTargetCpuType());
+      setApkModule(instance.getApkModule());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidLinkableMetadata#getSoName() soName} attribute.
+     * @param soName The value for soName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoName(String soName) {
+      this.soName = Objects.requireNonNull(soName, "soName");
+      initBits &= ~INIT_BIT_SO_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidLinkableMetadata#getTargetCpuType() targetCpuType} attribute.
+     * @param targetCpuType The value for targetCpuType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetCpuType(TargetCpuType targetCpuType) {
+      this.targetCpuType = Objects.requireNonNull(targetCpuType, "targetCpuType");
+      initBits &= ~INIT_BIT_TARGET_CPU_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidLinkableMetadata#getApkModule() apkModule} attribute.
+     * @param apkModule The value for apkModule 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApkModule(APKModule apkModule) {
+      this.apkModule = Objects.requireNonNull(apkModule, "apkModule");
+      initBits &= ~INIT_BIT_APK_MODULE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AndroidLinkableMetadata AndroidLinkableMetadata}.
+     * @return An immutable instance of AndroidLinkableMetadata
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidLinkableMetadata build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidLinkableMetadata(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SO_NAME) != 0) attributes.add("soName");
+      if ((initBits & INIT_BIT_TARGET_CPU_TYPE) != 0) attributes.add("targetCpuType");
+      if ((initBits & INIT_BIT_APK_MODULE) != 0) attributes.add("apkModule");
+      return "Cannot build AndroidLinkableMetadata, some of required attributes are not set " + attributes;
+    }
+  }
+}
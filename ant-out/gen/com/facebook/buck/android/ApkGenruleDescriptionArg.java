@@ -0,0 +1,851 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.SourceSet;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.shell.AbstractGenruleDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ApkGenruleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ApkGenruleDescription.AbstractApkGenruleDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class ApkGenruleDescriptionArg
+    implements ApkGenruleDescription.AbstractApkGenruleDescriptionArg {
+  private final @Nullable String out;
+  private final BuildTarget apk;
+  private final boolean isCacheable;
+  private final @Nullable StringWithMacros bash;
+  private final @Nullable StringWithMacros cmd;
+  private final @Nullable StringWithMacros cmdExe;
+  private final SourceSet srcs;
+  private final @Nullable Boolean enableSandbox;
+  private final @Nullable String environmentExpansionSeparator;
+  private final @Nullable Boolean cacheable;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private ApkGenruleDescriptionArg(ApkGenruleDescriptionArg.Builder builder) {
+    this.out = builder.out;
+    this.apk = builder.apk;
+    this.bash = builder.bash;
+    this.cmd = builder.cmd;
+    this.cmdExe = builder.cmdExe;
+    this.enableSandbox = builder.enableSandbox;
+    this.environmentExpansionSeparator = builder.environmentExpansionSeparator;
+    this.cacheable = builder.cacheable;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.tests = builder.tests.build();
+    if (builder.isCacheableIsSet()) {
+      initShim.setIsCacheable(builder.isCacheable);
+    }
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    this.isCacheable = initShim.getIsCacheable();
+    this.srcs = initShim.getSrcs();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean isCacheable;
+    private int isCacheableBuildStage;
+
+    boolean getIsCacheable() {
+      if (isCacheableBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isCacheableBuildStage == STAGE_UNINITIALIZED) {
+        isCacheableBuildStage = STAGE_INITIALIZING;
+        this.isCacheable = getIsCacheableInitialize();
+        isCacheableBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isCacheable;
+    }
+
+    void setIsCacheable(boolean isCacheable) {
+      this.isCacheable = isCacheable;
+      isCacheableBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceSet srcs;
+    private int srcsBuildStage;
+
+    SourceSet getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceSet srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (isCacheableBuildStage == STAGE_INITIALIZING) attributes.add("isCacheable");
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      return "Cannot build ApkGenruleDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean getIsCacheableInitialize() {
+    return ApkGenruleDescription.AbstractApkGenruleDescriptionArg.super.getIsCacheable();
+  }
+
+  private SourceSet getSrcsInitialize() {
+    return ApkGenruleDescription.AbstractApkGenruleDescriptionArg.super.getSrcs();
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public Optional<String> getOut() {
+    return Optional.ofNullable(out);
+  }
+
+  /**
+   * @return The value of the {@code apk} attribute
+   */
+  @Override
+  public BuildTarget getApk() {
+    return apk;
+  }
+
+  /**
+   * @return The value of the {@code isCacheable} attribute
+   */
+  @Override
+  public boolean getIsCacheable() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIsCacheable()
+        : this.isCacheable;
+  }
+
+  /**
+   * @return The value of the {@code bash} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getBash() {
+    return Optional.ofNullable(bash);
+  }
+
+  /**
+   * @return The value of the {@code cmd} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getCmd() {
+    return Optional.ofNullable(cmd);
+  }
+
+  /**
+   * @return The value of the {@code cmdExe} attribute
+   */
+  @Override
+  public Optional<StringWithMacros> getCmdExe() {
+    return Optional.ofNullable(cmdExe);
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceSet getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code enableSandbox} attribute
+   */
+  @Override
+  public Optional<Boolean> getEnableSandbox() {
+    return Optional.ofNullable(enableSandbox);
+  }
+
+  /**
+   * @return The value of the {@code environmentExpansionSeparator} attribute
+   */
+  @Override
+  public Optional<String> getEnvironmentExpansionSeparator() {
+    return Optional.ofNullable(environmentExpansionSeparator);
+  }
+
+  /**
+   * This functionality only exists to get around the lack of extensibility in our current build
+   * rule / build file apis. It may go away at some point. Also, make sure that you understand
+   * what {@link BuildRule.isCacheable} does with respect to caching if you decide to use this
+   * attribute
+   */
+  @Override
+  public Optional<Boolean> getCacheable() {
+    return Optional.ofNullable(cacheable);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ApkGenruleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ApkGenruleDescriptionArg
+        && equalTo((ApkGenruleDescriptionArg) another);
+  }
+
+  private boolean equalTo(ApkGenruleDescriptionArg another) {
+    return Objects.equals(out, another.out)
+        && apk.equals(another.apk)
+        && isCacheable == another.isCacheable
+        && Objects.equals(bash, another.bash)
+        && Objects.equals(cmd, another.cmd)
+        && Objects.equals(cmdExe, another.cmdExe)
+        && srcs.equals(another.srcs)
+        && Objects.equals(enableSandbox, another.enableSandbox)
+        && Objects.equals(environmentExpansionSeparator, another.environmentExpansionSeparator)
+        && Objects.equals(cacheable, another.cacheable)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code out}, {@code apk}, {@code isCacheable}, {@code bash}, {@code cmd}, {@code cmdExe}, {@code srcs}, {@code enableSandbox}, {@code environmentExpansionSeparator}, {@code cacheable}, {@code name}, {@code licenses}, {@code labels}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(out);
+    h += (h << 5) + apk.hashCode();
+    h += (h << 5) + Booleans.hashCode(isCacheable);
+    h += (h << 5) + Objects.hashCode(bash);
+    h += (h << 5) + Objects.hashCode(cmd);
+    h += (h << 5) + Objects.hashCode(cmdExe);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + Objects.hashCode(enableSandbox);
+    h += (h << 5) + Objects.hashCode(environmentExpansionSeparator);
+    h += (h << 5) + Objects.hashCode(cacheable);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApkGenruleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApkGenruleDescriptionArg")
+        .omitNullValues()
+        .add("out", out)
+        .add("apk", apk)
+        .add("isCacheable", isCacheable)
+        .add("bash", bash)
+        .add("cmd", cmd)
+        .add("cmdExe", cmdExe)
+        .add("srcs", srcs)
+        .add("enableSandbox", enableSandbox)
+        .add("environmentExpansionSeparator", environmentExpansionSeparator)
+        .add("cacheable", cacheable)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ApkGenruleDescriptionArg ApkGenruleDescriptionArg}.
+   * @return A new ApkGenruleDescriptionArg builder
+   */
+  public static ApkGenruleDescriptionArg.Builder builder() {
+    return new ApkGenruleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ApkGenruleDescriptionArg ApkGenruleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_APK = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private static final long OPT_BIT_IS_CACHEABLE = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable String out;
+    private @Nullable BuildTarget apk;
+    private boolean isCacheable;
+    private @Nullable StringWithMacros bash;
+    private @Nullable StringWithMacros cmd;
+    private @Nullable StringWithMacros cmdExe;
+    private @Nullable SourceSet srcs;
+    private @Nullable Boolean enableSandbox;
+    private @Nullable String environmentExpansionSeparator;
+    private @Nullable Boolean cacheable;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ApkGenruleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ApkGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractApkGenruleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(ApkGenruleDescription.AbstractApkGenruleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.shell.AbstractGenruleDescription.CommonArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractGenruleDescription.CommonArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof ApkGenruleDescription.AbstractApkGenruleDescriptionArg) {
+        ApkGenruleDescription.AbstractApkGenruleDescriptionArg instance = (ApkGenruleDescription.AbstractApkGenruleDescriptionArg) object;
+        setIsCacheable(instance.getIsCacheable());
+        setApk(instance.getApk());
+        Optional<String> outOptional = instance.getOut();
+        if (outOptional.isPresent()) {
+          setOut(outOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof AbstractGenruleDescription.CommonArg) {
+        AbstractGenruleDescription.CommonArg instance = (AbstractGenruleDescription.CommonArg) object;
+        Optional<String> environmentExpansionSeparatorOptional = instance.getEnvironmentExpansionSeparator();
+        if (environmentExpansionSeparatorOptional.isPresent()) {
+          setEnvironmentExpansionSeparator(environmentExpansionSeparatorOptional);
+        }
+        Optional<StringWithMacros> cmdExeOptional = instance.getCmdExe();
+        if (cmdExeOptional.isPresent()) {
+          setCmdExe(cmdExeOptional);
+        }
+        Optional<StringWithMacros> bashOptional = instance.getBash();
+        if (bashOptional.isPresent()) {
+          setBash(bashOptional);
+        }
+        setSrcs(instance.getSrcs());
+        Optional<Boolean> cacheableOptional = instance.getCacheable();
+        if (cacheableOptional.isPresent()) {
+          setCacheable(cacheableOptional);
+        }
+        Optional<StringWithMacros> cmdOptional = instance.getCmd();
+        if (cmdOptional.isPresent()) {
+          setCmd(cmdOptional);
+        }
+        Optional<Boolean> enableSandboxOptional = instance.getEnableSandbox();
+        if (enableSandboxOptional.isPresent()) {
+          setEnableSandbox(enableSandboxOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOut(Optional<String> out) {
+      this.out = out.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getApk() apk} attribute.
+     * @param apk The value for apk 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setApk(BuildTarget apk) {
+      this.apk = Objects.requireNonNull(apk, "apk");
+      initBits &= ~INIT_BIT_APK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getIsCacheable() isCacheable} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getIsCacheable() isCacheable}.</em>
+     * @param isCacheable The value for isCacheable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsCacheable(boolean isCacheable) {
+      this.isCacheable = isCacheable;
+      optBits |= OPT_BIT_IS_CACHEABLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBash(StringWithMacros bash) {
+      this.bash = Objects.requireNonNull(bash, "bash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getBash() bash} to bash.
+     * @param bash The value for bash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBash(Optional<? extends StringWithMacros> bash) {
+      this.bash = bash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmd(StringWithMacros cmd) {
+      this.cmd = Objects.requireNonNull(cmd, "cmd");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getCmd() cmd} to cmd.
+     * @param cmd The value for cmd
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmd(Optional<? extends StringWithMacros> cmd) {
+      this.cmd = cmd.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmdExe(StringWithMacros cmdExe) {
+      this.cmdExe = Objects.requireNonNull(cmdExe, "cmdExe");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getCmdExe() cmdExe} to cmdExe.
+     * @param cmdExe The value for cmdExe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCmdExe(Optional<? extends StringWithMacros> cmdExe) {
+      this.cmdExe = cmdExe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(SourceSet srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getEnableSandbox() enableSandbox} to enableSandbox.
+     * @param enableSandbox The value for enableSandbox
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableSandbox(boolean enableSandbox) {
+      this.enableSandbox = enableSandbox;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getEnableSandbox() enableSandbox} to enableSandbox.
+     * @param enableSandbox The value for enableSandbox
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnableSandbox(Optional<Boolean> enableSandbox) {
+      this.enableSandbox = enableSandbox.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getEnvironmentExpansionSeparator() environmentExpansionSeparator} to environmentExpansionSeparator.
+     * @param environmentExpansionSeparator The value for environmentExpansionSeparator
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironmentExpansionSeparator(String environmentExpansionSeparator) {
+      this.environmentExpansionSeparator = Objects.requireNonNull(environmentExpansionSeparator, "environmentExpansionSeparator");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getEnvironmentExpansionSeparator() environmentExpansionSeparator} to environmentExpansionSeparator.
+     * @param environmentExpansionSeparator The value for environmentExpansionSeparator
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironmentExpansionSeparator(Optional<String> environmentExpansionSeparator) {
+      this.environmentExpansionSeparator = environmentExpansionSeparator.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getCacheable() cacheable} to cacheable.
+     * @param cacheable The value for cacheable
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheable(boolean cacheable) {
+      this.cacheable = cacheable;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getCacheable() cacheable} to cacheable.
+     * @param cacheable The value for cacheable
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheable(Optional<Boolean> cacheable) {
+      this.cacheable = cacheable.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link ApkGenruleDescription.AbstractApkGenruleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ApkGenruleDescriptionArg ApkGenruleDescriptionArg}.
+     * @return An immutable instance of ApkGenruleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ApkGenruleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ApkGenruleDescriptionArg(this);
+    }
+
+    private boolean isCacheableIsSet() {
+      return (optBits & OPT_BIT_IS_CACHEABLE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_APK) != 0) attributes.add("apk");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ApkGenruleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
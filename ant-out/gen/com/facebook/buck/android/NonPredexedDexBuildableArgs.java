@@ -0,0 +1,708 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NonPredexedDexBuildableArgs.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs"})
+@Immutable
+@CheckReturnValue
+public final class NonPredexedDexBuildableArgs
+    implements NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs {
+  private final @Nullable SourcePath proguardJarOverride;
+  private final String proguardMaxHeapSize;
+  private final @Nullable String proguardAgentPath;
+  private final @Nullable Arg preprocessJavaClassesBash;
+  private final boolean reorderClassesIntraDex;
+  private final @Nullable SourcePath dexReorderToolFile;
+  private final @Nullable SourcePath dexReorderDataDumpFile;
+  private final ListeningExecutorService dxExecutorService;
+  private final @Nullable String dxMaxHeapSize;
+  private final ProGuardObfuscateStep.SdkProguardType sdkProguardConfig;
+  private final @Nullable Integer optimizationPasses;
+  private final @Nullable List<String> proguardJvmArgs;
+  private final boolean skipProguard;
+  private final Tool javaRuntimeLauncher;
+  private final @Nullable SourcePath proguardConfigPath;
+  private final boolean shouldProguard;
+
+  private NonPredexedDexBuildableArgs(NonPredexedDexBuildableArgs.Builder builder) {
+    this.proguardJarOverride = builder.proguardJarOverride;
+    this.proguardMaxHeapSize = builder.proguardMaxHeapSize;
+    this.proguardAgentPath = builder.proguardAgentPath;
+    this.preprocessJavaClassesBash = builder.preprocessJavaClassesBash;
+    this.reorderClassesIntraDex = builder.reorderClassesIntraDex;
+    this.dexReorderToolFile = builder.dexReorderToolFile;
+    this.dexReorderDataDumpFile = builder.dexReorderDataDumpFile;
+    this.dxExecutorService = builder.dxExecutorService;
+    this.dxMaxHeapSize = builder.dxMaxHeapSize;
+    this.sdkProguardConfig = builder.sdkProguardConfig;
+    this.optimizationPasses = builder.optimizationPasses;
+    this.proguardJvmArgs = builder.proguardJvmArgs;
+    this.skipProguard = builder.skipProguard;
+    this.javaRuntimeLauncher = builder.javaRuntimeLauncher;
+    this.proguardConfigPath = builder.proguardConfigPath;
+    this.shouldProguard = builder.shouldProguard;
+  }
+
+  /**
+   * @return The value of the {@code proguardJarOverride} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardJarOverride() {
+    return Optional.ofNullable(proguardJarOverride);
+  }
+
+  /**
+   * @return The value of the {@code proguardMaxHeapSize} attribute
+   */
+  @Override
+  public String getProguardMaxHeapSize() {
+    return proguardMaxHeapSize;
+  }
+
+  /**
+   * @return The value of the {@code proguardAgentPath} attribute
+   */
+  @Override
+  public Optional<String> getProguardAgentPath() {
+    return Optional.ofNullable(proguardAgentPath);
+  }
+
+  /**
+   * @return The value of the {@code preprocessJavaClassesBash} attribute
+   */
+  @Override
+  public Optional<Arg> getPreprocessJavaClassesBash() {
+    return Optional.ofNullable(preprocessJavaClassesBash);
+  }
+
+  /**
+   * @return The value of the {@code reorderClassesIntraDex} attribute
+   */
+  @Override
+  public boolean getReorderClassesIntraDex() {
+    return reorderClassesIntraDex;
+  }
+
+  /**
+   * @return The value of the {@code dexReorderToolFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDexReorderToolFile() {
+    return Optional.ofNullable(dexReorderToolFile);
+  }
+
+  /**
+   * @return The value of the {@code dexReorderDataDumpFile} attribute
+   */
+  @Override
+  public Optional<SourcePath> getDexReorderDataDumpFile() {
+    return Optional.ofNullable(dexReorderDataDumpFile);
+  }
+
+  /**
+   * @return The value of the {@code dxExecutorService} attribute
+   */
+  @Override
+  public ListeningExecutorService getDxExecutorService() {
+    return dxExecutorService;
+  }
+
+  /**
+   * @return The value of the {@code dxMaxHeapSize} attribute
+   */
+  @Override
+  public Optional<String> getDxMaxHeapSize() {
+    return Optional.ofNullable(dxMaxHeapSize);
+  }
+
+  /**
+   * @return The value of the {@code sdkProguardConfig} attribute
+   */
+  @Override
+  public ProGuardObfuscateStep.SdkProguardType getSdkProguardConfig() {
+    return sdkProguardConfig;
+  }
+
+  /**
+   * @return The value of the {@code optimizationPasses} attribute
+   */
+  @Override
+  public OptionalInt getOptimizationPasses() {
+    return optimizationPasses != null
+        ? OptionalInt.of(optimizationPasses)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code proguardJvmArgs} attribute
+   */
+  @Override
+  public Optional<List<String>> getProguardJvmArgs() {
+    return Optional.ofNullable(proguardJvmArgs);
+  }
+
+  /**
+   * @return The value of the {@code skipProguard} attribute
+   */
+  @Override
+  public boolean getSkipProguard() {
+    return skipProguard;
+  }
+
+  /**
+   * @return The value of the {@code javaRuntimeLauncher} attribute
+   */
+  @Override
+  public Tool getJavaRuntimeLauncher() {
+    return javaRuntimeLauncher;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfigPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getProguardConfigPath() {
+    return Optional.ofNullable(proguardConfigPath);
+  }
+
+  /**
+   * @return The value of the {@code shouldProguard} attribute
+   */
+  @Override
+  public boolean getShouldProguard() {
+    return shouldProguard;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NonPredexedDexBuildableArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NonPredexedDexBuildableArgs
+        && equalTo((NonPredexedDexBuildableArgs) another);
+  }
+
+  private boolean equalTo(NonPredexedDexBuildableArgs another) {
+    return Objects.equals(proguardJarOverride, another.proguardJarOverride)
+        && proguardMaxHeapSize.equals(another.proguardMaxHeapSize)
+        && Objects.equals(proguardAgentPath, another.proguardAgentPath)
+        && Objects.equals(preprocessJavaClassesBash, another.preprocessJavaClassesBash)
+        && reorderClassesIntraDex == another.reorderClassesIntraDex
+        && Objects.equals(dexReorderToolFile, another.dexReorderToolFile)
+        && Objects.equals(dexReorderDataDumpFile, another.dexReorderDataDumpFile)
+        && dxExecutorService.equals(another.dxExecutorService)
+        && Objects.equals(dxMaxHeapSize, another.dxMaxHeapSize)
+        && sdkProguardConfig.equals(another.sdkProguardConfig)
+        && Objects.equals(optimizationPasses, another.optimizationPasses)
+        && Objects.equals(proguardJvmArgs, another.proguardJvmArgs)
+        && skipProguard == another.skipProguard
+        && javaRuntimeLauncher.equals(another.javaRuntimeLauncher)
+        && Objects.equals(proguardConfigPath, another.proguardConfigPath)
+        && shouldProguard == another.shouldProguard;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code proguardJarOverride}, {@code proguardMaxHeapSize}, {@code proguardAgentPath}, {@code preprocessJavaClassesBash}, {@code reorderClassesIntraDex}, {@code dexReorderToolFile}, {@code dexReorderDataDumpFile}, {@code dxExecutorService}, {@code dxMaxHeapSize}, {@code sdkProguardConfig}, {@code optimizationPasses}, {@code proguardJvmArgs}, {@code skipProguard}, {@code javaRuntimeLauncher}, {@code proguardConfigPath}, {@code shouldProguard}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(proguardJarOverride);
+    h += (h << 5) + proguardMaxHeapSize.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardAgentPath);
+    h += (h << 5) + Objects.hashCode(preprocessJavaClassesBash);
+    h += (h << 5) + Booleans.hashCode(reorderClassesIntraDex);
+    h += (h << 5) + Objects.hashCode(dexReorderToolFile);
+    h += (h << 5) + Objects.hashCode(dexReorderDataDumpFile);
+    h += (h << 5) + dxExecutorService.hashCode();
+    h += (h << 5) + Objects.hashCode(dxMaxHeapSize);
+    h += (h << 5) + sdkProguardConfig.hashCode();
+    h += (h << 5) + Objects.hashCode(optimizationPasses);
+    h += (h << 5) + Objects.hashCode(proguardJvmArgs);
+    h += (h << 5) + Booleans.hashCode(skipProguard);
+    h += (h << 5) + javaRuntimeLauncher.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfigPath);
+    h += (h << 5) + Booleans.hashCode(shouldProguard);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NonPredexedDexBuildableArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NonPredexedDexBuildableArgs")
+        .omitNullValues()
+        .add("proguardJarOverride", proguardJarOverride)
+        .add("proguardMaxHeapSize", proguardMaxHeapSize)
+        .add("proguardAgentPath", proguardAgentPath)
+        .add("preprocessJavaClassesBash", preprocessJavaClassesBash)
+        .add("reorderClassesIntraDex", reorderClassesIntraDex)
+        .add("dexReorderToolFile", dexReorderToolFile)
+        .add("dexReorderDataDumpFile", dexReorderDataDumpFile)
+        .add("dxExecutorService", dxExecutorService)
+        .add("dxMaxHeapSize", dxMaxHeapSize)
+        .add("sdkProguardConfig", sdkProguardConfig)
+        .add("optimizationPasses", optimizationPasses)
+        .add("proguardJvmArgs", proguardJvmArgs)
+        .add("skipProguard", skipProguard)
+        .add("javaRuntimeLauncher", javaRuntimeLauncher)
+        .add("proguardConfigPath", proguardConfigPath)
+        .add("shouldProguard", shouldProguard)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link NonPredexedDexBuildableArgs NonPredexedDexBuildableArgs}.
+   * @return A new NonPredexedDexBuildableArgs builder
+   */
+  public static NonPredexedDexBuildableArgs.Builder builder() {
+    return new NonPredexedDexBuildableArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NonPredexedDexBuildableArgs NonPredexedDexBuildableArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PROGUARD_MAX_HEAP_SIZE = 0x1L;
+    private static final long INIT_BIT_REORDER_CLASSES_INTRA_DEX = 0x2L;
+    private static final long INIT_BIT_DX_EXECUTOR_SERVICE = 0x4L;
+    private static final long INIT_BIT_SDK_PROGUARD_CONFIG = 0x8L;
+    private static final long INIT_BIT_SKIP_PROGUARD = 0x10L;
+    private static final long INIT_BIT_JAVA_RUNTIME_LAUNCHER = 0x20L;
+    private static final long INIT_BIT_SHOULD_PROGUARD = 0x40L;
+    private long initBits = 0x7fL;
+
+    private @Nullable SourcePath proguardJarOverride;
+    private @Nullable String proguardMaxHeapSize;
+    private @Nullable String proguardAgentPath;
+    private @Nullable Arg preprocessJavaClassesBash;
+    private boolean reorderClassesIntraDex;
+    private @Nullable SourcePath dexReorderToolFile;
+    private @Nullable SourcePath dexReorderDataDumpFile;
+    private @Nullable ListeningExecutorService dxExecutorService;
+    private @Nullable String dxMaxHeapSize;
+    private @Nullable ProGuardObfuscateStep.SdkProguardType sdkProguardConfig;
+    private @Nullable Integer optimizationPasses;
+    private @Nullable List<String> proguardJvmArgs;
+    private boolean skipProguard;
+    private @Nullable Tool javaRuntimeLauncher;
+    private @Nullable SourcePath proguardConfigPath;
+    private boolean shouldProguard;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NonPredexedDexBuildableArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NonPredexedDexBuildableArgs instance) {
+      return from((NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNonPredexedDexBuildableArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<SourcePath> proguardJarOverrideOptional = instance.getProguardJarOverride();
+      if (proguardJarOverrideOptional.isPresent()) {
+        setProguardJarOverride(proguardJarOverrideOptional);
+      }
+      setProguardMaxHeapSize(instance.getProguardMaxHeapSize());
+      Optional<String> proguardAgentPathOptional = instance.getProguardAgentPath();
+      if (proguardAgentPathOptional.isPresent()) {
+        setProguardAgentPath(proguardAgentPathOptional);
+      }
+      Optional<Arg> preprocessJavaClassesBashOptional = instance.getPreprocessJavaClassesBash();
+      if (preprocessJavaClassesBashOptional.isPresent()) {
+        setPreprocessJavaClassesBash(preprocessJavaClassesBashOptional);
+      }
+      setReorderClassesIntraDex(instance.getReorderClassesIntraDex());
+      Optional<SourcePath> dexReorderToolFileOptional = instance.getDexReorderToolFile();
+      if (dexReorderToolFileOptional.isPresent()) {
+        setDexReorderToolFile(dexReorderToolFileOptional);
+      }
+      Optional<SourcePath> dexReorderDataDumpFileOptional = instance.getDexReorderDataDumpFile();
+      if (dexReorderDataDumpFileOptional.isPresent()) {
+        setDexReorderDataDumpFile(dexReorderDataDumpFileOptional);
+      }
+      setDxExecutorService(instance.getDxExecutorService());
+      Optional<String> dxMaxHeapSizeOptional = instance.getDxMaxHeapSize();
+      if (dxMaxHeapSizeOptional.isPresent()) {
+        setDxMaxHeapSize(dxMaxHeapSizeOptional);
+      }
+      setSdkProguardConfig(instance.getSdkProguardConfig());
+      OptionalInt optimizationPassesOptional = instance.getOptimizationPasses();
+      if (optimizationPassesOptional.isPresent()) {
+        setOptimizationPasses(optimizationPassesOptional);
+      }
+      Optional<List<String>> proguardJvmArgsOptional = instance.getProguardJvmArgs();
+      if (proguardJvmArgsOptional.isPresent()) {
+        setProguardJvmArgs(proguardJvmArgsOptional);
+      }
+      setSkipProguard(instance.getSkipProguard());
+      setJavaRuntimeLauncher(instance.getJavaRuntimeLauncher());
+      Optional<SourcePath> proguardConfigPathOptional = instance.getProguardConfigPath();
+      if (proguardConfigPathOptional.isPresent()) {
+        setProguardConfigPath(proguardConfigPathOptional);
+      }
+      setShouldProguard(instance.getShouldProguard());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardJarOverride() proguardJarOverride} to proguardJarOverride.
+     * @param proguardJarOverride The value for proguardJarOverride
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardJarOverride(SourcePath proguardJarOverride) {
+      this.proguardJarOverride = Objects.requireNonNull(proguardJarOverride, "proguardJarOverride");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardJarOverride() proguardJarOverride} to proguardJarOverride.
+     * @param proguardJarOverride The value for proguardJarOverride
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardJarOverride(Optional<? extends SourcePath> proguardJarOverride) {
+      this.proguardJarOverride = proguardJarOverride.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardMaxHeapSize() proguardMaxHeapSize} attribute.
+     * @param proguardMaxHeapSize The value for proguardMaxHeapSize 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardMaxHeapSize(String proguardMaxHeapSize) {
+      this.proguardMaxHeapSize = Objects.requireNonNull(proguardMaxHeapSize, "proguardMaxHeapSize");
+      initBits &= ~INIT_BIT_PROGUARD_MAX_HEAP_SIZE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardAgentPath() proguardAgentPath} to proguardAgentPath.
+     * @param proguardAgentPath The value for proguardAgentPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardAgentPath(String proguardAgentPath) {
+      this.proguardAgentPath = Objects.requireNonNull(proguardAgentPath, "proguardAgentPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardAgentPath() proguardAgentPath} to proguardAgentPath.
+     * @param proguardAgentPath The value for proguardAgentPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardAgentPath(Optional<String> proguardAgentPath) {
+      this.proguardAgentPath = proguardAgentPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getPreprocessJavaClassesBash() preprocessJavaClassesBash} to preprocessJavaClassesBash.
+     * @param preprocessJavaClassesBash The value for preprocessJavaClassesBash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessJavaClassesBash(Arg preprocessJavaClassesBash) {
+      this.preprocessJavaClassesBash = Objects.requireNonNull(preprocessJavaClassesBash, "preprocessJavaClassesBash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getPreprocessJavaClassesBash() preprocessJavaClassesBash} to preprocessJavaClassesBash.
+     * @param preprocessJavaClassesBash The value for preprocessJavaClassesBash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessJavaClassesBash(Optional<? extends Arg> preprocessJavaClassesBash) {
+      this.preprocessJavaClassesBash = preprocessJavaClassesBash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getReorderClassesIntraDex() reorderClassesIntraDex} attribute.
+     * @param reorderClassesIntraDex The value for reorderClassesIntraDex 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReorderClassesIntraDex(boolean reorderClassesIntraDex) {
+      this.reorderClassesIntraDex = reorderClassesIntraDex;
+      initBits &= ~INIT_BIT_REORDER_CLASSES_INTRA_DEX;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDexReorderToolFile() dexReorderToolFile} to dexReorderToolFile.
+     * @param dexReorderToolFile The value for dexReorderToolFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderToolFile(SourcePath dexReorderToolFile) {
+      this.dexReorderToolFile = Objects.requireNonNull(dexReorderToolFile, "dexReorderToolFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDexReorderToolFile() dexReorderToolFile} to dexReorderToolFile.
+     * @param dexReorderToolFile The value for dexReorderToolFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderToolFile(Optional<? extends SourcePath> dexReorderToolFile) {
+      this.dexReorderToolFile = dexReorderToolFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDexReorderDataDumpFile() dexReorderDataDumpFile} to dexReorderDataDumpFile.
+     * @param dexReorderDataDumpFile The value for dexReorderDataDumpFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderDataDumpFile(SourcePath dexReorderDataDumpFile) {
+      this.dexReorderDataDumpFile = Objects.requireNonNull(dexReorderDataDumpFile, "dexReorderDataDumpFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDexReorderDataDumpFile() dexReorderDataDumpFile} to dexReorderDataDumpFile.
+     * @param dexReorderDataDumpFile The value for dexReorderDataDumpFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexReorderDataDumpFile(Optional<? extends SourcePath> dexReorderDataDumpFile) {
+      this.dexReorderDataDumpFile = dexReorderDataDumpFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDxExecutorService() dxExecutorService} attribute.
+     * @param dxExecutorService The value for dxExecutorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDxExecutorService(ListeningExecutorService dxExecutorService) {
+      this.dxExecutorService = Objects.requireNonNull(dxExecutorService, "dxExecutorService");
+      initBits &= ~INIT_BIT_DX_EXECUTOR_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDxMaxHeapSize() dxMaxHeapSize} to dxMaxHeapSize.
+     * @param dxMaxHeapSize The value for dxMaxHeapSize
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDxMaxHeapSize(String dxMaxHeapSize) {
+      this.dxMaxHeapSize = Objects.requireNonNull(dxMaxHeapSize, "dxMaxHeapSize");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getDxMaxHeapSize() dxMaxHeapSize} to dxMaxHeapSize.
+     * @param dxMaxHeapSize The value for dxMaxHeapSize
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDxMaxHeapSize(Optional<String> dxMaxHeapSize) {
+      this.dxMaxHeapSize = dxMaxHeapSize.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getSdkProguardConfig() sdkProguardConfig} attribute.
+     * @param sdkProguardConfig The value for sdkProguardConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSdkProguardConfig(ProGuardObfuscateStep.SdkProguardType sdkProguardConfig) {
+      this.sdkProguardConfig = Objects.requireNonNull(sdkProguardConfig, "sdkProguardConfig");
+      initBits &= ~INIT_BIT_SDK_PROGUARD_CONFIG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getOptimizationPasses() optimizationPasses} to optimizationPasses.
+     * @param optimizationPasses The value for optimizationPasses
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOptimizationPasses(int optimizationPasses) {
+      this.optimizationPasses = optimizationPasses;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getOptimizationPasses() optimizationPasses} to optimizationPasses.
+     * @param optimizationPasses The value for optimizationPasses
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOptimizationPasses(OptionalInt optimizationPasses) {
+      this.optimizationPasses = optimizationPasses.isPresent() ? optimizationPasses.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardJvmArgs() proguardJvmArgs} to proguardJvmArgs.
+     * @param proguardJvmArgs The value for proguardJvmArgs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardJvmArgs(List<String> proguardJvmArgs) {
+      this.proguardJvmArgs = Objects.requireNonNull(proguardJvmArgs, "proguardJvmArgs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardJvmArgs() proguardJvmArgs} to proguardJvmArgs.
+     * @param proguardJvmArgs The value for proguardJvmArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardJvmArgs(Optional<? extends List<String>> proguardJvmArgs) {
+      this.proguardJvmArgs = proguardJvmArgs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getSkipProguard() skipProguard} attribute.
+     * @param skipProguard The value for skipProguard 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSkipProguard(boolean skipProguard) {
+      this.skipProguard = skipProguard;
+      initBits &= ~INIT_BIT_SKIP_PROGUARD;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getJavaRuntimeLauncher() javaRuntimeLauncher} attribute.
+     * @param javaRuntimeLauncher The value for javaRuntimeLauncher 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaRuntimeLauncher(Tool javaRuntimeLauncher) {
+      this.javaRuntimeLauncher = Objects.requireNonNull(javaRuntimeLauncher, "javaRuntimeLauncher");
+      initBits &= ~INIT_BIT_JAVA_RUNTIME_LAUNCHER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardConfigPath() proguardConfigPath} to proguardConfigPath.
+     * @param proguardConfigPath The value for proguardConfigPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfigPath(SourcePath proguardConfigPath) {
+      this.proguardConfigPath = Objects.requireNonNull(proguardConfigPath, "proguardConfigPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getProguardConfigPath() proguardConfigPath} to proguardConfigPath.
+     * @param proguardConfigPath The value for proguardConfigPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProguardConfigPath(Optional<? extends SourcePath> proguardConfigPath) {
+      this.proguardConfigPath = proguardConfigPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NonPreDexedDexBuildable.AbstractNonPredexedDexBuildableArgs#getShouldProguard() shouldProguard} attribute.
+     * @param shouldProguard The value for shouldProguard 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldProguard(boolean shouldProguard) {
+      this.shouldProguard = shouldProguard;
+      initBits &= ~INIT_BIT_SHOULD_PROGUARD;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link NonPredexedDexBuildableArgs NonPredexedDexBuildableArgs}.
+     * @return An immutable instance of NonPredexedDexBuildableArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NonPredexedDexBuildableArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NonPredexedDexBuildableArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PROGUARD_MAX_HEAP_SIZE) != 0) attributes.add("proguardMaxHeapSize");
+      if ((initBits & INIT_BIT_REORDER_CLASSES_INTRA_DEX) != 0) attributes.add("reorderClassesIntraDex");
+      if ((initBits & INIT_BIT_DX_EXECUTOR_SERVICE) != 0) attributes.add("dxExecutorService");
+      if ((initBits & INIT_BIT_SDK_PROGUARD_CONFIG) != 0) attributes.add("sdkProguardConfig");
+      if ((initBits & INIT_BIT_SKIP_PROGUARD) != 0) attributes.add("skipProguard");
+      if ((initBits & INIT_BIT_JAVA_RUNTIME_LAUNCHER) != 0) attributes.add("javaRuntimeLauncher");
+      if ((initBits & INIT_BIT_SHOULD_PROGUARD) != 0) attributes.add("shouldProguard");
+      return "Cannot build NonPredexedDexBuildableArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
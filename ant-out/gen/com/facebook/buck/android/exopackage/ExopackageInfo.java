@@ -0,0 +1,859 @@
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractExopackageInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExopackageInfo.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExopackageInfo"})
+@Immutable
+@CheckReturnValue
+public final class ExopackageInfo extends AbstractExopackageInfo {
+  private final @Nullable ExopackageInfo.DexInfo dexInfo;
+  private final @Nullable ImmutableList<ExopackageInfo.DexInfo> moduleInfo;
+  private final @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo;
+  private final @Nullable ExopackageInfo.ResourcesInfo resourcesInfo;
+
+  private ExopackageInfo(ExopackageInfo.Builder builder) {
+    this.dexInfo = builder.dexInfo;
+    this.moduleInfo = builder.moduleInfo;
+    this.nativeLibsInfo = builder.nativeLibsInfo;
+    this.resourcesInfo = builder.resourcesInfo;
+  }
+
+  /**
+   * @return The value of the {@code dexInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.DexInfo> getDexInfo() {
+    return Optional.ofNullable(dexInfo);
+  }
+
+  /**
+   * @return The value of the {@code moduleInfo} attribute
+   */
+  @Override
+  public Optional<ImmutableList<ExopackageInfo.DexInfo>> getModuleInfo() {
+    return Optional.ofNullable(moduleInfo);
+  }
+
+  /**
+   * @return The value of the {@code nativeLibsInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.NativeLibsInfo> getNativeLibsInfo() {
+    return Optional.ofNullable(nativeLibsInfo);
+  }
+
+  /**
+   * @return The value of the {@code resourcesInfo} attribute
+   */
+  @Override
+  public Optional<ExopackageInfo.ResourcesInfo> getResourcesInfo() {
+    return Optional.ofNullable(resourcesInfo);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExopackageInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExopackageInfo
+        && equalTo((ExopackageInfo) another);
+  }
+
+  private boolean equalTo(ExopackageInfo another) {
+    return Objects.equals(dexInfo, another.dexInfo)
+        && Objects.equals(moduleInfo, another.moduleInfo)
+        && Objects.equals(nativeLibsInfo, another.nativeLibsInfo)
+        && Objects.equals(resourcesInfo, another.resourcesInfo);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dexInfo}, {@code moduleInfo}, {@code nativeLibsInfo}, {@code resourcesInfo}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(dexInfo);
+    h += (h << 5) + Objects.hashCode(moduleInfo);
+    h += (h << 5) + Objects.hashCode(nativeLibsInfo);
+    h += (h << 5) + Objects.hashCode(resourcesInfo);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExopackageInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExopackageInfo")
+        .omitNullValues()
+        .add("dexInfo", dexInfo)
+        .add("moduleInfo", moduleInfo)
+        .add("nativeLibsInfo", nativeLibsInfo)
+        .add("resourcesInfo", resourcesInfo)
+        .toString();
+  }
+
+
+  private static ExopackageInfo validate(ExopackageInfo instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link ExopackageInfo ExopackageInfo}.
+   * @return A new ExopackageInfo builder
+   */
+  public static ExopackageInfo.Builder builder() {
+    return new ExopackageInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExopackageInfo ExopackageInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ExopackageInfo.DexInfo dexInfo;
+    private @Nullable ImmutableList<ExopackageInfo.DexInfo> moduleInfo;
+    private @Nullable ExopackageInfo.NativeLibsInfo nativeLibsInfo;
+    private @Nullable ExopackageInfo.ResourcesInfo resourcesInfo;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExopackageInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExopackageInfo instance) {
+      return from((AbstractExopackageInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExopackageInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractExopackageInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<ExopackageInfo.DexInfo> dexInfoOptional = instance.getDexInfo();
+      if (dexInfoOptional.isPresent()) {
+        setDexInfo(dexInfoOptional);
+      }
+      Optional<ImmutableList<ExopackageInfo.DexInfo>> moduleInfoOptional = instance.getModuleInfo();
+      if (moduleInfoOptional.isPresent()) {
+        setModuleInfo(moduleInfoOptional);
+      }
+      Optional<ExopackageInfo.NativeLibsInfo> nativeLibsInfoOptional = instance.getNativeLibsInfo();
+      if (nativeLibsInfoOptional.isPresent()) {
+        setNativeLibsInfo(nativeLibsInfoOptional);
+      }
+      Optional<ExopackageInfo.ResourcesInfo> resourcesInfoOptional = instance.getResourcesInfo();
+      if (resourcesInfoOptional.isPresent()) {
+        setResourcesInfo(resourcesInfoOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getDexInfo() dexInfo} to dexInfo.
+     * @param dexInfo The value for dexInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexInfo(ExopackageInfo.DexInfo dexInfo) {
+      this.dexInfo = Objects.requireNonNull(dexInfo, "dexInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getDexInfo() dexInfo} to dexInfo.
+     * @param dexInfo The value for dexInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDexInfo(Optional<? extends ExopackageInfo.DexInfo> dexInfo) {
+      this.dexInfo = dexInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getModuleInfo() moduleInfo} to moduleInfo.
+     * @param moduleInfo The value for moduleInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleInfo(ImmutableList<ExopackageInfo.DexInfo> moduleInfo) {
+      this.moduleInfo = Objects.requireNonNull(moduleInfo, "moduleInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getModuleInfo() moduleInfo} to moduleInfo.
+     * @param moduleInfo The value for moduleInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setModuleInfo(Optional<? extends ImmutableList<ExopackageInfo.DexInfo>> moduleInfo) {
+      this.moduleInfo = moduleInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo} to nativeLibsInfo.
+     * @param nativeLibsInfo The value for nativeLibsInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibsInfo(ExopackageInfo.NativeLibsInfo nativeLibsInfo) {
+      this.nativeLibsInfo = Objects.requireNonNull(nativeLibsInfo, "nativeLibsInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getNativeLibsInfo() nativeLibsInfo} to nativeLibsInfo.
+     * @param nativeLibsInfo The value for nativeLibsInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNativeLibsInfo(Optional<? extends ExopackageInfo.NativeLibsInfo> nativeLibsInfo) {
+      this.nativeLibsInfo = nativeLibsInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getResourcesInfo() resourcesInfo} to resourcesInfo.
+     * @param resourcesInfo The value for resourcesInfo
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesInfo(ExopackageInfo.ResourcesInfo resourcesInfo) {
+      this.resourcesInfo = Objects.requireNonNull(resourcesInfo, "resourcesInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExopackageInfo#getResourcesInfo() resourcesInfo} to resourcesInfo.
+     * @param resourcesInfo The value for resourcesInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesInfo(Optional<? extends ExopackageInfo.ResourcesInfo> resourcesInfo) {
+      this.resourcesInfo = resourcesInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExopackageInfo ExopackageInfo}.
+     * @return An immutable instance of ExopackageInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExopackageInfo build() {
+      return ExopackageInfo.validate(new ExopackageInfo(this));
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractDexInfo}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code ExopackageInfo.DexInfo.builder()}.
+   * Use the static factory method to create immutable instances:
+   * {@code ExopackageInfo.DexInfo.of()}.
+   */
+  @Immutable
+  @CheckReturnValue
+  public static final class DexInfo
+      implements AbstractExopackageInfo.AbstractDexInfo {
+    private final SourcePath metadata;
+    private final SourcePath directory;
+
+    private DexInfo(
+        SourcePath metadata,
+        SourcePath directory) {
+      this.metadata = Objects.requireNonNull(metadata, "metadata");
+      this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    private DexInfo(ExopackageInfo.DexInfo.Builder builder) {
+      this.metadata = builder.metadata;
+      this.directory = builder.directory;
+    }
+
+    /**
+     * @return The value of the {@code metadata} attribute
+     */
+    @Override
+    public SourcePath getMetadata() {
+      return metadata;
+    }
+
+    /**
+     * @return The value of the {@code directory} attribute
+     */
+    @Override
+    public SourcePath getDirectory() {
+      return directory;
+    }
+
+    /**
+     * This instance is equal to all instances of {@code DexInfo} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ExopackageInfo.DexInfo
+          && equalTo((ExopackageInfo.DexInfo) another);
+    }
+
+    private boolean equalTo(ExopackageInfo.DexInfo another) {
+      return metadata.equals(another.metadata)
+          && directory.equals(another.directory);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code metadata}, {@code directory}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + metadata.hashCode();
+      h += (h << 5) + directory.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code DexInfo} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("DexInfo")
+          .omitNullValues()
+          .add("metadata", metadata)
+          .add("directory", directory)
+          .toString();
+    }
+
+    /**
+     * Construct a new immutable {@code DexInfo} instance.
+     * @param metadata The value for the {@code metadata} attribute
+     * @param directory The value for the {@code directory} attribute
+     * @return An immutable DexInfo instance
+     */
+    public static ExopackageInfo.DexInfo of(SourcePath metadata, SourcePath directory) {
+      return new ExopackageInfo.DexInfo(metadata, directory);
+    }
+
+    /**
+     * Creates a builder for {@link ExopackageInfo.DexInfo DexInfo}.
+     * @return A new DexInfo builder
+     */
+    public static ExopackageInfo.DexInfo.Builder builder() {
+      return new ExopackageInfo.DexInfo.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link ExopackageInfo.DexInfo DexInfo}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INIT_BIT_METADATA = 0x1L;
+      private static final long INIT_BIT_DIRECTORY = 0x2L;
+      private long initBits = 0x3L;
+
+      private @Nullable SourcePath metadata;
+      private @Nullable SourcePath directory;
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code DexInfo} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(ExopackageInfo.DexInfo instance) {
+        return from((AbstractExopackageInfo.AbstractDexInfo) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractDexInfo} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      final Builder from(AbstractExopackageInfo.AbstractDexInfo instance) {
+        Objects.requireNonNull(instance, "instance");
+        setMetadata(instance.getMetadata());
+        setDirectory(instance.getDirectory());
+        return this;
+      }
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractDexInfo#getMetadata() metadata} attribute.
+       * @param metadata The value for metadata 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setMetadata(SourcePath metadata) {
+        this.metadata = Objects.requireNonNull(metadata, "metadata");
+        initBits &= ~INIT_BIT_METADATA;
+        return this;
+      }
+
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractDexInfo#getDirectory() directory} attribute.
+       * @param directory The value for directory 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setDirectory(SourcePath directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        initBits &= ~INIT_BIT_DIRECTORY;
+        return this;
+      }
+
+
+      /**
+       * Builds a new {@link ExopackageInfo.DexInfo DexInfo}.
+       * @return An immutable instance of DexInfo
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public ExopackageInfo.DexInfo build() {
+        if (initBits != 0) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+        return new ExopackageInfo.DexInfo(this);
+      }
+
+      private String formatRequiredAttributesMessage() {
+        List<String> attributes = Lists.newArrayList();
+        if ((initBits & INIT_BIT_METADATA) != 0) attributes.add("metadata");
+        if ((initBits & INIT_BIT_DIRECTORY) != 0) attributes.add("directory");
+        return "Cannot build DexInfo, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractNativeLibsInfo}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code ExopackageInfo.NativeLibsInfo.builder()}.
+   * Use the static factory method to create immutable instances:
+   * {@code ExopackageInfo.NativeLibsInfo.of()}.
+   */
+  @Immutable
+  @CheckReturnValue
+  public static final class NativeLibsInfo
+      implements AbstractExopackageInfo.AbstractNativeLibsInfo {
+    private final SourcePath metadata;
+    private final SourcePath directory;
+
+    private NativeLibsInfo(
+        SourcePath metadata,
+        SourcePath directory) {
+      this.metadata = Objects.requireNonNull(metadata, "metadata");
+      this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    private NativeLibsInfo(ExopackageInfo.NativeLibsInfo.Builder builder) {
+      this.metadata = builder.metadata;
+      this.directory = builder.directory;
+    }
+
+    /**
+     * @return The value of the {@code metadata} attribute
+     */
+    @Override
+    public SourcePath getMetadata() {
+      return metadata;
+    }
+
+    /**
+     * @return The value of the {@code directory} attribute
+     */
+    @Override
+    public SourcePath getDirectory() {
+      return directory;
+    }
+
+    /**
+     * This instance is equal to all instances of {@code NativeLibsInfo} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ExopackageInfo.NativeLibsInfo
+          && equalTo((ExopackageInfo.NativeLibsInfo) another);
+    }
+
+    private boolean equalTo(ExopackageInfo.NativeLibsInfo another) {
+      return metadata.equals(another.metadata)
+          && directory.equals(another.directory);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code metadata}, {@code directory}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + metadata.hashCode();
+      h += (h << 5) + directory.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code NativeLibsInfo} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("NativeLibsInfo")
+          .omitNullValues()
+          .add("metadata", metadata)
+          .add("directory", directory)
+          .toString();
+    }
+
+    /**
+     * Construct a new immutable {@code NativeLibsInfo} instance.
+     * @param metadata The value for the {@code metadata} attribute
+     * @param directory The value for the {@code directory} attribute
+     * @return An immutable NativeLibsInfo instance
+     */
+    public static ExopackageInfo.NativeLibsInfo of(SourcePath metadata, SourcePath directory) {
+      return new ExopackageInfo.NativeLibsInfo(metadata, directory);
+    }
+
+    /**
+     * Creates a builder for {@link ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+     * @return A new NativeLibsInfo builder
+     */
+    public static ExopackageInfo.NativeLibsInfo.Builder builder() {
+      return new ExopackageInfo.NativeLibsInfo.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INIT_BIT_METADATA = 0x1L;
+      private static final long INIT_BIT_DIRECTORY = 0x2L;
+      private long initBits = 0x3L;
+
+      private @Nullable SourcePath metadata;
+      private @Nullable SourcePath directory;
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code NativeLibsInfo} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(ExopackageInfo.NativeLibsInfo instance) {
+        return from((AbstractExopackageInfo.AbstractNativeLibsInfo) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractNativeLibsInfo} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      final Builder from(AbstractExopackageInfo.AbstractNativeLibsInfo instance) {
+        Objects.requireNonNull(instance, "instance");
+        setMetadata(instance.getMetadata());
+        setDirectory(instance.getDirectory());
+        return this;
+      }
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getMetadata() metadata} attribute.
+       * @param metadata The value for metadata 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setMetadata(SourcePath metadata) {
+        this.metadata = Objects.requireNonNull(metadata, "metadata");
+        initBits &= ~INIT_BIT_METADATA;
+        return this;
+      }
+
+
+      /**
+       * Initializes the value for the {@link AbstractExopackageInfo.AbstractNativeLibsInfo#getDirectory() directory} attribute.
+       * @param directory The value for directory 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setDirectory(SourcePath directory) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        initBits &= ~INIT_BIT_DIRECTORY;
+        return this;
+      }
+
+
+      /**
+       * Builds a new {@link ExopackageInfo.NativeLibsInfo NativeLibsInfo}.
+       * @return An immutable instance of NativeLibsInfo
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public ExopackageInfo.NativeLibsInfo build() {
+        if (initBits != 0) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+        return new ExopackageInfo.NativeLibsInfo(this);
+      }
+
+      private String formatRequiredAttributesMessage() {
+        List<String> attributes = Lists.newArrayList();
+        if ((initBits & INIT_BIT_METADATA) != 0) attributes.add("metadata");
+        if ((initBits & INIT_BIT_DIRECTORY) != 0) attributes.add("directory");
+        return "Cannot build NativeLibsInfo, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+
+  /**
+   * Immutable implementation of {@link AbstractExopackageInfo.AbstractResourcesInfo}.
+   * <p>
+   * Use the builder to create immutable instances:
+   * {@code ExopackageInfo.ResourcesInfo.builder()}.
+   * Use the static factory method to create immutable instances:
+   * {@code ExopackageInfo.ResourcesInfo.of()}.
+   */
+  @Immutable
+  @CheckReturnValue
+  public static final class ResourcesInfo
+      implements AbstractExopackageInfo.AbstractResourcesInfo {
+    private final ImmutableList<ExopackagePathAndHash> resourcesPaths;
+
+    private ResourcesInfo(Iterable<? extends ExopackagePathAndHash> resourcesPaths) {
+      this.resourcesPaths = ImmutableList.copyOf(resourcesPaths);
+    }
+
+    private ResourcesInfo(ExopackageInfo.ResourcesInfo.Builder builder) {
+      this.resourcesPaths = builder.resourcesPaths.build();
+    }
+
+    /**
+     * @return The value of the {@code resourcesPaths} attribute
+     */
+    @Override
+    public ImmutableList<ExopackagePathAndHash> getResourcesPaths() {
+      return resourcesPaths;
+    }
+
+    /**
+     * This instance is equal to all instances of {@code ResourcesInfo} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof ExopackageInfo.ResourcesInfo
+          && equalTo((ExopackageInfo.ResourcesInfo) another);
+    }
+
+    private boolean equalTo(ExopackageInfo.ResourcesInfo another) {
+      return resourcesPaths.equals(another.resourcesPaths);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code resourcesPaths}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + resourcesPaths.hashCode();
+      return h;
+    }
+
+    /**
+     * Prints the immutable value {@code ResourcesInfo} with attribute values.
+     * @return A string representation of the value
+     */
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper("ResourcesInfo")
+          .omitNullValues()
+          .add("resourcesPaths", resourcesPaths)
+          .toString();
+    }
+
+    /**
+     * Construct a new immutable {@code ResourcesInfo} instance.
+     * @param resourcesPaths The value for the {@code resourcesPaths} attribute
+     * @return An immutable ResourcesInfo instance
+     */
+    public static ExopackageInfo.ResourcesInfo of(List<ExopackagePathAndHash> resourcesPaths) {
+      return of((Iterable<? extends ExopackagePathAndHash>) resourcesPaths);
+    }
+
+    /**
+     * Construct a new immutable {@code ResourcesInfo} instance.
+     * @param resourcesPaths The value for the {@code resourcesPaths} attribute
+     * @return An immutable ResourcesInfo instance
+     */
+    public static ExopackageInfo.ResourcesInfo of(Iterable<? extends ExopackagePathAndHash> resourcesPaths) {
+      return new ExopackageInfo.ResourcesInfo(resourcesPaths);
+    }
+
+    /**
+     * Creates a builder for {@link ExopackageInfo.ResourcesInfo ResourcesInfo}.
+     * @return A new ResourcesInfo builder
+     */
+    public static ExopackageInfo.ResourcesInfo.Builder builder() {
+      return new ExopackageInfo.ResourcesInfo.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link ExopackageInfo.ResourcesInfo ResourcesInfo}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private ImmutableList.Builder<ExopackagePathAndHash> resourcesPaths = ImmutableList.builder();
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code ResourcesInfo} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * Collection elements and entries will be added, not replaced.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(ExopackageInfo.ResourcesInfo instance) {
+        return from((AbstractExopackageInfo.AbstractResourcesInfo) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractResourcesInfo} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      final Builder from(AbstractExopackageInfo.AbstractResourcesInfo instance) {
+        Objects.requireNonNull(instance, "instance");
+        addAllResourcesPaths(instance.getResourcesPaths());
+        return this;
+      }
+
+      /**
+       * Adds one element to {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param element A resourcesPaths element
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourcesPaths(ExopackagePathAndHash element) {
+        this.resourcesPaths.add(element);
+        return this;
+      }
+
+      /**
+       * Adds elements to {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param elements An array of resourcesPaths elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addResourcesPaths(ExopackagePathAndHash... elements) {
+        this.resourcesPaths.add(elements);
+        return this;
+      }
+
+
+      /**
+       * Sets or replaces all elements for {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param elements An iterable of resourcesPaths elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setResourcesPaths(Iterable<? extends ExopackagePathAndHash> elements) {
+        this.resourcesPaths = ImmutableList.builder();
+        return addAllResourcesPaths(elements);
+      }
+
+      /**
+       * Adds elements to {@link AbstractExopackageInfo.AbstractResourcesInfo#getResourcesPaths() resourcesPaths} list.
+       * @param elements An iterable of resourcesPaths elements
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder addAllResourcesPaths(Iterable<? extends ExopackagePathAndHash> elements) {
+        this.resourcesPaths.addAll(elements);
+        return this;
+      }
+
+      /**
+       * Builds a new {@link ExopackageInfo.ResourcesInfo ResourcesInfo}.
+       * @return An immutable instance of ResourcesInfo
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public ExopackageInfo.ResourcesInfo build() {
+        return new ExopackageInfo.ResourcesInfo(this);
+      }
+    }
+  }
+}
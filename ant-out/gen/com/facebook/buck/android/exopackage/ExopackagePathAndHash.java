@@ -0,0 +1,144 @@
+package com.facebook.buck.android.exopackage;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Holds a path to a file and a path to a file containing the hash of the first. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExopackagePathAndHash"})
+@Immutable
+@CheckReturnValue
+public final class ExopackagePathAndHash
+    implements AbstractExopackagePathAndHash {
+  private final SourcePath path;
+  private final SourcePath hashPath;
+
+  private ExopackagePathAndHash(
+      SourcePath path,
+      SourcePath hashPath) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.hashPath = Objects.requireNonNull(hashPath, "hashPath");
+  }
+
+  private ExopackagePathAndHash(
+      ExopackagePathAndHash original,
+      SourcePath path,
+      SourcePath hashPath) {
+    this.path = path;
+    this.hashPath = hashPath;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code hashPath} attribute
+   */
+  @Override
+  public SourcePath getHashPath() {
+    return hashPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExopackagePathAndHash#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExopackagePathAndHash withPath(SourcePath value) {
+    if (this.path == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "path");
+    return new ExopackagePathAndHash(this, newValue, this.hashPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExopackagePathAndHash#getHashPath() hashPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for hashPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExopackagePathAndHash withHashPath(SourcePath value) {
+    if (this.hashPath == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "hashPath");
+    return new ExopackagePathAndHash(this, this.path, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExopackagePathAndHash} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExopackagePathAndHash
+        && equalTo((ExopackagePathAndHash) another);
+  }
+
+  private boolean equalTo(ExopackagePathAndHash another) {
+    return path.equals(another.path)
+        && hashPath.equals(another.hashPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code hashPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + hashPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExopackagePathAndHash} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExopackagePathAndHash")
+        .omitNullValues()
+        .add("path", path)
+        .add("hashPath", hashPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExopackagePathAndHash} instance.
+   * @param path The value for the {@code path} attribute
+   * @param hashPath The value for the {@code hashPath} attribute
+   * @return An immutable ExopackagePathAndHash instance
+   */
+  public static ExopackagePathAndHash of(SourcePath path, SourcePath hashPath) {
+    return new ExopackagePathAndHash(path, hashPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExopackagePathAndHash} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExopackagePathAndHash instance
+   */
+  static ExopackagePathAndHash copyOf(AbstractExopackagePathAndHash instance) {
+    if (instance instanceof ExopackagePathAndHash) {
+      return (ExopackagePathAndHash) instance;
+    }
+    return ExopackagePathAndHash.of(instance.getPath(), instance.getHashPath());
+  }
+}
@@ -0,0 +1,284 @@
+package com.facebook.buck.android.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidBuildToolsLocation}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidBuildToolsLocation.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code AndroidBuildToolsLocation.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidBuildToolsLocation"})
+@Immutable
+@CheckReturnValue
+public final class AndroidBuildToolsLocation
+    implements AbstractAndroidBuildToolsLocation {
+  private final Path buildToolsPath;
+  private final Path buildToolsBinPath;
+  private final Path aaptPath;
+  private final Path aapt2Path;
+
+  private AndroidBuildToolsLocation(Path buildToolsPath) {
+    this.buildToolsPath = Objects.requireNonNull(buildToolsPath, "buildToolsPath");
+    this.buildToolsBinPath = initShim.getBuildToolsBinPath();
+    this.aaptPath = initShim.getAaptPath();
+    this.aapt2Path = initShim.getAapt2Path();
+    this.initShim = null;
+  }
+
+  private AndroidBuildToolsLocation(AndroidBuildToolsLocation.Builder builder) {
+    this.buildToolsPath = builder.buildToolsPath;
+    this.buildToolsBinPath = initShim.getBuildToolsBinPath();
+    this.aaptPath = initShim.getAaptPath();
+    this.aapt2Path = initShim.getAapt2Path();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Path buildToolsBinPath;
+    private int buildToolsBinPathBuildStage;
+
+    Path getBuildToolsBinPath() {
+      if (buildToolsBinPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildToolsBinPathBuildStage == STAGE_UNINITIALIZED) {
+        buildToolsBinPathBuildStage = STAGE_INITIALIZING;
+        this.buildToolsBinPath = Objects.requireNonNull(getBuildToolsBinPathInitialize(), "buildToolsBinPath");
+        buildToolsBinPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildToolsBinPath;
+    }
+    private Path aaptPath;
+    private int aaptPathBuildStage;
+
+    Path getAaptPath() {
+      if (aaptPathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aaptPathBuildStage == STAGE_UNINITIALIZED) {
+        aaptPathBuildStage = STAGE_INITIALIZING;
+        this.aaptPath = Objects.requireNonNull(getAaptPathInitialize(), "aaptPath");
+        aaptPathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aaptPath;
+    }
+    private Path aapt2Path;
+    private int aapt2PathBuildStage;
+
+    Path getAapt2Path() {
+      if (aapt2PathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (aapt2PathBuildStage == STAGE_UNINITIALIZED) {
+        aapt2PathBuildStage = STAGE_INITIALIZING;
+        this.aapt2Path = Objects.requireNonNull(getAapt2PathInitialize(), "aapt2Path");
+        aapt2PathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.aapt2Path;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (buildToolsBinPathBuildStage == STAGE_INITIALIZING) attributes.add("buildToolsBinPath");
+      if (aaptPathBuildStage == STAGE_INITIALIZING) attributes.add("aaptPath");
+      if (aapt2PathBuildStage == STAGE_INITIALIZING) attributes.add("aapt2Path");
+      return "Cannot build AndroidBuildToolsLocation, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private Path getBuildToolsBinPathInitialize() {
+    return AbstractAndroidBuildToolsLocation.super.getBuildToolsBinPath();
+  }
+
+  private Path getAaptPathInitialize() {
+    return AbstractAndroidBuildToolsLocation.super.getAaptPath();
+  }
+
+  private Path getAapt2PathInitialize() {
+    return AbstractAndroidBuildToolsLocation.super.getAapt2Path();
+  }
+
+  /**
+   *@return {@code Path} pointing to Android SDK build tools 
+   */
+  @Override
+  public Path getBuildToolsPath() {
+    return buildToolsPath;
+  }
+
+  /**
+   *@return {@code Path} pointing to Android SDK build tools bin directory 
+   */
+  @Override
+  public Path getBuildToolsBinPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildToolsBinPath()
+        : this.buildToolsBinPath;
+  }
+
+  /**
+   *@return {@code Path} pointing to Android SDK aapt binary 
+   */
+  @Override
+  public Path getAaptPath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAaptPath()
+        : this.aaptPath;
+  }
+
+  /**
+   *@return {@code Path} pointing to Android SDK aapt2 binary 
+   */
+  @Override
+  public Path getAapt2Path() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAapt2Path()
+        : this.aapt2Path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidBuildToolsLocation} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidBuildToolsLocation
+        && equalTo((AndroidBuildToolsLocation) another);
+  }
+
+  private boolean equalTo(AndroidBuildToolsLocation another) {
+    return buildToolsPath.equals(another.buildToolsPath)
+        && buildToolsBinPath.equals(another.buildToolsBinPath)
+        && aaptPath.equals(another.aaptPath)
+        && aapt2Path.equals(another.aapt2Path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildToolsPath}, {@code buildToolsBinPath}, {@code aaptPath}, {@code aapt2Path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buildToolsPath.hashCode();
+    h += (h << 5) + buildToolsBinPath.hashCode();
+    h += (h << 5) + aaptPath.hashCode();
+    h += (h << 5) + aapt2Path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidBuildToolsLocation} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidBuildToolsLocation")
+        .omitNullValues()
+        .add("buildToolsPath", buildToolsPath)
+        .add("buildToolsBinPath", buildToolsBinPath)
+        .add("aaptPath", aaptPath)
+        .add("aapt2Path", aapt2Path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidBuildToolsLocation} instance.
+   * @param buildToolsPath The value for the {@code buildToolsPath} attribute
+   * @return An immutable AndroidBuildToolsLocation instance
+   */
+  public static AndroidBuildToolsLocation of(Path buildToolsPath) {
+    return new AndroidBuildToolsLocation(buildToolsPath);
+  }
+
+  /**
+   * Creates a builder for {@link AndroidBuildToolsLocation AndroidBuildToolsLocation}.
+   * @return A new AndroidBuildToolsLocation builder
+   */
+  public static AndroidBuildToolsLocation.Builder builder() {
+    return new AndroidBuildToolsLocation.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidBuildToolsLocation AndroidBuildToolsLocation}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_TOOLS_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Path buildToolsPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractAndroidBuildToolsLocation} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAndroidBuildToolsLocation instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuildToolsPath(instance.getBuildToolsPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidBuildToolsLocation#getBuildToolsPath() buildToolsPath} attribute.
+     * @param buildToolsPath The value for buildToolsPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildToolsPath(Path buildToolsPath) {
+      this.buildToolsPath = Objects.requireNonNull(buildToolsPath, "buildToolsPath");
+      initBits &= ~INIT_BIT_BUILD_TOOLS_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AndroidBuildToolsLocation AndroidBuildToolsLocation}.
+     * @return An immutable instance of AndroidBuildToolsLocation
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidBuildToolsLocation build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidBuildToolsLocation(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_TOOLS_PATH) != 0) attributes.add("buildToolsPath");
+      return "Cannot build AndroidBuildToolsLocation, some of required attributes are not set " + attributes;
+    }
+  }
+}
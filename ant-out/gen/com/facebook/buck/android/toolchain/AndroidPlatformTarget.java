@@ -0,0 +1,264 @@
+package com.facebook.buck.android.toolchain;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents a platform to target for Android. Eventually, it should be possible to construct an
+ * arbitrary platform target, but currently, we only recognize a fixed set of targets.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidPlatformTarget"})
+@Immutable
+@CheckReturnValue
+public final class AndroidPlatformTarget
+    extends AbstractAndroidPlatformTarget {
+  private final String platformName;
+  private final Path androidJar;
+  private final ImmutableList<Path> bootclasspathEntries;
+  private final Supplier<Tool> aaptExecutable;
+  private final Supplier<Tool> aapt2Executable;
+  private final Path adbExecutable;
+  private final Path aidlExecutable;
+  private final Path zipalignExecutable;
+  private final Path dxExecutable;
+  private final Path androidFrameworkIdlFile;
+  private final Path proguardJar;
+  private final Path proguardConfig;
+  private final Path optimizedProguardConfig;
+
+  private AndroidPlatformTarget(
+      String platformName,
+      Path androidJar,
+      Iterable<? extends Path> bootclasspathEntries,
+      Supplier<Tool> aaptExecutable,
+      Supplier<Tool> aapt2Executable,
+      Path adbExecutable,
+      Path aidlExecutable,
+      Path zipalignExecutable,
+      Path dxExecutable,
+      Path androidFrameworkIdlFile,
+      Path proguardJar,
+      Path proguardConfig,
+      Path optimizedProguardConfig) {
+    this.platformName = Objects.requireNonNull(platformName, "platformName");
+    this.androidJar = Objects.requireNonNull(androidJar, "androidJar");
+    this.bootclasspathEntries = ImmutableList.copyOf(bootclasspathEntries);
+    this.aaptExecutable = Objects.requireNonNull(aaptExecutable, "aaptExecutable");
+    this.aapt2Executable = Objects.requireNonNull(aapt2Executable, "aapt2Executable");
+    this.adbExecutable = Objects.requireNonNull(adbExecutable, "adbExecutable");
+    this.aidlExecutable = Objects.requireNonNull(aidlExecutable, "aidlExecutable");
+    this.zipalignExecutable = Objects.requireNonNull(zipalignExecutable, "zipalignExecutable");
+    this.dxExecutable = Objects.requireNonNull(dxExecutable, "dxExecutable");
+    this.androidFrameworkIdlFile = Objects.requireNonNull(androidFrameworkIdlFile, "androidFrameworkIdlFile");
+    this.proguardJar = Objects.requireNonNull(proguardJar, "proguardJar");
+    this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+    this.optimizedProguardConfig = Objects.requireNonNull(optimizedProguardConfig, "optimizedProguardConfig");
+  }
+
+  /**
+   *This is likely something like {@code "Google Inc.:Google APIs:21"}. 
+   */
+  @Override
+  public String getPlatformName() {
+    return platformName;
+  }
+
+  /**
+   * @return The value of the {@code androidJar} attribute
+   */
+  @Override
+  public Path getAndroidJar() {
+    return androidJar;
+  }
+
+  /**
+   *@return bootclasspath entries as absolute {@link Path}s 
+   */
+  @Override
+  public ImmutableList<Path> getBootclasspathEntries() {
+    return bootclasspathEntries;
+  }
+
+  /**
+   * @return The value of the {@code aaptExecutable} attribute
+   */
+  @Override
+  public Supplier<Tool> getAaptExecutable() {
+    return aaptExecutable;
+  }
+
+  /**
+   * @return The value of the {@code aapt2Executable} attribute
+   */
+  @Override
+  public Supplier<Tool> getAapt2Executable() {
+    return aapt2Executable;
+  }
+
+  /**
+   * @return The value of the {@code adbExecutable} attribute
+   */
+  @Override
+  public Path getAdbExecutable() {
+    return adbExecutable;
+  }
+
+  /**
+   * @return The value of the {@code aidlExecutable} attribute
+   */
+  @Override
+  public Path getAidlExecutable() {
+    return aidlExecutable;
+  }
+
+  /**
+   * @return The value of the {@code zipalignExecutable} attribute
+   */
+  @Override
+  public Path getZipalignExecutable() {
+    return zipalignExecutable;
+  }
+
+  /**
+   * @return The value of the {@code dxExecutable} attribute
+   */
+  @Override
+  public Path getDxExecutable() {
+    return dxExecutable;
+  }
+
+  /**
+   * @return The value of the {@code androidFrameworkIdlFile} attribute
+   */
+  @Override
+  public Path getAndroidFrameworkIdlFile() {
+    return androidFrameworkIdlFile;
+  }
+
+  /**
+   * @return The value of the {@code proguardJar} attribute
+   */
+  @Override
+  public Path getProguardJar() {
+    return proguardJar;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  public Path getProguardConfig() {
+    return proguardConfig;
+  }
+
+  /**
+   * @return The value of the {@code optimizedProguardConfig} attribute
+   */
+  @Override
+  public Path getOptimizedProguardConfig() {
+    return optimizedProguardConfig;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidPlatformTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidPlatformTarget
+        && equalTo((AndroidPlatformTarget) another);
+  }
+
+  private boolean equalTo(AndroidPlatformTarget another) {
+    return platformName.equals(another.platformName)
+        && androidJar.equals(another.androidJar)
+        && bootclasspathEntries.equals(another.bootclasspathEntries)
+        && aaptExecutable.equals(another.aaptExecutable)
+        && aapt2Executable.equals(another.aapt2Executable)
+        && adbExecutable.equals(another.adbExecutable)
+        && aidlExecutable.equals(another.aidlExecutable)
+        && zipalignExecutable.equals(another.zipalignExecutable)
+        && dxExecutable.equals(another.dxExecutable)
+        && androidFrameworkIdlFile.equals(another.androidFrameworkIdlFile)
+        && proguardJar.equals(another.proguardJar)
+        && proguardConfig.equals(another.proguardConfig)
+        && optimizedProguardConfig.equals(another.optimizedProguardConfig);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformName}, {@code androidJar}, {@code bootclasspathEntries}, {@code aaptExecutable}, {@code aapt2Executable}, {@code adbExecutable}, {@code aidlExecutable}, {@code zipalignExecutable}, {@code dxExecutable}, {@code androidFrameworkIdlFile}, {@code proguardJar}, {@code proguardConfig}, {@code optimizedProguardConfig}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + platformName.hashCode();
+    h += (h << 5) + androidJar.hashCode();
+    h += (h << 5) + bootclasspathEntries.hashCode();
+    h += (h << 5) + aaptExecutable.hashCode();
+    h += (h << 5) + aapt2Executable.hashCode();
+    h += (h << 5) + adbExecutable.hashCode();
+    h += (h << 5) + aidlExecutable.hashCode();
+    h += (h << 5) + zipalignExecutable.hashCode();
+    h += (h << 5) + dxExecutable.hashCode();
+    h += (h << 5) + androidFrameworkIdlFile.hashCode();
+    h += (h << 5) + proguardJar.hashCode();
+    h += (h << 5) + proguardConfig.hashCode();
+    h += (h << 5) + optimizedProguardConfig.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidPlatformTarget} instance.
+   * @param platformName The value for the {@code platformName} attribute
+   * @param androidJar The value for the {@code androidJar} attribute
+   * @param bootclasspathEntries The value for the {@code bootclasspathEntries} attribute
+   * @param aaptExecutable The value for the {@code aaptExecutable} attribute
+   * @param aapt2Executable The value for the {@code aapt2Executable} attribute
+   * @param adbExecutable The value for the {@code adbExecutable} attribute
+   * @param aidlExecutable The value for the {@code aidlExecutable} attribute
+   * @param zipalignExecutable The value for the {@code zipalignExecutable} attribute
+   * @param dxExecutable The value for the {@code dxExecutable} attribute
+   * @param androidFrameworkIdlFile The value for the {@code androidFrameworkIdlFile} attribute
+   * @param proguardJar The value for the {@code proguardJar} attribute
+   * @param proguardConfig The value for the {@code proguardConfig} attribute
+   * @param optimizedProguardConfig The value for the {@code optimizedProguardConfig} attribute
+   * @return An immutable AndroidPlatformTarget instance
+   */
+  public static AndroidPlatformTarget of(String platformName, Path androidJar, List<Path> bootclasspathEntries, Supplier<Tool> aaptExecutable, Supplier<Tool> aapt2Executable, Path adbExecutable, Path aidlExecutable, Path zipalignExecutable, Path dxExecutable, Path androidFrameworkIdlFile, Path proguardJar, Path proguardConfig, Path optimizedProguardConfig) {
+    return of(platformName, androidJar, (Iterable<? extends Path>) bootclasspathEntries, aaptExecutable, aapt2Executable, adbExecutable, aidlExecutable, zipalignExecutable, dxExecutable, androidFrameworkIdlFile, proguardJar, proguardConfig, optimizedProguardConfig);
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidPlatformTarget} instance.
+   * @param platformName The value for the {@code platformName} attribute
+   * @param androidJar The value for the {@code androidJar} attribute
+   * @param bootclasspathEntries The value for the {@code bootclasspathEntries} attribute
+   * @param aaptExecutable The value for the {@code aaptExecutable} attribute
+   * @param aapt2Executable The value for the {@code aapt2Executable} attribute
+   * @param adbExecutable The value for the {@code adbExecutable} attribute
+   * @param aidlExecutable The value for the {@code aidlExecutable} attribute
+   * @param zipalignExecutable The value for the {@code zipalignExecutable} attribute
+   * @param dxExecutable The value for the {@code dxExecutable} attribute
+   * @param androidFrameworkIdlFile The value for the {@code androidFrameworkIdlFile} attribute
+   * @param proguardJar The value for the {@code proguardJar} attribute
+   * @param proguardConfig The value for the {@code proguardConfig} attribute
+   * @param optimizedProguardConfig The value for the {@code optimizedProguardConfig} attribute
+   * @return An immutable AndroidPlatformTarget instance
+   */
+  public static AndroidPlatformTarget of(String platformName, Path androidJar, Iterable<? extends Path> bootclasspathEntries, Supplier<Tool> aaptExecutable, Supplier<Tool> aapt2Executable, Path adbExecutable, Path aidlExecutable, Path zipalignExecutable, Path dxExecutable, Path androidFrameworkIdlFile, Path proguardJar, Path proguardConfig, Path optimizedProguardConfig) {
+    return new AndroidPlatformTarget(platformName, androidJar, bootclasspathEntries, aaptExecutable, aapt2Executable, adbExecutable, aidlExecutable, zipalignExecutable, dxExecutable, androidFrameworkIdlFile, proguardJar, proguardConfig, optimizedProguardConfig);
+  }
+}
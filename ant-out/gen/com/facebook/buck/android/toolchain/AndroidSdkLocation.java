@@ -0,0 +1,82 @@
+package com.facebook.buck.android.toolchain;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Part of Android toolchain that provides access to Android SDK 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidSdkLocation"})
+@Immutable
+@CheckReturnValue
+public final class AndroidSdkLocation
+    implements AbstractAndroidSdkLocation {
+  private final Path sdkRootPath;
+
+  private AndroidSdkLocation(Path sdkRootPath) {
+    this.sdkRootPath = Objects.requireNonNull(sdkRootPath, "sdkRootPath");
+  }
+
+  /**
+   * @return The value of the {@code sdkRootPath} attribute
+   */
+  @Override
+  public Path getSdkRootPath() {
+    return sdkRootPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidSdkLocation} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidSdkLocation
+        && equalTo((AndroidSdkLocation) another);
+  }
+
+  private boolean equalTo(AndroidSdkLocation another) {
+    return sdkRootPath.equals(another.sdkRootPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sdkRootPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sdkRootPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidSdkLocation} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidSdkLocation")
+        .omitNullValues()
+        .add("sdkRootPath", sdkRootPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AndroidSdkLocation} instance.
+   * @param sdkRootPath The value for the {@code sdkRootPath} attribute
+   * @return An immutable AndroidSdkLocation instance
+   */
+  public static AndroidSdkLocation of(Path sdkRootPath) {
+    return new AndroidSdkLocation(sdkRootPath);
+  }
+}
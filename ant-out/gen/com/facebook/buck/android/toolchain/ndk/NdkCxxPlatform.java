@@ -0,0 +1,289 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Adds Android-specific tools to {@link CxxPlatform}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatform"})
+@Immutable
+@CheckReturnValue
+public final class NdkCxxPlatform implements AbstractNdkCxxPlatform {
+  private final CxxPlatform cxxPlatform;
+  private final NdkCxxRuntime cxxRuntime;
+  private final NdkCxxRuntimeType cxxRuntimeType;
+  private final Tool objdump;
+  private final @Nullable Path cxxSharedRuntimePath;
+
+  private NdkCxxPlatform(NdkCxxPlatform.Builder builder) {
+    this.cxxPlatform = builder.cxxPlatform;
+    this.cxxRuntime = builder.cxxRuntime;
+    this.cxxRuntimeType = builder.cxxRuntimeType;
+    this.objdump = builder.objdump;
+    this.cxxSharedRuntimePath = builder.cxxSharedRuntimePath;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntime} attribute
+   */
+  @Override
+  public NdkCxxRuntime getCxxRuntime() {
+    return cxxRuntime;
+  }
+
+  /**
+   * @return The value of the {@code cxxRuntimeType} attribute
+   */
+  @Override
+  public NdkCxxRuntimeType getCxxRuntimeType() {
+    return cxxRuntimeType;
+  }
+
+  /**
+   * @return The value of the {@code objdump} attribute
+   */
+  @Override
+  public Tool getObjdump() {
+    return objdump;
+  }
+
+  /**
+   *@return the {@link Path} to the C/C++ runtime library, if one is required. 
+   */
+  @Override
+  public Optional<Path> getCxxSharedRuntimePath() {
+    return Optional.ofNullable(cxxSharedRuntimePath);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatform
+        && equalTo((NdkCxxPlatform) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatform another) {
+    return cxxPlatform.equals(another.cxxPlatform)
+        && cxxRuntime.equals(another.cxxRuntime)
+        && cxxRuntimeType.equals(another.cxxRuntimeType)
+        && objdump.equals(another.objdump)
+        && Objects.equals(cxxSharedRuntimePath, another.cxxSharedRuntimePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxPlatform}, {@code cxxRuntime}, {@code cxxRuntimeType}, {@code objdump}, {@code cxxSharedRuntimePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cxxPlatform.hashCode();
+    h += (h << 5) + cxxRuntime.hashCode();
+    h += (h << 5) + cxxRuntimeType.hashCode();
+    h += (h << 5) + objdump.hashCode();
+    h += (h << 5) + Objects.hashCode(cxxSharedRuntimePath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatform")
+        .omitNullValues()
+        .add("cxxPlatform", cxxPlatform)
+        .add("cxxRuntime", cxxRuntime)
+        .add("cxxRuntimeType", cxxRuntimeType)
+        .add("objdump", objdump)
+        .add("cxxSharedRuntimePath", cxxSharedRuntimePath)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link NdkCxxPlatform NdkCxxPlatform}.
+   * @return A new NdkCxxPlatform builder
+   */
+  public static NdkCxxPlatform.Builder builder() {
+    return new NdkCxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NdkCxxPlatform NdkCxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CXX_PLATFORM = 0x1L;
+    private static final long INIT_BIT_CXX_RUNTIME = 0x2L;
+    private static final long INIT_BIT_CXX_RUNTIME_TYPE = 0x4L;
+    private static final long INIT_BIT_OBJDUMP = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable CxxPlatform cxxPlatform;
+    private @Nullable NdkCxxRuntime cxxRuntime;
+    private @Nullable NdkCxxRuntimeType cxxRuntimeType;
+    private @Nullable Tool objdump;
+    private @Nullable Path cxxSharedRuntimePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NdkCxxPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NdkCxxPlatform instance) {
+      return from((AbstractNdkCxxPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNdkCxxPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractNdkCxxPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCxxPlatform(instance.getCxxPlatform());
+      setCxxRuntime(instance.getCxxRuntime());
+      setCxxRuntimeType(instance.getCxxRuntimeType());
+      setObjdump(instance.getObjdump());
+      Optional<Path> cxxSharedRuntimePathOptional = instance.getCxxSharedRuntimePath();
+      if (cxxSharedRuntimePathOptional.isPresent()) {
+        setCxxSharedRuntimePath(cxxSharedRuntimePathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getCxxRuntime() cxxRuntime} attribute.
+     * @param cxxRuntime The value for cxxRuntime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxRuntime(NdkCxxRuntime cxxRuntime) {
+      this.cxxRuntime = Objects.requireNonNull(cxxRuntime, "cxxRuntime");
+      initBits &= ~INIT_BIT_CXX_RUNTIME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getCxxRuntimeType() cxxRuntimeType} attribute.
+     * @param cxxRuntimeType The value for cxxRuntimeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxRuntimeType(NdkCxxRuntimeType cxxRuntimeType) {
+      this.cxxRuntimeType = Objects.requireNonNull(cxxRuntimeType, "cxxRuntimeType");
+      initBits &= ~INIT_BIT_CXX_RUNTIME_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractNdkCxxPlatform#getObjdump() objdump} attribute.
+     * @param objdump The value for objdump 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setObjdump(Tool objdump) {
+      this.objdump = Objects.requireNonNull(objdump, "objdump");
+      initBits &= ~INIT_BIT_OBJDUMP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} to cxxSharedRuntimePath.
+     * @param cxxSharedRuntimePath The value for cxxSharedRuntimePath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxSharedRuntimePath(Path cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = Objects.requireNonNull(cxxSharedRuntimePath, "cxxSharedRuntimePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNdkCxxPlatform#getCxxSharedRuntimePath() cxxSharedRuntimePath} to cxxSharedRuntimePath.
+     * @param cxxSharedRuntimePath The value for cxxSharedRuntimePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxSharedRuntimePath(Optional<? extends Path> cxxSharedRuntimePath) {
+      this.cxxSharedRuntimePath = cxxSharedRuntimePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NdkCxxPlatform NdkCxxPlatform}.
+     * @return An immutable instance of NdkCxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NdkCxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NdkCxxPlatform(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      if ((initBits & INIT_BIT_CXX_RUNTIME) != 0) attributes.add("cxxRuntime");
+      if ((initBits & INIT_BIT_CXX_RUNTIME_TYPE) != 0) attributes.add("cxxRuntimeType");
+      if ((initBits & INIT_BIT_OBJDUMP) != 0) attributes.add("objdump");
+      return "Cannot build NdkCxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
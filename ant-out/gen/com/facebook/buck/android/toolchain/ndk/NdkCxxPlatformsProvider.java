@@ -0,0 +1,84 @@
+package com.facebook.buck.android.toolchain.ndk;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Provides all {@link NdkCxxPlatform}s by {@link TargetCpuType}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNdkCxxPlatformsProvider"})
+@Immutable
+@CheckReturnValue
+public final class NdkCxxPlatformsProvider
+    extends AbstractNdkCxxPlatformsProvider {
+  private final ImmutableMap<TargetCpuType, NdkCxxPlatform> ndkCxxPlatforms;
+
+  private NdkCxxPlatformsProvider(
+      Map<TargetCpuType, ? extends NdkCxxPlatform> ndkCxxPlatforms) {
+    this.ndkCxxPlatforms = Maps.immutableEnumMap(ndkCxxPlatforms);
+  }
+
+  /**
+   *@return all {@link NdkCxxPlatform}s by {@link TargetCpuType}. 
+   */
+  @Override
+  public ImmutableMap<TargetCpuType, NdkCxxPlatform> getNdkCxxPlatforms() {
+    return ndkCxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NdkCxxPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NdkCxxPlatformsProvider
+        && equalTo((NdkCxxPlatformsProvider) another);
+  }
+
+  private boolean equalTo(NdkCxxPlatformsProvider another) {
+    return ndkCxxPlatforms.equals(another.ndkCxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ndkCxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ndkCxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NdkCxxPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NdkCxxPlatformsProvider")
+        .omitNullValues()
+        .add("ndkCxxPlatforms", ndkCxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NdkCxxPlatformsProvider} instance.
+   * @param ndkCxxPlatforms The value for the {@code ndkCxxPlatforms} attribute
+   * @return An immutable NdkCxxPlatformsProvider instance
+   */
+  public static NdkCxxPlatformsProvider of(Map<TargetCpuType, ? extends NdkCxxPlatform> ndkCxxPlatforms) {
+    return new NdkCxxPlatformsProvider(ndkCxxPlatforms);
+  }
+}
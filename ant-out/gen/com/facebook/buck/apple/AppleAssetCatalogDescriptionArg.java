@@ -0,0 +1,448 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleAssetCatalogDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class AppleAssetCatalogDescriptionArg
+    implements AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg {
+  private final ImmutableSortedSet<SourcePath> dirs;
+  private final @Nullable String appIcon;
+  private final @Nullable String launchImage;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private AppleAssetCatalogDescriptionArg(AppleAssetCatalogDescriptionArg.Builder builder) {
+    this.dirs = builder.dirs.build();
+    this.appIcon = builder.appIcon;
+    this.launchImage = builder.launchImage;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+  }
+
+  /**
+   * @return The value of the {@code dirs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getDirs() {
+    return dirs;
+  }
+
+  /**
+   * @return The value of the {@code appIcon} attribute
+   */
+  @Override
+  public Optional<String> getAppIcon() {
+    return Optional.ofNullable(appIcon);
+  }
+
+  /**
+   * @return The value of the {@code launchImage} attribute
+   */
+  @Override
+  public Optional<String> getLaunchImage() {
+    return Optional.ofNullable(launchImage);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleAssetCatalogDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleAssetCatalogDescriptionArg
+        && equalTo((AppleAssetCatalogDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleAssetCatalogDescriptionArg another) {
+    return dirs.equals(another.dirs)
+        && Objects.equals(appIcon, another.appIcon)
+        && Objects.equals(launchImage, another.launchImage)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code dirs}, {@code appIcon}, {@code launchImage}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + dirs.hashCode();
+    h += (h << 5) + Objects.hashCode(appIcon);
+    h += (h << 5) + Objects.hashCode(launchImage);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleAssetCatalogDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleAssetCatalogDescriptionArg")
+        .omitNullValues()
+        .add("dirs", dirs)
+        .add("appIcon", appIcon)
+        .add("launchImage", launchImage)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleAssetCatalogDescriptionArg AppleAssetCatalogDescriptionArg}.
+   * @return A new AppleAssetCatalogDescriptionArg builder
+   */
+  public static AppleAssetCatalogDescriptionArg.Builder builder() {
+    return new AppleAssetCatalogDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleAssetCatalogDescriptionArg AppleAssetCatalogDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSortedSet.Builder<SourcePath> dirs = ImmutableSortedSet.naturalOrder();
+    private @Nullable String appIcon;
+    private @Nullable String launchImage;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleAssetCatalogDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleAssetCatalogDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleAssetCatalogDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg) {
+        AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg instance = (AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg) object;
+        addAllDirs(instance.getDirs());
+        Optional<String> appIconOptional = instance.getAppIcon();
+        if (appIconOptional.isPresent()) {
+          setAppIcon(appIconOptional);
+        }
+        Optional<String> launchImageOptional = instance.getLaunchImage();
+        if (launchImageOptional.isPresent()) {
+          setLaunchImage(launchImageOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param element A dirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirs(SourcePath element) {
+      this.dirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param elements An array of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirs(SourcePath... elements) {
+      this.dirs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param elements An iterable of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirs(Iterable<? extends SourcePath> elements) {
+      this.dirs = ImmutableSortedSet.naturalOrder();
+      return addAllDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getDirs() dirs} sortedSet.
+     * @param elements An iterable of dirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDirs(Iterable<? extends SourcePath> elements) {
+      this.dirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getAppIcon() appIcon} to appIcon.
+     * @param appIcon The value for appIcon
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAppIcon(String appIcon) {
+      this.appIcon = Objects.requireNonNull(appIcon, "appIcon");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getAppIcon() appIcon} to appIcon.
+     * @param appIcon The value for appIcon
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAppIcon(Optional<String> appIcon) {
+      this.appIcon = appIcon.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLaunchImage() launchImage} to launchImage.
+     * @param launchImage The value for launchImage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLaunchImage(String launchImage) {
+      this.launchImage = Objects.requireNonNull(launchImage, "launchImage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLaunchImage() launchImage} to launchImage.
+     * @param launchImage The value for launchImage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLaunchImage(Optional<String> launchImage) {
+      this.launchImage = launchImage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleAssetCatalogDescription.AbstractAppleAssetCatalogDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleAssetCatalogDescriptionArg AppleAssetCatalogDescriptionArg}.
+     * @return An immutable instance of AppleAssetCatalogDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleAssetCatalogDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleAssetCatalogDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build AppleAssetCatalogDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1014 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasDefaultPlatform;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleBundleDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AppleBundleDescription.AbstractAppleBundleDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class AppleBundleDescriptionArg
+    implements AppleBundleDescription.AbstractAppleBundleDescriptionArg {
+  private final @Nullable BuildTarget binary;
+  private final @Nullable PatternMatchedCollection<BuildTarget> platformBinary;
+  private final @Nullable Boolean ibtoolModuleFlag;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final Either<AppleBundleExtension, String> extension;
+  private final SourcePath infoPlist;
+  private final @Nullable String productName;
+  private final @Nullable String xcodeProductType;
+  private final ImmutableMap<String, String> infoPlistSubstitutions;
+  private final AppleAssetCatalogsCompilationOptions assetCatalogsCompilationOptions;
+  private final ImmutableList<String> codesignFlags;
+  private final @Nullable String codesignIdentity;
+  private final @Nullable Flavor defaultPlatform;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private AppleBundleDescriptionArg(AppleBundleDescriptionArg.Builder builder) {
+    this.binary = builder.binary;
+    this.platformBinary = builder.platformBinary;
+    this.ibtoolModuleFlag = builder.ibtoolModuleFlag;
+    this.deps = builder.deps.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.extension = builder.extension;
+    this.infoPlist = builder.infoPlist;
+    this.productName = builder.productName;
+    this.xcodeProductType = builder.xcodeProductType;
+    this.infoPlistSubstitutions = builder.infoPlistSubstitutions.build();
+    this.codesignFlags = builder.codesignFlags.build();
+    this.codesignIdentity = builder.codesignIdentity;
+    this.defaultPlatform = builder.defaultPlatform;
+    this.tests = builder.tests.build();
+    this.assetCatalogsCompilationOptions = builder.assetCatalogsCompilationOptions != null
+        ? builder.assetCatalogsCompilationOptions
+        : Objects.requireNonNull(AppleBundleDescription.AbstractAppleBundleDescriptionArg.super.getAssetCatalogsCompilationOptions(), "assetCatalogsCompilationOptions");
+  }
+
+  /**
+   * @return The value of the {@code binary} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getBinary() {
+    return Optional.ofNullable(binary);
+  }
+
+  /**
+   * @return The value of the {@code platformBinary} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<BuildTarget>> getPlatformBinary() {
+    return Optional.ofNullable(platformBinary);
+  }
+
+  /**
+   * @return The value of the {@code ibtoolModuleFlag} attribute
+   */
+  @Override
+  public Optional<Boolean> getIbtoolModuleFlag() {
+    return Optional.ofNullable(ibtoolModuleFlag);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Either<AppleBundleExtension, String> getExtension() {
+    return extension;
+  }
+
+  /**
+   * @return The value of the {@code infoPlist} attribute
+   */
+  @Override
+  public SourcePath getInfoPlist() {
+    return infoPlist;
+  }
+
+  /**
+   * @return The value of the {@code productName} attribute
+   */
+  @Override
+  public Optional<String> getProductName() {
+    return Optional.ofNullable(productName);
+  }
+
+  /**
+   * @return The value of the {@code xcodeProductType} attribute
+   */
+  @Override
+  public Optional<String> getXcodeProductType() {
+    return Optional.ofNullable(xcodeProductType);
+  }
+
+  /**
+   * @return The value of the {@code infoPlistSubstitutions} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getInfoPlistSubstitutions() {
+    return infoPlistSubstitutions;
+  }
+
+  /**
+   * @return The value of the {@code assetCatalogsCompilationOptions} attribute
+   */
+  @Override
+  public AppleAssetCatalogsCompilationOptions getAssetCatalogsCompilationOptions() {
+    return assetCatalogsCompilationOptions;
+  }
+
+  /**
+   * @return Additional flags passed to the underlying codesign tool. For example, this can be used
+   *     to sign deep macOS frameworks using "--deep".
+   */
+  @Override
+  public ImmutableList<String> getCodesignFlags() {
+    return codesignFlags;
+  }
+
+  /**
+   * @return A codesign identity that will be used for adhoc signing (i.e., on platforms like macOS
+   *     and simulators). This field can be used to sign with Developer ID on macOS.
+   */
+  @Override
+  public Optional<String> getCodesignIdentity() {
+    return Optional.ofNullable(codesignIdentity);
+  }
+
+  /**
+   * @return If present, the default platform with which to build this target if none are provided
+   *     on the command line.
+   */
+  @Override
+  public Optional<Flavor> getDefaultPlatform() {
+    return Optional.ofNullable(defaultPlatform);
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleBundleDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleBundleDescriptionArg
+        && equalTo((AppleBundleDescriptionArg) another);
+  }
+
+  private boolean equalTo(AppleBundleDescriptionArg another) {
+    return Objects.equals(binary, another.binary)
+        && Objects.equals(platformBinary, another.platformBinary)
+        && Objects.equals(ibtoolModuleFlag, another.ibtoolModuleFlag)
+        && deps.equals(another.deps)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && extension.equals(another.extension)
+        && infoPlist.equals(another.infoPlist)
+        && Objects.equals(productName, another.productName)
+        && Objects.equals(xcodeProductType, another.xcodeProductType)
+        && infoPlistSubstitutions.equals(another.infoPlistSubstitutions)
+        && assetCatalogsCompilationOptions.equals(another.assetCatalogsCompilationOptions)
+        && codesignFlags.equals(another.codesignFlags)
+        && Objects.equals(codesignIdentity, another.codesignIdentity)
+        && Objects.equals(defaultPlatform, another.defaultPlatform)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code binary}, {@code platformBinary}, {@code ibtoolModuleFlag}, {@code deps}, {@code name}, {@code licenses}, {@code labels}, {@code extension}, {@code infoPlist}, {@code productName}, {@code xcodeProductType}, {@code infoPlistSubstitutions}, {@code assetCatalogsCompilationOptions}, {@code codesignFlags}, {@code codesignIdentity}, {@code defaultPlatform}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(binary);
+    h += (h << 5) + Objects.hashCode(platformBinary);
+    h += (h << 5) + Objects.hashCode(ibtoolModuleFlag);
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + extension.hashCode();
+    h += (h << 5) + infoPlist.hashCode();
+    h += (h << 5) + Objects.hashCode(productName);
+    h += (h << 5) + Objects.hashCode(xcodeProductType);
+    h += (h << 5) + infoPlistSubstitutions.hashCode();
+    h += (h << 5) + assetCatalogsCompilationOptions.hashCode();
+    h += (h << 5) + codesignFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(codesignIdentity);
+    h += (h << 5) + Objects.hashCode(defaultPlatform);
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleDescriptionArg")
+        .omitNullValues()
+        .add("binary", binary)
+        .add("platformBinary", platformBinary)
+        .add("ibtoolModuleFlag", ibtoolModuleFlag)
+        .add("deps", deps)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("extension", extension)
+        .add("infoPlist", infoPlist)
+        .add("productName", productName)
+        .add("xcodeProductType", xcodeProductType)
+        .add("infoPlistSubstitutions", infoPlistSubstitutions)
+        .add("assetCatalogsCompilationOptions", assetCatalogsCompilationOptions)
+        .add("codesignFlags", codesignFlags)
+        .add("codesignIdentity", codesignIdentity)
+        .add("defaultPlatform", defaultPlatform)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+   * @return A new AppleBundleDescriptionArg builder
+   */
+  public static AppleBundleDescriptionArg.Builder builder() {
+    return new AppleBundleDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_EXTENSION = 0x2L;
+    private static final long INIT_BIT_INFO_PLIST = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable BuildTarget binary;
+    private @Nullable PatternMatchedCollection<BuildTarget> platformBinary;
+    private @Nullable Boolean ibtoolModuleFlag;
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private @Nullable Either<AppleBundleExtension, String> extension;
+    private @Nullable SourcePath infoPlist;
+    private @Nullable String productName;
+    private @Nullable String xcodeProductType;
+    private ImmutableMap.Builder<String, String> infoPlistSubstitutions = ImmutableMap.builder();
+    private @Nullable AppleAssetCatalogsCompilationOptions assetCatalogsCompilationOptions;
+    private ImmutableList.Builder<String> codesignFlags = ImmutableList.builder();
+    private @Nullable String codesignIdentity;
+    private @Nullable Flavor defaultPlatform;
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.HasAppleBundleFields} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasAppleBundleFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDefaultPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDefaultPlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBundleDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AppleBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleBundleDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AppleBundleDescription.AbstractAppleBundleDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.apple.HasAppleCodesignFields} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasAppleCodesignFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof HasAppleBundleFields) {
+        HasAppleBundleFields instance = (HasAppleBundleFields) object;
+        setExtension(instance.getExtension());
+        putAllInfoPlistSubstitutions(instance.getInfoPlistSubstitutions());
+        setInfoPlist(instance.getInfoPlist());
+        setAssetCatalogsCompilationOptions(instance.getAssetCatalogsCompilationOptions());
+        Optional<String> productNameOptional = instance.getProductName();
+        if (productNameOptional.isPresent()) {
+          setProductName(productNameOptional);
+        }
+        Optional<String> xcodeProductTypeOptional = instance.getXcodeProductType();
+        if (xcodeProductTypeOptional.isPresent()) {
+          setXcodeProductType(xcodeProductTypeOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof HasDefaultPlatform) {
+        HasDefaultPlatform instance = (HasDefaultPlatform) object;
+        Optional<Flavor> defaultPlatformOptional = instance.getDefaultPlatform();
+        if (defaultPlatformOptional.isPresent()) {
+          setDefaultPlatform(defaultPlatformOptional);
+        }
+      }
+      if (object instanceof AppleBundleDescription.AbstractAppleBundleDescriptionArg) {
+        AppleBundleDescription.AbstractAppleBundleDescriptionArg instance = (AppleBundleDescription.AbstractAppleBundleDescriptionArg) object;
+        Optional<Boolean> ibtoolModuleFlagOptional = instance.getIbtoolModuleFlag();
+        if (ibtoolModuleFlagOptional.isPresent()) {
+          setIbtoolModuleFlag(ibtoolModuleFlagOptional);
+        }
+        Optional<PatternMatchedCollection<BuildTarget>> platformBinaryOptional = instance.getPlatformBinary();
+        if (platformBinaryOptional.isPresent()) {
+          setPlatformBinary(platformBinaryOptional);
+        }
+        if ((bits & 0x1L) == 0) {
+          addAllDeps(instance.getDeps());
+          bits |= 0x1L;
+        }
+        Optional<BuildTarget> binaryOptional = instance.getBinary();
+        if (binaryOptional.isPresent()) {
+          setBinary(binaryOptional);
+        }
+      }
+      if (object instanceof HasAppleCodesignFields) {
+        HasAppleCodesignFields instance = (HasAppleCodesignFields) object;
+        Optional<String> codesignIdentityOptional = instance.getCodesignIdentity();
+        if (codesignIdentityOptional.isPresent()) {
+          setCodesignIdentity(codesignIdentityOptional);
+        }
+        addAllCodesignFlags(instance.getCodesignFlags());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getBinary() binary} to binary.
+     * @param binary The value for binary
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinary(BuildTarget binary) {
+      this.binary = Objects.requireNonNull(binary, "binary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getBinary() binary} to binary.
+     * @param binary The value for binary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBinary(Optional<? extends BuildTarget> binary) {
+      this.binary = binary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getPlatformBinary() platformBinary} to platformBinary.
+     * @param platformBinary The value for platformBinary
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformBinary(PatternMatchedCollection<BuildTarget> platformBinary) {
+      this.platformBinary = Objects.requireNonNull(platformBinary, "platformBinary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getPlatformBinary() platformBinary} to platformBinary.
+     * @param platformBinary The value for platformBinary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformBinary(Optional<? extends PatternMatchedCollection<BuildTarget>> platformBinary) {
+      this.platformBinary = platformBinary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getIbtoolModuleFlag() ibtoolModuleFlag} to ibtoolModuleFlag.
+     * @param ibtoolModuleFlag The value for ibtoolModuleFlag
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtoolModuleFlag(boolean ibtoolModuleFlag) {
+      this.ibtoolModuleFlag = ibtoolModuleFlag;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getIbtoolModuleFlag() ibtoolModuleFlag} to ibtoolModuleFlag.
+     * @param ibtoolModuleFlag The value for ibtoolModuleFlag
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIbtoolModuleFlag(Optional<Boolean> ibtoolModuleFlag) {
+      this.ibtoolModuleFlag = ibtoolModuleFlag.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getExtension() extension} attribute.
+     * @param extension The value for extension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtension(Either<AppleBundleExtension, String> extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      initBits &= ~INIT_BIT_EXTENSION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlist() infoPlist} attribute.
+     * @param infoPlist The value for infoPlist 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlist(SourcePath infoPlist) {
+      this.infoPlist = Objects.requireNonNull(infoPlist, "infoPlist");
+      initBits &= ~INIT_BIT_INFO_PLIST;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getProductName() productName} to productName.
+     * @param productName The value for productName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProductName(String productName) {
+      this.productName = Objects.requireNonNull(productName, "productName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getProductName() productName} to productName.
+     * @param productName The value for productName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProductName(Optional<String> productName) {
+      this.productName = productName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} to xcodeProductType.
+     * @param xcodeProductType The value for xcodeProductType
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodeProductType(String xcodeProductType) {
+      this.xcodeProductType = Objects.requireNonNull(xcodeProductType, "xcodeProductType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getXcodeProductType() xcodeProductType} to xcodeProductType.
+     * @param xcodeProductType The value for xcodeProductType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setXcodeProductType(Optional<String> xcodeProductType) {
+      this.xcodeProductType = xcodeProductType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map.
+     * @param key The key in the infoPlistSubstitutions map
+     * @param value The associated value in the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putInfoPlistSubstitutions(String key, String value) {
+      this.infoPlistSubstitutions.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putInfoPlistSubstitutions(Map.Entry<String, ? extends String> entry) {
+      this.infoPlistSubstitutions.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param infoPlistSubstitutions The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInfoPlistSubstitutions(Map<String, ? extends String> infoPlistSubstitutions) {
+      this.infoPlistSubstitutions = ImmutableMap.builder();
+      return putAllInfoPlistSubstitutions(infoPlistSubstitutions);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getInfoPlistSubstitutions() infoPlistSubstitutions} map. Nulls are not permitted
+     * @param infoPlistSubstitutions The entries that will be added to the infoPlistSubstitutions map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllInfoPlistSubstitutions(Map<String, ? extends String> infoPlistSubstitutions) {
+      this.infoPlistSubstitutions.putAll(infoPlistSubstitutions);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getAssetCatalogsCompilationOptions() assetCatalogsCompilationOptions} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getAssetCatalogsCompilationOptions() assetCatalogsCompilationOptions}.</em>
+     * @param assetCatalogsCompilationOptions The value for assetCatalogsCompilationOptions 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssetCatalogsCompilationOptions(AppleAssetCatalogsCompilationOptions assetCatalogsCompilationOptions) {
+      this.assetCatalogsCompilationOptions = Objects.requireNonNull(assetCatalogsCompilationOptions, "assetCatalogsCompilationOptions");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param element A codesignFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCodesignFlags(String element) {
+      this.codesignFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An array of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCodesignFlags(String... elements) {
+      this.codesignFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An iterable of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignFlags(Iterable<String> elements) {
+      this.codesignFlags = ImmutableList.builder();
+      return addAllCodesignFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignFlags() codesignFlags} list.
+     * @param elements An iterable of codesignFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCodesignFlags(Iterable<String> elements) {
+      this.codesignFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignIdentity() codesignIdentity} to codesignIdentity.
+     * @param codesignIdentity The value for codesignIdentity
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignIdentity(String codesignIdentity) {
+      this.codesignIdentity = Objects.requireNonNull(codesignIdentity, "codesignIdentity");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getCodesignIdentity() codesignIdentity} to codesignIdentity.
+     * @param codesignIdentity The value for codesignIdentity
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCodesignIdentity(Optional<String> codesignIdentity) {
+      this.codesignIdentity = codesignIdentity.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultPlatform(Flavor defaultPlatform) {
+      this.defaultPlatform = Objects.requireNonNull(defaultPlatform, "defaultPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getDefaultPlatform() defaultPlatform} to defaultPlatform.
+     * @param defaultPlatform The value for defaultPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDefaultPlatform(Optional<? extends Flavor> defaultPlatform) {
+      this.defaultPlatform = defaultPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link AppleBundleDescription.AbstractAppleBundleDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleBundleDescriptionArg AppleBundleDescriptionArg}.
+     * @return An immutable instance of AppleBundleDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBundleDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleBundleDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_EXTENSION) != 0) attributes.add("extension");
+      if ((initBits & INIT_BIT_INFO_PLIST) != 0) attributes.add("infoPlist");
+      return "Cannot build AppleBundleDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
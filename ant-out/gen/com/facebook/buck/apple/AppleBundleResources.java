@@ -0,0 +1,358 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Resources to be bundled into a bundle. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleBundleResources"})
+@Immutable
+@CheckReturnValue
+public final class AppleBundleResources extends AbstractAppleBundleResources {
+  private final ImmutableSet<SourcePath> resourceDirs;
+  private final ImmutableSet<SourcePath> dirsContainingResourceDirs;
+  private final ImmutableSet<SourcePath> resourceFiles;
+  private final ImmutableSet<SourcePath> resourceVariantFiles;
+
+  private AppleBundleResources(AppleBundleResources.Builder builder) {
+    this.resourceDirs = builder.resourceDirs.build();
+    this.dirsContainingResourceDirs = builder.dirsContainingResourceDirs.build();
+    this.resourceFiles = builder.resourceFiles.build();
+    this.resourceVariantFiles = builder.resourceVariantFiles.build();
+  }
+
+  /**
+   * Directories that should be copied into the bundle as directories of files with the same name.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getResourceDirs() {
+    return resourceDirs;
+  }
+
+  /**
+   * Directories whose contents should be copied into the root of the resources subdirectory.
+   * <p>This is useful when the directory contents are not known beforehand, such as when a rule
+   * generates a directory of files.
+   */
+  @Override
+  public ImmutableSet<SourcePath> getDirsContainingResourceDirs() {
+    return dirsContainingResourceDirs;
+  }
+
+  /**
+   *Files that are copied to the root of the resources subdirectory. 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getResourceFiles() {
+    return resourceFiles;
+  }
+
+  /**
+   *Resource files with localization variants. 
+   */
+  @Override
+  public ImmutableSet<SourcePath> getResourceVariantFiles() {
+    return resourceVariantFiles;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleBundleResources} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleBundleResources
+        && equalTo((AppleBundleResources) another);
+  }
+
+  private boolean equalTo(AppleBundleResources another) {
+    return resourceDirs.equals(another.resourceDirs)
+        && dirsContainingResourceDirs.equals(another.dirsContainingResourceDirs)
+        && resourceFiles.equals(another.resourceFiles)
+        && resourceVariantFiles.equals(another.resourceVariantFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceDirs}, {@code dirsContainingResourceDirs}, {@code resourceFiles}, {@code resourceVariantFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + resourceDirs.hashCode();
+    h += (h << 5) + dirsContainingResourceDirs.hashCode();
+    h += (h << 5) + resourceFiles.hashCode();
+    h += (h << 5) + resourceVariantFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleBundleResources} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleBundleResources")
+        .omitNullValues()
+        .add("resourceDirs", resourceDirs)
+        .add("dirsContainingResourceDirs", dirsContainingResourceDirs)
+        .add("resourceFiles", resourceFiles)
+        .add("resourceVariantFiles", resourceVariantFiles)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleBundleResources AppleBundleResources}.
+   * @return A new AppleBundleResources builder
+   */
+  public static AppleBundleResources.Builder builder() {
+    return new AppleBundleResources.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleBundleResources AppleBundleResources}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<SourcePath> resourceDirs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> dirsContainingResourceDirs = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> resourceFiles = ImmutableSet.builder();
+    private ImmutableSet.Builder<SourcePath> resourceVariantFiles = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleBundleResources} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleBundleResources instance) {
+      return from((AbstractAppleBundleResources) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleBundleResources} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAppleBundleResources instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllResourceDirs(instance.getResourceDirs());
+      addAllDirsContainingResourceDirs(instance.getDirsContainingResourceDirs());
+      addAllResourceFiles(instance.getResourceFiles());
+      addAllResourceVariantFiles(instance.getResourceVariantFiles());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param element A resourceDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceDirs(SourcePath element) {
+      this.resourceDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param elements An array of resourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceDirs(SourcePath... elements) {
+      this.resourceDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param elements An iterable of resourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceDirs(Iterable<? extends SourcePath> elements) {
+      this.resourceDirs = ImmutableSet.builder();
+      return addAllResourceDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getResourceDirs() resourceDirs} set.
+     * @param elements An iterable of resourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResourceDirs(Iterable<? extends SourcePath> elements) {
+      this.resourceDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param element A dirsContainingResourceDirs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirsContainingResourceDirs(SourcePath element) {
+      this.dirsContainingResourceDirs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param elements An array of dirsContainingResourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDirsContainingResourceDirs(SourcePath... elements) {
+      this.dirsContainingResourceDirs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param elements An iterable of dirsContainingResourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirsContainingResourceDirs(Iterable<? extends SourcePath> elements) {
+      this.dirsContainingResourceDirs = ImmutableSet.builder();
+      return addAllDirsContainingResourceDirs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getDirsContainingResourceDirs() dirsContainingResourceDirs} set.
+     * @param elements An iterable of dirsContainingResourceDirs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDirsContainingResourceDirs(Iterable<? extends SourcePath> elements) {
+      this.dirsContainingResourceDirs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param element A resourceFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceFiles(SourcePath element) {
+      this.resourceFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param elements An array of resourceFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceFiles(SourcePath... elements) {
+      this.resourceFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param elements An iterable of resourceFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceFiles(Iterable<? extends SourcePath> elements) {
+      this.resourceFiles = ImmutableSet.builder();
+      return addAllResourceFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getResourceFiles() resourceFiles} set.
+     * @param elements An iterable of resourceFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResourceFiles(Iterable<? extends SourcePath> elements) {
+      this.resourceFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param element A resourceVariantFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceVariantFiles(SourcePath element) {
+      this.resourceVariantFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param elements An array of resourceVariantFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addResourceVariantFiles(SourcePath... elements) {
+      this.resourceVariantFiles.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param elements An iterable of resourceVariantFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourceVariantFiles(Iterable<? extends SourcePath> elements) {
+      this.resourceVariantFiles = ImmutableSet.builder();
+      return addAllResourceVariantFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleBundleResources#getResourceVariantFiles() resourceVariantFiles} set.
+     * @param elements An iterable of resourceVariantFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllResourceVariantFiles(Iterable<? extends SourcePath> elements) {
+      this.resourceVariantFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleBundleResources AppleBundleResources}.
+     * @return An immutable instance of AppleBundleResources
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleBundleResources build() {
+      return new AppleBundleResources(this);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.facebook.buck.apple.simulator;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAppleSimulator}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AppleSimulator.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSimulator"})
+@Immutable
+@CheckReturnValue
+public final class AppleSimulator implements AbstractAppleSimulator {
+  private final String name;
+  private final String udid;
+  private final AppleSimulatorState simulatorState;
+
+  private AppleSimulator(AppleSimulator.Builder builder) {
+    this.name = builder.name;
+    this.udid = builder.udid;
+    this.simulatorState = builder.simulatorState;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code udid} attribute
+   */
+  @Override
+  public String getUdid() {
+    return udid;
+  }
+
+  /**
+   * @return The value of the {@code simulatorState} attribute
+   */
+  @Override
+  public AppleSimulatorState getSimulatorState() {
+    return simulatorState;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleSimulator} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleSimulator
+        && equalTo((AppleSimulator) another);
+  }
+
+  private boolean equalTo(AppleSimulator another) {
+    return name.equals(another.name)
+        && udid.equals(another.udid)
+        && simulatorState.equals(another.simulatorState);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code udid}, {@code simulatorState}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + udid.hashCode();
+    h += (h << 5) + simulatorState.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSimulator} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSimulator")
+        .omitNullValues()
+        .add("name", name)
+        .add("udid", udid)
+        .add("simulatorState", simulatorState)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link AppleSimulator AppleSimulator}.
+   * @return A new AppleSimulator builder
+   */
+  public static AppleSimulator.Builder builder() {
+    return new AppleSimulator.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleSimulator AppleSimulator}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_UDID = 0x2L;
+    private static final long INIT_BIT_SIMULATOR_STATE = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable String name;
+    private @Nullable String udid;
+    private @Nullable AppleSimulatorState simulatorState;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleSimulator} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleSimulator instance) {
+      return from((AbstractAppleSimulator) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleSimulator} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractAppleSimulator instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      setUdid(instance.getUdid());
+      setSimulatorState(instance.getSimulatorState());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSimulator#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSimulator#getUdid() udid} attribute.
+     * @param udid The value for udid 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUdid(String udid) {
+      this.udid = Objects.requireNonNull(udid, "udid");
+      initBits &= ~INIT_BIT_UDID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSimulator#getSimulatorState() simulatorState} attribute.
+     * @param simulatorState The value for simulatorState 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSimulatorState(AppleSimulatorState simulatorState) {
+      this.simulatorState = Objects.requireNonNull(simulatorState, "simulatorState");
+      initBits &= ~INIT_BIT_SIMULATOR_STATE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link AppleSimulator AppleSimulator}.
+     * @return An immutable instance of AppleSimulator
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleSimulator build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleSimulator(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_UDID) != 0) attributes.add("udid");
+      if ((initBits & INIT_BIT_SIMULATOR_STATE) != 0) attributes.add("simulatorState");
+      return "Cannot build AppleSimulator, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractAppleCxxPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code AppleCxxPlatformsProvider.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleCxxPlatformsProvider"})
+@Immutable
+@CheckReturnValue
+public final class AppleCxxPlatformsProvider
+    extends AbstractAppleCxxPlatformsProvider {
+  private final FlavorDomain<AppleCxxPlatform> appleCxxPlatforms;
+
+  private AppleCxxPlatformsProvider(FlavorDomain<AppleCxxPlatform> appleCxxPlatforms) {
+    this.appleCxxPlatforms = Objects.requireNonNull(appleCxxPlatforms, "appleCxxPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code appleCxxPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<AppleCxxPlatform> getAppleCxxPlatforms() {
+    return appleCxxPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleCxxPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleCxxPlatformsProvider
+        && equalTo((AppleCxxPlatformsProvider) another);
+  }
+
+  private boolean equalTo(AppleCxxPlatformsProvider another) {
+    return appleCxxPlatforms.equals(another.appleCxxPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleCxxPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + appleCxxPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleCxxPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleCxxPlatformsProvider")
+        .omitNullValues()
+        .add("appleCxxPlatforms", appleCxxPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleCxxPlatformsProvider} instance.
+   * @param appleCxxPlatforms The value for the {@code appleCxxPlatforms} attribute
+   * @return An immutable AppleCxxPlatformsProvider instance
+   */
+  public static AppleCxxPlatformsProvider of(FlavorDomain<AppleCxxPlatform> appleCxxPlatforms) {
+    return new AppleCxxPlatformsProvider(appleCxxPlatforms);
+  }
+}
@@ -0,0 +1,502 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractApplePlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ApplePlatform.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractApplePlatform"})
+@Immutable
+@CheckReturnValue
+public final class ApplePlatform extends AbstractApplePlatform {
+  private final String name;
+  private final @Nullable String swiftName;
+  private final @Nullable String provisioningProfileName;
+  private final ImmutableList<String> architectures;
+  private final String minVersionFlagPrefix;
+  private final @Nullable String stubBinaryPath;
+  private final boolean appIncludesFrameworks;
+
+  private ApplePlatform(ApplePlatform.Builder builder) {
+    this.name = builder.name;
+    this.swiftName = builder.swiftName;
+    this.provisioningProfileName = builder.provisioningProfileName;
+    this.stubBinaryPath = builder.stubBinaryPath;
+    if (builder.architecturesIsSet()) {
+      initShim.setArchitectures(builder.architectures.build());
+    }
+    if (builder.minVersionFlagPrefix != null) {
+      initShim.setMinVersionFlagPrefix(builder.minVersionFlagPrefix);
+    }
+    if (builder.appIncludesFrameworksIsSet()) {
+      initShim.setAppIncludesFrameworks(builder.appIncludesFrameworks);
+    }
+    this.architectures = initShim.getArchitectures();
+    this.minVersionFlagPrefix = initShim.getMinVersionFlagPrefix();
+    this.appIncludesFrameworks = initShim.getAppIncludesFrameworks();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ImmutableList<String> architectures;
+    private int architecturesBuildStage;
+
+    ImmutableList<String> getArchitectures() {
+      if (architecturesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (architecturesBuildStage == STAGE_UNINITIALIZED) {
+        architecturesBuildStage = STAGE_INITIALIZING;
+        this.architectures = Objects.requireNonNull(ApplePlatform.super.getArchitectures(), "architectures");
+        architecturesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.architectures;
+    }
+
+    void setArchitectures(ImmutableList<String> architectures) {
+      this.architectures = architectures;
+      architecturesBuildStage = STAGE_INITIALIZED;
+    }
+    private String minVersionFlagPrefix;
+    private int minVersionFlagPrefixBuildStage;
+
+    String getMinVersionFlagPrefix() {
+      if (minVersionFlagPrefixBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (minVersionFlagPrefixBuildStage == STAGE_UNINITIALIZED) {
+        minVersionFlagPrefixBuildStage = STAGE_INITIALIZING;
+        this.minVersionFlagPrefix = Objects.requireNonNull(ApplePlatform.super.getMinVersionFlagPrefix(), "minVersionFlagPrefix");
+        minVersionFlagPrefixBuildStage = STAGE_INITIALIZED;
+      }
+      return this.minVersionFlagPrefix;
+    }
+
+    void setMinVersionFlagPrefix(String minVersionFlagPrefix) {
+      this.minVersionFlagPrefix = minVersionFlagPrefix;
+      minVersionFlagPrefixBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean appIncludesFrameworks;
+    private int appIncludesFrameworksBuildStage;
+
+    boolean getAppIncludesFrameworks() {
+      if (appIncludesFrameworksBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (appIncludesFrameworksBuildStage == STAGE_UNINITIALIZED) {
+        appIncludesFrameworksBuildStage = STAGE_INITIALIZING;
+        this.appIncludesFrameworks = ApplePlatform.super.getAppIncludesFrameworks();
+        appIncludesFrameworksBuildStage = STAGE_INITIALIZED;
+      }
+      return this.appIncludesFrameworks;
+    }
+
+    void setAppIncludesFrameworks(boolean appIncludesFrameworks) {
+      this.appIncludesFrameworks = appIncludesFrameworks;
+      appIncludesFrameworksBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (architecturesBuildStage == STAGE_INITIALIZING) attributes.add("architectures");
+      if (minVersionFlagPrefixBuildStage == STAGE_INITIALIZING) attributes.add("minVersionFlagPrefix");
+      if (appIncludesFrameworksBuildStage == STAGE_INITIALIZING) attributes.add("appIncludesFrameworks");
+      return "Cannot build ApplePlatform, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   *The full name of the platform. For example: {@code macosx}. 
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The Swift name for the platform. For example: {@code ios}. If absent, use {@link #getName()}
+   * instead.
+   */
+  @Override
+  public Optional<String> getSwiftName() {
+    return Optional.ofNullable(swiftName);
+  }
+
+  /**
+   * The platform name used to match provisioning profiles. For example: {@code iOS}.
+   * <p>Not all platforms use provisioning profiles; these will return absent.
+   */
+  @Override
+  public Optional<String> getProvisioningProfileName() {
+    return Optional.ofNullable(provisioningProfileName);
+  }
+
+  /**
+   * @return The value of the {@code architectures} attribute
+   */
+  @Override
+  public ImmutableList<String> getArchitectures() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getArchitectures()
+        : this.architectures;
+  }
+
+  /**
+   * @return The value of the {@code minVersionFlagPrefix} attribute
+   */
+  @Override
+  public String getMinVersionFlagPrefix() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMinVersionFlagPrefix()
+        : this.minVersionFlagPrefix;
+  }
+
+  /**
+   * @return The value of the {@code stubBinaryPath} attribute
+   */
+  @Override
+  public Optional<String> getStubBinaryPath() {
+    return Optional.ofNullable(stubBinaryPath);
+  }
+
+  /**
+   * @return The value of the {@code appIncludesFrameworks} attribute
+   */
+  @Override
+  public boolean getAppIncludesFrameworks() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAppIncludesFrameworks()
+        : this.appIncludesFrameworks;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ApplePlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ApplePlatform
+        && equalTo((ApplePlatform) another);
+  }
+
+  private boolean equalTo(ApplePlatform another) {
+    return name.equals(another.name)
+        && Objects.equals(swiftName, another.swiftName)
+        && Objects.equals(provisioningProfileName, another.provisioningProfileName)
+        && architectures.equals(another.architectures)
+        && minVersionFlagPrefix.equals(another.minVersionFlagPrefix)
+        && Objects.equals(stubBinaryPath, another.stubBinaryPath)
+        && appIncludesFrameworks == another.appIncludesFrameworks;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code swiftName}, {@code provisioningProfileName}, {@code architectures}, {@code minVersionFlagPrefix}, {@code stubBinaryPath}, {@code appIncludesFrameworks}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + Objects.hashCode(swiftName);
+    h += (h << 5) + Objects.hashCode(provisioningProfileName);
+    h += (h << 5) + architectures.hashCode();
+    h += (h << 5) + minVersionFlagPrefix.hashCode();
+    h += (h << 5) + Objects.hashCode(stubBinaryPath);
+    h += (h << 5) + Booleans.hashCode(appIncludesFrameworks);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ApplePlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ApplePlatform")
+        .omitNullValues()
+        .add("name", name)
+        .add("swiftName", swiftName)
+        .add("provisioningProfileName", provisioningProfileName)
+        .add("architectures", architectures)
+        .add("minVersionFlagPrefix", minVersionFlagPrefix)
+        .add("stubBinaryPath", stubBinaryPath)
+        .add("appIncludesFrameworks", appIncludesFrameworks)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ApplePlatform ApplePlatform}.
+   * @return A new ApplePlatform builder
+   */
+  public static ApplePlatform.Builder builder() {
+    return new ApplePlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ApplePlatform ApplePlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_ARCHITECTURES = 0x1L;
+    private static final long OPT_BIT_APP_INCLUDES_FRAMEWORKS = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String name;
+    private @Nullable String swiftName;
+    private @Nullable String provisioningProfileName;
+    private ImmutableList.Builder<String> architectures = ImmutableList.builder();
+    private @Nullable String minVersionFlagPrefix;
+    private @Nullable String stubBinaryPath;
+    private boolean appIncludesFrameworks;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ApplePlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ApplePlatform instance) {
+      return from((AbstractApplePlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractApplePlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractApplePlatform instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      Optional<String> swiftNameOptional = instance.getSwiftName();
+      if (swiftNameOptional.isPresent()) {
+        setSwiftName(swiftNameOptional);
+      }
+      Optional<String> provisioningProfileNameOptional = instance.getProvisioningProfileName();
+      if (provisioningProfileNameOptional.isPresent()) {
+        setProvisioningProfileName(provisioningProfileNameOptional);
+      }
+      addAllArchitectures(instance.getArchitectures());
+      setMinVersionFlagPrefix(instance.getMinVersionFlagPrefix());
+      Optional<String> stubBinaryPathOptional = instance.getStubBinaryPath();
+      if (stubBinaryPathOptional.isPresent()) {
+        setStubBinaryPath(stubBinaryPathOptional);
+      }
+      setAppIncludesFrameworks(instance.getAppIncludesFrameworks());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractApplePlatform#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractApplePlatform#getSwiftName() swiftName} to swiftName.
+     * @param swiftName The value for swiftName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftName(String swiftName) {
+      this.swiftName = Objects.requireNonNull(swiftName, "swiftName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractApplePlatform#getSwiftName() swiftName} to swiftName.
+     * @param swiftName The value for swiftName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSwiftName(Optional<String> swiftName) {
+      this.swiftName = swiftName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractApplePlatform#getProvisioningProfileName() provisioningProfileName} to provisioningProfileName.
+     * @param provisioningProfileName The value for provisioningProfileName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvisioningProfileName(String provisioningProfileName) {
+      this.provisioningProfileName = Objects.requireNonNull(provisioningProfileName, "provisioningProfileName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractApplePlatform#getProvisioningProfileName() provisioningProfileName} to provisioningProfileName.
+     * @param provisioningProfileName The value for provisioningProfileName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvisioningProfileName(Optional<String> provisioningProfileName) {
+      this.provisioningProfileName = provisioningProfileName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractApplePlatform#getArchitectures() architectures} list.
+     * @param element A architectures element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArchitectures(String element) {
+      this.architectures.add(element);
+      optBits |= OPT_BIT_ARCHITECTURES;
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractApplePlatform#getArchitectures() architectures} list.
+     * @param elements An array of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArchitectures(String... elements) {
+      this.architectures.add(elements);
+      optBits |= OPT_BIT_ARCHITECTURES;
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractApplePlatform#getArchitectures() architectures} list.
+     * @param elements An iterable of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArchitectures(Iterable<String> elements) {
+      this.architectures = ImmutableList.builder();
+      return addAllArchitectures(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractApplePlatform#getArchitectures() architectures} list.
+     * @param elements An iterable of architectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllArchitectures(Iterable<String> elements) {
+      this.architectures.addAll(elements);
+      optBits |= OPT_BIT_ARCHITECTURES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractApplePlatform#getMinVersionFlagPrefix() minVersionFlagPrefix} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractApplePlatform#getMinVersionFlagPrefix() minVersionFlagPrefix}.</em>
+     * @param minVersionFlagPrefix The value for minVersionFlagPrefix 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinVersionFlagPrefix(String minVersionFlagPrefix) {
+      this.minVersionFlagPrefix = Objects.requireNonNull(minVersionFlagPrefix, "minVersionFlagPrefix");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractApplePlatform#getStubBinaryPath() stubBinaryPath} to stubBinaryPath.
+     * @param stubBinaryPath The value for stubBinaryPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStubBinaryPath(String stubBinaryPath) {
+      this.stubBinaryPath = Objects.requireNonNull(stubBinaryPath, "stubBinaryPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractApplePlatform#getStubBinaryPath() stubBinaryPath} to stubBinaryPath.
+     * @param stubBinaryPath The value for stubBinaryPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStubBinaryPath(Optional<String> stubBinaryPath) {
+      this.stubBinaryPath = stubBinaryPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractApplePlatform#getAppIncludesFrameworks() appIncludesFrameworks} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractApplePlatform#getAppIncludesFrameworks() appIncludesFrameworks}.</em>
+     * @param appIncludesFrameworks The value for appIncludesFrameworks 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAppIncludesFrameworks(boolean appIncludesFrameworks) {
+      this.appIncludesFrameworks = appIncludesFrameworks;
+      optBits |= OPT_BIT_APP_INCLUDES_FRAMEWORKS;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ApplePlatform ApplePlatform}.
+     * @return An immutable instance of ApplePlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ApplePlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ApplePlatform(this);
+    }
+
+    private boolean architecturesIsSet() {
+      return (optBits & OPT_BIT_ARCHITECTURES) != 0;
+    }
+
+    private boolean appIncludesFrameworksIsSet() {
+      return (optBits & OPT_BIT_APP_INCLUDES_FRAMEWORKS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build ApplePlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
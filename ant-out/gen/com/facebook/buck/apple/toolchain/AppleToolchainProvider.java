@@ -0,0 +1,85 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractAppleToolchainProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code AppleToolchainProvider.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleToolchainProvider"})
+@Immutable
+@CheckReturnValue
+public final class AppleToolchainProvider
+    implements AbstractAppleToolchainProvider {
+  private final ImmutableMap<String, AppleToolchain> appleToolchains;
+
+  private AppleToolchainProvider(Map<String, ? extends AppleToolchain> appleToolchains) {
+    this.appleToolchains = ImmutableMap.copyOf(appleToolchains);
+  }
+
+  /**
+   * @return The value of the {@code appleToolchains} attribute
+   */
+  @Override
+  public ImmutableMap<String, AppleToolchain> getAppleToolchains() {
+    return appleToolchains;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleToolchainProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleToolchainProvider
+        && equalTo((AppleToolchainProvider) another);
+  }
+
+  private boolean equalTo(AppleToolchainProvider another) {
+    return appleToolchains.equals(another.appleToolchains);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code appleToolchains}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + appleToolchains.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleToolchainProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleToolchainProvider")
+        .omitNullValues()
+        .add("appleToolchains", appleToolchains)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code AppleToolchainProvider} instance.
+   * @param appleToolchains The value for the {@code appleToolchains} attribute
+   * @return An immutable AppleToolchainProvider instance
+   */
+  public static AppleToolchainProvider of(Map<String, ? extends AppleToolchain> appleToolchains) {
+    return new AppleToolchainProvider(appleToolchains);
+  }
+}
@@ -0,0 +1,238 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents a identity used in code signing. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCodeSignIdentity"})
+@Immutable
+@CheckReturnValue
+public final class CodeSignIdentity extends AbstractCodeSignIdentity {
+  private final @Nullable HashCode fingerprint;
+  private final String subjectCommonName;
+  private final boolean shouldUseSubjectCommonNameToSign;
+
+  private CodeSignIdentity(CodeSignIdentity.Builder builder) {
+    this.fingerprint = builder.fingerprint;
+    this.subjectCommonName = builder.subjectCommonName;
+    this.shouldUseSubjectCommonNameToSign = builder.shouldUseSubjectCommonNameToSignIsSet()
+        ? builder.shouldUseSubjectCommonNameToSign
+        : super.shouldUseSubjectCommonNameToSign();
+  }
+
+  /**
+   * Returns the identity's certificate hash, defined to be unique for each identity.
+   * <p>If absent, this identity represents an ad-hoc signing identity.
+   */
+  @Override
+  public Optional<HashCode> getFingerprint() {
+    return Optional.ofNullable(fingerprint);
+  }
+
+  /**
+   * Returns the full name of the identity. e.g. "iPhone Developer: John Doe (ABCDE12345)"
+   * <p>Not guaranteed to be unique.
+   */
+  @Override
+  public String getSubjectCommonName() {
+    return subjectCommonName;
+  }
+
+  /**
+   * @return True if {@link AbstractCodeSignIdentity#getSubjectCommonName()} can be used to sign if
+   *     {@link AbstractCodeSignIdentity#getFingerprint()} is empty.
+   */
+  @Override
+  public boolean shouldUseSubjectCommonNameToSign() {
+    return shouldUseSubjectCommonNameToSign;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CodeSignIdentity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CodeSignIdentity
+        && equalTo((CodeSignIdentity) another);
+  }
+
+  private boolean equalTo(CodeSignIdentity another) {
+    return Objects.equals(fingerprint, another.fingerprint)
+        && subjectCommonName.equals(another.subjectCommonName)
+        && shouldUseSubjectCommonNameToSign == another.shouldUseSubjectCommonNameToSign;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fingerprint}, {@code subjectCommonName}, {@code shouldUseSubjectCommonNameToSign}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(fingerprint);
+    h += (h << 5) + subjectCommonName.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldUseSubjectCommonNameToSign);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CodeSignIdentity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CodeSignIdentity")
+        .omitNullValues()
+        .add("fingerprint", fingerprint)
+        .add("subjectCommonName", subjectCommonName)
+        .add("shouldUseSubjectCommonNameToSign", shouldUseSubjectCommonNameToSign)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CodeSignIdentity CodeSignIdentity}.
+   * @return A new CodeSignIdentity builder
+   */
+  public static CodeSignIdentity.Builder builder() {
+    return new CodeSignIdentity.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CodeSignIdentity CodeSignIdentity}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SUBJECT_COMMON_NAME = 0x1L;
+    private static final long OPT_BIT_SHOULD_USE_SUBJECT_COMMON_NAME_TO_SIGN = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable HashCode fingerprint;
+    private @Nullable String subjectCommonName;
+    private boolean shouldUseSubjectCommonNameToSign;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CodeSignIdentity} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CodeSignIdentity instance) {
+      return from((AbstractCodeSignIdentity) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCodeSignIdentity} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCodeSignIdentity instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<HashCode> fingerprintOptional = instance.getFingerprint();
+      if (fingerprintOptional.isPresent()) {
+        setFingerprint(fingerprintOptional);
+      }
+      setSubjectCommonName(instance.getSubjectCommonName());
+      setShouldUseSubjectCommonNameToSign(instance.shouldUseSubjectCommonNameToSign());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCodeSignIdentity#getFingerprint() fingerprint} to fingerprint.
+     * @param fingerprint The value for fingerprint
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFingerprint(HashCode fingerprint) {
+      this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCodeSignIdentity#getFingerprint() fingerprint} to fingerprint.
+     * @param fingerprint The value for fingerprint
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFingerprint(Optional<? extends HashCode> fingerprint) {
+      this.fingerprint = fingerprint.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCodeSignIdentity#getSubjectCommonName() subjectCommonName} attribute.
+     * @param subjectCommonName The value for subjectCommonName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSubjectCommonName(String subjectCommonName) {
+      this.subjectCommonName = Objects.requireNonNull(subjectCommonName, "subjectCommonName");
+      initBits &= ~INIT_BIT_SUBJECT_COMMON_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCodeSignIdentity#shouldUseSubjectCommonNameToSign() shouldUseSubjectCommonNameToSign} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCodeSignIdentity#shouldUseSubjectCommonNameToSign() shouldUseSubjectCommonNameToSign}.</em>
+     * @param shouldUseSubjectCommonNameToSign The value for shouldUseSubjectCommonNameToSign 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldUseSubjectCommonNameToSign(boolean shouldUseSubjectCommonNameToSign) {
+      this.shouldUseSubjectCommonNameToSign = shouldUseSubjectCommonNameToSign;
+      optBits |= OPT_BIT_SHOULD_USE_SUBJECT_COMMON_NAME_TO_SIGN;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CodeSignIdentity CodeSignIdentity}.
+     * @return An immutable instance of CodeSignIdentity
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CodeSignIdentity build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CodeSignIdentity(this);
+    }
+
+    private boolean shouldUseSubjectCommonNameToSignIsSet() {
+      return (optBits & OPT_BIT_SHOULD_USE_SUBJECT_COMMON_NAME_TO_SIGN) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SUBJECT_COMMON_NAME) != 0) attributes.add("subjectCommonName");
+      return "Cannot build CodeSignIdentity, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *A collection of code sign identities. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCodeSignIdentityStore"})
+@Immutable
+@CheckReturnValue
+public final class CodeSignIdentityStore
+    implements AbstractCodeSignIdentityStore {
+  private final Supplier<ImmutableList<CodeSignIdentity>> identitiesSupplier;
+
+  private CodeSignIdentityStore(
+      Supplier<ImmutableList<CodeSignIdentity>> identitiesSupplier) {
+    this.identitiesSupplier = Objects.requireNonNull(identitiesSupplier, "identitiesSupplier");
+  }
+
+  /**
+   * @return The value of the {@code identitiesSupplier} attribute
+   */
+  @Override
+  public Supplier<ImmutableList<CodeSignIdentity>> getIdentitiesSupplier() {
+    return identitiesSupplier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CodeSignIdentityStore} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CodeSignIdentityStore
+        && equalTo((CodeSignIdentityStore) another);
+  }
+
+  private boolean equalTo(CodeSignIdentityStore another) {
+    return identitiesSupplier.equals(another.identitiesSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code identitiesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + identitiesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CodeSignIdentityStore} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CodeSignIdentityStore")
+        .omitNullValues()
+        .add("identitiesSupplier", identitiesSupplier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CodeSignIdentityStore} instance.
+   * @param identitiesSupplier The value for the {@code identitiesSupplier} attribute
+   * @return An immutable CodeSignIdentityStore instance
+   */
+  public static CodeSignIdentityStore of(Supplier<ImmutableList<CodeSignIdentity>> identitiesSupplier) {
+    return new CodeSignIdentityStore(identitiesSupplier);
+  }
+}
@@ -0,0 +1,84 @@
+package com.facebook.buck.apple.toolchain;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *A collection of provisioning profiles. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProvisioningProfileStore"})
+@Immutable
+@CheckReturnValue
+public final class ProvisioningProfileStore
+    extends AbstractProvisioningProfileStore {
+  private final Supplier<ImmutableList<ProvisioningProfileMetadata>> provisioningProfilesSupplier;
+
+  private ProvisioningProfileStore(
+      Supplier<ImmutableList<ProvisioningProfileMetadata>> provisioningProfilesSupplier) {
+    this.provisioningProfilesSupplier = Objects.requireNonNull(provisioningProfilesSupplier, "provisioningProfilesSupplier");
+  }
+
+  /**
+   * @return The value of the {@code provisioningProfilesSupplier} attribute
+   */
+  @Override
+  public Supplier<ImmutableList<ProvisioningProfileMetadata>> getProvisioningProfilesSupplier() {
+    return provisioningProfilesSupplier;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProvisioningProfileStore} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProvisioningProfileStore
+        && equalTo((ProvisioningProfileStore) another);
+  }
+
+  private boolean equalTo(ProvisioningProfileStore another) {
+    return provisioningProfilesSupplier.equals(another.provisioningProfilesSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code provisioningProfilesSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + provisioningProfilesSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProvisioningProfileStore} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProvisioningProfileStore")
+        .omitNullValues()
+        .add("provisioningProfilesSupplier", provisioningProfilesSupplier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProvisioningProfileStore} instance.
+   * @param provisioningProfilesSupplier The value for the {@code provisioningProfilesSupplier} attribute
+   * @return An immutable ProvisioningProfileStore instance
+   */
+  public static ProvisioningProfileStore of(Supplier<ImmutableList<ProvisioningProfileMetadata>> provisioningProfilesSupplier) {
+    return new ProvisioningProfileStore(provisioningProfilesSupplier);
+  }
+}
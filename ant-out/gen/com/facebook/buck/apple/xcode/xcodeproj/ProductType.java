@@ -0,0 +1,100 @@
+package com.facebook.buck.apple.xcode.xcodeproj;
+
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractProductType}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ProductType.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProductType"})
+@Immutable
+@CheckReturnValue
+public final class ProductType extends AbstractProductType {
+  private final String identifier;
+
+  private ProductType(String identifier) {
+    this.identifier = Objects.requireNonNull(identifier, "identifier");
+  }
+
+  private ProductType(ProductType original, String identifier) {
+    this.identifier = identifier;
+  }
+
+  /**
+   * @return The value of the {@code identifier} attribute
+   */
+  @Override
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProductType#getIdentifier() identifier} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for identifier
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProductType withIdentifier(String value) {
+    if (this.identifier.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "identifier");
+    return new ProductType(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProductType} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProductType
+        && equalTo((ProductType) another);
+  }
+
+  private boolean equalTo(ProductType another) {
+    return identifier.equals(another.identifier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code identifier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + identifier.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ProductType} instance.
+   * @param identifier The value for the {@code identifier} attribute
+   * @return An immutable ProductType instance
+   */
+  public static ProductType of(String identifier) {
+    return new ProductType(identifier);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProductType} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProductType instance
+   */
+  static ProductType copyOf(AbstractProductType instance) {
+    if (instance instanceof ProductType) {
+      return (ProductType) instance;
+    }
+    return ProductType.of(instance.getIdentifier());
+  }
+}
@@ -0,0 +1,673 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.log.views.JsonViews;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Utility class to help outputting the information to the machine-readable log. It helps in the
+ * serialization & deserialization process.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCacheCountersSummary"})
+@Immutable
+@CheckReturnValue
+public final class CacheCountersSummary extends AbstractCacheCountersSummary {
+  private final ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode;
+  private final ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode;
+  private final int totalCacheHits;
+  private final int totalCacheErrors;
+  private final int totalCacheMisses;
+  private final int totalCacheIgnores;
+  private final int totalCacheLocalKeyUnchangedHits;
+  private final AtomicInteger successUploadCount;
+  private final AtomicInteger failureUploadCount;
+
+  private CacheCountersSummary(
+      Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode,
+      Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode,
+      int totalCacheHits,
+      int totalCacheErrors,
+      int totalCacheMisses,
+      int totalCacheIgnores,
+      int totalCacheLocalKeyUnchangedHits,
+      AtomicInteger successUploadCount,
+      AtomicInteger failureUploadCount) {
+    this.cacheHitsPerMode = Maps.immutableEnumMap(cacheHitsPerMode);
+    this.cacheErrorsPerMode = Maps.immutableEnumMap(cacheErrorsPerMode);
+    this.totalCacheHits = totalCacheHits;
+    this.totalCacheErrors = totalCacheErrors;
+    this.totalCacheMisses = totalCacheMisses;
+    this.totalCacheIgnores = totalCacheIgnores;
+    this.totalCacheLocalKeyUnchangedHits = totalCacheLocalKeyUnchangedHits;
+    this.successUploadCount = Objects.requireNonNull(successUploadCount, "successUploadCount");
+    this.failureUploadCount = Objects.requireNonNull(failureUploadCount, "failureUploadCount");
+  }
+
+  private CacheCountersSummary(CacheCountersSummary.Builder builder) {
+    this.cacheHitsPerMode = Maps.immutableEnumMap(builder.cacheHitsPerMode.build());
+    this.cacheErrorsPerMode = Maps.immutableEnumMap(builder.cacheErrorsPerMode.build());
+    this.totalCacheHits = builder.totalCacheHits;
+    this.totalCacheErrors = builder.totalCacheErrors;
+    this.totalCacheMisses = builder.totalCacheMisses;
+    this.totalCacheIgnores = builder.totalCacheIgnores;
+    this.totalCacheLocalKeyUnchangedHits = builder.totalCacheLocalKeyUnchangedHits;
+    this.successUploadCount = builder.successUploadCount;
+    this.failureUploadCount = builder.failureUploadCount;
+  }
+
+  /**
+   * @return The value of the {@code cacheHitsPerMode} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheHitsPerMode() {
+    return cacheHitsPerMode;
+  }
+
+  /**
+   * @return The value of the {@code cacheErrorsPerMode} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheErrorsPerMode() {
+    return cacheErrorsPerMode;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheHits} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getTotalCacheHits() {
+    return totalCacheHits;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheErrors} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getTotalCacheErrors() {
+    return totalCacheErrors;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheMisses} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getTotalCacheMisses() {
+    return totalCacheMisses;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheIgnores} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getTotalCacheIgnores() {
+    return totalCacheIgnores;
+  }
+
+  /**
+   * @return The value of the {@code totalCacheLocalKeyUnchangedHits} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public int getTotalCacheLocalKeyUnchangedHits() {
+    return totalCacheLocalKeyUnchangedHits;
+  }
+
+  /**
+   * @return The value of the {@code successUploadCount} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public AtomicInteger getSuccessUploadCount() {
+    return successUploadCount;
+  }
+
+  /**
+   * @return The value of the {@code failureUploadCount} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public AtomicInteger getFailureUploadCount() {
+    return failureUploadCount;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CacheCountersSummary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CacheCountersSummary
+        && equalTo((CacheCountersSummary) another);
+  }
+
+  private boolean equalTo(CacheCountersSummary another) {
+    return cacheHitsPerMode.equals(another.cacheHitsPerMode)
+        && cacheErrorsPerMode.equals(another.cacheErrorsPerMode)
+        && totalCacheHits == another.totalCacheHits
+        && totalCacheErrors == another.totalCacheErrors
+        && totalCacheMisses == another.totalCacheMisses
+        && totalCacheIgnores == another.totalCacheIgnores
+        && totalCacheLocalKeyUnchangedHits == another.totalCacheLocalKeyUnchangedHits
+        && successUploadCount.equals(another.successUploadCount)
+        && failureUploadCount.equals(another.failureUploadCount);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheHitsPerMode}, {@code cacheErrorsPerMode}, {@code totalCacheHits}, {@code totalCacheErrors}, {@code totalCacheMisses}, {@code totalCacheIgnores}, {@code totalCacheLocalKeyUnchangedHits}, {@code successUploadCount}, {@code failureUploadCount}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cacheHitsPerMode.hashCode();
+    h += (h << 5) + cacheErrorsPerMode.hashCode();
+    h += (h << 5) + totalCacheHits;
+    h += (h << 5) + totalCacheErrors;
+    h += (h << 5) + totalCacheMisses;
+    h += (h << 5) + totalCacheIgnores;
+    h += (h << 5) + totalCacheLocalKeyUnchangedHits;
+    h += (h << 5) + successUploadCount.hashCode();
+    h += (h << 5) + failureUploadCount.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CacheCountersSummary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CacheCountersSummary")
+        .omitNullValues()
+        .add("cacheHitsPerMode", cacheHitsPerMode)
+        .add("cacheErrorsPerMode", cacheErrorsPerMode)
+        .add("totalCacheHits", totalCacheHits)
+        .add("totalCacheErrors", totalCacheErrors)
+        .add("totalCacheMisses", totalCacheMisses)
+        .add("totalCacheIgnores", totalCacheIgnores)
+        .add("totalCacheLocalKeyUnchangedHits", totalCacheLocalKeyUnchangedHits)
+        .add("successUploadCount", successUploadCount)
+        .add("failureUploadCount", failureUploadCount)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractCacheCountersSummary {
+    @Nullable ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode = ImmutableMap.of();
+    @Nullable ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode = ImmutableMap.of();
+    int totalCacheHits;
+    boolean totalCacheHitsIsSet;
+    int totalCacheErrors;
+    boolean totalCacheErrorsIsSet;
+    int totalCacheMisses;
+    boolean totalCacheMissesIsSet;
+    int totalCacheIgnores;
+    boolean totalCacheIgnoresIsSet;
+    int totalCacheLocalKeyUnchangedHits;
+    boolean totalCacheLocalKeyUnchangedHitsIsSet;
+    @Nullable AtomicInteger successUploadCount;
+    @Nullable AtomicInteger failureUploadCount;
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setCacheHitsPerMode(ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode) {
+      this.cacheHitsPerMode = cacheHitsPerMode;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setCacheErrorsPerMode(ImmutableMap<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode) {
+      this.cacheErrorsPerMode = cacheErrorsPerMode;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setTotalCacheHits(int totalCacheHits) {
+      this.totalCacheHits = totalCacheHits;
+      this.totalCacheHitsIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setTotalCacheErrors(int totalCacheErrors) {
+      this.totalCacheErrors = totalCacheErrors;
+      this.totalCacheErrorsIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setTotalCacheMisses(int totalCacheMisses) {
+      this.totalCacheMisses = totalCacheMisses;
+      this.totalCacheMissesIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setTotalCacheIgnores(int totalCacheIgnores) {
+      this.totalCacheIgnores = totalCacheIgnores;
+      this.totalCacheIgnoresIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setTotalCacheLocalKeyUnchangedHits(int totalCacheLocalKeyUnchangedHits) {
+      this.totalCacheLocalKeyUnchangedHits = totalCacheLocalKeyUnchangedHits;
+      this.totalCacheLocalKeyUnchangedHitsIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setSuccessUploadCount(AtomicInteger successUploadCount) {
+      this.successUploadCount = successUploadCount;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setFailureUploadCount(AtomicInteger failureUploadCount) {
+      this.failureUploadCount = failureUploadCount;
+    }
+    @Override
+    public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheHitsPerMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableMap<ArtifactCacheMode, AtomicInteger> getCacheErrorsPerMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheHits() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheErrors() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheMisses() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheIgnores() { throw new UnsupportedOperationException(); }
+    @Override
+    public int getTotalCacheLocalKeyUnchangedHits() { throw new UnsupportedOperationException(); }
+    @Override
+    public AtomicInteger getSuccessUploadCount() { throw new UnsupportedOperationException(); }
+    @Override
+    public AtomicInteger getFailureUploadCount() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static CacheCountersSummary fromJson(Json json) {
+    CacheCountersSummary.Builder builder = CacheCountersSummary.builder();
+    if (json.cacheHitsPerMode != null) {
+      builder.putAllCacheHitsPerMode(json.cacheHitsPerMode);
+    }
+    if (json.cacheErrorsPerMode != null) {
+      builder.putAllCacheErrorsPerMode(json.cacheErrorsPerMode);
+    }
+    if (json.totalCacheHitsIsSet) {
+      builder.setTotalCacheHits(json.totalCacheHits);
+    }
+    if (json.totalCacheErrorsIsSet) {
+      builder.setTotalCacheErrors(json.totalCacheErrors);
+    }
+    if (json.totalCacheMissesIsSet) {
+      builder.setTotalCacheMisses(json.totalCacheMisses);
+    }
+    if (json.totalCacheIgnoresIsSet) {
+      builder.setTotalCacheIgnores(json.totalCacheIgnores);
+    }
+    if (json.totalCacheLocalKeyUnchangedHitsIsSet) {
+      builder.setTotalCacheLocalKeyUnchangedHits(json.totalCacheLocalKeyUnchangedHits);
+    }
+    if (json.successUploadCount != null) {
+      builder.setSuccessUploadCount(json.successUploadCount);
+    }
+    if (json.failureUploadCount != null) {
+      builder.setFailureUploadCount(json.failureUploadCount);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code CacheCountersSummary} instance.
+   * @param cacheHitsPerMode The value for the {@code cacheHitsPerMode} attribute
+   * @param cacheErrorsPerMode The value for the {@code cacheErrorsPerMode} attribute
+   * @param totalCacheHits The value for the {@code totalCacheHits} attribute
+   * @param totalCacheErrors The value for the {@code totalCacheErrors} attribute
+   * @param totalCacheMisses The value for the {@code totalCacheMisses} attribute
+   * @param totalCacheIgnores The value for the {@code totalCacheIgnores} attribute
+   * @param totalCacheLocalKeyUnchangedHits The value for the {@code totalCacheLocalKeyUnchangedHits} attribute
+   * @param successUploadCount The value for the {@code successUploadCount} attribute
+   * @param failureUploadCount The value for the {@code failureUploadCount} attribute
+   * @return An immutable CacheCountersSummary instance
+   */
+  public static CacheCountersSummary of(Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode, Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode, int totalCacheHits, int totalCacheErrors, int totalCacheMisses, int totalCacheIgnores, int totalCacheLocalKeyUnchangedHits, AtomicInteger successUploadCount, AtomicInteger failureUploadCount) {
+    return new CacheCountersSummary(cacheHitsPerMode, cacheErrorsPerMode, totalCacheHits, totalCacheErrors, totalCacheMisses, totalCacheIgnores, totalCacheLocalKeyUnchangedHits, successUploadCount, failureUploadCount);
+  }
+
+  /**
+   * Creates a builder for {@link CacheCountersSummary CacheCountersSummary}.
+   * @return A new CacheCountersSummary builder
+   */
+  public static CacheCountersSummary.Builder builder() {
+    return new CacheCountersSummary.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CacheCountersSummary CacheCountersSummary}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TOTAL_CACHE_HITS = 0x1L;
+    private static final long INIT_BIT_TOTAL_CACHE_ERRORS = 0x2L;
+    private static final long INIT_BIT_TOTAL_CACHE_MISSES = 0x4L;
+    private static final long INIT_BIT_TOTAL_CACHE_IGNORES = 0x8L;
+    private static final long INIT_BIT_TOTAL_CACHE_LOCAL_KEY_UNCHANGED_HITS = 0x10L;
+    private static final long INIT_BIT_SUCCESS_UPLOAD_COUNT = 0x20L;
+    private static final long INIT_BIT_FAILURE_UPLOAD_COUNT = 0x40L;
+    private long initBits = 0x7fL;
+
+    private ImmutableMap.Builder<ArtifactCacheMode, AtomicInteger> cacheHitsPerMode = ImmutableMap.builder();
+    private ImmutableMap.Builder<ArtifactCacheMode, AtomicInteger> cacheErrorsPerMode = ImmutableMap.builder();
+    private int totalCacheHits;
+    private int totalCacheErrors;
+    private int totalCacheMisses;
+    private int totalCacheIgnores;
+    private int totalCacheLocalKeyUnchangedHits;
+    private @Nullable AtomicInteger successUploadCount;
+    private @Nullable AtomicInteger failureUploadCount;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CacheCountersSummary} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CacheCountersSummary instance) {
+      return from((AbstractCacheCountersSummary) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCacheCountersSummary} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCacheCountersSummary instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllCacheHitsPerMode(instance.getCacheHitsPerMode());
+      putAllCacheErrorsPerMode(instance.getCacheErrorsPerMode());
+      setTotalCacheHits(instance.getTotalCacheHits());
+      setTotalCacheErrors(instance.getTotalCacheErrors());
+      setTotalCacheMisses(instance.getTotalCacheMisses());
+      setTotalCacheIgnores(instance.getTotalCacheIgnores());
+      setTotalCacheLocalKeyUnchangedHits(instance.getTotalCacheLocalKeyUnchangedHits());
+      setSuccessUploadCount(instance.getSuccessUploadCount());
+      setFailureUploadCount(instance.getFailureUploadCount());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCacheCountersSummary#getCacheHitsPerMode() cacheHitsPerMode} map.
+     * @param key The key in the cacheHitsPerMode map
+     * @param value The associated value in the cacheHitsPerMode map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheHitsPerMode(ArtifactCacheMode key, AtomicInteger value) {
+      this.cacheHitsPerMode.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCacheCountersSummary#getCacheHitsPerMode() cacheHitsPerMode} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheHitsPerMode(Map.Entry<ArtifactCacheMode, ? extends AtomicInteger> entry) {
+      this.cacheHitsPerMode.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCacheCountersSummary#getCacheHitsPerMode() cacheHitsPerMode} map. Nulls are not permitted
+     * @param cacheHitsPerMode The entries that will be added to the cacheHitsPerMode map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setCacheHitsPerMode(Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode) {
+      this.cacheHitsPerMode = ImmutableMap.builder();
+      return putAllCacheHitsPerMode(cacheHitsPerMode);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCacheCountersSummary#getCacheHitsPerMode() cacheHitsPerMode} map. Nulls are not permitted
+     * @param cacheHitsPerMode The entries that will be added to the cacheHitsPerMode map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllCacheHitsPerMode(Map<ArtifactCacheMode, ? extends AtomicInteger> cacheHitsPerMode) {
+      this.cacheHitsPerMode.putAll(cacheHitsPerMode);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCacheCountersSummary#getCacheErrorsPerMode() cacheErrorsPerMode} map.
+     * @param key The key in the cacheErrorsPerMode map
+     * @param value The associated value in the cacheErrorsPerMode map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheErrorsPerMode(ArtifactCacheMode key, AtomicInteger value) {
+      this.cacheErrorsPerMode.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCacheCountersSummary#getCacheErrorsPerMode() cacheErrorsPerMode} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheErrorsPerMode(Map.Entry<ArtifactCacheMode, ? extends AtomicInteger> entry) {
+      this.cacheErrorsPerMode.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCacheCountersSummary#getCacheErrorsPerMode() cacheErrorsPerMode} map. Nulls are not permitted
+     * @param cacheErrorsPerMode The entries that will be added to the cacheErrorsPerMode map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setCacheErrorsPerMode(Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode) {
+      this.cacheErrorsPerMode = ImmutableMap.builder();
+      return putAllCacheErrorsPerMode(cacheErrorsPerMode);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCacheCountersSummary#getCacheErrorsPerMode() cacheErrorsPerMode} map. Nulls are not permitted
+     * @param cacheErrorsPerMode The entries that will be added to the cacheErrorsPerMode map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllCacheErrorsPerMode(Map<ArtifactCacheMode, ? extends AtomicInteger> cacheErrorsPerMode) {
+      this.cacheErrorsPerMode.putAll(cacheErrorsPerMode);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getTotalCacheHits() totalCacheHits} attribute.
+     * @param totalCacheHits The value for totalCacheHits 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setTotalCacheHits(int totalCacheHits) {
+      this.totalCacheHits = totalCacheHits;
+      initBits &= ~INIT_BIT_TOTAL_CACHE_HITS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getTotalCacheErrors() totalCacheErrors} attribute.
+     * @param totalCacheErrors The value for totalCacheErrors 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setTotalCacheErrors(int totalCacheErrors) {
+      this.totalCacheErrors = totalCacheErrors;
+      initBits &= ~INIT_BIT_TOTAL_CACHE_ERRORS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getTotalCacheMisses() totalCacheMisses} attribute.
+     * @param totalCacheMisses The value for totalCacheMisses 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setTotalCacheMisses(int totalCacheMisses) {
+      this.totalCacheMisses = totalCacheMisses;
+      initBits &= ~INIT_BIT_TOTAL_CACHE_MISSES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getTotalCacheIgnores() totalCacheIgnores} attribute.
+     * @param totalCacheIgnores The value for totalCacheIgnores 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setTotalCacheIgnores(int totalCacheIgnores) {
+      this.totalCacheIgnores = totalCacheIgnores;
+      initBits &= ~INIT_BIT_TOTAL_CACHE_IGNORES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getTotalCacheLocalKeyUnchangedHits() totalCacheLocalKeyUnchangedHits} attribute.
+     * @param totalCacheLocalKeyUnchangedHits The value for totalCacheLocalKeyUnchangedHits 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setTotalCacheLocalKeyUnchangedHits(int totalCacheLocalKeyUnchangedHits) {
+      this.totalCacheLocalKeyUnchangedHits = totalCacheLocalKeyUnchangedHits;
+      initBits &= ~INIT_BIT_TOTAL_CACHE_LOCAL_KEY_UNCHANGED_HITS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getSuccessUploadCount() successUploadCount} attribute.
+     * @param successUploadCount The value for successUploadCount 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setSuccessUploadCount(AtomicInteger successUploadCount) {
+      this.successUploadCount = Objects.requireNonNull(successUploadCount, "successUploadCount");
+      initBits &= ~INIT_BIT_SUCCESS_UPLOAD_COUNT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCacheCountersSummary#getFailureUploadCount() failureUploadCount} attribute.
+     * @param failureUploadCount The value for failureUploadCount 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public final Builder setFailureUploadCount(AtomicInteger failureUploadCount) {
+      this.failureUploadCount = Objects.requireNonNull(failureUploadCount, "failureUploadCount");
+      initBits &= ~INIT_BIT_FAILURE_UPLOAD_COUNT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CacheCountersSummary CacheCountersSummary}.
+     * @return An immutable instance of CacheCountersSummary
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CacheCountersSummary build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CacheCountersSummary(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TOTAL_CACHE_HITS) != 0) attributes.add("totalCacheHits");
+      if ((initBits & INIT_BIT_TOTAL_CACHE_ERRORS) != 0) attributes.add("totalCacheErrors");
+      if ((initBits & INIT_BIT_TOTAL_CACHE_MISSES) != 0) attributes.add("totalCacheMisses");
+      if ((initBits & INIT_BIT_TOTAL_CACHE_IGNORES) != 0) attributes.add("totalCacheIgnores");
+      if ((initBits & INIT_BIT_TOTAL_CACHE_LOCAL_KEY_UNCHANGED_HITS) != 0) attributes.add("totalCacheLocalKeyUnchangedHits");
+      if ((initBits & INIT_BIT_SUCCESS_UPLOAD_COUNT) != 0) attributes.add("successUploadCount");
+      if ((initBits & INIT_BIT_FAILURE_UPLOAD_COUNT) != 0) attributes.add("failureUploadCount");
+      return "Cannot build CacheCountersSummary, some of required attributes are not set " + attributes;
+    }
+  }
+}
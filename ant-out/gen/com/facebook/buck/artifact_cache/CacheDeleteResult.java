@@ -0,0 +1,227 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Result of delete from cache command. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCacheDeleteResult"})
+@Immutable
+@CheckReturnValue
+public final class CacheDeleteResult extends AbstractCacheDeleteResult {
+  private final ImmutableList<String> cacheNames;
+
+  private CacheDeleteResult(Iterable<String> cacheNames) {
+    this.cacheNames = ImmutableList.copyOf(cacheNames);
+  }
+
+  private CacheDeleteResult(CacheDeleteResult original, ImmutableList<String> cacheNames) {
+    this.cacheNames = cacheNames;
+  }
+
+  /**
+   * @return The value of the {@code cacheNames} attribute
+   */
+  @Override
+  public ImmutableList<String> getCacheNames() {
+    return cacheNames;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCacheDeleteResult#getCacheNames() cacheNames}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheDeleteResult withCacheNames(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CacheDeleteResult(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCacheDeleteResult#getCacheNames() cacheNames}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cacheNames elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CacheDeleteResult withCacheNames(Iterable<String> elements) {
+    if (this.cacheNames == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CacheDeleteResult(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CacheDeleteResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CacheDeleteResult
+        && equalTo((CacheDeleteResult) another);
+  }
+
+  private boolean equalTo(CacheDeleteResult another) {
+    return cacheNames.equals(another.cacheNames);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheNames}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cacheNames.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CacheDeleteResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CacheDeleteResult")
+        .omitNullValues()
+        .add("cacheNames", cacheNames)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CacheDeleteResult} instance.
+   * @param cacheNames The value for the {@code cacheNames} attribute
+   * @return An immutable CacheDeleteResult instance
+   */
+  public static CacheDeleteResult of(List<String> cacheNames) {
+    return of((Iterable<String>) cacheNames);
+  }
+
+  /**
+   * Construct a new immutable {@code CacheDeleteResult} instance.
+   * @param cacheNames The value for the {@code cacheNames} attribute
+   * @return An immutable CacheDeleteResult instance
+   */
+  public static CacheDeleteResult of(Iterable<String> cacheNames) {
+    return new CacheDeleteResult(cacheNames);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCacheDeleteResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CacheDeleteResult instance
+   */
+  public static CacheDeleteResult copyOf(AbstractCacheDeleteResult instance) {
+    if (instance instanceof CacheDeleteResult) {
+      return (CacheDeleteResult) instance;
+    }
+    return CacheDeleteResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CacheDeleteResult CacheDeleteResult}.
+   * @return A new CacheDeleteResult builder
+   */
+  public static CacheDeleteResult.Builder builder() {
+    return new CacheDeleteResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CacheDeleteResult CacheDeleteResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<String> cacheNames = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractCacheDeleteResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractCacheDeleteResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllCacheNames(instance.getCacheNames());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCacheDeleteResult#getCacheNames() cacheNames} list.
+     * @param element A cacheNames element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCacheNames(String element) {
+      this.cacheNames.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCacheDeleteResult#getCacheNames() cacheNames} list.
+     * @param elements An array of cacheNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCacheNames(String... elements) {
+      this.cacheNames.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCacheDeleteResult#getCacheNames() cacheNames} list.
+     * @param elements An iterable of cacheNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheNames(Iterable<String> elements) {
+      this.cacheNames = ImmutableList.builder();
+      return addAllCacheNames(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCacheDeleteResult#getCacheNames() cacheNames} list.
+     * @param elements An iterable of cacheNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCacheNames(Iterable<String> elements) {
+      this.cacheNames.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CacheDeleteResult CacheDeleteResult}.
+     * @return An immutable instance of CacheDeleteResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CacheDeleteResult build() {
+      return new CacheDeleteResult(null, cacheNames.build());
+    }
+  }
+}
@@ -0,0 +1,613 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Return type used by the implementations of this abstract class. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAsynchronousCache.AbstractFetchResult"})
+@Immutable
+@CheckReturnValue
+public final class FetchResult
+    implements AbstractAsynchronousCache.AbstractFetchResult {
+  private final @Nullable Long responseSizeBytes;
+  private final @Nullable String buildTarget;
+  private final @Nullable ImmutableSet<RuleKey> associatedRuleKeys;
+  private final @Nullable Long artifactSizeBytes;
+  private final @Nullable String artifactContentHash;
+  private final CacheResult cacheResult;
+
+  private FetchResult(
+      Optional<Long> responseSizeBytes,
+      Optional<String> buildTarget,
+      Optional<? extends ImmutableSet<RuleKey>> associatedRuleKeys,
+      Optional<Long> artifactSizeBytes,
+      Optional<String> artifactContentHash,
+      CacheResult cacheResult) {
+    this.responseSizeBytes = responseSizeBytes.orElse(null);
+    this.buildTarget = buildTarget.orElse(null);
+    this.associatedRuleKeys = associatedRuleKeys.orElse(null);
+    this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+    this.artifactContentHash = artifactContentHash.orElse(null);
+    this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+  }
+
+  private FetchResult(
+      FetchResult original,
+      @Nullable Long responseSizeBytes,
+      @Nullable String buildTarget,
+      @Nullable ImmutableSet<RuleKey> associatedRuleKeys,
+      @Nullable Long artifactSizeBytes,
+      @Nullable String artifactContentHash,
+      CacheResult cacheResult) {
+    this.responseSizeBytes = responseSizeBytes;
+    this.buildTarget = buildTarget;
+    this.associatedRuleKeys = associatedRuleKeys;
+    this.artifactSizeBytes = artifactSizeBytes;
+    this.artifactContentHash = artifactContentHash;
+    this.cacheResult = cacheResult;
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return Optional.ofNullable(responseSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public Optional<String> getBuildTarget() {
+    return Optional.ofNullable(buildTarget);
+  }
+
+  /**
+   * @return The value of the {@code associatedRuleKeys} attribute
+   */
+  @Override
+  public Optional<ImmutableSet<RuleKey>> getAssociatedRuleKeys() {
+    return Optional.ofNullable(associatedRuleKeys);
+  }
+
+  /**
+   * @return The value of the {@code artifactSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getArtifactSizeBytes() {
+    return Optional.ofNullable(artifactSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHash} attribute
+   */
+  @Override
+  public Optional<String> getArtifactContentHash() {
+    return Optional.ofNullable(artifactContentHash);
+  }
+
+  /**
+   * @return The value of the {@code cacheResult} attribute
+   */
+  @Override
+  public CacheResult getCacheResult() {
+    return cacheResult;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractFetchResult#getResponseSizeBytes() responseSizeBytes} attribute.
+   * @param value The value for responseSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withResponseSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.responseSizeBytes, newValue)) return this;
+    return new FetchResult(
+        this,
+        newValue,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getResponseSizeBytes() responseSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for responseSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withResponseSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.responseSizeBytes, value)) return this;
+    return new FetchResult(
+        this,
+        value,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractFetchResult#getBuildTarget() buildTarget} attribute.
+   * @param value The value for buildTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withBuildTarget(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "buildTarget");
+    if (Objects.equals(this.buildTarget, newValue)) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        newValue,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getBuildTarget() buildTarget} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withBuildTarget(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.buildTarget, value)) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        value,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractFetchResult#getAssociatedRuleKeys() associatedRuleKeys} attribute.
+   * @param value The value for associatedRuleKeys
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withAssociatedRuleKeys(ImmutableSet<RuleKey> value) {
+    @Nullable ImmutableSet<RuleKey> newValue = Objects.requireNonNull(value, "associatedRuleKeys");
+    if (this.associatedRuleKeys == newValue) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        newValue,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getAssociatedRuleKeys() associatedRuleKeys} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for associatedRuleKeys
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withAssociatedRuleKeys(Optional<? extends ImmutableSet<RuleKey>> optional) {
+    @Nullable ImmutableSet<RuleKey> value = optional.orElse(null);
+    if (this.associatedRuleKeys == value) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        value,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactSizeBytes() artifactSizeBytes} attribute.
+   * @param value The value for artifactSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withArtifactSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.artifactSizeBytes, newValue)) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        newValue,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactSizeBytes() artifactSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for artifactSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withArtifactSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.artifactSizeBytes, value)) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        value,
+        this.artifactContentHash,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactContentHash() artifactContentHash} attribute.
+   * @param value The value for artifactContentHash
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withArtifactContentHash(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "artifactContentHash");
+    if (Objects.equals(this.artifactContentHash, newValue)) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        newValue,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactContentHash() artifactContentHash} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for artifactContentHash
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchResult withArtifactContentHash(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.artifactContentHash, value)) return this;
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        value,
+        this.cacheResult);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getCacheResult() cacheResult} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheResult
+   * @return A modified copy of the {@code this} object
+   */
+  public final FetchResult withCacheResult(CacheResult value) {
+    if (this.cacheResult == value) return this;
+    CacheResult newValue = Objects.requireNonNull(value, "cacheResult");
+    return new FetchResult(
+        this,
+        this.responseSizeBytes,
+        this.buildTarget,
+        this.associatedRuleKeys,
+        this.artifactSizeBytes,
+        this.artifactContentHash,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FetchResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FetchResult
+        && equalTo((FetchResult) another);
+  }
+
+  private boolean equalTo(FetchResult another) {
+    return Objects.equals(responseSizeBytes, another.responseSizeBytes)
+        && Objects.equals(buildTarget, another.buildTarget)
+        && Objects.equals(associatedRuleKeys, another.associatedRuleKeys)
+        && Objects.equals(artifactSizeBytes, another.artifactSizeBytes)
+        && Objects.equals(artifactContentHash, another.artifactContentHash)
+        && cacheResult.equals(another.cacheResult);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code responseSizeBytes}, {@code buildTarget}, {@code associatedRuleKeys}, {@code artifactSizeBytes}, {@code artifactContentHash}, {@code cacheResult}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(responseSizeBytes);
+    h += (h << 5) + Objects.hashCode(buildTarget);
+    h += (h << 5) + Objects.hashCode(associatedRuleKeys);
+    h += (h << 5) + Objects.hashCode(artifactSizeBytes);
+    h += (h << 5) + Objects.hashCode(artifactContentHash);
+    h += (h << 5) + cacheResult.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FetchResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FetchResult")
+        .omitNullValues()
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("buildTarget", buildTarget)
+        .add("associatedRuleKeys", associatedRuleKeys)
+        .add("artifactSizeBytes", artifactSizeBytes)
+        .add("artifactContentHash", artifactContentHash)
+        .add("cacheResult", cacheResult)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FetchResult} instance.
+   * @param responseSizeBytes The value for the {@code responseSizeBytes} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param associatedRuleKeys The value for the {@code associatedRuleKeys} attribute
+   * @param artifactSizeBytes The value for the {@code artifactSizeBytes} attribute
+   * @param artifactContentHash The value for the {@code artifactContentHash} attribute
+   * @param cacheResult The value for the {@code cacheResult} attribute
+   * @return An immutable FetchResult instance
+   */
+  public static FetchResult of(Optional<Long> responseSizeBytes, Optional<String> buildTarget, Optional<? extends ImmutableSet<RuleKey>> associatedRuleKeys, Optional<Long> artifactSizeBytes, Optional<String> artifactContentHash, CacheResult cacheResult) {
+    return new FetchResult(responseSizeBytes, buildTarget, associatedRuleKeys, artifactSizeBytes, artifactContentHash, cacheResult);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAsynchronousCache.AbstractFetchResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FetchResult instance
+   */
+  public static FetchResult copyOf(AbstractAsynchronousCache.AbstractFetchResult instance) {
+    if (instance instanceof FetchResult) {
+      return (FetchResult) instance;
+    }
+    return FetchResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FetchResult FetchResult}.
+   * @return A new FetchResult builder
+   */
+  public static FetchResult.Builder builder() {
+    return new FetchResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FetchResult FetchResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Long responseSizeBytes;
+    private @Nullable String buildTarget;
+    private @Nullable ImmutableSet<RuleKey> associatedRuleKeys;
+    private @Nullable Long artifactSizeBytes;
+    private @Nullable String artifactContentHash;
+    private @Nullable CacheResult cacheResult;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractFetchResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.AbstractFetchResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      Optional<String> buildTargetOptional = instance.getBuildTarget();
+      if (buildTargetOptional.isPresent()) {
+        setBuildTarget(buildTargetOptional);
+      }
+      Optional<ImmutableSet<RuleKey>> associatedRuleKeysOptional = instance.getAssociatedRuleKeys();
+      if (associatedRuleKeysOptional.isPresent()) {
+        setAssociatedRuleKeys(associatedRuleKeysOptional);
+      }
+      Optional<Long> artifactSizeBytesOptional = instance.getArtifactSizeBytes();
+      if (artifactSizeBytesOptional.isPresent()) {
+        setArtifactSizeBytes(artifactSizeBytesOptional);
+      }
+      Optional<String> artifactContentHashOptional = instance.getArtifactContentHash();
+      if (artifactContentHashOptional.isPresent()) {
+        setArtifactContentHash(artifactContentHashOptional);
+      }
+      setCacheResult(instance.getCacheResult());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(String buildTarget) {
+      this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getBuildTarget() buildTarget} to buildTarget.
+     * @param buildTarget The value for buildTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTarget(Optional<String> buildTarget) {
+      this.buildTarget = buildTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getAssociatedRuleKeys() associatedRuleKeys} to associatedRuleKeys.
+     * @param associatedRuleKeys The value for associatedRuleKeys
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssociatedRuleKeys(ImmutableSet<RuleKey> associatedRuleKeys) {
+      this.associatedRuleKeys = Objects.requireNonNull(associatedRuleKeys, "associatedRuleKeys");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getAssociatedRuleKeys() associatedRuleKeys} to associatedRuleKeys.
+     * @param associatedRuleKeys The value for associatedRuleKeys
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAssociatedRuleKeys(Optional<? extends ImmutableSet<RuleKey>> associatedRuleKeys) {
+      this.associatedRuleKeys = associatedRuleKeys.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(long artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactSizeBytes() artifactSizeBytes} to artifactSizeBytes.
+     * @param artifactSizeBytes The value for artifactSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactSizeBytes(Optional<Long> artifactSizeBytes) {
+      this.artifactSizeBytes = artifactSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(String artifactContentHash) {
+      this.artifactContentHash = Objects.requireNonNull(artifactContentHash, "artifactContentHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractFetchResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(Optional<String> artifactContentHash) {
+      this.artifactContentHash = artifactContentHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAsynchronousCache.AbstractFetchResult#getCacheResult() cacheResult} attribute.
+     * @param cacheResult The value for cacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResult(CacheResult cacheResult) {
+      this.cacheResult = Objects.requireNonNull(cacheResult, "cacheResult");
+      initBits &= ~INIT_BIT_CACHE_RESULT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link FetchResult FetchResult}.
+     * @return An immutable instance of FetchResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FetchResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FetchResult(
+          null,
+          responseSizeBytes,
+          buildTarget,
+          associatedRuleKeys,
+          artifactSizeBytes,
+          artifactContentHash,
+          cacheResult);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_RESULT) != 0) attributes.add("cacheResult");
+      return "Cannot build FetchResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Return type used by the implementations of this abstract class. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAsynchronousCache.AbstractMultiContainsResult"})
+@Immutable
+@CheckReturnValue
+public final class MultiContainsResult
+    implements AbstractAsynchronousCache.AbstractMultiContainsResult {
+  private final @Nullable Long responseSizeBytes;
+  private final ImmutableMap<RuleKey, CacheResult> cacheResults;
+
+  private MultiContainsResult(
+      Optional<Long> responseSizeBytes,
+      Map<? extends RuleKey, ? extends CacheResult> cacheResults) {
+    this.responseSizeBytes = responseSizeBytes.orElse(null);
+    this.cacheResults = ImmutableMap.copyOf(cacheResults);
+  }
+
+  private MultiContainsResult(
+      MultiContainsResult original,
+      @Nullable Long responseSizeBytes,
+      ImmutableMap<RuleKey, CacheResult> cacheResults) {
+    this.responseSizeBytes = responseSizeBytes;
+    this.cacheResults = cacheResults;
+  }
+
+  /**
+   * @return The value of the {@code responseSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getResponseSizeBytes() {
+    return Optional.ofNullable(responseSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code cacheResults} attribute
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> getCacheResults() {
+    return cacheResults;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getResponseSizeBytes() responseSizeBytes} attribute.
+   * @param value The value for responseSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiContainsResult withResponseSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.responseSizeBytes, newValue)) return this;
+    return new MultiContainsResult(this, newValue, this.cacheResults);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getResponseSizeBytes() responseSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for responseSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiContainsResult withResponseSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.responseSizeBytes, value)) return this;
+    return new MultiContainsResult(this, value, this.cacheResults);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getCacheResults() cacheResults} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the cacheResults map
+   * @return A modified copy of {@code this} object
+   */
+  public final MultiContainsResult withCacheResults(Map<? extends RuleKey, ? extends CacheResult> entries) {
+    if (this.cacheResults == entries) return this;
+    ImmutableMap<RuleKey, CacheResult> newValue = ImmutableMap.copyOf(entries);
+    return new MultiContainsResult(this, this.responseSizeBytes, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MultiContainsResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MultiContainsResult
+        && equalTo((MultiContainsResult) another);
+  }
+
+  private boolean equalTo(MultiContainsResult another) {
+    return Objects.equals(responseSizeBytes, another.responseSizeBytes)
+        && cacheResults.equals(another.cacheResults);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code responseSizeBytes}, {@code cacheResults}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(responseSizeBytes);
+    h += (h << 5) + cacheResults.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MultiContainsResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MultiContainsResult")
+        .omitNullValues()
+        .add("responseSizeBytes", responseSizeBytes)
+        .add("cacheResults", cacheResults)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MultiContainsResult} instance.
+   * @param responseSizeBytes The value for the {@code responseSizeBytes} attribute
+   * @param cacheResults The value for the {@code cacheResults} attribute
+   * @return An immutable MultiContainsResult instance
+   */
+  public static MultiContainsResult of(Optional<Long> responseSizeBytes, Map<? extends RuleKey, ? extends CacheResult> cacheResults) {
+    return new MultiContainsResult(responseSizeBytes, cacheResults);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAsynchronousCache.AbstractMultiContainsResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MultiContainsResult instance
+   */
+  public static MultiContainsResult copyOf(AbstractAsynchronousCache.AbstractMultiContainsResult instance) {
+    if (instance instanceof MultiContainsResult) {
+      return (MultiContainsResult) instance;
+    }
+    return MultiContainsResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link MultiContainsResult MultiContainsResult}.
+   * @return A new MultiContainsResult builder
+   */
+  public static MultiContainsResult.Builder builder() {
+    return new MultiContainsResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MultiContainsResult MultiContainsResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Long responseSizeBytes;
+    private ImmutableMap.Builder<RuleKey, CacheResult> cacheResults = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractMultiContainsResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.AbstractMultiContainsResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> responseSizeBytesOptional = instance.getResponseSizeBytes();
+      if (responseSizeBytesOptional.isPresent()) {
+        setResponseSizeBytes(responseSizeBytesOptional);
+      }
+      putAllCacheResults(instance.getCacheResults());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(long responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getResponseSizeBytes() responseSizeBytes} to responseSizeBytes.
+     * @param responseSizeBytes The value for responseSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResponseSizeBytes(Optional<Long> responseSizeBytes) {
+      this.responseSizeBytes = responseSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getCacheResults() cacheResults} map.
+     * @param key The key in the cacheResults map
+     * @param value The associated value in the cacheResults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheResults(RuleKey key, CacheResult value) {
+      this.cacheResults.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getCacheResults() cacheResults} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putCacheResults(Map.Entry<? extends RuleKey, ? extends CacheResult> entry) {
+      this.cacheResults.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getCacheResults() cacheResults} map. Nulls are not permitted
+     * @param cacheResults The entries that will be added to the cacheResults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheResults(Map<? extends RuleKey, ? extends CacheResult> cacheResults) {
+      this.cacheResults = ImmutableMap.builder();
+      return putAllCacheResults(cacheResults);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractAsynchronousCache.AbstractMultiContainsResult#getCacheResults() cacheResults} map. Nulls are not permitted
+     * @param cacheResults The entries that will be added to the cacheResults map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllCacheResults(Map<? extends RuleKey, ? extends CacheResult> cacheResults) {
+      this.cacheResults.putAll(cacheResults);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link MultiContainsResult MultiContainsResult}.
+     * @return An immutable instance of MultiContainsResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MultiContainsResult build() {
+      return new MultiContainsResult(null, responseSizeBytes, cacheResults.build());
+    }
+  }
+}
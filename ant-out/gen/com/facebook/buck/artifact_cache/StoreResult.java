@@ -0,0 +1,335 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Return type used by the implementations of this abstract class. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAsynchronousCache.AbstractStoreResult"})
+@Immutable
+@CheckReturnValue
+public final class StoreResult
+    implements AbstractAsynchronousCache.AbstractStoreResult {
+  private final @Nullable Long requestSizeBytes;
+  private final @Nullable String artifactContentHash;
+  private final @Nullable Boolean wasStoreSuccessful;
+
+  private StoreResult(
+      Optional<Long> requestSizeBytes,
+      Optional<String> artifactContentHash,
+      Optional<Boolean> wasStoreSuccessful) {
+    this.requestSizeBytes = requestSizeBytes.orElse(null);
+    this.artifactContentHash = artifactContentHash.orElse(null);
+    this.wasStoreSuccessful = wasStoreSuccessful.orElse(null);
+  }
+
+  private StoreResult(
+      StoreResult original,
+      @Nullable Long requestSizeBytes,
+      @Nullable String artifactContentHash,
+      @Nullable Boolean wasStoreSuccessful) {
+    this.requestSizeBytes = requestSizeBytes;
+    this.artifactContentHash = artifactContentHash;
+    this.wasStoreSuccessful = wasStoreSuccessful;
+  }
+
+  /**
+   * @return The value of the {@code requestSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getRequestSizeBytes() {
+    return Optional.ofNullable(requestSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code artifactContentHash} attribute
+   */
+  @Override
+  public Optional<String> getArtifactContentHash() {
+    return Optional.ofNullable(artifactContentHash);
+  }
+
+  /**
+   * @return The value of the {@code wasStoreSuccessful} attribute
+   */
+  @Override
+  public Optional<Boolean> getWasStoreSuccessful() {
+    return Optional.ofNullable(wasStoreSuccessful);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractStoreResult#getRequestSizeBytes() requestSizeBytes} attribute.
+   * @param value The value for requestSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResult withRequestSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equals(this.requestSizeBytes, newValue)) return this;
+    return new StoreResult(this, newValue, this.artifactContentHash, this.wasStoreSuccessful);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractStoreResult#getRequestSizeBytes() requestSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for requestSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResult withRequestSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equals(this.requestSizeBytes, value)) return this;
+    return new StoreResult(this, value, this.artifactContentHash, this.wasStoreSuccessful);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractStoreResult#getArtifactContentHash() artifactContentHash} attribute.
+   * @param value The value for artifactContentHash
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResult withArtifactContentHash(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "artifactContentHash");
+    if (Objects.equals(this.artifactContentHash, newValue)) return this;
+    return new StoreResult(this, this.requestSizeBytes, newValue, this.wasStoreSuccessful);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractStoreResult#getArtifactContentHash() artifactContentHash} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for artifactContentHash
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResult withArtifactContentHash(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.artifactContentHash, value)) return this;
+    return new StoreResult(this, this.requestSizeBytes, value, this.wasStoreSuccessful);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAsynchronousCache.AbstractStoreResult#getWasStoreSuccessful() wasStoreSuccessful} attribute.
+   * @param value The value for wasStoreSuccessful
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResult withWasStoreSuccessful(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.wasStoreSuccessful, newValue)) return this;
+    return new StoreResult(this, this.requestSizeBytes, this.artifactContentHash, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAsynchronousCache.AbstractStoreResult#getWasStoreSuccessful() wasStoreSuccessful} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for wasStoreSuccessful
+   * @return A modified copy of {@code this} object
+   */
+  public final StoreResult withWasStoreSuccessful(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.wasStoreSuccessful, value)) return this;
+    return new StoreResult(this, this.requestSizeBytes, this.artifactContentHash, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StoreResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StoreResult
+        && equalTo((StoreResult) another);
+  }
+
+  private boolean equalTo(StoreResult another) {
+    return Objects.equals(requestSizeBytes, another.requestSizeBytes)
+        && Objects.equals(artifactContentHash, another.artifactContentHash)
+        && Objects.equals(wasStoreSuccessful, another.wasStoreSuccessful);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code requestSizeBytes}, {@code artifactContentHash}, {@code wasStoreSuccessful}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(requestSizeBytes);
+    h += (h << 5) + Objects.hashCode(artifactContentHash);
+    h += (h << 5) + Objects.hashCode(wasStoreSuccessful);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StoreResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StoreResult")
+        .omitNullValues()
+        .add("requestSizeBytes", requestSizeBytes)
+        .add("artifactContentHash", artifactContentHash)
+        .add("wasStoreSuccessful", wasStoreSuccessful)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StoreResult} instance.
+   * @param requestSizeBytes The value for the {@code requestSizeBytes} attribute
+   * @param artifactContentHash The value for the {@code artifactContentHash} attribute
+   * @param wasStoreSuccessful The value for the {@code wasStoreSuccessful} attribute
+   * @return An immutable StoreResult instance
+   */
+  public static StoreResult of(Optional<Long> requestSizeBytes, Optional<String> artifactContentHash, Optional<Boolean> wasStoreSuccessful) {
+    return new StoreResult(requestSizeBytes, artifactContentHash, wasStoreSuccessful);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAsynchronousCache.AbstractStoreResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StoreResult instance
+   */
+  public static StoreResult copyOf(AbstractAsynchronousCache.AbstractStoreResult instance) {
+    if (instance instanceof StoreResult) {
+      return (StoreResult) instance;
+    }
+    return StoreResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link StoreResult StoreResult}.
+   * @return A new StoreResult builder
+   */
+  public static StoreResult.Builder builder() {
+    return new StoreResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StoreResult StoreResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Long requestSizeBytes;
+    private @Nullable String artifactContentHash;
+    private @Nullable Boolean wasStoreSuccessful;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractStoreResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractAsynchronousCache.AbstractStoreResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<Long> requestSizeBytesOptional = instance.getRequestSizeBytes();
+      if (requestSizeBytesOptional.isPresent()) {
+        setRequestSizeBytes(requestSizeBytesOptional);
+      }
+      Optional<String> artifactContentHashOptional = instance.getArtifactContentHash();
+      if (artifactContentHashOptional.isPresent()) {
+        setArtifactContentHash(artifactContentHashOptional);
+      }
+      Optional<Boolean> wasStoreSuccessfulOptional = instance.getWasStoreSuccessful();
+      if (wasStoreSuccessfulOptional.isPresent()) {
+        setWasStoreSuccessful(wasStoreSuccessfulOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractStoreResult#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestSizeBytes(long requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractStoreResult#getRequestSizeBytes() requestSizeBytes} to requestSizeBytes.
+     * @param requestSizeBytes The value for requestSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRequestSizeBytes(Optional<Long> requestSizeBytes) {
+      this.requestSizeBytes = requestSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractStoreResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(String artifactContentHash) {
+      this.artifactContentHash = Objects.requireNonNull(artifactContentHash, "artifactContentHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractStoreResult#getArtifactContentHash() artifactContentHash} to artifactContentHash.
+     * @param artifactContentHash The value for artifactContentHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactContentHash(Optional<String> artifactContentHash) {
+      this.artifactContentHash = artifactContentHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractStoreResult#getWasStoreSuccessful() wasStoreSuccessful} to wasStoreSuccessful.
+     * @param wasStoreSuccessful The value for wasStoreSuccessful
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWasStoreSuccessful(boolean wasStoreSuccessful) {
+      this.wasStoreSuccessful = wasStoreSuccessful;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAsynchronousCache.AbstractStoreResult#getWasStoreSuccessful() wasStoreSuccessful} to wasStoreSuccessful.
+     * @param wasStoreSuccessful The value for wasStoreSuccessful
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWasStoreSuccessful(Optional<Boolean> wasStoreSuccessful) {
+      this.wasStoreSuccessful = wasStoreSuccessful.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link StoreResult StoreResult}.
+     * @return An immutable instance of StoreResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StoreResult build() {
+      return new StoreResult(null, requestSizeBytes, artifactContentHash, wasStoreSuccessful);
+    }
+  }
+}
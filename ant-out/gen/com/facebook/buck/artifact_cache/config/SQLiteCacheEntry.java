@@ -0,0 +1,341 @@
+package com.facebook.buck.artifact_cache.config;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.sqlite.SQLiteConfig;
+
+/**
+ * Immutable implementation of {@link AbstractSQLiteCacheEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SQLiteCacheEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSQLiteCacheEntry"})
+@Immutable
+@CheckReturnValue
+public final class SQLiteCacheEntry extends AbstractSQLiteCacheEntry {
+  private final @Nullable String name;
+  private final Path cacheDir;
+  private final @Nullable Long maxSizeBytes;
+  private final @Nullable Long maxInlinedSizeBytes;
+  private final CacheReadMode cacheReadMode;
+  private final SQLiteConfig.JournalMode journalMode;
+
+  private SQLiteCacheEntry(SQLiteCacheEntry.Builder builder) {
+    this.name = builder.name;
+    this.cacheDir = builder.cacheDir;
+    this.maxSizeBytes = builder.maxSizeBytes;
+    this.maxInlinedSizeBytes = builder.maxInlinedSizeBytes;
+    this.cacheReadMode = builder.cacheReadMode;
+    this.journalMode = builder.journalMode != null
+        ? builder.journalMode
+        : Objects.requireNonNull(super.getJournalMode(), "journalMode");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public Optional<String> getName() {
+    return Optional.ofNullable(name);
+  }
+
+  /**
+   * @return The value of the {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    return cacheDir;
+  }
+
+  /**
+   * @return The value of the {@code maxSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxSizeBytes() {
+    return Optional.ofNullable(maxSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code maxInlinedSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxInlinedSizeBytes() {
+    return Optional.ofNullable(maxInlinedSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code journalMode} attribute
+   */
+  @Override
+  public SQLiteConfig.JournalMode getJournalMode() {
+    return journalMode;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SQLiteCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SQLiteCacheEntry
+        && equalTo((SQLiteCacheEntry) another);
+  }
+
+  private boolean equalTo(SQLiteCacheEntry another) {
+    return Objects.equals(name, another.name)
+        && cacheDir.equals(another.cacheDir)
+        && Objects.equals(maxSizeBytes, another.maxSizeBytes)
+        && Objects.equals(maxInlinedSizeBytes, another.maxInlinedSizeBytes)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && journalMode.equals(another.journalMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code cacheDir}, {@code maxSizeBytes}, {@code maxInlinedSizeBytes}, {@code cacheReadMode}, {@code journalMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(name);
+    h += (h << 5) + cacheDir.hashCode();
+    h += (h << 5) + Objects.hashCode(maxSizeBytes);
+    h += (h << 5) + Objects.hashCode(maxInlinedSizeBytes);
+    h += (h << 5) + cacheReadMode.hashCode();
+    h += (h << 5) + journalMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SQLiteCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SQLiteCacheEntry")
+        .omitNullValues()
+        .add("name", name)
+        .add("cacheDir", cacheDir)
+        .add("maxSizeBytes", maxSizeBytes)
+        .add("maxInlinedSizeBytes", maxInlinedSizeBytes)
+        .add("cacheReadMode", cacheReadMode)
+        .add("journalMode", journalMode)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link SQLiteCacheEntry SQLiteCacheEntry}.
+   * @return A new SQLiteCacheEntry builder
+   */
+  public static SQLiteCacheEntry.Builder builder() {
+    return new SQLiteCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SQLiteCacheEntry SQLiteCacheEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_DIR = 0x1L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String name;
+    private @Nullable Path cacheDir;
+    private @Nullable Long maxSizeBytes;
+    private @Nullable Long maxInlinedSizeBytes;
+    private @Nullable CacheReadMode cacheReadMode;
+    private @Nullable SQLiteConfig.JournalMode journalMode;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SQLiteCacheEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SQLiteCacheEntry instance) {
+      return from((AbstractSQLiteCacheEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSQLiteCacheEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractSQLiteCacheEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<String> nameOptional = instance.getName();
+      if (nameOptional.isPresent()) {
+        setName(nameOptional);
+      }
+      setCacheDir(instance.getCacheDir());
+      Optional<Long> maxSizeBytesOptional = instance.getMaxSizeBytes();
+      if (maxSizeBytesOptional.isPresent()) {
+        setMaxSizeBytes(maxSizeBytesOptional);
+      }
+      Optional<Long> maxInlinedSizeBytesOptional = instance.getMaxInlinedSizeBytes();
+      if (maxInlinedSizeBytesOptional.isPresent()) {
+        setMaxInlinedSizeBytes(maxInlinedSizeBytesOptional);
+      }
+      setCacheReadMode(instance.getCacheReadMode());
+      setJournalMode(instance.getJournalMode());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSQLiteCacheEntry#getName() name} to name.
+     * @param name The value for name
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSQLiteCacheEntry#getName() name} to name.
+     * @param name The value for name
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(Optional<String> name) {
+      this.name = name.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSQLiteCacheEntry#getCacheDir() cacheDir} attribute.
+     * @param cacheDir The value for cacheDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheDir(Path cacheDir) {
+      this.cacheDir = Objects.requireNonNull(cacheDir, "cacheDir");
+      initBits &= ~INIT_BIT_CACHE_DIR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractSQLiteCacheEntry#getMaxSizeBytes() maxSizeBytes} to maxSizeBytes.
+     * @param maxSizeBytes The value for maxSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxSizeBytes(long maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSQLiteCacheEntry#getMaxSizeBytes() maxSizeBytes} to maxSizeBytes.
+     * @param maxSizeBytes The value for maxSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxSizeBytes(Optional<Long> maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSQLiteCacheEntry#getMaxInlinedSizeBytes() maxInlinedSizeBytes} to maxInlinedSizeBytes.
+     * @param maxInlinedSizeBytes The value for maxInlinedSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxInlinedSizeBytes(long maxInlinedSizeBytes) {
+      this.maxInlinedSizeBytes = maxInlinedSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSQLiteCacheEntry#getMaxInlinedSizeBytes() maxInlinedSizeBytes} to maxInlinedSizeBytes.
+     * @param maxInlinedSizeBytes The value for maxInlinedSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxInlinedSizeBytes(Optional<Long> maxInlinedSizeBytes) {
+      this.maxInlinedSizeBytes = maxInlinedSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSQLiteCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCacheReadMode(CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Objects.requireNonNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractSQLiteCacheEntry#getJournalMode() journalMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractSQLiteCacheEntry#getJournalMode() journalMode}.</em>
+     * @param journalMode The value for journalMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJournalMode(SQLiteConfig.JournalMode journalMode) {
+      this.journalMode = Objects.requireNonNull(journalMode, "journalMode");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link SQLiteCacheEntry SQLiteCacheEntry}.
+     * @return An immutable instance of SQLiteCacheEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SQLiteCacheEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SQLiteCacheEntry(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_DIR) != 0) attributes.add("cacheDir");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      return "Cannot build SQLiteCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
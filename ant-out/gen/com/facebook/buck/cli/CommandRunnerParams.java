@@ -0,0 +1,2536 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.model.actiongraph.computation.ActionGraphProvider;
+import com.facebook.buck.core.module.BuckModuleManager;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.knowntypes.KnownRuleTypesProvider;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.httpserver.WebServer;
+import com.facebook.buck.io.ExecutableFinder;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.io.watchman.Watchman;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.log.InvocationInfo;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.util.CloseableMemoizedSupplier;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.ProcessManager;
+import com.facebook.buck.util.cache.impl.StackedFileHashCache;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.timing.Clock;
+import com.facebook.buck.util.versioncontrol.VersionControlStatsGenerator;
+import com.facebook.buck.versions.InstrumentedVersionedTargetGraphCache;
+import com.facebook.buck.worker.WorkerProcessPool;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.pf4j.PluginManager;
+
+/**
+ * Immutable implementation of {@link AbstractCommandRunnerParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CommandRunnerParams.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCommandRunnerParams"})
+@Immutable
+@CheckReturnValue
+public final class CommandRunnerParams extends AbstractCommandRunnerParams {
+  private final Console console;
+  private final InputStream stdIn;
+  private final Cell cell;
+  private final Watchman watchman;
+  private final InstrumentedVersionedTargetGraphCache versionedTargetGraphCache;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final TypeCoercerFactory typeCoercerFactory;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final Clock clock;
+  private final VersionControlStatsGenerator versionControlStatsGenerator;
+  private final @Nullable ProcessManager processManager;
+  private final @Nullable WebServer webServer;
+  private final @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final BuckConfig buckConfig;
+  private final StackedFileHashCache fileHashCache;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final ScheduledExecutorService scheduledExecutor;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final ActionGraphProvider actionGraphProvider;
+  private final KnownRuleTypesProvider knownRuleTypesProvider;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final @Nullable InvocationInfo invocationInfo;
+  private final @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+  private final ProcessExecutor processExecutor;
+  private final ExecutableFinder executableFinder;
+  private final PluginManager pluginManager;
+  private final BuckModuleManager buckModuleManager;
+  private final CloseableMemoizedSupplier<ForkJoinPool> poolSupplier;
+
+  private CommandRunnerParams(
+      Console console,
+      InputStream stdIn,
+      Cell cell,
+      Watchman watchman,
+      InstrumentedVersionedTargetGraphCache versionedTargetGraphCache,
+      ArtifactCacheFactory artifactCacheFactory,
+      TypeCoercerFactory typeCoercerFactory,
+      Parser parser,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      Map<String, ? extends String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Clock clock,
+      VersionControlStatsGenerator versionControlStatsGenerator,
+      Optional<? extends ProcessManager> processManager,
+      Optional<? extends WebServer> webServer,
+      Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools,
+      BuckConfig buckConfig,
+      StackedFileHashCache fileHashCache,
+      Map<ExecutorPool, ? extends ListeningExecutorService> executors,
+      ScheduledExecutorService scheduledExecutor,
+      BuildEnvironmentDescription buildEnvironmentDescription,
+      ActionGraphProvider actionGraphProvider,
+      KnownRuleTypesProvider knownRuleTypesProvider,
+      BuildInfoStoreManager buildInfoStoreManager,
+      Optional<? extends InvocationInfo> invocationInfo,
+      Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      RuleKeyConfiguration ruleKeyConfiguration,
+      ProcessExecutor processExecutor,
+      ExecutableFinder executableFinder,
+      PluginManager pluginManager,
+      BuckModuleManager buckModuleManager,
+      CloseableMemoizedSupplier<ForkJoinPool> poolSupplier) {
+    this.console = Objects.requireNonNull(console, "console");
+    this.stdIn = Objects.requireNonNull(stdIn, "stdIn");
+    this.cell = Objects.requireNonNull(cell, "cell");
+    this.watchman = Objects.requireNonNull(watchman, "watchman");
+    this.versionedTargetGraphCache = Objects.requireNonNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+    this.artifactCacheFactory = Objects.requireNonNull(artifactCacheFactory, "artifactCacheFactory");
+    this.typeCoercerFactory = Objects.requireNonNull(typeCoercerFactory, "typeCoercerFactory");
+    this.parser = Objects.requireNonNull(parser, "parser");
+    this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+    this.platform = Objects.requireNonNull(platform, "platform");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+    this.clock = Objects.requireNonNull(clock, "clock");
+    this.versionControlStatsGenerator = Objects.requireNonNull(versionControlStatsGenerator, "versionControlStatsGenerator");
+    this.processManager = processManager.orElse(null);
+    this.webServer = webServer.orElse(null);
+    this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+    this.buckConfig = Objects.requireNonNull(buckConfig, "buckConfig");
+    this.fileHashCache = Objects.requireNonNull(fileHashCache, "fileHashCache");
+    this.executors = Maps.immutableEnumMap(executors);
+    this.scheduledExecutor = Objects.requireNonNull(scheduledExecutor, "scheduledExecutor");
+    this.buildEnvironmentDescription = Objects.requireNonNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+    this.actionGraphProvider = Objects.requireNonNull(actionGraphProvider, "actionGraphProvider");
+    this.knownRuleTypesProvider = Objects.requireNonNull(knownRuleTypesProvider, "knownRuleTypesProvider");
+    this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+    this.invocationInfo = invocationInfo.orElse(null);
+    this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler.orElse(null);
+    this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+    this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+    this.pluginManager = Objects.requireNonNull(pluginManager, "pluginManager");
+    this.buckModuleManager = Objects.requireNonNull(buckModuleManager, "buckModuleManager");
+    this.poolSupplier = Objects.requireNonNull(poolSupplier, "poolSupplier");
+  }
+
+  private CommandRunnerParams(
+      CommandRunnerParams original,
+      Console console,
+      InputStream stdIn,
+      Cell cell,
+      Watchman watchman,
+      InstrumentedVersionedTargetGraphCache versionedTargetGraphCache,
+      ArtifactCacheFactory artifactCacheFactory,
+      TypeCoercerFactory typeCoercerFactory,
+      Parser parser,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      ImmutableMap<String, String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Clock clock,
+      VersionControlStatsGenerator versionControlStatsGenerator,
+      @Nullable ProcessManager processManager,
+      @Nullable WebServer webServer,
+      @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
+      BuckConfig buckConfig,
+      StackedFileHashCache fileHashCache,
+      ImmutableMap<ExecutorPool, ListeningExecutorService> executors,
+      ScheduledExecutorService scheduledExecutor,
+      BuildEnvironmentDescription buildEnvironmentDescription,
+      ActionGraphProvider actionGraphProvider,
+      KnownRuleTypesProvider knownRuleTypesProvider,
+      BuildInfoStoreManager buildInfoStoreManager,
+      @Nullable InvocationInfo invocationInfo,
+      @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler,
+      ProjectFilesystemFactory projectFilesystemFactory,
+      RuleKeyConfiguration ruleKeyConfiguration,
+      ProcessExecutor processExecutor,
+      ExecutableFinder executableFinder,
+      PluginManager pluginManager,
+      BuckModuleManager buckModuleManager,
+      CloseableMemoizedSupplier<ForkJoinPool> poolSupplier) {
+    this.console = console;
+    this.stdIn = stdIn;
+    this.cell = cell;
+    this.watchman = watchman;
+    this.versionedTargetGraphCache = versionedTargetGraphCache;
+    this.artifactCacheFactory = artifactCacheFactory;
+    this.typeCoercerFactory = typeCoercerFactory;
+    this.parser = parser;
+    this.buckEventBus = buckEventBus;
+    this.platform = platform;
+    this.environment = environment;
+    this.javaPackageFinder = javaPackageFinder;
+    this.clock = clock;
+    this.versionControlStatsGenerator = versionControlStatsGenerator;
+    this.processManager = processManager;
+    this.webServer = webServer;
+    this.persistentWorkerPools = persistentWorkerPools;
+    this.buckConfig = buckConfig;
+    this.fileHashCache = fileHashCache;
+    this.executors = executors;
+    this.scheduledExecutor = scheduledExecutor;
+    this.buildEnvironmentDescription = buildEnvironmentDescription;
+    this.actionGraphProvider = actionGraphProvider;
+    this.knownRuleTypesProvider = knownRuleTypesProvider;
+    this.buildInfoStoreManager = buildInfoStoreManager;
+    this.invocationInfo = invocationInfo;
+    this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler;
+    this.projectFilesystemFactory = projectFilesystemFactory;
+    this.ruleKeyConfiguration = ruleKeyConfiguration;
+    this.processExecutor = processExecutor;
+    this.executableFinder = executableFinder;
+    this.pluginManager = pluginManager;
+    this.buckModuleManager = buckModuleManager;
+    this.poolSupplier = poolSupplier;
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code stdIn} attribute
+   */
+  @Override
+  public InputStream getStdIn() {
+    return stdIn;
+  }
+
+  /**
+   * @return The value of the {@code cell} attribute
+   */
+  @Override
+  public Cell getCell() {
+    return cell;
+  }
+
+  /**
+   * @return The value of the {@code watchman} attribute
+   */
+  @Override
+  public Watchman getWatchman() {
+    return watchman;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public InstrumentedVersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code typeCoercerFactory} attribute
+   */
+  @Override
+  public TypeCoercerFactory getTypeCoercerFactory() {
+    return typeCoercerFactory;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code versionControlStatsGenerator} attribute
+   */
+  @Override
+  public VersionControlStatsGenerator getVersionControlStatsGenerator() {
+    return versionControlStatsGenerator;
+  }
+
+  /**
+   * @return The value of the {@code processManager} attribute
+   */
+  @Override
+  public Optional<ProcessManager> getProcessManager() {
+    return Optional.ofNullable(processManager);
+  }
+
+  /**
+   * @return The value of the {@code webServer} attribute
+   */
+  @Override
+  public Optional<WebServer> getWebServer() {
+    return Optional.ofNullable(webServer);
+  }
+
+  /**
+   * @return The value of the {@code persistentWorkerPools} attribute
+   */
+  @Override
+  public Optional<ConcurrentMap<String, WorkerProcessPool>> getPersistentWorkerPools() {
+    return Optional.ofNullable(persistentWorkerPools);
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code fileHashCache} attribute
+   */
+  @Override
+  public StackedFileHashCache getFileHashCache() {
+    return fileHashCache;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code scheduledExecutor} attribute
+   */
+  @Override
+  public ScheduledExecutorService getScheduledExecutor() {
+    return scheduledExecutor;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphProvider} attribute
+   */
+  @Override
+  public ActionGraphProvider getActionGraphProvider() {
+    return actionGraphProvider;
+  }
+
+  /**
+   * @return The value of the {@code knownRuleTypesProvider} attribute
+   */
+  @Override
+  public KnownRuleTypesProvider getKnownRuleTypesProvider() {
+    return knownRuleTypesProvider;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code invocationInfo} attribute
+   */
+  @Override
+  public Optional<InvocationInfo> getInvocationInfo() {
+    return Optional.ofNullable(invocationInfo);
+  }
+
+  /**
+   * @return The value of the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   */
+  @Override
+  public Optional<RuleKeyCacheRecycler<RuleKey>> getDefaultRuleKeyFactoryCacheRecycler() {
+    return Optional.ofNullable(defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  public ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * @return The value of the {@code pluginManager} attribute
+   */
+  @Override
+  public PluginManager getPluginManager() {
+    return pluginManager;
+  }
+
+  /**
+   * @return The value of the {@code buckModuleManager} attribute
+   */
+  @Override
+  public BuckModuleManager getBuckModuleManager() {
+    return buckModuleManager;
+  }
+
+  /**
+   * @return The value of the {@code poolSupplier} attribute
+   */
+  @Override
+  public CloseableMemoizedSupplier<ForkJoinPool> getPoolSupplier() {
+    return poolSupplier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getConsole() console} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for console
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withConsole(Console value) {
+    if (this.console == value) return this;
+    Console newValue = Objects.requireNonNull(value, "console");
+    return new CommandRunnerParams(
+        this,
+        newValue,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getStdIn() stdIn} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdIn
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withStdIn(InputStream value) {
+    if (this.stdIn == value) return this;
+    InputStream newValue = Objects.requireNonNull(value, "stdIn");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        newValue,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getCell() cell} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cell
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withCell(Cell value) {
+    if (this.cell == value) return this;
+    Cell newValue = Objects.requireNonNull(value, "cell");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        newValue,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getWatchman() watchman} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for watchman
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withWatchman(Watchman value) {
+    if (this.watchman == value) return this;
+    Watchman newValue = Objects.requireNonNull(value, "watchman");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        newValue,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionedTargetGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withVersionedTargetGraphCache(InstrumentedVersionedTargetGraphCache value) {
+    if (this.versionedTargetGraphCache == value) return this;
+    InstrumentedVersionedTargetGraphCache newValue = Objects.requireNonNull(value, "versionedTargetGraphCache");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        newValue,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getArtifactCacheFactory() artifactCacheFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactCacheFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withArtifactCacheFactory(ArtifactCacheFactory value) {
+    if (this.artifactCacheFactory == value) return this;
+    ArtifactCacheFactory newValue = Objects.requireNonNull(value, "artifactCacheFactory");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        newValue,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getTypeCoercerFactory() typeCoercerFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for typeCoercerFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withTypeCoercerFactory(TypeCoercerFactory value) {
+    if (this.typeCoercerFactory == value) return this;
+    TypeCoercerFactory newValue = Objects.requireNonNull(value, "typeCoercerFactory");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        newValue,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getParser() parser} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for parser
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withParser(Parser value) {
+    if (this.parser == value) return this;
+    Parser newValue = Objects.requireNonNull(value, "parser");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        newValue,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "buckEventBus");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        newValue,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getPlatform() platform} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Objects.requireNonNull(value, "platform");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        newValue,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCommandRunnerParams#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        newValue,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Objects.requireNonNull(value, "javaPackageFinder");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        newValue,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getClock() clock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for clock
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withClock(Clock value) {
+    if (this.clock == value) return this;
+    Clock newValue = Objects.requireNonNull(value, "clock");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        newValue,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getVersionControlStatsGenerator() versionControlStatsGenerator} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionControlStatsGenerator
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withVersionControlStatsGenerator(VersionControlStatsGenerator value) {
+    if (this.versionControlStatsGenerator == value) return this;
+    VersionControlStatsGenerator newValue = Objects.requireNonNull(value, "versionControlStatsGenerator");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        newValue,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getProcessManager() processManager} attribute.
+   * @param value The value for processManager
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withProcessManager(ProcessManager value) {
+    @Nullable ProcessManager newValue = Objects.requireNonNull(value, "processManager");
+    if (this.processManager == newValue) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        newValue,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getProcessManager() processManager} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for processManager
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withProcessManager(Optional<? extends ProcessManager> optional) {
+    @Nullable ProcessManager value = optional.orElse(null);
+    if (this.processManager == value) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        value,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getWebServer() webServer} attribute.
+   * @param value The value for webServer
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withWebServer(WebServer value) {
+    @Nullable WebServer newValue = Objects.requireNonNull(value, "webServer");
+    if (this.webServer == newValue) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        newValue,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getWebServer() webServer} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for webServer
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withWebServer(Optional<? extends WebServer> optional) {
+    @Nullable WebServer value = optional.orElse(null);
+    if (this.webServer == value) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        value,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * @param value The value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> newValue = Objects.requireNonNull(value, "persistentWorkerPools");
+    if (this.persistentWorkerPools == newValue) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        newValue,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withPersistentWorkerPools(Optional<? extends ConcurrentMap<String, WorkerProcessPool>> optional) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> value = optional.orElse(null);
+    if (this.persistentWorkerPools == value) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        value,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckConfig() buckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckConfig(BuckConfig value) {
+    if (this.buckConfig == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "buckConfig");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        newValue,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getFileHashCache() fileHashCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileHashCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withFileHashCache(StackedFileHashCache value) {
+    if (this.fileHashCache == value) return this;
+    StackedFileHashCache newValue = Objects.requireNonNull(value, "fileHashCache");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        newValue,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCommandRunnerParams#getExecutors() executors} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the executors map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) return this;
+    ImmutableMap<ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        newValue,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getScheduledExecutor() scheduledExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for scheduledExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withScheduledExecutor(ScheduledExecutorService value) {
+    if (this.scheduledExecutor == value) return this;
+    ScheduledExecutorService newValue = Objects.requireNonNull(value, "scheduledExecutor");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        newValue,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildEnvironmentDescription
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuildEnvironmentDescription(BuildEnvironmentDescription value) {
+    if (this.buildEnvironmentDescription == value) return this;
+    BuildEnvironmentDescription newValue = Objects.requireNonNull(value, "buildEnvironmentDescription");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        newValue,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getActionGraphProvider() actionGraphProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraphProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withActionGraphProvider(ActionGraphProvider value) {
+    if (this.actionGraphProvider == value) return this;
+    ActionGraphProvider newValue = Objects.requireNonNull(value, "actionGraphProvider");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        newValue,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getKnownRuleTypesProvider() knownRuleTypesProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for knownRuleTypesProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withKnownRuleTypesProvider(KnownRuleTypesProvider value) {
+    if (this.knownRuleTypesProvider == value) return this;
+    KnownRuleTypesProvider newValue = Objects.requireNonNull(value, "knownRuleTypesProvider");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        newValue,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildInfoStoreManager
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuildInfoStoreManager(BuildInfoStoreManager value) {
+    if (this.buildInfoStoreManager == value) return this;
+    BuildInfoStoreManager newValue = Objects.requireNonNull(value, "buildInfoStoreManager");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        newValue,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} attribute.
+   * @param value The value for invocationInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withInvocationInfo(InvocationInfo value) {
+    @Nullable InvocationInfo newValue = Objects.requireNonNull(value, "invocationInfo");
+    if (this.invocationInfo == newValue) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        newValue,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for invocationInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withInvocationInfo(Optional<? extends InvocationInfo> optional) {
+    @Nullable InvocationInfo value = optional.orElse(null);
+    if (this.invocationInfo == value) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        value,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} attribute.
+   * @param value The value for defaultRuleKeyFactoryCacheRecycler
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withDefaultRuleKeyFactoryCacheRecycler(RuleKeyCacheRecycler<RuleKey> value) {
+    @Nullable RuleKeyCacheRecycler<RuleKey> newValue = Objects.requireNonNull(value, "defaultRuleKeyFactoryCacheRecycler");
+    if (this.defaultRuleKeyFactoryCacheRecycler == newValue) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        newValue,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultRuleKeyFactoryCacheRecycler
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withDefaultRuleKeyFactoryCacheRecycler(Optional<? extends RuleKeyCacheRecycler<RuleKey>> optional) {
+    @Nullable RuleKeyCacheRecycler<RuleKey> value = optional.orElse(null);
+    if (this.defaultRuleKeyFactoryCacheRecycler == value) return this;
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        value,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystemFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withProjectFilesystemFactory(ProjectFilesystemFactory value) {
+    if (this.projectFilesystemFactory == value) return this;
+    ProjectFilesystemFactory newValue = Objects.requireNonNull(value, "projectFilesystemFactory");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        newValue,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getRuleKeyConfiguration() ruleKeyConfiguration} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyConfiguration
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withRuleKeyConfiguration(RuleKeyConfiguration value) {
+    if (this.ruleKeyConfiguration == value) return this;
+    RuleKeyConfiguration newValue = Objects.requireNonNull(value, "ruleKeyConfiguration");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        newValue,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getProcessExecutor() processExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withProcessExecutor(ProcessExecutor value) {
+    if (this.processExecutor == value) return this;
+    ProcessExecutor newValue = Objects.requireNonNull(value, "processExecutor");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        newValue,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getExecutableFinder() executableFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for executableFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withExecutableFinder(ExecutableFinder value) {
+    if (this.executableFinder == value) return this;
+    ExecutableFinder newValue = Objects.requireNonNull(value, "executableFinder");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        newValue,
+        this.pluginManager,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getPluginManager() pluginManager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pluginManager
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withPluginManager(PluginManager value) {
+    if (this.pluginManager == value) return this;
+    PluginManager newValue = Objects.requireNonNull(value, "pluginManager");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        newValue,
+        this.buckModuleManager,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckModuleManager() buckModuleManager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckModuleManager
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckModuleManager(BuckModuleManager value) {
+    if (this.buckModuleManager == value) return this;
+    BuckModuleManager newValue = Objects.requireNonNull(value, "buckModuleManager");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        newValue,
+        this.poolSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getPoolSupplier() poolSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for poolSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withPoolSupplier(CloseableMemoizedSupplier<ForkJoinPool> value) {
+    if (this.poolSupplier == value) return this;
+    CloseableMemoizedSupplier<ForkJoinPool> newValue = Objects.requireNonNull(value, "poolSupplier");
+    return new CommandRunnerParams(
+        this,
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.watchman,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.typeCoercerFactory,
+        this.parser,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.scheduledExecutor,
+        this.buildEnvironmentDescription,
+        this.actionGraphProvider,
+        this.knownRuleTypesProvider,
+        this.buildInfoStoreManager,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler,
+        this.projectFilesystemFactory,
+        this.ruleKeyConfiguration,
+        this.processExecutor,
+        this.executableFinder,
+        this.pluginManager,
+        this.buckModuleManager,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CommandRunnerParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CommandRunnerParams
+        && equalTo((CommandRunnerParams) another);
+  }
+
+  private boolean equalTo(CommandRunnerParams another) {
+    return console.equals(another.console)
+        && stdIn.equals(another.stdIn)
+        && cell.equals(another.cell)
+        && watchman.equals(another.watchman)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && typeCoercerFactory.equals(another.typeCoercerFactory)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && clock.equals(another.clock)
+        && versionControlStatsGenerator.equals(another.versionControlStatsGenerator)
+        && Objects.equals(processManager, another.processManager)
+        && Objects.equals(webServer, another.webServer)
+        && Objects.equals(persistentWorkerPools, another.persistentWorkerPools)
+        && buckConfig.equals(another.buckConfig)
+        && fileHashCache.equals(another.fileHashCache)
+        && executors.equals(another.executors)
+        && scheduledExecutor.equals(another.scheduledExecutor)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && actionGraphProvider.equals(another.actionGraphProvider)
+        && knownRuleTypesProvider.equals(another.knownRuleTypesProvider)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && Objects.equals(invocationInfo, another.invocationInfo)
+        && Objects.equals(defaultRuleKeyFactoryCacheRecycler, another.defaultRuleKeyFactoryCacheRecycler)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration)
+        && processExecutor.equals(another.processExecutor)
+        && executableFinder.equals(another.executableFinder)
+        && pluginManager.equals(another.pluginManager)
+        && buckModuleManager.equals(another.buckModuleManager)
+        && poolSupplier.equals(another.poolSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code stdIn}, {@code cell}, {@code watchman}, {@code versionedTargetGraphCache}, {@code artifactCacheFactory}, {@code typeCoercerFactory}, {@code parser}, {@code buckEventBus}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code clock}, {@code versionControlStatsGenerator}, {@code processManager}, {@code webServer}, {@code persistentWorkerPools}, {@code buckConfig}, {@code fileHashCache}, {@code executors}, {@code scheduledExecutor}, {@code buildEnvironmentDescription}, {@code actionGraphProvider}, {@code knownRuleTypesProvider}, {@code buildInfoStoreManager}, {@code invocationInfo}, {@code defaultRuleKeyFactoryCacheRecycler}, {@code projectFilesystemFactory}, {@code ruleKeyConfiguration}, {@code processExecutor}, {@code executableFinder}, {@code pluginManager}, {@code buckModuleManager}, {@code poolSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + stdIn.hashCode();
+    h += (h << 5) + cell.hashCode();
+    h += (h << 5) + watchman.hashCode();
+    h += (h << 5) + versionedTargetGraphCache.hashCode();
+    h += (h << 5) + artifactCacheFactory.hashCode();
+    h += (h << 5) + typeCoercerFactory.hashCode();
+    h += (h << 5) + parser.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + versionControlStatsGenerator.hashCode();
+    h += (h << 5) + Objects.hashCode(processManager);
+    h += (h << 5) + Objects.hashCode(webServer);
+    h += (h << 5) + Objects.hashCode(persistentWorkerPools);
+    h += (h << 5) + buckConfig.hashCode();
+    h += (h << 5) + fileHashCache.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + scheduledExecutor.hashCode();
+    h += (h << 5) + buildEnvironmentDescription.hashCode();
+    h += (h << 5) + actionGraphProvider.hashCode();
+    h += (h << 5) + knownRuleTypesProvider.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + Objects.hashCode(invocationInfo);
+    h += (h << 5) + Objects.hashCode(defaultRuleKeyFactoryCacheRecycler);
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + executableFinder.hashCode();
+    h += (h << 5) + pluginManager.hashCode();
+    h += (h << 5) + buckModuleManager.hashCode();
+    h += (h << 5) + poolSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CommandRunnerParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CommandRunnerParams")
+        .omitNullValues()
+        .add("console", console)
+        .add("stdIn", stdIn)
+        .add("cell", cell)
+        .add("watchman", watchman)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("typeCoercerFactory", typeCoercerFactory)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("clock", clock)
+        .add("versionControlStatsGenerator", versionControlStatsGenerator)
+        .add("processManager", processManager)
+        .add("webServer", webServer)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("buckConfig", buckConfig)
+        .add("fileHashCache", fileHashCache)
+        .add("executors", executors)
+        .add("scheduledExecutor", scheduledExecutor)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("actionGraphProvider", actionGraphProvider)
+        .add("knownRuleTypesProvider", knownRuleTypesProvider)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("invocationInfo", invocationInfo)
+        .add("defaultRuleKeyFactoryCacheRecycler", defaultRuleKeyFactoryCacheRecycler)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .add("processExecutor", processExecutor)
+        .add("executableFinder", executableFinder)
+        .add("pluginManager", pluginManager)
+        .add("buckModuleManager", buckModuleManager)
+        .add("poolSupplier", poolSupplier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CommandRunnerParams} instance.
+   * @param console The value for the {@code console} attribute
+   * @param stdIn The value for the {@code stdIn} attribute
+   * @param cell The value for the {@code cell} attribute
+   * @param watchman The value for the {@code watchman} attribute
+   * @param versionedTargetGraphCache The value for the {@code versionedTargetGraphCache} attribute
+   * @param artifactCacheFactory The value for the {@code artifactCacheFactory} attribute
+   * @param typeCoercerFactory The value for the {@code typeCoercerFactory} attribute
+   * @param parser The value for the {@code parser} attribute
+   * @param buckEventBus The value for the {@code buckEventBus} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param clock The value for the {@code clock} attribute
+   * @param versionControlStatsGenerator The value for the {@code versionControlStatsGenerator} attribute
+   * @param processManager The value for the {@code processManager} attribute
+   * @param webServer The value for the {@code webServer} attribute
+   * @param persistentWorkerPools The value for the {@code persistentWorkerPools} attribute
+   * @param buckConfig The value for the {@code buckConfig} attribute
+   * @param fileHashCache The value for the {@code fileHashCache} attribute
+   * @param executors The value for the {@code executors} attribute
+   * @param scheduledExecutor The value for the {@code scheduledExecutor} attribute
+   * @param buildEnvironmentDescription The value for the {@code buildEnvironmentDescription} attribute
+   * @param actionGraphProvider The value for the {@code actionGraphProvider} attribute
+   * @param knownRuleTypesProvider The value for the {@code knownRuleTypesProvider} attribute
+   * @param buildInfoStoreManager The value for the {@code buildInfoStoreManager} attribute
+   * @param invocationInfo The value for the {@code invocationInfo} attribute
+   * @param defaultRuleKeyFactoryCacheRecycler The value for the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   * @param projectFilesystemFactory The value for the {@code projectFilesystemFactory} attribute
+   * @param ruleKeyConfiguration The value for the {@code ruleKeyConfiguration} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @param pluginManager The value for the {@code pluginManager} attribute
+   * @param buckModuleManager The value for the {@code buckModuleManager} attribute
+   * @param poolSupplier The value for the {@code poolSupplier} attribute
+   * @return An immutable CommandRunnerParams instance
+   */
+  public static CommandRunnerParams of(Console console, InputStream stdIn, Cell cell, Watchman watchman, InstrumentedVersionedTargetGraphCache versionedTargetGraphCache, ArtifactCacheFactory artifactCacheFactory, TypeCoercerFactory typeCoercerFactory, Parser parser, BuckEventBus buckEventBus, Platform platform, Map<String, ? extends String> environment, JavaPackageFinder javaPackageFinder, Clock clock, VersionControlStatsGenerator versionControlStatsGenerator, Optional<? extends ProcessManager> processManager, Optional<? extends WebServer> webServer, Optional<? extends ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools, BuckConfig buckConfig, StackedFileHashCache fileHashCache, Map<ExecutorPool, ? extends ListeningExecutorService> executors, ScheduledExecutorService scheduledExecutor, BuildEnvironmentDescription buildEnvironmentDescription, ActionGraphProvider actionGraphProvider, KnownRuleTypesProvider knownRuleTypesProvider, BuildInfoStoreManager buildInfoStoreManager, Optional<? extends InvocationInfo> invocationInfo, Optional<? extends RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler, ProjectFilesystemFactory projectFilesystemFactory, RuleKeyConfiguration ruleKeyConfiguration, ProcessExecutor processExecutor, ExecutableFinder executableFinder, PluginManager pluginManager, BuckModuleManager buckModuleManager, CloseableMemoizedSupplier<ForkJoinPool> poolSupplier) {
+    return new CommandRunnerParams(console, stdIn, cell, watchman, versionedTargetGraphCache, artifactCacheFactory, typeCoercerFactory, parser, buckEventBus, platform, environment, javaPackageFinder, clock, versionControlStatsGenerator, processManager, webServer, persistentWorkerPools, buckConfig, fileHashCache, executors, scheduledExecutor, buildEnvironmentDescription, actionGraphProvider, knownRuleTypesProvider, buildInfoStoreManager, invocationInfo, defaultRuleKeyFactoryCacheRecycler, projectFilesystemFactory, ruleKeyConfiguration, processExecutor, executableFinder, pluginManager, buckModuleManager, poolSupplier);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCommandRunnerParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CommandRunnerParams instance
+   */
+  public static CommandRunnerParams copyOf(AbstractCommandRunnerParams instance) {
+    if (instance instanceof CommandRunnerParams) {
+      return (CommandRunnerParams) instance;
+    }
+    return CommandRunnerParams.of(instance.getConsole(), instance.getStdIn(), instance.getCell(), instance.getWatchman(), instance.getVersionedTargetGraphCache(), instance.getArtifactCacheFactory(), instance.getTypeCoercerFactory(), instance.getParser(), instance.getBuckEventBus(), instance.getPlatform(), instance.getEnvironment(), instance.getJavaPackageFinder(), instance.getClock(), instance.getVersionControlStatsGenerator(), instance.getProcessManager(), instance.getWebServer(), instance.getPersistentWorkerPools(), instance.getBuckConfig(), instance.getFileHashCache(), instance.getExecutors(), instance.getScheduledExecutor(), instance.getBuildEnvironmentDescription(), instance.getActionGraphProvider(), instance.getKnownRuleTypesProvider(), instance.getBuildInfoStoreManager(), instance.getInvocationInfo(), instance.getDefaultRuleKeyFactoryCacheRecycler(), instance.getProjectFilesystemFactory(), instance.getRuleKeyConfiguration(), instance.getProcessExecutor(), instance.getExecutableFinder(), instance.getPluginManager(), instance.getBuckModuleManager(), instance.getPoolSupplier());
+  }
+}
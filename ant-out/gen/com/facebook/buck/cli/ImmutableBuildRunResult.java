@@ -0,0 +1,112 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.util.ExitCode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link BuildCommand.BuildRunResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildRunResult.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildCommand.BuildRunResult"})
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildRunResult implements BuildCommand.BuildRunResult {
+  private final ExitCode exitCode;
+  private final ImmutableSet<BuildTarget> buildTargets;
+
+  private ImmutableBuildRunResult(
+      ExitCode exitCode,
+      Iterable<? extends BuildTarget> buildTargets) {
+    this.exitCode = Objects.requireNonNull(exitCode, "exitCode");
+    this.buildTargets = ImmutableSet.copyOf(buildTargets);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public ExitCode getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildRunResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildRunResult
+        && equalTo((ImmutableBuildRunResult) another);
+  }
+
+  private boolean equalTo(ImmutableBuildRunResult another) {
+    return exitCode.equals(another.exitCode)
+        && buildTargets.equals(another.buildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code buildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + exitCode.hashCode();
+    h += (h << 5) + buildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRunResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRunResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("buildTargets", buildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRunResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable BuildRunResult instance
+   */
+  public static ImmutableBuildRunResult of(ExitCode exitCode, ImmutableSet<BuildTarget> buildTargets) {
+    return of(exitCode, (Iterable<? extends BuildTarget>) buildTargets);
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRunResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable BuildRunResult instance
+   */
+  public static ImmutableBuildRunResult of(ExitCode exitCode, Iterable<? extends BuildTarget> buildTargets) {
+    return new ImmutableBuildRunResult(exitCode, buildTargets);
+  }
+}
@@ -0,0 +1,200 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.util.ExitCode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractInstallResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code InstallResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractInstallResult"})
+@Immutable
+@CheckReturnValue
+public final class InstallResult implements AbstractInstallResult {
+  private final ExitCode exitCode;
+  private final @Nullable Long launchedPid;
+
+  private InstallResult(InstallResult.Builder builder) {
+    this.exitCode = builder.exitCode;
+    this.launchedPid = builder.launchedPid;
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public ExitCode getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code launchedPid} attribute
+   */
+  @Override
+  public Optional<Long> getLaunchedPid() {
+    return Optional.ofNullable(launchedPid);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code InstallResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof InstallResult
+        && equalTo((InstallResult) another);
+  }
+
+  private boolean equalTo(InstallResult another) {
+    return exitCode.equals(another.exitCode)
+        && Objects.equals(launchedPid, another.launchedPid);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code launchedPid}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + exitCode.hashCode();
+    h += (h << 5) + Objects.hashCode(launchedPid);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code InstallResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("InstallResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("launchedPid", launchedPid)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link InstallResult InstallResult}.
+   * @return A new InstallResult builder
+   */
+  public static InstallResult.Builder builder() {
+    return new InstallResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link InstallResult InstallResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXIT_CODE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ExitCode exitCode;
+    private @Nullable Long launchedPid;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code InstallResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(InstallResult instance) {
+      return from((AbstractInstallResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractInstallResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractInstallResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setExitCode(instance.getExitCode());
+      Optional<Long> launchedPidOptional = instance.getLaunchedPid();
+      if (launchedPidOptional.isPresent()) {
+        setLaunchedPid(launchedPidOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInstallResult#getExitCode() exitCode} attribute.
+     * @param exitCode The value for exitCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExitCode(ExitCode exitCode) {
+      this.exitCode = Objects.requireNonNull(exitCode, "exitCode");
+      initBits &= ~INIT_BIT_EXIT_CODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractInstallResult#getLaunchedPid() launchedPid} to launchedPid.
+     * @param launchedPid The value for launchedPid
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLaunchedPid(long launchedPid) {
+      this.launchedPid = launchedPid;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractInstallResult#getLaunchedPid() launchedPid} to launchedPid.
+     * @param launchedPid The value for launchedPid
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLaunchedPid(Optional<Long> launchedPid) {
+      this.launchedPid = launchedPid.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link InstallResult InstallResult}.
+     * @return An immutable instance of InstallResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public InstallResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new InstallResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_EXIT_CODE) != 0) attributes.add("exitCode");
+      return "Cannot build InstallResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,470 @@
+package com.facebook.buck.command;
+
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
+import com.facebook.buck.rules.keys.config.RuleKeyConfiguration;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Common arguments for running a build. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildExecutorArgs"})
+@Immutable
+@CheckReturnValue
+public final class BuildExecutorArgs extends AbstractBuildExecutorArgs {
+  private final Console console;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final Clock clock;
+  private final Cell rootCell;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final ProjectFilesystemFactory projectFilesystemFactory;
+  private final BuildInfoStoreManager buildInfoStoreManager;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final RuleKeyConfiguration ruleKeyConfiguration;
+
+  private BuildExecutorArgs(BuildExecutorArgs.Builder builder) {
+    this.console = builder.console;
+    this.buckEventBus = builder.buckEventBus;
+    this.platform = builder.platform;
+    this.clock = builder.clock;
+    this.rootCell = builder.rootCell;
+    this.executors = Maps.immutableEnumMap(builder.executors.build());
+    this.projectFilesystemFactory = builder.projectFilesystemFactory;
+    this.buildInfoStoreManager = builder.buildInfoStoreManager;
+    this.artifactCacheFactory = builder.artifactCacheFactory;
+    this.ruleKeyConfiguration = builder.ruleKeyConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code rootCell} attribute
+   */
+  @Override
+  public Cell getRootCell() {
+    return rootCell;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystemFactory} attribute
+   */
+  @Override
+  public ProjectFilesystemFactory getProjectFilesystemFactory() {
+    return projectFilesystemFactory;
+  }
+
+  /**
+   * @return The value of the {@code buildInfoStoreManager} attribute
+   */
+  @Override
+  public BuildInfoStoreManager getBuildInfoStoreManager() {
+    return buildInfoStoreManager;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyConfiguration} attribute
+   */
+  @Override
+  public RuleKeyConfiguration getRuleKeyConfiguration() {
+    return ruleKeyConfiguration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildExecutorArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildExecutorArgs
+        && equalTo((BuildExecutorArgs) another);
+  }
+
+  private boolean equalTo(BuildExecutorArgs another) {
+    return console.equals(another.console)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && clock.equals(another.clock)
+        && rootCell.equals(another.rootCell)
+        && executors.equals(another.executors)
+        && projectFilesystemFactory.equals(another.projectFilesystemFactory)
+        && buildInfoStoreManager.equals(another.buildInfoStoreManager)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && ruleKeyConfiguration.equals(another.ruleKeyConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code buckEventBus}, {@code platform}, {@code clock}, {@code rootCell}, {@code executors}, {@code projectFilesystemFactory}, {@code buildInfoStoreManager}, {@code artifactCacheFactory}, {@code ruleKeyConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + console.hashCode();
+    h += (h << 5) + buckEventBus.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + rootCell.hashCode();
+    h += (h << 5) + executors.hashCode();
+    h += (h << 5) + projectFilesystemFactory.hashCode();
+    h += (h << 5) + buildInfoStoreManager.hashCode();
+    h += (h << 5) + artifactCacheFactory.hashCode();
+    h += (h << 5) + ruleKeyConfiguration.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildExecutorArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildExecutorArgs")
+        .omitNullValues()
+        .add("console", console)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("clock", clock)
+        .add("rootCell", rootCell)
+        .add("executors", executors)
+        .add("projectFilesystemFactory", projectFilesystemFactory)
+        .add("buildInfoStoreManager", buildInfoStoreManager)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("ruleKeyConfiguration", ruleKeyConfiguration)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link BuildExecutorArgs BuildExecutorArgs}.
+   * @return A new BuildExecutorArgs builder
+   */
+  public static BuildExecutorArgs.Builder builder() {
+    return new BuildExecutorArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildExecutorArgs BuildExecutorArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONSOLE = 0x1L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x2L;
+    private static final long INIT_BIT_PLATFORM = 0x4L;
+    private static final long INIT_BIT_CLOCK = 0x8L;
+    private static final long INIT_BIT_ROOT_CELL = 0x10L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM_FACTORY = 0x20L;
+    private static final long INIT_BIT_BUILD_INFO_STORE_MANAGER = 0x40L;
+    private static final long INIT_BIT_ARTIFACT_CACHE_FACTORY = 0x80L;
+    private static final long INIT_BIT_RULE_KEY_CONFIGURATION = 0x100L;
+    private long initBits = 0x1ffL;
+
+    private @Nullable Console console;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable Platform platform;
+    private @Nullable Clock clock;
+    private @Nullable Cell rootCell;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable ProjectFilesystemFactory projectFilesystemFactory;
+    private @Nullable BuildInfoStoreManager buildInfoStoreManager;
+    private @Nullable ArtifactCacheFactory artifactCacheFactory;
+    private @Nullable RuleKeyConfiguration ruleKeyConfiguration;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildExecutorArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildExecutorArgs instance) {
+      return from((AbstractBuildExecutorArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildExecutorArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildExecutorArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setConsole(instance.getConsole());
+      setBuckEventBus(instance.getBuckEventBus());
+      setPlatform(instance.getPlatform());
+      setClock(instance.getClock());
+      setRootCell(instance.getRootCell());
+      putAllExecutors(instance.getExecutors());
+      setProjectFilesystemFactory(instance.getProjectFilesystemFactory());
+      setBuildInfoStoreManager(instance.getBuildInfoStoreManager());
+      setArtifactCacheFactory(instance.getArtifactCacheFactory());
+      setRuleKeyConfiguration(instance.getRuleKeyConfiguration());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConsole(Console console) {
+      this.console = Objects.requireNonNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Objects.requireNonNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getRootCell() rootCell} attribute.
+     * @param rootCell The value for rootCell 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRootCell(Cell rootCell) {
+      this.rootCell = Objects.requireNonNull(rootCell, "rootCell");
+      initBits &= ~INIT_BIT_ROOT_CELL;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractBuildExecutorArgs#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractBuildExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractBuildExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(executors);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractBuildExecutorArgs#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors.putAll(executors);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getProjectFilesystemFactory() projectFilesystemFactory} attribute.
+     * @param projectFilesystemFactory The value for projectFilesystemFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectFilesystemFactory(ProjectFilesystemFactory projectFilesystemFactory) {
+      this.projectFilesystemFactory = Objects.requireNonNull(projectFilesystemFactory, "projectFilesystemFactory");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getBuildInfoStoreManager() buildInfoStoreManager} attribute.
+     * @param buildInfoStoreManager The value for buildInfoStoreManager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildInfoStoreManager(BuildInfoStoreManager buildInfoStoreManager) {
+      this.buildInfoStoreManager = Objects.requireNonNull(buildInfoStoreManager, "buildInfoStoreManager");
+      initBits &= ~INIT_BIT_BUILD_INFO_STORE_MANAGER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getArtifactCacheFactory() artifactCacheFactory} attribute.
+     * @param artifactCacheFactory The value for artifactCacheFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArtifactCacheFactory(ArtifactCacheFactory artifactCacheFactory) {
+      this.artifactCacheFactory = Objects.requireNonNull(artifactCacheFactory, "artifactCacheFactory");
+      initBits &= ~INIT_BIT_ARTIFACT_CACHE_FACTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildExecutorArgs#getRuleKeyConfiguration() ruleKeyConfiguration} attribute.
+     * @param ruleKeyConfiguration The value for ruleKeyConfiguration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyConfiguration(RuleKeyConfiguration ruleKeyConfiguration) {
+      this.ruleKeyConfiguration = Objects.requireNonNull(ruleKeyConfiguration, "ruleKeyConfiguration");
+      initBits &= ~INIT_BIT_RULE_KEY_CONFIGURATION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildExecutorArgs BuildExecutorArgs}.
+     * @return An immutable instance of BuildExecutorArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildExecutorArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildExecutorArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_ROOT_CELL) != 0) attributes.add("rootCell");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM_FACTORY) != 0) attributes.add("projectFilesystemFactory");
+      if ((initBits & INIT_BIT_BUILD_INFO_STORE_MANAGER) != 0) attributes.add("buildInfoStoreManager");
+      if ((initBits & INIT_BIT_ARTIFACT_CACHE_FACTORY) != 0) attributes.add("artifactCacheFactory");
+      if ((initBits & INIT_BIT_RULE_KEY_CONFIGURATION) != 0) attributes.add("ruleKeyConfiguration");
+      return "Cannot build BuildExecutorArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,383 @@
+package com.facebook.buck.core.build.context;
+
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolver;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildContext}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildContext.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildContext"})
+@Immutable
+@CheckReturnValue
+public final class BuildContext extends AbstractBuildContext {
+  private final SourcePathResolver sourcePathResolver;
+  private final Path buildCellRootPath;
+  private final JavaPackageFinder javaPackageFinder;
+  private final BuckEventBus eventBus;
+  private final boolean shouldDeleteTemporaries;
+
+  private BuildContext(
+      SourcePathResolver sourcePathResolver,
+      Path buildCellRootPath,
+      JavaPackageFinder javaPackageFinder,
+      BuckEventBus eventBus,
+      boolean shouldDeleteTemporaries) {
+    this.sourcePathResolver = sourcePathResolver;
+    this.buildCellRootPath = buildCellRootPath;
+    this.javaPackageFinder = javaPackageFinder;
+    this.eventBus = eventBus;
+    this.shouldDeleteTemporaries = shouldDeleteTemporaries;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   *@return the absolute path of the cell in which the build was invoked. 
+   */
+  @Override
+  public Path getBuildCellRootPath() {
+    return buildCellRootPath;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return The value of the {@code shouldDeleteTemporaries} attribute
+   */
+  @Override
+  public boolean getShouldDeleteTemporaries() {
+    return shouldDeleteTemporaries;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getSourcePathResolver() sourcePathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourcePathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withSourcePathResolver(SourcePathResolver value) {
+    if (this.sourcePathResolver == value) return this;
+    SourcePathResolver newValue = Objects.requireNonNull(value, "sourcePathResolver");
+    return new BuildContext(
+        newValue,
+        this.buildCellRootPath,
+        this.javaPackageFinder,
+        this.eventBus,
+        this.shouldDeleteTemporaries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getBuildCellRootPath() buildCellRootPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildCellRootPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withBuildCellRootPath(Path value) {
+    if (this.buildCellRootPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "buildCellRootPath");
+    return new BuildContext(
+        this.sourcePathResolver,
+        newValue,
+        this.javaPackageFinder,
+        this.eventBus,
+        this.shouldDeleteTemporaries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Objects.requireNonNull(value, "javaPackageFinder");
+    return new BuildContext(
+        this.sourcePathResolver,
+        this.buildCellRootPath,
+        newValue,
+        this.eventBus,
+        this.shouldDeleteTemporaries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getEventBus() eventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withEventBus(BuckEventBus value) {
+    if (this.eventBus == value) return this;
+    BuckEventBus newValue = Objects.requireNonNull(value, "eventBus");
+    return new BuildContext(
+        this.sourcePathResolver,
+        this.buildCellRootPath,
+        this.javaPackageFinder,
+        newValue,
+        this.shouldDeleteTemporaries);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getShouldDeleteTemporaries() shouldDeleteTemporaries} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldDeleteTemporaries
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withShouldDeleteTemporaries(boolean value) {
+    if (this.shouldDeleteTemporaries == value) return this;
+    return new BuildContext(this.sourcePathResolver, this.buildCellRootPath, this.javaPackageFinder, this.eventBus, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildContext
+        && equalTo((BuildContext) another);
+  }
+
+  private boolean equalTo(BuildContext another) {
+    return sourcePathResolver.equals(another.sourcePathResolver)
+        && buildCellRootPath.equals(another.buildCellRootPath)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && eventBus.equals(another.eventBus)
+        && shouldDeleteTemporaries == another.shouldDeleteTemporaries;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourcePathResolver}, {@code buildCellRootPath}, {@code javaPackageFinder}, {@code eventBus}, {@code shouldDeleteTemporaries}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sourcePathResolver.hashCode();
+    h += (h << 5) + buildCellRootPath.hashCode();
+    h += (h << 5) + javaPackageFinder.hashCode();
+    h += (h << 5) + eventBus.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldDeleteTemporaries);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildContext")
+        .omitNullValues()
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("buildCellRootPath", buildCellRootPath)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("eventBus", eventBus)
+        .add("shouldDeleteTemporaries", shouldDeleteTemporaries)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildContext instance
+   */
+  static BuildContext copyOf(AbstractBuildContext instance) {
+    if (instance instanceof BuildContext) {
+      return (BuildContext) instance;
+    }
+    return BuildContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildContext BuildContext}.
+   * @return A new BuildContext builder
+   */
+  public static BuildContext.Builder builder() {
+    return new BuildContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildContext BuildContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SOURCE_PATH_RESOLVER = 0x1L;
+    private static final long INIT_BIT_BUILD_CELL_ROOT_PATH = 0x2L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x4L;
+    private static final long INIT_BIT_EVENT_BUS = 0x8L;
+    private static final long INIT_BIT_SHOULD_DELETE_TEMPORARIES = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable SourcePathResolver sourcePathResolver;
+    private @Nullable Path buildCellRootPath;
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private @Nullable BuckEventBus eventBus;
+    private boolean shouldDeleteTemporaries;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildContext instance) {
+      return from((AbstractBuildContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildContext instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSourcePathResolver(instance.getSourcePathResolver());
+      setBuildCellRootPath(instance.getBuildCellRootPath());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      setEventBus(instance.getEventBus());
+      setShouldDeleteTemporaries(instance.getShouldDeleteTemporaries());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getSourcePathResolver() sourcePathResolver} attribute.
+     * @param sourcePathResolver The value for sourcePathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePathResolver(SourcePathResolver sourcePathResolver) {
+      this.sourcePathResolver = Objects.requireNonNull(sourcePathResolver, "sourcePathResolver");
+      initBits &= ~INIT_BIT_SOURCE_PATH_RESOLVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getBuildCellRootPath() buildCellRootPath} attribute.
+     * @param buildCellRootPath The value for buildCellRootPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildCellRootPath(Path buildCellRootPath) {
+      this.buildCellRootPath = Objects.requireNonNull(buildCellRootPath, "buildCellRootPath");
+      initBits &= ~INIT_BIT_BUILD_CELL_ROOT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Objects.requireNonNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getEventBus() eventBus} attribute.
+     * @param eventBus The value for eventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+      initBits &= ~INIT_BIT_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getShouldDeleteTemporaries() shouldDeleteTemporaries} attribute.
+     * @param shouldDeleteTemporaries The value for shouldDeleteTemporaries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldDeleteTemporaries(boolean shouldDeleteTemporaries) {
+      this.shouldDeleteTemporaries = shouldDeleteTemporaries;
+      initBits &= ~INIT_BIT_SHOULD_DELETE_TEMPORARIES;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildContext BuildContext}.
+     * @return An immutable instance of BuildContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildContext(sourcePathResolver, buildCellRootPath, javaPackageFinder, eventBus, shouldDeleteTemporaries);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SOURCE_PATH_RESOLVER) != 0) attributes.add("sourcePathResolver");
+      if ((initBits & INIT_BIT_BUILD_CELL_ROOT_PATH) != 0) attributes.add("buildCellRootPath");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_EVENT_BUS) != 0) attributes.add("eventBus");
+      if ((initBits & INIT_BIT_SHOULD_DELETE_TEMPORARIES) != 0) attributes.add("shouldDeleteTemporaries");
+      return "Cannot build BuildContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.facebook.buck.core.build.engine;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BuildEngine.AbstractBuildEngineResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildEngineResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildEngine.AbstractBuildEngineResult"})
+@Immutable
+@CheckReturnValue
+public final class BuildEngineResult
+    extends BuildEngine.AbstractBuildEngineResult {
+  private final ListenableFuture<BuildResult> result;
+
+  private BuildEngineResult(BuildEngineResult.Builder builder) {
+    this.result = builder.result;
+  }
+
+  /**
+   *@return a future that will contain the result of running the rule 
+   */
+  @Override
+  public ListenableFuture<BuildResult> getResult() {
+    return result;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildEngineResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildEngineResult
+        && equalTo((BuildEngineResult) another);
+  }
+
+  private boolean equalTo(BuildEngineResult another) {
+    return result.equals(another.result);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code result}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + result.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildEngineResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildEngineResult")
+        .omitNullValues()
+        .add("result", result)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link BuildEngineResult BuildEngineResult}.
+   * @return A new BuildEngineResult builder
+   */
+  public static BuildEngineResult.Builder builder() {
+    return new BuildEngineResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildEngineResult BuildEngineResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ListenableFuture<BuildResult> result;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractBuildEngineResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildEngine.AbstractBuildEngineResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResult(instance.getResult());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BuildEngine.AbstractBuildEngineResult#getResult() result} attribute.
+     * @param result The value for result 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResult(ListenableFuture<BuildResult> result) {
+      this.result = Objects.requireNonNull(result, "result");
+      initBits &= ~INIT_BIT_RESULT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildEngineResult BuildEngineResult}.
+     * @return An immutable instance of BuildEngineResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildEngineResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildEngineResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RESULT) != 0) attributes.add("result");
+      return "Cannot build BuildEngineResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.facebook.buck.core.build.engine.config;
+
+import com.facebook.buck.util.concurrent.ResourceAmounts;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Booleans;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractResourceAwareSchedulingInfo}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ResourceAwareSchedulingInfo.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractResourceAwareSchedulingInfo"})
+@Immutable
+@CheckReturnValue
+public final class ResourceAwareSchedulingInfo
+    extends AbstractResourceAwareSchedulingInfo {
+  private final boolean resourceAwareSchedulingEnabled;
+  private final ResourceAmounts defaultResourceAmounts;
+  private final ImmutableMap<String, ResourceAmounts> amountsPerRuleType;
+
+  private ResourceAwareSchedulingInfo(
+      boolean resourceAwareSchedulingEnabled,
+      ResourceAmounts defaultResourceAmounts,
+      Map<String, ? extends ResourceAmounts> amountsPerRuleType) {
+    this.resourceAwareSchedulingEnabled = resourceAwareSchedulingEnabled;
+    this.defaultResourceAmounts = Objects.requireNonNull(defaultResourceAmounts, "defaultResourceAmounts");
+    this.amountsPerRuleType = ImmutableMap.copyOf(amountsPerRuleType);
+  }
+
+  private ResourceAwareSchedulingInfo(
+      ResourceAwareSchedulingInfo original,
+      boolean resourceAwareSchedulingEnabled,
+      ResourceAmounts defaultResourceAmounts,
+      ImmutableMap<String, ResourceAmounts> amountsPerRuleType) {
+    this.resourceAwareSchedulingEnabled = resourceAwareSchedulingEnabled;
+    this.defaultResourceAmounts = defaultResourceAmounts;
+    this.amountsPerRuleType = amountsPerRuleType;
+  }
+
+  /**
+   * @return The value of the {@code resourceAwareSchedulingEnabled} attribute
+   */
+  @Override
+  public boolean isResourceAwareSchedulingEnabled() {
+    return resourceAwareSchedulingEnabled;
+  }
+
+  /**
+   * @return The value of the {@code defaultResourceAmounts} attribute
+   */
+  @Override
+  public ResourceAmounts getDefaultResourceAmounts() {
+    return defaultResourceAmounts;
+  }
+
+  /**
+   *Map from the value of {@link BuildRule#getType()} to the required resources. 
+   */
+  @Override
+  public ImmutableMap<String, ResourceAmounts> getAmountsPerRuleType() {
+    return amountsPerRuleType;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAwareSchedulingInfo#isResourceAwareSchedulingEnabled() resourceAwareSchedulingEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resourceAwareSchedulingEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withResourceAwareSchedulingEnabled(boolean value) {
+    if (this.resourceAwareSchedulingEnabled == value) return this;
+    return new ResourceAwareSchedulingInfo(this, value, this.defaultResourceAmounts, this.amountsPerRuleType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractResourceAwareSchedulingInfo#getDefaultResourceAmounts() defaultResourceAmounts} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for defaultResourceAmounts
+   * @return A modified copy of the {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withDefaultResourceAmounts(ResourceAmounts value) {
+    if (this.defaultResourceAmounts == value) return this;
+    ResourceAmounts newValue = Objects.requireNonNull(value, "defaultResourceAmounts");
+    return new ResourceAwareSchedulingInfo(this, this.resourceAwareSchedulingEnabled, newValue, this.amountsPerRuleType);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractResourceAwareSchedulingInfo#getAmountsPerRuleType() amountsPerRuleType} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the amountsPerRuleType map
+   * @return A modified copy of {@code this} object
+   */
+  public final ResourceAwareSchedulingInfo withAmountsPerRuleType(Map<String, ? extends ResourceAmounts> entries) {
+    if (this.amountsPerRuleType == entries) return this;
+    ImmutableMap<String, ResourceAmounts> newValue = ImmutableMap.copyOf(entries);
+    return new ResourceAwareSchedulingInfo(this, this.resourceAwareSchedulingEnabled, this.defaultResourceAmounts, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourceAwareSchedulingInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourceAwareSchedulingInfo
+        && equalTo((ResourceAwareSchedulingInfo) another);
+  }
+
+  private boolean equalTo(ResourceAwareSchedulingInfo another) {
+    return resourceAwareSchedulingEnabled == another.resourceAwareSchedulingEnabled
+        && defaultResourceAmounts.equals(another.defaultResourceAmounts)
+        && amountsPerRuleType.equals(another.amountsPerRuleType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resourceAwareSchedulingEnabled}, {@code defaultResourceAmounts}, {@code amountsPerRuleType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(resourceAwareSchedulingEnabled);
+    h += (h << 5) + defaultResourceAmounts.hashCode();
+    h += (h << 5) + amountsPerRuleType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourceAwareSchedulingInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourceAwareSchedulingInfo")
+        .omitNullValues()
+        .add("resourceAwareSchedulingEnabled", resourceAwareSchedulingEnabled)
+        .add("defaultResourceAmounts", defaultResourceAmounts)
+        .add("amountsPerRuleType", amountsPerRuleType)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ResourceAwareSchedulingInfo} instance.
+   * @param resourceAwareSchedulingEnabled The value for the {@code resourceAwareSchedulingEnabled} attribute
+   * @param defaultResourceAmounts The value for the {@code defaultResourceAmounts} attribute
+   * @param amountsPerRuleType The value for the {@code amountsPerRuleType} attribute
+   * @return An immutable ResourceAwareSchedulingInfo instance
+   */
+  public static ResourceAwareSchedulingInfo of(boolean resourceAwareSchedulingEnabled, ResourceAmounts defaultResourceAmounts, Map<String, ? extends ResourceAmounts> amountsPerRuleType) {
+    return new ResourceAwareSchedulingInfo(resourceAwareSchedulingEnabled, defaultResourceAmounts, amountsPerRuleType);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractResourceAwareSchedulingInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ResourceAwareSchedulingInfo instance
+   */
+  static ResourceAwareSchedulingInfo copyOf(AbstractResourceAwareSchedulingInfo instance) {
+    if (instance instanceof ResourceAwareSchedulingInfo) {
+      return (ResourceAwareSchedulingInfo) instance;
+    }
+    return ResourceAwareSchedulingInfo.of(instance.isResourceAwareSchedulingEnabled(), instance.getDefaultResourceAmounts(), instance.getAmountsPerRuleType());
+  }
+}
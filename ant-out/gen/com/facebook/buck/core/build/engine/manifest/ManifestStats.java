@@ -0,0 +1,215 @@
+package com.facebook.buck.core.build.engine.manifest;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Statistics about a {@link Manifest}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractManifestStats"})
+@Immutable
+@CheckReturnValue
+public final class ManifestStats implements AbstractManifestStats {
+  private final int numDepFiles;
+  private final int numHashes;
+  private final int numInputs;
+
+  private ManifestStats(ManifestStats.Builder builder) {
+    this.numDepFiles = builder.numDepFiles;
+    this.numHashes = builder.numHashes;
+    this.numInputs = builder.numInputs;
+  }
+
+  /**
+   * @return The value of the {@code numDepFiles} attribute
+   */
+  @Override
+  public int getNumDepFiles() {
+    return numDepFiles;
+  }
+
+  /**
+   * @return The value of the {@code numHashes} attribute
+   */
+  @Override
+  public int getNumHashes() {
+    return numHashes;
+  }
+
+  /**
+   * @return The value of the {@code numInputs} attribute
+   */
+  @Override
+  public int getNumInputs() {
+    return numInputs;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ManifestStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ManifestStats
+        && equalTo((ManifestStats) another);
+  }
+
+  private boolean equalTo(ManifestStats another) {
+    return numDepFiles == another.numDepFiles
+        && numHashes == another.numHashes
+        && numInputs == another.numInputs;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code numDepFiles}, {@code numHashes}, {@code numInputs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + numDepFiles;
+    h += (h << 5) + numHashes;
+    h += (h << 5) + numInputs;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestStats")
+        .omitNullValues()
+        .add("numDepFiles", numDepFiles)
+        .add("numHashes", numHashes)
+        .add("numInputs", numInputs)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ManifestStats ManifestStats}.
+   * @return A new ManifestStats builder
+   */
+  public static ManifestStats.Builder builder() {
+    return new ManifestStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ManifestStats ManifestStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NUM_DEP_FILES = 0x1L;
+    private static final long INIT_BIT_NUM_HASHES = 0x2L;
+    private static final long INIT_BIT_NUM_INPUTS = 0x4L;
+    private long initBits = 0x7L;
+
+    private int numDepFiles;
+    private int numHashes;
+    private int numInputs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ManifestStats instance) {
+      return from((AbstractManifestStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractManifestStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractManifestStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setNumDepFiles(instance.getNumDepFiles());
+      setNumHashes(instance.getNumHashes());
+      setNumInputs(instance.getNumInputs());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractManifestStats#getNumDepFiles() numDepFiles} attribute.
+     * @param numDepFiles The value for numDepFiles 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNumDepFiles(int numDepFiles) {
+      this.numDepFiles = numDepFiles;
+      initBits &= ~INIT_BIT_NUM_DEP_FILES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractManifestStats#getNumHashes() numHashes} attribute.
+     * @param numHashes The value for numHashes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNumHashes(int numHashes) {
+      this.numHashes = numHashes;
+      initBits &= ~INIT_BIT_NUM_HASHES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractManifestStats#getNumInputs() numInputs} attribute.
+     * @param numInputs The value for numInputs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNumInputs(int numInputs) {
+      this.numInputs = numInputs;
+      initBits &= ~INIT_BIT_NUM_INPUTS;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ManifestStats ManifestStats}.
+     * @return An immutable instance of ManifestStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ManifestStats(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NUM_DEP_FILES) != 0) attributes.add("numDepFiles");
+      if ((initBits & INIT_BIT_NUM_HASHES) != 0) attributes.add("numHashes");
+      if ((initBits & INIT_BIT_NUM_INPUTS) != 0) attributes.add("numInputs");
+      return "Cannot build ManifestStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
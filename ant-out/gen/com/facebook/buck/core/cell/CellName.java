@@ -0,0 +1,103 @@
+package com.facebook.buck.core.cell;
+
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Describes a cell name relative to another cell. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCellName"})
+@Immutable
+@CheckReturnValue
+public final class CellName extends AbstractCellName {
+  private final String name;
+
+  private CellName(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+  }
+
+  private CellName(CellName original, String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCellName#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final CellName withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return validate(new CellName(this, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CellName} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CellName
+        && equalTo((CellName) another);
+  }
+
+  private boolean equalTo(CellName another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code CellName} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable CellName instance
+   */
+  public static CellName of(String name) {
+    return validate(new CellName(name));
+  }
+
+
+  private static CellName validate(CellName instance) {
+    instance.checkComponents();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCellName} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CellName instance
+   */
+  static CellName copyOf(AbstractCellName instance) {
+    if (instance instanceof CellName) {
+      return (CellName) instance;
+    }
+    return CellName.of(instance.getName());
+  }
+}
@@ -0,0 +1,168 @@
+package com.facebook.buck.core.model;
+
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link com.facebook.buck.core.model.Flavor} passing information between targets, which is
+ * irrelevant to the end user. Historically, all flavors were converted to internal, some need to be
+ * moved to UserFlavor.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractInternalFlavor"})
+@Immutable
+@CheckReturnValue
+public final class InternalFlavor extends AbstractInternalFlavor {
+  private final String name;
+
+  private InternalFlavor(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+  }
+
+  private InternalFlavor(InternalFlavor.Builder builder) {
+    this.name = builder.name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Construct a new immutable {@code InternalFlavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable InternalFlavor instance
+   */
+  public static InternalFlavor of(String name) {
+    return validate(new InternalFlavor(name));
+  }
+
+
+  private static InternalFlavor validate(InternalFlavor instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link InternalFlavor InternalFlavor}.
+   * @return A new InternalFlavor builder
+   */
+  public static InternalFlavor.Builder builder() {
+    return new InternalFlavor.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link InternalFlavor InternalFlavor}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code InternalFlavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(InternalFlavor instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractInternalFlavor} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractInternalFlavor instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.model.Flavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(Flavor instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractInternalFlavor) {
+        AbstractInternalFlavor instance = (AbstractInternalFlavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof Flavor) {
+        Flavor instance = (Flavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInternalFlavor#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link InternalFlavor InternalFlavor}.
+     * @return An immutable instance of InternalFlavor
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public InternalFlavor build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return InternalFlavor.validate(new InternalFlavor(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build InternalFlavor, some of required attributes are not set " + attributes;
+    }
+  }
+}
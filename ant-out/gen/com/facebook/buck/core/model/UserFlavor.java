@@ -0,0 +1,196 @@
+package com.facebook.buck.core.model;
+
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link com.facebook.buck.core.model.Flavor} visible to the user, with which they can modify
+ * output of a target.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUserFlavor"})
+@Immutable
+@CheckReturnValue
+public final class UserFlavor extends AbstractUserFlavor {
+  private final String name;
+  private final String description;
+
+  private UserFlavor(String name, String description) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.description = Objects.requireNonNull(description, "description");
+  }
+
+  private UserFlavor(UserFlavor.Builder builder) {
+    this.name = builder.name;
+    this.description = builder.description;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Construct a new immutable {@code UserFlavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @param description The value for the {@code description} attribute
+   * @return An immutable UserFlavor instance
+   */
+  public static UserFlavor of(String name, String description) {
+    return validate(new UserFlavor(name, description));
+  }
+
+
+  private static UserFlavor validate(UserFlavor instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link UserFlavor UserFlavor}.
+   * @return A new UserFlavor builder
+   */
+  public static UserFlavor.Builder builder() {
+    return new UserFlavor.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link UserFlavor UserFlavor}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_DESCRIPTION = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String name;
+    private @Nullable String description;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.model.Flavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(Flavor instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UserFlavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(UserFlavor instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUserFlavor} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractUserFlavor instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof Flavor) {
+        Flavor instance = (Flavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof AbstractUserFlavor) {
+        AbstractUserFlavor instance = (AbstractUserFlavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+        setDescription(instance.getDescription());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUserFlavor#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractUserFlavor#getDescription() description} attribute.
+     * @param description The value for description 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDescription(String description) {
+      this.description = Objects.requireNonNull(description, "description");
+      initBits &= ~INIT_BIT_DESCRIPTION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link UserFlavor UserFlavor}.
+     * @return An immutable instance of UserFlavor
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UserFlavor build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return UserFlavor.validate(new UserFlavor(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_DESCRIPTION) != 0) attributes.add("description");
+      return "Cannot build UserFlavor, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package com.facebook.buck.core.model.actiongraph;
+
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Holds an ActionGraph with the BuildRuleResolver that created it. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractActionGraphAndBuilder"})
+@Immutable
+@CheckReturnValue
+public final class ActionGraphAndBuilder
+    implements AbstractActionGraphAndBuilder {
+  private final ActionGraph actionGraph;
+  private final ActionGraphBuilder actionGraphBuilder;
+
+  private ActionGraphAndBuilder(
+      ActionGraph actionGraph,
+      ActionGraphBuilder actionGraphBuilder) {
+    this.actionGraph = Objects.requireNonNull(actionGraph, "actionGraph");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+  }
+
+  private ActionGraphAndBuilder(ActionGraphAndBuilder.Builder builder) {
+    this.actionGraph = builder.actionGraph;
+    this.actionGraphBuilder = builder.actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code actionGraph} attribute
+   */
+  @Override
+  public ActionGraph getActionGraph() {
+    return actionGraph;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  public ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ActionGraphAndBuilder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ActionGraphAndBuilder
+        && equalTo((ActionGraphAndBuilder) another);
+  }
+
+  private boolean equalTo(ActionGraphAndBuilder another) {
+    return actionGraph.equals(another.actionGraph)
+        && actionGraphBuilder.equals(another.actionGraphBuilder);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionGraph}, {@code actionGraphBuilder}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + actionGraph.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphAndBuilder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphAndBuilder")
+        .omitNullValues()
+        .add("actionGraph", actionGraph)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphAndBuilder} instance.
+   * @param actionGraph The value for the {@code actionGraph} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @return An immutable ActionGraphAndBuilder instance
+   */
+  public static ActionGraphAndBuilder of(ActionGraph actionGraph, ActionGraphBuilder actionGraphBuilder) {
+    return new ActionGraphAndBuilder(actionGraph, actionGraphBuilder);
+  }
+
+  /**
+   * Creates a builder for {@link ActionGraphAndBuilder ActionGraphAndBuilder}.
+   * @return A new ActionGraphAndBuilder builder
+   */
+  public static ActionGraphAndBuilder.Builder builder() {
+    return new ActionGraphAndBuilder.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ActionGraphAndBuilder ActionGraphAndBuilder}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ACTION_GRAPH = 0x1L;
+    private static final long INIT_BIT_ACTION_GRAPH_BUILDER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable ActionGraph actionGraph;
+    private @Nullable ActionGraphBuilder actionGraphBuilder;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ActionGraphAndBuilder} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ActionGraphAndBuilder instance) {
+      return from((AbstractActionGraphAndBuilder) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractActionGraphAndBuilder} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractActionGraphAndBuilder instance) {
+      Objects.requireNonNull(instance, "instance");
+      setActionGraph(instance.getActionGraph());
+      setActionGraphBuilder(instance.getActionGraphBuilder());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractActionGraphAndBuilder#getActionGraph() actionGraph} attribute.
+     * @param actionGraph The value for actionGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraph(ActionGraph actionGraph) {
+      this.actionGraph = Objects.requireNonNull(actionGraph, "actionGraph");
+      initBits &= ~INIT_BIT_ACTION_GRAPH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractActionGraphAndBuilder#getActionGraphBuilder() actionGraphBuilder} attribute.
+     * @param actionGraphBuilder The value for actionGraphBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphBuilder(ActionGraphBuilder actionGraphBuilder) {
+      this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_BUILDER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ActionGraphAndBuilder ActionGraphAndBuilder}.
+     * @return An immutable instance of ActionGraphAndBuilder
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ActionGraphAndBuilder build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ActionGraphAndBuilder(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ACTION_GRAPH) != 0) attributes.add("actionGraph");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_BUILDER) != 0) attributes.add("actionGraphBuilder");
+      return "Cannot build ActionGraphAndBuilder, some of required attributes are not set " + attributes;
+    }
+  }
+}
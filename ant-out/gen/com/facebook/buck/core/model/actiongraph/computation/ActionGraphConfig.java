@@ -0,0 +1,253 @@
+package com.facebook.buck.core.model.actiongraph.computation;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractActionGraphConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ActionGraphConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractActionGraphConfig"})
+@Immutable
+@CheckReturnValue
+public final class ActionGraphConfig
+    extends AbstractActionGraphConfig {
+  private final BuckConfig delegate;
+  private final IncrementalActionGraphMode incrementalActionGraphMode;
+  private final Map<IncrementalActionGraphMode, Double> incrementalActionGraphExperimentGroups;
+  private final ActionGraphParallelizationMode actionGraphParallelizationMode;
+  private final boolean actionGraphCheckingEnabled;
+  private final boolean skipActionGraphCache;
+
+  private ActionGraphConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+    this.incrementalActionGraphMode = initShim.getIncrementalActionGraphMode();
+    this.incrementalActionGraphExperimentGroups = initShim.getIncrementalActionGraphExperimentGroups();
+    this.actionGraphParallelizationMode = initShim.getActionGraphParallelizationMode();
+    this.actionGraphCheckingEnabled = initShim.isActionGraphCheckingEnabled();
+    this.skipActionGraphCache = initShim.isSkipActionGraphCache();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private IncrementalActionGraphMode incrementalActionGraphMode;
+    private int incrementalActionGraphModeBuildStage;
+
+    IncrementalActionGraphMode getIncrementalActionGraphMode() {
+      if (incrementalActionGraphModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (incrementalActionGraphModeBuildStage == STAGE_UNINITIALIZED) {
+        incrementalActionGraphModeBuildStage = STAGE_INITIALIZING;
+        this.incrementalActionGraphMode = Objects.requireNonNull(ActionGraphConfig.super.getIncrementalActionGraphMode(), "incrementalActionGraphMode");
+        incrementalActionGraphModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.incrementalActionGraphMode;
+    }
+    private Map<IncrementalActionGraphMode, Double> incrementalActionGraphExperimentGroups;
+    private int incrementalActionGraphExperimentGroupsBuildStage;
+
+    Map<IncrementalActionGraphMode, Double> getIncrementalActionGraphExperimentGroups() {
+      if (incrementalActionGraphExperimentGroupsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (incrementalActionGraphExperimentGroupsBuildStage == STAGE_UNINITIALIZED) {
+        incrementalActionGraphExperimentGroupsBuildStage = STAGE_INITIALIZING;
+        this.incrementalActionGraphExperimentGroups = Objects.requireNonNull(ActionGraphConfig.super.getIncrementalActionGraphExperimentGroups(), "incrementalActionGraphExperimentGroups");
+        incrementalActionGraphExperimentGroupsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.incrementalActionGraphExperimentGroups;
+    }
+    private ActionGraphParallelizationMode actionGraphParallelizationMode;
+    private int actionGraphParallelizationModeBuildStage;
+
+    ActionGraphParallelizationMode getActionGraphParallelizationMode() {
+      if (actionGraphParallelizationModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (actionGraphParallelizationModeBuildStage == STAGE_UNINITIALIZED) {
+        actionGraphParallelizationModeBuildStage = STAGE_INITIALIZING;
+        this.actionGraphParallelizationMode = Objects.requireNonNull(ActionGraphConfig.super.getActionGraphParallelizationMode(), "actionGraphParallelizationMode");
+        actionGraphParallelizationModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.actionGraphParallelizationMode;
+    }
+    private boolean actionGraphCheckingEnabled;
+    private int actionGraphCheckingEnabledBuildStage;
+
+    boolean isActionGraphCheckingEnabled() {
+      if (actionGraphCheckingEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (actionGraphCheckingEnabledBuildStage == STAGE_UNINITIALIZED) {
+        actionGraphCheckingEnabledBuildStage = STAGE_INITIALIZING;
+        this.actionGraphCheckingEnabled = ActionGraphConfig.super.isActionGraphCheckingEnabled();
+        actionGraphCheckingEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.actionGraphCheckingEnabled;
+    }
+    private boolean skipActionGraphCache;
+    private int skipActionGraphCacheBuildStage;
+
+    boolean isSkipActionGraphCache() {
+      if (skipActionGraphCacheBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (skipActionGraphCacheBuildStage == STAGE_UNINITIALIZED) {
+        skipActionGraphCacheBuildStage = STAGE_INITIALIZING;
+        this.skipActionGraphCache = ActionGraphConfig.super.isSkipActionGraphCache();
+        skipActionGraphCacheBuildStage = STAGE_INITIALIZED;
+      }
+      return this.skipActionGraphCache;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (incrementalActionGraphModeBuildStage == STAGE_INITIALIZING) attributes.add("incrementalActionGraphMode");
+      if (incrementalActionGraphExperimentGroupsBuildStage == STAGE_INITIALIZING) attributes.add("incrementalActionGraphExperimentGroups");
+      if (actionGraphParallelizationModeBuildStage == STAGE_INITIALIZING) attributes.add("actionGraphParallelizationMode");
+      if (actionGraphCheckingEnabledBuildStage == STAGE_INITIALIZING) attributes.add("actionGraphCheckingEnabled");
+      if (skipActionGraphCacheBuildStage == STAGE_INITIALIZING) attributes.add("skipActionGraphCache");
+      return "Cannot build ActionGraphConfig, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code incrementalActionGraphMode} attribute
+   */
+  @Override
+  public IncrementalActionGraphMode getIncrementalActionGraphMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncrementalActionGraphMode()
+        : this.incrementalActionGraphMode;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code incrementalActionGraphExperimentGroups} attribute
+   */
+  @Override
+  public Map<IncrementalActionGraphMode, Double> getIncrementalActionGraphExperimentGroups() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIncrementalActionGraphExperimentGroups()
+        : this.incrementalActionGraphExperimentGroups;
+  }
+
+  /**
+   *Whether to parallelize action graph creation. 
+   */
+  @Override
+  public ActionGraphParallelizationMode getActionGraphParallelizationMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getActionGraphParallelizationMode()
+        : this.actionGraphParallelizationMode;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code actionGraphCheckingEnabled} attribute
+   */
+  @Override
+  public boolean isActionGraphCheckingEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isActionGraphCheckingEnabled()
+        : this.actionGraphCheckingEnabled;
+  }
+
+  /**
+   * @return whether the current invocation of Buck should skip the Action Graph cache, leaving the
+   *     cached Action Graph in memory for the next request and creating a fresh Action Graph for
+   *     the current request (which will be garbage-collected when the current request is complete).
+   *     Commonly, a one-off request, like from a linter, will specify this option so that it does
+   *     not invalidate the primary in-memory Action Graph that the user is likely relying on for
+   *     fast iterative builds.
+   */
+  @Override
+  public boolean isSkipActionGraphCache() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSkipActionGraphCache()
+        : this.skipActionGraphCache;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ActionGraphConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ActionGraphConfig
+        && equalTo((ActionGraphConfig) another);
+  }
+
+  private boolean equalTo(ActionGraphConfig another) {
+    return delegate.equals(another.delegate)
+        && incrementalActionGraphMode.equals(another.incrementalActionGraphMode)
+        && incrementalActionGraphExperimentGroups.equals(another.incrementalActionGraphExperimentGroups)
+        && actionGraphParallelizationMode.equals(another.actionGraphParallelizationMode)
+        && actionGraphCheckingEnabled == another.actionGraphCheckingEnabled
+        && skipActionGraphCache == another.skipActionGraphCache;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}, {@code incrementalActionGraphMode}, {@code incrementalActionGraphExperimentGroups}, {@code actionGraphParallelizationMode}, {@code actionGraphCheckingEnabled}, {@code skipActionGraphCache}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    h += (h << 5) + incrementalActionGraphMode.hashCode();
+    h += (h << 5) + incrementalActionGraphExperimentGroups.hashCode();
+    h += (h << 5) + actionGraphParallelizationMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(actionGraphCheckingEnabled);
+    h += (h << 5) + Booleans.hashCode(skipActionGraphCache);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .add("incrementalActionGraphMode", incrementalActionGraphMode)
+        .add("incrementalActionGraphExperimentGroups", incrementalActionGraphExperimentGroups)
+        .add("actionGraphParallelizationMode", actionGraphParallelizationMode)
+        .add("actionGraphCheckingEnabled", actionGraphCheckingEnabled)
+        .add("skipActionGraphCache", skipActionGraphCache)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ActionGraphConfig instance
+   */
+  public static ActionGraphConfig of(BuckConfig delegate) {
+    return new ActionGraphConfig(delegate);
+  }
+}
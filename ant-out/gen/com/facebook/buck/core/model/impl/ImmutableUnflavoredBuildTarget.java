@@ -0,0 +1,292 @@
+package com.facebook.buck.core.model.impl;
+
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link UnflavoredBuildTarget} which computes its hash code once, and which is interned in the
+ * {@link BuildTargetTable}, so that equal targets are the same instance as long as their build file
+ * does not change.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractImmutableUnflavoredBuildTarget"})
+@Immutable
+@CheckReturnValue
+public final class ImmutableUnflavoredBuildTarget
+    extends AbstractImmutableUnflavoredBuildTarget {
+  private final Path cellPath;
+  private final @Nullable String cell;
+  private final String baseName;
+  private final String shortName;
+  private final int hashCode;
+
+  private ImmutableUnflavoredBuildTarget(ImmutableUnflavoredBuildTarget.Builder builder) {
+    this.cellPath = builder.cellPath;
+    this.cell = builder.cell;
+    this.baseName = builder.baseName;
+    this.shortName = builder.shortName;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * @return The value of the {@code cell} attribute
+   */
+  @Override
+  public Optional<String> getCell() {
+    return Optional.ofNullable(cell);
+  }
+
+  /**
+   * @return The value of the {@code baseName} attribute
+   */
+  @Override
+  public String getBaseName() {
+    return baseName;
+  }
+
+  /**
+   * @return The value of the {@code shortName} attribute
+   */
+  @Override
+  public String getShortName() {
+    return shortName;
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code cellPath}, {@code cell}, {@code baseName}, {@code shortName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + cellPath.hashCode();
+    h += (h << 5) + Objects.hashCode(cell);
+    h += (h << 5) + baseName.hashCode();
+    h += (h << 5) + shortName.hashCode();
+    return h;
+  }
+
+
+  private static ImmutableUnflavoredBuildTarget validate(ImmutableUnflavoredBuildTarget instance) {
+    instance = (ImmutableUnflavoredBuildTarget) instance.intern();
+    return instance;
+  }
+
+  /**
+   * Builds instances of type {@link ImmutableUnflavoredBuildTarget ImmutableUnflavoredBuildTarget}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_CELL_PATH = 0x1L;
+    private static final long INIT_BIT_BASE_NAME = 0x2L;
+    private static final long INIT_BIT_SHORT_NAME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Path cellPath;
+    private @Nullable String cell;
+    private @Nullable String baseName;
+    private @Nullable String shortName;
+
+    /**
+     * Creates a builder for {@link ImmutableUnflavoredBuildTarget ImmutableUnflavoredBuildTarget} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AbstractImmutableUnflavoredBuildTarget.Builder)) {
+        throw new UnsupportedOperationException("Use: new AbstractImmutableUnflavoredBuildTarget.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ImmutableUnflavoredBuildTarget} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder from(ImmutableUnflavoredBuildTarget instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractImmutableUnflavoredBuildTarget} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final AbstractImmutableUnflavoredBuildTarget.Builder from(AbstractImmutableUnflavoredBuildTarget instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.model.UnflavoredBuildTarget} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder from(UnflavoredBuildTarget instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractImmutableUnflavoredBuildTarget) {
+        AbstractImmutableUnflavoredBuildTarget instance = (AbstractImmutableUnflavoredBuildTarget) object;
+        if ((bits & 0x1L) == 0) {
+          setCellPath(instance.getCellPath());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          Optional<String> cellOptional = instance.getCell();
+          if (cellOptional.isPresent()) {
+            setCell(cellOptional);
+          }
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setShortName(instance.getShortName());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          setBaseName(instance.getBaseName());
+          bits |= 0x8L;
+        }
+      }
+      if (object instanceof UnflavoredBuildTarget) {
+        UnflavoredBuildTarget instance = (UnflavoredBuildTarget) object;
+        if ((bits & 0x1L) == 0) {
+          setCellPath(instance.getCellPath());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          Optional<String> cellOptional = instance.getCell();
+          if (cellOptional.isPresent()) {
+            setCell(cellOptional);
+          }
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setShortName(instance.getShortName());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          setBaseName(instance.getBaseName());
+          bits |= 0x8L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractImmutableUnflavoredBuildTarget#getCellPath() cellPath} attribute.
+     * @param cellPath The value for cellPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder setCellPath(Path cellPath) {
+      this.cellPath = Objects.requireNonNull(cellPath, "cellPath");
+      initBits &= ~INIT_BIT_CELL_PATH;
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractImmutableUnflavoredBuildTarget#getCell() cell} to cell.
+     * @param cell The value for cell
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder setCell(String cell) {
+      this.cell = Objects.requireNonNull(cell, "cell");
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractImmutableUnflavoredBuildTarget#getCell() cell} to cell.
+     * @param cell The value for cell
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder setCell(Optional<String> cell) {
+      this.cell = cell.orElse(null);
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractImmutableUnflavoredBuildTarget#getBaseName() baseName} attribute.
+     * @param baseName The value for baseName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder setBaseName(String baseName) {
+      this.baseName = Objects.requireNonNull(baseName, "baseName");
+      initBits &= ~INIT_BIT_BASE_NAME;
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractImmutableUnflavoredBuildTarget#getShortName() shortName} attribute.
+     * @param shortName The value for shortName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractImmutableUnflavoredBuildTarget.Builder setShortName(String shortName) {
+      this.shortName = Objects.requireNonNull(shortName, "shortName");
+      initBits &= ~INIT_BIT_SHORT_NAME;
+      return (AbstractImmutableUnflavoredBuildTarget.Builder) this;
+    }
+
+
+    /**
+     * Builds a new {@link ImmutableUnflavoredBuildTarget ImmutableUnflavoredBuildTarget}.
+     * @return An immutable instance of ImmutableUnflavoredBuildTarget
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ImmutableUnflavoredBuildTarget build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableUnflavoredBuildTarget.validate(new ImmutableUnflavoredBuildTarget(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CELL_PATH) != 0) attributes.add("cellPath");
+      if ((initBits & INIT_BIT_BASE_NAME) != 0) attributes.add("baseName");
+      if ((initBits & INIT_BIT_SHORT_NAME) != 0) attributes.add("shortName");
+      return "Cannot build ImmutableUnflavoredBuildTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
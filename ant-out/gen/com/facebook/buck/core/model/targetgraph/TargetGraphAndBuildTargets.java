@@ -0,0 +1,299 @@
+package com.facebook.buck.core.model.targetgraph;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Holds a TargetGraph and a set of BuildTargetPaths. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTargetGraphAndBuildTargets"})
+@Immutable
+@CheckReturnValue
+public final class TargetGraphAndBuildTargets
+    implements AbstractTargetGraphAndBuildTargets {
+  private final TargetGraph targetGraph;
+  private final ImmutableSet<BuildTarget> buildTargets;
+
+  private TargetGraphAndBuildTargets(
+      TargetGraph targetGraph,
+      Iterable<? extends BuildTarget> buildTargets) {
+    this.targetGraph = Objects.requireNonNull(targetGraph, "targetGraph");
+    this.buildTargets = ImmutableSet.copyOf(buildTargets);
+  }
+
+  private TargetGraphAndBuildTargets(
+      TargetGraphAndBuildTargets original,
+      TargetGraph targetGraph,
+      ImmutableSet<BuildTarget> buildTargets) {
+    this.targetGraph = targetGraph;
+    this.buildTargets = buildTargets;
+  }
+
+  /**
+   * @return The value of the {@code targetGraph} attribute
+   */
+  @Override
+  public TargetGraph getTargetGraph() {
+    return targetGraph;
+  }
+
+  /**
+   * @return The value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetGraphAndBuildTargets#getTargetGraph() targetGraph} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraph
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetGraphAndBuildTargets withTargetGraph(TargetGraph value) {
+    if (this.targetGraph == value) return this;
+    TargetGraph newValue = Objects.requireNonNull(value, "targetGraph");
+    return new TargetGraphAndBuildTargets(this, newValue, this.buildTargets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetGraphAndBuildTargets#getBuildTargets() buildTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetGraphAndBuildTargets withBuildTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetGraphAndBuildTargets(this, this.targetGraph, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetGraphAndBuildTargets#getBuildTargets() buildTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of buildTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetGraphAndBuildTargets withBuildTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.buildTargets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetGraphAndBuildTargets(this, this.targetGraph, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetGraphAndBuildTargets} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetGraphAndBuildTargets
+        && equalTo((TargetGraphAndBuildTargets) another);
+  }
+
+  private boolean equalTo(TargetGraphAndBuildTargets another) {
+    return targetGraph.equals(another.targetGraph)
+        && buildTargets.equals(another.buildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetGraph}, {@code buildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + targetGraph.hashCode();
+    h += (h << 5) + buildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetGraphAndBuildTargets} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetGraphAndBuildTargets")
+        .omitNullValues()
+        .add("targetGraph", targetGraph)
+        .add("buildTargets", buildTargets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TargetGraphAndBuildTargets} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable TargetGraphAndBuildTargets instance
+   */
+  public static TargetGraphAndBuildTargets of(TargetGraph targetGraph, ImmutableSet<BuildTarget> buildTargets) {
+    return of(targetGraph, (Iterable<? extends BuildTarget>) buildTargets);
+  }
+
+  /**
+   * Construct a new immutable {@code TargetGraphAndBuildTargets} instance.
+   * @param targetGraph The value for the {@code targetGraph} attribute
+   * @param buildTargets The value for the {@code buildTargets} attribute
+   * @return An immutable TargetGraphAndBuildTargets instance
+   */
+  public static TargetGraphAndBuildTargets of(TargetGraph targetGraph, Iterable<? extends BuildTarget> buildTargets) {
+    return new TargetGraphAndBuildTargets(targetGraph, buildTargets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetGraphAndBuildTargets} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TargetGraphAndBuildTargets instance
+   */
+  static TargetGraphAndBuildTargets copyOf(AbstractTargetGraphAndBuildTargets instance) {
+    if (instance instanceof TargetGraphAndBuildTargets) {
+      return (TargetGraphAndBuildTargets) instance;
+    }
+    return TargetGraphAndBuildTargets.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TargetGraphAndBuildTargets TargetGraphAndBuildTargets}.
+   * @return A new TargetGraphAndBuildTargets builder
+   */
+  public static TargetGraphAndBuildTargets.Builder builder() {
+    return new TargetGraphAndBuildTargets.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TargetGraphAndBuildTargets TargetGraphAndBuildTargets}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET_GRAPH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable TargetGraph targetGraph;
+    private ImmutableSet.Builder<BuildTarget> buildTargets = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TargetGraphAndBuildTargets} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TargetGraphAndBuildTargets instance) {
+      return from((AbstractTargetGraphAndBuildTargets) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTargetGraphAndBuildTargets} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractTargetGraphAndBuildTargets instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTargetGraph(instance.getTargetGraph());
+      addAllBuildTargets(instance.getBuildTargets());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTargetGraphAndBuildTargets#getTargetGraph() targetGraph} attribute.
+     * @param targetGraph The value for targetGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetGraph(TargetGraph targetGraph) {
+      this.targetGraph = Objects.requireNonNull(targetGraph, "targetGraph");
+      initBits &= ~INIT_BIT_TARGET_GRAPH;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractTargetGraphAndBuildTargets#getBuildTargets() buildTargets} set.
+     * @param element A buildTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildTargets(BuildTarget element) {
+      this.buildTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTargetGraphAndBuildTargets#getBuildTargets() buildTargets} set.
+     * @param elements An array of buildTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildTargets(BuildTarget... elements) {
+      this.buildTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTargetGraphAndBuildTargets#getBuildTargets() buildTargets} set.
+     * @param elements An iterable of buildTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTargets(Iterable<? extends BuildTarget> elements) {
+      this.buildTargets = ImmutableSet.builder();
+      return addAllBuildTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTargetGraphAndBuildTargets#getBuildTargets() buildTargets} set.
+     * @param elements An iterable of buildTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllBuildTargets(Iterable<? extends BuildTarget> elements) {
+      this.buildTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TargetGraphAndBuildTargets TargetGraphAndBuildTargets}.
+     * @return An immutable instance of TargetGraphAndBuildTargets
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TargetGraphAndBuildTargets build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new TargetGraphAndBuildTargets(null, targetGraph, buildTargets.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET_GRAPH) != 0) attributes.add("targetGraph");
+      return "Cannot build TargetGraphAndBuildTargets, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.facebook.buck.core.rules.graphbuilder.impl;
+
+import com.facebook.buck.core.graph.transformation.TransformationEnvironment;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.graphbuilder.BuildRuleKey;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link DefaultBuildRuleContextWithEnvironment}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultBuildRuleContextWithEnvironment.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DefaultBuildRuleContextWithEnvironment"})
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultBuildRuleContextWithEnvironment
+    extends DefaultBuildRuleContextWithEnvironment {
+  private final BuildRuleKey key;
+  private final TransformationEnvironment<BuildRuleKey, BuildRule> env;
+
+  private ImmutableDefaultBuildRuleContextWithEnvironment(
+      BuildRuleKey key,
+      TransformationEnvironment<BuildRuleKey, BuildRule> env) {
+    this.key = Objects.requireNonNull(key, "key");
+    this.env = Objects.requireNonNull(env, "env");
+  }
+
+  /**
+   * @return The value of the {@code key} attribute
+   */
+  @Override
+  protected BuildRuleKey getKey() {
+    return key;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  protected TransformationEnvironment<BuildRuleKey, BuildRule> getEnv() {
+    return env;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultBuildRuleContextWithEnvironment} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultBuildRuleContextWithEnvironment
+        && equalTo((ImmutableDefaultBuildRuleContextWithEnvironment) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultBuildRuleContextWithEnvironment another) {
+    return key.equals(another.key)
+        && env.equals(another.env);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code key}, {@code env}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + key.hashCode();
+    h += (h << 5) + env.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultBuildRuleContextWithEnvironment} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultBuildRuleContextWithEnvironment")
+        .omitNullValues()
+        .add("key", key)
+        .add("env", env)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultBuildRuleContextWithEnvironment} instance.
+   * @param key The value for the {@code key} attribute
+   * @param env The value for the {@code env} attribute
+   * @return An immutable DefaultBuildRuleContextWithEnvironment instance
+   */
+  public static ImmutableDefaultBuildRuleContextWithEnvironment of(BuildRuleKey key, TransformationEnvironment<BuildRuleKey, BuildRule> env) {
+    return new ImmutableDefaultBuildRuleContextWithEnvironment(key, env);
+  }
+}
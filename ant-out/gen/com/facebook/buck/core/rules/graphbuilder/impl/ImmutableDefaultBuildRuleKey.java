@@ -0,0 +1,116 @@
+package com.facebook.buck.core.rules.graphbuilder.impl;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.BuildRuleCreationContextWithTargetGraph;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link DefaultBuildRuleKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultBuildRuleKey.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DefaultBuildRuleKey"})
+@Immutable
+@CheckReturnValue
+public final class ImmutableDefaultBuildRuleKey
+    extends DefaultBuildRuleKey {
+  private final BuildTarget buildTarget;
+  private final TargetNodeWrapper targetNodeWrapper;
+  private final BuildRuleCreationContextWithTargetGraph buildRuleCreationContext;
+  private final int hashCode;
+
+  private ImmutableDefaultBuildRuleKey(
+      BuildTarget buildTarget,
+      BuildRuleCreationContextWithTargetGraph buildRuleCreationContext) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.buildRuleCreationContext = Objects.requireNonNull(buildRuleCreationContext, "buildRuleCreationContext");
+    this.targetNodeWrapper = Objects.requireNonNull(super.getTargetNodeWrapper(), "targetNodeWrapper");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code targetNodeWrapper} attribute
+   */
+  @Override
+  protected TargetNodeWrapper getTargetNodeWrapper() {
+    return targetNodeWrapper;
+  }
+
+  /**
+   * @return The value of the {@code buildRuleCreationContext} attribute
+   */
+  @Override
+  public BuildRuleCreationContextWithTargetGraph getBuildRuleCreationContext() {
+    return buildRuleCreationContext;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultBuildRuleKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultBuildRuleKey
+        && equalTo((ImmutableDefaultBuildRuleKey) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultBuildRuleKey another) {
+    if (hashCode != another.hashCode) return false;
+    return targetNodeWrapper.equals(another.targetNodeWrapper);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code targetNodeWrapper}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + targetNodeWrapper.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultBuildRuleKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultBuildRuleKey")
+        .omitNullValues()
+        .add("targetNodeWrapper", targetNodeWrapper)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultBuildRuleKey} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param buildRuleCreationContext The value for the {@code buildRuleCreationContext} attribute
+   * @return An immutable DefaultBuildRuleKey instance
+   */
+  public static ImmutableDefaultBuildRuleKey of(BuildTarget buildTarget, BuildRuleCreationContextWithTargetGraph buildRuleCreationContext) {
+    return new ImmutableDefaultBuildRuleKey(buildTarget, buildRuleCreationContext);
+  }
+}
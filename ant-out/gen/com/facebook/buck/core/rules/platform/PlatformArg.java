@@ -0,0 +1,222 @@
+package com.facebook.buck.core.rules.platform;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PlatformDescription.AbstractPlatformArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PlatformArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PlatformDescription.AbstractPlatformArg"})
+@Immutable
+@CheckReturnValue
+public final class PlatformArg
+    implements PlatformDescription.AbstractPlatformArg {
+  private final String name;
+  private final ImmutableList<BuildTarget> constraintValues;
+
+  private PlatformArg(PlatformArg.Builder builder) {
+    this.name = builder.name;
+    this.constraintValues = builder.constraintValues.build();
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code constraintValues} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getConstraintValues() {
+    return constraintValues;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PlatformArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PlatformArg
+        && equalTo((PlatformArg) another);
+  }
+
+  private boolean equalTo(PlatformArg another) {
+    return name.equals(another.name)
+        && constraintValues.equals(another.constraintValues);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code constraintValues}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + constraintValues.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PlatformArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PlatformArg")
+        .omitNullValues()
+        .add("name", name)
+        .add("constraintValues", constraintValues)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PlatformArg PlatformArg}.
+   * @return A new PlatformArg builder
+   */
+  public static PlatformArg.Builder builder() {
+    return new PlatformArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PlatformArg PlatformArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+    private ImmutableList.Builder<BuildTarget> constraintValues = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PlatformArg} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PlatformArg instance) {
+      return from((PlatformDescription.AbstractPlatformArg) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPlatformArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(PlatformDescription.AbstractPlatformArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      addAllConstraintValues(instance.getConstraintValues());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PlatformDescription.AbstractPlatformArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PlatformDescription.AbstractPlatformArg#getConstraintValues() constraintValues} list.
+     * @param element A constraintValues element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addConstraintValues(BuildTarget element) {
+      this.constraintValues.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PlatformDescription.AbstractPlatformArg#getConstraintValues() constraintValues} list.
+     * @param elements An array of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addConstraintValues(BuildTarget... elements) {
+      this.constraintValues.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PlatformDescription.AbstractPlatformArg#getConstraintValues() constraintValues} list.
+     * @param elements An iterable of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConstraintValues(Iterable<? extends BuildTarget> elements) {
+      this.constraintValues = ImmutableList.builder();
+      return addAllConstraintValues(elements);
+    }
+
+    /**
+     * Adds elements to {@link PlatformDescription.AbstractPlatformArg#getConstraintValues() constraintValues} list.
+     * @param elements An iterable of constraintValues elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllConstraintValues(Iterable<? extends BuildTarget> elements) {
+      this.constraintValues.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PlatformArg PlatformArg}.
+     * @return An immutable instance of PlatformArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PlatformArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PlatformArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PlatformArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.facebook.buck.core.rules.provider;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.primitives.Booleans;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link DefaultBuildRuleInfoProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableDefaultBuildRuleInfoProvider.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DefaultBuildRuleInfoProvider"})
+@Immutable
+@CheckReturnValue
+public final class ImmutableDefaultBuildRuleInfoProvider
+    extends DefaultBuildRuleInfoProvider {
+  private final Class<?> typeClass;
+  private final BuildTarget buildTarget;
+  private final @Nullable SourcePath sourcePathToOutput;
+  private final ProjectFilesystem projectFilesystem;
+  private final boolean isCacheable;
+
+  private ImmutableDefaultBuildRuleInfoProvider(
+      Class<?> typeClass,
+      BuildTarget buildTarget,
+      @Nullable SourcePath sourcePathToOutput,
+      ProjectFilesystem projectFilesystem,
+      boolean isCacheable) {
+    this.typeClass = Objects.requireNonNull(typeClass, "typeClass");
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.sourcePathToOutput = sourcePathToOutput;
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.isCacheable = isCacheable;
+  }
+
+  /**
+   *@return the class of the corresponding {@link com.facebook.buck.core.rules.BuildRule} 
+   */
+  @Override
+  public Class<?> getTypeClass() {
+    return typeClass;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   *@return The output of the BuildRule 
+   */
+  @Override
+  public @Nullable SourcePath getSourcePathToOutput() {
+    return sourcePathToOutput;
+  }
+
+  /**
+   * @return the {@link ProjectFilesystem} that the corresponding {@link
+   *     com.facebook.buck.core.rules.BuildRule} operates on
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * Whether this {@link com.facebook.buck.core.rules.BuildRule} can be cached.
+   * <p>Uncached build rules are never written out to cache, never read from cache, and not included
+   * in cache statistics. This rule is useful for artifacts which cannot be easily normalized.
+   * <p>Uncached rules are not always rebuilt, however, as long as the existing on-disk
+   * representation is up to date. This means that these rules can take advantage of {@link
+   * com.facebook.buck.core.rules.attr.SupportsInputBasedRuleKey} to prevent rebuilding.
+   */
+  @Override
+  public boolean isCacheable() {
+    return isCacheable;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultBuildRuleInfoProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultBuildRuleInfoProvider
+        && equalTo((ImmutableDefaultBuildRuleInfoProvider) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultBuildRuleInfoProvider another) {
+    return typeClass.equals(another.typeClass)
+        && buildTarget.equals(another.buildTarget)
+        && Objects.equals(sourcePathToOutput, another.sourcePathToOutput)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && isCacheable == another.isCacheable;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code typeClass}, {@code buildTarget}, {@code sourcePathToOutput}, {@code projectFilesystem}, {@code isCacheable}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + typeClass.hashCode();
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + Objects.hashCode(sourcePathToOutput);
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + Booleans.hashCode(isCacheable);
+    return h;
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long TYPE_LAZY_INIT_BIT = 0x1L;
+
+  private String type;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultBuildRuleInfoProvider#getType() type} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public String getType() {
+    if ((lazyInitBitmap & TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & TYPE_LAZY_INIT_BIT) == 0) {
+          this.type = Objects.requireNonNull(super.getType(), "type");
+          lazyInitBitmap |= TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return type;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultBuildRuleInfoProvider} instance.
+   * @param typeClass The value for the {@code typeClass} attribute
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param sourcePathToOutput The value for the {@code sourcePathToOutput} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param isCacheable The value for the {@code isCacheable} attribute
+   * @return An immutable DefaultBuildRuleInfoProvider instance
+   */
+  public static ImmutableDefaultBuildRuleInfoProvider of(Class<?> typeClass, BuildTarget buildTarget, @Nullable SourcePath sourcePathToOutput, ProjectFilesystem projectFilesystem, boolean isCacheable) {
+    return new ImmutableDefaultBuildRuleInfoProvider(typeClass, buildTarget, sourcePathToOutput, projectFilesystem, isCacheable);
+  }
+}
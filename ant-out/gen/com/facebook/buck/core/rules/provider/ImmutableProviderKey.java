@@ -0,0 +1,78 @@
+package com.facebook.buck.core.rules.provider;
+
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link BuildRuleInfoProvider.ProviderKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableProviderKey.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildRuleInfoProvider.ProviderKey"})
+@Immutable
+@CheckReturnValue
+public final class ImmutableProviderKey
+    extends BuildRuleInfoProvider.ProviderKey {
+  private final Class<?> providerClass;
+  private final int hashCode;
+
+  private ImmutableProviderKey(Class<?> providerClass) {
+    this.providerClass = Objects.requireNonNull(providerClass, "providerClass");
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code providerClass} attribute
+   */
+  @Override
+  protected Class<?> getProviderClass() {
+    return providerClass;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableProviderKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableProviderKey
+        && equalTo((ImmutableProviderKey) another);
+  }
+
+  private boolean equalTo(ImmutableProviderKey another) {
+    if (hashCode != another.hashCode) return false;
+    return providerClass.equals(another.providerClass);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code providerClass}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + providerClass.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ProviderKey} instance.
+   * @param providerClass The value for the {@code providerClass} attribute
+   * @return An immutable ProviderKey instance
+   */
+  public static ImmutableProviderKey of(Class<?> providerClass) {
+    return new ImmutableProviderKey(providerClass);
+  }
+}
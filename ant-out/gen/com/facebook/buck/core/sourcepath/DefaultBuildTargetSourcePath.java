@@ -0,0 +1,248 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link BuildTargetSourcePath} which resolves to the default output of the {@link
+ * com.facebook.buck.core.rules.BuildRule} referred to by its target.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDefaultBuildTargetSourcePath"})
+@Immutable
+@CheckReturnValue
+public final class DefaultBuildTargetSourcePath
+    extends AbstractDefaultBuildTargetSourcePath {
+  private final BuildTarget target;
+  private final Optional<HashCode> precomputedHash;
+  private final int hashCode;
+
+  private DefaultBuildTargetSourcePath(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.precomputedHash = Objects.requireNonNull(super.getPrecomputedHash(), "precomputedHash");
+    this.hashCode = super.hashCode();
+  }
+
+  private DefaultBuildTargetSourcePath(DefaultBuildTargetSourcePath.Builder builder) {
+    this.target = builder.target;
+    this.precomputedHash = builder.precomputedHash != null
+        ? builder.precomputedHash
+        : Objects.requireNonNull(super.getPrecomputedHash(), "precomputedHash");
+    this.hashCode = super.hashCode();
+  }
+
+  private DefaultBuildTargetSourcePath(
+      BuildTarget target,
+      Optional<HashCode> precomputedHash) {
+    this.target = target;
+    this.precomputedHash = precomputedHash;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code precomputedHash} attribute
+   */
+  @Override
+  public Optional<HashCode> getPrecomputedHash() {
+    return precomputedHash;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultBuildTargetSourcePath#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultBuildTargetSourcePath withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new DefaultBuildTargetSourcePath(newValue, this.precomputedHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for precomputedHash
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefaultBuildTargetSourcePath withPrecomputedHash(Optional<HashCode> value) {
+    if (this.precomputedHash.equals(value)) return this;
+    Optional<HashCode> newValue = Objects.requireNonNull(value, "precomputedHash");
+    return new DefaultBuildTargetSourcePath(this.target, newValue);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code DefaultBuildTargetSourcePath} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable DefaultBuildTargetSourcePath instance
+   */
+  public static DefaultBuildTargetSourcePath of(BuildTarget target) {
+    return new DefaultBuildTargetSourcePath(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDefaultBuildTargetSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DefaultBuildTargetSourcePath instance
+   */
+  public static DefaultBuildTargetSourcePath copyOf(AbstractDefaultBuildTargetSourcePath instance) {
+    if (instance instanceof DefaultBuildTargetSourcePath) {
+      return (DefaultBuildTargetSourcePath) instance;
+    }
+    return DefaultBuildTargetSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DefaultBuildTargetSourcePath DefaultBuildTargetSourcePath}.
+   * @return A new DefaultBuildTargetSourcePath builder
+   */
+  public static DefaultBuildTargetSourcePath.Builder builder() {
+    return new DefaultBuildTargetSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefaultBuildTargetSourcePath DefaultBuildTargetSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable Optional<HashCode> precomputedHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.AbstractDefaultBuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractDefaultBuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.sourcepath.BuildTargetSourcePath} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(BuildTargetSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractDefaultBuildTargetSourcePath) {
+        AbstractDefaultBuildTargetSourcePath instance = (AbstractDefaultBuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          setPrecomputedHash(instance.getPrecomputedHash());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof BuildTargetSourcePath) {
+        BuildTargetSourcePath instance = (BuildTargetSourcePath) object;
+        if ((bits & 0x1L) == 0) {
+          setPrecomputedHash(instance.getPrecomputedHash());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setTarget(instance.getTarget());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultBuildTargetSourcePath#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractDefaultBuildTargetSourcePath#getPrecomputedHash() precomputedHash}.</em>
+     * @param precomputedHash The value for precomputedHash 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecomputedHash(Optional<HashCode> precomputedHash) {
+      this.precomputedHash = Objects.requireNonNull(precomputedHash, "precomputedHash");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DefaultBuildTargetSourcePath DefaultBuildTargetSourcePath}.
+     * @return An immutable instance of DefaultBuildTargetSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefaultBuildTargetSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DefaultBuildTargetSourcePath(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      return "Cannot build DefaultBuildTargetSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
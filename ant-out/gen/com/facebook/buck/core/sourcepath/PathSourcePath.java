@@ -0,0 +1,211 @@
+package com.facebook.buck.core.sourcepath;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPathSourcePath}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PathSourcePath.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code PathSourcePath.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPathSourcePath"})
+@Immutable
+@CheckReturnValue
+public final class PathSourcePath extends AbstractPathSourcePath {
+  private final ProjectFilesystem filesystem;
+  private final Path relativePath;
+  private final int hashCode;
+
+  private PathSourcePath(ProjectFilesystem filesystem, Path relativePath) {
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.relativePath = Objects.requireNonNull(relativePath, "relativePath");
+    this.hashCode = super.hashCode();
+  }
+
+  private PathSourcePath(
+      PathSourcePath original,
+      ProjectFilesystem filesystem,
+      Path relativePath) {
+    this.filesystem = filesystem;
+    this.relativePath = relativePath;
+    this.hashCode = super.hashCode();
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code relativePath} attribute
+   */
+  @Override
+  public Path getRelativePath() {
+    return relativePath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPathSourcePath#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final PathSourcePath withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "filesystem");
+    return new PathSourcePath(this, newValue, this.relativePath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPathSourcePath#getRelativePath() relativePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for relativePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final PathSourcePath withRelativePath(Path value) {
+    if (this.relativePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "relativePath");
+    return new PathSourcePath(this, this.filesystem, newValue);
+  }
+
+  /**
+   * Returns the precomputed-on-construction hash code from the supertype implementation of {@code super.hashCode()}.
+   * @return The hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * Construct a new immutable {@code PathSourcePath} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param relativePath The value for the {@code relativePath} attribute
+   * @return An immutable PathSourcePath instance
+   */
+  public static PathSourcePath of(ProjectFilesystem filesystem, Path relativePath) {
+    return new PathSourcePath(filesystem, relativePath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPathSourcePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PathSourcePath instance
+   */
+  public static PathSourcePath copyOf(AbstractPathSourcePath instance) {
+    if (instance instanceof PathSourcePath) {
+      return (PathSourcePath) instance;
+    }
+    return PathSourcePath.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PathSourcePath PathSourcePath}.
+   * @return A new PathSourcePath builder
+   */
+  public static PathSourcePath.Builder builder() {
+    return new PathSourcePath.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PathSourcePath PathSourcePath}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FILESYSTEM = 0x1L;
+    private static final long INIT_BIT_RELATIVE_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable ProjectFilesystem filesystem;
+    private @Nullable Path relativePath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractPathSourcePath} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractPathSourcePath instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFilesystem(instance.getFilesystem());
+      setRelativePath(instance.getRelativePath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPathSourcePath#getFilesystem() filesystem} attribute.
+     * @param filesystem The value for filesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFilesystem(ProjectFilesystem filesystem) {
+      this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+      initBits &= ~INIT_BIT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPathSourcePath#getRelativePath() relativePath} attribute.
+     * @param relativePath The value for relativePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRelativePath(Path relativePath) {
+      this.relativePath = Objects.requireNonNull(relativePath, "relativePath");
+      initBits &= ~INIT_BIT_RELATIVE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link PathSourcePath PathSourcePath}.
+     * @return An immutable instance of PathSourcePath
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PathSourcePath build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PathSourcePath(null, filesystem, relativePath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FILESYSTEM) != 0) attributes.add("filesystem");
+      if ((initBits & INIT_BIT_RELATIVE_PATH) != 0) attributes.add("relativePath");
+      return "Cannot build PathSourcePath, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,560 @@
+package com.facebook.buck.core.test.rule;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.util.types.Pair;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A JSON-serializable structure that gets passed to external test runners.
+ * <p>NOTE: We're relying on the fact we're using POJOs here and that all the sub-types are
+ * JSON-serializable already. Be careful that we don't break serialization when adding item here.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExternalTestRunnerTestSpec"})
+@Immutable
+@CheckReturnValue
+public final class ExternalTestRunnerTestSpec
+    extends AbstractExternalTestRunnerTestSpec {
+  private final BuildTarget target;
+  private final String type;
+  private final ImmutableList<String> command;
+  private final ImmutableList<Pair<Float, ImmutableSet<Path>>> neededCoverage;
+  private final ImmutableSet<Path> additionalCoverageTargets;
+  private final ImmutableMap<String, String> env;
+  private final ImmutableList<String> labels;
+  private final ImmutableList<String> contacts;
+
+  private ExternalTestRunnerTestSpec(ExternalTestRunnerTestSpec.Builder builder) {
+    this.target = builder.target;
+    this.type = builder.type;
+    this.command = builder.command.build();
+    this.neededCoverage = builder.neededCoverage.build();
+    this.additionalCoverageTargets = builder.additionalCoverageTargets.build();
+    this.env = builder.env.build();
+    this.labels = builder.labels.build();
+    this.contacts = builder.contacts.build();
+  }
+
+  /**
+   *@return the build target of this rule. 
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return a test-specific type string which classifies the test class, so the external runner
+   *     knows how to parse the output.
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   *@return the command the external test runner must invoke to run the test. 
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   * @return coverage threshold and list of source path to be passed the test command for test
+   *     coverage.
+   */
+  @Override
+  public ImmutableList<Pair<Float, ImmutableSet<Path>>> getNeededCoverage() {
+    return neededCoverage;
+  }
+
+  /**
+   * @return a list of source path to be passed the test command for calculating additional test
+   *     coverage.
+   */
+  @Override
+  public ImmutableSet<Path> getAdditionalCoverageTargets() {
+    return additionalCoverageTargets;
+  }
+
+  /**
+   *@return environment variables the external test runner should provide for the test command. 
+   */
+  @Override
+  public ImmutableMap<String, String> getEnv() {
+    return env;
+  }
+
+  /**
+   *@return test labels. 
+   */
+  @Override
+  public ImmutableList<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   *@return test contacts. 
+   */
+  @Override
+  public ImmutableList<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExternalTestRunnerTestSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExternalTestRunnerTestSpec
+        && equalTo((ExternalTestRunnerTestSpec) another);
+  }
+
+  private boolean equalTo(ExternalTestRunnerTestSpec another) {
+    return target.equals(another.target)
+        && type.equals(another.type)
+        && command.equals(another.command)
+        && neededCoverage.equals(another.neededCoverage)
+        && additionalCoverageTargets.equals(another.additionalCoverageTargets)
+        && env.equals(another.env)
+        && labels.equals(another.labels)
+        && contacts.equals(another.contacts);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code type}, {@code command}, {@code neededCoverage}, {@code additionalCoverageTargets}, {@code env}, {@code labels}, {@code contacts}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + target.hashCode();
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + neededCoverage.hashCode();
+    h += (h << 5) + additionalCoverageTargets.hashCode();
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExternalTestRunnerTestSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExternalTestRunnerTestSpec")
+        .omitNullValues()
+        .add("target", target)
+        .add("type", type)
+        .add("command", command)
+        .add("neededCoverage", neededCoverage)
+        .add("additionalCoverageTargets", additionalCoverageTargets)
+        .add("env", env)
+        .add("labels", labels)
+        .add("contacts", contacts)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+   * @return A new ExternalTestRunnerTestSpec builder
+   */
+  public static ExternalTestRunnerTestSpec.Builder builder() {
+    return new ExternalTestRunnerTestSpec.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TARGET = 0x1L;
+    private static final long INIT_BIT_TYPE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuildTarget target;
+    private @Nullable String type;
+    private ImmutableList.Builder<String> command = ImmutableList.builder();
+    private ImmutableList.Builder<Pair<Float, ImmutableSet<Path>>> neededCoverage = ImmutableList.builder();
+    private ImmutableSet.Builder<Path> additionalCoverageTargets = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, String> env = ImmutableMap.builder();
+    private ImmutableList.Builder<String> labels = ImmutableList.builder();
+    private ImmutableList.Builder<String> contacts = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExternalTestRunnerTestSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExternalTestRunnerTestSpec instance) {
+      return from((AbstractExternalTestRunnerTestSpec) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExternalTestRunnerTestSpec} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractExternalTestRunnerTestSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      setTarget(instance.getTarget());
+      setType(instance.getType());
+      addAllCommand(instance.getCommand());
+      addAllNeededCoverage(instance.getNeededCoverage());
+      addAllAdditionalCoverageTargets(instance.getAdditionalCoverageTargets());
+      putAllEnv(instance.getEnv());
+      addAllLabels(instance.getLabels());
+      addAllContacts(instance.getContacts());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExternalTestRunnerTestSpec#getTarget() target} attribute.
+     * @param target The value for target 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      initBits &= ~INIT_BIT_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractExternalTestRunnerTestSpec#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(String type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param element A command element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCommand(String element) {
+      this.command.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements An array of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCommand(String... elements) {
+      this.command.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCommand(Iterable<String> elements) {
+      this.command = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCommand(Iterable<String> elements) {
+      this.command.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param element A neededCoverage element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNeededCoverage(Pair<Float, ImmutableSet<Path>> element) {
+      this.neededCoverage.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param elements An array of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @SafeVarargs @SuppressWarnings("varargs")
+    public final Builder addNeededCoverage(Pair<Float, ImmutableSet<Path>>... elements) {
+      this.neededCoverage.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param elements An iterable of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNeededCoverage(Iterable<? extends Pair<Float, ImmutableSet<Path>>> elements) {
+      this.neededCoverage = ImmutableList.builder();
+      return addAllNeededCoverage(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getNeededCoverage() neededCoverage} list.
+     * @param elements An iterable of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllNeededCoverage(Iterable<? extends Pair<Float, ImmutableSet<Path>>> elements) {
+      this.neededCoverage.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param element A additionalCoverageTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAdditionalCoverageTargets(Path element) {
+      this.additionalCoverageTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An array of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAdditionalCoverageTargets(Path... elements) {
+      this.additionalCoverageTargets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An iterable of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAdditionalCoverageTargets(Iterable<? extends Path> elements) {
+      this.additionalCoverageTargets = ImmutableSet.builder();
+      return addAllAdditionalCoverageTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getAdditionalCoverageTargets() additionalCoverageTargets} set.
+     * @param elements An iterable of additionalCoverageTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllAdditionalCoverageTargets(Iterable<? extends Path> elements) {
+      this.additionalCoverageTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnv(String key, String value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnv(Map.Entry<String, ? extends String> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnv(Map<String, ? extends String> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractExternalTestRunnerTestSpec#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnv(Map<String, ? extends String> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableList.builder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getLabels() labels} list.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String... elements) {
+      this.contacts.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableList.builder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExternalTestRunnerTestSpec#getContacts() contacts} list.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExternalTestRunnerTestSpec ExternalTestRunnerTestSpec}.
+     * @return An immutable instance of ExternalTestRunnerTestSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExternalTestRunnerTestSpec build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExternalTestRunnerTestSpec(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TARGET) != 0) attributes.add("target");
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build ExternalTestRunnerTestSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.facebook.buck.core.toolchain.impl;
+
+import com.facebook.buck.core.toolchain.Toolchain;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link NamedToolchain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableNamedToolchain.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "NamedToolchain"})
+@Immutable
+@CheckReturnValue
+public final class ImmutableNamedToolchain implements NamedToolchain {
+  private final String name;
+  private final Toolchain toolchain;
+
+  private ImmutableNamedToolchain(String name, Toolchain toolchain) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.toolchain = Objects.requireNonNull(toolchain, "toolchain");
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code toolchain} attribute
+   */
+  @Override
+  public Toolchain getToolchain() {
+    return toolchain;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableNamedToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableNamedToolchain
+        && equalTo((ImmutableNamedToolchain) another);
+  }
+
+  private boolean equalTo(ImmutableNamedToolchain another) {
+    return name.equals(another.name)
+        && toolchain.equals(another.toolchain);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code toolchain}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + toolchain.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NamedToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NamedToolchain")
+        .omitNullValues()
+        .add("name", name)
+        .add("toolchain", toolchain)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NamedToolchain} instance.
+   * @param name The value for the {@code name} attribute
+   * @param toolchain The value for the {@code toolchain} attribute
+   * @return An immutable NamedToolchain instance
+   */
+  public static ImmutableNamedToolchain of(String name, Toolchain toolchain) {
+    return new ImmutableNamedToolchain(name, toolchain);
+  }
+}
@@ -0,0 +1,251 @@
+package com.facebook.buck.counters;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Counter.AbstractCounterInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CounterInfo.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Counter.AbstractCounterInfo"})
+@Immutable
+@CheckReturnValue
+public final class CounterInfo implements Counter.AbstractCounterInfo {
+  private final String category;
+  private final String name;
+  private final ImmutableMap<String, String> tags;
+
+  private CounterInfo(CounterInfo.Builder builder) {
+    this.category = builder.category;
+    this.name = builder.name;
+    this.tags = builder.tags.build();
+  }
+
+  /**
+   * @return The value of the {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code tags} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CounterInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CounterInfo
+        && equalTo((CounterInfo) another);
+  }
+
+  private boolean equalTo(CounterInfo another) {
+    return category.equals(another.category)
+        && name.equals(another.name)
+        && tags.equals(another.tags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code category}, {@code name}, {@code tags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + category.hashCode();
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + tags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CounterInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CounterInfo")
+        .omitNullValues()
+        .add("category", category)
+        .add("name", name)
+        .add("tags", tags)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CounterInfo CounterInfo}.
+   * @return A new CounterInfo builder
+   */
+  public static CounterInfo.Builder builder() {
+    return new CounterInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CounterInfo CounterInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CATEGORY = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String category;
+    private @Nullable String name;
+    private ImmutableMap.Builder<String, String> tags = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CounterInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CounterInfo instance) {
+      return from((Counter.AbstractCounterInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCounterInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(Counter.AbstractCounterInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCategory(instance.getCategory());
+      setName(instance.getName());
+      putAllTags(instance.getTags());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link Counter.AbstractCounterInfo#getCategory() category} attribute.
+     * @param category The value for category 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCategory(String category) {
+      this.category = Objects.requireNonNull(category, "category");
+      initBits &= ~INIT_BIT_CATEGORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link Counter.AbstractCounterInfo#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link Counter.AbstractCounterInfo#getTags() tags} map.
+     * @param key The key in the tags map
+     * @param value The associated value in the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTags(String key, String value) {
+      this.tags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Counter.AbstractCounterInfo#getTags() tags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putTags(Map.Entry<String, ? extends String> entry) {
+      this.tags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link Counter.AbstractCounterInfo#getTags() tags} map. Nulls are not permitted
+     * @param tags The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTags(Map<String, ? extends String> tags) {
+      this.tags = ImmutableMap.builder();
+      return putAllTags(tags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link Counter.AbstractCounterInfo#getTags() tags} map. Nulls are not permitted
+     * @param tags The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllTags(Map<String, ? extends String> tags) {
+      this.tags.putAll(tags);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CounterInfo CounterInfo}.
+     * @return An immutable instance of CounterInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CounterInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CounterInfo(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CATEGORY) != 0) attributes.add("category");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build CounterInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,343 @@
+package com.facebook.buck.cxx;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxCompilationDatabaseEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxCompilationDatabaseEntry.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CxxCompilationDatabaseEntry.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxCompilationDatabaseEntry"})
+@Immutable
+@CheckReturnValue
+public final class CxxCompilationDatabaseEntry
+    extends AbstractCxxCompilationDatabaseEntry {
+  private final String directory;
+  private final String file;
+  private final ImmutableList<String> arguments;
+
+  private CxxCompilationDatabaseEntry(String directory, String file, Iterable<String> arguments) {
+    this.directory = Objects.requireNonNull(directory, "directory");
+    this.file = Objects.requireNonNull(file, "file");
+    this.arguments = ImmutableList.copyOf(arguments);
+  }
+
+  private CxxCompilationDatabaseEntry(CxxCompilationDatabaseEntry.Builder builder) {
+    this.directory = builder.directory;
+    this.file = builder.file;
+    this.arguments = builder.arguments.build();
+  }
+
+  /**
+   * @return The value of the {@code directory} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * @return The value of the {@code file} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getFile() {
+    return file;
+  }
+
+  /**
+   * @return The value of the {@code arguments} attribute
+   */
+  @JsonProperty
+  @Override
+  public ImmutableList<String> getArguments() {
+    return arguments;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxCompilationDatabaseEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxCompilationDatabaseEntry
+        && equalTo((CxxCompilationDatabaseEntry) another);
+  }
+
+  private boolean equalTo(CxxCompilationDatabaseEntry another) {
+    return directory.equals(another.directory)
+        && file.equals(another.file)
+        && arguments.equals(another.arguments);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code directory}, {@code file}, {@code arguments}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + directory.hashCode();
+    h += (h << 5) + file.hashCode();
+    h += (h << 5) + arguments.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxCompilationDatabaseEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxCompilationDatabaseEntry")
+        .omitNullValues()
+        .add("directory", directory)
+        .add("file", file)
+        .add("arguments", arguments)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractCxxCompilationDatabaseEntry {
+    @Nullable String directory;
+    @Nullable String file;
+    @Nullable ImmutableList<String> arguments = ImmutableList.of();
+    @JsonProperty
+    public void setDirectory(String directory) {
+      this.directory = directory;
+    }
+    @JsonProperty
+    public void setFile(String file) {
+      this.file = file;
+    }
+    @JsonProperty
+    public void setArguments(ImmutableList<String> arguments) {
+      this.arguments = arguments;
+    }
+    @Override
+    public String getDirectory() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getFile() { throw new UnsupportedOperationException(); }
+    @Override
+    public ImmutableList<String> getArguments() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static CxxCompilationDatabaseEntry fromJson(Json json) {
+    CxxCompilationDatabaseEntry.Builder builder = CxxCompilationDatabaseEntry.builder();
+    if (json.directory != null) {
+      builder.setDirectory(json.directory);
+    }
+    if (json.file != null) {
+      builder.setFile(json.file);
+    }
+    if (json.arguments != null) {
+      builder.addAllArguments(json.arguments);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseEntry} instance.
+   * @param directory The value for the {@code directory} attribute
+   * @param file The value for the {@code file} attribute
+   * @param arguments The value for the {@code arguments} attribute
+   * @return An immutable CxxCompilationDatabaseEntry instance
+   */
+  public static CxxCompilationDatabaseEntry of(String directory, String file, ImmutableList<String> arguments) {
+    return of(directory, file, (Iterable<String>) arguments);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxCompilationDatabaseEntry} instance.
+   * @param directory The value for the {@code directory} attribute
+   * @param file The value for the {@code file} attribute
+   * @param arguments The value for the {@code arguments} attribute
+   * @return An immutable CxxCompilationDatabaseEntry instance
+   */
+  public static CxxCompilationDatabaseEntry of(String directory, String file, Iterable<String> arguments) {
+    return new CxxCompilationDatabaseEntry(directory, file, arguments);
+  }
+
+  /**
+   * Creates a builder for {@link CxxCompilationDatabaseEntry CxxCompilationDatabaseEntry}.
+   * @return A new CxxCompilationDatabaseEntry builder
+   */
+  public static CxxCompilationDatabaseEntry.Builder builder() {
+    return new CxxCompilationDatabaseEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxCompilationDatabaseEntry CxxCompilationDatabaseEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_DIRECTORY = 0x1L;
+    private static final long INIT_BIT_FILE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String directory;
+    private @Nullable String file;
+    private ImmutableList.Builder<String> arguments = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxCompilationDatabaseEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxCompilationDatabaseEntry instance) {
+      return from((AbstractCxxCompilationDatabaseEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxCompilationDatabaseEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCxxCompilationDatabaseEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      setDirectory(instance.getDirectory());
+      setFile(instance.getFile());
+      addAllArguments(instance.getArguments());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxCompilationDatabaseEntry#getDirectory() directory} attribute.
+     * @param directory The value for directory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setDirectory(String directory) {
+      this.directory = Objects.requireNonNull(directory, "directory");
+      initBits &= ~INIT_BIT_DIRECTORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxCompilationDatabaseEntry#getFile() file} attribute.
+     * @param file The value for file 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setFile(String file) {
+      this.file = Objects.requireNonNull(file, "file");
+      initBits &= ~INIT_BIT_FILE;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param element A arguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArguments(String element) {
+      this.arguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param elements An array of arguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addArguments(String... elements) {
+      this.arguments.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param elements An iterable of arguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setArguments(Iterable<String> elements) {
+      this.arguments = ImmutableList.builder();
+      return addAllArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxCompilationDatabaseEntry#getArguments() arguments} list.
+     * @param elements An iterable of arguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllArguments(Iterable<String> elements) {
+      this.arguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxCompilationDatabaseEntry CxxCompilationDatabaseEntry}.
+     * @return An immutable instance of CxxCompilationDatabaseEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxCompilationDatabaseEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxCompilationDatabaseEntry(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_DIRECTORY) != 0) attributes.add("directory");
+      if ((initBits & INIT_BIT_FILE) != 0) attributes.add("file");
+      return "Cannot build CxxCompilationDatabaseEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
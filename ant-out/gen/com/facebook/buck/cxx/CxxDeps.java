@@ -0,0 +1,131 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The group of {@link BuildTarget}s from C/C++ constructor args which comprise a C/C++ descriptions
+ * logical C/C++ deps used to find dependency {@link NativeLinkable}s or {@link
+ * CxxPreprocessorDep}s.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxDeps"})
+@Immutable
+@CheckReturnValue
+public final class CxxDeps extends AbstractCxxDeps {
+  private final ImmutableList<BuildTarget> deps;
+  private final ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps;
+
+  private CxxDeps() {
+    this.deps = ImmutableList.of();
+    this.platformDeps = ImmutableList.of();
+  }
+
+  private CxxDeps(
+      Iterable<? extends BuildTarget> deps,
+      Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    this.deps = ImmutableList.copyOf(deps);
+    this.platformDeps = ImmutableList.copyOf(platformDeps);
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> getPlatformDeps() {
+    return platformDeps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxDeps} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxDeps
+        && equalTo((CxxDeps) another);
+  }
+
+  private boolean equalTo(CxxDeps another) {
+    return deps.equals(another.deps)
+        && platformDeps.equals(another.platformDeps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code deps}, {@code platformDeps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxDeps} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxDeps")
+        .omitNullValues()
+        .add("deps", deps)
+        .add("platformDeps", platformDeps)
+        .toString();
+  }
+
+  private static final CxxDeps INSTANCE = validate(new CxxDeps());
+
+  /**
+   * Returns the default immutable singleton value of {@code CxxDeps}
+   * @return An immutable instance of CxxDeps
+   */
+  public static CxxDeps of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code CxxDeps} instance.
+   * @param deps The value for the {@code deps} attribute
+   * @param platformDeps The value for the {@code platformDeps} attribute
+   * @return An immutable CxxDeps instance
+   */
+  public static CxxDeps of(ImmutableList<BuildTarget> deps, ImmutableList<PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    return of((Iterable<? extends BuildTarget>) deps, (Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>>) platformDeps);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxDeps} instance.
+   * @param deps The value for the {@code deps} attribute
+   * @param platformDeps The value for the {@code platformDeps} attribute
+   * @return An immutable CxxDeps instance
+   */
+  public static CxxDeps of(Iterable<? extends BuildTarget> deps, Iterable<? extends PatternMatchedCollection<ImmutableSortedSet<BuildTarget>>> platformDeps) {
+    return validate(new CxxDeps(deps, platformDeps));
+  }
+
+
+  private static CxxDeps validate(CxxDeps instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+}
@@ -0,0 +1,176 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractCxxIncludePaths}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CxxIncludePaths.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxIncludePaths"})
+@Immutable
+@CheckReturnValue
+final class CxxIncludePaths extends AbstractCxxIncludePaths {
+  private final ImmutableSet<CxxHeaders> iPaths;
+  private final ImmutableSet<FrameworkPath> fPaths;
+
+  private CxxIncludePaths(
+      Iterable<? extends CxxHeaders> iPaths,
+      Iterable<? extends FrameworkPath> fPaths) {
+    this.iPaths = ImmutableSet.copyOf(iPaths);
+    this.fPaths = ImmutableSet.copyOf(fPaths);
+  }
+
+  private CxxIncludePaths(
+      CxxIncludePaths original,
+      ImmutableSet<CxxHeaders> iPaths,
+      ImmutableSet<FrameworkPath> fPaths) {
+    this.iPaths = iPaths;
+    this.fPaths = fPaths;
+  }
+
+  /**
+   * @return The value of the {@code iPaths} attribute
+   */
+  @Override
+  public ImmutableSet<CxxHeaders> getIPaths() {
+    return iPaths;
+  }
+
+  /**
+   * @return The value of the {@code fPaths} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFPaths() {
+    return fPaths;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxIncludePaths#getIPaths() iPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxIncludePaths withIPaths(CxxHeaders... elements) {
+    ImmutableSet<CxxHeaders> newValue = ImmutableSet.copyOf(elements);
+    return new CxxIncludePaths(this, newValue, this.fPaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxIncludePaths#getIPaths() iPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of iPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxIncludePaths withIPaths(Iterable<? extends CxxHeaders> elements) {
+    if (this.iPaths == elements) return this;
+    ImmutableSet<CxxHeaders> newValue = ImmutableSet.copyOf(elements);
+    return new CxxIncludePaths(this, newValue, this.fPaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxIncludePaths#getFPaths() fPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxIncludePaths withFPaths(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new CxxIncludePaths(this, this.iPaths, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxIncludePaths#getFPaths() fPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of fPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxIncludePaths withFPaths(Iterable<? extends FrameworkPath> elements) {
+    if (this.fPaths == elements) return this;
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return new CxxIncludePaths(this, this.iPaths, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxIncludePaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxIncludePaths
+        && equalTo((CxxIncludePaths) another);
+  }
+
+  private boolean equalTo(CxxIncludePaths another) {
+    return iPaths.equals(another.iPaths)
+        && fPaths.equals(another.fPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code iPaths}, {@code fPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + iPaths.hashCode();
+    h += (h << 5) + fPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxIncludePaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxIncludePaths")
+        .omitNullValues()
+        .add("iPaths", iPaths)
+        .add("fPaths", fPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxIncludePaths} instance.
+   * @param iPaths The value for the {@code iPaths} attribute
+   * @param fPaths The value for the {@code fPaths} attribute
+   * @return An immutable CxxIncludePaths instance
+   */
+  public static CxxIncludePaths of(ImmutableSet<CxxHeaders> iPaths, ImmutableSet<FrameworkPath> fPaths) {
+    return of((Iterable<? extends CxxHeaders>) iPaths, (Iterable<? extends FrameworkPath>) fPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxIncludePaths} instance.
+   * @param iPaths The value for the {@code iPaths} attribute
+   * @param fPaths The value for the {@code fPaths} attribute
+   * @return An immutable CxxIncludePaths instance
+   */
+  public static CxxIncludePaths of(Iterable<? extends CxxHeaders> iPaths, Iterable<? extends FrameworkPath> fPaths) {
+    return new CxxIncludePaths(iPaths, fPaths);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxIncludePaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxIncludePaths instance
+   */
+  public static CxxIncludePaths copyOf(AbstractCxxIncludePaths instance) {
+    if (instance instanceof CxxIncludePaths) {
+      return (CxxIncludePaths) instance;
+    }
+    return CxxIncludePaths.of(instance.getIPaths(), instance.getFPaths());
+  }
+}
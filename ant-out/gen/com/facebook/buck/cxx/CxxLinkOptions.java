@@ -0,0 +1,108 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractCxxLinkOptions}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code CxxLinkOptions.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxLinkOptions"})
+@Immutable
+@CheckReturnValue
+public final class CxxLinkOptions extends AbstractCxxLinkOptions {
+  private final boolean thinLto;
+
+  private CxxLinkOptions(boolean thinLto) {
+    this.thinLto = thinLto;
+  }
+
+  /**
+   * @return The value of the {@code thinLto} attribute
+   */
+  @Override
+  public boolean getThinLto() {
+    return thinLto;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxLinkOptions#getThinLto() thinLto} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for thinLto
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxLinkOptions withThinLto(boolean value) {
+    if (this.thinLto == value) return this;
+    return new CxxLinkOptions(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxLinkOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxLinkOptions
+        && equalTo((CxxLinkOptions) another);
+  }
+
+  private boolean equalTo(CxxLinkOptions another) {
+    return thinLto == another.thinLto;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code thinLto}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(thinLto);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxLinkOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxLinkOptions")
+        .omitNullValues()
+        .add("thinLto", thinLto)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxLinkOptions} instance.
+   * @param thinLto The value for the {@code thinLto} attribute
+   * @return An immutable CxxLinkOptions instance
+   */
+  public static CxxLinkOptions of(boolean thinLto) {
+    return new CxxLinkOptions(thinLto);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxLinkOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxLinkOptions instance
+   */
+  static CxxLinkOptions copyOf(AbstractCxxLinkOptions instance) {
+    if (instance instanceof CxxLinkOptions) {
+      return (CxxLinkOptions) instance;
+    }
+    return CxxLinkOptions.of(instance.getThinLto());
+  }
+}
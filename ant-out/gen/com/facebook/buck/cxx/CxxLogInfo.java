@@ -0,0 +1,318 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxLogInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxLogInfo.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxLogInfo"})
+@Immutable
+@CheckReturnValue
+final class CxxLogInfo extends AbstractCxxLogInfo {
+  private final @Nullable BuildTarget target;
+  private final @Nullable Path sourcePath;
+  private final @Nullable Path outputPath;
+
+  private CxxLogInfo(
+      @Nullable BuildTarget target,
+      @Nullable Path sourcePath,
+      @Nullable Path outputPath) {
+    this.target = target;
+    this.sourcePath = sourcePath;
+    this.outputPath = outputPath;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getTarget() {
+    return Optional.ofNullable(target);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<Path> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * @return The value of the {@code outputPath} attribute
+   */
+  @Override
+  public Optional<Path> getOutputPath() {
+    return Optional.ofNullable(outputPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxLogInfo#getTarget() target} attribute.
+   * @param value The value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxLogInfo withTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Objects.requireNonNull(value, "target");
+    if (this.target == newValue) return this;
+    return new CxxLogInfo(newValue, this.sourcePath, this.outputPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxLogInfo#getTarget() target} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for target
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxLogInfo withTarget(Optional<? extends BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.target == value) return this;
+    return new CxxLogInfo(value, this.sourcePath, this.outputPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxLogInfo#getSourcePath() sourcePath} attribute.
+   * @param value The value for sourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxLogInfo withSourcePath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "sourcePath");
+    if (this.sourcePath == newValue) return this;
+    return new CxxLogInfo(this.target, newValue, this.outputPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxLogInfo#getSourcePath() sourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxLogInfo withSourcePath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.sourcePath == value) return this;
+    return new CxxLogInfo(this.target, value, this.outputPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxLogInfo#getOutputPath() outputPath} attribute.
+   * @param value The value for outputPath
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxLogInfo withOutputPath(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "outputPath");
+    if (this.outputPath == newValue) return this;
+    return new CxxLogInfo(this.target, this.sourcePath, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxLogInfo#getOutputPath() outputPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for outputPath
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxLogInfo withOutputPath(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.outputPath == value) return this;
+    return new CxxLogInfo(this.target, this.sourcePath, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxLogInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxLogInfo
+        && equalTo((CxxLogInfo) another);
+  }
+
+  private boolean equalTo(CxxLogInfo another) {
+    return Objects.equals(target, another.target)
+        && Objects.equals(sourcePath, another.sourcePath)
+        && Objects.equals(outputPath, another.outputPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}, {@code sourcePath}, {@code outputPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(target);
+    h += (h << 5) + Objects.hashCode(sourcePath);
+    h += (h << 5) + Objects.hashCode(outputPath);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxLogInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxLogInfo")
+        .omitNullValues()
+        .add("target", target)
+        .add("sourcePath", sourcePath)
+        .add("outputPath", outputPath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxLogInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxLogInfo instance
+   */
+  public static CxxLogInfo copyOf(AbstractCxxLogInfo instance) {
+    if (instance instanceof CxxLogInfo) {
+      return (CxxLogInfo) instance;
+    }
+    return CxxLogInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxLogInfo CxxLogInfo}.
+   * @return A new CxxLogInfo builder
+   */
+  public static CxxLogInfo.Builder builder() {
+    return new CxxLogInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxLogInfo CxxLogInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable BuildTarget target;
+    private @Nullable Path sourcePath;
+    private @Nullable Path outputPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractCxxLogInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(AbstractCxxLogInfo instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<BuildTarget> targetOptional = instance.getTarget();
+      if (targetOptional.isPresent()) {
+        setTarget(targetOptional);
+      }
+      Optional<Path> sourcePathOptional = instance.getSourcePath();
+      if (sourcePathOptional.isPresent()) {
+        setSourcePath(sourcePathOptional);
+      }
+      Optional<Path> outputPathOptional = instance.getOutputPath();
+      if (outputPathOptional.isPresent()) {
+        setOutputPath(outputPathOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxLogInfo#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(BuildTarget target) {
+      this.target = Objects.requireNonNull(target, "target");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxLogInfo#getTarget() target} to target.
+     * @param target The value for target
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTarget(Optional<? extends BuildTarget> target) {
+      this.target = target.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxLogInfo#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePath(Path sourcePath) {
+      this.sourcePath = Objects.requireNonNull(sourcePath, "sourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxLogInfo#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourcePath(Optional<? extends Path> sourcePath) {
+      this.sourcePath = sourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxLogInfo#getOutputPath() outputPath} to outputPath.
+     * @param outputPath The value for outputPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputPath(Path outputPath) {
+      this.outputPath = Objects.requireNonNull(outputPath, "outputPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxLogInfo#getOutputPath() outputPath} to outputPath.
+     * @param outputPath The value for outputPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputPath(Optional<? extends Path> outputPath) {
+      this.outputPath = outputPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxLogInfo CxxLogInfo}.
+     * @return An immutable instance of CxxLogInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxLogInfo build() {
+      return new CxxLogInfo(target, sourcePath, outputPath);
+    }
+  }
+}
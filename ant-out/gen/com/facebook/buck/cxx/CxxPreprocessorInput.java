@@ -0,0 +1,544 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.rules.args.Arg;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *The components that get contributed to a top-level run of the C++ preprocessor. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxPreprocessorInput"})
+@Immutable
+@CheckReturnValue
+public final class CxxPreprocessorInput extends AbstractCxxPreprocessorInput {
+  private final ImmutableMultimap<CxxSource.Type, Arg> preprocessorFlags;
+  private final ImmutableList<CxxHeaders> includes;
+  private final ImmutableSet<FrameworkPath> frameworks;
+  private final ImmutableSet<BuildTarget> rules;
+
+  private CxxPreprocessorInput() {
+    this.preprocessorFlags = ImmutableMultimap.of();
+    this.includes = ImmutableList.of();
+    this.frameworks = ImmutableSet.of();
+    this.rules = ImmutableSet.of();
+  }
+
+  private CxxPreprocessorInput(
+      Multimap<? extends CxxSource.Type, ? extends Arg> preprocessorFlags,
+      Iterable<? extends CxxHeaders> includes,
+      Iterable<? extends FrameworkPath> frameworks,
+      Iterable<? extends BuildTarget> rules) {
+    this.preprocessorFlags = ImmutableMultimap.copyOf(preprocessorFlags);
+    this.includes = ImmutableList.copyOf(includes);
+    this.frameworks = ImmutableSet.copyOf(frameworks);
+    this.rules = ImmutableSet.copyOf(rules);
+  }
+
+  private CxxPreprocessorInput(
+      CxxPreprocessorInput original,
+      ImmutableMultimap<CxxSource.Type, Arg> preprocessorFlags,
+      ImmutableList<CxxHeaders> includes,
+      ImmutableSet<FrameworkPath> frameworks,
+      ImmutableSet<BuildTarget> rules) {
+    this.preprocessorFlags = preprocessorFlags;
+    this.includes = includes;
+    this.frameworks = frameworks;
+    this.rules = rules;
+  }
+
+  /**
+   * @return The value of the {@code preprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMultimap<CxxSource.Type, Arg> getPreprocessorFlags() {
+    return preprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code includes} attribute
+   */
+  @Override
+  public ImmutableList<CxxHeaders> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code rules} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getRules() {
+    return rules;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the preprocessorFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends Arg> entries) {
+    if (this.preprocessorFlags == entries) return this;
+    ImmutableMultimap<CxxSource.Type, Arg> newValue = ImmutableMultimap.copyOf(entries);
+    return validate(new CxxPreprocessorInput(this, newValue, this.includes, this.frameworks, this.rules));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPreprocessorInput#getIncludes() includes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withIncludes(CxxHeaders... elements) {
+    ImmutableList<CxxHeaders> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxPreprocessorInput(this, this.preprocessorFlags, newValue, this.frameworks, this.rules));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPreprocessorInput#getIncludes() includes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withIncludes(Iterable<? extends CxxHeaders> elements) {
+    if (this.includes == elements) return this;
+    ImmutableList<CxxHeaders> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxPreprocessorInput(this, this.preprocessorFlags, newValue, this.frameworks, this.rules));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withFrameworks(FrameworkPath... elements) {
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(this, this.preprocessorFlags, this.includes, newValue, this.rules));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withFrameworks(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworks == elements) return this;
+    ImmutableSet<FrameworkPath> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(this, this.preprocessorFlags, this.includes, newValue, this.rules));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPreprocessorInput#getRules() rules}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withRules(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(this, this.preprocessorFlags, this.includes, this.frameworks, newValue));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPreprocessorInput#getRules() rules}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rules elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPreprocessorInput withRules(Iterable<? extends BuildTarget> elements) {
+    if (this.rules == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new CxxPreprocessorInput(this, this.preprocessorFlags, this.includes, this.frameworks, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxPreprocessorInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxPreprocessorInput
+        && equalTo((CxxPreprocessorInput) another);
+  }
+
+  private boolean equalTo(CxxPreprocessorInput another) {
+    return preprocessorFlags.equals(another.preprocessorFlags)
+        && includes.equals(another.includes)
+        && frameworks.equals(another.frameworks)
+        && rules.equals(another.rules);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code preprocessorFlags}, {@code includes}, {@code frameworks}, {@code rules}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + preprocessorFlags.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + rules.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPreprocessorInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPreprocessorInput")
+        .omitNullValues()
+        .add("preprocessorFlags", preprocessorFlags)
+        .add("includes", includes)
+        .add("frameworks", frameworks)
+        .add("rules", rules)
+        .toString();
+  }
+
+  private static final CxxPreprocessorInput INSTANCE = validate(new CxxPreprocessorInput());
+
+  /**
+   * Returns the default immutable singleton value of {@code CxxPreprocessorInput}
+   * @return An immutable instance of CxxPreprocessorInput
+   */
+  public static CxxPreprocessorInput of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code CxxPreprocessorInput} instance.
+   * @param preprocessorFlags The value for the {@code preprocessorFlags} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param frameworks The value for the {@code frameworks} attribute
+   * @param rules The value for the {@code rules} attribute
+   * @return An immutable CxxPreprocessorInput instance
+   */
+  public static CxxPreprocessorInput of(Multimap<CxxSource.Type, Arg> preprocessorFlags, ImmutableList<CxxHeaders> includes, ImmutableSet<FrameworkPath> frameworks, ImmutableSet<BuildTarget> rules) {
+    return of(preprocessorFlags, (Iterable<? extends CxxHeaders>) includes, (Iterable<? extends FrameworkPath>) frameworks, (Iterable<? extends BuildTarget>) rules);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxPreprocessorInput} instance.
+   * @param preprocessorFlags The value for the {@code preprocessorFlags} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param frameworks The value for the {@code frameworks} attribute
+   * @param rules The value for the {@code rules} attribute
+   * @return An immutable CxxPreprocessorInput instance
+   */
+  public static CxxPreprocessorInput of(Multimap<? extends CxxSource.Type, ? extends Arg> preprocessorFlags, Iterable<? extends CxxHeaders> includes, Iterable<? extends FrameworkPath> frameworks, Iterable<? extends BuildTarget> rules) {
+    return validate(new CxxPreprocessorInput(preprocessorFlags, includes, frameworks, rules));
+  }
+
+
+  private static CxxPreprocessorInput validate(CxxPreprocessorInput instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxPreprocessorInput} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxPreprocessorInput instance
+   */
+  static CxxPreprocessorInput copyOf(AbstractCxxPreprocessorInput instance) {
+    if (instance instanceof CxxPreprocessorInput) {
+      return (CxxPreprocessorInput) instance;
+    }
+    return CxxPreprocessorInput.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxPreprocessorInput CxxPreprocessorInput}.
+   * @return A new CxxPreprocessorInput builder
+   */
+  public static CxxPreprocessorInput.Builder builder() {
+    return new CxxPreprocessorInput.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxPreprocessorInput CxxPreprocessorInput}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMultimap.Builder<CxxSource.Type, Arg> preprocessorFlags = ImmutableMultimap.builder();
+    private ImmutableList.Builder<CxxHeaders> includes = ImmutableList.builder();
+    private ImmutableSet.Builder<FrameworkPath> frameworks = ImmutableSet.builder();
+    private ImmutableSet.Builder<BuildTarget> rules = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxPreprocessorInput} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxPreprocessorInput instance) {
+      return from((AbstractCxxPreprocessorInput) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxPreprocessorInput} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCxxPreprocessorInput instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllPreprocessorFlags(instance.getPreprocessorFlags());
+      addAllIncludes(instance.getIncludes());
+      addAllFrameworks(instance.getFrameworks());
+      addAllRules(instance.getRules());
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} true. Nulls are not permitted
+     * @param key The key for preprocessorFlags
+     * @param values The values for preprocessorFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPreprocessorFlags(CxxSource.Type key, Arg... values) {
+      this.preprocessorFlags.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} true. Nulls are not permitted
+     * @param key The key for preprocessorFlags
+     * @param values The values for preprocessorFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllPreprocessorFlags(CxxSource.Type key, Iterable<Arg> values) {
+      this.preprocessorFlags.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map.
+     * @param key The key in the preprocessorFlags map
+     * @param value The associated value in the preprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPreprocessorFlags(CxxSource.Type key, Arg value) {
+      this.preprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends Arg> entry) {
+      this.preprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param preprocessorFlags The entries that will be added to the preprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends Arg> preprocessorFlags) {
+      this.preprocessorFlags = ImmutableMultimap.builder();
+      return putAllPreprocessorFlags(preprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxPreprocessorInput#getPreprocessorFlags() preprocessorFlags} map. Nulls are not permitted
+     * @param preprocessorFlags The entries that will be added to the preprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllPreprocessorFlags(Multimap<? extends CxxSource.Type, ? extends Arg> preprocessorFlags) {
+      this.preprocessorFlags.putAll(preprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getIncludes() includes} list.
+     * @param element A includes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludes(CxxHeaders element) {
+      this.includes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getIncludes() includes} list.
+     * @param elements An array of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludes(CxxHeaders... elements) {
+      this.includes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes = ImmutableList.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSet.builder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getFrameworks() frameworks} set.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param element A rules element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRules(BuildTarget element) {
+      this.rules.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param elements An array of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRules(BuildTarget... elements) {
+      this.rules.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param elements An iterable of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRules(Iterable<? extends BuildTarget> elements) {
+      this.rules = ImmutableSet.builder();
+      return addAllRules(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPreprocessorInput#getRules() rules} set.
+     * @param elements An iterable of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRules(Iterable<? extends BuildTarget> elements) {
+      this.rules.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxPreprocessorInput CxxPreprocessorInput}.
+     * @return An immutable instance of CxxPreprocessorInput
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxPreprocessorInput build() {
+      return CxxPreprocessorInput.validate(new CxxPreprocessorInput(null, preprocessorFlags.build(), includes.build(), frameworks.build(), rules.build()));
+    }
+  }
+}
@@ -0,0 +1,436 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.PathSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Encapsulates headers modeled using a {@link HeaderSymlinkTree}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSymlinkTreeHeaders"})
+@Immutable
+@CheckReturnValue
+public final class CxxSymlinkTreeHeaders extends AbstractCxxSymlinkTreeHeaders {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath root;
+  private final Either<PathSourcePath, SourcePath> includeRoot;
+  private final @Nullable SourcePath headerMap;
+  private final ImmutableSortedMap<Path, SourcePath> nameToPathMap;
+  private final int hashCode;
+
+  private CxxSymlinkTreeHeaders(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root,
+      Either<PathSourcePath, SourcePath> includeRoot,
+      @Nullable SourcePath headerMap,
+      ImmutableSortedMap<Path, SourcePath> nameToPathMap) {
+    this.includeType = includeType;
+    this.root = root;
+    this.includeRoot = includeRoot;
+    this.headerMap = headerMap;
+    this.nameToPathMap = nameToPathMap;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public SourcePath getRoot() {
+    return root;
+  }
+
+  /**
+   * @return the path to add to the preprocessor search path to find the includes. This defaults to
+   *     the root, but can be overridden to use an alternate path.
+   */
+  @Override
+  public Either<PathSourcePath, SourcePath> getIncludeRoot() {
+    return includeRoot;
+  }
+
+  /**
+   * @return The value of the {@code headerMap} attribute
+   */
+  @Override
+  public Optional<SourcePath> getHeaderMap() {
+    return Optional.ofNullable(headerMap);
+  }
+
+  /**
+   * @return The value of the {@code nameToPathMap} attribute
+   */
+  @Override
+  public ImmutableSortedMap<Path, SourcePath> getNameToPathMap() {
+    return nameToPathMap;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeType() includeType} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withIncludeType(CxxPreprocessables.IncludeType value) {
+    if (this.includeType == value) return this;
+    CxxPreprocessables.IncludeType newValue = Objects.requireNonNull(value, "includeType");
+    return new CxxSymlinkTreeHeaders(newValue, this.root, this.includeRoot, this.headerMap, this.nameToPathMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getRoot() root} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for root
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withRoot(SourcePath value) {
+    if (this.root == value) return this;
+    SourcePath newValue = Objects.requireNonNull(value, "root");
+    return new CxxSymlinkTreeHeaders(this.includeType, newValue, this.includeRoot, this.headerMap, this.nameToPathMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeRoot() includeRoot} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeRoot
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withIncludeRoot(Either<PathSourcePath, SourcePath> value) {
+    if (this.includeRoot == value) return this;
+    Either<PathSourcePath, SourcePath> newValue = Objects.requireNonNull(value, "includeRoot");
+    return new CxxSymlinkTreeHeaders(this.includeType, this.root, newValue, this.headerMap, this.nameToPathMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} attribute.
+   * @param value The value for headerMap
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withHeaderMap(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "headerMap");
+    if (this.headerMap == newValue) return this;
+    return new CxxSymlinkTreeHeaders(this.includeType, this.root, this.includeRoot, newValue, this.nameToPathMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for headerMap
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withHeaderMap(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.headerMap == value) return this;
+    return new CxxSymlinkTreeHeaders(this.includeType, this.root, this.includeRoot, value, this.nameToPathMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nameToPathMap
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSymlinkTreeHeaders withNameToPathMap(ImmutableSortedMap<Path, SourcePath> value) {
+    if (this.nameToPathMap == value) return this;
+    ImmutableSortedMap<Path, SourcePath> newValue = Objects.requireNonNull(value, "nameToPathMap");
+    return new CxxSymlinkTreeHeaders(this.includeType, this.root, this.includeRoot, this.headerMap, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxSymlinkTreeHeaders} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxSymlinkTreeHeaders
+        && equalTo((CxxSymlinkTreeHeaders) another);
+  }
+
+  private boolean equalTo(CxxSymlinkTreeHeaders another) {
+    if (hashCode != another.hashCode) return false;
+    return includeType.equals(another.includeType)
+        && root.equals(another.root)
+        && includeRoot.equals(another.includeRoot)
+        && Objects.equals(headerMap, another.headerMap);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code includeType}, {@code root}, {@code includeRoot}, {@code headerMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + includeType.hashCode();
+    h += (h << 5) + root.hashCode();
+    h += (h << 5) + includeRoot.hashCode();
+    h += (h << 5) + Objects.hashCode(headerMap);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSymlinkTreeHeaders} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSymlinkTreeHeaders")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("root", root)
+        .add("includeRoot", includeRoot)
+        .add("headerMap", headerMap)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxSymlinkTreeHeaders} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxSymlinkTreeHeaders instance
+   */
+  static CxxSymlinkTreeHeaders copyOf(AbstractCxxSymlinkTreeHeaders instance) {
+    if (instance instanceof CxxSymlinkTreeHeaders) {
+      return (CxxSymlinkTreeHeaders) instance;
+    }
+    return CxxSymlinkTreeHeaders.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxSymlinkTreeHeaders CxxSymlinkTreeHeaders}.
+   * @return A new CxxSymlinkTreeHeaders builder
+   */
+  public static CxxSymlinkTreeHeaders.Builder builder() {
+    return new CxxSymlinkTreeHeaders.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxSymlinkTreeHeaders CxxSymlinkTreeHeaders}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE_TYPE = 0x1L;
+    private static final long INIT_BIT_ROOT = 0x2L;
+    private static final long INIT_BIT_INCLUDE_ROOT = 0x4L;
+    private static final long INIT_BIT_NAME_TO_PATH_MAP = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable CxxPreprocessables.IncludeType includeType;
+    private @Nullable SourcePath root;
+    private @Nullable Either<PathSourcePath, SourcePath> includeRoot;
+    private @Nullable SourcePath headerMap;
+    private @Nullable ImmutableSortedMap<Path, SourcePath> nameToPathMap;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxSymlinkTreeHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxSymlinkTreeHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxSymlinkTreeHeaders} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCxxSymlinkTreeHeaders instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof CxxHeaders) {
+        CxxHeaders instance = (CxxHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          Optional<SourcePath> headerMapOptional = instance.getHeaderMap();
+          if (headerMapOptional.isPresent()) {
+            setHeaderMap(headerMapOptional);
+          }
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x4L;
+        }
+      }
+      if (object instanceof AbstractCxxSymlinkTreeHeaders) {
+        AbstractCxxSymlinkTreeHeaders instance = (AbstractCxxSymlinkTreeHeaders) object;
+        setNameToPathMap(instance.getNameToPathMap());
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          Optional<SourcePath> headerMapOptional = instance.getHeaderMap();
+          if (headerMapOptional.isPresent()) {
+            setHeaderMap(headerMapOptional);
+          }
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x4L;
+        }
+        setIncludeRoot(instance.getIncludeRoot());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeType() includeType} attribute.
+     * @param includeType The value for includeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeType(CxxPreprocessables.IncludeType includeType) {
+      this.includeType = Objects.requireNonNull(includeType, "includeType");
+      initBits &= ~INIT_BIT_INCLUDE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getRoot() root} attribute.
+     * @param root The value for root 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRoot(SourcePath root) {
+      this.root = Objects.requireNonNull(root, "root");
+      initBits &= ~INIT_BIT_ROOT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getIncludeRoot() includeRoot} attribute.
+     * @param includeRoot The value for includeRoot 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeRoot(Either<PathSourcePath, SourcePath> includeRoot) {
+      this.includeRoot = Objects.requireNonNull(includeRoot, "includeRoot");
+      initBits &= ~INIT_BIT_INCLUDE_ROOT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} to headerMap.
+     * @param headerMap The value for headerMap
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderMap(SourcePath headerMap) {
+      this.headerMap = Objects.requireNonNull(headerMap, "headerMap");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSymlinkTreeHeaders#getHeaderMap() headerMap} to headerMap.
+     * @param headerMap The value for headerMap
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderMap(Optional<? extends SourcePath> headerMap) {
+      this.headerMap = headerMap.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSymlinkTreeHeaders#getNameToPathMap() nameToPathMap} attribute.
+     * @param nameToPathMap The value for nameToPathMap 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNameToPathMap(ImmutableSortedMap<Path, SourcePath> nameToPathMap) {
+      this.nameToPathMap = Objects.requireNonNull(nameToPathMap, "nameToPathMap");
+      initBits &= ~INIT_BIT_NAME_TO_PATH_MAP;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CxxSymlinkTreeHeaders CxxSymlinkTreeHeaders}.
+     * @return An immutable instance of CxxSymlinkTreeHeaders
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxSymlinkTreeHeaders build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxSymlinkTreeHeaders(includeType, root, includeRoot, headerMap, nameToPathMap);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE_TYPE) != 0) attributes.add("includeType");
+      if ((initBits & INIT_BIT_ROOT) != 0) attributes.add("root");
+      if ((initBits & INIT_BIT_INCLUDE_ROOT) != 0) attributes.add("includeRoot");
+      if ((initBits & INIT_BIT_NAME_TO_PATH_MAP) != 0) attributes.add("nameToPathMap");
+      return "Cannot build CxxSymlinkTreeHeaders, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,344 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractElfCompactSectionsStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfCompactSectionsStep.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfCompactSectionsStep"})
+@Immutable
+@CheckReturnValue
+final class ElfCompactSectionsStep extends AbstractElfCompactSectionsStep {
+  private final BuildTarget buildTarget;
+  private final ImmutableList<String> objcopyPrefix;
+  private final ProjectFilesystem inputFilesystem;
+  private final Path input;
+  private final ProjectFilesystem outputFilesystem;
+  private final Path output;
+
+  private ElfCompactSectionsStep(
+      BuildTarget buildTarget,
+      Iterable<String> objcopyPrefix,
+      ProjectFilesystem inputFilesystem,
+      Path input,
+      ProjectFilesystem outputFilesystem,
+      Path output) {
+    this.buildTarget = Objects.requireNonNull(buildTarget, "buildTarget");
+    this.objcopyPrefix = ImmutableList.copyOf(objcopyPrefix);
+    this.inputFilesystem = Objects.requireNonNull(inputFilesystem, "inputFilesystem");
+    this.input = Objects.requireNonNull(input, "input");
+    this.outputFilesystem = Objects.requireNonNull(outputFilesystem, "outputFilesystem");
+    this.output = Objects.requireNonNull(output, "output");
+  }
+
+  private ElfCompactSectionsStep(
+      ElfCompactSectionsStep original,
+      BuildTarget buildTarget,
+      ImmutableList<String> objcopyPrefix,
+      ProjectFilesystem inputFilesystem,
+      Path input,
+      ProjectFilesystem outputFilesystem,
+      Path output) {
+    this.buildTarget = buildTarget;
+    this.objcopyPrefix = objcopyPrefix;
+    this.inputFilesystem = inputFilesystem;
+    this.input = input;
+    this.outputFilesystem = outputFilesystem;
+    this.output = output;
+  }
+
+  /**
+   * @return The value of the {@code buildTarget} attribute
+   */
+  @Override
+  BuildTarget getBuildTarget() {
+    return buildTarget;
+  }
+
+  /**
+   * @return The value of the {@code objcopyPrefix} attribute
+   */
+  @Override
+  ImmutableList<String> getObjcopyPrefix() {
+    return objcopyPrefix;
+  }
+
+  /**
+   * @return The value of the {@code inputFilesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getInputFilesystem() {
+    return inputFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code input} attribute
+   */
+  @Override
+  Path getInput() {
+    return input;
+  }
+
+  /**
+   * @return The value of the {@code outputFilesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getOutputFilesystem() {
+    return outputFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  Path getOutput() {
+    return output;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfCompactSectionsStep#getBuildTarget() buildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfCompactSectionsStep withBuildTarget(BuildTarget value) {
+    if (this.buildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "buildTarget");
+    return validate(new ElfCompactSectionsStep(
+        this,
+        newValue,
+        this.objcopyPrefix,
+        this.inputFilesystem,
+        this.input,
+        this.outputFilesystem,
+        this.output));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfCompactSectionsStep#getObjcopyPrefix() objcopyPrefix}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfCompactSectionsStep withObjcopyPrefix(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new ElfCompactSectionsStep(
+        this,
+        this.buildTarget,
+        newValue,
+        this.inputFilesystem,
+        this.input,
+        this.outputFilesystem,
+        this.output));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfCompactSectionsStep#getObjcopyPrefix() objcopyPrefix}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of objcopyPrefix elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfCompactSectionsStep withObjcopyPrefix(Iterable<String> elements) {
+    if (this.objcopyPrefix == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new ElfCompactSectionsStep(
+        this,
+        this.buildTarget,
+        newValue,
+        this.inputFilesystem,
+        this.input,
+        this.outputFilesystem,
+        this.output));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfCompactSectionsStep#getInputFilesystem() inputFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inputFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfCompactSectionsStep withInputFilesystem(ProjectFilesystem value) {
+    if (this.inputFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "inputFilesystem");
+    return validate(new ElfCompactSectionsStep(
+        this,
+        this.buildTarget,
+        this.objcopyPrefix,
+        newValue,
+        this.input,
+        this.outputFilesystem,
+        this.output));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfCompactSectionsStep#getInput() input} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for input
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfCompactSectionsStep withInput(Path value) {
+    if (this.input == value) return this;
+    Path newValue = Objects.requireNonNull(value, "input");
+    return validate(new ElfCompactSectionsStep(
+        this,
+        this.buildTarget,
+        this.objcopyPrefix,
+        this.inputFilesystem,
+        newValue,
+        this.outputFilesystem,
+        this.output));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfCompactSectionsStep#getOutputFilesystem() outputFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for outputFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfCompactSectionsStep withOutputFilesystem(ProjectFilesystem value) {
+    if (this.outputFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "outputFilesystem");
+    return validate(new ElfCompactSectionsStep(
+        this,
+        this.buildTarget,
+        this.objcopyPrefix,
+        this.inputFilesystem,
+        this.input,
+        newValue,
+        this.output));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfCompactSectionsStep#getOutput() output} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for output
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfCompactSectionsStep withOutput(Path value) {
+    if (this.output == value) return this;
+    Path newValue = Objects.requireNonNull(value, "output");
+    return validate(new ElfCompactSectionsStep(
+        this,
+        this.buildTarget,
+        this.objcopyPrefix,
+        this.inputFilesystem,
+        this.input,
+        this.outputFilesystem,
+        newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfCompactSectionsStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfCompactSectionsStep
+        && equalTo((ElfCompactSectionsStep) another);
+  }
+
+  private boolean equalTo(ElfCompactSectionsStep another) {
+    return buildTarget.equals(another.buildTarget)
+        && objcopyPrefix.equals(another.objcopyPrefix)
+        && inputFilesystem.equals(another.inputFilesystem)
+        && input.equals(another.input)
+        && outputFilesystem.equals(another.outputFilesystem)
+        && output.equals(another.output);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildTarget}, {@code objcopyPrefix}, {@code inputFilesystem}, {@code input}, {@code outputFilesystem}, {@code output}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buildTarget.hashCode();
+    h += (h << 5) + objcopyPrefix.hashCode();
+    h += (h << 5) + inputFilesystem.hashCode();
+    h += (h << 5) + input.hashCode();
+    h += (h << 5) + outputFilesystem.hashCode();
+    h += (h << 5) + output.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfCompactSectionsStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfCompactSectionsStep")
+        .omitNullValues()
+        .add("buildTarget", buildTarget)
+        .add("objcopyPrefix", objcopyPrefix)
+        .add("inputFilesystem", inputFilesystem)
+        .add("input", input)
+        .add("outputFilesystem", outputFilesystem)
+        .add("output", output)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfCompactSectionsStep} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param objcopyPrefix The value for the {@code objcopyPrefix} attribute
+   * @param inputFilesystem The value for the {@code inputFilesystem} attribute
+   * @param input The value for the {@code input} attribute
+   * @param outputFilesystem The value for the {@code outputFilesystem} attribute
+   * @param output The value for the {@code output} attribute
+   * @return An immutable ElfCompactSectionsStep instance
+   */
+  public static ElfCompactSectionsStep of(BuildTarget buildTarget, ImmutableList<String> objcopyPrefix, ProjectFilesystem inputFilesystem, Path input, ProjectFilesystem outputFilesystem, Path output) {
+    return of(buildTarget, (Iterable<String>) objcopyPrefix, inputFilesystem, input, outputFilesystem, output);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfCompactSectionsStep} instance.
+   * @param buildTarget The value for the {@code buildTarget} attribute
+   * @param objcopyPrefix The value for the {@code objcopyPrefix} attribute
+   * @param inputFilesystem The value for the {@code inputFilesystem} attribute
+   * @param input The value for the {@code input} attribute
+   * @param outputFilesystem The value for the {@code outputFilesystem} attribute
+   * @param output The value for the {@code output} attribute
+   * @return An immutable ElfCompactSectionsStep instance
+   */
+  public static ElfCompactSectionsStep of(BuildTarget buildTarget, Iterable<String> objcopyPrefix, ProjectFilesystem inputFilesystem, Path input, ProjectFilesystem outputFilesystem, Path output) {
+    return validate(new ElfCompactSectionsStep(buildTarget, objcopyPrefix, inputFilesystem, input, outputFilesystem, output));
+  }
+
+
+  private static ElfCompactSectionsStep validate(ElfCompactSectionsStep instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfCompactSectionsStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfCompactSectionsStep instance
+   */
+  public static ElfCompactSectionsStep copyOf(AbstractElfCompactSectionsStep instance) {
+    if (instance instanceof ElfCompactSectionsStep) {
+      return (ElfCompactSectionsStep) instance;
+    }
+    return ElfCompactSectionsStep.of(instance.getBuildTarget(), instance.getObjcopyPrefix(), instance.getInputFilesystem(), instance.getInput(), instance.getOutputFilesystem(), instance.getOutput());
+  }
+}
@@ -0,0 +1,145 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractElfSharedLibraryInterfaceFactory}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfSharedLibraryInterfaceFactory.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfSharedLibraryInterfaceFactory"})
+@Immutable
+@CheckReturnValue
+final class ElfSharedLibraryInterfaceFactory
+    extends AbstractElfSharedLibraryInterfaceFactory {
+  private final ToolProvider objcopy;
+  private final boolean removeUndefinedSymbols;
+
+  private ElfSharedLibraryInterfaceFactory(ToolProvider objcopy, boolean removeUndefinedSymbols) {
+    this.objcopy = Objects.requireNonNull(objcopy, "objcopy");
+    this.removeUndefinedSymbols = removeUndefinedSymbols;
+  }
+
+  private ElfSharedLibraryInterfaceFactory(
+      ElfSharedLibraryInterfaceFactory original,
+      ToolProvider objcopy,
+      boolean removeUndefinedSymbols) {
+    this.objcopy = objcopy;
+    this.removeUndefinedSymbols = removeUndefinedSymbols;
+  }
+
+  /**
+   * @return The value of the {@code objcopy} attribute
+   */
+  @Override
+  ToolProvider getObjcopy() {
+    return objcopy;
+  }
+
+  /**
+   * @return The value of the {@code removeUndefinedSymbols} attribute
+   */
+  @Override
+  boolean isRemoveUndefinedSymbols() {
+    return removeUndefinedSymbols;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSharedLibraryInterfaceFactory#getObjcopy() objcopy} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for objcopy
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSharedLibraryInterfaceFactory withObjcopy(ToolProvider value) {
+    if (this.objcopy == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "objcopy");
+    return new ElfSharedLibraryInterfaceFactory(this, newValue, this.removeUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSharedLibraryInterfaceFactory#isRemoveUndefinedSymbols() removeUndefinedSymbols} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for removeUndefinedSymbols
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSharedLibraryInterfaceFactory withRemoveUndefinedSymbols(boolean value) {
+    if (this.removeUndefinedSymbols == value) return this;
+    return new ElfSharedLibraryInterfaceFactory(this, this.objcopy, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfSharedLibraryInterfaceFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfSharedLibraryInterfaceFactory
+        && equalTo((ElfSharedLibraryInterfaceFactory) another);
+  }
+
+  private boolean equalTo(ElfSharedLibraryInterfaceFactory another) {
+    return objcopy.equals(another.objcopy)
+        && removeUndefinedSymbols == another.removeUndefinedSymbols;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code objcopy}, {@code removeUndefinedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + objcopy.hashCode();
+    h += (h << 5) + Booleans.hashCode(removeUndefinedSymbols);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSharedLibraryInterfaceFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSharedLibraryInterfaceFactory")
+        .omitNullValues()
+        .add("objcopy", objcopy)
+        .add("removeUndefinedSymbols", removeUndefinedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSharedLibraryInterfaceFactory} instance.
+   * @param objcopy The value for the {@code objcopy} attribute
+   * @param removeUndefinedSymbols The value for the {@code removeUndefinedSymbols} attribute
+   * @return An immutable ElfSharedLibraryInterfaceFactory instance
+   */
+  public static ElfSharedLibraryInterfaceFactory of(ToolProvider objcopy, boolean removeUndefinedSymbols) {
+    return new ElfSharedLibraryInterfaceFactory(objcopy, removeUndefinedSymbols);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfSharedLibraryInterfaceFactory} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfSharedLibraryInterfaceFactory instance
+   */
+  public static ElfSharedLibraryInterfaceFactory copyOf(AbstractElfSharedLibraryInterfaceFactory instance) {
+    if (instance instanceof ElfSharedLibraryInterfaceFactory) {
+      return (ElfSharedLibraryInterfaceFactory) instance;
+    }
+    return ElfSharedLibraryInterfaceFactory.of(instance.getObjcopy(), instance.isRemoveUndefinedSymbols());
+  }
+}
@@ -0,0 +1,321 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *{@code CxxToolFlags} implementation where the flags are stored explicitly as lists. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExplicitCxxToolFlags"})
+@Immutable
+@CheckReturnValue
+public final class ExplicitCxxToolFlags extends AbstractExplicitCxxToolFlags {
+  private final ImmutableList<Arg> platformFlags;
+  private final ImmutableList<Arg> ruleFlags;
+
+  private ExplicitCxxToolFlags() {
+    this.platformFlags = ImmutableList.of();
+    this.ruleFlags = ImmutableList.of();
+  }
+
+  private ExplicitCxxToolFlags(
+      Iterable<? extends Arg> platformFlags,
+      Iterable<? extends Arg> ruleFlags) {
+    this.platformFlags = ImmutableList.copyOf(platformFlags);
+    this.ruleFlags = ImmutableList.copyOf(ruleFlags);
+  }
+
+  private ExplicitCxxToolFlags(ExplicitCxxToolFlags.Builder builder) {
+    this.platformFlags = builder.platformFlags.build();
+    this.ruleFlags = builder.ruleFlags.build();
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExplicitCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExplicitCxxToolFlags
+        && equalTo((ExplicitCxxToolFlags) another);
+  }
+
+  private boolean equalTo(ExplicitCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + platformFlags.hashCode();
+    h += (h << 5) + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExplicitCxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExplicitCxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  private static final ExplicitCxxToolFlags INSTANCE = validate(new ExplicitCxxToolFlags());
+
+  /**
+   * Returns the default immutable singleton value of {@code ExplicitCxxToolFlags}
+   * @return An immutable instance of ExplicitCxxToolFlags
+   */
+  public static ExplicitCxxToolFlags of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable ExplicitCxxToolFlags instance
+   */
+  public static ExplicitCxxToolFlags of(ImmutableList<Arg> platformFlags, ImmutableList<Arg> ruleFlags) {
+    return of((Iterable<? extends Arg>) platformFlags, (Iterable<? extends Arg>) ruleFlags);
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable ExplicitCxxToolFlags instance
+   */
+  public static ExplicitCxxToolFlags of(Iterable<? extends Arg> platformFlags, Iterable<? extends Arg> ruleFlags) {
+    return validate(new ExplicitCxxToolFlags(platformFlags, ruleFlags));
+  }
+
+
+  private static ExplicitCxxToolFlags validate(ExplicitCxxToolFlags instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+
+  /**
+   * Creates a builder for {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+   * @return A new ExplicitCxxToolFlags builder
+   */
+  public static ExplicitCxxToolFlags.Builder builder() {
+    return new ExplicitCxxToolFlags.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder 
+      extends AbstractExplicitCxxToolFlags.Builder {
+    private ImmutableList.Builder<Arg> platformFlags = ImmutableList.builder();
+    private ImmutableList.Builder<Arg> ruleFlags = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxToolFlags} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CxxToolFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExplicitCxxToolFlags} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(ExplicitCxxToolFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExplicitCxxToolFlags} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractExplicitCxxToolFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof CxxToolFlags) {
+        CxxToolFlags instance = (CxxToolFlags) object;
+        if ((bits & 0x1L) == 0) {
+          addAllRuleFlags(instance.getRuleFlags());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          addAllPlatformFlags(instance.getPlatformFlags());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof AbstractExplicitCxxToolFlags) {
+        AbstractExplicitCxxToolFlags instance = (AbstractExplicitCxxToolFlags) object;
+        if ((bits & 0x1L) == 0) {
+          addAllRuleFlags(instance.getRuleFlags());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          addAllPlatformFlags(instance.getPlatformFlags());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Adds one element to {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param element A platformFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlatformFlags(Arg element) {
+      this.platformFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An array of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPlatformFlags(Arg... elements) {
+      this.platformFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformFlags(Iterable<? extends Arg> elements) {
+      this.platformFlags = ImmutableList.builder();
+      return addAllPlatformFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPlatformFlags(Iterable<? extends Arg> elements) {
+      this.platformFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param element A ruleFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuleFlags(Arg element) {
+      this.ruleFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An array of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addRuleFlags(Arg... elements) {
+      this.ruleFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleFlags(Iterable<? extends Arg> elements) {
+      this.ruleFlags = ImmutableList.builder();
+      return addAllRuleFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllRuleFlags(Iterable<? extends Arg> elements) {
+      this.ruleFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+     * @return An immutable instance of ExplicitCxxToolFlags
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExplicitCxxToolFlags build() {
+      return ExplicitCxxToolFlags.validate(new ExplicitCxxToolFlags(this));
+    }
+  }
+}
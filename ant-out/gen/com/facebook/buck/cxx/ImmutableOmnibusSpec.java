@@ -0,0 +1,571 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.util.graph.DirectedAcyclicGraph;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkTarget;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Omnibus.OmnibusSpec}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableOmnibusSpec.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Omnibus.OmnibusSpec"})
+@Immutable
+@CheckReturnValue
+final class ImmutableOmnibusSpec extends Omnibus.OmnibusSpec {
+  private final DirectedAcyclicGraph<BuildTarget> graph;
+  private final ImmutableMap<BuildTarget, NativeLinkTarget> roots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> body;
+  private final ImmutableSet<BuildTarget> excludedRoots;
+  private final ImmutableMap<BuildTarget, NativeLinkable> excluded;
+  private final ImmutableMap<BuildTarget, NativeLinkable> deps;
+
+  private ImmutableOmnibusSpec(
+      DirectedAcyclicGraph<BuildTarget> graph,
+      ImmutableMap<BuildTarget, NativeLinkTarget> roots,
+      ImmutableMap<BuildTarget, NativeLinkable> body,
+      ImmutableSet<BuildTarget> excludedRoots,
+      ImmutableMap<BuildTarget, NativeLinkable> excluded,
+      ImmutableMap<BuildTarget, NativeLinkable> deps) {
+    this.graph = graph;
+    this.roots = roots;
+    this.body = body;
+    this.excludedRoots = excludedRoots;
+    this.excluded = excluded;
+    this.deps = deps;
+  }
+
+  /**
+   * @return The value of the {@code graph} attribute
+   */
+  @Override
+  public DirectedAcyclicGraph<BuildTarget> getGraph() {
+    return graph;
+  }
+
+  /**
+   * @return The value of the {@code roots} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkTarget> getRoots() {
+    return roots;
+  }
+
+  /**
+   * @return The value of the {@code body} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getBody() {
+    return body;
+  }
+
+  /**
+   * @return The value of the {@code excludedRoots} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getExcludedRoots() {
+    return excludedRoots;
+  }
+
+  /**
+   * @return The value of the {@code excluded} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getExcluded() {
+    return excluded;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, NativeLinkable> getDeps() {
+    return deps;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Omnibus.OmnibusSpec#getGraph() graph} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for graph
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableOmnibusSpec withGraph(DirectedAcyclicGraph<BuildTarget> value) {
+    if (this.graph == value) return this;
+    DirectedAcyclicGraph<BuildTarget> newValue = Objects.requireNonNull(value, "graph");
+    return validate(new ImmutableOmnibusSpec(newValue, this.roots, this.body, this.excludedRoots, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link Omnibus.OmnibusSpec#getRoots() roots} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the roots map
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withRoots(Map<? extends BuildTarget, ? extends NativeLinkTarget> entries) {
+    if (this.roots == entries) return this;
+    ImmutableMap<BuildTarget, NativeLinkTarget> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, newValue, this.body, this.excludedRoots, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link Omnibus.OmnibusSpec#getBody() body} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the body map
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withBody(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.body == entries) return this;
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, newValue, this.excludedRoots, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link Omnibus.OmnibusSpec#getExcludedRoots() excludedRoots}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withExcludedRoots(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, this.body, newValue, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link Omnibus.OmnibusSpec#getExcludedRoots() excludedRoots}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of excludedRoots elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withExcludedRoots(Iterable<? extends BuildTarget> elements) {
+    if (this.excludedRoots == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, this.body, newValue, this.excluded, this.deps));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link Omnibus.OmnibusSpec#getExcluded() excluded} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the excluded map
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withExcluded(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.excluded == entries) return this;
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, this.body, this.excludedRoots, newValue, this.deps));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link Omnibus.OmnibusSpec#getDeps() deps} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the deps map
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableOmnibusSpec withDeps(Map<? extends BuildTarget, ? extends NativeLinkable> entries) {
+    if (this.deps == entries) return this;
+    ImmutableMap<BuildTarget, NativeLinkable> newValue = ImmutableMap.copyOf(entries);
+    return validate(new ImmutableOmnibusSpec(this.graph, this.roots, this.body, this.excludedRoots, this.excluded, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableOmnibusSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableOmnibusSpec
+        && equalTo((ImmutableOmnibusSpec) another);
+  }
+
+  private boolean equalTo(ImmutableOmnibusSpec another) {
+    return graph.equals(another.graph)
+        && roots.equals(another.roots)
+        && body.equals(another.body)
+        && excludedRoots.equals(another.excludedRoots)
+        && excluded.equals(another.excluded)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code graph}, {@code roots}, {@code body}, {@code excludedRoots}, {@code excluded}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + graph.hashCode();
+    h += (h << 5) + roots.hashCode();
+    h += (h << 5) + body.hashCode();
+    h += (h << 5) + excludedRoots.hashCode();
+    h += (h << 5) + excluded.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusSpec")
+        .omitNullValues()
+        .add("graph", graph)
+        .add("roots", roots)
+        .add("body", body)
+        .add("excludedRoots", excludedRoots)
+        .add("excluded", excluded)
+        .add("deps", deps)
+        .toString();
+  }
+
+
+  private static ImmutableOmnibusSpec validate(ImmutableOmnibusSpec instance) {
+    instance.verify();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link Omnibus.OmnibusSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OmnibusSpec instance
+   */
+  public static ImmutableOmnibusSpec copyOf(Omnibus.OmnibusSpec instance) {
+    if (instance instanceof ImmutableOmnibusSpec) {
+      return (ImmutableOmnibusSpec) instance;
+    }
+    return ImmutableOmnibusSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ImmutableOmnibusSpec ImmutableOmnibusSpec}.
+   * @return A new ImmutableOmnibusSpec builder
+   */
+  public static ImmutableOmnibusSpec.Builder builder() {
+    return new ImmutableOmnibusSpec.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ImmutableOmnibusSpec ImmutableOmnibusSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_GRAPH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable DirectedAcyclicGraph<BuildTarget> graph;
+    private ImmutableMap.Builder<BuildTarget, NativeLinkTarget> roots = ImmutableMap.builder();
+    private ImmutableMap.Builder<BuildTarget, NativeLinkable> body = ImmutableMap.builder();
+    private ImmutableSet.Builder<BuildTarget> excludedRoots = ImmutableSet.builder();
+    private ImmutableMap.Builder<BuildTarget, NativeLinkable> excluded = ImmutableMap.builder();
+    private ImmutableMap.Builder<BuildTarget, NativeLinkable> deps = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OmnibusSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(Omnibus.OmnibusSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      graph(instance.getGraph());
+      putAllRoots(instance.getRoots());
+      putAllBody(instance.getBody());
+      addAllExcludedRoots(instance.getExcludedRoots());
+      putAllExcluded(instance.getExcluded());
+      putAllDeps(instance.getDeps());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link Omnibus.OmnibusSpec#getGraph() graph} attribute.
+     * @param graph The value for graph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder graph(DirectedAcyclicGraph<BuildTarget> graph) {
+      this.graph = Objects.requireNonNull(graph, "graph");
+      initBits &= ~INIT_BIT_GRAPH;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getRoots() roots} map.
+     * @param key The key in the roots map
+     * @param value The associated value in the roots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRoots(BuildTarget key, NativeLinkTarget value) {
+      this.roots.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getRoots() roots} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putRoots(Map.Entry<? extends BuildTarget, ? extends NativeLinkTarget> entry) {
+      this.roots.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link Omnibus.OmnibusSpec#getRoots() roots} map. Nulls are not permitted
+     * @param roots The entries that will be added to the roots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder roots(Map<? extends BuildTarget, ? extends NativeLinkTarget> roots) {
+      this.roots = ImmutableMap.builder();
+      return putAllRoots(roots);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link Omnibus.OmnibusSpec#getRoots() roots} map. Nulls are not permitted
+     * @param roots The entries that will be added to the roots map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllRoots(Map<? extends BuildTarget, ? extends NativeLinkTarget> roots) {
+      this.roots.putAll(roots);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getBody() body} map.
+     * @param key The key in the body map
+     * @param value The associated value in the body map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putBody(BuildTarget key, NativeLinkable value) {
+      this.body.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getBody() body} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putBody(Map.Entry<? extends BuildTarget, ? extends NativeLinkable> entry) {
+      this.body.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link Omnibus.OmnibusSpec#getBody() body} map. Nulls are not permitted
+     * @param body The entries that will be added to the body map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder body(Map<? extends BuildTarget, ? extends NativeLinkable> body) {
+      this.body = ImmutableMap.builder();
+      return putAllBody(body);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link Omnibus.OmnibusSpec#getBody() body} map. Nulls are not permitted
+     * @param body The entries that will be added to the body map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllBody(Map<? extends BuildTarget, ? extends NativeLinkable> body) {
+      this.body.putAll(body);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link Omnibus.OmnibusSpec#getExcludedRoots() excludedRoots} set.
+     * @param element A excludedRoots element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExcludedRoots(BuildTarget element) {
+      this.excludedRoots.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link Omnibus.OmnibusSpec#getExcludedRoots() excludedRoots} set.
+     * @param elements An array of excludedRoots elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExcludedRoots(BuildTarget... elements) {
+      this.excludedRoots.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link Omnibus.OmnibusSpec#getExcludedRoots() excludedRoots} set.
+     * @param elements An iterable of excludedRoots elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder excludedRoots(Iterable<? extends BuildTarget> elements) {
+      this.excludedRoots = ImmutableSet.builder();
+      return addAllExcludedRoots(elements);
+    }
+
+    /**
+     * Adds elements to {@link Omnibus.OmnibusSpec#getExcludedRoots() excludedRoots} set.
+     * @param elements An iterable of excludedRoots elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExcludedRoots(Iterable<? extends BuildTarget> elements) {
+      this.excludedRoots.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getExcluded() excluded} map.
+     * @param key The key in the excluded map
+     * @param value The associated value in the excluded map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExcluded(BuildTarget key, NativeLinkable value) {
+      this.excluded.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getExcluded() excluded} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExcluded(Map.Entry<? extends BuildTarget, ? extends NativeLinkable> entry) {
+      this.excluded.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link Omnibus.OmnibusSpec#getExcluded() excluded} map. Nulls are not permitted
+     * @param excluded The entries that will be added to the excluded map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder excluded(Map<? extends BuildTarget, ? extends NativeLinkable> excluded) {
+      this.excluded = ImmutableMap.builder();
+      return putAllExcluded(excluded);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link Omnibus.OmnibusSpec#getExcluded() excluded} map. Nulls are not permitted
+     * @param excluded The entries that will be added to the excluded map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExcluded(Map<? extends BuildTarget, ? extends NativeLinkable> excluded) {
+      this.excluded.putAll(excluded);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getDeps() deps} map.
+     * @param key The key in the deps map
+     * @param value The associated value in the deps map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putDeps(BuildTarget key, NativeLinkable value) {
+      this.deps.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Omnibus.OmnibusSpec#getDeps() deps} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putDeps(Map.Entry<? extends BuildTarget, ? extends NativeLinkable> entry) {
+      this.deps.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link Omnibus.OmnibusSpec#getDeps() deps} map. Nulls are not permitted
+     * @param deps The entries that will be added to the deps map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder deps(Map<? extends BuildTarget, ? extends NativeLinkable> deps) {
+      this.deps = ImmutableMap.builder();
+      return putAllDeps(deps);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link Omnibus.OmnibusSpec#getDeps() deps} map. Nulls are not permitted
+     * @param deps The entries that will be added to the deps map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllDeps(Map<? extends BuildTarget, ? extends NativeLinkable> deps) {
+      this.deps.putAll(deps);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ImmutableOmnibusSpec ImmutableOmnibusSpec}.
+     * @return An immutable instance of OmnibusSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ImmutableOmnibusSpec build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableOmnibusSpec.validate(new ImmutableOmnibusSpec(graph, roots.build(), body.build(), excludedRoots.build(), excluded.build(), deps.build()));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_GRAPH) != 0) attributes.add("graph");
+      return "Cannot build OmnibusSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.args.Arg;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * {@code CxxToolFlags} implementation where the flags are stored as composed Iterables.
+ * <p>This improves sharing and reduce copying and memory pressure.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIterableCxxToolFlags"})
+@Immutable
+@CheckReturnValue
+public final class IterableCxxToolFlags extends AbstractIterableCxxToolFlags {
+  private final ImmutableList<Arg> platformFlags;
+  private final ImmutableList<Arg> ruleFlags;
+
+  private IterableCxxToolFlags(
+      Iterable<? extends Arg> platformFlags,
+      Iterable<? extends Arg> ruleFlags) {
+    this.platformFlags = ImmutableList.copyOf(platformFlags);
+    this.ruleFlags = ImmutableList.copyOf(ruleFlags);
+  }
+
+  private IterableCxxToolFlags(
+      IterableCxxToolFlags original,
+      ImmutableList<Arg> platformFlags,
+      ImmutableList<Arg> ruleFlags) {
+    this.platformFlags = platformFlags;
+    this.ruleFlags = ruleFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIterableCxxToolFlags#getPlatformFlags() platformFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IterableCxxToolFlags withPlatformFlags(Arg... elements) {
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new IterableCxxToolFlags(this, newValue, this.ruleFlags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIterableCxxToolFlags#getPlatformFlags() platformFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of platformFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IterableCxxToolFlags withPlatformFlags(Iterable<? extends Arg> elements) {
+    if (this.platformFlags == elements) return this;
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new IterableCxxToolFlags(this, newValue, this.ruleFlags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIterableCxxToolFlags#getRuleFlags() ruleFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IterableCxxToolFlags withRuleFlags(Arg... elements) {
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new IterableCxxToolFlags(this, this.platformFlags, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIterableCxxToolFlags#getRuleFlags() ruleFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ruleFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IterableCxxToolFlags withRuleFlags(Iterable<? extends Arg> elements) {
+    if (this.ruleFlags == elements) return this;
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new IterableCxxToolFlags(this, this.platformFlags, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IterableCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IterableCxxToolFlags
+        && equalTo((IterableCxxToolFlags) another);
+  }
+
+  private boolean equalTo(IterableCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + platformFlags.hashCode();
+    h += (h << 5) + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IterableCxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IterableCxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code IterableCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable IterableCxxToolFlags instance
+   */
+  public static IterableCxxToolFlags of(ImmutableList<Arg> platformFlags, ImmutableList<Arg> ruleFlags) {
+    return of((Iterable<? extends Arg>) platformFlags, (Iterable<? extends Arg>) ruleFlags);
+  }
+
+  /**
+   * Construct a new immutable {@code IterableCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable IterableCxxToolFlags instance
+   */
+  public static IterableCxxToolFlags of(Iterable<? extends Arg> platformFlags, Iterable<? extends Arg> ruleFlags) {
+    return new IterableCxxToolFlags(platformFlags, ruleFlags);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIterableCxxToolFlags} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IterableCxxToolFlags instance
+   */
+  static IterableCxxToolFlags copyOf(AbstractIterableCxxToolFlags instance) {
+    if (instance instanceof IterableCxxToolFlags) {
+      return (IterableCxxToolFlags) instance;
+    }
+    return IterableCxxToolFlags.of(instance.getPlatformFlags(), instance.getRuleFlags());
+  }
+}
@@ -0,0 +1,206 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Omnibus.AbstractOmnibusLibrary}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code OmnibusLibrary.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code OmnibusLibrary.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Omnibus.AbstractOmnibusLibrary"})
+@Immutable
+@CheckReturnValue
+public final class OmnibusLibrary implements Omnibus.AbstractOmnibusLibrary {
+  private final String soname;
+  private final SourcePath path;
+
+  private OmnibusLibrary(String soname, SourcePath path) {
+    this.soname = Objects.requireNonNull(soname, "soname");
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private OmnibusLibrary(OmnibusLibrary.Builder builder) {
+    this.soname = builder.soname;
+    this.path = builder.path;
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public String getSoname() {
+    return soname;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OmnibusLibrary} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OmnibusLibrary
+        && equalTo((OmnibusLibrary) another);
+  }
+
+  private boolean equalTo(OmnibusLibrary another) {
+    return soname.equals(another.soname)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code soname}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + soname.hashCode();
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OmnibusLibrary} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OmnibusLibrary")
+        .omitNullValues()
+        .add("soname", soname)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code OmnibusLibrary} instance.
+   * @param soname The value for the {@code soname} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable OmnibusLibrary instance
+   */
+  public static OmnibusLibrary of(String soname, SourcePath path) {
+    return new OmnibusLibrary(soname, path);
+  }
+
+  /**
+   * Creates a builder for {@link OmnibusLibrary OmnibusLibrary}.
+   * @return A new OmnibusLibrary builder
+   */
+  public static OmnibusLibrary.Builder builder() {
+    return new OmnibusLibrary.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OmnibusLibrary OmnibusLibrary}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SONAME = 0x1L;
+    private static final long INIT_BIT_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String soname;
+    private @Nullable SourcePath path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OmnibusLibrary} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OmnibusLibrary instance) {
+      return from((Omnibus.AbstractOmnibusLibrary) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOmnibusLibrary} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(Omnibus.AbstractOmnibusLibrary instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSoname(instance.getSoname());
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link Omnibus.AbstractOmnibusLibrary#getSoname() soname} attribute.
+     * @param soname The value for soname 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      initBits &= ~INIT_BIT_SONAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link Omnibus.AbstractOmnibusLibrary#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPath(SourcePath path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link OmnibusLibrary OmnibusLibrary}.
+     * @return An immutable instance of OmnibusLibrary
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OmnibusLibrary build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new OmnibusLibrary(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SONAME) != 0) attributes.add("soname");
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      return "Cannot build OmnibusLibrary, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,363 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolver;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Generate instances of {@link PreInclude} based on the input parameters, generally coming from a
+ * {@link CxxSourceRuleFactory}. Logic for building such subclasses is all encapsulated here.
+ * @see CxxPrefixHeader
+ * @see CxxPrecompiledHeaderTemplate
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPreIncludeFactory"})
+@Immutable
+@CheckReturnValue
+public final class PreIncludeFactory extends AbstractPreIncludeFactory {
+  private final ProjectFilesystem projectFilesystem;
+  private final BuildTarget baseBuildTarget;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final SourcePathResolver pathResolver;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+
+  private PreIncludeFactory(
+      ProjectFilesystem projectFilesystem,
+      BuildTarget baseBuildTarget,
+      ActionGraphBuilder actionGraphBuilder,
+      SourcePathResolver pathResolver,
+      Optional<? extends SourcePath> prefixHeader,
+      Optional<? extends SourcePath> precompiledHeader) {
+    this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+    this.baseBuildTarget = Objects.requireNonNull(baseBuildTarget, "baseBuildTarget");
+    this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+    this.pathResolver = Objects.requireNonNull(pathResolver, "pathResolver");
+    this.prefixHeader = prefixHeader.orElse(null);
+    this.precompiledHeader = precompiledHeader.orElse(null);
+  }
+
+  private PreIncludeFactory(PreIncludeFactory.Builder builder) {
+    this.projectFilesystem = builder.projectFilesystem;
+    this.baseBuildTarget = builder.baseBuildTarget;
+    this.actionGraphBuilder = builder.actionGraphBuilder;
+    this.pathResolver = builder.pathResolver;
+    this.prefixHeader = builder.prefixHeader;
+    this.precompiledHeader = builder.precompiledHeader;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code baseBuildTarget} attribute
+   */
+  @Override
+  public BuildTarget getBaseBuildTarget() {
+    return baseBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  public ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code pathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getPathResolver() {
+    return pathResolver;
+  }
+
+  /**
+   *NOTE: {@code prefix_header} is incompatible with {@code precompiled_header}. 
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   *NOTE: {@code precompiled_header} is incompatible with {@code prefix_header}. 
+   */
+  @Override
+  public Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PreIncludeFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PreIncludeFactory
+        && equalTo((PreIncludeFactory) another);
+  }
+
+  private boolean equalTo(PreIncludeFactory another) {
+    return projectFilesystem.equals(another.projectFilesystem)
+        && baseBuildTarget.equals(another.baseBuildTarget)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && pathResolver.equals(another.pathResolver)
+        && Objects.equals(prefixHeader, another.prefixHeader)
+        && Objects.equals(precompiledHeader, another.precompiledHeader);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectFilesystem}, {@code baseBuildTarget}, {@code actionGraphBuilder}, {@code pathResolver}, {@code prefixHeader}, {@code precompiledHeader}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + baseBuildTarget.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + pathResolver.hashCode();
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + Objects.hashCode(precompiledHeader);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PreIncludeFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreIncludeFactory")
+        .omitNullValues()
+        .add("projectFilesystem", projectFilesystem)
+        .add("baseBuildTarget", baseBuildTarget)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("pathResolver", pathResolver)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PreIncludeFactory} instance.
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param baseBuildTarget The value for the {@code baseBuildTarget} attribute
+   * @param actionGraphBuilder The value for the {@code actionGraphBuilder} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param precompiledHeader The value for the {@code precompiledHeader} attribute
+   * @return An immutable PreIncludeFactory instance
+   */
+  public static PreIncludeFactory of(ProjectFilesystem projectFilesystem, BuildTarget baseBuildTarget, ActionGraphBuilder actionGraphBuilder, SourcePathResolver pathResolver, Optional<? extends SourcePath> prefixHeader, Optional<? extends SourcePath> precompiledHeader) {
+    return new PreIncludeFactory(projectFilesystem, baseBuildTarget, actionGraphBuilder, pathResolver, prefixHeader, precompiledHeader);
+  }
+
+  /**
+   * Creates a builder for {@link PreIncludeFactory PreIncludeFactory}.
+   * @return A new PreIncludeFactory builder
+   */
+  public static PreIncludeFactory.Builder builder() {
+    return new PreIncludeFactory.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PreIncludeFactory PreIncludeFactory}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x1L;
+    private static final long INIT_BIT_BASE_BUILD_TARGET = 0x2L;
+    private static final long INIT_BIT_ACTION_GRAPH_BUILDER = 0x4L;
+    private static final long INIT_BIT_PATH_RESOLVER = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable BuildTarget baseBuildTarget;
+    private @Nullable ActionGraphBuilder actionGraphBuilder;
+    private @Nullable SourcePathResolver pathResolver;
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable SourcePath precompiledHeader;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PreIncludeFactory} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PreIncludeFactory instance) {
+      return from((AbstractPreIncludeFactory) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPreIncludeFactory} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractPreIncludeFactory instance) {
+      Objects.requireNonNull(instance, "instance");
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setBaseBuildTarget(instance.getBaseBuildTarget());
+      setActionGraphBuilder(instance.getActionGraphBuilder());
+      setPathResolver(instance.getPathResolver());
+      Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+      if (prefixHeaderOptional.isPresent()) {
+        setPrefixHeader(prefixHeaderOptional);
+      }
+      Optional<SourcePath> precompiledHeaderOptional = instance.getPrecompiledHeader();
+      if (precompiledHeaderOptional.isPresent()) {
+        setPrecompiledHeader(precompiledHeaderOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPreIncludeFactory#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPreIncludeFactory#getBaseBuildTarget() baseBuildTarget} attribute.
+     * @param baseBuildTarget The value for baseBuildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseBuildTarget(BuildTarget baseBuildTarget) {
+      this.baseBuildTarget = Objects.requireNonNull(baseBuildTarget, "baseBuildTarget");
+      initBits &= ~INIT_BIT_BASE_BUILD_TARGET;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPreIncludeFactory#getActionGraphBuilder() actionGraphBuilder} attribute.
+     * @param actionGraphBuilder The value for actionGraphBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphBuilder(ActionGraphBuilder actionGraphBuilder) {
+      this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_BUILDER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractPreIncludeFactory#getPathResolver() pathResolver} attribute.
+     * @param pathResolver The value for pathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathResolver(SourcePathResolver pathResolver) {
+      this.pathResolver = Objects.requireNonNull(pathResolver, "pathResolver");
+      initBits &= ~INIT_BIT_PATH_RESOLVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractPreIncludeFactory#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Objects.requireNonNull(prefixHeader, "prefixHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPreIncludeFactory#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrefixHeader(Optional<? extends SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPreIncludeFactory#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecompiledHeader(SourcePath precompiledHeader) {
+      this.precompiledHeader = Objects.requireNonNull(precompiledHeader, "precompiledHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPreIncludeFactory#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrecompiledHeader(Optional<? extends SourcePath> precompiledHeader) {
+      this.precompiledHeader = precompiledHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PreIncludeFactory PreIncludeFactory}.
+     * @return An immutable instance of PreIncludeFactory
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PreIncludeFactory build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PreIncludeFactory(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_BASE_BUILD_TARGET) != 0) attributes.add("baseBuildTarget");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_BUILDER) != 0) attributes.add("actionGraphBuilder");
+      if ((initBits & INIT_BIT_PATH_RESOLVER) != 0) attributes.add("pathResolver");
+      return "Cannot build PreIncludeFactory, some of required attributes are not set " + attributes;
+    }
+  }
+}
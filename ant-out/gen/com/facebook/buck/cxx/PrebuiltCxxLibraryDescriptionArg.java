@@ -0,0 +1,2510 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.cxx.toolchain.nativelink.NativeLinkable;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceSortedSet;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PrebuiltCxxLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class PrebuiltCxxLibraryDescriptionArg
+    implements PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg {
+  private final @Nullable ImmutableList<SourcePath> headerDirs;
+  private final @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+  private final @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+  private final @Nullable SourcePath sharedLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+  private final @Nullable SourcePath staticLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+  private final @Nullable SourcePath staticPicLib;
+  private final @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+  private final @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+  private final boolean headerOnly;
+  private final SourceSortedSet exportedHeaders;
+  private final PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders;
+  private final @Nullable String headerNamespace;
+  private final boolean provided;
+  private final boolean linkWhole;
+  private final boolean forceStatic;
+  private final @Nullable NativeLinkable.Linkage preferredLinkage;
+  private final ImmutableList<StringWithMacros> exportedPreprocessorFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags;
+  private final ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> exportedLangPlatformPreprocessorFlags;
+  private final VersionMatchedCollection<ImmutableList<StringWithMacros>> versionedExportedPreprocessorFlags;
+  private final VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> versionedExportedPlatformPreprocessorFlags;
+  private final VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> versionedExportedLangPreprocessorFlags;
+  private final VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> versionedExportedLangPlatformPreprocessorFlags;
+  private final ImmutableList<StringWithMacros> exportedLinkerFlags;
+  private final ImmutableList<String> exportedPostLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+  private final PatternMatchedCollection<ImmutableList<String>> exportedPostPlatformLinkerFlags;
+  private final @Nullable String soname;
+  private final boolean linkWithoutSoname;
+  private final boolean canBeAsset;
+  private final ImmutableSortedSet<FrameworkPath> frameworks;
+  private final ImmutableSortedSet<FrameworkPath> libraries;
+  private final ImmutableSortedSet<BuildTarget> exportedDeps;
+  private final @Nullable Pattern supportedPlatformsRegex;
+  private final boolean supportsSharedLibraryInterface;
+  private final @Nullable Boolean supportsMergedLinking;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private PrebuiltCxxLibraryDescriptionArg(PrebuiltCxxLibraryDescriptionArg.Builder builder) {
+    this.headerDirs = builder.headerDirs;
+    this.platformHeaderDirs = builder.platformHeaderDirs;
+    this.versionedHeaderDirs = builder.versionedHeaderDirs;
+    this.sharedLib = builder.sharedLib;
+    this.platformSharedLib = builder.platformSharedLib;
+    this.versionedSharedLib = builder.versionedSharedLib;
+    this.staticLib = builder.staticLib;
+    this.platformStaticLib = builder.platformStaticLib;
+    this.versionedStaticLib = builder.versionedStaticLib;
+    this.staticPicLib = builder.staticPicLib;
+    this.platformStaticPicLib = builder.platformStaticPicLib;
+    this.versionedStaticPicLib = builder.versionedStaticPicLib;
+    this.headerNamespace = builder.headerNamespace;
+    this.preferredLinkage = builder.preferredLinkage;
+    this.exportedPreprocessorFlags = builder.exportedPreprocessorFlags.build();
+    this.exportedLangPreprocessorFlags = builder.exportedLangPreprocessorFlags.build();
+    this.exportedLangPlatformPreprocessorFlags = builder.exportedLangPlatformPreprocessorFlags.build();
+    this.exportedLinkerFlags = builder.exportedLinkerFlags.build();
+    this.exportedPostLinkerFlags = builder.exportedPostLinkerFlags.build();
+    this.soname = builder.soname;
+    this.frameworks = builder.frameworks.build();
+    this.libraries = builder.libraries.build();
+    this.exportedDeps = builder.exportedDeps.build();
+    this.supportedPlatformsRegex = builder.supportedPlatformsRegex;
+    this.supportsMergedLinking = builder.supportsMergedLinking;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.headerOnlyIsSet()) {
+      initShim.setHeaderOnly(builder.headerOnly);
+    }
+    if (builder.exportedHeaders != null) {
+      initShim.setExportedHeaders(builder.exportedHeaders);
+    }
+    if (builder.exportedPlatformHeaders != null) {
+      initShim.setExportedPlatformHeaders(builder.exportedPlatformHeaders);
+    }
+    if (builder.providedIsSet()) {
+      initShim.setProvided(builder.provided);
+    }
+    if (builder.linkWholeIsSet()) {
+      initShim.setLinkWhole(builder.linkWhole);
+    }
+    if (builder.forceStaticIsSet()) {
+      initShim.setForceStatic(builder.forceStatic);
+    }
+    if (builder.exportedPlatformPreprocessorFlags != null) {
+      initShim.setExportedPlatformPreprocessorFlags(builder.exportedPlatformPreprocessorFlags);
+    }
+    if (builder.versionedExportedPreprocessorFlags != null) {
+      initShim.setVersionedExportedPreprocessorFlags(builder.versionedExportedPreprocessorFlags);
+    }
+    if (builder.versionedExportedPlatformPreprocessorFlags != null) {
+      initShim.setVersionedExportedPlatformPreprocessorFlags(builder.versionedExportedPlatformPreprocessorFlags);
+    }
+    if (builder.versionedExportedLangPreprocessorFlags != null) {
+      initShim.setVersionedExportedLangPreprocessorFlags(builder.versionedExportedLangPreprocessorFlags);
+    }
+    if (builder.versionedExportedLangPlatformPreprocessorFlags != null) {
+      initShim.setVersionedExportedLangPlatformPreprocessorFlags(builder.versionedExportedLangPlatformPreprocessorFlags);
+    }
+    if (builder.exportedPlatformLinkerFlags != null) {
+      initShim.setExportedPlatformLinkerFlags(builder.exportedPlatformLinkerFlags);
+    }
+    if (builder.exportedPostPlatformLinkerFlags != null) {
+      initShim.setExportedPostPlatformLinkerFlags(builder.exportedPostPlatformLinkerFlags);
+    }
+    if (builder.linkWithoutSonameIsSet()) {
+      initShim.setLinkWithoutSoname(builder.linkWithoutSoname);
+    }
+    if (builder.canBeAssetIsSet()) {
+      initShim.setCanBeAsset(builder.canBeAsset);
+    }
+    if (builder.supportsSharedLibraryInterfaceIsSet()) {
+      initShim.setSupportsSharedLibraryInterface(builder.supportsSharedLibraryInterface);
+    }
+    this.headerOnly = initShim.isHeaderOnly();
+    this.exportedHeaders = initShim.getExportedHeaders();
+    this.exportedPlatformHeaders = initShim.getExportedPlatformHeaders();
+    this.provided = initShim.isProvided();
+    this.linkWhole = initShim.isLinkWhole();
+    this.forceStatic = initShim.isForceStatic();
+    this.exportedPlatformPreprocessorFlags = initShim.getExportedPlatformPreprocessorFlags();
+    this.versionedExportedPreprocessorFlags = initShim.getVersionedExportedPreprocessorFlags();
+    this.versionedExportedPlatformPreprocessorFlags = initShim.getVersionedExportedPlatformPreprocessorFlags();
+    this.versionedExportedLangPreprocessorFlags = initShim.getVersionedExportedLangPreprocessorFlags();
+    this.versionedExportedLangPlatformPreprocessorFlags = initShim.getVersionedExportedLangPlatformPreprocessorFlags();
+    this.exportedPlatformLinkerFlags = initShim.getExportedPlatformLinkerFlags();
+    this.exportedPostPlatformLinkerFlags = initShim.getExportedPostPlatformLinkerFlags();
+    this.linkWithoutSoname = initShim.getLinkWithoutSoname();
+    this.canBeAsset = initShim.getCanBeAsset();
+    this.supportsSharedLibraryInterface = initShim.isSupportsSharedLibraryInterface();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean headerOnly;
+    private int headerOnlyBuildStage;
+
+    boolean isHeaderOnly() {
+      if (headerOnlyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (headerOnlyBuildStage == STAGE_UNINITIALIZED) {
+        headerOnlyBuildStage = STAGE_INITIALIZING;
+        this.headerOnly = isHeaderOnlyInitialize();
+        headerOnlyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.headerOnly;
+    }
+
+    void setHeaderOnly(boolean headerOnly) {
+      this.headerOnly = headerOnly;
+      headerOnlyBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceSortedSet exportedHeaders;
+    private int exportedHeadersBuildStage;
+
+    SourceSortedSet getExportedHeaders() {
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedHeaders = Objects.requireNonNull(getExportedHeadersInitialize(), "exportedHeaders");
+        exportedHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedHeaders;
+    }
+
+    void setExportedHeaders(SourceSortedSet exportedHeaders) {
+      this.exportedHeaders = exportedHeaders;
+      exportedHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders;
+    private int exportedPlatformHeadersBuildStage;
+
+    PatternMatchedCollection<SourceSortedSet> getExportedPlatformHeaders() {
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformHeadersBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformHeaders = Objects.requireNonNull(getExportedPlatformHeadersInitialize(), "exportedPlatformHeaders");
+        exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformHeaders;
+    }
+
+    void setExportedPlatformHeaders(PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = exportedPlatformHeaders;
+      exportedPlatformHeadersBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean provided;
+    private int providedBuildStage;
+
+    boolean isProvided() {
+      if (providedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (providedBuildStage == STAGE_UNINITIALIZED) {
+        providedBuildStage = STAGE_INITIALIZING;
+        this.provided = isProvidedInitialize();
+        providedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.provided;
+    }
+
+    void setProvided(boolean provided) {
+      this.provided = provided;
+      providedBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean linkWhole;
+    private int linkWholeBuildStage;
+
+    boolean isLinkWhole() {
+      if (linkWholeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkWholeBuildStage == STAGE_UNINITIALIZED) {
+        linkWholeBuildStage = STAGE_INITIALIZING;
+        this.linkWhole = isLinkWholeInitialize();
+        linkWholeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkWhole;
+    }
+
+    void setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      linkWholeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean forceStatic;
+    private int forceStaticBuildStage;
+
+    boolean isForceStatic() {
+      if (forceStaticBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (forceStaticBuildStage == STAGE_UNINITIALIZED) {
+        forceStaticBuildStage = STAGE_INITIALIZING;
+        this.forceStatic = isForceStaticInitialize();
+        forceStaticBuildStage = STAGE_INITIALIZED;
+      }
+      return this.forceStatic;
+    }
+
+    void setForceStatic(boolean forceStatic) {
+      this.forceStatic = forceStatic;
+      forceStaticBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+    private int exportedPlatformPreprocessorFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlags() {
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(getExportedPlatformPreprocessorFlagsInitialize(), "exportedPlatformPreprocessorFlags");
+        exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformPreprocessorFlags;
+    }
+
+    void setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = exportedPlatformPreprocessorFlags;
+      exportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private VersionMatchedCollection<ImmutableList<StringWithMacros>> versionedExportedPreprocessorFlags;
+    private int versionedExportedPreprocessorFlagsBuildStage;
+
+    VersionMatchedCollection<ImmutableList<StringWithMacros>> getVersionedExportedPreprocessorFlags() {
+      if (versionedExportedPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (versionedExportedPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        versionedExportedPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.versionedExportedPreprocessorFlags = Objects.requireNonNull(getVersionedExportedPreprocessorFlagsInitialize(), "versionedExportedPreprocessorFlags");
+        versionedExportedPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.versionedExportedPreprocessorFlags;
+    }
+
+    void setVersionedExportedPreprocessorFlags(VersionMatchedCollection<ImmutableList<StringWithMacros>> versionedExportedPreprocessorFlags) {
+      this.versionedExportedPreprocessorFlags = versionedExportedPreprocessorFlags;
+      versionedExportedPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> versionedExportedPlatformPreprocessorFlags;
+    private int versionedExportedPlatformPreprocessorFlagsBuildStage;
+
+    VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> getVersionedExportedPlatformPreprocessorFlags() {
+      if (versionedExportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (versionedExportedPlatformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        versionedExportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.versionedExportedPlatformPreprocessorFlags = Objects.requireNonNull(getVersionedExportedPlatformPreprocessorFlagsInitialize(), "versionedExportedPlatformPreprocessorFlags");
+        versionedExportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.versionedExportedPlatformPreprocessorFlags;
+    }
+
+    void setVersionedExportedPlatformPreprocessorFlags(VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> versionedExportedPlatformPreprocessorFlags) {
+      this.versionedExportedPlatformPreprocessorFlags = versionedExportedPlatformPreprocessorFlags;
+      versionedExportedPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> versionedExportedLangPreprocessorFlags;
+    private int versionedExportedLangPreprocessorFlagsBuildStage;
+
+    VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> getVersionedExportedLangPreprocessorFlags() {
+      if (versionedExportedLangPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (versionedExportedLangPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        versionedExportedLangPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.versionedExportedLangPreprocessorFlags = Objects.requireNonNull(getVersionedExportedLangPreprocessorFlagsInitialize(), "versionedExportedLangPreprocessorFlags");
+        versionedExportedLangPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.versionedExportedLangPreprocessorFlags;
+    }
+
+    void setVersionedExportedLangPreprocessorFlags(VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> versionedExportedLangPreprocessorFlags) {
+      this.versionedExportedLangPreprocessorFlags = versionedExportedLangPreprocessorFlags;
+      versionedExportedLangPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> versionedExportedLangPlatformPreprocessorFlags;
+    private int versionedExportedLangPlatformPreprocessorFlagsBuildStage;
+
+    VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> getVersionedExportedLangPlatformPreprocessorFlags() {
+      if (versionedExportedLangPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (versionedExportedLangPlatformPreprocessorFlagsBuildStage == STAGE_UNINITIALIZED) {
+        versionedExportedLangPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZING;
+        this.versionedExportedLangPlatformPreprocessorFlags = Objects.requireNonNull(getVersionedExportedLangPlatformPreprocessorFlagsInitialize(), "versionedExportedLangPlatformPreprocessorFlags");
+        versionedExportedLangPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.versionedExportedLangPlatformPreprocessorFlags;
+    }
+
+    void setVersionedExportedLangPlatformPreprocessorFlags(VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> versionedExportedLangPlatformPreprocessorFlags) {
+      this.versionedExportedLangPlatformPreprocessorFlags = versionedExportedLangPlatformPreprocessorFlags;
+      versionedExportedLangPlatformPreprocessorFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+    private int exportedPlatformLinkerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlags() {
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPlatformLinkerFlags = Objects.requireNonNull(getExportedPlatformLinkerFlagsInitialize(), "exportedPlatformLinkerFlags");
+        exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPlatformLinkerFlags;
+    }
+
+    void setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = exportedPlatformLinkerFlags;
+      exportedPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableList<String>> exportedPostPlatformLinkerFlags;
+    private int exportedPostPlatformLinkerFlagsBuildStage;
+
+    PatternMatchedCollection<ImmutableList<String>> getExportedPostPlatformLinkerFlags() {
+      if (exportedPostPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (exportedPostPlatformLinkerFlagsBuildStage == STAGE_UNINITIALIZED) {
+        exportedPostPlatformLinkerFlagsBuildStage = STAGE_INITIALIZING;
+        this.exportedPostPlatformLinkerFlags = Objects.requireNonNull(getExportedPostPlatformLinkerFlagsInitialize(), "exportedPostPlatformLinkerFlags");
+        exportedPostPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.exportedPostPlatformLinkerFlags;
+    }
+
+    void setExportedPostPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> exportedPostPlatformLinkerFlags) {
+      this.exportedPostPlatformLinkerFlags = exportedPostPlatformLinkerFlags;
+      exportedPostPlatformLinkerFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean linkWithoutSoname;
+    private int linkWithoutSonameBuildStage;
+
+    boolean getLinkWithoutSoname() {
+      if (linkWithoutSonameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkWithoutSonameBuildStage == STAGE_UNINITIALIZED) {
+        linkWithoutSonameBuildStage = STAGE_INITIALIZING;
+        this.linkWithoutSoname = getLinkWithoutSonameInitialize();
+        linkWithoutSonameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linkWithoutSoname;
+    }
+
+    void setLinkWithoutSoname(boolean linkWithoutSoname) {
+      this.linkWithoutSoname = linkWithoutSoname;
+      linkWithoutSonameBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean canBeAsset;
+    private int canBeAssetBuildStage;
+
+    boolean getCanBeAsset() {
+      if (canBeAssetBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (canBeAssetBuildStage == STAGE_UNINITIALIZED) {
+        canBeAssetBuildStage = STAGE_INITIALIZING;
+        this.canBeAsset = getCanBeAssetInitialize();
+        canBeAssetBuildStage = STAGE_INITIALIZED;
+      }
+      return this.canBeAsset;
+    }
+
+    void setCanBeAsset(boolean canBeAsset) {
+      this.canBeAsset = canBeAsset;
+      canBeAssetBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean supportsSharedLibraryInterface;
+    private int supportsSharedLibraryInterfaceBuildStage;
+
+    boolean isSupportsSharedLibraryInterface() {
+      if (supportsSharedLibraryInterfaceBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (supportsSharedLibraryInterfaceBuildStage == STAGE_UNINITIALIZED) {
+        supportsSharedLibraryInterfaceBuildStage = STAGE_INITIALIZING;
+        this.supportsSharedLibraryInterface = isSupportsSharedLibraryInterfaceInitialize();
+        supportsSharedLibraryInterfaceBuildStage = STAGE_INITIALIZED;
+      }
+      return this.supportsSharedLibraryInterface;
+    }
+
+    void setSupportsSharedLibraryInterface(boolean supportsSharedLibraryInterface) {
+      this.supportsSharedLibraryInterface = supportsSharedLibraryInterface;
+      supportsSharedLibraryInterfaceBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (headerOnlyBuildStage == STAGE_INITIALIZING) attributes.add("headerOnly");
+      if (exportedHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedHeaders");
+      if (exportedPlatformHeadersBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformHeaders");
+      if (providedBuildStage == STAGE_INITIALIZING) attributes.add("provided");
+      if (linkWholeBuildStage == STAGE_INITIALIZING) attributes.add("linkWhole");
+      if (forceStaticBuildStage == STAGE_INITIALIZING) attributes.add("forceStatic");
+      if (exportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformPreprocessorFlags");
+      if (versionedExportedPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("versionedExportedPreprocessorFlags");
+      if (versionedExportedPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("versionedExportedPlatformPreprocessorFlags");
+      if (versionedExportedLangPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("versionedExportedLangPreprocessorFlags");
+      if (versionedExportedLangPlatformPreprocessorFlagsBuildStage == STAGE_INITIALIZING) attributes.add("versionedExportedLangPlatformPreprocessorFlags");
+      if (exportedPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPlatformLinkerFlags");
+      if (exportedPostPlatformLinkerFlagsBuildStage == STAGE_INITIALIZING) attributes.add("exportedPostPlatformLinkerFlags");
+      if (linkWithoutSonameBuildStage == STAGE_INITIALIZING) attributes.add("linkWithoutSoname");
+      if (canBeAssetBuildStage == STAGE_INITIALIZING) attributes.add("canBeAsset");
+      if (supportsSharedLibraryInterfaceBuildStage == STAGE_INITIALIZING) attributes.add("supportsSharedLibraryInterface");
+      return "Cannot build PrebuiltCxxLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private boolean isHeaderOnlyInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isHeaderOnly();
+  }
+
+  private SourceSortedSet getExportedHeadersInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedHeaders();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getExportedPlatformHeadersInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPlatformHeaders();
+  }
+
+  private boolean isProvidedInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isProvided();
+  }
+
+  private boolean isLinkWholeInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isLinkWhole();
+  }
+
+  private boolean isForceStaticInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isForceStatic();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPlatformPreprocessorFlags();
+  }
+
+  private VersionMatchedCollection<ImmutableList<StringWithMacros>> getVersionedExportedPreprocessorFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getVersionedExportedPreprocessorFlags();
+  }
+
+  private VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> getVersionedExportedPlatformPreprocessorFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getVersionedExportedPlatformPreprocessorFlags();
+  }
+
+  private VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> getVersionedExportedLangPreprocessorFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getVersionedExportedLangPreprocessorFlags();
+  }
+
+  private VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> getVersionedExportedLangPlatformPreprocessorFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getVersionedExportedLangPlatformPreprocessorFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPlatformLinkerFlags();
+  }
+
+  private PatternMatchedCollection<ImmutableList<String>> getExportedPostPlatformLinkerFlagsInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getExportedPostPlatformLinkerFlags();
+  }
+
+  private boolean getLinkWithoutSonameInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getLinkWithoutSoname();
+  }
+
+  private boolean getCanBeAssetInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.getCanBeAsset();
+  }
+
+  private boolean isSupportsSharedLibraryInterfaceInitialize() {
+    return PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg.super.isSupportsSharedLibraryInterface();
+  }
+
+  /**
+   * @return The value of the {@code headerDirs} attribute
+   */
+  @Override
+  public Optional<ImmutableList<SourcePath>> getHeaderDirs() {
+    return Optional.ofNullable(headerDirs);
+  }
+
+  /**
+   * @return The value of the {@code platformHeaderDirs} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> getPlatformHeaderDirs() {
+    return Optional.ofNullable(platformHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code versionedHeaderDirs} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> getVersionedHeaderDirs() {
+    return Optional.ofNullable(versionedHeaderDirs);
+  }
+
+  /**
+   * @return The value of the {@code sharedLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSharedLib() {
+    return Optional.ofNullable(sharedLib);
+  }
+
+  /**
+   * @return The value of the {@code platformSharedLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformSharedLib() {
+    return Optional.ofNullable(platformSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedSharedLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedSharedLib() {
+    return Optional.ofNullable(versionedSharedLib);
+  }
+
+  /**
+   * @return The value of the {@code staticLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getStaticLib() {
+    return Optional.ofNullable(staticLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticLib() {
+    return Optional.ofNullable(platformStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticLib() {
+    return Optional.ofNullable(versionedStaticLib);
+  }
+
+  /**
+   * @return The value of the {@code staticPicLib} attribute
+   */
+  @Override
+  public Optional<SourcePath> getStaticPicLib() {
+    return Optional.ofNullable(staticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code platformStaticPicLib} attribute
+   */
+  @Override
+  public Optional<PatternMatchedCollection<SourcePath>> getPlatformStaticPicLib() {
+    return Optional.ofNullable(platformStaticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code versionedStaticPicLib} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourcePath>> getVersionedStaticPicLib() {
+    return Optional.ofNullable(versionedStaticPicLib);
+  }
+
+  /**
+   * @return The value of the {@code headerOnly} attribute
+   */
+  @Override
+  public boolean isHeaderOnly() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isHeaderOnly()
+        : this.headerOnly;
+  }
+
+  /**
+   * @return The value of the {@code exportedHeaders} attribute
+   */
+  @Override
+  public SourceSortedSet getExportedHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedHeaders()
+        : this.exportedHeaders;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformHeaders} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getExportedPlatformHeaders() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformHeaders()
+        : this.exportedPlatformHeaders;
+  }
+
+  /**
+   * @return The value of the {@code headerNamespace} attribute
+   */
+  @Override
+  public Optional<String> getHeaderNamespace() {
+    return Optional.ofNullable(headerNamespace);
+  }
+
+  /**
+   * @return The value of the {@code provided} attribute
+   */
+  @Override
+  public boolean isProvided() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isProvided()
+        : this.provided;
+  }
+
+  /**
+   * @return The value of the {@code linkWhole} attribute
+   */
+  @Override
+  public boolean isLinkWhole() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isLinkWhole()
+        : this.linkWhole;
+  }
+
+  /**
+   * @return The value of the {@code forceStatic} attribute
+   */
+  @Override
+  public boolean isForceStatic() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isForceStatic()
+        : this.forceStatic;
+  }
+
+  /**
+   * @return The value of the {@code preferredLinkage} attribute
+   */
+  @Override
+  public Optional<NativeLinkable.Linkage> getPreferredLinkage() {
+    return Optional.ofNullable(preferredLinkage);
+  }
+
+  /**
+   * @return The value of the {@code exportedPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedPreprocessorFlags() {
+    return exportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformPreprocessorFlags()
+        : this.exportedPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLangPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>> getExportedLangPreprocessorFlags() {
+    return exportedLangPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLangPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> getExportedLangPlatformPreprocessorFlags() {
+    return exportedLangPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code versionedExportedPreprocessorFlags} attribute
+   */
+  @Override
+  public VersionMatchedCollection<ImmutableList<StringWithMacros>> getVersionedExportedPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVersionedExportedPreprocessorFlags()
+        : this.versionedExportedPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code versionedExportedPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> getVersionedExportedPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVersionedExportedPlatformPreprocessorFlags()
+        : this.versionedExportedPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code versionedExportedLangPreprocessorFlags} attribute
+   */
+  @Override
+  public VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> getVersionedExportedLangPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVersionedExportedLangPreprocessorFlags()
+        : this.versionedExportedLangPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code versionedExportedLangPlatformPreprocessorFlags} attribute
+   */
+  @Override
+  public VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> getVersionedExportedLangPlatformPreprocessorFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVersionedExportedLangPlatformPreprocessorFlags()
+        : this.versionedExportedLangPlatformPreprocessorFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getExportedLinkerFlags() {
+    return exportedLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPostLinkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getExportedPostLinkerFlags() {
+    return exportedPostLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<StringWithMacros>> getExportedPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPlatformLinkerFlags()
+        : this.exportedPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code exportedPostPlatformLinkerFlags} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableList<String>> getExportedPostPlatformLinkerFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExportedPostPlatformLinkerFlags()
+        : this.exportedPostPlatformLinkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code soname} attribute
+   */
+  @Override
+  public Optional<String> getSoname() {
+    return Optional.ofNullable(soname);
+  }
+
+  /**
+   * @return The value of the {@code linkWithoutSoname} attribute
+   */
+  @Override
+  public boolean getLinkWithoutSoname() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinkWithoutSoname()
+        : this.linkWithoutSoname;
+  }
+
+  /**
+   * @return The value of the {@code canBeAsset} attribute
+   */
+  @Override
+  public boolean getCanBeAsset() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCanBeAsset()
+        : this.canBeAsset;
+  }
+
+  /**
+   * @return The value of the {@code frameworks} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getFrameworks() {
+    return frameworks;
+  }
+
+  /**
+   * @return The value of the {@code libraries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<FrameworkPath> getLibraries() {
+    return libraries;
+  }
+
+  /**
+   * @return The value of the {@code exportedDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getExportedDeps() {
+    return exportedDeps;
+  }
+
+  /**
+   * @return The value of the {@code supportedPlatformsRegex} attribute
+   */
+  @Override
+  public Optional<Pattern> getSupportedPlatformsRegex() {
+    return Optional.ofNullable(supportedPlatformsRegex);
+  }
+
+  /**
+   * @return The value of the {@code supportsSharedLibraryInterface} attribute
+   */
+  @Override
+  public boolean isSupportsSharedLibraryInterface() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSupportsSharedLibraryInterface()
+        : this.supportsSharedLibraryInterface;
+  }
+
+  /**
+   * @return The value of the {@code supportsMergedLinking} attribute
+   */
+  @Override
+  public Optional<Boolean> getSupportsMergedLinking() {
+    return Optional.ofNullable(supportsMergedLinking);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PrebuiltCxxLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PrebuiltCxxLibraryDescriptionArg
+        && equalTo((PrebuiltCxxLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PrebuiltCxxLibraryDescriptionArg another) {
+    return Objects.equals(headerDirs, another.headerDirs)
+        && Objects.equals(platformHeaderDirs, another.platformHeaderDirs)
+        && Objects.equals(versionedHeaderDirs, another.versionedHeaderDirs)
+        && Objects.equals(sharedLib, another.sharedLib)
+        && Objects.equals(platformSharedLib, another.platformSharedLib)
+        && Objects.equals(versionedSharedLib, another.versionedSharedLib)
+        && Objects.equals(staticLib, another.staticLib)
+        && Objects.equals(platformStaticLib, another.platformStaticLib)
+        && Objects.equals(versionedStaticLib, another.versionedStaticLib)
+        && Objects.equals(staticPicLib, another.staticPicLib)
+        && Objects.equals(platformStaticPicLib, another.platformStaticPicLib)
+        && Objects.equals(versionedStaticPicLib, another.versionedStaticPicLib)
+        && headerOnly == another.headerOnly
+        && exportedHeaders.equals(another.exportedHeaders)
+        && exportedPlatformHeaders.equals(another.exportedPlatformHeaders)
+        && Objects.equals(headerNamespace, another.headerNamespace)
+        && provided == another.provided
+        && linkWhole == another.linkWhole
+        && forceStatic == another.forceStatic
+        && Objects.equals(preferredLinkage, another.preferredLinkage)
+        && exportedPreprocessorFlags.equals(another.exportedPreprocessorFlags)
+        && exportedPlatformPreprocessorFlags.equals(another.exportedPlatformPreprocessorFlags)
+        && exportedLangPreprocessorFlags.equals(another.exportedLangPreprocessorFlags)
+        && exportedLangPlatformPreprocessorFlags.equals(another.exportedLangPlatformPreprocessorFlags)
+        && versionedExportedPreprocessorFlags.equals(another.versionedExportedPreprocessorFlags)
+        && versionedExportedPlatformPreprocessorFlags.equals(another.versionedExportedPlatformPreprocessorFlags)
+        && versionedExportedLangPreprocessorFlags.equals(another.versionedExportedLangPreprocessorFlags)
+        && versionedExportedLangPlatformPreprocessorFlags.equals(another.versionedExportedLangPlatformPreprocessorFlags)
+        && exportedLinkerFlags.equals(another.exportedLinkerFlags)
+        && exportedPostLinkerFlags.equals(another.exportedPostLinkerFlags)
+        && exportedPlatformLinkerFlags.equals(another.exportedPlatformLinkerFlags)
+        && exportedPostPlatformLinkerFlags.equals(another.exportedPostPlatformLinkerFlags)
+        && Objects.equals(soname, another.soname)
+        && linkWithoutSoname == another.linkWithoutSoname
+        && canBeAsset == another.canBeAsset
+        && frameworks.equals(another.frameworks)
+        && libraries.equals(another.libraries)
+        && exportedDeps.equals(another.exportedDeps)
+        && Objects.equals(supportedPlatformsRegex, another.supportedPlatformsRegex)
+        && supportsSharedLibraryInterface == another.supportsSharedLibraryInterface
+        && Objects.equals(supportsMergedLinking, another.supportsMergedLinking)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code headerDirs}, {@code platformHeaderDirs}, {@code versionedHeaderDirs}, {@code sharedLib}, {@code platformSharedLib}, {@code versionedSharedLib}, {@code staticLib}, {@code platformStaticLib}, {@code versionedStaticLib}, {@code staticPicLib}, {@code platformStaticPicLib}, {@code versionedStaticPicLib}, {@code headerOnly}, {@code exportedHeaders}, {@code exportedPlatformHeaders}, {@code headerNamespace}, {@code provided}, {@code linkWhole}, {@code forceStatic}, {@code preferredLinkage}, {@code exportedPreprocessorFlags}, {@code exportedPlatformPreprocessorFlags}, {@code exportedLangPreprocessorFlags}, {@code exportedLangPlatformPreprocessorFlags}, {@code versionedExportedPreprocessorFlags}, {@code versionedExportedPlatformPreprocessorFlags}, {@code versionedExportedLangPreprocessorFlags}, {@code versionedExportedLangPlatformPreprocessorFlags}, {@code exportedLinkerFlags}, {@code exportedPostLinkerFlags}, {@code exportedPlatformLinkerFlags}, {@code exportedPostPlatformLinkerFlags}, {@code soname}, {@code linkWithoutSoname}, {@code canBeAsset}, {@code frameworks}, {@code libraries}, {@code exportedDeps}, {@code supportedPlatformsRegex}, {@code supportsSharedLibraryInterface}, {@code supportsMergedLinking}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(headerDirs);
+    h += (h << 5) + Objects.hashCode(platformHeaderDirs);
+    h += (h << 5) + Objects.hashCode(versionedHeaderDirs);
+    h += (h << 5) + Objects.hashCode(sharedLib);
+    h += (h << 5) + Objects.hashCode(platformSharedLib);
+    h += (h << 5) + Objects.hashCode(versionedSharedLib);
+    h += (h << 5) + Objects.hashCode(staticLib);
+    h += (h << 5) + Objects.hashCode(platformStaticLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticLib);
+    h += (h << 5) + Objects.hashCode(staticPicLib);
+    h += (h << 5) + Objects.hashCode(platformStaticPicLib);
+    h += (h << 5) + Objects.hashCode(versionedStaticPicLib);
+    h += (h << 5) + Booleans.hashCode(headerOnly);
+    h += (h << 5) + exportedHeaders.hashCode();
+    h += (h << 5) + exportedPlatformHeaders.hashCode();
+    h += (h << 5) + Objects.hashCode(headerNamespace);
+    h += (h << 5) + Booleans.hashCode(provided);
+    h += (h << 5) + Booleans.hashCode(linkWhole);
+    h += (h << 5) + Booleans.hashCode(forceStatic);
+    h += (h << 5) + Objects.hashCode(preferredLinkage);
+    h += (h << 5) + exportedPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLangPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLangPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + versionedExportedPreprocessorFlags.hashCode();
+    h += (h << 5) + versionedExportedPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + versionedExportedLangPreprocessorFlags.hashCode();
+    h += (h << 5) + versionedExportedLangPlatformPreprocessorFlags.hashCode();
+    h += (h << 5) + exportedLinkerFlags.hashCode();
+    h += (h << 5) + exportedPostLinkerFlags.hashCode();
+    h += (h << 5) + exportedPlatformLinkerFlags.hashCode();
+    h += (h << 5) + exportedPostPlatformLinkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(soname);
+    h += (h << 5) + Booleans.hashCode(linkWithoutSoname);
+    h += (h << 5) + Booleans.hashCode(canBeAsset);
+    h += (h << 5) + frameworks.hashCode();
+    h += (h << 5) + libraries.hashCode();
+    h += (h << 5) + exportedDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(supportedPlatformsRegex);
+    h += (h << 5) + Booleans.hashCode(supportsSharedLibraryInterface);
+    h += (h << 5) + Objects.hashCode(supportsMergedLinking);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PrebuiltCxxLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PrebuiltCxxLibraryDescriptionArg")
+        .omitNullValues()
+        .add("headerDirs", headerDirs)
+        .add("platformHeaderDirs", platformHeaderDirs)
+        .add("versionedHeaderDirs", versionedHeaderDirs)
+        .add("sharedLib", sharedLib)
+        .add("platformSharedLib", platformSharedLib)
+        .add("versionedSharedLib", versionedSharedLib)
+        .add("staticLib", staticLib)
+        .add("platformStaticLib", platformStaticLib)
+        .add("versionedStaticLib", versionedStaticLib)
+        .add("staticPicLib", staticPicLib)
+        .add("platformStaticPicLib", platformStaticPicLib)
+        .add("versionedStaticPicLib", versionedStaticPicLib)
+        .add("headerOnly", headerOnly)
+        .add("exportedHeaders", exportedHeaders)
+        .add("exportedPlatformHeaders", exportedPlatformHeaders)
+        .add("headerNamespace", headerNamespace)
+        .add("provided", provided)
+        .add("linkWhole", linkWhole)
+        .add("forceStatic", forceStatic)
+        .add("preferredLinkage", preferredLinkage)
+        .add("exportedPreprocessorFlags", exportedPreprocessorFlags)
+        .add("exportedPlatformPreprocessorFlags", exportedPlatformPreprocessorFlags)
+        .add("exportedLangPreprocessorFlags", exportedLangPreprocessorFlags)
+        .add("exportedLangPlatformPreprocessorFlags", exportedLangPlatformPreprocessorFlags)
+        .add("versionedExportedPreprocessorFlags", versionedExportedPreprocessorFlags)
+        .add("versionedExportedPlatformPreprocessorFlags", versionedExportedPlatformPreprocessorFlags)
+        .add("versionedExportedLangPreprocessorFlags", versionedExportedLangPreprocessorFlags)
+        .add("versionedExportedLangPlatformPreprocessorFlags", versionedExportedLangPlatformPreprocessorFlags)
+        .add("exportedLinkerFlags", exportedLinkerFlags)
+        .add("exportedPostLinkerFlags", exportedPostLinkerFlags)
+        .add("exportedPlatformLinkerFlags", exportedPlatformLinkerFlags)
+        .add("exportedPostPlatformLinkerFlags", exportedPostPlatformLinkerFlags)
+        .add("soname", soname)
+        .add("linkWithoutSoname", linkWithoutSoname)
+        .add("canBeAsset", canBeAsset)
+        .add("frameworks", frameworks)
+        .add("libraries", libraries)
+        .add("exportedDeps", exportedDeps)
+        .add("supportedPlatformsRegex", supportedPlatformsRegex)
+        .add("supportsSharedLibraryInterface", supportsSharedLibraryInterface)
+        .add("supportsMergedLinking", supportsMergedLinking)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PrebuiltCxxLibraryDescriptionArg PrebuiltCxxLibraryDescriptionArg}.
+   * @return A new PrebuiltCxxLibraryDescriptionArg builder
+   */
+  public static PrebuiltCxxLibraryDescriptionArg.Builder builder() {
+    return new PrebuiltCxxLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PrebuiltCxxLibraryDescriptionArg PrebuiltCxxLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_HEADER_ONLY = 0x1L;
+    private static final long OPT_BIT_PROVIDED = 0x2L;
+    private static final long OPT_BIT_LINK_WHOLE = 0x4L;
+    private static final long OPT_BIT_FORCE_STATIC = 0x8L;
+    private static final long OPT_BIT_LINK_WITHOUT_SONAME = 0x10L;
+    private static final long OPT_BIT_CAN_BE_ASSET = 0x20L;
+    private static final long OPT_BIT_SUPPORTS_SHARED_LIBRARY_INTERFACE = 0x40L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable ImmutableList<SourcePath> headerDirs;
+    private @Nullable PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs;
+    private @Nullable VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs;
+    private @Nullable SourcePath sharedLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformSharedLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedSharedLib;
+    private @Nullable SourcePath staticLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticLib;
+    private @Nullable SourcePath staticPicLib;
+    private @Nullable PatternMatchedCollection<SourcePath> platformStaticPicLib;
+    private @Nullable VersionMatchedCollection<SourcePath> versionedStaticPicLib;
+    private boolean headerOnly;
+    private @Nullable SourceSortedSet exportedHeaders;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders;
+    private @Nullable String headerNamespace;
+    private boolean provided;
+    private boolean linkWhole;
+    private boolean forceStatic;
+    private @Nullable NativeLinkable.Linkage preferredLinkage;
+    private ImmutableList.Builder<StringWithMacros> exportedPreprocessorFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags;
+    private ImmutableMap.Builder<CxxSource.Type, ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags = ImmutableMap.builder();
+    private ImmutableMap.Builder<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>> exportedLangPlatformPreprocessorFlags = ImmutableMap.builder();
+    private @Nullable VersionMatchedCollection<ImmutableList<StringWithMacros>> versionedExportedPreprocessorFlags;
+    private @Nullable VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> versionedExportedPlatformPreprocessorFlags;
+    private @Nullable VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> versionedExportedLangPreprocessorFlags;
+    private @Nullable VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> versionedExportedLangPlatformPreprocessorFlags;
+    private ImmutableList.Builder<StringWithMacros> exportedLinkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> exportedPostLinkerFlags = ImmutableList.builder();
+    private @Nullable PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags;
+    private @Nullable PatternMatchedCollection<ImmutableList<String>> exportedPostPlatformLinkerFlags;
+    private @Nullable String soname;
+    private boolean linkWithoutSoname;
+    private boolean canBeAsset;
+    private ImmutableSortedSet.Builder<FrameworkPath> frameworks = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<FrameworkPath> libraries = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> exportedDeps = ImmutableSortedSet.naturalOrder();
+    private @Nullable Pattern supportedPlatformsRegex;
+    private boolean supportsSharedLibraryInterface;
+    private @Nullable Boolean supportsMergedLinking;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PrebuiltCxxLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PrebuiltCxxLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPrebuiltCxxLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg) {
+        PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg instance = (PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg) object;
+        putAllExportedLangPreprocessorFlags(instance.getExportedLangPreprocessorFlags());
+        setVersionedExportedPlatformPreprocessorFlags(instance.getVersionedExportedPlatformPreprocessorFlags());
+        setSupportsSharedLibraryInterface(instance.isSupportsSharedLibraryInterface());
+        setHeaderOnly(instance.isHeaderOnly());
+        addAllFrameworks(instance.getFrameworks());
+        Optional<PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirsOptional = instance.getPlatformHeaderDirs();
+        if (platformHeaderDirsOptional.isPresent()) {
+          setPlatformHeaderDirs(platformHeaderDirsOptional);
+        }
+        Optional<VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirsOptional = instance.getVersionedHeaderDirs();
+        if (versionedHeaderDirsOptional.isPresent()) {
+          setVersionedHeaderDirs(versionedHeaderDirsOptional);
+        }
+        setProvided(instance.isProvided());
+        setExportedPlatformHeaders(instance.getExportedPlatformHeaders());
+        Optional<SourcePath> staticPicLibOptional = instance.getStaticPicLib();
+        if (staticPicLibOptional.isPresent()) {
+          setStaticPicLib(staticPicLibOptional);
+        }
+        addAllExportedPostLinkerFlags(instance.getExportedPostLinkerFlags());
+        Optional<VersionMatchedCollection<SourcePath>> versionedStaticPicLibOptional = instance.getVersionedStaticPicLib();
+        if (versionedStaticPicLibOptional.isPresent()) {
+          setVersionedStaticPicLib(versionedStaticPicLibOptional);
+        }
+        Optional<VersionMatchedCollection<SourcePath>> versionedSharedLibOptional = instance.getVersionedSharedLib();
+        if (versionedSharedLibOptional.isPresent()) {
+          setVersionedSharedLib(versionedSharedLibOptional);
+        }
+        Optional<PatternMatchedCollection<SourcePath>> platformStaticPicLibOptional = instance.getPlatformStaticPicLib();
+        if (platformStaticPicLibOptional.isPresent()) {
+          setPlatformStaticPicLib(platformStaticPicLibOptional);
+        }
+        setLinkWithoutSoname(instance.getLinkWithoutSoname());
+        Optional<SourcePath> sharedLibOptional = instance.getSharedLib();
+        if (sharedLibOptional.isPresent()) {
+          setSharedLib(sharedLibOptional);
+        }
+        addAllExportedDeps(instance.getExportedDeps());
+        Optional<SourcePath> staticLibOptional = instance.getStaticLib();
+        if (staticLibOptional.isPresent()) {
+          setStaticLib(staticLibOptional);
+        }
+        Optional<NativeLinkable.Linkage> preferredLinkageOptional = instance.getPreferredLinkage();
+        if (preferredLinkageOptional.isPresent()) {
+          setPreferredLinkage(preferredLinkageOptional);
+        }
+        setVersionedExportedLangPreprocessorFlags(instance.getVersionedExportedLangPreprocessorFlags());
+        Optional<ImmutableList<SourcePath>> headerDirsOptional = instance.getHeaderDirs();
+        if (headerDirsOptional.isPresent()) {
+          setHeaderDirs(headerDirsOptional);
+        }
+        setLinkWhole(instance.isLinkWhole());
+        setExportedPlatformPreprocessorFlags(instance.getExportedPlatformPreprocessorFlags());
+        setExportedHeaders(instance.getExportedHeaders());
+        setVersionedExportedPreprocessorFlags(instance.getVersionedExportedPreprocessorFlags());
+        setVersionedExportedLangPlatformPreprocessorFlags(instance.getVersionedExportedLangPlatformPreprocessorFlags());
+        addAllExportedLinkerFlags(instance.getExportedLinkerFlags());
+        addAllLibraries(instance.getLibraries());
+        setCanBeAsset(instance.getCanBeAsset());
+        setExportedPlatformLinkerFlags(instance.getExportedPlatformLinkerFlags());
+        Optional<String> sonameOptional = instance.getSoname();
+        if (sonameOptional.isPresent()) {
+          setSoname(sonameOptional);
+        }
+        Optional<VersionMatchedCollection<SourcePath>> versionedStaticLibOptional = instance.getVersionedStaticLib();
+        if (versionedStaticLibOptional.isPresent()) {
+          setVersionedStaticLib(versionedStaticLibOptional);
+        }
+        Optional<Boolean> supportsMergedLinkingOptional = instance.getSupportsMergedLinking();
+        if (supportsMergedLinkingOptional.isPresent()) {
+          setSupportsMergedLinking(supportsMergedLinkingOptional);
+        }
+        Optional<PatternMatchedCollection<SourcePath>> platformSharedLibOptional = instance.getPlatformSharedLib();
+        if (platformSharedLibOptional.isPresent()) {
+          setPlatformSharedLib(platformSharedLibOptional);
+        }
+        Optional<Pattern> supportedPlatformsRegexOptional = instance.getSupportedPlatformsRegex();
+        if (supportedPlatformsRegexOptional.isPresent()) {
+          setSupportedPlatformsRegex(supportedPlatformsRegexOptional);
+        }
+        putAllExportedLangPlatformPreprocessorFlags(instance.getExportedLangPlatformPreprocessorFlags());
+        setExportedPostPlatformLinkerFlags(instance.getExportedPostPlatformLinkerFlags());
+        setForceStatic(instance.isForceStatic());
+        Optional<PatternMatchedCollection<SourcePath>> platformStaticLibOptional = instance.getPlatformStaticLib();
+        if (platformStaticLibOptional.isPresent()) {
+          setPlatformStaticLib(platformStaticLibOptional);
+        }
+        Optional<String> headerNamespaceOptional = instance.getHeaderNamespace();
+        if (headerNamespaceOptional.isPresent()) {
+          setHeaderNamespace(headerNamespaceOptional);
+        }
+        addAllExportedPreprocessorFlags(instance.getExportedPreprocessorFlags());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderDirs(ImmutableList<SourcePath> headerDirs) {
+      this.headerDirs = Objects.requireNonNull(headerDirs, "headerDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderDirs() headerDirs} to headerDirs.
+     * @param headerDirs The value for headerDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderDirs(Optional<? extends ImmutableList<SourcePath>> headerDirs) {
+      this.headerDirs = headerDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformHeaderDirs(PatternMatchedCollection<ImmutableList<SourcePath>> platformHeaderDirs) {
+      this.platformHeaderDirs = Objects.requireNonNull(platformHeaderDirs, "platformHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformHeaderDirs() platformHeaderDirs} to platformHeaderDirs.
+     * @param platformHeaderDirs The value for platformHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformHeaderDirs(Optional<? extends PatternMatchedCollection<ImmutableList<SourcePath>>> platformHeaderDirs) {
+      this.platformHeaderDirs = platformHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedHeaderDirs(VersionMatchedCollection<ImmutableList<SourcePath>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = Objects.requireNonNull(versionedHeaderDirs, "versionedHeaderDirs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedHeaderDirs() versionedHeaderDirs} to versionedHeaderDirs.
+     * @param versionedHeaderDirs The value for versionedHeaderDirs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedHeaderDirs(Optional<? extends VersionMatchedCollection<ImmutableList<SourcePath>>> versionedHeaderDirs) {
+      this.versionedHeaderDirs = versionedHeaderDirs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLib(SourcePath sharedLib) {
+      this.sharedLib = Objects.requireNonNull(sharedLib, "sharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSharedLib() sharedLib} to sharedLib.
+     * @param sharedLib The value for sharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSharedLib(Optional<? extends SourcePath> sharedLib) {
+      this.sharedLib = sharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSharedLib(PatternMatchedCollection<SourcePath> platformSharedLib) {
+      this.platformSharedLib = Objects.requireNonNull(platformSharedLib, "platformSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformSharedLib() platformSharedLib} to platformSharedLib.
+     * @param platformSharedLib The value for platformSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSharedLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformSharedLib) {
+      this.platformSharedLib = platformSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSharedLib(VersionMatchedCollection<SourcePath> versionedSharedLib) {
+      this.versionedSharedLib = Objects.requireNonNull(versionedSharedLib, "versionedSharedLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedSharedLib() versionedSharedLib} to versionedSharedLib.
+     * @param versionedSharedLib The value for versionedSharedLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSharedLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedSharedLib) {
+      this.versionedSharedLib = versionedSharedLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLib(SourcePath staticLib) {
+      this.staticLib = Objects.requireNonNull(staticLib, "staticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticLib() staticLib} to staticLib.
+     * @param staticLib The value for staticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticLib(Optional<? extends SourcePath> staticLib) {
+      this.staticLib = staticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticLib(PatternMatchedCollection<SourcePath> platformStaticLib) {
+      this.platformStaticLib = Objects.requireNonNull(platformStaticLib, "platformStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticLib() platformStaticLib} to platformStaticLib.
+     * @param platformStaticLib The value for platformStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticLib) {
+      this.platformStaticLib = platformStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticLib(VersionMatchedCollection<SourcePath> versionedStaticLib) {
+      this.versionedStaticLib = Objects.requireNonNull(versionedStaticLib, "versionedStaticLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticLib() versionedStaticLib} to versionedStaticLib.
+     * @param versionedStaticLib The value for versionedStaticLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticLib) {
+      this.versionedStaticLib = versionedStaticLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicLib(SourcePath staticPicLib) {
+      this.staticPicLib = Objects.requireNonNull(staticPicLib, "staticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getStaticPicLib() staticPicLib} to staticPicLib.
+     * @param staticPicLib The value for staticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStaticPicLib(Optional<? extends SourcePath> staticPicLib) {
+      this.staticPicLib = staticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticPicLib(PatternMatchedCollection<SourcePath> platformStaticPicLib) {
+      this.platformStaticPicLib = Objects.requireNonNull(platformStaticPicLib, "platformStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPlatformStaticPicLib() platformStaticPicLib} to platformStaticPicLib.
+     * @param platformStaticPicLib The value for platformStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformStaticPicLib(Optional<? extends PatternMatchedCollection<SourcePath>> platformStaticPicLib) {
+      this.platformStaticPicLib = platformStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticPicLib(VersionMatchedCollection<SourcePath> versionedStaticPicLib) {
+      this.versionedStaticPicLib = Objects.requireNonNull(versionedStaticPicLib, "versionedStaticPicLib");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedStaticPicLib() versionedStaticPicLib} to versionedStaticPicLib.
+     * @param versionedStaticPicLib The value for versionedStaticPicLib
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedStaticPicLib(Optional<? extends VersionMatchedCollection<SourcePath>> versionedStaticPicLib) {
+      this.versionedStaticPicLib = versionedStaticPicLib.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isHeaderOnly() headerOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isHeaderOnly() headerOnly}.</em>
+     * @param headerOnly The value for headerOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderOnly(boolean headerOnly) {
+      this.headerOnly = headerOnly;
+      optBits |= OPT_BIT_HEADER_ONLY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedHeaders() exportedHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedHeaders() exportedHeaders}.</em>
+     * @param exportedHeaders The value for exportedHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedHeaders(SourceSortedSet exportedHeaders) {
+      this.exportedHeaders = Objects.requireNonNull(exportedHeaders, "exportedHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformHeaders() exportedPlatformHeaders}.</em>
+     * @param exportedPlatformHeaders The value for exportedPlatformHeaders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformHeaders(PatternMatchedCollection<SourceSortedSet> exportedPlatformHeaders) {
+      this.exportedPlatformHeaders = Objects.requireNonNull(exportedPlatformHeaders, "exportedPlatformHeaders");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderNamespace(String headerNamespace) {
+      this.headerNamespace = Objects.requireNonNull(headerNamespace, "headerNamespace");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getHeaderNamespace() headerNamespace} to headerNamespace.
+     * @param headerNamespace The value for headerNamespace
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHeaderNamespace(Optional<String> headerNamespace) {
+      this.headerNamespace = headerNamespace.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isProvided() provided} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isProvided() provided}.</em>
+     * @param provided The value for provided 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProvided(boolean provided) {
+      this.provided = provided;
+      optBits |= OPT_BIT_PROVIDED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isLinkWhole() linkWhole} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isLinkWhole() linkWhole}.</em>
+     * @param linkWhole The value for linkWhole 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkWhole(boolean linkWhole) {
+      this.linkWhole = linkWhole;
+      optBits |= OPT_BIT_LINK_WHOLE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isForceStatic() forceStatic} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isForceStatic() forceStatic}.</em>
+     * @param forceStatic The value for forceStatic 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setForceStatic(boolean forceStatic) {
+      this.forceStatic = forceStatic;
+      optBits |= OPT_BIT_FORCE_STATIC;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreferredLinkage(NativeLinkable.Linkage preferredLinkage) {
+      this.preferredLinkage = Objects.requireNonNull(preferredLinkage, "preferredLinkage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getPreferredLinkage() preferredLinkage} to preferredLinkage.
+     * @param preferredLinkage The value for preferredLinkage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreferredLinkage(Optional<? extends NativeLinkable.Linkage> preferredLinkage) {
+      this.preferredLinkage = preferredLinkage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param element A exportedPreprocessorFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPreprocessorFlags(StringWithMacros element) {
+      this.exportedPreprocessorFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An array of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPreprocessorFlags(StringWithMacros... elements) {
+      this.exportedPreprocessorFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPreprocessorFlags = ImmutableList.builder();
+      return addAllExportedPreprocessorFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPreprocessorFlags() exportedPreprocessorFlags} list.
+     * @param elements An iterable of exportedPreprocessorFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedPreprocessorFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedPreprocessorFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformPreprocessorFlags() exportedPlatformPreprocessorFlags}.</em>
+     * @param exportedPlatformPreprocessorFlags The value for exportedPlatformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformPreprocessorFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformPreprocessorFlags) {
+      this.exportedPlatformPreprocessorFlags = Objects.requireNonNull(exportedPlatformPreprocessorFlags, "exportedPlatformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map.
+     * @param key The key in the exportedLangPreprocessorFlags map
+     * @param value The associated value in the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPreprocessorFlags(CxxSource.Type key, ImmutableList<StringWithMacros> value) {
+      this.exportedLangPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> entry) {
+      this.exportedLangPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPreprocessorFlags The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags) {
+      this.exportedLangPreprocessorFlags = ImmutableMap.builder();
+      return putAllExportedLangPreprocessorFlags(exportedLangPreprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPreprocessorFlags() exportedLangPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPreprocessorFlags The entries that will be added to the exportedLangPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExportedLangPreprocessorFlags(Map<? extends CxxSource.Type, ? extends ImmutableList<StringWithMacros>> exportedLangPreprocessorFlags) {
+      this.exportedLangPreprocessorFlags.putAll(exportedLangPreprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map.
+     * @param key The key in the exportedLangPlatformPreprocessorFlags map
+     * @param value The associated value in the exportedLangPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPlatformPreprocessorFlags(CxxSource.Type key, PatternMatchedCollection<ImmutableList<StringWithMacros>> value) {
+      this.exportedLangPlatformPreprocessorFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putExportedLangPlatformPreprocessorFlags(Map.Entry<? extends CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> entry) {
+      this.exportedLangPlatformPreprocessorFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPlatformPreprocessorFlags The entries that will be added to the exportedLangPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedLangPlatformPreprocessorFlags(Map<? extends CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> exportedLangPlatformPreprocessorFlags) {
+      this.exportedLangPlatformPreprocessorFlags = ImmutableMap.builder();
+      return putAllExportedLangPlatformPreprocessorFlags(exportedLangPlatformPreprocessorFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLangPlatformPreprocessorFlags() exportedLangPlatformPreprocessorFlags} map. Nulls are not permitted
+     * @param exportedLangPlatformPreprocessorFlags The entries that will be added to the exportedLangPlatformPreprocessorFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllExportedLangPlatformPreprocessorFlags(Map<? extends CxxSource.Type, ? extends PatternMatchedCollection<ImmutableList<StringWithMacros>>> exportedLangPlatformPreprocessorFlags) {
+      this.exportedLangPlatformPreprocessorFlags.putAll(exportedLangPlatformPreprocessorFlags);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedPreprocessorFlags() versionedExportedPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedPreprocessorFlags() versionedExportedPreprocessorFlags}.</em>
+     * @param versionedExportedPreprocessorFlags The value for versionedExportedPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedExportedPreprocessorFlags(VersionMatchedCollection<ImmutableList<StringWithMacros>> versionedExportedPreprocessorFlags) {
+      this.versionedExportedPreprocessorFlags = Objects.requireNonNull(versionedExportedPreprocessorFlags, "versionedExportedPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedPlatformPreprocessorFlags() versionedExportedPlatformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedPlatformPreprocessorFlags() versionedExportedPlatformPreprocessorFlags}.</em>
+     * @param versionedExportedPlatformPreprocessorFlags The value for versionedExportedPlatformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedExportedPlatformPreprocessorFlags(VersionMatchedCollection<PatternMatchedCollection<ImmutableList<StringWithMacros>>> versionedExportedPlatformPreprocessorFlags) {
+      this.versionedExportedPlatformPreprocessorFlags = Objects.requireNonNull(versionedExportedPlatformPreprocessorFlags, "versionedExportedPlatformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedLangPreprocessorFlags() versionedExportedLangPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedLangPreprocessorFlags() versionedExportedLangPreprocessorFlags}.</em>
+     * @param versionedExportedLangPreprocessorFlags The value for versionedExportedLangPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedExportedLangPreprocessorFlags(VersionMatchedCollection<ImmutableMap<CxxSource.Type, ImmutableList<StringWithMacros>>> versionedExportedLangPreprocessorFlags) {
+      this.versionedExportedLangPreprocessorFlags = Objects.requireNonNull(versionedExportedLangPreprocessorFlags, "versionedExportedLangPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedLangPlatformPreprocessorFlags() versionedExportedLangPlatformPreprocessorFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getVersionedExportedLangPlatformPreprocessorFlags() versionedExportedLangPlatformPreprocessorFlags}.</em>
+     * @param versionedExportedLangPlatformPreprocessorFlags The value for versionedExportedLangPlatformPreprocessorFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedExportedLangPlatformPreprocessorFlags(VersionMatchedCollection<ImmutableMap<CxxSource.Type, PatternMatchedCollection<ImmutableList<StringWithMacros>>>> versionedExportedLangPlatformPreprocessorFlags) {
+      this.versionedExportedLangPlatformPreprocessorFlags = Objects.requireNonNull(versionedExportedLangPlatformPreprocessorFlags, "versionedExportedLangPlatformPreprocessorFlags");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param element A exportedLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedLinkerFlags(StringWithMacros element) {
+      this.exportedLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An array of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedLinkerFlags(StringWithMacros... elements) {
+      this.exportedLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedLinkerFlags = ImmutableList.builder();
+      return addAllExportedLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedLinkerFlags() exportedLinkerFlags} list.
+     * @param elements An iterable of exportedLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.exportedLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param element A exportedPostLinkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPostLinkerFlags(String element) {
+      this.exportedPostLinkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param elements An array of exportedPostLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedPostLinkerFlags(String... elements) {
+      this.exportedPostLinkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param elements An iterable of exportedPostLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPostLinkerFlags(Iterable<String> elements) {
+      this.exportedPostLinkerFlags = ImmutableList.builder();
+      return addAllExportedPostLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPostLinkerFlags() exportedPostLinkerFlags} list.
+     * @param elements An iterable of exportedPostLinkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedPostLinkerFlags(Iterable<String> elements) {
+      this.exportedPostLinkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPlatformLinkerFlags() exportedPlatformLinkerFlags}.</em>
+     * @param exportedPlatformLinkerFlags The value for exportedPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<StringWithMacros>> exportedPlatformLinkerFlags) {
+      this.exportedPlatformLinkerFlags = Objects.requireNonNull(exportedPlatformLinkerFlags, "exportedPlatformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPostPlatformLinkerFlags() exportedPostPlatformLinkerFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedPostPlatformLinkerFlags() exportedPostPlatformLinkerFlags}.</em>
+     * @param exportedPostPlatformLinkerFlags The value for exportedPostPlatformLinkerFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedPostPlatformLinkerFlags(PatternMatchedCollection<ImmutableList<String>> exportedPostPlatformLinkerFlags) {
+      this.exportedPostPlatformLinkerFlags = Objects.requireNonNull(exportedPostPlatformLinkerFlags, "exportedPostPlatformLinkerFlags");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(String soname) {
+      this.soname = Objects.requireNonNull(soname, "soname");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSoname() soname} to soname.
+     * @param soname The value for soname
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSoname(Optional<String> soname) {
+      this.soname = soname.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLinkWithoutSoname() linkWithoutSoname} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLinkWithoutSoname() linkWithoutSoname}.</em>
+     * @param linkWithoutSoname The value for linkWithoutSoname 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkWithoutSoname(boolean linkWithoutSoname) {
+      this.linkWithoutSoname = linkWithoutSoname;
+      optBits |= OPT_BIT_LINK_WITHOUT_SONAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getCanBeAsset() canBeAsset} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getCanBeAsset() canBeAsset}.</em>
+     * @param canBeAsset The value for canBeAsset 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCanBeAsset(boolean canBeAsset) {
+      this.canBeAsset = canBeAsset;
+      optBits |= OPT_BIT_CAN_BE_ASSET;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param element A frameworks element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworks(FrameworkPath element) {
+      this.frameworks.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An array of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworks(FrameworkPath... elements) {
+      this.frameworks.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks = ImmutableSortedSet.naturalOrder();
+      return addAllFrameworks(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getFrameworks() frameworks} sortedSet.
+     * @param elements An iterable of frameworks elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFrameworks(Iterable<? extends FrameworkPath> elements) {
+      this.frameworks.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param element A libraries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLibraries(FrameworkPath element) {
+      this.libraries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An array of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLibraries(FrameworkPath... elements) {
+      this.libraries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries = ImmutableSortedSet.naturalOrder();
+      return addAllLibraries(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLibraries() libraries} sortedSet.
+     * @param elements An iterable of libraries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLibraries(Iterable<? extends FrameworkPath> elements) {
+      this.libraries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param element A exportedDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget element) {
+      this.exportedDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An array of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addExportedDeps(BuildTarget... elements) {
+      this.exportedDeps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps = ImmutableSortedSet.naturalOrder();
+      return addAllExportedDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getExportedDeps() exportedDeps} sortedSet.
+     * @param elements An iterable of exportedDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllExportedDeps(Iterable<? extends BuildTarget> elements) {
+      this.exportedDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportedPlatformsRegex(Pattern supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = Objects.requireNonNull(supportedPlatformsRegex, "supportedPlatformsRegex");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportedPlatformsRegex() supportedPlatformsRegex} to supportedPlatformsRegex.
+     * @param supportedPlatformsRegex The value for supportedPlatformsRegex
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportedPlatformsRegex(Optional<? extends Pattern> supportedPlatformsRegex) {
+      this.supportedPlatformsRegex = supportedPlatformsRegex.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isSupportsSharedLibraryInterface() supportsSharedLibraryInterface} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#isSupportsSharedLibraryInterface() supportsSharedLibraryInterface}.</em>
+     * @param supportsSharedLibraryInterface The value for supportsSharedLibraryInterface 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsSharedLibraryInterface(boolean supportsSharedLibraryInterface) {
+      this.supportsSharedLibraryInterface = supportsSharedLibraryInterface;
+      optBits |= OPT_BIT_SUPPORTS_SHARED_LIBRARY_INTERFACE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} to supportsMergedLinking.
+     * @param supportsMergedLinking The value for supportsMergedLinking
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsMergedLinking(boolean supportsMergedLinking) {
+      this.supportsMergedLinking = supportsMergedLinking;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getSupportsMergedLinking() supportsMergedLinking} to supportsMergedLinking.
+     * @param supportsMergedLinking The value for supportsMergedLinking
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsMergedLinking(Optional<Boolean> supportsMergedLinking) {
+      this.supportsMergedLinking = supportsMergedLinking.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PrebuiltCxxLibraryDescription.AbstractPrebuiltCxxLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PrebuiltCxxLibraryDescriptionArg PrebuiltCxxLibraryDescriptionArg}.
+     * @return An immutable instance of PrebuiltCxxLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PrebuiltCxxLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PrebuiltCxxLibraryDescriptionArg(this);
+    }
+
+    private boolean headerOnlyIsSet() {
+      return (optBits & OPT_BIT_HEADER_ONLY) != 0;
+    }
+
+    private boolean providedIsSet() {
+      return (optBits & OPT_BIT_PROVIDED) != 0;
+    }
+
+    private boolean linkWholeIsSet() {
+      return (optBits & OPT_BIT_LINK_WHOLE) != 0;
+    }
+
+    private boolean forceStaticIsSet() {
+      return (optBits & OPT_BIT_FORCE_STATIC) != 0;
+    }
+
+    private boolean linkWithoutSonameIsSet() {
+      return (optBits & OPT_BIT_LINK_WITHOUT_SONAME) != 0;
+    }
+
+    private boolean canBeAssetIsSet() {
+      return (optBits & OPT_BIT_CAN_BE_ASSET) != 0;
+    }
+
+    private boolean supportsSharedLibraryInterfaceIsSet() {
+      return (optBits & OPT_BIT_SUPPORTS_SHARED_LIBRARY_INTERFACE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PrebuiltCxxLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
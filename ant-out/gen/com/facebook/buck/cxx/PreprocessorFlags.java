@@ -0,0 +1,528 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPreprocessorFlags}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PreprocessorFlags.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code PreprocessorFlags.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPreprocessorFlags"})
+@Immutable
+@CheckReturnValue
+public final class PreprocessorFlags extends AbstractPreprocessorFlags {
+  private final @Nullable SourcePath prefixHeader;
+  private final CxxToolFlags otherFlags;
+  private final ImmutableList<CxxHeaders> includes;
+  private final ImmutableList<FrameworkPath> frameworkPaths;
+  private final CxxIncludePaths cxxIncludePaths;
+
+  private PreprocessorFlags(
+      Optional<? extends SourcePath> prefixHeader,
+      CxxToolFlags otherFlags,
+      Iterable<? extends CxxHeaders> includes,
+      Iterable<? extends FrameworkPath> frameworkPaths) {
+    this.prefixHeader = prefixHeader.orElse(null);
+    this.otherFlags = Objects.requireNonNull(otherFlags, "otherFlags");
+    this.includes = ImmutableList.copyOf(includes);
+    this.frameworkPaths = ImmutableList.copyOf(frameworkPaths);
+    initShim.setOtherFlags(this.otherFlags);
+    this.cxxIncludePaths = initShim.getCxxIncludePaths();
+    this.initShim = null;
+  }
+
+  private PreprocessorFlags(PreprocessorFlags.Builder builder) {
+    this.prefixHeader = builder.prefixHeader;
+    this.includes = builder.includes.build();
+    this.frameworkPaths = builder.frameworkPaths.build();
+    if (builder.otherFlags != null) {
+      initShim.setOtherFlags(builder.otherFlags);
+    }
+    this.otherFlags = initShim.getOtherFlags();
+    this.cxxIncludePaths = initShim.getCxxIncludePaths();
+    this.initShim = null;
+  }
+
+  private PreprocessorFlags(
+      PreprocessorFlags original,
+      @Nullable SourcePath prefixHeader,
+      CxxToolFlags otherFlags,
+      ImmutableList<CxxHeaders> includes,
+      ImmutableList<FrameworkPath> frameworkPaths) {
+    this.prefixHeader = prefixHeader;
+    this.otherFlags = otherFlags;
+    this.includes = includes;
+    this.frameworkPaths = frameworkPaths;
+    initShim.setOtherFlags(this.otherFlags);
+    this.cxxIncludePaths = initShim.getCxxIncludePaths();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private CxxToolFlags otherFlags;
+    private int otherFlagsBuildStage;
+
+    CxxToolFlags getOtherFlags() {
+      if (otherFlagsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (otherFlagsBuildStage == STAGE_UNINITIALIZED) {
+        otherFlagsBuildStage = STAGE_INITIALIZING;
+        this.otherFlags = Objects.requireNonNull(PreprocessorFlags.super.getOtherFlags(), "otherFlags");
+        otherFlagsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.otherFlags;
+    }
+
+    void setOtherFlags(CxxToolFlags otherFlags) {
+      this.otherFlags = otherFlags;
+      otherFlagsBuildStage = STAGE_INITIALIZED;
+    }
+    private CxxIncludePaths cxxIncludePaths;
+    private int cxxIncludePathsBuildStage;
+
+    CxxIncludePaths getCxxIncludePaths() {
+      if (cxxIncludePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cxxIncludePathsBuildStage == STAGE_UNINITIALIZED) {
+        cxxIncludePathsBuildStage = STAGE_INITIALIZING;
+        this.cxxIncludePaths = Objects.requireNonNull(PreprocessorFlags.super.getCxxIncludePaths(), "cxxIncludePaths");
+        cxxIncludePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cxxIncludePaths;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (otherFlagsBuildStage == STAGE_INITIALIZING) attributes.add("otherFlags");
+      if (cxxIncludePathsBuildStage == STAGE_INITIALIZING) attributes.add("cxxIncludePaths");
+      return "Cannot build PreprocessorFlags, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   *File set via {@code -include}. 
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   *Other flags included as is. 
+   */
+  @Override
+  public CxxToolFlags getOtherFlags() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOtherFlags()
+        : this.otherFlags;
+  }
+
+  /**
+   *Directories set via {@code -I}. 
+   */
+  @Override
+  public ImmutableList<CxxHeaders> getIncludes() {
+    return includes;
+  }
+
+  /**
+   *Directories set via {@code -F}. 
+   */
+  @Override
+  public ImmutableList<FrameworkPath> getFrameworkPaths() {
+    return frameworkPaths;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cxxIncludePaths} attribute
+   */
+  @Override
+  public CxxIncludePaths getCxxIncludePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCxxIncludePaths()
+        : this.cxxIncludePaths;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractPreprocessorFlags#getPrefixHeader() prefixHeader} attribute.
+   * @param value The value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorFlags withPrefixHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "prefixHeader");
+    if (this.prefixHeader == newValue) return this;
+    return new PreprocessorFlags(this, newValue, this.otherFlags, this.includes, this.frameworkPaths);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractPreprocessorFlags#getPrefixHeader() prefixHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorFlags withPrefixHeader(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.prefixHeader == value) return this;
+    return new PreprocessorFlags(this, value, this.otherFlags, this.includes, this.frameworkPaths);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPreprocessorFlags#getOtherFlags() otherFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for otherFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final PreprocessorFlags withOtherFlags(CxxToolFlags value) {
+    if (this.otherFlags == value) return this;
+    CxxToolFlags newValue = Objects.requireNonNull(value, "otherFlags");
+    return new PreprocessorFlags(this, this.prefixHeader, newValue, this.includes, this.frameworkPaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPreprocessorFlags#getIncludes() includes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorFlags withIncludes(CxxHeaders... elements) {
+    ImmutableList<CxxHeaders> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessorFlags(this, this.prefixHeader, this.otherFlags, newValue, this.frameworkPaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPreprocessorFlags#getIncludes() includes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorFlags withIncludes(Iterable<? extends CxxHeaders> elements) {
+    if (this.includes == elements) return this;
+    ImmutableList<CxxHeaders> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessorFlags(this, this.prefixHeader, this.otherFlags, newValue, this.frameworkPaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPreprocessorFlags#getFrameworkPaths() frameworkPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorFlags withFrameworkPaths(FrameworkPath... elements) {
+    ImmutableList<FrameworkPath> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessorFlags(this, this.prefixHeader, this.otherFlags, this.includes, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPreprocessorFlags#getFrameworkPaths() frameworkPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of frameworkPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorFlags withFrameworkPaths(Iterable<? extends FrameworkPath> elements) {
+    if (this.frameworkPaths == elements) return this;
+    ImmutableList<FrameworkPath> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessorFlags(this, this.prefixHeader, this.otherFlags, this.includes, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PreprocessorFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PreprocessorFlags
+        && equalTo((PreprocessorFlags) another);
+  }
+
+  private boolean equalTo(PreprocessorFlags another) {
+    return Objects.equals(prefixHeader, another.prefixHeader)
+        && otherFlags.equals(another.otherFlags)
+        && includes.equals(another.includes)
+        && frameworkPaths.equals(another.frameworkPaths)
+        && cxxIncludePaths.equals(another.cxxIncludePaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code prefixHeader}, {@code otherFlags}, {@code includes}, {@code frameworkPaths}, {@code cxxIncludePaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(prefixHeader);
+    h += (h << 5) + otherFlags.hashCode();
+    h += (h << 5) + includes.hashCode();
+    h += (h << 5) + frameworkPaths.hashCode();
+    h += (h << 5) + cxxIncludePaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PreprocessorFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreprocessorFlags")
+        .omitNullValues()
+        .add("prefixHeader", prefixHeader)
+        .add("otherFlags", otherFlags)
+        .add("includes", includes)
+        .add("frameworkPaths", frameworkPaths)
+        .add("cxxIncludePaths", cxxIncludePaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PreprocessorFlags} instance.
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param otherFlags The value for the {@code otherFlags} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param frameworkPaths The value for the {@code frameworkPaths} attribute
+   * @return An immutable PreprocessorFlags instance
+   */
+  public static PreprocessorFlags of(Optional<SourcePath> prefixHeader, CxxToolFlags otherFlags, ImmutableList<CxxHeaders> includes, ImmutableList<FrameworkPath> frameworkPaths) {
+    return of(prefixHeader, otherFlags, (Iterable<? extends CxxHeaders>) includes, (Iterable<? extends FrameworkPath>) frameworkPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code PreprocessorFlags} instance.
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param otherFlags The value for the {@code otherFlags} attribute
+   * @param includes The value for the {@code includes} attribute
+   * @param frameworkPaths The value for the {@code frameworkPaths} attribute
+   * @return An immutable PreprocessorFlags instance
+   */
+  public static PreprocessorFlags of(Optional<? extends SourcePath> prefixHeader, CxxToolFlags otherFlags, Iterable<? extends CxxHeaders> includes, Iterable<? extends FrameworkPath> frameworkPaths) {
+    return new PreprocessorFlags(prefixHeader, otherFlags, includes, frameworkPaths);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPreprocessorFlags} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PreprocessorFlags instance
+   */
+  static PreprocessorFlags copyOf(AbstractPreprocessorFlags instance) {
+    if (instance instanceof PreprocessorFlags) {
+      return (PreprocessorFlags) instance;
+    }
+    return PreprocessorFlags.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PreprocessorFlags PreprocessorFlags}.
+   * @return A new PreprocessorFlags builder
+   */
+  public static PreprocessorFlags.Builder builder() {
+    return new PreprocessorFlags.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PreprocessorFlags PreprocessorFlags}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable CxxToolFlags otherFlags;
+    private ImmutableList.Builder<CxxHeaders> includes = ImmutableList.builder();
+    private ImmutableList.Builder<FrameworkPath> frameworkPaths = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PreprocessorFlags} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PreprocessorFlags instance) {
+      return from((AbstractPreprocessorFlags) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPreprocessorFlags} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractPreprocessorFlags instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+      if (prefixHeaderOptional.isPresent()) {
+        setPrefixHeader(prefixHeaderOptional);
+      }
+      setOtherFlags(instance.getOtherFlags());
+      addAllIncludes(instance.getIncludes());
+      addAllFrameworkPaths(instance.getFrameworkPaths());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPreprocessorFlags#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Objects.requireNonNull(prefixHeader, "prefixHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractPreprocessorFlags#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPrefixHeader(Optional<? extends SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPreprocessorFlags#getOtherFlags() otherFlags} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPreprocessorFlags#getOtherFlags() otherFlags}.</em>
+     * @param otherFlags The value for otherFlags 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOtherFlags(CxxToolFlags otherFlags) {
+      this.otherFlags = Objects.requireNonNull(otherFlags, "otherFlags");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractPreprocessorFlags#getIncludes() includes} list.
+     * @param element A includes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludes(CxxHeaders element) {
+      this.includes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPreprocessorFlags#getIncludes() includes} list.
+     * @param elements An array of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addIncludes(CxxHeaders... elements) {
+      this.includes.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPreprocessorFlags#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes = ImmutableList.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPreprocessorFlags#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllIncludes(Iterable<? extends CxxHeaders> elements) {
+      this.includes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractPreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param element A frameworkPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworkPaths(FrameworkPath element) {
+      this.frameworkPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractPreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param elements An array of frameworkPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addFrameworkPaths(FrameworkPath... elements) {
+      this.frameworkPaths.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractPreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param elements An iterable of frameworkPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFrameworkPaths(Iterable<? extends FrameworkPath> elements) {
+      this.frameworkPaths = ImmutableList.builder();
+      return addAllFrameworkPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractPreprocessorFlags#getFrameworkPaths() frameworkPaths} list.
+     * @param elements An iterable of frameworkPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllFrameworkPaths(Iterable<? extends FrameworkPath> elements) {
+      this.frameworkPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PreprocessorFlags PreprocessorFlags}.
+     * @return An immutable instance of PreprocessorFlags
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PreprocessorFlags build() {
+      return new PreprocessorFlags(this);
+    }
+  }
+}
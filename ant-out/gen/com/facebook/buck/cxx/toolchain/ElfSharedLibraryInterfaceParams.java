@@ -0,0 +1,198 @@
+package com.facebook.buck.cxx.toolchain;
+
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractElfSharedLibraryInterfaceParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ElfSharedLibraryInterfaceParams.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfSharedLibraryInterfaceParams"})
+@Immutable
+@CheckReturnValue
+public final class ElfSharedLibraryInterfaceParams
+    extends AbstractElfSharedLibraryInterfaceParams {
+  private final ToolProvider objcopy;
+  private final ImmutableList<String> ldflags;
+  private final boolean removeUndefinedSymbols;
+
+  private ElfSharedLibraryInterfaceParams(
+      ToolProvider objcopy,
+      Iterable<String> ldflags,
+      boolean removeUndefinedSymbols) {
+    this.objcopy = Objects.requireNonNull(objcopy, "objcopy");
+    this.ldflags = ImmutableList.copyOf(ldflags);
+    this.removeUndefinedSymbols = removeUndefinedSymbols;
+  }
+
+  private ElfSharedLibraryInterfaceParams(
+      ElfSharedLibraryInterfaceParams original,
+      ToolProvider objcopy,
+      ImmutableList<String> ldflags,
+      boolean removeUndefinedSymbols) {
+    this.objcopy = objcopy;
+    this.ldflags = ldflags;
+    this.removeUndefinedSymbols = removeUndefinedSymbols;
+  }
+
+  /**
+   * @return The value of the {@code objcopy} attribute
+   */
+  @Override
+  public ToolProvider getObjcopy() {
+    return objcopy;
+  }
+
+  /**
+   * @return The value of the {@code ldflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdflags() {
+    return ldflags;
+  }
+
+  /**
+   * @return The value of the {@code removeUndefinedSymbols} attribute
+   */
+  @Override
+  public boolean isRemoveUndefinedSymbols() {
+    return removeUndefinedSymbols;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSharedLibraryInterfaceParams#getObjcopy() objcopy} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for objcopy
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSharedLibraryInterfaceParams withObjcopy(ToolProvider value) {
+    if (this.objcopy == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "objcopy");
+    return new ElfSharedLibraryInterfaceParams(this, newValue, this.ldflags, this.removeUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfSharedLibraryInterfaceParams#getLdflags() ldflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfSharedLibraryInterfaceParams withLdflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ElfSharedLibraryInterfaceParams(this, this.objcopy, newValue, this.removeUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfSharedLibraryInterfaceParams#getLdflags() ldflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ldflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfSharedLibraryInterfaceParams withLdflags(Iterable<String> elements) {
+    if (this.ldflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ElfSharedLibraryInterfaceParams(this, this.objcopy, newValue, this.removeUndefinedSymbols);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfSharedLibraryInterfaceParams#isRemoveUndefinedSymbols() removeUndefinedSymbols} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for removeUndefinedSymbols
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSharedLibraryInterfaceParams withRemoveUndefinedSymbols(boolean value) {
+    if (this.removeUndefinedSymbols == value) return this;
+    return new ElfSharedLibraryInterfaceParams(this, this.objcopy, this.ldflags, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfSharedLibraryInterfaceParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfSharedLibraryInterfaceParams
+        && equalTo((ElfSharedLibraryInterfaceParams) another);
+  }
+
+  private boolean equalTo(ElfSharedLibraryInterfaceParams another) {
+    return objcopy.equals(another.objcopy)
+        && ldflags.equals(another.ldflags)
+        && removeUndefinedSymbols == another.removeUndefinedSymbols;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code objcopy}, {@code ldflags}, {@code removeUndefinedSymbols}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + objcopy.hashCode();
+    h += (h << 5) + ldflags.hashCode();
+    h += (h << 5) + Booleans.hashCode(removeUndefinedSymbols);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSharedLibraryInterfaceParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSharedLibraryInterfaceParams")
+        .omitNullValues()
+        .add("objcopy", objcopy)
+        .add("ldflags", ldflags)
+        .add("removeUndefinedSymbols", removeUndefinedSymbols)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSharedLibraryInterfaceParams} instance.
+   * @param objcopy The value for the {@code objcopy} attribute
+   * @param ldflags The value for the {@code ldflags} attribute
+   * @param removeUndefinedSymbols The value for the {@code removeUndefinedSymbols} attribute
+   * @return An immutable ElfSharedLibraryInterfaceParams instance
+   */
+  public static ElfSharedLibraryInterfaceParams of(ToolProvider objcopy, ImmutableList<String> ldflags, boolean removeUndefinedSymbols) {
+    return of(objcopy, (Iterable<String>) ldflags, removeUndefinedSymbols);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSharedLibraryInterfaceParams} instance.
+   * @param objcopy The value for the {@code objcopy} attribute
+   * @param ldflags The value for the {@code ldflags} attribute
+   * @param removeUndefinedSymbols The value for the {@code removeUndefinedSymbols} attribute
+   * @return An immutable ElfSharedLibraryInterfaceParams instance
+   */
+  public static ElfSharedLibraryInterfaceParams of(ToolProvider objcopy, Iterable<String> ldflags, boolean removeUndefinedSymbols) {
+    return new ElfSharedLibraryInterfaceParams(objcopy, ldflags, removeUndefinedSymbols);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfSharedLibraryInterfaceParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfSharedLibraryInterfaceParams instance
+   */
+  static ElfSharedLibraryInterfaceParams copyOf(AbstractElfSharedLibraryInterfaceParams instance) {
+    if (instance instanceof ElfSharedLibraryInterfaceParams) {
+      return (ElfSharedLibraryInterfaceParams) instance;
+    }
+    return ElfSharedLibraryInterfaceParams.of(instance.getObjcopy(), instance.getLdflags(), instance.isRemoveUndefinedSymbols());
+  }
+}
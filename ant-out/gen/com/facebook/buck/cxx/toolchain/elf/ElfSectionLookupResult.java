@@ -0,0 +1,138 @@
+package com.facebook.buck.cxx.toolchain.elf;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A tuple of section index and {@link ElfSection} object returned from lookup functions in this
+ * class.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Elf.AbstractElfSectionLookupResult"})
+@Immutable
+@CheckReturnValue
+public final class ElfSectionLookupResult
+    implements Elf.AbstractElfSectionLookupResult {
+  private final int index;
+  private final ElfSection section;
+
+  private ElfSectionLookupResult(int index, ElfSection section) {
+    this.index = index;
+    this.section = Objects.requireNonNull(section, "section");
+  }
+
+  private ElfSectionLookupResult(ElfSectionLookupResult original, int index, ElfSection section) {
+    this.index = index;
+    this.section = section;
+  }
+
+  /**
+   *@return the index of the section in the ELF file. 
+   */
+  @Override
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   *@return the parsed {@link ElfSection}. 
+   */
+  @Override
+  public ElfSection getSection() {
+    return section;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Elf.AbstractElfSectionLookupResult#getIndex() index} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for index
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSectionLookupResult withIndex(int value) {
+    if (this.index == value) return this;
+    return new ElfSectionLookupResult(this, value, this.section);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Elf.AbstractElfSectionLookupResult#getSection() section} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for section
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfSectionLookupResult withSection(ElfSection value) {
+    if (this.section == value) return this;
+    ElfSection newValue = Objects.requireNonNull(value, "section");
+    return new ElfSectionLookupResult(this, this.index, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfSectionLookupResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfSectionLookupResult
+        && equalTo((ElfSectionLookupResult) another);
+  }
+
+  private boolean equalTo(ElfSectionLookupResult another) {
+    return index == another.index
+        && section.equals(another.section);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code index}, {@code section}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + index;
+    h += (h << 5) + section.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfSectionLookupResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfSectionLookupResult")
+        .omitNullValues()
+        .add("index", index)
+        .add("section", section)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfSectionLookupResult} instance.
+   * @param index The value for the {@code index} attribute
+   * @param section The value for the {@code section} attribute
+   * @return An immutable ElfSectionLookupResult instance
+   */
+  public static ElfSectionLookupResult of(int index, ElfSection section) {
+    return new ElfSectionLookupResult(index, section);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link Elf.AbstractElfSectionLookupResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfSectionLookupResult instance
+   */
+  static ElfSectionLookupResult copyOf(Elf.AbstractElfSectionLookupResult instance) {
+    if (instance instanceof ElfSectionLookupResult) {
+      return (ElfSectionLookupResult) instance;
+    }
+    return ElfSectionLookupResult.of(instance.getIndex(), instance.getSection());
+  }
+}
@@ -0,0 +1,204 @@
+package com.facebook.buck.cxx.toolchain.nativelink;
+
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.facebook.buck.cxx.toolchain.linker.Linker;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractNativeLinkableCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code NativeLinkableCacheKey.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNativeLinkableCacheKey"})
+@Immutable
+@CheckReturnValue
+public final class NativeLinkableCacheKey
+    extends AbstractNativeLinkableCacheKey {
+  private final Flavor flavor;
+  private final Linker.LinkableDepType type;
+  private final boolean forceLinkWhole;
+  private final CxxPlatform cxxPlatform;
+
+  private NativeLinkableCacheKey(
+      Flavor flavor,
+      Linker.LinkableDepType type,
+      boolean forceLinkWhole,
+      CxxPlatform cxxPlatform) {
+    this.flavor = Objects.requireNonNull(flavor, "flavor");
+    this.type = Objects.requireNonNull(type, "type");
+    this.forceLinkWhole = forceLinkWhole;
+    this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+  }
+
+  private NativeLinkableCacheKey(
+      NativeLinkableCacheKey original,
+      Flavor flavor,
+      Linker.LinkableDepType type,
+      boolean forceLinkWhole,
+      CxxPlatform cxxPlatform) {
+    this.flavor = flavor;
+    this.type = type;
+    this.forceLinkWhole = forceLinkWhole;
+    this.cxxPlatform = cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public Linker.LinkableDepType getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code forceLinkWhole} attribute
+   */
+  @Override
+  public boolean getForceLinkWhole() {
+    return forceLinkWhole;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeLinkableCacheKey#getFlavor() flavor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flavor
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeLinkableCacheKey withFlavor(Flavor value) {
+    if (this.flavor == value) return this;
+    Flavor newValue = Objects.requireNonNull(value, "flavor");
+    return new NativeLinkableCacheKey(this, newValue, this.type, this.forceLinkWhole, this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeLinkableCacheKey#getType() type} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeLinkableCacheKey withType(Linker.LinkableDepType value) {
+    if (this.type == value) return this;
+    Linker.LinkableDepType newValue = Objects.requireNonNull(value, "type");
+    return new NativeLinkableCacheKey(this, this.flavor, newValue, this.forceLinkWhole, this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeLinkableCacheKey#getForceLinkWhole() forceLinkWhole} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for forceLinkWhole
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeLinkableCacheKey withForceLinkWhole(boolean value) {
+    if (this.forceLinkWhole == value) return this;
+    return new NativeLinkableCacheKey(this, this.flavor, this.type, value, this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeLinkableCacheKey#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeLinkableCacheKey withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Objects.requireNonNull(value, "cxxPlatform");
+    return new NativeLinkableCacheKey(this, this.flavor, this.type, this.forceLinkWhole, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NativeLinkableCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NativeLinkableCacheKey
+        && equalTo((NativeLinkableCacheKey) another);
+  }
+
+  private boolean equalTo(NativeLinkableCacheKey another) {
+    return flavor.equals(another.flavor)
+        && type.equals(another.type)
+        && forceLinkWhole == another.forceLinkWhole;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flavor}, {@code type}, {@code forceLinkWhole}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + flavor.hashCode();
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Booleans.hashCode(forceLinkWhole);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkableCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkableCacheKey")
+        .omitNullValues()
+        .add("flavor", flavor)
+        .add("type", type)
+        .add("forceLinkWhole", forceLinkWhole)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkableCacheKey} instance.
+   * @param flavor The value for the {@code flavor} attribute
+   * @param type The value for the {@code type} attribute
+   * @param forceLinkWhole The value for the {@code forceLinkWhole} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @return An immutable NativeLinkableCacheKey instance
+   */
+  public static NativeLinkableCacheKey of(Flavor flavor, Linker.LinkableDepType type, boolean forceLinkWhole, CxxPlatform cxxPlatform) {
+    return new NativeLinkableCacheKey(flavor, type, forceLinkWhole, cxxPlatform);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNativeLinkableCacheKey} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NativeLinkableCacheKey instance
+   */
+  static NativeLinkableCacheKey copyOf(AbstractNativeLinkableCacheKey instance) {
+    if (instance instanceof NativeLinkableCacheKey) {
+      return (NativeLinkableCacheKey) instance;
+    }
+    return NativeLinkableCacheKey.of(instance.getFlavor(), instance.getType(), instance.getForceLinkWhole(), instance.getCxxPlatform());
+  }
+}
@@ -0,0 +1,206 @@
+package com.facebook.buck.cxx.toolchain.objectfile;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractMachoHeader}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code MachoHeader.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code MachoHeader.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMachoHeader"})
+@Immutable
+@CheckReturnValue
+public final class MachoHeader extends AbstractMachoHeader {
+  private final int commandsCount;
+  private final boolean is64Bit;
+
+  private MachoHeader(int commandsCount, boolean is64Bit) {
+    this.commandsCount = commandsCount;
+    this.is64Bit = is64Bit;
+  }
+
+  private MachoHeader(MachoHeader.Builder builder) {
+    this.commandsCount = builder.commandsCount;
+    this.is64Bit = builder.is64Bit;
+  }
+
+  /**
+   * @return The value of the {@code commandsCount} attribute
+   */
+  @Override
+  public int getCommandsCount() {
+    return commandsCount;
+  }
+
+  /**
+   * @return The value of the {@code is64Bit} attribute
+   */
+  @Override
+  public boolean getIs64Bit() {
+    return is64Bit;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MachoHeader} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MachoHeader
+        && equalTo((MachoHeader) another);
+  }
+
+  private boolean equalTo(MachoHeader another) {
+    return commandsCount == another.commandsCount
+        && is64Bit == another.is64Bit;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code commandsCount}, {@code is64Bit}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + commandsCount;
+    h += (h << 5) + Booleans.hashCode(is64Bit);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoHeader} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoHeader")
+        .omitNullValues()
+        .add("commandsCount", commandsCount)
+        .add("is64Bit", is64Bit)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoHeader} instance.
+   * @param commandsCount The value for the {@code commandsCount} attribute
+   * @param is64Bit The value for the {@code is64Bit} attribute
+   * @return An immutable MachoHeader instance
+   */
+  public static MachoHeader of(int commandsCount, boolean is64Bit) {
+    return new MachoHeader(commandsCount, is64Bit);
+  }
+
+  /**
+   * Creates a builder for {@link MachoHeader MachoHeader}.
+   * @return A new MachoHeader builder
+   */
+  public static MachoHeader.Builder builder() {
+    return new MachoHeader.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link MachoHeader MachoHeader}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_COMMANDS_COUNT = 0x1L;
+    private static final long INIT_BIT_IS64_BIT = 0x2L;
+    private long initBits = 0x3L;
+
+    private int commandsCount;
+    private boolean is64Bit;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code MachoHeader} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(MachoHeader instance) {
+      return from((AbstractMachoHeader) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractMachoHeader} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractMachoHeader instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCommandsCount(instance.getCommandsCount());
+      setIs64Bit(instance.getIs64Bit());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractMachoHeader#getCommandsCount() commandsCount} attribute.
+     * @param commandsCount The value for commandsCount 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCommandsCount(int commandsCount) {
+      this.commandsCount = commandsCount;
+      initBits &= ~INIT_BIT_COMMANDS_COUNT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractMachoHeader#getIs64Bit() is64Bit} attribute.
+     * @param is64Bit The value for is64Bit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIs64Bit(boolean is64Bit) {
+      this.is64Bit = is64Bit;
+      initBits &= ~INIT_BIT_IS64_BIT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link MachoHeader MachoHeader}.
+     * @return An immutable instance of MachoHeader
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public MachoHeader build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new MachoHeader(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_COMMANDS_COUNT) != 0) attributes.add("commandsCount");
+      if ((initBits & INIT_BIT_IS64_BIT) != 0) attributes.add("is64Bit");
+      return "Cannot build MachoHeader, some of required attributes are not set " + attributes;
+    }
+  }
+}
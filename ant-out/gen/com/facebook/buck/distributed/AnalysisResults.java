@@ -0,0 +1,325 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AnalysisResults.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildPostBuildAnalysis.AbstractAnalysisResults"})
+@Immutable
+@CheckReturnValue
+public final class AnalysisResults
+    extends DistBuildPostBuildAnalysis.AbstractAnalysisResults {
+  private final ImmutableList<DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats> perRuleStats;
+
+  private AnalysisResults(AnalysisResults.Builder builder) {
+    this.perRuleStats = builder.perRuleStats.build();
+  }
+
+  /**
+   * @return The value of the {@code perRuleStats} attribute
+   */
+  @Override
+  public ImmutableList<DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats> perRuleStats() {
+    return perRuleStats;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AnalysisResults} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AnalysisResults
+        && equalTo((AnalysisResults) another);
+  }
+
+  private boolean equalTo(AnalysisResults another) {
+    return perRuleStats.equals(another.perRuleStats);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code perRuleStats}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + perRuleStats.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AnalysisResults} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AnalysisResults")
+        .omitNullValues()
+        .add("perRuleStats", perRuleStats)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long NUM_LOCAL_CACHE_MISSES_WITH_SUCCESSFUL_REMOTE_BUILD_LAZY_INIT_BIT = 0x1L;
+
+  private int numLocalCacheMissesWithSuccessfulRemoteBuild;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#numLocalCacheMissesWithSuccessfulRemoteBuild() numLocalCacheMissesWithSuccessfulRemoteBuild} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int numLocalCacheMissesWithSuccessfulRemoteBuild() {
+    if ((lazyInitBitmap & NUM_LOCAL_CACHE_MISSES_WITH_SUCCESSFUL_REMOTE_BUILD_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_LOCAL_CACHE_MISSES_WITH_SUCCESSFUL_REMOTE_BUILD_LAZY_INIT_BIT) == 0) {
+          this.numLocalCacheMissesWithSuccessfulRemoteBuild = super.numLocalCacheMissesWithSuccessfulRemoteBuild();
+          lazyInitBitmap |= NUM_LOCAL_CACHE_MISSES_WITH_SUCCESSFUL_REMOTE_BUILD_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numLocalCacheMissesWithSuccessfulRemoteBuild;
+  }
+
+  private static final long NUM_MISMATCHING_DEFAULT_RULE_KEYS_LAZY_INIT_BIT = 0x2L;
+
+  private int numMismatchingDefaultRuleKeys;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#numMismatchingDefaultRuleKeys() numMismatchingDefaultRuleKeys} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int numMismatchingDefaultRuleKeys() {
+    if ((lazyInitBitmap & NUM_MISMATCHING_DEFAULT_RULE_KEYS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_MISMATCHING_DEFAULT_RULE_KEYS_LAZY_INIT_BIT) == 0) {
+          this.numMismatchingDefaultRuleKeys = super.numMismatchingDefaultRuleKeys();
+          lazyInitBitmap |= NUM_MISMATCHING_DEFAULT_RULE_KEYS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numMismatchingDefaultRuleKeys;
+  }
+
+  private static final long NUM_MISMATCHING_INPUT_RULE_KEYS_LAZY_INIT_BIT = 0x4L;
+
+  private int numMismatchingInputRuleKeys;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#numMismatchingInputRuleKeys() numMismatchingInputRuleKeys} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int numMismatchingInputRuleKeys() {
+    if ((lazyInitBitmap & NUM_MISMATCHING_INPUT_RULE_KEYS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_MISMATCHING_INPUT_RULE_KEYS_LAZY_INIT_BIT) == 0) {
+          this.numMismatchingInputRuleKeys = super.numMismatchingInputRuleKeys();
+          lazyInitBitmap |= NUM_MISMATCHING_INPUT_RULE_KEYS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numMismatchingInputRuleKeys;
+  }
+
+  private static final long NUM_LOCAL_FAILED_RULES_LAZY_INIT_BIT = 0x8L;
+
+  private int numLocalFailedRules;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#numLocalFailedRules() numLocalFailedRules} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int numLocalFailedRules() {
+    if ((lazyInitBitmap & NUM_LOCAL_FAILED_RULES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_LOCAL_FAILED_RULES_LAZY_INIT_BIT) == 0) {
+          this.numLocalFailedRules = super.numLocalFailedRules();
+          lazyInitBitmap |= NUM_LOCAL_FAILED_RULES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numLocalFailedRules;
+  }
+
+  private static final long NUM_REMOTE_FAILED_RULES_LAZY_INIT_BIT = 0x10L;
+
+  private int numRemoteFailedRules;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#numRemoteFailedRules() numRemoteFailedRules} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int numRemoteFailedRules() {
+    if ((lazyInitBitmap & NUM_REMOTE_FAILED_RULES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_REMOTE_FAILED_RULES_LAZY_INIT_BIT) == 0) {
+          this.numRemoteFailedRules = super.numRemoteFailedRules();
+          lazyInitBitmap |= NUM_REMOTE_FAILED_RULES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numRemoteFailedRules;
+  }
+
+  private static final long NUM_MULTI_SLAVE_CACHE_MISSES_LAZY_INIT_BIT = 0x20L;
+
+  private int numMultiSlaveCacheMisses;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#numMultiSlaveCacheMisses() numMultiSlaveCacheMisses} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int numMultiSlaveCacheMisses() {
+    if ((lazyInitBitmap & NUM_MULTI_SLAVE_CACHE_MISSES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_MULTI_SLAVE_CACHE_MISSES_LAZY_INIT_BIT) == 0) {
+          this.numMultiSlaveCacheMisses = super.numMultiSlaveCacheMisses();
+          lazyInitBitmap |= NUM_MULTI_SLAVE_CACHE_MISSES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numMultiSlaveCacheMisses;
+  }
+
+  /**
+   * Creates a builder for {@link AnalysisResults AnalysisResults}.
+   * @return A new AnalysisResults builder
+   */
+  public static AnalysisResults.Builder builder() {
+    return new AnalysisResults.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AnalysisResults AnalysisResults}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats> perRuleStats = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AnalysisResults} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AnalysisResults instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractAnalysisResults) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAnalysisResults} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(DistBuildPostBuildAnalysis.AbstractAnalysisResults instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllPerRuleStats(instance.perRuleStats());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#perRuleStats() perRuleStats} list.
+     * @param element A perRuleStats element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPerRuleStats(DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats element) {
+      this.perRuleStats.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#perRuleStats() perRuleStats} list.
+     * @param elements An array of perRuleStats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPerRuleStats(DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats... elements) {
+      this.perRuleStats.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#perRuleStats() perRuleStats} list.
+     * @param elements An iterable of perRuleStats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPerRuleStats(Iterable<? extends DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats> elements) {
+      this.perRuleStats = ImmutableList.builder();
+      return addAllPerRuleStats(elements);
+    }
+
+    /**
+     * Adds elements to {@link DistBuildPostBuildAnalysis.AbstractAnalysisResults#perRuleStats() perRuleStats} list.
+     * @param elements An iterable of perRuleStats elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPerRuleStats(Iterable<? extends DistBuildPostBuildAnalysis.AbstractPerRuleCumulativeStats> elements) {
+      this.perRuleStats.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AnalysisResults AnalysisResults}.
+     * @return An immutable instance of AnalysisResults
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AnalysisResults build() {
+      return new AnalysisResults(this);
+    }
+  }
+}
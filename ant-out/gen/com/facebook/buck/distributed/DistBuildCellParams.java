@@ -0,0 +1,198 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.core.module.BuckModuleManager;
+import com.facebook.buck.io.ExecutableFinder;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.ProcessExecutor;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.pf4j.PluginManager;
+
+/**
+ * Immutable implementation of {@link AbstractDistBuildCellParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DistBuildCellParams.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDistBuildCellParams"})
+@Immutable
+@CheckReturnValue
+public final class DistBuildCellParams implements AbstractDistBuildCellParams {
+  private final BuckConfig config;
+  private final ProjectFilesystem filesystem;
+  private final @Nullable String canonicalName;
+  private final ImmutableMap<String, String> environment;
+  private final ProcessExecutor processExecutor;
+  private final ExecutableFinder executableFinder;
+  private final PluginManager pluginManager;
+  private final BuckModuleManager buckModuleManager;
+
+  private DistBuildCellParams(
+      BuckConfig config,
+      ProjectFilesystem filesystem,
+      Optional<String> canonicalName,
+      Map<String, ? extends String> environment,
+      ProcessExecutor processExecutor,
+      ExecutableFinder executableFinder,
+      PluginManager pluginManager,
+      BuckModuleManager buckModuleManager) {
+    this.config = Objects.requireNonNull(config, "config");
+    this.filesystem = Objects.requireNonNull(filesystem, "filesystem");
+    this.canonicalName = canonicalName.orElse(null);
+    this.environment = ImmutableMap.copyOf(environment);
+    this.processExecutor = Objects.requireNonNull(processExecutor, "processExecutor");
+    this.executableFinder = Objects.requireNonNull(executableFinder, "executableFinder");
+    this.pluginManager = Objects.requireNonNull(pluginManager, "pluginManager");
+    this.buckModuleManager = Objects.requireNonNull(buckModuleManager, "buckModuleManager");
+  }
+
+  /**
+   * @return The value of the {@code config} attribute
+   */
+  @Override
+  public BuckConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code canonicalName} attribute
+   */
+  @Override
+  public Optional<String> getCanonicalName() {
+    return Optional.ofNullable(canonicalName);
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code executableFinder} attribute
+   */
+  @Override
+  public ExecutableFinder getExecutableFinder() {
+    return executableFinder;
+  }
+
+  /**
+   * @return The value of the {@code pluginManager} attribute
+   */
+  @Override
+  public PluginManager getPluginManager() {
+    return pluginManager;
+  }
+
+  /**
+   * @return The value of the {@code buckModuleManager} attribute
+   */
+  @Override
+  public BuckModuleManager getBuckModuleManager() {
+    return buckModuleManager;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildCellParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildCellParams
+        && equalTo((DistBuildCellParams) another);
+  }
+
+  private boolean equalTo(DistBuildCellParams another) {
+    return config.equals(another.config)
+        && filesystem.equals(another.filesystem)
+        && Objects.equals(canonicalName, another.canonicalName)
+        && environment.equals(another.environment)
+        && processExecutor.equals(another.processExecutor)
+        && executableFinder.equals(another.executableFinder)
+        && pluginManager.equals(another.pluginManager)
+        && buckModuleManager.equals(another.buckModuleManager);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code config}, {@code filesystem}, {@code canonicalName}, {@code environment}, {@code processExecutor}, {@code executableFinder}, {@code pluginManager}, {@code buckModuleManager}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + config.hashCode();
+    h += (h << 5) + filesystem.hashCode();
+    h += (h << 5) + Objects.hashCode(canonicalName);
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + processExecutor.hashCode();
+    h += (h << 5) + executableFinder.hashCode();
+    h += (h << 5) + pluginManager.hashCode();
+    h += (h << 5) + buckModuleManager.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildCellParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildCellParams")
+        .omitNullValues()
+        .add("config", config)
+        .add("filesystem", filesystem)
+        .add("canonicalName", canonicalName)
+        .add("environment", environment)
+        .add("processExecutor", processExecutor)
+        .add("executableFinder", executableFinder)
+        .add("pluginManager", pluginManager)
+        .add("buckModuleManager", buckModuleManager)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DistBuildCellParams} instance.
+   * @param config The value for the {@code config} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param canonicalName The value for the {@code canonicalName} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param executableFinder The value for the {@code executableFinder} attribute
+   * @param pluginManager The value for the {@code pluginManager} attribute
+   * @param buckModuleManager The value for the {@code buckModuleManager} attribute
+   * @return An immutable DistBuildCellParams instance
+   */
+  public static DistBuildCellParams of(BuckConfig config, ProjectFilesystem filesystem, Optional<String> canonicalName, Map<String, ? extends String> environment, ProcessExecutor processExecutor, ExecutableFinder executableFinder, PluginManager pluginManager, BuckModuleManager buckModuleManager) {
+    return new DistBuildCellParams(config, filesystem, canonicalName, environment, processExecutor, executableFinder, pluginManager, buckModuleManager);
+  }
+}
@@ -0,0 +1,242 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.artifact_cache.RuleKeyCacheResult;
+import com.facebook.buck.distributed.thrift.RuleKeyLogEntry;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDistBuildClientCacheResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildClientCacheResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDistBuildClientCacheResult"})
+@Immutable
+@CheckReturnValue
+public final class DistBuildClientCacheResult
+    extends AbstractDistBuildClientCacheResult {
+  private final RuleKeyCacheResult clientSideCacheResult;
+  private final @Nullable RuleKeyLogEntry ruleKeyServerLog;
+  private final @Nullable RuleKeyLogEntry twoLevelContentHashKeyServerLog;
+
+  private DistBuildClientCacheResult(DistBuildClientCacheResult.Builder builder) {
+    this.clientSideCacheResult = builder.clientSideCacheResult;
+    this.ruleKeyServerLog = builder.ruleKeyServerLog;
+    this.twoLevelContentHashKeyServerLog = builder.twoLevelContentHashKeyServerLog;
+  }
+
+  /**
+   * @return The value of the {@code clientSideCacheResult} attribute
+   */
+  @Override
+  public RuleKeyCacheResult clientSideCacheResult() {
+    return clientSideCacheResult;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyServerLog} attribute
+   */
+  @Override
+  public Optional<RuleKeyLogEntry> ruleKeyServerLog() {
+    return Optional.ofNullable(ruleKeyServerLog);
+  }
+
+  /**
+   * @return The value of the {@code twoLevelContentHashKeyServerLog} attribute
+   */
+  @Override
+  public Optional<RuleKeyLogEntry> twoLevelContentHashKeyServerLog() {
+    return Optional.ofNullable(twoLevelContentHashKeyServerLog);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildClientCacheResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildClientCacheResult
+        && equalTo((DistBuildClientCacheResult) another);
+  }
+
+  private boolean equalTo(DistBuildClientCacheResult another) {
+    return clientSideCacheResult.equals(another.clientSideCacheResult)
+        && Objects.equals(ruleKeyServerLog, another.ruleKeyServerLog)
+        && Objects.equals(twoLevelContentHashKeyServerLog, another.twoLevelContentHashKeyServerLog);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code clientSideCacheResult}, {@code ruleKeyServerLog}, {@code twoLevelContentHashKeyServerLog}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + clientSideCacheResult.hashCode();
+    h += (h << 5) + Objects.hashCode(ruleKeyServerLog);
+    h += (h << 5) + Objects.hashCode(twoLevelContentHashKeyServerLog);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildClientCacheResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildClientCacheResult")
+        .omitNullValues()
+        .add("clientSideCacheResult", clientSideCacheResult)
+        .add("ruleKeyServerLog", ruleKeyServerLog)
+        .add("twoLevelContentHashKeyServerLog", twoLevelContentHashKeyServerLog)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildClientCacheResult DistBuildClientCacheResult}.
+   * @return A new DistBuildClientCacheResult builder
+   */
+  public static DistBuildClientCacheResult.Builder builder() {
+    return new DistBuildClientCacheResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildClientCacheResult DistBuildClientCacheResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLIENT_SIDE_CACHE_RESULT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable RuleKeyCacheResult clientSideCacheResult;
+    private @Nullable RuleKeyLogEntry ruleKeyServerLog;
+    private @Nullable RuleKeyLogEntry twoLevelContentHashKeyServerLog;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildClientCacheResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildClientCacheResult instance) {
+      return from((AbstractDistBuildClientCacheResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildClientCacheResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDistBuildClientCacheResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setClientSideCacheResult(instance.clientSideCacheResult());
+      Optional<RuleKeyLogEntry> ruleKeyServerLogOptional = instance.ruleKeyServerLog();
+      if (ruleKeyServerLogOptional.isPresent()) {
+        setRuleKeyServerLog(ruleKeyServerLogOptional);
+      }
+      Optional<RuleKeyLogEntry> twoLevelContentHashKeyServerLogOptional = instance.twoLevelContentHashKeyServerLog();
+      if (twoLevelContentHashKeyServerLogOptional.isPresent()) {
+        setTwoLevelContentHashKeyServerLog(twoLevelContentHashKeyServerLogOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientCacheResult#clientSideCacheResult() clientSideCacheResult} attribute.
+     * @param clientSideCacheResult The value for clientSideCacheResult 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClientSideCacheResult(RuleKeyCacheResult clientSideCacheResult) {
+      this.clientSideCacheResult = Objects.requireNonNull(clientSideCacheResult, "clientSideCacheResult");
+      initBits &= ~INIT_BIT_CLIENT_SIDE_CACHE_RESULT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientCacheResult#ruleKeyServerLog() ruleKeyServerLog} to ruleKeyServerLog.
+     * @param ruleKeyServerLog The value for ruleKeyServerLog
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyServerLog(RuleKeyLogEntry ruleKeyServerLog) {
+      this.ruleKeyServerLog = Objects.requireNonNull(ruleKeyServerLog, "ruleKeyServerLog");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientCacheResult#ruleKeyServerLog() ruleKeyServerLog} to ruleKeyServerLog.
+     * @param ruleKeyServerLog The value for ruleKeyServerLog
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyServerLog(Optional<? extends RuleKeyLogEntry> ruleKeyServerLog) {
+      this.ruleKeyServerLog = ruleKeyServerLog.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientCacheResult#twoLevelContentHashKeyServerLog() twoLevelContentHashKeyServerLog} to twoLevelContentHashKeyServerLog.
+     * @param twoLevelContentHashKeyServerLog The value for twoLevelContentHashKeyServerLog
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTwoLevelContentHashKeyServerLog(RuleKeyLogEntry twoLevelContentHashKeyServerLog) {
+      this.twoLevelContentHashKeyServerLog = Objects.requireNonNull(twoLevelContentHashKeyServerLog, "twoLevelContentHashKeyServerLog");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientCacheResult#twoLevelContentHashKeyServerLog() twoLevelContentHashKeyServerLog} to twoLevelContentHashKeyServerLog.
+     * @param twoLevelContentHashKeyServerLog The value for twoLevelContentHashKeyServerLog
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTwoLevelContentHashKeyServerLog(Optional<? extends RuleKeyLogEntry> twoLevelContentHashKeyServerLog) {
+      this.twoLevelContentHashKeyServerLog = twoLevelContentHashKeyServerLog.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildClientCacheResult DistBuildClientCacheResult}.
+     * @return An immutable instance of DistBuildClientCacheResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildClientCacheResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildClientCacheResult(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CLIENT_SIDE_CACHE_RESULT) != 0) attributes.add("clientSideCacheResult");
+      return "Cannot build DistBuildClientCacheResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1235 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDistBuildClientStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildClientStats.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDistBuildClientStats"})
+@Immutable
+@CheckReturnValue
+public final class DistBuildClientStats extends AbstractDistBuildClientStats {
+  private final String stampedeId;
+  private final boolean buckClientError;
+  private final String userOrInferredBuildLabel;
+  private final String minionType;
+  private final @Nullable String buckClientErrorMessage;
+  private final boolean performedLocalBuild;
+  private final boolean performedRacingBuild;
+  private final @Nullable Boolean racingBuildFinishedFirst;
+  private final @Nullable Boolean localFallbackBuildEnabled;
+  private final @Nullable Integer distributedBuildExitCode;
+  private final @Nullable Integer localBuildExitCode;
+  private final @Nullable Long postDistBuildLocalStepsDurationMs;
+  private final @Nullable Long localBuildDurationMs;
+  private final @Nullable Long localPreparationDurationMs;
+  private final @Nullable Long localGraphConstructionDurationMs;
+  private final @Nullable Long localFileHashComputationDurationMs;
+  private final @Nullable Long localTargetGraphSerializationDurationMs;
+  private final @Nullable Long localUploadFromDirCacheDurationMs;
+  private final @Nullable Long missingRulesUploadedFromDirCacheCount;
+  private final @Nullable Long performDistributedBuildDurationMs;
+  private final @Nullable Long createDistributedBuildDurationMs;
+  private final @Nullable Long uploadMissingFilesDurationMs;
+  private final @Nullable Long uploadTargetGraphDurationMs;
+  private final @Nullable Long uploadBuckDotFilesDurationMs;
+  private final @Nullable Long setBuckVersionDurationMs;
+  private final @Nullable Long missingFilesUploadedCount;
+  private final @Nullable Long materializeSlaveLogsDurationMs;
+  private final @Nullable Long publishBuildSlaveFinishedStatsDurationMs;
+  private final @Nullable Long postBuildAnalysisDurationMs;
+
+  private DistBuildClientStats(DistBuildClientStats.Builder builder) {
+    this.stampedeId = builder.stampedeId;
+    this.buckClientError = builder.buckClientError;
+    this.userOrInferredBuildLabel = builder.userOrInferredBuildLabel;
+    this.minionType = builder.minionType;
+    this.buckClientErrorMessage = builder.buckClientErrorMessage;
+    this.performedLocalBuild = builder.performedLocalBuild;
+    this.performedRacingBuild = builder.performedRacingBuild;
+    this.racingBuildFinishedFirst = builder.racingBuildFinishedFirst;
+    this.localFallbackBuildEnabled = builder.localFallbackBuildEnabled;
+    this.distributedBuildExitCode = builder.distributedBuildExitCode;
+    this.localBuildExitCode = builder.localBuildExitCode;
+    this.postDistBuildLocalStepsDurationMs = builder.postDistBuildLocalStepsDurationMs;
+    this.localBuildDurationMs = builder.localBuildDurationMs;
+    this.localPreparationDurationMs = builder.localPreparationDurationMs;
+    this.localGraphConstructionDurationMs = builder.localGraphConstructionDurationMs;
+    this.localFileHashComputationDurationMs = builder.localFileHashComputationDurationMs;
+    this.localTargetGraphSerializationDurationMs = builder.localTargetGraphSerializationDurationMs;
+    this.localUploadFromDirCacheDurationMs = builder.localUploadFromDirCacheDurationMs;
+    this.missingRulesUploadedFromDirCacheCount = builder.missingRulesUploadedFromDirCacheCount;
+    this.performDistributedBuildDurationMs = builder.performDistributedBuildDurationMs;
+    this.createDistributedBuildDurationMs = builder.createDistributedBuildDurationMs;
+    this.uploadMissingFilesDurationMs = builder.uploadMissingFilesDurationMs;
+    this.uploadTargetGraphDurationMs = builder.uploadTargetGraphDurationMs;
+    this.uploadBuckDotFilesDurationMs = builder.uploadBuckDotFilesDurationMs;
+    this.setBuckVersionDurationMs = builder.setBuckVersionDurationMs;
+    this.missingFilesUploadedCount = builder.missingFilesUploadedCount;
+    this.materializeSlaveLogsDurationMs = builder.materializeSlaveLogsDurationMs;
+    this.publishBuildSlaveFinishedStatsDurationMs = builder.publishBuildSlaveFinishedStatsDurationMs;
+    this.postBuildAnalysisDurationMs = builder.postBuildAnalysisDurationMs;
+  }
+
+  /**
+   * @return The value of the {@code stampedeId} attribute
+   */
+  @Override
+  public String stampedeId() {
+    return stampedeId;
+  }
+
+  /**
+   * @return The value of the {@code buckClientError} attribute
+   */
+  @Override
+  public boolean buckClientError() {
+    return buckClientError;
+  }
+
+  /**
+   * @return The value of the {@code userOrInferredBuildLabel} attribute
+   */
+  @Override
+  public String userOrInferredBuildLabel() {
+    return userOrInferredBuildLabel;
+  }
+
+  /**
+   * @return The value of the {@code minionType} attribute
+   */
+  @Override
+  public String minionType() {
+    return minionType;
+  }
+
+  /**
+   * @return The value of the {@code buckClientErrorMessage} attribute
+   */
+  @Override
+  public Optional<String> buckClientErrorMessage() {
+    return Optional.ofNullable(buckClientErrorMessage);
+  }
+
+  /**
+   * @return The value of the {@code performedLocalBuild} attribute
+   */
+  @Override
+  public boolean performedLocalBuild() {
+    return performedLocalBuild;
+  }
+
+  /**
+   * @return The value of the {@code performedRacingBuild} attribute
+   */
+  @Override
+  public boolean performedRacingBuild() {
+    return performedRacingBuild;
+  }
+
+  /**
+   * @return The value of the {@code racingBuildFinishedFirst} attribute
+   */
+  @Override
+  public Optional<Boolean> racingBuildFinishedFirst() {
+    return Optional.ofNullable(racingBuildFinishedFirst);
+  }
+
+  /**
+   * @return The value of the {@code localFallbackBuildEnabled} attribute
+   */
+  @Override
+  public Optional<Boolean> isLocalFallbackBuildEnabled() {
+    return Optional.ofNullable(localFallbackBuildEnabled);
+  }
+
+  /**
+   * @return The value of the {@code distributedBuildExitCode} attribute
+   */
+  @Override
+  public OptionalInt distributedBuildExitCode() {
+    return distributedBuildExitCode != null
+        ? OptionalInt.of(distributedBuildExitCode)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code localBuildExitCode} attribute
+   */
+  @Override
+  public OptionalInt localBuildExitCode() {
+    return localBuildExitCode != null
+        ? OptionalInt.of(localBuildExitCode)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code postDistBuildLocalStepsDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> postDistBuildLocalStepsDurationMs() {
+    return Optional.ofNullable(postDistBuildLocalStepsDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localBuildDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localBuildDurationMs() {
+    return Optional.ofNullable(localBuildDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localPreparationDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localPreparationDurationMs() {
+    return Optional.ofNullable(localPreparationDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localGraphConstructionDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localGraphConstructionDurationMs() {
+    return Optional.ofNullable(localGraphConstructionDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localFileHashComputationDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localFileHashComputationDurationMs() {
+    return Optional.ofNullable(localFileHashComputationDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localTargetGraphSerializationDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localTargetGraphSerializationDurationMs() {
+    return Optional.ofNullable(localTargetGraphSerializationDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code localUploadFromDirCacheDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> localUploadFromDirCacheDurationMs() {
+    return Optional.ofNullable(localUploadFromDirCacheDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code missingRulesUploadedFromDirCacheCount} attribute
+   */
+  @Override
+  public Optional<Long> missingRulesUploadedFromDirCacheCount() {
+    return Optional.ofNullable(missingRulesUploadedFromDirCacheCount);
+  }
+
+  /**
+   * @return The value of the {@code performDistributedBuildDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> performDistributedBuildDurationMs() {
+    return Optional.ofNullable(performDistributedBuildDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code createDistributedBuildDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> createDistributedBuildDurationMs() {
+    return Optional.ofNullable(createDistributedBuildDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code uploadMissingFilesDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> uploadMissingFilesDurationMs() {
+    return Optional.ofNullable(uploadMissingFilesDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code uploadTargetGraphDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> uploadTargetGraphDurationMs() {
+    return Optional.ofNullable(uploadTargetGraphDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code uploadBuckDotFilesDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> uploadBuckDotFilesDurationMs() {
+    return Optional.ofNullable(uploadBuckDotFilesDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code setBuckVersionDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> setBuckVersionDurationMs() {
+    return Optional.ofNullable(setBuckVersionDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code missingFilesUploadedCount} attribute
+   */
+  @Override
+  public Optional<Long> missingFilesUploadedCount() {
+    return Optional.ofNullable(missingFilesUploadedCount);
+  }
+
+  /**
+   * @return The value of the {@code materializeSlaveLogsDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> materializeSlaveLogsDurationMs() {
+    return Optional.ofNullable(materializeSlaveLogsDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code publishBuildSlaveFinishedStatsDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> publishBuildSlaveFinishedStatsDurationMs() {
+    return Optional.ofNullable(publishBuildSlaveFinishedStatsDurationMs);
+  }
+
+  /**
+   * @return The value of the {@code postBuildAnalysisDurationMs} attribute
+   */
+  @Override
+  public Optional<Long> postBuildAnalysisDurationMs() {
+    return Optional.ofNullable(postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildClientStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildClientStats
+        && equalTo((DistBuildClientStats) another);
+  }
+
+  private boolean equalTo(DistBuildClientStats another) {
+    return stampedeId.equals(another.stampedeId)
+        && buckClientError == another.buckClientError
+        && userOrInferredBuildLabel.equals(another.userOrInferredBuildLabel)
+        && minionType.equals(another.minionType)
+        && Objects.equals(buckClientErrorMessage, another.buckClientErrorMessage)
+        && performedLocalBuild == another.performedLocalBuild
+        && performedRacingBuild == another.performedRacingBuild
+        && Objects.equals(racingBuildFinishedFirst, another.racingBuildFinishedFirst)
+        && Objects.equals(localFallbackBuildEnabled, another.localFallbackBuildEnabled)
+        && Objects.equals(distributedBuildExitCode, another.distributedBuildExitCode)
+        && Objects.equals(localBuildExitCode, another.localBuildExitCode)
+        && Objects.equals(postDistBuildLocalStepsDurationMs, another.postDistBuildLocalStepsDurationMs)
+        && Objects.equals(localBuildDurationMs, another.localBuildDurationMs)
+        && Objects.equals(localPreparationDurationMs, another.localPreparationDurationMs)
+        && Objects.equals(localGraphConstructionDurationMs, another.localGraphConstructionDurationMs)
+        && Objects.equals(localFileHashComputationDurationMs, another.localFileHashComputationDurationMs)
+        && Objects.equals(localTargetGraphSerializationDurationMs, another.localTargetGraphSerializationDurationMs)
+        && Objects.equals(localUploadFromDirCacheDurationMs, another.localUploadFromDirCacheDurationMs)
+        && Objects.equals(missingRulesUploadedFromDirCacheCount, another.missingRulesUploadedFromDirCacheCount)
+        && Objects.equals(performDistributedBuildDurationMs, another.performDistributedBuildDurationMs)
+        && Objects.equals(createDistributedBuildDurationMs, another.createDistributedBuildDurationMs)
+        && Objects.equals(uploadMissingFilesDurationMs, another.uploadMissingFilesDurationMs)
+        && Objects.equals(uploadTargetGraphDurationMs, another.uploadTargetGraphDurationMs)
+        && Objects.equals(uploadBuckDotFilesDurationMs, another.uploadBuckDotFilesDurationMs)
+        && Objects.equals(setBuckVersionDurationMs, another.setBuckVersionDurationMs)
+        && Objects.equals(missingFilesUploadedCount, another.missingFilesUploadedCount)
+        && Objects.equals(materializeSlaveLogsDurationMs, another.materializeSlaveLogsDurationMs)
+        && Objects.equals(publishBuildSlaveFinishedStatsDurationMs, another.publishBuildSlaveFinishedStatsDurationMs)
+        && Objects.equals(postBuildAnalysisDurationMs, another.postBuildAnalysisDurationMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stampedeId}, {@code buckClientError}, {@code userOrInferredBuildLabel}, {@code minionType}, {@code buckClientErrorMessage}, {@code performedLocalBuild}, {@code performedRacingBuild}, {@code racingBuildFinishedFirst}, {@code localFallbackBuildEnabled}, {@code distributedBuildExitCode}, {@code localBuildExitCode}, {@code postDistBuildLocalStepsDurationMs}, {@code localBuildDurationMs}, {@code localPreparationDurationMs}, {@code localGraphConstructionDurationMs}, {@code localFileHashComputationDurationMs}, {@code localTargetGraphSerializationDurationMs}, {@code localUploadFromDirCacheDurationMs}, {@code missingRulesUploadedFromDirCacheCount}, {@code performDistributedBuildDurationMs}, {@code createDistributedBuildDurationMs}, {@code uploadMissingFilesDurationMs}, {@code uploadTargetGraphDurationMs}, {@code uploadBuckDotFilesDurationMs}, {@code setBuckVersionDurationMs}, {@code missingFilesUploadedCount}, {@code materializeSlaveLogsDurationMs}, {@code publishBuildSlaveFinishedStatsDurationMs}, {@code postBuildAnalysisDurationMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + stampedeId.hashCode();
+    h += (h << 5) + Booleans.hashCode(buckClientError);
+    h += (h << 5) + userOrInferredBuildLabel.hashCode();
+    h += (h << 5) + minionType.hashCode();
+    h += (h << 5) + Objects.hashCode(buckClientErrorMessage);
+    h += (h << 5) + Booleans.hashCode(performedLocalBuild);
+    h += (h << 5) + Booleans.hashCode(performedRacingBuild);
+    h += (h << 5) + Objects.hashCode(racingBuildFinishedFirst);
+    h += (h << 5) + Objects.hashCode(localFallbackBuildEnabled);
+    h += (h << 5) + Objects.hashCode(distributedBuildExitCode);
+    h += (h << 5) + Objects.hashCode(localBuildExitCode);
+    h += (h << 5) + Objects.hashCode(postDistBuildLocalStepsDurationMs);
+    h += (h << 5) + Objects.hashCode(localBuildDurationMs);
+    h += (h << 5) + Objects.hashCode(localPreparationDurationMs);
+    h += (h << 5) + Objects.hashCode(localGraphConstructionDurationMs);
+    h += (h << 5) + Objects.hashCode(localFileHashComputationDurationMs);
+    h += (h << 5) + Objects.hashCode(localTargetGraphSerializationDurationMs);
+    h += (h << 5) + Objects.hashCode(localUploadFromDirCacheDurationMs);
+    h += (h << 5) + Objects.hashCode(missingRulesUploadedFromDirCacheCount);
+    h += (h << 5) + Objects.hashCode(performDistributedBuildDurationMs);
+    h += (h << 5) + Objects.hashCode(createDistributedBuildDurationMs);
+    h += (h << 5) + Objects.hashCode(uploadMissingFilesDurationMs);
+    h += (h << 5) + Objects.hashCode(uploadTargetGraphDurationMs);
+    h += (h << 5) + Objects.hashCode(uploadBuckDotFilesDurationMs);
+    h += (h << 5) + Objects.hashCode(setBuckVersionDurationMs);
+    h += (h << 5) + Objects.hashCode(missingFilesUploadedCount);
+    h += (h << 5) + Objects.hashCode(materializeSlaveLogsDurationMs);
+    h += (h << 5) + Objects.hashCode(publishBuildSlaveFinishedStatsDurationMs);
+    h += (h << 5) + Objects.hashCode(postBuildAnalysisDurationMs);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildClientStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildClientStats")
+        .omitNullValues()
+        .add("stampedeId", stampedeId)
+        .add("buckClientError", buckClientError)
+        .add("userOrInferredBuildLabel", userOrInferredBuildLabel)
+        .add("minionType", minionType)
+        .add("buckClientErrorMessage", buckClientErrorMessage)
+        .add("performedLocalBuild", performedLocalBuild)
+        .add("performedRacingBuild", performedRacingBuild)
+        .add("racingBuildFinishedFirst", racingBuildFinishedFirst)
+        .add("localFallbackBuildEnabled", localFallbackBuildEnabled)
+        .add("distributedBuildExitCode", distributedBuildExitCode)
+        .add("localBuildExitCode", localBuildExitCode)
+        .add("postDistBuildLocalStepsDurationMs", postDistBuildLocalStepsDurationMs)
+        .add("localBuildDurationMs", localBuildDurationMs)
+        .add("localPreparationDurationMs", localPreparationDurationMs)
+        .add("localGraphConstructionDurationMs", localGraphConstructionDurationMs)
+        .add("localFileHashComputationDurationMs", localFileHashComputationDurationMs)
+        .add("localTargetGraphSerializationDurationMs", localTargetGraphSerializationDurationMs)
+        .add("localUploadFromDirCacheDurationMs", localUploadFromDirCacheDurationMs)
+        .add("missingRulesUploadedFromDirCacheCount", missingRulesUploadedFromDirCacheCount)
+        .add("performDistributedBuildDurationMs", performDistributedBuildDurationMs)
+        .add("createDistributedBuildDurationMs", createDistributedBuildDurationMs)
+        .add("uploadMissingFilesDurationMs", uploadMissingFilesDurationMs)
+        .add("uploadTargetGraphDurationMs", uploadTargetGraphDurationMs)
+        .add("uploadBuckDotFilesDurationMs", uploadBuckDotFilesDurationMs)
+        .add("setBuckVersionDurationMs", setBuckVersionDurationMs)
+        .add("missingFilesUploadedCount", missingFilesUploadedCount)
+        .add("materializeSlaveLogsDurationMs", materializeSlaveLogsDurationMs)
+        .add("publishBuildSlaveFinishedStatsDurationMs", publishBuildSlaveFinishedStatsDurationMs)
+        .add("postBuildAnalysisDurationMs", postBuildAnalysisDurationMs)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildClientStats DistBuildClientStats}.
+   * @return A new DistBuildClientStats builder
+   */
+  public static DistBuildClientStats.Builder builder() {
+    return new DistBuildClientStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildClientStats DistBuildClientStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STAMPEDE_ID = 0x1L;
+    private static final long INIT_BIT_BUCK_CLIENT_ERROR = 0x2L;
+    private static final long INIT_BIT_USER_OR_INFERRED_BUILD_LABEL = 0x4L;
+    private static final long INIT_BIT_MINION_TYPE = 0x8L;
+    private static final long INIT_BIT_PERFORMED_LOCAL_BUILD = 0x10L;
+    private static final long INIT_BIT_PERFORMED_RACING_BUILD = 0x20L;
+    private long initBits = 0x3fL;
+
+    private @Nullable String stampedeId;
+    private boolean buckClientError;
+    private @Nullable String userOrInferredBuildLabel;
+    private @Nullable String minionType;
+    private @Nullable String buckClientErrorMessage;
+    private boolean performedLocalBuild;
+    private boolean performedRacingBuild;
+    private @Nullable Boolean racingBuildFinishedFirst;
+    private @Nullable Boolean localFallbackBuildEnabled;
+    private @Nullable Integer distributedBuildExitCode;
+    private @Nullable Integer localBuildExitCode;
+    private @Nullable Long postDistBuildLocalStepsDurationMs;
+    private @Nullable Long localBuildDurationMs;
+    private @Nullable Long localPreparationDurationMs;
+    private @Nullable Long localGraphConstructionDurationMs;
+    private @Nullable Long localFileHashComputationDurationMs;
+    private @Nullable Long localTargetGraphSerializationDurationMs;
+    private @Nullable Long localUploadFromDirCacheDurationMs;
+    private @Nullable Long missingRulesUploadedFromDirCacheCount;
+    private @Nullable Long performDistributedBuildDurationMs;
+    private @Nullable Long createDistributedBuildDurationMs;
+    private @Nullable Long uploadMissingFilesDurationMs;
+    private @Nullable Long uploadTargetGraphDurationMs;
+    private @Nullable Long uploadBuckDotFilesDurationMs;
+    private @Nullable Long setBuckVersionDurationMs;
+    private @Nullable Long missingFilesUploadedCount;
+    private @Nullable Long materializeSlaveLogsDurationMs;
+    private @Nullable Long publishBuildSlaveFinishedStatsDurationMs;
+    private @Nullable Long postBuildAnalysisDurationMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildClientStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildClientStats instance) {
+      return from((AbstractDistBuildClientStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildClientStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDistBuildClientStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStampedeId(instance.stampedeId());
+      setBuckClientError(instance.buckClientError());
+      setUserOrInferredBuildLabel(instance.userOrInferredBuildLabel());
+      setMinionType(instance.minionType());
+      Optional<String> buckClientErrorMessageOptional = instance.buckClientErrorMessage();
+      if (buckClientErrorMessageOptional.isPresent()) {
+        setBuckClientErrorMessage(buckClientErrorMessageOptional);
+      }
+      setPerformedLocalBuild(instance.performedLocalBuild());
+      setPerformedRacingBuild(instance.performedRacingBuild());
+      Optional<Boolean> racingBuildFinishedFirstOptional = instance.racingBuildFinishedFirst();
+      if (racingBuildFinishedFirstOptional.isPresent()) {
+        setRacingBuildFinishedFirst(racingBuildFinishedFirstOptional);
+      }
+      Optional<Boolean> localFallbackBuildEnabledOptional = instance.isLocalFallbackBuildEnabled();
+      if (localFallbackBuildEnabledOptional.isPresent()) {
+        setLocalFallbackBuildEnabled(localFallbackBuildEnabledOptional);
+      }
+      OptionalInt distributedBuildExitCodeOptional = instance.distributedBuildExitCode();
+      if (distributedBuildExitCodeOptional.isPresent()) {
+        setDistributedBuildExitCode(distributedBuildExitCodeOptional);
+      }
+      OptionalInt localBuildExitCodeOptional = instance.localBuildExitCode();
+      if (localBuildExitCodeOptional.isPresent()) {
+        setLocalBuildExitCode(localBuildExitCodeOptional);
+      }
+      Optional<Long> postDistBuildLocalStepsDurationMsOptional = instance.postDistBuildLocalStepsDurationMs();
+      if (postDistBuildLocalStepsDurationMsOptional.isPresent()) {
+        setPostDistBuildLocalStepsDurationMs(postDistBuildLocalStepsDurationMsOptional);
+      }
+      Optional<Long> localBuildDurationMsOptional = instance.localBuildDurationMs();
+      if (localBuildDurationMsOptional.isPresent()) {
+        setLocalBuildDurationMs(localBuildDurationMsOptional);
+      }
+      Optional<Long> localPreparationDurationMsOptional = instance.localPreparationDurationMs();
+      if (localPreparationDurationMsOptional.isPresent()) {
+        setLocalPreparationDurationMs(localPreparationDurationMsOptional);
+      }
+      Optional<Long> localGraphConstructionDurationMsOptional = instance.localGraphConstructionDurationMs();
+      if (localGraphConstructionDurationMsOptional.isPresent()) {
+        setLocalGraphConstructionDurationMs(localGraphConstructionDurationMsOptional);
+      }
+      Optional<Long> localFileHashComputationDurationMsOptional = instance.localFileHashComputationDurationMs();
+      if (localFileHashComputationDurationMsOptional.isPresent()) {
+        setLocalFileHashComputationDurationMs(localFileHashComputationDurationMsOptional);
+      }
+      Optional<Long> localTargetGraphSerializationDurationMsOptional = instance.localTargetGraphSerializationDurationMs();
+      if (localTargetGraphSerializationDurationMsOptional.isPresent()) {
+        setLocalTargetGraphSerializationDurationMs(localTargetGraphSerializationDurationMsOptional);
+      }
+      Optional<Long> localUploadFromDirCacheDurationMsOptional = instance.localUploadFromDirCacheDurationMs();
+      if (localUploadFromDirCacheDurationMsOptional.isPresent()) {
+        setLocalUploadFromDirCacheDurationMs(localUploadFromDirCacheDurationMsOptional);
+      }
+      Optional<Long> missingRulesUploadedFromDirCacheCountOptional = instance.missingRulesUploadedFromDirCacheCount();
+      if (missingRulesUploadedFromDirCacheCountOptional.isPresent()) {
+        setMissingRulesUploadedFromDirCacheCount(missingRulesUploadedFromDirCacheCountOptional);
+      }
+      Optional<Long> performDistributedBuildDurationMsOptional = instance.performDistributedBuildDurationMs();
+      if (performDistributedBuildDurationMsOptional.isPresent()) {
+        setPerformDistributedBuildDurationMs(performDistributedBuildDurationMsOptional);
+      }
+      Optional<Long> createDistributedBuildDurationMsOptional = instance.createDistributedBuildDurationMs();
+      if (createDistributedBuildDurationMsOptional.isPresent()) {
+        setCreateDistributedBuildDurationMs(createDistributedBuildDurationMsOptional);
+      }
+      Optional<Long> uploadMissingFilesDurationMsOptional = instance.uploadMissingFilesDurationMs();
+      if (uploadMissingFilesDurationMsOptional.isPresent()) {
+        setUploadMissingFilesDurationMs(uploadMissingFilesDurationMsOptional);
+      }
+      Optional<Long> uploadTargetGraphDurationMsOptional = instance.uploadTargetGraphDurationMs();
+      if (uploadTargetGraphDurationMsOptional.isPresent()) {
+        setUploadTargetGraphDurationMs(uploadTargetGraphDurationMsOptional);
+      }
+      Optional<Long> uploadBuckDotFilesDurationMsOptional = instance.uploadBuckDotFilesDurationMs();
+      if (uploadBuckDotFilesDurationMsOptional.isPresent()) {
+        setUploadBuckDotFilesDurationMs(uploadBuckDotFilesDurationMsOptional);
+      }
+      Optional<Long> setBuckVersionDurationMsOptional = instance.setBuckVersionDurationMs();
+      if (setBuckVersionDurationMsOptional.isPresent()) {
+        setSetBuckVersionDurationMs(setBuckVersionDurationMsOptional);
+      }
+      Optional<Long> missingFilesUploadedCountOptional = instance.missingFilesUploadedCount();
+      if (missingFilesUploadedCountOptional.isPresent()) {
+        setMissingFilesUploadedCount(missingFilesUploadedCountOptional);
+      }
+      Optional<Long> materializeSlaveLogsDurationMsOptional = instance.materializeSlaveLogsDurationMs();
+      if (materializeSlaveLogsDurationMsOptional.isPresent()) {
+        setMaterializeSlaveLogsDurationMs(materializeSlaveLogsDurationMsOptional);
+      }
+      Optional<Long> publishBuildSlaveFinishedStatsDurationMsOptional = instance.publishBuildSlaveFinishedStatsDurationMs();
+      if (publishBuildSlaveFinishedStatsDurationMsOptional.isPresent()) {
+        setPublishBuildSlaveFinishedStatsDurationMs(publishBuildSlaveFinishedStatsDurationMsOptional);
+      }
+      Optional<Long> postBuildAnalysisDurationMsOptional = instance.postBuildAnalysisDurationMs();
+      if (postBuildAnalysisDurationMsOptional.isPresent()) {
+        setPostBuildAnalysisDurationMs(postBuildAnalysisDurationMsOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#stampedeId() stampedeId} attribute.
+     * @param stampedeId The value for stampedeId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStampedeId(String stampedeId) {
+      this.stampedeId = Objects.requireNonNull(stampedeId, "stampedeId");
+      initBits &= ~INIT_BIT_STAMPEDE_ID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#buckClientError() buckClientError} attribute.
+     * @param buckClientError The value for buckClientError 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckClientError(boolean buckClientError) {
+      this.buckClientError = buckClientError;
+      initBits &= ~INIT_BIT_BUCK_CLIENT_ERROR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#userOrInferredBuildLabel() userOrInferredBuildLabel} attribute.
+     * @param userOrInferredBuildLabel The value for userOrInferredBuildLabel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUserOrInferredBuildLabel(String userOrInferredBuildLabel) {
+      this.userOrInferredBuildLabel = Objects.requireNonNull(userOrInferredBuildLabel, "userOrInferredBuildLabel");
+      initBits &= ~INIT_BIT_USER_OR_INFERRED_BUILD_LABEL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#minionType() minionType} attribute.
+     * @param minionType The value for minionType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinionType(String minionType) {
+      this.minionType = Objects.requireNonNull(minionType, "minionType");
+      initBits &= ~INIT_BIT_MINION_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#buckClientErrorMessage() buckClientErrorMessage} to buckClientErrorMessage.
+     * @param buckClientErrorMessage The value for buckClientErrorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckClientErrorMessage(String buckClientErrorMessage) {
+      this.buckClientErrorMessage = Objects.requireNonNull(buckClientErrorMessage, "buckClientErrorMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#buckClientErrorMessage() buckClientErrorMessage} to buckClientErrorMessage.
+     * @param buckClientErrorMessage The value for buckClientErrorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckClientErrorMessage(Optional<String> buckClientErrorMessage) {
+      this.buckClientErrorMessage = buckClientErrorMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#performedLocalBuild() performedLocalBuild} attribute.
+     * @param performedLocalBuild The value for performedLocalBuild 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPerformedLocalBuild(boolean performedLocalBuild) {
+      this.performedLocalBuild = performedLocalBuild;
+      initBits &= ~INIT_BIT_PERFORMED_LOCAL_BUILD;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildClientStats#performedRacingBuild() performedRacingBuild} attribute.
+     * @param performedRacingBuild The value for performedRacingBuild 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPerformedRacingBuild(boolean performedRacingBuild) {
+      this.performedRacingBuild = performedRacingBuild;
+      initBits &= ~INIT_BIT_PERFORMED_RACING_BUILD;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#racingBuildFinishedFirst() racingBuildFinishedFirst} to racingBuildFinishedFirst.
+     * @param racingBuildFinishedFirst The value for racingBuildFinishedFirst
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRacingBuildFinishedFirst(boolean racingBuildFinishedFirst) {
+      this.racingBuildFinishedFirst = racingBuildFinishedFirst;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#racingBuildFinishedFirst() racingBuildFinishedFirst} to racingBuildFinishedFirst.
+     * @param racingBuildFinishedFirst The value for racingBuildFinishedFirst
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRacingBuildFinishedFirst(Optional<Boolean> racingBuildFinishedFirst) {
+      this.racingBuildFinishedFirst = racingBuildFinishedFirst.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#isLocalFallbackBuildEnabled() localFallbackBuildEnabled} to localFallbackBuildEnabled.
+     * @param localFallbackBuildEnabled The value for localFallbackBuildEnabled
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalFallbackBuildEnabled(boolean localFallbackBuildEnabled) {
+      this.localFallbackBuildEnabled = localFallbackBuildEnabled;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#isLocalFallbackBuildEnabled() localFallbackBuildEnabled} to localFallbackBuildEnabled.
+     * @param localFallbackBuildEnabled The value for localFallbackBuildEnabled
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalFallbackBuildEnabled(Optional<Boolean> localFallbackBuildEnabled) {
+      this.localFallbackBuildEnabled = localFallbackBuildEnabled.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#distributedBuildExitCode() distributedBuildExitCode} to distributedBuildExitCode.
+     * @param distributedBuildExitCode The value for distributedBuildExitCode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistributedBuildExitCode(int distributedBuildExitCode) {
+      this.distributedBuildExitCode = distributedBuildExitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#distributedBuildExitCode() distributedBuildExitCode} to distributedBuildExitCode.
+     * @param distributedBuildExitCode The value for distributedBuildExitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistributedBuildExitCode(OptionalInt distributedBuildExitCode) {
+      this.distributedBuildExitCode = distributedBuildExitCode.isPresent() ? distributedBuildExitCode.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildExitCode() localBuildExitCode} to localBuildExitCode.
+     * @param localBuildExitCode The value for localBuildExitCode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalBuildExitCode(int localBuildExitCode) {
+      this.localBuildExitCode = localBuildExitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildExitCode() localBuildExitCode} to localBuildExitCode.
+     * @param localBuildExitCode The value for localBuildExitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalBuildExitCode(OptionalInt localBuildExitCode) {
+      this.localBuildExitCode = localBuildExitCode.isPresent() ? localBuildExitCode.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postDistBuildLocalStepsDurationMs() postDistBuildLocalStepsDurationMs} to postDistBuildLocalStepsDurationMs.
+     * @param postDistBuildLocalStepsDurationMs The value for postDistBuildLocalStepsDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostDistBuildLocalStepsDurationMs(long postDistBuildLocalStepsDurationMs) {
+      this.postDistBuildLocalStepsDurationMs = postDistBuildLocalStepsDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postDistBuildLocalStepsDurationMs() postDistBuildLocalStepsDurationMs} to postDistBuildLocalStepsDurationMs.
+     * @param postDistBuildLocalStepsDurationMs The value for postDistBuildLocalStepsDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostDistBuildLocalStepsDurationMs(Optional<Long> postDistBuildLocalStepsDurationMs) {
+      this.postDistBuildLocalStepsDurationMs = postDistBuildLocalStepsDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildDurationMs() localBuildDurationMs} to localBuildDurationMs.
+     * @param localBuildDurationMs The value for localBuildDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalBuildDurationMs(long localBuildDurationMs) {
+      this.localBuildDurationMs = localBuildDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localBuildDurationMs() localBuildDurationMs} to localBuildDurationMs.
+     * @param localBuildDurationMs The value for localBuildDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalBuildDurationMs(Optional<Long> localBuildDurationMs) {
+      this.localBuildDurationMs = localBuildDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localPreparationDurationMs() localPreparationDurationMs} to localPreparationDurationMs.
+     * @param localPreparationDurationMs The value for localPreparationDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalPreparationDurationMs(long localPreparationDurationMs) {
+      this.localPreparationDurationMs = localPreparationDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localPreparationDurationMs() localPreparationDurationMs} to localPreparationDurationMs.
+     * @param localPreparationDurationMs The value for localPreparationDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalPreparationDurationMs(Optional<Long> localPreparationDurationMs) {
+      this.localPreparationDurationMs = localPreparationDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localGraphConstructionDurationMs() localGraphConstructionDurationMs} to localGraphConstructionDurationMs.
+     * @param localGraphConstructionDurationMs The value for localGraphConstructionDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalGraphConstructionDurationMs(long localGraphConstructionDurationMs) {
+      this.localGraphConstructionDurationMs = localGraphConstructionDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localGraphConstructionDurationMs() localGraphConstructionDurationMs} to localGraphConstructionDurationMs.
+     * @param localGraphConstructionDurationMs The value for localGraphConstructionDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalGraphConstructionDurationMs(Optional<Long> localGraphConstructionDurationMs) {
+      this.localGraphConstructionDurationMs = localGraphConstructionDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localFileHashComputationDurationMs() localFileHashComputationDurationMs} to localFileHashComputationDurationMs.
+     * @param localFileHashComputationDurationMs The value for localFileHashComputationDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalFileHashComputationDurationMs(long localFileHashComputationDurationMs) {
+      this.localFileHashComputationDurationMs = localFileHashComputationDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localFileHashComputationDurationMs() localFileHashComputationDurationMs} to localFileHashComputationDurationMs.
+     * @param localFileHashComputationDurationMs The value for localFileHashComputationDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalFileHashComputationDurationMs(Optional<Long> localFileHashComputationDurationMs) {
+      this.localFileHashComputationDurationMs = localFileHashComputationDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localTargetGraphSerializationDurationMs() localTargetGraphSerializationDurationMs} to localTargetGraphSerializationDurationMs.
+     * @param localTargetGraphSerializationDurationMs The value for localTargetGraphSerializationDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalTargetGraphSerializationDurationMs(long localTargetGraphSerializationDurationMs) {
+      this.localTargetGraphSerializationDurationMs = localTargetGraphSerializationDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localTargetGraphSerializationDurationMs() localTargetGraphSerializationDurationMs} to localTargetGraphSerializationDurationMs.
+     * @param localTargetGraphSerializationDurationMs The value for localTargetGraphSerializationDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalTargetGraphSerializationDurationMs(Optional<Long> localTargetGraphSerializationDurationMs) {
+      this.localTargetGraphSerializationDurationMs = localTargetGraphSerializationDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localUploadFromDirCacheDurationMs() localUploadFromDirCacheDurationMs} to localUploadFromDirCacheDurationMs.
+     * @param localUploadFromDirCacheDurationMs The value for localUploadFromDirCacheDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalUploadFromDirCacheDurationMs(long localUploadFromDirCacheDurationMs) {
+      this.localUploadFromDirCacheDurationMs = localUploadFromDirCacheDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#localUploadFromDirCacheDurationMs() localUploadFromDirCacheDurationMs} to localUploadFromDirCacheDurationMs.
+     * @param localUploadFromDirCacheDurationMs The value for localUploadFromDirCacheDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLocalUploadFromDirCacheDurationMs(Optional<Long> localUploadFromDirCacheDurationMs) {
+      this.localUploadFromDirCacheDurationMs = localUploadFromDirCacheDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#missingRulesUploadedFromDirCacheCount() missingRulesUploadedFromDirCacheCount} to missingRulesUploadedFromDirCacheCount.
+     * @param missingRulesUploadedFromDirCacheCount The value for missingRulesUploadedFromDirCacheCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMissingRulesUploadedFromDirCacheCount(long missingRulesUploadedFromDirCacheCount) {
+      this.missingRulesUploadedFromDirCacheCount = missingRulesUploadedFromDirCacheCount;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#missingRulesUploadedFromDirCacheCount() missingRulesUploadedFromDirCacheCount} to missingRulesUploadedFromDirCacheCount.
+     * @param missingRulesUploadedFromDirCacheCount The value for missingRulesUploadedFromDirCacheCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMissingRulesUploadedFromDirCacheCount(Optional<Long> missingRulesUploadedFromDirCacheCount) {
+      this.missingRulesUploadedFromDirCacheCount = missingRulesUploadedFromDirCacheCount.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#performDistributedBuildDurationMs() performDistributedBuildDurationMs} to performDistributedBuildDurationMs.
+     * @param performDistributedBuildDurationMs The value for performDistributedBuildDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPerformDistributedBuildDurationMs(long performDistributedBuildDurationMs) {
+      this.performDistributedBuildDurationMs = performDistributedBuildDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#performDistributedBuildDurationMs() performDistributedBuildDurationMs} to performDistributedBuildDurationMs.
+     * @param performDistributedBuildDurationMs The value for performDistributedBuildDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPerformDistributedBuildDurationMs(Optional<Long> performDistributedBuildDurationMs) {
+      this.performDistributedBuildDurationMs = performDistributedBuildDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#createDistributedBuildDurationMs() createDistributedBuildDurationMs} to createDistributedBuildDurationMs.
+     * @param createDistributedBuildDurationMs The value for createDistributedBuildDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCreateDistributedBuildDurationMs(long createDistributedBuildDurationMs) {
+      this.createDistributedBuildDurationMs = createDistributedBuildDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#createDistributedBuildDurationMs() createDistributedBuildDurationMs} to createDistributedBuildDurationMs.
+     * @param createDistributedBuildDurationMs The value for createDistributedBuildDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCreateDistributedBuildDurationMs(Optional<Long> createDistributedBuildDurationMs) {
+      this.createDistributedBuildDurationMs = createDistributedBuildDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadMissingFilesDurationMs() uploadMissingFilesDurationMs} to uploadMissingFilesDurationMs.
+     * @param uploadMissingFilesDurationMs The value for uploadMissingFilesDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadMissingFilesDurationMs(long uploadMissingFilesDurationMs) {
+      this.uploadMissingFilesDurationMs = uploadMissingFilesDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadMissingFilesDurationMs() uploadMissingFilesDurationMs} to uploadMissingFilesDurationMs.
+     * @param uploadMissingFilesDurationMs The value for uploadMissingFilesDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadMissingFilesDurationMs(Optional<Long> uploadMissingFilesDurationMs) {
+      this.uploadMissingFilesDurationMs = uploadMissingFilesDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadTargetGraphDurationMs() uploadTargetGraphDurationMs} to uploadTargetGraphDurationMs.
+     * @param uploadTargetGraphDurationMs The value for uploadTargetGraphDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadTargetGraphDurationMs(long uploadTargetGraphDurationMs) {
+      this.uploadTargetGraphDurationMs = uploadTargetGraphDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadTargetGraphDurationMs() uploadTargetGraphDurationMs} to uploadTargetGraphDurationMs.
+     * @param uploadTargetGraphDurationMs The value for uploadTargetGraphDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadTargetGraphDurationMs(Optional<Long> uploadTargetGraphDurationMs) {
+      this.uploadTargetGraphDurationMs = uploadTargetGraphDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadBuckDotFilesDurationMs() uploadBuckDotFilesDurationMs} to uploadBuckDotFilesDurationMs.
+     * @param uploadBuckDotFilesDurationMs The value for uploadBuckDotFilesDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadBuckDotFilesDurationMs(long uploadBuckDotFilesDurationMs) {
+      this.uploadBuckDotFilesDurationMs = uploadBuckDotFilesDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#uploadBuckDotFilesDurationMs() uploadBuckDotFilesDurationMs} to uploadBuckDotFilesDurationMs.
+     * @param uploadBuckDotFilesDurationMs The value for uploadBuckDotFilesDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUploadBuckDotFilesDurationMs(Optional<Long> uploadBuckDotFilesDurationMs) {
+      this.uploadBuckDotFilesDurationMs = uploadBuckDotFilesDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#setBuckVersionDurationMs() setBuckVersionDurationMs} to setBuckVersionDurationMs.
+     * @param setBuckVersionDurationMs The value for setBuckVersionDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSetBuckVersionDurationMs(long setBuckVersionDurationMs) {
+      this.setBuckVersionDurationMs = setBuckVersionDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#setBuckVersionDurationMs() setBuckVersionDurationMs} to setBuckVersionDurationMs.
+     * @param setBuckVersionDurationMs The value for setBuckVersionDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSetBuckVersionDurationMs(Optional<Long> setBuckVersionDurationMs) {
+      this.setBuckVersionDurationMs = setBuckVersionDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#missingFilesUploadedCount() missingFilesUploadedCount} to missingFilesUploadedCount.
+     * @param missingFilesUploadedCount The value for missingFilesUploadedCount
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMissingFilesUploadedCount(long missingFilesUploadedCount) {
+      this.missingFilesUploadedCount = missingFilesUploadedCount;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#missingFilesUploadedCount() missingFilesUploadedCount} to missingFilesUploadedCount.
+     * @param missingFilesUploadedCount The value for missingFilesUploadedCount
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMissingFilesUploadedCount(Optional<Long> missingFilesUploadedCount) {
+      this.missingFilesUploadedCount = missingFilesUploadedCount.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#materializeSlaveLogsDurationMs() materializeSlaveLogsDurationMs} to materializeSlaveLogsDurationMs.
+     * @param materializeSlaveLogsDurationMs The value for materializeSlaveLogsDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaterializeSlaveLogsDurationMs(long materializeSlaveLogsDurationMs) {
+      this.materializeSlaveLogsDurationMs = materializeSlaveLogsDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#materializeSlaveLogsDurationMs() materializeSlaveLogsDurationMs} to materializeSlaveLogsDurationMs.
+     * @param materializeSlaveLogsDurationMs The value for materializeSlaveLogsDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaterializeSlaveLogsDurationMs(Optional<Long> materializeSlaveLogsDurationMs) {
+      this.materializeSlaveLogsDurationMs = materializeSlaveLogsDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#publishBuildSlaveFinishedStatsDurationMs() publishBuildSlaveFinishedStatsDurationMs} to publishBuildSlaveFinishedStatsDurationMs.
+     * @param publishBuildSlaveFinishedStatsDurationMs The value for publishBuildSlaveFinishedStatsDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPublishBuildSlaveFinishedStatsDurationMs(long publishBuildSlaveFinishedStatsDurationMs) {
+      this.publishBuildSlaveFinishedStatsDurationMs = publishBuildSlaveFinishedStatsDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#publishBuildSlaveFinishedStatsDurationMs() publishBuildSlaveFinishedStatsDurationMs} to publishBuildSlaveFinishedStatsDurationMs.
+     * @param publishBuildSlaveFinishedStatsDurationMs The value for publishBuildSlaveFinishedStatsDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPublishBuildSlaveFinishedStatsDurationMs(Optional<Long> publishBuildSlaveFinishedStatsDurationMs) {
+      this.publishBuildSlaveFinishedStatsDurationMs = publishBuildSlaveFinishedStatsDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postBuildAnalysisDurationMs() postBuildAnalysisDurationMs} to postBuildAnalysisDurationMs.
+     * @param postBuildAnalysisDurationMs The value for postBuildAnalysisDurationMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostBuildAnalysisDurationMs(long postBuildAnalysisDurationMs) {
+      this.postBuildAnalysisDurationMs = postBuildAnalysisDurationMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDistBuildClientStats#postBuildAnalysisDurationMs() postBuildAnalysisDurationMs} to postBuildAnalysisDurationMs.
+     * @param postBuildAnalysisDurationMs The value for postBuildAnalysisDurationMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPostBuildAnalysisDurationMs(Optional<Long> postBuildAnalysisDurationMs) {
+      this.postBuildAnalysisDurationMs = postBuildAnalysisDurationMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildClientStats DistBuildClientStats}.
+     * @return An immutable instance of DistBuildClientStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildClientStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildClientStats(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STAMPEDE_ID) != 0) attributes.add("stampedeId");
+      if ((initBits & INIT_BIT_BUCK_CLIENT_ERROR) != 0) attributes.add("buckClientError");
+      if ((initBits & INIT_BIT_USER_OR_INFERRED_BUILD_LABEL) != 0) attributes.add("userOrInferredBuildLabel");
+      if ((initBits & INIT_BIT_MINION_TYPE) != 0) attributes.add("minionType");
+      if ((initBits & INIT_BIT_PERFORMED_LOCAL_BUILD) != 0) attributes.add("performedLocalBuild");
+      if ((initBits & INIT_BIT_PERFORMED_RACING_BUILD) != 0) attributes.add("performedRacingBuild");
+      return "Cannot build DistBuildClientStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.facebook.buck.distributed;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Pair containing name and type of a rule key. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildPostBuildAnalysis.AbstractRuleKeyNameAndType"})
+@Immutable
+@CheckReturnValue
+public final class RuleKeyNameAndType
+    extends DistBuildPostBuildAnalysis.AbstractRuleKeyNameAndType {
+  private final String ruleName;
+  private final String ruleType;
+
+  private RuleKeyNameAndType(RuleKeyNameAndType.Builder builder) {
+    this.ruleName = builder.ruleName;
+    this.ruleType = builder.ruleType;
+  }
+
+  /**
+   * @return The value of the {@code ruleName} attribute
+   */
+  @Override
+  public String getRuleName() {
+    return ruleName;
+  }
+
+  /**
+   * @return The value of the {@code ruleType} attribute
+   */
+  @Override
+  public String getRuleType() {
+    return ruleType;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyNameAndType} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyNameAndType
+        && equalTo((RuleKeyNameAndType) another);
+  }
+
+  private boolean equalTo(RuleKeyNameAndType another) {
+    return ruleName.equals(another.ruleName)
+        && ruleType.equals(another.ruleType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleName}, {@code ruleType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleName.hashCode();
+    h += (h << 5) + ruleType.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyNameAndType} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyNameAndType")
+        .omitNullValues()
+        .add("ruleName", ruleName)
+        .add("ruleType", ruleType)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link RuleKeyNameAndType RuleKeyNameAndType}.
+   * @return A new RuleKeyNameAndType builder
+   */
+  public static RuleKeyNameAndType.Builder builder() {
+    return new RuleKeyNameAndType.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleKeyNameAndType RuleKeyNameAndType}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RULE_NAME = 0x1L;
+    private static final long INIT_BIT_RULE_TYPE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String ruleName;
+    private @Nullable String ruleType;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleKeyNameAndType} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleKeyNameAndType instance) {
+      return from((DistBuildPostBuildAnalysis.AbstractRuleKeyNameAndType) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleKeyNameAndType} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(DistBuildPostBuildAnalysis.AbstractRuleKeyNameAndType instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRuleName(instance.getRuleName());
+      setRuleType(instance.getRuleType());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractRuleKeyNameAndType#getRuleName() ruleName} attribute.
+     * @param ruleName The value for ruleName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleName(String ruleName) {
+      this.ruleName = Objects.requireNonNull(ruleName, "ruleName");
+      initBits &= ~INIT_BIT_RULE_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DistBuildPostBuildAnalysis.AbstractRuleKeyNameAndType#getRuleType() ruleType} attribute.
+     * @param ruleType The value for ruleType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleType(String ruleType) {
+      this.ruleType = Objects.requireNonNull(ruleType, "ruleType");
+      initBits &= ~INIT_BIT_RULE_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link RuleKeyNameAndType RuleKeyNameAndType}.
+     * @return An immutable instance of RuleKeyNameAndType
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleKeyNameAndType build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RuleKeyNameAndType(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RULE_NAME) != 0) attributes.add("ruleName");
+      if ((initBits & INIT_BIT_RULE_TYPE) != 0) attributes.add("ruleType");
+      return "Cannot build RuleKeyNameAndType, some of required attributes are not set " + attributes;
+    }
+  }
+}
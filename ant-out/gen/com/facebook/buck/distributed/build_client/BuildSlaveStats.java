@@ -0,0 +1,236 @@
+package com.facebook.buck.distributed.build_client;
+
+import com.facebook.buck.distributed.thrift.BuildSlaveFinishedStats;
+import com.facebook.buck.distributed.thrift.BuildSlaveRunId;
+import com.facebook.buck.distributed.thrift.StampedeId;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Contains stats of all BuildSlaves that took part in a distributed build. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildSlaveStats"})
+@Immutable
+@CheckReturnValue
+public final class BuildSlaveStats extends AbstractBuildSlaveStats {
+  private final StampedeId stampedeId;
+  private final ImmutableMap<BuildSlaveRunId, Optional<BuildSlaveFinishedStats>> buildSlaveStats;
+
+  private BuildSlaveStats(StampedeId stampedeId) {
+    this.stampedeId = Objects.requireNonNull(stampedeId, "stampedeId");
+    this.buildSlaveStats = ImmutableMap.of();
+  }
+
+  private BuildSlaveStats(BuildSlaveStats.Builder builder) {
+    this.stampedeId = builder.stampedeId;
+    this.buildSlaveStats = builder.buildSlaveStats.build();
+  }
+
+  /**
+   * @return The value of the {@code stampedeId} attribute
+   */
+  @Override
+  public StampedeId getStampedeId() {
+    return stampedeId;
+  }
+
+  /**
+   * @return The value of the {@code buildSlaveStats} attribute
+   */
+  @Override
+  public ImmutableMap<BuildSlaveRunId, Optional<BuildSlaveFinishedStats>> getBuildSlaveStats() {
+    return buildSlaveStats;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildSlaveStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildSlaveStats
+        && equalTo((BuildSlaveStats) another);
+  }
+
+  private boolean equalTo(BuildSlaveStats another) {
+    return stampedeId.equals(another.stampedeId)
+        && buildSlaveStats.equals(another.buildSlaveStats);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code stampedeId}, {@code buildSlaveStats}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + stampedeId.hashCode();
+    h += (h << 5) + buildSlaveStats.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildSlaveStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildSlaveStats")
+        .omitNullValues()
+        .add("stampedeId", stampedeId)
+        .add("buildSlaveStats", buildSlaveStats)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildSlaveStats} instance.
+   * @param stampedeId The value for the {@code stampedeId} attribute
+   * @return An immutable BuildSlaveStats instance
+   */
+  public static BuildSlaveStats of(StampedeId stampedeId) {
+    return new BuildSlaveStats(stampedeId);
+  }
+
+  /**
+   * Creates a builder for {@link BuildSlaveStats BuildSlaveStats}.
+   * @return A new BuildSlaveStats builder
+   */
+  public static BuildSlaveStats.Builder builder() {
+    return new BuildSlaveStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildSlaveStats BuildSlaveStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STAMPEDE_ID = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable StampedeId stampedeId;
+    private ImmutableMap.Builder<BuildSlaveRunId, Optional<BuildSlaveFinishedStats>> buildSlaveStats = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildSlaveStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildSlaveStats instance) {
+      return from((AbstractBuildSlaveStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildSlaveStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildSlaveStats instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStampedeId(instance.getStampedeId());
+      putAllBuildSlaveStats(instance.getBuildSlaveStats());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildSlaveStats#getStampedeId() stampedeId} attribute.
+     * @param stampedeId The value for stampedeId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStampedeId(StampedeId stampedeId) {
+      this.stampedeId = Objects.requireNonNull(stampedeId, "stampedeId");
+      initBits &= ~INIT_BIT_STAMPEDE_ID;
+      return this;
+    }
+
+
+    /**
+     * Put one entry to the {@link AbstractBuildSlaveStats#getBuildSlaveStats() buildSlaveStats} map.
+     * @param key The key in the buildSlaveStats map
+     * @param value The associated value in the buildSlaveStats map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putBuildSlaveStats(BuildSlaveRunId key, Optional<BuildSlaveFinishedStats> value) {
+      this.buildSlaveStats.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractBuildSlaveStats#getBuildSlaveStats() buildSlaveStats} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putBuildSlaveStats(Map.Entry<? extends BuildSlaveRunId, ? extends Optional<BuildSlaveFinishedStats>> entry) {
+      this.buildSlaveStats.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractBuildSlaveStats#getBuildSlaveStats() buildSlaveStats} map. Nulls are not permitted
+     * @param buildSlaveStats The entries that will be added to the buildSlaveStats map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildSlaveStats(Map<? extends BuildSlaveRunId, ? extends Optional<BuildSlaveFinishedStats>> buildSlaveStats) {
+      this.buildSlaveStats = ImmutableMap.builder();
+      return putAllBuildSlaveStats(buildSlaveStats);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractBuildSlaveStats#getBuildSlaveStats() buildSlaveStats} map. Nulls are not permitted
+     * @param buildSlaveStats The entries that will be added to the buildSlaveStats map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllBuildSlaveStats(Map<? extends BuildSlaveRunId, ? extends Optional<BuildSlaveFinishedStats>> buildSlaveStats) {
+      this.buildSlaveStats.putAll(buildSlaveStats);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildSlaveStats BuildSlaveStats}.
+     * @return An immutable instance of BuildSlaveStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildSlaveStats build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildSlaveStats(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STAMPEDE_ID) != 0) attributes.add("stampedeId");
+      return "Cannot build BuildSlaveStats, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,436 @@
+package com.facebook.buck.distributed.build_client;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rulekey.calculator.ParallelRuleKeyCalculator;
+import com.facebook.buck.distributed.DistLocalBuildMode;
+import com.facebook.buck.distributed.thrift.BuildMode;
+import com.facebook.buck.distributed.thrift.MinionRequirements;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.log.InvocationInfo;
+import com.facebook.buck.util.cache.FileHashCache;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Encapsulates arguments needed to invoke DistBuildController 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDistBuildControllerInvocationArgs"})
+@Immutable
+@CheckReturnValue
+public final class DistBuildControllerInvocationArgs
+    extends AbstractDistBuildControllerInvocationArgs {
+  private final ListeningExecutorService executorService;
+  private final ProjectFilesystem projectFilesystem;
+  private final FileHashCache fileHashCache;
+  private final InvocationInfo invocationInfo;
+  private final BuildMode buildMode;
+  private final DistLocalBuildMode distLocalBuildMode;
+  private final MinionRequirements minionRequirements;
+  private final String repository;
+  private final String tenantId;
+  private final ListenableFuture<ParallelRuleKeyCalculator<RuleKey>> ruleKeyCalculatorFuture;
+
+  private DistBuildControllerInvocationArgs(DistBuildControllerInvocationArgs.Builder builder) {
+    this.executorService = builder.executorService;
+    this.projectFilesystem = builder.projectFilesystem;
+    this.fileHashCache = builder.fileHashCache;
+    this.invocationInfo = builder.invocationInfo;
+    this.buildMode = builder.buildMode;
+    this.distLocalBuildMode = builder.distLocalBuildMode;
+    this.minionRequirements = builder.minionRequirements;
+    this.repository = builder.repository;
+    this.tenantId = builder.tenantId;
+    this.ruleKeyCalculatorFuture = builder.ruleKeyCalculatorFuture;
+  }
+
+  /**
+   * @return The value of the {@code executorService} attribute
+   */
+  @Override
+  public ListeningExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code fileHashCache} attribute
+   */
+  @Override
+  public FileHashCache getFileHashCache() {
+    return fileHashCache;
+  }
+
+  /**
+   * @return The value of the {@code invocationInfo} attribute
+   */
+  @Override
+  public InvocationInfo getInvocationInfo() {
+    return invocationInfo;
+  }
+
+  /**
+   * @return The value of the {@code buildMode} attribute
+   */
+  @Override
+  public BuildMode getBuildMode() {
+    return buildMode;
+  }
+
+  /**
+   * @return The value of the {@code distLocalBuildMode} attribute
+   */
+  @Override
+  public DistLocalBuildMode getDistLocalBuildMode() {
+    return distLocalBuildMode;
+  }
+
+  /**
+   * @return The value of the {@code minionRequirements} attribute
+   */
+  @Override
+  public MinionRequirements getMinionRequirements() {
+    return minionRequirements;
+  }
+
+  /**
+   * @return The value of the {@code repository} attribute
+   */
+  @Override
+  public String getRepository() {
+    return repository;
+  }
+
+  /**
+   * @return The value of the {@code tenantId} attribute
+   */
+  @Override
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyCalculatorFuture} attribute
+   */
+  @Override
+  public ListenableFuture<ParallelRuleKeyCalculator<RuleKey>> getRuleKeyCalculatorFuture() {
+    return ruleKeyCalculatorFuture;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildControllerInvocationArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildControllerInvocationArgs
+        && equalTo((DistBuildControllerInvocationArgs) another);
+  }
+
+  private boolean equalTo(DistBuildControllerInvocationArgs another) {
+    return executorService.equals(another.executorService)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && fileHashCache.equals(another.fileHashCache)
+        && invocationInfo.equals(another.invocationInfo)
+        && buildMode.equals(another.buildMode)
+        && distLocalBuildMode.equals(another.distLocalBuildMode)
+        && minionRequirements.equals(another.minionRequirements)
+        && repository.equals(another.repository)
+        && tenantId.equals(another.tenantId)
+        && ruleKeyCalculatorFuture.equals(another.ruleKeyCalculatorFuture);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executorService}, {@code projectFilesystem}, {@code fileHashCache}, {@code invocationInfo}, {@code buildMode}, {@code distLocalBuildMode}, {@code minionRequirements}, {@code repository}, {@code tenantId}, {@code ruleKeyCalculatorFuture}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + executorService.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + fileHashCache.hashCode();
+    h += (h << 5) + invocationInfo.hashCode();
+    h += (h << 5) + buildMode.hashCode();
+    h += (h << 5) + distLocalBuildMode.hashCode();
+    h += (h << 5) + minionRequirements.hashCode();
+    h += (h << 5) + repository.hashCode();
+    h += (h << 5) + tenantId.hashCode();
+    h += (h << 5) + ruleKeyCalculatorFuture.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildControllerInvocationArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildControllerInvocationArgs")
+        .omitNullValues()
+        .add("executorService", executorService)
+        .add("projectFilesystem", projectFilesystem)
+        .add("fileHashCache", fileHashCache)
+        .add("invocationInfo", invocationInfo)
+        .add("buildMode", buildMode)
+        .add("distLocalBuildMode", distLocalBuildMode)
+        .add("minionRequirements", minionRequirements)
+        .add("repository", repository)
+        .add("tenantId", tenantId)
+        .add("ruleKeyCalculatorFuture", ruleKeyCalculatorFuture)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildControllerInvocationArgs DistBuildControllerInvocationArgs}.
+   * @return A new DistBuildControllerInvocationArgs builder
+   */
+  public static DistBuildControllerInvocationArgs.Builder builder() {
+    return new DistBuildControllerInvocationArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildControllerInvocationArgs DistBuildControllerInvocationArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXECUTOR_SERVICE = 0x1L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x2L;
+    private static final long INIT_BIT_FILE_HASH_CACHE = 0x4L;
+    private static final long INIT_BIT_INVOCATION_INFO = 0x8L;
+    private static final long INIT_BIT_BUILD_MODE = 0x10L;
+    private static final long INIT_BIT_DIST_LOCAL_BUILD_MODE = 0x20L;
+    private static final long INIT_BIT_MINION_REQUIREMENTS = 0x40L;
+    private static final long INIT_BIT_REPOSITORY = 0x80L;
+    private static final long INIT_BIT_TENANT_ID = 0x100L;
+    private static final long INIT_BIT_RULE_KEY_CALCULATOR_FUTURE = 0x200L;
+    private long initBits = 0x3ffL;
+
+    private @Nullable ListeningExecutorService executorService;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable FileHashCache fileHashCache;
+    private @Nullable InvocationInfo invocationInfo;
+    private @Nullable BuildMode buildMode;
+    private @Nullable DistLocalBuildMode distLocalBuildMode;
+    private @Nullable MinionRequirements minionRequirements;
+    private @Nullable String repository;
+    private @Nullable String tenantId;
+    private @Nullable ListenableFuture<ParallelRuleKeyCalculator<RuleKey>> ruleKeyCalculatorFuture;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildControllerInvocationArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildControllerInvocationArgs instance) {
+      return from((AbstractDistBuildControllerInvocationArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildControllerInvocationArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDistBuildControllerInvocationArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setExecutorService(instance.getExecutorService());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setFileHashCache(instance.getFileHashCache());
+      setInvocationInfo(instance.getInvocationInfo());
+      setBuildMode(instance.getBuildMode());
+      setDistLocalBuildMode(instance.getDistLocalBuildMode());
+      setMinionRequirements(instance.getMinionRequirements());
+      setRepository(instance.getRepository());
+      setTenantId(instance.getTenantId());
+      setRuleKeyCalculatorFuture(instance.getRuleKeyCalculatorFuture());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getExecutorService() executorService} attribute.
+     * @param executorService The value for executorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutorService(ListeningExecutorService executorService) {
+      this.executorService = Objects.requireNonNull(executorService, "executorService");
+      initBits &= ~INIT_BIT_EXECUTOR_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getFileHashCache() fileHashCache} attribute.
+     * @param fileHashCache The value for fileHashCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFileHashCache(FileHashCache fileHashCache) {
+      this.fileHashCache = Objects.requireNonNull(fileHashCache, "fileHashCache");
+      initBits &= ~INIT_BIT_FILE_HASH_CACHE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getInvocationInfo() invocationInfo} attribute.
+     * @param invocationInfo The value for invocationInfo 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInvocationInfo(InvocationInfo invocationInfo) {
+      this.invocationInfo = Objects.requireNonNull(invocationInfo, "invocationInfo");
+      initBits &= ~INIT_BIT_INVOCATION_INFO;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getBuildMode() buildMode} attribute.
+     * @param buildMode The value for buildMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildMode(BuildMode buildMode) {
+      this.buildMode = Objects.requireNonNull(buildMode, "buildMode");
+      initBits &= ~INIT_BIT_BUILD_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getDistLocalBuildMode() distLocalBuildMode} attribute.
+     * @param distLocalBuildMode The value for distLocalBuildMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDistLocalBuildMode(DistLocalBuildMode distLocalBuildMode) {
+      this.distLocalBuildMode = Objects.requireNonNull(distLocalBuildMode, "distLocalBuildMode");
+      initBits &= ~INIT_BIT_DIST_LOCAL_BUILD_MODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getMinionRequirements() minionRequirements} attribute.
+     * @param minionRequirements The value for minionRequirements 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinionRequirements(MinionRequirements minionRequirements) {
+      this.minionRequirements = Objects.requireNonNull(minionRequirements, "minionRequirements");
+      initBits &= ~INIT_BIT_MINION_REQUIREMENTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getRepository() repository} attribute.
+     * @param repository The value for repository 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRepository(String repository) {
+      this.repository = Objects.requireNonNull(repository, "repository");
+      initBits &= ~INIT_BIT_REPOSITORY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getTenantId() tenantId} attribute.
+     * @param tenantId The value for tenantId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTenantId(String tenantId) {
+      this.tenantId = Objects.requireNonNull(tenantId, "tenantId");
+      initBits &= ~INIT_BIT_TENANT_ID;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDistBuildControllerInvocationArgs#getRuleKeyCalculatorFuture() ruleKeyCalculatorFuture} attribute.
+     * @param ruleKeyCalculatorFuture The value for ruleKeyCalculatorFuture 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyCalculatorFuture(ListenableFuture<ParallelRuleKeyCalculator<RuleKey>> ruleKeyCalculatorFuture) {
+      this.ruleKeyCalculatorFuture = Objects.requireNonNull(ruleKeyCalculatorFuture, "ruleKeyCalculatorFuture");
+      initBits &= ~INIT_BIT_RULE_KEY_CALCULATOR_FUTURE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DistBuildControllerInvocationArgs DistBuildControllerInvocationArgs}.
+     * @return An immutable instance of DistBuildControllerInvocationArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildControllerInvocationArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildControllerInvocationArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_EXECUTOR_SERVICE) != 0) attributes.add("executorService");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_FILE_HASH_CACHE) != 0) attributes.add("fileHashCache");
+      if ((initBits & INIT_BIT_INVOCATION_INFO) != 0) attributes.add("invocationInfo");
+      if ((initBits & INIT_BIT_BUILD_MODE) != 0) attributes.add("buildMode");
+      if ((initBits & INIT_BIT_DIST_LOCAL_BUILD_MODE) != 0) attributes.add("distLocalBuildMode");
+      if ((initBits & INIT_BIT_MINION_REQUIREMENTS) != 0) attributes.add("minionRequirements");
+      if ((initBits & INIT_BIT_REPOSITORY) != 0) attributes.add("repository");
+      if ((initBits & INIT_BIT_TENANT_ID) != 0) attributes.add("tenantId");
+      if ((initBits & INIT_BIT_RULE_KEY_CALCULATOR_FUTURE) != 0) attributes.add("ruleKeyCalculatorFuture");
+      return "Cannot build DistBuildControllerInvocationArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
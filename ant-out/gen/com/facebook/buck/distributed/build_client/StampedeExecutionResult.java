@@ -0,0 +1,292 @@
+package com.facebook.buck.distributed.build_client;
+
+import com.facebook.buck.distributed.DistributedExitCode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Result of a distributed build execution. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractStampedeExecutionResult"})
+@Immutable
+@CheckReturnValue
+public final class StampedeExecutionResult
+    extends AbstractStampedeExecutionResult {
+  private final DistributedExitCode exitCode;
+  private final @Nullable Throwable exception;
+  private final @Nullable String errorStage;
+  private final boolean handleGracefully;
+
+  private StampedeExecutionResult(DistributedExitCode exitCode) {
+    this.exitCode = Objects.requireNonNull(exitCode, "exitCode");
+    this.exception = null;
+    this.errorStage = null;
+    this.handleGracefully = super.getHandleGracefully();
+  }
+
+  private StampedeExecutionResult(StampedeExecutionResult.Builder builder) {
+    this.exitCode = builder.exitCode;
+    this.exception = builder.exception;
+    this.errorStage = builder.errorStage;
+    this.handleGracefully = builder.handleGracefullyIsSet()
+        ? builder.handleGracefully
+        : super.getHandleGracefully();
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public DistributedExitCode getExitCode() {
+    return exitCode;
+  }
+
+  /**
+   * @return The value of the {@code exception} attribute
+   */
+  @Override
+  public Optional<Throwable> getException() {
+    return Optional.ofNullable(exception);
+  }
+
+  /**
+   * @return The value of the {@code errorStage} attribute
+   */
+  @Override
+  public Optional<String> getErrorStage() {
+    return Optional.ofNullable(errorStage);
+  }
+
+  /**
+   * @return The value of the {@code handleGracefully} attribute
+   */
+  @Override
+  public boolean getHandleGracefully() {
+    return handleGracefully;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StampedeExecutionResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StampedeExecutionResult
+        && equalTo((StampedeExecutionResult) another);
+  }
+
+  private boolean equalTo(StampedeExecutionResult another) {
+    return exitCode.equals(another.exitCode)
+        && Objects.equals(exception, another.exception)
+        && Objects.equals(errorStage, another.errorStage)
+        && handleGracefully == another.handleGracefully;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code exitCode}, {@code exception}, {@code errorStage}, {@code handleGracefully}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + exitCode.hashCode();
+    h += (h << 5) + Objects.hashCode(exception);
+    h += (h << 5) + Objects.hashCode(errorStage);
+    h += (h << 5) + Booleans.hashCode(handleGracefully);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StampedeExecutionResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StampedeExecutionResult")
+        .omitNullValues()
+        .add("exitCode", exitCode)
+        .add("exception", exception)
+        .add("errorStage", errorStage)
+        .add("handleGracefully", handleGracefully)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StampedeExecutionResult} instance.
+   * @param exitCode The value for the {@code exitCode} attribute
+   * @return An immutable StampedeExecutionResult instance
+   */
+  public static StampedeExecutionResult of(DistributedExitCode exitCode) {
+    return new StampedeExecutionResult(exitCode);
+  }
+
+  /**
+   * Creates a builder for {@link StampedeExecutionResult StampedeExecutionResult}.
+   * @return A new StampedeExecutionResult builder
+   */
+  public static StampedeExecutionResult.Builder builder() {
+    return new StampedeExecutionResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link StampedeExecutionResult StampedeExecutionResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_EXIT_CODE = 0x1L;
+    private static final long OPT_BIT_HANDLE_GRACEFULLY = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable DistributedExitCode exitCode;
+    private @Nullable Throwable exception;
+    private @Nullable String errorStage;
+    private boolean handleGracefully;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code StampedeExecutionResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(StampedeExecutionResult instance) {
+      return from((AbstractStampedeExecutionResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractStampedeExecutionResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractStampedeExecutionResult instance) {
+      Objects.requireNonNull(instance, "instance");
+      setExitCode(instance.getExitCode());
+      Optional<Throwable> exceptionOptional = instance.getException();
+      if (exceptionOptional.isPresent()) {
+        setException(exceptionOptional);
+      }
+      Optional<String> errorStageOptional = instance.getErrorStage();
+      if (errorStageOptional.isPresent()) {
+        setErrorStage(errorStageOptional);
+      }
+      setHandleGracefully(instance.getHandleGracefully());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractStampedeExecutionResult#getExitCode() exitCode} attribute.
+     * @param exitCode The value for exitCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExitCode(DistributedExitCode exitCode) {
+      this.exitCode = Objects.requireNonNull(exitCode, "exitCode");
+      initBits &= ~INIT_BIT_EXIT_CODE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractStampedeExecutionResult#getException() exception} to exception.
+     * @param exception The value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setException(Throwable exception) {
+      this.exception = Objects.requireNonNull(exception, "exception");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractStampedeExecutionResult#getException() exception} to exception.
+     * @param exception The value for exception
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setException(Optional<? extends Throwable> exception) {
+      this.exception = exception.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractStampedeExecutionResult#getErrorStage() errorStage} to errorStage.
+     * @param errorStage The value for errorStage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorStage(String errorStage) {
+      this.errorStage = Objects.requireNonNull(errorStage, "errorStage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractStampedeExecutionResult#getErrorStage() errorStage} to errorStage.
+     * @param errorStage The value for errorStage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorStage(Optional<String> errorStage) {
+      this.errorStage = errorStage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractStampedeExecutionResult#getHandleGracefully() handleGracefully} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractStampedeExecutionResult#getHandleGracefully() handleGracefully}.</em>
+     * @param handleGracefully The value for handleGracefully 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHandleGracefully(boolean handleGracefully) {
+      this.handleGracefully = handleGracefully;
+      optBits |= OPT_BIT_HANDLE_GRACEFULLY;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link StampedeExecutionResult StampedeExecutionResult}.
+     * @return An immutable instance of StampedeExecutionResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public StampedeExecutionResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new StampedeExecutionResult(this);
+    }
+
+    private boolean handleGracefullyIsSet() {
+      return (optBits & OPT_BIT_HANDLE_GRACEFULLY) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_EXIT_CODE) != 0) attributes.add("exitCode");
+      return "Cannot build StampedeExecutionResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
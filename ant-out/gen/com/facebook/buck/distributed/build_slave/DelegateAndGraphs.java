@@ -0,0 +1,219 @@
+package com.facebook.buck.distributed.build_slave;
+
+import com.facebook.buck.core.build.engine.delegate.CachingBuildEngineDelegate;
+import com.facebook.buck.core.model.actiongraph.ActionGraphAndBuilder;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Container class for the build engine delegate and both graphs. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDelegateAndGraphs"})
+@Immutable
+@CheckReturnValue
+public final class DelegateAndGraphs
+    extends AbstractDelegateAndGraphs {
+  private final CachingBuildEngineDelegate cachingBuildEngineDelegate;
+  private final TargetGraph targetGraph;
+  private final ActionGraphAndBuilder actionGraphAndBuilder;
+
+  private DelegateAndGraphs(DelegateAndGraphs.Builder builder) {
+    this.cachingBuildEngineDelegate = builder.cachingBuildEngineDelegate;
+    this.targetGraph = builder.targetGraph;
+    this.actionGraphAndBuilder = builder.actionGraphAndBuilder;
+  }
+
+  /**
+   * @return The value of the {@code cachingBuildEngineDelegate} attribute
+   */
+  @Override
+  public CachingBuildEngineDelegate getCachingBuildEngineDelegate() {
+    return cachingBuildEngineDelegate;
+  }
+
+  /**
+   * @return The value of the {@code targetGraph} attribute
+   */
+  @Override
+  public TargetGraph getTargetGraph() {
+    return targetGraph;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphAndBuilder} attribute
+   */
+  @Override
+  public ActionGraphAndBuilder getActionGraphAndBuilder() {
+    return actionGraphAndBuilder;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DelegateAndGraphs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DelegateAndGraphs
+        && equalTo((DelegateAndGraphs) another);
+  }
+
+  private boolean equalTo(DelegateAndGraphs another) {
+    return cachingBuildEngineDelegate.equals(another.cachingBuildEngineDelegate)
+        && targetGraph.equals(another.targetGraph)
+        && actionGraphAndBuilder.equals(another.actionGraphAndBuilder);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cachingBuildEngineDelegate}, {@code targetGraph}, {@code actionGraphAndBuilder}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cachingBuildEngineDelegate.hashCode();
+    h += (h << 5) + targetGraph.hashCode();
+    h += (h << 5) + actionGraphAndBuilder.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DelegateAndGraphs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DelegateAndGraphs")
+        .omitNullValues()
+        .add("cachingBuildEngineDelegate", cachingBuildEngineDelegate)
+        .add("targetGraph", targetGraph)
+        .add("actionGraphAndBuilder", actionGraphAndBuilder)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link DelegateAndGraphs DelegateAndGraphs}.
+   * @return A new DelegateAndGraphs builder
+   */
+  public static DelegateAndGraphs.Builder builder() {
+    return new DelegateAndGraphs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DelegateAndGraphs DelegateAndGraphs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHING_BUILD_ENGINE_DELEGATE = 0x1L;
+    private static final long INIT_BIT_TARGET_GRAPH = 0x2L;
+    private static final long INIT_BIT_ACTION_GRAPH_AND_BUILDER = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable CachingBuildEngineDelegate cachingBuildEngineDelegate;
+    private @Nullable TargetGraph targetGraph;
+    private @Nullable ActionGraphAndBuilder actionGraphAndBuilder;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DelegateAndGraphs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DelegateAndGraphs instance) {
+      return from((AbstractDelegateAndGraphs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDelegateAndGraphs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDelegateAndGraphs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setCachingBuildEngineDelegate(instance.getCachingBuildEngineDelegate());
+      setTargetGraph(instance.getTargetGraph());
+      setActionGraphAndBuilder(instance.getActionGraphAndBuilder());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDelegateAndGraphs#getCachingBuildEngineDelegate() cachingBuildEngineDelegate} attribute.
+     * @param cachingBuildEngineDelegate The value for cachingBuildEngineDelegate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCachingBuildEngineDelegate(CachingBuildEngineDelegate cachingBuildEngineDelegate) {
+      this.cachingBuildEngineDelegate = Objects.requireNonNull(cachingBuildEngineDelegate, "cachingBuildEngineDelegate");
+      initBits &= ~INIT_BIT_CACHING_BUILD_ENGINE_DELEGATE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDelegateAndGraphs#getTargetGraph() targetGraph} attribute.
+     * @param targetGraph The value for targetGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetGraph(TargetGraph targetGraph) {
+      this.targetGraph = Objects.requireNonNull(targetGraph, "targetGraph");
+      initBits &= ~INIT_BIT_TARGET_GRAPH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDelegateAndGraphs#getActionGraphAndBuilder() actionGraphAndBuilder} attribute.
+     * @param actionGraphAndBuilder The value for actionGraphAndBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setActionGraphAndBuilder(ActionGraphAndBuilder actionGraphAndBuilder) {
+      this.actionGraphAndBuilder = Objects.requireNonNull(actionGraphAndBuilder, "actionGraphAndBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_AND_BUILDER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DelegateAndGraphs DelegateAndGraphs}.
+     * @return An immutable instance of DelegateAndGraphs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DelegateAndGraphs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DelegateAndGraphs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHING_BUILD_ENGINE_DELEGATE) != 0) attributes.add("cachingBuildEngineDelegate");
+      if ((initBits & INIT_BIT_TARGET_GRAPH) != 0) attributes.add("targetGraph");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_AND_BUILDER) != 0) attributes.add("actionGraphAndBuilder");
+      return "Cannot build DelegateAndGraphs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,594 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildLogEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildLogEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildLogEntry"})
+@Immutable
+@CheckReturnValue
+public final class BuildLogEntry extends AbstractBuildLogEntry {
+  private final Path relativePath;
+  private final @Nullable BuildId buildId;
+  private final @Nullable List<String> commandArgs;
+  private final @Nullable Integer exitCode;
+  private final @Nullable Integer buildTimeMs;
+  private final @Nullable Path ruleKeyLoggerLogFile;
+  private final @Nullable Path machineReadableLogFile;
+  private final @Nullable Path ruleKeyDiagKeysFile;
+  private final @Nullable Path ruleKeyDiagGraphFile;
+  private final @Nullable Path traceFile;
+  private final long size;
+  private final Date lastModifiedTime;
+
+  private BuildLogEntry(BuildLogEntry.Builder builder) {
+    this.relativePath = builder.relativePath;
+    this.buildId = builder.buildId;
+    this.commandArgs = builder.commandArgs;
+    this.exitCode = builder.exitCode;
+    this.buildTimeMs = builder.buildTimeMs;
+    this.ruleKeyLoggerLogFile = builder.ruleKeyLoggerLogFile;
+    this.machineReadableLogFile = builder.machineReadableLogFile;
+    this.ruleKeyDiagKeysFile = builder.ruleKeyDiagKeysFile;
+    this.ruleKeyDiagGraphFile = builder.ruleKeyDiagGraphFile;
+    this.traceFile = builder.traceFile;
+    this.size = builder.size;
+    this.lastModifiedTime = builder.lastModifiedTime;
+  }
+
+  /**
+   * @return The value of the {@code relativePath} attribute
+   */
+  @Override
+  public Path getRelativePath() {
+    return relativePath;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public Optional<BuildId> getBuildId() {
+    return Optional.ofNullable(buildId);
+  }
+
+  /**
+   * @return The value of the {@code commandArgs} attribute
+   */
+  @Override
+  public Optional<List<String>> getCommandArgs() {
+    return Optional.ofNullable(commandArgs);
+  }
+
+  /**
+   * @return The value of the {@code exitCode} attribute
+   */
+  @Override
+  public OptionalInt getExitCode() {
+    return exitCode != null
+        ? OptionalInt.of(exitCode)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code buildTimeMs} attribute
+   */
+  @Override
+  public OptionalInt getBuildTimeMs() {
+    return buildTimeMs != null
+        ? OptionalInt.of(buildTimeMs)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyLoggerLogFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyLoggerLogFile() {
+    return Optional.ofNullable(ruleKeyLoggerLogFile);
+  }
+
+  /**
+   * @return The value of the {@code machineReadableLogFile} attribute
+   */
+  @Override
+  public Optional<Path> getMachineReadableLogFile() {
+    return Optional.ofNullable(machineReadableLogFile);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagKeysFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyDiagKeysFile() {
+    return Optional.ofNullable(ruleKeyDiagKeysFile);
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagGraphFile} attribute
+   */
+  @Override
+  public Optional<Path> getRuleKeyDiagGraphFile() {
+    return Optional.ofNullable(ruleKeyDiagGraphFile);
+  }
+
+  /**
+   * @return The value of the {@code traceFile} attribute
+   */
+  @Override
+  public Optional<Path> getTraceFile() {
+    return Optional.ofNullable(traceFile);
+  }
+
+  /**
+   * @return The value of the {@code size} attribute
+   */
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * @return The value of the {@code lastModifiedTime} attribute
+   */
+  @Override
+  public Date getLastModifiedTime() {
+    return lastModifiedTime;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildLogEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildLogEntry
+        && equalTo((BuildLogEntry) another);
+  }
+
+  private boolean equalTo(BuildLogEntry another) {
+    return relativePath.equals(another.relativePath)
+        && Objects.equals(buildId, another.buildId)
+        && Objects.equals(commandArgs, another.commandArgs)
+        && Objects.equals(exitCode, another.exitCode)
+        && Objects.equals(buildTimeMs, another.buildTimeMs)
+        && Objects.equals(ruleKeyLoggerLogFile, another.ruleKeyLoggerLogFile)
+        && Objects.equals(machineReadableLogFile, another.machineReadableLogFile)
+        && Objects.equals(ruleKeyDiagKeysFile, another.ruleKeyDiagKeysFile)
+        && Objects.equals(ruleKeyDiagGraphFile, another.ruleKeyDiagGraphFile)
+        && Objects.equals(traceFile, another.traceFile)
+        && size == another.size
+        && lastModifiedTime.equals(another.lastModifiedTime);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code relativePath}, {@code buildId}, {@code commandArgs}, {@code exitCode}, {@code buildTimeMs}, {@code ruleKeyLoggerLogFile}, {@code machineReadableLogFile}, {@code ruleKeyDiagKeysFile}, {@code ruleKeyDiagGraphFile}, {@code traceFile}, {@code size}, {@code lastModifiedTime}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + relativePath.hashCode();
+    h += (h << 5) + Objects.hashCode(buildId);
+    h += (h << 5) + Objects.hashCode(commandArgs);
+    h += (h << 5) + Objects.hashCode(exitCode);
+    h += (h << 5) + Objects.hashCode(buildTimeMs);
+    h += (h << 5) + Objects.hashCode(ruleKeyLoggerLogFile);
+    h += (h << 5) + Objects.hashCode(machineReadableLogFile);
+    h += (h << 5) + Objects.hashCode(ruleKeyDiagKeysFile);
+    h += (h << 5) + Objects.hashCode(ruleKeyDiagGraphFile);
+    h += (h << 5) + Objects.hashCode(traceFile);
+    h += (h << 5) + Longs.hashCode(size);
+    h += (h << 5) + lastModifiedTime.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildLogEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildLogEntry")
+        .omitNullValues()
+        .add("relativePath", relativePath)
+        .add("buildId", buildId)
+        .add("commandArgs", commandArgs)
+        .add("exitCode", exitCode)
+        .add("buildTimeMs", buildTimeMs)
+        .add("ruleKeyLoggerLogFile", ruleKeyLoggerLogFile)
+        .add("machineReadableLogFile", machineReadableLogFile)
+        .add("ruleKeyDiagKeysFile", ruleKeyDiagKeysFile)
+        .add("ruleKeyDiagGraphFile", ruleKeyDiagGraphFile)
+        .add("traceFile", traceFile)
+        .add("size", size)
+        .add("lastModifiedTime", lastModifiedTime)
+        .toString();
+  }
+
+
+  private static BuildLogEntry validate(BuildLogEntry instance) {
+    instance.pathIsRelative();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link BuildLogEntry BuildLogEntry}.
+   * @return A new BuildLogEntry builder
+   */
+  public static BuildLogEntry.Builder builder() {
+    return new BuildLogEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildLogEntry BuildLogEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RELATIVE_PATH = 0x1L;
+    private static final long INIT_BIT_SIZE = 0x2L;
+    private static final long INIT_BIT_LAST_MODIFIED_TIME = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Path relativePath;
+    private @Nullable BuildId buildId;
+    private @Nullable List<String> commandArgs;
+    private @Nullable Integer exitCode;
+    private @Nullable Integer buildTimeMs;
+    private @Nullable Path ruleKeyLoggerLogFile;
+    private @Nullable Path machineReadableLogFile;
+    private @Nullable Path ruleKeyDiagKeysFile;
+    private @Nullable Path ruleKeyDiagGraphFile;
+    private @Nullable Path traceFile;
+    private long size;
+    private @Nullable Date lastModifiedTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildLogEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildLogEntry instance) {
+      return from((AbstractBuildLogEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildLogEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildLogEntry instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRelativePath(instance.getRelativePath());
+      Optional<BuildId> buildIdOptional = instance.getBuildId();
+      if (buildIdOptional.isPresent()) {
+        setBuildId(buildIdOptional);
+      }
+      Optional<List<String>> commandArgsOptional = instance.getCommandArgs();
+      if (commandArgsOptional.isPresent()) {
+        setCommandArgs(commandArgsOptional);
+      }
+      OptionalInt exitCodeOptional = instance.getExitCode();
+      if (exitCodeOptional.isPresent()) {
+        setExitCode(exitCodeOptional);
+      }
+      OptionalInt buildTimeMsOptional = instance.getBuildTimeMs();
+      if (buildTimeMsOptional.isPresent()) {
+        setBuildTimeMs(buildTimeMsOptional);
+      }
+      Optional<Path> ruleKeyLoggerLogFileOptional = instance.getRuleKeyLoggerLogFile();
+      if (ruleKeyLoggerLogFileOptional.isPresent()) {
+        setRuleKeyLoggerLogFile(ruleKeyLoggerLogFileOptional);
+      }
+      Optional<Path> machineReadableLogFileOptional = instance.getMachineReadableLogFile();
+      if (machineReadableLogFileOptional.isPresent()) {
+        setMachineReadableLogFile(machineReadableLogFileOptional);
+      }
+      Optional<Path> ruleKeyDiagKeysFileOptional = instance.getRuleKeyDiagKeysFile();
+      if (ruleKeyDiagKeysFileOptional.isPresent()) {
+        setRuleKeyDiagKeysFile(ruleKeyDiagKeysFileOptional);
+      }
+      Optional<Path> ruleKeyDiagGraphFileOptional = instance.getRuleKeyDiagGraphFile();
+      if (ruleKeyDiagGraphFileOptional.isPresent()) {
+        setRuleKeyDiagGraphFile(ruleKeyDiagGraphFileOptional);
+      }
+      Optional<Path> traceFileOptional = instance.getTraceFile();
+      if (traceFileOptional.isPresent()) {
+        setTraceFile(traceFileOptional);
+      }
+      setSize(instance.getSize());
+      setLastModifiedTime(instance.getLastModifiedTime());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildLogEntry#getRelativePath() relativePath} attribute.
+     * @param relativePath The value for relativePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRelativePath(Path relativePath) {
+      this.relativePath = Objects.requireNonNull(relativePath, "relativePath");
+      initBits &= ~INIT_BIT_RELATIVE_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Objects.requireNonNull(buildId, "buildId");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildId(Optional<? extends BuildId> buildId) {
+      this.buildId = buildId.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getCommandArgs() commandArgs} to commandArgs.
+     * @param commandArgs The value for commandArgs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCommandArgs(List<String> commandArgs) {
+      this.commandArgs = Objects.requireNonNull(commandArgs, "commandArgs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getCommandArgs() commandArgs} to commandArgs.
+     * @param commandArgs The value for commandArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCommandArgs(Optional<? extends List<String>> commandArgs) {
+      this.commandArgs = commandArgs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getExitCode() exitCode} to exitCode.
+     * @param exitCode The value for exitCode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExitCode(int exitCode) {
+      this.exitCode = exitCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getExitCode() exitCode} to exitCode.
+     * @param exitCode The value for exitCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExitCode(OptionalInt exitCode) {
+      this.exitCode = exitCode.isPresent() ? exitCode.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getBuildTimeMs() buildTimeMs} to buildTimeMs.
+     * @param buildTimeMs The value for buildTimeMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTimeMs(int buildTimeMs) {
+      this.buildTimeMs = buildTimeMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getBuildTimeMs() buildTimeMs} to buildTimeMs.
+     * @param buildTimeMs The value for buildTimeMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildTimeMs(OptionalInt buildTimeMs) {
+      this.buildTimeMs = buildTimeMs.isPresent() ? buildTimeMs.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyLoggerLogFile() ruleKeyLoggerLogFile} to ruleKeyLoggerLogFile.
+     * @param ruleKeyLoggerLogFile The value for ruleKeyLoggerLogFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyLoggerLogFile(Path ruleKeyLoggerLogFile) {
+      this.ruleKeyLoggerLogFile = Objects.requireNonNull(ruleKeyLoggerLogFile, "ruleKeyLoggerLogFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyLoggerLogFile() ruleKeyLoggerLogFile} to ruleKeyLoggerLogFile.
+     * @param ruleKeyLoggerLogFile The value for ruleKeyLoggerLogFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyLoggerLogFile(Optional<? extends Path> ruleKeyLoggerLogFile) {
+      this.ruleKeyLoggerLogFile = ruleKeyLoggerLogFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getMachineReadableLogFile() machineReadableLogFile} to machineReadableLogFile.
+     * @param machineReadableLogFile The value for machineReadableLogFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMachineReadableLogFile(Path machineReadableLogFile) {
+      this.machineReadableLogFile = Objects.requireNonNull(machineReadableLogFile, "machineReadableLogFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getMachineReadableLogFile() machineReadableLogFile} to machineReadableLogFile.
+     * @param machineReadableLogFile The value for machineReadableLogFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMachineReadableLogFile(Optional<? extends Path> machineReadableLogFile) {
+      this.machineReadableLogFile = machineReadableLogFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagKeysFile() ruleKeyDiagKeysFile} to ruleKeyDiagKeysFile.
+     * @param ruleKeyDiagKeysFile The value for ruleKeyDiagKeysFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyDiagKeysFile(Path ruleKeyDiagKeysFile) {
+      this.ruleKeyDiagKeysFile = Objects.requireNonNull(ruleKeyDiagKeysFile, "ruleKeyDiagKeysFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagKeysFile() ruleKeyDiagKeysFile} to ruleKeyDiagKeysFile.
+     * @param ruleKeyDiagKeysFile The value for ruleKeyDiagKeysFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyDiagKeysFile(Optional<? extends Path> ruleKeyDiagKeysFile) {
+      this.ruleKeyDiagKeysFile = ruleKeyDiagKeysFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagGraphFile() ruleKeyDiagGraphFile} to ruleKeyDiagGraphFile.
+     * @param ruleKeyDiagGraphFile The value for ruleKeyDiagGraphFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyDiagGraphFile(Path ruleKeyDiagGraphFile) {
+      this.ruleKeyDiagGraphFile = Objects.requireNonNull(ruleKeyDiagGraphFile, "ruleKeyDiagGraphFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getRuleKeyDiagGraphFile() ruleKeyDiagGraphFile} to ruleKeyDiagGraphFile.
+     * @param ruleKeyDiagGraphFile The value for ruleKeyDiagGraphFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRuleKeyDiagGraphFile(Optional<? extends Path> ruleKeyDiagGraphFile) {
+      this.ruleKeyDiagGraphFile = ruleKeyDiagGraphFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getTraceFile() traceFile} to traceFile.
+     * @param traceFile The value for traceFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTraceFile(Path traceFile) {
+      this.traceFile = Objects.requireNonNull(traceFile, "traceFile");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildLogEntry#getTraceFile() traceFile} to traceFile.
+     * @param traceFile The value for traceFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTraceFile(Optional<? extends Path> traceFile) {
+      this.traceFile = traceFile.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildLogEntry#getSize() size} attribute.
+     * @param size The value for size 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSize(long size) {
+      this.size = size;
+      initBits &= ~INIT_BIT_SIZE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuildLogEntry#getLastModifiedTime() lastModifiedTime} attribute.
+     * @param lastModifiedTime The value for lastModifiedTime 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLastModifiedTime(Date lastModifiedTime) {
+      this.lastModifiedTime = Objects.requireNonNull(lastModifiedTime, "lastModifiedTime");
+      initBits &= ~INIT_BIT_LAST_MODIFIED_TIME;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuildLogEntry BuildLogEntry}.
+     * @return An immutable instance of BuildLogEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildLogEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return BuildLogEntry.validate(new BuildLogEntry(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RELATIVE_PATH) != 0) attributes.add("relativePath");
+      if ((initBits & INIT_BIT_SIZE) != 0) attributes.add("size");
+      if ((initBits & INIT_BIT_LAST_MODIFIED_TIME) != 0) attributes.add("lastModifiedTime");
+      return "Cannot build BuildLogEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
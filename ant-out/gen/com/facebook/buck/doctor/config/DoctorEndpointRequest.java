@@ -0,0 +1,350 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.core.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorEndpointRequest}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DoctorEndpointRequest.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorEndpointRequest.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDoctorEndpointRequest"})
+@Immutable
+@CheckReturnValue
+public final class DoctorEndpointRequest extends AbstractDoctorEndpointRequest {
+  private final @Nullable BuildId buildId;
+  private final String logDirPath;
+  private final @Nullable String machineReadableLog;
+  private final @Nullable String endpointMessage;
+  private final @Nullable String reportUrl;
+
+  private DoctorEndpointRequest(
+      Optional<? extends BuildId> buildId,
+      String logDirPath,
+      Optional<String> machineReadableLog,
+      Optional<String> endpointMessage,
+      Optional<String> reportUrl) {
+    this.buildId = buildId.orElse(null);
+    this.logDirPath = Objects.requireNonNull(logDirPath, "logDirPath");
+    this.machineReadableLog = machineReadableLog.orElse(null);
+    this.endpointMessage = endpointMessage.orElse(null);
+    this.reportUrl = reportUrl.orElse(null);
+  }
+
+  private DoctorEndpointRequest(DoctorEndpointRequest.Builder builder) {
+    this.buildId = builder.buildId;
+    this.logDirPath = builder.logDirPath;
+    this.machineReadableLog = builder.machineReadableLog;
+    this.endpointMessage = builder.endpointMessage;
+    this.reportUrl = builder.reportUrl;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public Optional<BuildId> getBuildId() {
+    return Optional.ofNullable(buildId);
+  }
+
+  /**
+   *@return the directory where all logs are under. 
+   */
+  @Override
+  public String getLogDirPath() {
+    return logDirPath;
+  }
+
+  /**
+   * For more information how MachineReadableLog works check {@link
+   * com.facebook.buck.event.listener.MachineReadableLoggerListener}.
+   * @return the contents of the machine readable logs. Each line marks a different key to json.
+   */
+  @Override
+  public Optional<String> getMachineReadableLog() {
+    return Optional.ofNullable(machineReadableLog);
+  }
+
+  /**
+   *@return the contents of the message that endpoint returned. 
+   */
+  @Override
+  public Optional<String> getEndpointMessage() {
+    return Optional.ofNullable(endpointMessage);
+  }
+
+  /**
+   *@return if report command returned a redirect link this will be saved here. 
+   */
+  @Override
+  public Optional<String> getReportUrl() {
+    return Optional.ofNullable(reportUrl);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorEndpointRequest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorEndpointRequest
+        && equalTo((DoctorEndpointRequest) another);
+  }
+
+  private boolean equalTo(DoctorEndpointRequest another) {
+    return Objects.equals(buildId, another.buildId)
+        && logDirPath.equals(another.logDirPath)
+        && Objects.equals(machineReadableLog, another.machineReadableLog)
+        && Objects.equals(endpointMessage, another.endpointMessage)
+        && Objects.equals(reportUrl, another.reportUrl);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildId}, {@code logDirPath}, {@code machineReadableLog}, {@code endpointMessage}, {@code reportUrl}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(buildId);
+    h += (h << 5) + logDirPath.hashCode();
+    h += (h << 5) + Objects.hashCode(machineReadableLog);
+    h += (h << 5) + Objects.hashCode(endpointMessage);
+    h += (h << 5) + Objects.hashCode(reportUrl);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorEndpointRequest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorEndpointRequest")
+        .omitNullValues()
+        .add("buildId", buildId)
+        .add("logDirPath", logDirPath)
+        .add("machineReadableLog", machineReadableLog)
+        .add("endpointMessage", endpointMessage)
+        .add("reportUrl", reportUrl)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorEndpointRequest} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param logDirPath The value for the {@code logDirPath} attribute
+   * @param machineReadableLog The value for the {@code machineReadableLog} attribute
+   * @param endpointMessage The value for the {@code endpointMessage} attribute
+   * @param reportUrl The value for the {@code reportUrl} attribute
+   * @return An immutable DoctorEndpointRequest instance
+   */
+  public static DoctorEndpointRequest of(Optional<? extends BuildId> buildId, String logDirPath, Optional<String> machineReadableLog, Optional<String> endpointMessage, Optional<String> reportUrl) {
+    return new DoctorEndpointRequest(buildId, logDirPath, machineReadableLog, endpointMessage, reportUrl);
+  }
+
+  /**
+   * Creates a builder for {@link DoctorEndpointRequest DoctorEndpointRequest}.
+   * @return A new DoctorEndpointRequest builder
+   */
+  public static DoctorEndpointRequest.Builder builder() {
+    return new DoctorEndpointRequest.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DoctorEndpointRequest DoctorEndpointRequest}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LOG_DIR_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildId buildId;
+    private @Nullable String logDirPath;
+    private @Nullable String machineReadableLog;
+    private @Nullable String endpointMessage;
+    private @Nullable String reportUrl;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DoctorEndpointRequest} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DoctorEndpointRequest instance) {
+      return from((AbstractDoctorEndpointRequest) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDoctorEndpointRequest} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDoctorEndpointRequest instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<BuildId> buildIdOptional = instance.getBuildId();
+      if (buildIdOptional.isPresent()) {
+        setBuildId(buildIdOptional);
+      }
+      setLogDirPath(instance.getLogDirPath());
+      Optional<String> machineReadableLogOptional = instance.getMachineReadableLog();
+      if (machineReadableLogOptional.isPresent()) {
+        setMachineReadableLog(machineReadableLogOptional);
+      }
+      Optional<String> endpointMessageOptional = instance.getEndpointMessage();
+      if (endpointMessageOptional.isPresent()) {
+        setEndpointMessage(endpointMessageOptional);
+      }
+      Optional<String> reportUrlOptional = instance.getReportUrl();
+      if (reportUrlOptional.isPresent()) {
+        setReportUrl(reportUrlOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Objects.requireNonNull(buildId, "buildId");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildId(Optional<? extends BuildId> buildId) {
+      this.buildId = buildId.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorEndpointRequest#getLogDirPath() logDirPath} attribute.
+     * @param logDirPath The value for logDirPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogDirPath(String logDirPath) {
+      this.logDirPath = Objects.requireNonNull(logDirPath, "logDirPath");
+      initBits &= ~INIT_BIT_LOG_DIR_PATH;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getMachineReadableLog() machineReadableLog} to machineReadableLog.
+     * @param machineReadableLog The value for machineReadableLog
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMachineReadableLog(String machineReadableLog) {
+      this.machineReadableLog = Objects.requireNonNull(machineReadableLog, "machineReadableLog");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getMachineReadableLog() machineReadableLog} to machineReadableLog.
+     * @param machineReadableLog The value for machineReadableLog
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMachineReadableLog(Optional<String> machineReadableLog) {
+      this.machineReadableLog = machineReadableLog.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getEndpointMessage() endpointMessage} to endpointMessage.
+     * @param endpointMessage The value for endpointMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEndpointMessage(String endpointMessage) {
+      this.endpointMessage = Objects.requireNonNull(endpointMessage, "endpointMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getEndpointMessage() endpointMessage} to endpointMessage.
+     * @param endpointMessage The value for endpointMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEndpointMessage(Optional<String> endpointMessage) {
+      this.endpointMessage = endpointMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getReportUrl() reportUrl} to reportUrl.
+     * @param reportUrl The value for reportUrl
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportUrl(String reportUrl) {
+      this.reportUrl = Objects.requireNonNull(reportUrl, "reportUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getReportUrl() reportUrl} to reportUrl.
+     * @param reportUrl The value for reportUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setReportUrl(Optional<String> reportUrl) {
+      this.reportUrl = reportUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DoctorEndpointRequest DoctorEndpointRequest}.
+     * @return An immutable instance of DoctorEndpointRequest
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DoctorEndpointRequest build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DoctorEndpointRequest(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LOG_DIR_PATH) != 0) attributes.add("logDirPath");
+      return "Cannot build DoctorEndpointRequest, some of required attributes are not set " + attributes;
+    }
+  }
+}
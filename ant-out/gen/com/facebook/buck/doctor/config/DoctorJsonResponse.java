@@ -0,0 +1,384 @@
+package com.facebook.buck.doctor.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorJsonResponse}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DoctorJsonResponse.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorJsonResponse.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDoctorJsonResponse"})
+@Immutable
+@CheckReturnValue
+public final class DoctorJsonResponse extends AbstractDoctorJsonResponse {
+  private final boolean requestSuccessful;
+  private final @Nullable String errorMessage;
+  private final @Nullable String rageUrl;
+  private final @Nullable String message;
+
+  private DoctorJsonResponse(
+      boolean requestSuccessful,
+      Optional<String> errorMessage,
+      Optional<String> rageUrl,
+      Optional<String> message) {
+    this.requestSuccessful = requestSuccessful;
+    this.errorMessage = errorMessage.orElse(null);
+    this.rageUrl = rageUrl.orElse(null);
+    this.message = message.orElse(null);
+  }
+
+  private DoctorJsonResponse(DoctorJsonResponse.Builder builder) {
+    this.requestSuccessful = builder.requestSuccessful;
+    this.errorMessage = builder.errorMessage;
+    this.rageUrl = builder.rageUrl;
+    this.message = builder.message;
+  }
+
+  /**
+   *@return if the request and processing was successful from the server side. 
+   */
+  @JsonProperty
+  @Override
+  public boolean getRequestSuccessful() {
+    return requestSuccessful;
+  }
+
+  /**
+   *@return get the error message if it exists. 
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  /**
+   *@return if the server wants to redirect or point to a remote url it will be here. 
+   */
+  @JsonProperty
+  @JsonDeserialize
+  @Override
+  public Optional<String> getRageUrl() {
+    return Optional.ofNullable(rageUrl);
+  }
+
+  /**
+   *@return the message which is Json in the format/content that the server uses. 
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getMessage() {
+    return Optional.ofNullable(message);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorJsonResponse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorJsonResponse
+        && equalTo((DoctorJsonResponse) another);
+  }
+
+  private boolean equalTo(DoctorJsonResponse another) {
+    return requestSuccessful == another.requestSuccessful
+        && Objects.equals(errorMessage, another.errorMessage)
+        && Objects.equals(rageUrl, another.rageUrl)
+        && Objects.equals(message, another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code requestSuccessful}, {@code errorMessage}, {@code rageUrl}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(requestSuccessful);
+    h += (h << 5) + Objects.hashCode(errorMessage);
+    h += (h << 5) + Objects.hashCode(rageUrl);
+    h += (h << 5) + Objects.hashCode(message);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorJsonResponse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorJsonResponse")
+        .omitNullValues()
+        .add("requestSuccessful", requestSuccessful)
+        .add("errorMessage", errorMessage)
+        .add("rageUrl", rageUrl)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractDoctorJsonResponse {
+    boolean requestSuccessful;
+    boolean requestSuccessfulIsSet;
+    @Nullable Optional<String> errorMessage = Optional.empty();
+    @Nullable Optional<String> rageUrl = Optional.empty();
+    @Nullable Optional<String> message = Optional.empty();
+    @JsonProperty
+    public void setRequestSuccessful(boolean requestSuccessful) {
+      this.requestSuccessful = requestSuccessful;
+      this.requestSuccessfulIsSet = true;
+    }
+    @JsonProperty
+    public void setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage;
+    }
+    @JsonProperty
+    @JsonDeserialize
+    public void setRageUrl(Optional<String> rageUrl) {
+      this.rageUrl = rageUrl;
+    }
+    @JsonProperty
+    public void setMessage(Optional<String> message) {
+      this.message = message;
+    }
+    @Override
+    public boolean getRequestSuccessful() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getErrorMessage() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getRageUrl() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getMessage() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static DoctorJsonResponse fromJson(Json json) {
+    DoctorJsonResponse.Builder builder = DoctorJsonResponse.builder();
+    if (json.requestSuccessfulIsSet) {
+      builder.setRequestSuccessful(json.requestSuccessful);
+    }
+    if (json.errorMessage != null) {
+      builder.setErrorMessage(json.errorMessage);
+    }
+    if (json.rageUrl != null) {
+      builder.setRageUrl(json.rageUrl);
+    }
+    if (json.message != null) {
+      builder.setMessage(json.message);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorJsonResponse} instance.
+   * @param requestSuccessful The value for the {@code requestSuccessful} attribute
+   * @param errorMessage The value for the {@code errorMessage} attribute
+   * @param rageUrl The value for the {@code rageUrl} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable DoctorJsonResponse instance
+   */
+  public static DoctorJsonResponse of(boolean requestSuccessful, Optional<String> errorMessage, Optional<String> rageUrl, Optional<String> message) {
+    return new DoctorJsonResponse(requestSuccessful, errorMessage, rageUrl, message);
+  }
+
+  /**
+   * Creates a builder for {@link DoctorJsonResponse DoctorJsonResponse}.
+   * @return A new DoctorJsonResponse builder
+   */
+  public static DoctorJsonResponse.Builder builder() {
+    return new DoctorJsonResponse.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DoctorJsonResponse DoctorJsonResponse}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REQUEST_SUCCESSFUL = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean requestSuccessful;
+    private @Nullable String errorMessage;
+    private @Nullable String rageUrl;
+    private @Nullable String message;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DoctorJsonResponse} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DoctorJsonResponse instance) {
+      return from((AbstractDoctorJsonResponse) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDoctorJsonResponse} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDoctorJsonResponse instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRequestSuccessful(instance.getRequestSuccessful());
+      Optional<String> errorMessageOptional = instance.getErrorMessage();
+      if (errorMessageOptional.isPresent()) {
+        setErrorMessage(errorMessageOptional);
+      }
+      Optional<String> rageUrlOptional = instance.getRageUrl();
+      if (rageUrlOptional.isPresent()) {
+        setRageUrl(rageUrlOptional);
+      }
+      Optional<String> messageOptional = instance.getMessage();
+      if (messageOptional.isPresent()) {
+        setMessage(messageOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorJsonResponse#getRequestSuccessful() requestSuccessful} attribute.
+     * @param requestSuccessful The value for requestSuccessful 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setRequestSuccessful(boolean requestSuccessful) {
+      this.requestSuccessful = requestSuccessful;
+      initBits &= ~INIT_BIT_REQUEST_SUCCESSFUL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorJsonResponse#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorMessage(String errorMessage) {
+      this.errorMessage = Objects.requireNonNull(errorMessage, "errorMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorJsonResponse#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorJsonResponse#getRageUrl() rageUrl} to rageUrl.
+     * @param rageUrl The value for rageUrl
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRageUrl(String rageUrl) {
+      this.rageUrl = Objects.requireNonNull(rageUrl, "rageUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorJsonResponse#getRageUrl() rageUrl} to rageUrl.
+     * @param rageUrl The value for rageUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    @JsonDeserialize
+    public final Builder setRageUrl(Optional<String> rageUrl) {
+      this.rageUrl = rageUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorJsonResponse#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMessage(String message) {
+      this.message = Objects.requireNonNull(message, "message");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorJsonResponse#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setMessage(Optional<String> message) {
+      this.message = message.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DoctorJsonResponse DoctorJsonResponse}.
+     * @return An immutable instance of DoctorJsonResponse
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DoctorJsonResponse build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DoctorJsonResponse(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_REQUEST_SUCCESSFUL) != 0) attributes.add("requestSuccessful");
+      return "Cannot build DoctorJsonResponse, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,313 @@
+package com.facebook.buck.doctor.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorSuggestion}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DoctorSuggestion.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorSuggestion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDoctorSuggestion"})
+@Immutable
+@CheckReturnValue
+public final class DoctorSuggestion extends AbstractDoctorSuggestion {
+  private final AbstractDoctorSuggestion.StepStatus status;
+  private final @Nullable String area;
+  private final String suggestion;
+
+  private DoctorSuggestion(
+      AbstractDoctorSuggestion.StepStatus status,
+      Optional<String> area,
+      String suggestion) {
+    this.status = Objects.requireNonNull(status, "status");
+    this.area = area.orElse(null);
+    this.suggestion = Objects.requireNonNull(suggestion, "suggestion");
+  }
+
+  private DoctorSuggestion(DoctorSuggestion.Builder builder) {
+    this.status = builder.status;
+    this.area = builder.area;
+    this.suggestion = builder.suggestion;
+  }
+
+  /**
+   * @return The value of the {@code status} attribute
+   */
+  @JsonProperty
+  @Override
+  public AbstractDoctorSuggestion.StepStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * @return The value of the {@code area} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getArea() {
+    return Optional.ofNullable(area);
+  }
+
+  /**
+   * @return The value of the {@code suggestion} attribute
+   */
+  @JsonProperty
+  @Override
+  public String getSuggestion() {
+    return suggestion;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorSuggestion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorSuggestion
+        && equalTo((DoctorSuggestion) another);
+  }
+
+  private boolean equalTo(DoctorSuggestion another) {
+    return status.equals(another.status)
+        && Objects.equals(area, another.area)
+        && suggestion.equals(another.suggestion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code status}, {@code area}, {@code suggestion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + status.hashCode();
+    h += (h << 5) + Objects.hashCode(area);
+    h += (h << 5) + suggestion.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorSuggestion} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorSuggestion")
+        .omitNullValues()
+        .add("status", status)
+        .add("area", area)
+        .add("suggestion", suggestion)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractDoctorSuggestion {
+    @Nullable AbstractDoctorSuggestion.StepStatus status;
+    @Nullable Optional<String> area = Optional.empty();
+    @Nullable String suggestion;
+    @JsonProperty
+    public void setStatus(AbstractDoctorSuggestion.StepStatus status) {
+      this.status = status;
+    }
+    @JsonProperty
+    public void setArea(Optional<String> area) {
+      this.area = area;
+    }
+    @JsonProperty
+    public void setSuggestion(String suggestion) {
+      this.suggestion = suggestion;
+    }
+    @Override
+    public AbstractDoctorSuggestion.StepStatus getStatus() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getArea() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getSuggestion() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static DoctorSuggestion fromJson(Json json) {
+    DoctorSuggestion.Builder builder = DoctorSuggestion.builder();
+    if (json.status != null) {
+      builder.setStatus(json.status);
+    }
+    if (json.area != null) {
+      builder.setArea(json.area);
+    }
+    if (json.suggestion != null) {
+      builder.setSuggestion(json.suggestion);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorSuggestion} instance.
+   * @param status The value for the {@code status} attribute
+   * @param area The value for the {@code area} attribute
+   * @param suggestion The value for the {@code suggestion} attribute
+   * @return An immutable DoctorSuggestion instance
+   */
+  public static DoctorSuggestion of(AbstractDoctorSuggestion.StepStatus status, Optional<String> area, String suggestion) {
+    return new DoctorSuggestion(status, area, suggestion);
+  }
+
+  /**
+   * Creates a builder for {@link DoctorSuggestion DoctorSuggestion}.
+   * @return A new DoctorSuggestion builder
+   */
+  public static DoctorSuggestion.Builder builder() {
+    return new DoctorSuggestion.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DoctorSuggestion DoctorSuggestion}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_STATUS = 0x1L;
+    private static final long INIT_BIT_SUGGESTION = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable AbstractDoctorSuggestion.StepStatus status;
+    private @Nullable String area;
+    private @Nullable String suggestion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DoctorSuggestion} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DoctorSuggestion instance) {
+      return from((AbstractDoctorSuggestion) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDoctorSuggestion} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDoctorSuggestion instance) {
+      Objects.requireNonNull(instance, "instance");
+      setStatus(instance.getStatus());
+      Optional<String> areaOptional = instance.getArea();
+      if (areaOptional.isPresent()) {
+        setArea(areaOptional);
+      }
+      setSuggestion(instance.getSuggestion());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorSuggestion#getStatus() status} attribute.
+     * @param status The value for status 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setStatus(AbstractDoctorSuggestion.StepStatus status) {
+      this.status = Objects.requireNonNull(status, "status");
+      initBits &= ~INIT_BIT_STATUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorSuggestion#getArea() area} to area.
+     * @param area The value for area
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setArea(String area) {
+      this.area = Objects.requireNonNull(area, "area");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorSuggestion#getArea() area} to area.
+     * @param area The value for area
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setArea(Optional<String> area) {
+      this.area = area.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorSuggestion#getSuggestion() suggestion} attribute.
+     * @param suggestion The value for suggestion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setSuggestion(String suggestion) {
+      this.suggestion = Objects.requireNonNull(suggestion, "suggestion");
+      initBits &= ~INIT_BIT_SUGGESTION;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link DoctorSuggestion DoctorSuggestion}.
+     * @return An immutable instance of DoctorSuggestion
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DoctorSuggestion build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DoctorSuggestion(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_STATUS) != 0) attributes.add("status");
+      if ((initBits & INIT_BIT_SUGGESTION) != 0) attributes.add("suggestion");
+      return "Cannot build DoctorSuggestion, some of required attributes are not set " + attributes;
+    }
+  }
+}
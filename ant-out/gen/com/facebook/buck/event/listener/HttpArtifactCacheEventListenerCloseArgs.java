@@ -0,0 +1,204 @@
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.util.network.BatchingLogger;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Arguments to {@link HttpArtifactCacheEventListenerCloseAction}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HttpArtifactCacheEventListener.AbstractHttpArtifactCacheEventListenerCloseArgs"})
+@Immutable
+@CheckReturnValue
+public final class HttpArtifactCacheEventListenerCloseArgs
+    extends HttpArtifactCacheEventListener.AbstractHttpArtifactCacheEventListenerCloseArgs {
+  private final BatchingLogger fetchRequestLogger;
+  private final BatchingLogger storeRequestLogger;
+
+  private HttpArtifactCacheEventListenerCloseArgs(
+      BatchingLogger fetchRequestLogger,
+      BatchingLogger storeRequestLogger) {
+    this.fetchRequestLogger = Objects.requireNonNull(fetchRequestLogger, "fetchRequestLogger");
+    this.storeRequestLogger = Objects.requireNonNull(storeRequestLogger, "storeRequestLogger");
+  }
+
+  private HttpArtifactCacheEventListenerCloseArgs(HttpArtifactCacheEventListenerCloseArgs.Builder builder) {
+    this.fetchRequestLogger = builder.fetchRequestLogger;
+    this.storeRequestLogger = builder.storeRequestLogger;
+  }
+
+  /**
+   * @return The value of the {@code fetchRequestLogger} attribute
+   */
+  @Override
+  public BatchingLogger getFetchRequestLogger() {
+    return fetchRequestLogger;
+  }
+
+  /**
+   * @return The value of the {@code storeRequestLogger} attribute
+   */
+  @Override
+  public BatchingLogger getStoreRequestLogger() {
+    return storeRequestLogger;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HttpArtifactCacheEventListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HttpArtifactCacheEventListenerCloseArgs
+        && equalTo((HttpArtifactCacheEventListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(HttpArtifactCacheEventListenerCloseArgs another) {
+    return fetchRequestLogger.equals(another.fetchRequestLogger)
+        && storeRequestLogger.equals(another.storeRequestLogger);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fetchRequestLogger}, {@code storeRequestLogger}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + fetchRequestLogger.hashCode();
+    h += (h << 5) + storeRequestLogger.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpArtifactCacheEventListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpArtifactCacheEventListenerCloseArgs")
+        .omitNullValues()
+        .add("fetchRequestLogger", fetchRequestLogger)
+        .add("storeRequestLogger", storeRequestLogger)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code HttpArtifactCacheEventListenerCloseArgs} instance.
+   * @param fetchRequestLogger The value for the {@code fetchRequestLogger} attribute
+   * @param storeRequestLogger The value for the {@code storeRequestLogger} attribute
+   * @return An immutable HttpArtifactCacheEventListenerCloseArgs instance
+   */
+  public static HttpArtifactCacheEventListenerCloseArgs of(BatchingLogger fetchRequestLogger, BatchingLogger storeRequestLogger) {
+    return new HttpArtifactCacheEventListenerCloseArgs(fetchRequestLogger, storeRequestLogger);
+  }
+
+  /**
+   * Creates a builder for {@link HttpArtifactCacheEventListenerCloseArgs HttpArtifactCacheEventListenerCloseArgs}.
+   * @return A new HttpArtifactCacheEventListenerCloseArgs builder
+   */
+  public static HttpArtifactCacheEventListenerCloseArgs.Builder builder() {
+    return new HttpArtifactCacheEventListenerCloseArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpArtifactCacheEventListenerCloseArgs HttpArtifactCacheEventListenerCloseArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FETCH_REQUEST_LOGGER = 0x1L;
+    private static final long INIT_BIT_STORE_REQUEST_LOGGER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BatchingLogger fetchRequestLogger;
+    private @Nullable BatchingLogger storeRequestLogger;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HttpArtifactCacheEventListenerCloseArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HttpArtifactCacheEventListenerCloseArgs instance) {
+      return from((HttpArtifactCacheEventListener.AbstractHttpArtifactCacheEventListenerCloseArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHttpArtifactCacheEventListenerCloseArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(HttpArtifactCacheEventListener.AbstractHttpArtifactCacheEventListenerCloseArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setFetchRequestLogger(instance.getFetchRequestLogger());
+      setStoreRequestLogger(instance.getStoreRequestLogger());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheEventListener.AbstractHttpArtifactCacheEventListenerCloseArgs#getFetchRequestLogger() fetchRequestLogger} attribute.
+     * @param fetchRequestLogger The value for fetchRequestLogger 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setFetchRequestLogger(BatchingLogger fetchRequestLogger) {
+      this.fetchRequestLogger = Objects.requireNonNull(fetchRequestLogger, "fetchRequestLogger");
+      initBits &= ~INIT_BIT_FETCH_REQUEST_LOGGER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link HttpArtifactCacheEventListener.AbstractHttpArtifactCacheEventListenerCloseArgs#getStoreRequestLogger() storeRequestLogger} attribute.
+     * @param storeRequestLogger The value for storeRequestLogger 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setStoreRequestLogger(BatchingLogger storeRequestLogger) {
+      this.storeRequestLogger = Objects.requireNonNull(storeRequestLogger, "storeRequestLogger");
+      initBits &= ~INIT_BIT_STORE_REQUEST_LOGGER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link HttpArtifactCacheEventListenerCloseArgs HttpArtifactCacheEventListenerCloseArgs}.
+     * @return An immutable instance of HttpArtifactCacheEventListenerCloseArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpArtifactCacheEventListenerCloseArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HttpArtifactCacheEventListenerCloseArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FETCH_REQUEST_LOGGER) != 0) attributes.add("fetchRequestLogger");
+      if ((initBits & INIT_BIT_STORE_REQUEST_LOGGER) != 0) attributes.add("storeRequestLogger");
+      return "Cannot build HttpArtifactCacheEventListenerCloseArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
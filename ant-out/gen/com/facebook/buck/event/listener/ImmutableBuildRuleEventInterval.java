@@ -0,0 +1,98 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link BuildTargetDurationListener.BuildRuleEventInterval}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildRuleEventInterval.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildTargetDurationListener.BuildRuleEventInterval"})
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildRuleEventInterval
+    implements BuildTargetDurationListener.BuildRuleEventInterval {
+  private final long start;
+  private final long end;
+
+  private ImmutableBuildRuleEventInterval(long start, long end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * @return The value of the {@code start} attribute
+   */
+  @Override
+  public long start() {
+    return start;
+  }
+
+  /**
+   * @return The value of the {@code end} attribute
+   */
+  @Override
+  public long end() {
+    return end;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildRuleEventInterval} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildRuleEventInterval
+        && equalTo((ImmutableBuildRuleEventInterval) another);
+  }
+
+  private boolean equalTo(ImmutableBuildRuleEventInterval another) {
+    return start == another.start
+        && end == another.end;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code start}, {@code end}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Longs.hashCode(start);
+    h += (h << 5) + Longs.hashCode(end);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleEventInterval} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleEventInterval")
+        .omitNullValues()
+        .add("start", start)
+        .add("end", end)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleEventInterval} instance.
+   * @param start The value for the {@code start} attribute
+   * @param end The value for the {@code end} attribute
+   * @return An immutable BuildRuleEventInterval instance
+   */
+  public static ImmutableBuildRuleEventInterval of(long start, long end) {
+    return new ImmutableBuildRuleEventInterval(start, end);
+  }
+}
@@ -0,0 +1,100 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link BuildTargetDurationListener.BuildRuleInfoSelectedChain}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildRuleInfoSelectedChain.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildTargetDurationListener.BuildRuleInfoSelectedChain"})
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildRuleInfoSelectedChain
+    implements BuildTargetDurationListener.BuildRuleInfoSelectedChain {
+  private final BuildTargetDurationListener.BuildRuleInfo buildRuleInfo;
+  private final BuildTargetDurationListener.BuildRuleInfo.Chain chain;
+
+  private ImmutableBuildRuleInfoSelectedChain(
+      BuildTargetDurationListener.BuildRuleInfo buildRuleInfo,
+      BuildTargetDurationListener.BuildRuleInfo.Chain chain) {
+    this.buildRuleInfo = Objects.requireNonNull(buildRuleInfo, "buildRuleInfo");
+    this.chain = Objects.requireNonNull(chain, "chain");
+  }
+
+  /**
+   * @return The value of the {@code buildRuleInfo} attribute
+   */
+  @Override
+  public BuildTargetDurationListener.BuildRuleInfo buildRuleInfo() {
+    return buildRuleInfo;
+  }
+
+  /**
+   * @return The value of the {@code chain} attribute
+   */
+  @Override
+  public BuildTargetDurationListener.BuildRuleInfo.Chain chain() {
+    return chain;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildRuleInfoSelectedChain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildRuleInfoSelectedChain
+        && equalTo((ImmutableBuildRuleInfoSelectedChain) another);
+  }
+
+  private boolean equalTo(ImmutableBuildRuleInfoSelectedChain another) {
+    return buildRuleInfo.equals(another.buildRuleInfo)
+        && chain.equals(another.chain);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildRuleInfo}, {@code chain}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buildRuleInfo.hashCode();
+    h += (h << 5) + chain.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleInfoSelectedChain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleInfoSelectedChain")
+        .omitNullValues()
+        .add("buildRuleInfo", buildRuleInfo)
+        .add("chain", chain)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleInfoSelectedChain} instance.
+   * @param buildRuleInfo The value for the {@code buildRuleInfo} attribute
+   * @param chain The value for the {@code chain} attribute
+   * @return An immutable BuildRuleInfoSelectedChain instance
+   */
+  public static ImmutableBuildRuleInfoSelectedChain of(BuildTargetDurationListener.BuildRuleInfo buildRuleInfo, BuildTargetDurationListener.BuildRuleInfo.Chain chain) {
+    return new ImmutableBuildRuleInfoSelectedChain(buildRuleInfo, chain);
+  }
+}
@@ -0,0 +1,142 @@
+package com.facebook.buck.event.listener;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link BuildTargetDurationListener.BuildTargetResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBuildTargetResult.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildTargetDurationListener.BuildTargetResult"})
+@Immutable
+@CheckReturnValue
+final class ImmutableBuildTargetResult
+    implements BuildTargetDurationListener.BuildTargetResult {
+  private final String targetName;
+  private final long targetDuration;
+
+  private ImmutableBuildTargetResult(String targetName, long targetDuration) {
+    this.targetName = Objects.requireNonNull(targetName, "targetName");
+    this.targetDuration = targetDuration;
+  }
+
+  /**
+   * @return The value of the {@code targetName} attribute
+   */
+  @JsonProperty("target-name")
+  @Override
+  public String targetName() {
+    return targetName;
+  }
+
+  /**
+   * @return The value of the {@code targetDuration} attribute
+   */
+  @JsonProperty("target-duration")
+  @Override
+  public long targetDuration() {
+    return targetDuration;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBuildTargetResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBuildTargetResult
+        && equalTo((ImmutableBuildTargetResult) another);
+  }
+
+  private boolean equalTo(ImmutableBuildTargetResult another) {
+    return targetName.equals(another.targetName)
+        && targetDuration == another.targetDuration;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetName}, {@code targetDuration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + targetName.hashCode();
+    h += (h << 5) + Longs.hashCode(targetDuration);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildTargetResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildTargetResult")
+        .omitNullValues()
+        .add("targetName", targetName)
+        .add("targetDuration", targetDuration)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      implements BuildTargetDurationListener.BuildTargetResult {
+    @Nullable String targetName;
+    long targetDuration;
+    boolean targetDurationIsSet;
+    @JsonProperty("target-name")
+    public void setTargetName(String targetName) {
+      this.targetName = targetName;
+    }
+    @JsonProperty("target-duration")
+    public void setTargetDuration(long targetDuration) {
+      this.targetDuration = targetDuration;
+      this.targetDurationIsSet = true;
+    }
+    @Override
+    public String targetName() { throw new UnsupportedOperationException(); }
+    @Override
+    public long targetDuration() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableBuildTargetResult fromJson(Json json) {
+    ImmutableBuildTargetResult instance = ImmutableBuildTargetResult.of(json.targetName, json.targetDuration);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetResult} instance.
+   * @param targetName The value for the {@code targetName} attribute
+   * @param targetDuration The value for the {@code targetDuration} attribute
+   * @return An immutable BuildTargetResult instance
+   */
+  public static ImmutableBuildTargetResult of(String targetName, long targetDuration) {
+    return new ImmutableBuildTargetResult(targetName, targetDuration);
+  }
+}
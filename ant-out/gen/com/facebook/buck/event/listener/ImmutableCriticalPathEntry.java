@@ -0,0 +1,318 @@
+package com.facebook.buck.event.listener;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link BuildTargetDurationListener.CriticalPathEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableCriticalPathEntry.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BuildTargetDurationListener.CriticalPathEntry"})
+@Immutable
+@CheckReturnValue
+final class ImmutableCriticalPathEntry
+    implements BuildTargetDurationListener.CriticalPathEntry {
+  private final String ruleName;
+  private final long startTimestamp;
+  private final long finishTimestamp;
+  private final long duration;
+  private final long wholeDuration;
+  private final long longest;
+  private final @Nullable BuildTargetDurationListener.BuildRuleInfo prev;
+  private final ImmutableList<ImmutableBuildRuleEventInterval> intervals;
+
+  private ImmutableCriticalPathEntry(
+      String ruleName,
+      long startTimestamp,
+      long finishTimestamp,
+      long duration,
+      long wholeDuration,
+      long longest,
+      Optional<? extends BuildTargetDurationListener.BuildRuleInfo> prev,
+      Iterable<? extends ImmutableBuildRuleEventInterval> intervals) {
+    this.ruleName = Objects.requireNonNull(ruleName, "ruleName");
+    this.startTimestamp = startTimestamp;
+    this.finishTimestamp = finishTimestamp;
+    this.duration = duration;
+    this.wholeDuration = wholeDuration;
+    this.longest = longest;
+    this.prev = prev.orElse(null);
+    this.intervals = ImmutableList.copyOf(intervals);
+  }
+
+  /**
+   * @return The value of the {@code ruleName} attribute
+   */
+  @JsonProperty("rule-name")
+  @Override
+  public String ruleName() {
+    return ruleName;
+  }
+
+  /**
+   * @return The value of the {@code startTimestamp} attribute
+   */
+  @JsonProperty("start")
+  @Override
+  public long startTimestamp() {
+    return startTimestamp;
+  }
+
+  /**
+   * @return The value of the {@code finishTimestamp} attribute
+   */
+  @JsonProperty("finish")
+  @Override
+  public long finishTimestamp() {
+    return finishTimestamp;
+  }
+
+  /**
+   * @return The value of the {@code duration} attribute
+   */
+  @JsonProperty("duration")
+  @Override
+  public long duration() {
+    return duration;
+  }
+
+  /**
+   * @return The value of the {@code wholeDuration} attribute
+   */
+  @JsonProperty("wholeDuration")
+  @JsonIgnore
+  @Override
+  public long wholeDuration() {
+    return wholeDuration;
+  }
+
+  /**
+   * @return The value of the {@code longest} attribute
+   */
+  @JsonProperty("longest")
+  @JsonIgnore
+  @Override
+  public long longest() {
+    return longest;
+  }
+
+  /**
+   * @return The value of the {@code prev} attribute
+   */
+  @JsonProperty("prev")
+  @JsonIgnore
+  @Override
+  public Optional<BuildTargetDurationListener.BuildRuleInfo> prev() {
+    return Optional.ofNullable(prev);
+  }
+
+  /**
+   * @return The value of the {@code intervals} attribute
+   */
+  @JsonProperty("intervals")
+  @JsonIgnore
+  @Override
+  public ImmutableList<ImmutableBuildRuleEventInterval> intervals() {
+    return intervals;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableCriticalPathEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableCriticalPathEntry
+        && equalTo((ImmutableCriticalPathEntry) another);
+  }
+
+  private boolean equalTo(ImmutableCriticalPathEntry another) {
+    return ruleName.equals(another.ruleName)
+        && startTimestamp == another.startTimestamp
+        && finishTimestamp == another.finishTimestamp
+        && duration == another.duration
+        && wholeDuration == another.wholeDuration
+        && longest == another.longest
+        && Objects.equals(prev, another.prev)
+        && intervals.equals(another.intervals);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleName}, {@code startTimestamp}, {@code finishTimestamp}, {@code duration}, {@code wholeDuration}, {@code longest}, {@code prev}, {@code intervals}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + ruleName.hashCode();
+    h += (h << 5) + Longs.hashCode(startTimestamp);
+    h += (h << 5) + Longs.hashCode(finishTimestamp);
+    h += (h << 5) + Longs.hashCode(duration);
+    h += (h << 5) + Longs.hashCode(wholeDuration);
+    h += (h << 5) + Longs.hashCode(longest);
+    h += (h << 5) + Objects.hashCode(prev);
+    h += (h << 5) + intervals.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CriticalPathEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CriticalPathEntry")
+        .omitNullValues()
+        .add("ruleName", ruleName)
+        .add("startTimestamp", startTimestamp)
+        .add("finishTimestamp", finishTimestamp)
+        .add("duration", duration)
+        .add("wholeDuration", wholeDuration)
+        .add("longest", longest)
+        .add("prev", prev)
+        .add("intervals", intervals)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json
+      implements BuildTargetDurationListener.CriticalPathEntry {
+    @Nullable String ruleName;
+    long startTimestamp;
+    boolean startTimestampIsSet;
+    long finishTimestamp;
+    boolean finishTimestampIsSet;
+    long duration;
+    boolean durationIsSet;
+    long wholeDuration;
+    boolean wholeDurationIsSet;
+    long longest;
+    boolean longestIsSet;
+    @Nullable Optional<BuildTargetDurationListener.BuildRuleInfo> prev = Optional.empty();
+    @Nullable List<ImmutableBuildRuleEventInterval> intervals = ImmutableList.of();
+    @JsonProperty("rule-name")
+    public void setRuleName(String ruleName) {
+      this.ruleName = ruleName;
+    }
+    @JsonProperty("start")
+    public void setStartTimestamp(long startTimestamp) {
+      this.startTimestamp = startTimestamp;
+      this.startTimestampIsSet = true;
+    }
+    @JsonProperty("finish")
+    public void setFinishTimestamp(long finishTimestamp) {
+      this.finishTimestamp = finishTimestamp;
+      this.finishTimestampIsSet = true;
+    }
+    @JsonProperty("duration")
+    public void setDuration(long duration) {
+      this.duration = duration;
+      this.durationIsSet = true;
+    }
+    @JsonProperty("wholeDuration")
+    @JsonIgnore
+    public void setWholeDuration(long wholeDuration) {
+      this.wholeDuration = wholeDuration;
+      this.wholeDurationIsSet = true;
+    }
+    @JsonProperty("longest")
+    @JsonIgnore
+    public void setLongest(long longest) {
+      this.longest = longest;
+      this.longestIsSet = true;
+    }
+    @JsonProperty("prev")
+    @JsonIgnore
+    public void setPrev(Optional<BuildTargetDurationListener.BuildRuleInfo> prev) {
+      this.prev = prev;
+    }
+    @JsonProperty("intervals")
+    @JsonIgnore
+    public void setIntervals(List<ImmutableBuildRuleEventInterval> intervals) {
+      this.intervals = intervals;
+    }
+    @Override
+    public String ruleName() { throw new UnsupportedOperationException(); }
+    @Override
+    public long startTimestamp() { throw new UnsupportedOperationException(); }
+    @Override
+    public long finishTimestamp() { throw new UnsupportedOperationException(); }
+    @Override
+    public long duration() { throw new UnsupportedOperationException(); }
+    @Override
+    public long wholeDuration() { throw new UnsupportedOperationException(); }
+    @Override
+    public long longest() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<BuildTargetDurationListener.BuildRuleInfo> prev() { throw new UnsupportedOperationException(); }
+    @Override
+    public List<ImmutableBuildRuleEventInterval> intervals() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ImmutableCriticalPathEntry fromJson(Json json) {
+    ImmutableCriticalPathEntry instance = ImmutableCriticalPathEntry.of(json.ruleName, json.startTimestamp, json.finishTimestamp, json.duration, json.wholeDuration, json.longest, json.prev, json.intervals);
+    return instance;
+  }
+
+  /**
+   * Construct a new immutable {@code CriticalPathEntry} instance.
+   * @param ruleName The value for the {@code ruleName} attribute
+   * @param startTimestamp The value for the {@code startTimestamp} attribute
+   * @param finishTimestamp The value for the {@code finishTimestamp} attribute
+   * @param duration The value for the {@code duration} attribute
+   * @param wholeDuration The value for the {@code wholeDuration} attribute
+   * @param longest The value for the {@code longest} attribute
+   * @param prev The value for the {@code prev} attribute
+   * @param intervals The value for the {@code intervals} attribute
+   * @return An immutable CriticalPathEntry instance
+   */
+  public static ImmutableCriticalPathEntry of(String ruleName, long startTimestamp, long finishTimestamp, long duration, long wholeDuration, long longest, Optional<BuildTargetDurationListener.BuildRuleInfo> prev, List<ImmutableBuildRuleEventInterval> intervals) {
+    return of(ruleName, startTimestamp, finishTimestamp, duration, wholeDuration, longest, prev, (Iterable<? extends ImmutableBuildRuleEventInterval>) intervals);
+  }
+
+  /**
+   * Construct a new immutable {@code CriticalPathEntry} instance.
+   * @param ruleName The value for the {@code ruleName} attribute
+   * @param startTimestamp The value for the {@code startTimestamp} attribute
+   * @param finishTimestamp The value for the {@code finishTimestamp} attribute
+   * @param duration The value for the {@code duration} attribute
+   * @param wholeDuration The value for the {@code wholeDuration} attribute
+   * @param longest The value for the {@code longest} attribute
+   * @param prev The value for the {@code prev} attribute
+   * @param intervals The value for the {@code intervals} attribute
+   * @return An immutable CriticalPathEntry instance
+   */
+  public static ImmutableCriticalPathEntry of(String ruleName, long startTimestamp, long finishTimestamp, long duration, long wholeDuration, long longest, Optional<? extends BuildTargetDurationListener.BuildRuleInfo> prev, Iterable<? extends ImmutableBuildRuleEventInterval> intervals) {
+    return new ImmutableCriticalPathEntry(ruleName, startTimestamp, finishTimestamp, duration, wholeDuration, longest, prev, intervals);
+  }
+}
@@ -0,0 +1,170 @@
+package com.facebook.buck.event.listener;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Arguments to {@link RuleKeyLoggerListenerCloseAction}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "RuleKeyLoggerListener.AbstractRuleKeyLoggerListenerCloseArgs"})
+@Immutable
+@CheckReturnValue
+public final class RuleKeyLoggerListenerCloseArgs
+    extends RuleKeyLoggerListener.AbstractRuleKeyLoggerListenerCloseArgs {
+  private final ExecutorService outputExecutor;
+
+  private RuleKeyLoggerListenerCloseArgs(ExecutorService outputExecutor) {
+    this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+  }
+
+  private RuleKeyLoggerListenerCloseArgs(RuleKeyLoggerListenerCloseArgs.Builder builder) {
+    this.outputExecutor = builder.outputExecutor;
+  }
+
+  /**
+   * @return The value of the {@code outputExecutor} attribute
+   */
+  @Override
+  public ExecutorService getOutputExecutor() {
+    return outputExecutor;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyLoggerListenerCloseArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyLoggerListenerCloseArgs
+        && equalTo((RuleKeyLoggerListenerCloseArgs) another);
+  }
+
+  private boolean equalTo(RuleKeyLoggerListenerCloseArgs another) {
+    return outputExecutor.equals(another.outputExecutor);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputExecutor}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + outputExecutor.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyLoggerListenerCloseArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyLoggerListenerCloseArgs")
+        .omitNullValues()
+        .add("outputExecutor", outputExecutor)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyLoggerListenerCloseArgs} instance.
+   * @param outputExecutor The value for the {@code outputExecutor} attribute
+   * @return An immutable RuleKeyLoggerListenerCloseArgs instance
+   */
+  public static RuleKeyLoggerListenerCloseArgs of(ExecutorService outputExecutor) {
+    return new RuleKeyLoggerListenerCloseArgs(outputExecutor);
+  }
+
+  /**
+   * Creates a builder for {@link RuleKeyLoggerListenerCloseArgs RuleKeyLoggerListenerCloseArgs}.
+   * @return A new RuleKeyLoggerListenerCloseArgs builder
+   */
+  public static RuleKeyLoggerListenerCloseArgs.Builder builder() {
+    return new RuleKeyLoggerListenerCloseArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleKeyLoggerListenerCloseArgs RuleKeyLoggerListenerCloseArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_OUTPUT_EXECUTOR = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable ExecutorService outputExecutor;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleKeyLoggerListenerCloseArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleKeyLoggerListenerCloseArgs instance) {
+      return from((RuleKeyLoggerListener.AbstractRuleKeyLoggerListenerCloseArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleKeyLoggerListenerCloseArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(RuleKeyLoggerListener.AbstractRuleKeyLoggerListenerCloseArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setOutputExecutor(instance.getOutputExecutor());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link RuleKeyLoggerListener.AbstractRuleKeyLoggerListenerCloseArgs#getOutputExecutor() outputExecutor} attribute.
+     * @param outputExecutor The value for outputExecutor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputExecutor(ExecutorService outputExecutor) {
+      this.outputExecutor = Objects.requireNonNull(outputExecutor, "outputExecutor");
+      initBits &= ~INIT_BIT_OUTPUT_EXECUTOR;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link RuleKeyLoggerListenerCloseArgs RuleKeyLoggerListenerCloseArgs}.
+     * @return An immutable instance of RuleKeyLoggerListenerCloseArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleKeyLoggerListenerCloseArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RuleKeyLoggerListenerCloseArgs(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_OUTPUT_EXECUTOR) != 0) attributes.add("outputExecutor");
+      return "Cannot build RuleKeyLoggerListenerCloseArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1051 @@
+package com.facebook.buck.features.python;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.versions.HasVersionUniverse;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonBinaryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PythonBinaryDescription.AbstractPythonBinaryDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class PythonBinaryDescriptionArg
+    implements PythonBinaryDescription.AbstractPythonBinaryDescriptionArg {
+  private final @Nullable SourcePath main;
+  private final @Nullable String mainModule;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String baseModule;
+  private final @Nullable Boolean zipSafe;
+  private final ImmutableList<String> buildArgs;
+  private final @Nullable String platform;
+  private final @Nullable Flavor cxxPlatform;
+  private final @Nullable PythonBuckConfig.PackageStyle packageStyle;
+  private final ImmutableSet<BuildTarget> preloadDeps;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final @Nullable String extension;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final @Nullable String versionUniverse;
+
+  private PythonBinaryDescriptionArg(PythonBinaryDescriptionArg.Builder builder) {
+    this.main = builder.main;
+    this.mainModule = builder.mainModule;
+    this.baseModule = builder.baseModule;
+    this.zipSafe = builder.zipSafe;
+    this.buildArgs = builder.buildArgs.build();
+    this.platform = builder.platform;
+    this.cxxPlatform = builder.cxxPlatform;
+    this.packageStyle = builder.packageStyle;
+    this.preloadDeps = builder.preloadDeps.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.extension = builder.extension;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.tests = builder.tests.build();
+    this.versionUniverse = builder.versionUniverse;
+    this.platformDeps = builder.platformDeps != null
+        ? builder.platformDeps
+        : Objects.requireNonNull(PythonBinaryDescription.AbstractPythonBinaryDescriptionArg.super.getPlatformDeps(), "platformDeps");
+  }
+
+  /**
+   * @return The value of the {@code main} attribute
+   */
+  @Override
+  public Optional<SourcePath> getMain() {
+    return Optional.ofNullable(main);
+  }
+
+  /**
+   * @return The value of the {@code mainModule} attribute
+   */
+  @Override
+  public Optional<String> getMainModule() {
+    return Optional.ofNullable(mainModule);
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    return platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code baseModule} attribute
+   */
+  @Override
+  public Optional<String> getBaseModule() {
+    return Optional.ofNullable(baseModule);
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> getZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * @return The value of the {@code buildArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildArgs() {
+    return buildArgs;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<String> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public Optional<Flavor> getCxxPlatform() {
+    return Optional.ofNullable(cxxPlatform);
+  }
+
+  /**
+   * @return The value of the {@code packageStyle} attribute
+   */
+  @Override
+  public Optional<PythonBuckConfig.PackageStyle> getPackageStyle() {
+    return Optional.ofNullable(packageStyle);
+  }
+
+  /**
+   * @return The value of the {@code preloadDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getPreloadDeps() {
+    return preloadDeps;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Optional<String> getExtension() {
+    return Optional.ofNullable(extension);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code versionUniverse} attribute
+   */
+  @Override
+  public Optional<String> getVersionUniverse() {
+    return Optional.ofNullable(versionUniverse);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonBinaryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonBinaryDescriptionArg
+        && equalTo((PythonBinaryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PythonBinaryDescriptionArg another) {
+    return Objects.equals(main, another.main)
+        && Objects.equals(mainModule, another.mainModule)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(baseModule, another.baseModule)
+        && Objects.equals(zipSafe, another.zipSafe)
+        && buildArgs.equals(another.buildArgs)
+        && Objects.equals(platform, another.platform)
+        && Objects.equals(cxxPlatform, another.cxxPlatform)
+        && Objects.equals(packageStyle, another.packageStyle)
+        && preloadDeps.equals(another.preloadDeps)
+        && linkerFlags.equals(another.linkerFlags)
+        && Objects.equals(extension, another.extension)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests)
+        && Objects.equals(versionUniverse, another.versionUniverse);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code main}, {@code mainModule}, {@code platformDeps}, {@code baseModule}, {@code zipSafe}, {@code buildArgs}, {@code platform}, {@code cxxPlatform}, {@code packageStyle}, {@code preloadDeps}, {@code linkerFlags}, {@code extension}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}, {@code versionUniverse}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(main);
+    h += (h << 5) + Objects.hashCode(mainModule);
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(baseModule);
+    h += (h << 5) + Objects.hashCode(zipSafe);
+    h += (h << 5) + buildArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + Objects.hashCode(cxxPlatform);
+    h += (h << 5) + Objects.hashCode(packageStyle);
+    h += (h << 5) + preloadDeps.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + Objects.hashCode(extension);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + Objects.hashCode(versionUniverse);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonBinaryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonBinaryDescriptionArg")
+        .omitNullValues()
+        .add("main", main)
+        .add("mainModule", mainModule)
+        .add("platformDeps", platformDeps)
+        .add("baseModule", baseModule)
+        .add("zipSafe", zipSafe)
+        .add("buildArgs", buildArgs)
+        .add("platform", platform)
+        .add("cxxPlatform", cxxPlatform)
+        .add("packageStyle", packageStyle)
+        .add("preloadDeps", preloadDeps)
+        .add("linkerFlags", linkerFlags)
+        .add("extension", extension)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .add("versionUniverse", versionUniverse)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PythonBinaryDescriptionArg PythonBinaryDescriptionArg}.
+   * @return A new PythonBinaryDescriptionArg builder
+   */
+  public static PythonBinaryDescriptionArg.Builder builder() {
+    return new PythonBinaryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonBinaryDescriptionArg PythonBinaryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath main;
+    private @Nullable String mainModule;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String baseModule;
+    private @Nullable Boolean zipSafe;
+    private ImmutableList.Builder<String> buildArgs = ImmutableList.builder();
+    private @Nullable String platform;
+    private @Nullable Flavor cxxPlatform;
+    private @Nullable PythonBuckConfig.PackageStyle packageStyle;
+    private ImmutableSet.Builder<BuildTarget> preloadDeps = ImmutableSet.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private @Nullable String extension;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private @Nullable String versionUniverse;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.versions.HasVersionUniverse} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasVersionUniverse instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonBinaryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PythonBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonBinaryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(PythonBinaryDescription.AbstractPythonBinaryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HasVersionUniverse) {
+        HasVersionUniverse instance = (HasVersionUniverse) object;
+        Optional<String> versionUniverseOptional = instance.getVersionUniverse();
+        if (versionUniverseOptional.isPresent()) {
+          setVersionUniverse(versionUniverseOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof PythonBinaryDescription.AbstractPythonBinaryDescriptionArg) {
+        PythonBinaryDescription.AbstractPythonBinaryDescriptionArg instance = (PythonBinaryDescription.AbstractPythonBinaryDescriptionArg) object;
+        addAllPreloadDeps(instance.getPreloadDeps());
+        Optional<String> extensionOptional = instance.getExtension();
+        if (extensionOptional.isPresent()) {
+          setExtension(extensionOptional);
+        }
+        Optional<String> baseModuleOptional = instance.getBaseModule();
+        if (baseModuleOptional.isPresent()) {
+          setBaseModule(baseModuleOptional);
+        }
+        Optional<Boolean> zipSafeOptional = instance.getZipSafe();
+        if (zipSafeOptional.isPresent()) {
+          setZipSafe(zipSafeOptional);
+        }
+        Optional<String> mainModuleOptional = instance.getMainModule();
+        if (mainModuleOptional.isPresent()) {
+          setMainModule(mainModuleOptional);
+        }
+        setPlatformDeps(instance.getPlatformDeps());
+        Optional<SourcePath> mainOptional = instance.getMain();
+        if (mainOptional.isPresent()) {
+          setMain(mainOptional);
+        }
+        addAllLinkerFlags(instance.getLinkerFlags());
+        addAllBuildArgs(instance.getBuildArgs());
+        Optional<PythonBuckConfig.PackageStyle> packageStyleOptional = instance.getPackageStyle();
+        if (packageStyleOptional.isPresent()) {
+          setPackageStyle(packageStyleOptional);
+        }
+        Optional<String> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+        Optional<Flavor> cxxPlatformOptional = instance.getCxxPlatform();
+        if (cxxPlatformOptional.isPresent()) {
+          setCxxPlatform(cxxPlatformOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMain() main} to main.
+     * @param main The value for main
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMain(SourcePath main) {
+      this.main = Objects.requireNonNull(main, "main");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMain() main} to main.
+     * @param main The value for main
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMain(Optional<? extends SourcePath> main) {
+      this.main = main.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMainModule() mainModule} to mainModule.
+     * @param mainModule The value for mainModule
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMainModule(String mainModule) {
+      this.mainModule = Objects.requireNonNull(mainModule, "mainModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getMainModule() mainModule} to mainModule.
+     * @param mainModule The value for mainModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMainModule(Optional<String> mainModule) {
+      this.mainModule = mainModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseModule(String baseModule) {
+      this.baseModule = Objects.requireNonNull(baseModule, "baseModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseModule(Optional<String> baseModule) {
+      this.baseModule = baseModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipSafe(boolean zipSafe) {
+      this.zipSafe = zipSafe;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipSafe(Optional<Boolean> zipSafe) {
+      this.zipSafe = zipSafe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param element A buildArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildArgs(String element) {
+      this.buildArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An array of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildArgs(String... elements) {
+      this.buildArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An iterable of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildArgs(Iterable<String> elements) {
+      this.buildArgs = ImmutableList.builder();
+      return addAllBuildArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An iterable of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllBuildArgs(Iterable<String> elements) {
+      this.buildArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(String platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(Optional<String> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxPlatform(Flavor cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxPlatform(Optional<? extends Flavor> cxxPlatform) {
+      this.cxxPlatform = cxxPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStyle(PythonBuckConfig.PackageStyle packageStyle) {
+      this.packageStyle = Objects.requireNonNull(packageStyle, "packageStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStyle(Optional<? extends PythonBuckConfig.PackageStyle> packageStyle) {
+      this.packageStyle = packageStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param element A preloadDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreloadDeps(BuildTarget element) {
+      this.preloadDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An array of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreloadDeps(BuildTarget... elements) {
+      this.preloadDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An iterable of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreloadDeps(Iterable<? extends BuildTarget> elements) {
+      this.preloadDeps = ImmutableSet.builder();
+      return addAllPreloadDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An iterable of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPreloadDeps(Iterable<? extends BuildTarget> elements) {
+      this.preloadDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getExtension() extension} to extension.
+     * @param extension The value for extension
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtension(String extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getExtension() extension} to extension.
+     * @param extension The value for extension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtension(Optional<String> extension) {
+      this.extension = extension.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionUniverse(String versionUniverse) {
+      this.versionUniverse = Objects.requireNonNull(versionUniverse, "versionUniverse");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonBinaryDescription.AbstractPythonBinaryDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionUniverse(Optional<String> versionUniverse) {
+      this.versionUniverse = versionUniverse.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonBinaryDescriptionArg PythonBinaryDescriptionArg}.
+     * @return An immutable instance of PythonBinaryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonBinaryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonBinaryDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PythonBinaryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
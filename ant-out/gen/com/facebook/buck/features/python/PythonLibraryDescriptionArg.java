@@ -0,0 +1,995 @@
+package com.facebook.buck.features.python;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceSortedSet;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonLibraryDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PythonLibraryDescription.AbstractPythonLibraryDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class PythonLibraryDescriptionArg
+    implements PythonLibraryDescription.AbstractPythonLibraryDescriptionArg {
+  private final SourceSortedSet srcs;
+  private final @Nullable VersionMatchedCollection<SourceSortedSet> versionedSrcs;
+  private final PatternMatchedCollection<SourceSortedSet> platformSrcs;
+  private final SourceSortedSet resources;
+  private final @Nullable VersionMatchedCollection<SourceSortedSet> versionedResources;
+  private final PatternMatchedCollection<SourceSortedSet> platformResources;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String baseModule;
+  private final @Nullable Boolean zipSafe;
+  private final boolean excludeDepsFromMergedLinking;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+
+  private PythonLibraryDescriptionArg(PythonLibraryDescriptionArg.Builder builder) {
+    this.versionedSrcs = builder.versionedSrcs;
+    this.versionedResources = builder.versionedResources;
+    this.baseModule = builder.baseModule;
+    this.zipSafe = builder.zipSafe;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.tests = builder.tests.build();
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.platformSrcs != null) {
+      initShim.setPlatformSrcs(builder.platformSrcs);
+    }
+    if (builder.resources != null) {
+      initShim.setResources(builder.resources);
+    }
+    if (builder.platformResources != null) {
+      initShim.setPlatformResources(builder.platformResources);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    if (builder.excludeDepsFromMergedLinkingIsSet()) {
+      initShim.setExcludeDepsFromMergedLinking(builder.excludeDepsFromMergedLinking);
+    }
+    this.srcs = initShim.getSrcs();
+    this.platformSrcs = initShim.getPlatformSrcs();
+    this.resources = initShim.getResources();
+    this.platformResources = initShim.getPlatformResources();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.excludeDepsFromMergedLinking = initShim.isExcludeDepsFromMergedLinking();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceSortedSet srcs;
+    private int srcsBuildStage;
+
+    SourceSortedSet getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceSortedSet srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceSortedSet> platformSrcs;
+    private int platformSrcsBuildStage;
+
+    PatternMatchedCollection<SourceSortedSet> getPlatformSrcs() {
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformSrcsBuildStage == STAGE_UNINITIALIZED) {
+        platformSrcsBuildStage = STAGE_INITIALIZING;
+        this.platformSrcs = Objects.requireNonNull(getPlatformSrcsInitialize(), "platformSrcs");
+        platformSrcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformSrcs;
+    }
+
+    void setPlatformSrcs(PatternMatchedCollection<SourceSortedSet> platformSrcs) {
+      this.platformSrcs = platformSrcs;
+      platformSrcsBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceSortedSet resources;
+    private int resourcesBuildStage;
+
+    SourceSortedSet getResources() {
+      if (resourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourcesBuildStage == STAGE_UNINITIALIZED) {
+        resourcesBuildStage = STAGE_INITIALIZING;
+        this.resources = Objects.requireNonNull(getResourcesInitialize(), "resources");
+        resourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resources;
+    }
+
+    void setResources(SourceSortedSet resources) {
+      this.resources = resources;
+      resourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceSortedSet> platformResources;
+    private int platformResourcesBuildStage;
+
+    PatternMatchedCollection<SourceSortedSet> getPlatformResources() {
+      if (platformResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformResourcesBuildStage == STAGE_UNINITIALIZED) {
+        platformResourcesBuildStage = STAGE_INITIALIZING;
+        this.platformResources = Objects.requireNonNull(getPlatformResourcesInitialize(), "platformResources");
+        platformResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformResources;
+    }
+
+    void setPlatformResources(PatternMatchedCollection<SourceSortedSet> platformResources) {
+      this.platformResources = platformResources;
+      platformResourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean excludeDepsFromMergedLinking;
+    private int excludeDepsFromMergedLinkingBuildStage;
+
+    boolean isExcludeDepsFromMergedLinking() {
+      if (excludeDepsFromMergedLinkingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (excludeDepsFromMergedLinkingBuildStage == STAGE_UNINITIALIZED) {
+        excludeDepsFromMergedLinkingBuildStage = STAGE_INITIALIZING;
+        this.excludeDepsFromMergedLinking = isExcludeDepsFromMergedLinkingInitialize();
+        excludeDepsFromMergedLinkingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.excludeDepsFromMergedLinking;
+    }
+
+    void setExcludeDepsFromMergedLinking(boolean excludeDepsFromMergedLinking) {
+      this.excludeDepsFromMergedLinking = excludeDepsFromMergedLinking;
+      excludeDepsFromMergedLinkingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) attributes.add("platformSrcs");
+      if (resourcesBuildStage == STAGE_INITIALIZING) attributes.add("resources");
+      if (platformResourcesBuildStage == STAGE_INITIALIZING) attributes.add("platformResources");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (excludeDepsFromMergedLinkingBuildStage == STAGE_INITIALIZING) attributes.add("excludeDepsFromMergedLinking");
+      return "Cannot build PythonLibraryDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceSortedSet getSrcsInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getSrcs();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getPlatformSrcsInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getPlatformSrcs();
+  }
+
+  private SourceSortedSet getResourcesInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getResources();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getPlatformResourcesInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getPlatformResources();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.getPlatformDeps();
+  }
+
+  private boolean isExcludeDepsFromMergedLinkingInitialize() {
+    return PythonLibraryDescription.AbstractPythonLibraryDescriptionArg.super.isExcludeDepsFromMergedLinking();
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceSortedSet getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code versionedSrcs} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourceSortedSet>> getVersionedSrcs() {
+    return Optional.ofNullable(versionedSrcs);
+  }
+
+  /**
+   * @return The value of the {@code platformSrcs} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getPlatformSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformSrcs()
+        : this.platformSrcs;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public SourceSortedSet getResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResources()
+        : this.resources;
+  }
+
+  /**
+   * @return The value of the {@code versionedResources} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourceSortedSet>> getVersionedResources() {
+    return Optional.ofNullable(versionedResources);
+  }
+
+  /**
+   * @return The value of the {@code platformResources} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getPlatformResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformResources()
+        : this.platformResources;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code baseModule} attribute
+   */
+  @Override
+  public Optional<String> getBaseModule() {
+    return Optional.ofNullable(baseModule);
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> getZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * @return The value of the {@code excludeDepsFromMergedLinking} attribute
+   */
+  @Override
+  public boolean isExcludeDepsFromMergedLinking() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isExcludeDepsFromMergedLinking()
+        : this.excludeDepsFromMergedLinking;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonLibraryDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonLibraryDescriptionArg
+        && equalTo((PythonLibraryDescriptionArg) another);
+  }
+
+  private boolean equalTo(PythonLibraryDescriptionArg another) {
+    return srcs.equals(another.srcs)
+        && Objects.equals(versionedSrcs, another.versionedSrcs)
+        && platformSrcs.equals(another.platformSrcs)
+        && resources.equals(another.resources)
+        && Objects.equals(versionedResources, another.versionedResources)
+        && platformResources.equals(another.platformResources)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(baseModule, another.baseModule)
+        && Objects.equals(zipSafe, another.zipSafe)
+        && excludeDepsFromMergedLinking == another.excludeDepsFromMergedLinking
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code srcs}, {@code versionedSrcs}, {@code platformSrcs}, {@code resources}, {@code versionedResources}, {@code platformResources}, {@code platformDeps}, {@code baseModule}, {@code zipSafe}, {@code excludeDepsFromMergedLinking}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedSrcs);
+    h += (h << 5) + platformSrcs.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedResources);
+    h += (h << 5) + platformResources.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(baseModule);
+    h += (h << 5) + Objects.hashCode(zipSafe);
+    h += (h << 5) + Booleans.hashCode(excludeDepsFromMergedLinking);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonLibraryDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonLibraryDescriptionArg")
+        .omitNullValues()
+        .add("srcs", srcs)
+        .add("versionedSrcs", versionedSrcs)
+        .add("platformSrcs", platformSrcs)
+        .add("resources", resources)
+        .add("versionedResources", versionedResources)
+        .add("platformResources", platformResources)
+        .add("platformDeps", platformDeps)
+        .add("baseModule", baseModule)
+        .add("zipSafe", zipSafe)
+        .add("excludeDepsFromMergedLinking", excludeDepsFromMergedLinking)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PythonLibraryDescriptionArg PythonLibraryDescriptionArg}.
+   * @return A new PythonLibraryDescriptionArg builder
+   */
+  public static PythonLibraryDescriptionArg.Builder builder() {
+    return new PythonLibraryDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonLibraryDescriptionArg PythonLibraryDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_EXCLUDE_DEPS_FROM_MERGED_LINKING = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable SourceSortedSet srcs;
+    private @Nullable VersionMatchedCollection<SourceSortedSet> versionedSrcs;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> platformSrcs;
+    private @Nullable SourceSortedSet resources;
+    private @Nullable VersionMatchedCollection<SourceSortedSet> versionedResources;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> platformResources;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String baseModule;
+    private @Nullable Boolean zipSafe;
+    private boolean excludeDepsFromMergedLinking;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.features.python.PythonLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PythonLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonLibraryDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PythonLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonLibraryDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(PythonLibraryDescription.AbstractPythonLibraryDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PythonLibraryDescription.CoreArg) {
+        PythonLibraryDescription.CoreArg instance = (PythonLibraryDescription.CoreArg) object;
+        Optional<VersionMatchedCollection<SourceSortedSet>> versionedResourcesOptional = instance.getVersionedResources();
+        if (versionedResourcesOptional.isPresent()) {
+          setVersionedResources(versionedResourcesOptional);
+        }
+        Optional<VersionMatchedCollection<SourceSortedSet>> versionedSrcsOptional = instance.getVersionedSrcs();
+        if (versionedSrcsOptional.isPresent()) {
+          setVersionedSrcs(versionedSrcsOptional);
+        }
+        Optional<String> baseModuleOptional = instance.getBaseModule();
+        if (baseModuleOptional.isPresent()) {
+          setBaseModule(baseModuleOptional);
+        }
+        setPlatformResources(instance.getPlatformResources());
+        setPlatformSrcs(instance.getPlatformSrcs());
+        setExcludeDepsFromMergedLinking(instance.isExcludeDepsFromMergedLinking());
+        Optional<Boolean> zipSafeOptional = instance.getZipSafe();
+        if (zipSafeOptional.isPresent()) {
+          setZipSafe(zipSafeOptional);
+        }
+        setResources(instance.getResources());
+        setPlatformDeps(instance.getPlatformDeps());
+        setSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(SourceSortedSet srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedSrcs() versionedSrcs} to versionedSrcs.
+     * @param versionedSrcs The value for versionedSrcs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSrcs(VersionMatchedCollection<SourceSortedSet> versionedSrcs) {
+      this.versionedSrcs = Objects.requireNonNull(versionedSrcs, "versionedSrcs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedSrcs() versionedSrcs} to versionedSrcs.
+     * @param versionedSrcs The value for versionedSrcs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSrcs(Optional<? extends VersionMatchedCollection<SourceSortedSet>> versionedSrcs) {
+      this.versionedSrcs = versionedSrcs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformSrcs() platformSrcs}.</em>
+     * @param platformSrcs The value for platformSrcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSrcs(PatternMatchedCollection<SourceSortedSet> platformSrcs) {
+      this.platformSrcs = Objects.requireNonNull(platformSrcs, "platformSrcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getResources() resources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getResources() resources}.</em>
+     * @param resources The value for resources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResources(SourceSortedSet resources) {
+      this.resources = Objects.requireNonNull(resources, "resources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedResources() versionedResources} to versionedResources.
+     * @param versionedResources The value for versionedResources
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedResources(VersionMatchedCollection<SourceSortedSet> versionedResources) {
+      this.versionedResources = Objects.requireNonNull(versionedResources, "versionedResources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getVersionedResources() versionedResources} to versionedResources.
+     * @param versionedResources The value for versionedResources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedResources(Optional<? extends VersionMatchedCollection<SourceSortedSet>> versionedResources) {
+      this.versionedResources = versionedResources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformResources() platformResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformResources() platformResources}.</em>
+     * @param platformResources The value for platformResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformResources(PatternMatchedCollection<SourceSortedSet> platformResources) {
+      this.platformResources = Objects.requireNonNull(platformResources, "platformResources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseModule(String baseModule) {
+      this.baseModule = Objects.requireNonNull(baseModule, "baseModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseModule(Optional<String> baseModule) {
+      this.baseModule = baseModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipSafe(boolean zipSafe) {
+      this.zipSafe = zipSafe;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipSafe(Optional<Boolean> zipSafe) {
+      this.zipSafe = zipSafe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#isExcludeDepsFromMergedLinking() excludeDepsFromMergedLinking} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#isExcludeDepsFromMergedLinking() excludeDepsFromMergedLinking}.</em>
+     * @param excludeDepsFromMergedLinking The value for excludeDepsFromMergedLinking 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExcludeDepsFromMergedLinking(boolean excludeDepsFromMergedLinking) {
+      this.excludeDepsFromMergedLinking = excludeDepsFromMergedLinking;
+      optBits |= OPT_BIT_EXCLUDE_DEPS_FROM_MERGED_LINKING;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonLibraryDescription.AbstractPythonLibraryDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonLibraryDescriptionArg PythonLibraryDescriptionArg}.
+     * @return An immutable instance of PythonLibraryDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonLibraryDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonLibraryDescriptionArg(this);
+    }
+
+    private boolean excludeDepsFromMergedLinkingIsSet() {
+      return (optBits & OPT_BIT_EXCLUDE_DEPS_FROM_MERGED_LINKING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PythonLibraryDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.facebook.buck.features.python;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractPythonPackageComponents}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code PythonPackageComponents.of()}.
+ * Use the static factory method to get the default singleton instance:
+ * {@code PythonPackageComponents.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonPackageComponents"})
+@Immutable
+@CheckReturnValue
+public final class PythonPackageComponents
+    extends AbstractPythonPackageComponents {
+  private final ImmutableMap<Path, SourcePath> modules;
+  private final ImmutableMap<Path, SourcePath> resources;
+  private final ImmutableMap<Path, SourcePath> nativeLibraries;
+  private final ImmutableMultimap<Path, SourcePath> moduleDirs;
+  private final @Nullable Boolean zipSafe;
+
+  private PythonPackageComponents() {
+    this.modules = ImmutableMap.of();
+    this.resources = ImmutableMap.of();
+    this.nativeLibraries = ImmutableMap.of();
+    this.moduleDirs = ImmutableMultimap.of();
+    this.zipSafe = null;
+  }
+
+  private PythonPackageComponents(
+      Map<? extends Path, ? extends SourcePath> modules,
+      Map<? extends Path, ? extends SourcePath> resources,
+      Map<? extends Path, ? extends SourcePath> nativeLibraries,
+      Multimap<? extends Path, ? extends SourcePath> moduleDirs,
+      Optional<Boolean> zipSafe) {
+    this.modules = ImmutableMap.copyOf(modules);
+    this.resources = ImmutableMap.copyOf(resources);
+    this.nativeLibraries = ImmutableMap.copyOf(nativeLibraries);
+    this.moduleDirs = ImmutableMultimap.copyOf(moduleDirs);
+    this.zipSafe = zipSafe.orElse(null);
+  }
+
+  private PythonPackageComponents(
+      PythonPackageComponents original,
+      ImmutableMap<Path, SourcePath> modules,
+      ImmutableMap<Path, SourcePath> resources,
+      ImmutableMap<Path, SourcePath> nativeLibraries,
+      ImmutableMultimap<Path, SourcePath> moduleDirs,
+      @Nullable Boolean zipSafe) {
+    this.modules = modules;
+    this.resources = resources;
+    this.nativeLibraries = nativeLibraries;
+    this.moduleDirs = moduleDirs;
+    this.zipSafe = zipSafe;
+  }
+
+  /**
+   * @return The value of the {@code modules} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getModules() {
+    return modules;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraries} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getNativeLibraries() {
+    return nativeLibraries;
+  }
+
+  /**
+   * @return The value of the {@code moduleDirs} attribute
+   */
+  @Override
+  public ImmutableMultimap<Path, SourcePath> getModuleDirs() {
+    return moduleDirs;
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> isZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getModules() modules} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the modules map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withModules(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.modules == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return validate(new PythonPackageComponents(this, newValue, this.resources, this.nativeLibraries, this.moduleDirs, this.zipSafe));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getResources() resources} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the resources map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withResources(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.resources == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return validate(new PythonPackageComponents(this, this.modules, newValue, this.nativeLibraries, this.moduleDirs, this.zipSafe));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getNativeLibraries() nativeLibraries} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLibraries map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withNativeLibraries(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.nativeLibraries == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return validate(new PythonPackageComponents(this, this.modules, this.resources, newValue, this.moduleDirs, this.zipSafe));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getModuleDirs() moduleDirs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the moduleDirs map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withModuleDirs(Multimap<? extends Path, ? extends SourcePath> entries) {
+    if (this.moduleDirs == entries) return this;
+    ImmutableMultimap<Path, SourcePath> newValue = ImmutableMultimap.copyOf(entries);
+    return validate(new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, newValue, this.zipSafe));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractPythonPackageComponents#isZipSafe() zipSafe} attribute.
+   * @param value The value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withZipSafe(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.zipSafe, newValue)) return this;
+    return validate(new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, this.moduleDirs, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractPythonPackageComponents#isZipSafe() zipSafe} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withZipSafe(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.zipSafe, value)) return this;
+    return validate(new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, this.moduleDirs, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonPackageComponents} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonPackageComponents
+        && equalTo((PythonPackageComponents) another);
+  }
+
+  private boolean equalTo(PythonPackageComponents another) {
+    return modules.equals(another.modules)
+        && resources.equals(another.resources)
+        && nativeLibraries.equals(another.nativeLibraries)
+        && moduleDirs.equals(another.moduleDirs)
+        && Objects.equals(zipSafe, another.zipSafe);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code modules}, {@code resources}, {@code nativeLibraries}, {@code moduleDirs}, {@code zipSafe}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + modules.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + nativeLibraries.hashCode();
+    h += (h << 5) + moduleDirs.hashCode();
+    h += (h << 5) + Objects.hashCode(zipSafe);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonPackageComponents} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonPackageComponents")
+        .omitNullValues()
+        .add("modules", modules)
+        .add("resources", resources)
+        .add("nativeLibraries", nativeLibraries)
+        .add("moduleDirs", moduleDirs)
+        .add("zipSafe", zipSafe)
+        .toString();
+  }
+
+  private static final PythonPackageComponents INSTANCE = validate(new PythonPackageComponents());
+
+  /**
+   * Returns the default immutable singleton value of {@code PythonPackageComponents}
+   * @return An immutable instance of PythonPackageComponents
+   */
+  public static PythonPackageComponents of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code PythonPackageComponents} instance.
+   * @param modules The value for the {@code modules} attribute
+   * @param resources The value for the {@code resources} attribute
+   * @param nativeLibraries The value for the {@code nativeLibraries} attribute
+   * @param moduleDirs The value for the {@code moduleDirs} attribute
+   * @param zipSafe The value for the {@code zipSafe} attribute
+   * @return An immutable PythonPackageComponents instance
+   */
+  public static PythonPackageComponents of(Map<? extends Path, ? extends SourcePath> modules, Map<? extends Path, ? extends SourcePath> resources, Map<? extends Path, ? extends SourcePath> nativeLibraries, Multimap<? extends Path, ? extends SourcePath> moduleDirs, Optional<Boolean> zipSafe) {
+    return validate(new PythonPackageComponents(modules, resources, nativeLibraries, moduleDirs, zipSafe));
+  }
+
+
+  private static PythonPackageComponents validate(PythonPackageComponents instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPythonPackageComponents} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PythonPackageComponents instance
+   */
+  static PythonPackageComponents copyOf(AbstractPythonPackageComponents instance) {
+    if (instance instanceof PythonPackageComponents) {
+      return (PythonPackageComponents) instance;
+    }
+    return PythonPackageComponents.of(instance.getModules(), instance.getResources(), instance.getNativeLibraries(), instance.getModuleDirs(), instance.isZipSafe());
+  }
+}
@@ -0,0 +1,1692 @@
+package com.facebook.buck.features.python;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasContacts;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.description.arg.HasTestTimeout;
+import com.facebook.buck.core.description.arg.HasTests;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.rules.coercer.NeededCoverageSpec;
+import com.facebook.buck.rules.coercer.PatternMatchedCollection;
+import com.facebook.buck.rules.coercer.SourceSortedSet;
+import com.facebook.buck.rules.coercer.VersionMatchedCollection;
+import com.facebook.buck.rules.macros.StringWithMacros;
+import com.facebook.buck.versions.HasVersionUniverse;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PythonTestDescription.AbstractPythonTestDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonTestDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PythonTestDescription.AbstractPythonTestDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class PythonTestDescriptionArg
+    implements PythonTestDescription.AbstractPythonTestDescriptionArg {
+  private final @Nullable String mainModule;
+  private final @Nullable String platform;
+  private final @Nullable Flavor cxxPlatform;
+  private final @Nullable String extension;
+  private final @Nullable PythonBuckConfig.PackageStyle packageStyle;
+  private final ImmutableSet<BuildTarget> preloadDeps;
+  private final ImmutableList<StringWithMacros> linkerFlags;
+  private final ImmutableList<NeededCoverageSpec> neededCoverage;
+  private final ImmutableList<String> buildArgs;
+  private final ImmutableMap<String, StringWithMacros> env;
+  private final ImmutableSortedSet<String> contacts;
+  private final @Nullable Long testRuleTimeoutMs;
+  private final SourceSortedSet srcs;
+  private final @Nullable VersionMatchedCollection<SourceSortedSet> versionedSrcs;
+  private final PatternMatchedCollection<SourceSortedSet> platformSrcs;
+  private final SourceSortedSet resources;
+  private final @Nullable VersionMatchedCollection<SourceSortedSet> versionedResources;
+  private final PatternMatchedCollection<SourceSortedSet> platformResources;
+  private final PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+  private final @Nullable String baseModule;
+  private final @Nullable Boolean zipSafe;
+  private final boolean excludeDepsFromMergedLinking;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final @Nullable String versionUniverse;
+
+  private PythonTestDescriptionArg(PythonTestDescriptionArg.Builder builder) {
+    this.mainModule = builder.mainModule;
+    this.platform = builder.platform;
+    this.cxxPlatform = builder.cxxPlatform;
+    this.extension = builder.extension;
+    this.packageStyle = builder.packageStyle;
+    this.preloadDeps = builder.preloadDeps.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.neededCoverage = builder.neededCoverage.build();
+    this.buildArgs = builder.buildArgs.build();
+    this.env = builder.env.build();
+    this.contacts = builder.contacts.build();
+    this.testRuleTimeoutMs = builder.testRuleTimeoutMs;
+    this.versionedSrcs = builder.versionedSrcs;
+    this.versionedResources = builder.versionedResources;
+    this.baseModule = builder.baseModule;
+    this.zipSafe = builder.zipSafe;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    this.tests = builder.tests.build();
+    this.versionUniverse = builder.versionUniverse;
+    if (builder.srcs != null) {
+      initShim.setSrcs(builder.srcs);
+    }
+    if (builder.platformSrcs != null) {
+      initShim.setPlatformSrcs(builder.platformSrcs);
+    }
+    if (builder.resources != null) {
+      initShim.setResources(builder.resources);
+    }
+    if (builder.platformResources != null) {
+      initShim.setPlatformResources(builder.platformResources);
+    }
+    if (builder.platformDeps != null) {
+      initShim.setPlatformDeps(builder.platformDeps);
+    }
+    if (builder.excludeDepsFromMergedLinkingIsSet()) {
+      initShim.setExcludeDepsFromMergedLinking(builder.excludeDepsFromMergedLinking);
+    }
+    this.srcs = initShim.getSrcs();
+    this.platformSrcs = initShim.getPlatformSrcs();
+    this.resources = initShim.getResources();
+    this.platformResources = initShim.getPlatformResources();
+    this.platformDeps = initShim.getPlatformDeps();
+    this.excludeDepsFromMergedLinking = initShim.isExcludeDepsFromMergedLinking();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private SourceSortedSet srcs;
+    private int srcsBuildStage;
+
+    SourceSortedSet getSrcs() {
+      if (srcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (srcsBuildStage == STAGE_UNINITIALIZED) {
+        srcsBuildStage = STAGE_INITIALIZING;
+        this.srcs = Objects.requireNonNull(getSrcsInitialize(), "srcs");
+        srcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.srcs;
+    }
+
+    void setSrcs(SourceSortedSet srcs) {
+      this.srcs = srcs;
+      srcsBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceSortedSet> platformSrcs;
+    private int platformSrcsBuildStage;
+
+    PatternMatchedCollection<SourceSortedSet> getPlatformSrcs() {
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformSrcsBuildStage == STAGE_UNINITIALIZED) {
+        platformSrcsBuildStage = STAGE_INITIALIZING;
+        this.platformSrcs = Objects.requireNonNull(getPlatformSrcsInitialize(), "platformSrcs");
+        platformSrcsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformSrcs;
+    }
+
+    void setPlatformSrcs(PatternMatchedCollection<SourceSortedSet> platformSrcs) {
+      this.platformSrcs = platformSrcs;
+      platformSrcsBuildStage = STAGE_INITIALIZED;
+    }
+    private SourceSortedSet resources;
+    private int resourcesBuildStage;
+
+    SourceSortedSet getResources() {
+      if (resourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourcesBuildStage == STAGE_UNINITIALIZED) {
+        resourcesBuildStage = STAGE_INITIALIZING;
+        this.resources = Objects.requireNonNull(getResourcesInitialize(), "resources");
+        resourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resources;
+    }
+
+    void setResources(SourceSortedSet resources) {
+      this.resources = resources;
+      resourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<SourceSortedSet> platformResources;
+    private int platformResourcesBuildStage;
+
+    PatternMatchedCollection<SourceSortedSet> getPlatformResources() {
+      if (platformResourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformResourcesBuildStage == STAGE_UNINITIALIZED) {
+        platformResourcesBuildStage = STAGE_INITIALIZING;
+        this.platformResources = Objects.requireNonNull(getPlatformResourcesInitialize(), "platformResources");
+        platformResourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformResources;
+    }
+
+    void setPlatformResources(PatternMatchedCollection<SourceSortedSet> platformResources) {
+      this.platformResources = platformResources;
+      platformResourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private int platformDepsBuildStage;
+
+    PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+      if (platformDepsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (platformDepsBuildStage == STAGE_UNINITIALIZED) {
+        platformDepsBuildStage = STAGE_INITIALIZING;
+        this.platformDeps = Objects.requireNonNull(getPlatformDepsInitialize(), "platformDeps");
+        platformDepsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.platformDeps;
+    }
+
+    void setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = platformDeps;
+      platformDepsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean excludeDepsFromMergedLinking;
+    private int excludeDepsFromMergedLinkingBuildStage;
+
+    boolean isExcludeDepsFromMergedLinking() {
+      if (excludeDepsFromMergedLinkingBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (excludeDepsFromMergedLinkingBuildStage == STAGE_UNINITIALIZED) {
+        excludeDepsFromMergedLinkingBuildStage = STAGE_INITIALIZING;
+        this.excludeDepsFromMergedLinking = isExcludeDepsFromMergedLinkingInitialize();
+        excludeDepsFromMergedLinkingBuildStage = STAGE_INITIALIZED;
+      }
+      return this.excludeDepsFromMergedLinking;
+    }
+
+    void setExcludeDepsFromMergedLinking(boolean excludeDepsFromMergedLinking) {
+      this.excludeDepsFromMergedLinking = excludeDepsFromMergedLinking;
+      excludeDepsFromMergedLinkingBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (srcsBuildStage == STAGE_INITIALIZING) attributes.add("srcs");
+      if (platformSrcsBuildStage == STAGE_INITIALIZING) attributes.add("platformSrcs");
+      if (resourcesBuildStage == STAGE_INITIALIZING) attributes.add("resources");
+      if (platformResourcesBuildStage == STAGE_INITIALIZING) attributes.add("platformResources");
+      if (platformDepsBuildStage == STAGE_INITIALIZING) attributes.add("platformDeps");
+      if (excludeDepsFromMergedLinkingBuildStage == STAGE_INITIALIZING) attributes.add("excludeDepsFromMergedLinking");
+      return "Cannot build PythonTestDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private SourceSortedSet getSrcsInitialize() {
+    return PythonTestDescription.AbstractPythonTestDescriptionArg.super.getSrcs();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getPlatformSrcsInitialize() {
+    return PythonTestDescription.AbstractPythonTestDescriptionArg.super.getPlatformSrcs();
+  }
+
+  private SourceSortedSet getResourcesInitialize() {
+    return PythonTestDescription.AbstractPythonTestDescriptionArg.super.getResources();
+  }
+
+  private PatternMatchedCollection<SourceSortedSet> getPlatformResourcesInitialize() {
+    return PythonTestDescription.AbstractPythonTestDescriptionArg.super.getPlatformResources();
+  }
+
+  private PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDepsInitialize() {
+    return PythonTestDescription.AbstractPythonTestDescriptionArg.super.getPlatformDeps();
+  }
+
+  private boolean isExcludeDepsFromMergedLinkingInitialize() {
+    return PythonTestDescription.AbstractPythonTestDescriptionArg.super.isExcludeDepsFromMergedLinking();
+  }
+
+  /**
+   * @return The value of the {@code mainModule} attribute
+   */
+  @Override
+  public Optional<String> getMainModule() {
+    return Optional.ofNullable(mainModule);
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Optional<String> getPlatform() {
+    return Optional.ofNullable(platform);
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public Optional<Flavor> getCxxPlatform() {
+    return Optional.ofNullable(cxxPlatform);
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public Optional<String> getExtension() {
+    return Optional.ofNullable(extension);
+  }
+
+  /**
+   * @return The value of the {@code packageStyle} attribute
+   */
+  @Override
+  public Optional<PythonBuckConfig.PackageStyle> getPackageStyle() {
+    return Optional.ofNullable(packageStyle);
+  }
+
+  /**
+   * @return The value of the {@code preloadDeps} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getPreloadDeps() {
+    return preloadDeps;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<StringWithMacros> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code neededCoverage} attribute
+   */
+  @Override
+  public ImmutableList<NeededCoverageSpec> getNeededCoverage() {
+    return neededCoverage;
+  }
+
+  /**
+   * @return The value of the {@code buildArgs} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildArgs() {
+    return buildArgs;
+  }
+
+  /**
+   * @return The value of the {@code env} attribute
+   */
+  @Override
+  public ImmutableMap<String, StringWithMacros> getEnv() {
+    return env;
+  }
+
+  /**
+   * @return The value of the {@code contacts} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getContacts() {
+    return contacts;
+  }
+
+  /**
+   * @return The value of the {@code testRuleTimeoutMs} attribute
+   */
+  @Override
+  public Optional<Long> getTestRuleTimeoutMs() {
+    return Optional.ofNullable(testRuleTimeoutMs);
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  public SourceSortedSet getSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSrcs()
+        : this.srcs;
+  }
+
+  /**
+   * @return The value of the {@code versionedSrcs} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourceSortedSet>> getVersionedSrcs() {
+    return Optional.ofNullable(versionedSrcs);
+  }
+
+  /**
+   * @return The value of the {@code platformSrcs} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getPlatformSrcs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformSrcs()
+        : this.platformSrcs;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public SourceSortedSet getResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResources()
+        : this.resources;
+  }
+
+  /**
+   * @return The value of the {@code versionedResources} attribute
+   */
+  @Override
+  public Optional<VersionMatchedCollection<SourceSortedSet>> getVersionedResources() {
+    return Optional.ofNullable(versionedResources);
+  }
+
+  /**
+   * @return The value of the {@code platformResources} attribute
+   */
+  @Override
+  public PatternMatchedCollection<SourceSortedSet> getPlatformResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformResources()
+        : this.platformResources;
+  }
+
+  /**
+   * @return The value of the {@code platformDeps} attribute
+   */
+  @Override
+  public PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> getPlatformDeps() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPlatformDeps()
+        : this.platformDeps;
+  }
+
+  /**
+   * @return The value of the {@code baseModule} attribute
+   */
+  @Override
+  public Optional<String> getBaseModule() {
+    return Optional.ofNullable(baseModule);
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> getZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * @return The value of the {@code excludeDepsFromMergedLinking} attribute
+   */
+  @Override
+  public boolean isExcludeDepsFromMergedLinking() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isExcludeDepsFromMergedLinking()
+        : this.excludeDepsFromMergedLinking;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   *@return A list of tests of this target. 
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code versionUniverse} attribute
+   */
+  @Override
+  public Optional<String> getVersionUniverse() {
+    return Optional.ofNullable(versionUniverse);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonTestDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonTestDescriptionArg
+        && equalTo((PythonTestDescriptionArg) another);
+  }
+
+  private boolean equalTo(PythonTestDescriptionArg another) {
+    return Objects.equals(mainModule, another.mainModule)
+        && Objects.equals(platform, another.platform)
+        && Objects.equals(cxxPlatform, another.cxxPlatform)
+        && Objects.equals(extension, another.extension)
+        && Objects.equals(packageStyle, another.packageStyle)
+        && preloadDeps.equals(another.preloadDeps)
+        && linkerFlags.equals(another.linkerFlags)
+        && neededCoverage.equals(another.neededCoverage)
+        && buildArgs.equals(another.buildArgs)
+        && env.equals(another.env)
+        && contacts.equals(another.contacts)
+        && Objects.equals(testRuleTimeoutMs, another.testRuleTimeoutMs)
+        && srcs.equals(another.srcs)
+        && Objects.equals(versionedSrcs, another.versionedSrcs)
+        && platformSrcs.equals(another.platformSrcs)
+        && resources.equals(another.resources)
+        && Objects.equals(versionedResources, another.versionedResources)
+        && platformResources.equals(another.platformResources)
+        && platformDeps.equals(another.platformDeps)
+        && Objects.equals(baseModule, another.baseModule)
+        && Objects.equals(zipSafe, another.zipSafe)
+        && excludeDepsFromMergedLinking == another.excludeDepsFromMergedLinking
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps)
+        && tests.equals(another.tests)
+        && Objects.equals(versionUniverse, another.versionUniverse);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mainModule}, {@code platform}, {@code cxxPlatform}, {@code extension}, {@code packageStyle}, {@code preloadDeps}, {@code linkerFlags}, {@code neededCoverage}, {@code buildArgs}, {@code env}, {@code contacts}, {@code testRuleTimeoutMs}, {@code srcs}, {@code versionedSrcs}, {@code platformSrcs}, {@code resources}, {@code versionedResources}, {@code platformResources}, {@code platformDeps}, {@code baseModule}, {@code zipSafe}, {@code excludeDepsFromMergedLinking}, {@code name}, {@code licenses}, {@code labels}, {@code deps}, {@code tests}, {@code versionUniverse}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(mainModule);
+    h += (h << 5) + Objects.hashCode(platform);
+    h += (h << 5) + Objects.hashCode(cxxPlatform);
+    h += (h << 5) + Objects.hashCode(extension);
+    h += (h << 5) + Objects.hashCode(packageStyle);
+    h += (h << 5) + preloadDeps.hashCode();
+    h += (h << 5) + linkerFlags.hashCode();
+    h += (h << 5) + neededCoverage.hashCode();
+    h += (h << 5) + buildArgs.hashCode();
+    h += (h << 5) + env.hashCode();
+    h += (h << 5) + contacts.hashCode();
+    h += (h << 5) + Objects.hashCode(testRuleTimeoutMs);
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedSrcs);
+    h += (h << 5) + platformSrcs.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(versionedResources);
+    h += (h << 5) + platformResources.hashCode();
+    h += (h << 5) + platformDeps.hashCode();
+    h += (h << 5) + Objects.hashCode(baseModule);
+    h += (h << 5) + Objects.hashCode(zipSafe);
+    h += (h << 5) + Booleans.hashCode(excludeDepsFromMergedLinking);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + Objects.hashCode(versionUniverse);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonTestDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonTestDescriptionArg")
+        .omitNullValues()
+        .add("mainModule", mainModule)
+        .add("platform", platform)
+        .add("cxxPlatform", cxxPlatform)
+        .add("extension", extension)
+        .add("packageStyle", packageStyle)
+        .add("preloadDeps", preloadDeps)
+        .add("linkerFlags", linkerFlags)
+        .add("neededCoverage", neededCoverage)
+        .add("buildArgs", buildArgs)
+        .add("env", env)
+        .add("contacts", contacts)
+        .add("testRuleTimeoutMs", testRuleTimeoutMs)
+        .add("srcs", srcs)
+        .add("versionedSrcs", versionedSrcs)
+        .add("platformSrcs", platformSrcs)
+        .add("resources", resources)
+        .add("versionedResources", versionedResources)
+        .add("platformResources", platformResources)
+        .add("platformDeps", platformDeps)
+        .add("baseModule", baseModule)
+        .add("zipSafe", zipSafe)
+        .add("excludeDepsFromMergedLinking", excludeDepsFromMergedLinking)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .add("tests", tests)
+        .add("versionUniverse", versionUniverse)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PythonTestDescriptionArg PythonTestDescriptionArg}.
+   * @return A new PythonTestDescriptionArg builder
+   */
+  public static PythonTestDescriptionArg.Builder builder() {
+    return new PythonTestDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonTestDescriptionArg PythonTestDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_EXCLUDE_DEPS_FROM_MERGED_LINKING = 0x1L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable String mainModule;
+    private @Nullable String platform;
+    private @Nullable Flavor cxxPlatform;
+    private @Nullable String extension;
+    private @Nullable PythonBuckConfig.PackageStyle packageStyle;
+    private ImmutableSet.Builder<BuildTarget> preloadDeps = ImmutableSet.builder();
+    private ImmutableList.Builder<StringWithMacros> linkerFlags = ImmutableList.builder();
+    private ImmutableList.Builder<NeededCoverageSpec> neededCoverage = ImmutableList.builder();
+    private ImmutableList.Builder<String> buildArgs = ImmutableList.builder();
+    private ImmutableMap.Builder<String, StringWithMacros> env = ImmutableMap.builder();
+    private ImmutableSortedSet.Builder<String> contacts = ImmutableSortedSet.naturalOrder();
+    private @Nullable Long testRuleTimeoutMs;
+    private @Nullable SourceSortedSet srcs;
+    private @Nullable VersionMatchedCollection<SourceSortedSet> versionedSrcs;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> platformSrcs;
+    private @Nullable SourceSortedSet resources;
+    private @Nullable VersionMatchedCollection<SourceSortedSet> versionedResources;
+    private @Nullable PatternMatchedCollection<SourceSortedSet> platformResources;
+    private @Nullable PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps;
+    private @Nullable String baseModule;
+    private @Nullable Boolean zipSafe;
+    private boolean excludeDepsFromMergedLinking;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    private @Nullable String versionUniverse;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.features.python.PythonLibraryDescription.CoreArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PythonLibraryDescription.CoreArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.versions.HasVersionUniverse} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasVersionUniverse instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTestTimeout} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTestTimeout instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasTests} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasTests instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonTestDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(PythonTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonTestDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(PythonTestDescription.AbstractPythonTestDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasContacts} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasContacts instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof PythonLibraryDescription.CoreArg) {
+        PythonLibraryDescription.CoreArg instance = (PythonLibraryDescription.CoreArg) object;
+        Optional<VersionMatchedCollection<SourceSortedSet>> versionedResourcesOptional = instance.getVersionedResources();
+        if (versionedResourcesOptional.isPresent()) {
+          setVersionedResources(versionedResourcesOptional);
+        }
+        Optional<VersionMatchedCollection<SourceSortedSet>> versionedSrcsOptional = instance.getVersionedSrcs();
+        if (versionedSrcsOptional.isPresent()) {
+          setVersionedSrcs(versionedSrcsOptional);
+        }
+        Optional<String> baseModuleOptional = instance.getBaseModule();
+        if (baseModuleOptional.isPresent()) {
+          setBaseModule(baseModuleOptional);
+        }
+        setPlatformResources(instance.getPlatformResources());
+        setExcludeDepsFromMergedLinking(instance.isExcludeDepsFromMergedLinking());
+        setPlatformSrcs(instance.getPlatformSrcs());
+        Optional<Boolean> zipSafeOptional = instance.getZipSafe();
+        if (zipSafeOptional.isPresent()) {
+          setZipSafe(zipSafeOptional);
+        }
+        setResources(instance.getResources());
+        setPlatformDeps(instance.getPlatformDeps());
+        setSrcs(instance.getSrcs());
+      }
+      if (object instanceof HasVersionUniverse) {
+        HasVersionUniverse instance = (HasVersionUniverse) object;
+        Optional<String> versionUniverseOptional = instance.getVersionUniverse();
+        if (versionUniverseOptional.isPresent()) {
+          setVersionUniverse(versionUniverseOptional);
+        }
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof HasTestTimeout) {
+        HasTestTimeout instance = (HasTestTimeout) object;
+        Optional<Long> testRuleTimeoutMsOptional = instance.getTestRuleTimeoutMs();
+        if (testRuleTimeoutMsOptional.isPresent()) {
+          setTestRuleTimeoutMs(testRuleTimeoutMsOptional);
+        }
+      }
+      if (object instanceof HasTests) {
+        HasTests instance = (HasTests) object;
+        addAllTests(instance.getTests());
+      }
+      if (object instanceof PythonTestDescription.AbstractPythonTestDescriptionArg) {
+        PythonTestDescription.AbstractPythonTestDescriptionArg instance = (PythonTestDescription.AbstractPythonTestDescriptionArg) object;
+        addAllPreloadDeps(instance.getPreloadDeps());
+        Optional<String> extensionOptional = instance.getExtension();
+        if (extensionOptional.isPresent()) {
+          setExtension(extensionOptional);
+        }
+        Optional<String> mainModuleOptional = instance.getMainModule();
+        if (mainModuleOptional.isPresent()) {
+          setMainModule(mainModuleOptional);
+        }
+        addAllLinkerFlags(instance.getLinkerFlags());
+        putAllEnv(instance.getEnv());
+        addAllBuildArgs(instance.getBuildArgs());
+        Optional<PythonBuckConfig.PackageStyle> packageStyleOptional = instance.getPackageStyle();
+        if (packageStyleOptional.isPresent()) {
+          setPackageStyle(packageStyleOptional);
+        }
+        Optional<String> platformOptional = instance.getPlatform();
+        if (platformOptional.isPresent()) {
+          setPlatform(platformOptional);
+        }
+        Optional<Flavor> cxxPlatformOptional = instance.getCxxPlatform();
+        if (cxxPlatformOptional.isPresent()) {
+          setCxxPlatform(cxxPlatformOptional);
+        }
+        addAllNeededCoverage(instance.getNeededCoverage());
+      }
+      if (object instanceof HasContacts) {
+        HasContacts instance = (HasContacts) object;
+        addAllContacts(instance.getContacts());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getMainModule() mainModule} to mainModule.
+     * @param mainModule The value for mainModule
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMainModule(String mainModule) {
+      this.mainModule = Objects.requireNonNull(mainModule, "mainModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getMainModule() mainModule} to mainModule.
+     * @param mainModule The value for mainModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMainModule(Optional<String> mainModule) {
+      this.mainModule = mainModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(String platform) {
+      this.platform = Objects.requireNonNull(platform, "platform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatform() platform} to platform.
+     * @param platform The value for platform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatform(Optional<String> platform) {
+      this.platform = platform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxPlatform(Flavor cxxPlatform) {
+      this.cxxPlatform = Objects.requireNonNull(cxxPlatform, "cxxPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCxxPlatform(Optional<? extends Flavor> cxxPlatform) {
+      this.cxxPlatform = cxxPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getExtension() extension} to extension.
+     * @param extension The value for extension
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtension(String extension) {
+      this.extension = Objects.requireNonNull(extension, "extension");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getExtension() extension} to extension.
+     * @param extension The value for extension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExtension(Optional<String> extension) {
+      this.extension = extension.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStyle(PythonBuckConfig.PackageStyle packageStyle) {
+      this.packageStyle = Objects.requireNonNull(packageStyle, "packageStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPackageStyle() packageStyle} to packageStyle.
+     * @param packageStyle The value for packageStyle
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPackageStyle(Optional<? extends PythonBuckConfig.PackageStyle> packageStyle) {
+      this.packageStyle = packageStyle.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param element A preloadDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreloadDeps(BuildTarget element) {
+      this.preloadDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An array of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addPreloadDeps(BuildTarget... elements) {
+      this.preloadDeps.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An iterable of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPreloadDeps(Iterable<? extends BuildTarget> elements) {
+      this.preloadDeps = ImmutableSet.builder();
+      return addAllPreloadDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPreloadDeps() preloadDeps} set.
+     * @param elements An iterable of preloadDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllPreloadDeps(Iterable<? extends BuildTarget> elements) {
+      this.preloadDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(StringWithMacros element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLinkerFlags(StringWithMacros... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLinkerFlags(Iterable<? extends StringWithMacros> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getNeededCoverage() neededCoverage} list.
+     * @param element A neededCoverage element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNeededCoverage(NeededCoverageSpec element) {
+      this.neededCoverage.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getNeededCoverage() neededCoverage} list.
+     * @param elements An array of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addNeededCoverage(NeededCoverageSpec... elements) {
+      this.neededCoverage.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getNeededCoverage() neededCoverage} list.
+     * @param elements An iterable of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNeededCoverage(Iterable<? extends NeededCoverageSpec> elements) {
+      this.neededCoverage = ImmutableList.builder();
+      return addAllNeededCoverage(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getNeededCoverage() neededCoverage} list.
+     * @param elements An iterable of neededCoverage elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllNeededCoverage(Iterable<? extends NeededCoverageSpec> elements) {
+      this.neededCoverage.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param element A buildArgs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildArgs(String element) {
+      this.buildArgs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An array of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addBuildArgs(String... elements) {
+      this.buildArgs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An iterable of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildArgs(Iterable<String> elements) {
+      this.buildArgs = ImmutableList.builder();
+      return addAllBuildArgs(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getBuildArgs() buildArgs} list.
+     * @param elements An iterable of buildArgs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllBuildArgs(Iterable<String> elements) {
+      this.buildArgs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnv(String key, StringWithMacros value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putEnv(Map.Entry<String, ? extends StringWithMacros> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnv(Map<String, ? extends StringWithMacros> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllEnv(Map<String, ? extends StringWithMacros> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param element A contacts element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String element) {
+      this.contacts.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An array of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addContacts(String... elements) {
+      this.contacts.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setContacts(Iterable<String> elements) {
+      this.contacts = ImmutableSortedSet.naturalOrder();
+      return addAllContacts(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getContacts() contacts} sortedSet.
+     * @param elements An iterable of contacts elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllContacts(Iterable<String> elements) {
+      this.contacts.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestRuleTimeoutMs(long testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getTestRuleTimeoutMs() testRuleTimeoutMs} to testRuleTimeoutMs.
+     * @param testRuleTimeoutMs The value for testRuleTimeoutMs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTestRuleTimeoutMs(Optional<Long> testRuleTimeoutMs) {
+      this.testRuleTimeoutMs = testRuleTimeoutMs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getSrcs() srcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getSrcs() srcs}.</em>
+     * @param srcs The value for srcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSrcs(SourceSortedSet srcs) {
+      this.srcs = Objects.requireNonNull(srcs, "srcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getVersionedSrcs() versionedSrcs} to versionedSrcs.
+     * @param versionedSrcs The value for versionedSrcs
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSrcs(VersionMatchedCollection<SourceSortedSet> versionedSrcs) {
+      this.versionedSrcs = Objects.requireNonNull(versionedSrcs, "versionedSrcs");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getVersionedSrcs() versionedSrcs} to versionedSrcs.
+     * @param versionedSrcs The value for versionedSrcs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedSrcs(Optional<? extends VersionMatchedCollection<SourceSortedSet>> versionedSrcs) {
+      this.versionedSrcs = versionedSrcs.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatformSrcs() platformSrcs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatformSrcs() platformSrcs}.</em>
+     * @param platformSrcs The value for platformSrcs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformSrcs(PatternMatchedCollection<SourceSortedSet> platformSrcs) {
+      this.platformSrcs = Objects.requireNonNull(platformSrcs, "platformSrcs");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getResources() resources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getResources() resources}.</em>
+     * @param resources The value for resources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResources(SourceSortedSet resources) {
+      this.resources = Objects.requireNonNull(resources, "resources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getVersionedResources() versionedResources} to versionedResources.
+     * @param versionedResources The value for versionedResources
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedResources(VersionMatchedCollection<SourceSortedSet> versionedResources) {
+      this.versionedResources = Objects.requireNonNull(versionedResources, "versionedResources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getVersionedResources() versionedResources} to versionedResources.
+     * @param versionedResources The value for versionedResources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionedResources(Optional<? extends VersionMatchedCollection<SourceSortedSet>> versionedResources) {
+      this.versionedResources = versionedResources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatformResources() platformResources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatformResources() platformResources}.</em>
+     * @param platformResources The value for platformResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformResources(PatternMatchedCollection<SourceSortedSet> platformResources) {
+      this.platformResources = Objects.requireNonNull(platformResources, "platformResources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatformDeps() platformDeps} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getPlatformDeps() platformDeps}.</em>
+     * @param platformDeps The value for platformDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlatformDeps(PatternMatchedCollection<ImmutableSortedSet<BuildTarget>> platformDeps) {
+      this.platformDeps = Objects.requireNonNull(platformDeps, "platformDeps");
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseModule(String baseModule) {
+      this.baseModule = Objects.requireNonNull(baseModule, "baseModule");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getBaseModule() baseModule} to baseModule.
+     * @param baseModule The value for baseModule
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBaseModule(Optional<String> baseModule) {
+      this.baseModule = baseModule.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipSafe(boolean zipSafe) {
+      this.zipSafe = zipSafe;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getZipSafe() zipSafe} to zipSafe.
+     * @param zipSafe The value for zipSafe
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setZipSafe(Optional<Boolean> zipSafe) {
+      this.zipSafe = zipSafe.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#isExcludeDepsFromMergedLinking() excludeDepsFromMergedLinking} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link PythonTestDescription.AbstractPythonTestDescriptionArg#isExcludeDepsFromMergedLinking() excludeDepsFromMergedLinking}.</em>
+     * @param excludeDepsFromMergedLinking The value for excludeDepsFromMergedLinking 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExcludeDepsFromMergedLinking(boolean excludeDepsFromMergedLinking) {
+      this.excludeDepsFromMergedLinking = excludeDepsFromMergedLinking;
+      optBits |= OPT_BIT_EXCLUDE_DEPS_FROM_MERGED_LINKING;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionUniverse(String versionUniverse) {
+      this.versionUniverse = Objects.requireNonNull(versionUniverse, "versionUniverse");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link PythonTestDescription.AbstractPythonTestDescriptionArg#getVersionUniverse() versionUniverse} to versionUniverse.
+     * @param versionUniverse The value for versionUniverse
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionUniverse(Optional<String> versionUniverse) {
+      this.versionUniverse = versionUniverse.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonTestDescriptionArg PythonTestDescriptionArg}.
+     * @return An immutable instance of PythonTestDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonTestDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonTestDescriptionArg(this);
+    }
+
+    private boolean excludeDepsFromMergedLinkingIsSet() {
+      return (optBits & OPT_BIT_EXCLUDE_DEPS_FROM_MERGED_LINKING) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build PythonTestDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
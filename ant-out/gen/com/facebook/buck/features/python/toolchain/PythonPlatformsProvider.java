@@ -0,0 +1,86 @@
+package com.facebook.buck.features.python.toolchain;
+
+import com.facebook.buck.core.model.FlavorDomain;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractPythonPlatformsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code PythonPlatformsProvider.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonPlatformsProvider"})
+@Immutable
+@CheckReturnValue
+public final class PythonPlatformsProvider
+    implements AbstractPythonPlatformsProvider {
+  private final FlavorDomain<PythonPlatform> pythonPlatforms;
+
+  private PythonPlatformsProvider(
+      FlavorDomain<PythonPlatform> pythonPlatforms) {
+    this.pythonPlatforms = Objects.requireNonNull(pythonPlatforms, "pythonPlatforms");
+  }
+
+  /**
+   * @return The value of the {@code pythonPlatforms} attribute
+   */
+  @Override
+  public FlavorDomain<PythonPlatform> getPythonPlatforms() {
+    return pythonPlatforms;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonPlatformsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonPlatformsProvider
+        && equalTo((PythonPlatformsProvider) another);
+  }
+
+  private boolean equalTo(PythonPlatformsProvider another) {
+    return pythonPlatforms.equals(another.pythonPlatforms);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pythonPlatforms}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + pythonPlatforms.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonPlatformsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonPlatformsProvider")
+        .omitNullValues()
+        .add("pythonPlatforms", pythonPlatforms)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PythonPlatformsProvider} instance.
+   * @param pythonPlatforms The value for the {@code pythonPlatforms} attribute
+   * @return An immutable PythonPlatformsProvider instance
+   */
+  public static PythonPlatformsProvider of(FlavorDomain<PythonPlatform> pythonPlatforms) {
+    return new PythonPlatformsProvider(pythonPlatforms);
+  }
+}
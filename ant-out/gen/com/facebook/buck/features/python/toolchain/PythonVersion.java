@@ -0,0 +1,83 @@
+package com.facebook.buck.features.python.toolchain;
+
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractPythonVersion}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code PythonVersion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonVersion"})
+@Immutable
+@CheckReturnValue
+public final class PythonVersion extends AbstractPythonVersion {
+  private final String interpreterName;
+  private final String versionString;
+
+  private PythonVersion(String interpreterName, String versionString) {
+    this.interpreterName = Objects.requireNonNull(interpreterName, "interpreterName");
+    this.versionString = Objects.requireNonNull(versionString, "versionString");
+  }
+
+  /**
+   * @return The value of the {@code interpreterName} attribute
+   */
+  @Override
+  public String getInterpreterName() {
+    return interpreterName;
+  }
+
+  /**
+   * @return The value of the {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonVersion
+        && equalTo((PythonVersion) another);
+  }
+
+  private boolean equalTo(PythonVersion another) {
+    return interpreterName.equals(another.interpreterName)
+        && versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code interpreterName}, {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + interpreterName.hashCode();
+    h += (h << 5) + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code PythonVersion} instance.
+   * @param interpreterName The value for the {@code interpreterName} attribute
+   * @param versionString The value for the {@code versionString} attribute
+   * @return An immutable PythonVersion instance
+   */
+  public static PythonVersion of(String interpreterName, String versionString) {
+    return new PythonVersion(interpreterName, versionString);
+  }
+}
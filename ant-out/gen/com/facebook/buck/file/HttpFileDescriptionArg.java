@@ -0,0 +1,492 @@
+package com.facebook.buck.file;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Args required for http_rule 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "HttpFileDescription.AbstractHttpFileDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class HttpFileDescriptionArg
+    implements HttpFileDescription.AbstractHttpFileDescriptionArg {
+  private final @Nullable Boolean executable;
+  private final String sha256;
+  private final ImmutableList<URI> urls;
+  private final @Nullable String out;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+
+  private HttpFileDescriptionArg(HttpFileDescriptionArg.Builder builder) {
+    this.executable = builder.executable;
+    this.sha256 = builder.sha256;
+    this.urls = builder.urls.build();
+    this.out = builder.out;
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+  }
+
+  /**
+   * @return The value of the {@code executable} attribute
+   */
+  @Override
+  public Optional<Boolean> getExecutable() {
+    return Optional.ofNullable(executable);
+  }
+
+  /**
+   * @return The value of the {@code sha256} attribute
+   */
+  @Override
+  public String getSha256() {
+    return sha256;
+  }
+
+  /**
+   * @return The value of the {@code urls} attribute
+   */
+  @Override
+  public ImmutableList<URI> getUrls() {
+    return urls;
+  }
+
+  /**
+   * @return The value of the {@code out} attribute
+   */
+  @Override
+  public Optional<String> getOut() {
+    return Optional.ofNullable(out);
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HttpFileDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HttpFileDescriptionArg
+        && equalTo((HttpFileDescriptionArg) another);
+  }
+
+  private boolean equalTo(HttpFileDescriptionArg another) {
+    return Objects.equals(executable, another.executable)
+        && sha256.equals(another.sha256)
+        && urls.equals(another.urls)
+        && Objects.equals(out, another.out)
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code executable}, {@code sha256}, {@code urls}, {@code out}, {@code name}, {@code licenses}, {@code labels}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(executable);
+    h += (h << 5) + sha256.hashCode();
+    h += (h << 5) + urls.hashCode();
+    h += (h << 5) + Objects.hashCode(out);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpFileDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpFileDescriptionArg")
+        .omitNullValues()
+        .add("executable", executable)
+        .add("sha256", sha256)
+        .add("urls", urls)
+        .add("out", out)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link HttpFileDescriptionArg HttpFileDescriptionArg}.
+   * @return A new HttpFileDescriptionArg builder
+   */
+  public static HttpFileDescriptionArg.Builder builder() {
+    return new HttpFileDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpFileDescriptionArg HttpFileDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SHA256 = 0x1L;
+    private static final long INIT_BIT_NAME = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Boolean executable;
+    private @Nullable String sha256;
+    private ImmutableList.Builder<URI> urls = ImmutableList.builder();
+    private @Nullable String out;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.file.HttpCommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HttpCommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HttpFileDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HttpFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHttpFileDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(HttpFileDescription.AbstractHttpFileDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof HttpCommonDescriptionArg) {
+        HttpCommonDescriptionArg instance = (HttpCommonDescriptionArg) object;
+        setSha256(instance.getSha256());
+        addAllUrls(instance.getUrls());
+        Optional<String> outOptional = instance.getOut();
+        if (outOptional.isPresent()) {
+          setOut(outOptional);
+        }
+      }
+      if (object instanceof HttpFileDescription.AbstractHttpFileDescriptionArg) {
+        HttpFileDescription.AbstractHttpFileDescriptionArg instance = (HttpFileDescription.AbstractHttpFileDescriptionArg) object;
+        Optional<Boolean> executableOptional = instance.getExecutable();
+        if (executableOptional.isPresent()) {
+          setExecutable(executableOptional);
+        }
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the optional value {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getExecutable() executable} to executable.
+     * @param executable The value for executable
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutable(boolean executable) {
+      this.executable = executable;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getExecutable() executable} to executable.
+     * @param executable The value for executable
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExecutable(Optional<Boolean> executable) {
+      this.executable = executable.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getSha256() sha256} attribute.
+     * @param sha256 The value for sha256 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSha256(String sha256) {
+      this.sha256 = Objects.requireNonNull(sha256, "sha256");
+      initBits &= ~INIT_BIT_SHA256;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getUrls() urls} list.
+     * @param element A urls element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addUrls(URI element) {
+      this.urls.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getUrls() urls} list.
+     * @param elements An array of urls elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addUrls(URI... elements) {
+      this.urls.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getUrls() urls} list.
+     * @param elements An iterable of urls elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUrls(Iterable<? extends URI> elements) {
+      this.urls = ImmutableList.builder();
+      return addAllUrls(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getUrls() urls} list.
+     * @param elements An iterable of urls elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllUrls(Iterable<? extends URI> elements) {
+      this.urls.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOut(String out) {
+      this.out = Objects.requireNonNull(out, "out");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getOut() out} to out.
+     * @param out The value for out
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOut(Optional<String> out) {
+      this.out = out.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link HttpFileDescription.AbstractHttpFileDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HttpFileDescriptionArg HttpFileDescriptionArg}.
+     * @return An immutable instance of HttpFileDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpFileDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HttpFileDescriptionArg(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SHA256) != 0) attributes.add("sha256");
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build HttpFileDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
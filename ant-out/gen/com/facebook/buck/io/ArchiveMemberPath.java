@@ -0,0 +1,127 @@
+package com.facebook.buck.io;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractArchiveMemberPath}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ArchiveMemberPath.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractArchiveMemberPath"})
+@Immutable
+@CheckReturnValue
+public final class ArchiveMemberPath extends AbstractArchiveMemberPath {
+  private final Path archivePath;
+  private final Path memberPath;
+
+  private ArchiveMemberPath(Path archivePath, Path memberPath) {
+    this.archivePath = Objects.requireNonNull(archivePath, "archivePath");
+    this.memberPath = Objects.requireNonNull(memberPath, "memberPath");
+  }
+
+  private ArchiveMemberPath(ArchiveMemberPath original, Path archivePath, Path memberPath) {
+    this.archivePath = archivePath;
+    this.memberPath = memberPath;
+  }
+
+  /**
+   * @return The value of the {@code archivePath} attribute
+   */
+  @Override
+  public Path getArchivePath() {
+    return archivePath;
+  }
+
+  /**
+   * @return The value of the {@code memberPath} attribute
+   */
+  @Override
+  public Path getMemberPath() {
+    return memberPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractArchiveMemberPath#getArchivePath() archivePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for archivePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ArchiveMemberPath withArchivePath(Path value) {
+    if (this.archivePath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "archivePath");
+    return new ArchiveMemberPath(this, newValue, this.memberPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractArchiveMemberPath#getMemberPath() memberPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for memberPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ArchiveMemberPath withMemberPath(Path value) {
+    if (this.memberPath == value) return this;
+    Path newValue = Objects.requireNonNull(value, "memberPath");
+    return new ArchiveMemberPath(this, this.archivePath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ArchiveMemberPath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ArchiveMemberPath
+        && equalTo((ArchiveMemberPath) another);
+  }
+
+  private boolean equalTo(ArchiveMemberPath another) {
+    return archivePath.equals(another.archivePath)
+        && memberPath.equals(another.memberPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code archivePath}, {@code memberPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + archivePath.hashCode();
+    h += (h << 5) + memberPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ArchiveMemberPath} instance.
+   * @param archivePath The value for the {@code archivePath} attribute
+   * @param memberPath The value for the {@code memberPath} attribute
+   * @return An immutable ArchiveMemberPath instance
+   */
+  public static ArchiveMemberPath of(Path archivePath, Path memberPath) {
+    return new ArchiveMemberPath(archivePath, memberPath);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractArchiveMemberPath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ArchiveMemberPath instance
+   */
+  public static ArchiveMemberPath copyOf(AbstractArchiveMemberPath instance) {
+    if (instance instanceof ArchiveMemberPath) {
+      return (ArchiveMemberPath) instance;
+    }
+    return ArchiveMemberPath.of(instance.getArchivePath(), instance.getMemberPath());
+  }
+}
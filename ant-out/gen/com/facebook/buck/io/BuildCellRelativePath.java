@@ -0,0 +1,100 @@
+package com.facebook.buck.io;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A path which is relative to the build cell root, i.e. the top-level cell in which the build was
+ * invoked.
+ * <p>See {@link com.facebook.buck.core.build.context.BuildContext#getBuildCellRootPath}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildCellRelativePath"})
+@Immutable
+@CheckReturnValue
+public final class BuildCellRelativePath extends AbstractBuildCellRelativePath {
+  private final Path pathRelativeToBuildCellRoot;
+
+  private BuildCellRelativePath(Path pathRelativeToBuildCellRoot) {
+    this.pathRelativeToBuildCellRoot = Objects.requireNonNull(pathRelativeToBuildCellRoot, "pathRelativeToBuildCellRoot");
+  }
+
+  private BuildCellRelativePath(BuildCellRelativePath original, Path pathRelativeToBuildCellRoot) {
+    this.pathRelativeToBuildCellRoot = pathRelativeToBuildCellRoot;
+  }
+
+  /**
+   * @return The value of the {@code pathRelativeToBuildCellRoot} attribute
+   */
+  @Override
+  public Path getPathRelativeToBuildCellRoot() {
+    return pathRelativeToBuildCellRoot;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildCellRelativePath#getPathRelativeToBuildCellRoot() pathRelativeToBuildCellRoot} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathRelativeToBuildCellRoot
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildCellRelativePath withPathRelativeToBuildCellRoot(Path value) {
+    if (this.pathRelativeToBuildCellRoot == value) return this;
+    Path newValue = Objects.requireNonNull(value, "pathRelativeToBuildCellRoot");
+    return new BuildCellRelativePath(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildCellRelativePath} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildCellRelativePath
+        && equalTo((BuildCellRelativePath) another);
+  }
+
+  private boolean equalTo(BuildCellRelativePath another) {
+    return pathRelativeToBuildCellRoot.equals(another.pathRelativeToBuildCellRoot);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathRelativeToBuildCellRoot}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + pathRelativeToBuildCellRoot.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildCellRelativePath} instance.
+   * @param pathRelativeToBuildCellRoot The value for the {@code pathRelativeToBuildCellRoot} attribute
+   * @return An immutable BuildCellRelativePath instance
+   */
+  public static BuildCellRelativePath of(Path pathRelativeToBuildCellRoot) {
+    return new BuildCellRelativePath(pathRelativeToBuildCellRoot);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildCellRelativePath} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildCellRelativePath instance
+   */
+  static BuildCellRelativePath copyOf(AbstractBuildCellRelativePath instance) {
+    if (instance instanceof BuildCellRelativePath) {
+      return (BuildCellRelativePath) instance;
+    }
+    return BuildCellRelativePath.of(instance.getPathRelativeToBuildCellRoot());
+  }
+}
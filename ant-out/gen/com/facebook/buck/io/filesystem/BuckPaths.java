@@ -0,0 +1,789 @@
+package com.facebook.buck.io.filesystem;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuckPaths}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuckPaths.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code BuckPaths.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuckPaths"})
+@Immutable
+@CheckReturnValue
+public final class BuckPaths extends AbstractBuckPaths {
+  private final Path buckOut;
+  private final Path configuredBuckOut;
+  private final Path currentVersionFile;
+  private final Path genDir;
+  private final Path resDir;
+  private final Path scratchDir;
+  private final Path annotationDir;
+  private final Path logDir;
+  private final Path traceDir;
+  private final Path cacheDir;
+  private final Path tmpDir;
+  private final Path xcodeDir;
+  private final Path trashDir;
+  private final Path offlineLogDir;
+  private final Path remoteSandboxDir;
+  private final Path lastOutputDir;
+  private final Path embeddedCellsBuckOutBaseDir;
+  private final Path projectRootDir;
+
+  private BuckPaths(Path buckOut) {
+    this.buckOut = Objects.requireNonNull(buckOut, "buckOut");
+    this.configuredBuckOut = initShim.getConfiguredBuckOut();
+    this.currentVersionFile = initShim.getCurrentVersionFile();
+    this.genDir = initShim.getGenDir();
+    this.resDir = initShim.getResDir();
+    this.scratchDir = initShim.getScratchDir();
+    this.annotationDir = initShim.getAnnotationDir();
+    this.logDir = initShim.getLogDir();
+    this.traceDir = initShim.getTraceDir();
+    this.cacheDir = initShim.getCacheDir();
+    this.tmpDir = initShim.getTmpDir();
+    this.xcodeDir = initShim.getXcodeDir();
+    this.trashDir = initShim.getTrashDir();
+    this.offlineLogDir = initShim.getOfflineLogDir();
+    this.remoteSandboxDir = initShim.getRemoteSandboxDir();
+    this.lastOutputDir = initShim.getLastOutputDir();
+    this.embeddedCellsBuckOutBaseDir = initShim.getEmbeddedCellsBuckOutBaseDir();
+    this.projectRootDir = initShim.getProjectRootDir();
+    this.initShim = null;
+  }
+
+  private BuckPaths(BuckPaths.Builder builder) {
+    this.buckOut = builder.buckOut;
+    if (builder.configuredBuckOut != null) {
+      initShim.setConfiguredBuckOut(builder.configuredBuckOut);
+    }
+    this.configuredBuckOut = initShim.getConfiguredBuckOut();
+    this.currentVersionFile = initShim.getCurrentVersionFile();
+    this.genDir = initShim.getGenDir();
+    this.resDir = initShim.getResDir();
+    this.scratchDir = initShim.getScratchDir();
+    this.annotationDir = initShim.getAnnotationDir();
+    this.logDir = initShim.getLogDir();
+    this.traceDir = initShim.getTraceDir();
+    this.cacheDir = initShim.getCacheDir();
+    this.tmpDir = initShim.getTmpDir();
+    this.xcodeDir = initShim.getXcodeDir();
+    this.trashDir = initShim.getTrashDir();
+    this.offlineLogDir = initShim.getOfflineLogDir();
+    this.remoteSandboxDir = initShim.getRemoteSandboxDir();
+    this.lastOutputDir = initShim.getLastOutputDir();
+    this.embeddedCellsBuckOutBaseDir = initShim.getEmbeddedCellsBuckOutBaseDir();
+    this.projectRootDir = initShim.getProjectRootDir();
+    this.initShim = null;
+  }
+
+  private BuckPaths(Path buckOut, Path configuredBuckOut) {
+    this.buckOut = buckOut;
+    this.configuredBuckOut = configuredBuckOut;
+    initShim.setConfiguredBuckOut(this.configuredBuckOut);
+    this.currentVersionFile = initShim.getCurrentVersionFile();
+    this.genDir = initShim.getGenDir();
+    this.resDir = initShim.getResDir();
+    this.scratchDir = initShim.getScratchDir();
+    this.annotationDir = initShim.getAnnotationDir();
+    this.logDir = initShim.getLogDir();
+    this.traceDir = initShim.getTraceDir();
+    this.cacheDir = initShim.getCacheDir();
+    this.tmpDir = initShim.getTmpDir();
+    this.xcodeDir = initShim.getXcodeDir();
+    this.trashDir = initShim.getTrashDir();
+    this.offlineLogDir = initShim.getOfflineLogDir();
+    this.remoteSandboxDir = initShim.getRemoteSandboxDir();
+    this.lastOutputDir = initShim.getLastOutputDir();
+    this.embeddedCellsBuckOutBaseDir = initShim.getEmbeddedCellsBuckOutBaseDir();
+    this.projectRootDir = initShim.getProjectRootDir();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Path configuredBuckOut;
+    private int configuredBuckOutBuildStage;
+
+    Path getConfiguredBuckOut() {
+      if (configuredBuckOutBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (configuredBuckOutBuildStage == STAGE_UNINITIALIZED) {
+        configuredBuckOutBuildStage = STAGE_INITIALIZING;
+        this.configuredBuckOut = Objects.requireNonNull(BuckPaths.super.getConfiguredBuckOut(), "configuredBuckOut");
+        configuredBuckOutBuildStage = STAGE_INITIALIZED;
+      }
+      return this.configuredBuckOut;
+    }
+
+    void setConfiguredBuckOut(Path configuredBuckOut) {
+      this.configuredBuckOut = configuredBuckOut;
+      configuredBuckOutBuildStage = STAGE_INITIALIZED;
+    }
+    private Path currentVersionFile;
+    private int currentVersionFileBuildStage;
+
+    Path getCurrentVersionFile() {
+      if (currentVersionFileBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (currentVersionFileBuildStage == STAGE_UNINITIALIZED) {
+        currentVersionFileBuildStage = STAGE_INITIALIZING;
+        this.currentVersionFile = Objects.requireNonNull(BuckPaths.super.getCurrentVersionFile(), "currentVersionFile");
+        currentVersionFileBuildStage = STAGE_INITIALIZED;
+      }
+      return this.currentVersionFile;
+    }
+    private Path genDir;
+    private int genDirBuildStage;
+
+    Path getGenDir() {
+      if (genDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (genDirBuildStage == STAGE_UNINITIALIZED) {
+        genDirBuildStage = STAGE_INITIALIZING;
+        this.genDir = Objects.requireNonNull(BuckPaths.super.getGenDir(), "genDir");
+        genDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.genDir;
+    }
+    private Path resDir;
+    private int resDirBuildStage;
+
+    Path getResDir() {
+      if (resDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resDirBuildStage == STAGE_UNINITIALIZED) {
+        resDirBuildStage = STAGE_INITIALIZING;
+        this.resDir = Objects.requireNonNull(BuckPaths.super.getResDir(), "resDir");
+        resDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resDir;
+    }
+    private Path scratchDir;
+    private int scratchDirBuildStage;
+
+    Path getScratchDir() {
+      if (scratchDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (scratchDirBuildStage == STAGE_UNINITIALIZED) {
+        scratchDirBuildStage = STAGE_INITIALIZING;
+        this.scratchDir = Objects.requireNonNull(BuckPaths.super.getScratchDir(), "scratchDir");
+        scratchDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.scratchDir;
+    }
+    private Path annotationDir;
+    private int annotationDirBuildStage;
+
+    Path getAnnotationDir() {
+      if (annotationDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (annotationDirBuildStage == STAGE_UNINITIALIZED) {
+        annotationDirBuildStage = STAGE_INITIALIZING;
+        this.annotationDir = Objects.requireNonNull(BuckPaths.super.getAnnotationDir(), "annotationDir");
+        annotationDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.annotationDir;
+    }
+    private Path logDir;
+    private int logDirBuildStage;
+
+    Path getLogDir() {
+      if (logDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (logDirBuildStage == STAGE_UNINITIALIZED) {
+        logDirBuildStage = STAGE_INITIALIZING;
+        this.logDir = Objects.requireNonNull(BuckPaths.super.getLogDir(), "logDir");
+        logDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.logDir;
+    }
+    private Path traceDir;
+    private int traceDirBuildStage;
+
+    Path getTraceDir() {
+      if (traceDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (traceDirBuildStage == STAGE_UNINITIALIZED) {
+        traceDirBuildStage = STAGE_INITIALIZING;
+        this.traceDir = Objects.requireNonNull(BuckPaths.super.getTraceDir(), "traceDir");
+        traceDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.traceDir;
+    }
+    private Path cacheDir;
+    private int cacheDirBuildStage;
+
+    Path getCacheDir() {
+      if (cacheDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (cacheDirBuildStage == STAGE_UNINITIALIZED) {
+        cacheDirBuildStage = STAGE_INITIALIZING;
+        this.cacheDir = Objects.requireNonNull(BuckPaths.super.getCacheDir(), "cacheDir");
+        cacheDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.cacheDir;
+    }
+    private Path tmpDir;
+    private int tmpDirBuildStage;
+
+    Path getTmpDir() {
+      if (tmpDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (tmpDirBuildStage == STAGE_UNINITIALIZED) {
+        tmpDirBuildStage = STAGE_INITIALIZING;
+        this.tmpDir = Objects.requireNonNull(BuckPaths.super.getTmpDir(), "tmpDir");
+        tmpDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.tmpDir;
+    }
+    private Path xcodeDir;
+    private int xcodeDirBuildStage;
+
+    Path getXcodeDir() {
+      if (xcodeDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (xcodeDirBuildStage == STAGE_UNINITIALIZED) {
+        xcodeDirBuildStage = STAGE_INITIALIZING;
+        this.xcodeDir = Objects.requireNonNull(BuckPaths.super.getXcodeDir(), "xcodeDir");
+        xcodeDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.xcodeDir;
+    }
+    private Path trashDir;
+    private int trashDirBuildStage;
+
+    Path getTrashDir() {
+      if (trashDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trashDirBuildStage == STAGE_UNINITIALIZED) {
+        trashDirBuildStage = STAGE_INITIALIZING;
+        this.trashDir = Objects.requireNonNull(BuckPaths.super.getTrashDir(), "trashDir");
+        trashDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trashDir;
+    }
+    private Path offlineLogDir;
+    private int offlineLogDirBuildStage;
+
+    Path getOfflineLogDir() {
+      if (offlineLogDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (offlineLogDirBuildStage == STAGE_UNINITIALIZED) {
+        offlineLogDirBuildStage = STAGE_INITIALIZING;
+        this.offlineLogDir = Objects.requireNonNull(BuckPaths.super.getOfflineLogDir(), "offlineLogDir");
+        offlineLogDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.offlineLogDir;
+    }
+    private Path remoteSandboxDir;
+    private int remoteSandboxDirBuildStage;
+
+    Path getRemoteSandboxDir() {
+      if (remoteSandboxDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (remoteSandboxDirBuildStage == STAGE_UNINITIALIZED) {
+        remoteSandboxDirBuildStage = STAGE_INITIALIZING;
+        this.remoteSandboxDir = Objects.requireNonNull(BuckPaths.super.getRemoteSandboxDir(), "remoteSandboxDir");
+        remoteSandboxDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.remoteSandboxDir;
+    }
+    private Path lastOutputDir;
+    private int lastOutputDirBuildStage;
+
+    Path getLastOutputDir() {
+      if (lastOutputDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (lastOutputDirBuildStage == STAGE_UNINITIALIZED) {
+        lastOutputDirBuildStage = STAGE_INITIALIZING;
+        this.lastOutputDir = Objects.requireNonNull(BuckPaths.super.getLastOutputDir(), "lastOutputDir");
+        lastOutputDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.lastOutputDir;
+    }
+    private Path embeddedCellsBuckOutBaseDir;
+    private int embeddedCellsBuckOutBaseDirBuildStage;
+
+    Path getEmbeddedCellsBuckOutBaseDir() {
+      if (embeddedCellsBuckOutBaseDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (embeddedCellsBuckOutBaseDirBuildStage == STAGE_UNINITIALIZED) {
+        embeddedCellsBuckOutBaseDirBuildStage = STAGE_INITIALIZING;
+        this.embeddedCellsBuckOutBaseDir = Objects.requireNonNull(BuckPaths.super.getEmbeddedCellsBuckOutBaseDir(), "embeddedCellsBuckOutBaseDir");
+        embeddedCellsBuckOutBaseDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.embeddedCellsBuckOutBaseDir;
+    }
+    private Path projectRootDir;
+    private int projectRootDirBuildStage;
+
+    Path getProjectRootDir() {
+      if (projectRootDirBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (projectRootDirBuildStage == STAGE_UNINITIALIZED) {
+        projectRootDirBuildStage = STAGE_INITIALIZING;
+        this.projectRootDir = Objects.requireNonNull(BuckPaths.super.getProjectRootDir(), "projectRootDir");
+        projectRootDirBuildStage = STAGE_INITIALIZED;
+      }
+      return this.projectRootDir;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (configuredBuckOutBuildStage == STAGE_INITIALIZING) attributes.add("configuredBuckOut");
+      if (currentVersionFileBuildStage == STAGE_INITIALIZING) attributes.add("currentVersionFile");
+      if (genDirBuildStage == STAGE_INITIALIZING) attributes.add("genDir");
+      if (resDirBuildStage == STAGE_INITIALIZING) attributes.add("resDir");
+      if (scratchDirBuildStage == STAGE_INITIALIZING) attributes.add("scratchDir");
+      if (annotationDirBuildStage == STAGE_INITIALIZING) attributes.add("annotationDir");
+      if (logDirBuildStage == STAGE_INITIALIZING) attributes.add("logDir");
+      if (traceDirBuildStage == STAGE_INITIALIZING) attributes.add("traceDir");
+      if (cacheDirBuildStage == STAGE_INITIALIZING) attributes.add("cacheDir");
+      if (tmpDirBuildStage == STAGE_INITIALIZING) attributes.add("tmpDir");
+      if (xcodeDirBuildStage == STAGE_INITIALIZING) attributes.add("xcodeDir");
+      if (trashDirBuildStage == STAGE_INITIALIZING) attributes.add("trashDir");
+      if (offlineLogDirBuildStage == STAGE_INITIALIZING) attributes.add("offlineLogDir");
+      if (remoteSandboxDirBuildStage == STAGE_INITIALIZING) attributes.add("remoteSandboxDir");
+      if (lastOutputDirBuildStage == STAGE_INITIALIZING) attributes.add("lastOutputDir");
+      if (embeddedCellsBuckOutBaseDirBuildStage == STAGE_INITIALIZING) attributes.add("embeddedCellsBuckOutBaseDir");
+      if (projectRootDirBuildStage == STAGE_INITIALIZING) attributes.add("projectRootDir");
+      return "Cannot build BuckPaths, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   *The relative path to the directory where Buck will generate its files. 
+   */
+  @Override
+  public Path getBuckOut() {
+    return buckOut;
+  }
+
+  /**
+   * The relative path to the directory where Buck will generate its files. This is used when
+   * configuring the output directory to some used-defined value and is a stop-gap until we can
+   * support configuring all output paths. However, for now, only certain paths below will use this
+   * path.
+   */
+  @Override
+  public Path getConfiguredBuckOut() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConfiguredBuckOut()
+        : this.configuredBuckOut;
+  }
+
+  /**
+   *The version the buck output directory was created for 
+   */
+  @Override
+  public Path getCurrentVersionFile() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCurrentVersionFile()
+        : this.currentVersionFile;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code genDir} attribute
+   */
+  @Override
+  public Path getGenDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getGenDir()
+        : this.genDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code resDir} attribute
+   */
+  @Override
+  public Path getResDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResDir()
+        : this.resDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code scratchDir} attribute
+   */
+  @Override
+  public Path getScratchDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getScratchDir()
+        : this.scratchDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code annotationDir} attribute
+   */
+  @Override
+  public Path getAnnotationDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAnnotationDir()
+        : this.annotationDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code logDir} attribute
+   */
+  @Override
+  public Path getLogDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLogDir()
+        : this.logDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code traceDir} attribute
+   */
+  @Override
+  public Path getTraceDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTraceDir()
+        : this.traceDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCacheDir()
+        : this.cacheDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code tmpDir} attribute
+   */
+  @Override
+  public Path getTmpDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTmpDir()
+        : this.tmpDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code xcodeDir} attribute
+   */
+  @Override
+  public Path getXcodeDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getXcodeDir()
+        : this.xcodeDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code trashDir} attribute
+   */
+  @Override
+  public Path getTrashDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTrashDir()
+        : this.trashDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code offlineLogDir} attribute
+   */
+  @Override
+  public Path getOfflineLogDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOfflineLogDir()
+        : this.offlineLogDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code remoteSandboxDir} attribute
+   */
+  @Override
+  public Path getRemoteSandboxDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRemoteSandboxDir()
+        : this.remoteSandboxDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code lastOutputDir} attribute
+   */
+  @Override
+  public Path getLastOutputDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLastOutputDir()
+        : this.lastOutputDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code embeddedCellsBuckOutBaseDir} attribute
+   */
+  @Override
+  public Path getEmbeddedCellsBuckOutBaseDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getEmbeddedCellsBuckOutBaseDir()
+        : this.embeddedCellsBuckOutBaseDir;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code projectRootDir} attribute
+   */
+  @Override
+  public Path getProjectRootDir() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProjectRootDir()
+        : this.projectRootDir;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuckPaths#getBuckOut() buckOut} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckOut
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuckPaths withBuckOut(Path value) {
+    if (this.buckOut == value) return this;
+    Path newValue = Objects.requireNonNull(value, "buckOut");
+    return new BuckPaths(newValue, this.configuredBuckOut);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuckPaths#getConfiguredBuckOut() configuredBuckOut} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for configuredBuckOut
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuckPaths withConfiguredBuckOut(Path value) {
+    if (this.configuredBuckOut == value) return this;
+    Path newValue = Objects.requireNonNull(value, "configuredBuckOut");
+    return new BuckPaths(this.buckOut, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuckPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuckPaths
+        && equalTo((BuckPaths) another);
+  }
+
+  private boolean equalTo(BuckPaths another) {
+    return buckOut.equals(another.buckOut)
+        && configuredBuckOut.equals(another.configuredBuckOut)
+        && currentVersionFile.equals(another.currentVersionFile)
+        && genDir.equals(another.genDir)
+        && resDir.equals(another.resDir)
+        && scratchDir.equals(another.scratchDir)
+        && annotationDir.equals(another.annotationDir)
+        && logDir.equals(another.logDir)
+        && traceDir.equals(another.traceDir)
+        && cacheDir.equals(another.cacheDir)
+        && tmpDir.equals(another.tmpDir)
+        && xcodeDir.equals(another.xcodeDir)
+        && trashDir.equals(another.trashDir)
+        && offlineLogDir.equals(another.offlineLogDir)
+        && remoteSandboxDir.equals(another.remoteSandboxDir)
+        && lastOutputDir.equals(another.lastOutputDir)
+        && embeddedCellsBuckOutBaseDir.equals(another.embeddedCellsBuckOutBaseDir)
+        && projectRootDir.equals(another.projectRootDir);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buckOut}, {@code configuredBuckOut}, {@code currentVersionFile}, {@code genDir}, {@code resDir}, {@code scratchDir}, {@code annotationDir}, {@code logDir}, {@code traceDir}, {@code cacheDir}, {@code tmpDir}, {@code xcodeDir}, {@code trashDir}, {@code offlineLogDir}, {@code remoteSandboxDir}, {@code lastOutputDir}, {@code embeddedCellsBuckOutBaseDir}, {@code projectRootDir}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + buckOut.hashCode();
+    h += (h << 5) + configuredBuckOut.hashCode();
+    h += (h << 5) + currentVersionFile.hashCode();
+    h += (h << 5) + genDir.hashCode();
+    h += (h << 5) + resDir.hashCode();
+    h += (h << 5) + scratchDir.hashCode();
+    h += (h << 5) + annotationDir.hashCode();
+    h += (h << 5) + logDir.hashCode();
+    h += (h << 5) + traceDir.hashCode();
+    h += (h << 5) + cacheDir.hashCode();
+    h += (h << 5) + tmpDir.hashCode();
+    h += (h << 5) + xcodeDir.hashCode();
+    h += (h << 5) + trashDir.hashCode();
+    h += (h << 5) + offlineLogDir.hashCode();
+    h += (h << 5) + remoteSandboxDir.hashCode();
+    h += (h << 5) + lastOutputDir.hashCode();
+    h += (h << 5) + embeddedCellsBuckOutBaseDir.hashCode();
+    h += (h << 5) + projectRootDir.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuckPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuckPaths")
+        .omitNullValues()
+        .add("buckOut", buckOut)
+        .add("configuredBuckOut", configuredBuckOut)
+        .add("currentVersionFile", currentVersionFile)
+        .add("genDir", genDir)
+        .add("resDir", resDir)
+        .add("scratchDir", scratchDir)
+        .add("annotationDir", annotationDir)
+        .add("logDir", logDir)
+        .add("traceDir", traceDir)
+        .add("cacheDir", cacheDir)
+        .add("tmpDir", tmpDir)
+        .add("xcodeDir", xcodeDir)
+        .add("trashDir", trashDir)
+        .add("offlineLogDir", offlineLogDir)
+        .add("remoteSandboxDir", remoteSandboxDir)
+        .add("lastOutputDir", lastOutputDir)
+        .add("embeddedCellsBuckOutBaseDir", embeddedCellsBuckOutBaseDir)
+        .add("projectRootDir", projectRootDir)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuckPaths} instance.
+   * @param buckOut The value for the {@code buckOut} attribute
+   * @return An immutable BuckPaths instance
+   */
+  public static BuckPaths of(Path buckOut) {
+    return new BuckPaths(buckOut);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuckPaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuckPaths instance
+   */
+  static BuckPaths copyOf(AbstractBuckPaths instance) {
+    if (instance instanceof BuckPaths) {
+      return (BuckPaths) instance;
+    }
+    return BuckPaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuckPaths BuckPaths}.
+   * @return A new BuckPaths builder
+   */
+  public static BuckPaths.Builder builder() {
+    return new BuckPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuckPaths BuckPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUCK_OUT = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Path buckOut;
+    private @Nullable Path configuredBuckOut;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuckPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuckPaths instance) {
+      return from((AbstractBuckPaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuckPaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuckPaths instance) {
+      Objects.requireNonNull(instance, "instance");
+      setBuckOut(instance.getBuckOut());
+      setConfiguredBuckOut(instance.getConfiguredBuckOut());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuckPaths#getBuckOut() buckOut} attribute.
+     * @param buckOut The value for buckOut 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckOut(Path buckOut) {
+      this.buckOut = Objects.requireNonNull(buckOut, "buckOut");
+      initBits &= ~INIT_BIT_BUCK_OUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractBuckPaths#getConfiguredBuckOut() configuredBuckOut} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractBuckPaths#getConfiguredBuckOut() configuredBuckOut}.</em>
+     * @param configuredBuckOut The value for configuredBuckOut 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConfiguredBuckOut(Path configuredBuckOut) {
+      this.configuredBuckOut = Objects.requireNonNull(configuredBuckOut, "configuredBuckOut");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link BuckPaths BuckPaths}.
+     * @return An immutable instance of BuckPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuckPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuckPaths(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUCK_OUT) != 0) attributes.add("buckOut");
+      return "Cannot build BuckPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package com.facebook.buck.io.filesystem;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Information to create the buck-out of cell when it's going to be embedded in the root cell
+ * buck-out.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractEmbeddedCellBuckOutInfo"})
+@Immutable
+@CheckReturnValue
+public final class EmbeddedCellBuckOutInfo
+    extends AbstractEmbeddedCellBuckOutInfo {
+  private final Path embeddedCellsBuckOutBaseDir;
+  private final String cellName;
+
+  private EmbeddedCellBuckOutInfo(Path embeddedCellsBuckOutBaseDir, String cellName) {
+    this.embeddedCellsBuckOutBaseDir = Objects.requireNonNull(embeddedCellsBuckOutBaseDir, "embeddedCellsBuckOutBaseDir");
+    this.cellName = Objects.requireNonNull(cellName, "cellName");
+  }
+
+  private EmbeddedCellBuckOutInfo(
+      EmbeddedCellBuckOutInfo original,
+      Path embeddedCellsBuckOutBaseDir,
+      String cellName) {
+    this.embeddedCellsBuckOutBaseDir = embeddedCellsBuckOutBaseDir;
+    this.cellName = cellName;
+  }
+
+  /**
+   * @return The value of the {@code embeddedCellsBuckOutBaseDir} attribute
+   */
+  @Override
+  public Path getEmbeddedCellsBuckOutBaseDir() {
+    return embeddedCellsBuckOutBaseDir;
+  }
+
+  /**
+   * @return The value of the {@code cellName} attribute
+   */
+  @Override
+  public String getCellName() {
+    return cellName;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractEmbeddedCellBuckOutInfo#getEmbeddedCellsBuckOutBaseDir() embeddedCellsBuckOutBaseDir} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for embeddedCellsBuckOutBaseDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final EmbeddedCellBuckOutInfo withEmbeddedCellsBuckOutBaseDir(Path value) {
+    if (this.embeddedCellsBuckOutBaseDir == value) return this;
+    Path newValue = Objects.requireNonNull(value, "embeddedCellsBuckOutBaseDir");
+    return new EmbeddedCellBuckOutInfo(this, newValue, this.cellName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractEmbeddedCellBuckOutInfo#getCellName() cellName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellName
+   * @return A modified copy of the {@code this} object
+   */
+  public final EmbeddedCellBuckOutInfo withCellName(String value) {
+    if (this.cellName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "cellName");
+    return new EmbeddedCellBuckOutInfo(this, this.embeddedCellsBuckOutBaseDir, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code EmbeddedCellBuckOutInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof EmbeddedCellBuckOutInfo
+        && equalTo((EmbeddedCellBuckOutInfo) another);
+  }
+
+  private boolean equalTo(EmbeddedCellBuckOutInfo another) {
+    return embeddedCellsBuckOutBaseDir.equals(another.embeddedCellsBuckOutBaseDir)
+        && cellName.equals(another.cellName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code embeddedCellsBuckOutBaseDir}, {@code cellName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + embeddedCellsBuckOutBaseDir.hashCode();
+    h += (h << 5) + cellName.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EmbeddedCellBuckOutInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EmbeddedCellBuckOutInfo")
+        .omitNullValues()
+        .add("embeddedCellsBuckOutBaseDir", embeddedCellsBuckOutBaseDir)
+        .add("cellName", cellName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EmbeddedCellBuckOutInfo} instance.
+   * @param embeddedCellsBuckOutBaseDir The value for the {@code embeddedCellsBuckOutBaseDir} attribute
+   * @param cellName The value for the {@code cellName} attribute
+   * @return An immutable EmbeddedCellBuckOutInfo instance
+   */
+  public static EmbeddedCellBuckOutInfo of(Path embeddedCellsBuckOutBaseDir, String cellName) {
+    return new EmbeddedCellBuckOutInfo(embeddedCellsBuckOutBaseDir, cellName);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractEmbeddedCellBuckOutInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable EmbeddedCellBuckOutInfo instance
+   */
+  static EmbeddedCellBuckOutInfo copyOf(AbstractEmbeddedCellBuckOutInfo instance) {
+    if (instance instanceof EmbeddedCellBuckOutInfo) {
+      return (EmbeddedCellBuckOutInfo) instance;
+    }
+    return EmbeddedCellBuckOutInfo.of(instance.getEmbeddedCellsBuckOutBaseDir(), instance.getCellName());
+  }
+}
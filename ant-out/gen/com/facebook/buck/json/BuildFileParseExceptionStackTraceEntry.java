@@ -0,0 +1,205 @@
+package com.facebook.buck.json;
+
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractBuildFileParseExceptionStackTraceEntry}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code BuildFileParseExceptionStackTraceEntry.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildFileParseExceptionStackTraceEntry"})
+@Immutable
+@CheckReturnValue
+public final class BuildFileParseExceptionStackTraceEntry
+    implements AbstractBuildFileParseExceptionStackTraceEntry {
+  private final Path fileName;
+  private final Number lineNumber;
+  private final String functionName;
+  private final String text;
+
+  private BuildFileParseExceptionStackTraceEntry(
+      Path fileName,
+      Number lineNumber,
+      String functionName,
+      String text) {
+    this.fileName = Objects.requireNonNull(fileName, "fileName");
+    this.lineNumber = Objects.requireNonNull(lineNumber, "lineNumber");
+    this.functionName = Objects.requireNonNull(functionName, "functionName");
+    this.text = Objects.requireNonNull(text, "text");
+  }
+
+  private BuildFileParseExceptionStackTraceEntry(
+      BuildFileParseExceptionStackTraceEntry original,
+      Path fileName,
+      Number lineNumber,
+      String functionName,
+      String text) {
+    this.fileName = fileName;
+    this.lineNumber = lineNumber;
+    this.functionName = functionName;
+    this.text = text;
+  }
+
+  /**
+   * @return The value of the {@code fileName} attribute
+   */
+  @Override
+  public Path getFileName() {
+    return fileName;
+  }
+
+  /**
+   * @return The value of the {@code lineNumber} attribute
+   */
+  @Override
+  public Number getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return The value of the {@code functionName} attribute
+   */
+  @Override
+  public String getFunctionName() {
+    return functionName;
+  }
+
+  /**
+   * @return The value of the {@code text} attribute
+   */
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileParseExceptionStackTraceEntry#getFileName() fileName} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileName
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileParseExceptionStackTraceEntry withFileName(Path value) {
+    if (this.fileName == value) return this;
+    Path newValue = Objects.requireNonNull(value, "fileName");
+    return new BuildFileParseExceptionStackTraceEntry(this, newValue, this.lineNumber, this.functionName, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileParseExceptionStackTraceEntry#getLineNumber() lineNumber} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lineNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileParseExceptionStackTraceEntry withLineNumber(Number value) {
+    if (this.lineNumber == value) return this;
+    Number newValue = Objects.requireNonNull(value, "lineNumber");
+    return new BuildFileParseExceptionStackTraceEntry(this, this.fileName, newValue, this.functionName, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileParseExceptionStackTraceEntry#getFunctionName() functionName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for functionName
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileParseExceptionStackTraceEntry withFunctionName(String value) {
+    if (this.functionName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "functionName");
+    return new BuildFileParseExceptionStackTraceEntry(this, this.fileName, this.lineNumber, newValue, this.text);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildFileParseExceptionStackTraceEntry#getText() text} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for text
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildFileParseExceptionStackTraceEntry withText(String value) {
+    if (this.text.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "text");
+    return new BuildFileParseExceptionStackTraceEntry(this, this.fileName, this.lineNumber, this.functionName, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildFileParseExceptionStackTraceEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildFileParseExceptionStackTraceEntry
+        && equalTo((BuildFileParseExceptionStackTraceEntry) another);
+  }
+
+  private boolean equalTo(BuildFileParseExceptionStackTraceEntry another) {
+    return fileName.equals(another.fileName)
+        && lineNumber.equals(another.lineNumber)
+        && functionName.equals(another.functionName)
+        && text.equals(another.text);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fileName}, {@code lineNumber}, {@code functionName}, {@code text}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + fileName.hashCode();
+    h += (h << 5) + lineNumber.hashCode();
+    h += (h << 5) + functionName.hashCode();
+    h += (h << 5) + text.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildFileParseExceptionStackTraceEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildFileParseExceptionStackTraceEntry")
+        .omitNullValues()
+        .add("fileName", fileName)
+        .add("lineNumber", lineNumber)
+        .add("functionName", functionName)
+        .add("text", text)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildFileParseExceptionStackTraceEntry} instance.
+   * @param fileName The value for the {@code fileName} attribute
+   * @param lineNumber The value for the {@code lineNumber} attribute
+   * @param functionName The value for the {@code functionName} attribute
+   * @param text The value for the {@code text} attribute
+   * @return An immutable BuildFileParseExceptionStackTraceEntry instance
+   */
+  public static BuildFileParseExceptionStackTraceEntry of(Path fileName, Number lineNumber, String functionName, String text) {
+    return new BuildFileParseExceptionStackTraceEntry(fileName, lineNumber, functionName, text);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildFileParseExceptionStackTraceEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildFileParseExceptionStackTraceEntry instance
+   */
+  static BuildFileParseExceptionStackTraceEntry copyOf(AbstractBuildFileParseExceptionStackTraceEntry instance) {
+    if (instance instanceof BuildFileParseExceptionStackTraceEntry) {
+      return (BuildFileParseExceptionStackTraceEntry) instance;
+    }
+    return BuildFileParseExceptionStackTraceEntry.of(instance.getFileName(), instance.getLineNumber(), instance.getFunctionName(), instance.getText());
+  }
+}
@@ -0,0 +1,280 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Information for annotation processing.
+ * <p>Annotation processing involves a set of processors, their classpath(s), and a few other
+ * command-line options for javac. We want to be able to specify all this various information in a
+ * BUCK configuration file and use it when we generate the javac command. This facilitates threading
+ * the information through buck in a more descriptive package rather than passing all the components
+ * separately.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAnnotationProcessingParams"})
+@Immutable
+@CheckReturnValue
+public final class AnnotationProcessingParams
+    extends AbstractAnnotationProcessingParams {
+  private final ImmutableList<ResolvedJavacPluginProperties> modernProcessors;
+  private final ImmutableSortedSet<String> parameters;
+  private final boolean processOnly;
+
+  private AnnotationProcessingParams(AnnotationProcessingParams.Builder builder) {
+    this.modernProcessors = builder.modernProcessors.build();
+    this.parameters = builder.parameters.build();
+    this.processOnly = builder.processOnlyIsSet()
+        ? builder.processOnly
+        : super.getProcessOnly();
+  }
+
+  /**
+   * @return The value of the {@code modernProcessors} attribute
+   */
+  @Override
+  public ImmutableList<ResolvedJavacPluginProperties> getModernProcessors() {
+    return modernProcessors;
+  }
+
+  /**
+   * @return The value of the {@code parameters} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getParameters() {
+    return parameters;
+  }
+
+  /**
+   * @return The value of the {@code processOnly} attribute
+   */
+  @Override
+  public boolean getProcessOnly() {
+    return processOnly;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AnnotationProcessingParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AnnotationProcessingParams
+        && equalTo((AnnotationProcessingParams) another);
+  }
+
+  private boolean equalTo(AnnotationProcessingParams another) {
+    return modernProcessors.equals(another.modernProcessors)
+        && parameters.equals(another.parameters)
+        && processOnly == another.processOnly;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code modernProcessors}, {@code parameters}, {@code processOnly}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + modernProcessors.hashCode();
+    h += (h << 5) + parameters.hashCode();
+    h += (h << 5) + Booleans.hashCode(processOnly);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AnnotationProcessingParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AnnotationProcessingParams")
+        .omitNullValues()
+        .add("modernProcessors", modernProcessors)
+        .add("parameters", parameters)
+        .add("processOnly", processOnly)
+        .toString();
+  }
+
+  /**
+   * Builds instances of type {@link AnnotationProcessingParams AnnotationProcessingParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static class Builder {
+    private static final long OPT_BIT_PROCESS_ONLY = 0x1L;
+    private long optBits;
+
+    protected ImmutableList.Builder<ResolvedJavacPluginProperties> modernProcessors = ImmutableList.builder();
+    protected ImmutableSortedSet.Builder<String> parameters = ImmutableSortedSet.naturalOrder();
+    protected boolean processOnly;
+
+    /**
+     * Creates a builder for {@link AnnotationProcessingParams AnnotationProcessingParams} instances.
+     */
+    public Builder() {
+      if (!(this instanceof AbstractAnnotationProcessingParams.Builder)) {
+        throw new UnsupportedOperationException("Use: new AbstractAnnotationProcessingParams.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AnnotationProcessingParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final AbstractAnnotationProcessingParams.Builder from(AnnotationProcessingParams instance) {
+      return from((AbstractAnnotationProcessingParams) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAnnotationProcessingParams} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final AbstractAnnotationProcessingParams.Builder from(AbstractAnnotationProcessingParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllModernProcessors(instance.getModernProcessors());
+      addAllParameters(instance.getParameters());
+      setProcessOnly(instance.getProcessOnly());
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param element A modernProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder addModernProcessors(ResolvedJavacPluginProperties element) {
+      this.modernProcessors.add(element);
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param elements An array of modernProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder addModernProcessors(ResolvedJavacPluginProperties... elements) {
+      this.modernProcessors.add(elements);
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param elements An iterable of modernProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder setModernProcessors(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+      this.modernProcessors = ImmutableList.builder();
+      return addAllModernProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param elements An iterable of modernProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder addAllModernProcessors(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+      this.modernProcessors.addAll(elements);
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param element A parameters element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder addParameters(String element) {
+      this.parameters.add(element);
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param elements An array of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder addParameters(String... elements) {
+      this.parameters.addAll(Arrays.asList(elements));
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param elements An iterable of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder setParameters(Iterable<String> elements) {
+      this.parameters = ImmutableSortedSet.naturalOrder();
+      return addAllParameters(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param elements An iterable of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder addAllParameters(Iterable<String> elements) {
+      this.parameters.addAll(elements);
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAnnotationProcessingParams#getProcessOnly() processOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractAnnotationProcessingParams#getProcessOnly() processOnly}.</em>
+     * @param processOnly The value for processOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final AbstractAnnotationProcessingParams.Builder setProcessOnly(boolean processOnly) {
+      this.processOnly = processOnly;
+      optBits |= OPT_BIT_PROCESS_ONLY;
+      return (AbstractAnnotationProcessingParams.Builder) this;
+    }
+
+
+    /**
+     * Builds a new {@link AnnotationProcessingParams AnnotationProcessingParams}.
+     * @return An immutable instance of AnnotationProcessingParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AnnotationProcessingParams build() {
+      return new AnnotationProcessingParams(this);
+    }
+
+    private boolean processOnlyIsSet() {
+      return (optBits & OPT_BIT_PROCESS_ONLY) != 0;
+    }
+  }
+}
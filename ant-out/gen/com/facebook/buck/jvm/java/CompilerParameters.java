@@ -0,0 +1,534 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.facebook.buck.jvm.java.abi.source.api.SourceOnlyAbiRuleInfoFactory;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCompilerParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CompilerParameters.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCompilerParameters"})
+@Immutable
+@CheckReturnValue
+public final class CompilerParameters extends AbstractCompilerParameters {
+  private final ImmutableSortedSet<Path> sourceFilePaths;
+  private final ImmutableSortedSet<Path> classpathEntries;
+  private final CompilerOutputPaths outputPaths;
+  private final AbiGenerationMode abiGenerationMode;
+  private final AbiGenerationMode abiCompatibilityMode;
+  private final boolean shouldTrackClassUsage;
+  private final boolean shouldTrackJavacPhaseEvents;
+  private final @Nullable SourceOnlyAbiRuleInfoFactory sourceOnlyAbiRuleInfoFactory;
+
+  private CompilerParameters(CompilerParameters.Builder builder) {
+    this.outputPaths = builder.outputPaths;
+    this.sourceOnlyAbiRuleInfoFactory = builder.sourceOnlyAbiRuleInfoFactory;
+    if (builder.sourceFilePaths != null) {
+      initShim.setSourceFilePaths(builder.sourceFilePaths);
+    }
+    if (builder.classpathEntries != null) {
+      initShim.setClasspathEntries(builder.classpathEntries);
+    }
+    if (builder.abiGenerationMode != null) {
+      initShim.setAbiGenerationMode(builder.abiGenerationMode);
+    }
+    if (builder.abiCompatibilityMode != null) {
+      initShim.setAbiCompatibilityMode(builder.abiCompatibilityMode);
+    }
+    if (builder.shouldTrackClassUsageIsSet()) {
+      initShim.setShouldTrackClassUsage(builder.shouldTrackClassUsage);
+    }
+    if (builder.shouldTrackJavacPhaseEventsIsSet()) {
+      initShim.setShouldTrackJavacPhaseEvents(builder.shouldTrackJavacPhaseEvents);
+    }
+    this.sourceFilePaths = initShim.getSourceFilePaths();
+    this.classpathEntries = initShim.getClasspathEntries();
+    this.abiGenerationMode = initShim.getAbiGenerationMode();
+    this.abiCompatibilityMode = initShim.getAbiCompatibilityMode();
+    this.shouldTrackClassUsage = initShim.shouldTrackClassUsage();
+    this.shouldTrackJavacPhaseEvents = initShim.shouldTrackJavacPhaseEvents();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ImmutableSortedSet<Path> sourceFilePaths;
+    private int sourceFilePathsBuildStage;
+
+    ImmutableSortedSet<Path> getSourceFilePaths() {
+      if (sourceFilePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sourceFilePathsBuildStage == STAGE_UNINITIALIZED) {
+        sourceFilePathsBuildStage = STAGE_INITIALIZING;
+        this.sourceFilePaths = Objects.requireNonNull(CompilerParameters.super.getSourceFilePaths(), "sourceFilePaths");
+        sourceFilePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sourceFilePaths;
+    }
+
+    void setSourceFilePaths(ImmutableSortedSet<Path> sourceFilePaths) {
+      this.sourceFilePaths = sourceFilePaths;
+      sourceFilePathsBuildStage = STAGE_INITIALIZED;
+    }
+    private ImmutableSortedSet<Path> classpathEntries;
+    private int classpathEntriesBuildStage;
+
+    ImmutableSortedSet<Path> getClasspathEntries() {
+      if (classpathEntriesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classpathEntriesBuildStage == STAGE_UNINITIALIZED) {
+        classpathEntriesBuildStage = STAGE_INITIALIZING;
+        this.classpathEntries = Objects.requireNonNull(CompilerParameters.super.getClasspathEntries(), "classpathEntries");
+        classpathEntriesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classpathEntries;
+    }
+
+    void setClasspathEntries(ImmutableSortedSet<Path> classpathEntries) {
+      this.classpathEntries = classpathEntries;
+      classpathEntriesBuildStage = STAGE_INITIALIZED;
+    }
+    private AbiGenerationMode abiGenerationMode;
+    private int abiGenerationModeBuildStage;
+
+    AbiGenerationMode getAbiGenerationMode() {
+      if (abiGenerationModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (abiGenerationModeBuildStage == STAGE_UNINITIALIZED) {
+        abiGenerationModeBuildStage = STAGE_INITIALIZING;
+        this.abiGenerationMode = Objects.requireNonNull(CompilerParameters.super.getAbiGenerationMode(), "abiGenerationMode");
+        abiGenerationModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.abiGenerationMode;
+    }
+
+    void setAbiGenerationMode(AbiGenerationMode abiGenerationMode) {
+      this.abiGenerationMode = abiGenerationMode;
+      abiGenerationModeBuildStage = STAGE_INITIALIZED;
+    }
+    private AbiGenerationMode abiCompatibilityMode;
+    private int abiCompatibilityModeBuildStage;
+
+    AbiGenerationMode getAbiCompatibilityMode() {
+      if (abiCompatibilityModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (abiCompatibilityModeBuildStage == STAGE_UNINITIALIZED) {
+        abiCompatibilityModeBuildStage = STAGE_INITIALIZING;
+        this.abiCompatibilityMode = Objects.requireNonNull(CompilerParameters.super.getAbiCompatibilityMode(), "abiCompatibilityMode");
+        abiCompatibilityModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.abiCompatibilityMode;
+    }
+
+    void setAbiCompatibilityMode(AbiGenerationMode abiCompatibilityMode) {
+      this.abiCompatibilityMode = abiCompatibilityMode;
+      abiCompatibilityModeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldTrackClassUsage;
+    private int shouldTrackClassUsageBuildStage;
+
+    boolean shouldTrackClassUsage() {
+      if (shouldTrackClassUsageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldTrackClassUsageBuildStage == STAGE_UNINITIALIZED) {
+        shouldTrackClassUsageBuildStage = STAGE_INITIALIZING;
+        this.shouldTrackClassUsage = CompilerParameters.super.shouldTrackClassUsage();
+        shouldTrackClassUsageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldTrackClassUsage;
+    }
+
+    void setShouldTrackClassUsage(boolean shouldTrackClassUsage) {
+      this.shouldTrackClassUsage = shouldTrackClassUsage;
+      shouldTrackClassUsageBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldTrackJavacPhaseEvents;
+    private int shouldTrackJavacPhaseEventsBuildStage;
+
+    boolean shouldTrackJavacPhaseEvents() {
+      if (shouldTrackJavacPhaseEventsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldTrackJavacPhaseEventsBuildStage == STAGE_UNINITIALIZED) {
+        shouldTrackJavacPhaseEventsBuildStage = STAGE_INITIALIZING;
+        this.shouldTrackJavacPhaseEvents = CompilerParameters.super.shouldTrackJavacPhaseEvents();
+        shouldTrackJavacPhaseEventsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldTrackJavacPhaseEvents;
+    }
+
+    void setShouldTrackJavacPhaseEvents(boolean shouldTrackJavacPhaseEvents) {
+      this.shouldTrackJavacPhaseEvents = shouldTrackJavacPhaseEvents;
+      shouldTrackJavacPhaseEventsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (sourceFilePathsBuildStage == STAGE_INITIALIZING) attributes.add("sourceFilePaths");
+      if (classpathEntriesBuildStage == STAGE_INITIALIZING) attributes.add("classpathEntries");
+      if (abiGenerationModeBuildStage == STAGE_INITIALIZING) attributes.add("abiGenerationMode");
+      if (abiCompatibilityModeBuildStage == STAGE_INITIALIZING) attributes.add("abiCompatibilityMode");
+      if (shouldTrackClassUsageBuildStage == STAGE_INITIALIZING) attributes.add("shouldTrackClassUsage");
+      if (shouldTrackJavacPhaseEventsBuildStage == STAGE_INITIALIZING) attributes.add("shouldTrackJavacPhaseEvents");
+      return "Cannot build CompilerParameters, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code sourceFilePaths} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getSourceFilePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSourceFilePaths()
+        : this.sourceFilePaths;
+  }
+
+  /**
+   * @return The value of the {@code classpathEntries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getClasspathEntries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClasspathEntries()
+        : this.classpathEntries;
+  }
+
+  /**
+   * @return The value of the {@code outputPaths} attribute
+   */
+  @Override
+  public CompilerOutputPaths getOutputPaths() {
+    return outputPaths;
+  }
+
+  /**
+   * @return The value of the {@code abiGenerationMode} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiGenerationMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAbiGenerationMode()
+        : this.abiGenerationMode;
+  }
+
+  /**
+   * @return The value of the {@code abiCompatibilityMode} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiCompatibilityMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAbiCompatibilityMode()
+        : this.abiCompatibilityMode;
+  }
+
+  /**
+   * @return The value of the {@code shouldTrackClassUsage} attribute
+   */
+  @Override
+  public boolean shouldTrackClassUsage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldTrackClassUsage()
+        : this.shouldTrackClassUsage;
+  }
+
+  /**
+   * @return The value of the {@code shouldTrackJavacPhaseEvents} attribute
+   */
+  @Override
+  public boolean shouldTrackJavacPhaseEvents() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldTrackJavacPhaseEvents()
+        : this.shouldTrackJavacPhaseEvents;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbiRuleInfoFactory} attribute
+   */
+  @Override
+  public @Nullable SourceOnlyAbiRuleInfoFactory getSourceOnlyAbiRuleInfoFactory() {
+    return sourceOnlyAbiRuleInfoFactory;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CompilerParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CompilerParameters
+        && equalTo((CompilerParameters) another);
+  }
+
+  private boolean equalTo(CompilerParameters another) {
+    return sourceFilePaths.equals(another.sourceFilePaths)
+        && classpathEntries.equals(another.classpathEntries)
+        && outputPaths.equals(another.outputPaths)
+        && abiGenerationMode.equals(another.abiGenerationMode)
+        && abiCompatibilityMode.equals(another.abiCompatibilityMode)
+        && shouldTrackClassUsage == another.shouldTrackClassUsage
+        && shouldTrackJavacPhaseEvents == another.shouldTrackJavacPhaseEvents
+        && Objects.equals(sourceOnlyAbiRuleInfoFactory, another.sourceOnlyAbiRuleInfoFactory);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceFilePaths}, {@code classpathEntries}, {@code outputPaths}, {@code abiGenerationMode}, {@code abiCompatibilityMode}, {@code shouldTrackClassUsage}, {@code shouldTrackJavacPhaseEvents}, {@code sourceOnlyAbiRuleInfoFactory}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + sourceFilePaths.hashCode();
+    h += (h << 5) + classpathEntries.hashCode();
+    h += (h << 5) + outputPaths.hashCode();
+    h += (h << 5) + abiGenerationMode.hashCode();
+    h += (h << 5) + abiCompatibilityMode.hashCode();
+    h += (h << 5) + Booleans.hashCode(shouldTrackClassUsage);
+    h += (h << 5) + Booleans.hashCode(shouldTrackJavacPhaseEvents);
+    h += (h << 5) + Objects.hashCode(sourceOnlyAbiRuleInfoFactory);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CompilerParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CompilerParameters")
+        .omitNullValues()
+        .add("sourceFilePaths", sourceFilePaths)
+        .add("classpathEntries", classpathEntries)
+        .add("outputPaths", outputPaths)
+        .add("abiGenerationMode", abiGenerationMode)
+        .add("abiCompatibilityMode", abiCompatibilityMode)
+        .add("shouldTrackClassUsage", shouldTrackClassUsage)
+        .add("shouldTrackJavacPhaseEvents", shouldTrackJavacPhaseEvents)
+        .add("sourceOnlyAbiRuleInfoFactory", sourceOnlyAbiRuleInfoFactory)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link CompilerParameters CompilerParameters}.
+   * @return A new CompilerParameters builder
+   */
+  public static CompilerParameters.Builder builder() {
+    return new CompilerParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CompilerParameters CompilerParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder 
+      extends AbstractCompilerParameters.Builder {
+    private static final long INIT_BIT_OUTPUT_PATHS = 0x1L;
+    private static final long OPT_BIT_SHOULD_TRACK_CLASS_USAGE = 0x1L;
+    private static final long OPT_BIT_SHOULD_TRACK_JAVAC_PHASE_EVENTS = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable ImmutableSortedSet<Path> sourceFilePaths;
+    private @Nullable ImmutableSortedSet<Path> classpathEntries;
+    private @Nullable CompilerOutputPaths outputPaths;
+    private @Nullable AbiGenerationMode abiGenerationMode;
+    private @Nullable AbiGenerationMode abiCompatibilityMode;
+    private boolean shouldTrackClassUsage;
+    private boolean shouldTrackJavacPhaseEvents;
+    private @Nullable SourceOnlyAbiRuleInfoFactory sourceOnlyAbiRuleInfoFactory;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CompilerParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CompilerParameters instance) {
+      return from((AbstractCompilerParameters) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCompilerParameters} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractCompilerParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSourceFilePaths(instance.getSourceFilePaths());
+      setClasspathEntries(instance.getClasspathEntries());
+      setOutputPaths(instance.getOutputPaths());
+      setAbiGenerationMode(instance.getAbiGenerationMode());
+      setAbiCompatibilityMode(instance.getAbiCompatibilityMode());
+      setShouldTrackClassUsage(instance.shouldTrackClassUsage());
+      setShouldTrackJavacPhaseEvents(instance.shouldTrackJavacPhaseEvents());
+      @Nullable SourceOnlyAbiRuleInfoFactory sourceOnlyAbiRuleInfoFactoryValue = instance.getSourceOnlyAbiRuleInfoFactory();
+      if (sourceOnlyAbiRuleInfoFactoryValue != null) {
+        setSourceOnlyAbiRuleInfoFactory(sourceOnlyAbiRuleInfoFactoryValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getSourceFilePaths() sourceFilePaths} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getSourceFilePaths() sourceFilePaths}.</em>
+     * @param sourceFilePaths The value for sourceFilePaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceFilePaths(ImmutableSortedSet<Path> sourceFilePaths) {
+      this.sourceFilePaths = Objects.requireNonNull(sourceFilePaths, "sourceFilePaths");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getClasspathEntries() classpathEntries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getClasspathEntries() classpathEntries}.</em>
+     * @param classpathEntries The value for classpathEntries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClasspathEntries(ImmutableSortedSet<Path> classpathEntries) {
+      this.classpathEntries = Objects.requireNonNull(classpathEntries, "classpathEntries");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getOutputPaths() outputPaths} attribute.
+     * @param outputPaths The value for outputPaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setOutputPaths(CompilerOutputPaths outputPaths) {
+      this.outputPaths = Objects.requireNonNull(outputPaths, "outputPaths");
+      initBits &= ~INIT_BIT_OUTPUT_PATHS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getAbiGenerationMode() abiGenerationMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getAbiGenerationMode() abiGenerationMode}.</em>
+     * @param abiGenerationMode The value for abiGenerationMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiGenerationMode(AbiGenerationMode abiGenerationMode) {
+      this.abiGenerationMode = Objects.requireNonNull(abiGenerationMode, "abiGenerationMode");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getAbiCompatibilityMode() abiCompatibilityMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#getAbiCompatibilityMode() abiCompatibilityMode}.</em>
+     * @param abiCompatibilityMode The value for abiCompatibilityMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setAbiCompatibilityMode(AbiGenerationMode abiCompatibilityMode) {
+      this.abiCompatibilityMode = Objects.requireNonNull(abiCompatibilityMode, "abiCompatibilityMode");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#shouldTrackClassUsage() shouldTrackClassUsage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#shouldTrackClassUsage() shouldTrackClassUsage}.</em>
+     * @param shouldTrackClassUsage The value for shouldTrackClassUsage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldTrackClassUsage(boolean shouldTrackClassUsage) {
+      this.shouldTrackClassUsage = shouldTrackClassUsage;
+      optBits |= OPT_BIT_SHOULD_TRACK_CLASS_USAGE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#shouldTrackJavacPhaseEvents() shouldTrackJavacPhaseEvents} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractCompilerParameters#shouldTrackJavacPhaseEvents() shouldTrackJavacPhaseEvents}.</em>
+     * @param shouldTrackJavacPhaseEvents The value for shouldTrackJavacPhaseEvents 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setShouldTrackJavacPhaseEvents(boolean shouldTrackJavacPhaseEvents) {
+      this.shouldTrackJavacPhaseEvents = shouldTrackJavacPhaseEvents;
+      optBits |= OPT_BIT_SHOULD_TRACK_JAVAC_PHASE_EVENTS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractCompilerParameters#getSourceOnlyAbiRuleInfoFactory() sourceOnlyAbiRuleInfoFactory} attribute.
+     * @param sourceOnlyAbiRuleInfoFactory The value for sourceOnlyAbiRuleInfoFactory (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSourceOnlyAbiRuleInfoFactory(@Nullable SourceOnlyAbiRuleInfoFactory sourceOnlyAbiRuleInfoFactory) {
+      this.sourceOnlyAbiRuleInfoFactory = sourceOnlyAbiRuleInfoFactory;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link CompilerParameters CompilerParameters}.
+     * @return An immutable instance of CompilerParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CompilerParameters build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CompilerParameters(this);
+    }
+
+    private boolean shouldTrackClassUsageIsSet() {
+      return (optBits & OPT_BIT_SHOULD_TRACK_CLASS_USAGE) != 0;
+    }
+
+    private boolean shouldTrackJavacPhaseEventsIsSet() {
+      return (optBits & OPT_BIT_SHOULD_TRACK_JAVAC_PHASE_EVENTS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_OUTPUT_PATHS) != 0) attributes.add("outputPaths");
+      return "Cannot build CompilerParameters, some of required attributes are not set " + attributes;
+    }
+  }
+}
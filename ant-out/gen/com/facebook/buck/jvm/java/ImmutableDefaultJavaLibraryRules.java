@@ -0,0 +1,2638 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.cell.CellPathResolver;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.core.rules.BuildRuleParams;
+import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolver;
+import com.facebook.buck.core.toolchain.ToolchainProvider;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.jvm.java.abi.AbiGenerationMode;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DefaultJavaLibraryRules}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code new DefaultJavaLibraryRules.Builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DefaultJavaLibraryRules"})
+@Immutable
+@CheckReturnValue
+final class ImmutableDefaultJavaLibraryRules extends DefaultJavaLibraryRules {
+  private final BuildTarget initialBuildTarget;
+  private final ProjectFilesystem projectFilesystem;
+  private final ToolchainProvider toolchainProvider;
+  private final BuildRuleParams initialParams;
+  private final ActionGraphBuilder actionGraphBuilder;
+  private final CellPathResolver cellPathResolver;
+  private final ConfiguredCompilerFactory configuredCompilerFactory;
+  private final JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction;
+  private final @Nullable JavaBuckConfig javaBuckConfig;
+  private final DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor;
+  private final ImmutableSortedSet<SourcePath> srcs;
+  private final ImmutableSortedSet<SourcePath> resources;
+  private final @Nullable SourcePath proguardConfig;
+  private final ImmutableList<String> postprocessClassesCommands;
+  private final @Nullable Path resourcesRoot;
+  private final @Nullable SourcePath manifestFile;
+  private final @Nullable String mavenCoords;
+  private final ImmutableSortedSet<BuildTarget> tests;
+  private final RemoveClassesPatternsMatcher classesToRemoveFromJar;
+  private final boolean sourceOnlyAbisAllowed;
+  private final JavacOptions javacOptions;
+  private final @Nullable JavaLibraryDeps deps;
+  private final @Nullable JavaLibraryDescription.CoreArg args;
+
+  private ImmutableDefaultJavaLibraryRules(ImmutableDefaultJavaLibraryRules.Builder builder) {
+    this.initialBuildTarget = builder.initialBuildTarget;
+    this.projectFilesystem = builder.projectFilesystem;
+    this.toolchainProvider = builder.toolchainProvider;
+    this.initialParams = builder.initialParams;
+    this.actionGraphBuilder = builder.actionGraphBuilder;
+    this.cellPathResolver = builder.cellPathResolver;
+    this.configuredCompilerFactory = builder.configuredCompilerFactory;
+    this.unusedDependenciesAction = builder.unusedDependenciesAction;
+    this.javaBuckConfig = builder.javaBuckConfig;
+    this.srcs = builder.srcs.build();
+    this.resources = builder.resources.build();
+    this.proguardConfig = builder.proguardConfig;
+    this.postprocessClassesCommands = builder.postprocessClassesCommands.build();
+    this.resourcesRoot = builder.resourcesRoot;
+    this.manifestFile = builder.manifestFile;
+    this.mavenCoords = builder.mavenCoords;
+    this.tests = builder.tests.build();
+    this.javacOptions = builder.javacOptions;
+    this.deps = builder.deps;
+    this.args = builder.args;
+    if (builder.constructor != null) {
+      initShim.setConstructor(builder.constructor);
+    }
+    if (builder.classesToRemoveFromJar != null) {
+      initShim.setClassesToRemoveFromJar(builder.classesToRemoveFromJar);
+    }
+    if (builder.sourceOnlyAbisAllowedIsSet()) {
+      initShim.setSourceOnlyAbisAllowed(builder.sourceOnlyAbisAllowed);
+    }
+    this.constructor = initShim.getConstructor();
+    this.classesToRemoveFromJar = initShim.getClassesToRemoveFromJar();
+    this.sourceOnlyAbisAllowed = initShim.getSourceOnlyAbisAllowed();
+    this.initShim = null;
+  }
+
+  private ImmutableDefaultJavaLibraryRules(
+      BuildTarget initialBuildTarget,
+      ProjectFilesystem projectFilesystem,
+      ToolchainProvider toolchainProvider,
+      BuildRuleParams initialParams,
+      ActionGraphBuilder actionGraphBuilder,
+      CellPathResolver cellPathResolver,
+      ConfiguredCompilerFactory configuredCompilerFactory,
+      JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction,
+      @Nullable JavaBuckConfig javaBuckConfig,
+      DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor,
+      ImmutableSortedSet<SourcePath> srcs,
+      ImmutableSortedSet<SourcePath> resources,
+      @Nullable SourcePath proguardConfig,
+      ImmutableList<String> postprocessClassesCommands,
+      @Nullable Path resourcesRoot,
+      @Nullable SourcePath manifestFile,
+      @Nullable String mavenCoords,
+      ImmutableSortedSet<BuildTarget> tests,
+      RemoveClassesPatternsMatcher classesToRemoveFromJar,
+      boolean sourceOnlyAbisAllowed,
+      JavacOptions javacOptions,
+      @Nullable JavaLibraryDeps deps,
+      @Nullable JavaLibraryDescription.CoreArg args) {
+    this.initialBuildTarget = initialBuildTarget;
+    this.projectFilesystem = projectFilesystem;
+    this.toolchainProvider = toolchainProvider;
+    this.initialParams = initialParams;
+    this.actionGraphBuilder = actionGraphBuilder;
+    this.cellPathResolver = cellPathResolver;
+    this.configuredCompilerFactory = configuredCompilerFactory;
+    this.unusedDependenciesAction = unusedDependenciesAction;
+    this.javaBuckConfig = javaBuckConfig;
+    this.constructor = constructor;
+    this.srcs = srcs;
+    this.resources = resources;
+    this.proguardConfig = proguardConfig;
+    this.postprocessClassesCommands = postprocessClassesCommands;
+    this.resourcesRoot = resourcesRoot;
+    this.manifestFile = manifestFile;
+    this.mavenCoords = mavenCoords;
+    this.tests = tests;
+    this.classesToRemoveFromJar = classesToRemoveFromJar;
+    this.sourceOnlyAbisAllowed = sourceOnlyAbisAllowed;
+    this.javacOptions = javacOptions;
+    this.deps = deps;
+    this.args = args;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor;
+    private int constructorBuildStage;
+
+    DefaultJavaLibraryRules.DefaultJavaLibraryConstructor getConstructor() {
+      if (constructorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (constructorBuildStage == STAGE_UNINITIALIZED) {
+        constructorBuildStage = STAGE_INITIALIZING;
+        this.constructor = Objects.requireNonNull(ImmutableDefaultJavaLibraryRules.super.getConstructor(), "constructor");
+        constructorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.constructor;
+    }
+
+    void setConstructor(DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor) {
+      this.constructor = constructor;
+      constructorBuildStage = STAGE_INITIALIZED;
+    }
+    private RemoveClassesPatternsMatcher classesToRemoveFromJar;
+    private int classesToRemoveFromJarBuildStage;
+
+    RemoveClassesPatternsMatcher getClassesToRemoveFromJar() {
+      if (classesToRemoveFromJarBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classesToRemoveFromJarBuildStage == STAGE_UNINITIALIZED) {
+        classesToRemoveFromJarBuildStage = STAGE_INITIALIZING;
+        this.classesToRemoveFromJar = Objects.requireNonNull(ImmutableDefaultJavaLibraryRules.super.getClassesToRemoveFromJar(), "classesToRemoveFromJar");
+        classesToRemoveFromJarBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classesToRemoveFromJar;
+    }
+
+    void setClassesToRemoveFromJar(RemoveClassesPatternsMatcher classesToRemoveFromJar) {
+      this.classesToRemoveFromJar = classesToRemoveFromJar;
+      classesToRemoveFromJarBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean sourceOnlyAbisAllowed;
+    private int sourceOnlyAbisAllowedBuildStage;
+
+    boolean getSourceOnlyAbisAllowed() {
+      if (sourceOnlyAbisAllowedBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sourceOnlyAbisAllowedBuildStage == STAGE_UNINITIALIZED) {
+        sourceOnlyAbisAllowedBuildStage = STAGE_INITIALIZING;
+        this.sourceOnlyAbisAllowed = ImmutableDefaultJavaLibraryRules.super.getSourceOnlyAbisAllowed();
+        sourceOnlyAbisAllowedBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sourceOnlyAbisAllowed;
+    }
+
+    void setSourceOnlyAbisAllowed(boolean sourceOnlyAbisAllowed) {
+      this.sourceOnlyAbisAllowed = sourceOnlyAbisAllowed;
+      sourceOnlyAbisAllowedBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (constructorBuildStage == STAGE_INITIALIZING) attributes.add("constructor");
+      if (classesToRemoveFromJarBuildStage == STAGE_INITIALIZING) attributes.add("classesToRemoveFromJar");
+      if (sourceOnlyAbisAllowedBuildStage == STAGE_INITIALIZING) attributes.add("sourceOnlyAbisAllowed");
+      return "Cannot build DefaultJavaLibraryRules, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code initialBuildTarget} attribute
+   */
+  @Override
+  BuildTarget getInitialBuildTarget() {
+    return initialBuildTarget;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code toolchainProvider} attribute
+   */
+  @Override
+  ToolchainProvider getToolchainProvider() {
+    return toolchainProvider;
+  }
+
+  /**
+   * @return The value of the {@code initialParams} attribute
+   */
+  @Override
+  BuildRuleParams getInitialParams() {
+    return initialParams;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphBuilder} attribute
+   */
+  @Override
+  ActionGraphBuilder getActionGraphBuilder() {
+    return actionGraphBuilder;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code configuredCompilerFactory} attribute
+   */
+  @Override
+  ConfiguredCompilerFactory getConfiguredCompilerFactory() {
+    return configuredCompilerFactory;
+  }
+
+  /**
+   * @return The value of the {@code unusedDependenciesAction} attribute
+   */
+  @Override
+  JavaBuckConfig.UnusedDependenciesAction getUnusedDependenciesAction() {
+    return unusedDependenciesAction;
+  }
+
+  /**
+   * @return The value of the {@code javaBuckConfig} attribute
+   */
+  @Override
+  @Nullable JavaBuckConfig getJavaBuckConfig() {
+    return javaBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code constructor} attribute
+   */
+  @Override
+  DefaultJavaLibraryRules.DefaultJavaLibraryConstructor getConstructor() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConstructor()
+        : this.constructor;
+  }
+
+  /**
+   * @return The value of the {@code srcs} attribute
+   */
+  @Override
+  ImmutableSortedSet<SourcePath> getSrcs() {
+    return srcs;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  ImmutableSortedSet<SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code proguardConfig} attribute
+   */
+  @Override
+  Optional<SourcePath> getProguardConfig() {
+    return Optional.ofNullable(proguardConfig);
+  }
+
+  /**
+   * @return The value of the {@code postprocessClassesCommands} attribute
+   */
+  @Override
+  ImmutableList<String> getPostprocessClassesCommands() {
+    return postprocessClassesCommands;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  Optional<Path> getResourcesRoot() {
+    return Optional.ofNullable(resourcesRoot);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  Optional<SourcePath> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * @return The value of the {@code mavenCoords} attribute
+   */
+  @Override
+  Optional<String> getMavenCoords() {
+    return Optional.ofNullable(mavenCoords);
+  }
+
+  /**
+   * @return The value of the {@code tests} attribute
+   */
+  @Override
+  ImmutableSortedSet<BuildTarget> getTests() {
+    return tests;
+  }
+
+  /**
+   * @return The value of the {@code classesToRemoveFromJar} attribute
+   */
+  @Override
+  RemoveClassesPatternsMatcher getClassesToRemoveFromJar() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClassesToRemoveFromJar()
+        : this.classesToRemoveFromJar;
+  }
+
+  /**
+   * @return The value of the {@code sourceOnlyAbisAllowed} attribute
+   */
+  @Override
+  boolean getSourceOnlyAbisAllowed() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSourceOnlyAbisAllowed()
+        : this.sourceOnlyAbisAllowed;
+  }
+
+  /**
+   * @return The value of the {@code javacOptions} attribute
+   */
+  @Override
+  JavacOptions getJavacOptions() {
+    return javacOptions;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  @Nullable JavaLibraryDeps getDeps() {
+    return deps;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  @Nullable JavaLibraryDescription.CoreArg getArgs() {
+    return args;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getInitialBuildTarget() initialBuildTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for initialBuildTarget
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withInitialBuildTarget(BuildTarget value) {
+    if (this.initialBuildTarget == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "initialBuildTarget");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        newValue,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Objects.requireNonNull(value, "projectFilesystem");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        newValue,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getToolchainProvider() toolchainProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for toolchainProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withToolchainProvider(ToolchainProvider value) {
+    if (this.toolchainProvider == value) return this;
+    ToolchainProvider newValue = Objects.requireNonNull(value, "toolchainProvider");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        newValue,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getInitialParams() initialParams} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for initialParams
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withInitialParams(BuildRuleParams value) {
+    if (this.initialParams == value) return this;
+    BuildRuleParams newValue = Objects.requireNonNull(value, "initialParams");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        newValue,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getActionGraphBuilder() actionGraphBuilder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraphBuilder
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withActionGraphBuilder(ActionGraphBuilder value) {
+    if (this.actionGraphBuilder == value) return this;
+    ActionGraphBuilder newValue = Objects.requireNonNull(value, "actionGraphBuilder");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        newValue,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Objects.requireNonNull(value, "cellPathResolver");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        newValue,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getConfiguredCompilerFactory() configuredCompilerFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for configuredCompilerFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withConfiguredCompilerFactory(ConfiguredCompilerFactory value) {
+    if (this.configuredCompilerFactory == value) return this;
+    ConfiguredCompilerFactory newValue = Objects.requireNonNull(value, "configuredCompilerFactory");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        newValue,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getUnusedDependenciesAction() unusedDependenciesAction} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for unusedDependenciesAction
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withUnusedDependenciesAction(JavaBuckConfig.UnusedDependenciesAction value) {
+    if (this.unusedDependenciesAction == value) return this;
+    JavaBuckConfig.UnusedDependenciesAction newValue = Objects.requireNonNull(value, "unusedDependenciesAction");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        newValue,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getJavaBuckConfig() javaBuckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaBuckConfig (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withJavaBuckConfig(@Nullable JavaBuckConfig value) {
+    if (this.javaBuckConfig == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        value,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getConstructor() constructor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for constructor
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withConstructor(DefaultJavaLibraryRules.DefaultJavaLibraryConstructor value) {
+    if (this.constructor == value) return this;
+    DefaultJavaLibraryRules.DefaultJavaLibraryConstructor newValue = Objects.requireNonNull(value, "constructor");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        newValue,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getSrcs() srcs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withSrcs(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        newValue,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getSrcs() srcs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of srcs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withSrcs(Iterable<? extends SourcePath> elements) {
+    if (this.srcs == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        newValue,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getResources() resources}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withResources(SourcePath... elements) {
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        Arrays.asList(elements));
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        newValue,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getResources() resources}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of resources elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withResources(Iterable<? extends SourcePath> elements) {
+    if (this.resources == elements) return this;
+    ImmutableSortedSet<SourcePath> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<SourcePath>natural(),
+        elements);
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        newValue,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefaultJavaLibraryRules#getProguardConfig() proguardConfig} attribute.
+   * @param value The value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withProguardConfig(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "proguardConfig");
+    if (this.proguardConfig == newValue) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        newValue,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefaultJavaLibraryRules#getProguardConfig() proguardConfig} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for proguardConfig
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withProguardConfig(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.proguardConfig == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        value,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withPostprocessClassesCommands(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        newValue,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of postprocessClassesCommands elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withPostprocessClassesCommands(Iterable<String> elements) {
+    if (this.postprocessClassesCommands == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        newValue,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefaultJavaLibraryRules#getResourcesRoot() resourcesRoot} attribute.
+   * @param value The value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withResourcesRoot(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "resourcesRoot");
+    if (this.resourcesRoot == newValue) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        newValue,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefaultJavaLibraryRules#getResourcesRoot() resourcesRoot} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for resourcesRoot
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withResourcesRoot(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.resourcesRoot == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        value,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefaultJavaLibraryRules#getManifestFile() manifestFile} attribute.
+   * @param value The value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withManifestFile(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "manifestFile");
+    if (this.manifestFile == newValue) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        newValue,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefaultJavaLibraryRules#getManifestFile() manifestFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withManifestFile(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.manifestFile == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        value,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefaultJavaLibraryRules#getMavenCoords() mavenCoords} attribute.
+   * @param value The value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withMavenCoords(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "mavenCoords");
+    if (Objects.equals(this.mavenCoords, newValue)) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        newValue,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefaultJavaLibraryRules#getMavenCoords() mavenCoords} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mavenCoords
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withMavenCoords(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.mavenCoords, value)) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        value,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getTests() tests}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withTests(BuildTarget... elements) {
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        Arrays.asList(elements));
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        newValue,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefaultJavaLibraryRules#getTests() tests}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of tests elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withTests(Iterable<? extends BuildTarget> elements) {
+    if (this.tests == elements) return this;
+    ImmutableSortedSet<BuildTarget> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<BuildTarget>natural(),
+        elements);
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        newValue,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getClassesToRemoveFromJar() classesToRemoveFromJar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classesToRemoveFromJar
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withClassesToRemoveFromJar(RemoveClassesPatternsMatcher value) {
+    if (this.classesToRemoveFromJar == value) return this;
+    RemoveClassesPatternsMatcher newValue = Objects.requireNonNull(value, "classesToRemoveFromJar");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        newValue,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getSourceOnlyAbisAllowed() sourceOnlyAbisAllowed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceOnlyAbisAllowed
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withSourceOnlyAbisAllowed(boolean value) {
+    if (this.sourceOnlyAbisAllowed == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        value,
+        this.javacOptions,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getJavacOptions() javacOptions} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javacOptions
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withJavacOptions(JavacOptions value) {
+    if (this.javacOptions == value) return this;
+    JavacOptions newValue = Objects.requireNonNull(value, "javacOptions");
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        newValue,
+        this.deps,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getDeps() deps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for deps (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withDeps(@Nullable JavaLibraryDeps value) {
+    if (this.deps == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        value,
+        this.args));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefaultJavaLibraryRules#getArgs() args} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for args (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableDefaultJavaLibraryRules withArgs(@Nullable JavaLibraryDescription.CoreArg value) {
+    if (this.args == value) return this;
+    return validate(new ImmutableDefaultJavaLibraryRules(
+        this.initialBuildTarget,
+        this.projectFilesystem,
+        this.toolchainProvider,
+        this.initialParams,
+        this.actionGraphBuilder,
+        this.cellPathResolver,
+        this.configuredCompilerFactory,
+        this.unusedDependenciesAction,
+        this.javaBuckConfig,
+        this.constructor,
+        this.srcs,
+        this.resources,
+        this.proguardConfig,
+        this.postprocessClassesCommands,
+        this.resourcesRoot,
+        this.manifestFile,
+        this.mavenCoords,
+        this.tests,
+        this.classesToRemoveFromJar,
+        this.sourceOnlyAbisAllowed,
+        this.javacOptions,
+        this.deps,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableDefaultJavaLibraryRules} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableDefaultJavaLibraryRules
+        && equalTo((ImmutableDefaultJavaLibraryRules) another);
+  }
+
+  private boolean equalTo(ImmutableDefaultJavaLibraryRules another) {
+    return initialBuildTarget.equals(another.initialBuildTarget)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && toolchainProvider.equals(another.toolchainProvider)
+        && initialParams.equals(another.initialParams)
+        && actionGraphBuilder.equals(another.actionGraphBuilder)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && configuredCompilerFactory.equals(another.configuredCompilerFactory)
+        && unusedDependenciesAction.equals(another.unusedDependenciesAction)
+        && Objects.equals(javaBuckConfig, another.javaBuckConfig)
+        && constructor.equals(another.constructor)
+        && srcs.equals(another.srcs)
+        && resources.equals(another.resources)
+        && Objects.equals(proguardConfig, another.proguardConfig)
+        && postprocessClassesCommands.equals(another.postprocessClassesCommands)
+        && Objects.equals(resourcesRoot, another.resourcesRoot)
+        && Objects.equals(manifestFile, another.manifestFile)
+        && Objects.equals(mavenCoords, another.mavenCoords)
+        && tests.equals(another.tests)
+        && classesToRemoveFromJar.equals(another.classesToRemoveFromJar)
+        && sourceOnlyAbisAllowed == another.sourceOnlyAbisAllowed
+        && javacOptions.equals(another.javacOptions)
+        && Objects.equals(deps, another.deps)
+        && Objects.equals(args, another.args);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code initialBuildTarget}, {@code projectFilesystem}, {@code toolchainProvider}, {@code initialParams}, {@code actionGraphBuilder}, {@code cellPathResolver}, {@code configuredCompilerFactory}, {@code unusedDependenciesAction}, {@code javaBuckConfig}, {@code constructor}, {@code srcs}, {@code resources}, {@code proguardConfig}, {@code postprocessClassesCommands}, {@code resourcesRoot}, {@code manifestFile}, {@code mavenCoords}, {@code tests}, {@code classesToRemoveFromJar}, {@code sourceOnlyAbisAllowed}, {@code javacOptions}, {@code deps}, {@code args}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + initialBuildTarget.hashCode();
+    h += (h << 5) + projectFilesystem.hashCode();
+    h += (h << 5) + toolchainProvider.hashCode();
+    h += (h << 5) + initialParams.hashCode();
+    h += (h << 5) + actionGraphBuilder.hashCode();
+    h += (h << 5) + cellPathResolver.hashCode();
+    h += (h << 5) + configuredCompilerFactory.hashCode();
+    h += (h << 5) + unusedDependenciesAction.hashCode();
+    h += (h << 5) + Objects.hashCode(javaBuckConfig);
+    h += (h << 5) + constructor.hashCode();
+    h += (h << 5) + srcs.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Objects.hashCode(proguardConfig);
+    h += (h << 5) + postprocessClassesCommands.hashCode();
+    h += (h << 5) + Objects.hashCode(resourcesRoot);
+    h += (h << 5) + Objects.hashCode(manifestFile);
+    h += (h << 5) + Objects.hashCode(mavenCoords);
+    h += (h << 5) + tests.hashCode();
+    h += (h << 5) + classesToRemoveFromJar.hashCode();
+    h += (h << 5) + Booleans.hashCode(sourceOnlyAbisAllowed);
+    h += (h << 5) + javacOptions.hashCode();
+    h += (h << 5) + Objects.hashCode(deps);
+    h += (h << 5) + Objects.hashCode(args);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefaultJavaLibraryRules} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefaultJavaLibraryRules")
+        .omitNullValues()
+        .add("initialBuildTarget", initialBuildTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("toolchainProvider", toolchainProvider)
+        .add("initialParams", initialParams)
+        .add("actionGraphBuilder", actionGraphBuilder)
+        .add("cellPathResolver", cellPathResolver)
+        .add("configuredCompilerFactory", configuredCompilerFactory)
+        .add("unusedDependenciesAction", unusedDependenciesAction)
+        .add("javaBuckConfig", javaBuckConfig)
+        .add("constructor", constructor)
+        .add("srcs", srcs)
+        .add("resources", resources)
+        .add("proguardConfig", proguardConfig)
+        .add("postprocessClassesCommands", postprocessClassesCommands)
+        .add("resourcesRoot", resourcesRoot)
+        .add("manifestFile", manifestFile)
+        .add("mavenCoords", mavenCoords)
+        .add("tests", tests)
+        .add("classesToRemoveFromJar", classesToRemoveFromJar)
+        .add("sourceOnlyAbisAllowed", sourceOnlyAbisAllowed)
+        .add("javacOptions", javacOptions)
+        .add("deps", deps)
+        .add("args", args)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long LIBRARY_TARGET_LAZY_INIT_BIT = 0x1L;
+
+  private BuildTarget libraryTarget;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getLibraryTarget() libraryTarget} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public BuildTarget getLibraryTarget() {
+    if ((lazyInitBitmap & LIBRARY_TARGET_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & LIBRARY_TARGET_LAZY_INIT_BIT) == 0) {
+          this.libraryTarget = Objects.requireNonNull(super.getLibraryTarget(), "libraryTarget");
+          lazyInitBitmap |= LIBRARY_TARGET_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return libraryTarget;
+  }
+
+  private static final long SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT = 0x2L;
+
+  private SourcePathRuleFinder sourcePathRuleFinder;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourcePathRuleFinder() sourcePathRuleFinder} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public SourcePathRuleFinder getSourcePathRuleFinder() {
+    if ((lazyInitBitmap & SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT) == 0) {
+          this.sourcePathRuleFinder = Objects.requireNonNull(super.getSourcePathRuleFinder(), "sourcePathRuleFinder");
+          lazyInitBitmap |= SOURCE_PATH_RULE_FINDER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourcePathRuleFinder;
+  }
+
+  private static final long SOURCE_PATH_RESOLVER_LAZY_INIT_BIT = 0x4L;
+
+  private SourcePathResolver sourcePathResolver;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourcePathResolver() sourcePathResolver} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public SourcePathResolver getSourcePathResolver() {
+    if ((lazyInitBitmap & SOURCE_PATH_RESOLVER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_PATH_RESOLVER_LAZY_INIT_BIT) == 0) {
+          this.sourcePathResolver = Objects.requireNonNull(super.getSourcePathResolver(), "sourcePathResolver");
+          lazyInitBitmap |= SOURCE_PATH_RESOLVER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourcePathResolver;
+  }
+
+  private static final long ABI_JAR_LAZY_INIT_BIT = 0x8L;
+
+  private BuildTarget abiJar;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getAbiJar() abiJar} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public BuildTarget getAbiJar() {
+    if ((lazyInitBitmap & ABI_JAR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_JAR_LAZY_INIT_BIT) == 0) {
+          this.abiJar = super.getAbiJar();
+          lazyInitBitmap |= ABI_JAR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiJar;
+  }
+
+  private static final long SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT = 0x10L;
+
+  private BuildTarget sourceOnlyAbiJar;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourceOnlyAbiJar() sourceOnlyAbiJar} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public BuildTarget getSourceOnlyAbiJar() {
+    if ((lazyInitBitmap & SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT) == 0) {
+          this.sourceOnlyAbiJar = super.getSourceOnlyAbiJar();
+          lazyInitBitmap |= SOURCE_ONLY_ABI_JAR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourceOnlyAbiJar;
+  }
+
+  private static final long ABI_GENERATION_MODE_LAZY_INIT_BIT = 0x20L;
+
+  private AbiGenerationMode abiGenerationMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getAbiGenerationMode() abiGenerationMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiGenerationMode() {
+    if ((lazyInitBitmap & ABI_GENERATION_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_GENERATION_MODE_LAZY_INIT_BIT) == 0) {
+          this.abiGenerationMode = Objects.requireNonNull(super.getAbiGenerationMode(), "abiGenerationMode");
+          lazyInitBitmap |= ABI_GENERATION_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiGenerationMode;
+  }
+
+  private static final long SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT = 0x40L;
+
+  private JavaBuckConfig.SourceAbiVerificationMode sourceAbiVerificationMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getSourceAbiVerificationMode() sourceAbiVerificationMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public JavaBuckConfig.SourceAbiVerificationMode getSourceAbiVerificationMode() {
+    if ((lazyInitBitmap & SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT) == 0) {
+          this.sourceAbiVerificationMode = Objects.requireNonNull(super.getSourceAbiVerificationMode(), "sourceAbiVerificationMode");
+          lazyInitBitmap |= SOURCE_ABI_VERIFICATION_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return sourceAbiVerificationMode;
+  }
+
+  private static final long ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT = 0x80L;
+
+  private AbiGenerationMode abiCompatibilityMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getAbiCompatibilityMode() abiCompatibilityMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbiGenerationMode getAbiCompatibilityMode() {
+    if ((lazyInitBitmap & ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT) == 0) {
+          this.abiCompatibilityMode = Objects.requireNonNull(super.getAbiCompatibilityMode(), "abiCompatibilityMode");
+          lazyInitBitmap |= ABI_COMPATIBILITY_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return abiCompatibilityMode;
+  }
+
+  private static final long CLASSPATHS_LAZY_INIT_BIT = 0x100L;
+
+  private DefaultJavaLibraryClasspaths classpaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getClasspaths() classpaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public DefaultJavaLibraryClasspaths getClasspaths() {
+    if ((lazyInitBitmap & CLASSPATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CLASSPATHS_LAZY_INIT_BIT) == 0) {
+          this.classpaths = Objects.requireNonNull(super.getClasspaths(), "classpaths");
+          lazyInitBitmap |= CLASSPATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return classpaths;
+  }
+
+  private static final long CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x200L;
+
+  private DefaultJavaLibraryClasspaths classpathsForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getClasspathsForSourceOnlyAbi() classpathsForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public DefaultJavaLibraryClasspaths getClasspathsForSourceOnlyAbi() {
+    if ((lazyInitBitmap & CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.classpathsForSourceOnlyAbi = Objects.requireNonNull(super.getClasspathsForSourceOnlyAbi(), "classpathsForSourceOnlyAbi");
+          lazyInitBitmap |= CLASSPATHS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return classpathsForSourceOnlyAbi;
+  }
+
+  private static final long CONFIGURED_COMPILER_LAZY_INIT_BIT = 0x400L;
+
+  private CompileToJarStepFactory configuredCompiler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getConfiguredCompiler() configuredCompiler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public CompileToJarStepFactory getConfiguredCompiler() {
+    if ((lazyInitBitmap & CONFIGURED_COMPILER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CONFIGURED_COMPILER_LAZY_INIT_BIT) == 0) {
+          this.configuredCompiler = Objects.requireNonNull(super.getConfiguredCompiler(), "configuredCompiler");
+          lazyInitBitmap |= CONFIGURED_COMPILER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return configuredCompiler;
+  }
+
+  private static final long CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x800L;
+
+  private CompileToJarStepFactory configuredCompilerForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getConfiguredCompilerForSourceOnlyAbi() configuredCompilerForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public CompileToJarStepFactory getConfiguredCompilerForSourceOnlyAbi() {
+    if ((lazyInitBitmap & CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.configuredCompilerForSourceOnlyAbi = Objects.requireNonNull(super.getConfiguredCompilerForSourceOnlyAbi(), "configuredCompilerForSourceOnlyAbi");
+          lazyInitBitmap |= CONFIGURED_COMPILER_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return configuredCompilerForSourceOnlyAbi;
+  }
+
+  private static final long JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x1000L;
+
+  private JavacOptions javacOptionsForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getJavacOptionsForSourceOnlyAbi() javacOptionsForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public JavacOptions getJavacOptionsForSourceOnlyAbi() {
+    if ((lazyInitBitmap & JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.javacOptionsForSourceOnlyAbi = Objects.requireNonNull(super.getJavacOptionsForSourceOnlyAbi(), "javacOptionsForSourceOnlyAbi");
+          lazyInitBitmap |= JAVAC_OPTIONS_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javacOptionsForSourceOnlyAbi;
+  }
+
+  private static final long COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT = 0x2000L;
+
+  private CompileAgainstLibraryType compileAgainstLibraryType;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getCompileAgainstLibraryType() compileAgainstLibraryType} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public CompileAgainstLibraryType getCompileAgainstLibraryType() {
+    if ((lazyInitBitmap & COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT) == 0) {
+          this.compileAgainstLibraryType = Objects.requireNonNull(super.getCompileAgainstLibraryType(), "compileAgainstLibraryType");
+          lazyInitBitmap |= COMPILE_AGAINST_LIBRARY_TYPE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return compileAgainstLibraryType;
+  }
+
+  private static final long JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT = 0x4000L;
+
+  private JarBuildStepsFactory jarBuildStepsFactory;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getJarBuildStepsFactory() jarBuildStepsFactory} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public JarBuildStepsFactory getJarBuildStepsFactory() {
+    if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT) == 0) {
+          this.jarBuildStepsFactory = Objects.requireNonNull(super.getJarBuildStepsFactory(), "jarBuildStepsFactory");
+          lazyInitBitmap |= JAR_BUILD_STEPS_FACTORY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return jarBuildStepsFactory;
+  }
+
+  private static final long JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT = 0x8000L;
+
+  private JarBuildStepsFactory jarBuildStepsFactoryForSourceOnlyAbi;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link DefaultJavaLibraryRules#getJarBuildStepsFactoryForSourceOnlyAbi() jarBuildStepsFactoryForSourceOnlyAbi} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public JarBuildStepsFactory getJarBuildStepsFactoryForSourceOnlyAbi() {
+    if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT) == 0) {
+          this.jarBuildStepsFactoryForSourceOnlyAbi = Objects.requireNonNull(super.getJarBuildStepsFactoryForSourceOnlyAbi(), "jarBuildStepsFactoryForSourceOnlyAbi");
+          lazyInitBitmap |= JAR_BUILD_STEPS_FACTORY_FOR_SOURCE_ONLY_ABI_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return jarBuildStepsFactoryForSourceOnlyAbi;
+  }
+
+
+  private static ImmutableDefaultJavaLibraryRules validate(ImmutableDefaultJavaLibraryRules instance) {
+    instance.validateResources();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DefaultJavaLibraryRules} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DefaultJavaLibraryRules instance
+   */
+  public static DefaultJavaLibraryRules copyOf(DefaultJavaLibraryRules instance) {
+    if (instance instanceof ImmutableDefaultJavaLibraryRules) {
+      return (ImmutableDefaultJavaLibraryRules) instance;
+    }
+    return new DefaultJavaLibraryRules.Builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Builds instances of type {@link DefaultJavaLibraryRules DefaultJavaLibraryRules}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static class Builder {
+    private static final long INIT_BIT_INITIAL_BUILD_TARGET = 0x1L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x2L;
+    private static final long INIT_BIT_TOOLCHAIN_PROVIDER = 0x4L;
+    private static final long INIT_BIT_INITIAL_PARAMS = 0x8L;
+    private static final long INIT_BIT_ACTION_GRAPH_BUILDER = 0x10L;
+    private static final long INIT_BIT_CELL_PATH_RESOLVER = 0x20L;
+    private static final long INIT_BIT_CONFIGURED_COMPILER_FACTORY = 0x40L;
+    private static final long INIT_BIT_UNUSED_DEPENDENCIES_ACTION = 0x80L;
+    private static final long INIT_BIT_JAVAC_OPTIONS = 0x100L;
+    private static final long OPT_BIT_SOURCE_ONLY_ABIS_ALLOWED = 0x1L;
+    private long initBits = 0x1ffL;
+    private long optBits;
+
+    protected @Nullable BuildTarget initialBuildTarget;
+    protected @Nullable ProjectFilesystem projectFilesystem;
+    protected @Nullable ToolchainProvider toolchainProvider;
+    protected @Nullable BuildRuleParams initialParams;
+    protected @Nullable ActionGraphBuilder actionGraphBuilder;
+    protected @Nullable CellPathResolver cellPathResolver;
+    protected @Nullable ConfiguredCompilerFactory configuredCompilerFactory;
+    protected @Nullable JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction;
+    protected @Nullable JavaBuckConfig javaBuckConfig;
+    protected @Nullable DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor;
+    protected ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+    protected ImmutableSortedSet.Builder<SourcePath> resources = ImmutableSortedSet.naturalOrder();
+    protected @Nullable SourcePath proguardConfig;
+    protected ImmutableList.Builder<String> postprocessClassesCommands = ImmutableList.builder();
+    protected @Nullable Path resourcesRoot;
+    protected @Nullable SourcePath manifestFile;
+    protected @Nullable String mavenCoords;
+    protected ImmutableSortedSet.Builder<BuildTarget> tests = ImmutableSortedSet.naturalOrder();
+    protected @Nullable RemoveClassesPatternsMatcher classesToRemoveFromJar;
+    protected boolean sourceOnlyAbisAllowed;
+    protected @Nullable JavacOptions javacOptions;
+    protected @Nullable JavaLibraryDeps deps;
+    protected @Nullable JavaLibraryDescription.CoreArg args;
+
+    /**
+     * Creates a builder for {@link DefaultJavaLibraryRules DefaultJavaLibraryRules} instances.
+     * @param initialBuildTarget {@code initialBuildTarget} parameter
+     * @param projectFilesystem {@code projectFilesystem} parameter
+     * @param toolchainProvider {@code toolchainProvider} parameter
+     * @param initialParams {@code initialParams} parameter
+     * @param actionGraphBuilder {@code actionGraphBuilder} parameter
+     * @param cellPathResolver {@code cellPathResolver} parameter
+     * @param configuredCompilerFactory {@code configuredCompilerFactory} parameter
+     * @param unusedDependenciesAction {@code unusedDependenciesAction} parameter
+     * @param javaBuckConfig {@code javaBuckConfig} parameter, can be {@code null}
+     * @param args {@code args} parameter, can be {@code null}
+     */
+    public Builder(BuildTarget initialBuildTarget, ProjectFilesystem projectFilesystem, ToolchainProvider toolchainProvider, BuildRuleParams initialParams, ActionGraphBuilder actionGraphBuilder, CellPathResolver cellPathResolver, ConfiguredCompilerFactory configuredCompilerFactory, JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction, @Nullable JavaBuckConfig javaBuckConfig, @Nullable JavaLibraryDescription.CoreArg args) {
+      if (!(this instanceof DefaultJavaLibraryRules.Builder)) {
+        throw new UnsupportedOperationException("Use: new DefaultJavaLibraryRules.Builder()");
+      }
+      setInitialBuildTarget(initialBuildTarget);
+      setProjectFilesystem(projectFilesystem);
+      setToolchainProvider(toolchainProvider);
+      setInitialParams(initialParams);
+      setActionGraphBuilder(actionGraphBuilder);
+      setCellPathResolver(cellPathResolver);
+      setConfiguredCompilerFactory(configuredCompilerFactory);
+      setUnusedDependenciesAction(unusedDependenciesAction);
+      setJavaBuckConfig(javaBuckConfig);
+      setArgs(args);
+    }
+
+    Builder() {
+      if (!(this instanceof DefaultJavaLibraryRules.Builder)) {
+        throw new UnsupportedOperationException("Use: new DefaultJavaLibraryRules.Builder()");
+      }
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DefaultJavaLibraryRules} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder from(DefaultJavaLibraryRules instance) {
+      Objects.requireNonNull(instance, "instance");
+      setInitialBuildTarget(instance.getInitialBuildTarget());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setToolchainProvider(instance.getToolchainProvider());
+      setInitialParams(instance.getInitialParams());
+      setActionGraphBuilder(instance.getActionGraphBuilder());
+      setCellPathResolver(instance.getCellPathResolver());
+      setConfiguredCompilerFactory(instance.getConfiguredCompilerFactory());
+      setUnusedDependenciesAction(instance.getUnusedDependenciesAction());
+      @Nullable JavaBuckConfig javaBuckConfigValue = instance.getJavaBuckConfig();
+      if (javaBuckConfigValue != null) {
+        setJavaBuckConfig(javaBuckConfigValue);
+      }
+      setConstructor(instance.getConstructor());
+      addAllSrcs(instance.getSrcs());
+      addAllResources(instance.getResources());
+      Optional<SourcePath> proguardConfigOptional = instance.getProguardConfig();
+      if (proguardConfigOptional.isPresent()) {
+        setProguardConfig(proguardConfigOptional);
+      }
+      addAllPostprocessClassesCommands(instance.getPostprocessClassesCommands());
+      Optional<Path> resourcesRootOptional = instance.getResourcesRoot();
+      if (resourcesRootOptional.isPresent()) {
+        setResourcesRoot(resourcesRootOptional);
+      }
+      Optional<SourcePath> manifestFileOptional = instance.getManifestFile();
+      if (manifestFileOptional.isPresent()) {
+        setManifestFile(manifestFileOptional);
+      }
+      Optional<String> mavenCoordsOptional = instance.getMavenCoords();
+      if (mavenCoordsOptional.isPresent()) {
+        setMavenCoords(mavenCoordsOptional);
+      }
+      addAllTests(instance.getTests());
+      setClassesToRemoveFromJar(instance.getClassesToRemoveFromJar());
+      setSourceOnlyAbisAllowed(instance.getSourceOnlyAbisAllowed());
+      setJavacOptions(instance.getJavacOptions());
+      @Nullable JavaLibraryDeps depsValue = instance.getDeps();
+      if (depsValue != null) {
+        setDeps(depsValue);
+      }
+      @Nullable JavaLibraryDescription.CoreArg argsValue = instance.getArgs();
+      if (argsValue != null) {
+        setArgs(argsValue);
+      }
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getInitialBuildTarget() initialBuildTarget} attribute.
+     * @param initialBuildTarget The value for initialBuildTarget 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setInitialBuildTarget(BuildTarget initialBuildTarget) {
+      this.initialBuildTarget = Objects.requireNonNull(initialBuildTarget, "initialBuildTarget");
+      initBits &= ~INIT_BIT_INITIAL_BUILD_TARGET;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Objects.requireNonNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getToolchainProvider() toolchainProvider} attribute.
+     * @param toolchainProvider The value for toolchainProvider 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setToolchainProvider(ToolchainProvider toolchainProvider) {
+      this.toolchainProvider = Objects.requireNonNull(toolchainProvider, "toolchainProvider");
+      initBits &= ~INIT_BIT_TOOLCHAIN_PROVIDER;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getInitialParams() initialParams} attribute.
+     * @param initialParams The value for initialParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setInitialParams(BuildRuleParams initialParams) {
+      this.initialParams = Objects.requireNonNull(initialParams, "initialParams");
+      initBits &= ~INIT_BIT_INITIAL_PARAMS;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getActionGraphBuilder() actionGraphBuilder} attribute.
+     * @param actionGraphBuilder The value for actionGraphBuilder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setActionGraphBuilder(ActionGraphBuilder actionGraphBuilder) {
+      this.actionGraphBuilder = Objects.requireNonNull(actionGraphBuilder, "actionGraphBuilder");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_BUILDER;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getCellPathResolver() cellPathResolver} attribute.
+     * @param cellPathResolver The value for cellPathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setCellPathResolver(CellPathResolver cellPathResolver) {
+      this.cellPathResolver = Objects.requireNonNull(cellPathResolver, "cellPathResolver");
+      initBits &= ~INIT_BIT_CELL_PATH_RESOLVER;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getConfiguredCompilerFactory() configuredCompilerFactory} attribute.
+     * @param configuredCompilerFactory The value for configuredCompilerFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setConfiguredCompilerFactory(ConfiguredCompilerFactory configuredCompilerFactory) {
+      this.configuredCompilerFactory = Objects.requireNonNull(configuredCompilerFactory, "configuredCompilerFactory");
+      initBits &= ~INIT_BIT_CONFIGURED_COMPILER_FACTORY;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getUnusedDependenciesAction() unusedDependenciesAction} attribute.
+     * @param unusedDependenciesAction The value for unusedDependenciesAction 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setUnusedDependenciesAction(JavaBuckConfig.UnusedDependenciesAction unusedDependenciesAction) {
+      this.unusedDependenciesAction = Objects.requireNonNull(unusedDependenciesAction, "unusedDependenciesAction");
+      initBits &= ~INIT_BIT_UNUSED_DEPENDENCIES_ACTION;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getJavaBuckConfig() javaBuckConfig} attribute.
+     * @param javaBuckConfig The value for javaBuckConfig (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setJavaBuckConfig(@Nullable JavaBuckConfig javaBuckConfig) {
+      this.javaBuckConfig = javaBuckConfig;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getConstructor() constructor} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryRules#getConstructor() constructor}.</em>
+     * @param constructor The value for constructor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setConstructor(DefaultJavaLibraryRules.DefaultJavaLibraryConstructor constructor) {
+      this.constructor = Objects.requireNonNull(constructor, "constructor");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param element A srcs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addSrcs(SourcePath element) {
+      this.srcs.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param elements An array of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addSrcs(SourcePath... elements) {
+      this.srcs.addAll(Arrays.asList(elements));
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs = ImmutableSortedSet.naturalOrder();
+      return addAllSrcs(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getSrcs() srcs} sortedSet.
+     * @param elements An iterable of srcs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllSrcs(Iterable<? extends SourcePath> elements) {
+      this.srcs.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param element A resources element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addResources(SourcePath element) {
+      this.resources.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param elements An array of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addResources(SourcePath... elements) {
+      this.resources.addAll(Arrays.asList(elements));
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setResources(Iterable<? extends SourcePath> elements) {
+      this.resources = ImmutableSortedSet.naturalOrder();
+      return addAllResources(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getResources() resources} sortedSet.
+     * @param elements An iterable of resources elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllResources(Iterable<? extends SourcePath> elements) {
+      this.resources.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setProguardConfig(SourcePath proguardConfig) {
+      this.proguardConfig = Objects.requireNonNull(proguardConfig, "proguardConfig");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getProguardConfig() proguardConfig} to proguardConfig.
+     * @param proguardConfig The value for proguardConfig
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setProguardConfig(Optional<? extends SourcePath> proguardConfig) {
+      this.proguardConfig = proguardConfig.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param element A postprocessClassesCommands element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addPostprocessClassesCommands(String element) {
+      this.postprocessClassesCommands.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An array of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addPostprocessClassesCommands(String... elements) {
+      this.postprocessClassesCommands.add(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands = ImmutableList.builder();
+      return addAllPostprocessClassesCommands(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getPostprocessClassesCommands() postprocessClassesCommands} list.
+     * @param elements An iterable of postprocessClassesCommands elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllPostprocessClassesCommands(Iterable<String> elements) {
+      this.postprocessClassesCommands.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setResourcesRoot(Path resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getResourcesRoot() resourcesRoot} to resourcesRoot.
+     * @param resourcesRoot The value for resourcesRoot
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setResourcesRoot(Optional<? extends Path> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setManifestFile(SourcePath manifestFile) {
+      this.manifestFile = Objects.requireNonNull(manifestFile, "manifestFile");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getManifestFile() manifestFile} to manifestFile.
+     * @param manifestFile The value for manifestFile
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setManifestFile(Optional<? extends SourcePath> manifestFile) {
+      this.manifestFile = manifestFile.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setMavenCoords(String mavenCoords) {
+      this.mavenCoords = Objects.requireNonNull(mavenCoords, "mavenCoords");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefaultJavaLibraryRules#getMavenCoords() mavenCoords} to mavenCoords.
+     * @param mavenCoords The value for mavenCoords
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setMavenCoords(Optional<String> mavenCoords) {
+      this.mavenCoords = mavenCoords.orElse(null);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds one element to {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param element A tests element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addTests(BuildTarget element) {
+      this.tests.add(element);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param elements An array of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addTests(BuildTarget... elements) {
+      this.tests.addAll(Arrays.asList(elements));
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setTests(Iterable<? extends BuildTarget> elements) {
+      this.tests = ImmutableSortedSet.naturalOrder();
+      return addAllTests(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefaultJavaLibraryRules#getTests() tests} sortedSet.
+     * @param elements An iterable of tests elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder addAllTests(Iterable<? extends BuildTarget> elements) {
+      this.tests.addAll(elements);
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getClassesToRemoveFromJar() classesToRemoveFromJar} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryRules#getClassesToRemoveFromJar() classesToRemoveFromJar}.</em>
+     * @param classesToRemoveFromJar The value for classesToRemoveFromJar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setClassesToRemoveFromJar(RemoveClassesPatternsMatcher classesToRemoveFromJar) {
+      this.classesToRemoveFromJar = Objects.requireNonNull(classesToRemoveFromJar, "classesToRemoveFromJar");
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getSourceOnlyAbisAllowed() sourceOnlyAbisAllowed} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link DefaultJavaLibraryRules#getSourceOnlyAbisAllowed() sourceOnlyAbisAllowed}.</em>
+     * @param sourceOnlyAbisAllowed The value for sourceOnlyAbisAllowed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setSourceOnlyAbisAllowed(boolean sourceOnlyAbisAllowed) {
+      this.sourceOnlyAbisAllowed = sourceOnlyAbisAllowed;
+      optBits |= OPT_BIT_SOURCE_ONLY_ABIS_ALLOWED;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getJavacOptions() javacOptions} attribute.
+     * @param javacOptions The value for javacOptions 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setJavacOptions(JavacOptions javacOptions) {
+      this.javacOptions = Objects.requireNonNull(javacOptions, "javacOptions");
+      initBits &= ~INIT_BIT_JAVAC_OPTIONS;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getDeps() deps} attribute.
+     * @param deps The value for deps (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final DefaultJavaLibraryRules.Builder setDeps(@Nullable JavaLibraryDeps deps) {
+      this.deps = deps;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link DefaultJavaLibraryRules#getArgs() args} attribute.
+     * @param args The value for args (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final DefaultJavaLibraryRules.Builder setArgs(@Nullable JavaLibraryDescription.CoreArg args) {
+      this.args = args;
+      return (DefaultJavaLibraryRules.Builder) this;
+    }
+
+
+    /**
+     * Builds a new {@link DefaultJavaLibraryRules DefaultJavaLibraryRules}.
+     * @return An immutable instance of DefaultJavaLibraryRules
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefaultJavaLibraryRules build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableDefaultJavaLibraryRules.validate(new ImmutableDefaultJavaLibraryRules(this));
+    }
+
+    private boolean sourceOnlyAbisAllowedIsSet() {
+      return (optBits & OPT_BIT_SOURCE_ONLY_ABIS_ALLOWED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INITIAL_BUILD_TARGET) != 0) attributes.add("initialBuildTarget");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_TOOLCHAIN_PROVIDER) != 0) attributes.add("toolchainProvider");
+      if ((initBits & INIT_BIT_INITIAL_PARAMS) != 0) attributes.add("initialParams");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_BUILDER) != 0) attributes.add("actionGraphBuilder");
+      if ((initBits & INIT_BIT_CELL_PATH_RESOLVER) != 0) attributes.add("cellPathResolver");
+      if ((initBits & INIT_BIT_CONFIGURED_COMPILER_FACTORY) != 0) attributes.add("configuredCompilerFactory");
+      if ((initBits & INIT_BIT_UNUSED_DEPENDENCIES_ACTION) != 0) attributes.add("unusedDependenciesAction");
+      if ((initBits & INIT_BIT_JAVAC_OPTIONS) != 0) attributes.add("javacOptions");
+      return "Cannot build DefaultJavaLibraryRules, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,724 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.description.arg.CommonDescriptionArg;
+import com.facebook.buck.core.description.arg.HasDeclaredDeps;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JavaAnnotationProcessorDescriptionArg.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg"})
+@Immutable
+@CheckReturnValue
+public final class JavaAnnotationProcessorDescriptionArg
+    implements JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg {
+  private final Optional<String> processorClass;
+  private final ImmutableSet<String> processorClasses;
+  private final boolean isolateClassLoader;
+  private final boolean doesNotAffectAbi;
+  private final boolean supportsAbiGenerationFromSource;
+  private final String name;
+  private final ImmutableSet<SourcePath> licenses;
+  private final ImmutableSortedSet<String> labels;
+  private final ImmutableSortedSet<BuildTarget> deps;
+
+  private JavaAnnotationProcessorDescriptionArg(JavaAnnotationProcessorDescriptionArg.Builder builder) {
+    this.processorClasses = builder.processorClasses.build();
+    this.name = builder.name;
+    this.licenses = builder.licenses.build();
+    this.labels = builder.labels.build();
+    this.deps = builder.deps.build();
+    if (builder.processorClass != null) {
+      initShim.setProcessorClass(builder.processorClass);
+    }
+    if (builder.isolateClassLoaderIsSet()) {
+      initShim.setIsolateClassLoader(builder.isolateClassLoader);
+    }
+    if (builder.doesNotAffectAbiIsSet()) {
+      initShim.setDoesNotAffectAbi(builder.doesNotAffectAbi);
+    }
+    if (builder.supportsAbiGenerationFromSourceIsSet()) {
+      initShim.setSupportsAbiGenerationFromSource(builder.supportsAbiGenerationFromSource);
+    }
+    this.processorClass = initShim.getProcessorClass();
+    this.isolateClassLoader = initShim.isIsolateClassLoader();
+    this.doesNotAffectAbi = initShim.isDoesNotAffectAbi();
+    this.supportsAbiGenerationFromSource = initShim.isSupportsAbiGenerationFromSource();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Optional<String> processorClass;
+    private int processorClassBuildStage;
+
+    Optional<String> getProcessorClass() {
+      if (processorClassBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (processorClassBuildStage == STAGE_UNINITIALIZED) {
+        processorClassBuildStage = STAGE_INITIALIZING;
+        this.processorClass = Objects.requireNonNull(getProcessorClassInitialize(), "processorClass");
+        processorClassBuildStage = STAGE_INITIALIZED;
+      }
+      return this.processorClass;
+    }
+
+    void setProcessorClass(Optional<String> processorClass) {
+      this.processorClass = processorClass;
+      processorClassBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean isolateClassLoader;
+    private int isolateClassLoaderBuildStage;
+
+    boolean isIsolateClassLoader() {
+      if (isolateClassLoaderBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isolateClassLoaderBuildStage == STAGE_UNINITIALIZED) {
+        isolateClassLoaderBuildStage = STAGE_INITIALIZING;
+        this.isolateClassLoader = isIsolateClassLoaderInitialize();
+        isolateClassLoaderBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isolateClassLoader;
+    }
+
+    void setIsolateClassLoader(boolean isolateClassLoader) {
+      this.isolateClassLoader = isolateClassLoader;
+      isolateClassLoaderBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean doesNotAffectAbi;
+    private int doesNotAffectAbiBuildStage;
+
+    boolean isDoesNotAffectAbi() {
+      if (doesNotAffectAbiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (doesNotAffectAbiBuildStage == STAGE_UNINITIALIZED) {
+        doesNotAffectAbiBuildStage = STAGE_INITIALIZING;
+        this.doesNotAffectAbi = isDoesNotAffectAbiInitialize();
+        doesNotAffectAbiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.doesNotAffectAbi;
+    }
+
+    void setDoesNotAffectAbi(boolean doesNotAffectAbi) {
+      this.doesNotAffectAbi = doesNotAffectAbi;
+      doesNotAffectAbiBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean supportsAbiGenerationFromSource;
+    private int supportsAbiGenerationFromSourceBuildStage;
+
+    boolean isSupportsAbiGenerationFromSource() {
+      if (supportsAbiGenerationFromSourceBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (supportsAbiGenerationFromSourceBuildStage == STAGE_UNINITIALIZED) {
+        supportsAbiGenerationFromSourceBuildStage = STAGE_INITIALIZING;
+        this.supportsAbiGenerationFromSource = isSupportsAbiGenerationFromSourceInitialize();
+        supportsAbiGenerationFromSourceBuildStage = STAGE_INITIALIZED;
+      }
+      return this.supportsAbiGenerationFromSource;
+    }
+
+    void setSupportsAbiGenerationFromSource(boolean supportsAbiGenerationFromSource) {
+      this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+      supportsAbiGenerationFromSourceBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (processorClassBuildStage == STAGE_INITIALIZING) attributes.add("processorClass");
+      if (isolateClassLoaderBuildStage == STAGE_INITIALIZING) attributes.add("isolateClassLoader");
+      if (doesNotAffectAbiBuildStage == STAGE_INITIALIZING) attributes.add("doesNotAffectAbi");
+      if (supportsAbiGenerationFromSourceBuildStage == STAGE_INITIALIZING) attributes.add("supportsAbiGenerationFromSource");
+      return "Cannot build JavaAnnotationProcessorDescriptionArg, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  private Optional<String> getProcessorClassInitialize() {
+    return JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg.super.getProcessorClass();
+  }
+
+  private boolean isIsolateClassLoaderInitialize() {
+    return JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg.super.isIsolateClassLoader();
+  }
+
+  private boolean isDoesNotAffectAbiInitialize() {
+    return JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg.super.isDoesNotAffectAbi();
+  }
+
+  private boolean isSupportsAbiGenerationFromSourceInitialize() {
+    return JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg.super.isSupportsAbiGenerationFromSource();
+  }
+
+  /**
+   * @return The value of the {@code processorClass} attribute
+   */
+  @Override
+  public Optional<String> getProcessorClass() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProcessorClass()
+        : this.processorClass;
+  }
+
+  /**
+   * @return The value of the {@code processorClasses} attribute
+   */
+  @Override
+  public ImmutableSet<String> getProcessorClasses() {
+    return processorClasses;
+  }
+
+  /**
+   * @return The value of the {@code isolateClassLoader} attribute
+   */
+  @Override
+  public boolean isIsolateClassLoader() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isIsolateClassLoader()
+        : this.isolateClassLoader;
+  }
+
+  /**
+   * A value of false indicates that the annotation processor generates classes that are intended
+   * for use outside of the code being processed. Annotation processors that affect the ABI of the
+   * rule in which they run must be run during ABI generation from source.
+   * <p>Defaults to false because that's the "safe" value. When migrating to ABI generation from
+   * source, having as few ABI-affecting processors as possible will yield the fastest ABI
+   * generation.
+   */
+  @Override
+  public boolean isDoesNotAffectAbi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDoesNotAffectAbi()
+        : this.doesNotAffectAbi;
+  }
+
+  /**
+   * If true, allows ABI-affecting annotation processors to run during ABI generation from source.
+   * To run during ABI generation from source, an annotation processor must meet all of the
+   * following criteria:
+   * <li>
+   *     <ul>
+   *       Uses only the public APIs from JSR-269 (annotation processing). Access to the Compiler
+   *       Tree API may also be possible via a Buck support library.
+   * </ul>
+   * <ul>
+   *   Does not require details about types beyond those being compiled as a general rule. There
+   *   are ways to ensure type information is available on a case by case basis, at some
+   *   performance cost.
+   * </ul>
+   * Defaults to false because that's the "safe" value. When migrating to ABI generation from
+   * source, having as many ABI-affecting processors as possible running during ABI generation
+   * will result in the flattest build graph.
+   */
+  @Override
+  public boolean isSupportsAbiGenerationFromSource() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isSupportsAbiGenerationFromSource()
+        : this.supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code licenses} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getLicenses() {
+    return licenses;
+  }
+
+  /**
+   * @return The value of the {@code labels} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLabels() {
+    return labels;
+  }
+
+  /**
+   * @return The value of the {@code deps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildTarget> getDeps() {
+    return deps;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaAnnotationProcessorDescriptionArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaAnnotationProcessorDescriptionArg
+        && equalTo((JavaAnnotationProcessorDescriptionArg) another);
+  }
+
+  private boolean equalTo(JavaAnnotationProcessorDescriptionArg another) {
+    return processorClass.equals(another.processorClass)
+        && processorClasses.equals(another.processorClasses)
+        && isolateClassLoader == another.isolateClassLoader
+        && doesNotAffectAbi == another.doesNotAffectAbi
+        && supportsAbiGenerationFromSource == another.supportsAbiGenerationFromSource
+        && name.equals(another.name)
+        && licenses.equals(another.licenses)
+        && labels.equals(another.labels)
+        && deps.equals(another.deps);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code processorClass}, {@code processorClasses}, {@code isolateClassLoader}, {@code doesNotAffectAbi}, {@code supportsAbiGenerationFromSource}, {@code name}, {@code licenses}, {@code labels}, {@code deps}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + processorClass.hashCode();
+    h += (h << 5) + processorClasses.hashCode();
+    h += (h << 5) + Booleans.hashCode(isolateClassLoader);
+    h += (h << 5) + Booleans.hashCode(doesNotAffectAbi);
+    h += (h << 5) + Booleans.hashCode(supportsAbiGenerationFromSource);
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + licenses.hashCode();
+    h += (h << 5) + labels.hashCode();
+    h += (h << 5) + deps.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaAnnotationProcessorDescriptionArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaAnnotationProcessorDescriptionArg")
+        .omitNullValues()
+        .add("processorClass", processorClass)
+        .add("processorClasses", processorClasses)
+        .add("isolateClassLoader", isolateClassLoader)
+        .add("doesNotAffectAbi", doesNotAffectAbi)
+        .add("supportsAbiGenerationFromSource", supportsAbiGenerationFromSource)
+        .add("name", name)
+        .add("licenses", licenses)
+        .add("labels", labels)
+        .add("deps", deps)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link JavaAnnotationProcessorDescriptionArg JavaAnnotationProcessorDescriptionArg}.
+   * @return A new JavaAnnotationProcessorDescriptionArg builder
+   */
+  public static JavaAnnotationProcessorDescriptionArg.Builder builder() {
+    return new JavaAnnotationProcessorDescriptionArg.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavaAnnotationProcessorDescriptionArg JavaAnnotationProcessorDescriptionArg}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long OPT_BIT_ISOLATE_CLASS_LOADER = 0x1L;
+    private static final long OPT_BIT_DOES_NOT_AFFECT_ABI = 0x2L;
+    private static final long OPT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable Optional<String> processorClass;
+    private ImmutableSet.Builder<String> processorClasses = ImmutableSet.builder();
+    private boolean isolateClassLoader;
+    private boolean doesNotAffectAbi;
+    private boolean supportsAbiGenerationFromSource;
+    private @Nullable String name;
+    private ImmutableSet.Builder<SourcePath> licenses = ImmutableSet.builder();
+    private ImmutableSortedSet.Builder<String> labels = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavaAnnotationProcessorDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(JavaAnnotationProcessorDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavaAnnotationProcessorDescriptionArg} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.HasDeclaredDeps} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(HasDeclaredDeps instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.core.description.arg.CommonDescriptionArg} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder from(CommonDescriptionArg instance) {
+      Objects.requireNonNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      if (object instanceof JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg) {
+        JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg instance = (JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg) object;
+        setProcessorClass(instance.getProcessorClass());
+        setDoesNotAffectAbi(instance.isDoesNotAffectAbi());
+        setSupportsAbiGenerationFromSource(instance.isSupportsAbiGenerationFromSource());
+        addAllProcessorClasses(instance.getProcessorClasses());
+        setIsolateClassLoader(instance.isIsolateClassLoader());
+      }
+      if (object instanceof HasDeclaredDeps) {
+        HasDeclaredDeps instance = (HasDeclaredDeps) object;
+        addAllDeps(instance.getDeps());
+      }
+      if (object instanceof CommonDescriptionArg) {
+        CommonDescriptionArg instance = (CommonDescriptionArg) object;
+        setName(instance.getName());
+        addAllLicenses(instance.getLicenses());
+        addAllLabels(instance.getLabels());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getProcessorClass() processorClass} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getProcessorClass() processorClass}.</em>
+     * @param processorClass The value for processorClass 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProcessorClass(Optional<String> processorClass) {
+      this.processorClass = Objects.requireNonNull(processorClass, "processorClass");
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getProcessorClasses() processorClasses} set.
+     * @param element A processorClasses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProcessorClasses(String element) {
+      this.processorClasses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getProcessorClasses() processorClasses} set.
+     * @param elements An array of processorClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProcessorClasses(String... elements) {
+      this.processorClasses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getProcessorClasses() processorClasses} set.
+     * @param elements An iterable of processorClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProcessorClasses(Iterable<String> elements) {
+      this.processorClasses = ImmutableSet.builder();
+      return addAllProcessorClasses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getProcessorClasses() processorClasses} set.
+     * @param elements An iterable of processorClasses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllProcessorClasses(Iterable<String> elements) {
+      this.processorClasses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#isIsolateClassLoader() isolateClassLoader} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#isIsolateClassLoader() isolateClassLoader}.</em>
+     * @param isolateClassLoader The value for isolateClassLoader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIsolateClassLoader(boolean isolateClassLoader) {
+      this.isolateClassLoader = isolateClassLoader;
+      optBits |= OPT_BIT_ISOLATE_CLASS_LOADER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#isDoesNotAffectAbi() doesNotAffectAbi} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#isDoesNotAffectAbi() doesNotAffectAbi}.</em>
+     * @param doesNotAffectAbi The value for doesNotAffectAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDoesNotAffectAbi(boolean doesNotAffectAbi) {
+      this.doesNotAffectAbi = doesNotAffectAbi;
+      optBits |= OPT_BIT_DOES_NOT_AFFECT_ABI;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#isSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#isSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource}.</em>
+     * @param supportsAbiGenerationFromSource The value for supportsAbiGenerationFromSource 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsAbiGenerationFromSource(boolean supportsAbiGenerationFromSource) {
+      this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+      optBits |= OPT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLicenses() licenses} set.
+     * @param element A licenses element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath element) {
+      this.licenses.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLicenses() licenses} set.
+     * @param elements An array of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLicenses(SourcePath... elements) {
+      this.licenses.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses = ImmutableSet.builder();
+      return addAllLicenses(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLicenses() licenses} set.
+     * @param elements An iterable of licenses elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLicenses(Iterable<? extends SourcePath> elements) {
+      this.licenses.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLabels() labels} sortedSet.
+     * @param element A labels element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String element) {
+      this.labels.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An array of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLabels(String... elements) {
+      this.labels.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLabels(Iterable<String> elements) {
+      this.labels = ImmutableSortedSet.naturalOrder();
+      return addAllLabels(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getLabels() labels} sortedSet.
+     * @param elements An iterable of labels elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLabels(Iterable<String> elements) {
+      this.labels.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getDeps() deps} sortedSet.
+     * @param element A deps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget element) {
+      this.deps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An array of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addDeps(BuildTarget... elements) {
+      this.deps.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps = ImmutableSortedSet.naturalOrder();
+      return addAllDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link JavaAnnotationProcessorDescription.AbstractJavaAnnotationProcessorDescriptionArg#getDeps() deps} sortedSet.
+     * @param elements An iterable of deps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllDeps(Iterable<? extends BuildTarget> elements) {
+      this.deps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavaAnnotationProcessorDescriptionArg JavaAnnotationProcessorDescriptionArg}.
+     * @return An immutable instance of JavaAnnotationProcessorDescriptionArg
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavaAnnotationProcessorDescriptionArg build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavaAnnotationProcessorDescriptionArg(this);
+    }
+
+    private boolean isolateClassLoaderIsSet() {
+      return (optBits & OPT_BIT_ISOLATE_CLASS_LOADER) != 0;
+    }
+
+    private boolean doesNotAffectAbiIsSet() {
+      return (optBits & OPT_BIT_DOES_NOT_AFFECT_ABI) != 0;
+    }
+
+    private boolean supportsAbiGenerationFromSourceIsSet() {
+      return (optBits & OPT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build JavaAnnotationProcessorDescriptionArg, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.toolchain.toolprovider.ToolProvider;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractJavaOptions}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavaOptions.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavaOptions"})
+@Immutable
+@CheckReturnValue
+public final class JavaOptions extends AbstractJavaOptions {
+  private final ToolProvider javaRuntimeProvider;
+
+  private JavaOptions(ToolProvider javaRuntimeProvider) {
+    this.javaRuntimeProvider = Objects.requireNonNull(javaRuntimeProvider, "javaRuntimeProvider");
+  }
+
+  private JavaOptions(
+      JavaOptions original,
+      ToolProvider javaRuntimeProvider) {
+    this.javaRuntimeProvider = javaRuntimeProvider;
+  }
+
+  /**
+   * @return The value of the {@code javaRuntimeProvider} attribute
+   */
+  @Override
+  public ToolProvider getJavaRuntimeProvider() {
+    return javaRuntimeProvider;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavaOptions#getJavaRuntimeProvider() javaRuntimeProvider} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaRuntimeProvider
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavaOptions withJavaRuntimeProvider(ToolProvider value) {
+    if (this.javaRuntimeProvider == value) return this;
+    ToolProvider newValue = Objects.requireNonNull(value, "javaRuntimeProvider");
+    return new JavaOptions(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaOptions
+        && equalTo((JavaOptions) another);
+  }
+
+  private boolean equalTo(JavaOptions another) {
+    return javaRuntimeProvider.equals(another.javaRuntimeProvider);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javaRuntimeProvider}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + javaRuntimeProvider.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaOptions")
+        .omitNullValues()
+        .add("javaRuntimeProvider", javaRuntimeProvider)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavaOptions} instance.
+   * @param javaRuntimeProvider The value for the {@code javaRuntimeProvider} attribute
+   * @return An immutable JavaOptions instance
+   */
+  public static JavaOptions of(ToolProvider javaRuntimeProvider) {
+    return new JavaOptions(javaRuntimeProvider);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavaOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavaOptions instance
+   */
+  static JavaOptions copyOf(AbstractJavaOptions instance) {
+    if (instance instanceof JavaOptions) {
+      return (JavaOptions) instance;
+    }
+    return JavaOptions.of(instance.getJavaRuntimeProvider());
+  }
+}
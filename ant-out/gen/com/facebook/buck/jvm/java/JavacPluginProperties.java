@@ -0,0 +1,404 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Describes the properties of a plugin to javac, either a {@link
+ * javax.annotation.processing.Processor} or a {@link com.sun.source.util.Plugin}. The classpath and
+ * input properties in particular can be expensive to compute, so this object should be cached when
+ * possible.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacPluginProperties"})
+@Immutable
+@CheckReturnValue
+public final class JavacPluginProperties extends AbstractJavacPluginProperties {
+  private final ImmutableSortedSet<String> processorNames;
+  private final ImmutableSortedSet<SourcePath> inputs;
+  private final ImmutableSortedSet<SourcePath> classpathEntries;
+  private final boolean canReuseClassLoader;
+  private final boolean doesNotAffectAbi;
+  private final boolean supportsAbiGenerationFromSource;
+
+  private JavacPluginProperties(JavacPluginProperties.Builder builder) {
+    this.processorNames = builder.processorNames.build();
+    this.inputs = builder.inputs.build();
+    this.classpathEntries = builder.classpathEntries.build();
+    this.canReuseClassLoader = builder.canReuseClassLoader;
+    this.doesNotAffectAbi = builder.doesNotAffectAbi;
+    this.supportsAbiGenerationFromSource = builder.supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * @return The value of the {@code processorNames} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getProcessorNames() {
+    return processorNames;
+  }
+
+  /**
+   * @return The value of the {@code inputs} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getInputs() {
+    return inputs;
+  }
+
+  /**
+   * @return The value of the {@code classpathEntries} attribute
+   */
+  @Override
+  public ImmutableSortedSet<SourcePath> getClasspathEntries() {
+    return classpathEntries;
+  }
+
+  /**
+   * @return The value of the {@code canReuseClassLoader} attribute
+   */
+  @Override
+  public boolean getCanReuseClassLoader() {
+    return canReuseClassLoader;
+  }
+
+  /**
+   * @return The value of the {@code doesNotAffectAbi} attribute
+   */
+  @Override
+  public boolean getDoesNotAffectAbi() {
+    return doesNotAffectAbi;
+  }
+
+  /**
+   * @return The value of the {@code supportsAbiGenerationFromSource} attribute
+   */
+  @Override
+  public boolean getSupportsAbiGenerationFromSource() {
+    return supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacPluginProperties} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacPluginProperties
+        && equalTo((JavacPluginProperties) another);
+  }
+
+  private boolean equalTo(JavacPluginProperties another) {
+    return processorNames.equals(another.processorNames)
+        && inputs.equals(another.inputs)
+        && classpathEntries.equals(another.classpathEntries)
+        && canReuseClassLoader == another.canReuseClassLoader
+        && doesNotAffectAbi == another.doesNotAffectAbi
+        && supportsAbiGenerationFromSource == another.supportsAbiGenerationFromSource;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code processorNames}, {@code inputs}, {@code classpathEntries}, {@code canReuseClassLoader}, {@code doesNotAffectAbi}, {@code supportsAbiGenerationFromSource}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + processorNames.hashCode();
+    h += (h << 5) + inputs.hashCode();
+    h += (h << 5) + classpathEntries.hashCode();
+    h += (h << 5) + Booleans.hashCode(canReuseClassLoader);
+    h += (h << 5) + Booleans.hashCode(doesNotAffectAbi);
+    h += (h << 5) + Booleans.hashCode(supportsAbiGenerationFromSource);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacPluginProperties} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacPluginProperties")
+        .omitNullValues()
+        .add("processorNames", processorNames)
+        .add("inputs", inputs)
+        .add("classpathEntries", classpathEntries)
+        .add("canReuseClassLoader", canReuseClassLoader)
+        .add("doesNotAffectAbi", doesNotAffectAbi)
+        .add("supportsAbiGenerationFromSource", supportsAbiGenerationFromSource)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link JavacPluginProperties JavacPluginProperties}.
+   * @return A new JavacPluginProperties builder
+   */
+  public static JavacPluginProperties.Builder builder() {
+    return new JavacPluginProperties.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavacPluginProperties JavacPluginProperties}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder 
+      extends AbstractJavacPluginProperties.Builder {
+    private static final long INIT_BIT_CAN_REUSE_CLASS_LOADER = 0x1L;
+    private static final long INIT_BIT_DOES_NOT_AFFECT_ABI = 0x2L;
+    private static final long INIT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE = 0x4L;
+    private long initBits = 0x7L;
+
+    private ImmutableSortedSet.Builder<String> processorNames = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> inputs = ImmutableSortedSet.naturalOrder();
+    private ImmutableSortedSet.Builder<SourcePath> classpathEntries = ImmutableSortedSet.naturalOrder();
+    private boolean canReuseClassLoader;
+    private boolean doesNotAffectAbi;
+    private boolean supportsAbiGenerationFromSource;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacPluginProperties} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavacPluginProperties instance) {
+      return from((AbstractJavacPluginProperties) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavacPluginProperties} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractJavacPluginProperties instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllProcessorNames(instance.getProcessorNames());
+      addAllInputs(instance.getInputs());
+      addAllClasspathEntries(instance.getClasspathEntries());
+      setCanReuseClassLoader(instance.getCanReuseClassLoader());
+      setDoesNotAffectAbi(instance.getDoesNotAffectAbi());
+      setSupportsAbiGenerationFromSource(instance.getSupportsAbiGenerationFromSource());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param element A processorNames element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProcessorNames(String element) {
+      this.processorNames.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param elements An array of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addProcessorNames(String... elements) {
+      this.processorNames.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param elements An iterable of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setProcessorNames(Iterable<String> elements) {
+      this.processorNames = ImmutableSortedSet.naturalOrder();
+      return addAllProcessorNames(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getProcessorNames() processorNames} sortedSet.
+     * @param elements An iterable of processorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllProcessorNames(Iterable<String> elements) {
+      this.processorNames.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param element A inputs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addInputs(SourcePath element) {
+      this.inputs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param elements An array of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addInputs(SourcePath... elements) {
+      this.inputs.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInputs(Iterable<? extends SourcePath> elements) {
+      this.inputs = ImmutableSortedSet.naturalOrder();
+      return addAllInputs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getInputs() inputs} sortedSet.
+     * @param elements An iterable of inputs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllInputs(Iterable<? extends SourcePath> elements) {
+      this.inputs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param element A classpathEntries element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addClasspathEntries(SourcePath element) {
+      this.classpathEntries.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param elements An array of classpathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addClasspathEntries(SourcePath... elements) {
+      this.classpathEntries.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param elements An iterable of classpathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.classpathEntries = ImmutableSortedSet.naturalOrder();
+      return addAllClasspathEntries(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacPluginProperties#getClasspathEntries() classpathEntries} sortedSet.
+     * @param elements An iterable of classpathEntries elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllClasspathEntries(Iterable<? extends SourcePath> elements) {
+      this.classpathEntries.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginProperties#getCanReuseClassLoader() canReuseClassLoader} attribute.
+     * @param canReuseClassLoader The value for canReuseClassLoader 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCanReuseClassLoader(boolean canReuseClassLoader) {
+      this.canReuseClassLoader = canReuseClassLoader;
+      initBits &= ~INIT_BIT_CAN_REUSE_CLASS_LOADER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginProperties#getDoesNotAffectAbi() doesNotAffectAbi} attribute.
+     * @param doesNotAffectAbi The value for doesNotAffectAbi 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDoesNotAffectAbi(boolean doesNotAffectAbi) {
+      this.doesNotAffectAbi = doesNotAffectAbi;
+      initBits &= ~INIT_BIT_DOES_NOT_AFFECT_ABI;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractJavacPluginProperties#getSupportsAbiGenerationFromSource() supportsAbiGenerationFromSource} attribute.
+     * @param supportsAbiGenerationFromSource The value for supportsAbiGenerationFromSource 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSupportsAbiGenerationFromSource(boolean supportsAbiGenerationFromSource) {
+      this.supportsAbiGenerationFromSource = supportsAbiGenerationFromSource;
+      initBits &= ~INIT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link JavacPluginProperties JavacPluginProperties}.
+     * @return An immutable instance of JavacPluginProperties
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacPluginProperties build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavacPluginProperties(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CAN_REUSE_CLASS_LOADER) != 0) attributes.add("canReuseClassLoader");
+      if ((initBits & INIT_BIT_DOES_NOT_AFFECT_ABI) != 0) attributes.add("doesNotAffectAbi");
+      if ((initBits & INIT_BIT_SUPPORTS_ABI_GENERATION_FROM_SOURCE) != 0) attributes.add("supportsAbiGenerationFromSource");
+      return "Cannot build JavacPluginProperties, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,352 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractJavacSpec}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JavacSpec.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacSpec"})
+@Immutable
+@CheckReturnValue
+public final class JavacSpec extends AbstractJavacSpec {
+  private final @Nullable SourcePath javacPath;
+  private final @Nullable SourcePath javacJarPath;
+  private final @Nullable String compilerClassName;
+
+  private JavacSpec(
+      @Nullable SourcePath javacPath,
+      @Nullable SourcePath javacJarPath,
+      @Nullable String compilerClassName) {
+    this.javacPath = javacPath;
+    this.javacJarPath = javacJarPath;
+    this.compilerClassName = compilerClassName;
+  }
+
+  /**
+   * @return The value of the {@code javacPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacPath() {
+    return Optional.ofNullable(javacPath);
+  }
+
+  /**
+   * @return The value of the {@code javacJarPath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getJavacJarPath() {
+    return Optional.ofNullable(javacJarPath);
+  }
+
+  /**
+   * @return The value of the {@code compilerClassName} attribute
+   */
+  @Override
+  public Optional<String> getCompilerClassName() {
+    return Optional.ofNullable(compilerClassName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJavacSpec#getJavacPath() javacPath} attribute.
+   * @param value The value for javacPath
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacSpec withJavacPath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "javacPath");
+    if (this.javacPath == newValue) return this;
+    return new JavacSpec(newValue, this.javacJarPath, this.compilerClassName);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJavacSpec#getJavacPath() javacPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javacPath
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacSpec withJavacPath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.javacPath == value) return this;
+    return new JavacSpec(value, this.javacJarPath, this.compilerClassName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJavacSpec#getJavacJarPath() javacJarPath} attribute.
+   * @param value The value for javacJarPath
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacSpec withJavacJarPath(SourcePath value) {
+    @Nullable SourcePath newValue = Objects.requireNonNull(value, "javacJarPath");
+    if (this.javacJarPath == newValue) return this;
+    return new JavacSpec(this.javacPath, newValue, this.compilerClassName);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJavacSpec#getJavacJarPath() javacJarPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javacJarPath
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacSpec withJavacJarPath(Optional<? extends SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.javacJarPath == value) return this;
+    return new JavacSpec(this.javacPath, value, this.compilerClassName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJavacSpec#getCompilerClassName() compilerClassName} attribute.
+   * @param value The value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacSpec withCompilerClassName(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "compilerClassName");
+    if (Objects.equals(this.compilerClassName, newValue)) return this;
+    return new JavacSpec(this.javacPath, this.javacJarPath, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJavacSpec#getCompilerClassName() compilerClassName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for compilerClassName
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacSpec withCompilerClassName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.compilerClassName, value)) return this;
+    return new JavacSpec(this.javacPath, this.javacJarPath, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacSpec
+        && equalTo((JavacSpec) another);
+  }
+
+  private boolean equalTo(JavacSpec another) {
+    return Objects.equals(javacPath, another.javacPath)
+        && Objects.equals(javacJarPath, another.javacJarPath)
+        && Objects.equals(compilerClassName, another.compilerClassName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javacPath}, {@code javacJarPath}, {@code compilerClassName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(javacPath);
+    h += (h << 5) + Objects.hashCode(javacJarPath);
+    h += (h << 5) + Objects.hashCode(compilerClassName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacSpec")
+        .omitNullValues()
+        .add("javacPath", javacPath)
+        .add("javacJarPath", javacJarPath)
+        .add("compilerClassName", compilerClassName)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long JAVAC_PROVIDER_LAZY_INIT_BIT = 0x1L;
+
+  private JavacProvider javacProvider;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractJavacSpec#getJavacProvider() javacProvider} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public JavacProvider getJavacProvider() {
+    if ((lazyInitBitmap & JAVAC_PROVIDER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & JAVAC_PROVIDER_LAZY_INIT_BIT) == 0) {
+          this.javacProvider = Objects.requireNonNull(super.getJavacProvider(), "javacProvider");
+          lazyInitBitmap |= JAVAC_PROVIDER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return javacProvider;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavacSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavacSpec instance
+   */
+  static JavacSpec copyOf(AbstractJavacSpec instance) {
+    if (instance instanceof JavacSpec) {
+      return (JavacSpec) instance;
+    }
+    return JavacSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JavacSpec JavacSpec}.
+   * @return A new JavacSpec builder
+   */
+  public static JavacSpec.Builder builder() {
+    return new JavacSpec.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavacSpec JavacSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable SourcePath javacPath;
+    private @Nullable SourcePath javacJarPath;
+    private @Nullable String compilerClassName;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavacSpec instance) {
+      return from((AbstractJavacSpec) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavacSpec} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractJavacSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      Optional<SourcePath> javacPathOptional = instance.getJavacPath();
+      if (javacPathOptional.isPresent()) {
+        setJavacPath(javacPathOptional);
+      }
+      Optional<SourcePath> javacJarPathOptional = instance.getJavacJarPath();
+      if (javacJarPathOptional.isPresent()) {
+        setJavacJarPath(javacJarPathOptional);
+      }
+      Optional<String> compilerClassNameOptional = instance.getCompilerClassName();
+      if (compilerClassNameOptional.isPresent()) {
+        setCompilerClassName(compilerClassNameOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacSpec#getJavacPath() javacPath} to javacPath.
+     * @param javacPath The value for javacPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacPath(SourcePath javacPath) {
+      this.javacPath = Objects.requireNonNull(javacPath, "javacPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacSpec#getJavacPath() javacPath} to javacPath.
+     * @param javacPath The value for javacPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacPath(Optional<? extends SourcePath> javacPath) {
+      this.javacPath = javacPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacSpec#getJavacJarPath() javacJarPath} to javacJarPath.
+     * @param javacJarPath The value for javacJarPath
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacJarPath(SourcePath javacJarPath) {
+      this.javacJarPath = Objects.requireNonNull(javacJarPath, "javacJarPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacSpec#getJavacJarPath() javacJarPath} to javacJarPath.
+     * @param javacJarPath The value for javacJarPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setJavacJarPath(Optional<? extends SourcePath> javacJarPath) {
+      this.javacJarPath = javacJarPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacSpec#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerClassName(String compilerClassName) {
+      this.compilerClassName = Objects.requireNonNull(compilerClassName, "compilerClassName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacSpec#getCompilerClassName() compilerClassName} to compilerClassName.
+     * @param compilerClassName The value for compilerClassName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCompilerClassName(Optional<String> compilerClassName) {
+      this.compilerClassName = compilerClassName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavacSpec JavacSpec}.
+     * @return An immutable instance of JavacSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacSpec build() {
+      return new JavacSpec(javacPath, javacJarPath, compilerClassName);
+    }
+  }
+}
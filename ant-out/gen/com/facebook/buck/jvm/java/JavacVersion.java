@@ -0,0 +1,160 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractJavacVersion}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code JavacVersion.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code JavacVersion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacVersion"})
+@Immutable
+@CheckReturnValue
+public final class JavacVersion extends AbstractJavacVersion {
+  private final String versionString;
+
+  private JavacVersion(String versionString) {
+    this.versionString = Objects.requireNonNull(versionString, "versionString");
+  }
+
+  private JavacVersion(JavacVersion.Builder builder) {
+    this.versionString = builder.versionString;
+  }
+
+  /**
+   * @return The value of the {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacVersion
+        && equalTo((JavacVersion) another);
+  }
+
+  private boolean equalTo(JavacVersion another) {
+    return versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code JavacVersion} instance.
+   * @param versionString The value for the {@code versionString} attribute
+   * @return An immutable JavacVersion instance
+   */
+  public static JavacVersion of(String versionString) {
+    return new JavacVersion(versionString);
+  }
+
+  /**
+   * Creates a builder for {@link JavacVersion JavacVersion}.
+   * @return A new JavacVersion builder
+   */
+  public static JavacVersion.Builder builder() {
+    return new JavacVersion.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavacVersion JavacVersion}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VERSION_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String versionString;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacVersion} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavacVersion instance) {
+      return from((AbstractJavacVersion) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavacVersion} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractJavacVersion instance) {
+      Objects.requireNonNull(instance, "instance");
+      setVersionString(instance.getVersionString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacVersion#getVersionString() versionString} attribute.
+     * @param versionString The value for versionString 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionString(String versionString) {
+      this.versionString = Objects.requireNonNull(versionString, "versionString");
+      initBits &= ~INIT_BIT_VERSION_STRING;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link JavacVersion JavacVersion}.
+     * @return An immutable instance of JavacVersion
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacVersion build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new JavacVersion(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_VERSION_STRING) != 0) attributes.add("versionString");
+      return "Cannot build JavacVersion, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractResourcesParameters}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ResourcesParameters.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractResourcesParameters"})
+@Immutable
+@CheckReturnValue
+public final class ResourcesParameters extends AbstractResourcesParameters {
+  private final ImmutableSortedMap<String, SourcePath> resources;
+  private final Optional<String> resourcesRoot;
+
+  private ResourcesParameters(ResourcesParameters.Builder builder) {
+    if (builder.resources != null) {
+      initShim.setResources(builder.resources);
+    }
+    if (builder.resourcesRoot != null) {
+      initShim.setResourcesRoot(builder.resourcesRoot);
+    }
+    this.resources = initShim.getResources();
+    this.resourcesRoot = initShim.getResourcesRoot();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ImmutableSortedMap<String, SourcePath> resources;
+    private int resourcesBuildStage;
+
+    ImmutableSortedMap<String, SourcePath> getResources() {
+      if (resourcesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourcesBuildStage == STAGE_UNINITIALIZED) {
+        resourcesBuildStage = STAGE_INITIALIZING;
+        this.resources = Objects.requireNonNull(ResourcesParameters.super.getResources(), "resources");
+        resourcesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resources;
+    }
+
+    void setResources(ImmutableSortedMap<String, SourcePath> resources) {
+      this.resources = resources;
+      resourcesBuildStage = STAGE_INITIALIZED;
+    }
+    private Optional<String> resourcesRoot;
+    private int resourcesRootBuildStage;
+
+    Optional<String> getResourcesRoot() {
+      if (resourcesRootBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (resourcesRootBuildStage == STAGE_UNINITIALIZED) {
+        resourcesRootBuildStage = STAGE_INITIALIZING;
+        this.resourcesRoot = Objects.requireNonNull(ResourcesParameters.super.getResourcesRoot(), "resourcesRoot");
+        resourcesRootBuildStage = STAGE_INITIALIZED;
+      }
+      return this.resourcesRoot;
+    }
+
+    void setResourcesRoot(Optional<String> resourcesRoot) {
+      this.resourcesRoot = resourcesRoot;
+      resourcesRootBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (resourcesBuildStage == STAGE_INITIALIZING) attributes.add("resources");
+      if (resourcesRootBuildStage == STAGE_INITIALIZING) attributes.add("resourcesRoot");
+      return "Cannot build ResourcesParameters, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, SourcePath> getResources() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResources()
+        : this.resources;
+  }
+
+  /**
+   * @return The value of the {@code resourcesRoot} attribute
+   */
+  @Override
+  public Optional<String> getResourcesRoot() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getResourcesRoot()
+        : this.resourcesRoot;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ResourcesParameters} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ResourcesParameters
+        && equalTo((ResourcesParameters) another);
+  }
+
+  private boolean equalTo(ResourcesParameters another) {
+    return resources.equals(another.resources)
+        && resourcesRoot.equals(another.resourcesRoot);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code resources}, {@code resourcesRoot}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + resourcesRoot.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ResourcesParameters} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ResourcesParameters")
+        .omitNullValues()
+        .add("resources", resources)
+        .add("resourcesRoot", resourcesRoot)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ResourcesParameters ResourcesParameters}.
+   * @return A new ResourcesParameters builder
+   */
+  public static ResourcesParameters.Builder builder() {
+    return new ResourcesParameters.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ResourcesParameters ResourcesParameters}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable ImmutableSortedMap<String, SourcePath> resources;
+    private @Nullable Optional<String> resourcesRoot;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ResourcesParameters} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ResourcesParameters instance) {
+      return from((AbstractResourcesParameters) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractResourcesParameters} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractResourcesParameters instance) {
+      Objects.requireNonNull(instance, "instance");
+      setResources(instance.getResources());
+      setResourcesRoot(instance.getResourcesRoot());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractResourcesParameters#getResources() resources} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractResourcesParameters#getResources() resources}.</em>
+     * @param resources The value for resources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResources(ImmutableSortedMap<String, SourcePath> resources) {
+      this.resources = Objects.requireNonNull(resources, "resources");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractResourcesParameters#getResourcesRoot() resourcesRoot} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractResourcesParameters#getResourcesRoot() resourcesRoot}.</em>
+     * @param resourcesRoot The value for resourcesRoot 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setResourcesRoot(Optional<String> resourcesRoot) {
+      this.resourcesRoot = Objects.requireNonNull(resourcesRoot, "resourcesRoot");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ResourcesParameters ResourcesParameters}.
+     * @return An immutable instance of ResourcesParameters
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ResourcesParameters build() {
+      return new ResourcesParameters(this);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.facebook.buck.jvm.java.toolchain;
+
+import com.facebook.buck.cxx.toolchain.CxxPlatform;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractJavaCxxPlatformProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavaCxxPlatformProvider.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavaCxxPlatformProvider"})
+@Immutable
+@CheckReturnValue
+public final class JavaCxxPlatformProvider
+    implements AbstractJavaCxxPlatformProvider {
+  private final CxxPlatform defaultJavaCxxPlatform;
+
+  private JavaCxxPlatformProvider(CxxPlatform defaultJavaCxxPlatform) {
+    this.defaultJavaCxxPlatform = Objects.requireNonNull(defaultJavaCxxPlatform, "defaultJavaCxxPlatform");
+  }
+
+  /**
+   * @return The value of the {@code defaultJavaCxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getDefaultJavaCxxPlatform() {
+    return defaultJavaCxxPlatform;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavaCxxPlatformProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavaCxxPlatformProvider
+        && equalTo((JavaCxxPlatformProvider) another);
+  }
+
+  private boolean equalTo(JavaCxxPlatformProvider another) {
+    return defaultJavaCxxPlatform.equals(another.defaultJavaCxxPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code defaultJavaCxxPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + defaultJavaCxxPlatform.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavaCxxPlatformProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavaCxxPlatformProvider")
+        .omitNullValues()
+        .add("defaultJavaCxxPlatform", defaultJavaCxxPlatform)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavaCxxPlatformProvider} instance.
+   * @param defaultJavaCxxPlatform The value for the {@code defaultJavaCxxPlatform} attribute
+   * @return An immutable JavaCxxPlatformProvider instance
+   */
+  public static JavaCxxPlatformProvider of(CxxPlatform defaultJavaCxxPlatform) {
+    return new JavaCxxPlatformProvider(defaultJavaCxxPlatform);
+  }
+}
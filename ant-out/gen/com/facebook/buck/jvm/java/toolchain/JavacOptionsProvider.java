@@ -0,0 +1,85 @@
+package com.facebook.buck.jvm.java.toolchain;
+
+import com.facebook.buck.jvm.java.JavacOptions;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractJavacOptionsProvider}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavacOptionsProvider.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacOptionsProvider"})
+@Immutable
+@CheckReturnValue
+public final class JavacOptionsProvider
+    implements AbstractJavacOptionsProvider {
+  private final JavacOptions javacOptions;
+
+  private JavacOptionsProvider(JavacOptions javacOptions) {
+    this.javacOptions = Objects.requireNonNull(javacOptions, "javacOptions");
+  }
+
+  /**
+   * @return The value of the {@code javacOptions} attribute
+   */
+  @Override
+  public JavacOptions getJavacOptions() {
+    return javacOptions;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacOptionsProvider} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacOptionsProvider
+        && equalTo((JavacOptionsProvider) another);
+  }
+
+  private boolean equalTo(JavacOptionsProvider another) {
+    return javacOptions.equals(another.javacOptions);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javacOptions}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + javacOptions.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacOptionsProvider} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacOptionsProvider")
+        .omitNullValues()
+        .add("javacOptions", javacOptions)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavacOptionsProvider} instance.
+   * @param javacOptions The value for the {@code javacOptions} attribute
+   * @return An immutable JavacOptionsProvider instance
+   */
+  public static JavacOptionsProvider of(JavacOptions javacOptions) {
+    return new JavacOptionsProvider(javacOptions);
+  }
+}
@@ -0,0 +1,641 @@
+package com.facebook.buck.log;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.LogRecord;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractErrorLogRecord}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ErrorLogRecord.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractErrorLogRecord"})
+@Immutable
+@CheckReturnValue
+public final class ErrorLogRecord extends AbstractErrorLogRecord {
+  private final LogRecord record;
+  private final ImmutableList<String> logs;
+  private final ImmutableMap<String, String> traits;
+  private final String message;
+  private final String category;
+  private final long time;
+  private final Optional<String> logger;
+  private final Optional<String> buildUuid;
+  private final Optional<Boolean> isSuperConsoleEnabled;
+  private final Optional<Boolean> isDaemon;
+  private final Optional<StackTraceElement[]> stack;
+  private final Optional<String> errorMessage;
+  private final Optional<String> initialError;
+  private final Optional<String> initialErrorMsg;
+  private final Optional<String> origin;
+
+  private ErrorLogRecord(ErrorLogRecord.Builder builder) {
+    this.record = builder.record;
+    this.logs = builder.logs.build();
+    if (builder.category != null) {
+      initShim.setCategory(builder.category);
+    }
+    this.category = initShim.getCategory();
+    this.traits = initShim.getTraits();
+    this.message = initShim.getMessage();
+    this.time = initShim.getTime();
+    this.logger = initShim.getLogger();
+    this.buildUuid = initShim.getBuildUuid();
+    this.isSuperConsoleEnabled = initShim.getIsSuperConsoleEnabled();
+    this.isDaemon = initShim.getIsDaemon();
+    this.stack = initShim.getStack();
+    this.errorMessage = initShim.getErrorMessage();
+    this.initialError = initShim.getInitialError();
+    this.initialErrorMsg = initShim.getInitialErrorMsg();
+    this.origin = initShim.getOrigin();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ImmutableMap<String, String> traits;
+    private int traitsBuildStage;
+
+    ImmutableMap<String, String> getTraits() {
+      if (traitsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (traitsBuildStage == STAGE_UNINITIALIZED) {
+        traitsBuildStage = STAGE_INITIALIZING;
+        this.traits = Objects.requireNonNull(ErrorLogRecord.super.getTraits(), "traits");
+        traitsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.traits;
+    }
+    private String message;
+    private int messageBuildStage;
+
+    String getMessage() {
+      if (messageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (messageBuildStage == STAGE_UNINITIALIZED) {
+        messageBuildStage = STAGE_INITIALIZING;
+        this.message = Objects.requireNonNull(ErrorLogRecord.super.getMessage(), "message");
+        messageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.message;
+    }
+    private String category;
+    private int categoryBuildStage;
+
+    String getCategory() {
+      if (categoryBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (categoryBuildStage == STAGE_UNINITIALIZED) {
+        categoryBuildStage = STAGE_INITIALIZING;
+        this.category = Objects.requireNonNull(ErrorLogRecord.super.getCategory(), "category");
+        categoryBuildStage = STAGE_INITIALIZED;
+      }
+      return this.category;
+    }
+
+    void setCategory(String category) {
+      this.category = category;
+      categoryBuildStage = STAGE_INITIALIZED;
+    }
+    private long time;
+    private int timeBuildStage;
+
+    long getTime() {
+      if (timeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (timeBuildStage == STAGE_UNINITIALIZED) {
+        timeBuildStage = STAGE_INITIALIZING;
+        this.time = ErrorLogRecord.super.getTime();
+        timeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.time;
+    }
+    private Optional<String> logger;
+    private int loggerBuildStage;
+
+    Optional<String> getLogger() {
+      if (loggerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (loggerBuildStage == STAGE_UNINITIALIZED) {
+        loggerBuildStage = STAGE_INITIALIZING;
+        this.logger = Objects.requireNonNull(ErrorLogRecord.super.getLogger(), "logger");
+        loggerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.logger;
+    }
+    private Optional<String> buildUuid;
+    private int buildUuidBuildStage;
+
+    Optional<String> getBuildUuid() {
+      if (buildUuidBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildUuidBuildStage == STAGE_UNINITIALIZED) {
+        buildUuidBuildStage = STAGE_INITIALIZING;
+        this.buildUuid = Objects.requireNonNull(ErrorLogRecord.super.getBuildUuid(), "buildUuid");
+        buildUuidBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildUuid;
+    }
+    private Optional<Boolean> isSuperConsoleEnabled;
+    private int isSuperConsoleEnabledBuildStage;
+
+    Optional<Boolean> getIsSuperConsoleEnabled() {
+      if (isSuperConsoleEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isSuperConsoleEnabledBuildStage == STAGE_UNINITIALIZED) {
+        isSuperConsoleEnabledBuildStage = STAGE_INITIALIZING;
+        this.isSuperConsoleEnabled = Objects.requireNonNull(ErrorLogRecord.super.getIsSuperConsoleEnabled(), "isSuperConsoleEnabled");
+        isSuperConsoleEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isSuperConsoleEnabled;
+    }
+    private Optional<Boolean> isDaemon;
+    private int isDaemonBuildStage;
+
+    Optional<Boolean> getIsDaemon() {
+      if (isDaemonBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (isDaemonBuildStage == STAGE_UNINITIALIZED) {
+        isDaemonBuildStage = STAGE_INITIALIZING;
+        this.isDaemon = Objects.requireNonNull(ErrorLogRecord.super.getIsDaemon(), "isDaemon");
+        isDaemonBuildStage = STAGE_INITIALIZED;
+      }
+      return this.isDaemon;
+    }
+    private Optional<StackTraceElement[]> stack;
+    private int stackBuildStage;
+
+    Optional<StackTraceElement[]> getStack() {
+      if (stackBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stackBuildStage == STAGE_UNINITIALIZED) {
+        stackBuildStage = STAGE_INITIALIZING;
+        this.stack = Objects.requireNonNull(ErrorLogRecord.super.getStack(), "stack");
+        stackBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stack;
+    }
+    private Optional<String> errorMessage;
+    private int errorMessageBuildStage;
+
+    Optional<String> getErrorMessage() {
+      if (errorMessageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (errorMessageBuildStage == STAGE_UNINITIALIZED) {
+        errorMessageBuildStage = STAGE_INITIALIZING;
+        this.errorMessage = Objects.requireNonNull(ErrorLogRecord.super.getErrorMessage(), "errorMessage");
+        errorMessageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.errorMessage;
+    }
+    private Optional<String> initialError;
+    private int initialErrorBuildStage;
+
+    Optional<String> getInitialError() {
+      if (initialErrorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (initialErrorBuildStage == STAGE_UNINITIALIZED) {
+        initialErrorBuildStage = STAGE_INITIALIZING;
+        this.initialError = Objects.requireNonNull(ErrorLogRecord.super.getInitialError(), "initialError");
+        initialErrorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.initialError;
+    }
+    private Optional<String> initialErrorMsg;
+    private int initialErrorMsgBuildStage;
+
+    Optional<String> getInitialErrorMsg() {
+      if (initialErrorMsgBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (initialErrorMsgBuildStage == STAGE_UNINITIALIZED) {
+        initialErrorMsgBuildStage = STAGE_INITIALIZING;
+        this.initialErrorMsg = Objects.requireNonNull(ErrorLogRecord.super.getInitialErrorMsg(), "initialErrorMsg");
+        initialErrorMsgBuildStage = STAGE_INITIALIZED;
+      }
+      return this.initialErrorMsg;
+    }
+    private Optional<String> origin;
+    private int originBuildStage;
+
+    Optional<String> getOrigin() {
+      if (originBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (originBuildStage == STAGE_UNINITIALIZED) {
+        originBuildStage = STAGE_INITIALIZING;
+        this.origin = Objects.requireNonNull(ErrorLogRecord.super.getOrigin(), "origin");
+        originBuildStage = STAGE_INITIALIZED;
+      }
+      return this.origin;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (traitsBuildStage == STAGE_INITIALIZING) attributes.add("traits");
+      if (messageBuildStage == STAGE_INITIALIZING) attributes.add("message");
+      if (categoryBuildStage == STAGE_INITIALIZING) attributes.add("category");
+      if (timeBuildStage == STAGE_INITIALIZING) attributes.add("time");
+      if (loggerBuildStage == STAGE_INITIALIZING) attributes.add("logger");
+      if (buildUuidBuildStage == STAGE_INITIALIZING) attributes.add("buildUuid");
+      if (isSuperConsoleEnabledBuildStage == STAGE_INITIALIZING) attributes.add("isSuperConsoleEnabled");
+      if (isDaemonBuildStage == STAGE_INITIALIZING) attributes.add("isDaemon");
+      if (stackBuildStage == STAGE_INITIALIZING) attributes.add("stack");
+      if (errorMessageBuildStage == STAGE_INITIALIZING) attributes.add("errorMessage");
+      if (initialErrorBuildStage == STAGE_INITIALIZING) attributes.add("initialError");
+      if (initialErrorMsgBuildStage == STAGE_INITIALIZING) attributes.add("initialErrorMsg");
+      if (originBuildStage == STAGE_INITIALIZING) attributes.add("origin");
+      return "Cannot build ErrorLogRecord, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code record} attribute
+   */
+  @Override
+  public LogRecord getRecord() {
+    return record;
+  }
+
+  /**
+   * @return The value of the {@code logs} attribute
+   */
+  @Override
+  public ImmutableList<String> getLogs() {
+    return logs;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code traits} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTraits() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTraits()
+        : this.traits;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMessage()
+        : this.message;
+  }
+
+  /**
+   * Computes a category key based on relevant LogRecord information. If an exception is present,
+   * categorizes on the class + method that threw it. If no exception is found, categorizes on the
+   * logger name and the beginning of the message.
+   */
+  @Override
+  public String getCategory() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCategory()
+        : this.category;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code time} attribute
+   */
+  @Override
+  public long getTime() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTime()
+        : this.time;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code logger} attribute
+   */
+  @Override
+  public Optional<String> getLogger() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLogger()
+        : this.logger;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildUuid} attribute
+   */
+  @Override
+  public Optional<String> getBuildUuid() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildUuid()
+        : this.buildUuid;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code isSuperConsoleEnabled} attribute
+   */
+  @Override
+  public Optional<Boolean> getIsSuperConsoleEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIsSuperConsoleEnabled()
+        : this.isSuperConsoleEnabled;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code isDaemon} attribute
+   */
+  @Override
+  public Optional<Boolean> getIsDaemon() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getIsDaemon()
+        : this.isDaemon;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stack} attribute
+   */
+  @Override
+  public Optional<StackTraceElement[]> getStack() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStack()
+        : this.stack;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code errorMessage} attribute
+   */
+  @Override
+  public Optional<String> getErrorMessage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getErrorMessage()
+        : this.errorMessage;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code initialError} attribute
+   */
+  @Override
+  public Optional<String> getInitialError() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInitialError()
+        : this.initialError;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code initialErrorMsg} attribute
+   */
+  @Override
+  public Optional<String> getInitialErrorMsg() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInitialErrorMsg()
+        : this.initialErrorMsg;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code origin} attribute
+   */
+  @Override
+  public Optional<String> getOrigin() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getOrigin()
+        : this.origin;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ErrorLogRecord} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ErrorLogRecord
+        && equalTo((ErrorLogRecord) another);
+  }
+
+  private boolean equalTo(ErrorLogRecord another) {
+    return record.equals(another.record)
+        && logs.equals(another.logs)
+        && traits.equals(another.traits)
+        && message.equals(another.message)
+        && category.equals(another.category)
+        && time == another.time
+        && logger.equals(another.logger)
+        && buildUuid.equals(another.buildUuid)
+        && isSuperConsoleEnabled.equals(another.isSuperConsoleEnabled)
+        && isDaemon.equals(another.isDaemon)
+        && stack.equals(another.stack)
+        && errorMessage.equals(another.errorMessage)
+        && initialError.equals(another.initialError)
+        && initialErrorMsg.equals(another.initialErrorMsg)
+        && origin.equals(another.origin);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code record}, {@code logs}, {@code traits}, {@code message}, {@code category}, {@code time}, {@code logger}, {@code buildUuid}, {@code isSuperConsoleEnabled}, {@code isDaemon}, {@code stack}, {@code errorMessage}, {@code initialError}, {@code initialErrorMsg}, {@code origin}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + record.hashCode();
+    h += (h << 5) + logs.hashCode();
+    h += (h << 5) + traits.hashCode();
+    h += (h << 5) + message.hashCode();
+    h += (h << 5) + category.hashCode();
+    h += (h << 5) + Longs.hashCode(time);
+    h += (h << 5) + logger.hashCode();
+    h += (h << 5) + buildUuid.hashCode();
+    h += (h << 5) + isSuperConsoleEnabled.hashCode();
+    h += (h << 5) + isDaemon.hashCode();
+    h += (h << 5) + stack.hashCode();
+    h += (h << 5) + errorMessage.hashCode();
+    h += (h << 5) + initialError.hashCode();
+    h += (h << 5) + initialErrorMsg.hashCode();
+    h += (h << 5) + origin.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ErrorLogRecord} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ErrorLogRecord")
+        .omitNullValues()
+        .add("record", record)
+        .add("logs", logs)
+        .add("traits", traits)
+        .add("message", message)
+        .add("category", category)
+        .add("time", time)
+        .add("logger", logger)
+        .add("buildUuid", buildUuid)
+        .add("isSuperConsoleEnabled", isSuperConsoleEnabled)
+        .add("isDaemon", isDaemon)
+        .add("stack", stack)
+        .add("errorMessage", errorMessage)
+        .add("initialError", initialError)
+        .add("initialErrorMsg", initialErrorMsg)
+        .add("origin", origin)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ErrorLogRecord ErrorLogRecord}.
+   * @return A new ErrorLogRecord builder
+   */
+  public static ErrorLogRecord.Builder builder() {
+    return new ErrorLogRecord.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ErrorLogRecord ErrorLogRecord}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RECORD = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable LogRecord record;
+    private ImmutableList.Builder<String> logs = ImmutableList.builder();
+    private @Nullable String category;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ErrorLogRecord} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ErrorLogRecord instance) {
+      return from((AbstractErrorLogRecord) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractErrorLogRecord} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractErrorLogRecord instance) {
+      Objects.requireNonNull(instance, "instance");
+      setRecord(instance.getRecord());
+      addAllLogs(instance.getLogs());
+      setCategory(instance.getCategory());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractErrorLogRecord#getRecord() record} attribute.
+     * @param record The value for record 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRecord(LogRecord record) {
+      this.record = Objects.requireNonNull(record, "record");
+      initBits &= ~INIT_BIT_RECORD;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractErrorLogRecord#getLogs() logs} list.
+     * @param element A logs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLogs(String element) {
+      this.logs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractErrorLogRecord#getLogs() logs} list.
+     * @param elements An array of logs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addLogs(String... elements) {
+      this.logs.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractErrorLogRecord#getLogs() logs} list.
+     * @param elements An iterable of logs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogs(Iterable<String> elements) {
+      this.logs = ImmutableList.builder();
+      return addAllLogs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractErrorLogRecord#getLogs() logs} list.
+     * @param elements An iterable of logs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllLogs(Iterable<String> elements) {
+      this.logs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractErrorLogRecord#getCategory() category} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractErrorLogRecord#getCategory() category}.</em>
+     * @param category The value for category 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCategory(String category) {
+      this.category = Objects.requireNonNull(category, "category");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ErrorLogRecord ErrorLogRecord}.
+     * @return An immutable instance of ErrorLogRecord
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ErrorLogRecord build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ErrorLogRecord(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RECORD) != 0) attributes.add("record");
+      return "Cannot build ErrorLogRecord, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,423 @@
+package com.facebook.buck.log;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractLogConfigSetup}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code LogConfigSetup.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code LogConfigSetup.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLogConfigSetup"})
+@Immutable
+@CheckReturnValue
+public final class LogConfigSetup extends AbstractLogConfigSetup {
+  private final Path logDir;
+  private final boolean rotateLog;
+  private final int count;
+  private final long maxLogSizeBytes;
+  private final String logFilePrefix;
+
+  private LogConfigSetup(Path logDir) {
+    this.logDir = Objects.requireNonNull(logDir, "logDir");
+    this.rotateLog = initShim.getRotateLog();
+    this.count = initShim.getCount();
+    this.maxLogSizeBytes = initShim.getMaxLogSizeBytes();
+    this.logFilePrefix = initShim.getLogFilePrefix();
+    this.initShim = null;
+  }
+
+  private LogConfigSetup(LogConfigSetup.Builder builder) {
+    this.logDir = builder.logDir;
+    if (builder.rotateLogIsSet()) {
+      initShim.setRotateLog(builder.rotateLog);
+    }
+    if (builder.countIsSet()) {
+      initShim.setCount(builder.count);
+    }
+    if (builder.maxLogSizeBytesIsSet()) {
+      initShim.setMaxLogSizeBytes(builder.maxLogSizeBytes);
+    }
+    if (builder.logFilePrefix != null) {
+      initShim.setLogFilePrefix(builder.logFilePrefix);
+    }
+    this.rotateLog = initShim.getRotateLog();
+    this.count = initShim.getCount();
+    this.maxLogSizeBytes = initShim.getMaxLogSizeBytes();
+    this.logFilePrefix = initShim.getLogFilePrefix();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean rotateLog;
+    private int rotateLogBuildStage;
+
+    boolean getRotateLog() {
+      if (rotateLogBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rotateLogBuildStage == STAGE_UNINITIALIZED) {
+        rotateLogBuildStage = STAGE_INITIALIZING;
+        this.rotateLog = LogConfigSetup.super.getRotateLog();
+        rotateLogBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rotateLog;
+    }
+
+    void setRotateLog(boolean rotateLog) {
+      this.rotateLog = rotateLog;
+      rotateLogBuildStage = STAGE_INITIALIZED;
+    }
+    private int count;
+    private int countBuildStage;
+
+    int getCount() {
+      if (countBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (countBuildStage == STAGE_UNINITIALIZED) {
+        countBuildStage = STAGE_INITIALIZING;
+        this.count = LogConfigSetup.super.getCount();
+        countBuildStage = STAGE_INITIALIZED;
+      }
+      return this.count;
+    }
+
+    void setCount(int count) {
+      this.count = count;
+      countBuildStage = STAGE_INITIALIZED;
+    }
+    private long maxLogSizeBytes;
+    private int maxLogSizeBytesBuildStage;
+
+    long getMaxLogSizeBytes() {
+      if (maxLogSizeBytesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxLogSizeBytesBuildStage == STAGE_UNINITIALIZED) {
+        maxLogSizeBytesBuildStage = STAGE_INITIALIZING;
+        this.maxLogSizeBytes = LogConfigSetup.super.getMaxLogSizeBytes();
+        maxLogSizeBytesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxLogSizeBytes;
+    }
+
+    void setMaxLogSizeBytes(long maxLogSizeBytes) {
+      this.maxLogSizeBytes = maxLogSizeBytes;
+      maxLogSizeBytesBuildStage = STAGE_INITIALIZED;
+    }
+    private String logFilePrefix;
+    private int logFilePrefixBuildStage;
+
+    String getLogFilePrefix() {
+      if (logFilePrefixBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (logFilePrefixBuildStage == STAGE_UNINITIALIZED) {
+        logFilePrefixBuildStage = STAGE_INITIALIZING;
+        this.logFilePrefix = Objects.requireNonNull(LogConfigSetup.super.getLogFilePrefix(), "logFilePrefix");
+        logFilePrefixBuildStage = STAGE_INITIALIZED;
+      }
+      return this.logFilePrefix;
+    }
+
+    void setLogFilePrefix(String logFilePrefix) {
+      this.logFilePrefix = logFilePrefix;
+      logFilePrefixBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (rotateLogBuildStage == STAGE_INITIALIZING) attributes.add("rotateLog");
+      if (countBuildStage == STAGE_INITIALIZING) attributes.add("count");
+      if (maxLogSizeBytesBuildStage == STAGE_INITIALIZING) attributes.add("maxLogSizeBytes");
+      if (logFilePrefixBuildStage == STAGE_INITIALIZING) attributes.add("logFilePrefix");
+      return "Cannot build LogConfigSetup, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code logDir} attribute
+   */
+  @Override
+  public Path getLogDir() {
+    return logDir;
+  }
+
+  /**
+   * @return The value of the {@code rotateLog} attribute
+   */
+  @Override
+  public boolean getRotateLog() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRotateLog()
+        : this.rotateLog;
+  }
+
+  /**
+   * @return The value of the {@code count} attribute
+   */
+  @Override
+  public int getCount() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCount()
+        : this.count;
+  }
+
+  /**
+   * @return The value of the {@code maxLogSizeBytes} attribute
+   */
+  @Override
+  public long getMaxLogSizeBytes() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxLogSizeBytes()
+        : this.maxLogSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code logFilePrefix} attribute
+   */
+  @Override
+  public String getLogFilePrefix() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLogFilePrefix()
+        : this.logFilePrefix;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LogConfigSetup} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LogConfigSetup
+        && equalTo((LogConfigSetup) another);
+  }
+
+  private boolean equalTo(LogConfigSetup another) {
+    return logDir.equals(another.logDir)
+        && rotateLog == another.rotateLog
+        && count == another.count
+        && maxLogSizeBytes == another.maxLogSizeBytes
+        && logFilePrefix.equals(another.logFilePrefix);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code logDir}, {@code rotateLog}, {@code count}, {@code maxLogSizeBytes}, {@code logFilePrefix}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + logDir.hashCode();
+    h += (h << 5) + Booleans.hashCode(rotateLog);
+    h += (h << 5) + count;
+    h += (h << 5) + Longs.hashCode(maxLogSizeBytes);
+    h += (h << 5) + logFilePrefix.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LogConfigSetup} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LogConfigSetup")
+        .omitNullValues()
+        .add("logDir", logDir)
+        .add("rotateLog", rotateLog)
+        .add("count", count)
+        .add("maxLogSizeBytes", maxLogSizeBytes)
+        .add("logFilePrefix", logFilePrefix)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LogConfigSetup} instance.
+   * @param logDir The value for the {@code logDir} attribute
+   * @return An immutable LogConfigSetup instance
+   */
+  public static LogConfigSetup of(Path logDir) {
+    return new LogConfigSetup(logDir);
+  }
+
+  /**
+   * Creates a builder for {@link LogConfigSetup LogConfigSetup}.
+   * @return A new LogConfigSetup builder
+   */
+  public static LogConfigSetup.Builder builder() {
+    return new LogConfigSetup.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link LogConfigSetup LogConfigSetup}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LOG_DIR = 0x1L;
+    private static final long OPT_BIT_ROTATE_LOG = 0x1L;
+    private static final long OPT_BIT_COUNT = 0x2L;
+    private static final long OPT_BIT_MAX_LOG_SIZE_BYTES = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable Path logDir;
+    private boolean rotateLog;
+    private int count;
+    private long maxLogSizeBytes;
+    private @Nullable String logFilePrefix;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code LogConfigSetup} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LogConfigSetup instance) {
+      return from((AbstractLogConfigSetup) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLogConfigSetup} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractLogConfigSetup instance) {
+      Objects.requireNonNull(instance, "instance");
+      setLogDir(instance.getLogDir());
+      setRotateLog(instance.getRotateLog());
+      setCount(instance.getCount());
+      setMaxLogSizeBytes(instance.getMaxLogSizeBytes());
+      setLogFilePrefix(instance.getLogFilePrefix());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractLogConfigSetup#getLogDir() logDir} attribute.
+     * @param logDir The value for logDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogDir(Path logDir) {
+      this.logDir = Objects.requireNonNull(logDir, "logDir");
+      initBits &= ~INIT_BIT_LOG_DIR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLogConfigSetup#getRotateLog() rotateLog} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractLogConfigSetup#getRotateLog() rotateLog}.</em>
+     * @param rotateLog The value for rotateLog 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRotateLog(boolean rotateLog) {
+      this.rotateLog = rotateLog;
+      optBits |= OPT_BIT_ROTATE_LOG;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLogConfigSetup#getCount() count} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractLogConfigSetup#getCount() count}.</em>
+     * @param count The value for count 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCount(int count) {
+      this.count = count;
+      optBits |= OPT_BIT_COUNT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLogConfigSetup#getMaxLogSizeBytes() maxLogSizeBytes} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractLogConfigSetup#getMaxLogSizeBytes() maxLogSizeBytes}.</em>
+     * @param maxLogSizeBytes The value for maxLogSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxLogSizeBytes(long maxLogSizeBytes) {
+      this.maxLogSizeBytes = maxLogSizeBytes;
+      optBits |= OPT_BIT_MAX_LOG_SIZE_BYTES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractLogConfigSetup#getLogFilePrefix() logFilePrefix} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractLogConfigSetup#getLogFilePrefix() logFilePrefix}.</em>
+     * @param logFilePrefix The value for logFilePrefix 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLogFilePrefix(String logFilePrefix) {
+      this.logFilePrefix = Objects.requireNonNull(logFilePrefix, "logFilePrefix");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link LogConfigSetup LogConfigSetup}.
+     * @return An immutable instance of LogConfigSetup
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public LogConfigSetup build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new LogConfigSetup(this);
+    }
+
+    private boolean rotateLogIsSet() {
+      return (optBits & OPT_BIT_ROTATE_LOG) != 0;
+    }
+
+    private boolean countIsSet() {
+      return (optBits & OPT_BIT_COUNT) != 0;
+    }
+
+    private boolean maxLogSizeBytesIsSet() {
+      return (optBits & OPT_BIT_MAX_LOG_SIZE_BYTES) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LOG_DIR) != 0) attributes.add("logDir");
+      return "Cannot build LogConfigSetup, some of required attributes are not set " + attributes;
+    }
+  }
+}
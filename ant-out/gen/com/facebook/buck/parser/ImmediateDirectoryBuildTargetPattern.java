@@ -0,0 +1,83 @@
+package com.facebook.buck.parser;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *A pattern matches build targets that are all in the same directory. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractImmediateDirectoryBuildTargetPattern"})
+@Immutable
+@CheckReturnValue
+public final class ImmediateDirectoryBuildTargetPattern
+    extends AbstractImmediateDirectoryBuildTargetPattern {
+  private final Path cellPath;
+  private final Path pathWithinCell;
+
+  private ImmediateDirectoryBuildTargetPattern(Path cellPath, Path pathWithinCell) {
+    this.cellPath = Objects.requireNonNull(cellPath, "cellPath");
+    this.pathWithinCell = Objects.requireNonNull(pathWithinCell, "pathWithinCell");
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * The base path of all valid build targets. It is expected to match the value returned from a
+   * {@link BuildTarget#getBasePath()} call.
+   */
+  @Override
+  public Path getPathWithinCell() {
+    return pathWithinCell;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmediateDirectoryBuildTargetPattern} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmediateDirectoryBuildTargetPattern
+        && equalTo((ImmediateDirectoryBuildTargetPattern) another);
+  }
+
+  private boolean equalTo(ImmediateDirectoryBuildTargetPattern another) {
+    return cellPath.equals(another.cellPath)
+        && pathWithinCell.equals(another.pathWithinCell);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellPath}, {@code pathWithinCell}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + cellPath.hashCode();
+    h += (h << 5) + pathWithinCell.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code ImmediateDirectoryBuildTargetPattern} instance.
+   * @param cellPath The value for the {@code cellPath} attribute
+   * @param pathWithinCell The value for the {@code pathWithinCell} attribute
+   * @return An immutable ImmediateDirectoryBuildTargetPattern instance
+   */
+  public static ImmediateDirectoryBuildTargetPattern of(Path cellPath, Path pathWithinCell) {
+    return new ImmediateDirectoryBuildTargetPattern(cellPath, pathWithinCell);
+  }
+}
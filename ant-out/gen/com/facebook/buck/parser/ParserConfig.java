@@ -0,0 +1,883 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.facebook.buck.io.watchman.WatchmanWatcher;
+import com.facebook.buck.parser.api.Syntax;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractParserConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ParserConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractParserConfig"})
+@Immutable
+@CheckReturnValue
+public final class ParserConfig extends AbstractParserConfig {
+  private final BuckConfig delegate;
+
+  private ParserConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParserConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParserConfig
+        && equalTo((ParserConfig) another);
+  }
+
+  private boolean equalTo(ParserConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT = 0x1L;
+
+  private boolean allowEmptyGlobs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getAllowEmptyGlobs() allowEmptyGlobs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getAllowEmptyGlobs() {
+    if ((lazyInitBitmap & ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT) == 0) {
+          this.allowEmptyGlobs = super.getAllowEmptyGlobs();
+          lazyInitBitmap |= ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allowEmptyGlobs;
+  }
+
+  private static final long BUILD_FILE_NAME_LAZY_INIT_BIT = 0x2L;
+
+  private String buildFileName;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuildFileName() buildFileName} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public String getBuildFileName() {
+    if ((lazyInitBitmap & BUILD_FILE_NAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_NAME_LAZY_INIT_BIT) == 0) {
+          this.buildFileName = Objects.requireNonNull(super.getBuildFileName(), "buildFileName");
+          lazyInitBitmap |= BUILD_FILE_NAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileName;
+  }
+
+  private static final long DEFAULT_INCLUDES_LAZY_INIT_BIT = 0x4L;
+
+  private Iterable<String> defaultIncludes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getDefaultIncludes() defaultIncludes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Iterable<String> getDefaultIncludes() {
+    if ((lazyInitBitmap & DEFAULT_INCLUDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_INCLUDES_LAZY_INIT_BIT) == 0) {
+          this.defaultIncludes = Objects.requireNonNull(super.getDefaultIncludes(), "defaultIncludes");
+          lazyInitBitmap |= DEFAULT_INCLUDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultIncludes;
+  }
+
+  private static final long ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT = 0x8L;
+
+  private boolean enforceBuckPackageBoundary;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getEnforceBuckPackageBoundary() enforceBuckPackageBoundary} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getEnforceBuckPackageBoundary() {
+    if ((lazyInitBitmap & ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT) == 0) {
+          this.enforceBuckPackageBoundary = super.getEnforceBuckPackageBoundary();
+          lazyInitBitmap |= ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enforceBuckPackageBoundary;
+  }
+
+  private static final long BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT = 0x10L;
+
+  private ImmutableList<Path> buckPackageBoundaryExceptions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuckPackageBoundaryExceptions() buckPackageBoundaryExceptions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableList<Path> getBuckPackageBoundaryExceptions() {
+    if ((lazyInitBitmap & BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT) == 0) {
+          this.buckPackageBoundaryExceptions = Objects.requireNonNull(super.getBuckPackageBoundaryExceptions(), "buckPackageBoundaryExceptions");
+          lazyInitBitmap |= BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckPackageBoundaryExceptions;
+  }
+
+  private static final long READ_ONLY_PATHS_LAZY_INIT_BIT = 0x20L;
+
+  private Optional<ImmutableList<Path>> readOnlyPaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getReadOnlyPaths() readOnlyPaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<ImmutableList<Path>> getReadOnlyPaths() {
+    if ((lazyInitBitmap & READ_ONLY_PATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & READ_ONLY_PATHS_LAZY_INIT_BIT) == 0) {
+          this.readOnlyPaths = Objects.requireNonNull(super.getReadOnlyPaths(), "readOnlyPaths");
+          lazyInitBitmap |= READ_ONLY_PATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return readOnlyPaths;
+  }
+
+  private static final long ALLOW_SYMLINKS_LAZY_INIT_BIT = 0x40L;
+
+  private AbstractParserConfig.AllowSymlinks allowSymlinks;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getAllowSymlinks() allowSymlinks} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.AllowSymlinks getAllowSymlinks() {
+    if ((lazyInitBitmap & ALLOW_SYMLINKS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALLOW_SYMLINKS_LAZY_INIT_BIT) == 0) {
+          this.allowSymlinks = Objects.requireNonNull(super.getAllowSymlinks(), "allowSymlinks");
+          lazyInitBitmap |= ALLOW_SYMLINKS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allowSymlinks;
+  }
+
+  private static final long BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT = 0x80L;
+
+  private AbstractParserConfig.BuildFileSearchMethod buildFileSearchMethod;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuildFileSearchMethod() buildFileSearchMethod} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.BuildFileSearchMethod getBuildFileSearchMethod() {
+    if ((lazyInitBitmap & BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT) == 0) {
+          this.buildFileSearchMethod = Objects.requireNonNull(super.getBuildFileSearchMethod(), "buildFileSearchMethod");
+          lazyInitBitmap |= BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileSearchMethod;
+  }
+
+  private static final long GLOB_HANDLER_LAZY_INIT_BIT = 0x100L;
+
+  private AbstractParserConfig.GlobHandler globHandler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getGlobHandler() globHandler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.GlobHandler getGlobHandler() {
+    if ((lazyInitBitmap & GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+          this.globHandler = Objects.requireNonNull(super.getGlobHandler(), "globHandler");
+          lazyInitBitmap |= GLOB_HANDLER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return globHandler;
+  }
+
+  private static final long WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT = 0x200L;
+
+  private AbstractParserConfig.WatchmanGlobSanityCheck watchmanGlobSanityCheck;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanGlobSanityCheck() watchmanGlobSanityCheck} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.WatchmanGlobSanityCheck getWatchmanGlobSanityCheck() {
+    if ((lazyInitBitmap & WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT) == 0) {
+          this.watchmanGlobSanityCheck = Objects.requireNonNull(super.getWatchmanGlobSanityCheck(), "watchmanGlobSanityCheck");
+          lazyInitBitmap |= WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanGlobSanityCheck;
+  }
+
+  private static final long WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT = 0x400L;
+
+  private Optional<Long> watchmanQueryTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<Long> getWatchmanQueryTimeoutMs() {
+    if ((lazyInitBitmap & WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.watchmanQueryTimeoutMs = Objects.requireNonNull(super.getWatchmanQueryTimeoutMs(), "watchmanQueryTimeoutMs");
+          lazyInitBitmap |= WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanQueryTimeoutMs;
+  }
+
+  private static final long WATCH_CELLS_LAZY_INIT_BIT = 0x800L;
+
+  private boolean watchCells;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchCells() watchCells} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getWatchCells() {
+    if ((lazyInitBitmap & WATCH_CELLS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCH_CELLS_LAZY_INIT_BIT) == 0) {
+          this.watchCells = super.getWatchCells();
+          lazyInitBitmap |= WATCH_CELLS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchCells;
+  }
+
+  private static final long WATCHMAN_CURSOR_LAZY_INIT_BIT = 0x1000L;
+
+  private WatchmanWatcher.CursorType watchmanCursor;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanCursor() watchmanCursor} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public WatchmanWatcher.CursorType getWatchmanCursor() {
+    if ((lazyInitBitmap & WATCHMAN_CURSOR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_CURSOR_LAZY_INIT_BIT) == 0) {
+          this.watchmanCursor = Objects.requireNonNull(super.getWatchmanCursor(), "watchmanCursor");
+          lazyInitBitmap |= WATCHMAN_CURSOR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanCursor;
+  }
+
+  private static final long ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT = 0x2000L;
+
+  private boolean enableParallelParsing;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getEnableParallelParsing() enableParallelParsing} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getEnableParallelParsing() {
+    if ((lazyInitBitmap & ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT) == 0) {
+          this.enableParallelParsing = super.getEnableParallelParsing();
+          lazyInitBitmap |= ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableParallelParsing;
+  }
+
+  private static final long PREDICT_BUILD_FILE_DEPENDENCIES_LAZY_INIT_BIT = 0x4000L;
+
+  private boolean predictBuildFileDependencies;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getPredictBuildFileDependencies() predictBuildFileDependencies} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getPredictBuildFileDependencies() {
+    if ((lazyInitBitmap & PREDICT_BUILD_FILE_DEPENDENCIES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PREDICT_BUILD_FILE_DEPENDENCIES_LAZY_INIT_BIT) == 0) {
+          this.predictBuildFileDependencies = super.getPredictBuildFileDependencies();
+          lazyInitBitmap |= PREDICT_BUILD_FILE_DEPENDENCIES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return predictBuildFileDependencies;
+  }
+
+  private static final long CACHE_QUERY_RESULTS_LAZY_INIT_BIT = 0x8000L;
+
+  private boolean cacheQueryResults;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getCacheQueryResults() cacheQueryResults} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getCacheQueryResults() {
+    if ((lazyInitBitmap & CACHE_QUERY_RESULTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CACHE_QUERY_RESULTS_LAZY_INIT_BIT) == 0) {
+          this.cacheQueryResults = super.getCacheQueryResults();
+          lazyInitBitmap |= CACHE_QUERY_RESULTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return cacheQueryResults;
+  }
+
+  private static final long NUM_PARSING_THREADS_LAZY_INIT_BIT = 0x10000L;
+
+  private int numParsingThreads;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getNumParsingThreads() numParsingThreads} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int getNumParsingThreads() {
+    if ((lazyInitBitmap & NUM_PARSING_THREADS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_PARSING_THREADS_LAZY_INIT_BIT) == 0) {
+          this.numParsingThreads = super.getNumParsingThreads();
+          lazyInitBitmap |= NUM_PARSING_THREADS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numParsingThreads;
+  }
+
+  private static final long DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT = 0x20000L;
+
+  private AbstractParserConfig.ApplyDefaultFlavorsMode defaultFlavorsMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getDefaultFlavorsMode() defaultFlavorsMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.ApplyDefaultFlavorsMode getDefaultFlavorsMode() {
+    if ((lazyInitBitmap & DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT) == 0) {
+          this.defaultFlavorsMode = Objects.requireNonNull(super.getDefaultFlavorsMode(), "defaultFlavorsMode");
+          lazyInitBitmap |= DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultFlavorsMode;
+  }
+
+  private static final long BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT = 0x40000L;
+
+  private ImmutableList<String> buildFileImportWhitelist;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuildFileImportWhitelist() buildFileImportWhitelist} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildFileImportWhitelist() {
+    if ((lazyInitBitmap & BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT) == 0) {
+          this.buildFileImportWhitelist = Objects.requireNonNull(super.getBuildFileImportWhitelist(), "buildFileImportWhitelist");
+          lazyInitBitmap |= BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileImportWhitelist;
+  }
+
+  private static final long PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT = 0x80000L;
+
+  private Optional<String> parserPythonInterpreterPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getParserPythonInterpreterPath() parserPythonInterpreterPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<String> getParserPythonInterpreterPath() {
+    if ((lazyInitBitmap & PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT) == 0) {
+          this.parserPythonInterpreterPath = Objects.requireNonNull(super.getParserPythonInterpreterPath(), "parserPythonInterpreterPath");
+          lazyInitBitmap |= PARSER_PYTHON_INTERPRETER_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserPythonInterpreterPath;
+  }
+
+  private static final long PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT = 0x100000L;
+
+  private Optional<String> pythonModuleSearchPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getPythonModuleSearchPath() pythonModuleSearchPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<String> getPythonModuleSearchPath() {
+    if ((lazyInitBitmap & PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT) == 0) {
+          this.pythonModuleSearchPath = Objects.requireNonNull(super.getPythonModuleSearchPath(), "pythonModuleSearchPath");
+          lazyInitBitmap |= PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pythonModuleSearchPath;
+  }
+
+  private static final long POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT = 0x200000L;
+
+  private boolean polyglotParsingEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#isPolyglotParsingEnabled() polyglotParsingEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean isPolyglotParsingEnabled() {
+    if ((lazyInitBitmap & POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.polyglotParsingEnabled = super.isPolyglotParsingEnabled();
+          lazyInitBitmap |= POLYGLOT_PARSING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return polyglotParsingEnabled;
+  }
+
+  private static final long DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT = 0x400000L;
+
+  private Syntax defaultBuildFileSyntax;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getDefaultBuildFileSyntax() defaultBuildFileSyntax} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Syntax getDefaultBuildFileSyntax() {
+    if ((lazyInitBitmap & DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT) == 0) {
+          this.defaultBuildFileSyntax = Objects.requireNonNull(super.getDefaultBuildFileSyntax(), "defaultBuildFileSyntax");
+          lazyInitBitmap |= DEFAULT_BUILD_FILE_SYNTAX_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultBuildFileSyntax;
+  }
+
+  private static final long PARSER_CACHE_MUTATION_WARNING_ENABLED_LAZY_INIT_BIT = 0x800000L;
+
+  private boolean parserCacheMutationWarningEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#isParserCacheMutationWarningEnabled() parserCacheMutationWarningEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean isParserCacheMutationWarningEnabled() {
+    if ((lazyInitBitmap & PARSER_CACHE_MUTATION_WARNING_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_CACHE_MUTATION_WARNING_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.parserCacheMutationWarningEnabled = super.isParserCacheMutationWarningEnabled();
+          lazyInitBitmap |= PARSER_CACHE_MUTATION_WARNING_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserCacheMutationWarningEnabled;
+  }
+
+  private static final long DISABLE_IMPLICIT_NATIVE_RULES_LAZY_INIT_BIT = 0x1000000L;
+
+  private boolean disableImplicitNativeRules;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getDisableImplicitNativeRules() disableImplicitNativeRules} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getDisableImplicitNativeRules() {
+    if ((lazyInitBitmap & DISABLE_IMPLICIT_NATIVE_RULES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DISABLE_IMPLICIT_NATIVE_RULES_LAZY_INIT_BIT) == 0) {
+          this.disableImplicitNativeRules = super.getDisableImplicitNativeRules();
+          lazyInitBitmap |= DISABLE_IMPLICIT_NATIVE_RULES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return disableImplicitNativeRules;
+  }
+
+  private static final long WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT = 0x2000000L;
+
+  private boolean warnAboutDeprecatedSyntax;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#isWarnAboutDeprecatedSyntax() warnAboutDeprecatedSyntax} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean isWarnAboutDeprecatedSyntax() {
+    if ((lazyInitBitmap & WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT) == 0) {
+          this.warnAboutDeprecatedSyntax = super.isWarnAboutDeprecatedSyntax();
+          lazyInitBitmap |= WARN_ABOUT_DEPRECATED_SYNTAX_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return warnAboutDeprecatedSyntax;
+  }
+
+  private static final long PYTHON_DSL_OUTPUT_FORMAT_LAZY_INIT_BIT = 0x4000000L;
+
+  private AbstractParserConfig.PythonDslOutputFormat pythonDslOutputFormat;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getPythonDslOutputFormat() pythonDslOutputFormat} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.PythonDslOutputFormat getPythonDslOutputFormat() {
+    if ((lazyInitBitmap & PYTHON_DSL_OUTPUT_FORMAT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PYTHON_DSL_OUTPUT_FORMAT_LAZY_INIT_BIT) == 0) {
+          this.pythonDslOutputFormat = Objects.requireNonNull(super.getPythonDslOutputFormat(), "pythonDslOutputFormat");
+          lazyInitBitmap |= PYTHON_DSL_OUTPUT_FORMAT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pythonDslOutputFormat;
+  }
+
+  private static final long SHOULD_IGNORE_ENVIRONMENT_VARIABLES_CHANGES_LAZY_INIT_BIT = 0x8000000L;
+
+  private boolean shouldIgnoreEnvironmentVariablesChanges;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#shouldIgnoreEnvironmentVariablesChanges() shouldIgnoreEnvironmentVariablesChanges} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean shouldIgnoreEnvironmentVariablesChanges() {
+    if ((lazyInitBitmap & SHOULD_IGNORE_ENVIRONMENT_VARIABLES_CHANGES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SHOULD_IGNORE_ENVIRONMENT_VARIABLES_CHANGES_LAZY_INIT_BIT) == 0) {
+          this.shouldIgnoreEnvironmentVariablesChanges = super.shouldIgnoreEnvironmentVariablesChanges();
+          lazyInitBitmap |= SHOULD_IGNORE_ENVIRONMENT_VARIABLES_CHANGES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return shouldIgnoreEnvironmentVariablesChanges;
+  }
+
+  private static final long SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT = 0x10000000L;
+
+  private AbstractParserConfig.SkylarkGlobHandler skylarkGlobHandler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getSkylarkGlobHandler() skylarkGlobHandler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.SkylarkGlobHandler getSkylarkGlobHandler() {
+    if ((lazyInitBitmap & SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+          this.skylarkGlobHandler = Objects.requireNonNull(super.getSkylarkGlobHandler(), "skylarkGlobHandler");
+          lazyInitBitmap |= SKYLARK_GLOB_HANDLER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return skylarkGlobHandler;
+  }
+
+  private static final long PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT = 0x20000000L;
+
+  private int parserTargetThreshold;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getParserTargetThreshold() parserTargetThreshold} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int getParserTargetThreshold() {
+    if ((lazyInitBitmap & PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT) == 0) {
+          this.parserTargetThreshold = super.getParserTargetThreshold();
+          lazyInitBitmap |= PARSER_TARGET_THRESHOLD_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserTargetThreshold;
+  }
+
+  private static final long ENABLE_CONFIGURABLE_ATTRIBUTES_LAZY_INIT_BIT = 0x40000000L;
+
+  private boolean enableConfigurableAttributes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getEnableConfigurableAttributes() enableConfigurableAttributes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getEnableConfigurableAttributes() {
+    if ((lazyInitBitmap & ENABLE_CONFIGURABLE_ATTRIBUTES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_CONFIGURABLE_ATTRIBUTES_LAZY_INIT_BIT) == 0) {
+          this.enableConfigurableAttributes = super.getEnableConfigurableAttributes();
+          lazyInitBitmap |= ENABLE_CONFIGURABLE_ATTRIBUTES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableConfigurableAttributes;
+  }
+
+  private static final long PARSER_STATE_SNAPSHOT_ENABLED_LAZY_INIT_BIT = 0x80000000L;
+
+  private boolean parserStateSnapshotEnabled;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#isParserStateSnapshotEnabled() parserStateSnapshotEnabled} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean isParserStateSnapshotEnabled() {
+    if ((lazyInitBitmap & PARSER_STATE_SNAPSHOT_ENABLED_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_STATE_SNAPSHOT_ENABLED_LAZY_INIT_BIT) == 0) {
+          this.parserStateSnapshotEnabled = super.isParserStateSnapshotEnabled();
+          lazyInitBitmap |= PARSER_STATE_SNAPSHOT_ENABLED_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserStateSnapshotEnabled;
+  }
+
+  private static final long PARSER_STATE_SNAPSHOT_INTERVAL_SECONDS_LAZY_INIT_BIT = 0x100000000L;
+
+  private long parserStateSnapshotIntervalSeconds;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getParserStateSnapshotIntervalSeconds() parserStateSnapshotIntervalSeconds} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public long getParserStateSnapshotIntervalSeconds() {
+    if ((lazyInitBitmap & PARSER_STATE_SNAPSHOT_INTERVAL_SECONDS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_STATE_SNAPSHOT_INTERVAL_SECONDS_LAZY_INIT_BIT) == 0) {
+          this.parserStateSnapshotIntervalSeconds = super.getParserStateSnapshotIntervalSeconds();
+          lazyInitBitmap |= PARSER_STATE_SNAPSHOT_INTERVAL_SECONDS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserStateSnapshotIntervalSeconds;
+  }
+
+  /**
+   * Construct a new immutable {@code ParserConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ParserConfig instance
+   */
+  public static ParserConfig of(BuckConfig delegate) {
+    return new ParserConfig(delegate);
+  }
+}
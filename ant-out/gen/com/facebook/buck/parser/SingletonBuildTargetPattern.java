@@ -0,0 +1,69 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *A pattern that matches only one build target. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSingletonBuildTargetPattern"})
+@Immutable
+@CheckReturnValue
+public final class SingletonBuildTargetPattern
+    extends AbstractSingletonBuildTargetPattern {
+  private final UnflavoredBuildTarget target;
+
+  private SingletonBuildTargetPattern(UnflavoredBuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public UnflavoredBuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SingletonBuildTargetPattern} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SingletonBuildTargetPattern
+        && equalTo((SingletonBuildTargetPattern) another);
+  }
+
+  private boolean equalTo(SingletonBuildTargetPattern another) {
+    return target.equals(another.target);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + target.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code SingletonBuildTargetPattern} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable SingletonBuildTargetPattern instance
+   */
+  public static SingletonBuildTargetPattern of(UnflavoredBuildTarget target) {
+    return new SingletonBuildTargetPattern(target);
+  }
+}
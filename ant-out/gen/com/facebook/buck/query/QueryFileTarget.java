@@ -0,0 +1,161 @@
+package com.facebook.buck.query;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractQueryFileTarget}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code QueryFileTarget.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code QueryFileTarget.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractQueryFileTarget"})
+@Immutable
+@CheckReturnValue
+public final class QueryFileTarget extends AbstractQueryFileTarget {
+  private final SourcePath path;
+
+  private QueryFileTarget(SourcePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+  }
+
+  private QueryFileTarget(QueryFileTarget.Builder builder) {
+    this.path = builder.path;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public SourcePath getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code QueryFileTarget} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof QueryFileTarget
+        && equalTo((QueryFileTarget) another);
+  }
+
+  private boolean equalTo(QueryFileTarget another) {
+    return path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code QueryFileTarget} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable QueryFileTarget instance
+   */
+  public static QueryFileTarget of(SourcePath path) {
+    return new QueryFileTarget(path);
+  }
+
+  /**
+   * Creates a builder for {@link QueryFileTarget QueryFileTarget}.
+   * @return A new QueryFileTarget builder
+   */
+  public static QueryFileTarget.Builder builder() {
+    return new QueryFileTarget.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link QueryFileTarget QueryFileTarget}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable SourcePath path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code QueryFileTarget} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(QueryFileTarget instance) {
+      return from((AbstractQueryFileTarget) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractQueryFileTarget} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractQueryFileTarget instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractQueryFileTarget#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPath(SourcePath path) {
+      this.path = Objects.requireNonNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link QueryFileTarget QueryFileTarget}.
+     * @return An immutable instance of QueryFileTarget
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public QueryFileTarget build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new QueryFileTarget(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      return "Cannot build QueryFileTarget, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.facebook.buck.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A set(word, ..., word) expression, which computes the union of zero or more target patterns
+ * separated by whitespace. This is intended to support the use-case in which a set of labels
+ * written to a file by a previous query expression can be modified externally, then used as input
+ * to another query, like so:
+ * <pre>
+ * % buck query 'allpaths(foo, bar)' | grep ... | sed ... | awk ... >file
+ * % buck query "kind(qux_library, set($(<file)))"
+ * </pre>
+ * <p>The grammar currently restricts the operands of set() to being zero or more words (target
+ * patterns), with no intervening punctuation. In principle this could be extended to arbitrary
+ * expressions without grammatical ambiguity, but this seems excessively general for now.
+ * <pre>expr ::= SET '(' WORD * ')'</pre>
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSetExpression"})
+@Immutable
+@CheckReturnValue
+public final class SetExpression extends AbstractSetExpression {
+  private final ImmutableList<TargetLiteral> words;
+  private final int hashCode;
+
+  private SetExpression(Iterable<? extends TargetLiteral> words) {
+    this.words = ImmutableList.copyOf(words);
+    this.hashCode = computeHashCode();
+  }
+
+  private SetExpression(
+      SetExpression original,
+      ImmutableList<TargetLiteral> words) {
+    this.words = words;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code words} attribute
+   */
+  @Override
+  public ImmutableList<TargetLiteral> getWords() {
+    return words;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSetExpression#getWords() words}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SetExpression withWords(TargetLiteral... elements) {
+    ImmutableList<TargetLiteral> newValue = ImmutableList.copyOf(elements);
+    return new SetExpression(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractSetExpression#getWords() words}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of words elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SetExpression withWords(Iterable<? extends TargetLiteral> elements) {
+    if (this.words == elements) return this;
+    ImmutableList<TargetLiteral> newValue = ImmutableList.copyOf(elements);
+    return new SetExpression(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SetExpression} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SetExpression
+        && equalTo((SetExpression) another);
+  }
+
+  private boolean equalTo(SetExpression another) {
+    if (hashCode != another.hashCode) return false;
+    return words.equals(another.words);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code words}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + words.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code SetExpression} instance.
+   * @param words The value for the {@code words} attribute
+   * @return An immutable SetExpression instance
+   */
+  public static SetExpression of(ImmutableList<TargetLiteral> words) {
+    return of((Iterable<? extends TargetLiteral>) words);
+  }
+
+  /**
+   * Construct a new immutable {@code SetExpression} instance.
+   * @param words The value for the {@code words} attribute
+   * @return An immutable SetExpression instance
+   */
+  public static SetExpression of(Iterable<? extends TargetLiteral> words) {
+    return new SetExpression(words);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSetExpression} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SetExpression instance
+   */
+  static SetExpression copyOf(AbstractSetExpression instance) {
+    if (instance instanceof SetExpression) {
+      return (SetExpression) instance;
+    }
+    return SetExpression.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SetExpression SetExpression}.
+   * @return A new SetExpression builder
+   */
+  public static SetExpression.Builder builder() {
+    return new SetExpression.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SetExpression SetExpression}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<TargetLiteral> words = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SetExpression} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SetExpression instance) {
+      return from((AbstractSetExpression) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSetExpression} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractSetExpression instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllWords(instance.getWords());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractSetExpression#getWords() words} list.
+     * @param element A words element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addWords(TargetLiteral element) {
+      this.words.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractSetExpression#getWords() words} list.
+     * @param elements An array of words elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addWords(TargetLiteral... elements) {
+      this.words.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractSetExpression#getWords() words} list.
+     * @param elements An iterable of words elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setWords(Iterable<? extends TargetLiteral> elements) {
+      this.words = ImmutableList.builder();
+      return addAllWords(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractSetExpression#getWords() words} list.
+     * @param elements An iterable of words elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllWords(Iterable<? extends TargetLiteral> elements) {
+      this.words.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SetExpression SetExpression}.
+     * @return An immutable instance of SetExpression
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SetExpression build() {
+      return new SetExpression(null, words.build());
+    }
+  }
+}
@@ -0,0 +1,232 @@
+package com.facebook.buck.query;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *A set(word, ..., word) expression or literal set of targets precomputed at parse-time. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTargetSetExpression"})
+@Immutable
+@CheckReturnValue
+public final class TargetSetExpression extends AbstractTargetSetExpression {
+  private final ImmutableSet<QueryTarget> targets;
+  private final int hashCode;
+
+  private TargetSetExpression(Iterable<? extends QueryTarget> targets) {
+    this.targets = ImmutableSet.copyOf(targets);
+    this.hashCode = computeHashCode();
+  }
+
+  private TargetSetExpression(
+      TargetSetExpression original,
+      ImmutableSet<QueryTarget> targets) {
+    this.targets = targets;
+    this.hashCode = computeHashCode();
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableSet<QueryTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetSetExpression#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetSetExpression withTargets(QueryTarget... elements) {
+    ImmutableSet<QueryTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetSetExpression(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractTargetSetExpression#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final TargetSetExpression withTargets(Iterable<? extends QueryTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableSet<QueryTarget> newValue = ImmutableSet.copyOf(elements);
+    return new TargetSetExpression(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetSetExpression} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetSetExpression
+        && equalTo((TargetSetExpression) another);
+  }
+
+  private boolean equalTo(TargetSetExpression another) {
+    if (hashCode != another.hashCode) return false;
+    return targets.equals(another.targets);
+  }
+
+  /**
+   * Returns a precomputed-on-construction hash code from attributes: {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int h = 5381;
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code TargetSetExpression} instance.
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable TargetSetExpression instance
+   */
+  public static TargetSetExpression of(ImmutableSet<QueryTarget> targets) {
+    return of((Iterable<? extends QueryTarget>) targets);
+  }
+
+  /**
+   * Construct a new immutable {@code TargetSetExpression} instance.
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable TargetSetExpression instance
+   */
+  public static TargetSetExpression of(Iterable<? extends QueryTarget> targets) {
+    return new TargetSetExpression(targets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetSetExpression} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TargetSetExpression instance
+   */
+  static TargetSetExpression copyOf(AbstractTargetSetExpression instance) {
+    if (instance instanceof TargetSetExpression) {
+      return (TargetSetExpression) instance;
+    }
+    return TargetSetExpression.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link TargetSetExpression TargetSetExpression}.
+   * @return A new TargetSetExpression builder
+   */
+  public static TargetSetExpression.Builder builder() {
+    return new TargetSetExpression.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TargetSetExpression TargetSetExpression}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<QueryTarget> targets = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TargetSetExpression} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TargetSetExpression instance) {
+      return from((AbstractTargetSetExpression) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTargetSetExpression} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractTargetSetExpression instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllTargets(instance.getTargets());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractTargetSetExpression#getTargets() targets} set.
+     * @param element A targets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTargets(QueryTarget element) {
+      this.targets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractTargetSetExpression#getTargets() targets} set.
+     * @param elements An array of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addTargets(QueryTarget... elements) {
+      this.targets.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractTargetSetExpression#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargets(Iterable<? extends QueryTarget> elements) {
+      this.targets = ImmutableSet.builder();
+      return addAllTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractTargetSetExpression#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllTargets(Iterable<? extends QueryTarget> elements) {
+      this.targets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TargetSetExpression TargetSetExpression}.
+     * @return An immutable instance of TargetSetExpression
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TargetSetExpression build() {
+      return new TargetSetExpression(null, targets.build());
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.facebook.buck.remoteexecution.grpc;
+
+import build.bazel.remote.execution.v2.Digest;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *A parsed read resource path. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "GrpcRemoteExecutionClients.AbstractParsedReadResource"})
+@Immutable
+@CheckReturnValue
+public final class ParsedReadResource
+    implements GrpcRemoteExecutionClients.AbstractParsedReadResource {
+  private final String instanceName;
+  private final Digest digest;
+
+  private ParsedReadResource(String instanceName, Digest digest) {
+    this.instanceName = Objects.requireNonNull(instanceName, "instanceName");
+    this.digest = Objects.requireNonNull(digest, "digest");
+  }
+
+  private ParsedReadResource(
+      ParsedReadResource original,
+      String instanceName,
+      Digest digest) {
+    this.instanceName = instanceName;
+    this.digest = digest;
+  }
+
+  /**
+   * @return The value of the {@code instanceName} attribute
+   */
+  @Override
+  public String getInstanceName() {
+    return instanceName;
+  }
+
+  /**
+   * @return The value of the {@code digest} attribute
+   */
+  @Override
+  public Digest getDigest() {
+    return digest;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GrpcRemoteExecutionClients.AbstractParsedReadResource#getInstanceName() instanceName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for instanceName
+   * @return A modified copy of the {@code this} object
+   */
+  public final ParsedReadResource withInstanceName(String value) {
+    if (this.instanceName.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "instanceName");
+    return new ParsedReadResource(this, newValue, this.digest);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link GrpcRemoteExecutionClients.AbstractParsedReadResource#getDigest() digest} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for digest
+   * @return A modified copy of the {@code this} object
+   */
+  public final ParsedReadResource withDigest(Digest value) {
+    if (this.digest == value) return this;
+    Digest newValue = Objects.requireNonNull(value, "digest");
+    return new ParsedReadResource(this, this.instanceName, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParsedReadResource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParsedReadResource
+        && equalTo((ParsedReadResource) another);
+  }
+
+  private boolean equalTo(ParsedReadResource another) {
+    return instanceName.equals(another.instanceName)
+        && digest.equals(another.digest);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code instanceName}, {@code digest}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + instanceName.hashCode();
+    h += (h << 5) + digest.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParsedReadResource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParsedReadResource")
+        .omitNullValues()
+        .add("instanceName", instanceName)
+        .add("digest", digest)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ParsedReadResource} instance.
+   * @param instanceName The value for the {@code instanceName} attribute
+   * @param digest The value for the {@code digest} attribute
+   * @return An immutable ParsedReadResource instance
+   */
+  public static ParsedReadResource of(String instanceName, Digest digest) {
+    return new ParsedReadResource(instanceName, digest);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link GrpcRemoteExecutionClients.AbstractParsedReadResource} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ParsedReadResource instance
+   */
+  static ParsedReadResource copyOf(GrpcRemoteExecutionClients.AbstractParsedReadResource instance) {
+    if (instance instanceof ParsedReadResource) {
+      return (ParsedReadResource) instance;
+    }
+    return ParsedReadResource.of(instance.getInstanceName(), instance.getDigest());
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.rules.args;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * CompositeArg holds a list of args and appends them all to the command-line. It does not add any
+ * separator between the args, so if that's necessary it should be added via StringArgs in the list
+ * of Args.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCompositeArg"})
+@Immutable
+@CheckReturnValue
+public final class CompositeArg extends AbstractCompositeArg {
+  private final ImmutableList<Arg> args;
+
+  private CompositeArg(Iterable<? extends Arg> args) {
+    this.args = ImmutableList.copyOf(args);
+  }
+
+  private CompositeArg(
+      CompositeArg original,
+      ImmutableList<Arg> args) {
+    this.args = args;
+  }
+
+  /**
+   * @return The value of the {@code args} attribute
+   */
+  @Override
+  public ImmutableList<Arg> getArgs() {
+    return args;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCompositeArg#getArgs() args}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CompositeArg withArgs(Arg... elements) {
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new CompositeArg(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCompositeArg#getArgs() args}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of args elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CompositeArg withArgs(Iterable<? extends Arg> elements) {
+    if (this.args == elements) return this;
+    ImmutableList<Arg> newValue = ImmutableList.copyOf(elements);
+    return new CompositeArg(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CompositeArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CompositeArg
+        && equalTo((CompositeArg) another);
+  }
+
+  private boolean equalTo(CompositeArg another) {
+    return args.equals(another.args);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code args}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + args.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CompositeArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CompositeArg")
+        .omitNullValues()
+        .add("args", args)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CompositeArg} instance.
+   * @param args The value for the {@code args} attribute
+   * @return An immutable CompositeArg instance
+   */
+  public static CompositeArg of(ImmutableList<Arg> args) {
+    return of((Iterable<? extends Arg>) args);
+  }
+
+  /**
+   * Construct a new immutable {@code CompositeArg} instance.
+   * @param args The value for the {@code args} attribute
+   * @return An immutable CompositeArg instance
+   */
+  public static CompositeArg of(Iterable<? extends Arg> args) {
+    return new CompositeArg(args);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCompositeArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CompositeArg instance
+   */
+  static CompositeArg copyOf(AbstractCompositeArg instance) {
+    if (instance instanceof CompositeArg) {
+      return (CompositeArg) instance;
+    }
+    return CompositeArg.of(instance.getArgs());
+  }
+}
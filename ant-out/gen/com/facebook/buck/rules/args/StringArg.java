@@ -0,0 +1,113 @@
+package com.facebook.buck.rules.args;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractStringArg}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code StringArg.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractStringArg"})
+@Immutable
+@CheckReturnValue
+public final class StringArg extends AbstractStringArg {
+  private final String arg;
+
+  private StringArg(String arg) {
+    this.arg = Objects.requireNonNull(arg, "arg");
+  }
+
+  private StringArg(StringArg original, String arg) {
+    this.arg = arg;
+  }
+
+  /**
+   * @return The value of the {@code arg} attribute
+   */
+  @Override
+  public String getArg() {
+    return arg;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractStringArg#getArg() arg} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for arg
+   * @return A modified copy of the {@code this} object
+   */
+  public final StringArg withArg(String value) {
+    if (this.arg.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "arg");
+    return new StringArg(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StringArg} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StringArg
+        && equalTo((StringArg) another);
+  }
+
+  private boolean equalTo(StringArg another) {
+    return arg.equals(another.arg);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code arg}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + arg.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StringArg} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StringArg")
+        .omitNullValues()
+        .add("arg", arg)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StringArg} instance.
+   * @param arg The value for the {@code arg} attribute
+   * @return An immutable StringArg instance
+   */
+  public static StringArg of(String arg) {
+    return new StringArg(arg);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractStringArg} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StringArg instance
+   */
+  static StringArg copyOf(AbstractStringArg instance) {
+    if (instance instanceof StringArg) {
+      return (StringArg) instance;
+    }
+    return StringArg.of(instance.getArg());
+  }
+}
@@ -0,0 +1,401 @@
+package com.facebook.buck.rules.coercer;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * List of fields to add to a generated {@code BuildConfig.java} file. Each field knows its Java
+ * type, variable name, and value.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildConfigFields"})
+@Immutable
+@CheckReturnValue
+public final class BuildConfigFields extends AbstractBuildConfigFields {
+  private final ImmutableMap<String, BuildConfigFields.Field> nameToField;
+
+  private BuildConfigFields() {
+    this.nameToField = ImmutableMap.of();
+  }
+
+  private BuildConfigFields(
+      Map<String, ? extends BuildConfigFields.Field> nameToField) {
+    this.nameToField = ImmutableMap.copyOf(nameToField);
+  }
+
+  private BuildConfigFields(BuildConfigFields.Builder builder) {
+    this.nameToField = builder.nameToField.build();
+  }
+
+  /**
+   * @return The value of the {@code nameToField} attribute
+   */
+  @Override
+  public ImmutableMap<String, BuildConfigFields.Field> getNameToField() {
+    return nameToField;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildConfigFields} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildConfigFields
+        && equalTo((BuildConfigFields) another);
+  }
+
+  private boolean equalTo(BuildConfigFields another) {
+    return nameToField.equals(another.nameToField);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code nameToField}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + nameToField.hashCode();
+    return h;
+  }
+
+  private static final BuildConfigFields INSTANCE = validate(new BuildConfigFields());
+
+  /**
+   * Returns the default immutable singleton value of {@code BuildConfigFields}
+   * @return An immutable instance of BuildConfigFields
+   */
+  public static BuildConfigFields of() {
+    return INSTANCE;
+  }
+
+  /**
+   * Construct a new immutable {@code BuildConfigFields} instance.
+   * @param nameToField The value for the {@code nameToField} attribute
+   * @return An immutable BuildConfigFields instance
+   */
+  public static BuildConfigFields of(Map<String, ? extends BuildConfigFields.Field> nameToField) {
+    return validate(new BuildConfigFields(nameToField));
+  }
+
+
+  private static BuildConfigFields validate(BuildConfigFields instance) {
+    return INSTANCE != null && INSTANCE.equalTo(instance) ? INSTANCE : instance;
+  }
+
+  /**
+   * Creates a builder for {@link BuildConfigFields BuildConfigFields}.
+   * @return A new BuildConfigFields builder
+   */
+  public static BuildConfigFields.Builder builder() {
+    return new BuildConfigFields.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildConfigFields BuildConfigFields}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<String, BuildConfigFields.Field> nameToField = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildConfigFields} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildConfigFields instance) {
+      return from((AbstractBuildConfigFields) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildConfigFields} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractBuildConfigFields instance) {
+      Objects.requireNonNull(instance, "instance");
+      putAllNameToField(instance.getNameToField());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractBuildConfigFields#getNameToField() nameToField} map.
+     * @param key The key in the nameToField map
+     * @param value The associated value in the nameToField map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNameToField(String key, BuildConfigFields.Field value) {
+      this.nameToField.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractBuildConfigFields#getNameToField() nameToField} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putNameToField(Map.Entry<String, ? extends BuildConfigFields.Field> entry) {
+      this.nameToField.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractBuildConfigFields#getNameToField() nameToField} map. Nulls are not permitted
+     * @param nameToField The entries that will be added to the nameToField map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNameToField(Map<String, ? extends BuildConfigFields.Field> nameToField) {
+      this.nameToField = ImmutableMap.builder();
+      return putAllNameToField(nameToField);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractBuildConfigFields#getNameToField() nameToField} map. Nulls are not permitted
+     * @param nameToField The entries that will be added to the nameToField map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder putAllNameToField(Map<String, ? extends BuildConfigFields.Field> nameToField) {
+      this.nameToField.putAll(nameToField);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildConfigFields BuildConfigFields}.
+     * @return An immutable instance of BuildConfigFields
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildConfigFields build() {
+      return BuildConfigFields.validate(new BuildConfigFields(this));
+    }
+  }
+
+  /**
+   *An individual field in a {@link BuildConfigFields}. 
+   */
+  @Immutable
+  @CheckReturnValue
+  public static final class Field extends AbstractBuildConfigFields.AbstractField {
+    private final String type;
+    private final String name;
+    private final String value;
+
+    private Field(String type, String name, String value) {
+      this.type = Objects.requireNonNull(type, "type");
+      this.name = Objects.requireNonNull(name, "name");
+      this.value = Objects.requireNonNull(value, "value");
+    }
+
+    private Field(BuildConfigFields.Field.Builder builder) {
+      this.type = builder.type;
+      this.name = builder.name;
+      this.value = builder.value;
+    }
+
+    /**
+     * @return The value of the {@code type} attribute
+     */
+    @Override
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * @return The value of the {@code name} attribute
+     */
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return The value of the {@code value} attribute
+     */
+    @Override
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * This instance is equal to all instances of {@code Field} that have equal attribute values.
+     * @return {@code true} if {@code this} is equal to {@code another} instance
+     */
+    @Override
+    public boolean equals(@Nullable Object another) {
+      if (this == another) return true;
+      return another instanceof BuildConfigFields.Field
+          && equalTo((BuildConfigFields.Field) another);
+    }
+
+    private boolean equalTo(BuildConfigFields.Field another) {
+      return type.equals(another.type)
+          && name.equals(another.name)
+          && value.equals(another.value);
+    }
+
+    /**
+     * Computes a hash code from attributes: {@code type}, {@code name}, {@code value}.
+     * @return hashCode value
+     */
+    @Override
+    public int hashCode() {
+      int h = 5381;
+      h += (h << 5) + type.hashCode();
+      h += (h << 5) + name.hashCode();
+      h += (h << 5) + value.hashCode();
+      return h;
+    }
+
+    /**
+     * Construct a new immutable {@code Field} instance.
+     * @param type The value for the {@code type} attribute
+     * @param name The value for the {@code name} attribute
+     * @param value The value for the {@code value} attribute
+     * @return An immutable Field instance
+     */
+    public static BuildConfigFields.Field of(String type, String name, String value) {
+      return new BuildConfigFields.Field(type, name, value);
+    }
+
+    /**
+     * Creates a builder for {@link BuildConfigFields.Field Field}.
+     * @return A new Field builder
+     */
+    public static BuildConfigFields.Field.Builder builder() {
+      return new BuildConfigFields.Field.Builder();
+    }
+
+    /**
+     * Builds instances of type {@link BuildConfigFields.Field Field}.
+     * Initialize attributes and then invoke the {@link #build()} method to create an
+     * immutable instance.
+     * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+     * but instead used immediately to create instances.</em>
+     */
+    @NotThreadSafe
+    public static final class Builder {
+      private static final long INIT_BIT_TYPE = 0x1L;
+      private static final long INIT_BIT_NAME = 0x2L;
+      private static final long INIT_BIT_VALUE = 0x4L;
+      private long initBits = 0x7L;
+
+      private @Nullable String type;
+      private @Nullable String name;
+      private @Nullable String value;
+
+      private Builder() {
+      }
+
+      /**
+       * Fill a builder with attribute values from the provided {@code Field} instance.
+       * Regular attribute values will be replaced with those from the given instance.
+       * Absent optional values will not replace present values.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      public final Builder from(BuildConfigFields.Field instance) {
+        return from((AbstractBuildConfigFields.AbstractField) instance);
+      }
+
+      /**
+       * Copy abstract value type {@code AbstractField} instance into builder.
+       * @param instance The instance from which to copy values
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      final Builder from(AbstractBuildConfigFields.AbstractField instance) {
+        Objects.requireNonNull(instance, "instance");
+        setType(instance.getType());
+        setName(instance.getName());
+        setValue(instance.getValue());
+        return this;
+      }
+
+      /**
+       * Initializes the value for the {@link AbstractBuildConfigFields.AbstractField#getType() type} attribute.
+       * @param type The value for type 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setType(String type) {
+        this.type = Objects.requireNonNull(type, "type");
+        initBits &= ~INIT_BIT_TYPE;
+        return this;
+      }
+
+
+      /**
+       * Initializes the value for the {@link AbstractBuildConfigFields.AbstractField#getName() name} attribute.
+       * @param name The value for name 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setName(String name) {
+        this.name = Objects.requireNonNull(name, "name");
+        initBits &= ~INIT_BIT_NAME;
+        return this;
+      }
+
+
+      /**
+       * Initializes the value for the {@link AbstractBuildConfigFields.AbstractField#getValue() value} attribute.
+       * @param value The value for value 
+       * @return {@code this} builder for use in a chained invocation
+       */
+      @CanIgnoreReturnValue 
+      public final Builder setValue(String value) {
+        this.value = Objects.requireNonNull(value, "value");
+        initBits &= ~INIT_BIT_VALUE;
+        return this;
+      }
+
+
+      /**
+       * Builds a new {@link BuildConfigFields.Field Field}.
+       * @return An immutable instance of Field
+       * @throws java.lang.IllegalStateException if any required attributes are missing
+       */
+      public BuildConfigFields.Field build() {
+        if (initBits != 0) {
+          throw new IllegalStateException(formatRequiredAttributesMessage());
+        }
+        return new BuildConfigFields.Field(this);
+      }
+
+      private String formatRequiredAttributesMessage() {
+        List<String> attributes = Lists.newArrayList();
+        if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+        if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+        if ((initBits & INIT_BIT_VALUE) != 0) attributes.add("value");
+        return "Cannot build Field, some of required attributes are not set " + attributes;
+      }
+    }
+  }
+}
@@ -0,0 +1,489 @@
+package com.facebook.buck.rules.coercer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Manifest entries to be injected into the AndroidManifest.xml file via AAPT command line flags.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractManifestEntries"})
+@Immutable
+@CheckReturnValue
+public final class ManifestEntries extends AbstractManifestEntries {
+  private final @Nullable Integer minSdkVersion;
+  private final @Nullable Integer targetSdkVersion;
+  private final @Nullable Integer versionCode;
+  private final @Nullable String versionName;
+  private final @Nullable Boolean debugMode;
+  private final @Nullable ImmutableMap<String, String> placeholders;
+
+  private ManifestEntries(
+      OptionalInt minSdkVersion,
+      OptionalInt targetSdkVersion,
+      OptionalInt versionCode,
+      Optional<String> versionName,
+      Optional<Boolean> debugMode,
+      Optional<? extends ImmutableMap<String, String>> placeholders) {
+    this.minSdkVersion = minSdkVersion.isPresent() ? minSdkVersion.getAsInt() : null;
+    this.targetSdkVersion = targetSdkVersion.isPresent() ? targetSdkVersion.getAsInt() : null;
+    this.versionCode = versionCode.isPresent() ? versionCode.getAsInt() : null;
+    this.versionName = versionName.orElse(null);
+    this.debugMode = debugMode.orElse(null);
+    this.placeholders = placeholders.orElse(null);
+  }
+
+  private ManifestEntries(ManifestEntries.Builder builder) {
+    this.minSdkVersion = builder.minSdkVersion;
+    this.targetSdkVersion = builder.targetSdkVersion;
+    this.versionCode = builder.versionCode;
+    this.versionName = builder.versionName;
+    this.debugMode = builder.debugMode;
+    this.placeholders = builder.placeholders;
+  }
+
+  /**
+   * @return The value of the {@code minSdkVersion} attribute
+   */
+  @JsonProperty
+  @Override
+  public OptionalInt getMinSdkVersion() {
+    return minSdkVersion != null
+        ? OptionalInt.of(minSdkVersion)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code targetSdkVersion} attribute
+   */
+  @JsonProperty
+  @Override
+  public OptionalInt getTargetSdkVersion() {
+    return targetSdkVersion != null
+        ? OptionalInt.of(targetSdkVersion)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code versionCode} attribute
+   */
+  @JsonProperty
+  @Override
+  public OptionalInt getVersionCode() {
+    return versionCode != null
+        ? OptionalInt.of(versionCode)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * @return The value of the {@code versionName} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getVersionName() {
+    return Optional.ofNullable(versionName);
+  }
+
+  /**
+   * @return The value of the {@code debugMode} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<Boolean> getDebugMode() {
+    return Optional.ofNullable(debugMode);
+  }
+
+  /**
+   * @return The value of the {@code placeholders} attribute
+   */
+  @JsonProperty
+  @Override
+  public Optional<ImmutableMap<String, String>> getPlaceholders() {
+    return Optional.ofNullable(placeholders);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ManifestEntries} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ManifestEntries
+        && equalTo((ManifestEntries) another);
+  }
+
+  private boolean equalTo(ManifestEntries another) {
+    return Objects.equals(minSdkVersion, another.minSdkVersion)
+        && Objects.equals(targetSdkVersion, another.targetSdkVersion)
+        && Objects.equals(versionCode, another.versionCode)
+        && Objects.equals(versionName, another.versionName)
+        && Objects.equals(debugMode, another.debugMode)
+        && Objects.equals(placeholders, another.placeholders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code minSdkVersion}, {@code targetSdkVersion}, {@code versionCode}, {@code versionName}, {@code debugMode}, {@code placeholders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(minSdkVersion);
+    h += (h << 5) + Objects.hashCode(targetSdkVersion);
+    h += (h << 5) + Objects.hashCode(versionCode);
+    h += (h << 5) + Objects.hashCode(versionName);
+    h += (h << 5) + Objects.hashCode(debugMode);
+    h += (h << 5) + Objects.hashCode(placeholders);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ManifestEntries} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ManifestEntries")
+        .omitNullValues()
+        .add("minSdkVersion", minSdkVersion)
+        .add("targetSdkVersion", targetSdkVersion)
+        .add("versionCode", versionCode)
+        .add("versionName", versionName)
+        .add("debugMode", debugMode)
+        .add("placeholders", placeholders)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractManifestEntries {
+    @Nullable OptionalInt minSdkVersion = OptionalInt.empty();
+    @Nullable OptionalInt targetSdkVersion = OptionalInt.empty();
+    @Nullable OptionalInt versionCode = OptionalInt.empty();
+    @Nullable Optional<String> versionName = Optional.empty();
+    @Nullable Optional<Boolean> debugMode = Optional.empty();
+    @Nullable Optional<ImmutableMap<String, String>> placeholders = Optional.empty();
+    @JsonProperty
+    public void setMinSdkVersion(OptionalInt minSdkVersion) {
+      this.minSdkVersion = minSdkVersion;
+    }
+    @JsonProperty
+    public void setTargetSdkVersion(OptionalInt targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion;
+    }
+    @JsonProperty
+    public void setVersionCode(OptionalInt versionCode) {
+      this.versionCode = versionCode;
+    }
+    @JsonProperty
+    public void setVersionName(Optional<String> versionName) {
+      this.versionName = versionName;
+    }
+    @JsonProperty
+    public void setDebugMode(Optional<Boolean> debugMode) {
+      this.debugMode = debugMode;
+    }
+    @JsonProperty
+    public void setPlaceholders(Optional<ImmutableMap<String, String>> placeholders) {
+      this.placeholders = placeholders;
+    }
+    @Override
+    public OptionalInt getMinSdkVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public OptionalInt getTargetSdkVersion() { throw new UnsupportedOperationException(); }
+    @Override
+    public OptionalInt getVersionCode() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getVersionName() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<Boolean> getDebugMode() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<ImmutableMap<String, String>> getPlaceholders() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static ManifestEntries fromJson(Json json) {
+    ManifestEntries.Builder builder = ManifestEntries.builder();
+    if (json.minSdkVersion != null) {
+      builder.setMinSdkVersion(json.minSdkVersion);
+    }
+    if (json.targetSdkVersion != null) {
+      builder.setTargetSdkVersion(json.targetSdkVersion);
+    }
+    if (json.versionCode != null) {
+      builder.setVersionCode(json.versionCode);
+    }
+    if (json.versionName != null) {
+      builder.setVersionName(json.versionName);
+    }
+    if (json.debugMode != null) {
+      builder.setDebugMode(json.debugMode);
+    }
+    if (json.placeholders != null) {
+      builder.setPlaceholders(json.placeholders);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code ManifestEntries} instance.
+   * @param minSdkVersion The value for the {@code minSdkVersion} attribute
+   * @param targetSdkVersion The value for the {@code targetSdkVersion} attribute
+   * @param versionCode The value for the {@code versionCode} attribute
+   * @param versionName The value for the {@code versionName} attribute
+   * @param debugMode The value for the {@code debugMode} attribute
+   * @param placeholders The value for the {@code placeholders} attribute
+   * @return An immutable ManifestEntries instance
+   */
+  public static ManifestEntries of(OptionalInt minSdkVersion, OptionalInt targetSdkVersion, OptionalInt versionCode, Optional<String> versionName, Optional<Boolean> debugMode, Optional<? extends ImmutableMap<String, String>> placeholders) {
+    return new ManifestEntries(minSdkVersion, targetSdkVersion, versionCode, versionName, debugMode, placeholders);
+  }
+
+  /**
+   * Creates a builder for {@link ManifestEntries ManifestEntries}.
+   * @return A new ManifestEntries builder
+   */
+  public static ManifestEntries.Builder builder() {
+    return new ManifestEntries.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ManifestEntries ManifestEntries}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Integer minSdkVersion;
+    private @Nullable Integer targetSdkVersion;
+    private @Nullable Integer versionCode;
+    private @Nullable String versionName;
+    private @Nullable Boolean debugMode;
+    private @Nullable ImmutableMap<String, String> placeholders;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ManifestEntries} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ManifestEntries instance) {
+      return from((AbstractManifestEntries) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractManifestEntries} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractManifestEntries instance) {
+      Objects.requireNonNull(instance, "instance");
+      OptionalInt minSdkVersionOptional = instance.getMinSdkVersion();
+      if (minSdkVersionOptional.isPresent()) {
+        setMinSdkVersion(minSdkVersionOptional);
+      }
+      OptionalInt targetSdkVersionOptional = instance.getTargetSdkVersion();
+      if (targetSdkVersionOptional.isPresent()) {
+        setTargetSdkVersion(targetSdkVersionOptional);
+      }
+      OptionalInt versionCodeOptional = instance.getVersionCode();
+      if (versionCodeOptional.isPresent()) {
+        setVersionCode(versionCodeOptional);
+      }
+      Optional<String> versionNameOptional = instance.getVersionName();
+      if (versionNameOptional.isPresent()) {
+        setVersionName(versionNameOptional);
+      }
+      Optional<Boolean> debugModeOptional = instance.getDebugMode();
+      if (debugModeOptional.isPresent()) {
+        setDebugMode(debugModeOptional);
+      }
+      Optional<ImmutableMap<String, String>> placeholdersOptional = instance.getPlaceholders();
+      if (placeholdersOptional.isPresent()) {
+        setPlaceholders(placeholdersOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getMinSdkVersion() minSdkVersion} to minSdkVersion.
+     * @param minSdkVersion The value for minSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinSdkVersion(int minSdkVersion) {
+      this.minSdkVersion = minSdkVersion;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getMinSdkVersion() minSdkVersion} to minSdkVersion.
+     * @param minSdkVersion The value for minSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setMinSdkVersion(OptionalInt minSdkVersion) {
+      this.minSdkVersion = minSdkVersion.isPresent() ? minSdkVersion.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setTargetSdkVersion(int targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getTargetSdkVersion() targetSdkVersion} to targetSdkVersion.
+     * @param targetSdkVersion The value for targetSdkVersion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setTargetSdkVersion(OptionalInt targetSdkVersion) {
+      this.targetSdkVersion = targetSdkVersion.isPresent() ? targetSdkVersion.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionCode() versionCode} to versionCode.
+     * @param versionCode The value for versionCode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionCode(int versionCode) {
+      this.versionCode = versionCode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionCode() versionCode} to versionCode.
+     * @param versionCode The value for versionCode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setVersionCode(OptionalInt versionCode) {
+      this.versionCode = versionCode.isPresent() ? versionCode.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionName() versionName} to versionName.
+     * @param versionName The value for versionName
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setVersionName(String versionName) {
+      this.versionName = Objects.requireNonNull(versionName, "versionName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getVersionName() versionName} to versionName.
+     * @param versionName The value for versionName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setVersionName(Optional<String> versionName) {
+      this.versionName = versionName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getDebugMode() debugMode} to debugMode.
+     * @param debugMode The value for debugMode
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDebugMode(boolean debugMode) {
+      this.debugMode = debugMode;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getDebugMode() debugMode} to debugMode.
+     * @param debugMode The value for debugMode
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setDebugMode(Optional<Boolean> debugMode) {
+      this.debugMode = debugMode.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getPlaceholders() placeholders} to placeholders.
+     * @param placeholders The value for placeholders
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPlaceholders(ImmutableMap<String, String> placeholders) {
+      this.placeholders = Objects.requireNonNull(placeholders, "placeholders");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractManifestEntries#getPlaceholders() placeholders} to placeholders.
+     * @param placeholders The value for placeholders
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    @JsonProperty
+    public final Builder setPlaceholders(Optional<? extends ImmutableMap<String, String>> placeholders) {
+      this.placeholders = placeholders.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ManifestEntries ManifestEntries}.
+     * @return An immutable instance of ManifestEntries
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ManifestEntries build() {
+      return new ManifestEntries(this);
+    }
+  }
+}
@@ -0,0 +1,268 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A group of ordered sources, stored as either a {@link Set} of unnamed {@link SourcePath}s or a
+ * {@link java.util.Map} of names to {@link SourcePath}s. Commonly used to represent the input
+ * <code>srcs</code> parameter of rules where source "names" may be important (e.g. to control
+ * layout of C++ headers).
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceSet"})
+@Immutable
+@CheckReturnValue
+public final class SourceSet extends AbstractSourceSet {
+  private final AbstractSourceSet.Type type;
+  private final @Nullable ImmutableSet<SourcePath> unnamedSources;
+  private final @Nullable ImmutableMap<String, SourcePath> namedSources;
+
+  private SourceSet(
+      AbstractSourceSet.Type type,
+      Optional<? extends ImmutableSet<SourcePath>> unnamedSources,
+      Optional<? extends ImmutableMap<String, SourcePath>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  private SourceSet(SourceSet.Builder builder) {
+    this.type = builder.type;
+    this.unnamedSources = builder.unnamedSources;
+    this.namedSources = builder.namedSources;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractSourceSet.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSet<SourcePath>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<String, SourcePath>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourceSet} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourceSet
+        && equalTo((SourceSet) another);
+  }
+
+  private boolean equalTo(SourceSet another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceSet} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceSet")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceSet} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceSet instance
+   */
+  public static SourceSet of(AbstractSourceSet.Type type, Optional<? extends ImmutableSet<SourcePath>> unnamedSources, Optional<? extends ImmutableMap<String, SourcePath>> namedSources) {
+    return validate(new SourceSet(type, unnamedSources, namedSources));
+  }
+
+
+  private static SourceSet validate(SourceSet instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link SourceSet SourceSet}.
+   * @return A new SourceSet builder
+   */
+  public static SourceSet.Builder builder() {
+    return new SourceSet.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SourceSet SourceSet}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractSourceSet.Type type;
+    private @Nullable ImmutableSet<SourcePath> unnamedSources;
+    private @Nullable ImmutableMap<String, SourcePath> namedSources;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SourceSet} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SourceSet instance) {
+      return from((AbstractSourceSet) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSourceSet} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractSourceSet instance) {
+      Objects.requireNonNull(instance, "instance");
+      setType(instance.getType());
+      Optional<ImmutableSet<SourcePath>> unnamedSourcesOptional = instance.getUnnamedSources();
+      if (unnamedSourcesOptional.isPresent()) {
+        setUnnamedSources(unnamedSourcesOptional);
+      }
+      Optional<ImmutableMap<String, SourcePath>> namedSourcesOptional = instance.getNamedSources();
+      if (namedSourcesOptional.isPresent()) {
+        setNamedSources(namedSourcesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSourceSet#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setType(AbstractSourceSet.Type type) {
+      this.type = Objects.requireNonNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractSourceSet#getUnnamedSources() unnamedSources} to unnamedSources.
+     * @param unnamedSources The value for unnamedSources
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnnamedSources(ImmutableSet<SourcePath> unnamedSources) {
+      this.unnamedSources = Objects.requireNonNull(unnamedSources, "unnamedSources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceSet#getUnnamedSources() unnamedSources} to unnamedSources.
+     * @param unnamedSources The value for unnamedSources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setUnnamedSources(Optional<? extends ImmutableSet<SourcePath>> unnamedSources) {
+      this.unnamedSources = unnamedSources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceSet#getNamedSources() namedSources} to namedSources.
+     * @param namedSources The value for namedSources
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNamedSources(ImmutableMap<String, SourcePath> namedSources) {
+      this.namedSources = Objects.requireNonNull(namedSources, "namedSources");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractSourceSet#getNamedSources() namedSources} to namedSources.
+     * @param namedSources The value for namedSources
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setNamedSources(Optional<? extends ImmutableMap<String, SourcePath>> namedSources) {
+      this.namedSources = namedSources.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SourceSet SourceSet}.
+     * @return An immutable instance of SourceSet
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SourceSet build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return SourceSet.validate(new SourceSet(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build SourceSet, some of required attributes are not set " + attributes;
+    }
+  }
+}
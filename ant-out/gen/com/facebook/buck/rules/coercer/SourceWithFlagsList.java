@@ -0,0 +1,121 @@
+package com.facebook.buck.rules.coercer;
+
+import com.facebook.buck.core.sourcepath.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Simple type representing a list of {@link SourceWithFlags}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSourceWithFlagsList"})
+@Immutable
+@CheckReturnValue
+public final class SourceWithFlagsList extends AbstractSourceWithFlagsList {
+  private final AbstractSourceWithFlagsList.Type type;
+  private final @Nullable ImmutableSortedSet<SourceWithFlags> unnamedSources;
+  private final @Nullable ImmutableSortedMap<String, SourceWithFlags> namedSources;
+
+  private SourceWithFlagsList(
+      AbstractSourceWithFlagsList.Type type,
+      Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources,
+      Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    this.type = Objects.requireNonNull(type, "type");
+    this.unnamedSources = unnamedSources.orElse(null);
+    this.namedSources = namedSources.orElse(null);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractSourceWithFlagsList.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code unnamedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedSet<SourceWithFlags>> getUnnamedSources() {
+    return Optional.ofNullable(unnamedSources);
+  }
+
+  /**
+   * @return The value of the {@code namedSources} attribute
+   */
+  @Override
+  public Optional<ImmutableSortedMap<String, SourceWithFlags>> getNamedSources() {
+    return Optional.ofNullable(namedSources);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourceWithFlagsList} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourceWithFlagsList
+        && equalTo((SourceWithFlagsList) another);
+  }
+
+  private boolean equalTo(SourceWithFlagsList another) {
+    return type.equals(another.type)
+        && Objects.equals(unnamedSources, another.unnamedSources)
+        && Objects.equals(namedSources, another.namedSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code unnamedSources}, {@code namedSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + type.hashCode();
+    h += (h << 5) + Objects.hashCode(unnamedSources);
+    h += (h << 5) + Objects.hashCode(namedSources);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceWithFlagsList} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceWithFlagsList")
+        .omitNullValues()
+        .add("type", type)
+        .add("unnamedSources", unnamedSources)
+        .add("namedSources", namedSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SourceWithFlagsList} instance.
+   * @param type The value for the {@code type} attribute
+   * @param unnamedSources The value for the {@code unnamedSources} attribute
+   * @param namedSources The value for the {@code namedSources} attribute
+   * @return An immutable SourceWithFlagsList instance
+   */
+  public static SourceWithFlagsList of(AbstractSourceWithFlagsList.Type type, Optional<? extends ImmutableSortedSet<SourceWithFlags>> unnamedSources, Optional<? extends ImmutableSortedMap<String, SourceWithFlags>> namedSources) {
+    return validate(new SourceWithFlagsList(type, unnamedSources, namedSources));
+  }
+
+
+  private static SourceWithFlagsList validate(SourceWithFlagsList instance) {
+    instance.check();
+    return instance;
+  }
+}
@@ -0,0 +1,271 @@
+package com.facebook.buck.rules.keys.config;
+
+import com.facebook.buck.core.module.BuckModuleHashStrategy;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Provides rule key configuration options. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRuleKeyConfiguration"})
+@Immutable
+@CheckReturnValue
+public final class RuleKeyConfiguration
+    extends AbstractRuleKeyConfiguration {
+  private final int seed;
+  private final String coreKey;
+  private final long buildInputRuleKeyFileSizeLimit;
+  private final BuckModuleHashStrategy buckModuleHashStrategy;
+
+  private RuleKeyConfiguration(
+      int seed,
+      String coreKey,
+      long buildInputRuleKeyFileSizeLimit,
+      BuckModuleHashStrategy buckModuleHashStrategy) {
+    this.seed = seed;
+    this.coreKey = Objects.requireNonNull(coreKey, "coreKey");
+    this.buildInputRuleKeyFileSizeLimit = buildInputRuleKeyFileSizeLimit;
+    this.buckModuleHashStrategy = Objects.requireNonNull(buckModuleHashStrategy, "buckModuleHashStrategy");
+  }
+
+  private RuleKeyConfiguration(RuleKeyConfiguration.Builder builder) {
+    this.seed = builder.seed;
+    this.coreKey = builder.coreKey;
+    this.buildInputRuleKeyFileSizeLimit = builder.buildInputRuleKeyFileSizeLimit;
+    this.buckModuleHashStrategy = builder.buckModuleHashStrategy;
+  }
+
+  /**
+   *The seed of all rule keys. 
+   */
+  @Override
+  public int getSeed() {
+    return seed;
+  }
+
+  /**
+   * @return The value of the {@code coreKey} attribute
+   */
+  @Override
+  public String getCoreKey() {
+    return coreKey;
+  }
+
+  /**
+   * @return The value of the {@code buildInputRuleKeyFileSizeLimit} attribute
+   */
+  @Override
+  public long getBuildInputRuleKeyFileSizeLimit() {
+    return buildInputRuleKeyFileSizeLimit;
+  }
+
+  /**
+   * @return The value of the {@code buckModuleHashStrategy} attribute
+   */
+  @Override
+  public BuckModuleHashStrategy getBuckModuleHashStrategy() {
+    return buckModuleHashStrategy;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyConfiguration} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyConfiguration
+        && equalTo((RuleKeyConfiguration) another);
+  }
+
+  private boolean equalTo(RuleKeyConfiguration another) {
+    return seed == another.seed
+        && coreKey.equals(another.coreKey)
+        && buildInputRuleKeyFileSizeLimit == another.buildInputRuleKeyFileSizeLimit
+        && buckModuleHashStrategy.equals(another.buckModuleHashStrategy);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code seed}, {@code coreKey}, {@code buildInputRuleKeyFileSizeLimit}, {@code buckModuleHashStrategy}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + seed;
+    h += (h << 5) + coreKey.hashCode();
+    h += (h << 5) + Longs.hashCode(buildInputRuleKeyFileSizeLimit);
+    h += (h << 5) + buckModuleHashStrategy.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyConfiguration} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyConfiguration")
+        .omitNullValues()
+        .add("seed", seed)
+        .add("coreKey", coreKey)
+        .add("buildInputRuleKeyFileSizeLimit", buildInputRuleKeyFileSizeLimit)
+        .add("buckModuleHashStrategy", buckModuleHashStrategy)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyConfiguration} instance.
+   * @param seed The value for the {@code seed} attribute
+   * @param coreKey The value for the {@code coreKey} attribute
+   * @param buildInputRuleKeyFileSizeLimit The value for the {@code buildInputRuleKeyFileSizeLimit} attribute
+   * @param buckModuleHashStrategy The value for the {@code buckModuleHashStrategy} attribute
+   * @return An immutable RuleKeyConfiguration instance
+   */
+  public static RuleKeyConfiguration of(int seed, String coreKey, long buildInputRuleKeyFileSizeLimit, BuckModuleHashStrategy buckModuleHashStrategy) {
+    return new RuleKeyConfiguration(seed, coreKey, buildInputRuleKeyFileSizeLimit, buckModuleHashStrategy);
+  }
+
+  /**
+   * Creates a builder for {@link RuleKeyConfiguration RuleKeyConfiguration}.
+   * @return A new RuleKeyConfiguration builder
+   */
+  public static RuleKeyConfiguration.Builder builder() {
+    return new RuleKeyConfiguration.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RuleKeyConfiguration RuleKeyConfiguration}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SEED = 0x1L;
+    private static final long INIT_BIT_CORE_KEY = 0x2L;
+    private static final long INIT_BIT_BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT = 0x4L;
+    private static final long INIT_BIT_BUCK_MODULE_HASH_STRATEGY = 0x8L;
+    private long initBits = 0xfL;
+
+    private int seed;
+    private @Nullable String coreKey;
+    private long buildInputRuleKeyFileSizeLimit;
+    private @Nullable BuckModuleHashStrategy buckModuleHashStrategy;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RuleKeyConfiguration} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RuleKeyConfiguration instance) {
+      return from((AbstractRuleKeyConfiguration) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRuleKeyConfiguration} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractRuleKeyConfiguration instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSeed(instance.getSeed());
+      setCoreKey(instance.getCoreKey());
+      setBuildInputRuleKeyFileSizeLimit(instance.getBuildInputRuleKeyFileSizeLimit());
+      setBuckModuleHashStrategy(instance.getBuckModuleHashStrategy());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractRuleKeyConfiguration#getSeed() seed} attribute.
+     * @param seed The value for seed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSeed(int seed) {
+      this.seed = seed;
+      initBits &= ~INIT_BIT_SEED;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractRuleKeyConfiguration#getCoreKey() coreKey} attribute.
+     * @param coreKey The value for coreKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCoreKey(String coreKey) {
+      this.coreKey = Objects.requireNonNull(coreKey, "coreKey");
+      initBits &= ~INIT_BIT_CORE_KEY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractRuleKeyConfiguration#getBuildInputRuleKeyFileSizeLimit() buildInputRuleKeyFileSizeLimit} attribute.
+     * @param buildInputRuleKeyFileSizeLimit The value for buildInputRuleKeyFileSizeLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuildInputRuleKeyFileSizeLimit(long buildInputRuleKeyFileSizeLimit) {
+      this.buildInputRuleKeyFileSizeLimit = buildInputRuleKeyFileSizeLimit;
+      initBits &= ~INIT_BIT_BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractRuleKeyConfiguration#getBuckModuleHashStrategy() buckModuleHashStrategy} attribute.
+     * @param buckModuleHashStrategy The value for buckModuleHashStrategy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBuckModuleHashStrategy(BuckModuleHashStrategy buckModuleHashStrategy) {
+      this.buckModuleHashStrategy = Objects.requireNonNull(buckModuleHashStrategy, "buckModuleHashStrategy");
+      initBits &= ~INIT_BIT_BUCK_MODULE_HASH_STRATEGY;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link RuleKeyConfiguration RuleKeyConfiguration}.
+     * @return An immutable instance of RuleKeyConfiguration
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RuleKeyConfiguration build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RuleKeyConfiguration(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SEED) != 0) attributes.add("seed");
+      if ((initBits & INIT_BIT_CORE_KEY) != 0) attributes.add("coreKey");
+      if ((initBits & INIT_BIT_BUILD_INPUT_RULE_KEY_FILE_SIZE_LIMIT) != 0) attributes.add("buildInputRuleKeyFileSizeLimit");
+      if ((initBits & INIT_BIT_BUCK_MODULE_HASH_STRATEGY) != 0) attributes.add("buckModuleHashStrategy");
+      return "Cannot build RuleKeyConfiguration, some of required attributes are not set " + attributes;
+    }
+  }
+}
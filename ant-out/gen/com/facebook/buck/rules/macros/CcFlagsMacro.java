@@ -0,0 +1,59 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(cflags)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCcFlagsMacro"})
+@Immutable
+@CheckReturnValue
+public final class CcFlagsMacro implements AbstractCcFlagsMacro {
+
+  private CcFlagsMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code CcFlagsMacro} that have equal attribute values.
+   * As instances of the {@code CcFlagsMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -1264033538;
+  }
+
+  /**
+   * Prints the immutable value {@code CcFlagsMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CcFlagsMacro{}";
+  }
+
+  private static final CcFlagsMacro INSTANCE = new CcFlagsMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CcFlagsMacro}
+   * @return An immutable instance of CcFlagsMacro
+   */
+  public static CcFlagsMacro of() {
+    return INSTANCE;
+  }
+}
@@ -0,0 +1,177 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(cppflags ...)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCppFlagsMacro"})
+@Immutable
+@CheckReturnValue
+public final class CppFlagsMacro extends AbstractCppFlagsMacro {
+  private final @Nullable Pattern filter;
+  private final ImmutableList<BuildTarget> targets;
+
+  private CppFlagsMacro(
+      Optional<? extends Pattern> filter,
+      Iterable<? extends BuildTarget> targets) {
+    this.filter = filter.orElse(null);
+    this.targets = ImmutableList.copyOf(targets);
+  }
+
+  private CppFlagsMacro(
+      CppFlagsMacro original,
+      @Nullable Pattern filter,
+      ImmutableList<BuildTarget> targets) {
+    this.filter = filter;
+    this.targets = targets;
+  }
+
+  /**
+   * @return The value of the {@code filter} attribute
+   */
+  @Override
+  public Optional<Pattern> getFilter() {
+    return Optional.ofNullable(filter);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCppFlagsMacro#getFilter() filter} attribute.
+   * @param value The value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final CppFlagsMacro withFilter(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "filter");
+    if (this.filter == newValue) return this;
+    return new CppFlagsMacro(this, newValue, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCppFlagsMacro#getFilter() filter} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final CppFlagsMacro withFilter(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.filter == value) return this;
+    return new CppFlagsMacro(this, value, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCppFlagsMacro#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CppFlagsMacro withTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new CppFlagsMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCppFlagsMacro#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CppFlagsMacro withTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new CppFlagsMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CppFlagsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CppFlagsMacro
+        && equalTo((CppFlagsMacro) another);
+  }
+
+  private boolean equalTo(CppFlagsMacro another) {
+    return Objects.equals(filter, another.filter)
+        && targets.equals(another.targets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filter}, {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(filter);
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CppFlagsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CppFlagsMacro")
+        .omitNullValues()
+        .add("filter", filter)
+        .add("targets", targets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CppFlagsMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable CppFlagsMacro instance
+   */
+  public static CppFlagsMacro of(Optional<Pattern> filter, ImmutableList<BuildTarget> targets) {
+    return of(filter, (Iterable<? extends BuildTarget>) targets);
+  }
+
+  /**
+   * Construct a new immutable {@code CppFlagsMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable CppFlagsMacro instance
+   */
+  public static CppFlagsMacro of(Optional<? extends Pattern> filter, Iterable<? extends BuildTarget> targets) {
+    return new CppFlagsMacro(filter, targets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCppFlagsMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CppFlagsMacro instance
+   */
+  static CppFlagsMacro copyOf(AbstractCppFlagsMacro instance) {
+    if (instance instanceof CppFlagsMacro) {
+      return (CppFlagsMacro) instance;
+    }
+    return CppFlagsMacro.of(instance.getFilter(), instance.getTargets());
+  }
+}
@@ -0,0 +1,59 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(cxx)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxMacro"})
+@Immutable
+@CheckReturnValue
+public final class CxxMacro implements AbstractCxxMacro {
+
+  private CxxMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code CxxMacro} that have equal attribute values.
+   * As instances of the {@code CxxMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return -512324894;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "CxxMacro{}";
+  }
+
+  private static final CxxMacro INSTANCE = new CxxMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code CxxMacro}
+   * @return An immutable instance of CxxMacro
+   */
+  public static CxxMacro of() {
+    return INSTANCE;
+  }
+}
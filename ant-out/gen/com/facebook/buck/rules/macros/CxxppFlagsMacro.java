@@ -0,0 +1,177 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(cxxppflags ...)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxppFlagsMacro"})
+@Immutable
+@CheckReturnValue
+public final class CxxppFlagsMacro extends AbstractCxxppFlagsMacro {
+  private final @Nullable Pattern filter;
+  private final ImmutableList<BuildTarget> targets;
+
+  private CxxppFlagsMacro(
+      Optional<? extends Pattern> filter,
+      Iterable<? extends BuildTarget> targets) {
+    this.filter = filter.orElse(null);
+    this.targets = ImmutableList.copyOf(targets);
+  }
+
+  private CxxppFlagsMacro(
+      CxxppFlagsMacro original,
+      @Nullable Pattern filter,
+      ImmutableList<BuildTarget> targets) {
+    this.filter = filter;
+    this.targets = targets;
+  }
+
+  /**
+   * @return The value of the {@code filter} attribute
+   */
+  @Override
+  public Optional<Pattern> getFilter() {
+    return Optional.ofNullable(filter);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxppFlagsMacro#getFilter() filter} attribute.
+   * @param value The value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxppFlagsMacro withFilter(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "filter");
+    if (this.filter == newValue) return this;
+    return new CxxppFlagsMacro(this, newValue, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxppFlagsMacro#getFilter() filter} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxppFlagsMacro withFilter(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.filter == value) return this;
+    return new CxxppFlagsMacro(this, value, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxppFlagsMacro#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxppFlagsMacro withTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new CxxppFlagsMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxppFlagsMacro#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxppFlagsMacro withTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new CxxppFlagsMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxppFlagsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxppFlagsMacro
+        && equalTo((CxxppFlagsMacro) another);
+  }
+
+  private boolean equalTo(CxxppFlagsMacro another) {
+    return Objects.equals(filter, another.filter)
+        && targets.equals(another.targets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filter}, {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(filter);
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxppFlagsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxppFlagsMacro")
+        .omitNullValues()
+        .add("filter", filter)
+        .add("targets", targets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxppFlagsMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable CxxppFlagsMacro instance
+   */
+  public static CxxppFlagsMacro of(Optional<Pattern> filter, ImmutableList<BuildTarget> targets) {
+    return of(filter, (Iterable<? extends BuildTarget>) targets);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxppFlagsMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable CxxppFlagsMacro instance
+   */
+  public static CxxppFlagsMacro of(Optional<? extends Pattern> filter, Iterable<? extends BuildTarget> targets) {
+    return new CxxppFlagsMacro(filter, targets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxppFlagsMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxppFlagsMacro instance
+   */
+  static CxxppFlagsMacro copyOf(AbstractCxxppFlagsMacro instance) {
+    if (instance instanceof CxxppFlagsMacro) {
+      return (CxxppFlagsMacro) instance;
+    }
+    return CxxppFlagsMacro.of(instance.getFilter(), instance.getTargets());
+  }
+}
@@ -0,0 +1,87 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractExecutableMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ExecutableMacro.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExecutableMacro"})
+@Immutable
+@CheckReturnValue
+public final class ExecutableMacro extends AbstractExecutableMacro {
+  private final BuildTarget target;
+
+  private ExecutableMacro(BuildTarget target) {
+    this.target = Objects.requireNonNull(target, "target");
+  }
+
+  private ExecutableMacro(ExecutableMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutableMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutableMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new ExecutableMacro(this, newValue);
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutableMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutableMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExecutableMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable ExecutableMacro instance
+   */
+  public static ExecutableMacro of(BuildTarget target) {
+    return new ExecutableMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExecutableMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExecutableMacro instance
+   */
+  static ExecutableMacro copyOf(AbstractExecutableMacro instance) {
+    if (instance instanceof ExecutableMacro) {
+      return (ExecutableMacro) instance;
+    }
+    return ExecutableMacro.of(instance.getTarget());
+  }
+}
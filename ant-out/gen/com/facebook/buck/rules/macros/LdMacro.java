@@ -0,0 +1,59 @@
+package com.facebook.buck.rules.macros;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(ld)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLdMacro"})
+@Immutable
+@CheckReturnValue
+public final class LdMacro extends AbstractLdMacro {
+
+  private LdMacro() {}
+
+  /**
+   * This instance is equal to all instances of {@code LdMacro} that have equal attribute values.
+   * As instances of the {@code LdMacro} class are interned, the {@code equals} method is implemented
+   * as an efficient reference equality check.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    return this == another;
+  }
+
+  /**
+   * Returns a constant hash code value.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    return 986133049;
+  }
+
+  /**
+   * Prints the immutable value {@code LdMacro}.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return "LdMacro{}";
+  }
+
+  private static final LdMacro INSTANCE = new LdMacro();
+
+  /**
+   * Returns the default immutable singleton value of {@code LdMacro}
+   * @return An immutable instance of LdMacro
+   */
+  public static LdMacro of() {
+    return INSTANCE;
+  }
+}
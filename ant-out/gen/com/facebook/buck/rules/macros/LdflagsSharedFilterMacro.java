@@ -0,0 +1,178 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(ldflags-shared-filter ...)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLdflagsSharedFilterMacro"})
+@Immutable
+@CheckReturnValue
+public final class LdflagsSharedFilterMacro
+    extends AbstractLdflagsSharedFilterMacro {
+  private final @Nullable Pattern filter;
+  private final ImmutableList<BuildTarget> targets;
+
+  private LdflagsSharedFilterMacro(
+      Optional<? extends Pattern> filter,
+      Iterable<? extends BuildTarget> targets) {
+    this.filter = filter.orElse(null);
+    this.targets = ImmutableList.copyOf(targets);
+  }
+
+  private LdflagsSharedFilterMacro(
+      LdflagsSharedFilterMacro original,
+      @Nullable Pattern filter,
+      ImmutableList<BuildTarget> targets) {
+    this.filter = filter;
+    this.targets = targets;
+  }
+
+  /**
+   * @return The value of the {@code filter} attribute
+   */
+  @Override
+  public Optional<Pattern> getFilter() {
+    return Optional.ofNullable(filter);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLdflagsSharedFilterMacro#getFilter() filter} attribute.
+   * @param value The value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedFilterMacro withFilter(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "filter");
+    if (this.filter == newValue) return this;
+    return new LdflagsSharedFilterMacro(this, newValue, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLdflagsSharedFilterMacro#getFilter() filter} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedFilterMacro withFilter(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.filter == value) return this;
+    return new LdflagsSharedFilterMacro(this, value, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractLdflagsSharedFilterMacro#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedFilterMacro withTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new LdflagsSharedFilterMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractLdflagsSharedFilterMacro#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedFilterMacro withTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new LdflagsSharedFilterMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LdflagsSharedFilterMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LdflagsSharedFilterMacro
+        && equalTo((LdflagsSharedFilterMacro) another);
+  }
+
+  private boolean equalTo(LdflagsSharedFilterMacro another) {
+    return Objects.equals(filter, another.filter)
+        && targets.equals(another.targets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filter}, {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(filter);
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LdflagsSharedFilterMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LdflagsSharedFilterMacro")
+        .omitNullValues()
+        .add("filter", filter)
+        .add("targets", targets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LdflagsSharedFilterMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable LdflagsSharedFilterMacro instance
+   */
+  public static LdflagsSharedFilterMacro of(Optional<Pattern> filter, ImmutableList<BuildTarget> targets) {
+    return of(filter, (Iterable<? extends BuildTarget>) targets);
+  }
+
+  /**
+   * Construct a new immutable {@code LdflagsSharedFilterMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable LdflagsSharedFilterMacro instance
+   */
+  public static LdflagsSharedFilterMacro of(Optional<? extends Pattern> filter, Iterable<? extends BuildTarget> targets) {
+    return new LdflagsSharedFilterMacro(filter, targets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLdflagsSharedFilterMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LdflagsSharedFilterMacro instance
+   */
+  static LdflagsSharedFilterMacro copyOf(AbstractLdflagsSharedFilterMacro instance) {
+    if (instance instanceof LdflagsSharedFilterMacro) {
+      return (LdflagsSharedFilterMacro) instance;
+    }
+    return LdflagsSharedFilterMacro.of(instance.getFilter(), instance.getTargets());
+  }
+}
@@ -0,0 +1,177 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *<code>$(ldflags-shared ...)</code> macro type. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLdflagsSharedMacro"})
+@Immutable
+@CheckReturnValue
+public final class LdflagsSharedMacro extends AbstractLdflagsSharedMacro {
+  private final @Nullable Pattern filter;
+  private final ImmutableList<BuildTarget> targets;
+
+  private LdflagsSharedMacro(
+      Optional<? extends Pattern> filter,
+      Iterable<? extends BuildTarget> targets) {
+    this.filter = filter.orElse(null);
+    this.targets = ImmutableList.copyOf(targets);
+  }
+
+  private LdflagsSharedMacro(
+      LdflagsSharedMacro original,
+      @Nullable Pattern filter,
+      ImmutableList<BuildTarget> targets) {
+    this.filter = filter;
+    this.targets = targets;
+  }
+
+  /**
+   * @return The value of the {@code filter} attribute
+   */
+  @Override
+  public Optional<Pattern> getFilter() {
+    return Optional.ofNullable(filter);
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableList<BuildTarget> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLdflagsSharedMacro#getFilter() filter} attribute.
+   * @param value The value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedMacro withFilter(Pattern value) {
+    @Nullable Pattern newValue = Objects.requireNonNull(value, "filter");
+    if (this.filter == newValue) return this;
+    return new LdflagsSharedMacro(this, newValue, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLdflagsSharedMacro#getFilter() filter} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for filter
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedMacro withFilter(Optional<? extends Pattern> optional) {
+    @Nullable Pattern value = optional.orElse(null);
+    if (this.filter == value) return this;
+    return new LdflagsSharedMacro(this, value, this.targets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractLdflagsSharedMacro#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedMacro withTargets(BuildTarget... elements) {
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new LdflagsSharedMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractLdflagsSharedMacro#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final LdflagsSharedMacro withTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.targets == elements) return this;
+    ImmutableList<BuildTarget> newValue = ImmutableList.copyOf(elements);
+    return new LdflagsSharedMacro(this, this.filter, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LdflagsSharedMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LdflagsSharedMacro
+        && equalTo((LdflagsSharedMacro) another);
+  }
+
+  private boolean equalTo(LdflagsSharedMacro another) {
+    return Objects.equals(filter, another.filter)
+        && targets.equals(another.targets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filter}, {@code targets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Objects.hashCode(filter);
+    h += (h << 5) + targets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LdflagsSharedMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LdflagsSharedMacro")
+        .omitNullValues()
+        .add("filter", filter)
+        .add("targets", targets)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LdflagsSharedMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable LdflagsSharedMacro instance
+   */
+  public static LdflagsSharedMacro of(Optional<Pattern> filter, ImmutableList<BuildTarget> targets) {
+    return of(filter, (Iterable<? extends BuildTarget>) targets);
+  }
+
+  /**
+   * Construct a new immutable {@code LdflagsSharedMacro} instance.
+   * @param filter The value for the {@code filter} attribute
+   * @param targets The value for the {@code targets} attribute
+   * @return An immutable LdflagsSharedMacro instance
+   */
+  public static LdflagsSharedMacro of(Optional<? extends Pattern> filter, Iterable<? extends BuildTarget> targets) {
+    return new LdflagsSharedMacro(filter, targets);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLdflagsSharedMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LdflagsSharedMacro instance
+   */
+  static LdflagsSharedMacro copyOf(AbstractLdflagsSharedMacro instance) {
+    if (instance instanceof LdflagsSharedMacro) {
+      return (LdflagsSharedMacro) instance;
+    }
+    return LdflagsSharedMacro.of(instance.getFilter(), instance.getTargets());
+  }
+}
@@ -0,0 +1,127 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Macro that resolves to the output location of a build rule. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLocationMacro"})
+@Immutable
+@CheckReturnValue
+public final class LocationMacro extends AbstractLocationMacro {
+  private final BuildTarget target;
+  private final @Nullable String supplementaryOutputIdentifier;
+
+  private LocationMacro(
+      BuildTarget target,
+      Optional<String> supplementaryOutputIdentifier) {
+    this.target = Objects.requireNonNull(target, "target");
+    this.supplementaryOutputIdentifier = supplementaryOutputIdentifier.orElse(null);
+  }
+
+  private LocationMacro(
+      LocationMacro original,
+      BuildTarget target,
+      @Nullable String supplementaryOutputIdentifier) {
+    this.target = target;
+    this.supplementaryOutputIdentifier = supplementaryOutputIdentifier;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code supplementaryOutputIdentifier} attribute
+   */
+  @Override
+  public Optional<String> getSupplementaryOutputIdentifier() {
+    return Optional.ofNullable(supplementaryOutputIdentifier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLocationMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final LocationMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Objects.requireNonNull(value, "target");
+    return new LocationMacro(this, newValue, this.supplementaryOutputIdentifier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLocationMacro#getSupplementaryOutputIdentifier() supplementaryOutputIdentifier} attribute.
+   * @param value The value for supplementaryOutputIdentifier
+   * @return A modified copy of {@code this} object
+   */
+  public final LocationMacro withSupplementaryOutputIdentifier(String value) {
+    @Nullable String newValue = Objects.requireNonNull(value, "supplementaryOutputIdentifier");
+    if (Objects.equals(this.supplementaryOutputIdentifier, newValue)) return this;
+    return new LocationMacro(this, this.target, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLocationMacro#getSupplementaryOutputIdentifier() supplementaryOutputIdentifier} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for supplementaryOutputIdentifier
+   * @return A modified copy of {@code this} object
+   */
+  public final LocationMacro withSupplementaryOutputIdentifier(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equals(this.supplementaryOutputIdentifier, value)) return this;
+    return new LocationMacro(this, this.target, value);
+  }
+
+  /**
+   * Prints the immutable value {@code LocationMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LocationMacro")
+        .omitNullValues()
+        .add("target", target)
+        .add("supplementaryOutputIdentifier", supplementaryOutputIdentifier)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LocationMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @param supplementaryOutputIdentifier The value for the {@code supplementaryOutputIdentifier} attribute
+   * @return An immutable LocationMacro instance
+   */
+  public static LocationMacro of(BuildTarget target, Optional<String> supplementaryOutputIdentifier) {
+    return new LocationMacro(target, supplementaryOutputIdentifier);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLocationMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LocationMacro instance
+   */
+  static LocationMacro copyOf(AbstractLocationMacro instance) {
+    if (instance instanceof LocationMacro) {
+      return (LocationMacro) instance;
+    }
+    return LocationMacro.of(instance.getTarget(), instance.getSupplementaryOutputIdentifier());
+  }
+}
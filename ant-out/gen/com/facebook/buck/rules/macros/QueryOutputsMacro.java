@@ -0,0 +1,112 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Class providing the type for macros used in `$(query_outputs ...)` macro strings. The
+ * implementation is provided by the {@link QueryMacro} base class.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractQueryOutputsMacro"})
+@Immutable
+@CheckReturnValue
+public final class QueryOutputsMacro extends AbstractQueryOutputsMacro {
+  private final Query query;
+
+  private QueryOutputsMacro(Query query) {
+    this.query = Objects.requireNonNull(query, "query");
+  }
+
+  private QueryOutputsMacro(QueryOutputsMacro original, Query query) {
+    this.query = query;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractQueryOutputsMacro#getQuery() query} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for query
+   * @return A modified copy of the {@code this} object
+   */
+  public final QueryOutputsMacro withQuery(Query value) {
+    if (this.query == value) return this;
+    Query newValue = Objects.requireNonNull(value, "query");
+    return new QueryOutputsMacro(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code QueryOutputsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof QueryOutputsMacro
+        && equalTo((QueryOutputsMacro) another);
+  }
+
+  private boolean equalTo(QueryOutputsMacro another) {
+    return query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code QueryOutputsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("QueryOutputsMacro")
+        .omitNullValues()
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code QueryOutputsMacro} instance.
+   * @param query The value for the {@code query} attribute
+   * @return An immutable QueryOutputsMacro instance
+   */
+  public static QueryOutputsMacro of(Query query) {
+    return new QueryOutputsMacro(query);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractQueryOutputsMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable QueryOutputsMacro instance
+   */
+  static QueryOutputsMacro copyOf(AbstractQueryOutputsMacro instance) {
+    if (instance instanceof QueryOutputsMacro) {
+      return (QueryOutputsMacro) instance;
+    }
+    return QueryOutputsMacro.of(instance.getQuery());
+  }
+}
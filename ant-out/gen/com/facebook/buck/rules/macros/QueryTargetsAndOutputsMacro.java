@@ -0,0 +1,143 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.rules.query.Query;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Class providing the type for macros used in `$(query_targets_and_outputs ...)` macro strings. The
+ * implementation is provided by the {@link QueryMacro} base class.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractQueryTargetsAndOutputsMacro"})
+@Immutable
+@CheckReturnValue
+public final class QueryTargetsAndOutputsMacro
+    extends AbstractQueryTargetsAndOutputsMacro {
+  private final String separator;
+  private final Query query;
+
+  private QueryTargetsAndOutputsMacro(String separator, Query query) {
+    this.separator = Objects.requireNonNull(separator, "separator");
+    this.query = Objects.requireNonNull(query, "query");
+  }
+
+  private QueryTargetsAndOutputsMacro(
+      QueryTargetsAndOutputsMacro original,
+      String separator,
+      Query query) {
+    this.separator = separator;
+    this.query = query;
+  }
+
+  /**
+   * @return The value of the {@code separator} attribute
+   */
+  @Override
+  public String getSeparator() {
+    return separator;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public Query getQuery() {
+    return query;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractQueryTargetsAndOutputsMacro#getSeparator() separator} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for separator
+   * @return A modified copy of the {@code this} object
+   */
+  public final QueryTargetsAndOutputsMacro withSeparator(String value) {
+    if (this.separator.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "separator");
+    return new QueryTargetsAndOutputsMacro(this, newValue, this.query);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractQueryTargetsAndOutputsMacro#getQuery() query} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for query
+   * @return A modified copy of the {@code this} object
+   */
+  public final QueryTargetsAndOutputsMacro withQuery(Query value) {
+    if (this.query == value) return this;
+    Query newValue = Objects.requireNonNull(value, "query");
+    return new QueryTargetsAndOutputsMacro(this, this.separator, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code QueryTargetsAndOutputsMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof QueryTargetsAndOutputsMacro
+        && equalTo((QueryTargetsAndOutputsMacro) another);
+  }
+
+  private boolean equalTo(QueryTargetsAndOutputsMacro another) {
+    return separator.equals(another.separator)
+        && query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code separator}, {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + separator.hashCode();
+    h += (h << 5) + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code QueryTargetsAndOutputsMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("QueryTargetsAndOutputsMacro")
+        .omitNullValues()
+        .add("separator", separator)
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code QueryTargetsAndOutputsMacro} instance.
+   * @param separator The value for the {@code separator} attribute
+   * @param query The value for the {@code query} attribute
+   * @return An immutable QueryTargetsAndOutputsMacro instance
+   */
+  public static QueryTargetsAndOutputsMacro of(String separator, Query query) {
+    return new QueryTargetsAndOutputsMacro(separator, query);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractQueryTargetsAndOutputsMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable QueryTargetsAndOutputsMacro instance
+   */
+  static QueryTargetsAndOutputsMacro copyOf(AbstractQueryTargetsAndOutputsMacro instance) {
+    if (instance instanceof QueryTargetsAndOutputsMacro) {
+      return (QueryTargetsAndOutputsMacro) instance;
+    }
+    return QueryTargetsAndOutputsMacro.of(instance.getSeparator(), instance.getQuery());
+  }
+}
@@ -0,0 +1,133 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.util.types.Either;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *A class representing a string containing ordered, embedded, strongly typed macros. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractStringWithMacros"})
+@Immutable
+@CheckReturnValue
+public final class StringWithMacros extends AbstractStringWithMacros {
+  private final ImmutableList<Either<String, MacroContainer>> parts;
+
+  private StringWithMacros(Iterable<? extends Either<String, MacroContainer>> parts) {
+    this.parts = ImmutableList.copyOf(parts);
+  }
+
+  private StringWithMacros(
+      StringWithMacros original,
+      ImmutableList<Either<String, MacroContainer>> parts) {
+    this.parts = parts;
+  }
+
+  /**
+   * @return The value of the {@code parts} attribute
+   */
+  @Override
+  public ImmutableList<Either<String, MacroContainer>> getParts() {
+    return parts;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractStringWithMacros#getParts() parts}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs @SuppressWarnings("varargs")
+  public final StringWithMacros withParts(Either<String, MacroContainer>... elements) {
+    ImmutableList<Either<String, MacroContainer>> newValue = ImmutableList.copyOf(elements);
+    return new StringWithMacros(this, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractStringWithMacros#getParts() parts}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of parts elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final StringWithMacros withParts(Iterable<? extends Either<String, MacroContainer>> elements) {
+    if (this.parts == elements) return this;
+    ImmutableList<Either<String, MacroContainer>> newValue = ImmutableList.copyOf(elements);
+    return new StringWithMacros(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code StringWithMacros} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof StringWithMacros
+        && equalTo((StringWithMacros) another);
+  }
+
+  private boolean equalTo(StringWithMacros another) {
+    return parts.equals(another.parts);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code parts}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + parts.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code StringWithMacros} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("StringWithMacros")
+        .omitNullValues()
+        .add("parts", parts)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacros} instance.
+   * @param parts The value for the {@code parts} attribute
+   * @return An immutable StringWithMacros instance
+   */
+  public static StringWithMacros of(ImmutableList<Either<String, MacroContainer>> parts) {
+    return of((Iterable<? extends Either<String, MacroContainer>>) parts);
+  }
+
+  /**
+   * Construct a new immutable {@code StringWithMacros} instance.
+   * @param parts The value for the {@code parts} attribute
+   * @return An immutable StringWithMacros instance
+   */
+  public static StringWithMacros of(Iterable<? extends Either<String, MacroContainer>> parts) {
+    return new StringWithMacros(parts);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractStringWithMacros} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable StringWithMacros instance
+   */
+  static StringWithMacros copyOf(AbstractStringWithMacros instance) {
+    if (instance instanceof StringWithMacros) {
+      return (StringWithMacros) instance;
+    }
+    return StringWithMacros.of(instance.getParts());
+  }
+}
@@ -0,0 +1,112 @@
+package com.facebook.buck.rules.modern.config;
+
+import com.facebook.buck.core.config.BuckConfig;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Various configuration for ModernBuildRule behavior. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractModernBuildRuleConfig"})
+@Immutable
+@CheckReturnValue
+public final class ModernBuildRuleConfig
+    extends AbstractModernBuildRuleConfig {
+  private final BuckConfig delegate;
+
+  private ModernBuildRuleConfig(BuckConfig delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  private ModernBuildRuleConfig(ModernBuildRuleConfig original, BuckConfig delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractModernBuildRuleConfig#getDelegate() delegate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for delegate
+   * @return A modified copy of the {@code this} object
+   */
+  public final ModernBuildRuleConfig withDelegate(BuckConfig value) {
+    if (this.delegate == value) return this;
+    BuckConfig newValue = Objects.requireNonNull(value, "delegate");
+    return new ModernBuildRuleConfig(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ModernBuildRuleConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ModernBuildRuleConfig
+        && equalTo((ModernBuildRuleConfig) another);
+  }
+
+  private boolean equalTo(ModernBuildRuleConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ModernBuildRuleConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ModernBuildRuleConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ModernBuildRuleConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ModernBuildRuleConfig instance
+   */
+  public static ModernBuildRuleConfig of(BuckConfig delegate) {
+    return new ModernBuildRuleConfig(delegate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractModernBuildRuleConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ModernBuildRuleConfig instance
+   */
+  static ModernBuildRuleConfig copyOf(AbstractModernBuildRuleConfig instance) {
+    if (instance instanceof ModernBuildRuleConfig) {
+      return (ModernBuildRuleConfig) instance;
+    }
+    return ModernBuildRuleConfig.of(instance.getDelegate());
+  }
+}
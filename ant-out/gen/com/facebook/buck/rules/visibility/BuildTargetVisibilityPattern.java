@@ -0,0 +1,115 @@
+package com.facebook.buck.rules.visibility;
+
+import com.facebook.buck.parser.BuildTargetPattern;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link VisibilityPatternParser.AbstractBuildTargetVisibilityPattern}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code BuildTargetVisibilityPattern.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VisibilityPatternParser.AbstractBuildTargetVisibilityPattern"})
+@Immutable
+@CheckReturnValue
+public final class BuildTargetVisibilityPattern
+    extends VisibilityPatternParser.AbstractBuildTargetVisibilityPattern {
+  private final BuildTargetPattern viewerPattern;
+
+  private BuildTargetVisibilityPattern(BuildTargetPattern viewerPattern) {
+    this.viewerPattern = Objects.requireNonNull(viewerPattern, "viewerPattern");
+  }
+
+  private BuildTargetVisibilityPattern(BuildTargetVisibilityPattern original, BuildTargetPattern viewerPattern) {
+    this.viewerPattern = viewerPattern;
+  }
+
+  /**
+   * @return The value of the {@code viewerPattern} attribute
+   */
+  @Override
+  public BuildTargetPattern getViewerPattern() {
+    return viewerPattern;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VisibilityPatternParser.AbstractBuildTargetVisibilityPattern#getViewerPattern() viewerPattern} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for viewerPattern
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildTargetVisibilityPattern withViewerPattern(BuildTargetPattern value) {
+    if (this.viewerPattern == value) return this;
+    BuildTargetPattern newValue = Objects.requireNonNull(value, "viewerPattern");
+    return new BuildTargetVisibilityPattern(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildTargetVisibilityPattern} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildTargetVisibilityPattern
+        && equalTo((BuildTargetVisibilityPattern) another);
+  }
+
+  private boolean equalTo(BuildTargetVisibilityPattern another) {
+    return viewerPattern.equals(another.viewerPattern);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code viewerPattern}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + viewerPattern.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildTargetVisibilityPattern} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildTargetVisibilityPattern")
+        .omitNullValues()
+        .add("viewerPattern", viewerPattern)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildTargetVisibilityPattern} instance.
+   * @param viewerPattern The value for the {@code viewerPattern} attribute
+   * @return An immutable BuildTargetVisibilityPattern instance
+   */
+  public static BuildTargetVisibilityPattern of(BuildTargetPattern viewerPattern) {
+    return new BuildTargetVisibilityPattern(viewerPattern);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VisibilityPatternParser.AbstractBuildTargetVisibilityPattern} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildTargetVisibilityPattern instance
+   */
+  static BuildTargetVisibilityPattern copyOf(VisibilityPatternParser.AbstractBuildTargetVisibilityPattern instance) {
+    if (instance instanceof BuildTargetVisibilityPattern) {
+      return (BuildTargetVisibilityPattern) instance;
+    }
+    return BuildTargetVisibilityPattern.of(instance.getViewerPattern());
+  }
+}
@@ -0,0 +1,191 @@
+package com.facebook.buck.shell;
+
+import com.facebook.buck.core.toolchain.tool.Tool;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link Tool} that delegates to different underlying tools depending on the host {@link
+ * Platform} it is run on.
+ * <p>When calculating rule keys, this tool yields the same value regardless of the host platform,
+ * and - in consequence - the underlying tool it delegates to.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CommandAlias.AbstractCrossPlatformTool"})
+@Immutable
+@CheckReturnValue
+public final class CrossPlatformTool extends CommandAlias.AbstractCrossPlatformTool {
+  private final Tool genericTool;
+  private final ImmutableSortedMap<Platform, Tool> platformTools;
+  private final Platform platform;
+  private final Tool tool;
+
+  private CrossPlatformTool(
+      Tool genericTool,
+      ImmutableSortedMap<Platform, Tool> platformTools,
+      Platform platform) {
+    this.genericTool = Objects.requireNonNull(genericTool, "genericTool");
+    this.platformTools = Objects.requireNonNull(platformTools, "platformTools");
+    this.platform = Objects.requireNonNull(platform, "platform");
+    this.tool = Objects.requireNonNull(super.getTool(), "tool");
+  }
+
+  private CrossPlatformTool(
+      CrossPlatformTool original,
+      Tool genericTool,
+      ImmutableSortedMap<Platform, Tool> platformTools,
+      Platform platform) {
+    this.genericTool = genericTool;
+    this.platformTools = platformTools;
+    this.platform = platform;
+    this.tool = Objects.requireNonNull(super.getTool(), "tool");
+  }
+
+  /**
+   * @return The value of the {@code genericTool} attribute
+   */
+  @Override
+  public Tool getGenericTool() {
+    return genericTool;
+  }
+
+  /**
+   * @return The value of the {@code platformTools} attribute
+   */
+  @Override
+  public ImmutableSortedMap<Platform, Tool> getPlatformTools() {
+    return platformTools;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code tool} attribute
+   */
+  @Override
+  public Tool getTool() {
+    return tool;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CommandAlias.AbstractCrossPlatformTool#getGenericTool() genericTool} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for genericTool
+   * @return A modified copy of the {@code this} object
+   */
+  public final CrossPlatformTool withGenericTool(Tool value) {
+    if (this.genericTool == value) return this;
+    Tool newValue = Objects.requireNonNull(value, "genericTool");
+    return new CrossPlatformTool(this, newValue, this.platformTools, this.platform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CommandAlias.AbstractCrossPlatformTool#getPlatformTools() platformTools} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformTools
+   * @return A modified copy of the {@code this} object
+   */
+  public final CrossPlatformTool withPlatformTools(ImmutableSortedMap<Platform, Tool> value) {
+    if (this.platformTools == value) return this;
+    ImmutableSortedMap<Platform, Tool> newValue = Objects.requireNonNull(value, "platformTools");
+    return new CrossPlatformTool(this, this.genericTool, newValue, this.platform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link CommandAlias.AbstractCrossPlatformTool#getPlatform() platform} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final CrossPlatformTool withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Objects.requireNonNull(value, "platform");
+    return new CrossPlatformTool(this, this.genericTool, this.platformTools, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CrossPlatformTool} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CrossPlatformTool
+        && equalTo((CrossPlatformTool) another);
+  }
+
+  private boolean equalTo(CrossPlatformTool another) {
+    return genericTool.equals(another.genericTool)
+        && platformTools.equals(another.platformTools)
+        && platform.equals(another.platform)
+        && tool.equals(another.tool);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code genericTool}, {@code platformTools}, {@code platform}, {@code tool}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + genericTool.hashCode();
+    h += (h << 5) + platformTools.hashCode();
+    h += (h << 5) + platform.hashCode();
+    h += (h << 5) + tool.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CrossPlatformTool} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CrossPlatformTool")
+        .omitNullValues()
+        .add("genericTool", genericTool)
+        .add("platformTools", platformTools)
+        .add("platform", platform)
+        .add("tool", tool)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CrossPlatformTool} instance.
+   * @param genericTool The value for the {@code genericTool} attribute
+   * @param platformTools The value for the {@code platformTools} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @return An immutable CrossPlatformTool instance
+   */
+  public static CrossPlatformTool of(Tool genericTool, ImmutableSortedMap<Platform, Tool> platformTools, Platform platform) {
+    return new CrossPlatformTool(genericTool, platformTools, platform);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link CommandAlias.AbstractCrossPlatformTool} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CrossPlatformTool instance
+   */
+  static CrossPlatformTool copyOf(CommandAlias.AbstractCrossPlatformTool instance) {
+    if (instance instanceof CrossPlatformTool) {
+      return (CrossPlatformTool) instance;
+    }
+    return CrossPlatformTool.of(instance.getGenericTool(), instance.getPlatformTools(), instance.getPlatform());
+  }
+}
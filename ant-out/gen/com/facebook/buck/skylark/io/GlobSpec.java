@@ -0,0 +1,217 @@
+package com.facebook.buck.skylark.io;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Glob specification includes parameters that affect glob evaluation within a single package. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGlobSpec"})
+@Immutable
+@CheckReturnValue
+public final class GlobSpec extends AbstractGlobSpec {
+  private final Collection<String> include;
+  private final Collection<String> exclude;
+  private final boolean excludeDirectories;
+
+  private GlobSpec(GlobSpec.Builder builder) {
+    this.include = builder.include;
+    this.exclude = builder.exclude;
+    this.excludeDirectories = builder.excludeDirectories;
+  }
+
+  /**
+   *Wildcards of paths that should be returned. 
+   */
+  @Override
+  public Collection<String> getInclude() {
+    return include;
+  }
+
+  /**
+   *Wildcards of paths that should be skipped from the glob expansion. 
+   */
+  @Override
+  public Collection<String> getExclude() {
+    return exclude;
+  }
+
+  /**
+   *Whether directories should be excluded from the glob expansion. 
+   */
+  @Override
+  public boolean getExcludeDirectories() {
+    return excludeDirectories;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GlobSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GlobSpec
+        && equalTo((GlobSpec) another);
+  }
+
+  private boolean equalTo(GlobSpec another) {
+    return include.equals(another.include)
+        && exclude.equals(another.exclude)
+        && excludeDirectories == another.excludeDirectories;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code include}, {@code exclude}, {@code excludeDirectories}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + include.hashCode();
+    h += (h << 5) + exclude.hashCode();
+    h += (h << 5) + Booleans.hashCode(excludeDirectories);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GlobSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GlobSpec")
+        .omitNullValues()
+        .add("include", include)
+        .add("exclude", exclude)
+        .add("excludeDirectories", excludeDirectories)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link GlobSpec GlobSpec}.
+   * @return A new GlobSpec builder
+   */
+  public static GlobSpec.Builder builder() {
+    return new GlobSpec.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GlobSpec GlobSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE = 0x1L;
+    private static final long INIT_BIT_EXCLUDE = 0x2L;
+    private static final long INIT_BIT_EXCLUDE_DIRECTORIES = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable Collection<String> include;
+    private @Nullable Collection<String> exclude;
+    private boolean excludeDirectories;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GlobSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GlobSpec instance) {
+      return from((AbstractGlobSpec) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGlobSpec} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractGlobSpec instance) {
+      Objects.requireNonNull(instance, "instance");
+      setInclude(instance.getInclude());
+      setExclude(instance.getExclude());
+      setExcludeDirectories(instance.getExcludeDirectories());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractGlobSpec#getInclude() include} attribute.
+     * @param include The value for include 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setInclude(Collection<String> include) {
+      this.include = Objects.requireNonNull(include, "include");
+      initBits &= ~INIT_BIT_INCLUDE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractGlobSpec#getExclude() exclude} attribute.
+     * @param exclude The value for exclude 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExclude(Collection<String> exclude) {
+      this.exclude = Objects.requireNonNull(exclude, "exclude");
+      initBits &= ~INIT_BIT_EXCLUDE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractGlobSpec#getExcludeDirectories() excludeDirectories} attribute.
+     * @param excludeDirectories The value for excludeDirectories 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setExcludeDirectories(boolean excludeDirectories) {
+      this.excludeDirectories = excludeDirectories;
+      initBits &= ~INIT_BIT_EXCLUDE_DIRECTORIES;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link GlobSpec GlobSpec}.
+     * @return An immutable instance of GlobSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GlobSpec build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GlobSpec(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE) != 0) attributes.add("include");
+      if ((initBits & INIT_BIT_EXCLUDE) != 0) attributes.add("exclude");
+      if ((initBits & INIT_BIT_EXCLUDE_DIRECTORIES) != 0) attributes.add("excludeDirectories");
+      return "Cannot build GlobSpec, some of required attributes are not set " + attributes;
+    }
+  }
+}
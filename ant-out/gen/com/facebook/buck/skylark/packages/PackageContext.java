@@ -0,0 +1,207 @@
+package com.facebook.buck.skylark.packages;
+
+import com.facebook.buck.skylark.io.Globber;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.devtools.build.lib.cmdline.PackageIdentifier;
+import com.google.devtools.build.lib.events.EventHandler;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ *Exposes package information to Skylark functions. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPackageContext"})
+@Immutable
+@CheckReturnValue
+public final class PackageContext extends AbstractPackageContext {
+  private final Globber globber;
+  private final ImmutableMap<String, ImmutableMap<String, String>> rawConfig;
+  private final PackageIdentifier packageIdentifier;
+  private final EventHandler eventHandler;
+
+  private PackageContext(
+      Globber globber,
+      Map<String, ? extends ImmutableMap<String, String>> rawConfig,
+      PackageIdentifier packageIdentifier,
+      EventHandler eventHandler) {
+    this.globber = Objects.requireNonNull(globber, "globber");
+    this.rawConfig = ImmutableMap.copyOf(rawConfig);
+    this.packageIdentifier = Objects.requireNonNull(packageIdentifier, "packageIdentifier");
+    this.eventHandler = Objects.requireNonNull(eventHandler, "eventHandler");
+  }
+
+  private PackageContext(
+      PackageContext original,
+      Globber globber,
+      ImmutableMap<String, ImmutableMap<String, String>> rawConfig,
+      PackageIdentifier packageIdentifier,
+      EventHandler eventHandler) {
+    this.globber = globber;
+    this.rawConfig = rawConfig;
+    this.packageIdentifier = packageIdentifier;
+    this.eventHandler = eventHandler;
+  }
+
+  /**
+   *Returns a globber instance that can resolve paths relative to current package. 
+   */
+  @Override
+  public Globber getGlobber() {
+    return globber;
+  }
+
+  /**
+   * Returns a raw map of configuration options defined in {@code .buckconfig} file and passed
+   * through a {@code --config} command line option.
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, String>> getRawConfig() {
+    return rawConfig;
+  }
+
+  /**
+   *Returns a package identifier of the build file that is being parsed. 
+   */
+  @Override
+  public PackageIdentifier getPackageIdentifier() {
+    return packageIdentifier;
+  }
+
+  /**
+   *@return The event handler for reporting events during package parsing. 
+   */
+  @Override
+  public EventHandler getEventHandler() {
+    return eventHandler;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPackageContext#getGlobber() globber} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for globber
+   * @return A modified copy of the {@code this} object
+   */
+  public final PackageContext withGlobber(Globber value) {
+    if (this.globber == value) return this;
+    Globber newValue = Objects.requireNonNull(value, "globber");
+    return new PackageContext(this, newValue, this.rawConfig, this.packageIdentifier, this.eventHandler);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPackageContext#getRawConfig() rawConfig} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the rawConfig map
+   * @return A modified copy of {@code this} object
+   */
+  public final PackageContext withRawConfig(Map<String, ? extends ImmutableMap<String, String>> entries) {
+    if (this.rawConfig == entries) return this;
+    ImmutableMap<String, ImmutableMap<String, String>> newValue = ImmutableMap.copyOf(entries);
+    return new PackageContext(this, this.globber, newValue, this.packageIdentifier, this.eventHandler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPackageContext#getPackageIdentifier() packageIdentifier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packageIdentifier
+   * @return A modified copy of the {@code this} object
+   */
+  public final PackageContext withPackageIdentifier(PackageIdentifier value) {
+    if (this.packageIdentifier == value) return this;
+    PackageIdentifier newValue = Objects.requireNonNull(value, "packageIdentifier");
+    return new PackageContext(this, this.globber, this.rawConfig, newValue, this.eventHandler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPackageContext#getEventHandler() eventHandler} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eventHandler
+   * @return A modified copy of the {@code this} object
+   */
+  public final PackageContext withEventHandler(EventHandler value) {
+    if (this.eventHandler == value) return this;
+    EventHandler newValue = Objects.requireNonNull(value, "eventHandler");
+    return new PackageContext(this, this.globber, this.rawConfig, this.packageIdentifier, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PackageContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PackageContext
+        && equalTo((PackageContext) another);
+  }
+
+  private boolean equalTo(PackageContext another) {
+    return globber.equals(another.globber)
+        && rawConfig.equals(another.rawConfig)
+        && packageIdentifier.equals(another.packageIdentifier)
+        && eventHandler.equals(another.eventHandler);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code globber}, {@code rawConfig}, {@code packageIdentifier}, {@code eventHandler}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + globber.hashCode();
+    h += (h << 5) + rawConfig.hashCode();
+    h += (h << 5) + packageIdentifier.hashCode();
+    h += (h << 5) + eventHandler.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PackageContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PackageContext")
+        .omitNullValues()
+        .add("globber", globber)
+        .add("rawConfig", rawConfig)
+        .add("packageIdentifier", packageIdentifier)
+        .add("eventHandler", eventHandler)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PackageContext} instance.
+   * @param globber The value for the {@code globber} attribute
+   * @param rawConfig The value for the {@code rawConfig} attribute
+   * @param packageIdentifier The value for the {@code packageIdentifier} attribute
+   * @param eventHandler The value for the {@code eventHandler} attribute
+   * @return An immutable PackageContext instance
+   */
+  public static PackageContext of(Globber globber, Map<String, ? extends ImmutableMap<String, String>> rawConfig, PackageIdentifier packageIdentifier, EventHandler eventHandler) {
+    return new PackageContext(globber, rawConfig, packageIdentifier, eventHandler);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPackageContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PackageContext instance
+   */
+  static PackageContext copyOf(AbstractPackageContext instance) {
+    if (instance instanceof PackageContext) {
+      return (PackageContext) instance;
+    }
+    return PackageContext.of(instance.getGlobber(), instance.getRawConfig(), instance.getPackageIdentifier(), instance.getEventHandler());
+  }
+}
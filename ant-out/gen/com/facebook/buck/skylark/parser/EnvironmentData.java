@@ -0,0 +1,165 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.devtools.build.lib.syntax.Environment;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Captures {@link Environment} and information related to its parsing like all {@link
+ * com.google.devtools.build.lib.vfs.Path} used in order to create this environment.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractEnvironmentData"})
+@Immutable
+@CheckReturnValue
+public final class EnvironmentData extends AbstractEnvironmentData {
+  private final Environment environment;
+  private final ImmutableList<String> loadedPaths;
+
+  private EnvironmentData(
+      Environment environment,
+      Iterable<String> loadedPaths) {
+    this.environment = Objects.requireNonNull(environment, "environment");
+    this.loadedPaths = ImmutableList.copyOf(loadedPaths);
+  }
+
+  private EnvironmentData(
+      EnvironmentData original,
+      Environment environment,
+      ImmutableList<String> loadedPaths) {
+    this.environment = environment;
+    this.loadedPaths = loadedPaths;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public Environment getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code loadedPaths} attribute
+   */
+  @Override
+  public ImmutableList<String> getLoadedPaths() {
+    return loadedPaths;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractEnvironmentData#getEnvironment() environment} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for environment
+   * @return A modified copy of the {@code this} object
+   */
+  public final EnvironmentData withEnvironment(Environment value) {
+    if (this.environment == value) return this;
+    Environment newValue = Objects.requireNonNull(value, "environment");
+    return new EnvironmentData(this, newValue, this.loadedPaths);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractEnvironmentData#getLoadedPaths() loadedPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final EnvironmentData withLoadedPaths(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new EnvironmentData(this, this.environment, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractEnvironmentData#getLoadedPaths() loadedPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of loadedPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final EnvironmentData withLoadedPaths(Iterable<String> elements) {
+    if (this.loadedPaths == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new EnvironmentData(this, this.environment, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code EnvironmentData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof EnvironmentData
+        && equalTo((EnvironmentData) another);
+  }
+
+  private boolean equalTo(EnvironmentData another) {
+    return environment.equals(another.environment)
+        && loadedPaths.equals(another.loadedPaths);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code environment}, {@code loadedPaths}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + environment.hashCode();
+    h += (h << 5) + loadedPaths.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EnvironmentData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EnvironmentData")
+        .omitNullValues()
+        .add("environment", environment)
+        .add("loadedPaths", loadedPaths)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EnvironmentData} instance.
+   * @param environment The value for the {@code environment} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @return An immutable EnvironmentData instance
+   */
+  public static EnvironmentData of(Environment environment, ImmutableList<String> loadedPaths) {
+    return of(environment, (Iterable<String>) loadedPaths);
+  }
+
+  /**
+   * Construct a new immutable {@code EnvironmentData} instance.
+   * @param environment The value for the {@code environment} attribute
+   * @param loadedPaths The value for the {@code loadedPaths} attribute
+   * @return An immutable EnvironmentData instance
+   */
+  public static EnvironmentData of(Environment environment, Iterable<String> loadedPaths) {
+    return new EnvironmentData(environment, loadedPaths);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractEnvironmentData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable EnvironmentData instance
+   */
+  static EnvironmentData copyOf(AbstractEnvironmentData instance) {
+    if (instance instanceof EnvironmentData) {
+      return (EnvironmentData) instance;
+    }
+    return EnvironmentData.of(instance.getEnvironment(), instance.getLoadedPaths());
+  }
+}
@@ -0,0 +1,274 @@
+package com.facebook.buck.skylark.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.devtools.build.lib.syntax.Environment;
+import com.google.devtools.build.lib.vfs.Path;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Captures {@link Extension} and information related to its parsing like all other extensions used
+ * in order to load it. The main purpose of extra information is to properly captured all dependent
+ * information for caching purposes.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExtensionData"})
+@Immutable
+@CheckReturnValue
+public final class ExtensionData extends AbstractExtensionData {
+  private final Environment.Extension extension;
+  private final Path path;
+  private final ImmutableList<ExtensionData> dependencies;
+  private final String importString;
+  private final ImmutableList<String> loadTransitiveClosure;
+
+  private ExtensionData(
+      Environment.Extension extension,
+      Path path,
+      Iterable<? extends ExtensionData> dependencies,
+      String importString,
+      Iterable<String> loadTransitiveClosure) {
+    this.extension = Objects.requireNonNull(extension, "extension");
+    this.path = Objects.requireNonNull(path, "path");
+    this.dependencies = ImmutableList.copyOf(dependencies);
+    this.importString = Objects.requireNonNull(importString, "importString");
+    this.loadTransitiveClosure = ImmutableList.copyOf(loadTransitiveClosure);
+  }
+
+  private ExtensionData(
+      ExtensionData original,
+      Environment.Extension extension,
+      Path path,
+      ImmutableList<ExtensionData> dependencies,
+      String importString,
+      ImmutableList<String> loadTransitiveClosure) {
+    this.extension = extension;
+    this.path = path;
+    this.dependencies = dependencies;
+    this.importString = importString;
+    this.loadTransitiveClosure = loadTransitiveClosure;
+  }
+
+  /**
+   *@return an extension with its bindings 
+   */
+  @Override
+  public Environment.Extension getExtension() {
+    return extension;
+  }
+
+  /**
+   *@return a path from which the extension was loaded from 
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   *@return a list of dependencies that were required to evaluate this extension 
+   */
+  @Override
+  public ImmutableList<ExtensionData> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   *@return a load function label that triggered load of this extension 
+   */
+  @Override
+  public String getImportString() {
+    return importString;
+  }
+
+  /**
+   * @return the list of files loaded in order to parse this extension including the path of this
+   *     extension, which is the first element of the list.
+   */
+  @Override
+  public ImmutableList<String> getLoadTransitiveClosure() {
+    return loadTransitiveClosure;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExtensionData#getExtension() extension} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for extension
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExtensionData withExtension(Environment.Extension value) {
+    if (this.extension == value) return this;
+    Environment.Extension newValue = Objects.requireNonNull(value, "extension");
+    return new ExtensionData(this, newValue, this.path, this.dependencies, this.importString, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExtensionData#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExtensionData withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Objects.requireNonNull(value, "path");
+    return new ExtensionData(
+        this,
+        this.extension,
+        newValue,
+        this.dependencies,
+        this.importString,
+        this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExtensionData#getDependencies() dependencies}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExtensionData withDependencies(ExtensionData... elements) {
+    ImmutableList<ExtensionData> newValue = ImmutableList.copyOf(elements);
+    return new ExtensionData(this, this.extension, this.path, newValue, this.importString, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExtensionData#getDependencies() dependencies}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of dependencies elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExtensionData withDependencies(Iterable<? extends ExtensionData> elements) {
+    if (this.dependencies == elements) return this;
+    ImmutableList<ExtensionData> newValue = ImmutableList.copyOf(elements);
+    return new ExtensionData(this, this.extension, this.path, newValue, this.importString, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExtensionData#getImportString() importString} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for importString
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExtensionData withImportString(String value) {
+    if (this.importString.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "importString");
+    return new ExtensionData(this, this.extension, this.path, this.dependencies, newValue, this.loadTransitiveClosure);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExtensionData#getLoadTransitiveClosure() loadTransitiveClosure}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExtensionData withLoadTransitiveClosure(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExtensionData(this, this.extension, this.path, this.dependencies, this.importString, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExtensionData#getLoadTransitiveClosure() loadTransitiveClosure}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of loadTransitiveClosure elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExtensionData withLoadTransitiveClosure(Iterable<String> elements) {
+    if (this.loadTransitiveClosure == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExtensionData(this, this.extension, this.path, this.dependencies, this.importString, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExtensionData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExtensionData
+        && equalTo((ExtensionData) another);
+  }
+
+  private boolean equalTo(ExtensionData another) {
+    return extension.equals(another.extension)
+        && path.equals(another.path)
+        && dependencies.equals(another.dependencies)
+        && importString.equals(another.importString)
+        && loadTransitiveClosure.equals(another.loadTransitiveClosure);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code extension}, {@code path}, {@code dependencies}, {@code importString}, {@code loadTransitiveClosure}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + extension.hashCode();
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + dependencies.hashCode();
+    h += (h << 5) + importString.hashCode();
+    h += (h << 5) + loadTransitiveClosure.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExtensionData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExtensionData")
+        .omitNullValues()
+        .add("extension", extension)
+        .add("path", path)
+        .add("dependencies", dependencies)
+        .add("importString", importString)
+        .add("loadTransitiveClosure", loadTransitiveClosure)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExtensionData} instance.
+   * @param extension The value for the {@code extension} attribute
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param importString The value for the {@code importString} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable ExtensionData instance
+   */
+  public static ExtensionData of(Environment.Extension extension, Path path, ImmutableList<ExtensionData> dependencies, String importString, ImmutableList<String> loadTransitiveClosure) {
+    return of(extension, path, (Iterable<? extends ExtensionData>) dependencies, importString, (Iterable<String>) loadTransitiveClosure);
+  }
+
+  /**
+   * Construct a new immutable {@code ExtensionData} instance.
+   * @param extension The value for the {@code extension} attribute
+   * @param path The value for the {@code path} attribute
+   * @param dependencies The value for the {@code dependencies} attribute
+   * @param importString The value for the {@code importString} attribute
+   * @param loadTransitiveClosure The value for the {@code loadTransitiveClosure} attribute
+   * @return An immutable ExtensionData instance
+   */
+  public static ExtensionData of(Environment.Extension extension, Path path, Iterable<? extends ExtensionData> dependencies, String importString, Iterable<String> loadTransitiveClosure) {
+    return new ExtensionData(extension, path, dependencies, importString, loadTransitiveClosure);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExtensionData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExtensionData instance
+   */
+  static ExtensionData copyOf(AbstractExtensionData instance) {
+    if (instance instanceof ExtensionData) {
+      return (ExtensionData) instance;
+    }
+    return ExtensionData.of(instance.getExtension(), instance.getPath(), instance.getDependencies(), instance.getImportString(), instance.getLoadTransitiveClosure());
+  }
+}
@@ -0,0 +1,758 @@
+package com.facebook.buck.slb;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.util.timing.Clock;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Floats;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractClientSideSlbConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ClientSideSlbConfig.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractClientSideSlbConfig"})
+@Immutable
+@CheckReturnValue
+public final class ClientSideSlbConfig extends AbstractClientSideSlbConfig {
+  private final Clock clock;
+  private final ImmutableList<URI> serverPool;
+  private final BuckEventBus eventBus;
+  private final String serverPoolName;
+  private final int errorCheckTimeRangeMillis;
+  private final int latencyCheckTimeRangeMillis;
+  private final int maxAcceptableLatencyMillis;
+  private final int connectionTimeoutMillis;
+  private final int healthCheckIntervalMillis;
+  private final String pingEndpoint;
+  private final float maxErrorPercentage;
+  private final int minSamplesToReportError;
+
+  private ClientSideSlbConfig(ClientSideSlbConfig.Builder builder) {
+    this.clock = builder.clock;
+    this.serverPool = builder.serverPool.build();
+    this.eventBus = builder.eventBus;
+    this.serverPoolName = builder.serverPoolName;
+    if (builder.errorCheckTimeRangeMillisIsSet()) {
+      initShim.setErrorCheckTimeRangeMillis(builder.errorCheckTimeRangeMillis);
+    }
+    if (builder.latencyCheckTimeRangeMillisIsSet()) {
+      initShim.setLatencyCheckTimeRangeMillis(builder.latencyCheckTimeRangeMillis);
+    }
+    if (builder.maxAcceptableLatencyMillisIsSet()) {
+      initShim.setMaxAcceptableLatencyMillis(builder.maxAcceptableLatencyMillis);
+    }
+    if (builder.connectionTimeoutMillisIsSet()) {
+      initShim.setConnectionTimeoutMillis(builder.connectionTimeoutMillis);
+    }
+    if (builder.healthCheckIntervalMillisIsSet()) {
+      initShim.setHealthCheckIntervalMillis(builder.healthCheckIntervalMillis);
+    }
+    if (builder.pingEndpoint != null) {
+      initShim.setPingEndpoint(builder.pingEndpoint);
+    }
+    if (builder.maxErrorPercentageIsSet()) {
+      initShim.setMaxErrorPercentage(builder.maxErrorPercentage);
+    }
+    if (builder.minSamplesToReportErrorIsSet()) {
+      initShim.setMinSamplesToReportError(builder.minSamplesToReportError);
+    }
+    this.errorCheckTimeRangeMillis = initShim.getErrorCheckTimeRangeMillis();
+    this.latencyCheckTimeRangeMillis = initShim.getLatencyCheckTimeRangeMillis();
+    this.maxAcceptableLatencyMillis = initShim.getMaxAcceptableLatencyMillis();
+    this.connectionTimeoutMillis = initShim.getConnectionTimeoutMillis();
+    this.healthCheckIntervalMillis = initShim.getHealthCheckIntervalMillis();
+    this.pingEndpoint = initShim.getPingEndpoint();
+    this.maxErrorPercentage = initShim.getMaxErrorPercentage();
+    this.minSamplesToReportError = initShim.getMinSamplesToReportError();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private int errorCheckTimeRangeMillis;
+    private int errorCheckTimeRangeMillisBuildStage;
+
+    int getErrorCheckTimeRangeMillis() {
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_UNINITIALIZED) {
+        errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZING;
+        this.errorCheckTimeRangeMillis = ClientSideSlbConfig.super.getErrorCheckTimeRangeMillis();
+        errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.errorCheckTimeRangeMillis;
+    }
+
+    void setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      errorCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int latencyCheckTimeRangeMillis;
+    private int latencyCheckTimeRangeMillisBuildStage;
+
+    int getLatencyCheckTimeRangeMillis() {
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_UNINITIALIZED) {
+        latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZING;
+        this.latencyCheckTimeRangeMillis = ClientSideSlbConfig.super.getLatencyCheckTimeRangeMillis();
+        latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.latencyCheckTimeRangeMillis;
+    }
+
+    void setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      latencyCheckTimeRangeMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int maxAcceptableLatencyMillis;
+    private int maxAcceptableLatencyMillisBuildStage;
+
+    int getMaxAcceptableLatencyMillis() {
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_UNINITIALIZED) {
+        maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZING;
+        this.maxAcceptableLatencyMillis = ClientSideSlbConfig.super.getMaxAcceptableLatencyMillis();
+        maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxAcceptableLatencyMillis;
+    }
+
+    void setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      maxAcceptableLatencyMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int connectionTimeoutMillis;
+    private int connectionTimeoutMillisBuildStage;
+
+    int getConnectionTimeoutMillis() {
+      if (connectionTimeoutMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (connectionTimeoutMillisBuildStage == STAGE_UNINITIALIZED) {
+        connectionTimeoutMillisBuildStage = STAGE_INITIALIZING;
+        this.connectionTimeoutMillis = ClientSideSlbConfig.super.getConnectionTimeoutMillis();
+        connectionTimeoutMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.connectionTimeoutMillis;
+    }
+
+    void setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      connectionTimeoutMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private int healthCheckIntervalMillis;
+    private int healthCheckIntervalMillisBuildStage;
+
+    int getHealthCheckIntervalMillis() {
+      if (healthCheckIntervalMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (healthCheckIntervalMillisBuildStage == STAGE_UNINITIALIZED) {
+        healthCheckIntervalMillisBuildStage = STAGE_INITIALIZING;
+        this.healthCheckIntervalMillis = ClientSideSlbConfig.super.getHealthCheckIntervalMillis();
+        healthCheckIntervalMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.healthCheckIntervalMillis;
+    }
+
+    void setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      healthCheckIntervalMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private String pingEndpoint;
+    private int pingEndpointBuildStage;
+
+    String getPingEndpoint() {
+      if (pingEndpointBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (pingEndpointBuildStage == STAGE_UNINITIALIZED) {
+        pingEndpointBuildStage = STAGE_INITIALIZING;
+        this.pingEndpoint = Objects.requireNonNull(ClientSideSlbConfig.super.getPingEndpoint(), "pingEndpoint");
+        pingEndpointBuildStage = STAGE_INITIALIZED;
+      }
+      return this.pingEndpoint;
+    }
+
+    void setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = pingEndpoint;
+      pingEndpointBuildStage = STAGE_INITIALIZED;
+    }
+    private float maxErrorPercentage;
+    private int maxErrorPercentageBuildStage;
+
+    float getMaxErrorPercentage() {
+      if (maxErrorPercentageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxErrorPercentageBuildStage == STAGE_UNINITIALIZED) {
+        maxErrorPercentageBuildStage = STAGE_INITIALIZING;
+        this.maxErrorPercentage = ClientSideSlbConfig.super.getMaxErrorPercentage();
+        maxErrorPercentageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxErrorPercentage;
+    }
+
+    void setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      maxErrorPercentageBuildStage = STAGE_INITIALIZED;
+    }
+    private int minSamplesToReportError;
+    private int minSamplesToReportErrorBuildStage;
+
+    int getMinSamplesToReportError() {
+      if (minSamplesToReportErrorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (minSamplesToReportErrorBuildStage == STAGE_UNINITIALIZED) {
+        minSamplesToReportErrorBuildStage = STAGE_INITIALIZING;
+        this.minSamplesToReportError = ClientSideSlbConfig.super.getMinSamplesToReportError();
+        minSamplesToReportErrorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.minSamplesToReportError;
+    }
+
+    void setMinSamplesToReportError(int minSamplesToReportError) {
+      this.minSamplesToReportError = minSamplesToReportError;
+      minSamplesToReportErrorBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (errorCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) attributes.add("errorCheckTimeRangeMillis");
+      if (latencyCheckTimeRangeMillisBuildStage == STAGE_INITIALIZING) attributes.add("latencyCheckTimeRangeMillis");
+      if (maxAcceptableLatencyMillisBuildStage == STAGE_INITIALIZING) attributes.add("maxAcceptableLatencyMillis");
+      if (connectionTimeoutMillisBuildStage == STAGE_INITIALIZING) attributes.add("connectionTimeoutMillis");
+      if (healthCheckIntervalMillisBuildStage == STAGE_INITIALIZING) attributes.add("healthCheckIntervalMillis");
+      if (pingEndpointBuildStage == STAGE_INITIALIZING) attributes.add("pingEndpoint");
+      if (maxErrorPercentageBuildStage == STAGE_INITIALIZING) attributes.add("maxErrorPercentage");
+      if (minSamplesToReportErrorBuildStage == STAGE_INITIALIZING) attributes.add("minSamplesToReportError");
+      return "Cannot build ClientSideSlbConfig, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code serverPool} attribute
+   */
+  @Override
+  public ImmutableList<URI> getServerPool() {
+    return serverPool;
+  }
+
+  /**
+   * @return The value of the {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return The value of the {@code serverPoolName} attribute
+   */
+  @Override
+  public String getServerPoolName() {
+    return serverPoolName;
+  }
+
+  /**
+   * @return The value of the {@code errorCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getErrorCheckTimeRangeMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getErrorCheckTimeRangeMillis()
+        : this.errorCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return The value of the {@code latencyCheckTimeRangeMillis} attribute
+   */
+  @Override
+  public int getLatencyCheckTimeRangeMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLatencyCheckTimeRangeMillis()
+        : this.latencyCheckTimeRangeMillis;
+  }
+
+  /**
+   * @return The value of the {@code maxAcceptableLatencyMillis} attribute
+   */
+  @Override
+  public int getMaxAcceptableLatencyMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxAcceptableLatencyMillis()
+        : this.maxAcceptableLatencyMillis;
+  }
+
+  /**
+   * @return The value of the {@code connectionTimeoutMillis} attribute
+   */
+  @Override
+  public int getConnectionTimeoutMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConnectionTimeoutMillis()
+        : this.connectionTimeoutMillis;
+  }
+
+  /**
+   * @return The value of the {@code healthCheckIntervalMillis} attribute
+   */
+  @Override
+  public int getHealthCheckIntervalMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHealthCheckIntervalMillis()
+        : this.healthCheckIntervalMillis;
+  }
+
+  /**
+   * @return The value of the {@code pingEndpoint} attribute
+   */
+  @Override
+  public String getPingEndpoint() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPingEndpoint()
+        : this.pingEndpoint;
+  }
+
+  /**
+   * @return The value of the {@code maxErrorPercentage} attribute
+   */
+  @Override
+  public float getMaxErrorPercentage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxErrorPercentage()
+        : this.maxErrorPercentage;
+  }
+
+  /**
+   * @return The value of the {@code minSamplesToReportError} attribute
+   */
+  @Override
+  public int getMinSamplesToReportError() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMinSamplesToReportError()
+        : this.minSamplesToReportError;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ClientSideSlbConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ClientSideSlbConfig
+        && equalTo((ClientSideSlbConfig) another);
+  }
+
+  private boolean equalTo(ClientSideSlbConfig another) {
+    return clock.equals(another.clock)
+        && serverPool.equals(another.serverPool)
+        && eventBus.equals(another.eventBus)
+        && serverPoolName.equals(another.serverPoolName)
+        && errorCheckTimeRangeMillis == another.errorCheckTimeRangeMillis
+        && latencyCheckTimeRangeMillis == another.latencyCheckTimeRangeMillis
+        && maxAcceptableLatencyMillis == another.maxAcceptableLatencyMillis
+        && connectionTimeoutMillis == another.connectionTimeoutMillis
+        && healthCheckIntervalMillis == another.healthCheckIntervalMillis
+        && pingEndpoint.equals(another.pingEndpoint)
+        && Float.floatToIntBits(maxErrorPercentage) == Float.floatToIntBits(another.maxErrorPercentage)
+        && minSamplesToReportError == another.minSamplesToReportError;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code clock}, {@code serverPool}, {@code eventBus}, {@code serverPoolName}, {@code errorCheckTimeRangeMillis}, {@code latencyCheckTimeRangeMillis}, {@code maxAcceptableLatencyMillis}, {@code connectionTimeoutMillis}, {@code healthCheckIntervalMillis}, {@code pingEndpoint}, {@code maxErrorPercentage}, {@code minSamplesToReportError}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + clock.hashCode();
+    h += (h << 5) + serverPool.hashCode();
+    h += (h << 5) + eventBus.hashCode();
+    h += (h << 5) + serverPoolName.hashCode();
+    h += (h << 5) + errorCheckTimeRangeMillis;
+    h += (h << 5) + latencyCheckTimeRangeMillis;
+    h += (h << 5) + maxAcceptableLatencyMillis;
+    h += (h << 5) + connectionTimeoutMillis;
+    h += (h << 5) + healthCheckIntervalMillis;
+    h += (h << 5) + pingEndpoint.hashCode();
+    h += (h << 5) + Floats.hashCode(maxErrorPercentage);
+    h += (h << 5) + minSamplesToReportError;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ClientSideSlbConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ClientSideSlbConfig")
+        .omitNullValues()
+        .add("clock", clock)
+        .add("serverPool", serverPool)
+        .add("eventBus", eventBus)
+        .add("serverPoolName", serverPoolName)
+        .add("errorCheckTimeRangeMillis", errorCheckTimeRangeMillis)
+        .add("latencyCheckTimeRangeMillis", latencyCheckTimeRangeMillis)
+        .add("maxAcceptableLatencyMillis", maxAcceptableLatencyMillis)
+        .add("connectionTimeoutMillis", connectionTimeoutMillis)
+        .add("healthCheckIntervalMillis", healthCheckIntervalMillis)
+        .add("pingEndpoint", pingEndpoint)
+        .add("maxErrorPercentage", maxErrorPercentage)
+        .add("minSamplesToReportError", minSamplesToReportError)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link ClientSideSlbConfig ClientSideSlbConfig}.
+   * @return A new ClientSideSlbConfig builder
+   */
+  public static ClientSideSlbConfig.Builder builder() {
+    return new ClientSideSlbConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ClientSideSlbConfig ClientSideSlbConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CLOCK = 0x1L;
+    private static final long INIT_BIT_EVENT_BUS = 0x2L;
+    private static final long INIT_BIT_SERVER_POOL_NAME = 0x4L;
+    private static final long OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS = 0x1L;
+    private static final long OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS = 0x2L;
+    private static final long OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS = 0x4L;
+    private static final long OPT_BIT_CONNECTION_TIMEOUT_MILLIS = 0x8L;
+    private static final long OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS = 0x10L;
+    private static final long OPT_BIT_MAX_ERROR_PERCENTAGE = 0x20L;
+    private static final long OPT_BIT_MIN_SAMPLES_TO_REPORT_ERROR = 0x40L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable Clock clock;
+    private ImmutableList.Builder<URI> serverPool = ImmutableList.builder();
+    private @Nullable BuckEventBus eventBus;
+    private @Nullable String serverPoolName;
+    private int errorCheckTimeRangeMillis;
+    private int latencyCheckTimeRangeMillis;
+    private int maxAcceptableLatencyMillis;
+    private int connectionTimeoutMillis;
+    private int healthCheckIntervalMillis;
+    private @Nullable String pingEndpoint;
+    private float maxErrorPercentage;
+    private int minSamplesToReportError;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ClientSideSlbConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ClientSideSlbConfig instance) {
+      return from((AbstractClientSideSlbConfig) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractClientSideSlbConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractClientSideSlbConfig instance) {
+      Objects.requireNonNull(instance, "instance");
+      setClock(instance.getClock());
+      addAllServerPool(instance.getServerPool());
+      setEventBus(instance.getEventBus());
+      setServerPoolName(instance.getServerPoolName());
+      setErrorCheckTimeRangeMillis(instance.getErrorCheckTimeRangeMillis());
+      setLatencyCheckTimeRangeMillis(instance.getLatencyCheckTimeRangeMillis());
+      setMaxAcceptableLatencyMillis(instance.getMaxAcceptableLatencyMillis());
+      setConnectionTimeoutMillis(instance.getConnectionTimeoutMillis());
+      setHealthCheckIntervalMillis(instance.getHealthCheckIntervalMillis());
+      setPingEndpoint(instance.getPingEndpoint());
+      setMaxErrorPercentage(instance.getMaxErrorPercentage());
+      setMinSamplesToReportError(instance.getMinSamplesToReportError());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setClock(Clock clock) {
+      this.clock = Objects.requireNonNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+
+    /**
+     * Adds one element to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param element A serverPool element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addServerPool(URI element) {
+      this.serverPool.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An array of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addServerPool(URI... elements) {
+      this.serverPool.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An iterable of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServerPool(Iterable<? extends URI> elements) {
+      this.serverPool = ImmutableList.builder();
+      return addAllServerPool(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractClientSideSlbConfig#getServerPool() serverPool} list.
+     * @param elements An iterable of serverPool elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllServerPool(Iterable<? extends URI> elements) {
+      this.serverPool.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getEventBus() eventBus} attribute.
+     * @param eventBus The value for eventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+      initBits &= ~INIT_BIT_EVENT_BUS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getServerPoolName() serverPoolName} attribute.
+     * @param serverPoolName The value for serverPoolName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServerPoolName(String serverPoolName) {
+      this.serverPoolName = Objects.requireNonNull(serverPoolName, "serverPoolName");
+      initBits &= ~INIT_BIT_SERVER_POOL_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getErrorCheckTimeRangeMillis() errorCheckTimeRangeMillis}.</em>
+     * @param errorCheckTimeRangeMillis The value for errorCheckTimeRangeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setErrorCheckTimeRangeMillis(int errorCheckTimeRangeMillis) {
+      this.errorCheckTimeRangeMillis = errorCheckTimeRangeMillis;
+      optBits |= OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getLatencyCheckTimeRangeMillis() latencyCheckTimeRangeMillis}.</em>
+     * @param latencyCheckTimeRangeMillis The value for latencyCheckTimeRangeMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setLatencyCheckTimeRangeMillis(int latencyCheckTimeRangeMillis) {
+      this.latencyCheckTimeRangeMillis = latencyCheckTimeRangeMillis;
+      optBits |= OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getMaxAcceptableLatencyMillis() maxAcceptableLatencyMillis}.</em>
+     * @param maxAcceptableLatencyMillis The value for maxAcceptableLatencyMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxAcceptableLatencyMillis(int maxAcceptableLatencyMillis) {
+      this.maxAcceptableLatencyMillis = maxAcceptableLatencyMillis;
+      optBits |= OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getConnectionTimeoutMillis() connectionTimeoutMillis}.</em>
+     * @param connectionTimeoutMillis The value for connectionTimeoutMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setConnectionTimeoutMillis(int connectionTimeoutMillis) {
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+      optBits |= OPT_BIT_CONNECTION_TIMEOUT_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getHealthCheckIntervalMillis() healthCheckIntervalMillis}.</em>
+     * @param healthCheckIntervalMillis The value for healthCheckIntervalMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setHealthCheckIntervalMillis(int healthCheckIntervalMillis) {
+      this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+      optBits |= OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getPingEndpoint() pingEndpoint}.</em>
+     * @param pingEndpoint The value for pingEndpoint 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPingEndpoint(String pingEndpoint) {
+      this.pingEndpoint = Objects.requireNonNull(pingEndpoint, "pingEndpoint");
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getMaxErrorPercentage() maxErrorPercentage}.</em>
+     * @param maxErrorPercentage The value for maxErrorPercentage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxErrorPercentage(float maxErrorPercentage) {
+      this.maxErrorPercentage = maxErrorPercentage;
+      optBits |= OPT_BIT_MAX_ERROR_PERCENTAGE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractClientSideSlbConfig#getMinSamplesToReportError() minSamplesToReportError} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractClientSideSlbConfig#getMinSamplesToReportError() minSamplesToReportError}.</em>
+     * @param minSamplesToReportError The value for minSamplesToReportError 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinSamplesToReportError(int minSamplesToReportError) {
+      this.minSamplesToReportError = minSamplesToReportError;
+      optBits |= OPT_BIT_MIN_SAMPLES_TO_REPORT_ERROR;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ClientSideSlbConfig ClientSideSlbConfig}.
+     * @return An immutable instance of ClientSideSlbConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ClientSideSlbConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ClientSideSlbConfig(this);
+    }
+
+    private boolean errorCheckTimeRangeMillisIsSet() {
+      return (optBits & OPT_BIT_ERROR_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean latencyCheckTimeRangeMillisIsSet() {
+      return (optBits & OPT_BIT_LATENCY_CHECK_TIME_RANGE_MILLIS) != 0;
+    }
+
+    private boolean maxAcceptableLatencyMillisIsSet() {
+      return (optBits & OPT_BIT_MAX_ACCEPTABLE_LATENCY_MILLIS) != 0;
+    }
+
+    private boolean connectionTimeoutMillisIsSet() {
+      return (optBits & OPT_BIT_CONNECTION_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean healthCheckIntervalMillisIsSet() {
+      return (optBits & OPT_BIT_HEALTH_CHECK_INTERVAL_MILLIS) != 0;
+    }
+
+    private boolean maxErrorPercentageIsSet() {
+      return (optBits & OPT_BIT_MAX_ERROR_PERCENTAGE) != 0;
+    }
+
+    private boolean minSamplesToReportErrorIsSet() {
+      return (optBits & OPT_BIT_MIN_SAMPLES_TO_REPORT_ERROR) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_EVENT_BUS) != 0) attributes.add("eventBus");
+      if ((initBits & INIT_BIT_SERVER_POOL_NAME) != 0) attributes.add("serverPoolName");
+      return "Cannot build ClientSideSlbConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
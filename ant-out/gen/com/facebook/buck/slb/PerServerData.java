@@ -0,0 +1,292 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ServerHealthManagerEvent.AbstractPerServerData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerServerData.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ServerHealthManagerEvent.AbstractPerServerData"})
+@Immutable
+@CheckReturnValue
+public final class PerServerData extends ServerHealthManagerEvent.AbstractPerServerData {
+  private final URI server;
+  private final boolean serverUnhealthy;
+  private final boolean bestServer;
+
+  private PerServerData(PerServerData.Builder builder) {
+    this.server = builder.server;
+    if (builder.serverUnhealthyIsSet()) {
+      initShim.setServerUnhealthy(builder.serverUnhealthy);
+    }
+    if (builder.bestServerIsSet()) {
+      initShim.setBestServer(builder.bestServer);
+    }
+    this.serverUnhealthy = initShim.isServerUnhealthy();
+    this.bestServer = initShim.isBestServer();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean serverUnhealthy;
+    private int serverUnhealthyBuildStage;
+
+    boolean isServerUnhealthy() {
+      if (serverUnhealthyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (serverUnhealthyBuildStage == STAGE_UNINITIALIZED) {
+        serverUnhealthyBuildStage = STAGE_INITIALIZING;
+        this.serverUnhealthy = PerServerData.super.isServerUnhealthy();
+        serverUnhealthyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.serverUnhealthy;
+    }
+
+    void setServerUnhealthy(boolean serverUnhealthy) {
+      this.serverUnhealthy = serverUnhealthy;
+      serverUnhealthyBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean bestServer;
+    private int bestServerBuildStage;
+
+    boolean isBestServer() {
+      if (bestServerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (bestServerBuildStage == STAGE_UNINITIALIZED) {
+        bestServerBuildStage = STAGE_INITIALIZING;
+        this.bestServer = PerServerData.super.isBestServer();
+        bestServerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.bestServer;
+    }
+
+    void setBestServer(boolean bestServer) {
+      this.bestServer = bestServer;
+      bestServerBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (serverUnhealthyBuildStage == STAGE_INITIALIZING) attributes.add("serverUnhealthy");
+      if (bestServerBuildStage == STAGE_INITIALIZING) attributes.add("bestServer");
+      return "Cannot build PerServerData, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return The value of the {@code serverUnhealthy} attribute
+   */
+  @Override
+  public boolean isServerUnhealthy() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isServerUnhealthy()
+        : this.serverUnhealthy;
+  }
+
+  /**
+   * @return The value of the {@code bestServer} attribute
+   */
+  @Override
+  public boolean isBestServer() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isBestServer()
+        : this.bestServer;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerServerData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerServerData
+        && equalTo((PerServerData) another);
+  }
+
+  private boolean equalTo(PerServerData another) {
+    return server.equals(another.server)
+        && serverUnhealthy == another.serverUnhealthy
+        && bestServer == another.bestServer;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code server}, {@code serverUnhealthy}, {@code bestServer}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + server.hashCode();
+    h += (h << 5) + Booleans.hashCode(serverUnhealthy);
+    h += (h << 5) + Booleans.hashCode(bestServer);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerServerData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerServerData")
+        .omitNullValues()
+        .add("server", server)
+        .add("serverUnhealthy", serverUnhealthy)
+        .add("bestServer", bestServer)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PerServerData PerServerData}.
+   * @return A new PerServerData builder
+   */
+  public static PerServerData.Builder builder() {
+    return new PerServerData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerServerData PerServerData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVER = 0x1L;
+    private static final long OPT_BIT_SERVER_UNHEALTHY = 0x1L;
+    private static final long OPT_BIT_BEST_SERVER = 0x2L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable URI server;
+    private boolean serverUnhealthy;
+    private boolean bestServer;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerServerData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerServerData instance) {
+      return from((ServerHealthManagerEvent.AbstractPerServerData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerServerData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(ServerHealthManagerEvent.AbstractPerServerData instance) {
+      Objects.requireNonNull(instance, "instance");
+      setServer(instance.getServer());
+      setServerUnhealthy(instance.isServerUnhealthy());
+      setBestServer(instance.isBestServer());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractPerServerData#getServer() server} attribute.
+     * @param server The value for server 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServer(URI server) {
+      this.server = Objects.requireNonNull(server, "server");
+      initBits &= ~INIT_BIT_SERVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ServerHealthManagerEvent.AbstractPerServerData#isServerUnhealthy() serverUnhealthy}.</em>
+     * @param serverUnhealthy The value for serverUnhealthy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServerUnhealthy(boolean serverUnhealthy) {
+      this.serverUnhealthy = serverUnhealthy;
+      optBits |= OPT_BIT_SERVER_UNHEALTHY;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ServerHealthManagerEvent.AbstractPerServerData#isBestServer() bestServer}.</em>
+     * @param bestServer The value for bestServer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setBestServer(boolean bestServer) {
+      this.bestServer = bestServer;
+      optBits |= OPT_BIT_BEST_SERVER;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link PerServerData PerServerData}.
+     * @return An immutable instance of PerServerData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerServerData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PerServerData(this);
+    }
+
+    private boolean serverUnhealthyIsSet() {
+      return (optBits & OPT_BIT_SERVER_UNHEALTHY) != 0;
+    }
+
+    private boolean bestServerIsSet() {
+      return (optBits & OPT_BIT_BEST_SERVER) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SERVER) != 0) attributes.add("server");
+      return "Cannot build PerServerData, some of required attributes are not set " + attributes;
+    }
+  }
+}
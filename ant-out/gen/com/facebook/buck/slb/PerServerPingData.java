@@ -0,0 +1,241 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link LoadBalancerPingEvent.AbstractPerServerPingData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerServerPingData.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "LoadBalancerPingEvent.AbstractPerServerPingData"})
+@Immutable
+@CheckReturnValue
+public final class PerServerPingData
+    implements LoadBalancerPingEvent.AbstractPerServerPingData {
+  private final URI server;
+  private final @Nullable Exception exception;
+  private final @Nullable Long pingRequestLatencyMillis;
+
+  private PerServerPingData(PerServerPingData.Builder builder) {
+    this.server = builder.server;
+    this.exception = builder.exception;
+    this.pingRequestLatencyMillis = builder.pingRequestLatencyMillis;
+  }
+
+  /**
+   * @return The value of the {@code server} attribute
+   */
+  @Override
+  public URI getServer() {
+    return server;
+  }
+
+  /**
+   * @return The value of the {@code exception} attribute
+   */
+  @Override
+  public Optional<Exception> getException() {
+    return Optional.ofNullable(exception);
+  }
+
+  /**
+   * @return The value of the {@code pingRequestLatencyMillis} attribute
+   */
+  @Override
+  public Optional<Long> getPingRequestLatencyMillis() {
+    return Optional.ofNullable(pingRequestLatencyMillis);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerServerPingData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerServerPingData
+        && equalTo((PerServerPingData) another);
+  }
+
+  private boolean equalTo(PerServerPingData another) {
+    return server.equals(another.server)
+        && Objects.equals(exception, another.exception)
+        && Objects.equals(pingRequestLatencyMillis, another.pingRequestLatencyMillis);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code server}, {@code exception}, {@code pingRequestLatencyMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + server.hashCode();
+    h += (h << 5) + Objects.hashCode(exception);
+    h += (h << 5) + Objects.hashCode(pingRequestLatencyMillis);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerServerPingData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerServerPingData")
+        .omitNullValues()
+        .add("server", server)
+        .add("exception", exception)
+        .add("pingRequestLatencyMillis", pingRequestLatencyMillis)
+        .toString();
+  }
+
+  /**
+   * Creates a builder for {@link PerServerPingData PerServerPingData}.
+   * @return A new PerServerPingData builder
+   */
+  public static PerServerPingData.Builder builder() {
+    return new PerServerPingData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerServerPingData PerServerPingData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVER = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable URI server;
+    private @Nullable Exception exception;
+    private @Nullable Long pingRequestLatencyMillis;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerServerPingData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerServerPingData instance) {
+      return from((LoadBalancerPingEvent.AbstractPerServerPingData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerServerPingData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(LoadBalancerPingEvent.AbstractPerServerPingData instance) {
+      Objects.requireNonNull(instance, "instance");
+      setServer(instance.getServer());
+      Optional<Exception> exceptionOptional = instance.getException();
+      if (exceptionOptional.isPresent()) {
+        setException(exceptionOptional);
+      }
+      Optional<Long> pingRequestLatencyMillisOptional = instance.getPingRequestLatencyMillis();
+      if (pingRequestLatencyMillisOptional.isPresent()) {
+        setPingRequestLatencyMillis(pingRequestLatencyMillisOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link LoadBalancerPingEvent.AbstractPerServerPingData#getServer() server} attribute.
+     * @param server The value for server 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setServer(URI server) {
+      this.server = Objects.requireNonNull(server, "server");
+      initBits &= ~INIT_BIT_SERVER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link LoadBalancerPingEvent.AbstractPerServerPingData#getException() exception} to exception.
+     * @param exception The value for exception
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setException(Exception exception) {
+      this.exception = Objects.requireNonNull(exception, "exception");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancerPingEvent.AbstractPerServerPingData#getException() exception} to exception.
+     * @param exception The value for exception
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setException(Optional<? extends Exception> exception) {
+      this.exception = exception.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancerPingEvent.AbstractPerServerPingData#getPingRequestLatencyMillis() pingRequestLatencyMillis} to pingRequestLatencyMillis.
+     * @param pingRequestLatencyMillis The value for pingRequestLatencyMillis
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPingRequestLatencyMillis(long pingRequestLatencyMillis) {
+      this.pingRequestLatencyMillis = pingRequestLatencyMillis;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link LoadBalancerPingEvent.AbstractPerServerPingData#getPingRequestLatencyMillis() pingRequestLatencyMillis} to pingRequestLatencyMillis.
+     * @param pingRequestLatencyMillis The value for pingRequestLatencyMillis
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPingRequestLatencyMillis(Optional<Long> pingRequestLatencyMillis) {
+      this.pingRequestLatencyMillis = pingRequestLatencyMillis.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PerServerPingData PerServerPingData}.
+     * @return An immutable instance of PerServerPingData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerServerPingData build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PerServerPingData(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SERVER) != 0) attributes.add("server");
+      return "Cannot build PerServerPingData, some of required attributes are not set " + attributes;
+    }
+  }
+}
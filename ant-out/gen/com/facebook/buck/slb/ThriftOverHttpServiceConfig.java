@@ -0,0 +1,205 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractThriftOverHttpServiceConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ThriftOverHttpServiceConfig.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ThriftOverHttpServiceConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractThriftOverHttpServiceConfig"})
+@Immutable
+@CheckReturnValue
+public final class ThriftOverHttpServiceConfig
+    extends AbstractThriftOverHttpServiceConfig {
+  private final HttpService service;
+  private final String thriftPath;
+
+  private ThriftOverHttpServiceConfig(HttpService service) {
+    this.service = Objects.requireNonNull(service, "service");
+    this.thriftPath = Objects.requireNonNull(super.getThriftPath(), "thriftPath");
+  }
+
+  private ThriftOverHttpServiceConfig(ThriftOverHttpServiceConfig.Builder builder) {
+    this.service = builder.service;
+    this.thriftPath = builder.thriftPath != null
+        ? builder.thriftPath
+        : Objects.requireNonNull(super.getThriftPath(), "thriftPath");
+  }
+
+  /**
+   * @return The value of the {@code service} attribute
+   */
+  @Override
+  public HttpService getService() {
+    return service;
+  }
+
+  /**
+   * @return The value of the {@code thriftPath} attribute
+   */
+  @Override
+  public String getThriftPath() {
+    return thriftPath;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ThriftOverHttpServiceConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ThriftOverHttpServiceConfig
+        && equalTo((ThriftOverHttpServiceConfig) another);
+  }
+
+  private boolean equalTo(ThriftOverHttpServiceConfig another) {
+    return service.equals(another.service)
+        && thriftPath.equals(another.thriftPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code service}, {@code thriftPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + service.hashCode();
+    h += (h << 5) + thriftPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ThriftOverHttpServiceConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ThriftOverHttpServiceConfig")
+        .omitNullValues()
+        .add("service", service)
+        .add("thriftPath", thriftPath)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ThriftOverHttpServiceConfig} instance.
+   * @param service The value for the {@code service} attribute
+   * @return An immutable ThriftOverHttpServiceConfig instance
+   */
+  public static ThriftOverHttpServiceConfig of(HttpService service) {
+    return new ThriftOverHttpServiceConfig(service);
+  }
+
+  /**
+   * Creates a builder for {@link ThriftOverHttpServiceConfig ThriftOverHttpServiceConfig}.
+   * @return A new ThriftOverHttpServiceConfig builder
+   */
+  public static ThriftOverHttpServiceConfig.Builder builder() {
+    return new ThriftOverHttpServiceConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ThriftOverHttpServiceConfig ThriftOverHttpServiceConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SERVICE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable HttpService service;
+    private @Nullable String thriftPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ThriftOverHttpServiceConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ThriftOverHttpServiceConfig instance) {
+      return from((AbstractThriftOverHttpServiceConfig) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractThriftOverHttpServiceConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractThriftOverHttpServiceConfig instance) {
+      Objects.requireNonNull(instance, "instance");
+      setService(instance.getService());
+      setThriftPath(instance.getThriftPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractThriftOverHttpServiceConfig#getService() service} attribute.
+     * @param service The value for service 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setService(HttpService service) {
+      this.service = Objects.requireNonNull(service, "service");
+      initBits &= ~INIT_BIT_SERVICE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractThriftOverHttpServiceConfig#getThriftPath() thriftPath} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractThriftOverHttpServiceConfig#getThriftPath() thriftPath}.</em>
+     * @param thriftPath The value for thriftPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setThriftPath(String thriftPath) {
+      this.thriftPath = Objects.requireNonNull(thriftPath, "thriftPath");
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ThriftOverHttpServiceConfig ThriftOverHttpServiceConfig}.
+     * @return An immutable instance of ThriftOverHttpServiceConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ThriftOverHttpServiceConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ThriftOverHttpServiceConfig(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SERVICE) != 0) attributes.add("service");
+      return "Cannot build ThriftOverHttpServiceConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
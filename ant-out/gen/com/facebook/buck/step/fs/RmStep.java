@@ -0,0 +1,141 @@
+package com.facebook.buck.step.fs;
+
+import com.facebook.buck.io.BuildCellRelativePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Booleans;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractRmStep}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code RmStep.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRmStep"})
+@Immutable
+@CheckReturnValue
+public final class RmStep extends AbstractRmStep {
+  private final BuildCellRelativePath path;
+  private final boolean recursive;
+
+  private RmStep(BuildCellRelativePath path) {
+    this.path = Objects.requireNonNull(path, "path");
+    this.recursive = super.isRecursive();
+  }
+
+  private RmStep(BuildCellRelativePath path, boolean recursive) {
+    this.path = path;
+    this.recursive = recursive;
+  }
+
+  /**
+   * @return The value of the {@code path} attribute
+   */
+  @Override
+  public BuildCellRelativePath getPath() {
+    return path;
+  }
+
+  /**
+   * @return The value of the {@code recursive} attribute
+   */
+  @Override
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRmStep#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final RmStep withPath(BuildCellRelativePath value) {
+    if (this.path == value) return this;
+    BuildCellRelativePath newValue = Objects.requireNonNull(value, "path");
+    return new RmStep(newValue, this.recursive);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRmStep#isRecursive() recursive} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for recursive
+   * @return A modified copy of the {@code this} object
+   */
+  public final RmStep withRecursive(boolean value) {
+    if (this.recursive == value) return this;
+    return new RmStep(this.path, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RmStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RmStep
+        && equalTo((RmStep) another);
+  }
+
+  private boolean equalTo(RmStep another) {
+    return path.equals(another.path)
+        && recursive == another.recursive;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code path}, {@code recursive}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + path.hashCode();
+    h += (h << 5) + Booleans.hashCode(recursive);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RmStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RmStep")
+        .omitNullValues()
+        .add("path", path)
+        .add("recursive", recursive)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RmStep} instance.
+   * @param path The value for the {@code path} attribute
+   * @return An immutable RmStep instance
+   */
+  public static RmStep of(BuildCellRelativePath path) {
+    return new RmStep(path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRmStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RmStep instance
+   */
+  static RmStep copyOf(AbstractRmStep instance) {
+    if (instance instanceof RmStep) {
+      return (RmStep) instance;
+    }
+    return RmStep.of(instance.getPath())
+        .withRecursive(instance.isRecursive());
+  }
+}
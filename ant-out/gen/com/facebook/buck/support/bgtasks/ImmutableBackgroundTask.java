@@ -0,0 +1,410 @@
+package com.facebook.buck.support.bgtasks;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link BackgroundTask}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableBackgroundTask.<T>builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableBackgroundTask.<T>of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "BackgroundTask<T>"})
+@Immutable
+@CheckReturnValue
+public final class ImmutableBackgroundTask<T> extends BackgroundTask<T> {
+  private final String name;
+  private final TaskAction<T> action;
+  private final T actionArgs;
+  private final @Nullable Timeout timeout;
+  private final boolean shouldCancelOnRepeat;
+
+  private ImmutableBackgroundTask(String name, TaskAction<T> action, T actionArgs) {
+    this.name = Objects.requireNonNull(name, "name");
+    this.action = Objects.requireNonNull(action, "action");
+    this.actionArgs = Objects.requireNonNull(actionArgs, "actionArgs");
+    this.timeout = null;
+    this.shouldCancelOnRepeat = super.getShouldCancelOnRepeat();
+  }
+
+  private ImmutableBackgroundTask(ImmutableBackgroundTask.Builder<T> builder) {
+    this.name = builder.name;
+    this.action = builder.action;
+    this.actionArgs = builder.actionArgs;
+    this.timeout = builder.timeout;
+    this.shouldCancelOnRepeat = builder.shouldCancelOnRepeatIsSet()
+        ? builder.shouldCancelOnRepeat
+        : super.getShouldCancelOnRepeat();
+  }
+
+  private ImmutableBackgroundTask(
+      String name,
+      TaskAction<T> action,
+      T actionArgs,
+      @Nullable Timeout timeout,
+      boolean shouldCancelOnRepeat) {
+    this.name = name;
+    this.action = action;
+    this.actionArgs = actionArgs;
+    this.timeout = timeout;
+    this.shouldCancelOnRepeat = shouldCancelOnRepeat;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code action} attribute
+   */
+  @Override
+  public TaskAction<T> getAction() {
+    return action;
+  }
+
+  /**
+   * @return The value of the {@code actionArgs} attribute
+   */
+  @Override
+  protected T getActionArgs() {
+    return actionArgs;
+  }
+
+  /**
+   * @return The value of the {@code timeout} attribute
+   */
+  @Override
+  public Optional<Timeout> getTimeout() {
+    return Optional.ofNullable(timeout);
+  }
+
+  /**
+   * @return The value of the {@code shouldCancelOnRepeat} attribute
+   */
+  @Override
+  public boolean getShouldCancelOnRepeat() {
+    return shouldCancelOnRepeat;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BackgroundTask#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableBackgroundTask<T> withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new ImmutableBackgroundTask<T>(newValue, this.action, this.actionArgs, this.timeout, this.shouldCancelOnRepeat);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BackgroundTask#getAction() action} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for action
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableBackgroundTask<T> withAction(TaskAction<T> value) {
+    if (this.action == value) return this;
+    TaskAction<T> newValue = Objects.requireNonNull(value, "action");
+    return new ImmutableBackgroundTask<T>(this.name, newValue, this.actionArgs, this.timeout, this.shouldCancelOnRepeat);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BackgroundTask#getActionArgs() actionArgs} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionArgs
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableBackgroundTask<T> withActionArgs(T value) {
+    if (this.actionArgs == value) return this;
+    T newValue = Objects.requireNonNull(value, "actionArgs");
+    return new ImmutableBackgroundTask<T>(this.name, this.action, newValue, this.timeout, this.shouldCancelOnRepeat);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link BackgroundTask#getTimeout() timeout} attribute.
+   * @param value The value for timeout
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableBackgroundTask<T> withTimeout(Timeout value) {
+    @Nullable Timeout newValue = Objects.requireNonNull(value, "timeout");
+    if (this.timeout == newValue) return this;
+    return new ImmutableBackgroundTask<T>(this.name, this.action, this.actionArgs, newValue, this.shouldCancelOnRepeat);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link BackgroundTask#getTimeout() timeout} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for timeout
+   * @return A modified copy of {@code this} object
+   */
+  public final ImmutableBackgroundTask<T> withTimeout(Optional<? extends Timeout> optional) {
+    @Nullable Timeout value = optional.orElse(null);
+    if (this.timeout == value) return this;
+    return new ImmutableBackgroundTask<T>(this.name, this.action, this.actionArgs, value, this.shouldCancelOnRepeat);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link BackgroundTask#getShouldCancelOnRepeat() shouldCancelOnRepeat} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCancelOnRepeat
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableBackgroundTask<T> withShouldCancelOnRepeat(boolean value) {
+    if (this.shouldCancelOnRepeat == value) return this;
+    return new ImmutableBackgroundTask<T>(this.name, this.action, this.actionArgs, this.timeout, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableBackgroundTask} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableBackgroundTask<?>
+        && equalTo((ImmutableBackgroundTask<T>) another);
+  }
+
+  private boolean equalTo(ImmutableBackgroundTask<T> another) {
+    return name.equals(another.name)
+        && action.equals(another.action)
+        && actionArgs.equals(another.actionArgs)
+        && Objects.equals(timeout, another.timeout)
+        && shouldCancelOnRepeat == another.shouldCancelOnRepeat;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code action}, {@code actionArgs}, {@code timeout}, {@code shouldCancelOnRepeat}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    h += (h << 5) + action.hashCode();
+    h += (h << 5) + actionArgs.hashCode();
+    h += (h << 5) + Objects.hashCode(timeout);
+    h += (h << 5) + Booleans.hashCode(shouldCancelOnRepeat);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BackgroundTask} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BackgroundTask")
+        .omitNullValues()
+        .add("name", name)
+        .add("action", action)
+        .add("actionArgs", actionArgs)
+        .add("timeout", timeout)
+        .add("shouldCancelOnRepeat", shouldCancelOnRepeat)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BackgroundTask} instance.
+   * @param name The value for the {@code name} attribute
+   * @param action The value for the {@code action} attribute
+   * @param actionArgs The value for the {@code actionArgs} attribute
+   * @return An immutable BackgroundTask instance
+   */
+  public static <T> ImmutableBackgroundTask<T> of(String name, TaskAction<T> action, T actionArgs) {
+    return new ImmutableBackgroundTask<T>(name, action, actionArgs);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link BackgroundTask} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param <T> generic parameter T
+   * @param instance The instance to copy
+   * @return A copied immutable BackgroundTask instance
+   */
+  public static <T> ImmutableBackgroundTask<T> copyOf(BackgroundTask<T> instance) {
+    if (instance instanceof ImmutableBackgroundTask<?>) {
+      return (ImmutableBackgroundTask<T>) instance;
+    }
+    return ImmutableBackgroundTask.<T>builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ImmutableBackgroundTask ImmutableBackgroundTask}.
+   * @param <T> generic parameter T
+   * @return A new ImmutableBackgroundTask builder
+   */
+  public static <T> ImmutableBackgroundTask.Builder<T> builder() {
+    return new ImmutableBackgroundTask.Builder<T>();
+  }
+
+  /**
+   * Builds instances of type {@link ImmutableBackgroundTask ImmutableBackgroundTask}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder<T> {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_ACTION = 0x2L;
+    private static final long INIT_BIT_ACTION_ARGS = 0x4L;
+    private static final long OPT_BIT_SHOULD_CANCEL_ON_REPEAT = 0x1L;
+    private long initBits = 0x7L;
+    private long optBits;
+
+    private @Nullable String name;
+    private @Nullable TaskAction<T> action;
+    private @Nullable T actionArgs;
+    private @Nullable Timeout timeout;
+    private boolean shouldCancelOnRepeat;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BackgroundTask} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> from(BackgroundTask<T> instance) {
+      Objects.requireNonNull(instance, "instance");
+      setName(instance.getName());
+      setAction(instance.getAction());
+      setActionArgs(instance.getActionArgs());
+      Optional<Timeout> timeoutOptional = instance.getTimeout();
+      if (timeoutOptional.isPresent()) {
+        setTimeout(timeoutOptional);
+      }
+      setShouldCancelOnRepeat(instance.getShouldCancelOnRepeat());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BackgroundTask#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> setName(String name) {
+      this.name = Objects.requireNonNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link BackgroundTask#getAction() action} attribute.
+     * @param action The value for action 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> setAction(TaskAction<T> action) {
+      this.action = Objects.requireNonNull(action, "action");
+      initBits &= ~INIT_BIT_ACTION;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link BackgroundTask#getActionArgs() actionArgs} attribute.
+     * @param actionArgs The value for actionArgs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> setActionArgs(T actionArgs) {
+      this.actionArgs = Objects.requireNonNull(actionArgs, "actionArgs");
+      initBits &= ~INIT_BIT_ACTION_ARGS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link BackgroundTask#getTimeout() timeout} to timeout.
+     * @param timeout The value for timeout
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> setTimeout(Timeout timeout) {
+      this.timeout = Objects.requireNonNull(timeout, "timeout");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link BackgroundTask#getTimeout() timeout} to timeout.
+     * @param timeout The value for timeout
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> setTimeout(Optional<? extends Timeout> timeout) {
+      this.timeout = timeout.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link BackgroundTask#getShouldCancelOnRepeat() shouldCancelOnRepeat} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link BackgroundTask#getShouldCancelOnRepeat() shouldCancelOnRepeat}.</em>
+     * @param shouldCancelOnRepeat The value for shouldCancelOnRepeat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder<T> setShouldCancelOnRepeat(boolean shouldCancelOnRepeat) {
+      this.shouldCancelOnRepeat = shouldCancelOnRepeat;
+      optBits |= OPT_BIT_SHOULD_CANCEL_ON_REPEAT;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ImmutableBackgroundTask ImmutableBackgroundTask}.
+     * @return An immutable instance of BackgroundTask
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ImmutableBackgroundTask<T> build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ImmutableBackgroundTask<T>(this);
+    }
+
+    private boolean shouldCancelOnRepeatIsSet() {
+      return (optBits & OPT_BIT_SHOULD_CANCEL_ON_REPEAT) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_ACTION) != 0) attributes.add("action");
+      if ((initBits & INIT_BIT_ACTION_ARGS) != 0) attributes.add("actionArgs");
+      return "Cannot build BackgroundTask, some of required attributes are not set " + attributes;
+    }
+  }
+}
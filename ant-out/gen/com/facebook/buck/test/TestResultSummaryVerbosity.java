@@ -0,0 +1,251 @@
+package com.facebook.buck.test;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractTestResultSummaryVerbosity}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code TestResultSummaryVerbosity.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code TestResultSummaryVerbosity.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTestResultSummaryVerbosity"})
+@Immutable
+@CheckReturnValue
+public final class TestResultSummaryVerbosity
+    implements AbstractTestResultSummaryVerbosity {
+  private final boolean includeStdErr;
+  private final boolean includeStdOut;
+  private final @Nullable Integer maxDebugLogLines;
+
+  private TestResultSummaryVerbosity(boolean includeStdErr, boolean includeStdOut) {
+    this.includeStdErr = includeStdErr;
+    this.includeStdOut = includeStdOut;
+    this.maxDebugLogLines = null;
+  }
+
+  private TestResultSummaryVerbosity(TestResultSummaryVerbosity.Builder builder) {
+    this.includeStdErr = builder.includeStdErr;
+    this.includeStdOut = builder.includeStdOut;
+    this.maxDebugLogLines = builder.maxDebugLogLines;
+  }
+
+  /**
+   * @return The value of the {@code includeStdErr} attribute
+   */
+  @Override
+  public boolean getIncludeStdErr() {
+    return includeStdErr;
+  }
+
+  /**
+   * @return The value of the {@code includeStdOut} attribute
+   */
+  @Override
+  public boolean getIncludeStdOut() {
+    return includeStdOut;
+  }
+
+  /**
+   * @return The value of the {@code maxDebugLogLines} attribute
+   */
+  @Override
+  public OptionalInt getMaxDebugLogLines() {
+    return maxDebugLogLines != null
+        ? OptionalInt.of(maxDebugLogLines)
+        : OptionalInt.empty();
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TestResultSummaryVerbosity} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TestResultSummaryVerbosity
+        && equalTo((TestResultSummaryVerbosity) another);
+  }
+
+  private boolean equalTo(TestResultSummaryVerbosity another) {
+    return includeStdErr == another.includeStdErr
+        && includeStdOut == another.includeStdOut
+        && Objects.equals(maxDebugLogLines, another.maxDebugLogLines);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includeStdErr}, {@code includeStdOut}, {@code maxDebugLogLines}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Booleans.hashCode(includeStdErr);
+    h += (h << 5) + Booleans.hashCode(includeStdOut);
+    h += (h << 5) + Objects.hashCode(maxDebugLogLines);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TestResultSummaryVerbosity} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TestResultSummaryVerbosity")
+        .omitNullValues()
+        .add("includeStdErr", includeStdErr)
+        .add("includeStdOut", includeStdOut)
+        .add("maxDebugLogLines", maxDebugLogLines)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TestResultSummaryVerbosity} instance.
+   * @param includeStdErr The value for the {@code includeStdErr} attribute
+   * @param includeStdOut The value for the {@code includeStdOut} attribute
+   * @return An immutable TestResultSummaryVerbosity instance
+   */
+  public static TestResultSummaryVerbosity of(boolean includeStdErr, boolean includeStdOut) {
+    return new TestResultSummaryVerbosity(includeStdErr, includeStdOut);
+  }
+
+  /**
+   * Creates a builder for {@link TestResultSummaryVerbosity TestResultSummaryVerbosity}.
+   * @return A new TestResultSummaryVerbosity builder
+   */
+  public static TestResultSummaryVerbosity.Builder builder() {
+    return new TestResultSummaryVerbosity.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link TestResultSummaryVerbosity TestResultSummaryVerbosity}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE_STD_ERR = 0x1L;
+    private static final long INIT_BIT_INCLUDE_STD_OUT = 0x2L;
+    private long initBits = 0x3L;
+
+    private boolean includeStdErr;
+    private boolean includeStdOut;
+    private @Nullable Integer maxDebugLogLines;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code TestResultSummaryVerbosity} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(TestResultSummaryVerbosity instance) {
+      return from((AbstractTestResultSummaryVerbosity) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractTestResultSummaryVerbosity} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractTestResultSummaryVerbosity instance) {
+      Objects.requireNonNull(instance, "instance");
+      setIncludeStdErr(instance.getIncludeStdErr());
+      setIncludeStdOut(instance.getIncludeStdOut());
+      OptionalInt maxDebugLogLinesOptional = instance.getMaxDebugLogLines();
+      if (maxDebugLogLinesOptional.isPresent()) {
+        setMaxDebugLogLines(maxDebugLogLinesOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractTestResultSummaryVerbosity#getIncludeStdErr() includeStdErr} attribute.
+     * @param includeStdErr The value for includeStdErr 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeStdErr(boolean includeStdErr) {
+      this.includeStdErr = includeStdErr;
+      initBits &= ~INIT_BIT_INCLUDE_STD_ERR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractTestResultSummaryVerbosity#getIncludeStdOut() includeStdOut} attribute.
+     * @param includeStdOut The value for includeStdOut 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIncludeStdOut(boolean includeStdOut) {
+      this.includeStdOut = includeStdOut;
+      initBits &= ~INIT_BIT_INCLUDE_STD_OUT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractTestResultSummaryVerbosity#getMaxDebugLogLines() maxDebugLogLines} to maxDebugLogLines.
+     * @param maxDebugLogLines The value for maxDebugLogLines
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxDebugLogLines(int maxDebugLogLines) {
+      this.maxDebugLogLines = maxDebugLogLines;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractTestResultSummaryVerbosity#getMaxDebugLogLines() maxDebugLogLines} to maxDebugLogLines.
+     * @param maxDebugLogLines The value for maxDebugLogLines
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxDebugLogLines(OptionalInt maxDebugLogLines) {
+      this.maxDebugLogLines = maxDebugLogLines.isPresent() ? maxDebugLogLines.getAsInt() : null;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link TestResultSummaryVerbosity TestResultSummaryVerbosity}.
+     * @return An immutable instance of TestResultSummaryVerbosity
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public TestResultSummaryVerbosity build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new TestResultSummaryVerbosity(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE_STD_ERR) != 0) attributes.add("includeStdErr");
+      if ((initBits & INIT_BIT_INCLUDE_STD_OUT) != 0) attributes.add("includeStdOut");
+      return "Cannot build TestResultSummaryVerbosity, some of required attributes are not set " + attributes;
+    }
+  }
+}
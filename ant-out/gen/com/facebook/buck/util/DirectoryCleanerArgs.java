@@ -0,0 +1,410 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDirectoryCleanerArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DirectoryCleanerArgs.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DirectoryCleanerArgs.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDirectoryCleanerArgs"})
+@Immutable
+@CheckReturnValue
+public final class DirectoryCleanerArgs extends AbstractDirectoryCleanerArgs {
+  private final DirectoryCleaner.PathSelector pathSelector;
+  private final long maxTotalSizeBytes;
+  private final int maxPathCount;
+  private final int minAmountOfEntriesToKeep;
+  private final @Nullable Long maxBytesAfterDeletion;
+
+  private DirectoryCleanerArgs(DirectoryCleaner.PathSelector pathSelector) {
+    this.pathSelector = Objects.requireNonNull(pathSelector, "pathSelector");
+    this.maxBytesAfterDeletion = null;
+    this.maxTotalSizeBytes = initShim.getMaxTotalSizeBytes();
+    this.maxPathCount = initShim.getMaxPathCount();
+    this.minAmountOfEntriesToKeep = initShim.getMinAmountOfEntriesToKeep();
+    this.initShim = null;
+  }
+
+  private DirectoryCleanerArgs(DirectoryCleanerArgs.Builder builder) {
+    this.pathSelector = builder.pathSelector;
+    this.maxBytesAfterDeletion = builder.maxBytesAfterDeletion;
+    if (builder.maxTotalSizeBytesIsSet()) {
+      initShim.setMaxTotalSizeBytes(builder.maxTotalSizeBytes);
+    }
+    if (builder.maxPathCountIsSet()) {
+      initShim.setMaxPathCount(builder.maxPathCount);
+    }
+    if (builder.minAmountOfEntriesToKeepIsSet()) {
+      initShim.setMinAmountOfEntriesToKeep(builder.minAmountOfEntriesToKeep);
+    }
+    this.maxTotalSizeBytes = initShim.getMaxTotalSizeBytes();
+    this.maxPathCount = initShim.getMaxPathCount();
+    this.minAmountOfEntriesToKeep = initShim.getMinAmountOfEntriesToKeep();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private long maxTotalSizeBytes;
+    private int maxTotalSizeBytesBuildStage;
+
+    long getMaxTotalSizeBytes() {
+      if (maxTotalSizeBytesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxTotalSizeBytesBuildStage == STAGE_UNINITIALIZED) {
+        maxTotalSizeBytesBuildStage = STAGE_INITIALIZING;
+        this.maxTotalSizeBytes = DirectoryCleanerArgs.super.getMaxTotalSizeBytes();
+        maxTotalSizeBytesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxTotalSizeBytes;
+    }
+
+    void setMaxTotalSizeBytes(long maxTotalSizeBytes) {
+      this.maxTotalSizeBytes = maxTotalSizeBytes;
+      maxTotalSizeBytesBuildStage = STAGE_INITIALIZED;
+    }
+    private int maxPathCount;
+    private int maxPathCountBuildStage;
+
+    int getMaxPathCount() {
+      if (maxPathCountBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (maxPathCountBuildStage == STAGE_UNINITIALIZED) {
+        maxPathCountBuildStage = STAGE_INITIALIZING;
+        this.maxPathCount = DirectoryCleanerArgs.super.getMaxPathCount();
+        maxPathCountBuildStage = STAGE_INITIALIZED;
+      }
+      return this.maxPathCount;
+    }
+
+    void setMaxPathCount(int maxPathCount) {
+      this.maxPathCount = maxPathCount;
+      maxPathCountBuildStage = STAGE_INITIALIZED;
+    }
+    private int minAmountOfEntriesToKeep;
+    private int minAmountOfEntriesToKeepBuildStage;
+
+    int getMinAmountOfEntriesToKeep() {
+      if (minAmountOfEntriesToKeepBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (minAmountOfEntriesToKeepBuildStage == STAGE_UNINITIALIZED) {
+        minAmountOfEntriesToKeepBuildStage = STAGE_INITIALIZING;
+        this.minAmountOfEntriesToKeep = DirectoryCleanerArgs.super.getMinAmountOfEntriesToKeep();
+        minAmountOfEntriesToKeepBuildStage = STAGE_INITIALIZED;
+      }
+      return this.minAmountOfEntriesToKeep;
+    }
+
+    void setMinAmountOfEntriesToKeep(int minAmountOfEntriesToKeep) {
+      this.minAmountOfEntriesToKeep = minAmountOfEntriesToKeep;
+      minAmountOfEntriesToKeepBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (maxTotalSizeBytesBuildStage == STAGE_INITIALIZING) attributes.add("maxTotalSizeBytes");
+      if (maxPathCountBuildStage == STAGE_INITIALIZING) attributes.add("maxPathCount");
+      if (minAmountOfEntriesToKeepBuildStage == STAGE_INITIALIZING) attributes.add("minAmountOfEntriesToKeep");
+      return "Cannot build DirectoryCleanerArgs, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code pathSelector} attribute
+   */
+  @Override
+  public DirectoryCleaner.PathSelector getPathSelector() {
+    return pathSelector;
+  }
+
+  /**
+   * @return The value of the {@code maxTotalSizeBytes} attribute
+   */
+  @Override
+  public long getMaxTotalSizeBytes() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxTotalSizeBytes()
+        : this.maxTotalSizeBytes;
+  }
+
+  /**
+   * @return The value of the {@code maxPathCount} attribute
+   */
+  @Override
+  public int getMaxPathCount() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMaxPathCount()
+        : this.maxPathCount;
+  }
+
+  /**
+   * @return The value of the {@code minAmountOfEntriesToKeep} attribute
+   */
+  @Override
+  public int getMinAmountOfEntriesToKeep() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getMinAmountOfEntriesToKeep()
+        : this.minAmountOfEntriesToKeep;
+  }
+
+  /**
+   * @return The value of the {@code maxBytesAfterDeletion} attribute
+   */
+  @Override
+  public Optional<Long> getMaxBytesAfterDeletion() {
+    return Optional.ofNullable(maxBytesAfterDeletion);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DirectoryCleanerArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DirectoryCleanerArgs
+        && equalTo((DirectoryCleanerArgs) another);
+  }
+
+  private boolean equalTo(DirectoryCleanerArgs another) {
+    return pathSelector.equals(another.pathSelector)
+        && maxTotalSizeBytes == another.maxTotalSizeBytes
+        && maxPathCount == another.maxPathCount
+        && minAmountOfEntriesToKeep == another.minAmountOfEntriesToKeep
+        && Objects.equals(maxBytesAfterDeletion, another.maxBytesAfterDeletion);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathSelector}, {@code maxTotalSizeBytes}, {@code maxPathCount}, {@code minAmountOfEntriesToKeep}, {@code maxBytesAfterDeletion}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + pathSelector.hashCode();
+    h += (h << 5) + Longs.hashCode(maxTotalSizeBytes);
+    h += (h << 5) + maxPathCount;
+    h += (h << 5) + minAmountOfEntriesToKeep;
+    h += (h << 5) + Objects.hashCode(maxBytesAfterDeletion);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DirectoryCleanerArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirectoryCleanerArgs")
+        .omitNullValues()
+        .add("pathSelector", pathSelector)
+        .add("maxTotalSizeBytes", maxTotalSizeBytes)
+        .add("maxPathCount", maxPathCount)
+        .add("minAmountOfEntriesToKeep", minAmountOfEntriesToKeep)
+        .add("maxBytesAfterDeletion", maxBytesAfterDeletion)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DirectoryCleanerArgs} instance.
+   * @param pathSelector The value for the {@code pathSelector} attribute
+   * @return An immutable DirectoryCleanerArgs instance
+   */
+  public static DirectoryCleanerArgs of(DirectoryCleaner.PathSelector pathSelector) {
+    return new DirectoryCleanerArgs(pathSelector);
+  }
+
+  /**
+   * Creates a builder for {@link DirectoryCleanerArgs DirectoryCleanerArgs}.
+   * @return A new DirectoryCleanerArgs builder
+   */
+  public static DirectoryCleanerArgs.Builder builder() {
+    return new DirectoryCleanerArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DirectoryCleanerArgs DirectoryCleanerArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_SELECTOR = 0x1L;
+    private static final long OPT_BIT_MAX_TOTAL_SIZE_BYTES = 0x1L;
+    private static final long OPT_BIT_MAX_PATH_COUNT = 0x2L;
+    private static final long OPT_BIT_MIN_AMOUNT_OF_ENTRIES_TO_KEEP = 0x4L;
+    private long initBits = 0x1L;
+    private long optBits;
+
+    private @Nullable DirectoryCleaner.PathSelector pathSelector;
+    private long maxTotalSizeBytes;
+    private int maxPathCount;
+    private int minAmountOfEntriesToKeep;
+    private @Nullable Long maxBytesAfterDeletion;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DirectoryCleanerArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DirectoryCleanerArgs instance) {
+      return from((AbstractDirectoryCleanerArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDirectoryCleanerArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractDirectoryCleanerArgs instance) {
+      Objects.requireNonNull(instance, "instance");
+      setPathSelector(instance.getPathSelector());
+      setMaxTotalSizeBytes(instance.getMaxTotalSizeBytes());
+      setMaxPathCount(instance.getMaxPathCount());
+      setMinAmountOfEntriesToKeep(instance.getMinAmountOfEntriesToKeep());
+      Optional<Long> maxBytesAfterDeletionOptional = instance.getMaxBytesAfterDeletion();
+      if (maxBytesAfterDeletionOptional.isPresent()) {
+        setMaxBytesAfterDeletion(maxBytesAfterDeletionOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDirectoryCleanerArgs#getPathSelector() pathSelector} attribute.
+     * @param pathSelector The value for pathSelector 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setPathSelector(DirectoryCleaner.PathSelector pathSelector) {
+      this.pathSelector = Objects.requireNonNull(pathSelector, "pathSelector");
+      initBits &= ~INIT_BIT_PATH_SELECTOR;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDirectoryCleanerArgs#getMaxTotalSizeBytes() maxTotalSizeBytes} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractDirectoryCleanerArgs#getMaxTotalSizeBytes() maxTotalSizeBytes}.</em>
+     * @param maxTotalSizeBytes The value for maxTotalSizeBytes 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxTotalSizeBytes(long maxTotalSizeBytes) {
+      this.maxTotalSizeBytes = maxTotalSizeBytes;
+      optBits |= OPT_BIT_MAX_TOTAL_SIZE_BYTES;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDirectoryCleanerArgs#getMaxPathCount() maxPathCount} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractDirectoryCleanerArgs#getMaxPathCount() maxPathCount}.</em>
+     * @param maxPathCount The value for maxPathCount 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxPathCount(int maxPathCount) {
+      this.maxPathCount = maxPathCount;
+      optBits |= OPT_BIT_MAX_PATH_COUNT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractDirectoryCleanerArgs#getMinAmountOfEntriesToKeep() minAmountOfEntriesToKeep} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractDirectoryCleanerArgs#getMinAmountOfEntriesToKeep() minAmountOfEntriesToKeep}.</em>
+     * @param minAmountOfEntriesToKeep The value for minAmountOfEntriesToKeep 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMinAmountOfEntriesToKeep(int minAmountOfEntriesToKeep) {
+      this.minAmountOfEntriesToKeep = minAmountOfEntriesToKeep;
+      optBits |= OPT_BIT_MIN_AMOUNT_OF_ENTRIES_TO_KEEP;
+      return this;
+    }
+
+
+    /**
+     * Initializes the optional value {@link AbstractDirectoryCleanerArgs#getMaxBytesAfterDeletion() maxBytesAfterDeletion} to maxBytesAfterDeletion.
+     * @param maxBytesAfterDeletion The value for maxBytesAfterDeletion
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxBytesAfterDeletion(long maxBytesAfterDeletion) {
+      this.maxBytesAfterDeletion = maxBytesAfterDeletion;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDirectoryCleanerArgs#getMaxBytesAfterDeletion() maxBytesAfterDeletion} to maxBytesAfterDeletion.
+     * @param maxBytesAfterDeletion The value for maxBytesAfterDeletion
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMaxBytesAfterDeletion(Optional<Long> maxBytesAfterDeletion) {
+      this.maxBytesAfterDeletion = maxBytesAfterDeletion.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DirectoryCleanerArgs DirectoryCleanerArgs}.
+     * @return An immutable instance of DirectoryCleanerArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DirectoryCleanerArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DirectoryCleanerArgs(this);
+    }
+
+    private boolean maxTotalSizeBytesIsSet() {
+      return (optBits & OPT_BIT_MAX_TOTAL_SIZE_BYTES) != 0;
+    }
+
+    private boolean maxPathCountIsSet() {
+      return (optBits & OPT_BIT_MAX_PATH_COUNT) != 0;
+    }
+
+    private boolean minAmountOfEntriesToKeepIsSet() {
+      return (optBits & OPT_BIT_MIN_AMOUNT_OF_ENTRIES_TO_KEEP) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH_SELECTOR) != 0) attributes.add("pathSelector");
+      return "Cannot build DirectoryCleanerArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
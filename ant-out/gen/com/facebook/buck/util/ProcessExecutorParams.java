@@ -0,0 +1,773 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Value type passed to {@link ProcessExecutor} to launch a process. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProcessExecutorParams"})
+@Immutable
+@CheckReturnValue
+public final class ProcessExecutorParams extends AbstractProcessExecutorParams {
+  private final ImmutableList<String> command;
+  private final @Nullable Path directory;
+  private final @Nullable ImmutableMap<String, String> environment;
+  private final @Nullable ProcessBuilder.Redirect redirectInput;
+  private final @Nullable ProcessBuilder.Redirect redirectOutput;
+  private final @Nullable ProcessBuilder.Redirect redirectError;
+  private final @Nullable Boolean redirectErrorStream;
+
+  private ProcessExecutorParams(
+      Iterable<String> command,
+      Optional<? extends Path> directory,
+      Optional<? extends ImmutableMap<String, String>> environment,
+      Optional<? extends ProcessBuilder.Redirect> redirectInput,
+      Optional<? extends ProcessBuilder.Redirect> redirectOutput,
+      Optional<? extends ProcessBuilder.Redirect> redirectError,
+      Optional<Boolean> redirectErrorStream) {
+    this.command = ImmutableList.copyOf(command);
+    this.directory = directory.orElse(null);
+    this.environment = environment.orElse(null);
+    this.redirectInput = redirectInput.orElse(null);
+    this.redirectOutput = redirectOutput.orElse(null);
+    this.redirectError = redirectError.orElse(null);
+    this.redirectErrorStream = redirectErrorStream.orElse(null);
+  }
+
+  private ProcessExecutorParams(
+      ProcessExecutorParams original,
+      ImmutableList<String> command,
+      @Nullable Path directory,
+      @Nullable ImmutableMap<String, String> environment,
+      @Nullable ProcessBuilder.Redirect redirectInput,
+      @Nullable ProcessBuilder.Redirect redirectOutput,
+      @Nullable ProcessBuilder.Redirect redirectError,
+      @Nullable Boolean redirectErrorStream) {
+    this.command = command;
+    this.directory = directory;
+    this.environment = environment;
+    this.redirectInput = redirectInput;
+    this.redirectOutput = redirectOutput;
+    this.redirectError = redirectError;
+    this.redirectErrorStream = redirectErrorStream;
+  }
+
+  /**
+   *The command and arguments to launch. 
+   */
+  @Override
+  public ImmutableList<String> getCommand() {
+    return command;
+  }
+
+  /**
+   *If present, the current working directory for the launched process. 
+   */
+  @Override
+  public Optional<Path> getDirectory() {
+    return Optional.ofNullable(directory);
+  }
+
+  /**
+   * If present, the map of environment variables used for the launched process. Otherwise, inherits
+   * the current process's environment.
+   */
+  @Override
+  public Optional<ImmutableMap<String, String>> getEnvironment() {
+    return Optional.ofNullable(environment);
+  }
+
+  /**
+   * If present, redirects stdout for the process to this location. Otherwise, opens a pipe for
+   * stdout.
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectInput() {
+    return Optional.ofNullable(redirectInput);
+  }
+
+  /**
+   * If present, redirects stdin for the process to this location. Otherwise, opens a pipe for
+   * stdin.
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectOutput() {
+    return Optional.ofNullable(redirectOutput);
+  }
+
+  /**
+   * If present, redirects stderr for the process to this location. Otherwise, opens a pipe for
+   * stderr.
+   */
+  @Override
+  public Optional<ProcessBuilder.Redirect> getRedirectError() {
+    return Optional.ofNullable(redirectError);
+  }
+
+  /**
+   * @return The value of the {@code redirectErrorStream} attribute
+   */
+  @Override
+  public Optional<Boolean> getRedirectErrorStream() {
+    return Optional.ofNullable(redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProcessExecutorParams#getCommand() command}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withCommand(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProcessExecutorParams(
+        this,
+        newValue,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractProcessExecutorParams#getCommand() command}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of command elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withCommand(Iterable<String> elements) {
+    if (this.command == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ProcessExecutorParams(
+        this,
+        newValue,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProcessExecutorParams#getDirectory() directory} attribute.
+   * @param value The value for directory
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withDirectory(Path value) {
+    @Nullable Path newValue = Objects.requireNonNull(value, "directory");
+    if (this.directory == newValue) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        newValue,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProcessExecutorParams#getDirectory() directory} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for directory
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withDirectory(Optional<? extends Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.directory == value) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        value,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProcessExecutorParams#getEnvironment() environment} attribute.
+   * @param value The value for environment
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withEnvironment(ImmutableMap<String, String> value) {
+    @Nullable ImmutableMap<String, String> newValue = Objects.requireNonNull(value, "environment");
+    if (this.environment == newValue) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        newValue,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProcessExecutorParams#getEnvironment() environment} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for environment
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withEnvironment(Optional<? extends ImmutableMap<String, String>> optional) {
+    @Nullable ImmutableMap<String, String> value = optional.orElse(null);
+    if (this.environment == value) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        value,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput} attribute.
+   * @param value The value for redirectInput
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectInput(ProcessBuilder.Redirect value) {
+    @Nullable ProcessBuilder.Redirect newValue = Objects.requireNonNull(value, "redirectInput");
+    if (this.redirectInput == newValue) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        newValue,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for redirectInput
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectInput(Optional<? extends ProcessBuilder.Redirect> optional) {
+    @Nullable ProcessBuilder.Redirect value = optional.orElse(null);
+    if (this.redirectInput == value) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        value,
+        this.redirectOutput,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput} attribute.
+   * @param value The value for redirectOutput
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectOutput(ProcessBuilder.Redirect value) {
+    @Nullable ProcessBuilder.Redirect newValue = Objects.requireNonNull(value, "redirectOutput");
+    if (this.redirectOutput == newValue) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        newValue,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for redirectOutput
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectOutput(Optional<? extends ProcessBuilder.Redirect> optional) {
+    @Nullable ProcessBuilder.Redirect value = optional.orElse(null);
+    if (this.redirectOutput == value) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        value,
+        this.redirectError,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProcessExecutorParams#getRedirectError() redirectError} attribute.
+   * @param value The value for redirectError
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectError(ProcessBuilder.Redirect value) {
+    @Nullable ProcessBuilder.Redirect newValue = Objects.requireNonNull(value, "redirectError");
+    if (this.redirectError == newValue) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        newValue,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProcessExecutorParams#getRedirectError() redirectError} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for redirectError
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectError(Optional<? extends ProcessBuilder.Redirect> optional) {
+    @Nullable ProcessBuilder.Redirect value = optional.orElse(null);
+    if (this.redirectError == value) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        value,
+        this.redirectErrorStream);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractProcessExecutorParams#getRedirectErrorStream() redirectErrorStream} attribute.
+   * @param value The value for redirectErrorStream
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectErrorStream(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equals(this.redirectErrorStream, newValue)) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractProcessExecutorParams#getRedirectErrorStream() redirectErrorStream} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for redirectErrorStream
+   * @return A modified copy of {@code this} object
+   */
+  public final ProcessExecutorParams withRedirectErrorStream(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equals(this.redirectErrorStream, value)) return this;
+    return new ProcessExecutorParams(
+        this,
+        this.command,
+        this.directory,
+        this.environment,
+        this.redirectInput,
+        this.redirectOutput,
+        this.redirectError,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProcessExecutorParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProcessExecutorParams
+        && equalTo((ProcessExecutorParams) another);
+  }
+
+  private boolean equalTo(ProcessExecutorParams another) {
+    return command.equals(another.command)
+        && Objects.equals(directory, another.directory)
+        && Objects.equals(environment, another.environment)
+        && Objects.equals(redirectInput, another.redirectInput)
+        && Objects.equals(redirectOutput, another.redirectOutput)
+        && Objects.equals(redirectError, another.redirectError)
+        && Objects.equals(redirectErrorStream, another.redirectErrorStream);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code command}, {@code directory}, {@code environment}, {@code redirectInput}, {@code redirectOutput}, {@code redirectError}, {@code redirectErrorStream}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + command.hashCode();
+    h += (h << 5) + Objects.hashCode(directory);
+    h += (h << 5) + Objects.hashCode(environment);
+    h += (h << 5) + Objects.hashCode(redirectInput);
+    h += (h << 5) + Objects.hashCode(redirectOutput);
+    h += (h << 5) + Objects.hashCode(redirectError);
+    h += (h << 5) + Objects.hashCode(redirectErrorStream);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProcessExecutorParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProcessExecutorParams")
+        .omitNullValues()
+        .add("command", command)
+        .add("directory", directory)
+        .add("environment", environment)
+        .add("redirectInput", redirectInput)
+        .add("redirectOutput", redirectOutput)
+        .add("redirectError", redirectError)
+        .add("redirectErrorStream", redirectErrorStream)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProcessExecutorParams} instance.
+   * @param command The value for the {@code command} attribute
+   * @param directory The value for the {@code directory} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param redirectInput The value for the {@code redirectInput} attribute
+   * @param redirectOutput The value for the {@code redirectOutput} attribute
+   * @param redirectError The value for the {@code redirectError} attribute
+   * @param redirectErrorStream The value for the {@code redirectErrorStream} attribute
+   * @return An immutable ProcessExecutorParams instance
+   */
+  public static ProcessExecutorParams of(ImmutableList<String> command, Optional<Path> directory, Optional<ImmutableMap<String, String>> environment, Optional<ProcessBuilder.Redirect> redirectInput, Optional<ProcessBuilder.Redirect> redirectOutput, Optional<ProcessBuilder.Redirect> redirectError, Optional<Boolean> redirectErrorStream) {
+    return of((Iterable<String>) command, directory, environment, redirectInput, redirectOutput, redirectError, redirectErrorStream);
+  }
+
+  /**
+   * Construct a new immutable {@code ProcessExecutorParams} instance.
+   * @param command The value for the {@code command} attribute
+   * @param directory The value for the {@code directory} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param redirectInput The value for the {@code redirectInput} attribute
+   * @param redirectOutput The value for the {@code redirectOutput} attribute
+   * @param redirectError The value for the {@code redirectError} attribute
+   * @param redirectErrorStream The value for the {@code redirectErrorStream} attribute
+   * @return An immutable ProcessExecutorParams instance
+   */
+  public static ProcessExecutorParams of(Iterable<String> command, Optional<? extends Path> directory, Optional<? extends ImmutableMap<String, String>> environment, Optional<? extends ProcessBuilder.Redirect> redirectInput, Optional<? extends ProcessBuilder.Redirect> redirectOutput, Optional<? extends ProcessBuilder.Redirect> redirectError, Optional<Boolean> redirectErrorStream) {
+    return new ProcessExecutorParams(command, directory, environment, redirectInput, redirectOutput, redirectError, redirectErrorStream);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProcessExecutorParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProcessExecutorParams instance
+   */
+  static ProcessExecutorParams copyOf(AbstractProcessExecutorParams instance) {
+    if (instance instanceof ProcessExecutorParams) {
+      return (ProcessExecutorParams) instance;
+    }
+    return ProcessExecutorParams.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ProcessExecutorParams ProcessExecutorParams}.
+   * @return A new ProcessExecutorParams builder
+   */
+  public static ProcessExecutorParams.Builder builder() {
+    return new ProcessExecutorParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProcessExecutorParams ProcessExecutorParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<String> command = ImmutableList.builder();
+    private @Nullable Path directory;
+    private @Nullable ImmutableMap<String, String> environment;
+    private @Nullable ProcessBuilder.Redirect redirectInput;
+    private @Nullable ProcessBuilder.Redirect redirectOutput;
+    private @Nullable ProcessBuilder.Redirect redirectError;
+    private @Nullable Boolean redirectErrorStream;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProcessExecutorParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProcessExecutorParams instance) {
+      return from((AbstractProcessExecutorParams) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProcessExecutorParams} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractProcessExecutorParams instance) {
+      Objects.requireNonNull(instance, "instance");
+      addAllCommand(instance.getCommand());
+      Optional<Path> directoryOptional = instance.getDirectory();
+      if (directoryOptional.isPresent()) {
+        setDirectory(directoryOptional);
+      }
+      Optional<ImmutableMap<String, String>> environmentOptional = instance.getEnvironment();
+      if (environmentOptional.isPresent()) {
+        setEnvironment(environmentOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectInputOptional = instance.getRedirectInput();
+      if (redirectInputOptional.isPresent()) {
+        setRedirectInput(redirectInputOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectOutputOptional = instance.getRedirectOutput();
+      if (redirectOutputOptional.isPresent()) {
+        setRedirectOutput(redirectOutputOptional);
+      }
+      Optional<ProcessBuilder.Redirect> redirectErrorOptional = instance.getRedirectError();
+      if (redirectErrorOptional.isPresent()) {
+        setRedirectError(redirectErrorOptional);
+      }
+      Optional<Boolean> redirectErrorStreamOptional = instance.getRedirectErrorStream();
+      if (redirectErrorStreamOptional.isPresent()) {
+        setRedirectErrorStream(redirectErrorStreamOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param element A command element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCommand(String element) {
+      this.command.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param elements An array of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addCommand(String... elements) {
+      this.command.add(elements);
+      return this;
+    }
+
+
+    /**
+     * Sets or replaces all elements for {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCommand(Iterable<String> elements) {
+      this.command = ImmutableList.builder();
+      return addAllCommand(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractProcessExecutorParams#getCommand() command} list.
+     * @param elements An iterable of command elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder addAllCommand(Iterable<String> elements) {
+      this.command.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getDirectory() directory} to directory.
+     * @param directory The value for directory
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirectory(Path directory) {
+      this.directory = Objects.requireNonNull(directory, "directory");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getDirectory() directory} to directory.
+     * @param directory The value for directory
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setDirectory(Optional<? extends Path> directory) {
+      this.directory = directory.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getEnvironment() environment} to environment.
+     * @param environment The value for environment
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironment(ImmutableMap<String, String> environment) {
+      this.environment = Objects.requireNonNull(environment, "environment");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getEnvironment() environment} to environment.
+     * @param environment The value for environment
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setEnvironment(Optional<? extends ImmutableMap<String, String>> environment) {
+      this.environment = environment.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput} to redirectInput.
+     * @param redirectInput The value for redirectInput
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectInput(ProcessBuilder.Redirect redirectInput) {
+      this.redirectInput = Objects.requireNonNull(redirectInput, "redirectInput");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectInput() redirectInput} to redirectInput.
+     * @param redirectInput The value for redirectInput
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectInput(Optional<? extends ProcessBuilder.Redirect> redirectInput) {
+      this.redirectInput = redirectInput.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput} to redirectOutput.
+     * @param redirectOutput The value for redirectOutput
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectOutput(ProcessBuilder.Redirect redirectOutput) {
+      this.redirectOutput = Objects.requireNonNull(redirectOutput, "redirectOutput");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectOutput() redirectOutput} to redirectOutput.
+     * @param redirectOutput The value for redirectOutput
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectOutput(Optional<? extends ProcessBuilder.Redirect> redirectOutput) {
+      this.redirectOutput = redirectOutput.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectError() redirectError} to redirectError.
+     * @param redirectError The value for redirectError
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectError(ProcessBuilder.Redirect redirectError) {
+      this.redirectError = Objects.requireNonNull(redirectError, "redirectError");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectError() redirectError} to redirectError.
+     * @param redirectError The value for redirectError
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectError(Optional<? extends ProcessBuilder.Redirect> redirectError) {
+      this.redirectError = redirectError.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectErrorStream() redirectErrorStream} to redirectErrorStream.
+     * @param redirectErrorStream The value for redirectErrorStream
+     * @return {@code this} builder for chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectErrorStream(boolean redirectErrorStream) {
+      this.redirectErrorStream = redirectErrorStream;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractProcessExecutorParams#getRedirectErrorStream() redirectErrorStream} to redirectErrorStream.
+     * @param redirectErrorStream The value for redirectErrorStream
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setRedirectErrorStream(Optional<Boolean> redirectErrorStream) {
+      this.redirectErrorStream = redirectErrorStream.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProcessExecutorParams ProcessExecutorParams}.
+     * @return An immutable instance of ProcessExecutorParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProcessExecutorParams build() {
+      return new ProcessExecutorParams(
+          null,
+          command.build(),
+          directory,
+          environment,
+          redirectInput,
+          redirectOutput,
+          redirectError,
+          redirectErrorStream);
+    }
+  }
+}
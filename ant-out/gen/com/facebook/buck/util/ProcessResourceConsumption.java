@@ -0,0 +1,435 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ *Represents resource consumption counters of a {@link Process}. 
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProcessResourceConsumption"})
+@Immutable
+@CheckReturnValue
+public final class ProcessResourceConsumption
+    extends AbstractProcessResourceConsumption {
+  private final long memResident;
+  private final long memSize;
+  private final long cpuReal;
+  private final long cpuUser;
+  private final long cpuSys;
+  private final long cpuTotal;
+  private final long ioBytesRead;
+  private final long ioBytesWritten;
+  private final long ioTotal;
+
+  private ProcessResourceConsumption(
+      long memResident,
+      long memSize,
+      long cpuReal,
+      long cpuUser,
+      long cpuSys,
+      long cpuTotal,
+      long ioBytesRead,
+      long ioBytesWritten,
+      long ioTotal) {
+    this.memResident = memResident;
+    this.memSize = memSize;
+    this.cpuReal = cpuReal;
+    this.cpuUser = cpuUser;
+    this.cpuSys = cpuSys;
+    this.cpuTotal = cpuTotal;
+    this.ioBytesRead = ioBytesRead;
+    this.ioBytesWritten = ioBytesWritten;
+    this.ioTotal = ioTotal;
+  }
+
+  private ProcessResourceConsumption(ProcessResourceConsumption.Builder builder) {
+    this.memResident = builder.memResident;
+    this.memSize = builder.memSize;
+    this.cpuReal = builder.cpuReal;
+    this.cpuUser = builder.cpuUser;
+    this.cpuSys = builder.cpuSys;
+    this.cpuTotal = builder.cpuTotal;
+    this.ioBytesRead = builder.ioBytesRead;
+    this.ioBytesWritten = builder.ioBytesWritten;
+    this.ioTotal = builder.ioTotal;
+  }
+
+  /**
+   * @return The value of the {@code memResident} attribute
+   */
+  @Override
+  public long getMemResident() {
+    return memResident;
+  }
+
+  /**
+   * @return The value of the {@code memSize} attribute
+   */
+  @Override
+  public long getMemSize() {
+    return memSize;
+  }
+
+  /**
+   * @return The value of the {@code cpuReal} attribute
+   */
+  @Override
+  public long getCpuReal() {
+    return cpuReal;
+  }
+
+  /**
+   * @return The value of the {@code cpuUser} attribute
+   */
+  @Override
+  public long getCpuUser() {
+    return cpuUser;
+  }
+
+  /**
+   * @return The value of the {@code cpuSys} attribute
+   */
+  @Override
+  public long getCpuSys() {
+    return cpuSys;
+  }
+
+  /**
+   * @return The value of the {@code cpuTotal} attribute
+   */
+  @Override
+  public long getCpuTotal() {
+    return cpuTotal;
+  }
+
+  /**
+   * @return The value of the {@code ioBytesRead} attribute
+   */
+  @Override
+  public long getIoBytesRead() {
+    return ioBytesRead;
+  }
+
+  /**
+   * @return The value of the {@code ioBytesWritten} attribute
+   */
+  @Override
+  public long getIoBytesWritten() {
+    return ioBytesWritten;
+  }
+
+  /**
+   * @return The value of the {@code ioTotal} attribute
+   */
+  @Override
+  public long getIoTotal() {
+    return ioTotal;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProcessResourceConsumption} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProcessResourceConsumption
+        && equalTo((ProcessResourceConsumption) another);
+  }
+
+  private boolean equalTo(ProcessResourceConsumption another) {
+    return memResident == another.memResident
+        && memSize == another.memSize
+        && cpuReal == another.cpuReal
+        && cpuUser == another.cpuUser
+        && cpuSys == another.cpuSys
+        && cpuTotal == another.cpuTotal
+        && ioBytesRead == another.ioBytesRead
+        && ioBytesWritten == another.ioBytesWritten
+        && ioTotal == another.ioTotal;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code memResident}, {@code memSize}, {@code cpuReal}, {@code cpuUser}, {@code cpuSys}, {@code cpuTotal}, {@code ioBytesRead}, {@code ioBytesWritten}, {@code ioTotal}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Longs.hashCode(memResident);
+    h += (h << 5) + Longs.hashCode(memSize);
+    h += (h << 5) + Longs.hashCode(cpuReal);
+    h += (h << 5) + Longs.hashCode(cpuUser);
+    h += (h << 5) + Longs.hashCode(cpuSys);
+    h += (h << 5) + Longs.hashCode(cpuTotal);
+    h += (h << 5) + Longs.hashCode(ioBytesRead);
+    h += (h << 5) + Longs.hashCode(ioBytesWritten);
+    h += (h << 5) + Longs.hashCode(ioTotal);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProcessResourceConsumption} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProcessResourceConsumption")
+        .omitNullValues()
+        .add("memResident", memResident)
+        .add("memSize", memSize)
+        .add("cpuReal", cpuReal)
+        .add("cpuUser", cpuUser)
+        .add("cpuSys", cpuSys)
+        .add("cpuTotal", cpuTotal)
+        .add("ioBytesRead", ioBytesRead)
+        .add("ioBytesWritten", ioBytesWritten)
+        .add("ioTotal", ioTotal)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProcessResourceConsumption} instance.
+   * @param memResident The value for the {@code memResident} attribute
+   * @param memSize The value for the {@code memSize} attribute
+   * @param cpuReal The value for the {@code cpuReal} attribute
+   * @param cpuUser The value for the {@code cpuUser} attribute
+   * @param cpuSys The value for the {@code cpuSys} attribute
+   * @param cpuTotal The value for the {@code cpuTotal} attribute
+   * @param ioBytesRead The value for the {@code ioBytesRead} attribute
+   * @param ioBytesWritten The value for the {@code ioBytesWritten} attribute
+   * @param ioTotal The value for the {@code ioTotal} attribute
+   * @return An immutable ProcessResourceConsumption instance
+   */
+  public static ProcessResourceConsumption of(long memResident, long memSize, long cpuReal, long cpuUser, long cpuSys, long cpuTotal, long ioBytesRead, long ioBytesWritten, long ioTotal) {
+    return new ProcessResourceConsumption(memResident, memSize, cpuReal, cpuUser, cpuSys, cpuTotal, ioBytesRead, ioBytesWritten, ioTotal);
+  }
+
+  /**
+   * Creates a builder for {@link ProcessResourceConsumption ProcessResourceConsumption}.
+   * @return A new ProcessResourceConsumption builder
+   */
+  public static ProcessResourceConsumption.Builder builder() {
+    return new ProcessResourceConsumption.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProcessResourceConsumption ProcessResourceConsumption}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MEM_RESIDENT = 0x1L;
+    private static final long INIT_BIT_MEM_SIZE = 0x2L;
+    private static final long INIT_BIT_CPU_REAL = 0x4L;
+    private static final long INIT_BIT_CPU_USER = 0x8L;
+    private static final long INIT_BIT_CPU_SYS = 0x10L;
+    private static final long INIT_BIT_CPU_TOTAL = 0x20L;
+    private static final long INIT_BIT_IO_BYTES_READ = 0x40L;
+    private static final long INIT_BIT_IO_BYTES_WRITTEN = 0x80L;
+    private static final long INIT_BIT_IO_TOTAL = 0x100L;
+    private long initBits = 0x1ffL;
+
+    private long memResident;
+    private long memSize;
+    private long cpuReal;
+    private long cpuUser;
+    private long cpuSys;
+    private long cpuTotal;
+    private long ioBytesRead;
+    private long ioBytesWritten;
+    private long ioTotal;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProcessResourceConsumption} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProcessResourceConsumption instance) {
+      return from((AbstractProcessResourceConsumption) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProcessResourceConsumption} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractProcessResourceConsumption instance) {
+      Objects.requireNonNull(instance, "instance");
+      setMemResident(instance.getMemResident());
+      setMemSize(instance.getMemSize());
+      setCpuReal(instance.getCpuReal());
+      setCpuUser(instance.getCpuUser());
+      setCpuSys(instance.getCpuSys());
+      setCpuTotal(instance.getCpuTotal());
+      setIoBytesRead(instance.getIoBytesRead());
+      setIoBytesWritten(instance.getIoBytesWritten());
+      setIoTotal(instance.getIoTotal());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getMemResident() memResident} attribute.
+     * @param memResident The value for memResident 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMemResident(long memResident) {
+      this.memResident = memResident;
+      initBits &= ~INIT_BIT_MEM_RESIDENT;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getMemSize() memSize} attribute.
+     * @param memSize The value for memSize 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setMemSize(long memSize) {
+      this.memSize = memSize;
+      initBits &= ~INIT_BIT_MEM_SIZE;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getCpuReal() cpuReal} attribute.
+     * @param cpuReal The value for cpuReal 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpuReal(long cpuReal) {
+      this.cpuReal = cpuReal;
+      initBits &= ~INIT_BIT_CPU_REAL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getCpuUser() cpuUser} attribute.
+     * @param cpuUser The value for cpuUser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpuUser(long cpuUser) {
+      this.cpuUser = cpuUser;
+      initBits &= ~INIT_BIT_CPU_USER;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getCpuSys() cpuSys} attribute.
+     * @param cpuSys The value for cpuSys 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpuSys(long cpuSys) {
+      this.cpuSys = cpuSys;
+      initBits &= ~INIT_BIT_CPU_SYS;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getCpuTotal() cpuTotal} attribute.
+     * @param cpuTotal The value for cpuTotal 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setCpuTotal(long cpuTotal) {
+      this.cpuTotal = cpuTotal;
+      initBits &= ~INIT_BIT_CPU_TOTAL;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getIoBytesRead() ioBytesRead} attribute.
+     * @param ioBytesRead The value for ioBytesRead 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIoBytesRead(long ioBytesRead) {
+      this.ioBytesRead = ioBytesRead;
+      initBits &= ~INIT_BIT_IO_BYTES_READ;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getIoBytesWritten() ioBytesWritten} attribute.
+     * @param ioBytesWritten The value for ioBytesWritten 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIoBytesWritten(long ioBytesWritten) {
+      this.ioBytesWritten = ioBytesWritten;
+      initBits &= ~INIT_BIT_IO_BYTES_WRITTEN;
+      return this;
+    }
+
+
+    /**
+     * Initializes the value for the {@link AbstractProcessResourceConsumption#getIoTotal() ioTotal} attribute.
+     * @param ioTotal The value for ioTotal 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setIoTotal(long ioTotal) {
+      this.ioTotal = ioTotal;
+      initBits &= ~INIT_BIT_IO_TOTAL;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link ProcessResourceConsumption ProcessResourceConsumption}.
+     * @return An immutable instance of ProcessResourceConsumption
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProcessResourceConsumption build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProcessResourceConsumption(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MEM_RESIDENT) != 0) attributes.add("memResident");
+      if ((initBits & INIT_BIT_MEM_SIZE) != 0) attributes.add("memSize");
+      if ((initBits & INIT_BIT_CPU_REAL) != 0) attributes.add("cpuReal");
+      if ((initBits & INIT_BIT_CPU_USER) != 0) attributes.add("cpuUser");
+      if ((initBits & INIT_BIT_CPU_SYS) != 0) attributes.add("cpuSys");
+      if ((initBits & INIT_BIT_CPU_TOTAL) != 0) attributes.add("cpuTotal");
+      if ((initBits & INIT_BIT_IO_BYTES_READ) != 0) attributes.add("ioBytesRead");
+      if ((initBits & INIT_BIT_IO_BYTES_WRITTEN) != 0) attributes.add("ioBytesWritten");
+      if ((initBits & INIT_BIT_IO_TOTAL) != 0) attributes.add("ioTotal");
+      return "Cannot build ProcessResourceConsumption, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Floats;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Holds a probability between 0 to 100 inclusively. Performs the checks that the value is within
+ * those limits.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSampleRate"})
+@Immutable
+@CheckReturnValue
+public final class SampleRate extends AbstractSampleRate {
+  private final float sampleRate;
+
+  private SampleRate(float sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  private SampleRate(SampleRate.Builder builder) {
+    this.sampleRate = builder.sampleRate;
+  }
+
+  /**
+   * @return The value of the {@code sampleRate} attribute
+   */
+  @Override
+  public float getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SampleRate} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SampleRate
+        && equalTo((SampleRate) another);
+  }
+
+  private boolean equalTo(SampleRate another) {
+    return Float.floatToIntBits(sampleRate) == Float.floatToIntBits(another.sampleRate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sampleRate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + Floats.hashCode(sampleRate);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SampleRate} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SampleRate")
+        .omitNullValues()
+        .add("sampleRate", sampleRate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SampleRate} instance.
+   * @param sampleRate The value for the {@code sampleRate} attribute
+   * @return An immutable SampleRate instance
+   */
+  public static SampleRate of(float sampleRate) {
+    return validate(new SampleRate(sampleRate));
+  }
+
+
+  private static SampleRate validate(SampleRate instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates a builder for {@link SampleRate SampleRate}.
+   * @return A new SampleRate builder
+   */
+  public static SampleRate.Builder builder() {
+    return new SampleRate.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SampleRate SampleRate}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SAMPLE_RATE = 0x1L;
+    private long initBits = 0x1L;
+
+    private float sampleRate;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SampleRate} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SampleRate instance) {
+      return from((AbstractSampleRate) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSampleRate} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    final Builder from(AbstractSampleRate instance) {
+      Objects.requireNonNull(instance, "instance");
+      setSampleRate(instance.getSampleRate());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractSampleRate#getSampleRate() sampleRate} attribute.
+     * @param sampleRate The value for sampleRate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @CanIgnoreReturnValue 
+    public final Builder setSampleRate(float sampleRate) {
+      this.sampleRate = sampleRate;
+      initBits &= ~INIT_BIT_SAMPLE_RATE;
+      return this;
+    }
+
+
+    /**
+     * Builds a new {@link SampleRate SampleRate}.
+     * @return An immutable instance of SampleRate
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SampleRate build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return SampleRate.validate(new SampleRate(this));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SAMPLE_RATE) != 0) attributes.add("sampleRate");
+      return "Cannot build SampleRate, some of required attributes are not set " + attributes;
+    }
+  }
+}
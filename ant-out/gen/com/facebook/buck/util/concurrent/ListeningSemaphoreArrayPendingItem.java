@@ -0,0 +1,204 @@
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractListeningSemaphoreArrayPendingItem}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ListeningSemaphoreArrayPendingItem.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractListeningSemaphoreArrayPendingItem"})
+@Immutable
+@CheckReturnValue
+public final class ListeningSemaphoreArrayPendingItem
+    extends AbstractListeningSemaphoreArrayPendingItem {
+  private final SettableFuture<Void> future;
+  private final ResourceAmounts resources;
+  private final long priority;
+  private final long sequence;
+
+  private ListeningSemaphoreArrayPendingItem(
+      SettableFuture<Void> future,
+      ResourceAmounts resources,
+      long priority,
+      long sequence) {
+    this.future = Objects.requireNonNull(future, "future");
+    this.resources = Objects.requireNonNull(resources, "resources");
+    this.priority = priority;
+    this.sequence = sequence;
+  }
+
+  private ListeningSemaphoreArrayPendingItem(
+      ListeningSemaphoreArrayPendingItem original,
+      SettableFuture<Void> future,
+      ResourceAmounts resources,
+      long priority,
+      long sequence) {
+    this.future = future;
+    this.resources = resources;
+    this.priority = priority;
+    this.sequence = sequence;
+  }
+
+  /**
+   * @return The value of the {@code future} attribute
+   */
+  @Override
+  public SettableFuture<Void> getFuture() {
+    return future;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ResourceAmounts getResources() {
+    return resources;
+  }
+
+  /**
+   *Items with higher priority are granted resources first. 
+   */
+  @Override
+  public long getPriority() {
+    return priority;
+  }
+
+  /**
+   *Order of arrival, which breaks ties between items of the same priority. 
+   */
+  @Override
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getFuture() future} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for future
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withFuture(SettableFuture<Void> value) {
+    if (this.future == value) return this;
+    SettableFuture<Void> newValue = Objects.requireNonNull(value, "future");
+    return new ListeningSemaphoreArrayPendingItem(this, newValue, this.resources, this.priority, this.sequence);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getResources() resources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resources
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withResources(ResourceAmounts value) {
+    if (this.resources == value) return this;
+    ResourceAmounts newValue = Objects.requireNonNull(value, "resources");
+    return new ListeningSemaphoreArrayPendingItem(this, this.future, newValue, this.priority, this.sequence);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getPriority() priority} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for priority
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withPriority(long value) {
+    if (this.priority == value) return this;
+    return new ListeningSemaphoreArrayPendingItem(this, this.future, this.resources, value, this.sequence);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getSequence() sequence} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sequence
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withSequence(long value) {
+    if (this.sequence == value) return this;
+    return new ListeningSemaphoreArrayPendingItem(this, this.future, this.resources, this.priority, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ListeningSemaphoreArrayPendingItem} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ListeningSemaphoreArrayPendingItem
+        && equalTo((ListeningSemaphoreArrayPendingItem) another);
+  }
+
+  private boolean equalTo(ListeningSemaphoreArrayPendingItem another) {
+    return future.equals(another.future)
+        && resources.equals(another.resources)
+        && priority == another.priority
+        && sequence == another.sequence;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code future}, {@code resources}, {@code priority}, {@code sequence}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + future.hashCode();
+    h += (h << 5) + resources.hashCode();
+    h += (h << 5) + Longs.hashCode(priority);
+    h += (h << 5) + Longs.hashCode(sequence);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ListeningSemaphoreArrayPendingItem} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ListeningSemaphoreArrayPendingItem")
+        .omitNullValues()
+        .add("future", future)
+        .add("resources", resources)
+        .add("priority", priority)
+        .add("sequence", sequence)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ListeningSemaphoreArrayPendingItem} instance.
+   * @param future The value for the {@code future} attribute
+   * @param resources The value for the {@code resources} attribute
+   * @param priority The value for the {@code priority} attribute
+   * @param sequence The value for the {@code sequence} attribute
+   * @return An immutable ListeningSemaphoreArrayPendingItem instance
+   */
+  public static ListeningSemaphoreArrayPendingItem of(SettableFuture<Void> future, ResourceAmounts resources, long priority, long sequence) {
+    return new ListeningSemaphoreArrayPendingItem(future, resources, priority, sequence);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractListeningSemaphoreArrayPendingItem} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ListeningSemaphoreArrayPendingItem instance
+   */
+  static ListeningSemaphoreArrayPendingItem copyOf(AbstractListeningSemaphoreArrayPendingItem instance) {
+    if (instance instanceof ListeningSemaphoreArrayPendingItem) {
+      return (ListeningSemaphoreArrayPendingItem) instance;
+    }
+    return ListeningSemaphoreArrayPendingItem.of(instance.getFuture(), instance.getResources(), instance.getPriority(), instance.getSequence());
+  }
+}
@@ -0,0 +1,242 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractFastVersionControlStats}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code FastVersionControlStats.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFastVersionControlStats"})
+@Immutable
+@CheckReturnValue
+public final class FastVersionControlStats
+    implements AbstractFastVersionControlStats {
+  private final String currentRevisionId;
+  private final ImmutableSet<String> baseBookmarks;
+  private final String branchedFromMasterRevisionId;
+  private final Long branchedFromMasterTS;
+
+  private FastVersionControlStats(
+      String currentRevisionId,
+      Iterable<String> baseBookmarks,
+      String branchedFromMasterRevisionId,
+      Long branchedFromMasterTS) {
+    this.currentRevisionId = Objects.requireNonNull(currentRevisionId, "currentRevisionId");
+    this.baseBookmarks = ImmutableSet.copyOf(baseBookmarks);
+    this.branchedFromMasterRevisionId = Objects.requireNonNull(branchedFromMasterRevisionId, "branchedFromMasterRevisionId");
+    this.branchedFromMasterTS = Objects.requireNonNull(branchedFromMasterTS, "branchedFromMasterTS");
+  }
+
+  private FastVersionControlStats(
+      FastVersionControlStats original,
+      String currentRevisionId,
+      ImmutableSet<String> baseBookmarks,
+      String branchedFromMasterRevisionId,
+      Long branchedFromMasterTS) {
+    this.currentRevisionId = currentRevisionId;
+    this.baseBookmarks = baseBookmarks;
+    this.branchedFromMasterRevisionId = branchedFromMasterRevisionId;
+    this.branchedFromMasterTS = branchedFromMasterTS;
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code baseBookmarks} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBaseBookmarks() {
+    return baseBookmarks;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterRevisionId} attribute
+   */
+  @Override
+  public String getBranchedFromMasterRevisionId() {
+    return branchedFromMasterRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterTS} attribute
+   */
+  @Override
+  public Long getBranchedFromMasterTS() {
+    return branchedFromMasterTS;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFastVersionControlStats#getCurrentRevisionId() currentRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for currentRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final FastVersionControlStats withCurrentRevisionId(String value) {
+    if (this.currentRevisionId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "currentRevisionId");
+    return new FastVersionControlStats(
+        this,
+        newValue,
+        this.baseBookmarks,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractFastVersionControlStats#getBaseBookmarks() baseBookmarks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FastVersionControlStats withBaseBookmarks(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new FastVersionControlStats(
+        this,
+        this.currentRevisionId,
+        newValue,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractFastVersionControlStats#getBaseBookmarks() baseBookmarks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of baseBookmarks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FastVersionControlStats withBaseBookmarks(Iterable<String> elements) {
+    if (this.baseBookmarks == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new FastVersionControlStats(
+        this,
+        this.currentRevisionId,
+        newValue,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFastVersionControlStats#getBranchedFromMasterRevisionId() branchedFromMasterRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for branchedFromMasterRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final FastVersionControlStats withBranchedFromMasterRevisionId(String value) {
+    if (this.branchedFromMasterRevisionId.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "branchedFromMasterRevisionId");
+    return new FastVersionControlStats(this, this.currentRevisionId, this.baseBookmarks, newValue, this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFastVersionControlStats#getBranchedFromMasterTS() branchedFromMasterTS} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for branchedFromMasterTS
+   * @return A modified copy of the {@code this} object
+   */
+  public final FastVersionControlStats withBranchedFromMasterTS(Long value) {
+    if (this.branchedFromMasterTS.equals(value)) return this;
+    Long newValue = Objects.requireNonNull(value, "branchedFromMasterTS");
+    return new FastVersionControlStats(this, this.currentRevisionId, this.baseBookmarks, this.branchedFromMasterRevisionId, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FastVersionControlStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FastVersionControlStats
+        && equalTo((FastVersionControlStats) another);
+  }
+
+  private boolean equalTo(FastVersionControlStats another) {
+    return currentRevisionId.equals(another.currentRevisionId)
+        && baseBookmarks.equals(another.baseBookmarks)
+        && branchedFromMasterRevisionId.equals(another.branchedFromMasterRevisionId)
+        && branchedFromMasterTS.equals(another.branchedFromMasterTS);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentRevisionId}, {@code baseBookmarks}, {@code branchedFromMasterRevisionId}, {@code branchedFromMasterTS}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + currentRevisionId.hashCode();
+    h += (h << 5) + baseBookmarks.hashCode();
+    h += (h << 5) + branchedFromMasterRevisionId.hashCode();
+    h += (h << 5) + branchedFromMasterTS.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FastVersionControlStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FastVersionControlStats")
+        .omitNullValues()
+        .add("currentRevisionId", currentRevisionId)
+        .add("baseBookmarks", baseBookmarks)
+        .add("branchedFromMasterRevisionId", branchedFromMasterRevisionId)
+        .add("branchedFromMasterTS", branchedFromMasterTS)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FastVersionControlStats} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param baseBookmarks The value for the {@code baseBookmarks} attribute
+   * @param branchedFromMasterRevisionId The value for the {@code branchedFromMasterRevisionId} attribute
+   * @param branchedFromMasterTS The value for the {@code branchedFromMasterTS} attribute
+   * @return An immutable FastVersionControlStats instance
+   */
+  public static FastVersionControlStats of(String currentRevisionId, ImmutableSet<String> baseBookmarks, String branchedFromMasterRevisionId, Long branchedFromMasterTS) {
+    return of(currentRevisionId, (Iterable<String>) baseBookmarks, branchedFromMasterRevisionId, branchedFromMasterTS);
+  }
+
+  /**
+   * Construct a new immutable {@code FastVersionControlStats} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param baseBookmarks The value for the {@code baseBookmarks} attribute
+   * @param branchedFromMasterRevisionId The value for the {@code branchedFromMasterRevisionId} attribute
+   * @param branchedFromMasterTS The value for the {@code branchedFromMasterTS} attribute
+   * @return An immutable FastVersionControlStats instance
+   */
+  public static FastVersionControlStats of(String currentRevisionId, Iterable<String> baseBookmarks, String branchedFromMasterRevisionId, Long branchedFromMasterTS) {
+    return new FastVersionControlStats(currentRevisionId, baseBookmarks, branchedFromMasterRevisionId, branchedFromMasterTS);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFastVersionControlStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FastVersionControlStats instance
+   */
+  static FastVersionControlStats copyOf(AbstractFastVersionControlStats instance) {
+    if (instance instanceof FastVersionControlStats) {
+      return (FastVersionControlStats) instance;
+    }
+    return FastVersionControlStats.of(instance.getCurrentRevisionId(), instance.getBaseBookmarks(), instance.getBranchedFromMasterRevisionId(), instance.getBranchedFromMasterTS());
+  }
+}
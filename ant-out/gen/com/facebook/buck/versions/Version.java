@@ -0,0 +1,113 @@
+package com.facebook.buck.versions;
+
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractVersion}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code Version.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractVersion"})
+@Immutable
+@CheckReturnValue
+public final class Version extends AbstractVersion {
+  private final String name;
+
+  private Version(String name) {
+    this.name = Objects.requireNonNull(name, "name");
+  }
+
+  private Version(Version original, String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractVersion#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final Version withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Objects.requireNonNull(value, "name");
+    return new Version(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Version} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Version
+        && equalTo((Version) another);
+  }
+
+  private boolean equalTo(Version another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Version} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Version")
+        .omitNullValues()
+        .add("name", name)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Version} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable Version instance
+   */
+  public static Version of(String name) {
+    return new Version(name);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractVersion} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Version instance
+   */
+  static Version copyOf(AbstractVersion instance) {
+    if (instance instanceof Version) {
+      return (Version) instance;
+    }
+    return Version.of(instance.getName());
+  }
+}
@@ -0,0 +1,149 @@
+package com.facebook.buck.versions;
+
+import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A collection of anything which affects/changes how the versioned target graph is generated. If
+ * any of these items changes between runs, we cannot use a cached versioned target graph and
+ * must re-generate it.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VersionedTargetGraphCache.AbstractVersionedTargetGraphInputs"})
+@Immutable
+@CheckReturnValue
+public final class VersionedTargetGraphInputs
+    implements VersionedTargetGraphCache.AbstractVersionedTargetGraphInputs {
+  private final TargetGraphAndBuildTargets targetGraphAndBuildTargets;
+  private final ImmutableMap<String, VersionUniverse> versionUniverses;
+
+  private VersionedTargetGraphInputs(
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
+      Map<String, ? extends VersionUniverse> versionUniverses) {
+    this.targetGraphAndBuildTargets = Objects.requireNonNull(targetGraphAndBuildTargets, "targetGraphAndBuildTargets");
+    this.versionUniverses = ImmutableMap.copyOf(versionUniverses);
+  }
+
+  private VersionedTargetGraphInputs(
+      VersionedTargetGraphInputs original,
+      TargetGraphAndBuildTargets targetGraphAndBuildTargets,
+      ImmutableMap<String, VersionUniverse> versionUniverses) {
+    this.targetGraphAndBuildTargets = targetGraphAndBuildTargets;
+    this.versionUniverses = versionUniverses;
+  }
+
+  /**
+   *@return the un-versioned target graph to be transformed. 
+   */
+  @Override
+  public TargetGraphAndBuildTargets getTargetGraphAndBuildTargets() {
+    return targetGraphAndBuildTargets;
+  }
+
+  /**
+   *@return the version universes used when generating the versioned target graph. 
+   */
+  @Override
+  public ImmutableMap<String, VersionUniverse> getVersionUniverses() {
+    return versionUniverses;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphInputs#getTargetGraphAndBuildTargets() targetGraphAndBuildTargets} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetGraphAndBuildTargets
+   * @return A modified copy of the {@code this} object
+   */
+  public final VersionedTargetGraphInputs withTargetGraphAndBuildTargets(TargetGraphAndBuildTargets value) {
+    if (this.targetGraphAndBuildTargets == value) return this;
+    TargetGraphAndBuildTargets newValue = Objects.requireNonNull(value, "targetGraphAndBuildTargets");
+    return new VersionedTargetGraphInputs(this, newValue, this.versionUniverses);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphInputs#getVersionUniverses() versionUniverses} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the versionUniverses map
+   * @return A modified copy of {@code this} object
+   */
+  public final VersionedTargetGraphInputs withVersionUniverses(Map<String, ? extends VersionUniverse> entries) {
+    if (this.versionUniverses == entries) return this;
+    ImmutableMap<String, VersionUniverse> newValue = ImmutableMap.copyOf(entries);
+    return new VersionedTargetGraphInputs(this, this.targetGraphAndBuildTargets, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code VersionedTargetGraphInputs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof VersionedTargetGraphInputs
+        && equalTo((VersionedTargetGraphInputs) another);
+  }
+
+  private boolean equalTo(VersionedTargetGraphInputs another) {
+    return targetGraphAndBuildTargets.equals(another.targetGraphAndBuildTargets)
+        && versionUniverses.equals(another.versionUniverses);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code targetGraphAndBuildTargets}, {@code versionUniverses}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + targetGraphAndBuildTargets.hashCode();
+    h += (h << 5) + versionUniverses.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code VersionedTargetGraphInputs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("VersionedTargetGraphInputs")
+        .omitNullValues()
+        .add("targetGraphAndBuildTargets", targetGraphAndBuildTargets)
+        .add("versionUniverses", versionUniverses)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code VersionedTargetGraphInputs} instance.
+   * @param targetGraphAndBuildTargets The value for the {@code targetGraphAndBuildTargets} attribute
+   * @param versionUniverses The value for the {@code versionUniverses} attribute
+   * @return An immutable VersionedTargetGraphInputs instance
+   */
+  public static VersionedTargetGraphInputs of(TargetGraphAndBuildTargets targetGraphAndBuildTargets, Map<String, ? extends VersionUniverse> versionUniverses) {
+    return new VersionedTargetGraphInputs(targetGraphAndBuildTargets, versionUniverses);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VersionedTargetGraphCache.AbstractVersionedTargetGraphInputs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable VersionedTargetGraphInputs instance
+   */
+  static VersionedTargetGraphInputs copyOf(VersionedTargetGraphCache.AbstractVersionedTargetGraphInputs instance) {
+    if (instance instanceof VersionedTargetGraphInputs) {
+      return (VersionedTargetGraphInputs) instance;
+    }
+    return VersionedTargetGraphInputs.of(instance.getTargetGraphAndBuildTargets(), instance.getVersionUniverses());
+  }
+}
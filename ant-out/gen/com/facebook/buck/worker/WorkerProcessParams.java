@@ -0,0 +1,302 @@
+package com.facebook.buck.worker;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractWorkerProcessParams}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WorkerProcessParams.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractWorkerProcessParams"})
+@Immutable
+@CheckReturnValue
+public final class WorkerProcessParams implements AbstractWorkerProcessParams {
+  private final Path tempDir;
+  private final ImmutableList<String> startupCommand;
+  private final ImmutableMap<String, String> startupEnvironment;
+  private final int maxWorkers;
+  private final @Nullable WorkerProcessIdentity workerProcessIdentity;
+
+  private WorkerProcessParams(
+      Path tempDir,
+      Iterable<String> startupCommand,
+      Map<String, ? extends String> startupEnvironment,
+      int maxWorkers,
+      Optional<? extends WorkerProcessIdentity> workerProcessIdentity) {
+    this.tempDir = Objects.requireNonNull(tempDir, "tempDir");
+    this.startupCommand = ImmutableList.copyOf(startupCommand);
+    this.startupEnvironment = ImmutableMap.copyOf(startupEnvironment);
+    this.maxWorkers = maxWorkers;
+    this.workerProcessIdentity = workerProcessIdentity.orElse(null);
+  }
+
+  private WorkerProcessParams(
+      WorkerProcessParams original,
+      Path tempDir,
+      ImmutableList<String> startupCommand,
+      ImmutableMap<String, String> startupEnvironment,
+      int maxWorkers,
+      @Nullable WorkerProcessIdentity workerProcessIdentity) {
+    this.tempDir = tempDir;
+    this.startupCommand = startupCommand;
+    this.startupEnvironment = startupEnvironment;
+    this.maxWorkers = maxWorkers;
+    this.workerProcessIdentity = workerProcessIdentity;
+  }
+
+  /**
+   * Temp folder location. This will be used to store .args, .out and .err files. Additionally, this
+   * will be set into TMP environment variable which worker process tool can use to store other
+   * temporary files, or locate .args, .out and .err files and perform output into them.
+   */
+  @Override
+  public Path getTempDir() {
+    return tempDir;
+  }
+
+  /**
+   * Command that is used to start the worker job, e.g. "my_hashing_tool". It is expected that this
+   * tool will be able to act as a worker process (communicate using specific protocol, accept jobs,
+   * etc.)
+   */
+  @Override
+  public ImmutableList<String> getStartupCommand() {
+    return startupCommand;
+  }
+
+  /**
+   *Environment that will be used to start the worker tool. 
+   */
+  @Override
+  public ImmutableMap<String, String> getStartupEnvironment() {
+    return startupEnvironment;
+  }
+
+  /**
+   *Maximum number of tools that pool can have. 
+   */
+  @Override
+  public int getMaxWorkers() {
+    return maxWorkers;
+  }
+
+  /**
+   * Identifies the instance of the persisted worker process pool. Defines when worker process pool
+   * should be invalidated.
+   * <p>If this value is absent, then key will be automatically computed based on the startup
+   * command and startup arguments.
+   */
+  @Override
+  public Optional<WorkerProcessIdentity> getWorkerProcessIdentity() {
+    return Optional.ofNullable(workerProcessIdentity);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractWorkerProcessParams#getTempDir() tempDir} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for tempDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessParams withTempDir(Path value) {
+    if (this.tempDir == value) return this;
+    Path newValue = Objects.requireNonNull(value, "tempDir");
+    return new WorkerProcessParams(
+        this,
+        newValue,
+        this.startupCommand,
+        this.startupEnvironment,
+        this.maxWorkers,
+        this.workerProcessIdentity);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractWorkerProcessParams#getStartupCommand() startupCommand}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerProcessParams withStartupCommand(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new WorkerProcessParams(
+        this,
+        this.tempDir,
+        newValue,
+        this.startupEnvironment,
+        this.maxWorkers,
+        this.workerProcessIdentity);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractWorkerProcessParams#getStartupCommand() startupCommand}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of startupCommand elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerProcessParams withStartupCommand(Iterable<String> elements) {
+    if (this.startupCommand == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new WorkerProcessParams(
+        this,
+        this.tempDir,
+        newValue,
+        this.startupEnvironment,
+        this.maxWorkers,
+        this.workerProcessIdentity);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractWorkerProcessParams#getStartupEnvironment() startupEnvironment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the startupEnvironment map
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerProcessParams withStartupEnvironment(Map<String, ? extends String> entries) {
+    if (this.startupEnvironment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new WorkerProcessParams(this, this.tempDir, this.startupCommand, newValue, this.maxWorkers, this.workerProcessIdentity);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractWorkerProcessParams#getMaxWorkers() maxWorkers} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for maxWorkers
+   * @return A modified copy of the {@code this} object
+   */
+  public final WorkerProcessParams withMaxWorkers(int value) {
+    if (this.maxWorkers == value) return this;
+    return new WorkerProcessParams(
+        this,
+        this.tempDir,
+        this.startupCommand,
+        this.startupEnvironment,
+        value,
+        this.workerProcessIdentity);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractWorkerProcessParams#getWorkerProcessIdentity() workerProcessIdentity} attribute.
+   * @param value The value for workerProcessIdentity
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerProcessParams withWorkerProcessIdentity(WorkerProcessIdentity value) {
+    @Nullable WorkerProcessIdentity newValue = Objects.requireNonNull(value, "workerProcessIdentity");
+    if (this.workerProcessIdentity == newValue) return this;
+    return new WorkerProcessParams(this, this.tempDir, this.startupCommand, this.startupEnvironment, this.maxWorkers, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractWorkerProcessParams#getWorkerProcessIdentity() workerProcessIdentity} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for workerProcessIdentity
+   * @return A modified copy of {@code this} object
+   */
+  public final WorkerProcessParams withWorkerProcessIdentity(Optional<? extends WorkerProcessIdentity> optional) {
+    @Nullable WorkerProcessIdentity value = optional.orElse(null);
+    if (this.workerProcessIdentity == value) return this;
+    return new WorkerProcessParams(this, this.tempDir, this.startupCommand, this.startupEnvironment, this.maxWorkers, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WorkerProcessParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WorkerProcessParams
+        && equalTo((WorkerProcessParams) another);
+  }
+
+  private boolean equalTo(WorkerProcessParams another) {
+    return tempDir.equals(another.tempDir)
+        && startupCommand.equals(another.startupCommand)
+        && startupEnvironment.equals(another.startupEnvironment)
+        && maxWorkers == another.maxWorkers
+        && Objects.equals(workerProcessIdentity, another.workerProcessIdentity);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code tempDir}, {@code startupCommand}, {@code startupEnvironment}, {@code maxWorkers}, {@code workerProcessIdentity}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 5381;
+    h += (h << 5) + tempDir.hashCode();
+    h += (h << 5) + startupCommand.hashCode();
+    h += (h << 5) + startupEnvironment.hashCode();
+    h += (h << 5) + maxWorkers;
+    h += (h << 5) + Objects.hashCode(workerProcessIdentity);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WorkerProcessParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WorkerProcessParams")
+        .omitNullValues()
+        .add("tempDir", tempDir)
+        .add("startupCommand", startupCommand)
+        .add("startupEnvironment", startupEnvironment)
+        .add("maxWorkers", maxWorkers)
+        .add("workerProcessIdentity", workerProcessIdentity)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessParams} instance.
+   * @param tempDir The value for the {@code tempDir} attribute
+   * @param startupCommand The value for the {@code startupCommand} attribute
+   * @param startupEnvironment The value for the {@code startupEnvironment} attribute
+   * @param maxWorkers The value for the {@code maxWorkers} attribute
+   * @param workerProcessIdentity The value for the {@code workerProcessIdentity} attribute
+   * @return An immutable WorkerProcessParams instance
+   */
+  public static WorkerProcessParams of(Path tempDir, ImmutableList<String> startupCommand, ImmutableMap<String, String> startupEnvironment, int maxWorkers, Optional<WorkerProcessIdentity> workerProcessIdentity) {
+    return of(tempDir, (Iterable<String>) startupCommand, startupEnvironment, maxWorkers, workerProcessIdentity);
+  }
+
+  /**
+   * Construct a new immutable {@code WorkerProcessParams} instance.
+   * @param tempDir The value for the {@code tempDir} attribute
+   * @param startupCommand The value for the {@code startupCommand} attribute
+   * @param startupEnvironment The value for the {@code startupEnvironment} attribute
+   * @param maxWorkers The value for the {@code maxWorkers} attribute
+   * @param workerProcessIdentity The value for the {@code workerProcessIdentity} attribute
+   * @return An immutable WorkerProcessParams instance
+   */
+  public static WorkerProcessParams of(Path tempDir, Iterable<String> startupCommand, Map<String, ? extends String> startupEnvironment, int maxWorkers, Optional<? extends WorkerProcessIdentity> workerProcessIdentity) {
+    return new WorkerProcessParams(tempDir, startupCommand, startupEnvironment, maxWorkers, workerProcessIdentity);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractWorkerProcessParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable WorkerProcessParams instance
+   */
+  static WorkerProcessParams copyOf(AbstractWorkerProcessParams instance) {
+    if (instance instanceof WorkerProcessParams) {
+      return (WorkerProcessParams) instance;
+    }
+    return WorkerProcessParams.of(instance.getTempDir(), instance.getStartupCommand(), instance.getStartupEnvironment(), instance.getMaxWorkers(), instance.getWorkerProcessIdentity());
+  }
+}
@@ -0,0 +1,33 @@
+from __future__ import absolute_import, division, print_function, with_statement
+
+import collections
+import json
+
+from pywatchman import bser
+
+
+def _to_bser_key(key):
+    if isinstance(key, basestring):
+        return key
+    # Use the same string JSON uses for non-string keys, e.g. "1" or "true".
+    return json.dumps(key)
+
+
+def _to_bser_value(obj):
+    """Converts obj to the dicts, lists and primitive values the bser module can encode.
+
+    Map-like and list-like objects are converted the same way BuckJSONEncoder converts them.
+    """
+    if obj is None or isinstance(obj, (basestring, bool, int, long, float)):
+        return obj
+    if isinstance(obj, collections.Mapping) and isinstance(obj, collections.Sized):
+        return dict((_to_bser_key(k), _to_bser_value(v)) for k, v in obj.iteritems())
+    if isinstance(obj, collections.Iterable) and isinstance(obj, collections.Sized):
+        return [_to_bser_value(v) for v in obj]
+    raise TypeError(repr(obj) + " is not BSER serializable")
+
+
+def encode(obj):
+    # type: (object) -> str
+    """Encodes obj as a single BSER PDU."""
+    return bser.dumps(_to_bser_value(obj))
@@ -39,6 +39,7 @@ from pywatchman import WatchmanError
 from .deterministic_set import DeterministicSet
 from .glob_internal import glob_internal
 from .glob_watchman import SyncCookieState, glob_watchman
+from .bser_encoder import encode as bser_encode
 from .json_encoder import BuckJSONEncoder
 from .module_whitelist import ImportWhitelistManager
 from .profiler import Profiler
@@ -1600,15 +1601,15 @@ def format_exception_info(exception_info):
     return formatted
 
 
-def encode_result(values, diagnostics, profile):
-    # type: (List[Dict[str, object]], List[Diagnostic], Optional[str]) -> str
+def encode_result(values, diagnostics, profile, use_bser=False):
+    # type: (List[Dict[str, object]], List[Diagnostic], Optional[str], bool) -> str
     result = {
         "values": [
             dict((k, v) for k, v in value.iteritems() if v is not None)
             for value in values
         ]
     }
-    json_encoder = BuckJSONEncoder()
+    encode = bser_encode if use_bser else BuckJSONEncoder().encode
     if diagnostics:
         encoded_diagnostics = []
         for d in diagnostics:
@@ -1620,7 +1621,7 @@ def encode_result(values, diagnostics, profile):
     if profile is not None:
         result["profile"] = profile
     try:
-        return json_encoder.encode(result)
+        return encode(result)
     except Exception as e:
         # Try again without the values
         result["values"] = []
@@ -1634,10 +1635,12 @@ def encode_result(values, diagnostics, profile):
                 "exception": format_exception_info(sys.exc_info()),
             }
         )
-        return json_encoder.encode(result)
+        return encode(result)
 
 
-def process_with_diagnostics(build_file_query, build_file_processor, to_parent):
+def process_with_diagnostics(
+    build_file_query, build_file_processor, to_parent, use_bser=False
+):
     start_time = time.time()
     build_file = build_file_query.get("buildFile")
     watch_root = build_file_query.get("watchRoot")
@@ -1673,15 +1676,17 @@ def process_with_diagnostics(build_file_query, build_file_processor, to_parent):
             )
         raise
     finally:
-        java_process_send_result(to_parent, values, diagnostics, None)
+        java_process_send_result(to_parent, values, diagnostics, None, use_bser)
 
     end_time = time.time()
     return end_time - start_time
 
 
-def java_process_send_result(to_parent, values, diagnostics, profile_result):
+def java_process_send_result(
+    to_parent, values, diagnostics, profile_result, use_bser=False
+):
     """Sends result to the Java process"""
-    data = encode_result(values, diagnostics, profile_result)
+    data = encode_result(values, diagnostics, profile_result, use_bser)
     to_parent.write(data)
     to_parent.flush()
 
@@ -1826,6 +1831,11 @@ def main():
         action="store_true",
         help="Warn about deprecated syntax usage.",
     )
+    parser.add_option(
+        "--use_bser_output",
+        action="store_true",
+        help="Send results to Buck encoded as BSER instead of JSON.",
+    )
     (options, args) = parser.parse_args()
 
     # Even though project_root is absolute path, it may not be concise. For
@@ -1914,7 +1924,7 @@ def main():
                     "projectPrefix": project_root,
                 }
                 duration = process_with_diagnostics(
-                    query, build_file_processor, to_parent
+                    query, build_file_processor, to_parent, options.use_bser_output
                 )
                 processed_build_file.append(
                     {"buildFile": build_file, "duration": duration}
@@ -1934,7 +1944,10 @@ def main():
                     report_profile(options, to_parent, processed_build_file, profiler)
                 else:
                     duration = process_with_diagnostics(
-                        build_file_query, build_file_processor, to_parent
+                        build_file_query,
+                        build_file_processor,
+                        to_parent,
+                        options.use_bser_output,
                     )
                     processed_build_file.append(
                         {
@@ -2001,13 +2014,15 @@ def report_profile(options, to_parent, processed_build_file, profiler):
                 )
             extra_result += "\n\n"
             profile_result = extra_result + profile_result
-            java_process_send_result(to_parent, [], [], profile_result)
+            java_process_send_result(
+                to_parent, [], [], profile_result, options.use_bser_output
+            )
         except Exception as e:
             trace = traceback.format_exc()
             print(str(trace))
             raise
     else:
-        to_parent.write(encode_result([], [], None))
+        to_parent.write(encode_result([], [], None, options.use_bser_output))
         to_parent.flush()
 
 
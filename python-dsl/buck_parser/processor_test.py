@@ -8,7 +8,7 @@ import tempfile
 import unittest
 from typing import Sequence
 
-from pywatchman import WatchmanError
+from pywatchman import WatchmanError, bser
 
 from .buck import (
     BuildFileFailError,
@@ -1507,6 +1507,62 @@ class BuckTest(unittest.TestCase):
         self.assertEqual("fatal", decoded_result["diagnostics"][0]["level"])
         self.assertEqual("parse", decoded_result["diagnostics"][0]["source"])
 
+    def test_bser_encoding_matches_json_encoding(self):
+        build_file_processor = self.create_build_file_processor(extra_funcs=[foo_rule])
+        build_file = ProjectFile(
+            self.project_root,
+            path="BUCK",
+            contents=(
+                "foo_rule(",
+                '  name="foo",',
+                '  srcs=("a.java", u"b.java"),',
+                '  options={"x": 1, "y": [1.5, None, True]},',
+                '  visibility=["PUBLIC"],',
+                ")",
+            ),
+        )
+        self.write_file(build_file)
+        query = {
+            "buildFile": self.build_file_name,
+            "watchRoot": "",
+            "projectPrefix": self.project_root,
+        }
+        json_stdout = StringIO.StringIO()
+        bser_stdout = StringIO.StringIO()
+        with build_file_processor.with_builtins(__builtin__.__dict__):
+            process_with_diagnostics(query, build_file_processor, json_stdout)
+            process_with_diagnostics(
+                query, build_file_processor, bser_stdout, use_bser=True
+            )
+        json_result = json.loads(json_stdout.getvalue())
+        bser_result = bser.loads(bser_stdout.getvalue())
+        self.assertEqual(json_result, bser_result)
+
+    def test_bser_encoding_failure(self):
+        build_file_processor = self.create_build_file_processor(extra_funcs=[foo_rule])
+        fake_stdout = StringIO.StringIO()
+        build_file = ProjectFile(
+            self.project_root,
+            path="BUCK",
+            contents=("foo_rule(", '  name="foo",' "  srcs=[object()],", ")"),
+        )
+        self.write_file(build_file)
+        with build_file_processor.with_builtins(__builtin__.__dict__):
+            process_with_diagnostics(
+                {
+                    "buildFile": self.build_file_name,
+                    "watchRoot": "",
+                    "projectPrefix": self.project_root,
+                },
+                build_file_processor,
+                fake_stdout,
+                use_bser=True,
+            )
+        decoded_result = bser.loads(fake_stdout.getvalue())
+        self.assertEqual([], decoded_result["values"])
+        self.assertEqual("fatal", decoded_result["diagnostics"][0]["level"])
+        self.assertEqual("parse", decoded_result["diagnostics"][0]["source"])
+
     def test_explicitly_loaded_values_are_available(self):
         defs_file = ProjectFile(
             root=self.project_root,
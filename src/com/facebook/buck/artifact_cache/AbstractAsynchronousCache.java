@@ -39,9 +39,14 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.SettableFuture;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -51,6 +56,8 @@ import org.immutables.value.Value;
 public abstract class AbstractAsynchronousCache implements ArtifactCache {
   private static final Logger LOG = Logger.get(AbstractAsynchronousCache.class);
   private static final int MAX_CONSECUTIVE_MULTI_FETCH_ERRORS = 3;
+  // Pending multiContains requests are merged into a single request until it has this many keys.
+  private static final int MAX_MERGED_MULTI_CONTAINS_KEYS = 5000;
   private final String name;
   private final CacheReadMode cacheReadMode;
 
@@ -66,11 +73,14 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
   private final ArtifactCacheMode mode;
 
   private final BlockingQueue<FetchRequest> pendingFetchRequests = new LinkedBlockingQueue<>();
+  private final BlockingQueue<ContainsRequest> pendingContainsRequests =
+      new LinkedBlockingQueue<>();
 
   // TODO(cjhopman): Remove this error-based disabling of multiFetch, it's only here to make rollout
   // less disruptive.
   private volatile boolean enableMultiFetch = true;
   private final AtomicInteger consecutiveMultiFetchErrorCount = new AtomicInteger();
+  private final AtomicInteger multiFetchRequestsInFlight = new AtomicInteger();
   private volatile boolean markAllFetchRequestsAsSkipped = false;
 
   public AbstractAsynchronousCache(
@@ -126,26 +136,137 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     return 0;
   }
 
-  private void doMultiFetch(ImmutableList<ClaimedFetchRequest> requests) {
-    boolean gotNonError = false;
-    try (CacheEventListener.MultiFetchRequestEvents requestEvents =
-        eventListener.multiFetchStarted(
-            requests
-                .stream()
-                .map(r -> r.getRequest().getBuildTarget())
-                .filter(Objects::nonNull)
-                .collect(ImmutableList.toImmutableList()),
-            requests
-                .stream()
-                .map(r -> r.getRequest().getRuleKey())
-                .collect(ImmutableList.toImmutableList()))) {
+  /**
+   * Used to bound the number of multi-fetch requests in flight. While fewer are, a fetch thread
+   * sends the request for the next batch before reading the response to its previous one. If < 1,
+   * every fetch thread has at most one multi-fetch request in flight.
+   */
+  protected int getMaxMultiFetchRequestsInFlight() {
+    return 0;
+  }
+
+  /**
+   * Sends a multi-fetch request, but leaves reading its response to {@link
+   * PendingMultiFetch#read()}, so that requests for further batches can be sent in the meantime.
+   * Defaults to sending the request with {@link #multiFetchImpl(Iterable)} once it is read.
+   */
+  protected PendingMultiFetch startMultiFetch(ImmutableList<FetchRequest> requests)
+      throws IOException {
+    return new PendingMultiFetch() {
+      @Override
+      public MultiFetchResult read() throws IOException {
+        return multiFetchImpl(requests);
+      }
+
+      @Override
+      public void close() {}
+    };
+  }
+
+  /** A multi-fetch request that was sent, and whose response may not have been read yet. */
+  protected interface PendingMultiFetch extends AutoCloseable {
+    /** The MultiFetchResult should contain results in the same order as the requests. */
+    MultiFetchResult read() throws IOException;
+
+    /** Releases the response, whether it was read or not. */
+    @Override
+    void close() throws IOException;
+  }
+
+  /**
+   * Multi-fetches the given batch, pipelining requests for further batches of pending requests
+   * while fewer than {@link #getMaxMultiFetchRequestsInFlight()} multi-fetch requests are in
+   * flight.
+   */
+  private void doMultiFetches(ImmutableList<ClaimedFetchRequest> firstBatch) {
+    Deque<StartedMultiFetch> multiFetches = new ArrayDeque<>();
+    try {
+      multiFetches.add(newStartedMultiFetch(firstBatch));
+      while (!multiFetches.isEmpty()) {
+        if (multiFetchRequestsInFlight.get() < getMaxMultiFetchRequestsInFlight()
+            && enableMultiFetch
+            && !markAllFetchRequestsAsSkipped) {
+          ImmutableList<ClaimedFetchRequest> batch =
+              claimFetchRequests(getMultiFetchBatchSize(pendingFetchRequests.size()));
+          if (!batch.isEmpty()) {
+            multiFetches.add(newStartedMultiFetch(batch));
+          }
+        }
+        try (StartedMultiFetch multiFetch = multiFetches.remove()) {
+          multiFetch.finish();
+        }
+      }
+    } finally {
+      multiFetches.forEach(StartedMultiFetch::close);
+    }
+  }
+
+  private StartedMultiFetch newStartedMultiFetch(ImmutableList<ClaimedFetchRequest> requests) {
+    try {
+      return new StartedMultiFetch(requests);
+    } catch (RuntimeException e) {
+      requests.forEach(ClaimedFetchRequest::close);
+      throw e;
+    }
+  }
+
+  private ImmutableList<ClaimedFetchRequest> claimFetchRequests(int limit) {
+    ImmutableList.Builder<ClaimedFetchRequest> requests = ImmutableList.builder();
+    for (int i = 0; i < limit; i++) {
+      ClaimedFetchRequest request = getFetchRequest();
+      if (request == null) {
+        break;
+      }
+      requests.add(request);
+    }
+    return requests.build();
+  }
+
+  /** A multi-fetch whose request was sent, or failed to be, and whose results are pending. */
+  private class StartedMultiFetch implements Scope {
+    private final ImmutableList<ClaimedFetchRequest> requests;
+    private final CacheEventListener.MultiFetchRequestEvents requestEvents;
+    @Nullable private PendingMultiFetch pendingMultiFetch;
+    @Nullable private IOException failure;
+    private boolean closed;
+
+    private StartedMultiFetch(ImmutableList<ClaimedFetchRequest> requests) {
+      this.requests = requests;
+      this.requestEvents =
+          eventListener.multiFetchStarted(
+              requests
+                  .stream()
+                  .map(r -> r.getRequest().getBuildTarget())
+                  .filter(Objects::nonNull)
+                  .collect(ImmutableList.toImmutableList()),
+              requests
+                  .stream()
+                  .map(r -> r.getRequest().getRuleKey())
+                  .collect(ImmutableList.toImmutableList()));
+      multiFetchRequestsInFlight.incrementAndGet();
       try {
-        MultiFetchResult result =
-            multiFetchImpl(
+        pendingMultiFetch =
+            startMultiFetch(
                 requests
                     .stream()
                     .map(ClaimedFetchRequest::getRequest)
                     .collect(ImmutableList.toImmutableList()));
+      } catch (IOException e) {
+        failure = e;
+      } catch (RuntimeException e) {
+        multiFetchRequestsInFlight.decrementAndGet();
+        requestEvents.close();
+        throw e;
+      }
+    }
+
+    private void finish() {
+      boolean gotNonError = false;
+      try {
+        if (failure != null) {
+          throw failure;
+        }
+        MultiFetchResult result = Preconditions.checkNotNull(pendingMultiFetch).read();
         Preconditions.checkState(result.getResults().size() == requests.size());
         // MultiFetch must return a non-skipped result for at least one of the requested keys.
         Preconditions.checkState(
@@ -189,16 +310,35 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
           requestEvents.failed(i, e, msg, result);
           requests.get(i).setResult(result);
         }
+      } finally {
+        if (gotNonError) {
+          consecutiveMultiFetchErrorCount.set(0);
+        } else {
+          if (consecutiveMultiFetchErrorCount.incrementAndGet()
+              == MAX_CONSECUTIVE_MULTI_FETCH_ERRORS) {
+            LOG.info("Too many MultiFetch errors, falling back to Fetch only.");
+            enableMultiFetch = false;
+          }
+        }
       }
-    } finally {
-      if (gotNonError) {
-        consecutiveMultiFetchErrorCount.set(0);
-      } else {
-        if (consecutiveMultiFetchErrorCount.incrementAndGet()
-            == MAX_CONSECUTIVE_MULTI_FETCH_ERRORS) {
-          LOG.info("Too many MultiFetch errors, falling back to Fetch only.");
-          enableMultiFetch = false;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        if (pendingMultiFetch != null) {
+          pendingMultiFetch.close();
         }
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to release the response to a multi-fetch request.");
+      } finally {
+        multiFetchRequestsInFlight.decrementAndGet();
+        requestEvents.close();
+        requests.forEach(ClaimedFetchRequest::close);
       }
     }
   }
@@ -254,23 +394,11 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
       int multiFetchLimit =
           enableMultiFetch ? getMultiFetchBatchSize(pendingFetchRequests.size()) : 0;
       if (multiFetchLimit > 0) {
-        ImmutableList.Builder<ClaimedFetchRequest> requestsBuilder = ImmutableList.builder();
-        try {
-          for (int i = 0; i < multiFetchLimit; i++) {
-            ClaimedFetchRequest request = getFetchRequest();
-            if (request == null) {
-              break;
-            }
-            requestsBuilder.add(request);
-          }
-          ImmutableList<ClaimedFetchRequest> requests = requestsBuilder.build();
-          if (requests.isEmpty()) {
-            return;
-          }
-          doMultiFetch(requests);
-        } finally {
-          requestsBuilder.build().forEach(ClaimedFetchRequest::close);
+        ImmutableList<ClaimedFetchRequest> requests = claimFetchRequests(multiFetchLimit);
+        if (requests.isEmpty()) {
+          return;
         }
+        doMultiFetches(requests);
       } else {
         try (ClaimedFetchRequest request = getFetchRequest()) {
           if (request == null) {
@@ -352,14 +480,50 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     return future;
   }
 
+  /**
+   * Requests that are pending by the time a fetch thread gets to them are checked together, so that
+   * rules which look up their keys concurrently share requests to the cache.
+   */
   @Override
+  @SuppressWarnings("CheckReturnValue")
   public final ListenableFuture<ImmutableMap<RuleKey, CacheResult>> multiContainsAsync(
       ImmutableSet<RuleKey> ruleKeys) {
-    return fetchExecutorService.submit(
-        () -> {
-          MultiContainsResult results = multiContainsImpl(ruleKeys);
-          return results.getCacheResults();
-        });
+    ContainsRequest request = new ContainsRequest(ruleKeys);
+    pendingContainsRequests.add(request);
+    fetchExecutorService.submit(this::processContains);
+    return request.future;
+  }
+
+  private void processContains() {
+    List<ContainsRequest> requests = new ArrayList<>();
+    Set<RuleKey> ruleKeys = new LinkedHashSet<>();
+    while (ruleKeys.size() < MAX_MERGED_MULTI_CONTAINS_KEYS) {
+      ContainsRequest request = pendingContainsRequests.poll();
+      if (request == null) {
+        break;
+      }
+      requests.add(request);
+      ruleKeys.addAll(request.ruleKeys);
+    }
+    if (requests.isEmpty()) {
+      return;
+    }
+    try {
+      ImmutableMap<RuleKey, CacheResult> results =
+          multiContainsImpl(ImmutableSet.copyOf(ruleKeys)).getCacheResults();
+      for (ContainsRequest request : requests) {
+        ImmutableMap.Builder<RuleKey, CacheResult> requestResults = ImmutableMap.builder();
+        for (RuleKey ruleKey : request.ruleKeys) {
+          CacheResult result = results.get(ruleKey);
+          if (result != null) {
+            requestResults.put(ruleKey, result);
+          }
+        }
+        request.future.set(requestResults.build());
+      }
+    } catch (Throwable t) {
+      requests.forEach(request -> request.future.setException(t));
+    }
   }
 
   @Override
@@ -594,6 +758,16 @@ public abstract class AbstractAsynchronousCache implements ArtifactCache {
     }
   }
 
+  private static class ContainsRequest {
+    private final ImmutableSet<RuleKey> ruleKeys;
+    private final SettableFuture<ImmutableMap<RuleKey, CacheResult>> future =
+        SettableFuture.create();
+
+    private ContainsRequest(ImmutableSet<RuleKey> ruleKeys) {
+      this.ruleKeys = ruleKeys;
+    }
+  }
+
   /** Return type used by the implementations of this abstract class. */
   @BuckStyleTuple
   @Value.Immutable(builder = true)
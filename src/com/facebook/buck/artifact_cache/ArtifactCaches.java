@@ -23,6 +23,7 @@ import com.facebook.buck.artifact_cache.config.ArtifactCacheEntries;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode.CacheType;
 import com.facebook.buck.artifact_cache.config.DirCacheEntry;
+import com.facebook.buck.artifact_cache.config.DirCacheLayout;
 import com.facebook.buck.artifact_cache.config.HttpCacheEntry;
 import com.facebook.buck.artifact_cache.config.MultiFetchType;
 import com.facebook.buck.artifact_cache.config.SQLiteCacheEntry;
@@ -46,7 +47,9 @@ import com.facebook.buck.support.bgtasks.TaskManagerScope;
 import com.facebook.buck.support.bgtasks.Timeout;
 import com.facebook.buck.util.randomizedtrial.RandomizedTrial;
 import com.facebook.buck.util.timing.DefaultClock;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CharMatcher;
+import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -57,14 +60,18 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLParameters;
 import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
@@ -79,6 +86,12 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
 
   private static final Logger LOG = Logger.get(ArtifactCaches.class);
   private static final int TIMEOUT_SECONDS = 60;
+  private static final ImmutableMap<String, Protocol> SUPPORTED_HTTP_PROTOCOLS =
+      ImmutableMap.of(
+          Protocol.HTTP_2.toString(),
+          Protocol.HTTP_2,
+          Protocol.HTTP_1_1.toString(),
+          Protocol.HTTP_1_1);
 
   private final ArtifactCacheBuckConfig buckConfig;
   private final BuckEventBus buckEventBus;
@@ -309,7 +322,11 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
                       distributedBuildModeEnabled,
                       buckEventBus.getBuildId(),
                       getMultiFetchLimit(buckConfig, buckEventBus),
-                      buckConfig.getHttpFetchConcurrency()),
+                      buckConfig.getHttpFetchConcurrency(),
+                      // Stores take up the rest of the requests which may be in flight.
+                      buckConfig.getHttpMaxRequestsPerHost()
+                          - buckConfig.getHttpMaxConcurrentWrites(),
+                      buckConfig.getMultiFetchTargetLatencyMillis()),
               mode);
           break;
       }
@@ -321,7 +338,7 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       // Don't bother wrapping a single artifact cache
       result = artifactCaches.get(0);
     } else {
-      result = new MultiArtifactCache(artifactCaches);
+      result = new MultiArtifactCache(artifactCaches, buckConfig.getParallelFetchDelayMillis());
     }
 
     // Always support reading two-level cache stores (in case we performed any in the past).
@@ -403,13 +420,24 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
       ProjectFilesystem projectFilesystem) {
     Path cacheDir = dirCacheConfig.getCacheDir();
     try {
-      DirArtifactCache dirArtifactCache =
-          new DirArtifactCache(
-              "dir",
-              projectFilesystem,
-              cacheDir,
-              dirCacheConfig.getCacheReadMode(),
-              dirCacheConfig.getMaxSizeBytes());
+      ArtifactCache dirArtifactCache;
+      if (dirCacheConfig.getLayout() == DirCacheLayout.SEGMENTS) {
+        dirArtifactCache =
+            new SegmentedDirArtifactCache(
+                "dir",
+                projectFilesystem,
+                cacheDir,
+                dirCacheConfig.getCacheReadMode(),
+                dirCacheConfig.getMaxSizeBytes());
+      } else {
+        dirArtifactCache =
+            new DirArtifactCache(
+                "dir",
+                projectFilesystem,
+                cacheDir,
+                dirCacheConfig.getCacheReadMode(),
+                dirCacheConfig.getMaxSizeBytes());
+      }
 
       if (!buckEventBus.isPresent()) {
         return dirArtifactCache;
@@ -450,20 +478,18 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
     return new RetryingCacheDecorator(cacheMode, cache, config.getMaxFetchRetries(), buckEventBus);
   }
 
-  private static ArtifactCache createHttpArtifactCache(
+  /**
+   * @return a builder for the clients of an http cache, with the timeouts of the cache and the
+   *     limits and protocols of {@code config}.
+   */
+  @VisibleForTesting
+  static OkHttpClient.Builder newHttpClientBuilder(
       HttpCacheEntry cacheDescription,
       String hostToReportToRemote,
       BuckEventBus buckEventBus,
-      ProjectFilesystem projectFilesystem,
-      ListeningExecutorService httpWriteExecutorService,
-      ListeningExecutorService httpFetchExecutorService,
-      ArtifactCacheBuckConfig config,
-      NetworkCacheFactory factory,
-      ArtifactCacheMode cacheMode) {
-
-    // Setup the default client to use.
-    OkHttpClient.Builder storeClientBuilder = new OkHttpClient.Builder();
-    storeClientBuilder
+      ArtifactCacheBuckConfig config) {
+    OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+    clientBuilder
         .networkInterceptors()
         .add(
             chain ->
@@ -476,21 +502,47 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
                             stripNonAscii(System.getProperty("user.name", "<unknown>")))
                         .addHeader("X-BuckCache-Host", stripNonAscii(hostToReportToRemote))
                         .build()));
-    int connectTimeoutSeconds = cacheDescription.getConnectTimeoutSeconds();
-    int readTimeoutSeconds = cacheDescription.getReadTimeoutSeconds();
-    int writeTimeoutSeconds = cacheDescription.getWriteTimeoutSeconds();
-    setTimeouts(storeClientBuilder, connectTimeoutSeconds, readTimeoutSeconds, writeTimeoutSeconds);
-    storeClientBuilder.connectionPool(
+    setTimeouts(
+        clientBuilder,
+        cacheDescription.getConnectTimeoutSeconds(),
+        cacheDescription.getReadTimeoutSeconds(),
+        cacheDescription.getWriteTimeoutSeconds());
+    // Keep a connection for every thread which may use one, so that connections are reused rather
+    // than closed after a request whenever more threads than pooled connections are busy. Over
+    // HTTP/2, concurrent requests are streams of a single connection instead.
+    clientBuilder.connectionPool(
         new ConnectionPool(
-            /* maxIdleConnections */ (int) config.getThreadPoolSize(),
+            /* maxIdleConnections */ config.getHttpMaxConnections(),
             /* keepAliveDurationMs */ config.getThreadPoolKeepAliveDurationMillis(),
             TimeUnit.MILLISECONDS));
+    clientBuilder.protocols(getHttpProtocols(config, buckEventBus, isAlpnSupported()));
 
-    // The artifact cache effectively only connects to a single host at a time. We should allow as
-    // many concurrent connections to that host as we allow threads.
+    // The artifact cache effectively only connects to a single host at a time.
     Dispatcher dispatcher = new Dispatcher();
-    dispatcher.setMaxRequestsPerHost((int) config.getThreadPoolSize());
-    storeClientBuilder.dispatcher(dispatcher);
+    int maxRequestsPerHost = config.getHttpMaxRequestsPerHost();
+    dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), maxRequestsPerHost));
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    clientBuilder.dispatcher(dispatcher);
+    return clientBuilder;
+  }
+
+  private static ArtifactCache createHttpArtifactCache(
+      HttpCacheEntry cacheDescription,
+      String hostToReportToRemote,
+      BuckEventBus buckEventBus,
+      ProjectFilesystem projectFilesystem,
+      ListeningExecutorService httpWriteExecutorService,
+      ListeningExecutorService httpFetchExecutorService,
+      ArtifactCacheBuckConfig config,
+      NetworkCacheFactory factory,
+      ArtifactCacheMode cacheMode) {
+
+    // Setup the default client to use.
+    OkHttpClient.Builder storeClientBuilder =
+        newHttpClientBuilder(cacheDescription, hostToReportToRemote, buckEventBus, config);
+    int connectTimeoutSeconds = cacheDescription.getConnectTimeoutSeconds();
+    int readTimeoutSeconds = cacheDescription.getReadTimeoutSeconds();
+    int writeTimeoutSeconds = cacheDescription.getWriteTimeoutSeconds();
 
     ImmutableMap<String, String> readHeaders = cacheDescription.getReadHeaders();
     ImmutableMap<String, String> writeHeaders = cacheDescription.getWriteHeaders();
@@ -598,7 +650,8 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
               buckEventBus,
               cacheConfig.getMaxSizeBytes(),
               cacheConfig.getMaxInlinedSizeBytes(),
-              cacheConfig.getCacheReadMode());
+              cacheConfig.getCacheReadMode(),
+              cacheConfig.getJournalMode());
 
       return new LoggingArtifactCacheDecorator(
           buckEventBus,
@@ -610,6 +663,71 @@ public class ArtifactCaches implements ArtifactCacheFactory, AutoCloseable {
     }
   }
 
+  /**
+   * @return the protocols which clients of http caches offer, without {@code h2} if the JVM cannot
+   *     negotiate it.
+   */
+  @VisibleForTesting
+  static ImmutableList<Protocol> getHttpProtocols(
+      ArtifactCacheBuckConfig config, BuckEventBus buckEventBus, boolean alpnSupported) {
+    Optional<ImmutableList<String>> protocolIds = config.getHttpProtocols();
+    ImmutableList<Protocol> protocols =
+        protocolIds.isPresent()
+            ? toOkHttpProtocols(protocolIds.get())
+            : ImmutableList.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    if (!protocols.contains(Protocol.HTTP_2) || alpnSupported) {
+      return protocols;
+    }
+    // Without ALPN, the client would offer h2 without ever negotiating it.
+    if (protocolIds.isPresent()) {
+      buckEventBus.post(
+          ConsoleEvent.warning(
+              "cache.http_protocols lists h2, but this JVM cannot negotiate it with ALPN, which "
+                  + "needs Java 8u252 or later. Falling back to http/1.1."));
+    } else {
+      LOG.debug("This JVM cannot negotiate h2 with ALPN, using http/1.1 for http caches.");
+    }
+    return ImmutableList.of(Protocol.HTTP_1_1);
+  }
+
+  @VisibleForTesting
+  static ImmutableList<Protocol> toOkHttpProtocols(ImmutableList<String> protocolIds) {
+    Set<Protocol> protocols = new LinkedHashSet<>();
+    for (String protocolId : protocolIds) {
+      Protocol protocol = SUPPORTED_HTTP_PROTOCOLS.get(protocolId);
+      if (protocol == null) {
+        throw new HumanReadableException(
+            "Unknown protocol %s in cache.http_protocols, expected one of %s.",
+            protocolId,
+            Joiner.on(", ").join(SUPPORTED_HTTP_PROTOCOLS.keySet()));
+      }
+      protocols.add(protocol);
+    }
+    // The client always needs to be able to fall back to HTTP/1.1.
+    protocols.add(Protocol.HTTP_1_1);
+    return ImmutableList.copyOf(protocols);
+  }
+
+  /**
+   * @return whether the JVM can negotiate protocols with ALPN, which HTTP/2 over TLS needs. OkHttp
+   *     uses the ALPN API of Java 9, which was backported to Java 8u252, or the ALPN boot jar of
+   *     Jetty on older versions of Java 8.
+   */
+  @VisibleForTesting
+  static boolean isAlpnSupported() {
+    try {
+      SSLParameters.class.getMethod("setApplicationProtocols", String[].class);
+      return true;
+    } catch (NoSuchMethodException e) {
+      try {
+        Class.forName("org.eclipse.jetty.alpn.ALPN");
+        return true;
+      } catch (ClassNotFoundException e2) {
+        return false;
+      }
+    }
+  }
+
   private static String stripNonAscii(String str) {
     if (CharMatcher.ascii().matchesAllOf(str)) {
       return str;
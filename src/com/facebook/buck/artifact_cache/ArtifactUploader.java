@@ -16,6 +16,7 @@
 
 package com.facebook.buck.artifact_cache;
 
+import com.facebook.buck.artifact_cache.config.ArtifactCompressionCodec;
 import com.facebook.buck.core.exceptions.handler.HumanReadableExceptionAugmentor;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.RuleKey;
@@ -23,6 +24,7 @@ import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.ArtifactCompressionEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.CloseableHolder;
@@ -49,6 +51,8 @@ import java.util.Collection;
 import java.util.SortedSet;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
 
 /**
@@ -58,6 +62,11 @@ import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStr
 public class ArtifactUploader {
   private static final Logger LOG = Logger.get(ArtifactUploader.class);
 
+  private static final ImmutableSet<String> COMPRESSED_FILE_EXTENSIONS =
+      ImmutableSet.of(
+          "aar", "apk", "bz2", "gif", "gz", "jar", "jpeg", "jpg", "lz4", "png", "webp", "xz", "zip",
+          "zst");
+
   public static ListenableFuture<Void> performUploadToArtifactCache(
       ImmutableSet<RuleKey> ruleKeys,
       ArtifactCache artifactCache,
@@ -65,10 +74,11 @@ public class ArtifactUploader {
       ImmutableMap<String, String> buildMetadata,
       SortedSet<Path> pathsToIncludeInArchive,
       BuildTarget buildTarget,
-      ProjectFilesystem projectFilesystem) {
+      ProjectFilesystem projectFilesystem,
+      ArtifactCompressionCodec codec) {
     NamedTemporaryFile archive =
         getTemporaryArtifactArchive(
-            buildTarget, projectFilesystem, ruleKeys, eventBus, pathsToIncludeInArchive);
+            buildTarget, projectFilesystem, ruleKeys, eventBus, pathsToIncludeInArchive, codec);
 
     // Store the artifact, including any additional metadata.
     ListenableFuture<Void> storeFuture =
@@ -147,15 +157,16 @@ public class ArtifactUploader {
       ProjectFilesystem projectFilesystem,
       ImmutableSet<RuleKey> ruleKeys,
       BuckEventBus eventBus,
-      SortedSet<Path> pathsToIncludeInArchive) {
+      SortedSet<Path> pathsToIncludeInArchive,
+      ArtifactCompressionCodec codec) {
     ArtifactCompressionEvent.Started started =
         ArtifactCompressionEvent.started(ArtifactCompressionEvent.Operation.COMPRESS, ruleKeys);
     eventBus.post(started);
     try (CloseableHolder<NamedTemporaryFile> archive =
         new CloseableHolder<>(
             new NamedTemporaryFile(
-                "buck_artifact_" + MostFiles.sanitize(buildTarget.getShortName()), ".tar.zst"))) {
-      compress(projectFilesystem, pathsToIncludeInArchive, archive.get().get());
+                "buck_artifact_" + MostFiles.sanitize(buildTarget.getShortName()), ".artifact"))) {
+      compress(projectFilesystem, pathsToIncludeInArchive, archive.get().get(), codec);
       return archive.release();
     } catch (IOException e) {
       throw new BuckUncheckedExecutionException(
@@ -168,13 +179,19 @@ public class ArtifactUploader {
     }
   }
 
-  /** Archive and compress 'pathsToIncludeInArchive' into 'out', using tar+zstandard. */
+  /** Archive and compress 'pathsToIncludeInArchive' into 'out', using tar and 'codec'. */
   @VisibleForTesting
   static void compress(
-      ProjectFilesystem projectFilesystem, Collection<Path> pathsToIncludeInArchive, Path out)
+      ProjectFilesystem projectFilesystem,
+      Collection<Path> pathsToIncludeInArchive,
+      Path out,
+      ArtifactCompressionCodec codec)
       throws IOException {
+    if (codec == ArtifactCompressionCodec.AUTO) {
+      codec = chooseCodec(projectFilesystem, pathsToIncludeInArchive);
+    }
     try (OutputStream o = new BufferedOutputStream(Files.newOutputStream(out));
-        OutputStream z = new ZstdCompressorOutputStream(o);
+        OutputStream z = newCompressorOutputStream(codec, o);
         TarArchiveOutputStream archive = new TarArchiveOutputStream(z)) {
       archive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
       for (Path path : pathsToIncludeInArchive) {
@@ -199,4 +216,46 @@ public class ArtifactUploader {
       archive.finish();
     }
   }
+
+  private static OutputStream newCompressorOutputStream(
+      ArtifactCompressionCodec codec, OutputStream out) throws IOException {
+    switch (codec) {
+      case NONE:
+        return out;
+      case GZIP:
+        return new GzipCompressorOutputStream(out);
+      case ZSTD:
+        return new ZstdCompressorOutputStream(out);
+      case LZ4:
+        return new FramedLZ4CompressorOutputStream(out);
+      case AUTO:
+        break;
+    }
+    throw new IllegalArgumentException("Unexpected artifact compression codec: " + codec);
+  }
+
+  /**
+   * Compressing outputs that are already compressed, such as jars, costs more time than the bytes
+   * it saves, so these are stored as is when they make up most of an artifact.
+   */
+  private static ArtifactCompressionCodec chooseCodec(
+      ProjectFilesystem projectFilesystem, Collection<Path> pathsToIncludeInArchive)
+      throws IOException {
+    long totalSize = 0;
+    long compressedSize = 0;
+    for (Path path : pathsToIncludeInArchive) {
+      if (projectFilesystem.isDirectory(path)) {
+        continue;
+      }
+      long size = projectFilesystem.getFileSize(path);
+      totalSize += size;
+      String extension = MorePaths.getFileExtension(path).toLowerCase();
+      if (COMPRESSED_FILE_EXTENSIONS.contains(extension)) {
+        compressedSize += size;
+      }
+    }
+    return compressedSize * 2 > totalSize
+        ? ArtifactCompressionCodec.NONE
+        : ArtifactCompressionCodec.ZSTD;
+  }
 }
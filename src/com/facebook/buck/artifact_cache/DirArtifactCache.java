@@ -38,6 +38,8 @@ import com.google.common.util.concurrent.ListenableFuture;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -123,10 +125,18 @@ public class DirArtifactCache implements ArtifactCache {
       }
 
       // Now copy the artifact out.
-      filesystem.copyFile(getPathForRuleKey(ruleKey, Optional.empty()), output.get());
+      Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
+      if (output instanceof StreamingArtifactOutput) {
+        try (InputStream artifact = filesystem.newFileInputStream(artifactPath);
+            OutputStream payloadStream = ((StreamingArtifactOutput) output).openPayloadStream()) {
+          ByteStreams.copy(artifact, payloadStream);
+        }
+      } else {
+        filesystem.copyFile(artifactPath, output.get());
+      }
 
       result =
-          CacheResult.hit(name, CACHE_MODE, metadata.build(), filesystem.getFileSize(output.get()));
+          CacheResult.hit(name, CACHE_MODE, metadata.build(), filesystem.getFileSize(artifactPath));
     } catch (NoSuchFileException e) {
       result = CacheResult.miss();
     } catch (IOException e) {
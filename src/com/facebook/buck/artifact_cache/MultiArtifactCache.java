@@ -19,6 +19,7 @@ package com.facebook.buck.artifact_cache;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.util.types.Pair;
@@ -32,11 +33,22 @@ import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
 /**
@@ -45,12 +57,26 @@ import javax.annotation.Nullable;
  * ArtifactCaches.
  */
 public class MultiArtifactCache implements ArtifactCache {
+  private static final Logger LOG = Logger.get(MultiArtifactCache.class);
 
   private final ImmutableList<ArtifactCache> artifactCaches;
   private final ImmutableList<ArtifactCache> writableArtifactCaches;
   private final boolean isStoreSupported;
+  private final Optional<Long> parallelFetchDelayMillis;
+  @Nullable private final ScheduledExecutorService hedgingScheduler;
 
   public MultiArtifactCache(ImmutableList<ArtifactCache> artifactCaches) {
+    this(artifactCaches, Optional.empty());
+  }
+
+  /**
+   * @param parallelFetchDelayMillis if present, fetches query each cache once the previous one has
+   *     missed or has not answered within this delay, whichever comes first, so that a slow cache
+   *     does not hold up the others. With a delay of 0, all the caches are queried at once. If
+   *     absent, each cache is queried only after the previous one missed.
+   */
+  public MultiArtifactCache(
+      ImmutableList<ArtifactCache> artifactCaches, Optional<Long> parallelFetchDelayMillis) {
     this.artifactCaches = artifactCaches;
     this.writableArtifactCaches =
         artifactCaches
@@ -58,6 +84,15 @@ public class MultiArtifactCache implements ArtifactCache {
             .filter(c -> c.getCacheReadMode().equals(CacheReadMode.READWRITE))
             .collect(ImmutableList.toImmutableList());
     this.isStoreSupported = this.writableArtifactCaches.size() > 0;
+    this.parallelFetchDelayMillis = parallelFetchDelayMillis;
+    this.hedgingScheduler =
+        parallelFetchDelayMillis.orElse(0L) > 0
+            ? Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("MultiArtifactCache-%d")
+                    .build())
+            : null;
   }
 
   /**
@@ -68,9 +103,25 @@ public class MultiArtifactCache implements ArtifactCache {
   @Override
   public ListenableFuture<CacheResult> fetchAsync(
       @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
+    if (parallelFetchDelayMillis.isPresent()) {
+      Path outputPath;
+      try {
+        outputPath = output.get();
+      } catch (IOException e) {
+        // Let the caches report the error as they would when fetching sequentially.
+        return fetchSequentially(target, ruleKey, output);
+      }
+      return new ParallelFetch(target, ruleKey, outputPath, parallelFetchDelayMillis.get()).start();
+    }
+    return fetchSequentially(target, ruleKey, output);
+  }
+
+  private ListenableFuture<CacheResult> fetchSequentially(
+      @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
     ListenableFuture<CacheResult> cacheResult = Futures.immediateFuture(CacheResult.miss());
-    // This is the list of higher-priority caches that we should write the artifact to.
-    ImmutableList.Builder<ArtifactCache> cachesToFill = ImmutableList.builder();
+    // This is the list of higher-priority caches that we should write the artifact to. The caches
+    // are only queried one after the other, so it does not need to be synchronized.
+    List<ArtifactCache> cachesToFill = new ArrayList<>();
     for (ArtifactCache artifactCache : artifactCaches) {
       cacheResult =
           Futures.transformAsync(
@@ -79,10 +130,24 @@ public class MultiArtifactCache implements ArtifactCache {
                 if (result.getType().isSuccess()) {
                   return Futures.immediateFuture(result);
                 }
-                if (artifactCache.getCacheReadMode().isWritable()) {
-                  cachesToFill.add(artifactCache);
+                LazyPath cacheOutput = output;
+                if (output instanceof StreamingArtifactOutput) {
+                  // Storing the artifact in the caches that missed needs it as a file.
+                  cacheOutput =
+                      cachesToFill.isEmpty()
+                          ? ((StreamingArtifactOutput) output).forFetch()
+                          : ((StreamingArtifactOutput) output).alsoWritingToFile();
                 }
-                return artifactCache.fetchAsync(target, ruleKey, output);
+                return Futures.transform(
+                    artifactCache.fetchAsync(target, ruleKey, cacheOutput),
+                    (CacheResult cacheResultOfThisCache) -> {
+                      if (!cacheResultOfThisCache.getType().isSuccess()
+                          && artifactCache.getCacheReadMode().isWritable()) {
+                        cachesToFill.add(artifactCache);
+                      }
+                      return cacheResultOfThisCache;
+                    },
+                    MoreExecutors.directExecutor());
               },
               MoreExecutors.directExecutor());
     }
@@ -91,11 +156,11 @@ public class MultiArtifactCache implements ArtifactCache {
     return Futures.transform(
         cacheResult,
         (CacheResult result) -> {
-          if (!result.getType().isSuccess()) {
+          if (!result.getType().isSuccess() || cachesToFill.isEmpty()) {
             return result;
           }
           storeToCaches(
-              cachesToFill.build(),
+              ImmutableList.copyOf(cachesToFill),
               ArtifactInfo.builder().addRuleKeys(ruleKey).setMetadata(result.getMetadata()).build(),
               BorrowablePath.notBorrowablePath(output.getUnchecked()));
           return result;
@@ -103,6 +168,135 @@ public class MultiArtifactCache implements ArtifactCache {
         MoreExecutors.directExecutor());
   }
 
+  /**
+   * A fetch querying several caches concurrently. Each cache fetches to its own file next to the
+   * output, and the file of the first cache to hit, not necessarily the one with the highest
+   * priority, is moved to the output. Caches that answer after that are ignored, and the caches
+   * that were not queried yet are not queried at all.
+   */
+  private class ParallelFetch {
+    @Nullable private final BuildTarget target;
+    private final RuleKey ruleKey;
+    private final Path outputPath;
+    private final long delayMillis;
+    private final SettableFuture<CacheResult> result = SettableFuture.create();
+
+    // The results of the caches which missed, or the exceptions they failed with.
+    private final CacheResult[] cacheResults;
+    private final Throwable[] cacheFailures;
+    private int startedFetches = 0;
+    private int finishedFetches = 0;
+
+    ParallelFetch(
+        @Nullable BuildTarget target, RuleKey ruleKey, Path outputPath, long delayMillis) {
+      this.target = target;
+      this.ruleKey = ruleKey;
+      this.outputPath = outputPath;
+      this.delayMillis = delayMillis;
+      this.cacheResults = new CacheResult[artifactCaches.size()];
+      this.cacheFailures = new Throwable[artifactCaches.size()];
+    }
+
+    ListenableFuture<CacheResult> start() {
+      if (artifactCaches.isEmpty()) {
+        return Futures.immediateFuture(CacheResult.miss());
+      }
+      startFetchesUpTo(delayMillis == 0 ? artifactCaches.size() - 1 : 0);
+      return result;
+    }
+
+    /** Queries the caches up to {@code index} which were not queried yet, unless one hit. */
+    private synchronized void startFetchesUpTo(int index) {
+      while (startedFetches <= index && startedFetches < artifactCaches.size()) {
+        if (result.isDone()) {
+          return;
+        }
+        startFetch(startedFetches++);
+      }
+    }
+
+    private void startFetch(int index) {
+      Path cacheOutputPath =
+          outputPath.resolveSibling(outputPath.getFileName() + ".cache" + index);
+      ListenableFuture<CacheResult> fetch =
+          artifactCaches
+              .get(index)
+              .fetchAsync(target, ruleKey, LazyPath.ofInstance(cacheOutputPath));
+      fetch.addListener(
+          () -> onFetchFinished(index, cacheOutputPath, fetch), MoreExecutors.directExecutor());
+      if (index + 1 < artifactCaches.size() && hedgingScheduler != null) {
+        hedgingScheduler.schedule(
+            () -> startFetchesUpTo(index + 1), delayMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+
+    private synchronized void onFetchFinished(
+        int index, Path cacheOutputPath, ListenableFuture<CacheResult> fetch) {
+      finishedFetches++;
+      try {
+        cacheResults[index] = Futures.getDone(fetch);
+      } catch (ExecutionException | CancellationException e) {
+        cacheFailures[index] = e instanceof ExecutionException ? e.getCause() : e;
+      }
+
+      if (!result.isDone()
+          && cacheResults[index] != null
+          && cacheResults[index].getType().isSuccess()) {
+        onHit(index, cacheOutputPath, cacheResults[index]);
+        return;
+      }
+      try {
+        Files.deleteIfExists(cacheOutputPath);
+      } catch (IOException e) {
+        LOG.debug(e, "Failed to delete %s.", cacheOutputPath);
+      }
+      if (result.isDone()) {
+        return;
+      }
+
+      if (finishedFetches < artifactCaches.size()) {
+        // This cache missed, there is no need to wait for the delay to query the next one.
+        startFetchesUpTo(index + 1);
+        return;
+      }
+      // Like a sequential fetch, return what the last cache returned.
+      int last = artifactCaches.size() - 1;
+      if (cacheFailures[last] != null) {
+        result.setException(cacheFailures[last]);
+      } else {
+        result.set(cacheResults[last]);
+      }
+    }
+
+    private void onHit(int index, Path cacheOutputPath, CacheResult cacheResult) {
+      try {
+        // Caches which only have the metadata of the artifact do not write it.
+        if (Files.exists(cacheOutputPath)) {
+          Files.move(cacheOutputPath, outputPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } catch (IOException e) {
+        result.setException(e);
+        return;
+      }
+
+      // Propagate the artifact to writable caches with a higher priority, as when fetching
+      // sequentially.
+      ImmutableList<ArtifactCache> cachesToFill =
+          artifactCaches
+              .subList(0, index)
+              .stream()
+              .filter(c -> c.getCacheReadMode().isWritable())
+              .collect(ImmutableList.toImmutableList());
+      ArtifactInfo info =
+          ArtifactInfo.builder()
+              .addRuleKeys(ruleKey)
+              .setMetadata(cacheResult.getMetadata())
+              .build();
+      storeToCaches(cachesToFill, info, BorrowablePath.notBorrowablePath(outputPath));
+      result.set(cacheResult);
+    }
+  }
+
   @Override
   public void skipPendingAndFutureAsyncFetches() {
     for (ArtifactCache artifactCache : artifactCaches) {
@@ -227,6 +421,9 @@ public class MultiArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
+    if (hedgingScheduler != null) {
+      hedgingScheduler.shutdownNow();
+    }
     Optional<RuntimeException> throwable = Optional.empty();
     for (ArtifactCache artifactCache : artifactCaches) {
       try {
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Adapts the number of keys requested by each multiFetch to how fast the cache answers them, the
+ * way TCP adapts its congestion window: the batch size grows by one key after every batch that the
+ * cache started answering within the target latency, and is halved after every batch that it did
+ * not, or that failed.
+ *
+ * <p>Latency is the time until the cache starts sending its response, so the time it takes to
+ * download the artifacts of a batch does not count towards it.
+ */
+class MultiFetchBatchSizer {
+  private final int maxBatchSize;
+  private final long targetLatencyMillis;
+
+  private int batchSize;
+
+  MultiFetchBatchSizer(int maxBatchSize, long targetLatencyMillis) {
+    Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be positive.");
+    this.maxBatchSize = maxBatchSize;
+    this.targetLatencyMillis = targetLatencyMillis;
+    this.batchSize = maxBatchSize;
+  }
+
+  synchronized int getBatchSize() {
+    return batchSize;
+  }
+
+  synchronized void batchAnswered(long latencyMillis) {
+    if (latencyMillis <= targetLatencyMillis) {
+      batchSize = Math.min(maxBatchSize, batchSize + 1);
+    } else {
+      shrink();
+    }
+  }
+
+  synchronized void batchFailed() {
+    shrink();
+  }
+
+  private void shrink() {
+    batchSize = Math.max(1, batchSize / 2);
+  }
+}
@@ -29,6 +29,7 @@ import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.io.file.MostFiles;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.sqlite.RetryBusyHandler;
 import com.facebook.buck.util.sqlite.SQLiteUtils;
 import com.facebook.buck.util.types.Pair;
@@ -42,6 +43,8 @@ import com.google.common.hash.HashCode;
 import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
@@ -58,12 +61,19 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import org.sqlite.BusyHandler;
 import org.sqlite.SQLiteConfig;
@@ -74,6 +84,11 @@ import org.sqlite.SQLiteConfig;
  * <p>Cache entries are either metadata or content. All metadata contains a mapping to a content
  * entry. Content entries with sufficiently small content will have their artifacts inlined into the
  * database for improved performance.
+ *
+ * <p>Writes (stores and access time updates) are not applied by the calling thread. They are queued
+ * and a single writer thread applies them in batches, one transaction per batch, so that concurrent
+ * builds threads neither contend on the SQLite write lock nor pay for a commit per artifact. Until
+ * a store is committed, fetches are served from the queued rows.
  */
 public class SQLiteArtifactCache implements ArtifactCache {
 
@@ -85,6 +100,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
   private static final String TMP_EXTENSION = ".tmp";
   private static final long DEFAULT_MAX_INLINED_BYTES = 40;
   private static final Duration DEFAULT_EVICTION_TIME = Duration.ofDays(7);
+  private static final int MAX_WRITE_BATCH_SIZE = 256;
 
   private final String name;
   private final ProjectFilesystem filesystem;
@@ -97,6 +113,13 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   private final ConnectionInfo db;
 
+  private final BlockingQueue<PendingWrite> pendingWrites = new LinkedBlockingQueue<>();
+  // Rows queued for writing, so that fetches see stores before they're committed.
+  private final ConcurrentMap<RuleKey, byte[]> pendingMetadata = new ConcurrentHashMap<>();
+  private final ConcurrentMap<RuleKey, Content> pendingContent = new ConcurrentHashMap<>();
+  private final ExecutorService writer;
+  private volatile boolean closed = false;
+
   static {
     SQLiteUtils.initialize();
   }
@@ -108,7 +131,8 @@ public class SQLiteArtifactCache implements ArtifactCache {
       BuckEventBus eventBus,
       Optional<Long> maxCacheSizeBytes,
       Optional<Long> maxInlinedSizeBytes,
-      CacheReadMode cacheMode)
+      CacheReadMode cacheMode,
+      SQLiteConfig.JournalMode journalMode)
       throws IOException, SQLException {
     this.name = name;
     this.filesystem = filesystem;
@@ -134,7 +158,14 @@ public class SQLiteArtifactCache implements ArtifactCache {
           String.format("Cache path [%s] already exists and is not a directory.", cacheDir));
     }
 
-    this.db = new ConnectionInfo(cacheDir);
+    this.db = new ConnectionInfo(cacheDir, journalMode);
+    this.writer =
+        MostExecutors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("sqlite-cache-writer-%d")
+                .setDaemon(true)
+                .build());
+    this.writer.execute(this::writePendingWrites);
   }
 
   @Override
@@ -170,7 +201,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
             CACHE_MODE,
             String.format("Artifact fetch(%s, %s) stopped unexpectedly", contentHash, output));
     try {
-      Optional<Content> content = db.selectContent(contentHash);
+      Optional<Content> content = selectContent(contentHash);
       if (content.isPresent()) {
         byte[] artifact = content.get().artifact;
         String filepath = content.get().filepath;
@@ -183,12 +214,13 @@ public class SQLiteArtifactCache implements ArtifactCache {
           filesystem.copyFile(filesystem.resolve(filepath), output.get());
         } else {
           // artifact stored on disk was removed by another cache, remove database entry
+          pendingContent.remove(contentHash);
           db.deleteContent(contentHash);
           return result = CacheResult.miss();
         }
 
         long size = content.get().size;
-        db.accessContent(contentHash);
+        enqueueWrite(db -> db.accessContent(contentHash));
 
         return result = CacheResult.hit(name, CACHE_MODE, ImmutableMap.of(), size);
       }
@@ -213,9 +245,9 @@ public class SQLiteArtifactCache implements ArtifactCache {
             CACHE_MODE,
             String.format("Metadata fetch(%s, %s) stopped unexpectedly", ruleKey, output));
     try {
-      Optional<byte[]> metadata = db.selectMetadata(ruleKey);
+      Optional<byte[]> metadata = selectMetadata(ruleKey);
       if (metadata.isPresent()) {
-        db.accessMetadata(ruleKey);
+        enqueueWrite(db -> db.accessMetadata(ruleKey));
         output.get(); // for MultiArtifactCache, force evaluation of the output path
 
         return result = CacheResult.hit(name, CACHE_MODE, unmarshalMetadata(metadata.get()), 0);
@@ -276,13 +308,24 @@ public class SQLiteArtifactCache implements ArtifactCache {
       }
     }
 
+    byte[] data;
     try {
-      db.storeMetadata(info.getRuleKeys(), marshalMetadata(metadata));
-    } catch (IOException | SQLException e) {
+      data = marshalMetadata(metadata);
+    } catch (IOException e) {
       LOG.warn(e, "Metadata store(%s) error", info.getRuleKeys());
+      return Futures.immediateFuture(null);
     }
 
-    return Futures.immediateFuture(null);
+    ImmutableSet<RuleKey> ruleKeys = info.getRuleKeys();
+    ruleKeys.forEach(ruleKey -> pendingMetadata.put(ruleKey, data));
+    return enqueueWrite(
+        db -> {
+          try {
+            db.storeMetadata(ruleKeys, data);
+          } finally {
+            ruleKeys.forEach(ruleKey -> pendingMetadata.remove(ruleKey, data));
+          }
+        });
   }
 
   private ListenableFuture<Void> storeContent(
@@ -296,8 +339,9 @@ public class SQLiteArtifactCache implements ArtifactCache {
       long size = filesystem.getFileSize(content.getPath());
       if (size <= maxInlinedBytes) {
         // artifact is small enough to inline in the database
-        db.storeArtifact(toStore, Files.readAllBytes(content.getPath()), size);
-      } else if (!toStore.isEmpty()) {
+        byte[] artifact = Files.readAllBytes(content.getPath());
+        return enqueueContent(toStore, new Content(artifact, null, size));
+      } else {
         // artifact is too large to inline, store on disk and put path in database
         Path artifactPath = getArtifactPath(toStore.iterator().next());
         filesystem.mkdirs(artifactPath.getParent());
@@ -308,7 +352,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
           storeArtifactOutput(content.getPath(), artifactPath);
         }
 
-        db.storeFilepath(toStore, artifactPath.toString(), size);
+        return enqueueContent(toStore, new Content(null, artifactPath.toString(), size));
       }
     } catch (IOException | SQLException e) {
       LOG.warn(e, "Artifact store(%s, %s) error", contentHashes, content);
@@ -317,18 +361,35 @@ public class SQLiteArtifactCache implements ArtifactCache {
     return Futures.immediateFuture(null);
   }
 
+  private ListenableFuture<Void> enqueueContent(
+      ImmutableSet<RuleKey> contentHashes, Content content) {
+    contentHashes.forEach(contentHash -> pendingContent.put(contentHash, content));
+    return enqueueWrite(
+        db -> {
+          try {
+            if (Objects.nonNull(content.artifact)) {
+              db.storeArtifact(contentHashes, content.artifact, content.size);
+            } else {
+              db.storeFilepath(contentHashes, content.filepath, content.size);
+            }
+          } finally {
+            contentHashes.forEach(contentHash -> pendingContent.remove(contentHash, content));
+          }
+        });
+  }
+
   private ImmutableSet<RuleKey> notPreexisting(ImmutableSet<RuleKey> contentHashes)
       throws SQLException {
     ImmutableSet.Builder<RuleKey> builder = ImmutableSet.builder();
     for (RuleKey contentHash : contentHashes) {
       // if the content already exists in the cache, skip it
-      Optional<Content> existingArtifact = db.selectContent(contentHash);
+      Optional<Content> existingArtifact = selectContent(contentHash);
       if (existingArtifact.isPresent()) {
         byte[] inlined = existingArtifact.get().artifact;
         String artifactPath = existingArtifact.get().filepath;
 
         if (Objects.nonNull(inlined) || filesystem.exists(filesystem.resolve(artifactPath))) {
-          db.accessContent(contentHash);
+          enqueueWrite(db -> db.accessContent(contentHash));
           continue;
         }
       }
@@ -339,6 +400,54 @@ public class SQLiteArtifactCache implements ArtifactCache {
     return builder.build();
   }
 
+  private Optional<byte[]> selectMetadata(RuleKey ruleKey) throws SQLException {
+    byte[] pending = pendingMetadata.get(ruleKey);
+    return pending != null ? Optional.of(pending) : db.selectMetadata(ruleKey);
+  }
+
+  private Optional<Content> selectContent(RuleKey contentHash) throws SQLException {
+    Content pending = pendingContent.get(contentHash);
+    return pending != null ? Optional.of(pending) : db.selectContent(contentHash);
+  }
+
+  /** @return a future which completes once the write has been committed, or has failed. */
+  @VisibleForTesting
+  ListenableFuture<Void> enqueueWrite(DatabaseWrite write) {
+    if (closed) {
+      LOG.warn("Dropping write to closed SQLite cache %s", name);
+      return Futures.immediateFuture(null);
+    }
+    PendingWrite pendingWrite = new PendingWrite(write);
+    pendingWrites.add(pendingWrite);
+    return pendingWrite.done;
+  }
+
+  /** Blocks until all writes queued so far have been committed. */
+  @VisibleForTesting
+  void flushPendingWrites() {
+    Futures.getUnchecked(enqueueWrite(db -> {}));
+  }
+
+  private void writePendingWrites() {
+    List<PendingWrite> batch = new ArrayList<>(MAX_WRITE_BATCH_SIZE);
+    while (true) {
+      try {
+        batch.add(pendingWrites.take());
+      } catch (InterruptedException e) {
+        LOG.warn("SQLite cache writer interrupted, %d writes are lost", pendingWrites.size());
+        return;
+      }
+      pendingWrites.drainTo(batch, MAX_WRITE_BATCH_SIZE - 1);
+      db.applyInTransaction(batch);
+      for (PendingWrite write : batch) {
+        if (write == PendingWrite.SHUTDOWN) {
+          return;
+        }
+      }
+      batch.clear();
+    }
+  }
+
   @VisibleForTesting
   static byte[] marshalMetadata(ImmutableMap<String, String> metadata) throws IOException {
     ByteArrayOutputStream metadataStream = new ByteArrayOutputStream();
@@ -398,6 +507,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
   /** Removes metadata older than a computed eviction time. */
   @VisibleForTesting
   ListenableFuture<Void> removeOldMetadata() {
+    flushPendingWrites();
     Timestamp evictionTime = Timestamp.from(Instant.now().minus(DEFAULT_EVICTION_TIME));
     try {
       int deleted = db.deleteMetadata(evictionTime);
@@ -416,6 +526,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
       return Futures.immediateFuture(null);
     }
 
+    flushPendingWrites();
     long totalSizeBytes;
     try {
       totalSizeBytes = db.totalSize();
@@ -458,6 +569,13 @@ public class SQLiteArtifactCache implements ArtifactCache {
       LOG.error("Failed to clean SQLite cache");
     }
 
+    closed = true;
+    pendingWrites.add(PendingWrite.SHUTDOWN);
+    try {
+      MostExecutors.shutdown(writer, 1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
     db.close();
   }
 
@@ -466,6 +584,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
   @VisibleForTesting
   void insertMetadata(RuleKey ruleKey, ImmutableMap<String, String> metadata, Timestamp time)
       throws IOException, SQLException {
+    flushPendingWrites();
     PreparedStatement stmt =
         db.connection.prepareStatement(
             "INSERT INTO metadata (rulekey, data, accessed) VALUES (?, ?, ?)");
@@ -478,6 +597,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
   @VisibleForTesting
   void insertContent(RuleKey contentHash, BorrowablePath file, Timestamp time)
       throws IOException, SQLException {
+    flushPendingWrites();
     long size = filesystem.getFileSize(file.getPath());
     PreparedStatement stmt =
         db.connection.prepareStatement(
@@ -498,6 +618,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   @VisibleForTesting
   ImmutableList<RuleKey> directoryFileContentHashes() throws SQLException {
+    flushPendingWrites();
     ImmutableList.Builder<RuleKey> keys = ImmutableList.builder();
     try (ResultSet rs =
         db.connection
@@ -512,6 +633,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   @VisibleForTesting
   ImmutableList<RuleKey> inlinedArtifactContentHashes() throws SQLException {
+    flushPendingWrites();
     ImmutableList.Builder<RuleKey> keys = ImmutableList.builder();
     try (ResultSet rs =
         db.connection
@@ -526,6 +648,7 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
   @VisibleForTesting
   ImmutableList<RuleKey> metadataRuleKeys() throws SQLException {
+    flushPendingWrites();
     ImmutableList.Builder<RuleKey> keys = ImmutableList.builder();
     try (ResultSet rs =
         db.connection.createStatement().executeQuery("SELECT rulekey FROM metadata")) {
@@ -536,7 +659,8 @@ public class SQLiteArtifactCache implements ArtifactCache {
     return keys.build();
   }
 
-  private static class ConnectionInfo {
+  @VisibleForTesting
+  static class ConnectionInfo {
     private final Connection connection;
 
     private final PreparedStatement fetchMetadata;
@@ -557,7 +681,8 @@ public class SQLiteArtifactCache implements ArtifactCache {
 
     private final PreparedStatement contentSize;
 
-    private ConnectionInfo(Path cacheDir) throws SQLException {
+    private ConnectionInfo(Path cacheDir, SQLiteConfig.JournalMode journalMode)
+        throws SQLException {
       // date format must be set to match CURRENT_TIMESTAMP
       Properties properties = new SQLiteConfig().toProperties();
       properties.setProperty(
@@ -565,7 +690,9 @@ public class SQLiteArtifactCache implements ArtifactCache {
       connection =
           DriverManager.getConnection("jdbc:sqlite:" + cacheDir.resolve("dircache.db"), properties);
       connection.createStatement().executeUpdate("PRAGMA SYNCHRONOUS = OFF");
-      connection.createStatement().executeUpdate("PRAGMA JOURNAL_MODE = WAL");
+      connection
+          .createStatement()
+          .executeUpdate("PRAGMA JOURNAL_MODE = " + journalMode.getValue());
 
       /*
        * This cache is used for two different layers, so we use two separate databases to encode these
@@ -635,6 +762,39 @@ public class SQLiteArtifactCache implements ArtifactCache {
       BusyHandler.setHandler(connection, new RetryBusyHandler());
     }
 
+    /**
+     * Applies the writes in a single transaction. A failed write is logged and skipped without
+     * affecting the others, as SQLite only rolls back the failing statement. Nothing is thrown, so
+     * that the writer thread keeps serving the writes queued after these.
+     */
+    private synchronized void applyInTransaction(List<PendingWrite> writes) {
+      try {
+        connection.setAutoCommit(false);
+        for (PendingWrite write : writes) {
+          try {
+            write.write.apply(this);
+          } catch (SQLException | RuntimeException e) {
+            LOG.warn(e, "SQLite cache write failed");
+          }
+        }
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        LOG.warn(e, "Failed to commit %d SQLite cache writes", writes.size());
+        try {
+          connection.rollback();
+        } catch (SQLException | RuntimeException rollbackException) {
+          LOG.warn(rollbackException, "Failed to roll back SQLite cache writes");
+        }
+      } finally {
+        try {
+          connection.setAutoCommit(true);
+        } catch (SQLException | RuntimeException e) {
+          LOG.warn(e, "Failed to restore auto-commit");
+        }
+        writes.forEach(write -> write.done.set(null));
+      }
+    }
+
     private synchronized Optional<byte[]> selectMetadata(RuleKey ruleKey) throws SQLException {
       fetchMetadata.setBytes(1, getBytes(ruleKey));
       ResultSet rs = fetchMetadata.executeQuery();
@@ -759,12 +919,30 @@ public class SQLiteArtifactCache implements ArtifactCache {
     }
   }
 
+  /** A write to the database, applied by the writer thread. */
+  @FunctionalInterface
+  @VisibleForTesting
+  interface DatabaseWrite {
+    void apply(ConnectionInfo db) throws SQLException;
+  }
+
+  private static class PendingWrite {
+    private static final PendingWrite SHUTDOWN = new PendingWrite(db -> {});
+
+    private final DatabaseWrite write;
+    private final SettableFuture<Void> done = SettableFuture.create();
+
+    PendingWrite(DatabaseWrite write) {
+      this.write = write;
+    }
+  }
+
   private static class Content {
-    private final byte[] artifact;
-    private final String filepath;
+    @Nullable private final byte[] artifact;
+    @Nullable private final String filepath;
     private final long size;
 
-    Content(byte[] artifact, String filepath, long size) {
+    Content(@Nullable byte[] artifact, @Nullable String filepath, long size) {
       this.artifact = artifact;
       this.filepath = filepath;
       this.size = size;
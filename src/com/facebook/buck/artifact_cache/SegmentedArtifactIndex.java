@@ -0,0 +1,322 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.google.common.hash.Hashing;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Memory-mapped open addressing hash table from rule keys to the location of the artifact in the
+ * segment files of a {@link SegmentedDirArtifactCache}.
+ *
+ * <p>The index is only a hint: every record in a segment repeats its rule key, which readers check
+ * before trusting a location. This lets readers probe the table without any locking, while
+ * writers, which must hold the cache lock, update it in place.
+ */
+class SegmentedArtifactIndex implements Closeable {
+
+  private static final int MAGIC = 0xB0C4A1DE;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 64;
+  private static final int CAPACITY_OFFSET = 8;
+  private static final int USED_SLOTS_OFFSET = 12;
+
+  // Slot layout: 128 bit key, segment id, padding, offset, length, last access time.
+  private static final int SLOT_SIZE = 48;
+  private static final int KEY_HIGH_OFFSET = 0;
+  private static final int KEY_LOW_OFFSET = 8;
+  private static final int SEGMENT_OFFSET = 16;
+  private static final int RECORD_OFFSET = 24;
+  private static final int RECORD_LENGTH_OFFSET = 32;
+  private static final int ACCESS_TIME_OFFSET = 40;
+
+  /** Segment id of a removed entry, which keeps its key so that probing continues past it. */
+  private static final int TOMBSTONE = -1;
+
+  static final int INITIAL_CAPACITY = 1 << 14;
+  private static final int MAX_PROBES = 32;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int capacity;
+  private final long generation;
+
+  private SegmentedArtifactIndex(
+      FileChannel channel, MappedByteBuffer buffer, int capacity, long generation) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.capacity = capacity;
+    this.generation = generation;
+  }
+
+  /** Creates an empty index, replacing any existing file at {@code path}. */
+  static SegmentedArtifactIndex create(Path path, long generation, int capacity)
+      throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    try {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC).putInt(VERSION).putInt(capacity).putInt(0);
+      header.position(0);
+      channel.write(header, 0);
+      // Extending the file leaves a (sparse) zero filled table, i.e. all slots empty.
+      channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (long) capacity * SLOT_SIZE - 1);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      return new SegmentedArtifactIndex(channel, buffer, capacity, generation);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /** @return the index stored at {@code path}, or empty if there is none or it is invalid. */
+  static Optional<SegmentedArtifactIndex> open(Path path, long generation) throws IOException {
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    FileChannel channel =
+        FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    if (channel.size() >= HEADER_SIZE) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      int capacity = buffer.getInt(CAPACITY_OFFSET);
+      if (buffer.getInt(0) == MAGIC
+          && buffer.getInt(4) == VERSION
+          && capacity > 0
+          && Integer.bitCount(capacity) == 1
+          && channel.size() == HEADER_SIZE + (long) capacity * SLOT_SIZE) {
+        return Optional.of(new SegmentedArtifactIndex(channel, buffer, capacity, generation));
+      }
+    }
+    channel.close();
+    return Optional.empty();
+  }
+
+  long getGeneration() {
+    return generation;
+  }
+
+  int getCapacity() {
+    return capacity;
+  }
+
+  /** @return the number of slots holding an entry or a tombstone. */
+  int getUsedSlots() {
+    return buffer.getInt(USED_SLOTS_OFFSET);
+  }
+
+  Optional<Entry> get(RuleKey ruleKey) {
+    ByteBuffer key = ByteBuffer.wrap(hash(ruleKey));
+    long high = key.getLong(0);
+    long low = keyLow(key);
+    int home = homeSlot(high);
+    for (int probe = 0; probe < MAX_PROBES; probe++) {
+      int slot = (home + probe) & (capacity - 1);
+      int offset = offsetOf(slot);
+      long slotHigh = buffer.getLong(offset + KEY_HIGH_OFFSET);
+      long slotLow = buffer.getLong(offset + KEY_LOW_OFFSET);
+      if (slotHigh == 0 && slotLow == 0) {
+        return Optional.empty();
+      }
+      if (slotHigh == high && slotLow == low) {
+        Entry entry = read(slot);
+        return entry.getSegment() == TOMBSTONE ? Optional.empty() : Optional.of(entry);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Points {@code ruleKey} at the given record, replacing any previous location.
+   *
+   * @return false if there was no room for the entry, in which case the index needs to be grown.
+   */
+  boolean put(RuleKey ruleKey, int segment, long recordOffset, long recordLength, long accessTime) {
+    ByteBuffer key = ByteBuffer.wrap(hash(ruleKey));
+    return put(key.getLong(0), keyLow(key), segment, recordOffset, recordLength, accessTime);
+  }
+
+  private boolean put(
+      long high, long low, int segment, long recordOffset, long recordLength, long accessTime) {
+    int home = homeSlot(high);
+    int free = -1;
+    for (int probe = 0; probe < MAX_PROBES; probe++) {
+      int slot = (home + probe) & (capacity - 1);
+      int offset = offsetOf(slot);
+      long slotHigh = buffer.getLong(offset + KEY_HIGH_OFFSET);
+      long slotLow = buffer.getLong(offset + KEY_LOW_OFFSET);
+      if (slotHigh == high && slotLow == low) {
+        free = slot;
+        break;
+      }
+      boolean empty = slotHigh == 0 && slotLow == 0;
+      if (free == -1 && (empty || buffer.getInt(offset + SEGMENT_OFFSET) == TOMBSTONE)) {
+        free = slot;
+      }
+      if (empty) {
+        break;
+      }
+    }
+    if (free == -1) {
+      return false;
+    }
+    int offset = offsetOf(free);
+    if (buffer.getLong(offset + KEY_HIGH_OFFSET) == 0
+        && buffer.getLong(offset + KEY_LOW_OFFSET) == 0) {
+      buffer.putInt(USED_SLOTS_OFFSET, getUsedSlots() + 1);
+    }
+    // Readers don't lock, so write the location before the key it belongs to.
+    buffer.putInt(offset + SEGMENT_OFFSET, segment);
+    buffer.putLong(offset + RECORD_OFFSET, recordOffset);
+    buffer.putLong(offset + RECORD_LENGTH_OFFSET, recordLength);
+    buffer.putLong(offset + ACCESS_TIME_OFFSET, accessTime);
+    buffer.putLong(offset + KEY_LOW_OFFSET, low);
+    buffer.putLong(offset + KEY_HIGH_OFFSET, high);
+    return true;
+  }
+
+  /** Copies a live entry of another index into this one. */
+  boolean put(Entry entry) {
+    return put(
+        entry.keyHigh,
+        entry.keyLow,
+        entry.segment,
+        entry.recordOffset,
+        entry.recordLength,
+        entry.accessTime);
+  }
+
+  void remove(Entry entry) {
+    buffer.putInt(offsetOf(entry.slot) + SEGMENT_OFFSET, TOMBSTONE);
+  }
+
+  /** Records an access for LRU eviction. Racy by design: losing an update is harmless. */
+  void touch(Entry entry, long accessTime) {
+    buffer.putLong(offsetOf(entry.slot) + ACCESS_TIME_OFFSET, accessTime);
+  }
+
+  void forEachEntry(Consumer<Entry> consumer) {
+    for (int slot = 0; slot < capacity; slot++) {
+      int offset = offsetOf(slot);
+      if ((buffer.getLong(offset + KEY_HIGH_OFFSET) != 0
+              || buffer.getLong(offset + KEY_LOW_OFFSET) != 0)
+          && buffer.getInt(offset + SEGMENT_OFFSET) != TOMBSTONE) {
+        consumer.accept(read(slot));
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private Entry read(int slot) {
+    int offset = offsetOf(slot);
+    return new Entry(
+        slot,
+        buffer.getLong(offset + KEY_HIGH_OFFSET),
+        buffer.getLong(offset + KEY_LOW_OFFSET),
+        buffer.getInt(offset + SEGMENT_OFFSET),
+        buffer.getLong(offset + RECORD_OFFSET),
+        buffer.getLong(offset + RECORD_LENGTH_OFFSET),
+        buffer.getLong(offset + ACCESS_TIME_OFFSET));
+  }
+
+  private int homeSlot(long high) {
+    return (int) (high ^ (high >>> 32)) & (capacity - 1);
+  }
+
+  private static int offsetOf(int slot) {
+    return HEADER_SIZE + slot * SLOT_SIZE;
+  }
+
+  private static long keyLow(ByteBuffer key) {
+    long low = key.getLong(8);
+    // An all zero key marks an empty slot.
+    return low == 0 ? 1 : low;
+  }
+
+  private static byte[] hash(RuleKey ruleKey) {
+    return Hashing.murmur3_128().hashString(ruleKey.toString(), StandardCharsets.UTF_8).asBytes();
+  }
+
+  /** A snapshot of an index slot. */
+  static final class Entry {
+    private final int slot;
+    private final long keyHigh;
+    private final long keyLow;
+    private final int segment;
+    private final long recordOffset;
+    private final long recordLength;
+    private final long accessTime;
+
+    private Entry(
+        int slot,
+        long keyHigh,
+        long keyLow,
+        int segment,
+        long recordOffset,
+        long recordLength,
+        long accessTime) {
+      this.slot = slot;
+      this.keyHigh = keyHigh;
+      this.keyLow = keyLow;
+      this.segment = segment;
+      this.recordOffset = recordOffset;
+      this.recordLength = recordLength;
+      this.accessTime = accessTime;
+    }
+
+    int getSegment() {
+      return segment;
+    }
+
+    long getRecordOffset() {
+      return recordOffset;
+    }
+
+    long getRecordLength() {
+      return recordLength;
+    }
+
+    long getAccessTime() {
+      return accessTime;
+    }
+
+    /** @return a copy of this entry pointing at a new location. */
+    Entry withLocation(int newSegment, long newRecordOffset) {
+      return new Entry(
+          slot, keyHigh, keyLow, newSegment, newRecordOffset, recordLength, accessTime);
+    }
+  }
+}
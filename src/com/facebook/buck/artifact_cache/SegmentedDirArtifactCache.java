@@ -0,0 +1,875 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.artifact_cache.SegmentedArtifactIndex.Entry;
+import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
+import com.facebook.buck.artifact_cache.config.CacheReadMode;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+
+/**
+ * A local artifact cache which packs artifacts into a few large append-only segment files, rather
+ * than storing two files per rule key like {@link DirArtifactCache}. Lookups go through a
+ * memory-mapped {@link SegmentedArtifactIndex}, so neither {@link #multiContainsAsync} nor eviction
+ * need to walk the cache directory, and the number of inodes used stays small no matter how many
+ * artifacts the cache holds.
+ *
+ * <p>Space is reclaimed in the background once enough has been written: the least recently used
+ * entries beyond the size budget are dropped from the index, and segments which are mostly dead
+ * are compacted by moving their live records to the newest segment.
+ *
+ * <p>Several processes may share a cache directory. Writers serialize on a file lock, whose file
+ * also holds the generation of the current index. Readers don't lock, and instead check the rule
+ * key and checksum stored with every record.
+ */
+public class SegmentedDirArtifactCache implements ArtifactCache {
+
+  private static final Logger LOG = Logger.get(SegmentedDirArtifactCache.class);
+
+  private static final ArtifactCacheMode CACHE_MODE = ArtifactCacheMode.dir;
+  // Ratio of bytes stored to max size that expresses how many bytes need to be stored after we
+  // attempt to evict old entries.
+  private static final float STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER = 0.5f;
+  // How much of the max size to leave if we decide to evict old entries.
+  private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
+  // Segments with a smaller share of live bytes than this are compacted.
+  private static final float MIN_LIVE_BYTES_RATIO = 0.5f;
+  private static final long DEFAULT_SEGMENT_SIZE_BYTES = 64L * 1024 * 1024;
+  // How long closing the cache waits for a background trim to stop compacting.
+  private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+  private static final int RECORD_MAGIC = 0xB0C4DA7A;
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final String LOCK_FILE_NAME = "segments.lock";
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".dat";
+  private static final String INDEX_PREFIX = "index-";
+  private static final String INDEX_SUFFIX = ".bin";
+
+  /** File locks are held on behalf of the whole JVM, so writers in a process serialize here. */
+  private static final ConcurrentMap<Path, ReentrantLock> PROCESS_LOCKS =
+      new ConcurrentHashMap<>();
+
+  private final String name;
+  private final ProjectFilesystem filesystem;
+  private final Path cacheDir;
+  private final CacheReadMode cacheReadMode;
+  private final Optional<Long> maxCacheSizeBytes;
+  private final long segmentSizeBytes;
+  private final ReentrantLock processLock;
+  private final MappedByteBuffer generation;
+  private final ExecutorService trimExecutor;
+  private final AtomicLong bytesSinceLastTrim;
+  private volatile boolean closing = false;
+  private FileChannel lockChannel;
+  private volatile SegmentedArtifactIndex index;
+
+  public SegmentedDirArtifactCache(
+      String name,
+      ProjectFilesystem filesystem,
+      Path cacheDir,
+      CacheReadMode cacheReadMode,
+      Optional<Long> maxCacheSizeBytes)
+      throws IOException {
+    this(name, filesystem, cacheDir, cacheReadMode, maxCacheSizeBytes, DEFAULT_SEGMENT_SIZE_BYTES);
+  }
+
+  @VisibleForTesting
+  SegmentedDirArtifactCache(
+      String name,
+      ProjectFilesystem filesystem,
+      Path cacheDir,
+      CacheReadMode cacheReadMode,
+      Optional<Long> maxCacheSizeBytes,
+      long segmentSizeBytes)
+      throws IOException {
+    this.name = name;
+    this.filesystem = filesystem;
+    this.cacheReadMode = cacheReadMode;
+    this.maxCacheSizeBytes = maxCacheSizeBytes;
+    this.segmentSizeBytes = segmentSizeBytes;
+    this.bytesSinceLastTrim = new AtomicLong();
+
+    // Check first, as mkdirs will fail if the path is a symlink.
+    if (!filesystem.isDirectory(cacheDir)) {
+      filesystem.mkdirs(cacheDir);
+    }
+    this.cacheDir = filesystem.resolve(cacheDir);
+
+    this.processLock = PROCESS_LOCKS.computeIfAbsent(this.cacheDir, path -> new ReentrantLock());
+    this.lockChannel = openLockChannel();
+    this.generation = lockChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+    // Compaction is crash safe, so there's no need for it to keep the JVM alive.
+    this.trimExecutor =
+        MostExecutors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("segmented-dir-cache-trim-%d")
+                .setDaemon(true)
+                .build());
+    try (CacheLock lock = lock()) {
+      this.index = currentIndexLocked();
+    }
+  }
+
+  @Override
+  public ListenableFuture<CacheResult> fetchAsync(
+      @Nullable BuildTarget target, RuleKey ruleKey, LazyPath output) {
+    return Futures.immediateFuture(fetch(ruleKey, output));
+  }
+
+  @Override
+  public void skipPendingAndFutureAsyncFetches() {
+    // Async requests are not supported by SegmentedDirArtifactCache, so do nothing
+  }
+
+  private CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+    CacheResult result;
+    try {
+      SegmentedArtifactIndex currentIndex = currentIndex();
+      Optional<Entry> entry = currentIndex.get(ruleKey);
+      if (entry.isPresent()) {
+        result = readRecord(ruleKey, entry.get(), output);
+        if (result.getType().isSuccess()) {
+          currentIndex.touch(entry.get(), System.currentTimeMillis());
+        }
+      } else {
+        result = CacheResult.miss();
+      }
+    } catch (NoSuchFileException e) {
+      // The segment was compacted away after we looked the rule key up.
+      result = CacheResult.miss();
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact fetch(%s, %s) error", ruleKey, output);
+      result =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+    }
+
+    LOG.verbose(
+        "Artifact fetch(%s, %s) cache %s",
+        ruleKey, output, (result.getType().isSuccess() ? "hit" : "miss"));
+    return result;
+  }
+
+  private CacheResult readRecord(RuleKey ruleKey, Entry entry, LazyPath output)
+      throws IOException {
+    try (InputStream segment = openRecord(entry)) {
+      DataInputStream in = new DataInputStream(segment);
+      Optional<RecordHeader> header = readHeader(in, entry.getRecordLength());
+      if (!header.isPresent() || !header.get().ruleKey.equals(ruleKey.toString())) {
+        // The index entry was overwritten while we were reading it.
+        return CacheResult.miss();
+      }
+
+      Optional<Path> outputPath =
+          output instanceof StreamingArtifactOutput ? Optional.empty() : Optional.of(output.get());
+      CRC32 crc = new CRC32();
+      try (OutputStream out =
+          outputPath.isPresent()
+              ? filesystem.newFileOutputStream(outputPath.get())
+              : ((StreamingArtifactOutput) output).openPayloadStream()) {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long remaining = header.get().artifactSize;
+        while (remaining > 0) {
+          int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+          if (read == -1) {
+            throw new EOFException("Truncated artifact for rule key " + ruleKey);
+          }
+          crc.update(buffer, 0, read);
+          out.write(buffer, 0, read);
+          remaining -= read;
+        }
+      }
+      if ((int) crc.getValue() != header.get().checksum) {
+        if (outputPath.isPresent()) {
+          filesystem.deleteFileAtPathIfExists(outputPath.get());
+        }
+        throw new IOException("Checksum mismatch for artifact of rule key " + ruleKey);
+      }
+      return CacheResult.hit(name, CACHE_MODE, header.get().metadata, header.get().artifactSize);
+    }
+  }
+
+  private InputStream openRecord(Entry entry) throws IOException {
+    FileChannel channel =
+        FileChannel.open(segmentPath(entry.getSegment()), StandardOpenOption.READ);
+    try {
+      channel.position(entry.getRecordOffset());
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    return new BufferedInputStream(Channels.newInputStream(channel), COPY_BUFFER_SIZE);
+  }
+
+  @Override
+  public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
+
+    if (!getCacheReadMode().isWritable()) {
+      return Futures.immediateFuture(null);
+    }
+
+    try {
+      Path artifact = filesystem.resolve(output.getPath());
+      long artifactSize = Files.size(artifact);
+      int checksum = checksum(artifact);
+      try (CacheLock lock = lock()) {
+        for (RuleKey ruleKey : info.getRuleKeys()) {
+          if (currentIndexLocked().get(ruleKey).isPresent()) {
+            continue;
+          }
+          byte[] header = encodeHeader(ruleKey, info.getMetadata(), artifactSize, checksum);
+          long recordLength = header.length + artifactSize;
+          int segment = activeSegmentLocked(recordLength);
+          try (FileChannel segmentChannel = openSegmentForAppend(segment);
+              FileChannel artifactChannel = FileChannel.open(artifact, StandardOpenOption.READ)) {
+            long offset = segmentChannel.size();
+            try {
+              writeFully(segmentChannel, ByteBuffer.wrap(header), offset);
+              transferFully(
+                  artifactChannel, 0, artifactSize, segmentChannel, offset + header.length);
+            } catch (IOException e) {
+              // Don't leave a partial record behind for the next one to be appended after.
+              segmentChannel.truncate(offset);
+              throw e;
+            }
+            putLocked(ruleKey, segment, offset, recordLength, System.currentTimeMillis());
+          }
+          bytesSinceLastTrim.addAndGet(recordLength);
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Artifact store(%s, %s) error", info.getRuleKeys(), output);
+    }
+
+    // Once the cache is closing, close() trims it instead.
+    if (maxCacheSizeBytes.isPresent()
+        && !closing
+        && bytesSinceLastTrim.get()
+            > (maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER)) {
+      bytesSinceLastTrim.set(0L);
+      try {
+        trimExecutor.execute(() -> trim(true));
+      } catch (RejectedExecutionException e) {
+        LOG.debug("Not trimming %s after a store that raced with closing it.", cacheDir);
+      }
+    }
+
+    return Futures.immediateFuture(null);
+  }
+
+  @Override
+  public ListenableFuture<ImmutableMap<RuleKey, CacheResult>> multiContainsAsync(
+      ImmutableSet<RuleKey> ruleKeys) {
+    return Futures.immediateFuture(multiContains(ruleKeys));
+  }
+
+  private ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = new ImmutableMap.Builder<>();
+
+    SegmentedArtifactIndex currentIndex;
+    try {
+      currentIndex = currentIndex();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to open the index of %s", cacheDir);
+      CacheResult error =
+          CacheResult.error(
+              name, CACHE_MODE, String.format("%s: %s", e.getClass(), e.getMessage()));
+      ruleKeys.forEach(ruleKey -> results.put(ruleKey, error));
+      return results.build();
+    }
+
+    for (RuleKey ruleKey : ruleKeys) {
+      boolean contains = currentIndex.get(ruleKey).isPresent();
+      results.put(ruleKey, contains ? CacheResult.contains(name, CACHE_MODE) : CacheResult.miss());
+      LOG.verbose(
+          "Artifact contains request for rulekey [%s] was a cache %s.",
+          ruleKey, (contains ? "hit" : "miss"));
+    }
+
+    return results.build();
+  }
+
+  @Override
+  public ListenableFuture<CacheDeleteResult> deleteAsync(List<RuleKey> ruleKeys) {
+    try (CacheLock lock = lock()) {
+      SegmentedArtifactIndex currentIndex = currentIndexLocked();
+      for (RuleKey ruleKey : ruleKeys) {
+        currentIndex.get(ruleKey).ifPresent(currentIndex::remove);
+      }
+    } catch (IOException e) {
+      String message =
+          String.format("Failed to delete artifacts for rule keys %s from local cache", ruleKeys);
+      LOG.warn(e, message);
+      throw new RuntimeException(message, e);
+    }
+
+    ImmutableList<String> cacheNames =
+        ImmutableList.of(SegmentedDirArtifactCache.class.getSimpleName());
+    return Futures.immediateFuture(CacheDeleteResult.builder().setCacheNames(cacheNames).build());
+  }
+
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  @Override
+  public void close() {
+    closing = true;
+    try {
+      if (!MostExecutors.shutdown(trimExecutor, CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        // The trim is still waiting for the lock, and needs the index and lock file until then.
+        LOG.warn("Timed out waiting for the trim of %s to stop.", cacheDir);
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // Do a cache clean up on exit only if cache was written to.
+    if (bytesSinceLastTrim.get() > 0) {
+      trim();
+    }
+    try {
+      index.close();
+      lockChannel.close();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to close %s", cacheDir);
+    }
+  }
+
+  /**
+   * Evicts the least recently used entries if the cache is over its size budget, and compacts
+   * segments which are mostly made of evicted, deleted or overwritten records.
+   */
+  @VisibleForTesting
+  void trim() {
+    trim(false);
+  }
+
+  /** @param cancellable whether to stop compacting segments once the cache is being closed. */
+  private void trim(boolean cancellable) {
+    try (CacheLock lock = lock()) {
+      SegmentedArtifactIndex currentIndex = currentIndexLocked();
+      List<Entry> entries = new ArrayList<>();
+      currentIndex.forEachEntry(entries::add);
+      NavigableMap<Integer, Long> segments = listSegmentsLocked();
+      long totalBytes = segments.values().stream().mapToLong(Long::longValue).sum();
+
+      if (maxCacheSizeBytes.isPresent() && totalBytes > maxCacheSizeBytes.get()) {
+        long liveBytes = entries.stream().mapToLong(Entry::getRecordLength).sum();
+        long targetBytes = (long) (maxCacheSizeBytes.get() * MAX_BYTES_TRIM_RATIO);
+        entries.sort(Comparator.comparingLong(Entry::getAccessTime));
+        int evicted = 0;
+        while (evicted < entries.size() && liveBytes > targetBytes) {
+          Entry entry = entries.get(evicted++);
+          currentIndex.remove(entry);
+          liveBytes -= entry.getRecordLength();
+        }
+        entries = entries.subList(evicted, entries.size());
+        LOG.debug("Evicted %d entries from %s.", evicted, cacheDir);
+      }
+
+      if (compactLocked(entries, segments, totalBytes, cancellable)) {
+        bytesSinceLastTrim.set(0L);
+      }
+    } catch (IOException e) {
+      LOG.error(e, "Failed to clean path [%s].", cacheDir);
+    }
+  }
+
+  /** @return false if compaction was cancelled or could not move the entries of a segment. */
+  private boolean compactLocked(
+      List<Entry> liveEntries,
+      NavigableMap<Integer, Long> segments,
+      long totalBytes,
+      boolean cancellable)
+      throws IOException {
+    if (segments.isEmpty()) {
+      return true;
+    }
+    Map<Integer, List<Entry>> entriesBySegment =
+        liveEntries.stream().collect(Collectors.groupingBy(Entry::getSegment));
+    Map<Integer, Long> liveBytesBySegment = new HashMap<>();
+    entriesBySegment.forEach(
+        (segment, entries) ->
+            liveBytesBySegment.put(
+                segment, entries.stream().mapToLong(Entry::getRecordLength).sum()));
+
+    // Never compact the segment we append to, and start with the segments that free up the most.
+    int activeSegment = segments.lastKey();
+    List<Integer> candidates = new ArrayList<>(segments.headMap(activeSegment).keySet());
+    candidates.sort(
+        Comparator.comparingDouble(
+            segment ->
+                (double) liveBytesBySegment.getOrDefault(segment, 0L)
+                    / Math.max(1L, segments.get(segment))));
+
+    SegmentAppender appender = new SegmentAppender(activeSegment);
+    try {
+      for (int segment : candidates) {
+        if (cancellable && closing) {
+          LOG.debug("Stopped compacting %s as it is being closed.", cacheDir);
+          return false;
+        }
+        long size = segments.get(segment);
+        long liveBytes = liveBytesBySegment.getOrDefault(segment, 0L);
+        boolean overBudget =
+            maxCacheSizeBytes.isPresent() && totalBytes > maxCacheSizeBytes.get();
+        if (liveBytes >= size * MIN_LIVE_BYTES_RATIO && !overBudget) {
+          break;
+        }
+        List<Entry> entries = entriesBySegment.getOrDefault(segment, new ArrayList<>());
+        entries.sort(Comparator.comparingLong(Entry::getRecordOffset));
+        try (FileChannel source =
+            FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+          for (Entry entry : entries) {
+            FileChannel target = appender.channelFor(entry.getRecordLength());
+            long offset = target.size();
+            transferFully(source, entry.getRecordOffset(), entry.getRecordLength(), target, offset);
+            if (!putEntryLocked(entry.withLocation(appender.segment, offset))) {
+              // The entries not moved yet still point at this segment, so it has to stay.
+              LOG.warn("Unable to index the entries of segment %d of %s.", segment, cacheDir);
+              return false;
+            }
+          }
+        }
+        Files.delete(segmentPath(segment));
+        totalBytes -= size - liveBytes;
+        LOG.debug(
+            "Compacted segment %d of %s, moving %d of its %d bytes.",
+            segment, cacheDir, liveBytes, size);
+      }
+    } finally {
+      appender.close();
+    }
+    return true;
+  }
+
+  /** @return false if there was no room for {@code entry}, even after growing the index. */
+  private boolean putEntryLocked(Entry entry) throws IOException {
+    if (index.put(entry)) {
+      return true;
+    }
+    growLocked();
+    return index.put(entry);
+  }
+
+  /** Appends records to the newest segment, starting a new one when it gets full. */
+  private class SegmentAppender implements AutoCloseable {
+    private int segment;
+    @Nullable private FileChannel channel;
+
+    private SegmentAppender(int segment) {
+      this.segment = segment;
+    }
+
+    private FileChannel channelFor(long recordLength) throws IOException {
+      if (channel == null) {
+        channel = openSegmentForAppend(segment);
+      }
+      if (channel.size() > 0 && channel.size() + recordLength > segmentSizeBytes) {
+        channel.close();
+        segment++;
+        channel = openSegmentForAppend(segment);
+      }
+      return channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (channel != null) {
+        channel.close();
+      }
+    }
+  }
+
+  private SegmentedArtifactIndex currentIndex() throws IOException {
+    SegmentedArtifactIndex currentIndex = index;
+    if (currentIndex.getGeneration() == generation.getLong(0)) {
+      return currentIndex;
+    }
+    try (CacheLock lock = lock()) {
+      return currentIndexLocked();
+    }
+  }
+
+  /** Maps the index another process may have replaced, rebuilding it if it is missing. */
+  private SegmentedArtifactIndex currentIndexLocked() throws IOException {
+    long currentGeneration = generation.getLong(0);
+    SegmentedArtifactIndex currentIndex = index;
+    if (currentIndex != null && currentIndex.getGeneration() == currentGeneration) {
+      return currentIndex;
+    }
+    Optional<SegmentedArtifactIndex> opened =
+        SegmentedArtifactIndex.open(indexPath(currentGeneration), currentGeneration);
+    if (opened.isPresent()) {
+      closeQuietly(currentIndex);
+      index = opened.get();
+    } else {
+      rebuildIndexLocked(currentGeneration + 1);
+    }
+    return index;
+  }
+
+  private void rebuildIndexLocked(long newGeneration) throws IOException {
+    LOG.info("Rebuilding the index of %s from its segments.", cacheDir);
+    publishLocked(
+        SegmentedArtifactIndex.create(
+            indexPath(newGeneration), newGeneration, SegmentedArtifactIndex.INITIAL_CAPACITY));
+    // Delete indexes left behind by crashed processes.
+    try (DirectoryStream<Path> stream =
+        Files.newDirectoryStream(cacheDir, INDEX_PREFIX + "*" + INDEX_SUFFIX)) {
+      for (Path path : stream) {
+        if (!path.equals(indexPath(newGeneration))) {
+          Files.deleteIfExists(path);
+        }
+      }
+    }
+    for (Map.Entry<Integer, Long> segment : listSegmentsLocked().entrySet()) {
+      scanSegmentLocked(segment.getKey(), segment.getValue());
+    }
+  }
+
+  /** Adds every complete record of the segment to the index, later ones taking precedence. */
+  private void scanSegmentLocked(int segment, long size) throws IOException {
+    Path path = segmentPath(segment);
+    long accessTime = Files.getLastModifiedTime(path).toMillis();
+    try (CountingInputStream counting =
+        new CountingInputStream(
+            new BufferedInputStream(Files.newInputStream(path), COPY_BUFFER_SIZE))) {
+      DataInputStream in = new DataInputStream(counting);
+      while (counting.getCount() < size) {
+        long offset = counting.getCount();
+        Optional<RecordHeader> header = readHeader(in, size - offset);
+        if (!header.isPresent() || header.get().artifactSize > size - counting.getCount()) {
+          LOG.warn("Ignoring the tail of segment %s from offset %d.", path, offset);
+          return;
+        }
+        ByteStreams.skipFully(in, header.get().artifactSize);
+        putLocked(
+            new RuleKey(header.get().ruleKey),
+            segment,
+            offset,
+            counting.getCount() - offset,
+            accessTime);
+      }
+    } catch (EOFException e) {
+      LOG.warn("Ignoring truncated record at the end of segment %s.", path);
+    }
+  }
+
+  private void putLocked(
+      RuleKey ruleKey, int segment, long recordOffset, long recordLength, long accessTime)
+      throws IOException {
+    SegmentedArtifactIndex currentIndex = index;
+    if (currentIndex.getUsedSlots() >= currentIndex.getCapacity() / 2
+        || !currentIndex.put(ruleKey, segment, recordOffset, recordLength, accessTime)) {
+      growLocked();
+      if (!index.put(ruleKey, segment, recordOffset, recordLength, accessTime)) {
+        throw new IOException("Unable to add rule key " + ruleKey + " to the index");
+      }
+    }
+  }
+
+  /** Rehashes the live entries into a new index, dropping tombstones. */
+  private void growLocked() throws IOException {
+    List<Entry> entries = new ArrayList<>();
+    index.forEachEntry(entries::add);
+    long newGeneration = index.getGeneration() + 1;
+    int capacity = SegmentedArtifactIndex.INITIAL_CAPACITY;
+    while (capacity < entries.size() * 4) {
+      capacity *= 2;
+    }
+    while (true) {
+      SegmentedArtifactIndex grown =
+          SegmentedArtifactIndex.create(indexPath(newGeneration), newGeneration, capacity);
+      if (entries.stream().allMatch(grown::put)) {
+        publishLocked(grown);
+        LOG.debug("Grew the index of %s to %d slots.", cacheDir, capacity);
+        return;
+      }
+      grown.close();
+      capacity *= 2;
+    }
+  }
+
+  /** Makes {@code newIndex} the one used by every process, and deletes the one it replaces. */
+  private void publishLocked(SegmentedArtifactIndex newIndex) throws IOException {
+    SegmentedArtifactIndex oldIndex = index;
+    index = newIndex;
+    generation.putLong(0, newIndex.getGeneration());
+    if (oldIndex != null) {
+      closeQuietly(oldIndex);
+      Files.deleteIfExists(indexPath(oldIndex.getGeneration()));
+    }
+  }
+
+  /** @return the segment a record of the given length should be appended to. */
+  private int activeSegmentLocked(long recordLength) throws IOException {
+    NavigableMap<Integer, Long> segments = listSegmentsLocked();
+    if (segments.isEmpty()) {
+      return 0;
+    }
+    Map.Entry<Integer, Long> last = segments.lastEntry();
+    if (last.getValue() > 0 && last.getValue() + recordLength > segmentSizeBytes) {
+      return last.getKey() + 1;
+    }
+    return last.getKey();
+  }
+
+  private NavigableMap<Integer, Long> listSegmentsLocked() throws IOException {
+    NavigableMap<Integer, Long> segments = new TreeMap<>();
+    try (DirectoryStream<Path> stream =
+        Files.newDirectoryStream(cacheDir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (Path path : stream) {
+        String fileName = path.getFileName().toString();
+        try {
+          int segment =
+              Integer.parseInt(
+                  fileName.substring(
+                      SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+          segments.put(segment, Files.size(path));
+        } catch (NumberFormatException e) {
+          LOG.warn("Ignoring unexpected file %s in %s.", fileName, cacheDir);
+        }
+      }
+    }
+    return segments;
+  }
+
+  private FileChannel openSegmentForAppend(int segment) throws IOException {
+    return FileChannel.open(
+        segmentPath(segment),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+  }
+
+  private Path segmentPath(int segment) {
+    return cacheDir.resolve(SEGMENT_PREFIX + segment + SEGMENT_SUFFIX);
+  }
+
+  private Path indexPath(long indexGeneration) {
+    return cacheDir.resolve(INDEX_PREFIX + indexGeneration + INDEX_SUFFIX);
+  }
+
+  private FileChannel openLockChannel() throws IOException {
+    return FileChannel.open(
+        cacheDir.resolve(LOCK_FILE_NAME),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+  }
+
+  private CacheLock lock() throws IOException {
+    processLock.lock();
+    try {
+      // An interrupted lock attempt closes the channel, so reopen it rather than failing forever.
+      if (!lockChannel.isOpen()) {
+        lockChannel = openLockChannel();
+      }
+      return new CacheLock(lockChannel.lock());
+    } catch (IOException | RuntimeException e) {
+      processLock.unlock();
+      throw e;
+    }
+  }
+
+  private static byte[] encodeHeader(
+      RuleKey ruleKey, ImmutableMap<String, String> metadata, long artifactSize, int checksum)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(RECORD_MAGIC);
+      out.writeUTF(ruleKey.toString());
+      out.writeInt(metadata.size());
+      for (Map.Entry<String, String> ent : metadata.entrySet()) {
+        out.writeUTF(ent.getKey());
+        byte[] val = ent.getValue().getBytes(Charsets.UTF_8);
+        out.writeInt(val.length);
+        out.write(val);
+      }
+      out.writeLong(artifactSize);
+      out.writeInt(checksum);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @return the header of the record at the current position, or empty if there isn't a valid
+   *     header of at most {@code maxLength} bytes there.
+   */
+  private static Optional<RecordHeader> readHeader(DataInputStream in, long maxLength)
+      throws IOException {
+    if (in.readInt() != RECORD_MAGIC) {
+      return Optional.empty();
+    }
+    String ruleKey = in.readUTF();
+    int size = in.readInt();
+    if (size < 0 || size > maxLength) {
+      return Optional.empty();
+    }
+    ImmutableMap.Builder<String, String> metadata = ImmutableMap.builderWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      String key = in.readUTF();
+      int valSize = in.readInt();
+      if (valSize < 0 || valSize > maxLength) {
+        return Optional.empty();
+      }
+      byte[] val = new byte[valSize];
+      ByteStreams.readFully(in, val);
+      metadata.put(key, new String(val, Charsets.UTF_8));
+    }
+    long artifactSize = in.readLong();
+    int checksum = in.readInt();
+    if (artifactSize < 0 || artifactSize > maxLength) {
+      return Optional.empty();
+    }
+    return Optional.of(new RecordHeader(ruleKey, metadata.build(), artifactSize, checksum));
+  }
+
+  private static int checksum(Path path) throws IOException {
+    CRC32 crc = new CRC32();
+    try (InputStream in = Files.newInputStream(path)) {
+      byte[] buffer = new byte[COPY_BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        crc.update(buffer, 0, read);
+      }
+    }
+    return (int) crc.getValue();
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+
+  private static void transferFully(
+      FileChannel source, long position, long count, FileChannel target, long targetPosition)
+      throws IOException {
+    source.position(position);
+    long transferred = 0;
+    while (transferred < count) {
+      long result =
+          target.transferFrom(source, targetPosition + transferred, count - transferred);
+      if (result <= 0) {
+        throw new EOFException("Unexpected end of file while copying into " + target);
+      }
+      transferred += result;
+    }
+  }
+
+  private void closeQuietly(@Nullable SegmentedArtifactIndex indexToClose) {
+    if (indexToClose == null) {
+      return;
+    }
+    try {
+      indexToClose.close();
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to close an index of %s.", cacheDir);
+    }
+  }
+
+  /** Holds both the in-process and the inter-process lock of the cache directory. */
+  private class CacheLock implements AutoCloseable {
+    private final FileLock fileLock;
+
+    private CacheLock(FileLock fileLock) {
+      this.fileLock = fileLock;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        fileLock.release();
+      } finally {
+        processLock.unlock();
+      }
+    }
+  }
+
+  private static class RecordHeader {
+    private final String ruleKey;
+    private final ImmutableMap<String, String> metadata;
+    private final long artifactSize;
+    private final int checksum;
+
+    private RecordHeader(
+        String ruleKey, ImmutableMap<String, String> metadata, long artifactSize, int checksum) {
+      this.ruleKey = ruleKey;
+      this.metadata = metadata;
+      this.artifactSize = artifactSize;
+      this.checksum = checksum;
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.util.TeeOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Output of a fetch that can take the payload as a stream, e.g. to extract it while it is being
+ * downloaded, instead of as a file.
+ *
+ * <p>Caches that read the payload as a stream should write it to {@link #openPayloadStream()}
+ * rather than to the file of the output, and must only return a hit once they verified what they
+ * wrote. Whatever was streamed for a fetch that does not return a hit is discarded. Caches that
+ * need the payload as a file can still use the file of the output.
+ */
+public abstract class StreamingArtifactOutput extends LazyPath {
+
+  /**
+   * @return a stream for the payload, which replaces whatever was streamed or written to the file
+   *     of this output before. Writing to it only fails if the payload could not be written, and
+   *     closing it waits until the payload has been consumed, failing if it could not be.
+   */
+  public abstract OutputStream openPayloadStream() throws IOException;
+
+  /**
+   * Called before a cache writes the payload to the file of this output rather than streaming it,
+   * which then replaces whatever was streamed before. Caches do not call it themselves: it is
+   * called for the outputs returned by {@link #forFetch()} and {@link #alsoWritingToFile()}.
+   */
+  protected void onPayloadWrittenToFile() throws IOException {}
+
+  /**
+   * @return an output for one of several fetches to this output, e.g. one for each of several
+   *     caches, which tells this output whether the payload of the fetch was streamed or written to
+   *     the file of this output.
+   */
+  public StreamingArtifactOutput forFetch() {
+    return new FetchOutput(this, false);
+  }
+
+  /**
+   * @return an output like {@link #forFetch()}, but which also writes payloads streamed to it to
+   *     the file of this output, e.g. to store the fetched artifact in other caches.
+   */
+  public StreamingArtifactOutput alsoWritingToFile() {
+    return new FetchOutput(this, true);
+  }
+
+  private static class FetchOutput extends StreamingArtifactOutput {
+    private final StreamingArtifactOutput output;
+    private final boolean alsoWritingToFile;
+
+    private FetchOutput(StreamingArtifactOutput output, boolean alsoWritingToFile) {
+      this.output = output;
+      this.alsoWritingToFile = alsoWritingToFile;
+    }
+
+    @Override
+    protected Path create() throws IOException {
+      Path path = output.get();
+      output.onPayloadWrittenToFile();
+      return path;
+    }
+
+    @Override
+    public OutputStream openPayloadStream() throws IOException {
+      if (!alsoWritingToFile) {
+        return output.openPayloadStream();
+      }
+      OutputStream file = Files.newOutputStream(output.get());
+      try {
+        return new TeeOutputStream(file, output.openPayloadStream());
+      } catch (IOException e) {
+        file.close();
+        throw e;
+      }
+    }
+  }
+}
@@ -38,7 +38,6 @@ import com.facebook.buck.io.file.LazyPath;
 import com.facebook.buck.slb.HttpResponse;
 import com.facebook.buck.slb.ThriftProtocol;
 import com.facebook.buck.slb.ThriftUtil;
-import com.facebook.buck.util.RichStream;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
@@ -48,6 +47,7 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.io.ByteSource;
+import com.google.common.io.Closeables;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -56,6 +56,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import okhttp3.MediaType;
@@ -80,6 +81,8 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
   private final BuildId buildId;
   private final int multiFetchLimit;
   private final int concurrencyLevel;
+  private final int maxMultiFetchRequestsInFlight;
+  private final Optional<MultiFetchBatchSizer> multiFetchBatchSizer;
 
   public ThriftArtifactCache(
       NetworkCacheArgs args,
@@ -87,11 +90,19 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
       boolean distributedBuildModeEnabled,
       BuildId buildId,
       int multiFetchLimit,
-      int concurrencyLevel) {
+      int concurrencyLevel,
+      int maxMultiFetchRequestsInFlight,
+      Optional<Long> multiFetchTargetLatencyMillis) {
     super(args);
     this.buildId = buildId;
     this.multiFetchLimit = multiFetchLimit;
     this.concurrencyLevel = concurrencyLevel;
+    this.maxMultiFetchRequestsInFlight = maxMultiFetchRequestsInFlight;
+    this.multiFetchBatchSizer =
+        multiFetchLimit > 0
+            ? multiFetchTargetLatencyMillis.map(
+                targetLatency -> new MultiFetchBatchSizer(multiFetchLimit, targetLatency))
+            : Optional.empty();
     this.hybridThriftEndpoint = hybridThriftEndpoint;
     this.distributedBuildModeEnabled = distributedBuildModeEnabled;
   }
@@ -162,11 +173,17 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         LOG.verbose("Got artifact.  Attempting to read payload.");
-        Path tmp = createTempFileForDownload();
+        Optional<Path> tmp =
+            output instanceof StreamingArtifactOutput
+                ? Optional.empty()
+                : Optional.of(createTempFileForDownload());
         ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
-        try (OutputStream tmpFile = getProjectFilesystem().newFileOutputStream(tmp)) {
+        try (OutputStream payloadStream =
+            tmp.isPresent()
+                ? getProjectFilesystem().newFileOutputStream(tmp.get())
+                : ((StreamingArtifactOutput) output).openPayloadStream()) {
           try {
-            readResult = response.readPayload(tmpFile);
+            readResult = response.readPayload(payloadStream);
           } catch (IOException e) {
             LOG.debug(e, "encountered an exception while receiving the payload for %s", ruleKey);
             throw e;
@@ -231,7 +248,9 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         // This makes sure we don't have 'half downloaded files' in the dir cache.
-        getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+        if (tmp.isPresent()) {
+          getProjectFilesystem().move(tmp.get(), output.get(), StandardCopyOption.REPLACE_EXISTING);
+        }
         return resultBuilder
             .setCacheResult(
                 CacheResult.hit(
@@ -371,33 +390,81 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
 
   @Override
   protected int getMultiFetchBatchSize(int pendingRequestsSize) {
-    if (concurrencyLevel > 0)
-      return Math.min(multiFetchLimit, 1 + pendingRequestsSize / concurrencyLevel);
+    if (concurrencyLevel > 0) {
+      int limit =
+          multiFetchBatchSizer.map(MultiFetchBatchSizer::getBatchSize).orElse(multiFetchLimit);
+      return Math.min(limit, 1 + pendingRequestsSize / concurrencyLevel);
+    }
     return 0;
   }
 
+  @Override
+  protected int getMaxMultiFetchRequestsInFlight() {
+    return maxMultiFetchRequestsInFlight;
+  }
+
   @Override
   protected MultiFetchResult multiFetchImpl(Iterable<FetchRequest> requests) throws IOException {
+    try (PendingMultiFetch multiFetch = startMultiFetch(ImmutableList.copyOf(requests))) {
+      return multiFetch.read();
+    }
+  }
+
+  @Override
+  protected PendingMultiFetch startMultiFetch(ImmutableList<FetchRequest> requests)
+      throws IOException {
     ImmutableList<RuleKey> keys =
-        RichStream.from(requests)
-            .map(FetchRequest::getRuleKey)
-            .collect(ImmutableList.toImmutableList());
+        requests.stream().map(FetchRequest::getRuleKey).collect(ImmutableList.toImmutableList());
     ImmutableList<LazyPath> outputs =
-        RichStream.from(requests)
-            .map(FetchRequest::getOutput)
-            .collect(ImmutableList.toImmutableList());
-    Preconditions.checkState(keys.size() == outputs.size());
+        requests.stream().map(FetchRequest::getOutput).collect(ImmutableList.toImmutableList());
     String joinedKeys = Joiner.on(", ").join(keys);
     LOG.verbose("Will fetch keys <%s>", joinedKeys);
 
     BuckCacheRequest cacheRequest = createMultiFetchRequest(keys);
-    try (HttpResponse httpResponse =
-        fetchClient.makeRequest(
-            hybridThriftEndpoint,
-            toOkHttpRequest(ThriftArtifactCacheProtocol.createRequest(PROTOCOL, cacheRequest)))) {
-      return MultiFetchResult.of(
-          processMultiFetchResponse(keys, outputs, cacheRequest, joinedKeys, httpResponse));
+    long startNanos = System.nanoTime();
+    HttpResponse httpResponse;
+    try {
+      httpResponse =
+          fetchClient.makeRequest(
+              hybridThriftEndpoint,
+              toOkHttpRequest(ThriftArtifactCacheProtocol.createRequest(PROTOCOL, cacheRequest)));
+    } catch (IOException | RuntimeException e) {
+      multiFetchBatchSizer.ifPresent(MultiFetchBatchSizer::batchFailed);
+      throw e;
     }
+    // The request returns once the headers have arrived, before the artifacts are downloaded.
+    long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    return new PendingMultiFetch() {
+      private boolean answered = false;
+
+      @Override
+      public MultiFetchResult read() throws IOException {
+        MultiFetchResult result =
+            MultiFetchResult.of(
+                processMultiFetchResponse(keys, outputs, cacheRequest, joinedKeys, httpResponse));
+        if (result
+            .getResults()
+            .stream()
+            .anyMatch(
+                fetchResult -> fetchResult.getCacheResult().getType() != CacheResultType.ERROR)) {
+          answered = true;
+          multiFetchBatchSizer.ifPresent(sizer -> sizer.batchAnswered(latencyMillis));
+        }
+        return result;
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          httpResponse.close();
+        } finally {
+          if (!answered) {
+            multiFetchBatchSizer.ifPresent(MultiFetchBatchSizer::batchFailed);
+          }
+        }
+      }
+    };
   }
 
   com.facebook.buck.artifact_cache.thrift.RuleKey toThriftRuleKey(RuleKey ruleKey) {
@@ -548,13 +615,35 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     }
 
     LOG.verbose("Got artifact.  Attempting to read payload.");
-    Path tmp = createTempFileForDownload();
+    Optional<Path> tmp =
+        output instanceof StreamingArtifactOutput
+            ? Optional.empty()
+            : Optional.of(createTempFileForDownload());
 
     // Always read payload even if information is missing to ensure that we associate payloads
     // with the correct result.
-    @SuppressWarnings("PMD.PrematureDeclaration")
-    ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult =
-        payloadReader.readNextPayload(tmp, ruleKey);
+    ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
+    if (tmp.isPresent()) {
+      readResult = payloadReader.readNextPayload(tmp.get(), ruleKey);
+    } else {
+      OutputStream payloadStream = ((StreamingArtifactOutput) output).openPayloadStream();
+      try {
+        readResult = payloadReader.readNextPayload(payloadStream, ruleKey);
+      } catch (IOException e) {
+        Closeables.close(payloadStream, true);
+        throw e;
+      }
+      // The whole payload was read, so the results of the other rule keys are still fine if it
+      // could not be consumed.
+      try {
+        payloadStream.close();
+      } catch (IOException e) {
+        String msg = String.format("Could not consume the payload of %s: %s", ruleKey, e);
+        LOG.warn(msg);
+        builder.setCacheResult(CacheResult.error(getName(), getMode(), msg));
+        return;
+      }
+    }
 
     if (!fetchResponse.isSetMetadata()) {
       String msg =
@@ -621,7 +710,9 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     }
 
     // This makes sure we don't have 'half downloaded files' in the dir cache.
-    getProjectFilesystem().move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+    if (tmp.isPresent()) {
+      getProjectFilesystem().move(tmp.get(), output.get(), StandardCopyOption.REPLACE_EXISTING);
+    }
     builder.setCacheResult(
         CacheResult.hit(
             getName(),
@@ -855,16 +946,21 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readNextPayload(Path path, RuleKey ruleKey)
         throws IOException {
       try (OutputStream tmpFile = getProjectFilesystem().newFileOutputStream(path)) {
-        ThriftArtifactCacheProtocol.Response.ReadPayloadInfo result;
-        try {
-          result = response.readPayload(tmpFile);
-        } catch (IOException e) {
-          LOG.debug(e, "Encountered an exception while receiving the payload for %s", ruleKey);
-          throw e;
-        }
-        LOG.verbose("Successfully read payload: %d bytes.", result.getBytesRead());
-        return result;
+        return readNextPayload(tmpFile, ruleKey);
       }
     }
+
+    ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readNextPayload(
+        OutputStream payloadSink, RuleKey ruleKey) throws IOException {
+      ThriftArtifactCacheProtocol.Response.ReadPayloadInfo result;
+      try {
+        result = response.readPayload(payloadSink);
+      } catch (IOException e) {
+        LOG.debug(e, "Encountered an exception while receiving the payload for %s", ruleKey);
+        throw e;
+      }
+      LOG.verbose("Successfully read payload: %d bytes.", result.getBytesRead());
+      return result;
+    }
   }
 }
@@ -20,6 +20,7 @@ import com.facebook.buck.core.util.immutables.BuckStyleImmutable;
 import java.nio.file.Path;
 import java.util.Optional;
 import org.immutables.value.Value;
+import org.sqlite.SQLiteConfig;
 
 @Value.Immutable
 @BuckStyleImmutable
@@ -33,4 +34,9 @@ abstract class AbstractSQLiteCacheEntry {
   public abstract Optional<Long> getMaxInlinedSizeBytes();
 
   public abstract CacheReadMode getCacheReadMode();
+
+  @Value.Default
+  public SQLiteConfig.JournalMode getJournalMode() {
+    return SQLiteConfig.JournalMode.WAL;
+  }
 }
@@ -36,6 +36,7 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import org.sqlite.SQLiteConfig;
 
 /**
  * Represents configuration specific to the {@link com.facebook.buck.artifact_cache.ArtifactCache}.
@@ -80,13 +81,16 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   private static final String HTTP_MAX_FETCH_RETRIES = "http_max_fetch_retries";
   private static final String HTTP_MAX_STORE_ATTEMPTS = "http_max_store_attempts";
   private static final String HTTP_STORE_RETRY_INTERVAL_MILLIS = "http_store_retry_interval_millis";
+  private static final String HTTP_PROTOCOLS = "http_protocols";
+  private static final String HTTP_MAX_REQUESTS_PER_HOST = "http_max_requests_per_host";
 
   private static final String DIR_FIELD = "dir";
   private static final String DIR_MODE_FIELD = "dir_mode";
   private static final String DIR_MAX_SIZE_FIELD = "dir_max_size";
+  private static final String DIR_LAYOUT_FIELD = "dir_layout";
   private static final String DIR_CACHE_NAMES_FIELD_NAME = "dir_cache_names";
   private static final ImmutableSet<String> DIR_CACHE_DESCRIPTION_FIELDS =
-      ImmutableSet.of(DIR_FIELD, DIR_MODE_FIELD, DIR_MAX_SIZE_FIELD);
+      ImmutableSet.of(DIR_FIELD, DIR_MODE_FIELD, DIR_MAX_SIZE_FIELD, DIR_LAYOUT_FIELD);
 
   private static final URI DEFAULT_HTTP_URL = URI.create("http://localhost:8080/");
   private static final String DEFAULT_HTTP_CACHE_MODE = CacheReadMode.READWRITE.name();
@@ -104,6 +108,7 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   private static final String SQLITE_MODE_FIELD = "sqlite_mode";
   private static final String SQLITE_MAX_SIZE_FIELD = "sqlite_max_size";
   private static final String SQLITE_MAX_INLINED_SIZE_FIELD = "sqlite_inlined_size";
+  private static final String SQLITE_JOURNAL_MODE_FIELD = "sqlite_journal_mode";
   private static final String SQLITE_CACHE_NAMES_FIELD_NAME = "sqlite_cache_names";
 
   private static final String SERVED_CACHE_ENABLED_FIELD_NAME = "serve_local_cache";
@@ -134,6 +139,9 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
   public static final String MULTI_FETCH = "multi_fetch";
   private static final String MULTI_FETCH_LIMIT = "multi_fetch_limit";
   private static final int DEFAULT_MULTI_FETCH_LIMIT = 100;
+  private static final String MULTI_FETCH_TARGET_LATENCY_MILLIS =
+      "multi_fetch_target_latency_millis";
+  private static final String PARALLEL_FETCH_DELAY_MILLIS = "parallel_fetch_delay_millis";
 
   private static final String DOWNLOAD_HEAVY_BUILD_CACHE_FETCH_THREADS =
       "download_heavy_build_http_cache_fetch_threads";
@@ -175,12 +183,57 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
             getThreadPoolSize());
   }
 
+  /**
+   * @return the maximum number of connections to a cache which may be in use at the same time,
+   *     i.e. one for each thread which may fetch from or store to it.
+   */
+  public int getHttpMaxConnections() {
+    return Math.max(getHttpFetchConcurrency(), getDownloadHeavyBuildHttpFetchConcurrency())
+        + getHttpMaxConcurrentWrites();
+  }
+
+  /**
+   * @return the maximum number of requests to a cache which may be in flight at the same time. By
+   *     default, every thread which may fetch from or store to the cache can have a request in
+   *     flight, and every fetch thread can send one more multi-fetch request while it is reading
+   *     the response to its previous one.
+   */
+  public int getHttpMaxRequestsPerHost() {
+    return buckConfig
+        .getInteger(CACHE_SECTION_NAME, HTTP_MAX_REQUESTS_PER_HOST)
+        .orElse(getHttpMaxConnections() + getHttpFetchConcurrency());
+  }
+
+  /**
+   * @return the protocols, as ALPN ids such as "h2" or "http/1.1", which clients of http caches
+   *     offer to servers, or empty to offer the defaults of the client.
+   */
+  public Optional<ImmutableList<String>> getHttpProtocols() {
+    return buckConfig.getOptionalListWithoutComments(CACHE_SECTION_NAME, HTTP_PROTOCOLS);
+  }
+
   public int getMultiFetchLimit() {
     return buckConfig
         .getInteger(CACHE_SECTION_NAME, MULTI_FETCH_LIMIT)
         .orElse(DEFAULT_MULTI_FETCH_LIMIT);
   }
 
+  /**
+   * @return the latency within which multi-fetches should be answered, to which their batch size
+   *     is then adapted, or empty to always request up to {@link #getMultiFetchLimit()} keys.
+   */
+  public Optional<Long> getMultiFetchTargetLatencyMillis() {
+    return buckConfig.getLong(CACHE_SECTION_NAME, MULTI_FETCH_TARGET_LATENCY_MILLIS);
+  }
+
+  /**
+   * @return the delay after which a fetch also queries the next cache when the previous one has
+   *     not answered yet, or empty to only query it after the previous one missed.
+   */
+  public Optional<Long> getParallelFetchDelayMillis() {
+    return buckConfig.getLong(CACHE_SECTION_NAME, PARALLEL_FETCH_DELAY_MILLIS);
+  }
+
   public String getRepository() {
     return buckConfig.getValue(CACHE_SECTION_NAME, REPOSITORY).orElse(DEFAULT_REPOSITORY);
   }
@@ -438,11 +491,17 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
     Optional<Long> maxSizeBytes =
         buckConfig.getValue(section, DIR_MAX_SIZE_FIELD).map(SizeUnit::parseBytes);
 
+    DirCacheLayout layout =
+        buckConfig
+            .getEnum(section, DIR_LAYOUT_FIELD, DirCacheLayout.class)
+            .orElse(DirCacheLayout.FILES);
+
     return DirCacheEntry.builder()
         .setName(cacheName)
         .setCacheDir(pathToCacheDir)
         .setCacheReadMode(readMode)
         .setMaxSizeBytes(maxSizeBytes)
+        .setLayout(layout)
         .build();
   }
 
@@ -499,12 +558,18 @@ public class ArtifactCacheBuckConfig implements ConfigView<BuckConfig> {
     Optional<Long> maxInlinedSizeBytes =
         buckConfig.getValue(section, SQLITE_MAX_INLINED_SIZE_FIELD).map(SizeUnit::parseBytes);
 
+    SQLiteConfig.JournalMode journalMode =
+        buckConfig
+            .getEnum(section, SQLITE_JOURNAL_MODE_FIELD, SQLiteConfig.JournalMode.class)
+            .orElse(SQLiteConfig.JournalMode.WAL);
+
     return SQLiteCacheEntry.builder()
         .setName(cacheName)
         .setCacheDir(pathToCacheDir)
         .setCacheReadMode(readMode)
         .setMaxSizeBytes(maxSizeBytes)
         .setMaxInlinedSizeBytes(maxInlinedSizeBytes)
+        .setJournalMode(journalMode)
         .build();
   }
 
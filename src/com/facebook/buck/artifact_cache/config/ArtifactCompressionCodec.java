@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache.config;
+
+/**
+ * How the tar archive of the outputs of a rule is compressed when it is stored in the cache. All
+ * codecs but {@link #NONE} write a stream starting with a magic number, so that readers detect the
+ * codec of each artifact rather than having to be configured with it.
+ */
+public enum ArtifactCompressionCodec {
+  /** Stores the tar archive as is. */
+  NONE,
+  /** Deflate, in a gzip stream. */
+  GZIP,
+  /** Zstandard, which compresses about as well as deflate, several times faster. */
+  ZSTD,
+  /** LZ4 frames, which compress less than zstd but faster still. */
+  LZ4,
+  /**
+   * Stores artifacts whose outputs are mostly already compressed (jars, zips, images...) as is,
+   * and compresses the others with {@link #ZSTD}.
+   */
+  AUTO,
+}
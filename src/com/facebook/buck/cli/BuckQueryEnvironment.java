@@ -39,6 +39,7 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.parser.Parser;
 import com.facebook.buck.parser.ParserMessages;
 import com.facebook.buck.parser.PerBuildState;
+import com.facebook.buck.parser.QueryGraphIndex;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
 import com.facebook.buck.query.NoopQueryEvaluator;
@@ -47,6 +48,7 @@ import com.facebook.buck.query.QueryEnvironment;
 import com.facebook.buck.query.QueryException;
 import com.facebook.buck.query.QueryExpression;
 import com.facebook.buck.query.QueryFileTarget;
+import com.facebook.buck.query.QueryResultCache;
 import com.facebook.buck.query.QueryTarget;
 import com.facebook.buck.query.QueryTargetAccessor;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
@@ -67,7 +69,6 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -96,13 +97,18 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   private final QueryEnvironment.TargetEvaluator queryTargetEvaluator;
   private final TypeCoercerFactory typeCoercerFactory;
 
+  private final Optional<QueryResultCache> resultCache;
+  private final Object resultCacheContext;
+
   private final ImmutableMap<Cell, BuildFileTree> buildFileTrees;
-  private final Map<BuildTarget, QueryTarget> buildTargetToQueryTarget = new HashMap<>();
+  private final Map<BuildTarget, QueryTarget> buildTargetToQueryTarget = new ConcurrentHashMap<>();
 
   // Query execution is single threaded, however the buildTransitiveClosure implementation
-  // traverses the graph in parallel.
-  private MutableDirectedGraph<TargetNode<?>> graph = MutableDirectedGraph.createConcurrent();
-  private Map<BuildTarget, TargetNode<?>> targetsToNodes = new ConcurrentHashMap<>();
+  // traverses the graph in parallel. The graph may also be shared with other queries run by the
+  // daemon.
+  private final QueryGraphIndex.Graph sharedGraph;
+  private final MutableDirectedGraph<TargetNode<?>> graph;
+  private final Map<BuildTarget, TargetNode<?>> targetsToNodes;
 
   @VisibleForTesting
   protected BuckQueryEnvironment(
@@ -114,6 +120,30 @@ public class BuckQueryEnvironment implements QueryEnvironment {
       TargetPatternEvaluator targetPatternEvaluator,
       BuckEventBus eventBus,
       TypeCoercerFactory typeCoercerFactory) {
+    this(
+        rootCell,
+        ownersReportBuilder,
+        parser,
+        parserState,
+        executor,
+        targetPatternEvaluator,
+        eventBus,
+        typeCoercerFactory,
+        Optional.empty(),
+        Optional.empty());
+  }
+
+  private BuckQueryEnvironment(
+      Cell rootCell,
+      Builder ownersReportBuilder,
+      Parser parser,
+      PerBuildState parserState,
+      ListeningExecutorService executor,
+      TargetPatternEvaluator targetPatternEvaluator,
+      BuckEventBus eventBus,
+      TypeCoercerFactory typeCoercerFactory,
+      Optional<QueryResultCache> resultCache,
+      Optional<QueryGraphIndex> graphIndex) {
     this.parser = parser;
     this.eventBus = eventBus;
     this.parserState = parserState;
@@ -133,6 +163,21 @@ public class BuckQueryEnvironment implements QueryEnvironment {
     this.targetPatternEvaluator = targetPatternEvaluator;
     this.queryTargetEvaluator = new TargetEvaluator(targetPatternEvaluator, executor);
     this.typeCoercerFactory = typeCoercerFactory;
+    this.resultCache = resultCache;
+    // Besides the parsed build files, which invalidate the cache when they change, results depend
+    // on the configuration and on the environment variables build files may read.
+    this.resultCacheContext =
+        ImmutableList.of(
+            rootCell.getRoot(),
+            rootCell.getBuckConfig(),
+            rootCell.getBuckConfig().getEnvironment());
+    // The target nodes depend on the same context as the results.
+    this.sharedGraph =
+        graphIndex.isPresent()
+            ? graphIndex.get().get(resultCacheContext)
+            : new QueryGraphIndex.Graph();
+    this.graph = sharedGraph.getGraph();
+    this.targetsToNodes = sharedGraph.getTargetsToNodes();
   }
 
   public static BuckQueryEnvironment from(
@@ -155,12 +200,53 @@ public class BuckQueryEnvironment implements QueryEnvironment {
         typeCoercerFactory);
   }
 
+  @VisibleForTesting
+  static BuckQueryEnvironment from(
+      Cell rootCell,
+      OwnersReport.Builder ownersReportBuilder,
+      Parser parser,
+      PerBuildState parserState,
+      ListeningExecutorService executor,
+      TargetPatternEvaluator targetPatternEvaluator,
+      BuckEventBus eventBus,
+      TypeCoercerFactory typeCoercerFactory,
+      QueryGraphIndex graphIndex) {
+    return new BuckQueryEnvironment(
+        rootCell,
+        ownersReportBuilder,
+        parser,
+        parserState,
+        executor,
+        targetPatternEvaluator,
+        eventBus,
+        typeCoercerFactory,
+        Optional.empty(),
+        Optional.of(graphIndex));
+  }
+
   public static BuckQueryEnvironment from(
       CommandRunnerParams params,
       PerBuildState parserState,
       ListeningExecutorService executor,
       boolean enableProfiling) {
     return from(
+        params, parserState, executor, enableProfiling, Optional.empty(), Optional.empty());
+  }
+
+  /**
+   * @param resultCache cache of the results of whole query expressions, which may be shared with
+   *     other commands as long as it is invalidated when any file changes.
+   * @param graphIndex target graph explored by previous queries, which is reused by this one and
+   *     must be invalidated when any build file changes.
+   */
+  public static BuckQueryEnvironment from(
+      CommandRunnerParams params,
+      PerBuildState parserState,
+      ListeningExecutorService executor,
+      boolean enableProfiling,
+      Optional<QueryResultCache> resultCache,
+      Optional<QueryGraphIndex> graphIndex) {
+    return new BuckQueryEnvironment(
         params.getCell(),
         OwnersReport.builder(params.getCell(), params.getParser(), parserState),
         params.getParser(),
@@ -169,7 +255,9 @@ public class BuckQueryEnvironment implements QueryEnvironment {
         new TargetPatternEvaluator(
             params.getCell(), params.getBuckConfig(), params.getParser(), enableProfiling),
         params.getBuckEventBus(),
-        params.getTypeCoercerFactory());
+        params.getTypeCoercerFactory(),
+        resultCache,
+        graphIndex);
   }
 
   public DirectedAcyclicGraph<TargetNode<?>> getTargetGraph() {
@@ -200,6 +288,16 @@ public class BuckQueryEnvironment implements QueryEnvironment {
    */
   public ImmutableSet<QueryTarget> evaluateQuery(QueryExpression expr)
       throws QueryException, InterruptedException {
+    if (resultCache.isPresent()) {
+      return resultCache
+          .get()
+          .getOrEvaluate(resultCacheContext, expr, () -> evaluateQueryUncached(expr));
+    }
+    return evaluateQueryUncached(expr);
+  }
+
+  private ImmutableSet<QueryTarget> evaluateQueryUncached(QueryExpression expr)
+      throws QueryException, InterruptedException {
     Set<String> targetLiterals = new HashSet<>();
     expr.collectTargetPatterns(targetLiterals);
     preloadTargetPatterns(targetLiterals);
@@ -218,20 +316,21 @@ public class BuckQueryEnvironment implements QueryEnvironment {
               "Expected %s to be a build target but it was an instance of %s",
               target, target.getClass().getName()));
     }
+    BuildTarget buildTarget = ((QueryBuildTarget) target).getBuildTarget();
+    // Nodes already added to the graph don't need to be looked up in the parser again.
+    TargetNode<?> node = targetsToNodes.get(buildTarget);
+    if (node != null) {
+      return node;
+    }
     try {
-      return parser.getTargetNode(parserState, ((QueryBuildTarget) target).getBuildTarget());
+      return parser.getTargetNode(parserState, buildTarget);
     } catch (BuildFileParseException e) {
       throw new QueryException(e, "Error getting target node for %s\n%s", target, e.getMessage());
     }
   }
 
   private QueryTarget getOrCreateQueryBuildTarget(BuildTarget buildTarget) {
-    if (buildTargetToQueryTarget.containsKey(buildTarget)) {
-      return buildTargetToQueryTarget.get(buildTarget);
-    }
-    QueryBuildTarget queryBuildTarget = QueryBuildTarget.of(buildTarget);
-    buildTargetToQueryTarget.put(buildTarget, queryBuildTarget);
-    return queryBuildTarget;
+    return buildTargetToQueryTarget.computeIfAbsent(buildTarget, QueryBuildTarget::of);
   }
 
   public ImmutableSet<QueryTarget> getTargetsFromTargetNodes(Iterable<TargetNode<?>> targetNodes) {
@@ -324,12 +423,18 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   @Override
   public void buildTransitiveClosure(Set<QueryTarget> targets, int maxDepth) throws QueryException {
     // Filter QueryTargets that are build targets and not yet present in the build target graph.
+    // Nodes found by a previous query that failed before adding them to the graph are looked at
+    // again.
     ImmutableSet<BuildTarget> newBuildTargets =
         targets
             .stream()
             .filter(target -> target instanceof QueryBuildTarget)
             .map(target -> ((QueryBuildTarget) target).getBuildTarget())
-            .filter(buildTarget -> !targetsToNodes.containsKey(buildTarget))
+            .filter(
+                buildTarget -> {
+                  TargetNode<?> node = targetsToNodes.get(buildTarget);
+                  return node == null || !graph.containsNode(node);
+                })
             .collect(ImmutableSet.toImmutableSet());
 
     // TODO(mkosiba): This looks more and more like the Parser.buildTargetGraph method. Unify the
@@ -380,21 +485,24 @@ public class BuckQueryEnvironment implements QueryEnvironment {
 
     AcyclicDepthFirstPostOrderTraversal<BuildTarget> targetNodeTraversal =
         new AcyclicDepthFirstPostOrderTraversal<>(traversable);
-    try {
-      for (BuildTarget buildTarget : targetNodeTraversal.traverse(newBuildTargets)) {
-        TargetNode<?> node =
-            Preconditions.checkNotNull(
-                targetsToNodes.get(buildTarget), "Couldn't find TargetNode for %s", buildTarget);
-        graph.addNode(node);
-        for (BuildTarget dep : node.getParseDeps()) {
-          graph.addEdge(
-              node,
+    // Another query sharing the graph must not see a node before its edges have been added.
+    synchronized (sharedGraph) {
+      try {
+        for (BuildTarget buildTarget : targetNodeTraversal.traverse(newBuildTargets)) {
+          TargetNode<?> node =
               Preconditions.checkNotNull(
-                  targetsToNodes.get(dep), "Couldn't find TargetNode for %s", dep));
+                  targetsToNodes.get(buildTarget), "Couldn't find TargetNode for %s", buildTarget);
+          graph.addNode(node);
+          for (BuildTarget dep : node.getParseDeps()) {
+            graph.addEdge(
+                node,
+                Preconditions.checkNotNull(
+                    targetsToNodes.get(dep), "Couldn't find TargetNode for %s", dep));
+          }
         }
+      } catch (AcyclicDepthFirstPostOrderTraversal.CycleException e) {
+        throw new QueryException(e, e.getMessage());
       }
-    } catch (AcyclicDepthFirstPostOrderTraversal.CycleException e) {
-      throw new QueryException(e, e.getMessage());
     }
 
     for (BuildTarget buildTarget : jobsCache.keySet()) {
@@ -34,8 +34,8 @@ import com.facebook.buck.parser.ParseEvent;
 import com.facebook.buck.util.CommandLineException;
 import com.facebook.buck.util.ExitCode;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
-import com.facebook.buck.util.unarchive.ArchiveFormat;
 import com.facebook.buck.util.unarchive.ExistingFileMode;
+import com.facebook.buck.util.unarchive.Untar;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -301,8 +301,7 @@ public class CacheCommand extends AbstractCommand {
     ImmutableList<Path> paths;
     try {
       paths =
-          ArchiveFormat.TAR_ZSTD
-              .getUnarchiver()
+          Untar.detectingUnarchiver()
               .extractArchive(
                   projectFilesystemFactory,
                   artifact.toAbsolutePath(),
@@ -22,6 +22,7 @@ import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.model.actiongraph.computation.ActionGraphCache;
+import com.facebook.buck.core.model.impl.BuildTargetTable;
 import com.facebook.buck.core.rulekey.RuleKey;
 import com.facebook.buck.core.rules.knowntypes.KnownRuleTypesProvider;
 import com.facebook.buck.core.util.log.Logger;
@@ -33,30 +34,41 @@ import com.facebook.buck.io.watchman.Watchman;
 import com.facebook.buck.io.watchman.WatchmanCursor;
 import com.facebook.buck.io.watchman.WatchmanWatcher;
 import com.facebook.buck.parser.DaemonicParserState;
+import com.facebook.buck.parser.DaemonicParserStateSnapshot;
 import com.facebook.buck.parser.ParserConfig;
 import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.rules.keys.DefaultRuleKeyCache;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.rules.keys.config.impl.BuckVersion;
 import com.facebook.buck.support.bgtasks.AsyncBackgroundTaskManager;
 import com.facebook.buck.support.bgtasks.BackgroundTaskManager;
 import com.facebook.buck.util.RichStream;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.impl.DefaultFileHashCache;
 import com.facebook.buck.util.cache.impl.WatchedFileHashCache;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.timing.Clock;
 import com.facebook.buck.versions.VersionedTargetGraphCache;
 import com.facebook.buck.worker.WorkerProcessPool;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import com.google.common.eventbus.EventBus;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Daemon used to monitor the file system and cache build rules between Main() method invocations is
@@ -66,6 +78,8 @@ import java.util.concurrent.ConcurrentMap;
 final class Daemon implements Closeable {
   private static final Logger LOG = Logger.get(Daemon.class);
 
+  private static final String PARSER_STATE_SNAPSHOT_FILE_NAME = "parser_state.bin";
+
   private final Cell rootCell;
   private final TypeCoercerFactory typeCoercerFactory;
   private final DaemonicParserState daemonicParserState;
@@ -83,6 +97,13 @@ final class Daemon implements Closeable {
 
   private final BackgroundTaskManager bgTaskManager;
 
+  private final Optional<DaemonicParserStateSnapshot> parserStateSnapshot;
+  private final long parserStateSnapshotIntervalMillis;
+  private final ExecutorService parserStateSnapshotExecutor;
+  private long lastParserStateSnapshotTime;
+  private boolean restoredParserStateSnapshot;
+  private boolean hasWatchedFileSystem;
+
   Daemon(
       Cell rootCell,
       KnownRuleTypesProvider knownRuleTypesProvider,
@@ -110,8 +131,12 @@ final class Daemon implements Closeable {
     this.hashCaches = hashCachesBuilder.build();
 
     this.actionGraphCache =
-        new ActionGraphCache(rootCell.getBuckConfig().getMaxActionGraphCacheEntries());
-    this.versionedTargetGraphCache = new VersionedTargetGraphCache();
+        new ActionGraphCache(
+            rootCell.getBuckConfig().getMaxActionGraphCacheEntries(),
+            rootCell.getBuckConfig().getMaxActionGraphCacheRules());
+    this.versionedTargetGraphCache =
+        new VersionedTargetGraphCache(
+            rootCell.getBuckConfig().getMaxVersionedTargetGraphCacheEntries());
     this.knownRuleTypesProvider = knownRuleTypesProvider;
 
     typeCoercerFactory = new DefaultTypeCoercerFactory();
@@ -146,6 +171,29 @@ final class Daemon implements Closeable {
       cursor = watchman.buildNamedWatchmanCursorMap();
     }
     LOG.debug("Using Watchman Cursor: %s", cursor);
+
+    // Snapshots are only usable with clock cursors, as those are the only ones that can be handed
+    // to a later Watchman query to learn about everything that changed in between.
+    if (parserConfig.isParserStateSnapshotEnabled()
+        && parserConfig.getWatchmanCursor() == WatchmanWatcher.CursorType.CLOCK_ID
+        && !watchman.getClockIds().isEmpty()) {
+      this.parserStateSnapshot =
+          Optional.of(
+              new DaemonicParserStateSnapshot(
+                  rootCell
+                      .getFilesystem()
+                      .resolve(rootCell.getFilesystem().getBuckPaths().getBuckOut())
+                      .resolve(PARSER_STATE_SNAPSHOT_FILE_NAME),
+                  computeParserStateFingerprint(rootCell)));
+      restoreParserStateSnapshot(parserStateSnapshot.get());
+    } else {
+      this.parserStateSnapshot = Optional.empty();
+    }
+    this.parserStateSnapshotIntervalMillis =
+        TimeUnit.SECONDS.toMillis(parserConfig.getParserStateSnapshotIntervalSeconds());
+    this.parserStateSnapshotExecutor =
+        MostExecutors.newSingleThreadExecutor("parser-state-snapshot");
+
     persistentWorkerPools = new ConcurrentHashMap<>();
 
     this.bgTaskManager =
@@ -158,6 +206,79 @@ final class Daemon implements Closeable {
     return rootCell;
   }
 
+  /**
+   * Hashes everything the cached parser state depends on that {@link DaemonicParserState} does not
+   * track itself: the buck version and the configuration and location of every cell.
+   */
+  private static String computeParserStateFingerprint(Cell rootCell) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putString(BuckVersion.getVersion(), StandardCharsets.UTF_8);
+    RichStream.from(rootCell.getAllCells())
+        .sorted(Comparator.comparing(Cell::getRoot))
+        .forEachOrdered(
+            cell -> {
+              hasher.putString(cell.getRoot().toString(), StandardCharsets.UTF_8);
+              hasher.putString(
+                  cell.getBuckConfig().getConfig().getSectionToEntries().toString(),
+                  StandardCharsets.UTF_8);
+            });
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Seeds the parser state from a snapshot and rewinds the Watchman cursors to the clocks the
+   * snapshot was taken at, so that the first query replays every change made since then.
+   */
+  private void restoreParserStateSnapshot(DaemonicParserStateSnapshot snapshot) {
+    Optional<ImmutableMap<Path, String>> clocks =
+        snapshot.restore(daemonicParserState, rootCell);
+    if (!clocks.isPresent()) {
+      return;
+    }
+    if (!clocks.get().keySet().equals(cursor.keySet())) {
+      LOG.debug("Discarding parser state snapshot taken with different watches: %s", clocks.get());
+      daemonicParserState.invalidateAllCaches();
+      return;
+    }
+    for (Map.Entry<Path, String> entry : clocks.get().entrySet()) {
+      cursor.get(entry.getKey()).set(entry.getValue());
+    }
+    // The parser state is normally only subscribed to file changes once it is first used, which
+    // would be too late to see the changes replayed by the first query.
+    fileEventBus.register(daemonicParserState);
+    restoredParserStateSnapshot = true;
+    LOG.info("Restored parser state from %s at %s", snapshot.getPath(), clocks.get());
+  }
+
+  /**
+   * Writes the parser state to disk in the background if the last snapshot is old enough. Must be
+   * called before the Watchman cursors are advanced, as the parser state is guaranteed to be up to
+   * date with their current value.
+   */
+  private void maybeSnapshotParserState() {
+    if (!parserStateSnapshot.isPresent()) {
+      return;
+    }
+    long now = clock.currentTimeMillis();
+    if (now - lastParserStateSnapshotTime < parserStateSnapshotIntervalMillis) {
+      return;
+    }
+    lastParserStateSnapshotTime = now;
+    ImmutableMap<Path, String> clocks =
+        ImmutableMap.copyOf(Maps.transformValues(cursor, WatchmanCursor::get));
+    // The parser state may pick up changes made after these clocks while it is being serialized,
+    // which is harmless: those changes are replayed again when the snapshot is restored.
+    parserStateSnapshotExecutor.execute(
+        () -> {
+          try {
+            parserStateSnapshot.get().save(daemonicParserState, rootCell, clocks);
+            LOG.debug("Saved parser state at %s", clocks);
+          } catch (IOException e) {
+            LOG.warn(e, "Failed to save parser state snapshot");
+          }
+        });
+  }
+
   private static Optional<WebServer> createWebServer(
       BuckConfig config, ProjectFilesystem filesystem) {
     OptionalInt port = getValidWebServerPort(config);
@@ -258,11 +379,23 @@ final class Daemon implements Closeable {
     // invalidations triggered by requests to parse build files or interrupted by client
     // disconnections.
     synchronized (daemonicParserState) {
+      WatchmanWatcher.FreshInstanceAction freshInstanceAction = watchmanFreshInstanceAction;
+      if (!hasWatchedFileSystem) {
+        hasWatchedFileSystem = true;
+        // A restored parser state is only valid if Watchman still knows about the clocks it was
+        // taken at, so make sure it gets thrown away if Watchman has restarted since.
+        if (restoredParserStateSnapshot) {
+          freshInstanceAction = WatchmanWatcher.FreshInstanceAction.POST_OVERFLOW_EVENT;
+        }
+      } else {
+        maybeSnapshotParserState();
+      }
+
       // Track the file hash cache invalidation run time.
       FileHashCacheEvent.InvalidationStarted started = FileHashCacheEvent.invalidationStarted();
       eventBus.post(started);
       try {
-        watchmanWatcher.postEvents(eventBus, watchmanFreshInstanceAction);
+        watchmanWatcher.postEvents(eventBus, freshInstanceAction);
       } finally {
         eventBus.post(FileHashCacheEvent.invalidationFinished(started));
         for (ProjectFileHashCache hashCache : hashCaches) {
@@ -302,8 +435,11 @@ final class Daemon implements Closeable {
   @Override
   public void close() {
     bgTaskManager.shutdownNow();
+    parserStateSnapshotExecutor.shutdownNow();
     shutdownPersistentWorkerPools();
     shutdownWebServer();
+    // The next daemon starts with a table of its own targets.
+    BuildTargetTable.getInstance().clear();
   }
 
   private void shutdownPersistentWorkerPools() {
@@ -25,6 +25,8 @@ import com.facebook.buck.artifact_cache.ArtifactCaches;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
 import com.facebook.buck.cli.exceptions.handlers.ExceptionHandlerRegistryFactory;
 import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
+import com.facebook.buck.core.build.engine.config.CachingBuildEngineBuckConfig;
+import com.facebook.buck.core.build.engine.type.BuildSchedulingStrategy;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.cell.CellName;
 import com.facebook.buck.core.cell.InvalidCellOverrideException;
@@ -1847,10 +1849,18 @@ public final class Main {
     eventListenersBuilder.add(new LoadBalancerEventsListener(counterRegistry));
     eventListenersBuilder.add(new CacheRateStatsListener(buckEventBus));
     eventListenersBuilder.add(new WatchmanDiagnosticEventListener(buckEventBus));
-    if (buckConfig.isCriticalPathAnalysisEnabled()) {
+    BuildSchedulingStrategy schedulingStrategy =
+        buckConfig.getView(CachingBuildEngineBuckConfig.class).getBuildSchedulingStrategy();
+    // Critical path scheduling relies on the rule durations recorded by this listener.
+    if (buckConfig.isCriticalPathAnalysisEnabled()
+        || schedulingStrategy == BuildSchedulingStrategy.CRITICAL_PATH) {
       eventListenersBuilder.add(
           new BuildTargetDurationListener(
-              invocationInfo, projectFilesystem, buckConfig.getCriticalPathCount(), managerScope));
+              invocationInfo,
+              projectFilesystem,
+              buckConfig.getCriticalPathCount(),
+              schedulingStrategy,
+              managerScope));
     }
     eventListenersBuilder.addAll(commandSpecificEventListeners);
 
@@ -20,6 +20,7 @@ import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.model.BuildFileTree;
 import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.parser.InputOwnersIndex;
 import com.facebook.buck.parser.Parser;
 import com.facebook.buck.parser.PerBuildState;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
@@ -41,6 +42,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -114,6 +116,25 @@ final class OwnersReport {
   @VisibleForTesting
   static OwnersReport generateOwnersReport(
       Cell rootCell, TargetNode<?> targetNode, String filePath) {
+    return generateOwnersReport(
+        rootCell,
+        filePath,
+        commandInput -> {
+          Set<Path> ruleInputs = targetNode.getInputs();
+          Predicate<Path> startsWith =
+              input -> !commandInput.equals(input) && commandInput.startsWith(input);
+          return ruleInputs.contains(commandInput) || ruleInputs.stream().anyMatch(startsWith)
+              ? ImmutableSet.of(targetNode)
+              : ImmutableSet.of();
+        });
+  }
+
+  /**
+   * @param getOwners returns the target nodes that own a path relative to {@code rootCell}, if the
+   *     path is an existing file.
+   */
+  private static OwnersReport generateOwnersReport(
+      Cell rootCell, String filePath, Function<Path, ImmutableSet<TargetNode<?>>> getOwners) {
     Path file = rootCell.getFilesystem().getPathForRelativePath(filePath);
     if (!Files.exists(file)) {
       return new OwnersReport(
@@ -129,12 +150,14 @@ final class OwnersReport {
           ImmutableSet.of(filePath));
     } else {
       Path commandInput = rootCell.getFilesystem().getPath(filePath);
-      Set<Path> ruleInputs = targetNode.getInputs();
-      Predicate<Path> startsWith =
-          input -> !commandInput.equals(input) && commandInput.startsWith(input);
-      if (ruleInputs.contains(commandInput) || ruleInputs.stream().anyMatch(startsWith)) {
+      ImmutableSet<TargetNode<?>> owners = getOwners.apply(commandInput);
+      if (!owners.isEmpty()) {
         return new OwnersReport(
-            ImmutableSetMultimap.of(targetNode, commandInput),
+            owners
+                .stream()
+                .collect(
+                    ImmutableSetMultimap.toImmutableSetMultimap(
+                        Function.identity(), owner -> commandInput)),
             ImmutableSet.of(),
             ImmutableSet.of(),
             ImmutableSet.of());
@@ -156,11 +179,13 @@ final class OwnersReport {
     private final Cell rootCell;
     private final Parser parser;
     private final PerBuildState parserState;
+    private final InputOwnersIndex inputOwnersIndex;
 
     private Builder(Cell rootCell, Parser parser, PerBuildState parserState) {
       this.rootCell = rootCell;
       this.parser = parser;
       this.parserState = parserState;
+      this.inputOwnersIndex = parser.getPermState().getInputOwnersIndex();
     }
 
     private OwnersReport getReportForBasePath(
@@ -179,10 +204,13 @@ final class OwnersReport {
                   throw new HumanReadableException(e);
                 }
               });
-      return targetNodes
-          .stream()
-          .map(targetNode -> generateOwnersReport(cell, targetNode, cellRelativePath.toString()))
-          .reduce(OwnersReport.emptyReport(), OwnersReport::updatedWith);
+      if (targetNodes.isEmpty()) {
+        return OwnersReport.emptyReport();
+      }
+      return generateOwnersReport(
+          cell,
+          cellRelativePath.toString(),
+          commandInput -> inputOwnersIndex.getOwners(targetNodes, commandInput));
     }
 
     private ImmutableSet<Path> getAllBasePathsForPath(
@@ -23,14 +23,17 @@ import com.facebook.buck.core.util.graph.DirectedAcyclicGraph;
 import com.facebook.buck.core.util.graph.Dot;
 import com.facebook.buck.core.util.graph.Dot.Builder;
 import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.parser.ParserConfig;
 import com.facebook.buck.parser.ParserPythonInterpreterProvider;
 import com.facebook.buck.parser.PerBuildState;
 import com.facebook.buck.parser.PerBuildStateFactory;
+import com.facebook.buck.parser.QueryGraphIndex;
 import com.facebook.buck.parser.SpeculativeParsing;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.query.QueryBuildTarget;
 import com.facebook.buck.query.QueryException;
 import com.facebook.buck.query.QueryExpression;
+import com.facebook.buck.query.QueryResultCache;
 import com.facebook.buck.query.QueryTarget;
 import com.facebook.buck.rules.coercer.ConstructorArgMarshaller;
 import com.facebook.buck.util.CommandLineException;
@@ -203,13 +206,50 @@ public class QueryCommand extends AbstractCommand {
                     SpeculativeParsing.ENABLED)) {
       ListeningExecutorService executor = pool.getListeningExecutorService();
       BuckQueryEnvironment env =
-          BuckQueryEnvironment.from(params, parserState, executor, getEnableParserProfiling());
+          BuckQueryEnvironment.from(
+              params,
+              parserState,
+              executor,
+              getEnableParserProfiling(),
+              getQueryResultCache(params),
+              getQueryGraphIndex(params));
       return formatAndRunQuery(params, env);
     } catch (QueryException e) {
       throw new HumanReadableException(e);
     }
   }
 
+  /**
+   * @return the daemon's cache of query results, unless the output needs the graph traversed while
+   *     evaluating the query, or target platforms, which the cache does not distinguish, are used.
+   */
+  private Optional<QueryResultCache> getQueryResultCache(CommandRunnerParams params) {
+    if (!canUseDaemonQueryState(params)) {
+      return Optional.empty();
+    }
+    return Optional.of(params.getParser().getPermState().getQueryResultCache());
+  }
+
+  /**
+   * @return the target graph explored by the daemon's previous queries, under the same conditions
+   *     as {@link #getQueryResultCache}: the rank and dot outputs print the whole graph, which
+   *     would include targets explored by other queries.
+   */
+  private Optional<QueryGraphIndex> getQueryGraphIndex(CommandRunnerParams params) {
+    if (!canUseDaemonQueryState(params)) {
+      return Optional.empty();
+    }
+    return Optional.of(params.getParser().getPermState().getQueryGraphIndex());
+  }
+
+  private boolean canUseDaemonQueryState(CommandRunnerParams params) {
+    return params.getBuckConfig().getView(ParserConfig.class).getCacheQueryResults()
+        && getTargetPlatforms().isEmpty()
+        && getOutputFormat() != OutputFormat.MINRANK
+        && getOutputFormat() != OutputFormat.MAXRANK
+        && !shouldGenerateDotOutput();
+  }
+
   @VisibleForTesting
   ExitCode formatAndRunQuery(CommandRunnerParams params, BuckQueryEnvironment env)
       throws IOException, InterruptedException, QueryException {
@@ -21,9 +21,13 @@ import com.facebook.buck.core.build.engine.BuildEngineResult;
 import com.facebook.buck.core.build.engine.cache.manager.BuildInfoStoreManager;
 import com.facebook.buck.core.build.engine.config.CachingBuildEngineBuckConfig;
 import com.facebook.buck.core.build.engine.delegate.CachingBuildEngineDelegate;
+import com.facebook.buck.core.build.engine.impl.BuildRulePriorities;
 import com.facebook.buck.core.build.engine.impl.CachingBuildEngine;
+import com.facebook.buck.core.build.engine.impl.CriticalPathBuildRulePriorities;
 import com.facebook.buck.core.build.engine.impl.MetadataChecker;
+import com.facebook.buck.core.build.engine.type.BuildSchedulingStrategy;
 import com.facebook.buck.core.build.engine.type.BuildType;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.cell.Cell;
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.exceptions.BuildTargetParseException;
@@ -38,6 +42,7 @@ import com.facebook.buck.core.rules.SourcePathRuleFinder;
 import com.facebook.buck.core.sourcepath.resolver.impl.DefaultSourcePathResolver;
 import com.facebook.buck.core.util.immutables.BuckStyleImmutable;
 import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.ProjectFilesystemFactory;
 import com.facebook.buck.jvm.java.JavaBuckConfig;
 import com.facebook.buck.log.thrift.ThriftRuleKeyLogger;
@@ -228,11 +233,13 @@ public class LocalBuildExecutor implements BuildExecutor {
         engineConfig.getBuildDepFiles(),
         engineConfig.getBuildMaxDepFileCacheEntries(),
         engineConfig.getBuildArtifactCacheSizeLimit(),
+        engineConfig.getBuildArtifactCompressionCodec(),
         actionGraphAndBuilder.getActionGraphBuilder(),
         sourcePathRuleFinder,
         DefaultSourcePathResolver.from(sourcePathRuleFinder),
         args.getBuildInfoStoreManager(),
         engineConfig.getResourceAwareSchedulingInfo(),
+        createBuildRulePriorities(engineConfig.getBuildSchedulingStrategy()),
         engineConfig.getConsoleLogBuildRuleFailuresInline(),
         RuleKeyFactories.of(
             args.getRuleKeyConfiguration(),
@@ -244,6 +251,22 @@ public class LocalBuildExecutor implements BuildExecutor {
         remoteBuildRuleCompletionWaiter);
   }
 
+  private BuildRulePriorities createBuildRulePriorities(BuildSchedulingStrategy strategy) {
+    switch (strategy) {
+      case FIFO:
+        return BuildRulePriorities.FIFO;
+      case CRITICAL_PATH:
+        ProjectFilesystem filesystem = args.getRootCell().getFilesystem();
+        return new CriticalPathBuildRulePriorities(
+            actionGraphAndBuilder.getActionGraph().getNodes(),
+            BuildRuleDurationHistory.load(
+                filesystem
+                    .resolve(filesystem.getBuckPaths().getLogDir())
+                    .resolve(BuildRuleDurationHistory.FILE_NAME)));
+    }
+    throw new IllegalStateException("Unknown scheduling strategy " + strategy);
+  }
+
   public Build getBuild() {
     return build;
   }
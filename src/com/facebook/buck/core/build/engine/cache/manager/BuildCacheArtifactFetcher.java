@@ -34,17 +34,19 @@ import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.RichStream;
 import com.facebook.buck.util.Scope;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
-import com.facebook.buck.util.unarchive.ArchiveFormat;
 import com.facebook.buck.util.unarchive.ExistingFileMode;
+import com.facebook.buck.util.unarchive.Untar;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 
 public class BuildCacheArtifactFetcher {
 
@@ -89,45 +91,49 @@ public class BuildCacheArtifactFetcher {
       return Futures.immediateFuture(CacheResult.ignored());
     }
 
-    // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
-    // that we are creating a zip-based FileSystem.
-    LazyPath lazyZipPath =
-        new LazyPath() {
-          @Override
-          protected Path create() throws IOException {
-            return Files.createTempFile(
-                "buck_artifact_" + MostFiles.sanitize(rule.getBuildTarget().getShortName()),
-                ".zip");
-          }
-        };
-
-    // TODO(mbolin): Change ArtifactCache.fetch() so that it returns a File instead of takes one.
-    // Then we could download directly from the remote cache into the on-disk cache and unzip it
-    // from there.
-    return Futures.transformAsync(
-        fetch(artifactCache, ruleKey, lazyZipPath),
-        cacheResult -> {
-          try (Scope ignored = buildRuleScope()) {
-            // Verify that the rule key we used to fetch the artifact is one of the rule keys
-            // reported in it's metadata.
-            if (cacheResult.getType().isSuccess()) {
-              ImmutableSet<RuleKey> ruleKeys =
-                  RichStream.from(cacheResult.getMetadata().entrySet())
-                      .filter(e -> BuildInfo.RULE_KEY_NAMES.contains(e.getKey()))
-                      .map(Map.Entry::getValue)
-                      .map(RuleKey::new)
-                      .toImmutableSet();
-              if (!ruleKeys.contains(ruleKey)) {
-                LOG.warn(
-                    "%s: rule keys in artifact don't match rule key used to fetch it: %s not in %s",
-                    rule.getBuildTarget(), ruleKey, ruleKeys);
-              }
-            }
+    // Caches that stream the artifact extract it into a staging dir under buck-out as they
+    // download it, and the others write it to an archive under buck-out, which is extracted once
+    // they returned.
+    String prefix = "buck_artifact_" + MostFiles.sanitize(rule.getBuildTarget().getShortName());
+    StagingArtifactOutput output = new StagingArtifactOutput(filesystem, prefix);
 
-            return Futures.immediateFuture(
-                extractArtifactFromCacheResult(ruleKey, lazyZipPath, filesystem, cacheResult));
+    ListenableFuture<CacheResult> result =
+        Futures.transformAsync(
+            fetch(artifactCache, ruleKey, output),
+            cacheResult -> {
+              try (Scope ignored = buildRuleScope()) {
+                // Verify that the rule key we used to fetch the artifact is one of the rule keys
+                // reported in it's metadata.
+                if (cacheResult.getType().isSuccess()) {
+                  ImmutableSet<RuleKey> ruleKeys =
+                      RichStream.from(cacheResult.getMetadata().entrySet())
+                          .filter(e -> BuildInfo.RULE_KEY_NAMES.contains(e.getKey()))
+                          .map(Map.Entry::getValue)
+                          .map(RuleKey::new)
+                          .toImmutableSet();
+                  if (!ruleKeys.contains(ruleKey)) {
+                    LOG.warn(
+                        "%s: rule keys in artifact don't match rule key used to fetch it: "
+                            + "%s not in %s",
+                        rule.getBuildTarget(), ruleKey, ruleKeys);
+                  }
+                }
+
+                return Futures.immediateFuture(
+                    extractArtifactFromCacheResult(ruleKey, output, filesystem, cacheResult));
+              }
+            });
+    // Whatever was staged for a payload that was not moved into place is discarded.
+    result.addListener(
+        () -> {
+          try {
+            output.deleteStagingDir();
+          } catch (IOException e) {
+            LOG.warn(e, "Failed to delete the staged artifact of %s.", rule.getBuildTarget());
           }
-        });
+        },
+        MoreExecutors.directExecutor());
+    return result;
   }
 
   public ListenableFuture<CacheResult> fetch(
@@ -172,7 +178,10 @@ public class BuildCacheArtifactFetcher {
   }
 
   private CacheResult extractArtifactFromCacheResult(
-      RuleKey ruleKey, LazyPath lazyZipPath, ProjectFilesystem filesystem, CacheResult cacheResult)
+      RuleKey ruleKey,
+      StagingArtifactOutput output,
+      ProjectFilesystem filesystem,
+      CacheResult cacheResult)
       throws IOException {
 
     // We only unpack artifacts from hits.
@@ -186,19 +195,6 @@ public class BuildCacheArtifactFetcher {
     Preconditions.checkArgument(cacheResult.getType() == CacheResultType.HIT);
     LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
 
-    // It should be fine to get the path straight away, since cache already did it's job.
-    Path zipPath = lazyZipPath.getUnchecked();
-
-    // We unzip the file in the root of the project directory.
-    // Ideally, the following would work:
-    //
-    // Path pathToZip = Paths.get(zipPath.getAbsolutePath());
-    // FileSystem fs = FileSystems.newFileSystem(pathToZip, /* loader */ null);
-    // Path root = Iterables.getOnlyElement(fs.getRootDirectories());
-    // MostFiles.copyRecursively(root, projectRoot);
-    //
-    // Unfortunately, this does not appear to work, in practice, because MostFiles fails when trying
-    // to resolve a Path for a zip entry against a file Path on disk.
     ArtifactCompressionEvent.Started started =
         ArtifactCompressionEvent.started(
             ArtifactCompressionEvent.Operation.DECOMPRESS, ImmutableSet.of(ruleKey));
@@ -216,19 +212,29 @@ public class BuildCacheArtifactFetcher {
           ruleKey,
           BuildInfo.MetadataKey.ORIGIN_BUILD_ID);
 
-      ImmutableSet<Path> extractedFiles =
-          ArchiveFormat.TAR_ZSTD
-              .getUnarchiver()
-              .extractArchive(
-                  zipPath.toAbsolutePath(),
-                  filesystem,
-                  ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+      ImmutableSet<Path> extractedFiles;
+      if (output.isPayloadStaged()) {
+        // The cache verified the payload it streamed before returning a hit, so the staged
+        // payload can be moved into place.
+        extractedFiles = output.moveStagedPayloadIntoPlace();
+      } else {
+        // It should be fine to get the path straight away, since cache already did it's job.
+        extractedFiles =
+            Untar.detectingUnarchiver()
+                .extractArchive(
+                    output.getUnchecked(),
+                    filesystem,
+                    ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+      }
 
       onDiskBuildInfo.validateArtifact(extractedFiles);
 
-      // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave it
+      // We only delete the archive when it has been extracted successfully. Otherwise, we leave it
       // around for debugging purposes.
-      Files.delete(zipPath);
+      Optional<Path> archive = output.getArchive();
+      if (archive.isPresent()) {
+        Files.delete(archive.get());
+      }
 
       // TODO(cjhopman): This should probably record metadata with the buildInfoRecorder, not
       // directly into the buildInfoStore.
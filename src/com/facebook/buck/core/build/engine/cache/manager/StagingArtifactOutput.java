@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.engine.cache.manager;
+
+import com.facebook.buck.artifact_cache.StreamingArtifactOutput;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.util.unarchive.Untar;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Output for fetching the artifact of a rule that extracts the payload into a staging directory
+ * under buck-out while the cache streams it, rather than writing it to an archive that is only
+ * extracted once it has been downloaded. The staged entries are only moved into place once the
+ * cache verified the payload and returned a hit.
+ *
+ * <p>Caches that do not stream the payload write it to the archive file of this output instead,
+ * which then has to be extracted.
+ */
+class StagingArtifactOutput extends StreamingArtifactOutput {
+
+  /** How much of the payload can be buffered while it is waiting to be extracted. */
+  private static final int PIPE_SIZE_BYTES = 1024 * 1024;
+
+  /**
+   * Extractions get their own threads: they block the threads writing the payload, which may be
+   * the threads of the build or of the caches.
+   */
+  private static final ExecutorService EXTRACTION_EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder()
+              .setNameFormat("artifact-extraction-%d")
+              .setDaemon(true)
+              .build());
+
+  private final ProjectFilesystem filesystem;
+  private final String prefix;
+
+  @GuardedBy("this")
+  @Nullable
+  private Path archive;
+
+  @GuardedBy("this")
+  @Nullable
+  private Path stagingDir;
+
+  @GuardedBy("this")
+  @Nullable
+  private Future<ImmutableSet<Path>> extraction;
+
+  /** Whether the last payload was streamed, rather than written to the archive. */
+  @GuardedBy("this")
+  private boolean streamed;
+
+  StagingArtifactOutput(ProjectFilesystem filesystem, String prefix) {
+    this.filesystem = filesystem;
+    this.prefix = prefix;
+  }
+
+  @Override
+  protected synchronized Path create() throws IOException {
+    // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
+    // that we are creating a zip-based FileSystem.
+    archive = filesystem.resolve(filesystem.createTempFile(prefix, ".zip"));
+    return archive;
+  }
+
+  @Override
+  protected synchronized void onPayloadWrittenToFile() throws IOException {
+    streamed = false;
+    deleteStagingDir();
+  }
+
+  @Override
+  public synchronized OutputStream openPayloadStream() throws IOException {
+    Preconditions.checkState(
+        extraction == null || extraction.isDone(), "The previous payload is still being written.");
+    deleteStagingDir();
+    Path tmpDir = filesystem.getBuckPaths().getTmpDir();
+    filesystem.mkdirs(tmpDir);
+    Path dir = filesystem.relativize(Files.createTempDirectory(filesystem.resolve(tmpDir), prefix));
+    stagingDir = dir;
+
+    PipedInputStream payload = new PipedInputStream(PIPE_SIZE_BYTES);
+    PipedOutputStream payloadSink = new PipedOutputStream(payload);
+    Future<ImmutableSet<Path>> future = EXTRACTION_EXECUTOR.submit(() -> extract(payload, dir));
+    extraction = future;
+    streamed = true;
+    return new FilterOutputStream(payloadSink) {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          super.close();
+        } finally {
+          waitFor(future);
+        }
+      }
+    };
+  }
+
+  private ImmutableSet<Path> extract(InputStream payload, Path dir) throws IOException {
+    try {
+      return Untar.detectingUnarchiver().extractArchive(payload, filesystem, dir);
+    } finally {
+      // Caches verify the payload as they write it, so they have to be able to write all of it
+      // even if it could not be extracted.
+      try (InputStream rest = payload) {
+        ByteStreams.exhaust(rest);
+      }
+    }
+  }
+
+  private static ImmutableSet<Path> waitFor(Future<ImmutableSet<Path>> extraction)
+      throws IOException {
+    try {
+      return extraction.get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      throw new IOException("Failed to extract the artifact.", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while extracting the artifact.");
+    }
+  }
+
+  /** @return whether the payload was streamed to this output, rather than written to its file. */
+  synchronized boolean isPayloadStaged() {
+    return streamed;
+  }
+
+  /** @return the archive file of this output, if a cache needed one. */
+  synchronized Optional<Path> getArchive() {
+    return Optional.ofNullable(archive);
+  }
+
+  /**
+   * Moves the staged payload into place, with the same result as extracting the archive in place
+   * with {@link com.facebook.buck.util.unarchive.ExistingFileMode#OVERWRITE_AND_CLEAN_DIRECTORIES}:
+   * directories of the archive are cleaned of what the archive does not contain.
+   *
+   * @return the files and symlinks that were moved into place.
+   */
+  synchronized ImmutableSet<Path> moveStagedPayloadIntoPlace() throws IOException {
+    Preconditions.checkState(streamed && extraction != null && stagingDir != null);
+    Path dir = stagingDir;
+    Set<Path> directories = new HashSet<>();
+    ImmutableSet.Builder<Path> files = ImmutableSet.builder();
+    // Parents are moved before their children.
+    for (Path stagedPath : ImmutableSortedSet.copyOf(waitFor(extraction))) {
+      Path path = dir.relativize(stagedPath);
+      if (filesystem.isDirectory(stagedPath, LinkOption.NOFOLLOW_LINKS)) {
+        if (!filesystem.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+          filesystem.deleteRecursivelyIfExists(path);
+          filesystem.mkdirs(path);
+        }
+        directories.add(path);
+      } else {
+        if (filesystem.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+          filesystem.deleteRecursivelyIfExists(path);
+        } else {
+          filesystem.createParentDirs(path);
+        }
+        filesystem.move(stagedPath, path, StandardCopyOption.REPLACE_EXISTING);
+        files.add(path);
+      }
+    }
+
+    ImmutableSet<Path> movedFiles = files.build();
+    for (Path directory : directories) {
+      for (Path child : filesystem.getDirectoryContents(directory)) {
+        if (!movedFiles.contains(child) && !directories.contains(child)) {
+          filesystem.deleteRecursivelyIfExists(child);
+        }
+      }
+      filesystem.setLastModifiedTime(
+          directory, filesystem.getLastModifiedTime(dir.resolve(directory)));
+    }
+    deleteStagingDir();
+    return movedFiles;
+  }
+
+  /** Deletes whatever is left of the staged payload. */
+  synchronized void deleteStagingDir() throws IOException {
+    if (stagingDir != null) {
+      filesystem.deleteRecursivelyIfExists(stagingDir);
+      stagingDir = null;
+    }
+  }
+}
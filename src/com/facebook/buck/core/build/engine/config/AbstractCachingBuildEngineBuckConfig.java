@@ -15,6 +15,8 @@
  */
 package com.facebook.buck.core.build.engine.config;
 
+import com.facebook.buck.artifact_cache.config.ArtifactCompressionCodec;
+import com.facebook.buck.core.build.engine.type.BuildSchedulingStrategy;
 import com.facebook.buck.core.build.engine.type.BuildType;
 import com.facebook.buck.core.build.engine.type.DepFiles;
 import com.facebook.buck.core.build.engine.type.MetadataStorage;
@@ -33,6 +35,13 @@ abstract class AbstractCachingBuildEngineBuckConfig implements ConfigView<BuckCo
     return getDelegate().getEnum("build", "engine", BuildType.class).orElse(BuildType.SHALLOW);
   }
 
+  /** @return the order in which to start building rules that are ready to be built. */
+  public BuildSchedulingStrategy getBuildSchedulingStrategy() {
+    return getDelegate()
+        .getEnum("build", "scheduling_strategy", BuildSchedulingStrategy.class)
+        .orElse(BuildSchedulingStrategy.FIFO);
+  }
+
   public MetadataStorage getBuildMetadataStorage() {
     return getDelegate()
         .getEnum("build", "metadata_storage", MetadataStorage.class)
@@ -66,6 +75,13 @@ abstract class AbstractCachingBuildEngineBuckConfig implements ConfigView<BuckCo
     return getDelegate().getLong("build", "artifact_cache_size_limit");
   }
 
+  /** @return how to compress the outputs of rules when storing them in the cache. */
+  public ArtifactCompressionCodec getBuildArtifactCompressionCodec() {
+    return getDelegate()
+        .getEnum("build", "artifact_compression_codec", ArtifactCompressionCodec.class)
+        .orElse(ArtifactCompressionCodec.ZSTD);
+  }
+
   public ResourceAwareSchedulingInfo getResourceAwareSchedulingInfo() {
     ResourcesConfig resourcesConfig = getDelegate().getView(ResourcesConfig.class);
     return ResourceAwareSchedulingInfo.of(
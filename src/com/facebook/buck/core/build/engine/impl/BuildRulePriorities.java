@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.util.concurrent.ListeningMultiSemaphore;
+
+/**
+ * Decides in which order {@link CachingBuildEngine} builds rules that are ready to be built
+ * locally: when there are more such rules than available resources, the ones with the highest
+ * priority go first.
+ */
+public interface BuildRulePriorities {
+
+  /** Builds rules in the order they become ready. */
+  BuildRulePriorities FIFO = rule -> ListeningMultiSemaphore.DEFAULT_PRIORITY;
+
+  long getPriority(BuildRule rule);
+}
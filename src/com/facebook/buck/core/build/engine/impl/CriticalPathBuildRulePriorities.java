@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.util.log.Logger;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prioritizes rules by the estimated length of the longest chain of work that can't start before
+ * the rule is built: its own duration plus the longest such chain among the rules depending on it.
+ * Building the rules on the critical path first keeps the build from ending with a long chain of
+ * rules that run one after another while most of the machine is idle.
+ *
+ * <p>Durations are estimated from {@link BuildRuleDurationHistory}, rules without history are
+ * assumed to take the mean duration of the rules with history.
+ */
+public class CriticalPathBuildRulePriorities implements BuildRulePriorities {
+
+  private static final Logger LOG = Logger.get(CriticalPathBuildRulePriorities.class);
+
+  private final Supplier<ImmutableMap<BuildRule, Long>> ranks;
+  private final Supplier<Long> defaultDuration;
+  private final BuildRuleDurationHistory history;
+
+  /**
+   * @param rules all rules of the action graph. Ranks are computed for the whole graph the first
+   *     time a priority is requested.
+   */
+  public CriticalPathBuildRulePriorities(
+      Iterable<? extends BuildRule> rules, BuildRuleDurationHistory history) {
+    this.history = history;
+    this.defaultDuration = Suppliers.memoize(() -> computeDefaultDuration(rules, history));
+    this.ranks = Suppliers.memoize(() -> computeRanks(rules));
+  }
+
+  @Override
+  public long getPriority(BuildRule rule) {
+    Long rank = ranks.get().get(rule);
+    // Rules created after the action graph was constructed have no known dependents.
+    return rank != null ? rank : estimateDuration(rule);
+  }
+
+  private long estimateDuration(BuildRule rule) {
+    return history.getDurationMillis(rule.getFullyQualifiedName()).orElseGet(defaultDuration);
+  }
+
+  private static long computeDefaultDuration(
+      Iterable<? extends BuildRule> rules, BuildRuleDurationHistory history) {
+    long total = 0;
+    long count = 0;
+    for (BuildRule rule : rules) {
+      Long duration = history.getDurations().get(rule.getFullyQualifiedName());
+      if (duration != null) {
+        total += duration;
+        count++;
+      }
+    }
+    return count == 0 ? 1 : Math.max(1, total / count);
+  }
+
+  /** Visits every rule after all the rules depending on it, so their ranks are final. */
+  private ImmutableMap<BuildRule, Long> computeRanks(Iterable<? extends BuildRule> rules) {
+    long start = System.currentTimeMillis();
+    Map<BuildRule, Integer> pendingDependents = new HashMap<>();
+    for (BuildRule rule : rules) {
+      pendingDependents.putIfAbsent(rule, 0);
+      for (BuildRule dep : rule.getBuildDeps()) {
+        pendingDependents.merge(dep, 1, Integer::sum);
+      }
+    }
+
+    Deque<BuildRule> ready = new ArrayDeque<>();
+    pendingDependents.forEach(
+        (rule, count) -> {
+          if (count == 0) {
+            ready.add(rule);
+          }
+        });
+
+    Map<BuildRule, Long> longestDependentChain = new HashMap<>();
+    ImmutableMap.Builder<BuildRule, Long> ranks =
+        ImmutableMap.builderWithExpectedSize(pendingDependents.size());
+    while (!ready.isEmpty()) {
+      BuildRule rule = ready.poll();
+      long rank = estimateDuration(rule) + longestDependentChain.getOrDefault(rule, 0L);
+      ranks.put(rule, rank);
+      for (BuildRule dep : rule.getBuildDeps()) {
+        longestDependentChain.merge(dep, rank, Math::max);
+        if (pendingDependents.merge(dep, -1, Integer::sum) == 0) {
+          ready.add(dep);
+        }
+      }
+    }
+
+    ImmutableMap<BuildRule, Long> result = ranks.build();
+    LOG.debug(
+        "Computed critical path ranks of %d rules in %d ms",
+        result.size(), System.currentTimeMillis() - start);
+    return result;
+  }
+}
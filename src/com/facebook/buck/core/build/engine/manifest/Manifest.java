@@ -45,6 +45,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 
 public class Manifest {
 
@@ -62,6 +63,8 @@ public class Manifest {
 
   @VisibleForTesting final List<Pair<RuleKey, int[]>> entries;
 
+  @Nullable private LookupIndex lookupIndex;
+
   /** Create an empty manifest. */
   public Manifest(RuleKey key) {
     this.key = key;
@@ -167,60 +170,174 @@ public class Manifest {
     }
   }
 
-  private boolean hashesMatch(
-      FileHashCache fileHashCache,
-      SourcePathResolver resolver,
-      ImmutableListMultimap<String, SourcePath> universe,
-      int[] hashIndices)
+  /**
+   * @return the {@link RuleKey} of the entry that matches the on disk hashes provided by {@code
+   *     fileHashCache}.
+   */
+  public Optional<RuleKey> lookup(
+      FileHashCache fileHashCache, SourcePathResolver resolver, ImmutableSet<SourcePath> universe)
       throws IOException {
-    for (int hashIndex : hashIndices) {
-      Pair<Integer, HashCode> hashEntry = hashes.get(hashIndex);
-      String input = inputs.get(hashEntry.getFirst());
+    // Create a multimap from paths we care about to SourcePaths that maps to them.
+    ImmutableListMultimap<String, SourcePath> mappedUniverse =
+        index(universe, sourcePathToManifestHeaderFunction(resolver), inputIndices::containsKey);
+
+    // Find the first matching entry, only considering the entries that agree with the on disk
+    // state of the lookup index's pivot input.
+    HashMatcher matcher = new HashMatcher(fileHashCache, resolver, mappedUniverse);
+    for (int entryIndex : getLookupIndex().getCandidates(matcher)) {
+      Pair<RuleKey, int[]> entry = entries.get(entryIndex);
+      if (matcher.matchesAll(entry.getSecond())) {
+        return Optional.of(entry.getFirst());
+      }
+    }
+    return Optional.empty();
+  }
+
+  private LookupIndex getLookupIndex() {
+    // Entries are only ever appended, so the index is stale iff it has seen fewer of them.
+    if (lookupIndex == null || lookupIndex.numberOfEntries != entries.size()) {
+      lookupIndex = new LookupIndex();
+    }
+    return lookupIndex;
+  }
+
+  /**
+   * Hashes each input at most once per lookup, and remembers which of the manifest's hashes match
+   * the on disk state, so that entries sharing headers don't re-hash them.
+   */
+  private class HashMatcher {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCH = 1;
+    private static final byte MISMATCH = 2;
+
+    private final FileHashCache fileHashCache;
+    private final SourcePathResolver resolver;
+    private final ImmutableListMultimap<String, SourcePath> universe;
+    private final byte[] hashStates = new byte[hashes.size()];
+    private final Map<Integer, Optional<HashCode>> onDiskHashes = new HashMap<>();
+
+    private HashMatcher(
+        FileHashCache fileHashCache,
+        SourcePathResolver resolver,
+        ImmutableListMultimap<String, SourcePath> universe) {
+      this.fileHashCache = fileHashCache;
+      this.resolver = resolver;
+      this.universe = universe;
+    }
+
+    /** @return the hash of the input as found on disk, or empty if it's missing. */
+    private Optional<HashCode> getOnDiskHash(int inputIndex) throws IOException {
+      Optional<HashCode> onDiskHash = onDiskHashes.get(inputIndex);
+      if (onDiskHash == null) {
+        onDiskHash = computeOnDiskHash(inputs.get(inputIndex));
+        onDiskHashes.put(inputIndex, onDiskHash);
+      }
+      return onDiskHash;
+    }
+
+    private Optional<HashCode> computeOnDiskHash(String input) throws IOException {
       ImmutableList<SourcePath> candidates = universe.get(input);
       if (candidates.isEmpty()) {
-        return false;
+        return Optional.empty();
       }
-      HashCode onDiskHeaderHash;
       try {
-        onDiskHeaderHash = hashSourcePathGroup(fileHashCache, resolver, candidates);
+        return Optional.of(hashSourcePathGroup(fileHashCache, resolver, candidates));
       } catch (NoSuchFileException e) {
-        return false;
+        return Optional.empty();
+      }
+    }
+
+    private boolean matches(int hashIndex) throws IOException {
+      byte state = hashStates[hashIndex];
+      if (state == UNKNOWN) {
+        Pair<Integer, HashCode> hashEntry = hashes.get(hashIndex);
+        Optional<HashCode> onDiskHash = getOnDiskHash(hashEntry.getFirst());
+        state =
+            onDiskHash.isPresent() && onDiskHash.get().equals(hashEntry.getSecond())
+                ? MATCH
+                : MISMATCH;
+        hashStates[hashIndex] = state;
       }
-      HashCode inputHash = hashEntry.getSecond();
-      if (!inputHash.equals(onDiskHeaderHash)) {
-        return false;
+      return state == MATCH;
+    }
+
+    private boolean matchesAll(int[] hashIndices) throws IOException {
+      for (int hashIndex : hashIndices) {
+        if (!matches(hashIndex)) {
+          return false;
+        }
       }
+      return true;
     }
-    return true;
   }
 
   /**
-   * @return the {@link RuleKey} of the entry that matches the on disk hashes provided by {@code
-   *     fileHashCache}.
+   * A one level decision tree over the manifest entries, keyed on the input recorded with the most
+   * distinct hashes. A lookup hashes that input once and then only has to check the entries
+   * recorded with a matching hash (plus the ones that don't reference it at all), rather than every
+   * entry. Inputs which most entries share, such as common headers, usually have the same hash in
+   * all of them, so keying on them would not rule out any entry.
    */
-  public Optional<RuleKey> lookup(
-      FileHashCache fileHashCache, SourcePathResolver resolver, ImmutableSet<SourcePath> universe)
-      throws IOException {
-    // Create a set of all paths we care about.
-    ImmutableSet.Builder<String> interestingPathsBuilder = new ImmutableSet.Builder<>();
-    for (Pair<?, int[]> entry : entries) {
-      for (int hashIndex : entry.getSecond()) {
-        interestingPathsBuilder.add(inputs.get(hashes.get(hashIndex).getFirst()));
+  private class LookupIndex {
+
+    private final int numberOfEntries = entries.size();
+    private final Map<Integer, List<Integer>> entriesByPivotHash = new HashMap<>();
+    private final List<Integer> entriesWithoutPivot = new ArrayList<>();
+
+    private LookupIndex() {
+      int[] references = new int[inputs.size()];
+      int[] distinctHashes = new int[inputs.size()];
+      boolean[] referencedHashes = new boolean[hashes.size()];
+      for (Pair<RuleKey, int[]> entry : entries) {
+        for (int hashIndex : entry.getSecond()) {
+          int inputIndex = hashes.get(hashIndex).getFirst();
+          references[inputIndex]++;
+          if (!referencedHashes[hashIndex]) {
+            referencedHashes[hashIndex] = true;
+            distinctHashes[inputIndex]++;
+          }
+        }
+      }
+      // Split the entries into as many buckets as possible, and of those inputs, prefer the one
+      // which leaves the fewest entries outside of the buckets.
+      int pivotInput = -1;
+      for (int inputIndex = 0; inputIndex < references.length; inputIndex++) {
+        if (pivotInput == -1
+            || distinctHashes[inputIndex] > distinctHashes[pivotInput]
+            || (distinctHashes[inputIndex] == distinctHashes[pivotInput]
+                && references[inputIndex] > references[pivotInput])) {
+          pivotInput = inputIndex;
+        }
       }
-    }
-    ImmutableSet<String> interestingPaths = interestingPathsBuilder.build();
 
-    // Create a multimap from paths we care about to SourcePaths that maps to them.
-    ImmutableListMultimap<String, SourcePath> mappedUniverse =
-        index(universe, sourcePathToManifestHeaderFunction(resolver), interestingPaths::contains);
+      for (int entryIndex = 0; entryIndex < numberOfEntries; entryIndex++) {
+        Integer pivotHash = null;
+        for (int hashIndex : entries.get(entryIndex).getSecond()) {
+          if (hashes.get(hashIndex).getFirst() == pivotInput) {
+            pivotHash = hashIndex;
+            break;
+          }
+        }
+        if (pivotHash == null) {
+          entriesWithoutPivot.add(entryIndex);
+        } else {
+          entriesByPivotHash.computeIfAbsent(pivotHash, k -> new ArrayList<>()).add(entryIndex);
+        }
+      }
+    }
 
-    // Find a matching entry.
-    for (Pair<RuleKey, int[]> entry : entries) {
-      if (hashesMatch(fileHashCache, resolver, mappedUniverse, entry.getSecond())) {
-        return Optional.of(entry.getFirst());
+    /** @return the indices of the entries which may match, in manifest order. */
+    private int[] getCandidates(HashMatcher matcher) throws IOException {
+      List<Integer> candidates = new ArrayList<>(entriesWithoutPivot);
+      for (Map.Entry<Integer, List<Integer>> pivotHash : entriesByPivotHash.entrySet()) {
+        if (matcher.matches(pivotHash.getKey())) {
+          candidates.addAll(pivotHash.getValue());
+        }
       }
+      // Preserve the first-match semantics of a linear scan.
+      return candidates.stream().mapToInt(Integer::intValue).sorted().toArray();
     }
-    return Optional.empty();
   }
 
   private static Function<SourcePath, String> sourcePathToManifestHeaderFunction(
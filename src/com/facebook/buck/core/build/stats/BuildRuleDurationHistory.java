@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.stats;
+
+import com.facebook.buck.core.build.engine.type.BuildSchedulingStrategy;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.ToDoubleFunction;
+import javax.annotation.Nullable;
+
+/**
+ * Build rule durations and build wall times recorded by previous builds, which the build engine
+ * uses to estimate the critical path of the next build.
+ *
+ * <p>Instances are immutable, {@link #withBuild} returns a new history.
+ */
+public class BuildRuleDurationHistory {
+
+  private static final Logger LOG = Logger.get(BuildRuleDurationHistory.class);
+
+  /** Name of the history file in the log directory. */
+  public static final String FILE_NAME = "build-rule-durations.json";
+
+  /** Number of rule durations kept, rules that were built the longest time ago are dropped. */
+  static final int MAX_RULES = 200_000;
+
+  /** Number of builds kept for comparing scheduling strategies. */
+  static final int MAX_BUILDS = 50;
+
+  private static final BuildRuleDurationHistory EMPTY =
+      new BuildRuleDurationHistory(ImmutableMap.of(), ImmutableList.of());
+
+  private final ImmutableMap<String, Long> durations;
+  private final ImmutableList<BuildRecord> builds;
+
+  @JsonCreator
+  BuildRuleDurationHistory(
+      @JsonProperty("durations") @Nullable Map<String, Long> durations,
+      @JsonProperty("builds") @Nullable List<BuildRecord> builds) {
+    this.durations = durations == null ? ImmutableMap.of() : ImmutableMap.copyOf(durations);
+    this.builds = builds == null ? ImmutableList.of() : ImmutableList.copyOf(builds);
+  }
+
+  public static BuildRuleDurationHistory empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Reads the history saved at {@code path}. The history only guides scheduling, so a missing or
+   * unreadable file results in an empty history rather than an error.
+   */
+  public static BuildRuleDurationHistory load(Path path) {
+    try {
+      return ObjectMappers.readValue(path, BuildRuleDurationHistory.class);
+    } catch (NoSuchFileException e) {
+      return EMPTY;
+    } catch (IOException e) {
+      LOG.warn(e, "Ignoring unreadable build rule duration history %s", path);
+      return EMPTY;
+    }
+  }
+
+  /** Writes the history to {@code path}, replacing the previous file atomically. */
+  public void save(Path path) throws IOException {
+    Files.createDirectories(path.getParent());
+    Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        ObjectMappers.WRITER.writeValue(out, this);
+      }
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /** @return the wall time in milliseconds the rule is expected to take, if it was built before. */
+  public Optional<Long> getDurationMillis(String ruleName) {
+    return Optional.ofNullable(durations.get(ruleName));
+  }
+
+  @JsonProperty("durations")
+  public ImmutableMap<String, Long> getDurations() {
+    return durations;
+  }
+
+  /** @return the most recent builds, oldest first. */
+  @JsonProperty("builds")
+  public ImmutableList<BuildRecord> getBuilds() {
+    return builds;
+  }
+
+  /**
+   * @return a history that also includes the rule durations and the record of a new build. The
+   *     estimate of a rule is the average of its new duration and its previous estimate, which
+   *     follows changes of the rule quickly while smoothing out noise from a single slow build.
+   */
+  public BuildRuleDurationHistory withBuild(
+      Map<String, Long> ruleDurations, Optional<BuildRecord> build) {
+    Map<String, Long> newDurations = new LinkedHashMap<>();
+    for (Map.Entry<String, Long> entry : ruleDurations.entrySet()) {
+      Long previous = durations.get(entry.getKey());
+      newDurations.put(
+          entry.getKey(),
+          previous == null ? entry.getValue() : (previous + entry.getValue() + 1) / 2);
+    }
+    // Rules built by this build come first, so they survive the cap.
+    for (Map.Entry<String, Long> entry : durations.entrySet()) {
+      if (newDurations.size() >= MAX_RULES) {
+        break;
+      }
+      newDurations.putIfAbsent(entry.getKey(), entry.getValue());
+    }
+
+    ImmutableList<BuildRecord> newBuilds = builds;
+    if (build.isPresent()) {
+      newBuilds =
+          ImmutableList.<BuildRecord>builder()
+              .addAll(builds.subList(Math.max(0, builds.size() - MAX_BUILDS + 1), builds.size()))
+              .add(build.get())
+              .build();
+    }
+    return new BuildRuleDurationHistory(newDurations, newBuilds);
+  }
+
+  /** @return the mean wall time of the recorded builds that used {@code strategy}. */
+  public OptionalDouble getMeanWallMillis(BuildSchedulingStrategy strategy) {
+    return mean(strategy, BuildRecord::getWallMillis);
+  }
+
+  /**
+   * @return the mean ratio of wall time to critical path length of the recorded builds that used
+   *     {@code strategy}. The closer it is to 1, the less the build was held up by rules off the
+   *     critical path, which unlike the wall time is comparable across builds of different targets.
+   */
+  public OptionalDouble getMeanWallToCriticalPathRatio(BuildSchedulingStrategy strategy) {
+    return mean(
+        strategy,
+        build ->
+            build.getCriticalPathMillis() > 0
+                ? (double) build.getWallMillis() / build.getCriticalPathMillis()
+                : Double.NaN);
+  }
+
+  private OptionalDouble mean(
+      BuildSchedulingStrategy strategy, ToDoubleFunction<BuildRecord> value) {
+    return builds
+        .stream()
+        .filter(build -> build.getStrategy() == strategy)
+        .mapToDouble(value)
+        .filter(v -> !Double.isNaN(v))
+        .average();
+  }
+
+  /** Wall time and critical path length of a single build. */
+  public static class BuildRecord {
+    private final BuildSchedulingStrategy strategy;
+    private final long wallMillis;
+    private final long criticalPathMillis;
+
+    @JsonCreator
+    public BuildRecord(
+        @JsonProperty("strategy") BuildSchedulingStrategy strategy,
+        @JsonProperty("wallMillis") long wallMillis,
+        @JsonProperty("criticalPathMillis") long criticalPathMillis) {
+      this.strategy = strategy;
+      this.wallMillis = wallMillis;
+      this.criticalPathMillis = criticalPathMillis;
+    }
+
+    @JsonProperty("strategy")
+    public BuildSchedulingStrategy getStrategy() {
+      return strategy;
+    }
+
+    @JsonProperty("wallMillis")
+    public long getWallMillis() {
+      return wallMillis;
+    }
+
+    @JsonProperty("criticalPathMillis")
+    public long getCriticalPathMillis() {
+      return criticalPathMillis;
+    }
+  }
+}
@@ -523,6 +523,19 @@ public class BuckConfig {
     return getInteger("cache", "max_action_graph_cache_entries").orElse(1);
   }
 
+  /**
+   * @return the maximum total number of build rules in the cached action graphs, which takes
+   *     precedence over {@link #getMaxActionGraphCacheEntries()} when set.
+   */
+  public Optional<Long> getMaxActionGraphCacheRules() {
+    return getLong("cache", "max_action_graph_cache_rules");
+  }
+
+  /** @return the maximum number of versioned target graphs kept by the Buck daemon. */
+  public int getMaxVersionedTargetGraphCacheEntries() {
+    return getInteger("cache", "max_versioned_target_graph_cache_entries").orElse(1);
+  }
+
   public Optional<String> getRepository() {
     return config.get("cache", "repository");
   }
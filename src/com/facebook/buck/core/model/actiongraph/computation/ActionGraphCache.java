@@ -18,19 +18,51 @@ package com.facebook.buck.core.model.actiongraph.computation;
 import com.facebook.buck.core.model.actiongraph.ActionGraphAndBuilder;
 import com.facebook.buck.core.model.targetgraph.TargetGraph;
 import com.facebook.buck.core.rules.ActionGraphBuilder;
+import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.util.MoreCaches;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Optional;
 import javax.annotation.Nullable;
 
-/** Contains cached action graphs. */
+/**
+ * Contains cached action graphs.
+ *
+ * <p>Graphs are looked up by their target graph, whose hash code combines the precomputed hash
+ * codes of its nodes and is computed once per graph. Nodes that did not change between parses are
+ * the same instances, so comparing a target graph to a cached one mostly compares references.
+ *
+ * <p>The cache is either bounded by a number of graphs, or by the total number of build rules in
+ * the cached graphs, which approximates the memory they use and lets several small graphs, e.g.
+ * for alternating builds of different targets, stay cached where a single large one would not fit.
+ */
 public class ActionGraphCache {
 
   private final Cache<TargetGraph, ActionGraphAndBuilder> previousActionGraphs;
   private final IncrementalActionGraphGenerator incrementalActionGraphGenerator;
 
   public ActionGraphCache(int maxEntries) {
-    previousActionGraphs = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+    this(maxEntries, Optional.empty());
+  }
+
+  /**
+   * @param maxEntries the maximum number of cached graphs, unless {@code maxRules} is present.
+   * @param maxRules the maximum total number of build rules in the cached graphs.
+   */
+  public ActionGraphCache(int maxEntries, Optional<Long> maxRules) {
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().recordStats();
+    if (maxRules.isPresent()) {
+      previousActionGraphs =
+          MoreCaches.<TargetGraph, ActionGraphAndBuilder>boundByTotalWeight(
+                  cacheBuilder,
+                  maxRules.get(),
+                  (targetGraph, actionGraph) -> actionGraph.getActionGraph().getSize())
+              .build();
+    } else {
+      previousActionGraphs = cacheBuilder.maximumSize(maxEntries).build();
+    }
     incrementalActionGraphGenerator = new IncrementalActionGraphGenerator();
   }
 
@@ -55,6 +87,21 @@ public class ActionGraphCache {
     previousActionGraphs.put(targetGraph, actionGraphAndBuilder);
   }
 
+  /** @return an event with the statistics of this cache since it was created. */
+  public ActionGraphEvent.Cache.Stats getStatsEvent() {
+    CacheStats stats = previousActionGraphs.stats();
+    long ruleCount = 0;
+    for (ActionGraphAndBuilder actionGraph : previousActionGraphs.asMap().values()) {
+      ruleCount += actionGraph.getActionGraph().getSize();
+    }
+    return ActionGraphEvent.Cache.stats(
+        stats.hitCount(),
+        stats.missCount(),
+        stats.evictionCount(),
+        previousActionGraphs.size(),
+        ruleCount);
+  }
+
   public void populateActionGraphBuilderWithCachedRules(
       BuckEventBus eventBus, TargetGraph targetGraph, ActionGraphBuilder graphBuilder) {
     incrementalActionGraphGenerator.populateActionGraphBuilderWithCachedRules(
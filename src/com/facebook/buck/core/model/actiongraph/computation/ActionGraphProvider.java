@@ -162,6 +162,7 @@ public class ActionGraphProvider {
           actionGraphCache.put(targetGraph, out);
         }
       }
+      eventBus.post(actionGraphCache.getStatsEvent());
       finished =
           ActionGraphEvent.finished(started, out.getActionGraph().getSize(), out.getActionGraph());
       return out;
@@ -36,6 +36,10 @@ import java.util.Optional;
 import java.util.Set;
 import org.immutables.value.Value;
 
+/**
+ * A {@link BuildTarget} which is interned in the {@link BuildTargetTable}, so that equal targets,
+ * however they were created, are the same instance as long as their build file does not change.
+ */
 @JsonAutoDetect(
     fieldVisibility = JsonAutoDetect.Visibility.NONE,
     getterVisibility = JsonAutoDetect.Visibility.NONE,
@@ -44,6 +48,14 @@ import org.immutables.value.Value;
 @Value.Immutable(prehash = true, builder = false)
 abstract class AbstractImmutableBuildTarget extends AbstractBuildTarget {
 
+  /** Whether this is the instance of its value in the {@link BuildTargetTable}. */
+  @SuppressWarnings("immutables")
+  volatile boolean canonical;
+
+  /** Id of this target in the {@link BuildTargetTable}, if it was ever added to it. */
+  @SuppressWarnings("immutables")
+  int tableId = -1;
+
   @Override
   public abstract UnflavoredBuildTarget getUnflavoredBuildTarget();
 
@@ -52,10 +64,28 @@ abstract class AbstractImmutableBuildTarget extends AbstractBuildTarget {
   public abstract ImmutableSortedSet<Flavor> getFlavors();
 
   @Value.Check
-  protected void check() {
+  protected AbstractImmutableBuildTarget intern() {
     Preconditions.checkArgument(
         getFlavors().comparator() == Ordering.natural(),
         "Flavors must be ordered using natural ordering.");
+    return BuildTargetTable.getInstance().intern(this);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (!(other instanceof AbstractImmutableBuildTarget)) {
+      return false;
+    }
+    AbstractImmutableBuildTarget that = (AbstractImmutableBuildTarget) other;
+    if (this == that) {
+      return true;
+    }
+    if (BuildTargetTable.areDistinct(this, that)) {
+      return false;
+    }
+    return hashCode() == that.hashCode()
+        && getUnflavoredBuildTarget().equals(that.getUnflavoredBuildTarget())
+        && getFlavors().equals(that.getFlavors());
   }
 
   @JsonProperty("cell")
@@ -21,31 +21,33 @@ import com.facebook.buck.core.model.UnflavoredBuildTarget;
 import com.facebook.buck.core.util.immutables.BuckStyleImmutable;
 import com.facebook.buck.util.string.MoreStrings;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Interner;
-import com.google.common.collect.Interners;
 import com.google.common.primitives.Booleans;
 import java.nio.file.Path;
 import java.util.Optional;
 import org.immutables.value.Value;
 
+/**
+ * An {@link UnflavoredBuildTarget} which computes its hash code once, and which is interned in the
+ * {@link BuildTargetTable}, so that equal targets are the same instance as long as their build file
+ * does not change.
+ */
 @BuckStyleImmutable
-@Value.Immutable(copy = false)
+@Value.Immutable(copy = false, prehash = true)
 abstract class AbstractImmutableUnflavoredBuildTarget extends AbstractUnflavoredBuildTarget {
 
-  /** Interner for instances of UnflavoredBuildTarget. */
-  private static final Interner<ImmutableUnflavoredBuildTarget> interner =
-      Interners.newWeakInterner();
+  /** Whether this is the instance of its value in the {@link BuildTargetTable}. */
+  @SuppressWarnings("immutables")
+  volatile boolean canonical;
 
-  /** Builder for UnflavoredBuildTargets which routes values through BuildTargetInterner. */
-  public static class Builder extends ImmutableUnflavoredBuildTarget.Builder {
-    @Override
-    public ImmutableUnflavoredBuildTarget build() {
-      return interner.intern(super.build());
-    }
-  }
+  /** Id of this target in the {@link BuildTargetTable}, if it was ever added to it. */
+  @SuppressWarnings("immutables")
+  int tableId = -1;
+
+  /** Builder for UnflavoredBuildTargets, which returns interned instances. */
+  public static class Builder extends ImmutableUnflavoredBuildTarget.Builder {}
 
   @Value.Check
-  protected void check() {
+  protected AbstractImmutableUnflavoredBuildTarget intern() {
     Preconditions.checkArgument(
         getBaseName().startsWith(BUILD_TARGET_PREFIX),
         "baseName must start with %s but was %s",
@@ -60,6 +62,27 @@ abstract class AbstractImmutableUnflavoredBuildTarget extends AbstractUnflavored
         !getShortName().contains("#"),
         "Build target name cannot contain '#' but was: %s.",
         getShortName());
+
+    return BuildTargetTable.getInstance().intern(this);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (!(other instanceof AbstractImmutableUnflavoredBuildTarget)) {
+      return false;
+    }
+    AbstractImmutableUnflavoredBuildTarget that = (AbstractImmutableUnflavoredBuildTarget) other;
+    if (this == that) {
+      return true;
+    }
+    if (BuildTargetTable.areDistinct(this, that)) {
+      return false;
+    }
+    return hashCode() == that.hashCode()
+        && getCellPath().equals(that.getCellPath())
+        && getCell().equals(that.getCell())
+        && getBaseName().equals(that.getBaseName())
+        && getShortName().equals(that.getShortName());
   }
 
   @Override
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.model.impl;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.google.common.collect.ImmutableSortedSet;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Canonical instances of the build targets in use by the daemon, so that equal targets, however
+ * they were created, are the same instance.
+ *
+ * <p>Every {@link ImmutableUnflavoredBuildTarget} and {@link ImmutableBuildTarget} is looked up
+ * here when it is created, and the canonical instance is returned instead. A canonical target gets
+ * an integer id, unique for the lifetime of the process, and its cell path, cell name, base name,
+ * short name and flavor set are taken from pools shared by all targets, so that e.g. the targets of
+ * a package share one base name.
+ *
+ * <p>The table holds its targets strongly, until the daemon's parser state prunes the targets of a
+ * build file that changed, or clears the table when its caches are dropped. Pruned targets may
+ * still be in use, e.g. by target graphs of previous commands, and a later target equal to them
+ * becomes a new canonical instance. Targets therefore compare by reference only while both are
+ * canonical, see {@link #areDistinct}, and compare by value otherwise.
+ */
+@ThreadSafe
+public class BuildTargetTable {
+
+  private static final BuildTargetTable INSTANCE = new BuildTargetTable();
+
+  private final AtomicInteger nextId = new AtomicInteger();
+
+  private final ConcurrentMap<Path, Path> cellPaths = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String> names = new ConcurrentHashMap<>();
+  private final ConcurrentMap<ImmutableSortedSet<Flavor>, ImmutableSortedSet<Flavor>> flavorSets =
+      new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<AbstractImmutableUnflavoredBuildTarget, Entry> entries =
+      new ConcurrentHashMap<>();
+
+  /** An unflavored target together with its flavored targets. */
+  private static class Entry {
+    private final AbstractImmutableUnflavoredBuildTarget target;
+
+    @GuardedBy("this")
+    private final Map<ImmutableSortedSet<Flavor>, AbstractImmutableBuildTarget> flavoredTargets =
+        new HashMap<>();
+
+    @GuardedBy("this")
+    private boolean pruned;
+
+    private Entry(AbstractImmutableUnflavoredBuildTarget target) {
+      this.target = target;
+    }
+  }
+
+  private BuildTargetTable() {}
+
+  /** @return the table of the daemon, which all build targets are created through. */
+  public static BuildTargetTable getInstance() {
+    return INSTANCE;
+  }
+
+  AbstractImmutableUnflavoredBuildTarget intern(AbstractImmutableUnflavoredBuildTarget target) {
+    Entry entry = entries.get(target);
+    if (entry != null) {
+      return entry.target;
+    }
+
+    Path cellPath = pool(cellPaths, target.getCellPath());
+    Optional<String> cell = target.getCell().map(name -> pool(names, name));
+    String baseName = pool(names, target.getBaseName());
+    String shortName = pool(names, target.getShortName());
+    if (cellPath != target.getCellPath()
+        || cell.orElse(null) != target.getCell().orElse(null)
+        || baseName != target.getBaseName()
+        || shortName != target.getShortName()) {
+      // The copy is interned in turn.
+      return (AbstractImmutableUnflavoredBuildTarget)
+          ImmutableUnflavoredBuildTarget.of(cellPath, cell, baseName, shortName);
+    }
+
+    target.tableId = nextId.getAndIncrement();
+    entry = new Entry(target);
+    Entry existing = entries.putIfAbsent(target, entry);
+    if (existing != null) {
+      return existing.target;
+    }
+    synchronized (entry) {
+      // Only now that it is in the table, or it would compare unequal to itself there.
+      target.canonical = !entry.pruned;
+    }
+    return target;
+  }
+
+  AbstractImmutableBuildTarget intern(AbstractImmutableBuildTarget target) {
+    UnflavoredBuildTarget unflavoredTarget = target.getUnflavoredBuildTarget();
+    AbstractImmutableUnflavoredBuildTarget canonicalUnflavoredTarget =
+        intern((AbstractImmutableUnflavoredBuildTarget) unflavoredTarget);
+    ImmutableSortedSet<Flavor> flavors = pool(flavorSets, target.getFlavors());
+    if (canonicalUnflavoredTarget != unflavoredTarget || flavors != target.getFlavors()) {
+      // The copy is interned in turn.
+      return ImmutableBuildTarget.of(canonicalUnflavoredTarget, flavors);
+    }
+
+    Entry entry = entries.get(canonicalUnflavoredTarget);
+    if (entry == null || entry.target != canonicalUnflavoredTarget) {
+      // The unflavored target was pruned in the meantime, so this one is compared by value.
+      return target;
+    }
+    synchronized (entry) {
+      if (entry.pruned) {
+        return target;
+      }
+      AbstractImmutableBuildTarget existing = entry.flavoredTargets.get(flavors);
+      if (existing != null) {
+        return existing;
+      }
+      target.tableId = nextId.getAndIncrement();
+      entry.flavoredTargets.put(flavors, target);
+      target.canonical = true;
+      return target;
+    }
+  }
+
+  /**
+   * @return the id of {@code target} in the table, or -1 if it is not in the table, e.g. because
+   *     its build file changed since it was created.
+   */
+  public int getId(BuildTarget target) {
+    AbstractImmutableBuildTarget immutableTarget = (AbstractImmutableBuildTarget) target;
+    return immutableTarget.canonical ? immutableTarget.tableId : -1;
+  }
+
+  /** @return the id of {@code target} in the table, or -1 if it is not in the table. */
+  public int getId(UnflavoredBuildTarget target) {
+    AbstractImmutableUnflavoredBuildTarget immutableTarget =
+        (AbstractImmutableUnflavoredBuildTarget) target;
+    return immutableTarget.canonical ? immutableTarget.tableId : -1;
+  }
+
+  /** Removes the given targets, in all their flavors, from the table. */
+  public void prune(Set<UnflavoredBuildTarget> targets) {
+    for (UnflavoredBuildTarget target : targets) {
+      Entry entry = entries.get(target);
+      if (entry != null) {
+        prune(entry);
+      }
+    }
+  }
+
+  /** Removes all targets from the table, and empties the pools. */
+  public void clear() {
+    // Entries added meanwhile are kept, as they may already be canonical.
+    for (Entry entry : entries.values()) {
+      prune(entry);
+    }
+    cellPaths.clear();
+    names.clear();
+    flavorSets.clear();
+  }
+
+  private void prune(Entry entry) {
+    synchronized (entry) {
+      // Before removing the entry, so that a canonical target is the only one of its value.
+      entry.pruned = true;
+      entry.target.canonical = false;
+      for (AbstractImmutableBuildTarget flavoredTarget : entry.flavoredTargets.values()) {
+        flavoredTarget.canonical = false;
+      }
+    }
+    entries.remove(entry.target, entry);
+  }
+
+  /**
+   * @return whether two targets are known to be different, because both are canonical. Otherwise,
+   *     they have to be compared by value.
+   */
+  static boolean areDistinct(
+      AbstractImmutableUnflavoredBuildTarget first, AbstractImmutableUnflavoredBuildTarget second) {
+    // If the second one became canonical after the first one was pruned, reading the first one
+    // again tells so.
+    return first != second && first.canonical && second.canonical && first.canonical;
+  }
+
+  static boolean areDistinct(
+      AbstractImmutableBuildTarget first, AbstractImmutableBuildTarget second) {
+    return first != second && first.canonical && second.canonical && first.canonical;
+  }
+
+  private static <T> T pool(ConcurrentMap<T, T> pool, T value) {
+    T pooled = pool.putIfAbsent(value, value);
+    return pooled == null ? value : pooled;
+  }
+}
@@ -98,6 +98,9 @@ public class TargetGraph extends DirectedAcyclicGraph<TargetNode<?>> {
 
   @Override
   public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
     if (!(obj instanceof TargetGraph)) {
       return false;
     }
@@ -29,6 +29,7 @@ import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -59,33 +60,45 @@ public class ParallelRuleKeyCalculator<T> {
   }
 
   /**
+   * Safe to call concurrently without locking: the first caller to register a future for a target
+   * computes it, every other caller gets the registered future back.
+   *
    * @return a {@link ListenableFuture} wrapping the result of calculating the {@link RuleKey} of
    *     the given {@link BuildRule}.
    */
-  public synchronized ListenableFuture<T> calculate(BuckEventBus buckEventBus, BuildRule rule) {
-    ListenableFuture<T> fromOurCache = ruleKeys.get(rule.getBuildTarget());
+  public ListenableFuture<T> calculate(BuckEventBus buckEventBus, BuildRule rule) {
+    BuildTarget target = rule.getBuildTarget();
+    ListenableFuture<T> fromOurCache = ruleKeys.get(target);
     if (fromOurCache != null) {
       return fromOurCache;
     }
 
     T fromInternalCache = ruleKeyFactory.getFromCache(rule);
     if (fromInternalCache != null) {
-      ListenableFuture<T> future = Futures.immediateFuture(fromInternalCache);
-      // Record the rule key future.
-      ruleKeys.put(rule.getBuildTarget(), future);
       // Because a rule key will be invalidated from the internal cache any time one of its
       // dependents is invalidated, we know that all of our transitive deps are also in cache.
-      return future;
+      ListenableFuture<T> future = Futures.immediateFuture(fromInternalCache);
+      ListenableFuture<T> existing = ruleKeys.putIfAbsent(target, future);
+      return existing == null ? future : existing;
+    }
+
+    // Claim the target before doing any work, so that concurrent callers racing on the same rule
+    // share a single calculation instead of each scheduling their own.
+    SettableFuture<T> result = SettableFuture.create();
+    ListenableFuture<T> existing = ruleKeys.putIfAbsent(target, result);
+    if (existing != null) {
+      return existing;
     }
 
     // Grab all the dependency rule key futures.  Since our rule key calculation depends on this
-    // one, we need to wait for them to complete.
+    // one, we need to wait for them to complete.  Walking the deps happens on the executor, so
+    // wide graphs are explored by all of its threads rather than by the caller alone.
     ListenableFuture<List<T>> depKeys =
         Futures.transformAsync(
             Futures.immediateFuture(ruleDepsCache.get(rule)),
             (@Nonnull SortedSet<BuildRule> deps) -> {
               List<ListenableFuture<T>> depKeys1 =
-                  new ArrayList<>(SortedSets.sizeEstimate(rule.getBuildDeps()));
+                  new ArrayList<>(SortedSets.sizeEstimate(deps));
               for (BuildRule dep : deps) {
                 depKeys1.add(calculate(buckEventBus, dep));
               }
@@ -107,12 +120,11 @@ public class ParallelRuleKeyCalculator<T> {
             },
             service);
 
-    // Record the rule key future.
-    ruleKeys.put(rule.getBuildTarget(), calculated);
-    return calculated;
+    result.setFuture(calculated);
+    return result;
   }
 
-  public synchronized Set<BuildTarget> getAllKnownTargets() {
+  public Set<BuildTarget> getAllKnownTargets() {
     return ruleKeys.keySet();
   }
 
@@ -17,47 +17,140 @@
 package com.facebook.buck.core.util.graph;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ImmutableSetMultimap;
-import com.google.common.collect.Sets;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
 
+/**
+ * An immutable directed acyclic graph.
+ *
+ * <p>Nodes are numbered in the order of {@link #getNodes()} and edges are stored as arrays of node
+ * numbers, with the edges of each node in a contiguous range sorted by number, so an edge takes
+ * four bytes in each direction. Large target graphs have millions of edges, for which a multimap
+ * of node objects costs several times the memory.
+ */
 public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
 
-  private final ImmutableSet<T> nodes;
-  private final ImmutableSetMultimap<T, T> outgoingEdges;
-  private final ImmutableSetMultimap<T, T> incomingEdges;
+  /** Maps each node to its number. The key set iterates in number order. */
+  private final ImmutableMap<T, Integer> nodeIds;
+
+  private final Object[] nodesById;
+
+  /** The sinks of node {@code i} are {@code outgoingEdges[outgoingOffsets[i]...[i + 1])}. */
+  private final int[] outgoingOffsets;
+
+  private final int[] outgoingEdges;
+
+  /** The sources of node {@code i} are {@code incomingEdges[incomingOffsets[i]...[i + 1])}. */
+  private final int[] incomingOffsets;
+
+  private final int[] incomingEdges;
 
   public DirectedAcyclicGraph(MutableDirectedGraph<T> graph) {
     Preconditions.checkState(graph.isAcyclic(), "Graph must by acyclic");
-    this.nodes = graph.createImmutableCopyOfNodes();
-    this.outgoingEdges = graph.createImmutableCopyOfOutgoingEdges();
-    this.incomingEdges = graph.createImmutableCopyOfIncomingEdges();
+
+    Set<T> nodes = graph.getNodes();
+    ImmutableMap.Builder<T, Integer> nodeIds = ImmutableMap.builderWithExpectedSize(nodes.size());
+    int nodeCount = 0;
+    for (T node : nodes) {
+      nodeIds.put(node, nodeCount++);
+    }
+    this.nodeIds = nodeIds.build();
+    this.nodesById = this.nodeIds.keySet().toArray();
+    Preconditions.checkState(nodesById.length == nodeCount, "Graph was modified while copying.");
+
+    int edgeCount = 0;
+    for (Set<T> sinks : graph.getOutgoingEdges().values()) {
+      edgeCount += sinks.size();
+    }
+
+    // The outgoing edges are copied node by node, and the incoming edges are then bucketed by sink
+    // in the order of their sources, which leaves both directions sorted.
+    this.outgoingOffsets = new int[nodeCount + 1];
+    this.outgoingEdges = new int[edgeCount];
+    int[] incomingCounts = new int[nodeCount + 1];
+    int edge = 0;
+    for (int source = 0; source < nodeCount; source++) {
+      outgoingOffsets[source] = edge;
+      @SuppressWarnings("unchecked")
+      Set<T> sinks = graph.getOutgoingNodesFor((T) nodesById[source]);
+      for (T sink : sinks) {
+        int sinkId = getId(sink);
+        outgoingEdges[edge++] = sinkId;
+        incomingCounts[sinkId + 1]++;
+      }
+      Arrays.sort(outgoingEdges, outgoingOffsets[source], edge);
+    }
+    outgoingOffsets[nodeCount] = edge;
+    Preconditions.checkState(edge == edgeCount, "Graph was modified while copying.");
+
+    this.incomingOffsets = incomingCounts;
+    for (int i = 0; i < nodeCount; i++) {
+      incomingOffsets[i + 1] += incomingOffsets[i];
+    }
+    this.incomingEdges = new int[edgeCount];
+    int[] nextIncoming = Arrays.copyOf(incomingOffsets, nodeCount);
+    for (int source = 0; source < nodeCount; source++) {
+      for (int i = outgoingOffsets[source]; i < outgoingOffsets[source + 1]; i++) {
+        incomingEdges[nextIncoming[outgoingEdges[i]]++] = source;
+      }
+    }
+  }
+
+  private int getId(T node) {
+    Integer id = nodeIds.get(node);
+    Preconditions.checkState(id != null, "Edge refers to a node outside of the graph: %s", node);
+    return id;
   }
 
   @Override
-  public ImmutableSet<T> getOutgoingNodesFor(T source) {
-    return outgoingEdges.get(source);
+  public Set<T> getOutgoingNodesFor(T source) {
+    return getEdgesOf(source, outgoingOffsets, outgoingEdges);
   }
 
   @Override
-  public ImmutableSet<T> getIncomingNodesFor(T sink) {
-    return incomingEdges.get(sink);
+  public Set<T> getIncomingNodesFor(T sink) {
+    return getEdgesOf(sink, incomingOffsets, incomingEdges);
+  }
+
+  private Set<T> getEdgesOf(T node, int[] offsets, int[] edges) {
+    Integer id = nodeIds.get(node);
+    if (id == null || offsets[id] == offsets[id + 1]) {
+      return ImmutableSet.of();
+    }
+    return new NodeSet(edges, offsets[id], offsets[id + 1]);
   }
 
   @Override
   public ImmutableSet<T> getNodesWithNoOutgoingEdges() {
-    return ImmutableSet.copyOf(Sets.difference(nodes, outgoingEdges.keySet()));
+    return getNodesWithoutEdges(outgoingOffsets);
   }
 
   @Override
   public ImmutableSet<T> getNodesWithNoIncomingEdges() {
-    return ImmutableSet.copyOf(Sets.difference(nodes, incomingEdges.keySet()));
+    return getNodesWithoutEdges(incomingOffsets);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ImmutableSet<T> getNodesWithoutEdges(int[] offsets) {
+    ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+    for (int i = 0; i < nodesById.length; i++) {
+      if (offsets[i] == offsets[i + 1]) {
+        builder.add((T) nodesById[i]);
+      }
+    }
+    return builder.build();
   }
 
   @Override
   public ImmutableSet<T> getNodes() {
-    return nodes;
+    return nodeIds.keySet();
   }
 
   @Override
@@ -66,14 +159,74 @@ public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
       return false;
     }
 
-    DirectedAcyclicGraph<?> that = (DirectedAcyclicGraph<?>) other;
-    return Objects.equals(this.nodes, that.nodes)
-        && Objects.equals(this.outgoingEdges, that.outgoingEdges)
-        && Objects.equals(this.incomingEdges, that.incomingEdges);
+    @SuppressWarnings("unchecked")
+    DirectedAcyclicGraph<T> that = (DirectedAcyclicGraph<T>) other;
+    if (!Objects.equals(this.nodeIds.keySet(), that.nodeIds.keySet())
+        || this.outgoingEdges.length != that.outgoingEdges.length) {
+      return false;
+    }
+    for (T node : nodeIds.keySet()) {
+      if (!getOutgoingNodesFor(node).equals(that.getOutgoingNodesFor(node))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(nodes, outgoingEdges, incomingEdges);
+    int edgesHashCode = 0;
+    for (int source = 0; source < nodesById.length; source++) {
+      int sourceHashCode = nodesById[source].hashCode();
+      for (int i = outgoingOffsets[source]; i < outgoingOffsets[source + 1]; i++) {
+        edgesHashCode += sourceHashCode ^ nodesById[outgoingEdges[i]].hashCode();
+      }
+    }
+    return Objects.hash(nodeIds.keySet(), edgesHashCode);
+  }
+
+  /** The nodes at one end of the edges of a single node, backed by the edge arrays. */
+  private class NodeSet extends AbstractSet<T> {
+    private final int[] edges;
+    private final int start;
+    private final int end;
+
+    private NodeSet(int[] edges, int start, int end) {
+      this.edges = edges;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+      Integer id = o == null ? null : nodeIds.get(o);
+      return id != null && Arrays.binarySearch(edges, start, end, id) >= 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<T>() {
+        private int next = start;
+
+        @Override
+        public boolean hasNext() {
+          return next < end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+          if (next >= end) {
+            throw new NoSuchElementException();
+          }
+          return (T) nodesById[edges[next++]];
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
   }
 }
@@ -17,12 +17,8 @@
 package com.facebook.buck.core.util.graph;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Multimaps;
-import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import java.util.Collections;
 import java.util.Deque;
@@ -32,6 +28,8 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 /**
  * Represents a directed graph with unweighted edges. For a given source and sink node pair, there
@@ -42,6 +40,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
 
+  /** Matches the initial size of the value sets of {@code HashMultimap}. */
+  private static final int EXPECTED_EDGES_PER_NODE = 2;
+
   /**
    * It is possible to have a node in the graph without any edges, which is why we must maintain a
    * separate collection for nodes in the graph, rather than just using the keySet of {@link
@@ -51,31 +52,49 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
 
   /**
    * Represents the edges in the graph. Keys are source nodes; values are corresponding sync nodes.
+   * A node only has an entry while it has at least one outgoing edge.
    */
-  private final SetMultimap<T, T> outgoingEdges;
+  private final Map<T, Set<T>> outgoingEdges;
 
   /**
    * Represents the edges in the graph. Keys are sink nodes; values are corresponding source nodes.
+   * A node only has an entry while it has at least one incoming edge.
    */
-  private final SetMultimap<T, T> incomingEdges;
+  private final Map<T, Set<T>> incomingEdges;
+
+  private final Supplier<Set<T>> edgeSetFactory;
 
   private MutableDirectedGraph(
-      Set<T> nodes, SetMultimap<T, T> outgoingEdges, SetMultimap<T, T> incomingEdges) {
+      Set<T> nodes,
+      Map<T, Set<T>> outgoingEdges,
+      Map<T, Set<T>> incomingEdges,
+      Supplier<Set<T>> edgeSetFactory) {
     this.nodes = nodes;
     this.outgoingEdges = outgoingEdges;
     this.incomingEdges = incomingEdges;
+    this.edgeSetFactory = edgeSetFactory;
   }
 
   /** Creates a new graph with no nodes or edges. */
   public MutableDirectedGraph() {
-    this(new HashSet<T>(), HashMultimap.create(), HashMultimap.create());
+    this(
+        new HashSet<T>(),
+        new HashMap<>(),
+        new HashMap<>(),
+        () -> Sets.newHashSetWithExpectedSize(EXPECTED_EDGES_PER_NODE));
   }
 
+  /**
+   * Creates a new graph that can be modified from multiple threads. Edges are added and removed
+   * under the lock of the source or sink node only, so threads adding edges of different nodes
+   * don't contend.
+   */
   public static <T> MutableDirectedGraph<T> createConcurrent() {
     return new MutableDirectedGraph<>(
-        Collections.newSetFromMap(new ConcurrentHashMap<T, Boolean>()),
-        Multimaps.synchronizedSetMultimap(HashMultimap.create()),
-        Multimaps.synchronizedSetMultimap(HashMultimap.create()));
+        ConcurrentHashMap.newKeySet(),
+        new ConcurrentHashMap<>(),
+        new ConcurrentHashMap<>(),
+        () -> ConcurrentHashMap.newKeySet(EXPECTED_EDGES_PER_NODE));
   }
 
   /** @return the number of nodes in the graph */
@@ -85,7 +104,11 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
 
   /** @return the number of edges in the graph */
   public int getEdgeCount() {
-    return outgoingEdges.size();
+    int count = 0;
+    for (Set<T> sinks : outgoingEdges.values()) {
+      count += sinks.size();
+    }
+    return count;
   }
 
   /** @return whether the specified node is present in the graph */
@@ -95,7 +118,8 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
 
   /** @return whether an edge from the source to the sink is present in the graph */
   public boolean containsEdge(T source, T sink) {
-    return outgoingEdges.containsEntry(source, sink);
+    Set<T> sinks = outgoingEdges.get(source);
+    return sinks != null && sinks.contains(sink);
   }
 
   /** Adds the specified node to the graph. */
@@ -106,9 +130,11 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
   /** Removes the specified node from the graph. */
   public boolean removeNode(T node) {
     boolean isRemoved = nodes.remove(node);
-    Set<T> nodesReachableFromTheSpecifiedNode = outgoingEdges.removeAll(node);
-    for (T reachableNode : nodesReachableFromTheSpecifiedNode) {
-      incomingEdges.remove(reachableNode, node);
+    Set<T> nodesReachableFromTheSpecifiedNode = outgoingEdges.remove(node);
+    if (nodesReachableFromTheSpecifiedNode != null) {
+      for (T reachableNode : nodesReachableFromTheSpecifiedNode) {
+        removeFromEdgeSet(incomingEdges, reachableNode, node);
+      }
     }
     return isRemoved;
   }
@@ -120,8 +146,8 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
   public void addEdge(T source, T sink) {
     nodes.add(source);
     nodes.add(sink);
-    outgoingEdges.put(source, sink);
-    incomingEdges.put(sink, source);
+    addToEdgeSet(outgoingEdges, source, sink);
+    addToEdgeSet(incomingEdges, sink, source);
   }
 
   /**
@@ -130,18 +156,48 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
    * as unconnected nodes in the graph.
    */
   public void removeEdge(T source, T sink) {
-    outgoingEdges.remove(source, sink);
-    incomingEdges.remove(sink, source);
+    removeFromEdgeSet(outgoingEdges, source, sink);
+    removeFromEdgeSet(incomingEdges, sink, source);
+  }
+
+  private void addToEdgeSet(Map<T, Set<T>> edges, T key, T value) {
+    edges.compute(
+        key,
+        (k, values) -> {
+          if (values == null) {
+            values = edgeSetFactory.get();
+          }
+          values.add(value);
+          return values;
+        });
+  }
+
+  private static <T> void removeFromEdgeSet(Map<T, Set<T>> edges, T key, T value) {
+    edges.computeIfPresent(
+        key,
+        (k, values) -> {
+          values.remove(value);
+          return values.isEmpty() ? null : values;
+        });
   }
 
   @Override
-  public Iterable<T> getOutgoingNodesFor(T source) {
-    return outgoingEdges.get(source);
+  public Set<T> getOutgoingNodesFor(T source) {
+    return unmodifiableEdgeSet(outgoingEdges.get(source));
   }
 
   @Override
-  public Iterable<T> getIncomingNodesFor(T sink) {
-    return incomingEdges.get(sink);
+  public Set<T> getIncomingNodesFor(T sink) {
+    return unmodifiableEdgeSet(incomingEdges.get(sink));
+  }
+
+  private static <T> Set<T> unmodifiableEdgeSet(@Nullable Set<T> edges) {
+    return edges == null ? Collections.emptySet() : Collections.unmodifiableSet(edges);
+  }
+
+  /** @return the nodes with at least one outgoing edge and their sinks, for copying the graph. */
+  Map<T, Set<T>> getOutgoingEdges() {
+    return Collections.unmodifiableMap(outgoingEdges);
   }
 
   public boolean hasIncomingEdges(T node) {
@@ -198,18 +254,6 @@ public final class MutableDirectedGraph<T> implements TraversableGraph<T> {
     return Sets.difference(nodes, outgoingEdges.keySet());
   }
 
-  ImmutableSet<T> createImmutableCopyOfNodes() {
-    return ImmutableSet.copyOf(nodes);
-  }
-
-  ImmutableSetMultimap<T, T> createImmutableCopyOfOutgoingEdges() {
-    return ImmutableSetMultimap.copyOf(outgoingEdges);
-  }
-
-  ImmutableSetMultimap<T, T> createImmutableCopyOfIncomingEdges() {
-    return ImmutableSetMultimap.copyOf(incomingEdges);
-  }
-
   /**
    * Implementation of
    * http://en.wikipedia.org/wiki/Tarjan%E2%80%99s_strongly_connected_components_algorithm used to
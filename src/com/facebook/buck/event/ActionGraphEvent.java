@@ -137,6 +137,11 @@ public abstract class ActionGraphEvent extends AbstractBuckEvent
       return new MissWithTargetGraphDifference();
     }
 
+    public static Stats stats(
+        long hitCount, long missCount, long evictionCount, long entryCount, long ruleCount) {
+      return new Stats(hitCount, missCount, evictionCount, entryCount, ruleCount);
+    }
+
     public static class Hit extends Cache {
       public Hit() {
         super("ActionGraphCacheHit");
@@ -170,6 +175,47 @@ public abstract class ActionGraphEvent extends AbstractBuckEvent
       }
     }
 
+    /** Cumulative statistics of the action graph cache, and what it currently holds. */
+    public static class Stats extends Cache {
+      private final long hitCount;
+      private final long missCount;
+      private final long evictionCount;
+      private final long entryCount;
+      private final long ruleCount;
+
+      public Stats(
+          long hitCount, long missCount, long evictionCount, long entryCount, long ruleCount) {
+        super("ActionGraphCacheStats");
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.ruleCount = ruleCount;
+      }
+
+      public long getHitCount() {
+        return hitCount;
+      }
+
+      public long getMissCount() {
+        return missCount;
+      }
+
+      public long getEvictionCount() {
+        return evictionCount;
+      }
+
+      /** @return the number of cached action graphs. */
+      public long getEntryCount() {
+        return entryCount;
+      }
+
+      /** @return the total number of build rules in the cached action graphs. */
+      public long getRuleCount() {
+        return ruleCount;
+      }
+    }
+
     @Override
     public String getEventName() {
       return eventName;
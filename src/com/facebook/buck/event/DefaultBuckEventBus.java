@@ -20,19 +20,33 @@ import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.log.GlobalStateManager;
 import com.facebook.buck.util.Threads;
 import com.facebook.buck.util.concurrent.CommandThreadFactory;
-import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.timing.Clock;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.eventbus.EventBus;
-import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
-/** Thin wrapper around guava event bus. */
+/**
+ * Event bus built on guava's {@link EventBus}.
+ *
+ * <p>An asynchronous bus appends events to a lock-free {@link EventRing}, and gives every listener
+ * a thread of its own which delivers the events to it in batches, in the order they were posted.
+ * Build threads therefore never wait for listeners, and a slow listener only delays itself.
+ * Listeners are still invoked from a single thread at a time, as they were with one dispatch thread
+ * for the bus. Events are no longer delivered in a global order across listeners, though: one
+ * listener may receive an event before another listener has received the events posted before it.
+ */
 public class DefaultBuckEventBus implements com.facebook.buck.event.BuckEventBus {
 
   private static final Logger LOG = Logger.get(BuckEventBus.class);
@@ -42,16 +56,25 @@ public class DefaultBuckEventBus implements com.facebook.buck.event.BuckEventBus
   private static final Supplier<Long> DEFAULT_THREAD_ID_SUPPLIER =
       () -> Thread.currentThread().getId();
 
+  private static final int MAX_BATCH_SIZE = 256;
+
   private final Clock clock;
-  private final ExecutorService executorService;
-  private final EventBus eventBus;
   private final Supplier<Long> threadIdSupplier;
   private final BuildId buildId;
   private final int shutdownTimeoutMillis;
 
-  // synchronization variables to ensure proper shutdown
-  private volatile int activeTasks = 0;
+  // Used to post events synchronously, if the bus isn't asynchronous.
+  @Nullable private final EventBus eventBus;
+
+  // Used to deliver events asynchronously, if the bus is asynchronous.
+  @Nullable private final EventRing<BuckEvent> ring;
+  @Nullable private final ThreadFactory threadFactory;
+  private final Map<Object, ListenerThread> listenerThreads = new IdentityHashMap<>();
+  private final List<ListenerThread> activeListenerThreads = new CopyOnWriteArrayList<>();
+
+  // waitEvents() waits on the lock for listener threads to catch up.
   private final Object lock = new Object();
+  private volatile int waitingThreads = 0;
 
   public DefaultBuckEventBus(Clock clock, BuildId buildId) {
     this(clock, true, buildId, DEFAULT_SHUTDOWN_TIMEOUT_MS);
@@ -61,38 +84,32 @@ public class DefaultBuckEventBus implements com.facebook.buck.event.BuckEventBus
   public DefaultBuckEventBus(
       Clock clock, boolean async, BuildId buildId, int shutdownTimeoutMillis) {
     this.clock = clock;
-    this.executorService =
-        async
-            ? MostExecutors.newSingleThreadExecutor(
-                new CommandThreadFactory(
-                    BuckEventBus.class.getSimpleName(),
-                    GlobalStateManager.singleton().getThreadToCommandRegister()))
-            : MoreExecutors.newDirectExecutorService();
-    this.eventBus = new EventBus("buck-build-events");
+    if (async) {
+      this.eventBus = null;
+      this.ring = new EventRing<>();
+      this.threadFactory =
+          new CommandThreadFactory(
+              BuckEventBus.class.getSimpleName(),
+              GlobalStateManager.singleton().getThreadToCommandRegister());
+    } else {
+      this.eventBus = new EventBus("buck-build-events");
+      this.ring = null;
+      this.threadFactory = null;
+    }
     this.threadIdSupplier = DEFAULT_THREAD_ID_SUPPLIER;
     this.buildId = buildId;
     this.shutdownTimeoutMillis = shutdownTimeoutMillis;
   }
 
   private void dispatch(BuckEvent event) {
-    // keep track the number of active tasks so we can do proper shutdown
-    synchronized (lock) {
-      activeTasks++;
+    if (ring == null) {
+      eventBus.post(event);
+      return;
+    }
+    ring.publish(event);
+    for (ListenerThread listenerThread : activeListenerThreads) {
+      listenerThread.wakeUp();
     }
-
-    executorService.submit(
-        () -> {
-          try {
-            eventBus.post(event);
-          } finally {
-            // event bus should not throw but just in case wrap with try-finally
-            synchronized (lock) {
-              activeTasks--;
-              // notify about task completion; shutdown may wait for it
-              lock.notifyAll();
-            }
-          }
-        });
   }
 
   @Override
@@ -115,12 +132,36 @@ public class DefaultBuckEventBus implements com.facebook.buck.event.BuckEventBus
 
   @Override
   public void register(Object object) {
-    eventBus.register(object);
+    if (ring == null) {
+      eventBus.register(object);
+      return;
+    }
+    synchronized (listenerThreads) {
+      if (listenerThreads.containsKey(object)) {
+        return;
+      }
+      ListenerThread listenerThread = new ListenerThread(object, ring.newCursor());
+      listenerThreads.put(object, listenerThread);
+      activeListenerThreads.add(listenerThread);
+      listenerThread.thread.start();
+    }
   }
 
   @Override
   public void unregister(Object object) {
-    eventBus.unregister(object);
+    if (ring == null) {
+      eventBus.unregister(object);
+      return;
+    }
+    ListenerThread listenerThread;
+    synchronized (listenerThreads) {
+      listenerThread = listenerThreads.remove(object);
+      if (listenerThread == null) {
+        throw new IllegalArgumentException("missing event subscriber for " + object);
+      }
+      activeListenerThreads.remove(listenerThread);
+    }
+    listenerThread.stop();
   }
 
   @Override
@@ -147,60 +188,97 @@ public class DefaultBuckEventBus implements com.facebook.buck.event.BuckEventBus
   }
 
   /**
-   * {@link ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)} is called to wait
-   * for events which have been posted, but which have been queued by the {@link EventBus}, to be
+   * Waits for events which have been posted, but not yet delivered to every listener, to be
    * delivered. This allows listeners to record or report as much information as possible. This aids
    * debugging when close is called during exception processing.
    */
   @Override
   public void close() throws IOException {
+    if (ring == null) {
+      return;
+    }
     long timeoutTime = System.currentTimeMillis() + shutdownTimeoutMillis;
 
-    // it might have happened that executor service is still processing a task which in turn may
-    // post new tasks to the executor, in this case if we shutdown executor they won't be processed
-    // so first wait for all currently running tasks and their descendants to finish
-    // ideally it should be done inside executorService but it only provides shutdown() method
-    // which immediately stops accepting new tasks, that's why we have some wrapper on top of it
+    // Listeners may post events while handling others, so wait for those too before stopping the
+    // listener threads.
     waitEvents(shutdownTimeoutMillis);
 
-    executorService.shutdown();
+    List<ListenerThread> toStop;
+    synchronized (listenerThreads) {
+      toStop = new ArrayList<>(listenerThreads.values());
+      listenerThreads.clear();
+      activeListenerThreads.clear();
+    }
+    List<String> stuckListeners = new ArrayList<>();
     try {
-      long waitTime = timeoutTime - System.currentTimeMillis();
-      if (waitTime <= 0 || !executorService.awaitTermination(waitTime, TimeUnit.MILLISECONDS)) {
-        LOG.warn(
-            Joiner.on(System.lineSeparator())
-                .join(
-                    "The BuckEventBus failed to shut down within the standard timeout.",
-                    "Your build might have succeeded, but some messages were probably lost.",
-                    "Here's some debugging information:",
-                    executorService.toString()));
-        executorService.shutdownNow();
+      for (ListenerThread listenerThread : toStop) {
+        listenerThread.stop();
+        long waitTime = timeoutTime - System.currentTimeMillis();
+        if (waitTime > 0) {
+          listenerThread.thread.join(waitTime);
+        }
+        if (listenerThread.thread.isAlive()) {
+          stuckListeners.add(listenerThread.thread.getName());
+          listenerThread.thread.interrupt();
+        }
+        LOG.debug(
+            "%s delivered %d events, at most %d events behind.",
+            listenerThread.thread.getName(),
+            listenerThread.deliveredEvents,
+            listenerThread.maxBacklog);
       }
     } catch (InterruptedException e) {
       Threads.interruptCurrentThread();
     }
+    if (!stuckListeners.isEmpty()) {
+      LOG.warn(
+          Joiner.on(System.lineSeparator())
+              .join(
+                  "The BuckEventBus failed to shut down within the standard timeout.",
+                  "Your build might have succeeded, but some messages were probably lost.",
+                  "Here's some debugging information:",
+                  "Listener threads still running: " + stuckListeners));
+    }
   }
 
   @Override
   public boolean waitEvents(long timeout) {
+    if (ring == null) {
+      return true;
+    }
     long startWaitTime = System.nanoTime();
     synchronized (lock) {
-      while (activeTasks > 0) {
+      waitingThreads++;
+      try {
+        while (!allEventsDelivered()) {
 
-        long waitTime = 0;
-        if (timeout > 0) {
-          waitTime = timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startWaitTime);
-          if (waitTime <= 0) {
-            return false;
+          long waitTime = 0;
+          if (timeout > 0) {
+            waitTime = timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startWaitTime);
+            if (waitTime <= 0) {
+              return false;
+            }
           }
-        }
 
-        try {
-          lock.wait(waitTime);
-        } catch (InterruptedException e) {
-          Threads.interruptCurrentThread();
-          return activeTasks == 0;
+          try {
+            lock.wait(waitTime);
+          } catch (InterruptedException e) {
+            Threads.interruptCurrentThread();
+            return allEventsDelivered();
+          }
         }
+      } finally {
+        waitingThreads--;
+      }
+    }
+    return true;
+  }
+
+  private boolean allEventsDelivered() {
+    long publishedCount = ring.getPublishedCount();
+    for (ListenerThread listenerThread : activeListenerThreads) {
+      if (listenerThread.deliveredSequence < publishedCount) {
+        return false;
       }
     }
     return true;
@@ -220,4 +298,73 @@ public class DefaultBuckEventBus implements com.facebook.buck.event.BuckEventBus
         threadId,
         buildId);
   }
+
+  /** Delivers the events of the ring to a single listener. */
+  private class ListenerThread implements Runnable {
+    private final EventBus listenerBus;
+    private final EventRing.Cursor<BuckEvent> cursor;
+    private final Thread thread;
+    private volatile boolean parked = false;
+    private volatile boolean stopped = false;
+    // Events before this sequence number have been delivered.
+    private volatile long deliveredSequence;
+    // Back-pressure statistics, only written by the listener thread.
+    private volatile long deliveredEvents = 0;
+    private volatile long maxBacklog = 0;
+
+    private ListenerThread(Object listener, EventRing.Cursor<BuckEvent> cursor) {
+      this.listenerBus = new EventBus("buck-build-events");
+      this.listenerBus.register(listener);
+      this.cursor = cursor;
+      this.deliveredSequence = cursor.getSequence();
+      this.thread = threadFactory.newThread(this);
+      this.thread.setName(
+          BuckEventBus.class.getSimpleName() + "-" + listener.getClass().getSimpleName());
+    }
+
+    @Override
+    public void run() {
+      List<BuckEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+      while (!stopped) {
+        if (cursor.poll(batch, MAX_BATCH_SIZE) == 0) {
+          // Producers check the flag after publishing, and we check for events after setting it,
+          // so an event can't be published without us either seeing it or being woken up.
+          parked = true;
+          if (cursor.poll(batch, MAX_BATCH_SIZE) == 0 && !stopped) {
+            LockSupport.park(this);
+            // Only close() interrupts us, after stopping us. Don't let a stray interrupt make
+            // parking a no-op.
+            Thread.interrupted();
+          }
+          parked = false;
+          if (batch.isEmpty()) {
+            continue;
+          }
+        }
+        maxBacklog = Math.max(maxBacklog, ring.getPublishedCount() - deliveredSequence);
+        for (BuckEvent event : batch) {
+          listenerBus.post(event);
+        }
+        deliveredEvents += batch.size();
+        batch.clear();
+        deliveredSequence = cursor.getSequence();
+        if (waitingThreads > 0) {
+          synchronized (lock) {
+            lock.notifyAll();
+          }
+        }
+      }
+    }
+
+    private void wakeUp() {
+      if (parked) {
+        LockSupport.unpark(thread);
+      }
+    }
+
+    private void stop() {
+      stopped = true;
+      LockSupport.unpark(thread);
+    }
+  }
 }
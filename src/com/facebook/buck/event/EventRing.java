@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free multi-producer, multi-consumer broadcast queue: every consumer sees every element
+ * published after it was created, in the same order.
+ *
+ * <p>Elements are stored in a chain of fixed size chunks. Producers claim a slot in the newest
+ * chunk with a single atomic increment, and each consumer walks the chain with its own {@link
+ * Cursor}. Chunks that every cursor has moved past are garbage collected, so unlike a fixed size
+ * ring, producers never wait for slow consumers. This matters for an event bus, whose listeners
+ * post events themselves and would deadlock on a full ring they are responsible for draining.
+ */
+final class EventRing<E> {
+
+  static final int CHUNK_SIZE = 1024;
+
+  private final AtomicReference<Chunk<E>> tail = new AtomicReference<>(new Chunk<>(0));
+
+  /** Appends {@code element}, which every existing cursor will see. Never blocks. */
+  void publish(E element) {
+    while (true) {
+      Chunk<E> chunk = tail.get();
+      int index = chunk.claimed.getAndIncrement();
+      if (index < CHUNK_SIZE) {
+        chunk.slots.set(index, element);
+        return;
+      }
+      // The chunk is full: link a new one (unless another producer beat us to it) and retry.
+      Chunk<E> next = chunk.next.get();
+      if (next == null) {
+        Chunk<E> newChunk = new Chunk<>(chunk.firstSequence + CHUNK_SIZE);
+        next = chunk.next.compareAndSet(null, newChunk) ? newChunk : chunk.next.get();
+      }
+      tail.compareAndSet(chunk, next);
+    }
+  }
+
+  /**
+   * @return the number of elements published so far, including the ones whose producers have
+   *     claimed a slot but not yet filled it.
+   */
+  long getPublishedCount() {
+    Chunk<E> chunk = tail.get();
+    return chunk.firstSequence + Math.min(chunk.claimed.get(), CHUNK_SIZE);
+  }
+
+  /** @return a cursor positioned after the last element published so far. */
+  Cursor<E> newCursor() {
+    Chunk<E> chunk = tail.get();
+    return new Cursor<>(chunk, Math.min(chunk.claimed.get(), CHUNK_SIZE));
+  }
+
+  /** A consumer's position in the ring. Not thread safe, each consumer owns its cursor. */
+  static final class Cursor<E> {
+    private Chunk<E> chunk;
+    private int index;
+
+    private Cursor(Chunk<E> chunk, int index) {
+      this.chunk = chunk;
+      this.index = index;
+    }
+
+    /**
+     * Moves past up to {@code maxElements} published elements, adding them to {@code batch}.
+     *
+     * @return the number of elements added, 0 if there are no new elements.
+     */
+    int poll(List<E> batch, int maxElements) {
+      int polled = 0;
+      while (polled < maxElements) {
+        if (index == CHUNK_SIZE) {
+          Chunk<E> next = chunk.next.get();
+          if (next == null) {
+            break;
+          }
+          chunk = next;
+          index = 0;
+        }
+        // A claimed slot is filled right away, so stopping at an empty one only delays delivery.
+        E element = chunk.slots.get(index);
+        if (element == null) {
+          break;
+        }
+        batch.add(element);
+        index++;
+        polled++;
+      }
+      return polled;
+    }
+
+    /** @return the number of elements published before the cursor's position. */
+    long getSequence() {
+      return chunk.firstSequence + index;
+    }
+  }
+
+  private static final class Chunk<E> {
+    private final long firstSequence;
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(CHUNK_SIZE);
+    private final AtomicReference<Chunk<E>> next = new AtomicReference<>();
+
+    private Chunk(long firstSequence) {
+      this.firstSequence = firstSequence;
+    }
+  }
+}
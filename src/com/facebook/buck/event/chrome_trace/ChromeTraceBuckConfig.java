@@ -23,11 +23,14 @@ import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.config.ConfigView;
 import com.facebook.buck.event.LogUploadMode;
 import com.facebook.buck.util.environment.NetworkInfo;
+import com.facebook.buck.util.zip.ZipCompressionLevel;
+import com.google.common.collect.ImmutableSet;
 import java.net.URI;
 import java.util.Optional;
 
 public class ChromeTraceBuckConfig implements ConfigView<BuckConfig> {
   private static final String DEFAULT_MAX_TRACES = "25";
+  private static final int DEFAULT_TRACE_BUFFER_SIZE = 64 * 1024;
 
   private static final String LOG_SECTION = "log";
 
@@ -55,6 +58,36 @@ public class ChromeTraceBuckConfig implements ConfigView<BuckConfig> {
     return delegate.getBooleanValue(LOG_SECTION, "compress_traces", false);
   }
 
+  /** Returns the gzip compression level of traces, if they are compressed at all. */
+  public ZipCompressionLevel getCompressionLevel() {
+    return delegate
+        .getEnum(LOG_SECTION, "compress_traces_level", ZipCompressionLevel.class)
+        .orElse(ZipCompressionLevel.MAX);
+  }
+
+  /** Returns the format to write traces in. */
+  public ChromeTraceFormat getTraceFormat() {
+    return delegate
+        .getEnum(LOG_SECTION, "chrome_trace_format", ChromeTraceFormat.class)
+        .orElse(ChromeTraceFormat.JSON);
+  }
+
+  /**
+   * Returns the maximum number of trace events waiting to be written. Once that many are pending,
+   * recording further events blocks until the writer catches up.
+   */
+  public int getTraceBufferSize() {
+    return delegate
+        .getInteger(LOG_SECTION, "chrome_trace_buffer_size")
+        .orElse(DEFAULT_TRACE_BUFFER_SIZE);
+  }
+
+  /** Returns the categories of events that should be left out of traces. */
+  public ImmutableSet<String> getExcludedCategories() {
+    return ImmutableSet.copyOf(
+        delegate.getListWithoutComments(LOG_SECTION, "chrome_trace_excluded_categories"));
+  }
+
   /** Get URL to upload trace if the config is enabled. */
   public Optional<URI> getTraceUploadUriIfEnabled() {
     if (!getShouldUploadBuildTraces()) {
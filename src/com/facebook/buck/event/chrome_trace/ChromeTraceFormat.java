@@ -0,0 +1,29 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.chrome_trace;
+
+/** File format of the Chrome traces written by {@link ChromeTraceWriter}. */
+public enum ChromeTraceFormat {
+  /** The "JSON Array Format", which can be loaded into chrome://tracing as is. */
+  JSON,
+  /**
+   * The binary format of {@link com.facebook.buck.util.trace.CompactChromeTraceWriter}, which needs
+   * to be converted to JSON with {@link com.facebook.buck.util.trace.ChromeTraceParser} for
+   * viewing.
+   */
+  COMPACT,
+}
@@ -17,6 +17,7 @@
 package com.facebook.buck.event.chrome_trace;
 
 import com.facebook.buck.util.json.ObjectMappers;
+import com.facebook.buck.util.trace.CompactChromeTraceWriter;
 import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -27,7 +28,7 @@ import java.io.OutputStream;
  * @see ChromeTraceEvent
  */
 public class ChromeTraceWriter implements AutoCloseable {
-  private final JsonGenerator jsonGenerator;
+  private final Encoder encoder;
 
   /** Create a writer backed by specified output stream. */
   public ChromeTraceWriter(OutputStream traceStream) throws IOException {
@@ -36,27 +37,118 @@ public class ChromeTraceWriter implements AutoCloseable {
 
   /** Create a writer backed by specified json generator. */
   public ChromeTraceWriter(JsonGenerator jsonGenerator) {
-    this.jsonGenerator = jsonGenerator;
+    this(new JsonEncoder(jsonGenerator));
+  }
+
+  private ChromeTraceWriter(Encoder encoder) {
+    this.encoder = encoder;
+  }
+
+  /** Create a writer that writes events in the specified format to the output stream. */
+  public static ChromeTraceWriter create(OutputStream traceStream, ChromeTraceFormat format)
+      throws IOException {
+    switch (format) {
+      case JSON:
+        return new ChromeTraceWriter(traceStream);
+      case COMPACT:
+        return new ChromeTraceWriter(
+            new CompactEncoder(new CompactChromeTraceWriter(traceStream)));
+    }
+    throw new IllegalArgumentException("Unknown trace format " + format);
   }
 
   /** Write single event. */
   public void writeEvent(ChromeTraceEvent chromeTraceEvent) throws IOException {
-    ObjectMappers.WRITER.writeValue(jsonGenerator, chromeTraceEvent);
+    encoder.writeEvent(chromeTraceEvent);
   }
 
   /** Must be called prior to emitting first event to properly initialize stream. */
   public void writeStart() throws IOException {
-    jsonGenerator.writeStartArray();
+    encoder.writeStart();
   }
 
   /** Must be called after all events to properly terminate event stream. */
   public void writeEnd() throws IOException {
-    jsonGenerator.writeEndArray();
+    encoder.writeEnd();
   }
 
-  /** Close the underlying json generator. */
+  /** Close the underlying json generator or stream. */
   @Override
   public void close() throws IOException {
-    jsonGenerator.close();
+    encoder.close();
+  }
+
+  private interface Encoder {
+    void writeStart() throws IOException;
+
+    void writeEvent(ChromeTraceEvent chromeTraceEvent) throws IOException;
+
+    void writeEnd() throws IOException;
+
+    void close() throws IOException;
+  }
+
+  private static class JsonEncoder implements Encoder {
+    private final JsonGenerator jsonGenerator;
+
+    JsonEncoder(JsonGenerator jsonGenerator) {
+      this.jsonGenerator = jsonGenerator;
+    }
+
+    @Override
+    public void writeStart() throws IOException {
+      jsonGenerator.writeStartArray();
+    }
+
+    @Override
+    public void writeEvent(ChromeTraceEvent chromeTraceEvent) throws IOException {
+      ObjectMappers.WRITER.writeValue(jsonGenerator, chromeTraceEvent);
+    }
+
+    @Override
+    public void writeEnd() throws IOException {
+      jsonGenerator.writeEndArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+      jsonGenerator.close();
+    }
+  }
+
+  private static class CompactEncoder implements Encoder {
+    private final CompactChromeTraceWriter writer;
+
+    CompactEncoder(CompactChromeTraceWriter writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void writeStart() throws IOException {
+      writer.writeStart();
+    }
+
+    @Override
+    public void writeEvent(ChromeTraceEvent chromeTraceEvent) throws IOException {
+      writer.writeEvent(
+          chromeTraceEvent.getCategory(),
+          chromeTraceEvent.getName(),
+          chromeTraceEvent.getPhase().getPhase(),
+          chromeTraceEvent.getProcessId(),
+          chromeTraceEvent.getThreadId(),
+          chromeTraceEvent.getMicroTime(),
+          chromeTraceEvent.getMicroThreadUserTime(),
+          chromeTraceEvent.getArgs());
+    }
+
+    @Override
+    public void writeEnd() throws IOException {
+      writer.writeEnd();
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.close();
+    }
   }
 }
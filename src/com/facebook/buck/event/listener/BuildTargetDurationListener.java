@@ -16,10 +16,13 @@
 
 package com.facebook.buck.event.listener;
 
+import com.facebook.buck.core.build.engine.type.BuildSchedulingStrategy;
+import com.facebook.buck.core.build.event.BuildEvent;
 import com.facebook.buck.core.build.event.BuildEvent.RuleCountCalculated;
 import com.facebook.buck.core.build.event.BuildRuleEvent;
 import com.facebook.buck.core.build.event.BuildRuleEvent.BeginningBuildRuleEvent;
 import com.facebook.buck.core.build.event.BuildRuleEvent.EndingBuildRuleEvent;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.actiongraph.ActionGraph;
 import com.facebook.buck.core.rules.BuildRule;
@@ -75,6 +78,10 @@ import org.immutables.value.Value;
 /**
  * Listens {@link ActionGraphEvent.Finished} to get {@link ActionGraph}, {@link BuildRuleEvent} to
  * trace {@link BuildRule} to compute critical path for test targets.
+ *
+ * <p>The rule durations, the build wall time and the critical path length are also added to the
+ * {@link BuildRuleDurationHistory}, from which the next builds estimate their critical path when
+ * scheduling rules, and which is used to compare the wall time of the scheduling strategies.
  */
 public class BuildTargetDurationListener implements BuckEventListener {
 
@@ -89,8 +96,12 @@ public class BuildTargetDurationListener implements BuckEventListener {
   private final InvocationInfo info;
   private final ProjectFilesystem filesystem;
   private final int criticalPathCount;
+  private final BuildSchedulingStrategy schedulingStrategy;
   private final TaskManagerScope managerScope;
 
+  private Optional<Long> buildStartedMillis = Optional.empty();
+  private Optional<Long> buildWallMillis = Optional.empty();
+
   private Optional<ActionGraph> actionGraph = Optional.empty();
   private Optional<ImmutableSet<BuildTarget>> targetBuildRules = Optional.empty();
 
@@ -107,12 +118,34 @@ public class BuildTargetDurationListener implements BuckEventListener {
       ProjectFilesystem filesystem,
       int criticalPathCount,
       TaskManagerScope managerScope) {
+    this(info, filesystem, criticalPathCount, BuildSchedulingStrategy.FIFO, managerScope);
+  }
+
+  public BuildTargetDurationListener(
+      InvocationInfo info,
+      ProjectFilesystem filesystem,
+      int criticalPathCount,
+      BuildSchedulingStrategy schedulingStrategy,
+      TaskManagerScope managerScope) {
     this.info = info;
     this.filesystem = filesystem;
     this.criticalPathCount = criticalPathCount;
+    this.schedulingStrategy = schedulingStrategy;
     this.managerScope = managerScope;
   }
 
+  /** Save start of the build, to measure its wall time. */
+  @Subscribe
+  public synchronized void buildStarted(BuildEvent.Started event) {
+    buildStartedMillis = Optional.of(event.getTimestamp());
+  }
+
+  /** Save wall time of the build. */
+  @Subscribe
+  public synchronized void buildFinished(BuildEvent.Finished event) {
+    buildWallMillis = buildStartedMillis.map(start -> event.getTimestamp() - start);
+  }
+
   /** Save start of the {@link BuildRuleEvent}. */
   @Subscribe
   public void buildRuleEventStarted(BuildRuleEvent.Started event) {
@@ -195,6 +228,10 @@ public class BuildTargetDurationListener implements BuckEventListener {
     return filesystem.resolve(info.getBuckLogDir()).resolve(TARGETS_BUILD_TIMES_FILE_NAME);
   }
 
+  private Path getHistoryFilePath() {
+    return filesystem.resolve(info.getBuckLogDir()).resolve(BuildRuleDurationHistory.FILE_NAME);
+  }
+
   @VisibleForTesting
   static ImmutableList<ImmutableBuildRuleCriticalPath> constructBuildRuleCriticalPaths(
       List<Deque<CriticalPathEntry>> criticalPaths) {
@@ -296,6 +333,9 @@ public class BuildTargetDurationListener implements BuckEventListener {
             .setLogFilePath(getLogFilePath())
             .setTargetFilePath(getTargetFilePath())
             .setTraceFilePath(getTraceFilePath())
+            .setHistoryFilePath(getHistoryFilePath())
+            .setSchedulingStrategy(schedulingStrategy)
+            .setBuildWallMillis(buildWallMillis)
             .setInvocationInfo(info)
             .setCriticalPathCount(criticalPathCount)
             .setTargetBuildRules(targetBuildRules)
@@ -356,6 +396,7 @@ public class BuildTargetDurationListener implements BuckEventListener {
           ObjectMappers.WRITER.writeValue(
               targetStream, constructBuildTargetResults(rootBuildRuleInfos));
           LOG.info("Critical path and target results have been written successfully.");
+          updateHistory(args, kCriticalPaths);
         } else {
           ObjectMappers.WRITER.writeValue(outputStream, Collections.emptyList());
           LOG.warn("There was no action graph, computation is skipped.");
@@ -365,6 +406,42 @@ public class BuildTargetDurationListener implements BuckEventListener {
       }
     }
 
+    private void updateHistory(
+        BuildTargetDurationListenerCloseArgs args, List<Deque<CriticalPathEntry>> criticalPaths)
+        throws IOException {
+      Map<String, Long> durations = Maps.newHashMap();
+      args.getBuildRuleInfos()
+          .forEach((ruleName, ruleInfo) -> durations.put(ruleName, ruleInfo.getDuration()));
+      long criticalPathMillis =
+          criticalPaths.stream().mapToLong(path -> path.getLast().longest()).max().orElse(0);
+      Optional<BuildRuleDurationHistory.BuildRecord> build =
+          args.getBuildWallMillis()
+              .map(
+                  wallMillis ->
+                      new BuildRuleDurationHistory.BuildRecord(
+                          args.getSchedulingStrategy(), wallMillis, criticalPathMillis));
+
+      BuildRuleDurationHistory history =
+          BuildRuleDurationHistory.load(args.getHistoryFilePath()).withBuild(durations, build);
+      history.save(args.getHistoryFilePath());
+
+      if (build.isPresent()) {
+        LOG.info(
+            "Build took %d ms with %s scheduling, its critical path took %d ms.",
+            build.get().getWallMillis(), args.getSchedulingStrategy(), criticalPathMillis);
+      }
+      for (BuildSchedulingStrategy strategy : BuildSchedulingStrategy.values()) {
+        if (history.getMeanWallMillis(strategy).isPresent()) {
+          LOG.info(
+              "Recent builds with %s scheduling: mean wall time %.0f ms, "
+                  + "mean wall time to critical path ratio %.2f.",
+              strategy,
+              history.getMeanWallMillis(strategy).getAsDouble(),
+              history.getMeanWallToCriticalPathRatio(strategy).orElse(Double.NaN));
+        }
+      }
+    }
+
     private void rendersCriticalPaths(
         Path traceFilePath, List<Deque<CriticalPathEntry>> criticalPaths) throws IOException {
       try (FileOutputStream fos = new FileOutputStream(traceFilePath.toFile())) {
@@ -421,6 +498,15 @@ public class BuildTargetDurationListener implements BuckEventListener {
 
     @Value.Parameter
     public abstract Optional<ActionGraph> getActionGraph();
+
+    @Value.Parameter
+    public abstract Path getHistoryFilePath();
+
+    @Value.Parameter
+    public abstract BuildSchedulingStrategy getSchedulingStrategy();
+
+    @Value.Parameter
+    public abstract Optional<Long> getBuildWallMillis();
   }
 
   /** Construct {@link BuildTargetResult} list for all given roots. */
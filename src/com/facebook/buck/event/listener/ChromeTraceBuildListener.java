@@ -63,7 +63,7 @@ import com.facebook.buck.util.perf.PerfStatsTracking;
 import com.facebook.buck.util.perf.ProcessTracker;
 import com.facebook.buck.util.timing.Clock;
 import com.facebook.buck.util.unit.SizeUnit;
-import com.facebook.buck.util.zip.BestCompressionGZIPOutputStream;
+import com.facebook.buck.util.zip.ConfigurableCompressionGZIPOutputStream;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Joiner;
@@ -71,6 +71,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.eventbus.Subscribe;
 import java.io.IOException;
@@ -120,6 +121,7 @@ public class ChromeTraceBuildListener implements BuckEventListener {
   private final Path logDirectoryPath;
   private final ChromeTraceBuckConfig config;
   private final Set<Long> threadNamesRecorded = new HashSet<>();
+  private final ImmutableSet<String> excludedCategories;
   private final ThreadMXBean threadMXBean;
 
   private final ExecutorService outputExecutor;
@@ -172,14 +174,17 @@ public class ChromeTraceBuildListener implements BuckEventListener {
     this.threadMXBean = threadMXBean;
     this.config = config;
     this.managerScope = managerScope;
+    this.excludedCategories = config.getExcludedCategories();
     this.outputExecutor =
-        MostExecutors.newSingleThreadExecutor(
+        MostExecutors.newBoundedSingleThreadExecutor(
             new CommandThreadFactory(
-                getClass().getName(), GlobalStateManager.singleton().getThreadToCommandRegister()));
+                getClass().getName(), GlobalStateManager.singleton().getThreadToCommandRegister()),
+            config.getTraceBufferSize());
     TracePathAndStream tracePathAndStream = createPathAndStream(invocationInfo.getBuildId());
     this.tracePath = tracePathAndStream.getPath();
     this.traceStream = tracePathAndStream.getStream();
-    this.chromeTraceWriter = new ChromeTraceWriter(this.traceStream);
+    this.chromeTraceWriter =
+        ChromeTraceWriter.create(this.traceStream, config.getTraceFormat());
     this.chromeTraceWriter.writeStart();
     addProcessMetadataEvent(invocationInfo);
     addProjectFilesystemDelegateMetadataEvent(projectFilesystem);
@@ -225,7 +230,9 @@ public class ChromeTraceBuildListener implements BuckEventListener {
       projectFilesystem.createParentDirs(tracePath);
       OutputStream stream = projectFilesystem.newFileOutputStream(tracePath);
       if (config.getCompressTraces()) {
-        stream = new BestCompressionGZIPOutputStream(stream, true);
+        stream =
+            new ConfigurableCompressionGZIPOutputStream(
+                stream, true, config.getCompressionLevel());
       }
       return new TracePathAndStream(tracePath, stream);
     } catch (IOException e) {
@@ -825,6 +832,9 @@ public class ChromeTraceBuildListener implements BuckEventListener {
       ChromeTraceEvent.Phase phase,
       ImmutableMap<String, ? extends Object> arguments,
       BuckEvent event) {
+    if (excludedCategories.contains(category)) {
+      return;
+    }
     long threadId = event.getThreadId();
     long timestampInMicroseconds = TimeUnit.NANOSECONDS.toMicros(event.getNanoTime());
     long threadTimestampInMicroseconds =
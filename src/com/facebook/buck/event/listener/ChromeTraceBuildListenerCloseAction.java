@@ -20,6 +20,7 @@ import com.facebook.buck.core.model.BuildId;
 import com.facebook.buck.core.util.immutables.BuckStyleImmutable;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.chrome_trace.ChromeTraceBuckConfig;
+import com.facebook.buck.event.chrome_trace.ChromeTraceFormat;
 import com.facebook.buck.event.chrome_trace.ChromeTraceWriter;
 import com.facebook.buck.io.file.PathListing;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
@@ -83,6 +84,11 @@ class ChromeTraceBuildListenerCloseAction implements TaskAction<ChromeTraceBuild
     if (!traceUploadUri.isPresent()) {
       return;
     }
+    if (config.getTraceFormat() != ChromeTraceFormat.JSON) {
+      // The trace server only understands JSON traces.
+      LOG.debug("Not uploading trace %s, which is not in JSON format", tracePath);
+      return;
+    }
 
     Path fullPath = projectFilesystem.resolve(tracePath);
     Path logFile = projectFilesystem.resolve(logDirectoryPath.resolve("upload-build-trace.log"));
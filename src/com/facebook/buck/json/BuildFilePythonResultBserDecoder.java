@@ -0,0 +1,241 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.json;
+
+import static com.facebook.buck.util.bser.BserConstants.BSER_ARRAY;
+import static com.facebook.buck.util.bser.BserConstants.BSER_FALSE;
+import static com.facebook.buck.util.bser.BserConstants.BSER_INT16;
+import static com.facebook.buck.util.bser.BserConstants.BSER_INT32;
+import static com.facebook.buck.util.bser.BserConstants.BSER_INT64;
+import static com.facebook.buck.util.bser.BserConstants.BSER_INT8;
+import static com.facebook.buck.util.bser.BserConstants.BSER_NULL;
+import static com.facebook.buck.util.bser.BserConstants.BSER_OBJECT;
+import static com.facebook.buck.util.bser.BserConstants.BSER_REAL;
+import static com.facebook.buck.util.bser.BserConstants.BSER_STRING;
+import static com.facebook.buck.util.bser.BserConstants.BSER_TRUE;
+
+import com.facebook.buck.util.ImmutableMapWithNullValues;
+import com.facebook.buck.util.bser.BserDeserializer;
+import com.facebook.buck.util.bser.BserDeserializer.BserEofException;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Decodes the BSER-encoded output of {@code buck.py} into {@link BuildFilePythonResult}, producing
+ * the same values as {@link BuildFilePythonResultDeserializer} does for the JSON encoding.
+ *
+ * <p>Values are decoded straight from the buffer holding the whole result instead of going through
+ * a token stream. Attribute names and many values, like rule types, visibility patterns and
+ * dependencies, repeat across the rules of a build file and across build files, so strings are
+ * first looked up by their encoded bytes in a small cache, which saves decoding and interning them
+ * again.
+ *
+ * <p>Instances are not thread safe, each parser process should use its own decoder.
+ */
+final class BuildFilePythonResultBserDecoder {
+
+  /** Number of cached strings, must be a power of two. */
+  private static final int STRING_CACHE_SIZE = 4096;
+
+  /** Long strings are rarely repeated, so they are not worth a cache entry. */
+  private static final int MAX_CACHED_STRING_LENGTH = 256;
+
+  private final byte[][] cachedStringBytes = new byte[STRING_CACHE_SIZE][];
+  private final String[] cachedStrings = new String[STRING_CACHE_SIZE];
+
+  /** Reads the next result written by {@code buck.py} from {@code inputStream}. */
+  BuildFilePythonResult decode(InputStream inputStream) throws IOException {
+    ByteBuffer buffer = BserDeserializer.readBserBuffer(inputStream);
+    try {
+      return decodeResult(buffer);
+    } catch (BufferUnderflowException e) {
+      throw new BserEofException("Prematurely reached end of BSER buffer", e);
+    }
+  }
+
+  private BuildFilePythonResult decodeResult(ByteBuffer buffer) throws IOException {
+    expectType(buffer, BSER_OBJECT);
+    ImmutableList<Map<String, Object>> values = ImmutableList.of();
+    ImmutableList<Map<String, Object>> diagnostics = ImmutableList.of();
+    Optional<String> profile = Optional.empty();
+    int size = readLength(buffer);
+    for (int i = 0; i < size; i++) {
+      String fieldName = decodeString(buffer);
+      switch (fieldName) {
+        case "values":
+          values = decodeObjectList(buffer);
+          break;
+        case "diagnostics":
+          diagnostics = decodeObjectList(buffer);
+          break;
+        case "profile":
+          profile = Optional.of(decodeString(buffer));
+          break;
+        default:
+          throw new IOException("Unexpected field name: " + fieldName);
+      }
+    }
+    return BuildFilePythonResult.of(values, diagnostics, profile);
+  }
+
+  private ImmutableList<Map<String, Object>> decodeObjectList(ByteBuffer buffer)
+      throws IOException {
+    expectType(buffer, BSER_ARRAY);
+    int size = readLength(buffer);
+    ImmutableList.Builder<Map<String, Object>> result = ImmutableList.builderWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      expectType(buffer, BSER_OBJECT);
+      result.add(decodeObject(buffer));
+    }
+    return result.build();
+  }
+
+  private Map<String, Object> decodeObject(ByteBuffer buffer) throws IOException {
+    ImmutableMapWithNullValues.Builder<String, Object> builder =
+        ImmutableMapWithNullValues.Builder.insertionOrder();
+    int size = readLength(buffer);
+    for (int i = 0; i < size; i++) {
+      builder.put(decodeString(buffer), decodeRecursive(buffer));
+    }
+    return builder.build();
+  }
+
+  private List<Object> decodeList(ByteBuffer buffer) throws IOException {
+    int size = readLength(buffer);
+    ImmutableList.Builder<Object> builder = ImmutableList.builderWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      builder.add(decodeRecursive(buffer));
+    }
+    return builder.build();
+  }
+
+  @Nullable
+  private Object decodeRecursive(ByteBuffer buffer) throws IOException {
+    byte type = buffer.get();
+    switch (type) {
+      case BSER_OBJECT:
+        return decodeObject(buffer);
+      case BSER_ARRAY:
+        return decodeList(buffer);
+      case BSER_TRUE:
+        return true;
+      case BSER_FALSE:
+        return false;
+      case BSER_NULL:
+        return null;
+      case BSER_REAL:
+        return buffer.getDouble();
+      case BSER_INT8:
+      case BSER_INT16:
+      case BSER_INT32:
+      case BSER_INT64:
+        return readInteger(buffer, type);
+      case BSER_STRING:
+        return readStringContents(buffer);
+      default:
+        throw new IOException("Unexpected BSER type: " + type);
+    }
+  }
+
+  private String decodeString(ByteBuffer buffer) throws IOException {
+    expectType(buffer, BSER_STRING);
+    return readStringContents(buffer);
+  }
+
+  private String readStringContents(ByteBuffer buffer) throws IOException {
+    int length = readLength(buffer);
+    if (length > buffer.remaining()) {
+      throw new BserEofException(
+          String.format(
+              "String length %d exceeds remaining BSER buffer size %d",
+              length, buffer.remaining()));
+    }
+    byte[] array = buffer.array();
+    int offset = buffer.arrayOffset() + buffer.position();
+    buffer.position(buffer.position() + length);
+
+    if (length > MAX_CACHED_STRING_LENGTH) {
+      return BuildFilePythonResultDeserializer.STRING_INTERNER.intern(
+          new String(array, offset, length, StandardCharsets.UTF_8));
+    }
+
+    int hash = 1;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + array[i];
+    }
+    int slot = (hash ^ (hash >>> 16)) & (STRING_CACHE_SIZE - 1);
+    byte[] cachedBytes = cachedStringBytes[slot];
+    if (cachedBytes != null && rangeEquals(cachedBytes, array, offset, length)) {
+      return cachedStrings[slot];
+    }
+
+    String string =
+        BuildFilePythonResultDeserializer.STRING_INTERNER.intern(
+            new String(array, offset, length, StandardCharsets.UTF_8));
+    byte[] bytes = new byte[length];
+    System.arraycopy(array, offset, bytes, 0, length);
+    cachedStringBytes[slot] = bytes;
+    cachedStrings[slot] = string;
+    return string;
+  }
+
+  private static boolean rangeEquals(byte[] bytes, byte[] array, int offset, int length) {
+    if (bytes.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (bytes[i] != array[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void expectType(ByteBuffer buffer, byte expectedType) throws IOException {
+    byte type = buffer.get();
+    if (type != expectedType) {
+      throw new IOException(
+          String.format("Expected BSER type %d, got %d", expectedType, type));
+    }
+  }
+
+  private static int readLength(ByteBuffer buffer) throws IOException {
+    return BserDeserializer.deserializeIntLen(buffer, buffer.get());
+  }
+
+  /** Returns all integers as {@link Long}, like the JSON deserializer does. */
+  private static Long readInteger(ByteBuffer buffer, byte type) {
+    switch (type) {
+      case BSER_INT8:
+        return (long) buffer.get();
+      case BSER_INT16:
+        return (long) buffer.getShort();
+      case BSER_INT32:
+        return (long) buffer.getInt();
+      default:
+        return buffer.getLong();
+    }
+  }
+}
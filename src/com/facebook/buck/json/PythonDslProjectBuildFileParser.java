@@ -95,6 +95,7 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
   @Nullable private ParserInputStream buckPyProcessInput;
   @Nullable private JsonGenerator buckPyProcessJsonGenerator;
   @Nullable private JsonParser buckPyProcessJsonParser;
+  @Nullable private BuildFilePythonResultBserDecoder buckPyProcessBserDecoder;
 
   private final ProjectBuildFileParserOptions options;
   private final TypeCoercerFactory typeCoercerFactory;
@@ -354,6 +355,10 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
       argBuilder.add("--warn_about_deprecated_syntax");
     }
 
+    if (options.getUseBserOutput()) {
+      argBuilder.add("--use_bser_output");
+    }
+
     return argBuilder.build();
   }
 
@@ -481,6 +486,20 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
       LOG.debug(e, "Swallowing exception on flush");
     }
 
+    LOG.verbose("Parsing output of process %s...", buckPyProcess);
+    if (options.getUseBserOutput()) {
+      if (buckPyProcessBserDecoder == null) {
+        buckPyProcessBserDecoder = new BuildFilePythonResultBserDecoder();
+      }
+      try {
+        return buckPyProcessBserDecoder.decode(
+            Preconditions.checkNotNull(buckPyProcessInput).getInputStream());
+      } catch (IOException e) {
+        LOG.warn(e, "Parser exited while decoding BSER data");
+        throw e;
+      }
+    }
+
     if (buckPyProcessJsonParser == null) {
       // We have to wait to create the JsonParser until after we write our
       // first request, because Jackson "helpfully" synchronously reads
@@ -496,7 +515,6 @@ public class PythonDslProjectBuildFileParser implements ProjectBuildFileParser {
           ObjectMappers.createParser(
               Preconditions.checkNotNull(buckPyProcessInput).getInputStream());
     }
-    LOG.verbose("Parsing output of process %s...", buckPyProcess);
     BuildFilePythonResult resultObject;
     try {
       resultObject = buckPyProcessJsonParser.readValueAs(BuildFilePythonResult.class);
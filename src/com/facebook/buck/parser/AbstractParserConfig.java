@@ -39,6 +39,7 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
 
   private static final long NUM_PARSING_THREADS_DEFAULT = 1L;
   private static final int TARGET_PARSER_THRESHOLD = 100000;
+  private static final long DEFAULT_PARSER_STATE_SNAPSHOT_INTERVAL_SECONDS = 300L;
 
   public enum GlobHandler {
     PYTHON,
@@ -72,6 +73,13 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     ;
   }
 
+  /** Encoding of the results that the Python DSL parser process sends to Buck. */
+  public enum PythonDslOutputFormat {
+    JSON,
+    BSER,
+    ;
+  }
+
   /** Controls whether default flavors should be applied to unflavored targets. */
   public enum ApplyDefaultFlavorsMode {
     DISABLED,
@@ -180,6 +188,24 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return getDelegate().getBooleanValue("project", "parallel_parsing", true);
   }
 
+  /**
+   * @return whether requesting a build file should also start parsing the build files its targets
+   *     depended on in previous builds, before the dependencies are discovered again.
+   */
+  @Value.Lazy
+  public boolean getPredictBuildFileDependencies() {
+    return getDelegate().getBooleanValue("parser", "predict_build_file_dependencies", false);
+  }
+
+  /**
+   * @return whether the Buck daemon should keep the results of `buck query` expressions until any
+   *     file changes.
+   */
+  @Value.Lazy
+  public boolean getCacheQueryResults() {
+    return getDelegate().getBooleanValue("parser", "cache_query_results", false);
+  }
+
   @Value.Lazy
   public int getNumParsingThreads() {
     if (!getEnableParallelParsing()) {
@@ -268,6 +294,17 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return getDelegate().getBooleanValue("parser", "warn_about_deprecated_syntax", true);
   }
 
+  /**
+   * @return the encoding of the results of the Python DSL parser process. BSER is cheaper to
+   *     produce and decode than JSON for build files that define many rules.
+   */
+  @Value.Lazy
+  public PythonDslOutputFormat getPythonDslOutputFormat() {
+    return getDelegate()
+        .getEnum("parser", "python_dsl_output_format", PythonDslOutputFormat.class)
+        .orElse(PythonDslOutputFormat.JSON);
+  }
+
   /**
    * @return whether Buck should invalidate the parser state based on environment variables.
    *     <p>WARNING: Environment variable changes won't discard the parser state. This setting
@@ -299,4 +336,21 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
   public boolean getEnableConfigurableAttributes() {
     return getDelegate().getBooleanValue("parser", "enable_configurable_attributes", false);
   }
+
+  /**
+   * @return whether the daemon should periodically snapshot its parser state to disk and restore
+   *     it on startup. Only effective when Watchman clock cursors are used.
+   */
+  @Value.Lazy
+  public boolean isParserStateSnapshotEnabled() {
+    return getDelegate().getBooleanValue("parser", "state_snapshot_enabled", false);
+  }
+
+  /** @return the minimum time between two snapshots of the daemon parser state. */
+  @Value.Lazy
+  public long getParserStateSnapshotIntervalSeconds() {
+    return getDelegate()
+        .getLong("parser", "state_snapshot_interval_seconds")
+        .orElse(DEFAULT_PARSER_STATE_SNAPSHOT_INTERVAL_SECONDS);
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.IntegerCounter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Remembers which build files the targets of a build file depended on in previous builds, so that
+ * when the build file is requested again its predicted transitive dependencies can be parsed
+ * speculatively, instead of being discovered one level of dependencies at a time.
+ *
+ * <p>Predictions are only hints: they survive parser cache invalidation, and a build file whose
+ * dependencies changed gets new predictions once a build using it finishes.
+ */
+@ThreadSafe
+class BuildFileDependencyPredictor {
+
+  private static final String COUNTER_CATEGORY = "buck_parser_speculation";
+
+  /**
+   * Build files some target of the key build file depended on, each with one of the targets that
+   * was depended on, which is used to find the cell of the dependency.
+   */
+  private final ConcurrentMap<Path, ImmutableMap<Path, BuildTarget>> dependenciesByBuildFile =
+      new ConcurrentHashMap<>();
+
+  private final IntegerCounter speculativeParses =
+      new IntegerCounter(COUNTER_CATEGORY, "speculative_parses", ImmutableMap.of());
+  private final IntegerCounter speculativeParseHits =
+      new IntegerCounter(COUNTER_CATEGORY, "speculative_parse_hits", ImmutableMap.of());
+  private final IntegerCounter speculativeParsesWasted =
+      new IntegerCounter(COUNTER_CATEGORY, "speculative_parses_wasted", ImmutableMap.of());
+  private final IntegerCounter speculativeParsesCancelled =
+      new IntegerCounter(COUNTER_CATEGORY, "speculative_parses_cancelled", ImmutableMap.of());
+  private final IntegerCounter speculationTimeSavedMs =
+      new IntegerCounter(COUNTER_CATEGORY, "speculation_time_saved_ms", ImmutableMap.of());
+
+  /** @return the build files predicted to be needed by targets defined in {@code buildFile}. */
+  ImmutableMap<Path, BuildTarget> getPredictedDependencies(Path buildFile) {
+    return dependenciesByBuildFile.getOrDefault(buildFile, ImmutableMap.of());
+  }
+
+  /**
+   * Replaces the predictions for the given build files with the dependencies observed in a build.
+   */
+  void update(Map<Path, ImmutableMap<Path, BuildTarget>> observedDependencies) {
+    dependenciesByBuildFile.putAll(observedDependencies);
+  }
+
+  void recordScheduled() {
+    speculativeParses.inc();
+  }
+
+  /** Records that a speculatively parsed build file was requested by the build. */
+  void recordHit(long timeSavedMs) {
+    speculativeParseHits.inc();
+    speculationTimeSavedMs.inc(timeSavedMs);
+  }
+
+  /** Records that a build finished without requesting a speculatively parsed build file. */
+  void recordMiss(boolean cancelled) {
+    if (cancelled) {
+      speculativeParsesCancelled.inc();
+    } else {
+      speculativeParsesWasted.inc();
+    }
+  }
+
+  ImmutableList<Counter> getCounters() {
+    return ImmutableList.of(
+        speculativeParses,
+        speculativeParseHits,
+        speculativeParsesWasted,
+        speculativeParsesCancelled,
+        speculationTimeSavedMs);
+  }
+}
@@ -26,8 +26,6 @@ import com.facebook.buck.core.model.impl.ImmutableUnflavoredBuildTarget;
 import com.facebook.buck.util.RichStream;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
-import com.google.common.collect.Interner;
-import com.google.common.collect.Interners;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
@@ -42,8 +40,6 @@ public class BuildTargetParser {
   private static final String BUILD_RULE_SEPARATOR = ":";
   private static final Splitter BUILD_RULE_SEPARATOR_SPLITTER = Splitter.on(BUILD_RULE_SEPARATOR);
 
-  private final Interner<BuildTarget> flavoredTargetCache = Interners.newWeakInterner();
-
   private final FlavorParser flavorParser = new FlavorParser();
 
   private BuildTargetParser() {
@@ -124,10 +120,9 @@ public class BuildTargetParser {
             .setCell(cellNames.getCanonicalCellName(cellPath));
 
     UnflavoredBuildTarget unflavoredBuildTarget = unflavoredBuilder.build();
-    return flavoredTargetCache.intern(
-        ImmutableBuildTarget.of(
-            unflavoredBuildTarget,
-            RichStream.from(flavorNames).map(InternalFlavor::of).toImmutableSet()));
+    return ImmutableBuildTarget.of(
+        unflavoredBuildTarget,
+        RichStream.from(flavorNames).map(InternalFlavor::of).toImmutableSet());
   }
 
   protected static void checkBaseName(String baseName, String buildTargetName) {
@@ -189,6 +189,16 @@ class DaemonicCellState {
   }
 
   int invalidatePath(Path path) {
+    return invalidatePath(path, new HashSet<>());
+  }
+
+  /**
+   * Invalidates the build file at {@code path}, or the build files including it, and adds the
+   * targets they defined to {@code invalidatedTargets}.
+   *
+   * @return the number of invalidated raw nodes.
+   */
+  int invalidatePath(Path path, Set<UnflavoredBuildTarget> invalidatedTargets) {
     try (AutoCloseableLock writeLock = rawAndComputedNodesLock.writeLock()) {
       int invalidatedRawNodes = 0;
       ImmutableSet<Map<String, Object>> rawNodes = allRawNodes.getIfPresent(path);
@@ -200,6 +210,7 @@ class DaemonicCellState {
               RawNodeParsePipeline.parseBuildTargetFromRawRule(
                   cellRoot, cellCanonicalName, rawNode, path);
           LOG.debug("Invalidating target for path %s: %s", path, target);
+          invalidatedTargets.add(target);
           for (Cache<?> cache : typedNodeCaches.values()) {
             cache.allComputedNodes.invalidateAll(targetsCornucopia.get(target));
           }
@@ -216,7 +227,7 @@ class DaemonicCellState {
         if (dependent.equals(path)) {
           continue;
         }
-        invalidatedRawNodes += invalidatePath(dependent);
+        invalidatedRawNodes += invalidatePath(dependent, invalidatedTargets);
       }
       buildFileDependents.removeAll(path);
       buildFileEnv.remove(path);
@@ -225,6 +236,13 @@ class DaemonicCellState {
     }
   }
 
+  /** @return whether {@code path} is a parsed build file or a file included by one. */
+  boolean isBuildFileOrInclude(Path path) {
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      return allRawNodes.getIfPresent(path) != null || buildFileDependents.containsKey(path);
+    }
+  }
+
   Optional<MapDifference<String, String>> invalidateIfEnvHasChanged(Cell cell, Path buildFile) {
     // Invalidate if env vars have changed.
     ImmutableMap<String, Optional<String>> usedEnv;
@@ -21,7 +21,10 @@ import com.facebook.buck.core.cell.CellPathResolver;
 import com.facebook.buck.core.config.BuckConfig;
 import com.facebook.buck.core.model.BuildFileTree;
 import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.facebook.buck.core.model.impl.BuildTargetTable;
 import com.facebook.buck.core.model.impl.FilesystemBackedBuildFileTree;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.counters.Counter;
 import com.facebook.buck.counters.IntegerCounter;
@@ -34,7 +37,9 @@ import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
 import com.facebook.buck.parser.thrift.RemoteDaemonicCellState;
 import com.facebook.buck.parser.thrift.RemoteDaemonicParserState;
+import com.facebook.buck.query.QueryResultCache;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.skylark.io.impl.SharedGlobCache;
 import com.facebook.buck.util.concurrent.AutoCloseableLock;
 import com.facebook.buck.util.concurrent.AutoCloseableReadWriteLock;
 import com.google.common.base.Preconditions;
@@ -61,6 +66,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -103,6 +109,16 @@ public class DaemonicParserState {
       "rules_invalidated_by_watch_events";
   private static final String PATHS_ADDED_OR_REMOVED_INVALIDATING_BUILD_FILES =
       "paths_added_or_removed_invalidating_build_files";
+
+  /** Maximum total number of targets in the results kept by {@link #queryResultCache}. */
+  private static final long QUERY_RESULT_CACHE_MAX_TARGETS = 1_000_000;
+
+  /** Maximum total number of inputs indexed by {@link #inputOwnersIndex}. */
+  private static final long INPUT_OWNERS_INDEX_MAX_INPUTS = 1_000_000;
+
+  /** Maximum number of target nodes kept by {@link #queryGraphIndex}. */
+  private static final long QUERY_GRAPH_INDEX_MAX_NODES = 1_000_000;
+
   // pattern all implicit include paths from build file includes should match
   // this should be kept in sync with pattern used in buck.py
   private static final Pattern INCLUDE_PATH_PATTERN = Pattern.compile("^([A-Za-z0-9_]*)//(.*)$");
@@ -293,6 +309,30 @@ public class DaemonicParserState {
 
   private final LoadingCache<Cell, BuildFileTree> buildFileTrees;
 
+  /** Glob results of Skylark build files, shared by all cells. */
+  private final SharedGlobCache globCache = new SharedGlobCache();
+
+  /** The target graph built last, whose unchanged parts are reused by the next one. */
+  private final AtomicReference<TargetGraph> lastTargetGraph = new AtomicReference<>();
+
+  /** Dependencies between build files seen by previous builds, kept across invalidations. */
+  private final BuildFileDependencyPredictor buildFileDependencyPredictor =
+      new BuildFileDependencyPredictor();
+
+  /**
+   * Results of `buck query` expressions, dropped whenever any file is created or deleted, or any
+   * build file or file included by one changes.
+   */
+  private final QueryResultCache queryResultCache =
+      new QueryResultCache(QUERY_RESULT_CACHE_MAX_TARGETS);
+
+  /** Owners of the inputs of parsed build files, keyed by their target nodes. */
+  private final InputOwnersIndex inputOwnersIndex =
+      new InputOwnersIndex(INPUT_OWNERS_INDEX_MAX_INPUTS);
+
+  /** Target graph explored by `buck query`, without the targets of changed build files. */
+  private final QueryGraphIndex queryGraphIndex = new QueryGraphIndex(QUERY_GRAPH_INDEX_MAX_NODES);
+
   /**
    * The default includes used by the previous run of the parser in each cell (the key is the cell's
    * root path). If this value changes, then we need to invalidate all the caches.
@@ -402,6 +442,7 @@ public class DaemonicParserState {
     // Non-path change event, likely an overflow due to many change events: invalidate everything.
     LOG.debug("Received non-path change event %s, assuming overflow and checking caches.", event);
 
+    globCache.invalidateAll();
     if (invalidateAllCaches()) {
       LOG.warn("Invalidated cache on watch event %s.", event);
       cacheInvalidatedByWatchOverflowCounter.inc();
@@ -417,6 +458,10 @@ public class DaemonicParserState {
     Path path = event.getPath();
     Path fullPath = event.getCellPath().resolve(event.getPath());
 
+    if (isPathCreateOrDeleteEvent(event)) {
+      globCache.invalidate(fullPath);
+    }
+
     try (AutoCloseableLock readLock = cellStateLock.readLock()) {
       for (DaemonicCellState state : cellPathToDaemonicState.values()) {
         try {
@@ -456,7 +501,7 @@ public class DaemonicParserState {
       }
     }
 
-    invalidatePath(fullPath);
+    invalidatePath(fullPath, isPathCreateOrDeleteEvent(event));
   }
 
   /**
@@ -469,6 +514,10 @@ public class DaemonicParserState {
   public void invalidateBasedOnPath(Path fullPath, boolean isCreatedOrDeleted) {
     filesChangedCounter.inc();
 
+    if (isCreatedOrDeleted) {
+      globCache.invalidate(fullPath);
+    }
+
     try (AutoCloseableLock readLock = cellStateLock.readLock()) {
       for (DaemonicCellState state : cellPathToDaemonicState.values()) {
         try {
@@ -509,10 +558,19 @@ public class DaemonicParserState {
       }
     }
 
-    invalidatePath(fullPath);
+    invalidatePath(fullPath, isCreatedOrDeleted);
   }
 
   public void invalidatePath(Path path) {
+    invalidatePath(path, true);
+  }
+
+  private void invalidatePath(Path path, boolean isCreatedOrDeleted) {
+    // Query results may depend on whether any file exists, e.g. through owner() or inputs(), but
+    // only on the contents of build files and the files they include.
+    if (isCreatedOrDeleted) {
+      queryResultCache.invalidateAll();
+    }
 
     // The paths from watchman are not absolute. Because of this, we adopt a conservative approach
     // to invalidating the caches.
@@ -575,7 +633,8 @@ public class DaemonicParserState {
 
   /**
    * Remove the targets and rules defined by {@code path} from the cache and recursively remove the
-   * targets and rules defined by files that transitively include {@code path} from the cache.
+   * targets and rules defined by files that transitively include {@code path} from the cache. Only
+   * these targets are removed from the graph explored by queries.
    *
    * @param path The File that has changed.
    */
@@ -584,8 +643,14 @@ public class DaemonicParserState {
 
     // Paths passed in may not be absolute.
     path = state.getCellRoot().resolve(path);
-    int invalidatedNodes = state.invalidatePath(path);
+    if (path.endsWith(state.getCell().getBuildFileName()) || state.isBuildFileOrInclude(path)) {
+      queryResultCache.invalidateAll();
+    }
+    Set<UnflavoredBuildTarget> invalidatedTargets = new HashSet<>();
+    int invalidatedNodes = state.invalidatePath(path, invalidatedTargets);
     rulesInvalidatedByWatchEventsCounter.inc(invalidatedNodes);
+    queryGraphIndex.invalidateTargets(invalidatedTargets);
+    BuildTargetTable.getInstance().prune(invalidatedTargets);
   }
 
   public static boolean isPathCreateOrDeleteEvent(WatchmanPathEvent event) {
@@ -619,6 +684,7 @@ public class DaemonicParserState {
           state.invalidateIfEnvHasChanged(cell, buildFile);
       if (envDiff.isPresent()) {
         hasInvalidated = true;
+        invalidateQueryCaches();
         MapDifference<String, String> diff = envDiff.get();
         LOG.warn("Invalidating cache on environment change (%s)", diff);
         Set<String> environmentChanges = new HashSet<>();
@@ -668,6 +734,8 @@ public class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       boolean invalidated = cellPathToDaemonicState.containsKey(cell.getRoot());
       cellPathToDaemonicState.remove(cell.getRoot());
+      invalidateQueryCaches();
+      BuildTargetTable.getInstance().clear();
       if (invalidated) {
         LOG.debug("Cell cache data invalidated.");
       } else {
@@ -684,6 +752,9 @@ public class DaemonicParserState {
       boolean invalidated = !cellPathToDaemonicState.isEmpty();
       cellPathToDaemonicState.clear();
       buildFileTrees.invalidateAll();
+      lastTargetGraph.set(null);
+      invalidateQueryCaches();
+      BuildTargetTable.getInstance().clear();
       if (invalidated) {
         LOG.debug("Cache data invalidated.");
       } else {
@@ -693,15 +764,56 @@ public class DaemonicParserState {
     }
   }
 
+  /** @return the cache of glob results that is invalidated along with this state. */
+  public SharedGlobCache getGlobCache() {
+    return globCache;
+  }
+
+  Optional<TargetGraph> getLastTargetGraph() {
+    return Optional.ofNullable(lastTargetGraph.get());
+  }
+
+  void setLastTargetGraph(TargetGraph targetGraph) {
+    lastTargetGraph.set(targetGraph);
+  }
+
+  private void invalidateQueryCaches() {
+    queryResultCache.invalidateAll();
+    queryGraphIndex.invalidateAll();
+  }
+
+  /** @return the cache of query results that is invalidated along with this state. */
+  public QueryResultCache getQueryResultCache() {
+    return queryResultCache;
+  }
+
+  public InputOwnersIndex getInputOwnersIndex() {
+    return inputOwnersIndex;
+  }
+
+  /** @return the target graph explored by queries, which is invalidated along with this state. */
+  public QueryGraphIndex getQueryGraphIndex() {
+    return queryGraphIndex;
+  }
+
+  BuildFileDependencyPredictor getBuildFileDependencyPredictor() {
+    return buildFileDependencyPredictor;
+  }
+
   public ImmutableList<Counter> getCounters() {
-    return ImmutableList.of(
-        cacheInvalidatedByEnvironmentVariableChangeCounter,
-        cacheInvalidatedByDefaultIncludesChangeCounter,
-        cacheInvalidatedByWatchOverflowCounter,
-        buildFilesInvalidatedByFileAddOrRemoveCounter,
-        filesChangedCounter,
-        rulesInvalidatedByWatchEventsCounter,
-        pathsAddedOrRemovedInvalidatingBuildFiles);
+    return ImmutableList.<Counter>builder()
+        .add(
+            cacheInvalidatedByEnvironmentVariableChangeCounter,
+            cacheInvalidatedByDefaultIncludesChangeCounter,
+            cacheInvalidatedByWatchOverflowCounter,
+            buildFilesInvalidatedByFileAddOrRemoveCounter,
+            filesChangedCounter,
+            rulesInvalidatedByWatchEventsCounter,
+            pathsAddedOrRemovedInvalidatingBuildFiles)
+        .addAll(globCache.getCounters())
+        .addAll(buildFileDependencyPredictor.getCounters())
+        .addAll(queryResultCache.getCounters())
+        .build();
   }
 
   @Override
@@ -742,6 +854,7 @@ public class DaemonicParserState {
 
   /** Create a state using serialized data produced with serializeDaemonicParserState(). */
   public DaemonicParserState restoreState(RemoteDaemonicParserState remote, Cell rootCell) {
+    invalidateQueryCaches();
     Map<String, Cell> pathsToCell =
         remote
             .cellPaths
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.parser.thrift.RemoteDaemonicParserState;
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.transport.TIOStreamTransport;
+
+/**
+ * On disk checkpoint of a {@link DaemonicParserState}, used to warm up the parser state of a newly
+ * started daemon.
+ *
+ * <p>Alongside the parser state, a snapshot records the Watchman clock of every watched cell at
+ * the time the state was last brought up to date, and a fingerprint of everything (buck version,
+ * configuration) that the cached state depends on that isn't tracked per build file. A snapshot is
+ * only restored when the fingerprint matches, and the caller is expected to replay the file
+ * changes that happened since the recorded clocks before using the restored state.
+ */
+public class DaemonicParserStateSnapshot {
+  private static final Logger LOG = Logger.get(DaemonicParserStateSnapshot.class);
+
+  private static final int MAGIC = 0x42505353; // "BPSS"
+  private static final int VERSION = 1;
+
+  private final Path path;
+  private final String fingerprint;
+
+  public DaemonicParserStateSnapshot(Path path, String fingerprint) {
+    this.path = path;
+    this.fingerprint = fingerprint;
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Writes {@code state}, which must reflect all file changes up to {@code clocks}, to disk. The
+   * previous snapshot is replaced atomically, so a concurrent or interrupted write never leaves a
+   * partially written snapshot behind.
+   */
+  public void save(
+      DaemonicParserState state, Cell rootCell, ImmutableMap<Path, String> clocks)
+      throws IOException {
+    RemoteDaemonicParserState remote = state.serializeDaemonicParserState(rootCell);
+    Files.createDirectories(path.getParent());
+    Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(fingerprint);
+        out.writeInt(clocks.size());
+        for (Map.Entry<Path, String> entry : clocks.entrySet()) {
+          out.writeUTF(entry.getKey().toString());
+          out.writeUTF(entry.getValue());
+        }
+        remote.write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException e) {
+        throw new IOException("Failed to serialize parser state", e);
+      }
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Loads the snapshot into {@code state}, which should be empty.
+   *
+   * @return the Watchman clocks the restored state is up to date with, or {@link Optional#empty()}
+   *     if there was no usable snapshot, in which case {@code state} is left empty.
+   */
+  public Optional<ImmutableMap<Path, String>> restore(DaemonicParserState state, Cell rootCell) {
+    ImmutableMap.Builder<Path, String> clocks = ImmutableMap.builder();
+    RemoteDaemonicParserState remote = new RemoteDaemonicParserState();
+    try (DataInputStream in =
+        new DataInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(path))))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        LOG.debug("Ignoring parser state snapshot %s with unknown format", path);
+        return Optional.empty();
+      }
+      if (!fingerprint.equals(in.readUTF())) {
+        LOG.debug("Ignoring parser state snapshot %s taken with a different configuration", path);
+        return Optional.empty();
+      }
+      int clockCount = in.readInt();
+      for (int i = 0; i < clockCount; i++) {
+        clocks.put(Paths.get(in.readUTF()), in.readUTF());
+      }
+      remote.read(new TCompactProtocol(new TIOStreamTransport(in)));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException | TException e) {
+      LOG.warn(e, "Failed to read parser state snapshot %s", path);
+      return Optional.empty();
+    }
+
+    try {
+      state.restoreState(remote, rootCell);
+    } catch (RuntimeException e) {
+      LOG.warn(e, "Failed to restore parser state snapshot %s", path);
+      state.invalidateAllCaches();
+      return Optional.empty();
+    }
+    return Optional.of(clocks.build());
+  }
+}
@@ -27,19 +27,16 @@ import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
 import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.util.graph.AcyclicDepthFirstPostOrderTraversal;
 import com.facebook.buck.core.util.graph.GraphTraversable;
-import com.facebook.buck.core.util.graph.MutableDirectedGraph;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.watchman.Watchman;
 import com.facebook.buck.parser.TargetSpecResolver.TargetNodeProviderForSpecResolver;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
-import com.facebook.buck.util.MoreMaps;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
@@ -47,7 +44,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.SortedMap;
@@ -238,8 +235,8 @@ public class DefaultParser implements Parser {
       return TargetGraph.EMPTY;
     }
 
-    MutableDirectedGraph<TargetNode<?>> graph = new MutableDirectedGraph<>();
-    Map<BuildTarget, TargetNode<?>> index = new HashMap<>();
+    IncrementalTargetGraphBuilder graphBuilder =
+        new IncrementalTargetGraphBuilder(permState.getLastTargetGraph(), state::getTargetNode);
 
     ParseEvent.Started parseStart = ParseEvent.started(toExplore);
     eventBus.post(parseStart);
@@ -248,11 +245,17 @@ public class DefaultParser implements Parser {
         target -> {
           TargetNode<?> node;
           try {
-            node = state.getTargetNode(target);
+            node = graphBuilder.getTargetNode(target);
           } catch (BuildFileParseException e) {
             throw new RuntimeException(e);
           }
 
+          // Nodes whose dependencies are all unchanged since the previous graph are added with
+          // their subgraph copied from it, so there is no need to visit their dependencies.
+          if (graphBuilder.isSubgraphUnchanged(target)) {
+            return Collections.emptyIterator();
+          }
+
           // this second lookup loop may *seem* pointless, but it allows us to report which node is
           // referring to a node we can't find - something that's very difficult in this Traversable
           // visitor pattern otherwise.
@@ -260,7 +263,7 @@ public class DefaultParser implements Parser {
           // when we come around and re-visit that node there won't actually be any work performed.
           for (BuildTarget dep : node.getParseDeps()) {
             try {
-              state.getTargetNode(dep);
+              graphBuilder.getTargetNode(dep);
             } catch (BuildFileParseException e) {
               throw ParserMessages.createReadableExceptionWithWhenSuffix(target, dep, e);
             } catch (HumanReadableException e) {
@@ -276,21 +279,11 @@ public class DefaultParser implements Parser {
     TargetGraph targetGraph = null;
     try {
       for (BuildTarget target : targetNodeTraversal.traverse(toExplore)) {
-        TargetNode<?> targetNode = state.getTargetNode(target);
-
-        Preconditions.checkNotNull(targetNode, "No target node found for %s", target);
-        graph.addNode(targetNode);
-        MoreMaps.putCheckEquals(index, target, targetNode);
-        if (target.isFlavored()) {
-          BuildTarget unflavoredTarget = target.withoutFlavors();
-          MoreMaps.putCheckEquals(index, unflavoredTarget, state.getTargetNode(unflavoredTarget));
-        }
-        for (BuildTarget dep : targetNode.getParseDeps()) {
-          graph.addEdge(targetNode, state.getTargetNode(dep));
-        }
+        graphBuilder.addTargetNode(target);
       }
 
-      targetGraph = new TargetGraph(graph, ImmutableMap.copyOf(index));
+      targetGraph = graphBuilder.build();
+      permState.setLastTargetGraph(targetGraph);
       return targetGraph;
     } catch (AcyclicDepthFirstPostOrderTraversal.CycleException e) {
       throw new HumanReadableException(e.getMessage());
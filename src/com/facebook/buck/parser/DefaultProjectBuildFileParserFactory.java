@@ -38,6 +38,7 @@ import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.skylark.io.GlobberFactory;
 import com.facebook.buck.skylark.io.impl.HybridGlobberFactory;
 import com.facebook.buck.skylark.io.impl.NativeGlobber;
+import com.facebook.buck.skylark.io.impl.SharedGlobCache;
 import com.facebook.buck.skylark.io.impl.SyncCookieState;
 import com.facebook.buck.skylark.parser.BuckGlobals;
 import com.facebook.buck.skylark.parser.ConsoleEventHandler;
@@ -62,6 +63,7 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
   private final KnownRuleTypesProvider knownRuleTypesProvider;
   private final boolean enableProfiling;
   private final Optional<AtomicLong> processedBytes;
+  private final Optional<SharedGlobCache> globCache;
 
   public DefaultProjectBuildFileParserFactory(
       TypeCoercerFactory typeCoercerFactory,
@@ -69,13 +71,15 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       ParserPythonInterpreterProvider pythonInterpreterProvider,
       KnownRuleTypesProvider knownRuleTypesProvider,
       boolean enableProfiling,
-      Optional<AtomicLong> processedBytes) {
+      Optional<AtomicLong> processedBytes,
+      Optional<SharedGlobCache> globCache) {
     this.typeCoercerFactory = typeCoercerFactory;
     this.console = console;
     this.pythonInterpreterProvider = pythonInterpreterProvider;
     this.knownRuleTypesProvider = knownRuleTypesProvider;
     this.enableProfiling = enableProfiling;
     this.processedBytes = processedBytes;
+    this.globCache = globCache;
   }
 
   public DefaultProjectBuildFileParserFactory(
@@ -83,14 +87,31 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       ParserPythonInterpreterProvider pythonInterpreterProvider,
       boolean enableProfiling,
       Optional<AtomicLong> processedBytes,
-      KnownRuleTypesProvider knownRuleTypesProvider) {
+      KnownRuleTypesProvider knownRuleTypesProvider,
+      Optional<SharedGlobCache> globCache) {
     this(
         typeCoercerFactory,
         Console.createNullConsole(),
         pythonInterpreterProvider,
         knownRuleTypesProvider,
         enableProfiling,
-        processedBytes);
+        processedBytes,
+        globCache);
+  }
+
+  public DefaultProjectBuildFileParserFactory(
+      TypeCoercerFactory typeCoercerFactory,
+      ParserPythonInterpreterProvider pythonInterpreterProvider,
+      boolean enableProfiling,
+      Optional<AtomicLong> processedBytes,
+      KnownRuleTypesProvider knownRuleTypesProvider) {
+    this(
+        typeCoercerFactory,
+        pythonInterpreterProvider,
+        enableProfiling,
+        processedBytes,
+        knownRuleTypesProvider,
+        Optional.empty());
   }
 
   public DefaultProjectBuildFileParserFactory(
@@ -104,6 +125,7 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
         pythonInterpreterProvider,
         knownRuleTypesProvider,
         false,
+        Optional.empty(),
         Optional.empty());
   }
 
@@ -148,6 +170,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
             .setBuildFileImportWhitelist(parserConfig.getBuildFileImportWhitelist())
             .setDisableImplicitNativeRules(parserConfig.getDisableImplicitNativeRules())
             .setWarnAboutDeprecatedSyntax(parserConfig.isWarnAboutDeprecatedSyntax())
+            .setUseBserOutput(
+                parserConfig.getPythonDslOutputFormat() == ParserConfig.PythonDslOutputFormat.BSER)
             .build();
     return EventReportingProjectBuildFileParser.of(
         createProjectBuildFileParser(
@@ -184,7 +208,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                       typeCoercerFactory,
                       eventBus,
                       buildFileParserOptions,
-                      parserConfig.getSkylarkGlobHandler())),
+                      parserConfig.getSkylarkGlobHandler(),
+                      globCache)),
               defaultBuildFileSyntax);
     } else {
       switch (defaultBuildFileSyntax) {
@@ -195,7 +220,8 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
                   typeCoercerFactory,
                   eventBus,
                   buildFileParserOptions,
-                  parserConfig.getSkylarkGlobHandler());
+                  parserConfig.getSkylarkGlobHandler(),
+                  globCache);
           break;
         case PYTHON_DSL:
           parser =
@@ -235,10 +261,12 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
       TypeCoercerFactory typeCoercerFactory,
       BuckEventBus eventBus,
       ProjectBuildFileParserOptions buildFileParserOptions,
-      SkylarkGlobHandler skylarkGlobHandler) {
+      SkylarkGlobHandler skylarkGlobHandler,
+      Optional<SharedGlobCache> globCache) {
     GlobberFactory globberFactory;
     try {
-      globberFactory = getSkylarkGlobberFactory(buildFileParserOptions, skylarkGlobHandler);
+      globberFactory =
+          getSkylarkGlobberFactory(buildFileParserOptions, skylarkGlobHandler, globCache);
     } catch (IOException e) {
       throw new RuntimeException(
           "Watchman glob handler was requested, but Watchman client cannot be created", e);
@@ -287,16 +315,26 @@ public class DefaultProjectBuildFileParserFactory implements ProjectBuildFilePar
   }
 
   private static GlobberFactory getSkylarkGlobberFactory(
-      ProjectBuildFileParserOptions buildFileParserOptions, SkylarkGlobHandler skylarkGlobHandler)
+      ProjectBuildFileParserOptions buildFileParserOptions,
+      SkylarkGlobHandler skylarkGlobHandler,
+      Optional<SharedGlobCache> globCache)
       throws IOException {
-    SyncCookieState syncCookieState = new SyncCookieState();
-    return skylarkGlobHandler == SkylarkGlobHandler.JAVA
-            || buildFileParserOptions.getWatchman() == WatchmanFactory.NULL_WATCHMAN
-        ? NativeGlobber::create
-        : HybridGlobberFactory.using(
-            buildFileParserOptions.getWatchman().createClient(),
-            syncCookieState,
-            buildFileParserOptions.getProjectRoot(),
-            buildFileParserOptions.getWatchman().getProjectWatches());
+    GlobberFactory globberFactory;
+    if (skylarkGlobHandler == SkylarkGlobHandler.JAVA
+        || buildFileParserOptions.getWatchman() == WatchmanFactory.NULL_WATCHMAN) {
+      globberFactory =
+          globCache.isPresent()
+              ? basePath -> NativeGlobber.create(basePath, globCache.get().getFilesystemCalls())
+              : NativeGlobber::create;
+    } else {
+      SyncCookieState syncCookieState = new SyncCookieState();
+      globberFactory =
+          HybridGlobberFactory.using(
+              buildFileParserOptions.getWatchman().createClient(),
+              syncCookieState,
+              buildFileParserOptions.getProjectRoot(),
+              buildFileParserOptions.getWatchman().getProjectWatches());
+    }
+    return globCache.isPresent() ? globCache.get().wrap(globberFactory) : globberFactory;
   }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.exceptions.HumanReadableException;
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.graph.MutableDirectedGraph;
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.parser.exceptions.BuildFileParseException;
+import com.facebook.buck.util.MoreMaps;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Builds a {@link TargetGraph} reusing as much as possible of the graph built by a previous
+ * command.
+ *
+ * <p>Target nodes of build files that were not invalidated are served from the parser cache as the
+ * same instances as in the previous graph, and re-parsed nodes that did not change are replaced by
+ * their previous instances. A target whose node and transitive dependencies are all unchanged is
+ * added with its whole subgraph copied from the previous graph, without looking up and traversing
+ * its dependencies again. If nothing changed at all, the previous graph itself is returned, so that
+ * caches keyed by the target graph, like the action graph cache, are hit without comparing graphs
+ * node by node.
+ */
+@NotThreadSafe
+class IncrementalTargetGraphBuilder {
+
+  private static final Logger LOG = Logger.get(IncrementalTargetGraphBuilder.class);
+
+  /** Looks up the current node of a target. */
+  interface TargetNodeLookup {
+    TargetNode<?> getTargetNode(BuildTarget target) throws BuildFileParseException;
+  }
+
+  private final Optional<TargetGraph> previousGraph;
+  private final TargetNodeLookup lookup;
+
+  private final MutableDirectedGraph<TargetNode<?>> graph = new MutableDirectedGraph<>();
+  private final Map<BuildTarget, TargetNode<?>> index = new HashMap<>();
+
+  private final Map<BuildTarget, TargetNode<?>> currentNodes = new HashMap<>();
+  private final Map<BuildTarget, Boolean> unchangedSubgraphs = new HashMap<>();
+  private final Set<BuildTarget> copiedTargets = new HashSet<>();
+  private boolean allNodesReused = true;
+
+  IncrementalTargetGraphBuilder(Optional<TargetGraph> previousGraph, TargetNodeLookup lookup) {
+    this.previousGraph = previousGraph;
+    this.lookup = lookup;
+  }
+
+  /**
+   * @return the current node of {@code target}, which is the instance from the previous graph if
+   *     the node did not change.
+   */
+  TargetNode<?> getTargetNode(BuildTarget target) throws BuildFileParseException {
+    @Nullable TargetNode<?> node = currentNodes.get(target);
+    if (node == null) {
+      node = lookup.getTargetNode(target);
+      if (previousGraph.isPresent()) {
+        Optional<TargetNode<?>> previousNode = previousGraph.get().getExactOptional(target);
+        if (previousNode.isPresent() && previousNode.get().equals(node)) {
+          node = previousNode.get();
+        }
+      }
+      currentNodes.put(target, node);
+    }
+    return node;
+  }
+
+  /**
+   * @return whether {@code target} and all of its transitive dependencies are unchanged since the
+   *     previous graph, in which case its dependencies don't need to be traversed.
+   */
+  boolean isSubgraphUnchanged(BuildTarget target) {
+    if (!previousGraph.isPresent()) {
+      return false;
+    }
+    @Nullable Boolean unchanged = unchangedSubgraphs.get(target);
+    if (unchanged == null) {
+      unchanged = computeIsSubgraphUnchanged(target);
+      unchangedSubgraphs.put(target, unchanged);
+    }
+    return unchanged;
+  }
+
+  private boolean computeIsSubgraphUnchanged(BuildTarget target) {
+    Optional<TargetNode<?>> previousNode = previousGraph.get().getExactOptional(target);
+    if (!previousNode.isPresent() || !isNodeUnchanged(target, previousNode.get())) {
+      return false;
+    }
+    if (target.isFlavored()) {
+      BuildTarget unflavoredTarget = target.withoutFlavors();
+      Optional<TargetNode<?>> previousUnflavoredNode =
+          previousGraph.get().getExactOptional(unflavoredTarget);
+      if (!previousUnflavoredNode.isPresent()
+          || !isNodeUnchanged(unflavoredTarget, previousUnflavoredNode.get())) {
+        return false;
+      }
+    }
+    for (TargetNode<?> dep : previousGraph.get().getOutgoingNodesFor(previousNode.get())) {
+      if (!isSubgraphUnchanged(dep.getBuildTarget())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isNodeUnchanged(BuildTarget target, TargetNode<?> previousNode) {
+    try {
+      return getTargetNode(target) == previousNode;
+    } catch (HumanReadableException e) {
+      // The error is reported when the target is traversed.
+      return false;
+    }
+  }
+
+  /**
+   * Adds the node of {@code target} and its edges to the graph. Must be called for targets in
+   * post order, dependencies of unchanged subgraphs excepted.
+   */
+  void addTargetNode(BuildTarget target) throws BuildFileParseException {
+    if (isSubgraphUnchanged(target)) {
+      copyPreviousSubgraph(getTargetNode(target));
+      return;
+    }
+    TargetNode<?> node = getTargetNode(target);
+    addToGraphAndIndex(node);
+    for (BuildTarget dep : node.getParseDeps()) {
+      graph.addEdge(node, getTargetNode(dep));
+    }
+  }
+
+  private void copyPreviousSubgraph(TargetNode<?> root) throws BuildFileParseException {
+    Deque<TargetNode<?>> toCopy = new ArrayDeque<>();
+    toCopy.add(root);
+    while (!toCopy.isEmpty()) {
+      TargetNode<?> node = toCopy.remove();
+      if (!copiedTargets.add(node.getBuildTarget())) {
+        continue;
+      }
+      addToGraphAndIndex(node);
+      for (TargetNode<?> dep : previousGraph.get().getOutgoingNodesFor(node)) {
+        graph.addEdge(node, dep);
+        toCopy.add(dep);
+      }
+    }
+  }
+
+  private void addToGraphAndIndex(TargetNode<?> node) throws BuildFileParseException {
+    BuildTarget target = node.getBuildTarget();
+    graph.addNode(node);
+    MoreMaps.putCheckEquals(index, target, node);
+    if (target.isFlavored()) {
+      BuildTarget unflavoredTarget = target.withoutFlavors();
+      MoreMaps.putCheckEquals(index, unflavoredTarget, getTargetNode(unflavoredTarget));
+    }
+    if (allNodesReused
+        && (!previousGraph.isPresent()
+            || previousGraph.get().getExactOptional(target).orElse(null) != node)) {
+      allNodesReused = false;
+    }
+  }
+
+  /** @return the new graph, or the previous graph if it has exactly the same nodes. */
+  TargetGraph build() {
+    if (previousGraph.isPresent()
+        && allNodesReused
+        && graph.getNodeCount() == previousGraph.get().getNodes().size()) {
+      LOG.debug("Reusing the previous target graph of %d nodes.", graph.getNodeCount());
+      return previousGraph.get();
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+          "Built a target graph of %d nodes, %d of them copied with unchanged subgraphs.",
+          graph.getNodeCount(), copiedTargets.size());
+    }
+    return new TargetGraph(graph, ImmutableMap.copyOf(index));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.util.MoreCaches;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Finds the targets of a build file that own a path, i.e. that have the path or one of its
+ * ancestors as an input, without scanning the inputs of every target for every path.
+ *
+ * <p>The inputs of the targets of each build file are indexed the first time a path is looked up
+ * in it. Indices are keyed by the target nodes themselves, which the parser returns as the same
+ * instances as long as their build file is not invalidated, so an index is reused by later
+ * commands until its build file changes, after which it is no longer looked up and eventually
+ * evicted. The cache is bounded by the total number of indexed inputs.
+ */
+@ThreadSafe
+public class InputOwnersIndex {
+
+  private final Cache<ImmutableSet<TargetNode<?>>, ImmutableSetMultimap<Path, TargetNode<?>>>
+      ownersByInputByBuildFile;
+
+  public InputOwnersIndex(long maxInputs) {
+    this.ownersByInputByBuildFile =
+        MoreCaches.<ImmutableSet<TargetNode<?>>, ImmutableSetMultimap<Path, TargetNode<?>>>
+                boundByTotalWeight(
+                    CacheBuilder.newBuilder(),
+                    maxInputs,
+                    (targetNodes, ownersByInput) -> ownersByInput.size() + 1)
+            .build();
+  }
+
+  /**
+   * @param targetNodes all the target nodes of a build file.
+   * @param path path relative to the cell of the build file.
+   * @return the targets among {@code targetNodes} with {@code path} or one of its ancestors as an
+   *     input.
+   */
+  public ImmutableSet<TargetNode<?>> getOwners(ImmutableSet<TargetNode<?>> targetNodes, Path path) {
+    ImmutableSetMultimap<Path, TargetNode<?>> ownersByInput;
+    try {
+      ownersByInput = ownersByInputByBuildFile.get(targetNodes, () -> index(targetNodes));
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to index the inputs of " + targetNodes, e);
+    }
+    ImmutableSet.Builder<TargetNode<?>> owners = ImmutableSet.builder();
+    for (Path input = path; input != null; input = input.getParent()) {
+      owners.addAll(ownersByInput.get(input));
+    }
+    return owners.build();
+  }
+
+  @VisibleForTesting
+  long getIndexedBuildFileCount() {
+    return ownersByInputByBuildFile.size();
+  }
+
+  private static ImmutableSetMultimap<Path, TargetNode<?>> index(
+      ImmutableSet<TargetNode<?>> targetNodes) {
+    ImmutableSetMultimap.Builder<Path, TargetNode<?>> ownersByInput =
+        ImmutableSetMultimap.builder();
+    for (TargetNode<?> targetNode : targetNodes) {
+      for (Path input : targetNode.getInputs()) {
+        ownersByInput.put(input, targetNode);
+      }
+    }
+    return ownersByInput.build();
+  }
+}
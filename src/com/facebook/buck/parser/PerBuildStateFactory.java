@@ -118,8 +118,10 @@ public class PerBuildStateFactory {
     SymlinkCache symlinkCache = new SymlinkCache(eventBus, daemonicParserState);
     CellManager cellManager = new CellManager(symlinkCache);
 
-    TargetNodeListener<TargetNode<?>> symlinkCheckers = cellManager::registerInputsUnderSymlinks;
     ParserConfig parserConfig = rootCell.getBuckConfig().getView(ParserConfig.class);
+    boolean enableSpeculativeParsing =
+        parserConfig.getEnableParallelParsing()
+            && speculativeParsing == SpeculativeParsing.ENABLED;
     int numParsingThreads = parserConfig.getNumParsingThreads();
     DefaultProjectBuildFileParserFactory projectBuildFileParserFactory =
         new DefaultProjectBuildFileParserFactory(
@@ -127,7 +129,8 @@ public class PerBuildStateFactory {
             parserPythonInterpreterProvider,
             enableProfiling,
             parseProcessedBytes,
-            knownRuleTypesProvider);
+            knownRuleTypesProvider,
+            Optional.of(daemonicParserState.getGlobCache()));
     ProjectBuildFileParserPool projectBuildFileParserPool =
         new ProjectBuildFileParserPool(
             numParsingThreads, // Max parsers to create per cell.
@@ -140,7 +143,17 @@ public class PerBuildStateFactory {
             projectBuildFileParserPool,
             executorService,
             eventBus,
-            watchman);
+            watchman,
+            enableSpeculativeParsing && parserConfig.getPredictBuildFileDependencies()
+                ? Optional.of(daemonicParserState.getBuildFileDependencyPredictor())
+                : Optional.empty(),
+            cellManager::getCell);
+
+    TargetNodeListener<TargetNode<?>> targetNodeListener =
+        (buildFile, node) -> {
+          cellManager.registerInputsUnderSymlinks(buildFile, node);
+          rawNodeParsePipeline.onTargetNodeCreated(buildFile, node);
+        };
 
     ParsePipeline<TargetNode<?>> targetNodeParsePipeline;
 
@@ -149,9 +162,6 @@ public class PerBuildStateFactory {
           parserConfig.getEnableParallelParsing()
               ? executorService
               : MoreExecutors.newDirectExecutorService();
-      boolean enableSpeculativeParsing =
-          parserConfig.getEnableParallelParsing()
-              && speculativeParsing == SpeculativeParsing.ENABLED;
       TargetNodeFactory targetNodeFactory = new TargetNodeFactory(typeCoercerFactory);
       RawTargetNodePipeline rawTargetNodePipeline =
           new RawTargetNodePipeline(
@@ -174,7 +184,7 @@ public class PerBuildStateFactory {
               marshaller,
               targetNodeFactory,
               packageBoundaryChecker,
-              symlinkCheckers);
+              targetNodeListener);
 
       ParsePipeline<TargetNode<?>> nonResolvingTargetNodeParsePipeline =
           new RawTargetNodeToTargetNodeParsePipeline(
@@ -206,7 +216,7 @@ public class PerBuildStateFactory {
               marshaller,
               targetNodeFactory,
               packageBoundaryChecker,
-              symlinkCheckers,
+              targetNodeListener,
               selectorListResolver,
               constraintResolver,
               () ->
@@ -235,7 +245,7 @@ public class PerBuildStateFactory {
                   knownRuleTypesProvider,
                   marshaller,
                   daemonicParserState.getBuildFileTrees(),
-                  symlinkCheckers,
+                  targetNodeListener,
                   new TargetNodeFactory(typeCoercerFactory),
                   new VisibilityPatternFactory(),
                   rootCell.getRuleKeyConfiguration()),
@@ -243,8 +253,7 @@ public class PerBuildStateFactory {
                   ? executorService
                   : MoreExecutors.newDirectExecutorService(),
               eventBus,
-              parserConfig.getEnableParallelParsing()
-                  && speculativeParsing == SpeculativeParsing.ENABLED,
+              enableSpeculativeParsing,
               rawNodeParsePipeline);
     }
 
@@ -83,6 +83,12 @@ class PipelineNodeCache<K, T> {
     return resultFuture;
   }
 
+  /** @return whether the node for {@code key} is already computed or being computed. */
+  final boolean isComputedOrScheduled(Cell cell, K key, BuckEventBus eventBus)
+      throws BuildTargetException {
+    return jobsCache.containsKey(key) || cache.lookupComputedNode(cell, key, eventBus).isPresent();
+  }
+
   protected interface JobSupplier<V> {
     ListenableFuture<V> get() throws BuildTargetException;
   }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.graph.MutableDirectedGraph;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The part of the target graph explored by previous queries, together with the reverse
+ * dependencies of its nodes, so that later queries over the same universe, e.g. {@code rdeps()},
+ * neither load the universe again nor find the reverse dependencies of its targets again.
+ *
+ * <p>The graph is kept for a context object that must capture everything besides the parsed build
+ * files the target nodes depend on, e.g. the cell and its configuration. The owner of the index
+ * must call {@link #invalidateTargets(Set)} with the targets of every build file that changes. A
+ * graph that grew beyond the maximum number of nodes is dropped rather than handed to the next
+ * query.
+ */
+@ThreadSafe
+public class QueryGraphIndex {
+
+  /** Target nodes explored by queries, with the edges between them in both directions. */
+  public static class Graph {
+    private final MutableDirectedGraph<TargetNode<?>> graph =
+        MutableDirectedGraph.createConcurrent();
+    private final Map<BuildTarget, TargetNode<?>> targetsToNodes = new ConcurrentHashMap<>();
+
+    /**
+     * @return the explored nodes. A node is only added after all of its dependencies were, and
+     *     queries sharing the graph must synchronize on this {@link Graph} while adding nodes.
+     */
+    public MutableDirectedGraph<TargetNode<?>> getGraph() {
+      return graph;
+    }
+
+    /** @return the nodes of the graph, as well as nodes found while exploring it, by target. */
+    public Map<BuildTarget, TargetNode<?>> getTargetsToNodes() {
+      return targetsToNodes;
+    }
+  }
+
+  private final long maxNodes;
+
+  @GuardedBy("this")
+  @Nullable
+  private Object context;
+
+  @GuardedBy("this")
+  @Nullable
+  private Graph graph;
+
+  public QueryGraphIndex(long maxNodes) {
+    this.maxNodes = maxNodes;
+  }
+
+  /**
+   * @return the graph explored by previous queries in {@code context}, or an empty graph, which is
+   *     kept for later queries instead.
+   */
+  public synchronized Graph get(Object context) {
+    if (graph == null
+        || !context.equals(this.context)
+        || graph.getGraph().getNodeCount() > maxNodes) {
+      this.context = context;
+      this.graph = new Graph();
+    }
+    return graph;
+  }
+
+  /** Drops the graph. Queries still using it are not affected. */
+  public synchronized void invalidateAll() {
+    context = null;
+    graph = null;
+  }
+
+  /**
+   * Removes the nodes of the given targets, in all their flavors, from the graph.
+   *
+   * <p>A query does not explore the dependencies of nodes already in the graph again, so every node
+   * must keep all of its dependencies in the graph. The nodes depending on the removed ones,
+   * directly or transitively, are therefore removed from the graph as well, so that the next query
+   * reaching them adds them back with edges to the new nodes. Their target nodes did not change
+   * and stay in {@link Graph#getTargetsToNodes()}, so they are not looked up again.
+   */
+  public synchronized void invalidateTargets(Set<UnflavoredBuildTarget> targets) {
+    if (graph == null || targets.isEmpty()) {
+      return;
+    }
+    synchronized (graph) {
+      graph
+          .getTargetsToNodes()
+          .keySet()
+          .removeIf(target -> targets.contains(target.getUnflavoredBuildTarget()));
+
+      MutableDirectedGraph<TargetNode<?>> nodes = graph.getGraph();
+      Queue<TargetNode<?>> toRemove = new ArrayDeque<>();
+      for (TargetNode<?> node : nodes.getNodes()) {
+        if (targets.contains(node.getBuildTarget().getUnflavoredBuildTarget())) {
+          toRemove.add(node);
+        }
+      }
+      Set<TargetNode<?>> removed = new HashSet<>(toRemove);
+      while (!toRemove.isEmpty()) {
+        TargetNode<?> node = toRemove.remove();
+        for (TargetNode<?> dependent : nodes.getIncomingNodesFor(node)) {
+          if (removed.add(dependent)) {
+            toRemove.add(dependent);
+          }
+        }
+      }
+      removed.forEach(nodes::removeNode);
+    }
+  }
+}
@@ -20,6 +20,8 @@ import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.UnflavoredBuildTarget;
 import com.facebook.buck.core.model.impl.ImmutableUnflavoredBuildTarget;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.file.MorePaths;
 import com.facebook.buck.io.watchman.Watchman;
@@ -27,21 +29,46 @@ import com.facebook.buck.parser.PipelineNodeCache.Cache;
 import com.facebook.buck.parser.exceptions.BuildTargetException;
 import com.facebook.buck.parser.exceptions.NoSuchBuildTargetException;
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class RawNodeParsePipeline extends ParsePipeline<Map<String, Object>> {
 
+  private static final Logger LOG = Logger.get(RawNodeParsePipeline.class);
+
   private final BuckEventBus eventBus;
   private final PipelineNodeCache<Path, ImmutableSet<Map<String, Object>>> cache;
   private final ListeningExecutorService executorService;
   private final ProjectBuildFileParserPool projectBuildFileParserPool;
   private final Watchman watchman;
+  private final Optional<BuildFileDependencyPredictor> dependencyPredictor;
+  private final Function<BuildTarget, Cell> cellResolver;
+
+  /** Build files whose predicted dependencies have been scheduled for parsing. */
+  private final Set<Path> expandedBuildFiles = ConcurrentHashMap.newKeySet();
+
+  /** Speculatively scheduled parses of build files that have not been requested yet. */
+  private final ConcurrentMap<Path, SpeculativeParse> pendingSpeculativeParses =
+      new ConcurrentHashMap<>();
+
+  /** Dependencies between build files observed while creating target nodes in this build. */
+  private final ConcurrentMap<Path, ConcurrentMap<Path, BuildTarget>> observedDependencies =
+      new ConcurrentHashMap<>();
 
   public RawNodeParsePipeline(
       Cache<Path, ImmutableSet<Map<String, Object>>> cache,
@@ -49,11 +76,39 @@ public class RawNodeParsePipeline extends ParsePipeline<Map<String, Object>> {
       ListeningExecutorService executorService,
       BuckEventBus eventBus,
       Watchman watchman) {
+    this(
+        cache,
+        projectBuildFileParserPool,
+        executorService,
+        eventBus,
+        watchman,
+        Optional.empty(),
+        target -> {
+          throw new IllegalStateException("Speculative parsing is disabled");
+        });
+  }
+
+  /**
+   * @param dependencyPredictor when present, requesting a build file also schedules parsing of the
+   *     build files its targets depended on in previous builds, and dependencies observed by {@link
+   *     #onTargetNodeCreated} are recorded for future builds when this pipeline is closed.
+   * @param cellResolver resolves the cell of targets used to predict dependencies.
+   */
+  public RawNodeParsePipeline(
+      Cache<Path, ImmutableSet<Map<String, Object>>> cache,
+      ProjectBuildFileParserPool projectBuildFileParserPool,
+      ListeningExecutorService executorService,
+      BuckEventBus eventBus,
+      Watchman watchman,
+      Optional<BuildFileDependencyPredictor> dependencyPredictor,
+      Function<BuildTarget, Cell> cellResolver) {
     this.eventBus = eventBus;
     this.executorService = executorService;
     this.cache = new PipelineNodeCache<>(cache);
     this.projectBuildFileParserPool = projectBuildFileParserPool;
     this.watchman = watchman;
+    this.dependencyPredictor = dependencyPredictor;
+    this.cellResolver = cellResolver;
   }
 
   /**
@@ -95,6 +150,22 @@ public class RawNodeParsePipeline extends ParsePipeline<Map<String, Object>> {
       return Futures.immediateCancelledFuture();
     }
 
+    if (!dependencyPredictor.isPresent()) {
+      return getOrCreateAllNodesJob(cell, buildFile);
+    }
+
+    SpeculativeParse speculativeParse = pendingSpeculativeParses.remove(buildFile);
+    if (speculativeParse != null) {
+      dependencyPredictor.get().recordHit(speculativeParse.getTimeSavedMs());
+    }
+    ListenableFuture<ImmutableSet<Map<String, Object>>> job =
+        getOrCreateAllNodesJob(cell, buildFile);
+    scheduleSpeculativeParses(buildFile);
+    return job;
+  }
+
+  private ListenableFuture<ImmutableSet<Map<String, Object>>> getOrCreateAllNodesJob(
+      Cell cell, Path buildFile) throws BuildTargetException {
     return cache.getJobWithCacheLookup(
         cell,
         buildFile,
@@ -137,9 +208,104 @@ public class RawNodeParsePipeline extends ParsePipeline<Map<String, Object>> {
         executorService);
   }
 
+  /**
+   * Records the build files the given node depends on, so that they can be parsed speculatively
+   * when {@code buildFile} is requested by later builds.
+   */
+  void onTargetNodeCreated(Path buildFile, TargetNode<?> node) {
+    if (!dependencyPredictor.isPresent()) {
+      return;
+    }
+    ConcurrentMap<Path, BuildTarget> dependencies =
+        observedDependencies.computeIfAbsent(buildFile, ignored -> new ConcurrentHashMap<>());
+    for (BuildTarget dep : node.getParseDeps()) {
+      try {
+        Path depBuildFile = cellResolver.apply(dep).getAbsolutePathToBuildFile(dep);
+        if (!depBuildFile.equals(buildFile)) {
+          dependencies.putIfAbsent(depBuildFile, dep);
+        }
+      } catch (HumanReadableException e) {
+        // The dependency is broken, so it is not worth predicting.
+      }
+    }
+  }
+
+  /**
+   * Schedules parsing of the build files predicted to be transitively needed by {@code buildFile}
+   * that are neither parsed nor being parsed yet.
+   */
+  private void scheduleSpeculativeParses(Path buildFile) {
+    if (!expandedBuildFiles.add(buildFile)) {
+      return;
+    }
+    Queue<Path> queue = new ArrayDeque<>();
+    queue.add(buildFile);
+    while (!queue.isEmpty() && !shuttingDown()) {
+      for (Map.Entry<Path, BuildTarget> dependency :
+          dependencyPredictor.get().getPredictedDependencies(queue.remove()).entrySet()) {
+        Path depBuildFile = dependency.getKey();
+        if (!expandedBuildFiles.add(depBuildFile)) {
+          continue;
+        }
+        queue.add(depBuildFile);
+        try {
+          Cell depCell = cellResolver.apply(dependency.getValue());
+          if (cache.isComputedOrScheduled(depCell, depBuildFile, eventBus)) {
+            continue;
+          }
+          SpeculativeParse speculativeParse = new SpeculativeParse();
+          pendingSpeculativeParses.put(depBuildFile, speculativeParse);
+          speculativeParse.setJob(getOrCreateAllNodesJob(depCell, depBuildFile));
+          dependencyPredictor.get().recordScheduled();
+        } catch (HumanReadableException e) {
+          // The prediction is stale, the build will report errors for the files it really needs.
+          LOG.debug(e, "Could not schedule speculative parsing of %s", depBuildFile);
+        }
+      }
+    }
+  }
+
   @Override
   public void close() {
     super.close();
+    if (dependencyPredictor.isPresent()) {
+      for (SpeculativeParse speculativeParse : pendingSpeculativeParses.values()) {
+        dependencyPredictor.get().recordMiss(speculativeParse.cancel());
+      }
+      pendingSpeculativeParses.clear();
+      dependencyPredictor
+          .get()
+          .update(
+              observedDependencies
+                  .entrySet()
+                  .stream()
+                  .collect(
+                      Collectors.toMap(
+                          Map.Entry::getKey, entry -> ImmutableMap.copyOf(entry.getValue()))));
+    }
     projectBuildFileParserPool.close();
   }
+
+  /** A parse scheduled because of a prediction, and how long it has been running. */
+  private static class SpeculativeParse {
+    private final long startNanos = System.nanoTime();
+    private volatile long finishNanos = 0;
+    private volatile ListenableFuture<?> job = Futures.immediateFuture(null);
+
+    void setJob(ListenableFuture<?> job) {
+      this.job = job;
+      job.addListener(() -> finishNanos = System.nanoTime(), MoreExecutors.directExecutor());
+    }
+
+    /** @return how much earlier the parse started, or finished, than when it was requested. */
+    long getTimeSavedMs() {
+      long endNanos = finishNanos == 0 ? System.nanoTime() : finishNanos;
+      return TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+    }
+
+    /** @return whether the parse was still running and is now cancelled. */
+    boolean cancel() {
+      return !job.isDone() && job.cancel(false);
+    }
+  }
 }
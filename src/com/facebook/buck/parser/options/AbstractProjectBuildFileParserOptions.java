@@ -94,4 +94,10 @@ abstract class AbstractProjectBuildFileParserOptions {
   public boolean isWarnAboutDeprecatedSyntax() {
     return true;
   }
+
+  /** Whether the parser process should send its results encoded as BSER instead of JSON. */
+  @Value.Default
+  public boolean getUseBserOutput() {
+    return false;
+  }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.query;
+
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.IntegerCounter;
+import com.facebook.buck.util.MoreCaches;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Results of query expressions that can be reused by later queries, as long as nothing they may
+ * depend on changed.
+ *
+ * <p>Results are keyed by the expression and by a context object that must capture everything
+ * besides the parsed build files the results depend on, e.g. the cell and its configuration. The
+ * owner of the cache must call {@link #invalidateAll()} whenever any build file, or any file
+ * included by one, changes, and whenever any file is created or deleted, as results of e.g. {@code
+ * owner()} depend on which files exist.
+ *
+ * <p>The cache is bounded by the total number of targets in the cached results.
+ */
+@ThreadSafe
+public class QueryResultCache {
+
+  private static final String COUNTER_CATEGORY = "buck_query_result_cache";
+
+  /** Evaluates a query expression on a cache miss. */
+  public interface Evaluation {
+    ImmutableSet<QueryTarget> evaluate() throws QueryException, InterruptedException;
+  }
+
+  private final Cache<Key, ImmutableSet<QueryTarget>> results;
+
+  /**
+   * Incremented by every invalidation. Results computed while it changed may already be stale, so
+   * they are returned but not cached.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  private final IntegerCounter hits =
+      new IntegerCounter(COUNTER_CATEGORY, "hits", ImmutableMap.of());
+  private final IntegerCounter misses =
+      new IntegerCounter(COUNTER_CATEGORY, "misses", ImmutableMap.of());
+
+  public QueryResultCache(long maxTargets) {
+    this.results =
+        MoreCaches.<Key, ImmutableSet<QueryTarget>>boundByTotalWeight(
+                CacheBuilder.newBuilder(), maxTargets, (key, result) -> result.size() + 1)
+            .build();
+  }
+
+  /**
+   * @return the cached result of {@code expression} in {@code context}, or the result of {@code
+   *     evaluation}, which is then cached.
+   */
+  public ImmutableSet<QueryTarget> getOrEvaluate(
+      Object context, QueryExpression expression, Evaluation evaluation)
+      throws QueryException, InterruptedException {
+    Key key = new Key(context, expression);
+    @Nullable ImmutableSet<QueryTarget> result = results.getIfPresent(key);
+    if (result != null) {
+      hits.inc();
+      return result;
+    }
+    misses.inc();
+    long startGeneration = generation.get();
+    result = evaluation.evaluate();
+    if (generation.get() == startGeneration) {
+      results.put(key, result);
+    }
+    return result;
+  }
+
+  /** Drops all cached results. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    results.invalidateAll();
+  }
+
+  public ImmutableList<Counter> getCounters() {
+    return ImmutableList.of(hits, misses);
+  }
+
+  private static class Key {
+    private final Object context;
+    private final QueryExpression expression;
+    private final int hashCode;
+
+    private Key(Object context, QueryExpression expression) {
+      this.context = context;
+      this.expression = expression;
+      this.hashCode = Objects.hash(context, expression);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) obj;
+      return hashCode == that.hashCode
+          && context.equals(that.context)
+          && expression.equals(that.expression);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
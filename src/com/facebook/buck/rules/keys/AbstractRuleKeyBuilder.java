@@ -59,6 +59,17 @@ public abstract class AbstractRuleKeyBuilder<RULE_KEY> implements RuleKeyObjectS
     }
   }
 
+  /**
+   * Adds a value that is known to be null, a primitive wrapper or a string, skipping the type
+   * dispatch of {@link #setReflectively(Object)} which would end up in {@link
+   * #setSingleValue(Object)} anyway.
+   */
+  final AbstractRuleKeyBuilder<RULE_KEY> setSingleValue(String key, @Nullable Object val) {
+    try (Scope ignored = scopedHasher.keyScope(key)) {
+      return setSingleValue(val);
+    }
+  }
+
   /** Recursively serializes the value. Serialization of the key is handled outside. */
   protected AbstractRuleKeyBuilder<RULE_KEY> setReflectively(@Nullable Object val)
       throws IOException {
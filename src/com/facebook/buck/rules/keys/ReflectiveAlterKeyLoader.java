@@ -109,6 +109,8 @@ class ReflectiveAlterKeyLoader extends CacheLoader<Class<?>, ImmutableCollection
   private AlterRuleKey createAlterRuleKey(ValueExtractor valueExtractor, boolean stringify) {
     if (stringify) {
       return new StringifyAlterRuleKey(valueExtractor);
+    } else if (SingleValueAlterRuleKey.isSingleValueType(valueExtractor.getValueType())) {
+      return new SingleValueAlterRuleKey(valueExtractor);
     } else {
       return new DefaultAlterRuleKey(valueExtractor);
     }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.core.rulekey.RuleKeyObjectSink;
+import com.facebook.buck.util.exceptions.BuckUncheckedExecutionException;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Primitives;
+
+/**
+ * Adds a value whose declared type is a primitive, a primitive wrapper or a string. These types are
+ * final, so the value can be hashed directly instead of going through the type dispatch of {@link
+ * RuleKeyObjectSink#setReflectively}.
+ */
+class SingleValueAlterRuleKey implements AlterRuleKey {
+  private static final ImmutableSet<Class<?>> SINGLE_VALUE_TYPES =
+      ImmutableSet.<Class<?>>builder()
+          .addAll(Primitives.allPrimitiveTypes())
+          .addAll(Primitives.allWrapperTypes())
+          .add(String.class)
+          .build();
+
+  private final ValueExtractor valueExtractor;
+
+  SingleValueAlterRuleKey(ValueExtractor valueExtractor) {
+    this.valueExtractor = valueExtractor;
+  }
+
+  /** @return whether values of the given declared type can be added by this class. */
+  static boolean isSingleValueType(Class<?> type) {
+    return type != void.class && type != Void.class && SINGLE_VALUE_TYPES.contains(type);
+  }
+
+  @Override
+  public void amendKey(RuleKeyObjectSink builder, Object addsToRuleKey) {
+    try {
+      Object value = valueExtractor.getValue(addsToRuleKey);
+      if (builder instanceof AbstractRuleKeyBuilder) {
+        ((AbstractRuleKeyBuilder<?>) builder).setSingleValue(valueExtractor.getName(), value);
+      } else {
+        builder.setReflectively(valueExtractor.getName(), value);
+      }
+    } catch (Exception e) {
+      throw new BuckUncheckedExecutionException(e, "When amending %s.", valueExtractor.getName());
+    }
+  }
+}
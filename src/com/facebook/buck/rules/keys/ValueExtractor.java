@@ -24,6 +24,9 @@ public interface ValueExtractor {
 
   String getName();
 
+  /** @return the declared type of the extracted values. */
+  Class<?> getValueType();
+
   @Nullable
   Object getValue(Object obj);
 }
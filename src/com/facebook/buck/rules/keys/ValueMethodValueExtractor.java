@@ -17,17 +17,28 @@
 package com.facebook.buck.rules.keys;
 
 import com.google.common.base.Preconditions;
-import java.lang.reflect.InvocationTargetException;
+import com.google.common.base.Throwables;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
-/** Extracts a value of a given field, that is assumed to be accessible. */
+/**
+ * Extracts a value of a given field, that is assumed to be accessible.
+ *
+ * <p>The method is called through a method handle created once per method, which unlike {@link
+ * Method#invoke(Object, Object...)} doesn't allocate an argument array or repeat access checks on
+ * every call.
+ */
 public class ValueMethodValueExtractor implements ValueExtractor {
   private static final Pattern GET_PATTERN = Pattern.compile("get[A-Z].*");
   private static final Pattern IS_PATTERN = Pattern.compile("is[A-Z].*");
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
 
   private final Method method;
+  private final MethodHandle getter;
   private final String name;
   private final String qualifiedName;
 
@@ -37,6 +48,11 @@ public class ValueMethodValueExtractor implements ValueExtractor {
     // TODO(cjhopman): Should this do any other verification of the signature/annotations on the
     // method?
     this.method = method;
+    try {
+      this.getter = MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException("Method is not accessible: " + method, e);
+    }
     this.qualifiedName = method.getDeclaringClass() + "." + method.getName();
     String methodName = method.getName();
 
@@ -60,13 +76,19 @@ public class ValueMethodValueExtractor implements ValueExtractor {
     return name;
   }
 
+  @Override
+  public Class<?> getValueType() {
+    return method.getReturnType();
+  }
+
   @Override
   @Nullable
   public Object getValue(Object obj) {
     try {
-      return method.invoke(obj);
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      throw new RuntimeException(e);
+      return getter.invokeExact(obj);
+    } catch (Throwable t) {
+      Throwables.throwIfUnchecked(t);
+      throw new RuntimeException(t);
     }
   }
 }
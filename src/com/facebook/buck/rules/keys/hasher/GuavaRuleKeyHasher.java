@@ -34,8 +34,17 @@ import java.util.regex.Pattern;
 /** An implementation of {@link RuleKeyHasher} that wraps Guava's {@link Hasher}. */
 public class GuavaRuleKeyHasher implements RuleKeyHasher<HashCode> {
 
+  /** Longer strings are encoded into a new array, so a single long path doesn't pin memory. */
+  private static final int MAX_SCRATCH_LENGTH = 4096;
+
   private final Hasher hasher;
 
+  /**
+   * Rule keys mostly consist of ASCII keys, targets and paths, which are encoded into this buffer
+   * rather than a new array per string. Hashers aren't shared between threads.
+   */
+  private byte[] scratch = new byte[128];
+
   public GuavaRuleKeyHasher(Hasher hasher) {
     this.hasher = hasher;
   }
@@ -48,7 +57,25 @@ public class GuavaRuleKeyHasher implements RuleKeyHasher<HashCode> {
   }
 
   private GuavaRuleKeyHasher putStringified(byte type, String val) {
-    return putBytes(type, val.getBytes(StandardCharsets.UTF_8));
+    int length = val.length();
+    if (length > MAX_SCRATCH_LENGTH) {
+      return putBytes(type, val.getBytes(StandardCharsets.UTF_8));
+    }
+    if (length > scratch.length) {
+      scratch = new byte[Math.min(MAX_SCRATCH_LENGTH, Math.max(length, scratch.length * 2))];
+    }
+    for (int i = 0; i < length; i++) {
+      char c = val.charAt(i);
+      if (c >= 0x80) {
+        // The UTF-8 encoding of non-ASCII characters is longer than one byte.
+        return putBytes(type, val.getBytes(StandardCharsets.UTF_8));
+      }
+      scratch[i] = (byte) c;
+    }
+    hasher.putBytes(scratch, 0, length);
+    hasher.putInt(length);
+    hasher.putByte(type);
+    return this;
   }
 
   private GuavaRuleKeyHasher putBuildTarget(byte type, BuildTarget target) {
@@ -24,21 +24,27 @@ import com.google.devtools.build.lib.vfs.UnixGlob;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A Java native glob function implementation that allows resolving file paths based on include
  * patterns (file patterns that should be returned) minus exclude patterns (file patterns that
  * should be excluded from the resulting set).
  *
- * <p>Since this is a simple implementation it does not support caching and other smarts.
+ * <p>This implementation does not cache glob results itself, but it can read the filesystem through
+ * caching {@link UnixGlob.FilesystemCalls}, see {@link SharedGlobCache}.
  */
 public class NativeGlobber implements Globber {
 
   /** Path used as a root when resolving patterns. */
   private final Path basePath;
 
-  private NativeGlobber(Path basePath) {
+  private final AtomicReference<? extends UnixGlob.FilesystemCalls> filesystemCalls;
+
+  private NativeGlobber(
+      Path basePath, AtomicReference<? extends UnixGlob.FilesystemCalls> filesystemCalls) {
     this.basePath = basePath;
+    this.filesystemCalls = filesystemCalls;
   }
 
   /**
@@ -53,9 +59,9 @@ public class NativeGlobber implements Globber {
       Collection<String> include, Collection<String> exclude, boolean excludeDirectories)
       throws IOException {
     ImmutableSet<String> includePaths =
-        resolvePathsMatchingGlobPatterns(include, basePath, excludeDirectories);
+        resolvePathsMatchingGlobPatterns(include, basePath, excludeDirectories, filesystemCalls);
     ImmutableSet<String> excludePaths =
-        resolvePathsMatchingGlobPatterns(exclude, basePath, excludeDirectories);
+        resolvePathsMatchingGlobPatterns(exclude, basePath, excludeDirectories, filesystemCalls);
     return Sets.difference(includePaths, excludePaths);
   }
 
@@ -65,13 +71,19 @@ public class NativeGlobber implements Globber {
    * @param patterns The glob patterns to resolve.
    * @param basePath The base path used when resolving glob patterns.
    * @param excludeDirectories Flag indicating whether directories should be excluded from result.
+   * @param filesystemCalls The calls used to list directories and stat files.
    * @return The set of paths corresponding to requested patterns.
    */
   private static ImmutableSet<String> resolvePathsMatchingGlobPatterns(
-      Collection<String> patterns, Path basePath, boolean excludeDirectories) throws IOException {
+      Collection<String> patterns,
+      Path basePath,
+      boolean excludeDirectories,
+      AtomicReference<? extends UnixGlob.FilesystemCalls> filesystemCalls)
+      throws IOException {
     return UnixGlob.forPath(basePath)
         .addPatterns(patterns)
         .setExcludeDirectories(excludeDirectories)
+        .setFilesystemCalls(filesystemCalls)
         .glob()
         .stream()
         .map(includePath -> includePath.relativeTo(basePath).getPathString())
@@ -84,6 +96,17 @@ public class NativeGlobber implements Globber {
    * @param basePath The base path relative to which paths matching glob patterns will be resolved.
    */
   public static NativeGlobber create(Path basePath) {
-    return new NativeGlobber(basePath);
+    return new NativeGlobber(basePath, UnixGlob.DEFAULT_SYSCALLS_REF);
+  }
+
+  /**
+   * Factory method for creating {@link NativeGlobber} instances that access the filesystem using
+   * {@code filesystemCalls}.
+   *
+   * @param basePath The base path relative to which paths matching glob patterns will be resolved.
+   */
+  public static NativeGlobber create(
+      Path basePath, AtomicReference<? extends UnixGlob.FilesystemCalls> filesystemCalls) {
+    return new NativeGlobber(basePath, filesystemCalls);
   }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.skylark.io.impl;
+
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.IntegerCounter;
+import com.facebook.buck.io.file.MorePaths;
+import com.facebook.buck.skylark.io.GlobSpec;
+import com.facebook.buck.skylark.io.Globber;
+import com.facebook.buck.skylark.io.GlobberFactory;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.vfs.Dirent;
+import com.google.devtools.build.lib.vfs.FileStatus;
+import com.google.devtools.build.lib.vfs.Path;
+import com.google.devtools.build.lib.vfs.Symlinks;
+import com.google.devtools.build.lib.vfs.UnixGlob;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Glob results and directory listings shared by all build file parsers that use the same parser
+ * state, across cells and parser instances, so that when Buck runs as a daemon globs are only
+ * evaluated again after files they may match were added or removed.
+ *
+ * <p>Two levels are cached:
+ *
+ * <ul>
+ *   <li>the result of every {@link GlobSpec} evaluated relative to a package directory, and
+ *   <li>the listing and status of every directory {@link NativeGlobber} visits, so a glob that has
+ *       to be evaluated again, or another glob over overlapping directories, only reads the
+ *       directories that changed.
+ * </ul>
+ *
+ * <p>Glob results only depend on which paths exist, so only path creations and deletions reported
+ * by Watchman need to be passed to {@link #invalidate(java.nio.file.Path)}. Like the rest of the
+ * parser state, changes behind symlinks are not noticed.
+ */
+@ThreadSafe
+public class SharedGlobCache {
+
+  private static final String COUNTER_CATEGORY = "buck_glob_cache";
+
+  /** Glob results keyed by the absolute path of the directory the globs are relative to. */
+  private final ConcurrentMap<String, ConcurrentMap<GlobSpec, ImmutableSet<String>>>
+      globsByBasePath = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<String, ImmutableList<Dirent>> directoryListings =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<FileStatus>> fileStatuses =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Incremented by every invalidation. Values computed while it changed may already be stale, so
+   * they are returned but not cached.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  private final AtomicReference<UnixGlob.FilesystemCalls> filesystemCalls =
+      new AtomicReference<>(new CachingFilesystemCalls());
+
+  private final IntegerCounter globHits =
+      new IntegerCounter(COUNTER_CATEGORY, "glob_hits", ImmutableMap.of());
+  private final IntegerCounter globMisses =
+      new IntegerCounter(COUNTER_CATEGORY, "glob_misses", ImmutableMap.of());
+  private final IntegerCounter directoryListingHits =
+      new IntegerCounter(COUNTER_CATEGORY, "directory_listing_hits", ImmutableMap.of());
+  private final IntegerCounter directoryListingMisses =
+      new IntegerCounter(COUNTER_CATEGORY, "directory_listing_misses", ImmutableMap.of());
+  private final IntegerCounter invalidatedGlobs =
+      new IntegerCounter(COUNTER_CATEGORY, "invalidated_globs", ImmutableMap.of());
+
+  /**
+   * @return a factory of globbers that look up glob results in this cache before running the
+   *     globbers created by {@code factory}.
+   */
+  public GlobberFactory wrap(GlobberFactory factory) {
+    return basePath -> new SharedCachingGlobber(basePath, factory.create(basePath));
+  }
+
+  /**
+   * @return filesystem calls for {@link UnixGlob} that read directories and file statuses through
+   *     this cache.
+   */
+  public AtomicReference<UnixGlob.FilesystemCalls> getFilesystemCalls() {
+    return filesystemCalls;
+  }
+
+  /**
+   * Drops everything that may depend on the existence of {@code path}: its status and listing,
+   * the listing of its parent and the results of globs relative to any of its ancestors.
+   *
+   * @param path absolute path that was created or deleted.
+   */
+  public void invalidate(java.nio.file.Path path) {
+    generation.incrementAndGet();
+    String pathString = MorePaths.pathWithUnixSeparators(path);
+    fileStatuses.remove(pathString);
+    // A deleted directory's children are reported as deleted as well, so dropping the listings of
+    // the path and its parent is enough.
+    directoryListings.remove(pathString);
+    java.nio.file.Path parent = path.getParent();
+    if (parent != null) {
+      directoryListings.remove(MorePaths.pathWithUnixSeparators(parent));
+    }
+    for (java.nio.file.Path ancestor = path; ancestor != null; ancestor = ancestor.getParent()) {
+      @Nullable
+      Map<GlobSpec, ImmutableSet<String>> globs =
+          globsByBasePath.remove(MorePaths.pathWithUnixSeparators(ancestor));
+      if (globs != null) {
+        invalidatedGlobs.inc(globs.size());
+      }
+    }
+  }
+
+  /** Drops all cached data, e.g. when Watchman could not report all changes. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    globsByBasePath.clear();
+    directoryListings.clear();
+    fileStatuses.clear();
+  }
+
+  public ImmutableList<Counter> getCounters() {
+    return ImmutableList.of(
+        globHits, globMisses, directoryListingHits, directoryListingMisses, invalidatedGlobs);
+  }
+
+  private class SharedCachingGlobber implements Globber {
+    private final String basePath;
+    private final Globber delegate;
+
+    private SharedCachingGlobber(Path basePath, Globber delegate) {
+      this.basePath = basePath.getPathString();
+      this.delegate = delegate;
+    }
+
+    @Override
+    public ImmutableSet<String> run(
+        Collection<String> include, Collection<String> exclude, boolean excludeDirectories)
+        throws IOException, InterruptedException {
+      GlobSpec key =
+          GlobSpec.builder()
+              .setInclude(include)
+              .setExclude(exclude)
+              .setExcludeDirectories(excludeDirectories)
+              .build();
+      @Nullable
+      Map<GlobSpec, ImmutableSet<String>> globs = globsByBasePath.get(basePath);
+      @Nullable ImmutableSet<String> result = globs == null ? null : globs.get(key);
+      if (result != null) {
+        globHits.inc();
+        return result;
+      }
+      globMisses.inc();
+      long startGeneration = generation.get();
+      result = ImmutableSet.copyOf(delegate.run(include, exclude, excludeDirectories));
+      if (generation.get() == startGeneration) {
+        globsByBasePath
+            .computeIfAbsent(basePath, ignored -> new ConcurrentHashMap<>())
+            .putIfAbsent(key, result);
+      }
+      return result;
+    }
+  }
+
+  private class CachingFilesystemCalls implements UnixGlob.FilesystemCalls {
+    @Override
+    public Collection<Dirent> readdir(Path path, Symlinks symlinks) throws IOException {
+      if (symlinks != Symlinks.FOLLOW) {
+        return UnixGlob.DEFAULT_SYSCALLS.readdir(path, symlinks);
+      }
+      String key = path.getPathString();
+      @Nullable ImmutableList<Dirent> listing = directoryListings.get(key);
+      if (listing != null) {
+        directoryListingHits.inc();
+        return listing;
+      }
+      directoryListingMisses.inc();
+      long startGeneration = generation.get();
+      listing = ImmutableList.copyOf(UnixGlob.DEFAULT_SYSCALLS.readdir(path, symlinks));
+      if (generation.get() == startGeneration) {
+        directoryListings.putIfAbsent(key, listing);
+      }
+      return listing;
+    }
+
+    @Nullable
+    @Override
+    public FileStatus statIfFound(Path path, Symlinks symlinks) throws IOException {
+      if (symlinks != Symlinks.FOLLOW) {
+        return UnixGlob.DEFAULT_SYSCALLS.statIfFound(path, symlinks);
+      }
+      String key = path.getPathString();
+      @Nullable Optional<FileStatus> status = fileStatuses.get(key);
+      if (status == null) {
+        long startGeneration = generation.get();
+        status = Optional.ofNullable(UnixGlob.DEFAULT_SYSCALLS.statIfFound(path, symlinks));
+        if (generation.get() == startGeneration) {
+          fileStatuses.putIfAbsent(key, status);
+        }
+      }
+      return status.orElse(null);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+public class MoreCaches {
+
+  private MoreCaches() {}
+
+  /**
+   * Bounds the total weight of the entries of a cache as a whole.
+   *
+   * <p>Guava splits a cache into segments, one per level of concurrency, and splits the maximum
+   * weight evenly between them. Each segment evicts on its own as soon as its share is exceeded, so
+   * a single entry heavier than a share, e.g. the result of a query over a large universe, would
+   * be evicted right after it was added even though the cache is otherwise empty. Caches bounded
+   * by weight therefore keep a single segment, which is cheap for caches that are looked up a few
+   * times per command.
+   */
+  public static <K, V> CacheBuilder<K, V> boundByTotalWeight(
+      CacheBuilder<Object, Object> cacheBuilder,
+      long maximumWeight,
+      Weigher<? super K, ? super V> weigher) {
+    return cacheBuilder.concurrencyLevel(1).maximumWeight(maximumWeight).<K, V>weigher(weigher);
+  }
+}
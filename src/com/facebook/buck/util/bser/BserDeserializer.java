@@ -107,7 +107,12 @@ public class BserDeserializer {
     }
   }
 
-  private ByteBuffer readBserBuffer(InputStream inputStream) throws IOException {
+  /**
+   * Reads the next BSER PDU from the stream.
+   *
+   * @return a buffer in native byte order holding the encoded value of the PDU, without its header.
+   */
+  public static ByteBuffer readBserBuffer(InputStream inputStream) throws IOException {
     ByteBuffer sniffBuffer = ByteBuffer.allocate(SNIFF_BUFFER_SIZE).order(ByteOrder.nativeOrder());
     Preconditions.checkState(sniffBuffer.hasArray());
 
@@ -167,7 +172,8 @@ public class BserDeserializer {
     return bserBuffer;
   }
 
-  private int deserializeIntLen(ByteBuffer buffer, byte type) throws IOException {
+  /** Reads a non-negative integer of the given BSER integer type, such as a string length. */
+  public static int deserializeIntLen(ByteBuffer buffer, byte type) throws IOException {
     long value = deserializeNumber(buffer, type).longValue();
     if (value > Integer.MAX_VALUE) {
       throw new IOException(
@@ -178,7 +184,7 @@ public class BserDeserializer {
     return (int) value;
   }
 
-  private Number deserializeNumber(ByteBuffer buffer, byte type) throws IOException {
+  private static Number deserializeNumber(ByteBuffer buffer, byte type) throws IOException {
     switch (type) {
       case BSER_INT8:
         return buffer.get();
@@ -22,6 +22,11 @@ public enum FileHashCacheMode {
   PREFIX_TREE,
   LIMITED_PREFIX_TREE,
   LIMITED_PREFIX_TREE_PARALLEL,
-  PARALLEL_COMPARISON;
+  PARALLEL_COMPARISON,
+  /**
+   * Same as {@link #PREFIX_TREE}, but file hashes of source files are also recorded in a
+   * memory-mapped table in buck-out, so that they survive daemon restarts.
+   */
+  PERSISTENT_PREFIX_TREE;
   public static final FileHashCacheMode DEFAULT = PREFIX_TREE;
 }
@@ -36,6 +36,7 @@ import com.google.common.hash.Hashing;
 import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
@@ -53,6 +54,8 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   private final ProjectFilesystem projectFilesystem;
   private final Predicate<Path> ignoredPredicate;
 
+  private final Optional<PersistentFileHashStore> persistentStore;
+
   @VisibleForTesting FileHashCacheEngine fileHashCacheEngine;
 
   protected DefaultFileHashCache(
@@ -61,6 +64,10 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
       FileHashCacheMode fileHashCacheMode) {
     this.projectFilesystem = projectFilesystem;
     this.ignoredPredicate = ignoredPredicate;
+    this.persistentStore =
+        fileHashCacheMode == FileHashCacheMode.PERSISTENT_PREFIX_TREE
+            ? PersistentFileHashStore.forFilesystem(projectFilesystem)
+            : Optional.empty();
     FileHashCacheEngine.ValueLoader<HashCodeAndFileType> hashLoader =
         path -> {
           try {
@@ -104,6 +111,7 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
         fileHashCacheEngine = LoadingCacheFileHashCache.createWithStats(hashLoader, sizeLoader);
         break;
       case PREFIX_TREE:
+      case PERSISTENT_PREFIX_TREE:
         fileHashCacheEngine =
             FileSystemMapFileHashCache.createWithStats(hashLoader, sizeLoader, projectFilesystem);
         break;
@@ -131,7 +139,9 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   public static DefaultFileHashCache createBuckOutFileHashCache(
       ProjectFilesystem projectFilesystem, FileHashCacheMode fileHashCacheMode) {
     return new DefaultFileHashCache(
-        projectFilesystem, (path) -> !isInBuckOut(projectFilesystem, path), fileHashCacheMode);
+        projectFilesystem,
+        (path) -> !isInBuckOut(projectFilesystem, path),
+        withoutPersistence(fileHashCacheMode));
   }
 
   public static DefaultFileHashCache createDefaultFileHashCache(
@@ -181,12 +191,23 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
       // rules (e.g. /usr/bin/gcc), and only serves to prevent rehashing the same file
       // multiple times in a single run.
       allCaches.add(
-          DefaultFileHashCache.createDefaultFileHashCache(projectFilesystem, fileHashCacheMode));
+          DefaultFileHashCache.createDefaultFileHashCache(
+              projectFilesystem, withoutPersistence(fileHashCacheMode)));
     }
 
     return allCaches.build();
   }
 
+  /**
+   * Build outputs churn too much to be worth persisting, and there's no buck-out to persist hashes
+   * of files outside of a project into.
+   */
+  private static FileHashCacheMode withoutPersistence(FileHashCacheMode fileHashCacheMode) {
+    return fileHashCacheMode == FileHashCacheMode.PERSISTENT_PREFIX_TREE
+        ? FileHashCacheMode.PREFIX_TREE
+        : fileHashCacheMode;
+  }
+
   private void checkNotIgnored(Path relativePath) {
     if (SHOULD_CHECK_IGNORED_PATHS) {
       Preconditions.checkArgument(!projectFilesystem.isIgnored(relativePath));
@@ -205,7 +226,20 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   }
 
   private HashCode getFileHashCode(Path path) throws IOException {
-    return projectFilesystem.computeSha1(path).asHashCode();
+    if (!persistentStore.isPresent()) {
+      return projectFilesystem.computeSha1(path).asHashCode();
+    }
+    // Read the attributes before the contents, so that a concurrent modification can only make the
+    // recorded entry look stale, never make a stale hash look current.
+    BasicFileAttributes attributes =
+        projectFilesystem.readAttributes(path, BasicFileAttributes.class);
+    Optional<HashCode> persisted = persistentStore.get().get(path, attributes);
+    if (persisted.isPresent()) {
+      return persisted.get();
+    }
+    HashCode hashCode = projectFilesystem.computeSha1(path).asHashCode();
+    persistentStore.get().put(path, attributes, hashCode);
+    return hashCode;
   }
 
   private long getPathSize(Path path) throws IOException {
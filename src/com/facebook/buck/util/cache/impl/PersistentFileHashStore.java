@@ -0,0 +1,311 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache.impl;
+
+import com.facebook.buck.core.util.log.Logger;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk, memory-mapped table of file content hashes which outlives the process, so that a
+ * freshly started daemon doesn't need to re-hash every source file in the repo.
+ *
+ * <p>The table is an open addressing hash table of fixed size records keyed by the hash of the
+ * relative path. Each record also stores the mtime, size and file key (inode) of the file at the
+ * time it was hashed, and is only trusted if all of them still match. Nothing is deserialized up
+ * front: lookups probe the mapping directly, so opening the store is O(1) regardless of its size.
+ */
+class PersistentFileHashStore {
+
+  private static final Logger LOG = Logger.get(PersistentFileHashStore.class);
+
+  private static final String FILE_NAME = "file_hashes.bin";
+
+  private static final int MAGIC = 0xB0C4F11E;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 64;
+
+  // Record layout: path key, mtime, size, file key, sha1, crc32 of the preceding bytes, padding.
+  private static final int RECORD_SIZE = 64;
+  private static final int PATH_KEY_OFFSET = 0;
+  private static final int MTIME_OFFSET = 8;
+  private static final int SIZE_OFFSET = 16;
+  private static final int FILE_KEY_OFFSET = 24;
+  private static final int HASH_OFFSET = 32;
+  private static final int HASH_SIZE = 20;
+  private static final int CHECKSUM_OFFSET = HASH_OFFSET + HASH_SIZE;
+
+  private static final int INITIAL_CAPACITY = 1 << 16;
+  private static final int MAX_CAPACITY = 1 << 23;
+  private static final int MAX_PROBES = 32;
+
+  /**
+   * Files modified this recently are not persisted: a later write within the same mtime tick and
+   * with the same size would otherwise be indistinguishable from the recorded one.
+   */
+  private static final long RACY_MTIME_WINDOW_MILLIS = 2000;
+
+  /** One store per buck-out, shared by every cache that hashes files of the same filesystem. */
+  private static final ConcurrentMap<Path, Optional<PersistentFileHashStore>> STORES =
+      new ConcurrentHashMap<>();
+
+  private final Path storePath;
+  private FileChannel channel;
+  private MappedByteBuffer buffer;
+  private int capacity;
+  private int count;
+
+  private PersistentFileHashStore(Path storePath) throws IOException {
+    this.storePath = storePath;
+    open();
+  }
+
+  /**
+   * @return the store living in the buck-out of the given filesystem, or empty if it can't be
+   *     memory-mapped (e.g. in-memory filesystems).
+   */
+  static Optional<PersistentFileHashStore> forFilesystem(ProjectFilesystem filesystem) {
+    Path storePath =
+        filesystem.resolve(filesystem.getBuckPaths().getBuckOut()).resolve(FILE_NAME);
+    return STORES.computeIfAbsent(
+        storePath,
+        path -> {
+          try {
+            Files.createDirectories(path.getParent());
+            return Optional.of(new PersistentFileHashStore(path));
+          } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn(e, "Unable to open persistent file hash cache at %s.", path);
+            return Optional.empty();
+          }
+        });
+  }
+
+  @VisibleForTesting
+  static PersistentFileHashStore open(Path storePath) throws IOException {
+    return new PersistentFileHashStore(storePath);
+  }
+
+  private void open() throws IOException {
+    channel =
+        FileChannel.open(
+            storePath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    if (channel.size() >= HEADER_SIZE) {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      capacity = buffer.getInt(8);
+      if (buffer.getInt(0) == MAGIC
+          && buffer.getInt(4) == VERSION
+          && capacity > 0
+          && Integer.bitCount(capacity) == 1
+          && channel.size() == HEADER_SIZE + (long) capacity * RECORD_SIZE) {
+        count = buffer.getInt(12);
+        LOG.debug("Loaded persistent file hash cache with %d entries from %s.", count, storePath);
+        return;
+      }
+      LOG.warn("Discarding invalid persistent file hash cache at %s.", storePath);
+    }
+    initialize(channel, INITIAL_CAPACITY);
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+    capacity = INITIAL_CAPACITY;
+    count = 0;
+  }
+
+  private static void initialize(FileChannel channel, int capacity) throws IOException {
+    channel.truncate(0);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putInt(VERSION).putInt(capacity).putInt(0);
+    header.position(0);
+    channel.write(header, 0);
+    // Extending the file leaves a (sparse) zero filled table, i.e. all slots empty.
+    channel.write(ByteBuffer.allocate(1), HEADER_SIZE + (long) capacity * RECORD_SIZE - 1);
+  }
+
+  /**
+   * @return the recorded hash of the file, if it was recorded with the same attributes as it
+   *     currently has.
+   */
+  synchronized Optional<HashCode> get(Path relativePath, BasicFileAttributes attributes) {
+    long pathKey = pathKey(relativePath);
+    int slot = findSlot(pathKey);
+    if (slot == -1) {
+      return Optional.empty();
+    }
+    int offset = offsetOf(slot);
+    if (buffer.getLong(offset + PATH_KEY_OFFSET) != pathKey
+        || buffer.getLong(offset + MTIME_OFFSET) != attributes.lastModifiedTime().toMillis()
+        || buffer.getLong(offset + SIZE_OFFSET) != attributes.size()
+        || buffer.getLong(offset + FILE_KEY_OFFSET) != fileKey(attributes)
+        || buffer.getInt(offset + CHECKSUM_OFFSET) != checksum(offset)) {
+      return Optional.empty();
+    }
+    byte[] hash = new byte[HASH_SIZE];
+    for (int i = 0; i < HASH_SIZE; i++) {
+      hash[i] = buffer.get(offset + HASH_OFFSET + i);
+    }
+    return Optional.of(HashCode.fromBytes(hash));
+  }
+
+  /** Records the hash of a file with the given attributes. */
+  synchronized void put(Path relativePath, BasicFileAttributes attributes, HashCode hashCode) {
+    long mtime = attributes.lastModifiedTime().toMillis();
+    if (hashCode.bits() != HASH_SIZE * 8
+        || System.currentTimeMillis() - mtime < RACY_MTIME_WINDOW_MILLIS) {
+      return;
+    }
+    long pathKey = pathKey(relativePath);
+    int slot = findSlot(pathKey);
+    if ((slot == -1 || count >= capacity / 2) && capacity < MAX_CAPACITY) {
+      try {
+        resize(capacity * 2);
+      } catch (IOException e) {
+        LOG.warn(e, "Unable to grow persistent file hash cache at %s.", storePath);
+      }
+      slot = findSlot(pathKey);
+    }
+    if (slot == -1) {
+      // The probe window is full: evict the entry in the home slot.
+      slot = homeSlot(pathKey);
+    } else if (buffer.getLong(offsetOf(slot) + PATH_KEY_OFFSET) == 0) {
+      count++;
+      buffer.putInt(12, count);
+    }
+    writeRecord(buffer, offsetOf(slot), pathKey, mtime, attributes.size(), fileKey(attributes));
+    byte[] hash = hashCode.asBytes();
+    for (int i = 0; i < HASH_SIZE; i++) {
+      buffer.put(offsetOf(slot) + HASH_OFFSET + i, hash[i]);
+    }
+    buffer.putInt(offsetOf(slot) + CHECKSUM_OFFSET, checksum(offsetOf(slot)));
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return count;
+  }
+
+  private static void writeRecord(
+      ByteBuffer buffer, int offset, long pathKey, long mtime, long size, long fileKey) {
+    buffer.putLong(offset + PATH_KEY_OFFSET, pathKey);
+    buffer.putLong(offset + MTIME_OFFSET, mtime);
+    buffer.putLong(offset + SIZE_OFFSET, size);
+    buffer.putLong(offset + FILE_KEY_OFFSET, fileKey);
+  }
+
+  /** @return the slot holding {@code pathKey} or the first empty slot, or -1 if neither. */
+  private int findSlot(long pathKey) {
+    int home = homeSlot(pathKey);
+    for (int probe = 0; probe < MAX_PROBES; probe++) {
+      int slot = (home + probe) & (capacity - 1);
+      long key = buffer.getLong(offsetOf(slot) + PATH_KEY_OFFSET);
+      if (key == pathKey || key == 0) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  private int homeSlot(long pathKey) {
+    return (int) (pathKey ^ (pathKey >>> 32)) & (capacity - 1);
+  }
+
+  private static int offsetOf(int slot) {
+    return HEADER_SIZE + slot * RECORD_SIZE;
+  }
+
+  private int checksum(int offset) {
+    ByteBuffer record = buffer.duplicate();
+    record.position(offset);
+    record.limit(offset + CHECKSUM_OFFSET);
+    CRC32 crc = new CRC32();
+    crc.update(record);
+    return (int) crc.getValue();
+  }
+
+  /** Rehashes every record into a new table, which atomically replaces the current one. */
+  private void resize(int newCapacity) throws IOException {
+    Path tmpPath = storePath.resolveSibling(FILE_NAME + ".tmp");
+    try (FileChannel newChannel =
+        FileChannel.open(
+            tmpPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      initialize(newChannel, newCapacity);
+      MappedByteBuffer oldBuffer = buffer;
+      int oldCapacity = capacity;
+      buffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, newChannel.size());
+      capacity = newCapacity;
+      count = 0;
+      for (int slot = 0; slot < oldCapacity; slot++) {
+        int oldOffset = offsetOf(slot);
+        long pathKey = oldBuffer.getLong(oldOffset + PATH_KEY_OFFSET);
+        int newSlot = pathKey == 0 ? -1 : findSlot(pathKey);
+        if (newSlot == -1) {
+          continue;
+        }
+        for (int i = 0; i < RECORD_SIZE; i++) {
+          buffer.put(offsetOf(newSlot) + i, oldBuffer.get(oldOffset + i));
+        }
+        count++;
+      }
+      buffer.putInt(12, count);
+      buffer.force();
+    }
+    Files.move(tmpPath, storePath, StandardCopyOption.REPLACE_EXISTING);
+    channel.close();
+    channel =
+        FileChannel.open(storePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    LOG.debug("Grew persistent file hash cache at %s to %d slots.", storePath, capacity);
+  }
+
+  private static long pathKey(Path relativePath) {
+    long key =
+        Hashing.murmur3_128()
+            .hashString(relativePath.toString(), StandardCharsets.UTF_8)
+            .asLong();
+    // Zero marks an empty slot.
+    return key == 0 ? 1 : key;
+  }
+
+  private static long fileKey(BasicFileAttributes attributes) {
+    @Nullable Object fileKey = attributes.fileKey();
+    return fileKey == null
+        ? 0
+        : Hashing.murmur3_128()
+            .hashString(Objects.toString(fileKey), StandardCharsets.UTF_8)
+            .asLong();
+  }
+}
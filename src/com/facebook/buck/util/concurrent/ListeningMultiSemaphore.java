@@ -20,19 +20,36 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 /**
  * A semaphore using {@link ListenableFuture}s for acquisition of different resource types rather
  * than blocking.
+ *
+ * <p>Pending acquisitions are granted in order of priority, and in order of arrival among
+ * acquisitions of the same priority.
  */
 public class ListeningMultiSemaphore {
 
+  /**
+   * Priority of acquisitions that don't specify one. It is the highest priority, so that tasks
+   * which don't take part in prioritization are never held back by the ones that do.
+   */
+  public static final long DEFAULT_PRIORITY = Long.MAX_VALUE;
+
+  private static final Comparator<ListeningSemaphoreArrayPendingItem> PENDING_ORDER =
+      Comparator.comparingLong(ListeningSemaphoreArrayPendingItem::getPriority)
+          .reversed()
+          .thenComparingLong(ListeningSemaphoreArrayPendingItem::getSequence);
+
   private ResourceAmounts usedValues;
   private final ResourceAmounts maximumValues;
-  private final List<ListeningSemaphoreArrayPendingItem> pending = new LinkedList<>();
+  private final NavigableSet<ListeningSemaphoreArrayPendingItem> pending =
+      new TreeSet<>(PENDING_ORDER);
+  private long pendingSequence = 0;
   private final ResourceAllocationFairness fairness;
 
   public ListeningMultiSemaphore(
@@ -52,7 +69,15 @@ public class ListeningMultiSemaphore {
    *     amounts, they will be capped to them.
    * @return Future that will be completed once resource will be acquired.
    */
-  public synchronized ListenableFuture<Void> acquire(ResourceAmounts resources) {
+  public ListenableFuture<Void> acquire(ResourceAmounts resources) {
+    return acquire(resources, DEFAULT_PRIORITY);
+  }
+
+  /**
+   * Like {@link #acquire(ResourceAmounts)}, but if the resources aren't available right away, the
+   * acquisition waits ahead of all pending acquisitions with a lower {@code priority}.
+   */
+  public synchronized ListenableFuture<Void> acquire(ResourceAmounts resources, long priority) {
     if (resources.equals(ResourceAmounts.zero())) {
       return Futures.immediateFuture(null);
     }
@@ -60,7 +85,9 @@ public class ListeningMultiSemaphore {
     resources = capResourceAmounts(resources);
     if (!checkIfResourcesAvailable(resources)) {
       SettableFuture<Void> pendingFuture = SettableFuture.create();
-      pending.add(ListeningSemaphoreArrayPendingItem.of(pendingFuture, resources));
+      pending.add(
+          ListeningSemaphoreArrayPendingItem.of(
+              pendingFuture, resources, priority, pendingSequence++));
       return pendingFuture;
     }
     increaseUsedResources(resources);
@@ -77,6 +77,33 @@ public class MostExecutors {
         /* handler */ new ThreadPoolExecutor.DiscardPolicy());
   }
 
+  /**
+   * Creates a single threaded executor that holds at most {@code queueCapacity} pending tasks.
+   * Submitting a task while the queue is full blocks until there is room, which bounds the memory
+   * used when tasks are submitted faster than they are executed. Tasks submitted after shutdown are
+   * silently discarded.
+   */
+  public static ExecutorService newBoundedSingleThreadExecutor(
+      ThreadFactory threadFactory, int queueCapacity) {
+    return new ThreadPoolExecutor(
+        /* corePoolSize */ 1,
+        /* maximumPoolSize */ 1,
+        /* keepAliveTime */ 0L,
+        TimeUnit.MILLISECONDS,
+        /* workQueue */ new LinkedBlockingQueue<Runnable>(queueCapacity),
+        /* threadFactory */ threadFactory,
+        /* handler */ (task, executor) -> {
+          if (executor.isShutdown()) {
+            return;
+          }
+          try {
+            executor.getQueue().put(task);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
+
   /**
    * Creates a multi-threaded executor with meaningfully named threads.
    *
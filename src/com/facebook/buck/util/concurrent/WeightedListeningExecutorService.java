@@ -37,14 +37,24 @@ import javax.annotation.Nullable;
 public class WeightedListeningExecutorService extends AbstractListeningExecutorService {
   private final ListeningMultiSemaphore semaphore;
   private final ResourceAmounts defaultValues;
+  private final long defaultPriority;
   private final ListeningExecutorService delegate;
 
   public WeightedListeningExecutorService(
       ListeningMultiSemaphore semaphore,
       ResourceAmounts defaultValues,
       ListeningExecutorService delegate) {
+    this(semaphore, defaultValues, ListeningMultiSemaphore.DEFAULT_PRIORITY, delegate);
+  }
+
+  private WeightedListeningExecutorService(
+      ListeningMultiSemaphore semaphore,
+      ResourceAmounts defaultValues,
+      long defaultPriority,
+      ListeningExecutorService delegate) {
     this.semaphore = semaphore;
     this.defaultValues = defaultValues;
+    this.defaultPriority = defaultPriority;
     this.delegate = delegate;
   }
 
@@ -61,14 +71,31 @@ public class WeightedListeningExecutorService extends AbstractListeningExecutorS
     if (newDefaultAmounts.equals(defaultValues)) {
       return this;
     }
-    return new WeightedListeningExecutorService(semaphore, newDefaultAmounts, delegate);
+    return new WeightedListeningExecutorService(
+        semaphore, newDefaultAmounts, defaultPriority, delegate);
+  }
+
+  /**
+   * Creates a new service whose tasks wait for resources ahead of the waiting tasks of lower
+   * priority. See {@link ListeningMultiSemaphore#acquire(ResourceAmounts, long)}.
+   *
+   * @param newDefaultPriority priority of the tasks submitted through the new service
+   * @return Service that uses the same semaphore, delegate and default resource amounts but with
+   *     the given priority.
+   */
+  public WeightedListeningExecutorService withDefaultPriority(long newDefaultPriority) {
+    if (newDefaultPriority == defaultPriority) {
+      return this;
+    }
+    return new WeightedListeningExecutorService(
+        semaphore, defaultValues, newDefaultPriority, delegate);
   }
 
   private <T> ListenableFuture<T> submitWithSemaphore(
       Callable<T> callable, ResourceAmounts amounts) {
     ListenableFuture<T> future =
         Futures.transformAsync(
-            semaphore.acquire(amounts),
+            semaphore.acquire(amounts, defaultPriority),
             input -> {
               try {
                 return Futures.immediateFuture(callable.call());
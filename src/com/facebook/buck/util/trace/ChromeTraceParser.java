@@ -18,12 +18,17 @@ package com.facebook.buck.util.trace;
 
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,6 +36,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Event-driven parser for <a
@@ -71,6 +77,9 @@ public class ChromeTraceParser {
         return Optional.of(command);
       };
 
+  private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+  private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
   private final ProjectFilesystem projectFilesystem;
 
   public ChromeTraceParser(ProjectFilesystem projectFilesystem) {
@@ -83,7 +92,8 @@ public class ChromeTraceParser {
    * into memory.
    *
    * @param pathToTrace is a relative path [to the ProjectFilesystem] to a Chrome trace in the "JSON
-   *     Array Format."
+   *     Array Format" or in the format written by {@link CompactChromeTraceWriter}, either of which
+   *     may be gzipped.
    * @param chromeTraceEventMatchers set of matchers this invocation of {@code parse()} is trying to
    *     satisfy. Once a matcher finds a match, it will not consider any other events in the trace.
    * @return a {@code Map} where every matcher that found a match will have an entry whose key is
@@ -97,42 +107,108 @@ public class ChromeTraceParser {
     Preconditions.checkArgument(!unmatchedMatchers.isEmpty(), "Must specify at least one matcher");
     Map<ChromeTraceEventMatcher<?>, Object> results = new HashMap<>();
 
-    try (InputStream input = projectFilesystem.newFileInputStream(pathToTrace);
-        MappingIterator<ImmutableMap<String, Object>> it =
-            ObjectMappers.READER
-                .forType(new TypeReference<ImmutableMap<String, Object>>() {})
-                .readValues(input)) {
-      featureSearch:
-      while (it.hasNext()) {
-        // Verify and extract the name property before invoking any of the matchers.
-        ImmutableMap<String, Object> event = it.next();
-        Object nameEl = event.get("name");
-        if (!(nameEl instanceof String)) {
-          continue;
-        }
-        String name = (String) nameEl;
-
-        // Prefer Iterator to Iterable+foreach so we can use remove().
-        for (Iterator<ChromeTraceEventMatcher<?>> iter = unmatchedMatchers.iterator();
-            iter.hasNext(); ) {
-          ChromeTraceEventMatcher<?> chromeTraceEventMatcher = iter.next();
-          Optional<?> result = chromeTraceEventMatcher.test(event, name);
-          if (result.isPresent()) {
-            iter.remove();
-            results.put(chromeTraceEventMatcher, result.get());
-
-            if (unmatchedMatchers.isEmpty()) {
-              break featureSearch;
+    try (InputStream input = projectFilesystem.newFileInputStream(pathToTrace)) {
+      visitEvents(
+          input,
+          event -> {
+            // Verify and extract the name property before invoking any of the matchers.
+            Object nameEl = event.get("name");
+            if (!(nameEl instanceof String)) {
+              return true;
             }
-          }
-        }
-      }
+            String name = (String) nameEl;
+
+            // Prefer Iterator to Iterable+foreach so we can use remove().
+            for (Iterator<ChromeTraceEventMatcher<?>> iter = unmatchedMatchers.iterator();
+                iter.hasNext(); ) {
+              ChromeTraceEventMatcher<?> chromeTraceEventMatcher = iter.next();
+              Optional<?> result = chromeTraceEventMatcher.test(event, name);
+              if (result.isPresent()) {
+                iter.remove();
+                results.put(chromeTraceEventMatcher, result.get());
+              }
+            }
+            return !unmatchedMatchers.isEmpty();
+          });
     }
 
     // We could throw if !unmatchedMatchers.isEmpty(), but that might be overbearing.
     return results;
   }
 
+  /**
+   * Writes a Chrome trace in any of the formats {@link #parse(Path, Set)} accepts as an
+   * uncompressed trace in the "JSON Array Format", which is what chrome://tracing expects. This is
+   * how traces written in the compact format are meant to be viewed.
+   *
+   * @param pathToTrace is a relative path [to the ProjectFilesystem] to a Chrome trace.
+   * @param output stream to write the JSON to. It is flushed but not closed.
+   */
+  public void convertToJson(Path pathToTrace, OutputStream output) throws IOException {
+    JsonGenerator generator = ObjectMappers.createGenerator(output);
+    generator.writeStartArray();
+    try (InputStream input = projectFilesystem.newFileInputStream(pathToTrace)) {
+      visitEvents(
+          input,
+          event -> {
+            ObjectMappers.WRITER.writeValue(generator, event);
+            return true;
+          });
+    }
+    generator.writeEndArray();
+    generator.flush();
+  }
+
+  /**
+   * Feeds the events of a JSON or compact trace, optionally gzipped, to {@code visitor} one at a
+   * time, until there are no more events or the visitor returns false.
+   */
+  private static void visitEvents(InputStream input, EventVisitor visitor) throws IOException {
+    InputStream stream = new BufferedInputStream(input);
+    stream.mark(2);
+    if (stream.read() == GZIP_MAGIC_FIRST_BYTE && stream.read() == GZIP_MAGIC_SECOND_BYTE) {
+      stream.reset();
+      stream = new BufferedInputStream(new GZIPInputStream(stream));
+    } else {
+      stream.reset();
+    }
+
+    stream.mark(4);
+    DataInputStream data = new DataInputStream(stream);
+    int magic;
+    try {
+      magic = data.readInt();
+    } catch (EOFException e) {
+      magic = 0;
+    }
+    if (magic == CompactChromeTraceWriter.MAGIC) {
+      CompactChromeTraceReader reader = new CompactChromeTraceReader(data);
+      while (true) {
+        ImmutableMap<String, Object> event = reader.readEvent();
+        if (event == null || !visitor.visit(event)) {
+          return;
+        }
+      }
+    }
+
+    stream.reset();
+    try (MappingIterator<ImmutableMap<String, Object>> it =
+        ObjectMappers.READER
+            .forType(new TypeReference<ImmutableMap<String, Object>>() {})
+            .readValues(stream)) {
+      while (it.hasNext()) {
+        if (!visitor.visit(it.next())) {
+          return;
+        }
+      }
+    }
+  }
+
+  private interface EventVisitor {
+    /** @return whether to keep visiting events. */
+    boolean visit(ImmutableMap<String, Object> event) throws IOException;
+  }
+
   /**
    * Designed for use with the result of {@link ChromeTraceParser#parse(Path, Set)}. Helper function
    * to avoid some distasteful casting logic.
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import com.facebook.buck.util.json.ObjectMappers;
+import com.google.common.collect.ImmutableMap;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Reads traces written by {@link CompactChromeTraceWriter}, returning every event as the map the
+ * equivalent JSON trace event would be parsed into.
+ */
+class CompactChromeTraceReader {
+
+  private final DataInputStream in;
+  private final List<String> stringTable = new ArrayList<>();
+  private long previousMicroTime = 0;
+
+  /** @param stream positioned right after the magic number of the trace. */
+  CompactChromeTraceReader(InputStream stream) throws IOException {
+    this.in = new DataInputStream(stream);
+    int version = in.readInt();
+    if (version != CompactChromeTraceWriter.VERSION) {
+      throw new IOException("Unsupported compact trace version " + version);
+    }
+  }
+
+  /**
+   * @return the next event, or null at the end of the trace. A trace that was cut short, e.g.
+   *     because Buck was killed while writing it, ends after its last complete event.
+   */
+  @Nullable
+  ImmutableMap<String, Object> readEvent() throws IOException {
+    int record;
+    try {
+      record = in.readUnsignedByte();
+    } catch (EOFException e) {
+      return null;
+    }
+    if (record == CompactChromeTraceWriter.END_OF_TRACE) {
+      return null;
+    }
+    if (record != CompactChromeTraceWriter.EVENT) {
+      throw new IOException("Unexpected record type " + record);
+    }
+
+    try {
+      ImmutableMap.Builder<String, Object> event = ImmutableMap.builder();
+      putIfNotNull(event, "cat", readString());
+      putIfNotNull(event, "name", readString());
+      putIfNotNull(event, "ph", readString());
+      event.put("pid", narrow(readSignedVarLong()));
+      event.put("tid", narrow(readSignedVarLong()));
+      previousMicroTime += readSignedVarLong();
+      event.put("ts", narrow(previousMicroTime));
+      event.put("tts", narrow(readSignedVarLong()));
+      long argsSize = readVarLong();
+      if (argsSize > 0) {
+        // Argument values may be null, which immutable maps don't allow.
+        Map<String, Object> args = new LinkedHashMap<>();
+        for (long i = 1; i < argsSize; i++) {
+          args.put(readString(), readValue());
+        }
+        event.put("args", Collections.unmodifiableMap(args));
+      }
+      return event.build();
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private Object readValue() throws IOException {
+    int type = in.readUnsignedByte();
+    switch (type) {
+      case CompactChromeTraceWriter.NULL_VALUE:
+        return null;
+      case CompactChromeTraceWriter.FALSE_VALUE:
+        return false;
+      case CompactChromeTraceWriter.TRUE_VALUE:
+        return true;
+      case CompactChromeTraceWriter.LONG_VALUE:
+        return narrow(readSignedVarLong());
+      case CompactChromeTraceWriter.DOUBLE_VALUE:
+        return in.readDouble();
+      case CompactChromeTraceWriter.STRING_VALUE:
+        return readString();
+      case CompactChromeTraceWriter.JSON_VALUE:
+        return ObjectMappers.readValue(readLiteral(), Object.class);
+      default:
+        throw new IOException("Unexpected value type " + type);
+    }
+  }
+
+  @Nullable
+  private String readString() throws IOException {
+    long encoding = readVarLong();
+    if (encoding == CompactChromeTraceWriter.NULL_STRING) {
+      return null;
+    } else if (encoding == CompactChromeTraceWriter.NEW_STRING) {
+      String string = readLiteral();
+      stringTable.add(string);
+      return string;
+    } else if (encoding == CompactChromeTraceWriter.LITERAL_STRING) {
+      return readLiteral();
+    }
+    long index = encoding - CompactChromeTraceWriter.STRING_REFERENCE;
+    if (index >= stringTable.size()) {
+      throw new IOException("Invalid string reference " + index);
+    }
+    return stringTable.get((int) index);
+  }
+
+  private String readLiteral() throws IOException {
+    long length = readVarLong();
+    if (length > Integer.MAX_VALUE) {
+      throw new IOException("Invalid string length " + length);
+    }
+    byte[] bytes = new byte[(int) length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private long readSignedVarLong() throws IOException {
+    long value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable length number");
+  }
+
+  /** Returns numbers with the same types a JSON parser would use. */
+  private static Number narrow(long value) {
+    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+      return (int) value;
+    }
+    return value;
+  }
+
+  private static void putIfNotNull(
+      ImmutableMap.Builder<String, Object> builder, String key, @Nullable Object value) {
+    if (value != null) {
+      builder.put(key, value);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import com.facebook.buck.util.json.ObjectMappers;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Writes Chrome trace events in a compact binary format, which is much cheaper to produce and
+ * smaller than the JSON format. {@link ChromeTraceParser} reads traces in either format and can
+ * convert compact traces to JSON for chrome://tracing.
+ *
+ * <p>A compact trace is a header followed by event records and an end marker. Integers are written
+ * as variable length quantities (zig-zag encoded when they may be negative), timestamps as the
+ * difference to the previous event's, and strings are written once and then referred to by their
+ * index in a string table, so the categories, names and argument keys repeated throughout a build
+ * trace take a byte or two each.
+ */
+public class CompactChromeTraceWriter implements Closeable {
+
+  static final int MAGIC = 0x42435452; // "BCTR"
+  static final int VERSION = 1;
+
+  static final int END_OF_TRACE = 0;
+  static final int EVENT = 1;
+
+  // String encodings. Any other value is a string table index plus STRING_REFERENCE.
+  static final int NULL_STRING = 0;
+  static final int NEW_STRING = 1;
+  static final int LITERAL_STRING = 2;
+  static final int STRING_REFERENCE = 3;
+
+  // Argument value types.
+  static final int NULL_VALUE = 0;
+  static final int FALSE_VALUE = 1;
+  static final int TRUE_VALUE = 2;
+  static final int LONG_VALUE = 3;
+  static final int DOUBLE_VALUE = 4;
+  static final int STRING_VALUE = 5;
+  static final int JSON_VALUE = 6;
+
+  /** Long strings are hardly ever repeated, so they don't get a string table entry. */
+  static final int MAX_INTERNED_STRING_LENGTH = 256;
+
+  static final int MAX_STRING_TABLE_SIZE = 1 << 16;
+
+  private final DataOutputStream out;
+  private final Map<String, Integer> stringTable = new HashMap<>();
+  private long previousMicroTime = 0;
+
+  public CompactChromeTraceWriter(OutputStream stream) {
+    // Each field is a few bytes, which would otherwise reach a compressing stream one at a time.
+    this.out = new DataOutputStream(new BufferedOutputStream(stream));
+  }
+
+  /** Must be called prior to writing the first event. */
+  public void writeStart() throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+  }
+
+  /**
+   * Writes a single event. The parameters are the fields of a JSON trace event, {@code args}
+   * values of types other than strings, numbers and booleans are stored as JSON.
+   */
+  public void writeEvent(
+      @Nullable String category,
+      @Nullable String name,
+      @Nullable String phase,
+      long processId,
+      long threadId,
+      long microTime,
+      long microThreadUserTime,
+      @Nullable Map<String, ?> args)
+      throws IOException {
+    out.writeByte(EVENT);
+    writeString(category);
+    writeString(name);
+    writeString(phase);
+    writeSignedVarLong(processId);
+    writeSignedVarLong(threadId);
+    writeSignedVarLong(microTime - previousMicroTime);
+    writeSignedVarLong(microThreadUserTime);
+    previousMicroTime = microTime;
+    if (args == null) {
+      writeVarLong(0);
+      return;
+    }
+    writeVarLong(args.size() + 1);
+    for (Map.Entry<String, ?> arg : args.entrySet()) {
+      writeString(arg.getKey());
+      writeValue(arg.getValue());
+    }
+  }
+
+  /** Must be called after all events to mark the trace as complete. */
+  public void writeEnd() throws IOException {
+    out.writeByte(END_OF_TRACE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  private void writeValue(@Nullable Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL_VALUE);
+    } else if (value instanceof Boolean) {
+      out.writeByte((Boolean) value ? TRUE_VALUE : FALSE_VALUE);
+    } else if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      out.writeByte(LONG_VALUE);
+      writeSignedVarLong(((Number) value).longValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      out.writeByte(DOUBLE_VALUE);
+      out.writeDouble(((Number) value).doubleValue());
+    } else if (value instanceof String) {
+      out.writeByte(STRING_VALUE);
+      writeString((String) value);
+    } else {
+      out.writeByte(JSON_VALUE);
+      writeLiteral(ObjectMappers.WRITER.writeValueAsString(value));
+    }
+  }
+
+  private void writeString(@Nullable String string) throws IOException {
+    if (string == null) {
+      writeVarLong(NULL_STRING);
+      return;
+    }
+    Integer index = stringTable.get(string);
+    if (index != null) {
+      writeVarLong(index + STRING_REFERENCE);
+    } else if (string.length() <= MAX_INTERNED_STRING_LENGTH
+        && stringTable.size() < MAX_STRING_TABLE_SIZE) {
+      stringTable.put(string, stringTable.size());
+      writeVarLong(NEW_STRING);
+      writeLiteral(string);
+    } else {
+      writeVarLong(LITERAL_STRING);
+      writeLiteral(string);
+    }
+  }
+
+  private void writeLiteral(String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    writeVarLong(bytes.length);
+    out.write(bytes);
+  }
+
+  private void writeSignedVarLong(long value) throws IOException {
+    writeVarLong((value << 1) ^ (value >> 63));
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+}
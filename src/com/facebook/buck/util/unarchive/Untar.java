@@ -26,7 +26,9 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -49,15 +51,29 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
 public class Untar extends Unarchiver {
 
   private final Optional<String> compressorType;
+  private final boolean detectCompressorType;
 
   private Untar(Optional<String> compressorType) {
+    this(compressorType, false);
+  }
+
+  private Untar(Optional<String> compressorType, boolean detectCompressorType) {
     this.compressorType = compressorType;
+    this.detectCompressorType = detectCompressorType;
   }
 
   public static Untar tarUnarchiver() {
     return new Untar(Optional.empty());
   }
 
+  /**
+   * @return an unarchiver for tar archives that are either uncompressed or compressed with one of
+   *     the compressors that start their streams with a signature, e.g. gzip, xz, zstd or lz4.
+   */
+  public static Untar detectingUnarchiver() {
+    return new Untar(Optional.empty(), true);
+  }
+
   public static Untar bzip2Unarchiver() {
     return new Untar(Optional.of(CompressorStreamFactory.BZIP2));
   }
@@ -93,6 +109,37 @@ public class Untar extends Unarchiver {
         Platform.detect() == Platform.WINDOWS);
   }
 
+  /**
+   * Extracts a tar archive as it is read from {@code archiveStream}, e.g. while it is being
+   * downloaded, under {@code filesystemRelativePath}. The stream is not closed, and is not
+   * necessarily read past the end of the archive.
+   *
+   * @return the paths of the files, symlinks and directories that were extracted.
+   */
+  public ImmutableSet<Path> extractArchive(
+      InputStream archiveStream, ProjectFilesystem filesystem, Path filesystemRelativePath)
+      throws IOException {
+    InputStream notClosedStream =
+        new FilterInputStream(archiveStream) {
+          @Override
+          public void close() {}
+        };
+    try (TarArchiveInputStream tarStream =
+        getArchiveInputStream(new BufferedInputStream(notClosedStream))) {
+      return extractEntries(
+          tarStream,
+          filesystem,
+          filesystemRelativePath,
+          Optional.empty(),
+          ExistingFileMode.OVERWRITE,
+          PatternsMatcher.EMPTY,
+          Platform.detect() == Platform.WINDOWS,
+          true);
+    } catch (CompressorException e) {
+      throw new IOException("Could not get decompressor for archive stream", e);
+    }
+  }
+
   @VisibleForTesting
   ImmutableSet<Path> extractArchive(
       Path archiveFile,
@@ -103,6 +150,33 @@ public class Untar extends Unarchiver {
       PatternsMatcher entriesToExclude,
       boolean writeSymlinksAfterCreatingFiles)
       throws IOException {
+    try (TarArchiveInputStream archiveStream =
+        getArchiveInputStream(new BufferedInputStream(Files.newInputStream(archiveFile)))) {
+      return extractEntries(
+          archiveStream,
+          filesystem,
+          filesystemRelativePath,
+          stripPath,
+          existingFileMode,
+          entriesToExclude,
+          writeSymlinksAfterCreatingFiles,
+          false);
+    } catch (CompressorException e) {
+      throw new IOException(
+          String.format("Could not get decompressor for archive at %s", archiveFile), e);
+    }
+  }
+
+  private ImmutableSet<Path> extractEntries(
+      TarArchiveInputStream archiveStream,
+      ProjectFilesystem filesystem,
+      Path filesystemRelativePath,
+      Optional<Path> stripPath,
+      ExistingFileMode existingFileMode,
+      PatternsMatcher entriesToExclude,
+      boolean writeSymlinksAfterCreatingFiles,
+      boolean includeDirectories)
+      throws IOException {
 
     ImmutableSet.Builder<Path> paths = ImmutableSet.builder();
     HashSet<Path> dirsToTidy = new HashSet<>();
@@ -114,50 +188,47 @@ public class Untar extends Unarchiver {
     // all files are extracted, and /then/ try to do the links
     Map<Path, Path> windowsSymlinkMap = new HashMap<>();
 
-    try (TarArchiveInputStream archiveStream = getArchiveInputStream(archiveFile)) {
-      TarArchiveEntry entry;
-      while ((entry = archiveStream.getNextTarEntry()) != null) {
-        String entryName = entry.getName();
-        if (entriesToExclude.matchesAny(entryName)) {
+    TarArchiveEntry entry;
+    while ((entry = archiveStream.getNextTarEntry()) != null) {
+      String entryName = entry.getName();
+      if (entriesToExclude.matchesAny(entryName)) {
+        continue;
+      }
+      Path destFile = Paths.get(entryName);
+      Path destPath;
+      if (stripPath.isPresent()) {
+        if (!destFile.startsWith(stripPath.get())) {
           continue;
         }
-        Path destFile = Paths.get(entryName);
-        Path destPath;
-        if (stripPath.isPresent()) {
-          if (!destFile.startsWith(stripPath.get())) {
-            continue;
-          }
-          destPath =
-              filesystemRelativePath.resolve(stripPath.get().relativize(destFile)).normalize();
-        } else {
-          destPath = filesystemRelativePath.resolve(destFile).normalize();
-        }
+        destPath = filesystemRelativePath.resolve(stripPath.get().relativize(destFile)).normalize();
+      } else {
+        destPath = filesystemRelativePath.resolve(destFile).normalize();
+      }
 
-        if (entry.isDirectory()) {
-          dirsToTidy.add(destPath);
-          mkdirs(creator, destPath);
-          dirCreationTimes.put(destPath, entry.getModTime().getTime());
-        } else if (entry.isSymbolicLink()) {
-          if (writeSymlinksAfterCreatingFiles) {
-            recordSymbolicLinkForWindows(creator, destPath, entry, windowsSymlinkMap);
-          } else {
-            writeSymbolicLink(creator, destPath, entry);
-          }
+      if (entry.isDirectory()) {
+        dirsToTidy.add(destPath);
+        mkdirs(creator, destPath);
+        dirCreationTimes.put(destPath, entry.getModTime().getTime());
+        if (includeDirectories) {
           paths.add(destPath);
-          setAttributes(filesystem, destPath, entry);
-        } else if (entry.isFile()) {
-          writeFile(creator, archiveStream, destPath);
-          paths.add(destPath);
-          setAttributes(filesystem, destPath, entry);
         }
+      } else if (entry.isSymbolicLink()) {
+        if (writeSymlinksAfterCreatingFiles) {
+          recordSymbolicLinkForWindows(creator, destPath, entry, windowsSymlinkMap);
+        } else {
+          writeSymbolicLink(creator, destPath, entry);
+        }
+        paths.add(destPath);
+        setAttributes(filesystem, destPath, entry);
+      } else if (entry.isFile()) {
+        writeFile(creator, archiveStream, destPath);
+        paths.add(destPath);
+        setAttributes(filesystem, destPath, entry);
       }
-
-      writeWindowsSymlinks(creator, windowsSymlinkMap);
-    } catch (CompressorException e) {
-      throw new IOException(
-          String.format("Could not get decompressor for archive at %s", archiveFile), e);
     }
 
+    writeWindowsSymlinks(creator, windowsSymlinkMap);
+
     setDirectoryModificationTimes(filesystem, dirCreationTimes);
 
     ImmutableSet<Path> filePaths = paths.build();
@@ -168,9 +239,16 @@ public class Untar extends Unarchiver {
     return filePaths;
   }
 
-  private TarArchiveInputStream getArchiveInputStream(Path tarFile)
-      throws IOException, CompressorException {
-    BufferedInputStream inputStream = new BufferedInputStream(Files.newInputStream(tarFile));
+  private TarArchiveInputStream getArchiveInputStream(BufferedInputStream inputStream)
+      throws CompressorException {
+    Optional<String> compressorType = this.compressorType;
+    if (detectCompressorType) {
+      try {
+        compressorType = Optional.of(CompressorStreamFactory.detect(inputStream));
+      } catch (CompressorException e) {
+        // No known signature, so this is a plain tar archive.
+      }
+    }
     if (compressorType.isPresent()) {
       return new TarArchiveInputStream(
           new CompressorStreamFactory()
@@ -25,6 +25,7 @@ import com.facebook.buck.core.model.targetgraph.TargetNode;
 import com.facebook.buck.core.model.targetgraph.impl.TargetNodes;
 import com.facebook.buck.core.util.log.Logger;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.util.types.Pair;
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
@@ -84,6 +85,15 @@ public class VersionedTargetGraphBuilder {
   /** Intermediate version info for each node. */
   private final ConcurrentHashMap<BuildTarget, VersionInfo> versionInfo;
 
+  /**
+   * Translated build targets, keyed by the original target and the versions selected for its
+   * version domain. Shared by all roots, so that a subgraph reachable from many roots with the same
+   * selections has its targets translated only once.
+   */
+  private final ConcurrentHashMap<
+          Pair<BuildTarget, ImmutableMap<BuildTarget, Version>>, Optional<BuildTarget>>
+      translatedTargets;
+
   /** Count of root nodes. */
   private final AtomicInteger roots = new AtomicInteger();
 
@@ -113,6 +123,11 @@ public class VersionedTargetGraphBuilder {
             2 * unversionedTargetGraphAndBuildTargets.getTargetGraph().getNodes().size(),
             0.75f,
             pool.getParallelism());
+    this.translatedTargets =
+        new ConcurrentHashMap<>(
+            2 * unversionedTargetGraphAndBuildTargets.getTargetGraph().getNodes().size(),
+            0.75f,
+            pool.getParallelism());
   }
 
   private TargetNode<?> getNode(BuildTarget target) {
@@ -208,6 +223,33 @@ public class VersionedTargetGraphBuilder {
     return node;
   }
 
+  /** @return the subset of the given version selections made for the node's version domain. */
+  private ImmutableMap<BuildTarget, Version> getSelectedVersions(
+      TargetNode<?> node, ImmutableMap<BuildTarget, Version> selectedVersions) {
+    ImmutableMap.Builder<BuildTarget, Version> builder = ImmutableMap.builder();
+    for (BuildTarget dep : getVersionInfo(node).getVersionDomain().keySet()) {
+      builder.put(dep, selectedVersions.get(dep));
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return the subset of the given version selections made for the node's version domain,
+   *     skipping versioned nodes without a selection, e.g. those only reachable through another
+   *     root.
+   */
+  private ImmutableMap<BuildTarget, Version> getAvailableSelectedVersions(
+      TargetNode<?> node, ImmutableMap<BuildTarget, Version> selectedVersions) {
+    ImmutableMap.Builder<BuildTarget, Version> builder = ImmutableMap.builder();
+    for (BuildTarget dep : getVersionInfo(node).getVersionDomain().keySet()) {
+      Version version = selectedVersions.get(dep);
+      if (version != null) {
+        builder.put(dep, version);
+      }
+    }
+    return builder.build();
+  }
+
   /**
    * @return the {@link BuildTarget} to use in the resolved target graph, formed by adding a flavor
    *     generated from the given version selections.
@@ -215,6 +257,18 @@ public class VersionedTargetGraphBuilder {
   private Optional<BuildTarget> getTranslateBuildTarget(
       TargetNode<?> node, ImmutableMap<BuildTarget, Version> selectedVersions) {
 
+    // The translation only depends on the selections for the node's version domain, which are
+    // often the same for many roots.
+    ImmutableMap<BuildTarget, Version> nodeSelectedVersions =
+        getAvailableSelectedVersions(node, selectedVersions);
+    return translatedTargets.computeIfAbsent(
+        new Pair<>(node.getBuildTarget(), nodeSelectedVersions),
+        key -> computeTranslateBuildTarget(node, nodeSelectedVersions));
+  }
+
+  private Optional<BuildTarget> computeTranslateBuildTarget(
+      TargetNode<?> node, ImmutableMap<BuildTarget, Version> selectedVersions) {
+
     BuildTarget originalTarget = node.getBuildTarget();
     node = resolveVersions(node, selectedVersions);
     BuildTarget newTarget = node.getBuildTarget();
@@ -489,11 +543,9 @@ public class VersionedTargetGraphBuilder {
             @Override
             public Optional<ImmutableMap<BuildTarget, Version>> getSelectedVersions(
                 BuildTarget target) {
-              ImmutableMap.Builder<BuildTarget, Version> builder = ImmutableMap.builder();
-              for (BuildTarget dep : getVersionInfo(getNode(target)).getVersionDomain().keySet()) {
-                builder.put(dep, selectedVersions.get(dep));
-              }
-              return Optional.of(builder.build());
+              return Optional.of(
+                  VersionedTargetGraphBuilder.this.getSelectedVersions(
+                      getNode(target), selectedVersions));
             }
           };
 
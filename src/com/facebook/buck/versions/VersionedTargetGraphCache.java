@@ -23,6 +23,8 @@ import com.facebook.buck.event.BuckEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.util.cache.CacheStatsTracker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
@@ -36,7 +38,20 @@ public class VersionedTargetGraphCache {
 
   private static final Logger LOG = Logger.get(VersionedTargetGraphCache.class);
 
-  @Nullable private CachedVersionedTargetGraph cachedVersionedTargetGraph = null;
+  /**
+   * The most recently used versioned target graphs, keyed by all the inputs that affect how they
+   * are generated, so that alternating between a few sets of targets does not regenerate them.
+   */
+  private final Cache<VersionedTargetGraphInputs, TargetGraphAndBuildTargets>
+      cachedVersionedTargetGraphs;
+
+  public VersionedTargetGraphCache() {
+    this(1);
+  }
+
+  public VersionedTargetGraphCache(int maxEntries) {
+    this.cachedVersionedTargetGraphs = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+  }
 
   /** @return a new versioned target graph. */
   private TargetGraphAndBuildTargets createdVersionedTargetGraph(
@@ -63,15 +78,16 @@ public class VersionedTargetGraphCache {
 
     CacheStatsTracker.CacheRequest request = statsTracker.startRequest();
 
-    // If new inputs match old ones, we can used the cached graph, if present.
+    // If new inputs match previous ones, we can used the cached graph, if present.
     VersionedTargetGraphInputs newInputs =
         VersionedTargetGraphInputs.of(targetGraphAndBuildTargets, versionUniverses);
-    if (cachedVersionedTargetGraph != null
-        && newInputs.equals(cachedVersionedTargetGraph.getInputs())) {
+    @Nullable
+    TargetGraphAndBuildTargets cachedVersionedTargetGraph =
+        cachedVersionedTargetGraphs.getIfPresent(newInputs);
+    if (cachedVersionedTargetGraph != null) {
 
       VersionedTargetGraphCacheResult result =
-          VersionedTargetGraphCacheResult.of(
-              ResultType.HIT, cachedVersionedTargetGraph.getTargetGraphAndBuildTargets());
+          VersionedTargetGraphCacheResult.of(ResultType.HIT, cachedVersionedTargetGraph);
 
       request.recordHit();
 
@@ -80,7 +96,7 @@ public class VersionedTargetGraphCache {
 
     // Build and cache new versioned target graph.
     ResultType resultType;
-    if (cachedVersionedTargetGraph == null) {
+    if (cachedVersionedTargetGraphs.size() == 0) {
       request.recordMiss();
       resultType = ResultType.EMPTY;
     } else {
@@ -91,7 +107,7 @@ public class VersionedTargetGraphCache {
     TargetGraphAndBuildTargets newVersionedTargetGraph =
         createdVersionedTargetGraph(
             targetGraphAndBuildTargets, versionUniverses, pool, typeCoercerFactory);
-    cachedVersionedTargetGraph = CachedVersionedTargetGraph.of(newInputs, newVersionedTargetGraph);
+    cachedVersionedTargetGraphs.put(newInputs, newVersionedTargetGraph);
     VersionedTargetGraphCacheResult result =
         VersionedTargetGraphCacheResult.of(resultType, newVersionedTargetGraph);
 
@@ -147,7 +163,7 @@ public class VersionedTargetGraphCache {
 
   /**
    * A collection of anything which affects/changes how the versioned target graph is generated. If
-   * any of these items changes between runs, we cannot use the cached versioned target graph and
+   * any of these items changes between runs, we cannot use a cached versioned target graph and
    * must re-generate it.
    */
   @Value.Immutable
@@ -161,21 +177,6 @@ public class VersionedTargetGraphCache {
     ImmutableMap<String, VersionUniverse> getVersionUniverses();
   }
 
-  /**
-   * Tuple to store the previously cached versioned target graph along with all inputs that affect
-   * how it's generated (for invalidation detection).
-   */
-  @Value.Immutable
-  @BuckStyleTuple
-  interface AbstractCachedVersionedTargetGraph {
-
-    /** @return any inputs which, when changed, may produce a different versioned target graph. */
-    VersionedTargetGraphInputs getInputs();
-
-    /** @return a versioned target graph. */
-    TargetGraphAndBuildTargets getTargetGraphAndBuildTargets();
-  }
-
   @Value.Immutable
   @BuckStyleTuple
   interface AbstractVersionedTargetGraphCacheResult {
@@ -50,7 +50,7 @@ public class APKModuleTest {
 
   private void verifyDependencies(
       APKModuleGraph graph, APKModule module, ImmutableSet<String> names) {
-    ImmutableSet<APKModule> deps = graph.getGraph().getOutgoingNodesFor(module);
+    Set<APKModule> deps = graph.getGraph().getOutgoingNodesFor(module);
     assertThat(deps.size(), is(names.size()));
     for (APKModule dep : deps) {
       assertThat(dep.getName(), in(names));
@@ -148,7 +148,7 @@ public class APKModuleTest {
           oneOf(
               "src.com.facebook.test.android.library",
               "src.com.facebook.test.java.library.test.java.library.flavor"));
-      ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
+      Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
       assertThat(apkModule.isRootModule(), is(false));
 
       assertThat(dependencies.size(), is(1));
@@ -260,7 +260,7 @@ public class APKModuleTest {
 
     for (APKModule apkModule : topLevelNodes) {
       assertThat(apkModule.getName(), oneOf("test.android.library", "test.java.library"));
-      ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
+      Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
 
       assertThat(dependencies.size(), is(2));
       assertThat(
@@ -379,13 +379,13 @@ public class APKModuleTest {
     APKModule topModule = Iterables.getFirst(topLevelNodes, null);
     assertThat(topModule.getName(), is("android"));
 
-    ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(topModule);
+    Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(topModule);
     assertThat(dependencies.size(), is(2));
 
     for (APKModule dependency : dependencies) {
       assertThat(dependency.getName(), oneOf(APKModuleGraph.ROOT_APKMODULE_NAME, "java"));
       if (dependency.getName().equals("java")) {
-        ImmutableSet<APKModule> javaDeps = dag.getGraph().getOutgoingNodesFor(dependency);
+        Set<APKModule> javaDeps = dag.getGraph().getOutgoingNodesFor(dependency);
         assertThat(javaDeps.size(), is(1));
         assertThat(
             Iterables.getFirst(javaDeps, null).getName(), is(APKModuleGraph.ROOT_APKMODULE_NAME));
@@ -689,7 +689,7 @@ public class APKModuleTest {
     APKModule topModule = Iterables.getFirst(topLevelNodes, null);
     assertThat(topModule.getName(), is("android"));
 
-    ImmutableSet<APKModule> topLevelDeps = dag.getGraph().getOutgoingNodesFor(topModule);
+    Set<APKModule> topLevelDeps = dag.getGraph().getOutgoingNodesFor(topModule);
     assertThat(topLevelDeps.size(), is(2));
 
     APKModule middleModule = null;
@@ -700,7 +700,7 @@ public class APKModuleTest {
       }
     }
 
-    ImmutableSet<APKModule> middleLevelDeps = dag.getGraph().getOutgoingNodesFor(middleModule);
+    Set<APKModule> middleLevelDeps = dag.getGraph().getOutgoingNodesFor(middleModule);
     assertThat(middleLevelDeps.size(), is(2));
 
     APKModule bottomModule = null;
@@ -711,7 +711,7 @@ public class APKModuleTest {
       }
     }
 
-    ImmutableSet<APKModule> bottomLevelDeps = dag.getGraph().getOutgoingNodesFor(bottomModule);
+    Set<APKModule> bottomLevelDeps = dag.getGraph().getOutgoingNodesFor(bottomModule);
     assertThat(bottomLevelDeps.size(), is(1));
 
     APKModule bottomDep = Iterables.getFirst(bottomLevelDeps, null);
@@ -857,7 +857,7 @@ public class APKModuleTest {
     APKModule topModule = Iterables.getFirst(topLevelNodes, null);
     assertThat(topModule.getName(), is("android"));
 
-    ImmutableSet<APKModule> topLevelDeps = dag.getGraph().getOutgoingNodesFor(topModule);
+    Set<APKModule> topLevelDeps = dag.getGraph().getOutgoingNodesFor(topModule);
     assertThat(topLevelDeps.size(), is(2));
 
     APKModule middleModule = null;
@@ -868,7 +868,7 @@ public class APKModuleTest {
       }
     }
 
-    ImmutableSet<APKModule> middleLevelDeps = dag.getGraph().getOutgoingNodesFor(middleModule);
+    Set<APKModule> middleLevelDeps = dag.getGraph().getOutgoingNodesFor(middleModule);
     assertThat(middleLevelDeps.size(), is(2));
 
     APKModule bottomModule = null;
@@ -879,7 +879,7 @@ public class APKModuleTest {
       }
     }
 
-    ImmutableSet<APKModule> bottomLevelDeps = dag.getGraph().getOutgoingNodesFor(bottomModule);
+    Set<APKModule> bottomLevelDeps = dag.getGraph().getOutgoingNodesFor(bottomModule);
     assertThat(bottomLevelDeps.size(), is(1));
 
     APKModule bottomDep = Iterables.getFirst(bottomLevelDeps, null);
@@ -974,7 +974,7 @@ public class APKModuleTest {
 
     for (APKModule apkModule : topLevelNodes) {
       assertThat(apkModule.getName(), oneOf("test.android.library", "test.java.library"));
-      ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
+      Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
 
       for (APKModule depModule : dependencies) {
         assertThat(
@@ -31,7 +31,9 @@ import com.facebook.buck.testutil.MoreAsserts;
 import com.facebook.buck.util.RichStream;
 import com.facebook.buck.util.concurrent.ExplicitRunExecutorService;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
@@ -40,6 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public class AbstractAsynchronousCacheTest {
@@ -98,6 +101,34 @@ public class AbstractAsynchronousCacheTest {
     }
   }
 
+  @Test
+  public void testPendingMultiContainsRequestsAreMerged() throws Exception {
+    ExplicitRunExecutorService service = new ExplicitRunExecutorService();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    List<ImmutableList<RuleKey>> requestedRuleKeys = new ArrayList<>();
+
+    try (AbstractAsynchronousCache cache =
+        new RequestedKeyRecordingAsynchronousCache(service, filesystem, requestedRuleKeys, 3, 3)) {
+      RuleKey key0 = new RuleKey(HashCode.fromInt(0));
+      RuleKey key1 = new RuleKey(HashCode.fromInt(1));
+      RuleKey key2 = new RuleKey(HashCode.fromInt(2));
+
+      ListenableFuture<ImmutableMap<RuleKey, CacheResult>> first =
+          cache.multiContainsAsync(ImmutableSet.of(key0, key1));
+      ListenableFuture<ImmutableMap<RuleKey, CacheResult>> second =
+          cache.multiContainsAsync(ImmutableSet.of(key1, key2));
+
+      service.run();
+
+      MoreAsserts.assertIterablesEquals(
+          ImmutableList.of(ImmutableList.of(key0, key1, key2)), requestedRuleKeys);
+      assertEquals(ImmutableSet.of(key0, key1), first.get().keySet());
+      assertEquals(ImmutableSet.of(key1, key2), second.get().keySet());
+      assertTrue(first.get().get(key1).getType().isSuccess());
+    }
+  }
+
   @Test
   public void testSkipPendingAsyncFetchRequests() throws ExecutionException, InterruptedException {
     ExplicitRunExecutorService service = new ExplicitRunExecutorService();
@@ -145,6 +176,77 @@ public class AbstractAsynchronousCacheTest {
     }
   }
 
+  @Test
+  public void testMultiFetchRequestsArePipelined() throws Exception {
+    ExplicitRunExecutorService service = new ExplicitRunExecutorService();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    List<String> multiFetchEvents = new ArrayList<>();
+
+    try (AbstractAsynchronousCache cache =
+        new RequestedKeyRecordingAsynchronousCache(service, filesystem, new ArrayList<>(), 2, 1) {
+          @Override
+          protected int getMaxMultiFetchRequestsInFlight() {
+            return 2;
+          }
+
+          @Override
+          protected PendingMultiFetch startMultiFetch(ImmutableList<FetchRequest> requests) {
+            String keys =
+                requests
+                    .stream()
+                    .map(request -> request.getRuleKey().toString().substring(0, 2))
+                    .collect(Collectors.joining(","));
+            multiFetchEvents.add("start " + keys);
+            return new PendingMultiFetch() {
+              @Override
+              public MultiFetchResult read() {
+                multiFetchEvents.add("read " + keys);
+                return MultiFetchResult.of(
+                    requests
+                        .stream()
+                        .map(
+                            request ->
+                                FetchResult.builder()
+                                    .setCacheResult(CacheResult.hit(getName(), getMode()))
+                                    .build())
+                        .collect(ImmutableList.toImmutableList()));
+              }
+
+              @Override
+              public void close() {}
+            };
+          }
+        }) {
+
+      List<ListenableFuture<CacheResult>> results = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        results.add(
+            cache.fetchAsync(
+                null,
+                new RuleKey(HashCode.fromInt(i)),
+                LazyPath.ofInstance(filesystem.getPath("path" + i))));
+      }
+
+      service.run();
+
+      for (ListenableFuture<CacheResult> future : results) {
+        assertTrue(future.get().getType().isSuccess());
+      }
+      // The request for the next batch is sent before the response to the previous one is read,
+      // but there are never more than two requests in flight.
+      assertEquals(
+          ImmutableList.of(
+              "start 00,01",
+              "start 02,03",
+              "read 00,01",
+              "start 04,05",
+              "read 02,03",
+              "read 04,05"),
+          multiFetchEvents);
+    }
+  }
+
   private static class NoOpEventListener implements AbstractAsynchronousCache.CacheEventListener {
     @Override
     public AbstractAsynchronousCache.StoreEvents storeScheduled(
@@ -225,7 +327,11 @@ public class AbstractAsynchronousCacheTest {
 
     @Override
     protected MultiContainsResult multiContainsImpl(ImmutableSet<RuleKey> ruleKeys) {
-      throw new UnsupportedOperationException("multiContains is not supported");
+      requestedRuleKeys.add(ruleKeys.asList());
+      return MultiContainsResult.builder()
+          .setCacheResults(
+              Maps.toMap(ruleKeys, ruleKey -> CacheResult.contains(getName(), getMode())))
+          .build();
     }
 
     private FetchResult hit() {
@@ -22,7 +22,9 @@ import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
 import com.facebook.buck.artifact_cache.config.ArtifactCacheMode;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.artifact_cache.config.DirCacheEntry;
+import com.facebook.buck.artifact_cache.config.DirCacheLayout;
 import com.facebook.buck.artifact_cache.config.HttpCacheEntry;
+import com.facebook.buck.artifact_cache.config.SQLiteCacheEntry;
 import com.facebook.buck.core.config.BuckConfigTestUtils;
 import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.io.file.MorePaths;
@@ -46,6 +48,7 @@ import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.sqlite.SQLiteConfig;
 
 public class ArtifactCacheBuckConfigTest {
 
@@ -183,6 +186,31 @@ public class ArtifactCacheBuckConfigTest {
         dirCacheConfig.getCacheDir(), Matchers.equalTo(Paths.get("cache_dir").toAbsolutePath()));
     assertThat(dirCacheConfig.getCacheReadMode(), Matchers.is(CacheReadMode.READONLY));
     assertThat(dirCacheConfig.getMaxSizeBytes(), Matchers.equalTo(Optional.of(1022L)));
+    assertThat(dirCacheConfig.getLayout(), Matchers.is(DirCacheLayout.FILES));
+  }
+
+  @Test
+  public void testDirCacheLayout() throws IOException {
+    ArtifactCacheBuckConfig config =
+        createFromText("[cache]", "dir = cache_dir", "dir_layout = segments");
+    DirCacheEntry dirCacheConfig = config.getCacheEntries().getDirCacheEntries().asList().get(0);
+
+    assertThat(dirCacheConfig.getLayout(), Matchers.is(DirCacheLayout.SEGMENTS));
+  }
+
+  @Test
+  public void testSQLiteCacheJournalMode() throws IOException {
+    ArtifactCacheBuckConfig config =
+        createFromText(
+            "[cache]",
+            "sqlite_cache_names = default, tuned",
+            "[cache#tuned]",
+            "sqlite_journal_mode = truncate");
+    ImmutableList<SQLiteCacheEntry> entries =
+        ImmutableList.copyOf(config.getCacheEntries().getSQLiteCacheEntries());
+
+    assertThat(entries.get(0).getJournalMode(), Matchers.is(SQLiteConfig.JournalMode.WAL));
+    assertThat(entries.get(1).getJournalMode(), Matchers.is(SQLiteConfig.JournalMode.TRUNCATE));
   }
 
   @Test
@@ -329,6 +357,18 @@ public class ArtifactCacheBuckConfigTest {
     assertThat(cache.getErrorMessageFormat(), Matchers.equalTo(testText));
   }
 
+  @Test
+  public void testHttpMaxRequestsPerHost() throws IOException {
+    ArtifactCacheBuckConfig config = createFromText("[cache]", "http_max_requests_per_host = 7");
+    assertThat(config.getHttpMaxRequestsPerHost(), Matchers.equalTo(7));
+
+    ArtifactCacheBuckConfig defaultConfig = createFromText("[cache]");
+    assertThat(
+        defaultConfig.getHttpMaxRequestsPerHost(),
+        Matchers.equalTo(
+            defaultConfig.getHttpMaxConnections() + defaultConfig.getHttpFetchConcurrency()));
+  }
+
   public static ArtifactCacheBuckConfig createFromText(String... lines) throws IOException {
     ProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
     StringReader reader = new StringReader(Joiner.on('\n').join(lines));
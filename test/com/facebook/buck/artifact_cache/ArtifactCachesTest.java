@@ -16,13 +16,18 @@
 
 package com.facebook.buck.artifact_cache;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
+import com.facebook.buck.core.exceptions.HumanReadableException;
 import com.facebook.buck.core.model.BuildId;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.event.ConsoleEvent;
+import com.facebook.buck.event.FakeBuckEventListener;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
 import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
@@ -30,10 +35,12 @@ import com.facebook.buck.support.bgtasks.BackgroundTaskManager;
 import com.facebook.buck.support.bgtasks.TaskManagerScope;
 import com.facebook.buck.support.bgtasks.TestBackgroundTaskManager;
 import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import okhttp3.Protocol;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
@@ -335,4 +342,56 @@ public class ArtifactCachesTest {
     }
     return artifactCache;
   }
+
+  @Test
+  public void httpProtocolsAlwaysFallBackToHttp11() {
+    assertEquals(
+        ImmutableList.of(Protocol.HTTP_2, Protocol.HTTP_1_1),
+        ArtifactCaches.toOkHttpProtocols(ImmutableList.of("h2")));
+    assertEquals(
+        ImmutableList.of(Protocol.HTTP_1_1),
+        ArtifactCaches.toOkHttpProtocols(ImmutableList.of("http/1.1")));
+  }
+
+  @Test(expected = HumanReadableException.class)
+  public void unknownHttpProtocolIsRejected() {
+    ArtifactCaches.toOkHttpProtocols(ImmutableList.of("h3"));
+  }
+
+  @Test
+  public void httpProtocolsUnsupportedByTheClientAreRejected() {
+    for (String protocol : ImmutableList.of("http/1.0", "spdy/3.1")) {
+      try {
+        ArtifactCaches.toOkHttpProtocols(ImmutableList.of(protocol));
+        fail("Expected " + protocol + " to be rejected.");
+      } catch (HumanReadableException e) {
+        assertThat(e.getHumanReadableErrorMessage(), Matchers.endsWith("one of h2, http/1.1."));
+      }
+    }
+  }
+
+  @Test
+  public void httpProtocolsFallBackToHttp11WithoutAlpn() throws Exception {
+    BuckEventBus buckEventBus = BuckEventBusForTests.newInstance();
+    FakeBuckEventListener listener = new FakeBuckEventListener();
+    buckEventBus.register(listener);
+
+    assertEquals(
+        ImmutableList.of(Protocol.HTTP_2, Protocol.HTTP_1_1),
+        ArtifactCaches.getHttpProtocols(
+            ArtifactCacheBuckConfigTest.createFromText("[cache]"), buckEventBus, true));
+    assertEquals(
+        ImmutableList.of(Protocol.HTTP_1_1),
+        ArtifactCaches.getHttpProtocols(
+            ArtifactCacheBuckConfigTest.createFromText("[cache]"), buckEventBus, false));
+    assertEquals(ImmutableList.of(), listener.getEvents());
+
+    assertEquals(
+        ImmutableList.of(Protocol.HTTP_1_1),
+        ArtifactCaches.getHttpProtocols(
+            ArtifactCacheBuckConfigTest.createFromText("[cache]", "http_protocols = h2"),
+            buckEventBus,
+            false));
+    assertThat(listener.getEvents(), Matchers.hasItem(Matchers.instanceOf(ConsoleEvent.class)));
+  }
 }
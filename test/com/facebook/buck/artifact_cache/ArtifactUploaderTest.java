@@ -22,6 +22,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import com.facebook.buck.artifact_cache.config.ArtifactCompressionCodec;
 import com.facebook.buck.artifact_cache.config.CacheReadMode;
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.BuildTargetFactory;
@@ -30,8 +31,12 @@ import com.facebook.buck.event.BuckEventBusForTests;
 import com.facebook.buck.io.file.BorrowablePath;
 import com.facebook.buck.io.file.MorePosixFilePermissions;
 import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
 import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.testutil.TemporaryPaths;
 import com.facebook.buck.testutil.integration.TarInspector;
+import com.facebook.buck.util.unarchive.ExistingFileMode;
+import com.facebook.buck.util.unarchive.Untar;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -50,10 +55,13 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
 
 public class ArtifactUploaderTest {
 
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
   private static final BuildTarget BUILD_TARGET = BuildTargetFactory.newInstance("//foo:bar");
 
   @Test
@@ -126,7 +134,8 @@ public class ArtifactUploaderTest {
         ImmutableMap.of("metadata", "metadata", "build-metadata", "build-metadata"),
         ImmutableSortedSet.of(dir, file, dirFile, metadataFile),
         BUILD_TARGET,
-        filesystem);
+        filesystem,
+        ArtifactCompressionCodec.ZSTD);
 
     assertTrue(stored.get());
   }
@@ -143,7 +152,7 @@ public class ArtifactUploaderTest {
         fs.getPathForRelativePath(file), ImmutableSet.of(PosixFilePermission.OWNER_EXECUTE));
 
     // Compress
-    ArtifactUploader.compress(fs, ImmutableList.of(file), out);
+    ArtifactUploader.compress(fs, ImmutableList.of(file), out, ArtifactCompressionCodec.ZSTD);
 
     // Decompress+unarchive, and check that the only file is an executable.
     try (TarArchiveInputStream fin =
@@ -161,4 +170,29 @@ public class ArtifactUploaderTest {
           Matchers.contains(PosixFilePermission.OWNER_EXECUTE));
     }
   }
+
+  @Test
+  public void compressedArtifactsAreExtractedWhateverTheCodec() throws Exception {
+    ProjectFilesystem fs = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path file = Paths.get("dir", "file");
+    Path jar = Paths.get("dir", "lib.jar");
+    fs.mkdirs(file.getParent());
+    fs.writeContentsToPath("contents", file);
+    fs.writeContentsToPath("jar contents", jar);
+
+    for (ArtifactCompressionCodec codec : ArtifactCompressionCodec.values()) {
+      Path out = tmp.newFile("artifact-" + codec);
+      ArtifactUploader.compress(fs, ImmutableList.of(file, jar), out, codec);
+
+      ProjectFilesystem destination =
+          TestProjectFilesystems.createProjectFilesystem(tmp.newFolder("extracted-" + codec));
+      ImmutableSet<Path> extracted =
+          Untar.detectingUnarchiver()
+              .extractArchive(out, destination, ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+
+      assertEquals(codec.toString(), ImmutableSet.of(file, jar), extracted);
+      assertEquals("contents", destination.readFileIfItExists(file).get());
+      assertEquals("jar contents", destination.readFileIfItExists(jar).get());
+    }
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.artifact_cache.config.ArtifactCacheBuckConfig;
+import com.facebook.buck.artifact_cache.config.HttpCacheEntry;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.X509TrustManager;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class Http2CacheClientTest {
+  private static final int MAX_REQUESTS_PER_HOST = 4;
+
+  private final Set<String> serverProtocols = ConcurrentHashMap.newKeySet();
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger requestsInFlight = new AtomicInteger();
+  private final AtomicInteger maxRequestsInFlight = new AtomicInteger();
+  private final CountDownLatch firstRequestsArrived = new CountDownLatch(MAX_REQUESTS_PER_HOST);
+
+  private Http2TestServer server;
+  private OkHttpClient client;
+
+  @Before
+  public void setUp() throws Exception {
+    Assume.assumeTrue(ArtifactCaches.isAlpnSupported());
+    server =
+        new Http2TestServer(
+            new AbstractHandler() {
+              @Override
+              public void handle(
+                  String target,
+                  org.eclipse.jetty.server.Request request,
+                  HttpServletRequest httpServletRequest,
+                  HttpServletResponse httpServletResponse)
+                  throws IOException {
+                serverProtocols.add(request.getProtocol());
+                clientPorts.add(request.getRemotePort());
+                if (target.startsWith("/artifacts/")) {
+                  awaitConcurrentRequests();
+                }
+                httpServletResponse.setStatus(HttpServletResponse.SC_OK);
+                httpServletResponse.getWriter().write("artifact");
+                request.setHandled(true);
+              }
+            });
+    server.start();
+
+    ArtifactCacheBuckConfig config =
+        ArtifactCacheBuckConfigTest.createFromText(
+            "[cache]",
+            "mode = http",
+            "http_url = " + server.getRootUri(),
+            "http_max_requests_per_host = " + MAX_REQUESTS_PER_HOST);
+    HttpCacheEntry cacheEntry =
+        Iterables.getOnlyElement(config.getCacheEntries().getHttpCacheEntries());
+    X509TrustManager trustManager = server.getTrustManager();
+    client =
+        ArtifactCaches.newHttpClientBuilder(
+                cacheEntry, "localhost", BuckEventBusForTests.newInstance(), config)
+            .sslSocketFactory(
+                server.getClientSslContext(trustManager).getSocketFactory(), trustManager)
+            // The certificate of the server is self-signed for a host name without an address.
+            .hostnameVerifier((hostname, session) -> true)
+            .build();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (client != null) {
+      client.dispatcher().executorService().shutdown();
+      client.connectionPool().evictAll();
+    }
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  @Test
+  public void concurrentRequestsAreStreamsOfOneHttp2Connection() throws Exception {
+    // Open the connection first, so that concurrent requests do not race to open their own.
+    try (Response response = client.newCall(newRequest("status")).execute()) {
+      assertEquals(Protocol.HTTP_2, response.protocol());
+    }
+
+    int requests = 3 * MAX_REQUESTS_PER_HOST;
+    CountDownLatch responses = new CountDownLatch(requests);
+    List<Protocol> protocols = new ArrayList<>();
+    for (int i = 0; i < requests; i++) {
+      client
+          .newCall(newRequest("artifacts/" + i))
+          .enqueue(
+              new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                  responses.countDown();
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) throws IOException {
+                  try (Response body = response) {
+                    assertEquals("artifact", body.body().string());
+                    synchronized (protocols) {
+                      protocols.add(body.protocol());
+                    }
+                  } finally {
+                    responses.countDown();
+                  }
+                }
+              });
+    }
+    assertTrue(responses.await(30, TimeUnit.SECONDS));
+
+    synchronized (protocols) {
+      assertEquals(requests, protocols.size());
+      assertEquals(ImmutableSet.of(Protocol.HTTP_2), ImmutableSet.copyOf(protocols));
+    }
+    assertEquals(ImmutableSet.of("HTTP/2.0"), serverProtocols);
+    assertEquals("All requests should share one connection.", 1, clientPorts.size());
+    assertEquals(MAX_REQUESTS_PER_HOST, maxRequestsInFlight.get());
+  }
+
+  /** Holds the first requests until as many as the client may send are in flight. */
+  private void awaitConcurrentRequests() {
+    maxRequestsInFlight.accumulateAndGet(requestsInFlight.incrementAndGet(), Math::max);
+    try {
+      firstRequestsArrived.countDown();
+      firstRequestsArrived.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      requestsInFlight.decrementAndGet();
+    }
+  }
+
+  private Request newRequest(String path) {
+    return new Request.Builder().url(server.getRootUri().resolve(path).toString()).build();
+  }
+}
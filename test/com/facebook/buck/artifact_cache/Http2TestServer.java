@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.util.log.JavaUtilLog;
+import org.eclipse.jetty.util.log.Log;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+
+/**
+ * Jetty server which only speaks HTTP/2 over TLS, negotiated with the ALPN API of the JVM, for
+ * testing that clients of http caches actually use HTTP/2. Its certificate is self-signed, so
+ * clients have to trust {@link #getTrustManager()} and skip verifying the host name.
+ */
+public class Http2TestServer implements AutoCloseable {
+  private static final String H2 = "h2";
+  private static final char[] KEY_STORE_PASSWORD = "password".toCharArray();
+
+  private final Server server;
+  private final ServerConnector connector;
+  private final SelfSignedCertificate certificate;
+
+  public Http2TestServer(Handler handler) throws Exception {
+    // Configure the logging for jetty. Which uses a singleton. Ho hum.
+    Log.setLog(new JavaUtilLog());
+    certificate = new SelfSignedCertificate("localhost");
+    KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    keyStore.load(null, null);
+    keyStore.setKeyEntry(
+        "server", certificate.key(), KEY_STORE_PASSWORD, new Certificate[] {certificate.cert()});
+
+    SslContextFactory sslContextFactory =
+        new SslContextFactory() {
+          @Override
+          public void customize(SSLEngine sslEngine) {
+            super.customize(sslEngine);
+            SSLParameters parameters = sslEngine.getSSLParameters();
+            setApplicationProtocols(parameters, H2);
+            sslEngine.setSSLParameters(parameters);
+          }
+        };
+    sslContextFactory.setKeyStore(keyStore);
+    sslContextFactory.setKeyStorePassword(new String(KEY_STORE_PASSWORD));
+    sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+
+    HttpConfiguration httpConfiguration = new HttpConfiguration();
+    httpConfiguration.addCustomizer(new SecureRequestCustomizer());
+
+    server = new Server();
+    // Every connection speaks h2, which the engine offers to clients in place of an ALPN
+    // connection factory, which needs the ALPN boot jar of Jetty on Java 8.
+    connector =
+        new ServerConnector(
+            server,
+            new SslConnectionFactory(sslContextFactory, H2),
+            new HTTP2ServerConnectionFactory(httpConfiguration));
+    // Choose a port randomly upon listening for socket connections.
+    connector.setPort(0);
+    server.addConnector(connector);
+    server.setHandler(handler);
+  }
+
+  public void start() throws Exception {
+    server.start();
+  }
+
+  @Override
+  public void close() throws Exception {
+    server.stop();
+    server.join();
+    certificate.delete();
+  }
+
+  public URI getRootUri() {
+    return URI.create("https://localhost:" + connector.getLocalPort() + "/");
+  }
+
+  /** @return a trust manager which trusts the self-signed certificate of this server. */
+  public X509TrustManager getTrustManager() throws GeneralSecurityException, IOException {
+    KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+    trustStore.load(null, null);
+    trustStore.setCertificateEntry("server", certificate.cert());
+    TrustManagerFactory trustManagerFactory =
+        TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+    trustManagerFactory.init(trustStore);
+    return (X509TrustManager) trustManagerFactory.getTrustManagers()[0];
+  }
+
+  /** @return an SSL context for clients which trusts the self-signed certificate of this server. */
+  public SSLContext getClientSslContext(X509TrustManager trustManager)
+      throws GeneralSecurityException {
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, new X509TrustManager[] {trustManager}, null);
+    return sslContext;
+  }
+
+  /** Uses the ALPN API of Java 9, which Java 8 only has since 8u252. */
+  private static void setApplicationProtocols(SSLParameters parameters, String... protocols) {
+    try {
+      SSLParameters.class
+          .getMethod("setApplicationProtocols", String[].class)
+          .invoke(parameters, (Object) protocols);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("This JVM cannot negotiate protocols with ALPN.", e);
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.facebook.buck.artifact_cache;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -36,14 +37,22 @@ import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
@@ -414,4 +423,132 @@ public class MultiArtifactCacheTest {
 
     multiArtifactCache.close();
   }
+
+  @Test
+  public void streamedFetchIsAlsoWrittenToTheFileToFillHigherCaches() throws Exception {
+    byte[] contents = "contents".getBytes(StandardCharsets.UTF_8);
+    InMemoryArtifactCache fileCache = new InMemoryArtifactCache();
+    InMemoryArtifactCache streamingCache =
+        new InMemoryArtifactCache() {
+          @Override
+          public ListenableFuture<CacheResult> fetchAsync(
+              BuildTarget target, RuleKey ruleKey, LazyPath output) {
+            try (OutputStream payload = ((StreamingArtifactOutput) output).openPayloadStream()) {
+              payload.write(contents);
+            } catch (IOException e) {
+              throw new RuntimeException(e);
+            }
+            return Futures.immediateFuture(CacheResult.hit("streaming", ArtifactCacheMode.http));
+          }
+        };
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(fileCache, streamingCache));
+
+    Path file = tmp.newFile();
+    ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+    StreamingArtifactOutput output =
+        new StreamingArtifactOutput() {
+          @Override
+          protected Path create() {
+            return file;
+          }
+
+          @Override
+          public OutputStream openPayloadStream() {
+            streamed.reset();
+            return streamed;
+          }
+        };
+    CacheResult result = multiArtifactCache.fetchAsync(null, dummyRuleKey, output).get();
+
+    assertThat(result.getType(), Matchers.equalTo(CacheResultType.HIT));
+    assertArrayEquals(contents, streamed.toByteArray());
+    assertArrayEquals(contents, Files.readAllBytes(file));
+    assertThat(fileCache.hasArtifact(dummyRuleKey), Matchers.is(true));
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void parallelFetchUsesFirstCacheToHitAndFillsHigherCaches() throws Exception {
+    AtomicInteger slowCacheFetches = new AtomicInteger();
+    InMemoryArtifactCache slowCache =
+        new InMemoryArtifactCache() {
+          @Override
+          public ListenableFuture<CacheResult> fetchAsync(
+              BuildTarget target, RuleKey ruleKey, LazyPath output) {
+            slowCacheFetches.incrementAndGet();
+            return SettableFuture.create();
+          }
+        };
+    InMemoryArtifactCache fastCache = new InMemoryArtifactCache();
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(slowCache, fastCache), Optional.of(0L));
+
+    Path output = tmp.newFile();
+    byte[] contents = "contents".getBytes(StandardCharsets.UTF_8);
+    fastCache.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), contents);
+    CacheResult result =
+        multiArtifactCache.fetchAsync(null, dummyRuleKey, LazyPath.ofInstance(output)).get();
+
+    assertThat(result.getType(), Matchers.equalTo(CacheResultType.HIT));
+    assertEquals(1, slowCacheFetches.get());
+    assertArrayEquals(contents, Files.readAllBytes(output));
+    assertThat(slowCache.hasArtifact(dummyRuleKey), Matchers.is(true));
+    assertThat(
+        "Only the output should be left.",
+        Files.list(output.getParent()).collect(Collectors.toList()),
+        Matchers.contains(output));
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void hedgedFetchOnlyQueriesNextCacheOnMiss() throws Exception {
+    InMemoryArtifactCache cache1 = new InMemoryArtifactCache();
+    AtomicInteger cache2Fetches = new AtomicInteger();
+    InMemoryArtifactCache cache2 =
+        new InMemoryArtifactCache() {
+          @Override
+          public ListenableFuture<CacheResult> fetchAsync(
+              BuildTarget target, RuleKey ruleKey, LazyPath output) {
+            cache2Fetches.incrementAndGet();
+            return super.fetchAsync(target, ruleKey, output);
+          }
+        };
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.of(cache1, cache2), Optional.of(TimeUnit.HOURS.toMillis(1)));
+
+    LazyPath output = LazyPath.ofInstance(tmp.newFile());
+    cache1.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), new byte[0]);
+    assertThat(
+        multiArtifactCache.fetchAsync(null, dummyRuleKey, output).get().getType(),
+        Matchers.equalTo(CacheResultType.HIT));
+    assertEquals(0, cache2Fetches.get());
+
+    assertThat(
+        multiArtifactCache.fetchAsync(null, dummyRuleKey2, output).get().getType(),
+        Matchers.equalTo(CacheResultType.MISS));
+    assertEquals(1, cache2Fetches.get());
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void parallelFetchReturnsResultOfLastCacheWhenAllMiss() throws Exception {
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(
+            ImmutableList.of(new InMemoryArtifactCache(), new ErroringArtifactCache()),
+            Optional.of(0L));
+
+    CacheResult result =
+        multiArtifactCache
+            .fetchAsync(null, dummyRuleKey, LazyPath.ofInstance(tmp.newFile()))
+            .get();
+
+    assertThat(result.getType(), Matchers.equalTo(CacheResultType.ERROR));
+
+    multiArtifactCache.close();
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class MultiFetchBatchSizerTest {
+
+  @Test
+  public void slowOrFailedBatchesHalveTheBatchSize() {
+    MultiFetchBatchSizer sizer = new MultiFetchBatchSizer(100, 500);
+
+    sizer.batchAnswered(1000);
+    assertEquals(50, sizer.getBatchSize());
+    sizer.batchFailed();
+    assertEquals(25, sizer.getBatchSize());
+  }
+
+  @Test
+  public void fastBatchesGrowTheBatchSizeUpToTheLimit() {
+    MultiFetchBatchSizer sizer = new MultiFetchBatchSizer(4, 500);
+
+    sizer.batchAnswered(1000);
+    sizer.batchAnswered(1000);
+    assertEquals(1, sizer.getBatchSize());
+    sizer.batchAnswered(100);
+    assertEquals(2, sizer.getBatchSize());
+    for (int i = 0; i < 10; i++) {
+      sizer.batchAnswered(100);
+    }
+    assertEquals(4, sizer.getBatchSize());
+  }
+
+  @Test
+  public void steadilySlowCacheKeepsTheBatchSizeSmall() {
+    MultiFetchBatchSizer sizer = new MultiFetchBatchSizer(100, 500);
+
+    // The very first batch is already slow, so there is no faster batch to compare it to.
+    for (int i = 0; i < 10; i++) {
+      sizer.batchAnswered(5000);
+    }
+    assertEquals(1, sizer.getBatchSize());
+  }
+}
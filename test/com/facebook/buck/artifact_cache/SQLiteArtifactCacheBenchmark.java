@@ -31,6 +31,7 @@ import com.google.caliper.Benchmark;
 import com.google.caliper.Param;
 import com.google.common.hash.HashCode;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
@@ -47,6 +48,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
+import org.sqlite.SQLiteConfig;
 
 public class SQLiteArtifactCacheBenchmark {
   @Rule public TemporaryPaths tmpDir = new TemporaryPaths();
@@ -54,9 +56,12 @@ public class SQLiteArtifactCacheBenchmark {
   @Param({"1000", "10000", "100000"})
   private int opCount = 100;
 
-  @Param({"5", "10"})
+  @Param({"5", "10", "64"})
   private int threadCount = 2;
 
+  @Param({"WAL", "DELETE"})
+  private SQLiteConfig.JournalMode journalMode = SQLiteConfig.JournalMode.WAL;
+
   private static final Random random = new Random(12345);
   private static final long MAX_INLINED_BYTES = 1024;
 
@@ -125,7 +130,10 @@ public class SQLiteArtifactCacheBenchmark {
   @AfterExperiment
   public void tearDown() {
     artifactCache.close();
-    executor.shutdown();
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
   }
 
   private SQLiteArtifactCache cache(Optional<Long> maxCacheSizeBytes)
@@ -137,7 +145,8 @@ public class SQLiteArtifactCacheBenchmark {
         BuckEventBusForTests.newInstance(),
         maxCacheSizeBytes,
         Optional.of(MAX_INLINED_BYTES),
-        CacheReadMode.READWRITE);
+        CacheReadMode.READWRITE,
+        journalMode);
   }
 
   @Ignore
@@ -154,6 +163,13 @@ public class SQLiteArtifactCacheBenchmark {
     runAllBenchmarks();
   }
 
+  @Ignore
+  @Test
+  public void testConcurrent() {
+    executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
+    benchConcurrentStoreAndFetch();
+  }
+
   private void runAllBenchmarks() {
     benchMetadataStore();
     benchMetadataFetch();
@@ -161,6 +177,37 @@ public class SQLiteArtifactCacheBenchmark {
     benchArtifactFetch();
   }
 
+  /** Stores and fetches from {@code threadCount} threads at once, as a parallel build does. */
+  @Benchmark
+  private void benchConcurrentStoreAndFetch() {
+    if (executor == null) {
+      executor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
+    }
+    List<ListenableFuture<?>> futures = new ArrayList<>(opCount * 2);
+    for (int i = 0; i < opCount; i++) {
+      ArtifactInfo metadata = metadataInfo.get(i);
+      ArtifactInfo content = contentInfo.get(i);
+      RuleKey ruleKey = ruleKeys.get(i);
+      RuleKey contentHash = contentHashes.get(i);
+      futures.add(
+          executor.submit(
+              () -> {
+                artifactCache.store(metadata, BorrowablePath.notBorrowablePath(emptyFile));
+                artifactCache.store(content, BorrowablePath.notBorrowablePath(inlinedFile));
+              }));
+      futures.add(
+          executor.submit(
+              () -> {
+                LazyPath threadOutput =
+                    LazyPath.ofInstance(
+                        cacheDir.resolve(".output-" + Thread.currentThread().getId()));
+                Futures.getUnchecked(artifactCache.fetchAsync(null, ruleKey, threadOutput));
+                Futures.getUnchecked(artifactCache.fetchAsync(null, contentHash, threadOutput));
+              }));
+    }
+    Futures.getUnchecked(Futures.allAsList(futures));
+  }
+
   @Benchmark
   private void benchMetadataStore() {
     for (ArtifactInfo info : metadataInfo) {
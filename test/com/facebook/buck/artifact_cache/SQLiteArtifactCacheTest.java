@@ -46,12 +46,18 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.sqlite.SQLiteConfig;
 
 public class SQLiteArtifactCacheTest {
   @Rule public TemporaryPaths tmpDir = new TemporaryPaths();
@@ -109,7 +115,8 @@ public class SQLiteArtifactCacheTest {
         BuckEventBusForTests.newInstance(),
         maxCacheSizeBytes,
         Optional.of(MAX_INLINED_BYTES),
-        CacheReadMode.READWRITE);
+        CacheReadMode.READWRITE,
+        SQLiteConfig.JournalMode.WAL);
   }
 
   /**
@@ -388,6 +395,59 @@ public class SQLiteArtifactCacheTest {
     assertThat(filesNotDeleted, Matchers.hasItem(contentHashC));
   }
 
+  @Test
+  public void testConcurrentStoresAreVisibleAndCommitted() throws Exception {
+    artifactCache = cache(Optional.empty());
+    int storeCount = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < storeCount; i++) {
+        RuleKey ruleKey = new RuleKey(String.format("%016x", i));
+        futures.add(
+            executor.submit(
+                () -> {
+                  artifactCache.store(
+                      ArtifactInfo.builder()
+                          .addRuleKeys(ruleKey)
+                          .putMetadata(METADATA_KEY, contentHashA.toString())
+                          .build(),
+                      BorrowablePath.notBorrowablePath(emptyFile));
+                  // Stores are visible to fetches whether or not they have been committed yet.
+                  assertEquals(
+                      CacheResultType.HIT,
+                      Futures.getUnchecked(artifactCache.fetchAsync(null, ruleKey, output))
+                          .getType());
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(artifactCache.metadataRuleKeys(), Matchers.hasSize(storeCount));
+  }
+
+  @Test
+  public void testWritesAfterFailedWriteAreCommitted() throws Exception {
+    artifactCache = cache(Optional.empty());
+    artifactCache.enqueueWrite(
+        db -> {
+          throw new IllegalStateException("Failed write");
+        });
+    artifactCache.store(
+        ArtifactInfo.builder()
+            .addRuleKeys(ruleKeyA)
+            .putMetadata(METADATA_KEY, contentHashA.toString())
+            .build(),
+        BorrowablePath.notBorrowablePath(emptyFile));
+    artifactCache.flushPendingWrites();
+
+    assertThat(artifactCache.metadataRuleKeys(), Matchers.contains(ruleKeyA));
+  }
+
   @Test
   public void testCacheStoreMultipleKeys() throws IOException, SQLException {
     artifactCache = cache(Optional.empty());
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.artifact_cache.config.CacheReadMode;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.io.file.BorrowablePath;
+import com.facebook.buck.io.file.LazyPath;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SegmentedDirArtifactCacheTest {
+  @Rule public TemporaryPaths tmpDir = new TemporaryPaths();
+
+  private static final RuleKey RULE_KEY_A = new RuleKey("aaaa");
+  private static final RuleKey RULE_KEY_B = new RuleKey("bbbb");
+  private static final RuleKey RULE_KEY_C = new RuleKey("cccc");
+
+  private ProjectFilesystem filesystem;
+  private Path cacheDir;
+  private SegmentedDirArtifactCache cache;
+
+  @Before
+  public void setUp() throws IOException {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot());
+    cacheDir = filesystem.resolve("cache");
+  }
+
+  @After
+  public void tearDown() {
+    if (cache != null) {
+      cache.close();
+    }
+  }
+
+  private SegmentedDirArtifactCache newCache(Optional<Long> maxCacheSizeBytes)
+      throws IOException {
+    return new SegmentedDirArtifactCache(
+        "dir",
+        filesystem,
+        Paths.get("cache"),
+        CacheReadMode.READWRITE,
+        maxCacheSizeBytes,
+        /* segmentSizeBytes */ 1024);
+  }
+
+  private void store(RuleKey ruleKey, String contents) throws IOException {
+    Path artifact = tmpDir.newFile();
+    Files.write(artifact, contents.getBytes(UTF_8));
+    Futures.getUnchecked(
+        cache.store(
+            ArtifactInfo.builder()
+                .addRuleKeys(ruleKey)
+                .setMetadata(ImmutableMap.of("key", ruleKey.toString()))
+                .build(),
+            BorrowablePath.notBorrowablePath(artifact)));
+  }
+
+  private CacheResult fetch(RuleKey ruleKey, Path output) {
+    return Futures.getUnchecked(cache.fetchAsync(null, ruleKey, LazyPath.ofInstance(output)));
+  }
+
+  private void assertHit(RuleKey ruleKey, String contents) throws IOException {
+    Path output = tmpDir.getRoot().resolve("output");
+    CacheResult result = fetch(ruleKey, output);
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableMap.of("key", ruleKey.toString()), result.getMetadata());
+    assertEquals(Optional.of((long) contents.length()), result.artifactSizeBytes());
+    assertArrayEquals(contents.getBytes(UTF_8), Files.readAllBytes(output));
+  }
+
+  private void assertMiss(RuleKey ruleKey) {
+    assertEquals(
+        CacheResultType.MISS, fetch(ruleKey, tmpDir.getRoot().resolve("output")).getType());
+  }
+
+  private int countFiles(String glob) throws IOException {
+    int count = 0;
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, glob)) {
+      for (Path ignored : stream) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void testStoreAndFetch() throws IOException {
+    cache = newCache(Optional.empty());
+
+    assertMiss(RULE_KEY_A);
+    store(RULE_KEY_A, "artifact a");
+    store(RULE_KEY_B, "artifact b");
+
+    assertHit(RULE_KEY_A, "artifact a");
+    assertHit(RULE_KEY_B, "artifact b");
+    assertMiss(RULE_KEY_C);
+
+    ImmutableMap<RuleKey, CacheResult> contains =
+        Futures.getUnchecked(
+            cache.multiContainsAsync(ImmutableSet.of(RULE_KEY_A, RULE_KEY_B, RULE_KEY_C)));
+    assertEquals(CacheResultType.CONTAINS, contains.get(RULE_KEY_A).getType());
+    assertEquals(CacheResultType.CONTAINS, contains.get(RULE_KEY_B).getType());
+    assertEquals(CacheResultType.MISS, contains.get(RULE_KEY_C).getType());
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    cache = newCache(Optional.empty());
+    store(RULE_KEY_A, "artifact a");
+    store(RULE_KEY_B, "artifact b");
+
+    Futures.getUnchecked(cache.deleteAsync(ImmutableSet.of(RULE_KEY_A).asList()));
+
+    assertMiss(RULE_KEY_A);
+    assertHit(RULE_KEY_B, "artifact b");
+  }
+
+  @Test
+  public void testEntriesSurviveReopening() throws IOException {
+    cache = newCache(Optional.empty());
+    store(RULE_KEY_A, "artifact a");
+    cache.close();
+
+    cache = newCache(Optional.empty());
+    assertHit(RULE_KEY_A, "artifact a");
+  }
+
+  @Test
+  public void testIndexIsRebuiltFromSegments() throws IOException {
+    cache = newCache(Optional.empty());
+    store(RULE_KEY_A, "artifact a");
+    store(RULE_KEY_B, Strings.repeat("b", 2000));
+    cache.close();
+
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "index-*.bin")) {
+      for (Path index : stream) {
+        Files.delete(index);
+      }
+    }
+
+    cache = newCache(Optional.empty());
+    assertHit(RULE_KEY_A, "artifact a");
+    assertHit(RULE_KEY_B, Strings.repeat("b", 2000));
+    assertMiss(RULE_KEY_C);
+    assertEquals(1, countFiles("index-*.bin"));
+  }
+
+  @Test
+  public void testTrimEvictsLeastRecentlyUsedAndCompacts()
+      throws IOException, InterruptedException {
+    // Each artifact gets a segment of its own, so compaction is easy to observe.
+    cache = newCache(Optional.of(2000L));
+    String contents = Strings.repeat("x", 800);
+    store(RULE_KEY_A, contents);
+    Thread.sleep(5);
+    store(RULE_KEY_B, contents);
+    Thread.sleep(5);
+    store(RULE_KEY_C, contents);
+    assertEquals(3, countFiles("segment-*.dat"));
+
+    // Reading A makes it the most recently used entry, so it's the one that is kept.
+    Thread.sleep(5);
+    assertHit(RULE_KEY_A, contents);
+    cache.trim();
+
+    assertHit(RULE_KEY_A, contents);
+    assertMiss(RULE_KEY_B);
+    assertMiss(RULE_KEY_C);
+    // The segment only B was in is gone, the active one is kept for further stores.
+    assertFalse(Files.exists(cacheDir.resolve("segment-1.dat")));
+    assertEquals(2, countFiles("segment-*.dat"));
+  }
+}
@@ -65,6 +65,7 @@ import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 import org.apache.thrift.TBase;
@@ -138,7 +139,15 @@ public class ThriftArtifactCacheTest {
             .build();
 
     try (ThriftArtifactCache cache =
-        new ThriftArtifactCache(networkArgs, "/nice_as_well", false, new BuildId("aabb"), 0, 0)) {
+        new ThriftArtifactCache(
+            networkArgs,
+            "/nice_as_well",
+            false,
+            new BuildId("aabb"),
+            0,
+            0,
+            0,
+            Optional.empty())) {
       Path artifactPath = tempPaths.newFile().toAbsolutePath();
       CacheResult result =
           Futures.getUnchecked(
@@ -325,7 +334,15 @@ public class ThriftArtifactCacheTest {
     responseRef.set(response);
 
     try (ThriftArtifactCache cache =
-        new ThriftArtifactCache(networkArgs, "/nice_as_well", false, new BuildId("aabb"), 0, 0)) {
+        new ThriftArtifactCache(
+            networkArgs,
+            "/nice_as_well",
+            false,
+            new BuildId("aabb"),
+            0,
+            0,
+            0,
+            Optional.empty())) {
       MultiFetchResult result = cache.multiFetchImpl(requests);
       assertEquals(4, result.getResults().size());
       assertEquals(CacheResultType.MISS, result.getResults().get(0).getCacheResult().getType());
@@ -401,7 +418,15 @@ public class ThriftArtifactCacheTest {
     responseRef.set(response);
 
     try (ThriftArtifactCache cache =
-        new ThriftArtifactCache(networkArgs, "/nice_as_well", false, new BuildId("aabb"), 1, 1)) {
+        new ThriftArtifactCache(
+            networkArgs,
+            "/nice_as_well",
+            false,
+            new BuildId("aabb"),
+            1,
+            1,
+            0,
+            Optional.empty())) {
       MultiContainsResult result = cache.multiContainsImpl(ruleKeys);
       assertEquals(4, result.getCacheResults().size());
       assertEquals(CacheResultType.MISS, result.getCacheResults().get(key0).getType());
@@ -450,7 +475,15 @@ public class ThriftArtifactCacheTest {
             .build();
 
     try (ThriftArtifactCache cache =
-        new ThriftArtifactCache(networkArgs, "/nice_as_well", false, new BuildId("aabb"), 0, 0)) {
+        new ThriftArtifactCache(
+            networkArgs,
+            "/nice_as_well",
+            false,
+            new BuildId("aabb"),
+            0,
+            0,
+            0,
+            Optional.empty())) {
       CacheDeleteResult result =
           Futures.getUnchecked(
               cache.deleteAsync(
@@ -39,6 +39,7 @@ import com.facebook.buck.parser.ParserConfig;
 import com.facebook.buck.parser.ParserPythonInterpreterProvider;
 import com.facebook.buck.parser.PerBuildState;
 import com.facebook.buck.parser.PerBuildStateFactory;
+import com.facebook.buck.parser.QueryGraphIndex;
 import com.facebook.buck.parser.SpeculativeParsing;
 import com.facebook.buck.parser.TestParserFactory;
 import com.facebook.buck.query.QueryBuildTarget;
@@ -72,6 +73,9 @@ public class BuckQueryEnvironmentTest {
   @Rule public TemporaryPaths tmp = new TemporaryPaths();
 
   private BuckQueryEnvironment buckQueryEnvironment;
+  private Cell cell;
+  private Parser parser;
+  private TargetPatternEvaluator targetPatternEvaluator;
   private Path cellRoot;
   private ListeningExecutorService executor;
   private PerBuildState parserState;
@@ -90,7 +94,7 @@ public class BuckQueryEnvironmentTest {
     ProjectWorkspace workspace =
         TestDataHelper.createProjectWorkspaceForScenario(this, "query_command", tmp);
     workspace.setUp();
-    Cell cell =
+    cell =
         new TestCellBuilder()
             .setFilesystem(TestProjectFilesystems.createProjectFilesystem(workspace.getDestPath()))
             .build();
@@ -110,7 +114,7 @@ public class BuckQueryEnvironmentTest {
             new ParserPythonInterpreterProvider(parserConfig, executableFinder),
             WatchmanFactory.NULL_WATCHMAN,
             eventBus);
-    Parser parser = TestParserFactory.create(cell.getBuckConfig(), perBuildStateFactory, eventBus);
+    parser = TestParserFactory.create(cell.getBuckConfig(), perBuildStateFactory, eventBus);
     parserState =
         perBuildStateFactory.create(
             parser.getPermState(),
@@ -120,7 +124,7 @@ public class BuckQueryEnvironmentTest {
             /* enableProfiling */ false,
             SpeculativeParsing.ENABLED);
 
-    TargetPatternEvaluator targetPatternEvaluator =
+    targetPatternEvaluator =
         new TargetPatternEvaluator(
             cell, FakeBuckConfig.builder().build(), parser, /* enableProfiling */ false);
     OwnersReport.Builder ownersReportBuilder = OwnersReport.builder(cell, parser, parserState);
@@ -187,4 +191,30 @@ public class BuckQueryEnvironmentTest {
         capturingConsoleEventListener.getLogMessages(),
         CoreMatchers.equalTo(singletonList(expectedWarning)));
   }
+
+  @Test
+  public void laterQueryReusesTheGraphExploredByAnEarlierOne() throws Exception {
+    QueryGraphIndex graphIndex = new QueryGraphIndex(1000);
+    BuckQueryEnvironment first = createEnvironmentSharingGraph(graphIndex);
+    first.evaluateQuery("rdeps(//example:, //example:six)");
+
+    BuckQueryEnvironment second = createEnvironmentSharingGraph(graphIndex);
+    assertThat(second.getTargetGraph().getNodes(), is(equalTo(first.getTargetGraph().getNodes())));
+    assertThat(
+        second.evaluateQuery("rdeps(//example:, //example:four)"),
+        is(equalTo(buckQueryEnvironment.evaluateQuery("rdeps(//example:, //example:four)"))));
+  }
+
+  private BuckQueryEnvironment createEnvironmentSharingGraph(QueryGraphIndex graphIndex) {
+    return BuckQueryEnvironment.from(
+        cell,
+        OwnersReport.builder(cell, parser, parserState),
+        parser,
+        parserState,
+        executor,
+        targetPatternEvaluator,
+        eventBus,
+        TYPE_COERCER_FACTORY,
+        graphIndex);
+  }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.engine.cache.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.artifact_cache.StreamingArtifactOutput;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class StagingArtifactOutputTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+
+  @Before
+  public void setUp() {
+    filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+  }
+
+  @Test
+  public void streamedPayloadIsMovedIntoPlaceAndCleansItsDirectories() throws IOException {
+    filesystem.mkdirs(Paths.get("dir"));
+    filesystem.writeContentsToPath("stale", Paths.get("dir/stale.txt"));
+    filesystem.mkdirs(Paths.get("other"));
+    filesystem.writeContentsToPath("kept", Paths.get("other/kept.txt"));
+    filesystem.writeContentsToPath("old", Paths.get("dir/a.txt"));
+
+    StagingArtifactOutput output = new StagingArtifactOutput(filesystem, "artifact");
+    try (OutputStream payload = output.forFetch().openPayloadStream()) {
+      writeTar(payload);
+    }
+
+    assertTrue(output.isPayloadStaged());
+    assertFalse(output.getArchive().isPresent());
+    assertEquals(
+        ImmutableSet.of(Paths.get("dir/a.txt"), Paths.get("other/b.txt")),
+        output.moveStagedPayloadIntoPlace());
+    assertEquals("a", filesystem.readFileIfItExists(Paths.get("dir/a.txt")).get());
+    assertEquals("b", filesystem.readFileIfItExists(Paths.get("other/b.txt")).get());
+    assertFalse(filesystem.exists(Paths.get("dir/stale.txt")));
+    assertTrue(filesystem.exists(Paths.get("other/kept.txt")));
+    assertTrue(filesystem.getDirectoryContents(filesystem.getBuckPaths().getTmpDir()).isEmpty());
+  }
+
+  @Test
+  public void payloadWrittenToTheFileReplacesTheStreamedPayload() throws IOException {
+    StagingArtifactOutput output = new StagingArtifactOutput(filesystem, "artifact");
+    try (OutputStream payload = output.forFetch().openPayloadStream()) {
+      writeTar(payload);
+    }
+
+    Path archive = output.forFetch().get();
+
+    assertFalse(output.isPayloadStaged());
+    assertEquals(archive, output.getArchive().get());
+    assertEquals(
+        ImmutableSet.of(archive),
+        ImmutableSet.copyOf(
+            filesystem.getDirectoryContents(filesystem.getBuckPaths().getTmpDir()).stream()
+                .map(filesystem::resolve)
+                .iterator()));
+  }
+
+  @Test
+  public void streamedPayloadIsAlsoWrittenToTheFile() throws IOException {
+    StagingArtifactOutput output = new StagingArtifactOutput(filesystem, "artifact");
+    StreamingArtifactOutput fetchOutput = output.alsoWritingToFile();
+    try (OutputStream payload = fetchOutput.openPayloadStream()) {
+      writeTar(payload);
+    }
+
+    assertTrue(output.isPayloadStaged());
+    assertTrue(filesystem.getFileSize(output.getArchive().get()) > 0);
+    assertEquals(2, output.moveStagedPayloadIntoPlace().size());
+  }
+
+  @Test
+  public void wholePayloadCanBeWrittenEvenIfItCannotBeExtracted() throws IOException {
+    StagingArtifactOutput output = new StagingArtifactOutput(filesystem, "artifact");
+    OutputStream payload = output.openPayloadStream();
+    // More than can be buffered while waiting to be extracted.
+    byte[] notAnArchive = new byte[4 * 1024 * 1024];
+    Arrays.fill(notAnArchive, (byte) 'x');
+    payload.write(notAnArchive);
+    try {
+      payload.close();
+      fail("Closing the stream should fail if the payload could not be extracted.");
+    } catch (IOException e) {
+      // Expected.
+    }
+
+    output.deleteStagingDir();
+    assertTrue(filesystem.getDirectoryContents(filesystem.getBuckPaths().getTmpDir()).isEmpty());
+  }
+
+  private static void writeTar(OutputStream payload) throws IOException {
+    TarArchiveOutputStream tar = new TarArchiveOutputStream(payload);
+    tar.putArchiveEntry(new TarArchiveEntry("dir/"));
+    tar.closeArchiveEntry();
+    writeEntry(tar, "dir/a.txt", "a");
+    writeEntry(tar, "other/b.txt", "b");
+    tar.finish();
+  }
+
+  private static void writeEntry(TarArchiveOutputStream tar, String name, String contents)
+      throws IOException {
+    byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+    TarArchiveEntry entry = new TarArchiveEntry(name);
+    entry.setSize(bytes.length);
+    tar.putArchiveEntry(entry);
+    tar.write(bytes);
+    tar.closeArchiveEntry();
+  }
+}
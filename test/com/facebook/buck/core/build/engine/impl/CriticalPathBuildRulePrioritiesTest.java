@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.engine.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.impl.FakeBuildRule;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Optional;
+import org.junit.Test;
+
+public class CriticalPathBuildRulePrioritiesTest {
+
+  private static final BuildRuleDurationHistory HISTORY =
+      BuildRuleDurationHistory.empty()
+          .withBuild(
+              ImmutableMap.of(
+                  "//:leaf", 10L, "//:mid", 10L, "//:top", 10L, "//:slow", 25L, "//:outside", 7L),
+              Optional.empty());
+
+  @Test
+  public void rulesAreRankedByTheLongestChainDependingOnThem() {
+    BuildRule leaf = new FakeBuildRule("//:leaf");
+    BuildRule mid = new FakeBuildRule("//:mid", leaf);
+    BuildRule top = new FakeBuildRule("//:top", mid);
+    BuildRule slow = new FakeBuildRule("//:slow");
+    BuildRulePriorities priorities =
+        new CriticalPathBuildRulePriorities(ImmutableList.of(top, slow, mid, leaf), HISTORY);
+
+    assertEquals(30, priorities.getPriority(leaf));
+    assertEquals(20, priorities.getPriority(mid));
+    assertEquals(10, priorities.getPriority(top));
+    assertEquals(25, priorities.getPriority(slow));
+  }
+
+  @Test
+  public void dependencyOfSeveralChainsIsRankedByTheLongestOne() {
+    BuildRule leaf = new FakeBuildRule("//:leaf");
+    BuildRule mid = new FakeBuildRule("//:mid", leaf);
+    BuildRule top = new FakeBuildRule("//:top", mid);
+    BuildRule slow = new FakeBuildRule("//:slow", leaf);
+    BuildRulePriorities priorities =
+        new CriticalPathBuildRulePriorities(ImmutableList.of(top, slow, mid, leaf), HISTORY);
+
+    assertEquals(35, priorities.getPriority(leaf));
+  }
+
+  @Test
+  public void rulesWithoutHistoryTakeTheMeanDuration() {
+    BuildRule leaf = new FakeBuildRule("//:leaf");
+    BuildRule slow = new FakeBuildRule("//:slow");
+    BuildRule unknown = new FakeBuildRule("//:unknown", leaf, slow);
+    BuildRulePriorities priorities =
+        new CriticalPathBuildRulePriorities(ImmutableList.of(unknown, leaf, slow), HISTORY);
+
+    long mean = (10 + 25) / 2;
+    assertEquals(mean, priorities.getPriority(unknown));
+    assertEquals(25 + mean, priorities.getPriority(slow));
+    // Rules that aren't part of the graph are ranked by their own duration.
+    assertEquals(7, priorities.getPriority(new FakeBuildRule("//:outside")));
+  }
+}
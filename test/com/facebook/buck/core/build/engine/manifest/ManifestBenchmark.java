@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.engine.manifest;
+
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolver;
+import com.facebook.buck.core.sourcepath.resolver.impl.DefaultSourcePathResolver;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.util.cache.FileHashCache;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures {@link Manifest#lookup} on manifests shaped like those of large C++ rules: every entry
+ * references most of the same headers, and consecutive entries differ in only a few of them. The
+ * on disk state matches the last entry, which is the worst case for a linear scan.
+ */
+public class ManifestBenchmark {
+  @Param({"100", "1000", "5000"})
+  private int entryCount = 1000;
+
+  @Param({"50", "500"})
+  private int headerCount = 50;
+
+  private static final int CHANGED_HEADERS_PER_ENTRY = 3;
+  private static final SourcePathResolver RESOLVER =
+      DefaultSourcePathResolver.from(new SourcePathRuleFinder(new TestActionGraphBuilder()));
+
+  private final Random random = new Random(12345);
+
+  private Manifest manifest;
+  private RuleKey expectedKey;
+  private ImmutableSet<SourcePath> universe;
+  private FileHashCache fileHashCache;
+
+  @Before
+  public void setUp() {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() {
+    ImmutableSet.Builder<SourcePath> universeBuilder = ImmutableSet.builder();
+    int[] versions = new int[headerCount];
+    for (int header = 0; header < headerCount; header++) {
+      universeBuilder.add(FakeSourcePath.of("include/header" + header + ".h"));
+    }
+    universe = universeBuilder.build();
+    SourcePath[] headers = universe.toArray(new SourcePath[0]);
+
+    Map<RuleKey, ImmutableMap<String, HashCode>> entries = new LinkedHashMap<>();
+    for (int entry = 0; entry < entryCount; entry++) {
+      for (int change = 0; change < CHANGED_HEADERS_PER_ENTRY; change++) {
+        versions[random.nextInt(headerCount)]++;
+      }
+      ImmutableMap.Builder<String, HashCode> hashes = ImmutableMap.builder();
+      for (int header = 0; header < headerCount; header++) {
+        hashes.put(
+            RESOLVER.getRelativePath(headers[header]).toString(),
+            hashOf(header, versions[header]));
+      }
+      expectedKey = new RuleKey(HashCode.fromInt(entry));
+      entries.put(expectedKey, hashes.build());
+    }
+    manifest = ManifestUtil.fromMap(new RuleKey("cc"), ImmutableMap.copyOf(entries));
+
+    Map<Path, HashCode> onDisk = new HashMap<>();
+    for (int header = 0; header < headerCount; header++) {
+      onDisk.put(RESOLVER.getAbsolutePath(headers[header]), hashOf(header, versions[header]));
+    }
+    fileHashCache = new FakeFileHashCache(onDisk);
+  }
+
+  private static HashCode hashOf(int header, int version) {
+    return HashCode.fromLong(((long) header << 32) | version);
+  }
+
+  @Test
+  public void lookupFindsLastEntry() throws IOException {
+    assertThat(lookup(), Matchers.equalTo(Optional.of(expectedKey)));
+  }
+
+  @Benchmark
+  public Optional<RuleKey> lookup() throws IOException {
+    return manifest.lookup(fileHashCache, RESOLVER, universe);
+  }
+}
@@ -42,7 +42,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
@@ -284,6 +286,137 @@ public class ManifestTest {
         Matchers.equalTo(Optional.of(key2)));
   }
 
+  @Test
+  public void lookupMatchesEntryNotReferencingMostCommonInput() throws IOException {
+    RuleKey key1 = new RuleKey("aa");
+    RuleKey key2 = new RuleKey("bb");
+    RuleKey key3 = new RuleKey("dd");
+    SourcePath common = FakeSourcePath.of("common.h");
+    SourcePath other = FakeSourcePath.of("other.h");
+    SourcePath rare = FakeSourcePath.of("rare.h");
+    Manifest manifest =
+        ManifestUtil.fromMap(
+            new RuleKey("cc"),
+            ImmutableMap.of(
+                key1,
+                ImmutableMap.of(
+                    RESOLVER.getRelativePath(common).toString(), HashCode.fromInt(1),
+                    RESOLVER.getRelativePath(other).toString(), HashCode.fromInt(2)),
+                key2,
+                ImmutableMap.of(
+                    RESOLVER.getRelativePath(common).toString(), HashCode.fromInt(3),
+                    RESOLVER.getRelativePath(other).toString(), HashCode.fromInt(2)),
+                key3,
+                ImmutableMap.of(RESOLVER.getRelativePath(rare).toString(), HashCode.fromInt(4))));
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(
+            ImmutableMap.of(
+                RESOLVER.getAbsolutePath(common),
+                HashCode.fromInt(5),
+                RESOLVER.getAbsolutePath(other),
+                HashCode.fromInt(2),
+                RESOLVER.getAbsolutePath(rare),
+                HashCode.fromInt(4)));
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, ImmutableSet.of(common, other, rare)),
+        Matchers.equalTo(Optional.of(key3)));
+  }
+
+  @Test
+  public void lookupOnlyChecksEntriesMatchingTheInputWithTheMostDistinctHashes()
+      throws IOException {
+    SourcePath common = FakeSourcePath.of("common.h");
+    SourcePath config = FakeSourcePath.of("config.h");
+    ImmutableMap.Builder<RuleKey, ImmutableMap<String, HashCode>> entries = ImmutableMap.builder();
+    ImmutableMap.Builder<Path, HashCode> onDiskHashes = ImmutableMap.builder();
+    ImmutableSet.Builder<SourcePath> universe = ImmutableSet.builder();
+    universe.add(common, config);
+    for (int i = 0; i < 4; i++) {
+      // Every entry shares the same common.h, and checks its own header before config.h.
+      SourcePath own = FakeSourcePath.of("own" + i + ".h");
+      entries.put(
+          new RuleKey("aa0" + i),
+          ImmutableMap.of(
+              RESOLVER.getRelativePath(common).toString(), HashCode.fromInt(100),
+              RESOLVER.getRelativePath(own).toString(), HashCode.fromInt(10 + i),
+              RESOLVER.getRelativePath(config).toString(), HashCode.fromInt(i)));
+      onDiskHashes.put(RESOLVER.getAbsolutePath(own), HashCode.fromInt(10 + i));
+      universe.add(own);
+    }
+    onDiskHashes.put(RESOLVER.getAbsolutePath(common), HashCode.fromInt(100));
+    onDiskHashes.put(RESOLVER.getAbsolutePath(config), HashCode.fromInt(2));
+    Manifest manifest = ManifestUtil.fromMap(new RuleKey("cc"), entries.build());
+
+    Set<Path> hashedPaths = new HashSet<>();
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(new HashMap<>(onDiskHashes.build())) {
+          @Override
+          public HashCode get(Path path) throws IOException {
+            hashedPaths.add(path);
+            return super.get(path);
+          }
+        };
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, universe.build()),
+        Matchers.equalTo(Optional.of(new RuleKey("aa02"))));
+    // The entries recorded with another config.h were pruned without hashing their own headers.
+    assertThat(
+        hashedPaths,
+        Matchers.equalTo(
+            ImmutableSet.of(
+                RESOLVER.getAbsolutePath(common),
+                RESOLVER.getAbsolutePath(config),
+                RESOLVER.getAbsolutePath(FakeSourcePath.of("own2.h")))));
+  }
+
+  @Test
+  public void lookupReturnsFirstMatchingEntry() throws IOException {
+    RuleKey key1 = new RuleKey("aa");
+    RuleKey key2 = new RuleKey("bb");
+    RuleKey key3 = new RuleKey("dd");
+    SourcePath first = FakeSourcePath.of("first.h");
+    SourcePath second = FakeSourcePath.of("second.h");
+    Manifest manifest =
+        ManifestUtil.fromMap(
+            new RuleKey("cc"),
+            ImmutableMap.of(
+                key1,
+                ImmutableMap.of(RESOLVER.getRelativePath(second).toString(), HashCode.fromInt(2)),
+                key2,
+                ImmutableMap.of(
+                    RESOLVER.getRelativePath(first).toString(), HashCode.fromInt(1),
+                    RESOLVER.getRelativePath(second).toString(), HashCode.fromInt(2)),
+                key3,
+                ImmutableMap.of(RESOLVER.getRelativePath(first).toString(), HashCode.fromInt(1))));
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(
+            ImmutableMap.of(
+                RESOLVER.getAbsolutePath(first),
+                HashCode.fromInt(1),
+                RESOLVER.getAbsolutePath(second),
+                HashCode.fromInt(2)));
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, ImmutableSet.of(first, second)),
+        Matchers.equalTo(Optional.of(key1)));
+  }
+
+  @Test
+  public void lookupSeesEntriesAddedAfterPreviousLookup() throws IOException {
+    Manifest manifest = new Manifest(new RuleKey("cc"));
+    RuleKey key = new RuleKey("aa");
+    SourcePath input = FakeSourcePath.of("input.h");
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(
+            ImmutableMap.of(RESOLVER.getAbsolutePath(input), HashCode.fromInt(20)));
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, ImmutableSet.of(input)),
+        Matchers.equalTo(Optional.empty()));
+    manifest.addEntry(fileHashCache, key, RESOLVER, ImmutableSet.of(input), ImmutableSet.of(input));
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, ImmutableSet.of(input)),
+        Matchers.equalTo(Optional.of(key)));
+  }
+
   @Test
   public void size() {
     assertThat(new Manifest(new RuleKey("cc")).size(), Matchers.equalTo(0));
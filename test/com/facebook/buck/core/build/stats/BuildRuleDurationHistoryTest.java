@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.build.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.build.engine.type.BuildSchedulingStrategy;
+import com.facebook.buck.core.build.stats.BuildRuleDurationHistory.BuildRecord;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BuildRuleDurationHistoryTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  @Test
+  public void durationsAreAveragedWithPreviousBuilds() {
+    BuildRuleDurationHistory history =
+        BuildRuleDurationHistory.empty()
+            .withBuild(ImmutableMap.of("//:a", 100L, "//:b", 10L), Optional.empty())
+            .withBuild(ImmutableMap.of("//:a", 200L), Optional.empty());
+
+    assertEquals(Optional.of(150L), history.getDurationMillis("//:a"));
+    assertEquals(Optional.of(10L), history.getDurationMillis("//:b"));
+    assertEquals(Optional.empty(), history.getDurationMillis("//:c"));
+  }
+
+  @Test
+  public void savedHistoryIsLoaded() throws IOException {
+    Path path = tmp.getRoot().resolve("log").resolve(BuildRuleDurationHistory.FILE_NAME);
+    BuildRuleDurationHistory.empty()
+        .withBuild(
+            ImmutableMap.of("//:a", 100L),
+            Optional.of(new BuildRecord(BuildSchedulingStrategy.FIFO, 1000L, 500L)))
+        .withBuild(
+            ImmutableMap.of("//:a", 100L),
+            Optional.of(new BuildRecord(BuildSchedulingStrategy.CRITICAL_PATH, 600L, 500L)))
+        .save(path);
+
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.load(path);
+    assertEquals(Optional.of(100L), history.getDurationMillis("//:a"));
+    assertEquals(2, history.getBuilds().size());
+    assertEquals(
+        1000.0, history.getMeanWallMillis(BuildSchedulingStrategy.FIFO).getAsDouble(), 0.0);
+    assertEquals(
+        1.2,
+        history
+            .getMeanWallToCriticalPathRatio(BuildSchedulingStrategy.CRITICAL_PATH)
+            .getAsDouble(),
+        0.001);
+  }
+
+  @Test
+  public void missingOrCorruptHistoryIsEmpty() throws IOException {
+    Path path = tmp.getRoot().resolve(BuildRuleDurationHistory.FILE_NAME);
+    assertTrue(BuildRuleDurationHistory.load(path).getDurations().isEmpty());
+
+    Files.write(path, "{\"durations\": [".getBytes(StandardCharsets.UTF_8));
+    assertTrue(BuildRuleDurationHistory.load(path).getDurations().isEmpty());
+    assertFalse(
+        BuildRuleDurationHistory.load(path)
+            .getMeanWallMillis(BuildSchedulingStrategy.FIFO)
+            .isPresent());
+  }
+
+  @Test
+  public void onlyRecentBuildsAreKept() {
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.empty();
+    for (int i = 0; i < BuildRuleDurationHistory.MAX_BUILDS + 10; i++) {
+      history =
+          history.withBuild(
+              ImmutableMap.of(),
+              Optional.of(new BuildRecord(BuildSchedulingStrategy.FIFO, i, 1)));
+    }
+    assertEquals(BuildRuleDurationHistory.MAX_BUILDS, history.getBuilds().size());
+    assertEquals(
+        BuildRuleDurationHistory.MAX_BUILDS + 9,
+        history.getBuilds().get(history.getBuilds().size() - 1).getWallMillis());
+  }
+}
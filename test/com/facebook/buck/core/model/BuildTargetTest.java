@@ -182,4 +182,15 @@ public class BuildTargetTest {
             .build();
     assertSame(target1, target2);
   }
+
+  @Test
+  public void flavoredBuildTargetsAreInterned() {
+    Flavor flavor = InternalFlavor.of("flavor");
+    BuildTarget target = BuildTargetFactory.newInstance(ROOT, "//foo", "bar", flavor);
+    assertSame(
+        target,
+        BuildTargetFactory.newInstance(ROOT, "//foo", "bar").withAppendedFlavors(flavor));
+    assertSame(
+        BuildTargetFactory.newInstance(ROOT, "//foo", "bar"), target.withoutFlavors(flavor));
+  }
 }
@@ -23,9 +23,11 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.core.model.BuildTarget;
 import com.facebook.buck.core.model.BuildTargetFactory;
@@ -217,6 +219,92 @@ public class ActionGraphProviderTest {
     runAndCheckExpectedHitMissCount(cache, runList);
   }
 
+  @Test
+  public void ruleBudgetKeepsSeveralSmallGraphs() {
+    ActionGraphProvider cache =
+        new ActionGraphProviderBuilder()
+            .withPoolSupplier(fakePoolSupplier)
+            .withActionGraphCache(new ActionGraphCache(1, Optional.of(3L)))
+            .withEventBus(eventBus)
+            .withCheckActionGraphs()
+            .build();
+
+    // List of (graph to run, (expected hit count, expected miss count))
+    ArrayList<Pair<TargetGraph, Pair<Integer, Integer>>> runList = new ArrayList<>();
+
+    // Graph 1 has 2 rules and graph 2 has 1, so both fit in the budget of 3 rules.
+    runList.add(new Pair<>(targetGraph1, new Pair<>(0, 1)));
+    runList.add(new Pair<>(targetGraph2, new Pair<>(0, 2)));
+    runList.add(new Pair<>(targetGraph1, new Pair<>(1, 2)));
+    runList.add(new Pair<>(targetGraph2, new Pair<>(2, 2)));
+
+    runAndCheckExpectedHitMissCount(cache, runList);
+
+    ActionGraphEvent.Cache.Stats stats = getLastStatsEvent();
+    assertEquals(2, stats.getHitCount());
+    assertEquals(2, stats.getMissCount());
+    assertEquals(0, stats.getEvictionCount());
+    assertEquals(2, stats.getEntryCount());
+    assertEquals(3, stats.getRuleCount());
+  }
+
+  @Test
+  public void ruleBudgetEvictsLeastRecentlyUsedGraphs() {
+    ActionGraphProvider cache =
+        new ActionGraphProviderBuilder()
+            .withPoolSupplier(fakePoolSupplier)
+            .withActionGraphCache(new ActionGraphCache(10, Optional.of(2L)))
+            .withEventBus(eventBus)
+            .withCheckActionGraphs()
+            .build();
+
+    cache.getActionGraph(targetGraph2);
+    cache.getActionGraph(targetGraph1);
+
+    ActionGraphEvent.Cache.Stats stats = getLastStatsEvent();
+    assertEquals(1, stats.getEvictionCount());
+    assertEquals(1, stats.getEntryCount());
+    assertEquals(2, stats.getRuleCount());
+  }
+
+  @Test
+  public void ruleBudgetKeepsGraphLargerThanAQuarterOfIt() {
+    // Guava splits the weight budget between the segments of a cache, which would evict a graph
+    // weighing more than a segment's share as soon as it is inserted.
+    List<TargetNode<?>> nodes = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      nodes.add(createTargetNode("lib" + i));
+    }
+    TargetGraph largeTargetGraph = TargetGraphFactory.newInstance(nodes);
+    ActionGraphProvider cache =
+        new ActionGraphProviderBuilder()
+            .withPoolSupplier(fakePoolSupplier)
+            .withActionGraphCache(new ActionGraphCache(1, Optional.of(100L)))
+            .withEventBus(eventBus)
+            .withCheckActionGraphs()
+            .build();
+
+    cache.getActionGraph(largeTargetGraph);
+    cache.getActionGraph(largeTargetGraph);
+
+    ActionGraphEvent.Cache.Stats stats = getLastStatsEvent();
+    assertEquals(1, stats.getHitCount());
+    assertEquals(0, stats.getEvictionCount());
+    assertEquals(1, stats.getEntryCount());
+    assertTrue(stats.getRuleCount() >= 40);
+  }
+
+  private ActionGraphEvent.Cache.Stats getLastStatsEvent() {
+    ActionGraphEvent.Cache.Stats stats = null;
+    for (BuckEvent event : trackedEvents) {
+      if (event instanceof ActionGraphEvent.Cache.Stats) {
+        stats = (ActionGraphEvent.Cache.Stats) event;
+      }
+    }
+    assertNotNull(stats);
+    return stats;
+  }
+
   private void runAndCheckExpectedHitMissCount(
       ActionGraphProvider cache, List<Pair<TargetGraph, Pair<Integer, Integer>>> runList) {
     for (Pair<TargetGraph, Pair<Integer, Integer>> run : runList) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.model.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.Flavor;
+import com.facebook.buck.core.model.InternalFlavor;
+import com.facebook.buck.core.model.UnflavoredBuildTarget;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import org.junit.Test;
+
+public class BuildTargetTableTest {
+
+  private static final Path ROOT = Paths.get("/opt/src/buck");
+  private static final Flavor FLAVOR = InternalFlavor.of("flavor");
+
+  private final BuildTargetTable table = BuildTargetTable.getInstance();
+
+  @Test
+  public void equalTargetsAreTheSameInstanceWithTheSameId() {
+    BuildTarget target = BuildTargetFactory.newInstance(ROOT, "//table", "same", FLAVOR);
+    BuildTarget other =
+        BuildTargetFactory.newInstance(ROOT, "//table", "same").withAppendedFlavors(FLAVOR);
+
+    assertSame(target, other);
+    assertTrue(table.getId(target) >= 0);
+    assertEquals(table.getId(target), table.getId(other));
+    assertNotEquals(table.getId(target), table.getId(target.getUnflavoredBuildTarget()));
+  }
+
+  @Test
+  public void targetsShareNamesAndFlavorSets() {
+    BuildTarget first =
+        BuildTargetFactory.newInstance(ROOT, new String("//table/pool"), "first", FLAVOR);
+    BuildTarget second =
+        BuildTargetFactory.newInstance(
+            Paths.get("/opt/src/buck"), new String("//table/pool"), "second", FLAVOR);
+
+    assertSame(first.getBaseName(), second.getBaseName());
+    assertSame(first.getCellPath(), second.getCellPath());
+    assertSame(first.getFlavors(), second.getFlavors());
+  }
+
+  @Test
+  public void prunedTargetsAreEqualToTheirNewInstances() {
+    BuildTarget pruned = BuildTargetFactory.newInstance(ROOT, "//table", "pruned", FLAVOR);
+    UnflavoredBuildTarget prunedUnflavored = pruned.getUnflavoredBuildTarget();
+
+    table.prune(ImmutableSet.of(prunedUnflavored));
+    BuildTarget target = BuildTargetFactory.newInstance(ROOT, "//table", "pruned", FLAVOR);
+
+    assertNotSame(pruned, target);
+    assertEquals(pruned, target);
+    assertEquals(target, pruned);
+    assertEquals(pruned.hashCode(), target.hashCode());
+    assertEquals(prunedUnflavored, target.getUnflavoredBuildTarget());
+    assertEquals(target.getUnflavoredBuildTarget(), prunedUnflavored);
+    assertEquals(-1, table.getId(pruned));
+    assertEquals(-1, table.getId(prunedUnflavored));
+    assertTrue(table.getId(target) >= 0);
+    assertNotEquals(
+        ImmutableUnflavoredBuildTarget.of(ROOT, Optional.empty(), "//table", "other"),
+        prunedUnflavored);
+  }
+
+  @Test
+  public void flavoringAPrunedTargetAddsItBack() {
+    BuildTarget pruned = BuildTargetFactory.newInstance(ROOT, "//table", "readded");
+    table.prune(ImmutableSet.of(pruned.getUnflavoredBuildTarget()));
+
+    BuildTarget flavored = pruned.withAppendedFlavors(FLAVOR);
+
+    assertSame(flavored, BuildTargetFactory.newInstance(ROOT, "//table", "readded", FLAVOR));
+    assertTrue(table.getId(flavored) >= 0);
+    assertEquals(pruned, flavored.withoutFlavors());
+  }
+
+  @Test
+  public void clearedTargetsAreEqualToTheirNewInstances() {
+    BuildTarget cleared = BuildTargetFactory.newInstance(ROOT, "//table", "cleared", FLAVOR);
+
+    table.clear();
+    BuildTarget target = BuildTargetFactory.newInstance(ROOT, "//table", "cleared", FLAVOR);
+
+    assertNotSame(cleared, target);
+    assertEquals(cleared, target);
+    assertEquals(-1, table.getId(cleared));
+  }
+}
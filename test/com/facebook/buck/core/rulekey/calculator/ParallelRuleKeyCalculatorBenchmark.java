@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.rulekey.calculator;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.build.engine.RuleDepsCache;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.BuildRule;
+import com.facebook.buck.core.rules.impl.FakeBuildRule;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.rules.keys.RuleKeyFactory;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures rule key calculation throughput over synthetic action graphs, for a range of executor
+ * sizes. "deep" graphs are long chains of narrow layers, "wide" graphs are a few layers with a very
+ * large fan-out, which is what most large Java and C++ graphs look like.
+ */
+public class ParallelRuleKeyCalculatorBenchmark {
+  @Param({"1", "8", "32", "64"})
+  private int threadCount = 8;
+
+  @Param({"deep", "wide"})
+  private String shape = "deep";
+
+  @Param({"10000", "100000"})
+  private int ruleCount = 10000;
+
+  private static final int DEEP_LAYER_WIDTH = 8;
+  private static final int WIDE_LAYER_COUNT = 4;
+  private static final int DEPS_PER_RULE = 4;
+
+  private final Random random = new Random(12345);
+
+  private List<BuildRule> roots;
+  private AtomicInteger builtKeys;
+  private BuckEventBus eventBus;
+  private ListeningExecutorService executor;
+
+  @Before
+  public void setUp() {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() {
+    eventBus = BuckEventBusForTests.newInstance();
+    builtKeys = new AtomicInteger();
+    // A fork-join pool gives the calculator work-stealing scheduling of the continuations it
+    // submits, which is the configuration we want to measure.
+    executor = MoreExecutors.listeningDecorator(new ForkJoinPool(threadCount));
+
+    int layerWidth = shape.equals("deep") ? DEEP_LAYER_WIDTH : ruleCount / WIDE_LAYER_COUNT;
+    roots = createGraph(ruleCount / layerWidth, layerWidth);
+  }
+
+  @After
+  @AfterExperiment
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private List<BuildRule> createGraph(int layerCount, int layerWidth) {
+    List<BuildRule> previousLayer = new ArrayList<>();
+    for (int layer = 0; layer < layerCount; layer++) {
+      List<BuildRule> currentLayer = new ArrayList<>(layerWidth);
+      for (int i = 0; i < layerWidth; i++) {
+        ImmutableSortedSet.Builder<BuildRule> deps = ImmutableSortedSet.naturalOrder();
+        if (!previousLayer.isEmpty()) {
+          // Always depend on the rule "below" us, so that every rule is reachable from the roots.
+          deps.add(previousLayer.get(i % previousLayer.size()));
+          for (int d = 1; d < DEPS_PER_RULE; d++) {
+            deps.add(previousLayer.get(random.nextInt(previousLayer.size())));
+          }
+        }
+        currentLayer.add(
+            new FakeBuildRule(
+                BuildTargetFactory.newInstance("//layer" + layer + ":rule" + i), deps.build()));
+      }
+      previousLayer = currentLayer;
+    }
+    return previousLayer;
+  }
+
+  private ParallelRuleKeyCalculator<RuleKey> newCalculator() {
+    return new ParallelRuleKeyCalculator<>(
+        executor,
+        new HashingRuleKeyFactory(builtKeys),
+        new BuildDepsCache(),
+        (buckEventBus, rule) -> () -> {});
+  }
+
+  @Test
+  public void calculatesEachRuleKeyExactlyOnce() {
+    calculateAllRuleKeys();
+    assertEquals(ruleCount, builtKeys.get());
+  }
+
+  @Test
+  public void calculatesEachRuleKeyExactlyOnceForWideGraphs() {
+    tearDown();
+    shape = "wide";
+    setUpBenchmark();
+    calculateAllRuleKeys();
+    assertEquals(ruleCount, builtKeys.get());
+  }
+
+  @Benchmark
+  public void calculateAllRuleKeys() {
+    ParallelRuleKeyCalculator<RuleKey> calculator = newCalculator();
+    List<ListenableFuture<RuleKey>> futures = new ArrayList<>(roots.size());
+    for (BuildRule root : roots) {
+      futures.add(calculator.calculate(eventBus, root));
+    }
+    Futures.getUnchecked(Futures.allAsList(futures));
+  }
+
+  /** Hashes the target name, standing in for the per-rule work of a real factory. */
+  private static class HashingRuleKeyFactory implements RuleKeyFactory<RuleKey> {
+    private final AtomicInteger builtKeys;
+
+    private HashingRuleKeyFactory(AtomicInteger builtKeys) {
+      this.builtKeys = builtKeys;
+    }
+
+    @Override
+    public RuleKey build(BuildRule buildRule) {
+      builtKeys.incrementAndGet();
+      Hasher hasher = Hashing.sha1().newHasher();
+      hasher.putString(buildRule.getFullyQualifiedName(), StandardCharsets.UTF_8);
+      return new RuleKey(hasher.hash());
+    }
+  }
+
+  private static class BuildDepsCache implements RuleDepsCache {
+    @Override
+    public SortedSet<BuildRule> get(BuildRule rule) {
+      return rule.getBuildDeps();
+    }
+
+    @Override
+    public SortedSet<BuildRule> getRuntimeDeps(BuildRule rule) {
+      return ImmutableSortedSet.of();
+    }
+  }
+}
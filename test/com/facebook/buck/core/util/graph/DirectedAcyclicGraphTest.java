@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.util.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class DirectedAcyclicGraphTest {
+
+  private static MutableDirectedGraph<String> createDiamond() {
+    MutableDirectedGraph<String> graph = new MutableDirectedGraph<>();
+    graph.addEdge("A", "B");
+    graph.addEdge("A", "C");
+    graph.addEdge("B", "D");
+    graph.addEdge("C", "D");
+    graph.addNode("E");
+    return graph;
+  }
+
+  @Test
+  public void edgesMatchTheMutableGraph() {
+    MutableDirectedGraph<String> mutableGraph = createDiamond();
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(mutableGraph);
+
+    assertEquals(ImmutableSet.of("A", "B", "C", "D", "E"), graph.getNodes());
+    for (String node : mutableGraph.getNodes()) {
+      assertEquals(mutableGraph.getOutgoingNodesFor(node), graph.getOutgoingNodesFor(node));
+      assertEquals(mutableGraph.getIncomingNodesFor(node), graph.getIncomingNodesFor(node));
+    }
+    assertEquals(ImmutableSet.of("A", "E"), graph.getNodesWithNoIncomingEdges());
+    assertEquals(ImmutableSet.of("D", "E"), graph.getNodesWithNoOutgoingEdges());
+  }
+
+  @Test
+  public void edgeSetsSupportLookups() {
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(createDiamond());
+
+    Set<String> sinks = graph.getOutgoingNodesFor("A");
+    assertEquals(2, sinks.size());
+    assertTrue(sinks.contains("B"));
+    assertTrue(sinks.contains("C"));
+    assertFalse(sinks.contains("D"));
+    assertFalse(sinks.contains("Z"));
+    assertTrue(graph.getOutgoingNodesFor("Z").isEmpty());
+    assertTrue(graph.getIncomingNodesFor("E").isEmpty());
+  }
+
+  @Test
+  public void graphsWithTheSameEdgesAreEqual() {
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(createDiamond());
+
+    MutableDirectedGraph<String> sameEdges = new MutableDirectedGraph<>();
+    sameEdges.addNode("E");
+    sameEdges.addEdge("C", "D");
+    sameEdges.addEdge("B", "D");
+    sameEdges.addEdge("A", "C");
+    sameEdges.addEdge("A", "B");
+    DirectedAcyclicGraph<String> same = new DirectedAcyclicGraph<>(sameEdges);
+    assertEquals(graph, same);
+    assertEquals(graph.hashCode(), same.hashCode());
+
+    MutableDirectedGraph<String> otherEdges = createDiamond();
+    otherEdges.removeEdge("C", "D");
+    otherEdges.addEdge("A", "D");
+    assertNotEquals(graph, new DirectedAcyclicGraph<>(otherEdges));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void cyclicGraphsAreRejected() {
+    MutableDirectedGraph<String> graph = createDiamond();
+    graph.addEdge("D", "A");
+    new DirectedAcyclicGraph<>(graph);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.core.util.graph;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares building and traversing graphs with {@link MutableDirectedGraph} and {@link
+ * DirectedAcyclicGraph}, over random acyclic graphs shaped like target graphs. Run with Caliper's
+ * allocation instrument to compare the memory the graphs take.
+ */
+public class DirectedGraphBenchmark {
+  @Param({"10000", "100000"})
+  private int nodeCount = 10000;
+
+  @Param({"10"})
+  private int edgesPerNode = 10;
+
+  @Param({"8"})
+  private int threadCount = 8;
+
+  private final Random random = new Random(12345);
+
+  private String[] nodes;
+  private int[][] sinks;
+  private MutableDirectedGraph<String> mutableGraph;
+  private DirectedAcyclicGraph<String> acyclicGraph;
+  private ExecutorService executor;
+
+  @Before
+  @BeforeExperiment
+  public void setUp() {
+    nodes = new String[nodeCount];
+    sinks = new int[nodeCount][];
+    for (int i = 0; i < nodeCount; i++) {
+      nodes[i] = "//package" + (i / 10) + ":rule" + i;
+      // Edges only point to nodes with higher numbers, so the graph is acyclic.
+      int edges = Math.min(edgesPerNode, nodeCount - i - 1);
+      sinks[i] = new int[edges];
+      for (int e = 0; e < edges; e++) {
+        sinks[i][e] = i + 1 + random.nextInt(nodeCount - i - 1);
+      }
+    }
+    mutableGraph = buildMutableGraph();
+    acyclicGraph = new DirectedAcyclicGraph<>(mutableGraph);
+    executor = Executors.newFixedThreadPool(threadCount);
+  }
+
+  @After
+  @AfterExperiment
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void graphsHaveTheSameEdges() throws Exception {
+    MutableDirectedGraph<String> concurrentGraph = buildConcurrentGraph();
+    assertEquals(mutableGraph.getEdgeCount(), concurrentGraph.getEdgeCount());
+    assertEquals(acyclicGraph, new DirectedAcyclicGraph<>(concurrentGraph));
+    assertEquals(traverse(mutableGraph), traverse(acyclicGraph));
+  }
+
+  @Benchmark
+  public MutableDirectedGraph<String> buildMutableGraph() {
+    MutableDirectedGraph<String> graph = new MutableDirectedGraph<>();
+    addEdges(graph, 0, 1);
+    return graph;
+  }
+
+  @Benchmark
+  public MutableDirectedGraph<String> buildConcurrentGraph()
+      throws ExecutionException, InterruptedException {
+    MutableDirectedGraph<String> graph = MutableDirectedGraph.createConcurrent();
+    List<Future<?>> futures = new ArrayList<>(threadCount);
+    for (int thread = 0; thread < threadCount; thread++) {
+      int firstNode = thread;
+      futures.add(executor.submit(() -> addEdges(graph, firstNode, threadCount)));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    return graph;
+  }
+
+  @Benchmark
+  public DirectedAcyclicGraph<String> buildDirectedAcyclicGraph() {
+    return new DirectedAcyclicGraph<>(mutableGraph);
+  }
+
+  @Benchmark
+  public int traverseMutableGraph() {
+    return traverse(mutableGraph);
+  }
+
+  @Benchmark
+  public int traverseDirectedAcyclicGraph() {
+    return traverse(acyclicGraph);
+  }
+
+  private void addEdges(MutableDirectedGraph<String> graph, int firstNode, int step) {
+    for (int i = firstNode; i < nodeCount; i += step) {
+      graph.addNode(nodes[i]);
+      for (int sink : sinks[i]) {
+        graph.addEdge(nodes[i], nodes[sink]);
+      }
+    }
+  }
+
+  /** Visits every node bottom up, which looks up the roots and the outgoing edges of each node. */
+  private static int traverse(TraversableGraph<String> graph) {
+    int[] visited = {0};
+    new AbstractBottomUpTraversal<String, RuntimeException>(graph) {
+      @Override
+      public void visit(String node) {
+        visited[0]++;
+      }
+    }.traverse();
+    return visited[0];
+  }
+}
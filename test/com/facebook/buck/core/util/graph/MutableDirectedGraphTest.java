@@ -21,7 +21,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 public class MutableDirectedGraphTest {
@@ -122,4 +127,38 @@ public class MutableDirectedGraphTest {
     graph.addNode("C");
     assertTrue(graph.isAcyclic());
   }
+
+  @Test
+  public void testConcurrentGraphKeepsEdgesAddedFromManyThreads() throws Exception {
+    MutableDirectedGraph<Integer> graph = MutableDirectedGraph.createConcurrent();
+    int threadCount = 8;
+    int nodesPerThread = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < threadCount; thread++) {
+        int firstNode = thread * nodesPerThread;
+        futures.add(
+            executor.submit(
+                () -> {
+                  // Every thread adds edges into the same few sinks, which share edge sets.
+                  for (int node = firstNode; node < firstNode + nodesPerThread; node++) {
+                    graph.addEdge(node + threadCount, node % threadCount);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(threadCount * nodesPerThread, graph.getEdgeCount());
+    int incomingEdges = 0;
+    for (int sink = 0; sink < threadCount; sink++) {
+      incomingEdges += graph.getIncomingNodesFor(sink).size();
+    }
+    assertEquals(threadCount * nodesPerThread, incomingEdges);
+  }
 }
@@ -19,13 +19,19 @@ package com.facebook.buck.event;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import com.facebook.buck.util.timing.DefaultClock;
 import com.facebook.buck.util.timing.SettableFakeClock;
 import com.google.common.eventbus.Subscribe;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
@@ -115,6 +121,91 @@ public class DefaultBuckEventBusTest {
     assertEquals(event.getNanoTime(), 64738);
   }
 
+  @Test
+  public void asyncBusDeliversEventsInOrderToEveryListener() throws IOException {
+    DefaultBuckEventBus eb =
+        new DefaultBuckEventBus(
+            new DefaultClock(), true, BuckEventBusForTests.BUILD_ID_FOR_TEST, timeoutMillis);
+    RecordingSubscriber first = new RecordingSubscriber();
+    RecordingSubscriber second = new RecordingSubscriber();
+    eb.register(first);
+    eb.register(second);
+
+    // Span a few chunks of the ring.
+    List<TestEvent> events = new ArrayList<>();
+    for (int i = 0; i < EventRing.CHUNK_SIZE * 3 + 1; i++) {
+      TestEvent event = new TestEvent();
+      events.add(event);
+      eb.post(event);
+    }
+    eb.close();
+
+    assertEquals(events, first.events);
+    assertEquals(events, second.events);
+  }
+
+  @Test
+  public void asyncBusIsNotHeldUpBySlowListener() throws Exception {
+    DefaultBuckEventBus eb =
+        new DefaultBuckEventBus(
+            new DefaultClock(), true, BuckEventBusForTests.BUILD_ID_FOR_TEST, timeoutMillis);
+    CountDownLatch release = new CountDownLatch(1);
+    eb.register(
+        new Object() {
+          @Subscribe
+          public void block(TestEvent event) throws InterruptedException {
+            release.await();
+          }
+        });
+    CountDownLatch delivered = new CountDownLatch(2);
+    eb.register(
+        new Object() {
+          @Subscribe
+          public void count(TestEvent event) {
+            delivered.countDown();
+          }
+        });
+
+    eb.post(new TestEvent());
+    eb.post(new TestEvent());
+    assertTrue(delivered.await(timeoutMillis, TimeUnit.MILLISECONDS));
+    assertFalse(eb.waitEvents(50));
+
+    release.countDown();
+    assertTrue(eb.waitEvents(timeoutMillis));
+    eb.close();
+  }
+
+  @Test
+  public void asyncBusWaitsForEventsPostedByListeners() throws IOException {
+    DefaultBuckEventBus eb =
+        new DefaultBuckEventBus(
+            new DefaultClock(), true, BuckEventBusForTests.BUILD_ID_FOR_TEST, timeoutMillis);
+    RecordingSubscriber recorder = new RecordingSubscriber();
+    eb.register(
+        new Object() {
+          @Subscribe
+          public void repost(SleepEvent event) {
+            eb.post(new TestEvent());
+          }
+        });
+    eb.register(recorder);
+
+    eb.post(new SleepEvent(0));
+    assertTrue(eb.waitEvents(timeoutMillis));
+    assertEquals(1, recorder.events.size());
+    eb.close();
+  }
+
+  private static class RecordingSubscriber {
+    private final List<TestEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Subscribe
+    public void record(TestEvent event) {
+      events.add(event);
+    }
+  }
+
   private static class SleepEvent extends AbstractBuckEvent {
     public final long milliseconds;
 
@@ -20,6 +20,8 @@ import static org.junit.Assert.assertEquals;
 
 import com.facebook.buck.core.config.FakeBuckConfig;
 import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.zip.ZipCompressionLevel;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -36,4 +38,27 @@ public class ChromeTraceBuckConfigTest {
             FakeBuckConfig.builder().setSections("[log]", "max_traces = 42").build());
     assertEquals(42, config.getMaxTraces());
   }
+
+  @Test
+  public void testTraceWriterSettings() {
+    ChromeTraceBuckConfig defaults = ChromeTraceBuckConfig.of(FakeBuckConfig.builder().build());
+    assertEquals(ChromeTraceFormat.JSON, defaults.getTraceFormat());
+    assertEquals(ZipCompressionLevel.MAX, defaults.getCompressionLevel());
+    assertEquals(ImmutableSet.of(), defaults.getExcludedCategories());
+
+    ChromeTraceBuckConfig config =
+        ChromeTraceBuckConfig.of(
+            FakeBuckConfig.builder()
+                .setSections(
+                    "[log]",
+                    "chrome_trace_format = compact",
+                    "compress_traces_level = min",
+                    "chrome_trace_buffer_size = 100",
+                    "chrome_trace_excluded_categories = step, javac")
+                .build());
+    assertEquals(ChromeTraceFormat.COMPACT, config.getTraceFormat());
+    assertEquals(ZipCompressionLevel.MIN, config.getCompressionLevel());
+    assertEquals(100, config.getTraceBufferSize());
+    assertEquals(ImmutableSet.of("step", "javac"), config.getExcludedCategories());
+  }
 }
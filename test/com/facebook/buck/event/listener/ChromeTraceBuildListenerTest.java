@@ -71,6 +71,7 @@ import com.facebook.buck.util.perf.PerfStatsTracking;
 import com.facebook.buck.util.timing.Clock;
 import com.facebook.buck.util.timing.FakeClock;
 import com.facebook.buck.util.timing.IncrementingFakeClock;
+import com.facebook.buck.util.trace.ChromeTraceParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -78,6 +79,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
@@ -92,6 +94,7 @@ import java.util.OptionalLong;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 import org.hamcrest.Matchers;
 import org.junit.Before;
@@ -761,18 +764,90 @@ public class ChromeTraceBuildListenerTest {
     assertThat(elements, not(empty()));
   }
 
+  @Test
+  public void excludedCategoriesAreNotTraced() throws IOException {
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+
+    ChromeTraceBuildListener listener =
+        new ChromeTraceBuildListener(
+            projectFilesystem,
+            invocationInfo,
+            FAKE_CLOCK,
+            chromeTraceConfig(ImmutableMap.of("chrome_trace_excluded_categories", "noisy")),
+            managerScope);
+    FakeBuckEvent event = new FakeBuckEvent();
+    eventBus.post(event); // Populates it with a timestamp
+
+    listener.writeChromeTraceEvent("noisy", "excluded", Phase.BEGIN, ImmutableMap.of(), event);
+    listener.writeChromeTraceEvent("test", "included", Phase.BEGIN, ImmutableMap.of(), event);
+    listener.close();
+    managerScope.close();
+
+    List<ChromeTraceEvent> resultList =
+        ObjectMappers.readValue(
+            tmpDir.getRoot().toPath().resolve("buck-out").resolve("log").resolve("build.trace"),
+            new TypeReference<List<ChromeTraceEvent>>() {});
+    List<String> names =
+        resultList.stream().map(ChromeTraceEvent::getName).collect(Collectors.toList());
+    assertThat(names, Matchers.hasItem("included"));
+    assertThat(names, not(Matchers.hasItem("excluded")));
+  }
+
+  @Test
+  public void canWriteCompactTraces() throws IOException {
+    ProjectFilesystem projectFilesystem =
+        TestProjectFilesystems.createProjectFilesystem(tmpDir.getRoot().toPath());
+
+    ChromeTraceBuildListener listener =
+        new ChromeTraceBuildListener(
+            projectFilesystem,
+            invocationInfo,
+            FAKE_CLOCK,
+            chromeTraceConfig(
+                ImmutableMap.of("chrome_trace_format", "compact", "compress_traces", "true")),
+            managerScope);
+    FakeBuckEvent event = new FakeBuckEvent();
+    eventBus.post(event); // Populates it with a timestamp
+
+    listener.writeChromeTraceEvent(
+        "test",
+        event.getEventName(),
+        ChromeTraceEvent.Phase.BEGIN,
+        ImmutableMap.of("key", "value"),
+        event);
+    listener.close();
+    managerScope.close();
+
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    new ChromeTraceParser(projectFilesystem)
+        .convertToJson(Paths.get("buck-out", "log", "build.trace.gz"), json);
+    List<ChromeTraceEvent> resultList =
+        ObjectMappers.readValue(
+            json.toString("UTF-8"), new TypeReference<List<ChromeTraceEvent>>() {});
+
+    assertThat(resultList, Matchers.hasSize(6));
+    ChromeTraceEvent testEvent = resultList.get(3);
+    assertThat(testEvent.getName(), Matchers.equalTo(event.getEventName()));
+    assertThat(testEvent.getPhase(), Matchers.equalTo(ChromeTraceEvent.Phase.BEGIN));
+    assertThat(testEvent.getArgs(), Matchers.equalTo(ImmutableMap.of("key", "value")));
+    assertThat(
+        testEvent.getMicroTime(),
+        Matchers.equalTo(TimeUnit.NANOSECONDS.toMicros(FAKE_CLOCK.nanoTime())));
+  }
+
   private static ChromeTraceBuckConfig chromeTraceConfig(int tracesToKeep, boolean compressTraces) {
+    return chromeTraceConfig(
+        ImmutableMap.of(
+            "max_traces",
+            Integer.toString(tracesToKeep),
+            "compress_traces",
+            Boolean.toString(compressTraces)));
+  }
+
+  private static ChromeTraceBuckConfig chromeTraceConfig(ImmutableMap<String, String> logSection) {
     return ChromeTraceBuckConfig.of(
-        FakeBuckConfig.builder()
-            .setSections(
-                ImmutableMap.of(
-                    "log",
-                    ImmutableMap.of(
-                        "max_traces",
-                        Integer.toString(tracesToKeep),
-                        "compress_traces",
-                        Boolean.toString(compressTraces))))
-            .build());
+        FakeBuckConfig.builder().setSections(ImmutableMap.of("log", logSection)).build());
   }
 
   private static class FakeBuckEvent extends AbstractBuckEvent {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.json;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.util.bser.BserSerializer;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/** Tests for {@link BuildFilePythonResultBserDecoder}. */
+public final class BuildFilePythonResultBserDecoderTest {
+
+  @Rule public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void emptyResult() throws IOException {
+    assertThat(
+        decode(ImmutableMap.of()),
+        is(BuildFilePythonResult.of(ImmutableList.of(), ImmutableList.of(), Optional.empty())));
+  }
+
+  @Test
+  public void decodesSameValuesAsJsonDeserializer() throws IOException {
+    Map<String, Object> rule = new LinkedHashMap<>();
+    rule.put("buck.type", "java_library");
+    rule.put("name", "foo");
+    rule.put("srcs", ImmutableList.of("Foo.java", "Bar.java"));
+    rule.put("small", 1);
+    rule.put("large", 1L << 40);
+    rule.put("ratio", 0.5);
+    rule.put("exported", true);
+    rule.put("missing", null);
+    rule.put("nested", ImmutableMap.of("unicode", "é中", "empty", ImmutableList.of()));
+    rule.put("long", Strings.repeat("x", 1000));
+    Map<String, Object> diagnostic =
+        ImmutableMap.of("message", "Oops", "level", "warning", "source", "parse");
+    Map<String, Object> result =
+        ImmutableMap.of(
+            "values", ImmutableList.of(rule),
+            "diagnostics", ImmutableList.of(diagnostic),
+            "profile", "this is a profile");
+
+    BuildFilePythonResult expected =
+        ObjectMappers.readValue(
+            ObjectMappers.WRITER.writeValueAsString(result), BuildFilePythonResult.class);
+    BuildFilePythonResult decoded = decode(result);
+
+    assertThat(decoded, is(expected));
+    assertThat(
+        ImmutableList.copyOf(decoded.getValues().get(0).keySet()),
+        is(ImmutableList.copyOf(rule.keySet())));
+  }
+
+  @Test
+  public void decodesConsecutiveResultsAndReusesRepeatedStrings() throws IOException {
+    Map<String, Object> result =
+        ImmutableMap.of(
+            "values",
+            ImmutableList.of(ImmutableMap.of("visibility", ImmutableList.of("PUBLIC"))));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BserSerializer serializer = new BserSerializer();
+    serializer.serializeToStream(result, out);
+    serializer.serializeToStream(result, out);
+    InputStream in = new ByteArrayInputStream(out.toByteArray());
+
+    BuildFilePythonResultBserDecoder decoder = new BuildFilePythonResultBserDecoder();
+    BuildFilePythonResult first = decoder.decode(in);
+    BuildFilePythonResult second = decoder.decode(in);
+
+    assertThat(second, is(first));
+    assertThat(
+        getOnlyVisibility(second.getValues().get(0)),
+        sameInstance(getOnlyVisibility(first.getValues().get(0))));
+  }
+
+  @Test
+  public void unexpectedFieldIsAnError() throws IOException {
+    thrown.expect(IOException.class);
+    thrown.expectMessage("Unexpected field name: foo");
+    decode(ImmutableMap.of("foo", ImmutableList.of()));
+  }
+
+  @Test
+  public void truncatedResultIsAnError() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BserSerializer()
+        .serializeToStream(
+            ImmutableMap.of("values", ImmutableList.of(ImmutableMap.of("name", "foo"))), out);
+    byte[] bytes = out.toByteArray();
+
+    thrown.expect(IOException.class);
+    new BuildFilePythonResultBserDecoder()
+        .decode(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 2)));
+  }
+
+  private static BuildFilePythonResult decode(Map<String, Object> result) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BserSerializer().serializeToStream(result, out);
+    return new BuildFilePythonResultBserDecoder()
+        .decode(new ByteArrayInputStream(out.toByteArray()));
+  }
+
+  private static Object getOnlyVisibility(Map<String, Object> rule) {
+    return ((List<?>) rule.get("visibility")).get(0);
+  }
+}
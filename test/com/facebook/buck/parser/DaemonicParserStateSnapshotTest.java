@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.core.cell.TestCellBuilder;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DaemonicParserStateSnapshotTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private static final ImmutableSet<Map<String, Object>> RAW_NODES =
+      ImmutableSet.of(ImmutableMap.of("buck.base_path", "foo", "name", "lib"));
+
+  private Cell cell;
+  private BuckEventBus eventBus;
+  private Path buildFile;
+  private Path snapshotPath;
+  private ImmutableMap<Path, String> clocks;
+
+  @Before
+  public void setUp() throws IOException, InterruptedException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    cell = new TestCellBuilder().setFilesystem(filesystem).build();
+    eventBus = BuckEventBusForTests.newInstance();
+    buildFile = filesystem.resolve("foo/BUCK");
+    snapshotPath = filesystem.resolve("buck-out/parser_state.bin");
+    clocks = ImmutableMap.of(cell.getRoot(), "c:1234:5678");
+  }
+
+  private DaemonicParserState newState() {
+    return new DaemonicParserState(new DefaultTypeCoercerFactory(), 1, false);
+  }
+
+  private DaemonicParserState populatedState() {
+    DaemonicParserState state = newState();
+    state.getRawNodeCache().putComputedNodeIfNotPresent(cell, buildFile, RAW_NODES, eventBus);
+    return state;
+  }
+
+  @Test
+  public void restoresRawNodesAndClocks() throws IOException {
+    new DaemonicParserStateSnapshot(snapshotPath, "fingerprint")
+        .save(populatedState(), cell, clocks);
+
+    DaemonicParserState restored = newState();
+    assertEquals(
+        Optional.of(clocks),
+        new DaemonicParserStateSnapshot(snapshotPath, "fingerprint").restore(restored, cell));
+    assertEquals(
+        Optional.of(RAW_NODES),
+        restored.getRawNodeCache().lookupComputedNode(cell, buildFile, eventBus));
+  }
+
+  @Test
+  public void ignoresSnapshotWithDifferentFingerprint() throws IOException {
+    new DaemonicParserStateSnapshot(snapshotPath, "fingerprint")
+        .save(populatedState(), cell, clocks);
+
+    DaemonicParserState restored = newState();
+    assertFalse(
+        new DaemonicParserStateSnapshot(snapshotPath, "other").restore(restored, cell).isPresent());
+    assertFalse(
+        restored.getRawNodeCache().lookupComputedNode(cell, buildFile, eventBus).isPresent());
+  }
+
+  @Test
+  public void ignoresMissingOrCorruptSnapshot() throws IOException {
+    DaemonicParserStateSnapshot snapshot = new DaemonicParserStateSnapshot(snapshotPath, "f");
+    assertFalse(snapshot.restore(newState(), cell).isPresent());
+
+    Files.createDirectories(snapshotPath.getParent());
+    Files.write(snapshotPath, new byte[] {1, 2, 3});
+    assertFalse(snapshot.restore(newState(), cell).isPresent());
+  }
+}
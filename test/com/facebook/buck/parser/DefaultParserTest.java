@@ -25,8 +25,10 @@ import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
@@ -74,6 +76,7 @@ import com.facebook.buck.io.watchman.WatchmanFactory;
 import com.facebook.buck.io.watchman.WatchmanOverflowEvent;
 import com.facebook.buck.io.watchman.WatchmanPathEvent;
 import com.facebook.buck.jvm.core.JavaLibrary;
+import com.facebook.buck.jvm.java.JavaLibraryBuilder;
 import com.facebook.buck.parser.events.ParseBuckFileEvent;
 import com.facebook.buck.parser.exceptions.BuildFileParseException;
 import com.facebook.buck.parser.exceptions.MissingBuildFileException;
@@ -1236,6 +1239,75 @@ public class DefaultParserTest {
     assertEquals("Should have not invalidated cache.", 1, counter.calls);
   }
 
+  @Test
+  public void whenNotifiedOfContainedFileChangeThenQueryGraphIsKept()
+      throws BuildFileParseException, InterruptedException {
+    getRawTargetNodes(
+        parser,
+        typeCoercerFactory,
+        eventBus,
+        cell,
+        knownRuleTypesProvider,
+        false,
+        executorService,
+        executableFinder,
+        testBuildFile);
+    TargetNode<?> foo =
+        JavaLibraryBuilder.createBuilder(
+                BuildTargetFactory.newInstance(cellRoot, "//java/com/facebook", "foo"))
+            .build();
+    QueryGraphIndex.Graph graph = parser.getPermState().getQueryGraphIndex().get("context");
+    graph.getGraph().addNode(foo);
+
+    parser
+        .getPermState()
+        .invalidateBasedOn(
+            WatchmanPathEvent.of(
+                filesystem.getRootPath(),
+                WatchmanPathEvent.Kind.MODIFY,
+                Paths.get("java/com/facebook/SomeClass.java")));
+
+    assertSame(graph, parser.getPermState().getQueryGraphIndex().get("context"));
+    assertTrue(graph.getGraph().containsNode(foo));
+  }
+
+  @Test
+  public void whenNotifiedOfBuildFileChangeThenOnlyItsTargetsAreRemovedFromQueryGraph()
+      throws BuildFileParseException, InterruptedException, IOException {
+    getRawTargetNodes(
+        parser,
+        typeCoercerFactory,
+        eventBus,
+        cell,
+        knownRuleTypesProvider,
+        false,
+        executorService,
+        executableFinder,
+        testBuildFile);
+    TargetNode<?> foo =
+        JavaLibraryBuilder.createBuilder(
+                BuildTargetFactory.newInstance(cellRoot, "//java/com/facebook", "foo"))
+            .build();
+    TargetNode<?> unrelated =
+        JavaLibraryBuilder.createBuilder(BuildTargetFactory.newInstance(cellRoot, "//bar", "bar"))
+            .build();
+    QueryGraphIndex.Graph graph = parser.getPermState().getQueryGraphIndex().get("context");
+    graph.getGraph().addNode(foo);
+    graph.getGraph().addNode(unrelated);
+
+    parser
+        .getPermState()
+        .invalidateBasedOn(
+            WatchmanPathEvent.of(
+                filesystem.getRootPath(),
+                WatchmanPathEvent.Kind.MODIFY,
+                MorePaths.relativize(tempDir.getRoot().toRealPath(), testBuildFile)));
+
+    assertSame(graph, parser.getPermState().getQueryGraphIndex().get("context"));
+    assertFalse(graph.getGraph().containsNode(foo));
+    assertTrue(graph.getGraph().containsNode(unrelated));
+  }
+
   @Test
   // TODO(simons): avoid invalidation when arbitrary contained (possibly backup) files are deleted.
   public void whenNotifiedOfContainedFileDeleteThenCacheRulesAreInvalidated()
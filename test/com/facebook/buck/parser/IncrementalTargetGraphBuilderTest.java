@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.targetgraph.FakeTargetNodeBuilder;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.core.util.graph.AcyclicDepthFirstPostOrderTraversal;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalTargetGraphBuilderTest {
+
+  private final BuildTarget targetA = BuildTargetFactory.newInstance("//a:a");
+  private final BuildTarget targetB = BuildTargetFactory.newInstance("//b:b");
+  private final BuildTarget targetC = BuildTargetFactory.newInstance("//c:c");
+  private final BuildTarget targetD = BuildTargetFactory.newInstance("//d:d");
+
+  private Map<BuildTarget, TargetNode<?>> nodes;
+  private TargetGraph previousGraph;
+
+  @Before
+  public void setUp() throws Exception {
+    nodes = new HashMap<>();
+    nodes.put(targetA, FakeTargetNodeBuilder.newBuilder(targetA).setDeps(targetB).build());
+    nodes.put(targetB, FakeTargetNodeBuilder.newBuilder(targetB).setDeps(targetC).build());
+    nodes.put(targetC, FakeTargetNodeBuilder.newBuilder(targetC).build());
+    previousGraph = build(Optional.empty(), targetA);
+  }
+
+  @Test
+  public void unchangedGraphIsReused() throws Exception {
+    assertSame(previousGraph, build(Optional.of(previousGraph), targetA));
+  }
+
+  @Test
+  public void reparsedButEqualNodesAreReplacedByPreviousInstances() throws Exception {
+    TargetNode<?> previousNodeC = nodes.get(targetC);
+    nodes.put(targetC, FakeTargetNodeBuilder.newBuilder(targetC).build());
+
+    assertSame(previousGraph, build(Optional.of(previousGraph), targetA));
+    assertSame(previousNodeC, previousGraph.get(targetC));
+  }
+
+  @Test
+  public void changedNodeIsReplacedAndUnchangedNodesAreKept() throws Exception {
+    TargetNode<?> changedNodeC =
+        FakeTargetNodeBuilder.newBuilder(targetC).setLabel("changed").build();
+    nodes.put(targetC, changedNodeC);
+
+    TargetGraph graph = build(Optional.of(previousGraph), targetA);
+
+    assertNotSame(previousGraph, graph);
+    assertSame(changedNodeC, graph.get(targetC));
+    assertSame(previousGraph.get(targetA), graph.get(targetA));
+    assertEquals(ImmutableSet.of(changedNodeC), graph.getOutgoingNodesFor(graph.get(targetB)));
+  }
+
+  @Test
+  public void unchangedSubgraphIsCopiedUnderNewNode() throws Exception {
+    nodes.put(targetD, FakeTargetNodeBuilder.newBuilder(targetD).setDeps(targetA).build());
+
+    TargetGraph graph = build(Optional.of(previousGraph), targetD);
+
+    assertEquals(
+        ImmutableSet.of(
+            nodes.get(targetA), nodes.get(targetB), nodes.get(targetC), nodes.get(targetD)),
+        graph.getNodes());
+    assertEquals(
+        ImmutableSet.of(nodes.get(targetC)), graph.getOutgoingNodesFor(nodes.get(targetB)));
+    assertEquals(
+        ImmutableSet.of(nodes.get(targetA)), graph.getOutgoingNodesFor(nodes.get(targetD)));
+  }
+
+  @Test
+  public void removedDependencyIsDropped() throws Exception {
+    nodes.put(targetB, FakeTargetNodeBuilder.newBuilder(targetB).build());
+
+    TargetGraph graph = build(Optional.of(previousGraph), targetA);
+
+    assertEquals(ImmutableSet.of(nodes.get(targetA), nodes.get(targetB)), graph.getNodes());
+  }
+
+  /** Builds a graph the same way {@link DefaultParser} does. */
+  private TargetGraph build(Optional<TargetGraph> previous, BuildTarget... roots) throws Exception {
+    IncrementalTargetGraphBuilder builder =
+        new IncrementalTargetGraphBuilder(previous, target -> nodes.get(target));
+    AcyclicDepthFirstPostOrderTraversal<BuildTarget> traversal =
+        new AcyclicDepthFirstPostOrderTraversal<>(
+            target ->
+                builder.isSubgraphUnchanged(target)
+                    ? Collections.emptyIterator()
+                    : builder.getTargetNode(target).getParseDeps().iterator());
+    for (BuildTarget target : traversal.traverse(ImmutableList.copyOf(roots))) {
+      builder.addTargetNode(target);
+    }
+    return builder.build();
+  }
+}
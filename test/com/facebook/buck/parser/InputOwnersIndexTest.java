@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.jvm.java.JavaLibraryBuilder;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Paths;
+import org.junit.Test;
+
+public class InputOwnersIndexTest {
+
+  private final TargetNode<?> lib =
+      JavaLibraryBuilder.createBuilder("//java/foo:lib")
+          .addSrc(Paths.get("java/foo/Lib.java"))
+          .addSrc(Paths.get("java/foo/Shared.java"))
+          .build();
+  private final TargetNode<?> other =
+      JavaLibraryBuilder.createBuilder("//java/foo:other")
+          .addSrc(Paths.get("java/foo/Shared.java"))
+          .build();
+  private final TargetNode<?> resources =
+      JavaLibraryBuilder.createBuilder("//java/foo:resources")
+          .addSrc(Paths.get("java/foo/res"))
+          .build();
+  private final ImmutableSet<TargetNode<?>> buildFileNodes =
+      ImmutableSet.of(lib, other, resources);
+
+  @Test
+  public void findsTargetsWithPathAsInput() {
+    InputOwnersIndex index = new InputOwnersIndex(100);
+
+    assertEquals(
+        ImmutableSet.of(lib), index.getOwners(buildFileNodes, Paths.get("java/foo/Lib.java")));
+    assertEquals(
+        ImmutableSet.of(lib, other),
+        index.getOwners(buildFileNodes, Paths.get("java/foo/Shared.java")));
+  }
+
+  @Test
+  public void findsTargetsWithAncestorOfPathAsInput() {
+    InputOwnersIndex index = new InputOwnersIndex(100);
+
+    assertEquals(
+        ImmutableSet.of(resources),
+        index.getOwners(buildFileNodes, Paths.get("java/foo/res/values/strings.xml")));
+  }
+
+  @Test
+  public void pathWithoutOwnersHasNoOwners() {
+    InputOwnersIndex index = new InputOwnersIndex(100);
+
+    assertEquals(
+        ImmutableSet.of(), index.getOwners(buildFileNodes, Paths.get("java/foo/Unused.java")));
+    assertEquals(ImmutableSet.of(), index.getOwners(buildFileNodes, Paths.get("java/foo")));
+  }
+
+  @Test
+  public void changedBuildFileIsIndexedAgain() {
+    InputOwnersIndex index = new InputOwnersIndex(100);
+    index.getOwners(buildFileNodes, Paths.get("java/foo/Lib.java"));
+
+    TargetNode<?> changedLib =
+        JavaLibraryBuilder.createBuilder("//java/foo:lib")
+            .addSrc(Paths.get("java/foo/Renamed.java"))
+            .build();
+
+    assertEquals(
+        ImmutableSet.of(changedLib),
+        index.getOwners(
+            ImmutableSet.of(changedLib, other, resources), Paths.get("java/foo/Renamed.java")));
+    assertEquals(
+        ImmutableSet.of(),
+        index.getOwners(
+            ImmutableSet.of(changedLib, other, resources), Paths.get("java/foo/Lib.java")));
+  }
+
+  @Test
+  public void buildFileWeighingMoreThanAQuarterOfTheBudgetIsKept() {
+    // Guava only splits budgets of at least 80 between segments.
+    InputOwnersIndex index = new InputOwnersIndex(80);
+    JavaLibraryBuilder largeLib = JavaLibraryBuilder.createBuilder("//java/foo:large");
+    for (int i = 0; i < 24; i++) {
+      largeLib.addSrc(Paths.get("java/foo/Large" + i + ".java"));
+    }
+    // The build file weighs 25: its 24 indexed inputs, plus 1.
+    index.getOwners(ImmutableSet.of(largeLib.build()), Paths.get("java/foo/Large0.java"));
+
+    assertEquals(1, index.getIndexedBuildFileCount());
+  }
+}
@@ -47,6 +47,13 @@ public class ParserBenchmark {
   @Param({"1", "2", "10"})
   private int threadCount = 1;
 
+  /** Larger rules make decoding the output of the Python DSL parser a bigger share of the work. */
+  @Param({"1", "50"})
+  private int srcsPerTarget = 1;
+
+  @Param({"json", "bser"})
+  private String pythonDslOutputFormat = "json";
+
   private TemporaryPaths tempDir = new TemporaryPaths();
 
   private Parser parser;
@@ -75,15 +82,22 @@ public class ParserBenchmark {
       Files.createDirectories(targetRoot);
       Path buckFile = targetRoot.resolve("BUCK");
       Files.createFile(buckFile);
+      StringBuilder srcs = new StringBuilder();
+      for (int j = 0; j < srcsPerTarget; j++) {
+        String className = j == 0 ? "A" : "A" + j;
+        srcs.append(j == 0 ? "" : ", ").append("'").append(className).append(".java'");
+        Path javaFile = targetRoot.resolve(className + ".java");
+        Files.createFile(javaFile);
+        Files.write(
+            javaFile,
+            String.format("package com.facebook.target_%d; class %s {}", i, className)
+                .getBytes(StandardCharsets.UTF_8));
+      }
       Files.write(
           buckFile,
-          ("java_library(name = 'foo', srcs = ['A.java'])\n" + "genrule(name = 'baz', out = '')\n")
-              .getBytes(StandardCharsets.UTF_8));
-      Path javaFile = targetRoot.resolve("A.java");
-      Files.createFile(javaFile);
-      Files.write(
-          javaFile,
-          String.format("package com.facebook.target_%d; class A {}", i)
+          String.format(
+                  "java_library(name = 'foo', srcs = [%s])\n" + "genrule(name = 'baz', out = '')\n",
+                  srcs)
               .getBytes(StandardCharsets.UTF_8));
     }
 
@@ -95,6 +109,8 @@ public class ParserBenchmark {
           ImmutableMap.of(
               "parallel_parsing", "true", "parsing_threads", Integer.toString(threadCount)));
     }
+    configSectionsBuilder.put(
+        "parser", ImmutableMap.of("python_dsl_output_format", pythonDslOutputFormat));
     BuckConfig config =
         FakeBuckConfig.builder()
             .setFilesystem(filesystem)
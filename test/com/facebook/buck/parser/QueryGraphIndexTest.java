@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.model.InternalFlavor;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.jvm.java.JavaLibraryBuilder;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+public class QueryGraphIndexTest {
+
+  private final TargetNode<?> lib = JavaLibraryBuilder.createBuilder("//java/foo:lib").build();
+  private final TargetNode<?> dep = JavaLibraryBuilder.createBuilder("//java/foo:dep").build();
+  private final TargetNode<?> flavoredDep =
+      JavaLibraryBuilder.createBuilder(
+              dep.getBuildTarget().withFlavors(InternalFlavor.of("flavor")))
+          .build();
+  private final TargetNode<?> other = JavaLibraryBuilder.createBuilder("//java/bar:other").build();
+
+  @Test
+  public void graphIsReusedInTheSameContext() {
+    QueryGraphIndex index = new QueryGraphIndex(100);
+    QueryGraphIndex.Graph graph = index.get("context");
+    graph.getGraph().addEdge(lib, dep);
+
+    assertSame(graph, index.get("context"));
+  }
+
+  @Test
+  public void graphIsNotReusedInAnotherContext() {
+    QueryGraphIndex index = new QueryGraphIndex(100);
+    QueryGraphIndex.Graph graph = index.get("context");
+
+    assertNotSame(graph, index.get("other context"));
+    assertNotSame(graph, index.get("context"));
+  }
+
+  @Test
+  public void graphIsNotReusedAfterInvalidation() {
+    QueryGraphIndex index = new QueryGraphIndex(100);
+    QueryGraphIndex.Graph graph = index.get("context");
+    index.invalidateAll();
+
+    assertNotSame(graph, index.get("context"));
+  }
+
+  @Test
+  public void graphLargerThanTheMaximumIsDropped() {
+    QueryGraphIndex index = new QueryGraphIndex(1);
+    QueryGraphIndex.Graph graph = index.get("context");
+    graph.getGraph().addEdge(lib, dep);
+
+    assertNotSame(graph, index.get("context"));
+  }
+
+  @Test
+  public void invalidatingTargetsRemovesTheirNodesInAllFlavorsAndTheirDependents() {
+    QueryGraphIndex index = new QueryGraphIndex(100);
+    QueryGraphIndex.Graph graph = index.get("context");
+    graph.getGraph().addEdge(lib, flavoredDep);
+    graph.getGraph().addEdge(lib, other);
+    graph.getGraph().addNode(dep);
+    for (TargetNode<?> node : ImmutableSet.of(lib, dep, flavoredDep, other)) {
+      graph.getTargetsToNodes().put(node.getBuildTarget(), node);
+    }
+
+    index.invalidateTargets(ImmutableSet.of(dep.getBuildTarget().getUnflavoredBuildTarget()));
+
+    assertSame(graph, index.get("context"));
+    assertEquals(ImmutableSet.of(other), graph.getGraph().getNodes());
+    assertEquals(0, graph.getGraph().getEdgeCount());
+    assertEquals(
+        "Nodes of unchanged targets are kept for the next query adding them back.",
+        ImmutableSet.of(lib.getBuildTarget(), other.getBuildTarget()),
+        graph.getTargetsToNodes().keySet());
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.core.cell.Cell;
+import com.facebook.buck.core.cell.TestCellBuilder;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.IntegerCounter;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusForTests;
+import com.facebook.buck.io.watchman.WatchmanFactory;
+import com.facebook.buck.parser.api.ProjectBuildFileParser;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.easymock.EasyMock;
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RawNodeParsePipelineTest {
+
+  private Cell cell;
+  private Path buildFileA;
+  private Path buildFileB;
+  private Path buildFileC;
+  private List<Path> parsedBuildFiles;
+  private BuildFileDependencyPredictor predictor;
+
+  @Before
+  public void setUp() {
+    cell = new TestCellBuilder().build();
+    buildFileA = cell.getRoot().resolve("a/BUCK");
+    buildFileB = cell.getRoot().resolve("b/BUCK");
+    buildFileC = cell.getRoot().resolve("c/BUCK");
+    parsedBuildFiles = new CopyOnWriteArrayList<>();
+    predictor = new BuildFileDependencyPredictor();
+    predictor.update(
+        ImmutableMap.of(
+            buildFileA,
+            ImmutableMap.of(buildFileB, BuildTargetFactory.newInstance("//b:b")),
+            buildFileB,
+            ImmutableMap.of(buildFileC, BuildTargetFactory.newInstance("//c:c"))));
+  }
+
+  @Test
+  public void requestingBuildFileParsesPredictedDependencies() throws Exception {
+    try (RawNodeParsePipeline pipeline = createPipeline(Optional.of(predictor))) {
+      pipeline.getAllNodesJob(cell, buildFileA).get();
+      assertThat(parsedBuildFiles, Matchers.contains(buildFileA, buildFileB, buildFileC));
+
+      pipeline.getAllNodesJob(cell, buildFileB).get();
+    }
+
+    assertThat(parsedBuildFiles, Matchers.hasSize(3));
+    assertThat(getCounter("speculative_parses"), Matchers.is(2L));
+    assertThat(getCounter("speculative_parse_hits"), Matchers.is(1L));
+    assertThat(getCounter("speculative_parses_wasted"), Matchers.is(1L));
+  }
+
+  @Test
+  public void alreadyParsedBuildFilesAreNotSpeculated() throws Exception {
+    try (RawNodeParsePipeline pipeline = createPipeline(Optional.of(predictor))) {
+      pipeline.getAllNodesJob(cell, buildFileB).get();
+      pipeline.getAllNodesJob(cell, buildFileA).get();
+    }
+
+    assertThat(parsedBuildFiles, Matchers.contains(buildFileB, buildFileC, buildFileA));
+    assertThat(getCounter("speculative_parses"), Matchers.is(1L));
+  }
+
+  @Test
+  public void nothingIsSpeculatedWithoutPredictor() throws Exception {
+    try (RawNodeParsePipeline pipeline = createPipeline(Optional.empty())) {
+      pipeline.getAllNodesJob(cell, buildFileA).get();
+    }
+
+    assertThat(parsedBuildFiles, Matchers.contains(buildFileA));
+  }
+
+  private RawNodeParsePipeline createPipeline(
+      Optional<BuildFileDependencyPredictor> dependencyPredictor) {
+    ProjectBuildFileParserPool parserPool =
+        new ProjectBuildFileParserPool(
+            1,
+            (eventBus, input, watchman) -> {
+              ProjectBuildFileParser parser = EasyMock.createNiceMock(ProjectBuildFileParser.class);
+              try {
+                EasyMock.expect(parser.getBuildFileManifest(EasyMock.anyObject(Path.class)))
+                    .andAnswer(
+                        () -> {
+                          parsedBuildFiles.add((Path) EasyMock.getCurrentArguments()[0]);
+                          return ProjectBuildFileParserPoolTest.EMPTY_BUILD_FILE_MANIFEST;
+                        })
+                    .anyTimes();
+              } catch (Exception e) {
+                throw new RuntimeException(e);
+              }
+              EasyMock.replay(parser);
+              return parser;
+            },
+            false);
+    return new RawNodeParsePipeline(
+        new MapCache(),
+        parserPool,
+        MoreExecutors.newDirectExecutorService(),
+        BuckEventBusForTests.newInstance(),
+        WatchmanFactory.NULL_WATCHMAN,
+        dependencyPredictor,
+        target -> cell);
+  }
+
+  private long getCounter(String name) {
+    for (Counter counter : predictor.getCounters()) {
+      if (counter.getName().equals(name)) {
+        return ((IntegerCounter) counter).get();
+      }
+    }
+    throw new IllegalArgumentException(name);
+  }
+
+  private static class MapCache
+      implements PipelineNodeCache.Cache<Path, ImmutableSet<Map<String, Object>>> {
+    private final ConcurrentMap<Path, ImmutableSet<Map<String, Object>>> nodes =
+        new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<ImmutableSet<Map<String, Object>>> lookupComputedNode(
+        Cell cell, Path buildFile, BuckEventBus eventBus) {
+      return Optional.ofNullable(nodes.get(buildFile));
+    }
+
+    @Override
+    public ImmutableSet<Map<String, Object>> putComputedNodeIfNotPresent(
+        Cell cell, Path buildFile, ImmutableSet<Map<String, Object>> node, BuckEventBus eventBus) {
+      ImmutableSet<Map<String, Object>> previous = nodes.putIfAbsent(buildFile, node);
+      return previous == null ? node : previous;
+    }
+  }
+}
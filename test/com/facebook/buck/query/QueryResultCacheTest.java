@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class QueryResultCacheTest {
+
+  private static final QueryExpression EXPRESSION = TargetLiteral.of("//foo:bar");
+  private static final ImmutableSet<QueryTarget> RESULT =
+      ImmutableSet.of(QueryBuildTarget.of(BuildTargetFactory.newInstance("//foo:bar")));
+
+  @Test
+  public void sameExpressionInSameContextIsEvaluatedOnce() throws Exception {
+    QueryResultCache cache = new QueryResultCache(100);
+    AtomicInteger evaluations = new AtomicInteger();
+
+    ImmutableSet<QueryTarget> first =
+        cache.getOrEvaluate("context", EXPRESSION, () -> evaluate(evaluations));
+    ImmutableSet<QueryTarget> second =
+        cache.getOrEvaluate("context", TargetLiteral.of("//foo:bar"), () -> evaluate(evaluations));
+
+    assertSame(first, second);
+    assertEquals(1, evaluations.get());
+  }
+
+  @Test
+  public void differentContextsAreEvaluatedSeparately() throws Exception {
+    QueryResultCache cache = new QueryResultCache(100);
+    AtomicInteger evaluations = new AtomicInteger();
+
+    cache.getOrEvaluate("context", EXPRESSION, () -> evaluate(evaluations));
+    cache.getOrEvaluate("other context", EXPRESSION, () -> evaluate(evaluations));
+
+    assertEquals(2, evaluations.get());
+  }
+
+  @Test
+  public void invalidationDropsResults() throws Exception {
+    QueryResultCache cache = new QueryResultCache(100);
+    AtomicInteger evaluations = new AtomicInteger();
+
+    cache.getOrEvaluate("context", EXPRESSION, () -> evaluate(evaluations));
+    cache.invalidateAll();
+    cache.getOrEvaluate("context", EXPRESSION, () -> evaluate(evaluations));
+
+    assertEquals(2, evaluations.get());
+  }
+
+  @Test
+  public void resultEvaluatedDuringInvalidationIsNotCached() throws Exception {
+    QueryResultCache cache = new QueryResultCache(100);
+    AtomicInteger evaluations = new AtomicInteger();
+
+    cache.getOrEvaluate(
+        "context",
+        EXPRESSION,
+        () -> {
+          cache.invalidateAll();
+          return evaluate(evaluations);
+        });
+    cache.getOrEvaluate("context", EXPRESSION, () -> evaluate(evaluations));
+
+    assertEquals(2, evaluations.get());
+  }
+
+  @Test
+  public void resultLargerThanAQuarterOfTheBudgetIsCached() throws Exception {
+    QueryResultCache cache = new QueryResultCache(100);
+    AtomicInteger evaluations = new AtomicInteger();
+    ImmutableSet.Builder<QueryTarget> largeResult = ImmutableSet.builder();
+    for (int i = 0; i < 40; i++) {
+      largeResult.add(QueryBuildTarget.of(BuildTargetFactory.newInstance("//foo:bar" + i)));
+    }
+    QueryResultCache.Evaluation evaluation =
+        () -> {
+          evaluations.incrementAndGet();
+          return largeResult.build();
+        };
+
+    cache.getOrEvaluate("context", EXPRESSION, evaluation);
+    cache.getOrEvaluate("context", EXPRESSION, evaluation);
+
+    assertEquals(1, evaluations.get());
+  }
+
+  private static ImmutableSet<QueryTarget> evaluate(AtomicInteger evaluations) {
+    evaluations.incrementAndGet();
+    return RESULT;
+  }
+}
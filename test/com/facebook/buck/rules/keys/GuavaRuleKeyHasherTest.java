@@ -16,9 +16,17 @@
 
 package com.facebook.buck.rules.keys;
 
+import static org.junit.Assert.assertEquals;
+
 import com.facebook.buck.rules.keys.hasher.GuavaRuleKeyHasher;
+import com.facebook.buck.rules.keys.hasher.RuleKeyHasherTypes;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -44,6 +52,33 @@ public class GuavaRuleKeyHasherTest {
     }
   }
 
+  public static class EncodingTest {
+    @Test
+    public void stringsAreHashedAsTheirUtf8Bytes() {
+      for (String string :
+          ImmutableList.of(
+              "",
+              "//foo:bar",
+              "caf\u00e9",
+              "\ud83d\udca9",
+              Strings.repeat("a", 200),
+              Strings.repeat("b", 5000),
+              Strings.repeat("c", 5000) + "\u00e9")) {
+        // Reusing the hasher makes sure a previously grown buffer doesn't leak into the hash.
+        GuavaRuleKeyHasher hasher = newHasher();
+        hasher.putString(Strings.repeat("x", 300));
+        hasher.putString(string);
+
+        Hasher expected = Hashing.sha1().newHasher();
+        for (String value : ImmutableList.of(Strings.repeat("x", 300), string)) {
+          byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+          expected.putBytes(bytes).putInt(bytes.length).putByte(RuleKeyHasherTypes.STRING);
+        }
+        assertEquals(string, expected.hash(), hasher.hash());
+      }
+    }
+  }
+
   public static GuavaRuleKeyHasher newHasher() {
     return new GuavaRuleKeyHasher(Hashing.sha1().newHasher());
   }
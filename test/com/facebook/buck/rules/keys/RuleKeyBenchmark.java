@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.rulekey.AddToRuleKey;
+import com.facebook.buck.core.rulekey.RuleKey;
+import com.facebook.buck.core.rules.SourcePathRuleFinder;
+import com.facebook.buck.core.rules.resolver.impl.TestActionGraphBuilder;
+import com.facebook.buck.core.sourcepath.FakeSourcePath;
+import com.facebook.buck.core.sourcepath.SourcePath;
+import com.facebook.buck.core.sourcepath.resolver.SourcePathResolver;
+import com.facebook.buck.core.sourcepath.resolver.impl.DefaultSourcePathResolver;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Measures how fast the default rule key factory hashes rules with the kind of fields Java and C++
+ * rules add to their keys: strings, flags, source paths, optionals, booleans and enums. Every rep
+ * uses a new factory, so no key is served from the rule key cache.
+ */
+public class RuleKeyBenchmark {
+  @Param({"java", "cxx"})
+  private String kind = "java";
+
+  @Param({"1000", "10000"})
+  private int ruleCount = 1000;
+
+  private List<EmptyFakeBuildRule> rules;
+  private SourcePathRuleFinder ruleFinder;
+  private SourcePathResolver pathResolver;
+  private FakeFileHashCache fileHashCache;
+
+  @Before
+  @BeforeExperiment
+  public void setUp() {
+    ruleFinder = new SourcePathRuleFinder(new TestActionGraphBuilder());
+    pathResolver = DefaultSourcePathResolver.from(ruleFinder);
+    rules = new ArrayList<>(ruleCount);
+    Map<String, String> fileHashes = new HashMap<>();
+    for (int i = 0; i < ruleCount; i++) {
+      BuildTarget target = BuildTargetFactory.newInstance("//" + kind + "/pkg" + i + ":rule");
+      rules.add(
+          kind.equals("java")
+              ? new JavaLikeRule(target, i, fileHashes)
+              : new CxxLikeRule(target, i, fileHashes));
+    }
+    fileHashCache = FakeFileHashCache.createFromStrings(fileHashes);
+  }
+
+  private static SourcePath newSourcePath(String path, Map<String, String> fileHashes) {
+    fileHashes.put(path, Strings.padStart(Integer.toHexString(path.hashCode()), 40, '0'));
+    return FakeSourcePath.of(path);
+  }
+
+  private List<RuleKey> buildKeys() {
+    DefaultRuleKeyFactory factory =
+        new TestDefaultRuleKeyFactory(fileHashCache, pathResolver, ruleFinder);
+    List<RuleKey> keys = new ArrayList<>(rules.size());
+    for (EmptyFakeBuildRule rule : rules) {
+      keys.add(factory.build(rule));
+    }
+    return keys;
+  }
+
+  @Test
+  public void keysAreStableAcrossFactories() {
+    assertEquals(buildKeys(), buildKeys());
+  }
+
+  @Test
+  public void keysOfDifferentRulesAreDistinct() {
+    for (String kind : ImmutableList.of("java", "cxx")) {
+      this.kind = kind;
+      setUp();
+      Set<RuleKey> keys = new HashSet<>(buildKeys());
+      assertEquals(ruleCount, keys.size());
+    }
+  }
+
+  @Benchmark
+  public int buildRuleKeys(int reps) {
+    int dummy = 0;
+    for (int rep = 0; rep < reps; rep++) {
+      dummy += buildKeys().size();
+    }
+    return dummy;
+  }
+
+  enum Level {
+    NONE,
+    DEFAULT,
+    FULL,
+  }
+
+  @SuppressWarnings("unused")
+  private static class JavaLikeRule extends EmptyFakeBuildRule {
+    @AddToRuleKey private final String sourceLevel = "8";
+    @AddToRuleKey private final String targetLevel = "8";
+    @AddToRuleKey private final ImmutableSortedSet<SourcePath> srcs;
+    @AddToRuleKey private final ImmutableSortedSet<SourcePath> resources;
+    @AddToRuleKey private final ImmutableList<String> extraArguments;
+    @AddToRuleKey private final Optional<String> bootclasspath = Optional.empty();
+    @AddToRuleKey private final Optional<String> resourcesRoot;
+    @AddToRuleKey private final boolean trackClassUsage;
+    @AddToRuleKey private final boolean generateAbiFromSource = true;
+    @AddToRuleKey private final int abiCompatibilityMode;
+    @AddToRuleKey private final Level debugInfo;
+
+    JavaLikeRule(BuildTarget target, int index, Map<String, String> fileHashes) {
+      super(target);
+      String base = "java/com/example/pkg" + index + "/";
+      ImmutableSortedSet.Builder<SourcePath> srcs = ImmutableSortedSet.naturalOrder();
+      for (int i = 0; i < 10; i++) {
+        srcs.add(newSourcePath(base + "Class" + i + ".java", fileHashes));
+      }
+      this.srcs = srcs.build();
+      this.resources =
+          ImmutableSortedSet.of(newSourcePath(base + "strings.properties", fileHashes));
+      this.extraArguments = ImmutableList.of("-Xlint:all", "-Werror", "-encoding", "UTF-8");
+      this.resourcesRoot = Optional.of(base);
+      this.trackClassUsage = index % 2 == 0;
+      this.abiCompatibilityMode = index % 3;
+      this.debugInfo = Level.values()[index % Level.values().length];
+    }
+
+    @Override
+    public String getType() {
+      return "java_like";
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static class CxxLikeRule extends EmptyFakeBuildRule {
+    @AddToRuleKey private final String compiler = "/usr/bin/clang++";
+    @AddToRuleKey private final String compilerVersion = "clang version 6.0.0";
+    @AddToRuleKey private final SourcePath input;
+    @AddToRuleKey private final ImmutableSortedSet<SourcePath> headers;
+    @AddToRuleKey private final ImmutableList<String> platformFlags;
+    @AddToRuleKey private final ImmutableList<String> ruleFlags;
+    @AddToRuleKey private final Optional<String> sanitizer = Optional.empty();
+    @AddToRuleKey private final boolean pic;
+    @AddToRuleKey private final Integer optimizationLevel;
+    @AddToRuleKey private final Level debugInfo;
+
+    CxxLikeRule(BuildTarget target, int index, Map<String, String> fileHashes) {
+      super(target);
+      String base = "cxx/lib" + index + "/";
+      this.input = newSourcePath(base + "source.cpp", fileHashes);
+      ImmutableSortedSet.Builder<SourcePath> headers = ImmutableSortedSet.naturalOrder();
+      for (int i = 0; i < 8; i++) {
+        headers.add(newSourcePath(base + "header" + i + ".h", fileHashes));
+      }
+      this.headers = headers.build();
+      this.platformFlags =
+          ImmutableList.of("-std=c++14", "-fno-exceptions", "-Wall", "-Wextra", "-pthread");
+      this.ruleFlags = ImmutableList.of("-DLIB_INDEX=" + index, "-Icxx/lib" + index + "/include");
+      this.pic = index % 2 == 0;
+      this.optimizationLevel = index % 4;
+      this.debugInfo = Level.values()[index % Level.values().length];
+    }
+
+    @Override
+    public String getType() {
+      return "cxx_like";
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.skylark.io.impl;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.impl.FakeProjectFilesystem;
+import com.facebook.buck.io.filesystem.skylark.SkylarkFilesystem;
+import com.facebook.buck.skylark.io.Globber;
+import com.facebook.buck.skylark.io.GlobberFactory;
+import com.google.common.collect.ImmutableSet;
+import com.google.devtools.build.lib.vfs.FileSystemUtils;
+import com.google.devtools.build.lib.vfs.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedGlobCacheTest {
+  private Path root;
+  private Path child;
+  private SharedGlobCache cache;
+  private AtomicInteger globberRuns;
+  private GlobberFactory globberFactory;
+
+  @Before
+  public void setUp() throws Exception {
+    ProjectFilesystem projectFilesystem = FakeProjectFilesystem.createRealTempFilesystem();
+    SkylarkFilesystem fileSystem = SkylarkFilesystem.using(projectFilesystem);
+    root = fileSystem.getPath(projectFilesystem.getRootPath().toString());
+    child = root.getChild("child");
+    child.createDirectory();
+    FileSystemUtils.createEmptyFile(child.getChild("foo.txt"));
+    FileSystemUtils.createEmptyFile(child.getChild("bar.jpg"));
+
+    cache = new SharedGlobCache();
+    globberRuns = new AtomicInteger();
+    globberFactory =
+        cache.wrap(
+            basePath -> {
+              Globber globber = NativeGlobber.create(basePath, cache.getFilesystemCalls());
+              return (include, exclude, excludeDirectories) -> {
+                globberRuns.incrementAndGet();
+                return globber.run(include, exclude, excludeDirectories);
+              };
+            });
+  }
+
+  @Test
+  public void globResultIsSharedBetweenGlobbers() throws Exception {
+    assertThat(glob(globberFactory.create(root)), equalTo(ImmutableSet.of("child/foo.txt")));
+    assertThat(glob(globberFactory.create(root)), equalTo(ImmutableSet.of("child/foo.txt")));
+    assertThat(globberRuns.get(), equalTo(1));
+  }
+
+  @Test
+  public void globsAreNotSharedBetweenBasePaths() throws Exception {
+    assertThat(glob(globberFactory.create(root)), equalTo(ImmutableSet.of("child/foo.txt")));
+    assertThat(glob(globberFactory.create(child)), equalTo(ImmutableSet.of("foo.txt")));
+    assertThat(globberRuns.get(), equalTo(2));
+  }
+
+  @Test
+  public void createdFileInvalidatesGlobsOfAncestors() throws Exception {
+    Globber globber = globberFactory.create(root);
+    glob(globber);
+    Path created = child.getChild("baz.txt");
+    FileSystemUtils.createEmptyFile(created);
+    cache.invalidate(Paths.get(created.getPathString()));
+
+    assertThat(glob(globber), equalTo(ImmutableSet.of("child/baz.txt", "child/foo.txt")));
+    assertThat(globberRuns.get(), equalTo(2));
+  }
+
+  @Test
+  public void unrelatedChangeKeepsGlobs() throws Exception {
+    Path other = root.getChild("other");
+    other.createDirectory();
+    Globber globber = globberFactory.create(child);
+    glob(globber);
+    FileSystemUtils.createEmptyFile(other.getChild("baz.txt"));
+    cache.invalidate(Paths.get(other.getChild("baz.txt").getPathString()));
+
+    assertThat(glob(globber), equalTo(ImmutableSet.of("foo.txt")));
+    assertThat(globberRuns.get(), equalTo(1));
+  }
+
+  @Test
+  public void invalidateAllDropsEverything() throws Exception {
+    Globber globber = globberFactory.create(root);
+    glob(globber);
+    FileSystemUtils.createEmptyFile(child.getChild("baz.txt"));
+    cache.invalidateAll();
+
+    assertThat(glob(globber), equalTo(ImmutableSet.of("child/baz.txt", "child/foo.txt")));
+    assertThat(globberRuns.get(), equalTo(2));
+  }
+
+  private static Set<String> glob(Globber globber) throws Exception {
+    return globber.run(Collections.singleton("**/*.txt"), Collections.emptySet(), false);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.cache.FileHashCacheMode;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PersistentFileHashStoreTest {
+
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private static final HashCode HASH = Hashing.sha1().hashInt(42);
+
+  private Path storePath;
+
+  @Before
+  public void setUp() {
+    storePath = tmp.getRoot().resolve("file_hashes.bin");
+  }
+
+  private Path writeOldFile(String name, String contents) throws IOException {
+    Path path = tmp.getRoot().resolve(name);
+    Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(
+        path, FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+    return path;
+  }
+
+  private static BasicFileAttributes attributes(Path path) throws IOException {
+    return Files.readAttributes(path, BasicFileAttributes.class);
+  }
+
+  @Test
+  public void recordedHashIsReturnedWhileAttributesMatch() throws IOException {
+    Path file = writeOldFile("a.txt", "contents");
+    PersistentFileHashStore store = PersistentFileHashStore.open(storePath);
+    store.put(Paths.get("a.txt"), attributes(file), HASH);
+    assertEquals(Optional.of(HASH), store.get(Paths.get("a.txt"), attributes(file)));
+    assertEquals(Optional.empty(), store.get(Paths.get("b.txt"), attributes(file)));
+  }
+
+  @Test
+  public void recordedHashIsIgnoredOnceFileChanges() throws IOException {
+    Path file = writeOldFile("a.txt", "contents");
+    PersistentFileHashStore store = PersistentFileHashStore.open(storePath);
+    store.put(Paths.get("a.txt"), attributes(file), HASH);
+    writeOldFile("a.txt", "different contents");
+    assertEquals(Optional.empty(), store.get(Paths.get("a.txt"), attributes(file)));
+  }
+
+  @Test
+  public void recentlyModifiedFilesAreNotRecorded() throws IOException {
+    Path file = tmp.newFile("a.txt");
+    PersistentFileHashStore store = PersistentFileHashStore.open(storePath);
+    store.put(Paths.get("a.txt"), attributes(file), HASH);
+    assertEquals(Optional.empty(), store.get(Paths.get("a.txt"), attributes(file)));
+  }
+
+  @Test
+  public void recordedHashesSurviveReopening() throws IOException {
+    Path file = writeOldFile("a.txt", "contents");
+    PersistentFileHashStore.open(storePath).put(Paths.get("a.txt"), attributes(file), HASH);
+    PersistentFileHashStore reopened = PersistentFileHashStore.open(storePath);
+    assertEquals(1, reopened.size());
+    assertEquals(Optional.of(HASH), reopened.get(Paths.get("a.txt"), attributes(file)));
+  }
+
+  @Test
+  public void corruptStoreIsDiscarded() throws IOException {
+    Files.write(storePath, new byte[128]);
+    PersistentFileHashStore store = PersistentFileHashStore.open(storePath);
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  public void storeGrowsAndKeepsEntries() throws IOException {
+    Path file = writeOldFile("a.txt", "contents");
+    BasicFileAttributes attributes = attributes(file);
+    PersistentFileHashStore store = PersistentFileHashStore.open(storePath);
+    int entries = 100000;
+    for (int i = 0; i < entries; i++) {
+      store.put(Paths.get("dir", Integer.toString(i)), attributes, HASH);
+    }
+    PersistentFileHashStore reopened = PersistentFileHashStore.open(storePath);
+    int found = 0;
+    for (int i = 0; i < entries; i++) {
+      if (reopened.get(Paths.get("dir", Integer.toString(i)), attributes).isPresent()) {
+        found++;
+      }
+    }
+    assertEquals(entries, found);
+  }
+
+  @Test
+  public void persistentCacheModeReusesHashesAfterRestart() throws IOException {
+    ProjectFilesystem filesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    Path file = writeOldFile("a.txt", "contents");
+    FileTime mtime = Files.getLastModifiedTime(file);
+    Path path = Paths.get("a.txt");
+    HashCode expected =
+        DefaultFileHashCache.createDefaultFileHashCache(
+                filesystem, FileHashCacheMode.PERSISTENT_PREFIX_TREE)
+            .get(path);
+
+    // Change the contents in place without changing any of the recorded attributes, so that the
+    // only way for a fresh cache, as created by a restarted daemon, to return the old hash is to
+    // have read it from the store.
+    Files.write(file, "CONTENTS".getBytes(StandardCharsets.UTF_8));
+    Files.setLastModifiedTime(file, mtime);
+    DefaultFileHashCache restarted =
+        DefaultFileHashCache.createDefaultFileHashCache(
+            filesystem, FileHashCacheMode.PERSISTENT_PREFIX_TREE);
+    assertFalse(restarted.getIfPresent(path).isPresent());
+    assertEquals(expected, restarted.get(path));
+  }
+}
@@ -19,6 +19,8 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -202,6 +204,33 @@ public class ListeningMultiSemaphoreTest {
     assertThat(second.isDone(), Matchers.equalTo(true));
   }
 
+  @Test
+  public void pendingAcquisitionsAreGrantedByPriorityThenInOrderOfArrival() {
+    ListeningMultiSemaphore semaphore = getFairListeningMultiSemaphore(amountsOfCpu(1));
+    semaphore.acquire(amountsOfCpu(1));
+
+    List<String> granted = new ArrayList<>();
+    semaphore
+        .acquire(amountsOfCpu(1), 1)
+        .addListener(() -> granted.add("low"), MoreExecutors.directExecutor());
+    semaphore
+        .acquire(amountsOfCpu(1), 5)
+        .addListener(() -> granted.add("high"), MoreExecutors.directExecutor());
+    semaphore
+        .acquire(amountsOfCpu(1), 5)
+        .addListener(() -> granted.add("high, later"), MoreExecutors.directExecutor());
+    semaphore
+        .acquire(amountsOfCpu(1))
+        .addListener(() -> granted.add("default"), MoreExecutors.directExecutor());
+    assertThat(semaphore.getQueueLength(), Matchers.equalTo(4));
+
+    for (int i = 0; i < 4; i++) {
+      semaphore.release(amountsOfCpu(1));
+    }
+    assertThat(granted, Matchers.contains("default", "high", "high, later", "low"));
+    assertThat(semaphore.getQueueLength(), Matchers.equalTo(0));
+  }
+
   private ListeningMultiSemaphore getFairListeningMultiSemaphore(ResourceAmounts values) {
     return new ListeningMultiSemaphore(values, ResourceAllocationFairness.FAIR);
   }
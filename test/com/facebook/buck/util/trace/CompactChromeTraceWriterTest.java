@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.trace;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.io.filesystem.ProjectFilesystem;
+import com.facebook.buck.io.filesystem.TestProjectFilesystems;
+import com.facebook.buck.testutil.TemporaryPaths;
+import com.facebook.buck.util.json.ObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CompactChromeTraceWriterTest {
+  @Rule public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem projectFilesystem;
+  private ChromeTraceParser parser;
+
+  @Before
+  public void setUp() throws InterruptedException, IOException {
+    projectFilesystem = TestProjectFilesystems.createProjectFilesystem(tmp.getRoot());
+    parser = new ChromeTraceParser(projectFilesystem);
+  }
+
+  private void writeTrace(Path path, boolean compress, boolean complete) throws IOException {
+    OutputStream stream = projectFilesystem.newFileOutputStream(path);
+    if (compress) {
+      stream = new GZIPOutputStream(stream);
+    }
+    try (CompactChromeTraceWriter writer = new CompactChromeTraceWriter(stream)) {
+      writer.writeStart();
+      writer.writeEvent(
+          "buck",
+          "query",
+          "B",
+          0,
+          1,
+          1500000000000000L,
+          42,
+          ImmutableMap.of("command_args", "deps(fb4a, 1)"));
+      Map<String, Object> args = new HashMap<>();
+      args.put("count", 7);
+      args.put("big", 1L << 40);
+      args.put("ratio", 0.5);
+      args.put("success", true);
+      args.put("missing", null);
+      args.put("list", Arrays.asList("a", "b"));
+      args.put("long_string", String.join("", Collections.nCopies(1000, "x")));
+      writer.writeEvent("buck", "query", "E", 0, 1, 1500000000000100L, -1, args);
+      writer.writeEvent(null, "thread_name", "M", 0, 2, 1499999999999000L, 0, null);
+      if (complete) {
+        writer.writeEnd();
+      }
+    }
+  }
+
+  private List<Map<String, Object>> readAsJson(Path path) throws IOException {
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    parser.convertToJson(path, json);
+    return ObjectMappers.readValue(
+        json.toString("UTF-8"), new TypeReference<List<Map<String, Object>>>() {});
+  }
+
+  @Test
+  public void convertsToEquivalentJson() throws IOException {
+    Path trace = Paths.get("build.trace");
+    writeTrace(trace, false, true);
+
+    List<Map<String, Object>> events = readAsJson(trace);
+    assertEquals(3, events.size());
+    assertEquals(
+        ImmutableMap.builder()
+            .put("cat", "buck")
+            .put("name", "query")
+            .put("ph", "B")
+            .put("pid", 0)
+            .put("tid", 1)
+            .put("ts", 1500000000000000L)
+            .put("tts", 42)
+            .put("args", ImmutableMap.of("command_args", "deps(fb4a, 1)"))
+            .build(),
+        events.get(0));
+
+    Map<String, Object> args = new HashMap<>();
+    args.put("count", 7);
+    args.put("big", 1L << 40);
+    args.put("ratio", 0.5);
+    args.put("success", true);
+    args.put("missing", null);
+    args.put("list", ImmutableList.of("a", "b"));
+    args.put("long_string", String.join("", Collections.nCopies(1000, "x")));
+    assertEquals(args, events.get(1).get("args"));
+    assertEquals(1500000000000100L, events.get(1).get("ts"));
+    assertEquals(-1, events.get(1).get("tts"));
+
+    assertEquals(
+        ImmutableMap.builder()
+            .put("name", "thread_name")
+            .put("ph", "M")
+            .put("pid", 0)
+            .put("tid", 2)
+            .put("ts", 1499999999999000L)
+            .put("tts", 0)
+            .build(),
+        events.get(2));
+  }
+
+  @Test
+  public void parsesGzippedTraces() throws IOException {
+    Path trace = Paths.get("build.trace.gz");
+    writeTrace(trace, true, true);
+
+    Map<ChromeTraceParser.ChromeTraceEventMatcher<?>, Object> results =
+        parser.parse(trace, ImmutableSet.of(ChromeTraceParser.COMMAND));
+    assertEquals(ImmutableMap.of(ChromeTraceParser.COMMAND, "buck query deps(fb4a, 1)"), results);
+  }
+
+  @Test
+  public void readsEventsOfIncompleteTraces() throws IOException {
+    Path trace = Paths.get("build.trace");
+    writeTrace(trace, false, false);
+
+    assertEquals(3, readAsJson(trace).size());
+  }
+}
@@ -29,7 +29,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -38,6 +40,7 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.hamcrest.Matchers;
@@ -240,8 +243,77 @@ public class UntarTest {
     extractsFiles(ArchiveFormat.TAR_BZ2, Optional.of(false));
   }
 
+  @Test
+  public void detectingUnarchiverExtractsTarFiles() throws IOException {
+    extractsFiles(ArchiveFormat.TAR, Untar.detectingUnarchiver(), Optional.empty());
+  }
+
+  @Test
+  public void detectingUnarchiverExtractsTarGzFiles() throws IOException {
+    extractsFiles(ArchiveFormat.TAR_GZ, Untar.detectingUnarchiver(), Optional.empty());
+  }
+
+  @Test
+  public void detectingUnarchiverExtractsTarXzFiles() throws IOException {
+    extractsFiles(ArchiveFormat.TAR_XZ, Untar.detectingUnarchiver(), Optional.empty());
+  }
+
+  @Test
+  public void detectingUnarchiverExtractsTarBz2Files() throws IOException {
+    extractsFiles(ArchiveFormat.TAR_BZ2, Untar.detectingUnarchiver(), Optional.empty());
+  }
+
+  @Test
+  public void extractsArchiveFromStreamWithoutClosingIt() throws IOException {
+    ImmutableList<Path> expectedPaths =
+        ImmutableList.of(
+            getDestPath("root"),
+            getDestPath("root", "echo.sh"),
+            getDestPath("root", "alternative"),
+            getDestPath("root", "alternative", "Main.java"),
+            getDestPath("root", "alternative", "Link.java"),
+            getDestPath("root", "empty_dir"),
+            getDestPath("root", "src"),
+            getDestPath("root", "src", "com"),
+            getDestPath("root", "src", "com", "facebook"),
+            getDestPath("root", "src", "com", "facebook", "buck"),
+            getDestPath("root", "src", "com", "facebook", "buck", "Main.java"),
+            getDestPath("root_sibling"),
+            getDestPath("root_sibling", "Other.java"));
+
+    AtomicBoolean closed = new AtomicBoolean();
+    ImmutableSet<Path> extractedPaths;
+    try (InputStream archiveFile =
+        Files.newInputStream(getTestFilePath(ArchiveFormat.TAR_GZ.getExtension()))) {
+      InputStream archiveStream =
+          new FilterInputStream(archiveFile) {
+            @Override
+            public void close() {
+              closed.set(true);
+            }
+          };
+      extractedPaths =
+          Untar.detectingUnarchiver().extractArchive(archiveStream, filesystem, OUTPUT_SUBDIR);
+    }
+
+    Assert.assertFalse(closed.get());
+    Assert.assertThat(extractedPaths, Matchers.containsInAnyOrder(expectedPaths.toArray()));
+    assertOutputFileExists(getDestPath("root", "echo.sh"), echoDotSh);
+    assertOutputSymlinkExists(
+        getDestPath("root", "alternative", "Main.java"), Paths.get("Link.java"), mainDotJava);
+    assertOutputFileExists(getDestPath("root_sibling", "Other.java"), otherDotJava);
+    assertOutputDirExists(getDestPath("root", "empty_dir"));
+    assertModifiedTime(expectedPaths);
+  }
+
   private void extractsFiles(ArchiveFormat format, Optional<Boolean> writeSymlinksLast)
       throws IOException {
+    extractsFiles(format, (Untar) format.getUnarchiver(), writeSymlinksLast);
+  }
+
+  private void extractsFiles(
+      ArchiveFormat format, Untar unarchiver, Optional<Boolean> writeSymlinksLast)
+      throws IOException {
     ImmutableList<Path> expectedPaths =
         ImmutableList.of(
             getDestPath("root", "echo.sh"),
@@ -263,7 +335,6 @@ public class UntarTest {
     ImmutableList<Path> expectedDirs = expectedDirsBuilder.build();
 
     Path archivePath = getTestFilePath(format.getExtension());
-    Untar unarchiver = (Untar) format.getUnarchiver();
     ImmutableSet<Path> unarchivedFiles;
     if (writeSymlinksLast.isPresent()) {
       unarchivedFiles =
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.versions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.core.model.BuildTarget;
+import com.facebook.buck.core.model.BuildTargetFactory;
+import com.facebook.buck.core.model.targetgraph.TargetGraph;
+import com.facebook.buck.core.model.targetgraph.TargetGraphAndBuildTargets;
+import com.facebook.buck.core.model.targetgraph.TargetGraphFactory;
+import com.facebook.buck.core.model.targetgraph.TargetNode;
+import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Transforms synthetic target graphs with many version roots sharing the same libraries, where the
+ * roots are spread over a few version universes, i.e. sets of version selections.
+ */
+public class VersionedTargetGraphBuilderBenchmark {
+  @Param({"100", "3000"})
+  private int rootCount = 100;
+
+  @Param({"1000"})
+  private int libraryCount = 1000;
+
+  @Param({"50"})
+  private int versionedLibraryCount = 50;
+
+  @Param({"1", "4"})
+  private int universeCount = 4;
+
+  @Param({"10"})
+  private int depsPerNode = 10;
+
+  @Param({"8"})
+  private int threadCount = 8;
+
+  private final Random random = new Random(12345);
+
+  private TargetGraphAndBuildTargets unversionedGraph;
+  private VersionSelector versionSelector;
+  private ForkJoinPool pool;
+
+  @Before
+  @BeforeExperiment
+  public void setUp() {
+    List<TargetNode<?>> nodes = new ArrayList<>();
+
+    // Third-party libraries with one version per universe.
+    List<BuildTarget> versionedLibraries = new ArrayList<>(versionedLibraryCount);
+    for (int i = 0; i < versionedLibraryCount; i++) {
+      ImmutableMap.Builder<Version, BuildTarget> versions = ImmutableMap.builder();
+      for (int u = 0; u < universeCount; u++) {
+        String target = String.format("//third-party/lib%d:lib%d-%d", i, i, u);
+        nodes.add(new VersionPropagatorBuilder(target).build());
+        versions.put(Version.of(Integer.toString(u)), BuildTargetFactory.newInstance(target));
+      }
+      BuildTarget alias =
+          BuildTargetFactory.newInstance(String.format("//third-party/lib%d:lib", i));
+      nodes.add(new VersionedAliasBuilder(alias).setVersions(versions.build()).build());
+      versionedLibraries.add(alias);
+    }
+
+    // First-party libraries, which only depend on libraries with higher numbers so that the graph
+    // is acyclic.
+    List<BuildTarget> libraries = new ArrayList<>(libraryCount);
+    for (int i = 0; i < libraryCount; i++) {
+      libraries.add(BuildTargetFactory.newInstance(String.format("//lib/lib%d:lib", i)));
+    }
+    for (int i = 0; i < libraryCount; i++) {
+      ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+      deps.add(versionedLibraries.get(random.nextInt(versionedLibraryCount)));
+      for (int d = 0; d < depsPerNode && i + 1 < libraryCount; d++) {
+        deps.add(libraries.get(i + 1 + random.nextInt(libraryCount - i - 1)));
+      }
+      nodes.add(new VersionPropagatorBuilder(libraries.get(i)).setDeps(deps.build()).build());
+    }
+
+    // Binaries, each a version root with its own version universe.
+    ImmutableSet.Builder<BuildTarget> roots = ImmutableSet.builder();
+    ImmutableMap.Builder<BuildTarget, Integer> universes = ImmutableMap.builder();
+    for (int i = 0; i < rootCount; i++) {
+      BuildTarget root = BuildTargetFactory.newInstance(String.format("//app/app%d:bin", i));
+      ImmutableSortedSet.Builder<BuildTarget> deps = ImmutableSortedSet.naturalOrder();
+      for (int d = 0; d < depsPerNode; d++) {
+        deps.add(libraries.get(random.nextInt(libraryCount)));
+      }
+      nodes.add(new VersionRootBuilder(root).setDeps(deps.build()).build());
+      roots.add(root);
+      universes.put(root, i % universeCount);
+    }
+
+    unversionedGraph =
+        TargetGraphAndBuildTargets.of(TargetGraphFactory.newInstance(nodes), roots.build());
+    ImmutableMap<BuildTarget, Integer> universeOfRoot = universes.build();
+    versionSelector =
+        (root, domain) -> {
+          Version version = Version.of(Integer.toString(universeOfRoot.get(root)));
+          ImmutableMap.Builder<BuildTarget, Version> selected = ImmutableMap.builder();
+          for (Map.Entry<BuildTarget, ImmutableSet<Version>> ent : domain.entrySet()) {
+            selected.put(
+                ent.getKey(),
+                ent.getValue().contains(version) ? version : Iterables.get(ent.getValue(), 0));
+          }
+          return selected.build();
+        };
+    pool = new ForkJoinPool(threadCount);
+  }
+
+  @After
+  @AfterExperiment
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void sharedLibrariesAreVersionedOncePerUniverse() throws Exception {
+    TargetGraph versionedGraph = transform();
+
+    // The alias nodes are replaced by the versions of each universe, and every other node is
+    // versioned at most once per universe.
+    int versionedNodes = versionedGraph.getNodes().size();
+    int maxVersionedNodes = rootCount + (libraryCount + versionedLibraryCount) * universeCount;
+    assertEquals(
+        rootCount + libraryCount + versionedLibraryCount * (universeCount + 1),
+        unversionedGraph.getTargetGraph().getNodes().size());
+    assertTrue(versionedNodes <= maxVersionedNodes);
+  }
+
+  @Benchmark
+  public TargetGraph transform() throws Exception {
+    return new VersionedTargetGraphBuilder(
+            pool, versionSelector, unversionedGraph, new DefaultTypeCoercerFactory())
+        .build();
+  }
+}
@@ -280,6 +280,44 @@ public class VersionedTargetGraphBuilderTest {
     assertEquals(expectedTargetGraph, versionedGraph);
   }
 
+  @Test
+  public void versionedSubGraphSharedByRootsWithSameSelections() throws Exception {
+    TargetGraph graph =
+        TargetGraphFactory.newInstanceExact(
+            new VersionPropagatorBuilder("//:v2").build(),
+            new VersionPropagatorBuilder("//:v1").build(),
+            new VersionedAliasBuilder("//:dep").setVersions("1.0", "//:v1", "2.0", "//:v2").build(),
+            new VersionPropagatorBuilder("//:lib").setDeps("//:dep").build(),
+            new VersionRootBuilder("//:a").setDeps("//:lib").build(),
+            new VersionRootBuilder("//:b").setDeps("//:lib").build());
+    BuildTarget a = BuildTargetFactory.newInstance("//:a");
+    BuildTarget b = BuildTargetFactory.newInstance("//:b");
+    BuildTarget dep = BuildTargetFactory.newInstance("//:dep");
+    VersionedTargetGraphBuilder builder =
+        new VersionedTargetGraphBuilder(
+            new ForkJoinPool(2),
+            new FixedVersionSelector(
+                ImmutableMap.of(
+                    a, ImmutableMap.of(dep, Version.of("2.0")),
+                    b, ImmutableMap.of(dep, Version.of("2.0")))),
+            TargetGraphAndBuildTargets.of(graph, ImmutableSet.of(a, b)),
+            new DefaultTypeCoercerFactory());
+    TargetGraph versionedGraph = builder.build();
+    TargetGraph expectedTargetGraph =
+        TargetGraphFactory.newInstanceExact(
+            new VersionPropagatorBuilder("//:v2").build(),
+            new VersionPropagatorBuilder(getVersionedTarget("//:lib", "//:dep", "2.0"))
+                .setDeps("//:v2")
+                .build(),
+            new VersionRootBuilder("//:a")
+                .setDeps(getVersionedTarget("//:lib", "//:dep", "2.0"))
+                .build(),
+            new VersionRootBuilder("//:b")
+                .setDeps(getVersionedTarget("//:lib", "//:dep", "2.0"))
+                .build());
+    assertEquals(expectedTargetGraph, versionedGraph);
+  }
+
   @Test
   public void explicitNonRootTreatedAsRoot() throws Exception {
     TargetGraph graph =
@@ -136,6 +136,31 @@ public class VersionedTargetGraphCacheTest {
     assertTimingsNotEmpty(stats);
   }
 
+  @Test
+  public void testPreviousGraphIsHitWithSeveralEntries() throws Exception {
+    InstrumentedVersionedTargetGraphCache cache =
+        new InstrumentedVersionedTargetGraphCache(
+            new VersionedTargetGraphCache(2), new InstrumentingCacheStatsTracker());
+    TargetGraphAndBuildTargets firstGraph = createSimpleGraph("foo");
+    VersionedTargetGraphCacheResult firstResult =
+        cache.getVersionedTargetGraph(
+            BUS, new DefaultTypeCoercerFactory(), firstGraph, ImmutableMap.of(), POOL);
+    assertEmpty(firstResult);
+    TargetGraphAndBuildTargets secondGraph = createSimpleGraph("bar");
+    VersionedTargetGraphCacheResult secondResult =
+        cache.getVersionedTargetGraph(
+            BUS, new DefaultTypeCoercerFactory(), secondGraph, ImmutableMap.of(), POOL);
+    assertMismatch(secondResult, firstResult.getTargetGraphAndBuildTargets());
+    VersionedTargetGraphCacheResult thirdResult =
+        cache.getVersionedTargetGraph(
+            BUS, new DefaultTypeCoercerFactory(), firstGraph, ImmutableMap.of(), POOL);
+    assertHit(thirdResult, firstResult.getTargetGraphAndBuildTargets());
+    CacheStats stats = cache.getCacheStats();
+    assertEquals(Optional.of(1L), stats.getHitCount());
+    assertEquals(Optional.of(1L), stats.getMissCount());
+    assertEquals(Optional.of(1L), stats.getMissMatchCount());
+  }
+
   @Test
   public void testVersionUniverseChangeCausesMiss() throws Exception {
     InstrumentedVersionedTargetGraphCache cache =